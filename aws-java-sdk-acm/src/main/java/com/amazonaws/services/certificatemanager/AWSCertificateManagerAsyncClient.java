@@ -15,6 +15,10 @@
 package com.amazonaws.services.certificatemanager;
 
 import com.amazonaws.services.certificatemanager.model.*;
+import com.amazonaws.services.certificatemanager.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -291,27 +295,15 @@ public class AWSCertificateManagerAsyncClient extends
             final AddTagsToCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToCertificateRequest, AddTagsToCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddTagsToCertificateResult>() {
-                    @Override
-                    public AddTagsToCertificateResult call() throws Exception {
-                        AddTagsToCertificateResult result;
-
-                        try {
-                            result = addTagsToCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<AddTagsToCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddTagsToCertificateResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new AddTagsToCertificateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -326,27 +318,15 @@ public class AWSCertificateManagerAsyncClient extends
             final DeleteCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCertificateRequest, DeleteCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteCertificateResult>() {
-                    @Override
-                    public DeleteCertificateResult call() throws Exception {
-                        DeleteCertificateResult result;
-
-                        try {
-                            result = deleteCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteCertificateResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteCertificateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -361,27 +341,15 @@ public class AWSCertificateManagerAsyncClient extends
             final DescribeCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCertificateRequest, DescribeCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeCertificateResult>() {
-                    @Override
-                    public DescribeCertificateResult call() throws Exception {
-                        DescribeCertificateResult result;
-
-                        try {
-                            result = describeCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeCertificateResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeCertificateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -396,27 +364,15 @@ public class AWSCertificateManagerAsyncClient extends
             final GetCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCertificateRequest, GetCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetCertificateResult>() {
-                    @Override
-                    public GetCertificateResult call() throws Exception {
-                        GetCertificateResult result;
-
-                        try {
-                            result = getCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetCertificateResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetCertificateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -431,27 +387,15 @@ public class AWSCertificateManagerAsyncClient extends
             final ListCertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListCertificatesRequest, ListCertificatesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListCertificatesResult>() {
-                    @Override
-                    public ListCertificatesResult call() throws Exception {
-                        ListCertificatesResult result;
-
-                        try {
-                            result = listCertificates(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListCertificatesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListCertificatesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListCertificatesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -466,27 +410,15 @@ public class AWSCertificateManagerAsyncClient extends
             final ListTagsForCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForCertificateRequest, ListTagsForCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTagsForCertificateResult>() {
-                    @Override
-                    public ListTagsForCertificateResult call() throws Exception {
-                        ListTagsForCertificateResult result;
-
-                        try {
-                            result = listTagsForCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListTagsForCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTagsForCertificateResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListTagsForCertificateRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -501,28 +433,16 @@ public class AWSCertificateManagerAsyncClient extends
             final RemoveTagsFromCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromCertificateRequest, RemoveTagsFromCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveTagsFromCertificateResult>() {
-                    @Override
-                    public RemoveTagsFromCertificateResult call()
-                            throws Exception {
-                        RemoveTagsFromCertificateResult result;
-
-                        try {
-                            result = removeTagsFromCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<RemoveTagsFromCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RemoveTagsFromCertificateResultJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new RemoveTagsFromCertificateRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -537,27 +457,15 @@ public class AWSCertificateManagerAsyncClient extends
             final RequestCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<RequestCertificateRequest, RequestCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RequestCertificateResult>() {
-                    @Override
-                    public RequestCertificateResult call() throws Exception {
-                        RequestCertificateResult result;
-
-                        try {
-                            result = requestCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<RequestCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RequestCertificateResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new RequestCertificateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -572,27 +480,15 @@ public class AWSCertificateManagerAsyncClient extends
             final ResendValidationEmailRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResendValidationEmailRequest, ResendValidationEmailResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ResendValidationEmailResult>() {
-                    @Override
-                    public ResendValidationEmailResult call() throws Exception {
-                        ResendValidationEmailResult result;
-
-                        try {
-                            result = resendValidationEmail(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ResendValidationEmailResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ResendValidationEmailResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ResendValidationEmailRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.apigateway;
 
 import com.amazonaws.services.apigateway.model.*;
+import com.amazonaws.services.apigateway.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -287,27 +291,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateApiKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateApiKeyRequest, CreateApiKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateApiKeyResult>() {
-                    @Override
-                    public CreateApiKeyResult call() throws Exception {
-                        CreateApiKeyResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateApiKeyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateApiKeyResultJsonUnmarshaller());
 
-                        try {
-                            result = createApiKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateApiKeyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -322,27 +314,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateAuthorizerRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAuthorizerRequest, CreateAuthorizerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateAuthorizerResult>() {
-                    @Override
-                    public CreateAuthorizerResult call() throws Exception {
-                        CreateAuthorizerResult result;
-
-                        try {
-                            result = createAuthorizer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateAuthorizerResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateAuthorizerResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateAuthorizerRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -357,27 +337,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateBasePathMappingRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateBasePathMappingRequest, CreateBasePathMappingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateBasePathMappingResult>() {
-                    @Override
-                    public CreateBasePathMappingResult call() throws Exception {
-                        CreateBasePathMappingResult result;
-
-                        try {
-                            result = createBasePathMapping(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateBasePathMappingResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateBasePathMappingResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateBasePathMappingRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -392,27 +360,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateDeploymentRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDeploymentRequest, CreateDeploymentResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateDeploymentResult>() {
-                    @Override
-                    public CreateDeploymentResult call() throws Exception {
-                        CreateDeploymentResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateDeploymentResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateDeploymentResultJsonUnmarshaller());
 
-                        try {
-                            result = createDeployment(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateDeploymentRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -427,27 +383,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateDomainNameRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDomainNameRequest, CreateDomainNameResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateDomainNameResult>() {
-                    @Override
-                    public CreateDomainNameResult call() throws Exception {
-                        CreateDomainNameResult result;
-
-                        try {
-                            result = createDomainName(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateDomainNameResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateDomainNameResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateDomainNameRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -462,27 +406,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateModelRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateModelRequest, CreateModelResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateModelResult>() {
-                    @Override
-                    public CreateModelResult call() throws Exception {
-                        CreateModelResult result;
-
-                        try {
-                            result = createModel(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateModelResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateModelResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateModelRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -497,27 +429,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateResourceRequest, CreateResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateResourceResult>() {
-                    @Override
-                    public CreateResourceResult call() throws Exception {
-                        CreateResourceResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateResourceResultJsonUnmarshaller());
 
-                        try {
-                            result = createResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateResourceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -532,27 +452,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateRestApiRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRestApiRequest, CreateRestApiResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateRestApiResult>() {
-                    @Override
-                    public CreateRestApiResult call() throws Exception {
-                        CreateRestApiResult result;
-
-                        try {
-                            result = createRestApi(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateRestApiResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateRestApiResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateRestApiRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -567,27 +475,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateStageRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateStageRequest, CreateStageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateStageResult>() {
-                    @Override
-                    public CreateStageResult call() throws Exception {
-                        CreateStageResult result;
-
-                        try {
-                            result = createStage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateStageResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateStageResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateStageRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -602,27 +498,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateUsagePlanRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateUsagePlanRequest, CreateUsagePlanResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateUsagePlanResult>() {
-                    @Override
-                    public CreateUsagePlanResult call() throws Exception {
-                        CreateUsagePlanResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateUsagePlanResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateUsagePlanResultJsonUnmarshaller());
 
-                        try {
-                            result = createUsagePlan(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateUsagePlanRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -637,27 +521,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final CreateUsagePlanKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateUsagePlanKeyRequest, CreateUsagePlanKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateUsagePlanKeyResult>() {
-                    @Override
-                    public CreateUsagePlanKeyResult call() throws Exception {
-                        CreateUsagePlanKeyResult result;
-
-                        try {
-                            result = createUsagePlanKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateUsagePlanKeyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateUsagePlanKeyResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateUsagePlanKeyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -672,27 +544,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteApiKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteApiKeyRequest, DeleteApiKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteApiKeyResult>() {
-                    @Override
-                    public DeleteApiKeyResult call() throws Exception {
-                        DeleteApiKeyResult result;
-
-                        try {
-                            result = deleteApiKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteApiKeyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteApiKeyResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteApiKeyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -707,27 +567,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteAuthorizerRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAuthorizerRequest, DeleteAuthorizerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteAuthorizerResult>() {
-                    @Override
-                    public DeleteAuthorizerResult call() throws Exception {
-                        DeleteAuthorizerResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteAuthorizerResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteAuthorizerResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteAuthorizer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteAuthorizerRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -742,27 +590,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteBasePathMappingRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteBasePathMappingRequest, DeleteBasePathMappingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteBasePathMappingResult>() {
-                    @Override
-                    public DeleteBasePathMappingResult call() throws Exception {
-                        DeleteBasePathMappingResult result;
-
-                        try {
-                            result = deleteBasePathMapping(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteBasePathMappingResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteBasePathMappingResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteBasePathMappingRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -777,28 +613,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteClientCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteClientCertificateRequest, DeleteClientCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteClientCertificateResult>() {
-                    @Override
-                    public DeleteClientCertificateResult call()
-                            throws Exception {
-                        DeleteClientCertificateResult result;
-
-                        try {
-                            result = deleteClientCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteClientCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteClientCertificateResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteClientCertificateRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -813,27 +636,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteDeploymentRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDeploymentRequest, DeleteDeploymentResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDeploymentResult>() {
-                    @Override
-                    public DeleteDeploymentResult call() throws Exception {
-                        DeleteDeploymentResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteDeploymentResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteDeploymentResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteDeployment(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteDeploymentRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -848,27 +659,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteDomainNameRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDomainNameRequest, DeleteDomainNameResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDomainNameResult>() {
-                    @Override
-                    public DeleteDomainNameResult call() throws Exception {
-                        DeleteDomainNameResult result;
-
-                        try {
-                            result = deleteDomainName(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteDomainNameResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteDomainNameResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteDomainNameRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -883,27 +682,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteIntegrationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteIntegrationRequest, DeleteIntegrationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteIntegrationResult>() {
-                    @Override
-                    public DeleteIntegrationResult call() throws Exception {
-                        DeleteIntegrationResult result;
-
-                        try {
-                            result = deleteIntegration(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteIntegrationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteIntegrationResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteIntegrationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -918,28 +705,16 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteIntegrationResponseRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteIntegrationResponseRequest, DeleteIntegrationResponseResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteIntegrationResponseResult>() {
-                    @Override
-                    public DeleteIntegrationResponseResult call()
-                            throws Exception {
-                        DeleteIntegrationResponseResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteIntegrationResponseResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteIntegrationResponseResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteIntegrationResponse(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new DeleteIntegrationResponseRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -954,27 +729,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteMethodRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteMethodRequest, DeleteMethodResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteMethodResult>() {
-                    @Override
-                    public DeleteMethodResult call() throws Exception {
-                        DeleteMethodResult result;
-
-                        try {
-                            result = deleteMethod(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteMethodResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteMethodResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteMethodRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -989,27 +752,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteMethodResponseRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteMethodResponseRequest, DeleteMethodResponseResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteMethodResponseResult>() {
-                    @Override
-                    public DeleteMethodResponseResult call() throws Exception {
-                        DeleteMethodResponseResult result;
-
-                        try {
-                            result = deleteMethodResponse(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteMethodResponseResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteMethodResponseResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteMethodResponseRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1024,27 +775,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteModelRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteModelRequest, DeleteModelResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteModelResult>() {
-                    @Override
-                    public DeleteModelResult call() throws Exception {
-                        DeleteModelResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteModelResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteModelResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteModel(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteModelRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1059,27 +798,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteResourceRequest, DeleteResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteResourceResult>() {
-                    @Override
-                    public DeleteResourceResult call() throws Exception {
-                        DeleteResourceResult result;
-
-                        try {
-                            result = deleteResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteResourceResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteResourceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1094,27 +821,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteRestApiRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRestApiRequest, DeleteRestApiResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteRestApiResult>() {
-                    @Override
-                    public DeleteRestApiResult call() throws Exception {
-                        DeleteRestApiResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteRestApiResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteRestApiResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteRestApi(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteRestApiRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1129,27 +844,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteStageRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteStageRequest, DeleteStageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteStageResult>() {
-                    @Override
-                    public DeleteStageResult call() throws Exception {
-                        DeleteStageResult result;
-
-                        try {
-                            result = deleteStage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteStageResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteStageResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteStageRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1164,27 +867,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteUsagePlanRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteUsagePlanRequest, DeleteUsagePlanResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteUsagePlanResult>() {
-                    @Override
-                    public DeleteUsagePlanResult call() throws Exception {
-                        DeleteUsagePlanResult result;
-
-                        try {
-                            result = deleteUsagePlan(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteUsagePlanResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteUsagePlanResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteUsagePlanRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1199,27 +890,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final DeleteUsagePlanKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteUsagePlanKeyRequest, DeleteUsagePlanKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteUsagePlanKeyResult>() {
-                    @Override
-                    public DeleteUsagePlanKeyResult call() throws Exception {
-                        DeleteUsagePlanKeyResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteUsagePlanKeyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteUsagePlanKeyResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteUsagePlanKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteUsagePlanKeyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1234,28 +913,16 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final FlushStageAuthorizersCacheRequest request,
             final com.amazonaws.handlers.AsyncHandler<FlushStageAuthorizersCacheRequest, FlushStageAuthorizersCacheResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<FlushStageAuthorizersCacheResult>() {
-                    @Override
-                    public FlushStageAuthorizersCacheResult call()
-                            throws Exception {
-                        FlushStageAuthorizersCacheResult result;
-
-                        try {
-                            result = flushStageAuthorizersCache(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<FlushStageAuthorizersCacheResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new FlushStageAuthorizersCacheResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new FlushStageAuthorizersCacheRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1270,27 +937,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final FlushStageCacheRequest request,
             final com.amazonaws.handlers.AsyncHandler<FlushStageCacheRequest, FlushStageCacheResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<FlushStageCacheResult>() {
-                    @Override
-                    public FlushStageCacheResult call() throws Exception {
-                        FlushStageCacheResult result;
-
-                        try {
-                            result = flushStageCache(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<FlushStageCacheResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new FlushStageCacheResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new FlushStageCacheRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1305,28 +960,16 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GenerateClientCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<GenerateClientCertificateRequest, GenerateClientCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GenerateClientCertificateResult>() {
-                    @Override
-                    public GenerateClientCertificateResult call()
-                            throws Exception {
-                        GenerateClientCertificateResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GenerateClientCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GenerateClientCertificateResultJsonUnmarshaller());
 
-                        try {
-                            result = generateClientCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new GenerateClientCertificateRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1341,27 +984,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetAccountRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAccountRequest, GetAccountResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetAccountResult>() {
-                    @Override
-                    public GetAccountResult call() throws Exception {
-                        GetAccountResult result;
-
-                        try {
-                            result = getAccount(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetAccountResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetAccountResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetAccountRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1376,27 +1007,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetApiKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetApiKeyRequest, GetApiKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetApiKeyResult>() {
-                    @Override
-                    public GetApiKeyResult call() throws Exception {
-                        GetApiKeyResult result;
-
-                        try {
-                            result = getApiKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetApiKeyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetApiKeyResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetApiKeyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1411,27 +1030,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetApiKeysRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetApiKeysRequest, GetApiKeysResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetApiKeysResult>() {
-                    @Override
-                    public GetApiKeysResult call() throws Exception {
-                        GetApiKeysResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetApiKeysResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetApiKeysResultJsonUnmarshaller());
 
-                        try {
-                            result = getApiKeys(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetApiKeysRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1446,27 +1053,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetAuthorizerRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAuthorizerRequest, GetAuthorizerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetAuthorizerResult>() {
-                    @Override
-                    public GetAuthorizerResult call() throws Exception {
-                        GetAuthorizerResult result;
-
-                        try {
-                            result = getAuthorizer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetAuthorizerResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetAuthorizerResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetAuthorizerRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1481,27 +1076,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetAuthorizersRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAuthorizersRequest, GetAuthorizersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetAuthorizersResult>() {
-                    @Override
-                    public GetAuthorizersResult call() throws Exception {
-                        GetAuthorizersResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetAuthorizersResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetAuthorizersResultJsonUnmarshaller());
 
-                        try {
-                            result = getAuthorizers(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetAuthorizersRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1516,27 +1099,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetBasePathMappingRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetBasePathMappingRequest, GetBasePathMappingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetBasePathMappingResult>() {
-                    @Override
-                    public GetBasePathMappingResult call() throws Exception {
-                        GetBasePathMappingResult result;
-
-                        try {
-                            result = getBasePathMapping(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetBasePathMappingResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetBasePathMappingResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetBasePathMappingRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1551,27 +1122,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetBasePathMappingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetBasePathMappingsRequest, GetBasePathMappingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetBasePathMappingsResult>() {
-                    @Override
-                    public GetBasePathMappingsResult call() throws Exception {
-                        GetBasePathMappingsResult result;
-
-                        try {
-                            result = getBasePathMappings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetBasePathMappingsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetBasePathMappingsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetBasePathMappingsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1586,27 +1145,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetClientCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetClientCertificateRequest, GetClientCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetClientCertificateResult>() {
-                    @Override
-                    public GetClientCertificateResult call() throws Exception {
-                        GetClientCertificateResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetClientCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetClientCertificateResultJsonUnmarshaller());
 
-                        try {
-                            result = getClientCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetClientCertificateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1621,27 +1168,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetClientCertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetClientCertificatesRequest, GetClientCertificatesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetClientCertificatesResult>() {
-                    @Override
-                    public GetClientCertificatesResult call() throws Exception {
-                        GetClientCertificatesResult result;
-
-                        try {
-                            result = getClientCertificates(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetClientCertificatesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetClientCertificatesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetClientCertificatesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1656,27 +1191,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetDeploymentRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDeploymentRequest, GetDeploymentResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDeploymentResult>() {
-                    @Override
-                    public GetDeploymentResult call() throws Exception {
-                        GetDeploymentResult result;
-
-                        try {
-                            result = getDeployment(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetDeploymentResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDeploymentResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetDeploymentRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1691,27 +1214,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetDeploymentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDeploymentsRequest, GetDeploymentsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDeploymentsResult>() {
-                    @Override
-                    public GetDeploymentsResult call() throws Exception {
-                        GetDeploymentsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetDeploymentsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDeploymentsResultJsonUnmarshaller());
 
-                        try {
-                            result = getDeployments(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetDeploymentsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1726,27 +1237,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetDomainNameRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDomainNameRequest, GetDomainNameResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDomainNameResult>() {
-                    @Override
-                    public GetDomainNameResult call() throws Exception {
-                        GetDomainNameResult result;
-
-                        try {
-                            result = getDomainName(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetDomainNameResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDomainNameResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetDomainNameRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1761,27 +1260,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetDomainNamesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDomainNamesRequest, GetDomainNamesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDomainNamesResult>() {
-                    @Override
-                    public GetDomainNamesResult call() throws Exception {
-                        GetDomainNamesResult result;
-
-                        try {
-                            result = getDomainNames(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetDomainNamesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDomainNamesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetDomainNamesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1796,27 +1283,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetExportRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetExportRequest, GetExportResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetExportResult>() {
-                    @Override
-                    public GetExportResult call() throws Exception {
-                        GetExportResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetExportResult>> responseHandler = protocolFactory
+                .createResponseHandler(new JsonOperationMetadata()
+                        .withPayloadJson(false)
+                        .withHasStreamingSuccessResponse(false),
+                        new GetExportResultJsonUnmarshaller());
 
-                        try {
-                            result = getExport(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetExportRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1831,27 +1306,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetIntegrationRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIntegrationRequest, GetIntegrationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetIntegrationResult>() {
-                    @Override
-                    public GetIntegrationResult call() throws Exception {
-                        GetIntegrationResult result;
-
-                        try {
-                            result = getIntegration(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetIntegrationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetIntegrationResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetIntegrationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1866,27 +1329,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetIntegrationResponseRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIntegrationResponseRequest, GetIntegrationResponseResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetIntegrationResponseResult>() {
-                    @Override
-                    public GetIntegrationResponseResult call() throws Exception {
-                        GetIntegrationResponseResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetIntegrationResponseResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetIntegrationResponseResultJsonUnmarshaller());
 
-                        try {
-                            result = getIntegrationResponse(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetIntegrationResponseRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1901,27 +1352,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetMethodRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetMethodRequest, GetMethodResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetMethodResult>() {
-                    @Override
-                    public GetMethodResult call() throws Exception {
-                        GetMethodResult result;
-
-                        try {
-                            result = getMethod(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetMethodResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetMethodResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetMethodRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1936,27 +1375,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetMethodResponseRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetMethodResponseRequest, GetMethodResponseResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetMethodResponseResult>() {
-                    @Override
-                    public GetMethodResponseResult call() throws Exception {
-                        GetMethodResponseResult result;
-
-                        try {
-                            result = getMethodResponse(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetMethodResponseResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetMethodResponseResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetMethodResponseRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1971,27 +1398,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetModelRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetModelRequest, GetModelResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetModelResult>() {
-                    @Override
-                    public GetModelResult call() throws Exception {
-                        GetModelResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetModelResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetModelResultJsonUnmarshaller());
 
-                        try {
-                            result = getModel(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetModelRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2006,27 +1421,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetModelTemplateRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetModelTemplateRequest, GetModelTemplateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetModelTemplateResult>() {
-                    @Override
-                    public GetModelTemplateResult call() throws Exception {
-                        GetModelTemplateResult result;
-
-                        try {
-                            result = getModelTemplate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetModelTemplateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetModelTemplateResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetModelTemplateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2041,27 +1444,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetModelsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetModelsRequest, GetModelsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetModelsResult>() {
-                    @Override
-                    public GetModelsResult call() throws Exception {
-                        GetModelsResult result;
-
-                        try {
-                            result = getModels(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetModelsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetModelsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetModelsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2076,27 +1467,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetResourceRequest, GetResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetResourceResult>() {
-                    @Override
-                    public GetResourceResult call() throws Exception {
-                        GetResourceResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetResourceResultJsonUnmarshaller());
 
-                        try {
-                            result = getResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetResourceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2111,27 +1490,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetResourcesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetResourcesRequest, GetResourcesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetResourcesResult>() {
-                    @Override
-                    public GetResourcesResult call() throws Exception {
-                        GetResourcesResult result;
-
-                        try {
-                            result = getResources(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetResourcesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetResourcesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetResourcesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2146,27 +1513,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetRestApiRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRestApiRequest, GetRestApiResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetRestApiResult>() {
-                    @Override
-                    public GetRestApiResult call() throws Exception {
-                        GetRestApiResult result;
-
-                        try {
-                            result = getRestApi(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetRestApiResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetRestApiResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetRestApiRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2181,27 +1536,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetRestApisRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRestApisRequest, GetRestApisResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetRestApisResult>() {
-                    @Override
-                    public GetRestApisResult call() throws Exception {
-                        GetRestApisResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetRestApisResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetRestApisResultJsonUnmarshaller());
 
-                        try {
-                            result = getRestApis(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetRestApisRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2216,27 +1559,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetSdkRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSdkRequest, GetSdkResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetSdkResult>() {
-                    @Override
-                    public GetSdkResult call() throws Exception {
-                        GetSdkResult result;
-
-                        try {
-                            result = getSdk(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetSdkResult>> responseHandler = protocolFactory
+                .createResponseHandler(new JsonOperationMetadata()
+                        .withPayloadJson(false)
+                        .withHasStreamingSuccessResponse(false),
+                        new GetSdkResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetSdkRequestMarshaller(protocolFactory), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -2251,27 +1582,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetStageRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetStageRequest, GetStageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetStageResult>() {
-                    @Override
-                    public GetStageResult call() throws Exception {
-                        GetStageResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetStageResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetStageResultJsonUnmarshaller());
 
-                        try {
-                            result = getStage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetStageRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2286,27 +1605,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetStagesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetStagesRequest, GetStagesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetStagesResult>() {
-                    @Override
-                    public GetStagesResult call() throws Exception {
-                        GetStagesResult result;
-
-                        try {
-                            result = getStages(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetStagesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetStagesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetStagesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2321,27 +1628,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetUsageRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetUsageRequest, GetUsageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetUsageResult>() {
-                    @Override
-                    public GetUsageResult call() throws Exception {
-                        GetUsageResult result;
-
-                        try {
-                            result = getUsage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetUsageResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetUsageResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetUsageRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2356,27 +1651,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetUsagePlanRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetUsagePlanRequest, GetUsagePlanResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetUsagePlanResult>() {
-                    @Override
-                    public GetUsagePlanResult call() throws Exception {
-                        GetUsagePlanResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetUsagePlanResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetUsagePlanResultJsonUnmarshaller());
 
-                        try {
-                            result = getUsagePlan(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetUsagePlanRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2391,27 +1674,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetUsagePlanKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetUsagePlanKeyRequest, GetUsagePlanKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetUsagePlanKeyResult>() {
-                    @Override
-                    public GetUsagePlanKeyResult call() throws Exception {
-                        GetUsagePlanKeyResult result;
-
-                        try {
-                            result = getUsagePlanKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetUsagePlanKeyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetUsagePlanKeyResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetUsagePlanKeyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2426,27 +1697,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetUsagePlanKeysRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetUsagePlanKeysRequest, GetUsagePlanKeysResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetUsagePlanKeysResult>() {
-                    @Override
-                    public GetUsagePlanKeysResult call() throws Exception {
-                        GetUsagePlanKeysResult result;
-
-                        try {
-                            result = getUsagePlanKeys(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetUsagePlanKeysResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetUsagePlanKeysResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetUsagePlanKeysRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2461,27 +1720,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final GetUsagePlansRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetUsagePlansRequest, GetUsagePlansResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetUsagePlansResult>() {
-                    @Override
-                    public GetUsagePlansResult call() throws Exception {
-                        GetUsagePlansResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetUsagePlansResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetUsagePlansResultJsonUnmarshaller());
 
-                        try {
-                            result = getUsagePlans(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetUsagePlansRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2496,27 +1743,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final ImportApiKeysRequest request,
             final com.amazonaws.handlers.AsyncHandler<ImportApiKeysRequest, ImportApiKeysResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ImportApiKeysResult>() {
-                    @Override
-                    public ImportApiKeysResult call() throws Exception {
-                        ImportApiKeysResult result;
-
-                        try {
-                            result = importApiKeys(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ImportApiKeysResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ImportApiKeysResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ImportApiKeysRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2531,27 +1766,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final ImportRestApiRequest request,
             final com.amazonaws.handlers.AsyncHandler<ImportRestApiRequest, ImportRestApiResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ImportRestApiResult>() {
-                    @Override
-                    public ImportRestApiResult call() throws Exception {
-                        ImportRestApiResult result;
-
-                        try {
-                            result = importRestApi(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ImportRestApiResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ImportRestApiResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ImportRestApiRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2566,27 +1789,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final PutIntegrationRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutIntegrationRequest, PutIntegrationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutIntegrationResult>() {
-                    @Override
-                    public PutIntegrationResult call() throws Exception {
-                        PutIntegrationResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<PutIntegrationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutIntegrationResultJsonUnmarshaller());
 
-                        try {
-                            result = putIntegration(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new PutIntegrationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2601,27 +1812,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final PutIntegrationResponseRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutIntegrationResponseRequest, PutIntegrationResponseResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutIntegrationResponseResult>() {
-                    @Override
-                    public PutIntegrationResponseResult call() throws Exception {
-                        PutIntegrationResponseResult result;
-
-                        try {
-                            result = putIntegrationResponse(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<PutIntegrationResponseResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutIntegrationResponseResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new PutIntegrationResponseRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2636,27 +1835,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final PutMethodRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutMethodRequest, PutMethodResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutMethodResult>() {
-                    @Override
-                    public PutMethodResult call() throws Exception {
-                        PutMethodResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<PutMethodResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutMethodResultJsonUnmarshaller());
 
-                        try {
-                            result = putMethod(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new PutMethodRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2671,27 +1858,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final PutMethodResponseRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutMethodResponseRequest, PutMethodResponseResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutMethodResponseResult>() {
-                    @Override
-                    public PutMethodResponseResult call() throws Exception {
-                        PutMethodResponseResult result;
-
-                        try {
-                            result = putMethodResponse(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<PutMethodResponseResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutMethodResponseResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new PutMethodResponseRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2706,27 +1881,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final PutRestApiRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRestApiRequest, PutRestApiResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutRestApiResult>() {
-                    @Override
-                    public PutRestApiResult call() throws Exception {
-                        PutRestApiResult result;
-
-                        try {
-                            result = putRestApi(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<PutRestApiResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutRestApiResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new PutRestApiRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2741,27 +1904,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final TestInvokeAuthorizerRequest request,
             final com.amazonaws.handlers.AsyncHandler<TestInvokeAuthorizerRequest, TestInvokeAuthorizerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<TestInvokeAuthorizerResult>() {
-                    @Override
-                    public TestInvokeAuthorizerResult call() throws Exception {
-                        TestInvokeAuthorizerResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<TestInvokeAuthorizerResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new TestInvokeAuthorizerResultJsonUnmarshaller());
 
-                        try {
-                            result = testInvokeAuthorizer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new TestInvokeAuthorizerRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2776,27 +1927,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final TestInvokeMethodRequest request,
             final com.amazonaws.handlers.AsyncHandler<TestInvokeMethodRequest, TestInvokeMethodResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<TestInvokeMethodResult>() {
-                    @Override
-                    public TestInvokeMethodResult call() throws Exception {
-                        TestInvokeMethodResult result;
-
-                        try {
-                            result = testInvokeMethod(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<TestInvokeMethodResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new TestInvokeMethodResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new TestInvokeMethodRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2811,27 +1950,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateAccountRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAccountRequest, UpdateAccountResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateAccountResult>() {
-                    @Override
-                    public UpdateAccountResult call() throws Exception {
-                        UpdateAccountResult result;
-
-                        try {
-                            result = updateAccount(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateAccountResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateAccountResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateAccountRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2846,27 +1973,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateApiKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateApiKeyRequest, UpdateApiKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateApiKeyResult>() {
-                    @Override
-                    public UpdateApiKeyResult call() throws Exception {
-                        UpdateApiKeyResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateApiKeyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateApiKeyResultJsonUnmarshaller());
 
-                        try {
-                            result = updateApiKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateApiKeyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2881,27 +1996,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateAuthorizerRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAuthorizerRequest, UpdateAuthorizerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateAuthorizerResult>() {
-                    @Override
-                    public UpdateAuthorizerResult call() throws Exception {
-                        UpdateAuthorizerResult result;
-
-                        try {
-                            result = updateAuthorizer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateAuthorizerResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateAuthorizerResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateAuthorizerRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2916,27 +2019,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateBasePathMappingRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateBasePathMappingRequest, UpdateBasePathMappingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateBasePathMappingResult>() {
-                    @Override
-                    public UpdateBasePathMappingResult call() throws Exception {
-                        UpdateBasePathMappingResult result;
-
-                        try {
-                            result = updateBasePathMapping(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateBasePathMappingResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateBasePathMappingResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateBasePathMappingRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2951,28 +2042,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateClientCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateClientCertificateRequest, UpdateClientCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateClientCertificateResult>() {
-                    @Override
-                    public UpdateClientCertificateResult call()
-                            throws Exception {
-                        UpdateClientCertificateResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateClientCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateClientCertificateResultJsonUnmarshaller());
 
-                        try {
-                            result = updateClientCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UpdateClientCertificateRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2987,27 +2065,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateDeploymentRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDeploymentRequest, UpdateDeploymentResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateDeploymentResult>() {
-                    @Override
-                    public UpdateDeploymentResult call() throws Exception {
-                        UpdateDeploymentResult result;
-
-                        try {
-                            result = updateDeployment(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateDeploymentResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateDeploymentResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateDeploymentRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -3022,27 +2088,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateDomainNameRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDomainNameRequest, UpdateDomainNameResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateDomainNameResult>() {
-                    @Override
-                    public UpdateDomainNameResult call() throws Exception {
-                        UpdateDomainNameResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateDomainNameResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateDomainNameResultJsonUnmarshaller());
 
-                        try {
-                            result = updateDomainName(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateDomainNameRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -3057,27 +2111,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateIntegrationRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateIntegrationRequest, UpdateIntegrationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateIntegrationResult>() {
-                    @Override
-                    public UpdateIntegrationResult call() throws Exception {
-                        UpdateIntegrationResult result;
-
-                        try {
-                            result = updateIntegration(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateIntegrationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateIntegrationResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateIntegrationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -3092,28 +2134,16 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateIntegrationResponseRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateIntegrationResponseRequest, UpdateIntegrationResponseResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateIntegrationResponseResult>() {
-                    @Override
-                    public UpdateIntegrationResponseResult call()
-                            throws Exception {
-                        UpdateIntegrationResponseResult result;
-
-                        try {
-                            result = updateIntegrationResponse(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateIntegrationResponseResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateIntegrationResponseResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new UpdateIntegrationResponseRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3128,27 +2158,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateMethodRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateMethodRequest, UpdateMethodResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateMethodResult>() {
-                    @Override
-                    public UpdateMethodResult call() throws Exception {
-                        UpdateMethodResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateMethodResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateMethodResultJsonUnmarshaller());
 
-                        try {
-                            result = updateMethod(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateMethodRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -3163,27 +2181,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateMethodResponseRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateMethodResponseRequest, UpdateMethodResponseResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateMethodResponseResult>() {
-                    @Override
-                    public UpdateMethodResponseResult call() throws Exception {
-                        UpdateMethodResponseResult result;
-
-                        try {
-                            result = updateMethodResponse(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateMethodResponseResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateMethodResponseResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateMethodResponseRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -3198,27 +2204,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateModelRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateModelRequest, UpdateModelResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateModelResult>() {
-                    @Override
-                    public UpdateModelResult call() throws Exception {
-                        UpdateModelResult result;
-
-                        try {
-                            result = updateModel(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateModelResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateModelResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateModelRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -3233,27 +2227,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateResourceRequest, UpdateResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateResourceResult>() {
-                    @Override
-                    public UpdateResourceResult call() throws Exception {
-                        UpdateResourceResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateResourceResultJsonUnmarshaller());
 
-                        try {
-                            result = updateResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateResourceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -3268,27 +2250,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateRestApiRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateRestApiRequest, UpdateRestApiResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateRestApiResult>() {
-                    @Override
-                    public UpdateRestApiResult call() throws Exception {
-                        UpdateRestApiResult result;
-
-                        try {
-                            result = updateRestApi(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateRestApiResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateRestApiResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateRestApiRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -3303,27 +2273,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateStageRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateStageRequest, UpdateStageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateStageResult>() {
-                    @Override
-                    public UpdateStageResult call() throws Exception {
-                        UpdateStageResult result;
-
-                        try {
-                            result = updateStage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateStageResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateStageResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateStageRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -3338,27 +2296,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateUsageRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateUsageRequest, UpdateUsageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateUsageResult>() {
-                    @Override
-                    public UpdateUsageResult call() throws Exception {
-                        UpdateUsageResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateUsageResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateUsageResultJsonUnmarshaller());
 
-                        try {
-                            result = updateUsage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateUsageRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -3373,27 +2319,15 @@ public class AmazonApiGatewayAsyncClient extends AmazonApiGatewayClient
             final UpdateUsagePlanRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateUsagePlanRequest, UpdateUsagePlanResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateUsagePlanResult>() {
-                    @Override
-                    public UpdateUsagePlanResult call() throws Exception {
-                        UpdateUsagePlanResult result;
-
-                        try {
-                            result = updateUsagePlan(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateUsagePlanResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateUsagePlanResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateUsagePlanRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.applicationautoscaling;
 
 import com.amazonaws.services.applicationautoscaling.model.*;
+import com.amazonaws.services.applicationautoscaling.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -366,27 +370,15 @@ public class AWSApplicationAutoScalingAsyncClient extends
             final DeleteScalingPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteScalingPolicyRequest, DeleteScalingPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteScalingPolicyResult>() {
-                    @Override
-                    public DeleteScalingPolicyResult call() throws Exception {
-                        DeleteScalingPolicyResult result;
-
-                        try {
-                            result = deleteScalingPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteScalingPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteScalingPolicyResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteScalingPolicyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -401,28 +393,15 @@ public class AWSApplicationAutoScalingAsyncClient extends
             final DeregisterScalableTargetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterScalableTargetRequest, DeregisterScalableTargetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeregisterScalableTargetResult>() {
-                    @Override
-                    public DeregisterScalableTargetResult call()
-                            throws Exception {
-                        DeregisterScalableTargetResult result;
-
-                        try {
-                            result = deregisterScalableTarget(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeregisterScalableTargetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeregisterScalableTargetResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeregisterScalableTargetRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -437,28 +416,15 @@ public class AWSApplicationAutoScalingAsyncClient extends
             final DescribeScalableTargetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScalableTargetsRequest, DescribeScalableTargetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeScalableTargetsResult>() {
-                    @Override
-                    public DescribeScalableTargetsResult call()
-                            throws Exception {
-                        DescribeScalableTargetsResult result;
-
-                        try {
-                            result = describeScalableTargets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeScalableTargetsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeScalableTargetsResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeScalableTargetsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -473,28 +439,16 @@ public class AWSApplicationAutoScalingAsyncClient extends
             final DescribeScalingActivitiesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScalingActivitiesRequest, DescribeScalingActivitiesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeScalingActivitiesResult>() {
-                    @Override
-                    public DescribeScalingActivitiesResult call()
-                            throws Exception {
-                        DescribeScalingActivitiesResult result;
-
-                        try {
-                            result = describeScalingActivities(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeScalingActivitiesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeScalingActivitiesResultJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new DescribeScalingActivitiesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -509,28 +463,15 @@ public class AWSApplicationAutoScalingAsyncClient extends
             final DescribeScalingPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScalingPoliciesRequest, DescribeScalingPoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeScalingPoliciesResult>() {
-                    @Override
-                    public DescribeScalingPoliciesResult call()
-                            throws Exception {
-                        DescribeScalingPoliciesResult result;
-
-                        try {
-                            result = describeScalingPolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeScalingPoliciesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeScalingPoliciesResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeScalingPoliciesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -545,27 +486,15 @@ public class AWSApplicationAutoScalingAsyncClient extends
             final PutScalingPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutScalingPolicyRequest, PutScalingPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutScalingPolicyResult>() {
-                    @Override
-                    public PutScalingPolicyResult call() throws Exception {
-                        PutScalingPolicyResult result;
-
-                        try {
-                            result = putScalingPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutScalingPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutScalingPolicyResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutScalingPolicyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -580,27 +509,15 @@ public class AWSApplicationAutoScalingAsyncClient extends
             final RegisterScalableTargetRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterScalableTargetRequest, RegisterScalableTargetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RegisterScalableTargetResult>() {
-                    @Override
-                    public RegisterScalableTargetResult call() throws Exception {
-                        RegisterScalableTargetResult result;
-
-                        try {
-                            result = registerScalableTarget(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<RegisterScalableTargetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RegisterScalableTargetResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new RegisterScalableTargetRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.autoscaling;
 
 import com.amazonaws.services.autoscaling.model.*;
+import com.amazonaws.services.autoscaling.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -285,27 +289,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final AttachInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachInstancesRequest, AttachInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AttachInstancesResult>() {
-                    @Override
-                    public AttachInstancesResult call() throws Exception {
-                        AttachInstancesResult result;
+        StaxResponseHandler<AttachInstancesResult> responseHandler = new StaxResponseHandler<AttachInstancesResult>(
+                new AttachInstancesResultStaxUnmarshaller());
 
-                        try {
-                            result = attachInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AttachInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -320,28 +308,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final AttachLoadBalancerTargetGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachLoadBalancerTargetGroupsRequest, AttachLoadBalancerTargetGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AttachLoadBalancerTargetGroupsResult>() {
-                    @Override
-                    public AttachLoadBalancerTargetGroupsResult call()
-                            throws Exception {
-                        AttachLoadBalancerTargetGroupsResult result;
-
-                        try {
-                            result = attachLoadBalancerTargetGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<AttachLoadBalancerTargetGroupsResult> responseHandler = new StaxResponseHandler<AttachLoadBalancerTargetGroupsResult>(
+                new AttachLoadBalancerTargetGroupsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AttachLoadBalancerTargetGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -356,27 +328,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final AttachLoadBalancersRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachLoadBalancersRequest, AttachLoadBalancersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AttachLoadBalancersResult>() {
-                    @Override
-                    public AttachLoadBalancersResult call() throws Exception {
-                        AttachLoadBalancersResult result;
-
-                        try {
-                            result = attachLoadBalancers(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<AttachLoadBalancersResult> responseHandler = new StaxResponseHandler<AttachLoadBalancersResult>(
+                new AttachLoadBalancersResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new AttachLoadBalancersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -416,28 +372,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CompleteLifecycleActionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CompleteLifecycleActionRequest, CompleteLifecycleActionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CompleteLifecycleActionResult>() {
-                    @Override
-                    public CompleteLifecycleActionResult call()
-                            throws Exception {
-                        CompleteLifecycleActionResult result;
-
-                        try {
-                            result = completeLifecycleAction(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CompleteLifecycleActionResult> responseHandler = new StaxResponseHandler<CompleteLifecycleActionResult>(
+                new CompleteLifecycleActionResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CompleteLifecycleActionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -452,27 +392,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CreateAutoScalingGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAutoScalingGroupRequest, CreateAutoScalingGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateAutoScalingGroupResult>() {
-                    @Override
-                    public CreateAutoScalingGroupResult call() throws Exception {
-                        CreateAutoScalingGroupResult result;
+        StaxResponseHandler<CreateAutoScalingGroupResult> responseHandler = new StaxResponseHandler<CreateAutoScalingGroupResult>(
+                new CreateAutoScalingGroupResultStaxUnmarshaller());
 
-                        try {
-                            result = createAutoScalingGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateAutoScalingGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -487,28 +412,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CreateLaunchConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLaunchConfigurationRequest, CreateLaunchConfigurationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateLaunchConfigurationResult>() {
-                    @Override
-                    public CreateLaunchConfigurationResult call()
-                            throws Exception {
-                        CreateLaunchConfigurationResult result;
-
-                        try {
-                            result = createLaunchConfiguration(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateLaunchConfigurationResult> responseHandler = new StaxResponseHandler<CreateLaunchConfigurationResult>(
+                new CreateLaunchConfigurationResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateLaunchConfigurationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -523,27 +432,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final CreateOrUpdateTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateOrUpdateTagsRequest, CreateOrUpdateTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateOrUpdateTagsResult>() {
-                    @Override
-                    public CreateOrUpdateTagsResult call() throws Exception {
-                        CreateOrUpdateTagsResult result;
-
-                        try {
-                            result = createOrUpdateTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateOrUpdateTagsResult> responseHandler = new StaxResponseHandler<CreateOrUpdateTagsResult>(
+                new CreateOrUpdateTagsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateOrUpdateTagsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -558,27 +451,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteAutoScalingGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAutoScalingGroupRequest, DeleteAutoScalingGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteAutoScalingGroupResult>() {
-                    @Override
-                    public DeleteAutoScalingGroupResult call() throws Exception {
-                        DeleteAutoScalingGroupResult result;
+        StaxResponseHandler<DeleteAutoScalingGroupResult> responseHandler = new StaxResponseHandler<DeleteAutoScalingGroupResult>(
+                new DeleteAutoScalingGroupResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteAutoScalingGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteAutoScalingGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -593,28 +471,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteLaunchConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLaunchConfigurationRequest, DeleteLaunchConfigurationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteLaunchConfigurationResult>() {
-                    @Override
-                    public DeleteLaunchConfigurationResult call()
-                            throws Exception {
-                        DeleteLaunchConfigurationResult result;
-
-                        try {
-                            result = deleteLaunchConfiguration(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteLaunchConfigurationResult> responseHandler = new StaxResponseHandler<DeleteLaunchConfigurationResult>(
+                new DeleteLaunchConfigurationResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteLaunchConfigurationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -629,27 +491,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteLifecycleHookRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLifecycleHookRequest, DeleteLifecycleHookResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteLifecycleHookResult>() {
-                    @Override
-                    public DeleteLifecycleHookResult call() throws Exception {
-                        DeleteLifecycleHookResult result;
-
-                        try {
-                            result = deleteLifecycleHook(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteLifecycleHookResult> responseHandler = new StaxResponseHandler<DeleteLifecycleHookResult>(
+                new DeleteLifecycleHookResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteLifecycleHookRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -664,28 +510,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteNotificationConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteNotificationConfigurationRequest, DeleteNotificationConfigurationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteNotificationConfigurationResult>() {
-                    @Override
-                    public DeleteNotificationConfigurationResult call()
-                            throws Exception {
-                        DeleteNotificationConfigurationResult result;
+        StaxResponseHandler<DeleteNotificationConfigurationResult> responseHandler = new StaxResponseHandler<DeleteNotificationConfigurationResult>(
+                new DeleteNotificationConfigurationResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteNotificationConfiguration(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteNotificationConfigurationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -700,27 +530,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeletePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePolicyRequest, DeletePolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeletePolicyResult>() {
-                    @Override
-                    public DeletePolicyResult call() throws Exception {
-                        DeletePolicyResult result;
-
-                        try {
-                            result = deletePolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeletePolicyResult> responseHandler = new StaxResponseHandler<DeletePolicyResult>(
+                new DeletePolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeletePolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -735,27 +549,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteScheduledActionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteScheduledActionRequest, DeleteScheduledActionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteScheduledActionResult>() {
-                    @Override
-                    public DeleteScheduledActionResult call() throws Exception {
-                        DeleteScheduledActionResult result;
-
-                        try {
-                            result = deleteScheduledAction(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteScheduledActionResult> responseHandler = new StaxResponseHandler<DeleteScheduledActionResult>(
+                new DeleteScheduledActionResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteScheduledActionRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -770,27 +569,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DeleteTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTagsRequest, DeleteTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteTagsResult>() {
-                    @Override
-                    public DeleteTagsResult call() throws Exception {
-                        DeleteTagsResult result;
+        StaxResponseHandler<DeleteTagsResult> responseHandler = new StaxResponseHandler<DeleteTagsResult>(
+                new DeleteTagsResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteTagsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -805,27 +588,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAccountLimitsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAccountLimitsRequest, DescribeAccountLimitsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAccountLimitsResult>() {
-                    @Override
-                    public DescribeAccountLimitsResult call() throws Exception {
-                        DescribeAccountLimitsResult result;
-
-                        try {
-                            result = describeAccountLimits(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeAccountLimitsResult> responseHandler = new StaxResponseHandler<DescribeAccountLimitsResult>(
+                new DescribeAccountLimitsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeAccountLimitsRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -865,28 +633,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAdjustmentTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAdjustmentTypesRequest, DescribeAdjustmentTypesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAdjustmentTypesResult>() {
-                    @Override
-                    public DescribeAdjustmentTypesResult call()
-                            throws Exception {
-                        DescribeAdjustmentTypesResult result;
-
-                        try {
-                            result = describeAdjustmentTypes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeAdjustmentTypesResult> responseHandler = new StaxResponseHandler<DescribeAdjustmentTypesResult>(
+                new DescribeAdjustmentTypesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeAdjustmentTypesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -927,28 +679,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAutoScalingGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAutoScalingGroupsRequest, DescribeAutoScalingGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAutoScalingGroupsResult>() {
-                    @Override
-                    public DescribeAutoScalingGroupsResult call()
-                            throws Exception {
-                        DescribeAutoScalingGroupsResult result;
-
-                        try {
-                            result = describeAutoScalingGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeAutoScalingGroupsResult> responseHandler = new StaxResponseHandler<DescribeAutoScalingGroupsResult>(
+                new DescribeAutoScalingGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeAutoScalingGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -989,28 +725,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAutoScalingInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAutoScalingInstancesRequest, DescribeAutoScalingInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAutoScalingInstancesResult>() {
-                    @Override
-                    public DescribeAutoScalingInstancesResult call()
-                            throws Exception {
-                        DescribeAutoScalingInstancesResult result;
-
-                        try {
-                            result = describeAutoScalingInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeAutoScalingInstancesResult> responseHandler = new StaxResponseHandler<DescribeAutoScalingInstancesResult>(
+                new DescribeAutoScalingInstancesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeAutoScalingInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1051,28 +771,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeAutoScalingNotificationTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAutoScalingNotificationTypesRequest, DescribeAutoScalingNotificationTypesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAutoScalingNotificationTypesResult>() {
-                    @Override
-                    public DescribeAutoScalingNotificationTypesResult call()
-                            throws Exception {
-                        DescribeAutoScalingNotificationTypesResult result;
-
-                        try {
-                            result = describeAutoScalingNotificationTypes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeAutoScalingNotificationTypesResult> responseHandler = new StaxResponseHandler<DescribeAutoScalingNotificationTypesResult>(
+                new DescribeAutoScalingNotificationTypesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeAutoScalingNotificationTypesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1113,28 +817,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeLaunchConfigurationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLaunchConfigurationsRequest, DescribeLaunchConfigurationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeLaunchConfigurationsResult>() {
-                    @Override
-                    public DescribeLaunchConfigurationsResult call()
-                            throws Exception {
-                        DescribeLaunchConfigurationsResult result;
-
-                        try {
-                            result = describeLaunchConfigurations(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeLaunchConfigurationsResult> responseHandler = new StaxResponseHandler<DescribeLaunchConfigurationsResult>(
+                new DescribeLaunchConfigurationsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeLaunchConfigurationsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1175,28 +863,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeLifecycleHookTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLifecycleHookTypesRequest, DescribeLifecycleHookTypesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeLifecycleHookTypesResult>() {
-                    @Override
-                    public DescribeLifecycleHookTypesResult call()
-                            throws Exception {
-                        DescribeLifecycleHookTypesResult result;
-
-                        try {
-                            result = describeLifecycleHookTypes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeLifecycleHookTypesResult> responseHandler = new StaxResponseHandler<DescribeLifecycleHookTypesResult>(
+                new DescribeLifecycleHookTypesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeLifecycleHookTypesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1237,27 +909,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeLifecycleHooksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLifecycleHooksRequest, DescribeLifecycleHooksResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeLifecycleHooksResult>() {
-                    @Override
-                    public DescribeLifecycleHooksResult call() throws Exception {
-                        DescribeLifecycleHooksResult result;
-
-                        try {
-                            result = describeLifecycleHooks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeLifecycleHooksResult> responseHandler = new StaxResponseHandler<DescribeLifecycleHooksResult>(
+                new DescribeLifecycleHooksResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeLifecycleHooksRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1272,28 +929,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeLoadBalancerTargetGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLoadBalancerTargetGroupsRequest, DescribeLoadBalancerTargetGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeLoadBalancerTargetGroupsResult>() {
-                    @Override
-                    public DescribeLoadBalancerTargetGroupsResult call()
-                            throws Exception {
-                        DescribeLoadBalancerTargetGroupsResult result;
-
-                        try {
-                            result = describeLoadBalancerTargetGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeLoadBalancerTargetGroupsResult> responseHandler = new StaxResponseHandler<DescribeLoadBalancerTargetGroupsResult>(
+                new DescribeLoadBalancerTargetGroupsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeLoadBalancerTargetGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1308,27 +949,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeLoadBalancersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLoadBalancersRequest, DescribeLoadBalancersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeLoadBalancersResult>() {
-                    @Override
-                    public DescribeLoadBalancersResult call() throws Exception {
-                        DescribeLoadBalancersResult result;
+        StaxResponseHandler<DescribeLoadBalancersResult> responseHandler = new StaxResponseHandler<DescribeLoadBalancersResult>(
+                new DescribeLoadBalancersResultStaxUnmarshaller());
 
-                        try {
-                            result = describeLoadBalancers(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeLoadBalancersRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1343,28 +969,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeMetricCollectionTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeMetricCollectionTypesRequest, DescribeMetricCollectionTypesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeMetricCollectionTypesResult>() {
-                    @Override
-                    public DescribeMetricCollectionTypesResult call()
-                            throws Exception {
-                        DescribeMetricCollectionTypesResult result;
-
-                        try {
-                            result = describeMetricCollectionTypes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeMetricCollectionTypesResult> responseHandler = new StaxResponseHandler<DescribeMetricCollectionTypesResult>(
+                new DescribeMetricCollectionTypesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeMetricCollectionTypesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1405,28 +1015,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeNotificationConfigurationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeNotificationConfigurationsRequest, DescribeNotificationConfigurationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeNotificationConfigurationsResult>() {
-                    @Override
-                    public DescribeNotificationConfigurationsResult call()
-                            throws Exception {
-                        DescribeNotificationConfigurationsResult result;
-
-                        try {
-                            result = describeNotificationConfigurations(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeNotificationConfigurationsResult> responseHandler = new StaxResponseHandler<DescribeNotificationConfigurationsResult>(
+                new DescribeNotificationConfigurationsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeNotificationConfigurationsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1467,27 +1061,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribePoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribePoliciesRequest, DescribePoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribePoliciesResult>() {
-                    @Override
-                    public DescribePoliciesResult call() throws Exception {
-                        DescribePoliciesResult result;
-
-                        try {
-                            result = describePolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribePoliciesResult> responseHandler = new StaxResponseHandler<DescribePoliciesResult>(
+                new DescribePoliciesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribePoliciesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1527,28 +1105,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeScalingActivitiesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScalingActivitiesRequest, DescribeScalingActivitiesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeScalingActivitiesResult>() {
-                    @Override
-                    public DescribeScalingActivitiesResult call()
-                            throws Exception {
-                        DescribeScalingActivitiesResult result;
-
-                        try {
-                            result = describeScalingActivities(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeScalingActivitiesResult> responseHandler = new StaxResponseHandler<DescribeScalingActivitiesResult>(
+                new DescribeScalingActivitiesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeScalingActivitiesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1589,28 +1151,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeScalingProcessTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScalingProcessTypesRequest, DescribeScalingProcessTypesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeScalingProcessTypesResult>() {
-                    @Override
-                    public DescribeScalingProcessTypesResult call()
-                            throws Exception {
-                        DescribeScalingProcessTypesResult result;
-
-                        try {
-                            result = describeScalingProcessTypes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeScalingProcessTypesResult> responseHandler = new StaxResponseHandler<DescribeScalingProcessTypesResult>(
+                new DescribeScalingProcessTypesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeScalingProcessTypesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1651,28 +1197,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeScheduledActionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScheduledActionsRequest, DescribeScheduledActionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeScheduledActionsResult>() {
-                    @Override
-                    public DescribeScheduledActionsResult call()
-                            throws Exception {
-                        DescribeScheduledActionsResult result;
-
-                        try {
-                            result = describeScheduledActions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeScheduledActionsResult> responseHandler = new StaxResponseHandler<DescribeScheduledActionsResult>(
+                new DescribeScheduledActionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeScheduledActionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1713,27 +1243,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTagsResult>() {
-                    @Override
-                    public DescribeTagsResult call() throws Exception {
-                        DescribeTagsResult result;
-
-                        try {
-                            result = describeTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeTagsResult> responseHandler = new StaxResponseHandler<DescribeTagsResult>(
+                new DescribeTagsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeTagsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1772,28 +1286,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DescribeTerminationPolicyTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTerminationPolicyTypesRequest, DescribeTerminationPolicyTypesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTerminationPolicyTypesResult>() {
-                    @Override
-                    public DescribeTerminationPolicyTypesResult call()
-                            throws Exception {
-                        DescribeTerminationPolicyTypesResult result;
-
-                        try {
-                            result = describeTerminationPolicyTypes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeTerminationPolicyTypesResult> responseHandler = new StaxResponseHandler<DescribeTerminationPolicyTypesResult>(
+                new DescribeTerminationPolicyTypesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeTerminationPolicyTypesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1834,27 +1332,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DetachInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachInstancesRequest, DetachInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DetachInstancesResult>() {
-                    @Override
-                    public DetachInstancesResult call() throws Exception {
-                        DetachInstancesResult result;
-
-                        try {
-                            result = detachInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DetachInstancesResult> responseHandler = new StaxResponseHandler<DetachInstancesResult>(
+                new DetachInstancesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DetachInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1869,28 +1351,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DetachLoadBalancerTargetGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachLoadBalancerTargetGroupsRequest, DetachLoadBalancerTargetGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DetachLoadBalancerTargetGroupsResult>() {
-                    @Override
-                    public DetachLoadBalancerTargetGroupsResult call()
-                            throws Exception {
-                        DetachLoadBalancerTargetGroupsResult result;
+        StaxResponseHandler<DetachLoadBalancerTargetGroupsResult> responseHandler = new StaxResponseHandler<DetachLoadBalancerTargetGroupsResult>(
+                new DetachLoadBalancerTargetGroupsResultStaxUnmarshaller());
 
-                        try {
-                            result = detachLoadBalancerTargetGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DetachLoadBalancerTargetGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1905,27 +1371,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DetachLoadBalancersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachLoadBalancersRequest, DetachLoadBalancersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DetachLoadBalancersResult>() {
-                    @Override
-                    public DetachLoadBalancersResult call() throws Exception {
-                        DetachLoadBalancersResult result;
-
-                        try {
-                            result = detachLoadBalancers(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DetachLoadBalancersResult> responseHandler = new StaxResponseHandler<DetachLoadBalancersResult>(
+                new DetachLoadBalancersResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DetachLoadBalancersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1965,28 +1415,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final DisableMetricsCollectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableMetricsCollectionRequest, DisableMetricsCollectionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableMetricsCollectionResult>() {
-                    @Override
-                    public DisableMetricsCollectionResult call()
-                            throws Exception {
-                        DisableMetricsCollectionResult result;
-
-                        try {
-                            result = disableMetricsCollection(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DisableMetricsCollectionResult> responseHandler = new StaxResponseHandler<DisableMetricsCollectionResult>(
+                new DisableMetricsCollectionResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DisableMetricsCollectionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2001,28 +1435,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final EnableMetricsCollectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableMetricsCollectionRequest, EnableMetricsCollectionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableMetricsCollectionResult>() {
-                    @Override
-                    public EnableMetricsCollectionResult call()
-                            throws Exception {
-                        EnableMetricsCollectionResult result;
+        StaxResponseHandler<EnableMetricsCollectionResult> responseHandler = new StaxResponseHandler<EnableMetricsCollectionResult>(
+                new EnableMetricsCollectionResultStaxUnmarshaller());
 
-                        try {
-                            result = enableMetricsCollection(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new EnableMetricsCollectionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2037,27 +1455,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final EnterStandbyRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnterStandbyRequest, EnterStandbyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnterStandbyResult>() {
-                    @Override
-                    public EnterStandbyResult call() throws Exception {
-                        EnterStandbyResult result;
-
-                        try {
-                            result = enterStandby(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<EnterStandbyResult> responseHandler = new StaxResponseHandler<EnterStandbyResult>(
+                new EnterStandbyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new EnterStandbyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2072,27 +1474,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final ExecutePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<ExecutePolicyRequest, ExecutePolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ExecutePolicyResult>() {
-                    @Override
-                    public ExecutePolicyResult call() throws Exception {
-                        ExecutePolicyResult result;
-
-                        try {
-                            result = executePolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ExecutePolicyResult> responseHandler = new StaxResponseHandler<ExecutePolicyResult>(
+                new ExecutePolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ExecutePolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2107,27 +1493,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final ExitStandbyRequest request,
             final com.amazonaws.handlers.AsyncHandler<ExitStandbyRequest, ExitStandbyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ExitStandbyResult>() {
-                    @Override
-                    public ExitStandbyResult call() throws Exception {
-                        ExitStandbyResult result;
+        StaxResponseHandler<ExitStandbyResult> responseHandler = new StaxResponseHandler<ExitStandbyResult>(
+                new ExitStandbyResultStaxUnmarshaller());
 
-                        try {
-                            result = exitStandby(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ExitStandbyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2142,27 +1512,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutLifecycleHookRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutLifecycleHookRequest, PutLifecycleHookResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutLifecycleHookResult>() {
-                    @Override
-                    public PutLifecycleHookResult call() throws Exception {
-                        PutLifecycleHookResult result;
-
-                        try {
-                            result = putLifecycleHook(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<PutLifecycleHookResult> responseHandler = new StaxResponseHandler<PutLifecycleHookResult>(
+                new PutLifecycleHookResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new PutLifecycleHookRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2177,28 +1531,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutNotificationConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutNotificationConfigurationRequest, PutNotificationConfigurationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutNotificationConfigurationResult>() {
-                    @Override
-                    public PutNotificationConfigurationResult call()
-                            throws Exception {
-                        PutNotificationConfigurationResult result;
+        StaxResponseHandler<PutNotificationConfigurationResult> responseHandler = new StaxResponseHandler<PutNotificationConfigurationResult>(
+                new PutNotificationConfigurationResultStaxUnmarshaller());
 
-                        try {
-                            result = putNotificationConfiguration(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new PutNotificationConfigurationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2213,27 +1551,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutScalingPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutScalingPolicyRequest, PutScalingPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutScalingPolicyResult>() {
-                    @Override
-                    public PutScalingPolicyResult call() throws Exception {
-                        PutScalingPolicyResult result;
-
-                        try {
-                            result = putScalingPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<PutScalingPolicyResult> responseHandler = new StaxResponseHandler<PutScalingPolicyResult>(
+                new PutScalingPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new PutScalingPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2248,28 +1570,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final PutScheduledUpdateGroupActionRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutScheduledUpdateGroupActionRequest, PutScheduledUpdateGroupActionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutScheduledUpdateGroupActionResult>() {
-                    @Override
-                    public PutScheduledUpdateGroupActionResult call()
-                            throws Exception {
-                        PutScheduledUpdateGroupActionResult result;
+        StaxResponseHandler<PutScheduledUpdateGroupActionResult> responseHandler = new StaxResponseHandler<PutScheduledUpdateGroupActionResult>(
+                new PutScheduledUpdateGroupActionResultStaxUnmarshaller());
 
-                        try {
-                            result = putScheduledUpdateGroupAction(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new PutScheduledUpdateGroupActionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2284,28 +1590,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final RecordLifecycleActionHeartbeatRequest request,
             final com.amazonaws.handlers.AsyncHandler<RecordLifecycleActionHeartbeatRequest, RecordLifecycleActionHeartbeatResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RecordLifecycleActionHeartbeatResult>() {
-                    @Override
-                    public RecordLifecycleActionHeartbeatResult call()
-                            throws Exception {
-                        RecordLifecycleActionHeartbeatResult result;
-
-                        try {
-                            result = recordLifecycleActionHeartbeat(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<RecordLifecycleActionHeartbeatResult> responseHandler = new StaxResponseHandler<RecordLifecycleActionHeartbeatResult>(
+                new RecordLifecycleActionHeartbeatResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RecordLifecycleActionHeartbeatRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2320,27 +1610,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final ResumeProcessesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResumeProcessesRequest, ResumeProcessesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ResumeProcessesResult>() {
-                    @Override
-                    public ResumeProcessesResult call() throws Exception {
-                        ResumeProcessesResult result;
-
-                        try {
-                            result = resumeProcesses(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ResumeProcessesResult> responseHandler = new StaxResponseHandler<ResumeProcessesResult>(
+                new ResumeProcessesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ResumeProcessesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2355,27 +1629,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SetDesiredCapacityRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetDesiredCapacityRequest, SetDesiredCapacityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetDesiredCapacityResult>() {
-                    @Override
-                    public SetDesiredCapacityResult call() throws Exception {
-                        SetDesiredCapacityResult result;
+        StaxResponseHandler<SetDesiredCapacityResult> responseHandler = new StaxResponseHandler<SetDesiredCapacityResult>(
+                new SetDesiredCapacityResultStaxUnmarshaller());
 
-                        try {
-                            result = setDesiredCapacity(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SetDesiredCapacityRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2390,27 +1648,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SetInstanceHealthRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetInstanceHealthRequest, SetInstanceHealthResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetInstanceHealthResult>() {
-                    @Override
-                    public SetInstanceHealthResult call() throws Exception {
-                        SetInstanceHealthResult result;
-
-                        try {
-                            result = setInstanceHealth(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<SetInstanceHealthResult> responseHandler = new StaxResponseHandler<SetInstanceHealthResult>(
+                new SetInstanceHealthResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SetInstanceHealthRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2425,27 +1667,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SetInstanceProtectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetInstanceProtectionRequest, SetInstanceProtectionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetInstanceProtectionResult>() {
-                    @Override
-                    public SetInstanceProtectionResult call() throws Exception {
-                        SetInstanceProtectionResult result;
-
-                        try {
-                            result = setInstanceProtection(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<SetInstanceProtectionResult> responseHandler = new StaxResponseHandler<SetInstanceProtectionResult>(
+                new SetInstanceProtectionResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new SetInstanceProtectionRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -2460,27 +1687,11 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final SuspendProcessesRequest request,
             final com.amazonaws.handlers.AsyncHandler<SuspendProcessesRequest, SuspendProcessesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SuspendProcessesResult>() {
-                    @Override
-                    public SuspendProcessesResult call() throws Exception {
-                        SuspendProcessesResult result;
+        StaxResponseHandler<SuspendProcessesResult> responseHandler = new StaxResponseHandler<SuspendProcessesResult>(
+                new SuspendProcessesResultStaxUnmarshaller());
 
-                        try {
-                            result = suspendProcesses(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SuspendProcessesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2495,28 +1706,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final TerminateInstanceInAutoScalingGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<TerminateInstanceInAutoScalingGroupRequest, TerminateInstanceInAutoScalingGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<TerminateInstanceInAutoScalingGroupResult>() {
-                    @Override
-                    public TerminateInstanceInAutoScalingGroupResult call()
-                            throws Exception {
-                        TerminateInstanceInAutoScalingGroupResult result;
-
-                        try {
-                            result = terminateInstanceInAutoScalingGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<TerminateInstanceInAutoScalingGroupResult> responseHandler = new StaxResponseHandler<TerminateInstanceInAutoScalingGroupResult>(
+                new TerminateInstanceInAutoScalingGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new TerminateInstanceInAutoScalingGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2531,27 +1726,12 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
             final UpdateAutoScalingGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAutoScalingGroupRequest, UpdateAutoScalingGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateAutoScalingGroupResult>() {
-                    @Override
-                    public UpdateAutoScalingGroupResult call() throws Exception {
-                        UpdateAutoScalingGroupResult result;
-
-                        try {
-                            result = updateAutoScalingGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<UpdateAutoScalingGroupResult> responseHandler = new StaxResponseHandler<UpdateAutoScalingGroupResult>(
+                new UpdateAutoScalingGroupResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new UpdateAutoScalingGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
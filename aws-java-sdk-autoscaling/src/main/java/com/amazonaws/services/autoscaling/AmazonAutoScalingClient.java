@@ -3434,4 +3434,52 @@ public class AmazonAutoScalingClient extends AmazonWebServiceClient implements
         return waiters;
     }
 
+    /**
+     * Asynchronous invoke with authentication, used by the asynchronous client.
+     * Credentials are required and may be overriden at the request level.
+     **/
+    <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> asyncInvoke(
+            Y originalRequest, Marshaller<Request<Y>, Y> marshaller,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            AsyncHandler<Y, X> asyncHandler,
+            java.util.concurrent.Executor completionExecutor) {
+
+        return doAsyncInvoke(originalRequest, marshaller, responseHandler,
+                awsCredentialsProvider, asyncHandler, completionExecutor);
+    }
+
+    /**
+     * Asynchronous invoke with no authentication, used by the asynchronous
+     * client. Credentials are not required and any credentials set on the
+     * client or request will be ignored for this operation.
+     **/
+    <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> anonymousAsyncInvoke(
+            Y originalRequest, Marshaller<Request<Y>, Y> marshaller,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            AsyncHandler<Y, X> asyncHandler,
+            java.util.concurrent.Executor completionExecutor) {
+
+        return doAsyncInvoke(originalRequest, marshaller, responseHandler,
+                null, asyncHandler, completionExecutor);
+    }
+
+    /**
+     * Invoke the request using the non-blocking http client, handling the
+     * response on the completion executor.
+     **/
+    private <X, Y extends AmazonWebServiceRequest> java.util.concurrent.Future<X> doAsyncInvoke(
+            Y originalRequest, Marshaller<Request<Y>, Y> marshaller,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            AWSCredentialsProvider credentialsProvider,
+            AsyncHandler<Y, X> asyncHandler,
+            java.util.concurrent.Executor completionExecutor) {
+
+        DefaultErrorResponseHandler errorResponseHandler = new DefaultErrorResponseHandler(
+                exceptionUnmarshallers);
+
+        return executeAsync(originalRequest, marshaller, responseHandler,
+                errorResponseHandler, credentialsProvider, asyncHandler,
+                completionExecutor);
+    }
+
 }
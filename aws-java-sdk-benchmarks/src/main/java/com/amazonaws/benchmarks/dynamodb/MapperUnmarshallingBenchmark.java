@@ -0,0 +1,194 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.dynamodb;
+
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClient;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBAttribute;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBHashKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBRangeKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBTable;
+import com.amazonaws.services.dynamodbv2.datamodeling.internal.PropertyAccessor;
+import com.amazonaws.services.dynamodbv2.datamodeling.internal.PropertyAccessorGenerator;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DynamoDBMapper#marshallIntoObject} for a scan-sized item
+ * with ten attributes, once with the default reflective property access and
+ * once with generated property accessors. The accessor strategy is fixed
+ * when the table model is built, so each variant runs in its own fork.
+ * <p>
+ * The {@code setProperties*} benchmarks isolate the property access itself:
+ * they set all ten properties of the item through {@link Method#invoke} and
+ * through generated {@link PropertyAccessor}s.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class MapperUnmarshallingBenchmark {
+
+    private static final String GENERATED_ACCESSORS =
+            "-Dcom.amazonaws.services.dynamodbv2.datamodeling.enableGeneratedAccessors=true";
+
+    private DynamoDBMapper mapper;
+    private Map<String, AttributeValue> item;
+
+    private final List<Method> setters = new ArrayList<Method>();
+    private final List<PropertyAccessor> accessors = new ArrayList<PropertyAccessor>();
+    private final List<Object> values = new ArrayList<Object>();
+
+    @Setup
+    public void setup() throws Exception {
+        mapper = new DynamoDBMapper(new AmazonDynamoDBClient(new BasicAWSCredentials("akid", "skid")));
+        item = new HashMap<String, AttributeValue>();
+        item.put("id", new AttributeValue("3f2504e0-4f89-11d3-9a0c-0305e82c3301"));
+        item.put("timestamp", new AttributeValue().withN("1470000000000"));
+        item.put("name", new AttributeValue("benchmark"));
+        item.put("owner", new AttributeValue("aws-java-sdk"));
+        item.put("count", new AttributeValue().withN("42"));
+        item.put("size", new AttributeValue().withN("1048576"));
+        item.put("score", new AttributeValue().withN("3.14"));
+        item.put("active", new AttributeValue().withN("1"));
+        item.put("version", new AttributeValue().withN("7"));
+        item.put("status", new AttributeValue("ACTIVE"));
+
+        Record record = mapper.marshallIntoObject(Record.class, item);
+        for (Method getter : Record.class.getMethods()) {
+            if (getter.getDeclaringClass() != Record.class || getter.getName().startsWith("set")) {
+                continue;
+            }
+            String property = getter.getName().replaceFirst("^(get|is)", "");
+            Method setter = findSetter(property);
+            setters.add(setter);
+            accessors.add(PropertyAccessorGenerator.generate(getter, setter));
+            values.add(getter.invoke(record));
+        }
+    }
+
+    private static Method findSetter(String property) {
+        for (Method method : Record.class.getMethods()) {
+            if (method.getName().equals("set" + property)) {
+                return method;
+            }
+        }
+        throw new IllegalStateException("no setter for " + property);
+    }
+
+    @Benchmark
+    @Fork(1)
+    public Record unmarshallReflection() {
+        return mapper.marshallIntoObject(Record.class, item);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = GENERATED_ACCESSORS)
+    public Record unmarshallGeneratedAccessors() {
+        return mapper.marshallIntoObject(Record.class, item);
+    }
+
+    @Benchmark
+    @Fork(1)
+    public Record setPropertiesReflection() throws Exception {
+        Record record = new Record();
+        for (int i = 0; i < setters.size(); i++) {
+            setters.get(i).invoke(record, values.get(i));
+        }
+        return record;
+    }
+
+    @Benchmark
+    @Fork(1)
+    public Record setPropertiesGeneratedAccessors() {
+        Record record = new Record();
+        for (int i = 0; i < accessors.size(); i++) {
+            accessors.get(i).set(record, values.get(i));
+        }
+        return record;
+    }
+
+    @DynamoDBTable(tableName = "benchmark")
+    public static class Record {
+        private String id;
+        private long timestamp;
+        private String name;
+        private String owner;
+        private int count;
+        private Long size;
+        private double score;
+        private boolean active;
+        private Integer version;
+        private String status;
+
+        @DynamoDBHashKey
+        public String getId() { return id; }
+        public void setId(String id) { this.id = id; }
+
+        @DynamoDBRangeKey
+        public long getTimestamp() { return timestamp; }
+        public void setTimestamp(long timestamp) { this.timestamp = timestamp; }
+
+        @DynamoDBAttribute
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+
+        @DynamoDBAttribute
+        public String getOwner() { return owner; }
+        public void setOwner(String owner) { this.owner = owner; }
+
+        @DynamoDBAttribute
+        public int getCount() { return count; }
+        public void setCount(int count) { this.count = count; }
+
+        @DynamoDBAttribute
+        public Long getSize() { return size; }
+        public void setSize(Long size) { this.size = size; }
+
+        @DynamoDBAttribute
+        public double getScore() { return score; }
+        public void setScore(double score) { this.score = score; }
+
+        @DynamoDBAttribute
+        public boolean isActive() { return active; }
+        public void setActive(boolean active) { this.active = active; }
+
+        @DynamoDBAttribute
+        public Integer getVersion() { return version; }
+        public void setVersion(Integer version) { this.version = version; }
+
+        @DynamoDBAttribute
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.http;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Response;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.StringUtils;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link AmazonHttpClient#execute} for a small
+ * request against an in-process HTTP stub on the loopback interface, so that
+ * the result is dominated by the client rather than by the network. Run with
+ * {@code -t} to measure contention on the connection pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class AmazonHttpClientBenchmark {
+
+    private static final byte[] RESPONSE_BODY = "{\"TableNames\":[\"benchmark\"]}".getBytes(StringUtils.UTF8);
+
+    private static final HttpResponseHandler<AmazonWebServiceResponse<String>> RESPONSE_HANDLER =
+            new HttpResponseHandler<AmazonWebServiceResponse<String>>() {
+                @Override
+                public AmazonWebServiceResponse<String> handle(HttpResponse response) throws Exception {
+                    AmazonWebServiceResponse<String> awsResponse = new AmazonWebServiceResponse<String>();
+                    awsResponse.setResult(IOUtils.toString(response.getContent()));
+                    return awsResponse;
+                }
+
+                @Override
+                public boolean needsConnectionLeftOpen() {
+                    return false;
+                }
+            };
+
+    private static final HttpResponseHandler<AmazonServiceException> ERROR_RESPONSE_HANDLER =
+            new HttpResponseHandler<AmazonServiceException>() {
+                @Override
+                public AmazonServiceException handle(HttpResponse response) throws Exception {
+                    AmazonServiceException exception = new AmazonServiceException("Unexpected error response");
+                    exception.setStatusCode(response.getStatusCode());
+                    return exception;
+                }
+
+                @Override
+                public boolean needsConnectionLeftOpen() {
+                    return false;
+                }
+            };
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private AmazonHttpClient client;
+    private URI endpoint;
+
+    @Setup
+    public void setup() throws IOException {
+        // Otherwise Nagle's algorithm on the stub delays every response by
+        // the delayed ACK timeout, which would dwarf the client overhead.
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", new HttpHandler() {
+            @Override
+            public void handle(HttpExchange exchange) throws IOException {
+                exchange.getRequestBody().close();
+                exchange.getResponseHeaders().add("Content-Type", "application/x-amz-json-1.0");
+                exchange.sendResponseHeaders(200, RESPONSE_BODY.length);
+                OutputStream out = exchange.getResponseBody();
+                out.write(RESPONSE_BODY);
+                out.close();
+            }
+        });
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        endpoint = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+        client = new AmazonHttpClient(new ClientConfiguration());
+    }
+
+    @TearDown
+    public void tearDown() {
+        client.shutdown();
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public Response<String> execute() {
+        DefaultRequest<Void> request = new DefaultRequest<Void>("Benchmark");
+        request.setHttpMethod(HttpMethodName.GET);
+        request.setEndpoint(endpoint);
+        request.setResourcePath("/");
+        return client.execute(request, RESPONSE_HANDLER, ERROR_RESPONSE_HANDLER, new ExecutionContext());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.protocol;
+
+import com.amazonaws.protocol.json.JsonClientMetadata;
+import com.amazonaws.protocol.json.SdkJsonProtocolFactory;
+import com.amazonaws.protocol.json.StructuredJsonGenerator;
+import com.amazonaws.services.kinesis.model.PutRecordsRequest;
+import com.amazonaws.services.kinesis.model.PutRecordsRequestEntry;
+import com.amazonaws.services.kinesis.model.Record;
+import com.amazonaws.services.kinesis.model.transform.RecordJsonMarshaller;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Kinesis payloads used by the JSON and CBOR benchmarks. Kinesis is used
+ * because it supports both wire formats with the same generated marshallers
+ * and unmarshallers.
+ */
+public final class KinesisFixtures {
+
+    /** Wire format parameter value for plain JSON. */
+    public static final String JSON = "json";
+
+    /** Wire format parameter value for CBOR. */
+    public static final String CBOR = "cbor";
+
+    private KinesisFixtures() {
+    }
+
+    /**
+     * Returns a protocol factory for the given wire format, configured the
+     * same way as the Kinesis client.
+     */
+    public static SdkJsonProtocolFactory protocolFactory(String format) {
+        return new SdkJsonProtocolFactory(new JsonClientMetadata()
+                .withProtocolVersion("1.1")
+                .withSupportsCbor(CBOR.equals(format)));
+    }
+
+    /**
+     * Returns a PutRecords request with the given number of entries carrying
+     * a payload of the given size.
+     */
+    public static PutRecordsRequest putRecordsRequest(int recordCount, int payloadSize) {
+        List<PutRecordsRequestEntry> entries = new ArrayList<PutRecordsRequestEntry>(recordCount);
+        for (int i = 0; i < recordCount; i++) {
+            entries.add(new PutRecordsRequestEntry()
+                    .withPartitionKey("partition-key-" + i)
+                    .withData(ByteBuffer.wrap(payload(payloadSize, i))));
+        }
+        return new PutRecordsRequest().withStreamName("benchmark-stream").withRecords(entries);
+    }
+
+    /**
+     * Returns the body of a GetRecords response, in the wire format of the
+     * given protocol factory, holding the given number of records.
+     */
+    public static byte[] getRecordsResponse(SdkJsonProtocolFactory protocolFactory, int recordCount,
+            int payloadSize) throws Exception {
+        StructuredJsonGenerator generator = protocolFactory.createGenerator();
+        generator.writeStartObject();
+        generator.writeFieldName("MillisBehindLatest").writeValue(0L);
+        generator.writeFieldName("NextShardIterator").writeValue("AAAAAAAAAAHsW8zCWf9164uy8Epue6WS3w6wmj4a4USt+CNvMd6uXQ+HL5vAJMznqqC0DLKsIjuoiTi1BpT6nW0LN2M2D56zM5H8anHm30Gbri9ua+qaGgj+3XTyvbhpERfrezgLHbPB/rIcVpykJbaSj5tmcXYRmFnqZBEyHwtZYFmh6hvWVFkIwLuMZLMrpWhG5r5hzkE=");
+        generator.writeFieldName("Records").writeStartArray();
+        long arrivalTime = System.currentTimeMillis();
+        for (int i = 0; i < recordCount; i++) {
+            RecordJsonMarshaller.getInstance().marshall(new Record()
+                    .withSequenceNumber("4959047535893925862546123213849870385264574413216" + i)
+                    .withApproximateArrivalTimestamp(new Date(arrivalTime))
+                    .withPartitionKey("partition-key-" + i)
+                    .withData(ByteBuffer.wrap(payload(payloadSize, i))), generator);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        return generator.getBytes();
+    }
+
+    private static byte[] payload(int size, int seed) {
+        byte[] payload = new byte[size];
+        for (int i = 0; i < size; i++) {
+            payload[i] = (byte) ('a' + (seed + i) % 26);
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.protocol;
+
+import com.amazonaws.Request;
+import com.amazonaws.protocol.json.SdkJsonProtocolFactory;
+import com.amazonaws.services.kinesis.model.PutRecordsRequest;
+import com.amazonaws.services.kinesis.model.transform.PutRecordsRequestMarshaller;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures request marshalling through {@code SdkJsonGenerator} and
+ * {@code SdkCborGenerator}, using a Kinesis PutRecords request with 100
+ * entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MarshallingBenchmark {
+
+    @Param({ KinesisFixtures.JSON, KinesisFixtures.CBOR })
+    public String format;
+
+    @Param({ "1024" })
+    public int payloadSize;
+
+    private PutRecordsRequestMarshaller marshaller;
+    private PutRecordsRequest putRecordsRequest;
+
+    @Setup
+    public void setup() {
+        SdkJsonProtocolFactory protocolFactory = KinesisFixtures.protocolFactory(format);
+        marshaller = new PutRecordsRequestMarshaller(protocolFactory);
+        putRecordsRequest = KinesisFixtures.putRecordsRequest(100, payloadSize);
+    }
+
+    @Benchmark
+    public Request<PutRecordsRequest> marshallPutRecords() {
+        return marshaller.marshall(putRecordsRequest);
+    }
+}
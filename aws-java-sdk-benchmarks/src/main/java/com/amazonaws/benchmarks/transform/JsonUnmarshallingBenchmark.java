@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.transform;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.benchmarks.protocol.KinesisFixtures;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.protocol.json.JsonOperationMetadata;
+import com.amazonaws.protocol.json.SdkJsonProtocolFactory;
+import com.amazonaws.services.kinesis.model.GetRecordsResult;
+import com.amazonaws.services.kinesis.model.transform.GetRecordsResultJsonUnmarshaller;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures response unmarshalling through {@code JsonUnmarshallerContextImpl}
+ * for both JSON and CBOR, using a Kinesis GetRecords response with 100
+ * records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class JsonUnmarshallingBenchmark {
+
+    @Param({ KinesisFixtures.JSON, KinesisFixtures.CBOR })
+    public String format;
+
+    @Param({ "1024" })
+    public int payloadSize;
+
+    private HttpResponseHandler<AmazonWebServiceResponse<GetRecordsResult>> responseHandler;
+    private byte[] responseBody;
+
+    @Setup
+    public void setup() throws Exception {
+        SdkJsonProtocolFactory protocolFactory = KinesisFixtures.protocolFactory(format);
+        responseHandler = protocolFactory.createResponseHandler(new JsonOperationMetadata()
+                .withPayloadJson(true)
+                .withHasStreamingSuccessResponse(false),
+                new GetRecordsResultJsonUnmarshaller());
+        responseBody = KinesisFixtures.getRecordsResponse(protocolFactory, 100, payloadSize);
+    }
+
+    @Benchmark
+    public AmazonWebServiceResponse<GetRecordsResult> unmarshallGetRecords() throws Exception {
+        HttpResponse response = new HttpResponse(null, null);
+        response.setStatusCode(200);
+        response.setContent(new ByteArrayInputStream(responseBody));
+        return responseHandler.handle(response);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmarks.transform;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.http.HttpResponse;
+import com.amazonaws.http.StaxResponseHandler;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+import com.amazonaws.services.sqs.model.transform.ReceiveMessageResultStaxUnmarshaller;
+import com.amazonaws.util.StringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures response unmarshalling through {@code StaxUnmarshallerContext},
+ * using an SQS ReceiveMessage response with 10 messages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StaxUnmarshallingBenchmark {
+
+    private StaxResponseHandler<ReceiveMessageResult> responseHandler;
+    private byte[] responseBody;
+
+    @Setup
+    public void setup() {
+        responseHandler = new StaxResponseHandler<ReceiveMessageResult>(
+                new ReceiveMessageResultStaxUnmarshaller());
+        responseBody = receiveMessageResponse(10).getBytes(StringUtils.UTF8);
+    }
+
+    @Benchmark
+    public AmazonWebServiceResponse<ReceiveMessageResult> unmarshallReceiveMessage() throws Exception {
+        HttpResponse response = new HttpResponse(null, null);
+        response.setStatusCode(200);
+        response.setContent(new ByteArrayInputStream(responseBody));
+        return responseHandler.handle(response);
+    }
+
+    private static String receiveMessageResponse(int messageCount) {
+        StringBuilder xml = new StringBuilder(
+                "<ReceiveMessageResponse xmlns=\"http://queue.amazonaws.com/doc/2012-11-05/\">"
+                        + "<ReceiveMessageResult>");
+        for (int i = 0; i < messageCount; i++) {
+            xml.append("<Message>")
+                    .append("<MessageId>5fea7756-0ea4-451a-a703-a558b933e27").append(i).append("</MessageId>")
+                    .append("<ReceiptHandle>MbZj6wDWli+JvwwJaBV+3dcjk2YW2vA3+STFFljTM8tJJg6HRG6PYSasuWXPJB+Cw")
+                    .append("Lj1FjgXUv1uSj1gUPAWV66FU/WeR4mq2OKpEGYWbnLmpRCJVAyeMjeU5ZBdtcQ+QE").append(i)
+                    .append("</ReceiptHandle>")
+                    .append("<MD5OfBody>fafb00f5732ab283681e124bf8747ed1</MD5OfBody>")
+                    .append("<Body>This is a test message with some payload number ").append(i).append("</Body>")
+                    .append("<Attribute><Name>SenderId</Name><Value>195004372649</Value></Attribute>")
+                    .append("<Attribute><Name>SentTimestamp</Name><Value>1238099229000</Value></Attribute>")
+                    .append("<Attribute><Name>ApproximateReceiveCount</Name><Value>5</Value></Attribute>")
+                    .append("<Attribute><Name>ApproximateFirstReceiveTimestamp</Name>")
+                    .append("<Value>1250700979248</Value></Attribute>")
+                    .append("</Message>");
+        }
+        return xml.append("</ReceiveMessageResult>")
+                .append("<ResponseMetadata><RequestId>b6633655-283d-45b4-aee4-4e84e0ae6afa</RequestId>")
+                .append("</ResponseMetadata></ReceiveMessageResponse>")
+                .toString();
+    }
+}
@@ -15,6 +15,10 @@
 package com.amazonaws.services.cloudformation;
 
 import com.amazonaws.services.cloudformation.model.*;
+import com.amazonaws.services.cloudformation.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -304,27 +308,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final CancelUpdateStackRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelUpdateStackRequest, CancelUpdateStackResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CancelUpdateStackResult>() {
-                    @Override
-                    public CancelUpdateStackResult call() throws Exception {
-                        CancelUpdateStackResult result;
-
-                        try {
-                            result = cancelUpdateStack(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CancelUpdateStackResult> responseHandler = new StaxResponseHandler<CancelUpdateStackResult>(
+                new CancelUpdateStackResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CancelUpdateStackRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -339,27 +327,12 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ContinueUpdateRollbackRequest request,
             final com.amazonaws.handlers.AsyncHandler<ContinueUpdateRollbackRequest, ContinueUpdateRollbackResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ContinueUpdateRollbackResult>() {
-                    @Override
-                    public ContinueUpdateRollbackResult call() throws Exception {
-                        ContinueUpdateRollbackResult result;
-
-                        try {
-                            result = continueUpdateRollback(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ContinueUpdateRollbackResult> responseHandler = new StaxResponseHandler<ContinueUpdateRollbackResult>(
+                new ContinueUpdateRollbackResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ContinueUpdateRollbackRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -374,27 +347,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final CreateChangeSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateChangeSetRequest, CreateChangeSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateChangeSetResult>() {
-                    @Override
-                    public CreateChangeSetResult call() throws Exception {
-                        CreateChangeSetResult result;
-
-                        try {
-                            result = createChangeSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateChangeSetResult> responseHandler = new StaxResponseHandler<CreateChangeSetResult>(
+                new CreateChangeSetResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CreateChangeSetRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -409,27 +366,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final CreateStackRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateStackRequest, CreateStackResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateStackResult>() {
-                    @Override
-                    public CreateStackResult call() throws Exception {
-                        CreateStackResult result;
-
-                        try {
-                            result = createStack(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateStackResult> responseHandler = new StaxResponseHandler<CreateStackResult>(
+                new CreateStackResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CreateStackRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -444,27 +385,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DeleteChangeSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteChangeSetRequest, DeleteChangeSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteChangeSetResult>() {
-                    @Override
-                    public DeleteChangeSetResult call() throws Exception {
-                        DeleteChangeSetResult result;
-
-                        try {
-                            result = deleteChangeSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteChangeSetResult> responseHandler = new StaxResponseHandler<DeleteChangeSetResult>(
+                new DeleteChangeSetResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteChangeSetRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -479,27 +404,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DeleteStackRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteStackRequest, DeleteStackResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteStackResult>() {
-                    @Override
-                    public DeleteStackResult call() throws Exception {
-                        DeleteStackResult result;
-
-                        try {
-                            result = deleteStack(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteStackResult> responseHandler = new StaxResponseHandler<DeleteStackResult>(
+                new DeleteStackResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteStackRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -514,27 +423,12 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeAccountLimitsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAccountLimitsRequest, DescribeAccountLimitsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAccountLimitsResult>() {
-                    @Override
-                    public DescribeAccountLimitsResult call() throws Exception {
-                        DescribeAccountLimitsResult result;
-
-                        try {
-                            result = describeAccountLimits(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeAccountLimitsResult> responseHandler = new StaxResponseHandler<DescribeAccountLimitsResult>(
+                new DescribeAccountLimitsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeAccountLimitsRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -549,27 +443,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeChangeSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeChangeSetRequest, DescribeChangeSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeChangeSetResult>() {
-                    @Override
-                    public DescribeChangeSetResult call() throws Exception {
-                        DescribeChangeSetResult result;
-
-                        try {
-                            result = describeChangeSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeChangeSetResult> responseHandler = new StaxResponseHandler<DescribeChangeSetResult>(
+                new DescribeChangeSetResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeChangeSetRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -584,27 +462,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeStackEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStackEventsRequest, DescribeStackEventsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeStackEventsResult>() {
-                    @Override
-                    public DescribeStackEventsResult call() throws Exception {
-                        DescribeStackEventsResult result;
-
-                        try {
-                            result = describeStackEvents(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeStackEventsResult> responseHandler = new StaxResponseHandler<DescribeStackEventsResult>(
+                new DescribeStackEventsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeStackEventsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -619,27 +481,12 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeStackResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStackResourceRequest, DescribeStackResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeStackResourceResult>() {
-                    @Override
-                    public DescribeStackResourceResult call() throws Exception {
-                        DescribeStackResourceResult result;
-
-                        try {
-                            result = describeStackResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeStackResourceResult> responseHandler = new StaxResponseHandler<DescribeStackResourceResult>(
+                new DescribeStackResourceResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeStackResourceRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -654,27 +501,12 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeStackResourcesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStackResourcesRequest, DescribeStackResourcesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeStackResourcesResult>() {
-                    @Override
-                    public DescribeStackResourcesResult call() throws Exception {
-                        DescribeStackResourcesResult result;
-
-                        try {
-                            result = describeStackResources(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeStackResourcesResult> responseHandler = new StaxResponseHandler<DescribeStackResourcesResult>(
+                new DescribeStackResourcesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeStackResourcesRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -689,27 +521,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final DescribeStacksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStacksRequest, DescribeStacksResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeStacksResult>() {
-                    @Override
-                    public DescribeStacksResult call() throws Exception {
-                        DescribeStacksResult result;
-
-                        try {
-                            result = describeStacks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeStacksResult> responseHandler = new StaxResponseHandler<DescribeStacksResult>(
+                new DescribeStacksResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeStacksRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -748,27 +564,12 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final EstimateTemplateCostRequest request,
             final com.amazonaws.handlers.AsyncHandler<EstimateTemplateCostRequest, EstimateTemplateCostResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EstimateTemplateCostResult>() {
-                    @Override
-                    public EstimateTemplateCostResult call() throws Exception {
-                        EstimateTemplateCostResult result;
-
-                        try {
-                            result = estimateTemplateCost(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<EstimateTemplateCostResult> responseHandler = new StaxResponseHandler<EstimateTemplateCostResult>(
+                new EstimateTemplateCostResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new EstimateTemplateCostRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -808,27 +609,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ExecuteChangeSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<ExecuteChangeSetRequest, ExecuteChangeSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ExecuteChangeSetResult>() {
-                    @Override
-                    public ExecuteChangeSetResult call() throws Exception {
-                        ExecuteChangeSetResult result;
-
-                        try {
-                            result = executeChangeSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ExecuteChangeSetResult> responseHandler = new StaxResponseHandler<ExecuteChangeSetResult>(
+                new ExecuteChangeSetResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ExecuteChangeSetRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -843,27 +628,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final GetStackPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetStackPolicyRequest, GetStackPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetStackPolicyResult>() {
-                    @Override
-                    public GetStackPolicyResult call() throws Exception {
-                        GetStackPolicyResult result;
-
-                        try {
-                            result = getStackPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetStackPolicyResult> responseHandler = new StaxResponseHandler<GetStackPolicyResult>(
+                new GetStackPolicyResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetStackPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -878,27 +647,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final GetTemplateRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTemplateRequest, GetTemplateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetTemplateResult>() {
-                    @Override
-                    public GetTemplateResult call() throws Exception {
-                        GetTemplateResult result;
-
-                        try {
-                            result = getTemplate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetTemplateResult> responseHandler = new StaxResponseHandler<GetTemplateResult>(
+                new GetTemplateResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetTemplateRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -913,27 +666,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final GetTemplateSummaryRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTemplateSummaryRequest, GetTemplateSummaryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetTemplateSummaryResult>() {
-                    @Override
-                    public GetTemplateSummaryResult call() throws Exception {
-                        GetTemplateSummaryResult result;
-
-                        try {
-                            result = getTemplateSummary(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetTemplateSummaryResult> responseHandler = new StaxResponseHandler<GetTemplateSummaryResult>(
+                new GetTemplateSummaryResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetTemplateSummaryRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -973,27 +710,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ListChangeSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListChangeSetsRequest, ListChangeSetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListChangeSetsResult>() {
-                    @Override
-                    public ListChangeSetsResult call() throws Exception {
-                        ListChangeSetsResult result;
-
-                        try {
-                            result = listChangeSets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListChangeSetsResult> responseHandler = new StaxResponseHandler<ListChangeSetsResult>(
+                new ListChangeSetsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListChangeSetsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1008,27 +729,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ListStackResourcesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListStackResourcesRequest, ListStackResourcesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListStackResourcesResult>() {
-                    @Override
-                    public ListStackResourcesResult call() throws Exception {
-                        ListStackResourcesResult result;
-
-                        try {
-                            result = listStackResources(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListStackResourcesResult> responseHandler = new StaxResponseHandler<ListStackResourcesResult>(
+                new ListStackResourcesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListStackResourcesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1043,27 +748,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ListStacksRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListStacksRequest, ListStacksResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListStacksResult>() {
-                    @Override
-                    public ListStacksResult call() throws Exception {
-                        ListStacksResult result;
-
-                        try {
-                            result = listStacks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListStacksResult> responseHandler = new StaxResponseHandler<ListStacksResult>(
+                new ListStacksResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListStacksRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1102,27 +791,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final SetStackPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetStackPolicyRequest, SetStackPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetStackPolicyResult>() {
-                    @Override
-                    public SetStackPolicyResult call() throws Exception {
-                        SetStackPolicyResult result;
-
-                        try {
-                            result = setStackPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<SetStackPolicyResult> responseHandler = new StaxResponseHandler<SetStackPolicyResult>(
+                new SetStackPolicyResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new SetStackPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1137,27 +810,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final SignalResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<SignalResourceRequest, SignalResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SignalResourceResult>() {
-                    @Override
-                    public SignalResourceResult call() throws Exception {
-                        SignalResourceResult result;
-
-                        try {
-                            result = signalResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<SignalResourceResult> responseHandler = new StaxResponseHandler<SignalResourceResult>(
+                new SignalResourceResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new SignalResourceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1172,27 +829,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final UpdateStackRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateStackRequest, UpdateStackResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateStackResult>() {
-                    @Override
-                    public UpdateStackResult call() throws Exception {
-                        UpdateStackResult result;
-
-                        try {
-                            result = updateStack(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<UpdateStackResult> responseHandler = new StaxResponseHandler<UpdateStackResult>(
+                new UpdateStackResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new UpdateStackRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1207,27 +848,11 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
             final ValidateTemplateRequest request,
             final com.amazonaws.handlers.AsyncHandler<ValidateTemplateRequest, ValidateTemplateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ValidateTemplateResult>() {
-                    @Override
-                    public ValidateTemplateResult call() throws Exception {
-                        ValidateTemplateResult result;
-
-                        try {
-                            result = validateTemplate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ValidateTemplateResult> responseHandler = new StaxResponseHandler<ValidateTemplateResult>(
+                new ValidateTemplateResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ValidateTemplateRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.cloudfront;
 
 import com.amazonaws.services.cloudfront.model.*;
+import com.amazonaws.services.cloudfront.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -286,28 +290,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateCloudFrontOriginAccessIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCloudFrontOriginAccessIdentityRequest, CreateCloudFrontOriginAccessIdentityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateCloudFrontOriginAccessIdentityResult>() {
-                    @Override
-                    public CreateCloudFrontOriginAccessIdentityResult call()
-                            throws Exception {
-                        CreateCloudFrontOriginAccessIdentityResult result;
-
-                        try {
-                            result = createCloudFrontOriginAccessIdentity(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateCloudFrontOriginAccessIdentityResult> responseHandler = new StaxResponseHandler<CreateCloudFrontOriginAccessIdentityResult>(
+                new CreateCloudFrontOriginAccessIdentityResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreateCloudFrontOriginAccessIdentityRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -322,27 +310,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateDistributionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDistributionRequest, CreateDistributionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateDistributionResult>() {
-                    @Override
-                    public CreateDistributionResult call() throws Exception {
-                        CreateDistributionResult result;
-
-                        try {
-                            result = createDistribution(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateDistributionResult> responseHandler = new StaxResponseHandler<CreateDistributionResult>(
+                new CreateDistributionResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CreateDistributionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -357,28 +329,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateDistributionWithTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDistributionWithTagsRequest, CreateDistributionWithTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateDistributionWithTagsResult>() {
-                    @Override
-                    public CreateDistributionWithTagsResult call()
-                            throws Exception {
-                        CreateDistributionWithTagsResult result;
-
-                        try {
-                            result = createDistributionWithTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateDistributionWithTagsResult> responseHandler = new StaxResponseHandler<CreateDistributionWithTagsResult>(
+                new CreateDistributionWithTagsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreateDistributionWithTagsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -393,27 +349,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateInvalidationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateInvalidationRequest, CreateInvalidationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateInvalidationResult>() {
-                    @Override
-                    public CreateInvalidationResult call() throws Exception {
-                        CreateInvalidationResult result;
-
-                        try {
-                            result = createInvalidation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateInvalidationResult> responseHandler = new StaxResponseHandler<CreateInvalidationResult>(
+                new CreateInvalidationResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CreateInvalidationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -428,28 +368,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateStreamingDistributionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateStreamingDistributionRequest, CreateStreamingDistributionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateStreamingDistributionResult>() {
-                    @Override
-                    public CreateStreamingDistributionResult call()
-                            throws Exception {
-                        CreateStreamingDistributionResult result;
-
-                        try {
-                            result = createStreamingDistribution(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateStreamingDistributionResult> responseHandler = new StaxResponseHandler<CreateStreamingDistributionResult>(
+                new CreateStreamingDistributionResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreateStreamingDistributionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -464,28 +388,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final CreateStreamingDistributionWithTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateStreamingDistributionWithTagsRequest, CreateStreamingDistributionWithTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateStreamingDistributionWithTagsResult>() {
-                    @Override
-                    public CreateStreamingDistributionWithTagsResult call()
-                            throws Exception {
-                        CreateStreamingDistributionWithTagsResult result;
-
-                        try {
-                            result = createStreamingDistributionWithTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateStreamingDistributionWithTagsResult> responseHandler = new StaxResponseHandler<CreateStreamingDistributionWithTagsResult>(
+                new CreateStreamingDistributionWithTagsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreateStreamingDistributionWithTagsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -500,28 +408,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final DeleteCloudFrontOriginAccessIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCloudFrontOriginAccessIdentityRequest, DeleteCloudFrontOriginAccessIdentityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteCloudFrontOriginAccessIdentityResult>() {
-                    @Override
-                    public DeleteCloudFrontOriginAccessIdentityResult call()
-                            throws Exception {
-                        DeleteCloudFrontOriginAccessIdentityResult result;
-
-                        try {
-                            result = deleteCloudFrontOriginAccessIdentity(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteCloudFrontOriginAccessIdentityResult> responseHandler = new StaxResponseHandler<DeleteCloudFrontOriginAccessIdentityResult>(
+                new DeleteCloudFrontOriginAccessIdentityResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeleteCloudFrontOriginAccessIdentityRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -536,27 +428,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final DeleteDistributionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDistributionRequest, DeleteDistributionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDistributionResult>() {
-                    @Override
-                    public DeleteDistributionResult call() throws Exception {
-                        DeleteDistributionResult result;
-
-                        try {
-                            result = deleteDistribution(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteDistributionResult> responseHandler = new StaxResponseHandler<DeleteDistributionResult>(
+                new DeleteDistributionResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteDistributionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -571,28 +447,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final DeleteStreamingDistributionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteStreamingDistributionRequest, DeleteStreamingDistributionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteStreamingDistributionResult>() {
-                    @Override
-                    public DeleteStreamingDistributionResult call()
-                            throws Exception {
-                        DeleteStreamingDistributionResult result;
-
-                        try {
-                            result = deleteStreamingDistribution(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteStreamingDistributionResult> responseHandler = new StaxResponseHandler<DeleteStreamingDistributionResult>(
+                new DeleteStreamingDistributionResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeleteStreamingDistributionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -607,28 +467,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetCloudFrontOriginAccessIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCloudFrontOriginAccessIdentityRequest, GetCloudFrontOriginAccessIdentityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetCloudFrontOriginAccessIdentityResult>() {
-                    @Override
-                    public GetCloudFrontOriginAccessIdentityResult call()
-                            throws Exception {
-                        GetCloudFrontOriginAccessIdentityResult result;
-
-                        try {
-                            result = getCloudFrontOriginAccessIdentity(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetCloudFrontOriginAccessIdentityResult> responseHandler = new StaxResponseHandler<GetCloudFrontOriginAccessIdentityResult>(
+                new GetCloudFrontOriginAccessIdentityResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetCloudFrontOriginAccessIdentityRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -643,28 +487,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetCloudFrontOriginAccessIdentityConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCloudFrontOriginAccessIdentityConfigRequest, GetCloudFrontOriginAccessIdentityConfigResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetCloudFrontOriginAccessIdentityConfigResult>() {
-                    @Override
-                    public GetCloudFrontOriginAccessIdentityConfigResult call()
-                            throws Exception {
-                        GetCloudFrontOriginAccessIdentityConfigResult result;
-
-                        try {
-                            result = getCloudFrontOriginAccessIdentityConfig(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetCloudFrontOriginAccessIdentityConfigResult> responseHandler = new StaxResponseHandler<GetCloudFrontOriginAccessIdentityConfigResult>(
+                new GetCloudFrontOriginAccessIdentityConfigResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetCloudFrontOriginAccessIdentityConfigRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -679,27 +507,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetDistributionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDistributionRequest, GetDistributionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDistributionResult>() {
-                    @Override
-                    public GetDistributionResult call() throws Exception {
-                        GetDistributionResult result;
-
-                        try {
-                            result = getDistribution(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetDistributionResult> responseHandler = new StaxResponseHandler<GetDistributionResult>(
+                new GetDistributionResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetDistributionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -714,27 +526,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetDistributionConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDistributionConfigRequest, GetDistributionConfigResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDistributionConfigResult>() {
-                    @Override
-                    public GetDistributionConfigResult call() throws Exception {
-                        GetDistributionConfigResult result;
-
-                        try {
-                            result = getDistributionConfig(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetDistributionConfigResult> responseHandler = new StaxResponseHandler<GetDistributionConfigResult>(
+                new GetDistributionConfigResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetDistributionConfigRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -749,27 +546,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetInvalidationRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetInvalidationRequest, GetInvalidationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetInvalidationResult>() {
-                    @Override
-                    public GetInvalidationResult call() throws Exception {
-                        GetInvalidationResult result;
-
-                        try {
-                            result = getInvalidation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetInvalidationResult> responseHandler = new StaxResponseHandler<GetInvalidationResult>(
+                new GetInvalidationResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetInvalidationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -784,28 +565,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetStreamingDistributionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetStreamingDistributionRequest, GetStreamingDistributionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetStreamingDistributionResult>() {
-                    @Override
-                    public GetStreamingDistributionResult call()
-                            throws Exception {
-                        GetStreamingDistributionResult result;
-
-                        try {
-                            result = getStreamingDistribution(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetStreamingDistributionResult> responseHandler = new StaxResponseHandler<GetStreamingDistributionResult>(
+                new GetStreamingDistributionResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetStreamingDistributionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -820,28 +585,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final GetStreamingDistributionConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetStreamingDistributionConfigRequest, GetStreamingDistributionConfigResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetStreamingDistributionConfigResult>() {
-                    @Override
-                    public GetStreamingDistributionConfigResult call()
-                            throws Exception {
-                        GetStreamingDistributionConfigResult result;
-
-                        try {
-                            result = getStreamingDistributionConfig(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetStreamingDistributionConfigResult> responseHandler = new StaxResponseHandler<GetStreamingDistributionConfigResult>(
+                new GetStreamingDistributionConfigResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetStreamingDistributionConfigRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -856,28 +605,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListCloudFrontOriginAccessIdentitiesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListCloudFrontOriginAccessIdentitiesRequest, ListCloudFrontOriginAccessIdentitiesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListCloudFrontOriginAccessIdentitiesResult>() {
-                    @Override
-                    public ListCloudFrontOriginAccessIdentitiesResult call()
-                            throws Exception {
-                        ListCloudFrontOriginAccessIdentitiesResult result;
-
-                        try {
-                            result = listCloudFrontOriginAccessIdentities(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListCloudFrontOriginAccessIdentitiesResult> responseHandler = new StaxResponseHandler<ListCloudFrontOriginAccessIdentitiesResult>(
+                new ListCloudFrontOriginAccessIdentitiesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListCloudFrontOriginAccessIdentitiesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -892,27 +625,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListDistributionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDistributionsRequest, ListDistributionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListDistributionsResult>() {
-                    @Override
-                    public ListDistributionsResult call() throws Exception {
-                        ListDistributionsResult result;
-
-                        try {
-                            result = listDistributions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListDistributionsResult> responseHandler = new StaxResponseHandler<ListDistributionsResult>(
+                new ListDistributionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListDistributionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -927,28 +644,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListDistributionsByWebACLIdRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDistributionsByWebACLIdRequest, ListDistributionsByWebACLIdResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListDistributionsByWebACLIdResult>() {
-                    @Override
-                    public ListDistributionsByWebACLIdResult call()
-                            throws Exception {
-                        ListDistributionsByWebACLIdResult result;
-
-                        try {
-                            result = listDistributionsByWebACLId(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListDistributionsByWebACLIdResult> responseHandler = new StaxResponseHandler<ListDistributionsByWebACLIdResult>(
+                new ListDistributionsByWebACLIdResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListDistributionsByWebACLIdRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -963,27 +664,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListInvalidationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListInvalidationsRequest, ListInvalidationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListInvalidationsResult>() {
-                    @Override
-                    public ListInvalidationsResult call() throws Exception {
-                        ListInvalidationsResult result;
-
-                        try {
-                            result = listInvalidations(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListInvalidationsResult> responseHandler = new StaxResponseHandler<ListInvalidationsResult>(
+                new ListInvalidationsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListInvalidationsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -998,28 +683,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListStreamingDistributionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListStreamingDistributionsRequest, ListStreamingDistributionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListStreamingDistributionsResult>() {
-                    @Override
-                    public ListStreamingDistributionsResult call()
-                            throws Exception {
-                        ListStreamingDistributionsResult result;
-
-                        try {
-                            result = listStreamingDistributions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListStreamingDistributionsResult> responseHandler = new StaxResponseHandler<ListStreamingDistributionsResult>(
+                new ListStreamingDistributionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListStreamingDistributionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1034,27 +703,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
-                    @Override
-                    public ListTagsForResourceResult call() throws Exception {
-                        ListTagsForResourceResult result;
-
-                        try {
-                            result = listTagsForResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListTagsForResourceResult> responseHandler = new StaxResponseHandler<ListTagsForResourceResult>(
+                new ListTagsForResourceResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListTagsForResourceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1069,27 +722,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final TagResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<TagResourceRequest, TagResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<TagResourceResult>() {
-                    @Override
-                    public TagResourceResult call() throws Exception {
-                        TagResourceResult result;
-
-                        try {
-                            result = tagResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<TagResourceResult> responseHandler = new StaxResponseHandler<TagResourceResult>(
+                new TagResourceResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new TagResourceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1104,27 +741,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final UntagResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<UntagResourceRequest, UntagResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UntagResourceResult>() {
-                    @Override
-                    public UntagResourceResult call() throws Exception {
-                        UntagResourceResult result;
-
-                        try {
-                            result = untagResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<UntagResourceResult> responseHandler = new StaxResponseHandler<UntagResourceResult>(
+                new UntagResourceResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new UntagResourceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1139,28 +760,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final UpdateCloudFrontOriginAccessIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateCloudFrontOriginAccessIdentityRequest, UpdateCloudFrontOriginAccessIdentityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateCloudFrontOriginAccessIdentityResult>() {
-                    @Override
-                    public UpdateCloudFrontOriginAccessIdentityResult call()
-                            throws Exception {
-                        UpdateCloudFrontOriginAccessIdentityResult result;
-
-                        try {
-                            result = updateCloudFrontOriginAccessIdentity(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<UpdateCloudFrontOriginAccessIdentityResult> responseHandler = new StaxResponseHandler<UpdateCloudFrontOriginAccessIdentityResult>(
+                new UpdateCloudFrontOriginAccessIdentityResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new UpdateCloudFrontOriginAccessIdentityRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1175,27 +780,11 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final UpdateDistributionRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDistributionRequest, UpdateDistributionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateDistributionResult>() {
-                    @Override
-                    public UpdateDistributionResult call() throws Exception {
-                        UpdateDistributionResult result;
-
-                        try {
-                            result = updateDistribution(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<UpdateDistributionResult> responseHandler = new StaxResponseHandler<UpdateDistributionResult>(
+                new UpdateDistributionResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new UpdateDistributionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1210,28 +799,12 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
             final UpdateStreamingDistributionRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateStreamingDistributionRequest, UpdateStreamingDistributionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateStreamingDistributionResult>() {
-                    @Override
-                    public UpdateStreamingDistributionResult call()
-                            throws Exception {
-                        UpdateStreamingDistributionResult result;
-
-                        try {
-                            result = updateStreamingDistribution(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<UpdateStreamingDistributionResult> responseHandler = new StaxResponseHandler<UpdateStreamingDistributionResult>(
+                new UpdateStreamingDistributionResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new UpdateStreamingDistributionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
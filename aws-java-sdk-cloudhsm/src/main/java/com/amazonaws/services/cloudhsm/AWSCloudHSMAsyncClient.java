@@ -15,6 +15,10 @@
 package com.amazonaws.services.cloudhsm;
 
 import com.amazonaws.services.cloudhsm.model.*;
+import com.amazonaws.services.cloudhsm.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -279,27 +283,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final AddTagsToResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToResourceRequest, AddTagsToResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddTagsToResourceResult>() {
-                    @Override
-                    public AddTagsToResourceResult call() throws Exception {
-                        AddTagsToResourceResult result;
-
-                        try {
-                            result = addTagsToResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<AddTagsToResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddTagsToResourceResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new AddTagsToResourceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -314,27 +306,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final CreateHapgRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateHapgRequest, CreateHapgResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateHapgResult>() {
-                    @Override
-                    public CreateHapgResult call() throws Exception {
-                        CreateHapgResult result;
-
-                        try {
-                            result = createHapg(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateHapgResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateHapgResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateHapgRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -349,27 +329,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final CreateHsmRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateHsmRequest, CreateHsmResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateHsmResult>() {
-                    @Override
-                    public CreateHsmResult call() throws Exception {
-                        CreateHsmResult result;
-
-                        try {
-                            result = createHsm(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateHsmResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateHsmResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateHsmRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -384,27 +352,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final CreateLunaClientRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLunaClientRequest, CreateLunaClientResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateLunaClientResult>() {
-                    @Override
-                    public CreateLunaClientResult call() throws Exception {
-                        CreateLunaClientResult result;
-
-                        try {
-                            result = createLunaClient(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateLunaClientResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateLunaClientResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateLunaClientRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -419,27 +375,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final DeleteHapgRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteHapgRequest, DeleteHapgResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteHapgResult>() {
-                    @Override
-                    public DeleteHapgResult call() throws Exception {
-                        DeleteHapgResult result;
-
-                        try {
-                            result = deleteHapg(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteHapgResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteHapgResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteHapgRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -454,27 +398,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final DeleteHsmRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteHsmRequest, DeleteHsmResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteHsmResult>() {
-                    @Override
-                    public DeleteHsmResult call() throws Exception {
-                        DeleteHsmResult result;
-
-                        try {
-                            result = deleteHsm(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteHsmResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteHsmResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteHsmRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -489,27 +421,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final DeleteLunaClientRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLunaClientRequest, DeleteLunaClientResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteLunaClientResult>() {
-                    @Override
-                    public DeleteLunaClientResult call() throws Exception {
-                        DeleteLunaClientResult result;
-
-                        try {
-                            result = deleteLunaClient(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteLunaClientResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteLunaClientResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteLunaClientRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -524,27 +444,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final DescribeHapgRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeHapgRequest, DescribeHapgResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeHapgResult>() {
-                    @Override
-                    public DescribeHapgResult call() throws Exception {
-                        DescribeHapgResult result;
-
-                        try {
-                            result = describeHapg(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeHapgResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeHapgResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeHapgRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -559,27 +467,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final DescribeHsmRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeHsmRequest, DescribeHsmResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeHsmResult>() {
-                    @Override
-                    public DescribeHsmResult call() throws Exception {
-                        DescribeHsmResult result;
-
-                        try {
-                            result = describeHsm(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeHsmResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeHsmResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeHsmRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -618,27 +514,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final DescribeLunaClientRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLunaClientRequest, DescribeLunaClientResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeLunaClientResult>() {
-                    @Override
-                    public DescribeLunaClientResult call() throws Exception {
-                        DescribeLunaClientResult result;
-
-                        try {
-                            result = describeLunaClient(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeLunaClientResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeLunaClientResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeLunaClientRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -678,27 +562,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final GetConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetConfigRequest, GetConfigResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetConfigResult>() {
-                    @Override
-                    public GetConfigResult call() throws Exception {
-                        GetConfigResult result;
-
-                        try {
-                            result = getConfig(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetConfigResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetConfigResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetConfigRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -713,27 +585,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final ListAvailableZonesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAvailableZonesRequest, ListAvailableZonesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListAvailableZonesResult>() {
-                    @Override
-                    public ListAvailableZonesResult call() throws Exception {
-                        ListAvailableZonesResult result;
-
-                        try {
-                            result = listAvailableZones(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListAvailableZonesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListAvailableZonesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListAvailableZonesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -773,27 +633,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final ListHapgsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListHapgsRequest, ListHapgsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListHapgsResult>() {
-                    @Override
-                    public ListHapgsResult call() throws Exception {
-                        ListHapgsResult result;
-
-                        try {
-                            result = listHapgs(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListHapgsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListHapgsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListHapgsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -832,27 +680,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final ListHsmsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListHsmsRequest, ListHsmsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListHsmsResult>() {
-                    @Override
-                    public ListHsmsResult call() throws Exception {
-                        ListHsmsResult result;
-
-                        try {
-                            result = listHsms(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListHsmsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListHsmsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListHsmsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -890,27 +726,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final ListLunaClientsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListLunaClientsRequest, ListLunaClientsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListLunaClientsResult>() {
-                    @Override
-                    public ListLunaClientsResult call() throws Exception {
-                        ListLunaClientsResult result;
-
-                        try {
-                            result = listLunaClients(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListLunaClientsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListLunaClientsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListLunaClientsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -949,27 +773,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
-                    @Override
-                    public ListTagsForResourceResult call() throws Exception {
-                        ListTagsForResourceResult result;
-
-                        try {
-                            result = listTagsForResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListTagsForResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTagsForResourceResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListTagsForResourceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -984,27 +796,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final ModifyHapgRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyHapgRequest, ModifyHapgResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyHapgResult>() {
-                    @Override
-                    public ModifyHapgResult call() throws Exception {
-                        ModifyHapgResult result;
-
-                        try {
-                            result = modifyHapg(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ModifyHapgResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ModifyHapgResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ModifyHapgRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1019,27 +819,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final ModifyHsmRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyHsmRequest, ModifyHsmResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyHsmResult>() {
-                    @Override
-                    public ModifyHsmResult call() throws Exception {
-                        ModifyHsmResult result;
-
-                        try {
-                            result = modifyHsm(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ModifyHsmResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ModifyHsmResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ModifyHsmRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1054,27 +842,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final ModifyLunaClientRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyLunaClientRequest, ModifyLunaClientResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyLunaClientResult>() {
-                    @Override
-                    public ModifyLunaClientResult call() throws Exception {
-                        ModifyLunaClientResult result;
-
-                        try {
-                            result = modifyLunaClient(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ModifyLunaClientResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ModifyLunaClientResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ModifyLunaClientRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1089,27 +865,15 @@ public class AWSCloudHSMAsyncClient extends AWSCloudHSMClient implements
             final RemoveTagsFromResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromResourceRequest, RemoveTagsFromResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveTagsFromResourceResult>() {
-                    @Override
-                    public RemoveTagsFromResourceResult call() throws Exception {
-                        RemoveTagsFromResourceResult result;
-
-                        try {
-                            result = removeTagsFromResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<RemoveTagsFromResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RemoveTagsFromResourceResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new RemoveTagsFromResourceRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
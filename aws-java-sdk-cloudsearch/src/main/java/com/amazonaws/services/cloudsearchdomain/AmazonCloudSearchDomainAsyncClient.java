@@ -15,6 +15,10 @@
 package com.amazonaws.services.cloudsearchdomain;
 
 import com.amazonaws.services.cloudsearchdomain.model.*;
+import com.amazonaws.services.cloudsearchdomain.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -296,27 +300,15 @@ public class AmazonCloudSearchDomainAsyncClient extends
             final SearchRequest request,
             final com.amazonaws.handlers.AsyncHandler<SearchRequest, SearchResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SearchResult>() {
-                    @Override
-                    public SearchResult call() throws Exception {
-                        SearchResult result;
-
-                        try {
-                            result = search(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<SearchResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SearchResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new SearchRequestMarshaller(protocolFactory), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -331,27 +323,15 @@ public class AmazonCloudSearchDomainAsyncClient extends
             final SuggestRequest request,
             final com.amazonaws.handlers.AsyncHandler<SuggestRequest, SuggestResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SuggestResult>() {
-                    @Override
-                    public SuggestResult call() throws Exception {
-                        SuggestResult result;
-
-                        try {
-                            result = suggest(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<SuggestResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SuggestResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new SuggestRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -366,27 +346,15 @@ public class AmazonCloudSearchDomainAsyncClient extends
             final UploadDocumentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<UploadDocumentsRequest, UploadDocumentsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UploadDocumentsResult>() {
-                    @Override
-                    public UploadDocumentsResult call() throws Exception {
-                        UploadDocumentsResult result;
-
-                        try {
-                            result = uploadDocuments(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UploadDocumentsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UploadDocumentsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UploadDocumentsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
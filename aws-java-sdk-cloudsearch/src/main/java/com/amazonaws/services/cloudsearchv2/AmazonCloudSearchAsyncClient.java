@@ -15,6 +15,10 @@
 package com.amazonaws.services.cloudsearchv2;
 
 import com.amazonaws.services.cloudsearchv2.model.*;
+import com.amazonaws.services.cloudsearchv2.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -294,27 +298,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final BuildSuggestersRequest request,
             final com.amazonaws.handlers.AsyncHandler<BuildSuggestersRequest, BuildSuggestersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<BuildSuggestersResult>() {
-                    @Override
-                    public BuildSuggestersResult call() throws Exception {
-                        BuildSuggestersResult result;
-
-                        try {
-                            result = buildSuggesters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<BuildSuggestersResult> responseHandler = new StaxResponseHandler<BuildSuggestersResult>(
+                new BuildSuggestersResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new BuildSuggestersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -329,27 +317,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final CreateDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDomainRequest, CreateDomainResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateDomainResult>() {
-                    @Override
-                    public CreateDomainResult call() throws Exception {
-                        CreateDomainResult result;
-
-                        try {
-                            result = createDomain(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateDomainResult> responseHandler = new StaxResponseHandler<CreateDomainResult>(
+                new CreateDomainResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CreateDomainRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -364,27 +336,12 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DefineAnalysisSchemeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DefineAnalysisSchemeRequest, DefineAnalysisSchemeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DefineAnalysisSchemeResult>() {
-                    @Override
-                    public DefineAnalysisSchemeResult call() throws Exception {
-                        DefineAnalysisSchemeResult result;
-
-                        try {
-                            result = defineAnalysisScheme(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DefineAnalysisSchemeResult> responseHandler = new StaxResponseHandler<DefineAnalysisSchemeResult>(
+                new DefineAnalysisSchemeResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DefineAnalysisSchemeRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -399,27 +356,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DefineExpressionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DefineExpressionRequest, DefineExpressionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DefineExpressionResult>() {
-                    @Override
-                    public DefineExpressionResult call() throws Exception {
-                        DefineExpressionResult result;
-
-                        try {
-                            result = defineExpression(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DefineExpressionResult> responseHandler = new StaxResponseHandler<DefineExpressionResult>(
+                new DefineExpressionResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DefineExpressionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -434,27 +375,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DefineIndexFieldRequest request,
             final com.amazonaws.handlers.AsyncHandler<DefineIndexFieldRequest, DefineIndexFieldResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DefineIndexFieldResult>() {
-                    @Override
-                    public DefineIndexFieldResult call() throws Exception {
-                        DefineIndexFieldResult result;
-
-                        try {
-                            result = defineIndexField(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DefineIndexFieldResult> responseHandler = new StaxResponseHandler<DefineIndexFieldResult>(
+                new DefineIndexFieldResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DefineIndexFieldRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -469,27 +394,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DefineSuggesterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DefineSuggesterRequest, DefineSuggesterResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DefineSuggesterResult>() {
-                    @Override
-                    public DefineSuggesterResult call() throws Exception {
-                        DefineSuggesterResult result;
-
-                        try {
-                            result = defineSuggester(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DefineSuggesterResult> responseHandler = new StaxResponseHandler<DefineSuggesterResult>(
+                new DefineSuggesterResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DefineSuggesterRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -504,27 +413,12 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteAnalysisSchemeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAnalysisSchemeRequest, DeleteAnalysisSchemeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteAnalysisSchemeResult>() {
-                    @Override
-                    public DeleteAnalysisSchemeResult call() throws Exception {
-                        DeleteAnalysisSchemeResult result;
-
-                        try {
-                            result = deleteAnalysisScheme(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteAnalysisSchemeResult> responseHandler = new StaxResponseHandler<DeleteAnalysisSchemeResult>(
+                new DeleteAnalysisSchemeResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeleteAnalysisSchemeRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -539,27 +433,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDomainRequest, DeleteDomainResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDomainResult>() {
-                    @Override
-                    public DeleteDomainResult call() throws Exception {
-                        DeleteDomainResult result;
-
-                        try {
-                            result = deleteDomain(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteDomainResult> responseHandler = new StaxResponseHandler<DeleteDomainResult>(
+                new DeleteDomainResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteDomainRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -574,27 +452,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteExpressionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteExpressionRequest, DeleteExpressionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteExpressionResult>() {
-                    @Override
-                    public DeleteExpressionResult call() throws Exception {
-                        DeleteExpressionResult result;
-
-                        try {
-                            result = deleteExpression(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteExpressionResult> responseHandler = new StaxResponseHandler<DeleteExpressionResult>(
+                new DeleteExpressionResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteExpressionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -609,27 +471,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteIndexFieldRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteIndexFieldRequest, DeleteIndexFieldResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteIndexFieldResult>() {
-                    @Override
-                    public DeleteIndexFieldResult call() throws Exception {
-                        DeleteIndexFieldResult result;
-
-                        try {
-                            result = deleteIndexField(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteIndexFieldResult> responseHandler = new StaxResponseHandler<DeleteIndexFieldResult>(
+                new DeleteIndexFieldResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteIndexFieldRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -644,27 +490,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DeleteSuggesterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSuggesterRequest, DeleteSuggesterResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteSuggesterResult>() {
-                    @Override
-                    public DeleteSuggesterResult call() throws Exception {
-                        DeleteSuggesterResult result;
-
-                        try {
-                            result = deleteSuggester(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteSuggesterResult> responseHandler = new StaxResponseHandler<DeleteSuggesterResult>(
+                new DeleteSuggesterResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteSuggesterRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -679,28 +509,12 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeAnalysisSchemesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAnalysisSchemesRequest, DescribeAnalysisSchemesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAnalysisSchemesResult>() {
-                    @Override
-                    public DescribeAnalysisSchemesResult call()
-                            throws Exception {
-                        DescribeAnalysisSchemesResult result;
-
-                        try {
-                            result = describeAnalysisSchemes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeAnalysisSchemesResult> responseHandler = new StaxResponseHandler<DescribeAnalysisSchemesResult>(
+                new DescribeAnalysisSchemesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeAnalysisSchemesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -715,28 +529,12 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeAvailabilityOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAvailabilityOptionsRequest, DescribeAvailabilityOptionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAvailabilityOptionsResult>() {
-                    @Override
-                    public DescribeAvailabilityOptionsResult call()
-                            throws Exception {
-                        DescribeAvailabilityOptionsResult result;
-
-                        try {
-                            result = describeAvailabilityOptions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeAvailabilityOptionsResult> responseHandler = new StaxResponseHandler<DescribeAvailabilityOptionsResult>(
+                new DescribeAvailabilityOptionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeAvailabilityOptionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -751,27 +549,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeDomainsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDomainsRequest, DescribeDomainsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDomainsResult>() {
-                    @Override
-                    public DescribeDomainsResult call() throws Exception {
-                        DescribeDomainsResult result;
-
-                        try {
-                            result = describeDomains(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeDomainsResult> responseHandler = new StaxResponseHandler<DescribeDomainsResult>(
+                new DescribeDomainsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeDomainsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -810,27 +592,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeExpressionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeExpressionsRequest, DescribeExpressionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeExpressionsResult>() {
-                    @Override
-                    public DescribeExpressionsResult call() throws Exception {
-                        DescribeExpressionsResult result;
-
-                        try {
-                            result = describeExpressions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeExpressionsResult> responseHandler = new StaxResponseHandler<DescribeExpressionsResult>(
+                new DescribeExpressionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeExpressionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -845,27 +611,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeIndexFieldsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeIndexFieldsRequest, DescribeIndexFieldsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeIndexFieldsResult>() {
-                    @Override
-                    public DescribeIndexFieldsResult call() throws Exception {
-                        DescribeIndexFieldsResult result;
-
-                        try {
-                            result = describeIndexFields(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeIndexFieldsResult> responseHandler = new StaxResponseHandler<DescribeIndexFieldsResult>(
+                new DescribeIndexFieldsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeIndexFieldsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -880,28 +630,12 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeScalingParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScalingParametersRequest, DescribeScalingParametersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeScalingParametersResult>() {
-                    @Override
-                    public DescribeScalingParametersResult call()
-                            throws Exception {
-                        DescribeScalingParametersResult result;
-
-                        try {
-                            result = describeScalingParameters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeScalingParametersResult> responseHandler = new StaxResponseHandler<DescribeScalingParametersResult>(
+                new DescribeScalingParametersResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeScalingParametersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -916,28 +650,12 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeServiceAccessPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeServiceAccessPoliciesRequest, DescribeServiceAccessPoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeServiceAccessPoliciesResult>() {
-                    @Override
-                    public DescribeServiceAccessPoliciesResult call()
-                            throws Exception {
-                        DescribeServiceAccessPoliciesResult result;
-
-                        try {
-                            result = describeServiceAccessPolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeServiceAccessPoliciesResult> responseHandler = new StaxResponseHandler<DescribeServiceAccessPoliciesResult>(
+                new DescribeServiceAccessPoliciesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeServiceAccessPoliciesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -952,27 +670,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final DescribeSuggestersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSuggestersRequest, DescribeSuggestersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSuggestersResult>() {
-                    @Override
-                    public DescribeSuggestersResult call() throws Exception {
-                        DescribeSuggestersResult result;
-
-                        try {
-                            result = describeSuggesters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeSuggestersResult> responseHandler = new StaxResponseHandler<DescribeSuggestersResult>(
+                new DescribeSuggestersResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeSuggestersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -987,27 +689,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final IndexDocumentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<IndexDocumentsRequest, IndexDocumentsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<IndexDocumentsResult>() {
-                    @Override
-                    public IndexDocumentsResult call() throws Exception {
-                        IndexDocumentsResult result;
-
-                        try {
-                            result = indexDocuments(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<IndexDocumentsResult> responseHandler = new StaxResponseHandler<IndexDocumentsResult>(
+                new IndexDocumentsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new IndexDocumentsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1022,27 +708,11 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final ListDomainNamesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDomainNamesRequest, ListDomainNamesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListDomainNamesResult>() {
-                    @Override
-                    public ListDomainNamesResult call() throws Exception {
-                        ListDomainNamesResult result;
-
-                        try {
-                            result = listDomainNames(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListDomainNamesResult> responseHandler = new StaxResponseHandler<ListDomainNamesResult>(
+                new ListDomainNamesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListDomainNamesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1081,28 +751,12 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateAvailabilityOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAvailabilityOptionsRequest, UpdateAvailabilityOptionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateAvailabilityOptionsResult>() {
-                    @Override
-                    public UpdateAvailabilityOptionsResult call()
-                            throws Exception {
-                        UpdateAvailabilityOptionsResult result;
-
-                        try {
-                            result = updateAvailabilityOptions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<UpdateAvailabilityOptionsResult> responseHandler = new StaxResponseHandler<UpdateAvailabilityOptionsResult>(
+                new UpdateAvailabilityOptionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new UpdateAvailabilityOptionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1117,28 +771,12 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateScalingParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateScalingParametersRequest, UpdateScalingParametersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateScalingParametersResult>() {
-                    @Override
-                    public UpdateScalingParametersResult call()
-                            throws Exception {
-                        UpdateScalingParametersResult result;
-
-                        try {
-                            result = updateScalingParameters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<UpdateScalingParametersResult> responseHandler = new StaxResponseHandler<UpdateScalingParametersResult>(
+                new UpdateScalingParametersResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new UpdateScalingParametersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1153,28 +791,12 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
             final UpdateServiceAccessPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateServiceAccessPoliciesRequest, UpdateServiceAccessPoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateServiceAccessPoliciesResult>() {
-                    @Override
-                    public UpdateServiceAccessPoliciesResult call()
-                            throws Exception {
-                        UpdateServiceAccessPoliciesResult result;
-
-                        try {
-                            result = updateServiceAccessPolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<UpdateServiceAccessPoliciesResult> responseHandler = new StaxResponseHandler<UpdateServiceAccessPoliciesResult>(
+                new UpdateServiceAccessPoliciesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new UpdateServiceAccessPoliciesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
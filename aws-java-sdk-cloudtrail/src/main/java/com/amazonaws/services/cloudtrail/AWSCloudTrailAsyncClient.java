@@ -15,6 +15,10 @@
 package com.amazonaws.services.cloudtrail;
 
 import com.amazonaws.services.cloudtrail.model.*;
+import com.amazonaws.services.cloudtrail.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -306,27 +310,15 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final AddTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsRequest, AddTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddTagsResult>() {
-                    @Override
-                    public AddTagsResult call() throws Exception {
-                        AddTagsResult result;
-
-                        try {
-                            result = addTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<AddTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddTagsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new AddTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -341,27 +333,15 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final CreateTrailRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTrailRequest, CreateTrailResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateTrailResult>() {
-                    @Override
-                    public CreateTrailResult call() throws Exception {
-                        CreateTrailResult result;
-
-                        try {
-                            result = createTrail(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateTrailResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateTrailResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateTrailRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -376,27 +356,15 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final DeleteTrailRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTrailRequest, DeleteTrailResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteTrailResult>() {
-                    @Override
-                    public DeleteTrailResult call() throws Exception {
-                        DeleteTrailResult result;
-
-                        try {
-                            result = deleteTrail(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteTrailResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteTrailResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteTrailRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -411,27 +379,15 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final DescribeTrailsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTrailsRequest, DescribeTrailsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTrailsResult>() {
-                    @Override
-                    public DescribeTrailsResult call() throws Exception {
-                        DescribeTrailsResult result;
-
-                        try {
-                            result = describeTrails(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeTrailsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeTrailsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeTrailsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -470,27 +426,15 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final GetTrailStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTrailStatusRequest, GetTrailStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetTrailStatusResult>() {
-                    @Override
-                    public GetTrailStatusResult call() throws Exception {
-                        GetTrailStatusResult result;
-
-                        try {
-                            result = getTrailStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetTrailStatusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetTrailStatusResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetTrailStatusRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -505,27 +449,15 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final ListPublicKeysRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPublicKeysRequest, ListPublicKeysResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListPublicKeysResult>() {
-                    @Override
-                    public ListPublicKeysResult call() throws Exception {
-                        ListPublicKeysResult result;
-
-                        try {
-                            result = listPublicKeys(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListPublicKeysResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListPublicKeysResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListPublicKeysRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -564,27 +496,15 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final ListTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsRequest, ListTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTagsResult>() {
-                    @Override
-                    public ListTagsResult call() throws Exception {
-                        ListTagsResult result;
-
-                        try {
-                            result = listTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTagsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -599,27 +519,15 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final LookupEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<LookupEventsRequest, LookupEventsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<LookupEventsResult>() {
-                    @Override
-                    public LookupEventsResult call() throws Exception {
-                        LookupEventsResult result;
-
-                        try {
-                            result = lookupEvents(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<LookupEventsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new LookupEventsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new LookupEventsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -658,27 +566,15 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final RemoveTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsRequest, RemoveTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveTagsResult>() {
-                    @Override
-                    public RemoveTagsResult call() throws Exception {
-                        RemoveTagsResult result;
-
-                        try {
-                            result = removeTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<RemoveTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RemoveTagsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new RemoveTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -693,27 +589,15 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final StartLoggingRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartLoggingRequest, StartLoggingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StartLoggingResult>() {
-                    @Override
-                    public StartLoggingResult call() throws Exception {
-                        StartLoggingResult result;
-
-                        try {
-                            result = startLogging(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<StartLoggingResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StartLoggingResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new StartLoggingRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -728,27 +612,15 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final StopLoggingRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopLoggingRequest, StopLoggingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StopLoggingResult>() {
-                    @Override
-                    public StopLoggingResult call() throws Exception {
-                        StopLoggingResult result;
-
-                        try {
-                            result = stopLogging(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<StopLoggingResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StopLoggingResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new StopLoggingRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -763,27 +635,15 @@ public class AWSCloudTrailAsyncClient extends AWSCloudTrailClient implements
             final UpdateTrailRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateTrailRequest, UpdateTrailResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateTrailResult>() {
-                    @Override
-                    public UpdateTrailResult call() throws Exception {
-                        UpdateTrailResult result;
-
-                        try {
-                            result = updateTrail(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateTrailResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateTrailResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateTrailRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.cloudwatch;
 
 import com.amazonaws.services.cloudwatch.model.*;
+import com.amazonaws.services.cloudwatch.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -298,27 +302,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DeleteAlarmsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAlarmsRequest, DeleteAlarmsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteAlarmsResult>() {
-                    @Override
-                    public DeleteAlarmsResult call() throws Exception {
-                        DeleteAlarmsResult result;
-
-                        try {
-                            result = deleteAlarms(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteAlarmsResult> responseHandler = new StaxResponseHandler<DeleteAlarmsResult>(
+                new DeleteAlarmsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteAlarmsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -333,27 +321,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DescribeAlarmHistoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAlarmHistoryRequest, DescribeAlarmHistoryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAlarmHistoryResult>() {
-                    @Override
-                    public DescribeAlarmHistoryResult call() throws Exception {
-                        DescribeAlarmHistoryResult result;
-
-                        try {
-                            result = describeAlarmHistory(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeAlarmHistoryResult> responseHandler = new StaxResponseHandler<DescribeAlarmHistoryResult>(
+                new DescribeAlarmHistoryResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeAlarmHistoryRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -393,27 +366,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DescribeAlarmsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAlarmsRequest, DescribeAlarmsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAlarmsResult>() {
-                    @Override
-                    public DescribeAlarmsResult call() throws Exception {
-                        DescribeAlarmsResult result;
-
-                        try {
-                            result = describeAlarms(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeAlarmsResult> responseHandler = new StaxResponseHandler<DescribeAlarmsResult>(
+                new DescribeAlarmsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeAlarmsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -452,28 +409,12 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DescribeAlarmsForMetricRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAlarmsForMetricRequest, DescribeAlarmsForMetricResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAlarmsForMetricResult>() {
-                    @Override
-                    public DescribeAlarmsForMetricResult call()
-                            throws Exception {
-                        DescribeAlarmsForMetricResult result;
-
-                        try {
-                            result = describeAlarmsForMetric(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeAlarmsForMetricResult> responseHandler = new StaxResponseHandler<DescribeAlarmsForMetricResult>(
+                new DescribeAlarmsForMetricResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeAlarmsForMetricRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -488,27 +429,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final DisableAlarmActionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableAlarmActionsRequest, DisableAlarmActionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableAlarmActionsResult>() {
-                    @Override
-                    public DisableAlarmActionsResult call() throws Exception {
-                        DisableAlarmActionsResult result;
-
-                        try {
-                            result = disableAlarmActions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DisableAlarmActionsResult> responseHandler = new StaxResponseHandler<DisableAlarmActionsResult>(
+                new DisableAlarmActionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DisableAlarmActionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -523,27 +448,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final EnableAlarmActionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableAlarmActionsRequest, EnableAlarmActionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableAlarmActionsResult>() {
-                    @Override
-                    public EnableAlarmActionsResult call() throws Exception {
-                        EnableAlarmActionsResult result;
-
-                        try {
-                            result = enableAlarmActions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<EnableAlarmActionsResult> responseHandler = new StaxResponseHandler<EnableAlarmActionsResult>(
+                new EnableAlarmActionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new EnableAlarmActionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -558,27 +467,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final GetMetricStatisticsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetMetricStatisticsRequest, GetMetricStatisticsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetMetricStatisticsResult>() {
-                    @Override
-                    public GetMetricStatisticsResult call() throws Exception {
-                        GetMetricStatisticsResult result;
-
-                        try {
-                            result = getMetricStatistics(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetMetricStatisticsResult> responseHandler = new StaxResponseHandler<GetMetricStatisticsResult>(
+                new GetMetricStatisticsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetMetricStatisticsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -593,27 +486,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final ListMetricsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListMetricsRequest, ListMetricsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListMetricsResult>() {
-                    @Override
-                    public ListMetricsResult call() throws Exception {
-                        ListMetricsResult result;
-
-                        try {
-                            result = listMetrics(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListMetricsResult> responseHandler = new StaxResponseHandler<ListMetricsResult>(
+                new ListMetricsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListMetricsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -652,27 +529,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final PutMetricAlarmRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutMetricAlarmRequest, PutMetricAlarmResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutMetricAlarmResult>() {
-                    @Override
-                    public PutMetricAlarmResult call() throws Exception {
-                        PutMetricAlarmResult result;
-
-                        try {
-                            result = putMetricAlarm(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<PutMetricAlarmResult> responseHandler = new StaxResponseHandler<PutMetricAlarmResult>(
+                new PutMetricAlarmResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new PutMetricAlarmRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -687,27 +548,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final PutMetricDataRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutMetricDataRequest, PutMetricDataResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutMetricDataResult>() {
-                    @Override
-                    public PutMetricDataResult call() throws Exception {
-                        PutMetricDataResult result;
-
-                        try {
-                            result = putMetricData(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<PutMetricDataResult> responseHandler = new StaxResponseHandler<PutMetricDataResult>(
+                new PutMetricDataResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new PutMetricDataRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -722,27 +567,11 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
             final SetAlarmStateRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetAlarmStateRequest, SetAlarmStateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetAlarmStateResult>() {
-                    @Override
-                    public SetAlarmStateResult call() throws Exception {
-                        SetAlarmStateResult result;
-
-                        try {
-                            result = setAlarmState(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<SetAlarmStateResult> responseHandler = new StaxResponseHandler<SetAlarmStateResult>(
+                new SetAlarmStateResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new SetAlarmStateRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -33,7 +33,6 @@ import com.amazonaws.services.cloudwatch.model.MetricDatum;
 import com.amazonaws.services.cloudwatch.model.PutMetricDataRequest;
 import com.amazonaws.services.cloudwatch.model.StatisticSet;
 import com.amazonaws.util.AwsHostNameUtils;
-import com.amazonaws.util.json.Jackson;
 
 /**
  * An internal builder used to retrieve the next batch of requests to be sent to
@@ -44,10 +43,23 @@ class BlockingRequestBuilder {
     private static final String OS_METRIC_NAME = MachineMetric.getOSMetricName();
     private final MachineMetricFactory machineMetricFactory = new MachineMetricFactory();
     private final BlockingQueue<MetricDatum> queue;
+    private final MetricDatumAggregator aggregator;
     private final long timeoutNano;
 
     BlockingRequestBuilder(CloudWatchMetricConfig config, BlockingQueue<MetricDatum> queue) {
+        this(config, queue, null);
+    }
+
+    /**
+     * @param aggregator
+     *            the aggregator holding the metrics pre-aggregated by the
+     *            collecting threads, to be drained at the end of each period;
+     *            or null if all metrics are enqueued individually.
+     */
+    BlockingRequestBuilder(CloudWatchMetricConfig config,
+            BlockingQueue<MetricDatum> queue, MetricDatumAggregator aggregator) {
         this.queue = queue;
+        this.aggregator = aggregator;
         this.timeoutNano = TimeUnit.MILLISECONDS.toNanos(config.getQueuePollTimeoutMilli());
     }
 
@@ -55,9 +67,10 @@ class BlockingRequestBuilder {
      * Returns the next batch of {@link PutMetricDataRequest} to be sent to
      * Amazon CloudWatch, blocking as necessary to gather and accumulate the
      * necessary statistics. If there is no metrics data, this call blocks
-     * indefinitely. If there is metrics data, this call will block up to about
-     * {@link CloudWatchMetricConfig#getQueuePollTimeoutMilli()} number of
-     * milliseconds.
+     * indefinitely, or, when metrics are pre-aggregated, until there is some
+     * at the end of a period. If there is metrics data, this call will block
+     * up to about {@link CloudWatchMetricConfig#getQueuePollTimeoutMilli()}
+     * number of milliseconds.
      */
     Iterable<PutMetricDataRequest> nextUploadUnits() throws InterruptedException {
         final Map<String,MetricDatum> uniqueMetrics = new HashMap<String,MetricDatum>();
@@ -66,17 +79,31 @@ class BlockingRequestBuilder {
         while(true) {
             final long elapsedNano = System.nanoTime() - startNano;
             if (elapsedNano >= timeoutNano) {
-                return toPutMetricDataRequests(uniqueMetrics);
+                drainAggregator(uniqueMetrics);
+                if (uniqueMetrics.size() > 0 || !AwsSdkMetrics.isMachineMetricExcluded()) {
+                    return toPutMetricDataRequests(uniqueMetrics);
+                }
+                // nothing at all during this period; start another one
+                startNano = System.nanoTime();
+                continue;
             }
             MetricDatum datum = queue.poll(timeoutNano - elapsedNano, TimeUnit.NANOSECONDS);
             if (datum == null) {
                 // timed out
+                drainAggregator(uniqueMetrics);
                 if (uniqueMetrics.size() > 0) {
                     // return whatever we have so far
                     return toPutMetricDataRequests(uniqueMetrics);
                 }
                 // zero AWS related metrics
                 if (AwsSdkMetrics.isMachineMetricExcluded()) {
+                    if (aggregator != null) {
+                        // Pre-aggregated metrics never show up in the queue,
+                        // so wake up once per period instead of waiting
+                        // indefinitely.
+                        startNano = System.nanoTime();
+                        continue;
+                    }
                     // Short note: nothing to do, so just wait indefinitely.
                     // (Long note: There exists a pedagogical case where the
                     // next statement is executed followed by no subsequent AWS
@@ -100,6 +127,33 @@ class BlockingRequestBuilder {
         }
     }
 
+    /**
+     * Merges the statistics pre-aggregated since the last period, if any, into
+     * the given unique metrics.
+     */
+    private void drainAggregator(Map<String, MetricDatum> uniqueMetrics) {
+        if (aggregator == null) {
+            return;
+        }
+        Map<String, MetricDatum> aggregated = new HashMap<String, MetricDatum>();
+        aggregator.drainTo(aggregated);
+        for (Map.Entry<String, MetricDatum> e: aggregated.entrySet()) {
+            MetricDatum statDatum = uniqueMetrics.get(e.getKey());
+            if (statDatum == null) {
+                uniqueMetrics.put(e.getKey(), e.getValue());
+            } else {
+                merge(statDatum.getStatisticValues(), e.getValue().getStatisticValues());
+            }
+        }
+    }
+
+    private static void merge(StatisticSet target, StatisticSet source) {
+        target.setSampleCount(target.getSampleCount() + source.getSampleCount());
+        target.setSum(target.getSum() + source.getSum());
+        target.setMaximum(Math.max(target.getMaximum(), source.getMaximum()));
+        target.setMinimum(Math.min(target.getMinimum(), source.getMinimum()));
+    }
+
     /**
      * Summarizes the given datum into the statistics of the respective unique metric.
      */
@@ -111,7 +165,7 @@ class BlockingRequestBuilder {
         List<Dimension> dims = datum.getDimensions();
         Collections.sort(dims, DimensionComparator.INSTANCE);
         String metricName = datum.getMetricName();
-        String key = metricName + Jackson.toJsonString(dims);
+        String key = MetricDatumAggregator.keyOf(metricName, dims);
         MetricDatum statDatum = uniqueMetrics.get(key);
         if (statDatum == null) {
             statDatum = new MetricDatum()
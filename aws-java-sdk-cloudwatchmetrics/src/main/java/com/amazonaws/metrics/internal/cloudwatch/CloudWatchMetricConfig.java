@@ -76,6 +76,11 @@ public class CloudWatchMetricConfig {
      * which is the finest granularity of Amazon CloudWatch.
      */
     public static final int DEFAULT_QUEUE_POLL_TIMEOUT_MILLI = (int)TimeUnit.MINUTES.toMillis(1);
+    /**
+     * Default maximum number of PutMetricData requests that the uploader
+     * sends to Amazon CloudWatch in parallel.
+     */
+    public static final int DEFAULT_UPLOAD_CONCURRENCY = 4;
 
     /** Credentials for the uploader to communicate with Amazon CloudWatch */
     private AWSCredentialsProvider credentialsProvider;
@@ -97,6 +102,8 @@ public class CloudWatchMetricConfig {
 
     private int metricQueueSize = DEFAULT_METRICS_QSIZE;
 
+    private int uploadConcurrency = DEFAULT_UPLOAD_CONCURRENCY;
+
     /**
      * Returns the credential provider that holds the credentials to connect to
      * Amazon CloudWatch.
@@ -199,4 +206,27 @@ public class CloudWatchMetricConfig {
         setMetricQueueSize(metricQueueSize);
         return this;
     }
+
+    public int getUploadConcurrency() {
+        return uploadConcurrency;
+    }
+
+    /**
+     * Configure the maximum number of PutMetricData requests sent in parallel
+     * at the end of each polling period, overriding the default. Must be at
+     * least 1.
+     *
+     * @see #DEFAULT_UPLOAD_CONCURRENCY
+     */
+    public void setUploadConcurrency(int uploadConcurrency) {
+        if (uploadConcurrency < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.uploadConcurrency = uploadConcurrency;
+    }
+
+    public CloudWatchMetricConfig withUploadConcurrency(int uploadConcurrency) {
+        setUploadConcurrency(uploadConcurrency);
+        return this;
+    }
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.http.annotation.ThreadSafe;
+
+import com.amazonaws.services.cloudwatch.model.Dimension;
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+import com.amazonaws.services.cloudwatch.model.StatisticSet;
+
+/**
+ * Pre-aggregates metric data on the calling threads into one
+ * {@link StatisticSet} per unique metric name and dimension set, so that a
+ * single datum per unique metric and period is handed to the uploader instead
+ * of one datum per request. Recording is lock-free; the uploader thread
+ * periodically calls {@link #drainTo(Map)} to close off the current period.
+ * <p>
+ * The number of unique metrics is bounded by the number of services,
+ * operations and predefined metric types in use, so entries are retained
+ * across periods and simply skipped when they have no samples.
+ */
+@ThreadSafe
+class MetricDatumAggregator {
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+
+    /**
+     * Records the given datum into the statistics of the current period. Like
+     * {@link BlockingRequestBuilder}, which summarizes the queued data, this
+     * ignores the timestamp of the datum: the statistics are uploaded as those
+     * of the period.
+     *
+     * @return true if the datum has been aggregated; false if the datum cannot
+     *         be pre-aggregated (ie it has no value, or carries its own
+     *         statistic values) and should be enqueued as is.
+     */
+    boolean add(MetricDatum datum) {
+        final Double value = datum.getValue();
+        if (value == null || datum.getStatisticValues() != null) {
+            return false;
+        }
+        List<Dimension> dims = datum.getDimensions();
+        Collections.sort(dims, DimensionComparator.INSTANCE);
+        final String key = keyOf(datum.getMetricName(), dims);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            Entry newEntry = new Entry(datum);
+            entry = entries.putIfAbsent(key, newEntry);
+            if (entry == null) {
+                entry = newEntry;
+            }
+        }
+        entry.record(value.doubleValue());
+        return true;
+    }
+
+    /**
+     * Closes off the current period, adding a statistic datum for every unique
+     * metric that has been recorded since the last call to the given map,
+     * keyed by {@link #keyOf(String, List)}. Must only be called by a single
+     * thread at a time.
+     */
+    void drainTo(Map<String, MetricDatum> uniqueMetrics) {
+        for (Map.Entry<String, Entry> e: entries.entrySet()) {
+            MetricDatum datum = e.getValue().drain();
+            if (datum != null) {
+                uniqueMetrics.put(e.getKey(), datum);
+            }
+        }
+    }
+
+    /**
+     * Returns the key identifying a unique metric with the given name and
+     * sorted dimensions. Each component is length-prefixed so that distinct
+     * metrics can never map to the same key.
+     */
+    static String keyOf(String metricName, List<Dimension> sortedDims) {
+        StringBuilder sb = new StringBuilder(64);
+        appendComponent(sb, metricName);
+        if (sortedDims != null) {
+            for (Dimension dim: sortedDims) {
+                appendComponent(sb, dim.getName());
+                appendComponent(sb, dim.getValue());
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendComponent(StringBuilder sb, String s) {
+        if (s == null) {
+            sb.append('-');
+        } else {
+            sb.append(s.length()).append(':').append(s);
+        }
+    }
+
+    /**
+     * The statistics of a single unique metric.
+     */
+    private static final class Entry {
+        private final String metricName;
+        private final List<Dimension> dimensions;
+        private final String unit;
+        private final AtomicReference<Accumulator> current =
+                new AtomicReference<Accumulator>(new Accumulator());
+
+        Entry(MetricDatum datum) {
+            this.metricName = datum.getMetricName();
+            this.dimensions = new ArrayList<Dimension>(datum.getDimensions());
+            this.unit = datum.getUnit();
+        }
+
+        void record(double value) {
+            while (true) {
+                final Accumulator acc = current.get();
+                acc.writers.incrementAndGet();
+                try {
+                    // the accumulator may have been swapped out by the
+                    // uploader in the meantime, in which case it may have
+                    // already been read and the sample would be lost
+                    if (current.get() == acc) {
+                        acc.record(value);
+                        return;
+                    }
+                } finally {
+                    acc.writers.decrementAndGet();
+                }
+            }
+        }
+
+        /**
+         * Swaps in a fresh accumulator and returns the statistics of the old
+         * one; or null if there has been no sample.
+         */
+        MetricDatum drain() {
+            if (current.get().sampleCount.get() == 0) {
+                return null;
+            }
+            final Accumulator acc = current.getAndSet(new Accumulator());
+            // wait for the in-flight writers which got hold of the old
+            // accumulator before the swap
+            while (acc.writers.get() != 0) {
+                Thread.yield();
+            }
+            return new MetricDatum()
+                .withMetricName(metricName)
+                .withDimensions(dimensions)
+                .withUnit(unit)
+                .withStatisticValues(acc.toStatisticSet());
+        }
+    }
+
+    /**
+     * Lock-free accumulator of the statistics over a single period. The
+     * double values are held as their raw long bits so they can be updated via
+     * compare-and-set.
+     */
+    private static final class Accumulator {
+        final AtomicInteger writers = new AtomicInteger();
+        final AtomicLong sampleCount = new AtomicLong();
+        private final AtomicLong sumBits = new AtomicLong(Double.doubleToRawLongBits(0.0));
+        private final AtomicLong minBits =
+                new AtomicLong(Double.doubleToRawLongBits(Double.POSITIVE_INFINITY));
+        private final AtomicLong maxBits =
+                new AtomicLong(Double.doubleToRawLongBits(Double.NEGATIVE_INFINITY));
+
+        void record(double value) {
+            long bits;
+            do {
+                bits = sumBits.get();
+            } while (!sumBits.compareAndSet(bits,
+                    Double.doubleToRawLongBits(Double.longBitsToDouble(bits) + value)));
+            final long valueBits = Double.doubleToRawLongBits(value);
+            while (value < Double.longBitsToDouble(bits = minBits.get())) {
+                if (minBits.compareAndSet(bits, valueBits)) {
+                    break;
+                }
+            }
+            while (value > Double.longBitsToDouble(bits = maxBits.get())) {
+                if (maxBits.compareAndSet(bits, valueBits)) {
+                    break;
+                }
+            }
+            sampleCount.incrementAndGet();
+        }
+
+        StatisticSet toStatisticSet() {
+            return new StatisticSet()
+                .withSampleCount((double) sampleCount.get())
+                .withSum(Double.longBitsToDouble(sumBits.get()))
+                .withMinimum(Double.longBitsToDouble(minBits.get()))
+                .withMaximum(Double.longBitsToDouble(maxBits.get()));
+        }
+    }
+}
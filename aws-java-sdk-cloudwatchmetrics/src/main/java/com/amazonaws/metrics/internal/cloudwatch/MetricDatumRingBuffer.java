@@ -0,0 +1,272 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.http.annotation.ThreadSafe;
+
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+
+/**
+ * A bounded, non-blocking, multi-producer single-consumer ring buffer of
+ * metric data. Producers (ie the threads executing AWS requests) claim a slot
+ * with a single compare-and-set and never take a lock, so that enqueueing a
+ * metric never contends with other request threads nor with the uploader
+ * thread. A full buffer causes {@link #offer(MetricDatum)} to fail fast, in
+ * which case the metric is dropped just as it would be with a bounded
+ * {@link java.util.concurrent.LinkedBlockingQueue}.
+ * <p>
+ * All the removal operations, including the blocking ones, must only be
+ * invoked from a single consumer thread, which is the uploader thread.
+ */
+@ThreadSafe
+class MetricDatumRingBuffer extends AbstractQueue<MetricDatum>
+        implements BlockingQueue<MetricDatum> {
+    /** Time to back off when a blocking producer finds the buffer full. */
+    private static final long PRODUCER_BACKOFF_NANO = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<MetricDatum> items;
+    /**
+     * Per-slot sequence numbers. A slot at index i is free for the producer
+     * claiming position p when its sequence equals p, and holds a published
+     * element for the consumer at position p when its sequence equals p + 1.
+     */
+    private final AtomicLongArray sequences;
+    /** Next position to be claimed by a producer. */
+    private final AtomicLong tail = new AtomicLong();
+    /** Next position to be consumed; only ever written by the consumer. */
+    private volatile long head;
+    /** The consumer thread currently parked waiting for data, if any. */
+    private volatile Thread waitingConsumer;
+
+    /**
+     * @param minCapacity
+     *            the minimum capacity, which gets rounded up to the next power
+     *            of two.
+     */
+    MetricDatumRingBuffer(int minCapacity) {
+        if (minCapacity < 1 || minCapacity > (1 << 30)) {
+            throw new IllegalArgumentException();
+        }
+        int cap = Integer.highestOneBit(minCapacity);
+        if (cap < minCapacity) {
+            cap <<= 1;
+        }
+        this.capacity = cap;
+        this.mask = cap - 1;
+        this.items = new AtomicReferenceArray<MetricDatum>(cap);
+        this.sequences = new AtomicLongArray(cap);
+        for (int i = 0; i < cap; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    @Override
+    public boolean offer(MetricDatum datum) {
+        if (datum == null) {
+            throw new NullPointerException();
+        }
+        while (true) {
+            final long pos = tail.get();
+            final int index = (int) (pos & mask);
+            final long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    items.set(index, datum);
+                    sequences.set(index, pos + 1);
+                    signalConsumer();
+                    return true;
+                }
+            } else if (diff < 0) {
+                // the slot has not yet been consumed from the previous lap
+                return false;
+            }
+            // otherwise another producer claimed the position; try again
+        }
+    }
+
+    @Override
+    public MetricDatum poll() {
+        final long pos = head;
+        final int index = (int) (pos & mask);
+        if (sequences.get(index) != pos + 1) {
+            return null;
+        }
+        MetricDatum datum = items.get(index);
+        items.set(index, null);
+        sequences.set(index, pos + capacity);
+        head = pos + 1;
+        return datum;
+    }
+
+    @Override
+    public MetricDatum peek() {
+        final long pos = head;
+        final int index = (int) (pos & mask);
+        return sequences.get(index) == pos + 1 ? items.get(index) : null;
+    }
+
+    @Override
+    public int size() {
+        long size = tail.get() - head;
+        return size < 0 ? 0 : (int) Math.min(size, capacity);
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    public void put(MetricDatum datum) throws InterruptedException {
+        while (!offer(datum)) {
+            LockSupport.parkNanos(this, PRODUCER_BACKOFF_NANO);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    @Override
+    public boolean offer(MetricDatum datum, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!offer(datum)) {
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(this, Math.min(remaining, PRODUCER_BACKOFF_NANO));
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public MetricDatum take() throws InterruptedException {
+        while (true) {
+            MetricDatum datum = poll();
+            if (datum != null) {
+                return datum;
+            }
+            waitingConsumer = Thread.currentThread();
+            try {
+                // re-check after advertising so that a concurrent offer
+                // either is seen here or unparks this thread
+                datum = poll();
+                if (datum != null) {
+                    return datum;
+                }
+                LockSupport.park(this);
+            } finally {
+                waitingConsumer = null;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    @Override
+    public MetricDatum poll(long timeout, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (true) {
+            MetricDatum datum = poll();
+            if (datum != null) {
+                return datum;
+            }
+            final long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return null;
+            }
+            waitingConsumer = Thread.currentThread();
+            try {
+                datum = poll();
+                if (datum != null) {
+                    return datum;
+                }
+                LockSupport.parkNanos(this, remaining);
+            } finally {
+                waitingConsumer = null;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super MetricDatum> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super MetricDatum> c, int maxElements) {
+        if (c == null) {
+            throw new NullPointerException();
+        }
+        if (c == this) {
+            throw new IllegalArgumentException();
+        }
+        int n = 0;
+        MetricDatum datum;
+        while (n < maxElements && (datum = poll()) != null) {
+            c.add(datum);
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Returns an iterator over a weakly consistent snapshot of the elements
+     * currently published in this buffer.
+     */
+    @Override
+    public Iterator<MetricDatum> iterator() {
+        List<MetricDatum> snapshot = new ArrayList<MetricDatum>();
+        final long end = tail.get();
+        for (long pos = head; pos < end; pos++) {
+            final int index = (int) (pos & mask);
+            MetricDatum datum = items.get(index);
+            if (datum != null && sequences.get(index) == pos + 1) {
+                snapshot.add(datum);
+            }
+        }
+        return Collections.unmodifiableList(snapshot).iterator();
+    }
+
+    private void signalConsumer() {
+        Thread consumer = waitingConsumer;
+        if (consumer != null) {
+            LockSupport.unpark(consumer);
+        }
+    }
+}
@@ -14,7 +14,18 @@
  */
 package com.amazonaws.metrics.internal.cloudwatch;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -34,6 +45,11 @@ class MetricUploaderThread extends Thread {
     private final AmazonCloudWatchClient cloudwatchClient;
     private final Log log = LogFactory.getLog(getClass());
     private final BlockingRequestBuilder qIterator;
+    /**
+     * Used to send the PutMetricData requests of a period in parallel; or null
+     * if the requests are sent serially by this thread.
+     */
+    private final ExecutorService uploadExecutor;
 
     MetricUploaderThread(CloudWatchMetricConfig config,
             BlockingQueue<MetricDatum> queue) {
@@ -42,6 +58,12 @@ class MetricUploaderThread extends Thread {
              createCloudWatchClient(config));
     }
 
+    MetricUploaderThread(CloudWatchMetricConfig config,
+            BlockingQueue<MetricDatum> queue,
+            MetricDatumAggregator aggregator) {
+        this(config, queue, aggregator, createCloudWatchClient(config));
+    }
+
     private static AmazonCloudWatchClient createCloudWatchClient(
             CloudWatchMetricConfig config) {
         AmazonCloudWatchClient amazonCloudWatchClient = null;
@@ -62,13 +84,24 @@ class MetricUploaderThread extends Thread {
     MetricUploaderThread(CloudWatchMetricConfig config,
         BlockingQueue<MetricDatum> queue,
         AmazonCloudWatchClient client)
+    {
+        this(config, queue, null, client);
+    }
+
+    MetricUploaderThread(CloudWatchMetricConfig config,
+        BlockingQueue<MetricDatum> queue,
+        MetricDatumAggregator aggregator,
+        AmazonCloudWatchClient client)
     {
         super(THREAD_NAME);
         if (config == null || queue == null) {
             throw new IllegalArgumentException();
         }
         this.cloudwatchClient = client;
-        this.qIterator = new BlockingRequestBuilder(config, queue);
+        this.qIterator = new BlockingRequestBuilder(config, queue, aggregator);
+        this.uploadExecutor = config.getUploadConcurrency() > 1
+            ? createUploadExecutor(config.getUploadConcurrency())
+            : null;
         String endpoint = config.getCloudWatchEndPoint();
         if (endpoint != null)
             cloudwatchClient.setEndpoint(endpoint);
@@ -76,25 +109,92 @@ class MetricUploaderThread extends Thread {
         setDaemon(true);
     }
 
+    private static ExecutorService createUploadExecutor(int concurrency) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                concurrency, concurrency, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread t = new Thread(r,
+                                THREAD_NAME + "-" + threadCount.incrementAndGet());
+                        t.setPriority(MIN_PRIORITY);
+                        t.setDaemon(true);
+                        return t;
+                    }
+                });
+        // uploads only happen once per period, so don't hold on to idle threads
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     @Override
     public void run() {
-        while (!cancelled) {
-            try {
-                Iterable<PutMetricDataRequest> requests = qIterator.nextUploadUnits();
-                for (PutMetricDataRequest req: requests) {
-                    appendUserAgent(req);
-                    log.debug(req);
-                    cloudwatchClient.putMetricData(req);
+        try {
+            while (!cancelled) {
+                try {
+                    Iterable<PutMetricDataRequest> requests = qIterator.nextUploadUnits();
+                    if (uploadExecutor == null) {
+                        for (PutMetricDataRequest req: requests) {
+                            upload(req);
+                            Thread.yield();
+                        }
+                    } else {
+                        uploadInParallel(requests);
+                    }
+                } catch(InterruptedException e) {
+                    if (!cancelled) {
+                        log.debug("Unexpected interruption ignored");
+                    }
+                } catch(Throwable t) {
+                    log.warn("Unexpected condition; soldier on", t);
                     Thread.yield();
                 }
-            } catch(InterruptedException e) {
-                if (!cancelled) {
-                    log.debug("Unexpected interruption ignored");
+            }
+        } finally {
+            if (uploadExecutor != null) {
+                uploadExecutor.shutdownNow();
+            }
+        }
+    }
+
+    private void upload(PutMetricDataRequest req) {
+        appendUserAgent(req);
+        log.debug(req);
+        cloudwatchClient.putMetricData(req);
+    }
+
+    /**
+     * Sends the given requests in parallel, waiting for all of them to
+     * complete before returning so that at most one period's worth of
+     * uploads is ever in flight.
+     */
+    private void uploadInParallel(Iterable<PutMetricDataRequest> requests)
+            throws InterruptedException {
+        List<Future<?>> futures = new ArrayList<Future<?>>();
+        for (final PutMetricDataRequest req: requests) {
+            futures.add(uploadExecutor.submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    upload(req);
+                    return null;
                 }
-            } catch(Throwable t) {
-                log.warn("Unexpected condition; soldier on", t);
-                Thread.yield();
+            }));
+        }
+        try {
+            for (Future<?> future: futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.warn("Unexpected condition; soldier on", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            for (Future<?> future: futures) {
+                future.cancel(true);
             }
+            throw e;
         }
     }
 
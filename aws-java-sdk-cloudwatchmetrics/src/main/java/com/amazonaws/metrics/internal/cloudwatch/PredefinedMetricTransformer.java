@@ -90,6 +90,8 @@ public class PredefinedMetricTransformer {
                     return latencyMetricOf(predefined, request, response, INCLUDE_REQUEST_TYPE);
                 case Exception:
                 case ThrottleException:
+                case ResponseCacheHitCount:
+                case ResponseCacheMissCount:
                     return counterMetricOf(predefined, request, response, INCLUDE_REQUEST_TYPE);
                 default:
                     break;
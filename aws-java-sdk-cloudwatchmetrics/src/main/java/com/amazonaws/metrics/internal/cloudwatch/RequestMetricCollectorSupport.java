@@ -40,10 +40,22 @@ public class RequestMetricCollectorSupport extends RequestMetricCollector
 {
     protected final static Log log = LogFactory.getLog(RequestMetricCollectorSupport.class);
     private final BlockingQueue<MetricDatum> queue;
+    private final MetricDatumAggregator aggregator;
     private final PredefinedMetricTransformer transformer = new PredefinedMetricTransformer();
 
     protected RequestMetricCollectorSupport(BlockingQueue<MetricDatum> queue) {
+        this(queue, null);
+    }
+
+    /**
+     * @param aggregator
+     *            used to pre-aggregate the metrics on the calling thread
+     *            before they get enqueued; or null if every metric is to be
+     *            enqueued individually.
+     */
+    RequestMetricCollectorSupport(BlockingQueue<MetricDatum> queue, MetricDatumAggregator aggregator) {
         this.queue = queue;
+        this.aggregator = aggregator;
     }
 
     /**
@@ -95,7 +107,10 @@ public class RequestMetricCollectorSupport extends RequestMetricCollector
      * if no space available.
      */
     protected boolean addMetricsToQueue(MetricDatum metric) {
-        return queue.offer(metric); 
+        if (aggregator != null && aggregator.add(metric)) {
+            return true;
+        }
+        return queue.offer(metric);
     }
     /** Returns the predefined metrics transformer. */
     protected PredefinedMetricTransformer getTransformer() { return transformer; }
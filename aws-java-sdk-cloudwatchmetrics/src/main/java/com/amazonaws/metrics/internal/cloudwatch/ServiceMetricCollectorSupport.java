@@ -47,9 +47,21 @@ public class ServiceMetricCollectorSupport extends ServiceMetricCollector
     static final double NANO_PER_SEC = TimeUnit.SECONDS.toNanos(1);
     protected final static Log log = LogFactory.getLog(ServiceMetricCollectorSupport.class);
     private final BlockingQueue<MetricDatum> queue;
+    private final MetricDatumAggregator aggregator;
 
     protected ServiceMetricCollectorSupport(BlockingQueue<MetricDatum> queue) {
+        this(queue, null);
+    }
+
+    /**
+     * @param aggregator
+     *            used to pre-aggregate the metrics on the calling thread
+     *            before they get enqueued; or null if every metric is to be
+     *            enqueued individually.
+     */
+    ServiceMetricCollectorSupport(BlockingQueue<MetricDatum> queue, MetricDatumAggregator aggregator) {
         this.queue = queue;
+        this.aggregator = aggregator;
     }
 
     @Override
@@ -154,6 +166,9 @@ public class ServiceMetricCollectorSupport extends ServiceMetricCollector
      * if no space available.
      */
     protected boolean addMetricsToQueue(MetricDatum metric) {
-        return queue.offer(metric); 
+        if (aggregator != null && aggregator.add(metric)) {
+            return true;
+        }
+        return queue.offer(metric);
     }
 }
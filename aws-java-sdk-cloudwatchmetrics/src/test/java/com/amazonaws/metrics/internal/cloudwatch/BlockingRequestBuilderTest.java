@@ -0,0 +1,85 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import static com.amazonaws.metrics.internal.cloudwatch.MetricDatumAggregatorTest.datum;
+import static com.amazonaws.metrics.internal.cloudwatch.MetricDatumAggregatorTest.dimension;
+import static com.amazonaws.metrics.internal.cloudwatch.MetricDatumAggregatorTest.statistics;
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.amazonaws.metrics.AwsSdkMetrics;
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+import com.amazonaws.services.cloudwatch.model.PutMetricDataRequest;
+import com.amazonaws.services.cloudwatch.model.StatisticSet;
+
+public class BlockingRequestBuilderTest {
+
+    private final CloudWatchMetricConfig config = new CloudWatchMetricConfig().withQueuePollTimeoutMilli(100);
+
+    private final MetricDatumRingBuffer queue = new MetricDatumRingBuffer(16);
+
+    private final MetricDatumAggregator aggregator = new MetricDatumAggregator();
+
+    private final BlockingRequestBuilder builder = new BlockingRequestBuilder(config, queue, aggregator);
+
+    @Test
+    public void preAggregatedStatisticsAreMergedWithQueuedData() throws Exception {
+        queue.offer(datum("Latency", 1, dimension("Service", "S3")));
+        queue.offer(datum("Latency", 7, dimension("Service", "S3")));
+        aggregator.add(datum("Latency", 5, dimension("Service", "S3")));
+        aggregator.add(datum("Latency", 3, dimension("Service", "S3")));
+        aggregator.add(datum("RequestCount", 1, dimension("Service", "S3")));
+
+        Map<String, MetricDatum> uploaded = upload();
+
+        StatisticSet latency = statistics(uploaded, "Latency", dimension("Service", "S3"));
+        assertEquals(4.0, latency.getSampleCount(), 0);
+        assertEquals(16.0, latency.getSum(), 0);
+        assertEquals(1.0, latency.getMinimum(), 0);
+        assertEquals(7.0, latency.getMaximum(), 0);
+        StatisticSet requestCount = statistics(uploaded, "RequestCount", dimension("Service", "S3"));
+        assertEquals(1.0, requestCount.getSampleCount(), 0);
+    }
+
+    @Test
+    public void preAggregatedStatisticsAreUploadedWithoutQueuedData() throws Exception {
+        aggregator.add(datum("Latency", 2, dimension("Service", "S3")));
+
+        StatisticSet latency = statistics(upload(), "Latency", dimension("Service", "S3"));
+        assertEquals(1.0, latency.getSampleCount(), 0);
+        assertEquals(2.0, latency.getSum(), 0);
+    }
+
+    /**
+     * Returns the data of the next period uploaded to the SDK's namespace, by
+     * unique metric.
+     */
+    private Map<String, MetricDatum> upload() throws InterruptedException {
+        Map<String, MetricDatum> uploaded = new HashMap<String, MetricDatum>();
+        for (PutMetricDataRequest request : builder.nextUploadUnits()) {
+            if (AwsSdkMetrics.getMetricNameSpace().equals(request.getNamespace())) {
+                for (MetricDatum datum : request.getMetricData()) {
+                    uploaded.put(MetricDatumAggregator.keyOf(datum.getMetricName(), datum.getDimensions()), datum);
+                }
+            }
+        }
+        return uploaded;
+    }
+}
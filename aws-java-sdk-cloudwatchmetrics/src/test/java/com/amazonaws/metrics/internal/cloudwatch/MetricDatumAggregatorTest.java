@@ -0,0 +1,151 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import com.amazonaws.services.cloudwatch.model.Dimension;
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+import com.amazonaws.services.cloudwatch.model.StandardUnit;
+import com.amazonaws.services.cloudwatch.model.StatisticSet;
+
+public class MetricDatumAggregatorTest {
+
+    private final MetricDatumAggregator aggregator = new MetricDatumAggregator();
+
+    @Test
+    public void dataOfTheSameMetricAreAggregatedWhateverTheirDimensionOrder() {
+        assertTrue(aggregator.add(datum("Latency", 5, dimension("Service", "S3"), dimension("Operation", "Get"))));
+        assertTrue(aggregator.add(datum("Latency", 1, dimension("Operation", "Get"), dimension("Service", "S3"))));
+        assertTrue(aggregator.add(datum("Latency", 3, dimension("Service", "S3"), dimension("Operation", "Put"))));
+
+        Map<String, MetricDatum> drained = drain();
+
+        assertEquals(2, drained.size());
+        StatisticSet get = statistics(drained, "Latency", dimension("Operation", "Get"), dimension("Service", "S3"));
+        assertEquals(2.0, get.getSampleCount(), 0);
+        assertEquals(6.0, get.getSum(), 0);
+        assertEquals(1.0, get.getMinimum(), 0);
+        assertEquals(5.0, get.getMaximum(), 0);
+        assertTrue(drain().isEmpty());
+    }
+
+    @Test
+    public void timestampedDataAreAggregated() {
+        // PredefinedMetricTransformer stamps the request and exception counts
+        assertTrue(aggregator.add(datum("RequestCount", 1, dimension("Service", "S3")).withTimestamp(new Date())));
+        assertTrue(aggregator.add(datum("RequestCount", 1, dimension("Service", "S3")).withTimestamp(new Date())));
+
+        StatisticSet stats = statistics(drain(), "RequestCount", dimension("Service", "S3"));
+        assertEquals(2.0, stats.getSampleCount(), 0);
+        assertEquals(2.0, stats.getSum(), 0);
+    }
+
+    @Test
+    public void dataWithoutAValueOrWithStatisticsAreNotAggregated() {
+        assertFalse(aggregator.add(new MetricDatum().withMetricName("Latency")));
+        assertFalse(aggregator.add(new MetricDatum().withMetricName("Latency").withStatisticValues(
+                new StatisticSet().withSampleCount(1.0).withSum(1.0).withMinimum(1.0).withMaximum(1.0))));
+        assertTrue(drain().isEmpty());
+    }
+
+    @Test
+    public void noSampleIsLostOrCountedTwiceWhileDraining() throws Exception {
+        final int threads = 4;
+        final int perThread = 100000;
+        final CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread() {
+                @Override
+                public void run() {
+                    for (int i = 1; i <= perThread; i++) {
+                        aggregator.add(datum("Latency", i, dimension("Service", "S3")));
+                    }
+                    done.countDown();
+                }
+            }.start();
+        }
+
+        List<StatisticSet> periods = new ArrayList<StatisticSet>();
+        while (done.getCount() > 0) {
+            Map<String, MetricDatum> drained = drain();
+            if (!drained.isEmpty()) {
+                periods.add(statistics(drained, "Latency", dimension("Service", "S3")));
+            }
+            Thread.sleep(1);
+        }
+        Map<String, MetricDatum> drained = drain();
+        if (!drained.isEmpty()) {
+            periods.add(statistics(drained, "Latency", dimension("Service", "S3")));
+        }
+
+        double samples = 0;
+        double sum = 0;
+        double min = Double.MAX_VALUE;
+        double max = 0;
+        for (StatisticSet stats : periods) {
+            samples += stats.getSampleCount();
+            sum += stats.getSum();
+            min = Math.min(min, stats.getMinimum());
+            max = Math.max(max, stats.getMaximum());
+        }
+        assertTrue("Periods " + periods.size(), periods.size() > 1);
+        assertEquals(threads * perThread, samples, 0);
+        assertEquals(threads * (perThread * (perThread + 1.0) / 2), sum, 0);
+        assertEquals(1.0, min, 0);
+        assertEquals(perThread, max, 0);
+    }
+
+    private Map<String, MetricDatum> drain() {
+        Map<String, MetricDatum> drained = new HashMap<String, MetricDatum>();
+        aggregator.drainTo(drained);
+        return drained;
+    }
+
+    static MetricDatum datum(String metricName, double value, Dimension... dimensions) {
+        return new MetricDatum()
+            .withMetricName(metricName)
+            .withUnit(StandardUnit.Milliseconds)
+            .withValue(value)
+            .withDimensions(dimensions);
+    }
+
+    static Dimension dimension(String name, String value) {
+        return new Dimension().withName(name).withValue(value);
+    }
+
+    /**
+     * Returns the statistics of the given metric, whose dimensions must be
+     * given sorted by name.
+     */
+    static StatisticSet statistics(Map<String, MetricDatum> data, String metricName, Dimension... sortedDimensions) {
+        List<Dimension> dimensions = new ArrayList<Dimension>();
+        for (Dimension dimension : sortedDimensions) {
+            dimensions.add(dimension);
+        }
+        return data.get(MetricDatumAggregator.keyOf(metricName, dimensions)).getStatisticValues();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+
+public class MetricDatumRingBufferTest {
+
+    @Test
+    public void elementsAreTakenInOrderAcrossWrapArounds() {
+        MetricDatumRingBuffer buffer = new MetricDatumRingBuffer(3);
+        assertEquals(4, buffer.remainingCapacity());
+
+        int next = 0;
+        for (int lap = 0; lap < 10; lap++) {
+            for (int i = 0; i < 3; i++) {
+                assertTrue(buffer.offer(datum(next + i)));
+            }
+            assertEquals(3, buffer.size());
+            for (int i = 0; i < 3; i++) {
+                assertEquals(next + i, buffer.poll().getValue().intValue());
+            }
+            assertNull(buffer.poll());
+            next += 3;
+        }
+    }
+
+    @Test
+    public void fullBufferRejectsOffersUntilAnElementIsTaken() throws Exception {
+        MetricDatumRingBuffer buffer = new MetricDatumRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(datum(i)));
+        }
+
+        assertFalse(buffer.offer(datum(4)));
+        long start = System.nanoTime();
+        assertFalse(buffer.offer(datum(4), 50, TimeUnit.MILLISECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+        assertEquals(0, buffer.remainingCapacity());
+
+        assertEquals(0, buffer.poll().getValue().intValue());
+        assertTrue(buffer.offer(datum(4)));
+        List<MetricDatum> drained = new ArrayList<MetricDatum>();
+        assertEquals(4, buffer.drainTo(drained));
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i + 1, drained.get(i).getValue().intValue());
+        }
+    }
+
+    @Test
+    public void pollTimesOutOnAnEmptyBuffer() throws Exception {
+        MetricDatumRingBuffer buffer = new MetricDatumRingBuffer(4);
+
+        long start = System.nanoTime();
+        assertNull(buffer.poll(50, TimeUnit.MILLISECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+    }
+
+    @Test
+    public void blockedConsumerIsWokenUpByAnOffer() throws Exception {
+        final MetricDatumRingBuffer buffer = new MetricDatumRingBuffer(4);
+        final MetricDatum first = datum(1);
+        final MetricDatum second = datum(2);
+        final CountDownLatch taking = new CountDownLatch(1);
+        new Thread() {
+            @Override
+            public void run() {
+                try {
+                    taking.await();
+                    Thread.sleep(50);
+                    buffer.offer(first);
+                    Thread.sleep(50);
+                    buffer.offer(second);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }.start();
+
+        taking.countDown();
+        assertSame(first, buffer.take());
+        assertSame(second, buffer.poll(30, TimeUnit.SECONDS));
+    }
+
+    @Test(expected = InterruptedException.class)
+    public void interruptedTakeThrows() throws Exception {
+        Thread.currentThread().interrupt();
+        new MetricDatumRingBuffer(4).take();
+    }
+
+    @Test
+    public void everyElementOfConcurrentProducersIsTakenOnceAndInProducerOrder() throws Exception {
+        final MetricDatumRingBuffer buffer = new MetricDatumRingBuffer(64);
+        final int producers = 4;
+        final int perProducer = 20000;
+        for (int p = 0; p < producers; p++) {
+            final int producer = p;
+            new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        for (int i = 0; i < perProducer; i++) {
+                            buffer.put(datum(producer * perProducer + i));
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }.start();
+        }
+
+        int[] last = new int[producers];
+        for (int p = 0; p < producers; p++) {
+            last[p] = -1;
+        }
+        for (int n = 0; n < producers * perProducer; n++) {
+            MetricDatum datum = buffer.poll(30, TimeUnit.SECONDS);
+            int value = datum.getValue().intValue();
+            int producer = value / perProducer;
+            assertTrue(value + " after " + last[producer], value % perProducer == last[producer] + 1);
+            last[producer] = value % perProducer;
+        }
+        assertNull(buffer.poll());
+    }
+
+    private static MetricDatum datum(int value) {
+        return new MetricDatum().withMetricName("metric").withValue((double) value);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics.internal.cloudwatch;
+
+import static com.amazonaws.metrics.internal.cloudwatch.MetricDatumAggregatorTest.datum;
+import static com.amazonaws.metrics.internal.cloudwatch.MetricDatumAggregatorTest.dimension;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.services.cloudwatch.AmazonCloudWatchClient;
+import com.amazonaws.services.cloudwatch.model.MetricDatum;
+import com.amazonaws.services.cloudwatch.model.PutMetricDataRequest;
+import com.amazonaws.services.cloudwatch.model.PutMetricDataResult;
+
+public class MetricUploaderThreadTest {
+
+    @Test
+    public void requestsOfAPeriodAreUploadedInParallel() throws Exception {
+        MetricDatumAggregator aggregator = new MetricDatumAggregator();
+        for (int i = 0; i < 3 * CloudWatchMetricConfig.MAX_METRICS_DATUM_SIZE; i++) {
+            aggregator.add(datum("Latency", i, dimension("Operation", "Operation" + i)));
+        }
+        SlowCloudWatch cloudWatch = new SlowCloudWatch();
+        MetricUploaderThread uploader = new MetricUploaderThread(
+                new CloudWatchMetricConfig().withQueuePollTimeoutMilli(100).withUploadConcurrency(4),
+                new MetricDatumRingBuffer(16), aggregator, cloudWatch);
+
+        uploader.start();
+        try {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (cloudWatch.operations.size() < 3 * CloudWatchMetricConfig.MAX_METRICS_DATUM_SIZE
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            uploader.cancel();
+            uploader.interrupt();
+        }
+
+        assertEquals(3 * CloudWatchMetricConfig.MAX_METRICS_DATUM_SIZE, cloudWatch.operations.size());
+        assertTrue("Max concurrent uploads " + cloudWatch.maxConcurrentUploads,
+                cloudWatch.maxConcurrentUploads.get() > 1);
+    }
+
+    /**
+     * Records the operations of the uploaded latencies, taking a while per
+     * request.
+     */
+    private static class SlowCloudWatch extends AmazonCloudWatchClient {
+        private final Set<String> operations =
+                Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        private final AtomicInteger concurrentUploads = new AtomicInteger();
+        private final AtomicInteger maxConcurrentUploads = new AtomicInteger();
+
+        SlowCloudWatch() {
+            super(new BasicAWSCredentials("access", "secret"));
+        }
+
+        @Override
+        public PutMetricDataResult putMetricData(PutMetricDataRequest request) {
+            int concurrent = concurrentUploads.incrementAndGet();
+            int max;
+            while (concurrent > (max = maxConcurrentUploads.get())
+                    && !maxConcurrentUploads.compareAndSet(max, concurrent)) {
+            }
+            try {
+                Thread.sleep(100);
+                for (MetricDatum datum : request.getMetricData()) {
+                    if ("Latency".equals(datum.getMetricName())) {
+                        operations.add(datum.getDimensions().get(0).getValue());
+                    }
+                }
+                return new PutMetricDataResult();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new PutMetricDataResult();
+            } finally {
+                concurrentUploads.decrementAndGet();
+            }
+        }
+    }
+}
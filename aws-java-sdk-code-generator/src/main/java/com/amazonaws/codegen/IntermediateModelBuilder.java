@@ -125,6 +125,7 @@ public class IntermediateModelBuilder {
 
         linkMembersToShapes(trimmedModel);
         linkOperationsToInputOutputShapes(trimmedModel);
+        compileWaiterAcceptors(trimmedModel);
 
         return trimmedModel;
     }
@@ -168,6 +169,24 @@ public class IntermediateModelBuilder {
         }
     }
 
+    /**
+     * Compile the acceptor paths of the waiters now that the output shapes of
+     * the operations are known.
+     *
+     * @param model Final IntermediateModel
+     */
+    private void compileWaiterAcceptors(IntermediateModel model) {
+        for (WaiterDefinitionModel waiter : model.getWaiters().values()) {
+            if (waiter.getOperationModel() == null) {
+                continue;
+            }
+            ShapeModel outputShape = waiter.getOperationModel().getOutputShape();
+            for (AcceptorModel acceptor : waiter.getAcceptors()) {
+                acceptor.compileAccessor(outputShape, model);
+            }
+        }
+    }
+
     public CustomizationConfig getCustomConfig() {
         return customConfig;
     }
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.codegen;
+
+import com.amazonaws.codegen.internal.Utils;
+import com.amazonaws.codegen.model.intermediate.IntermediateModel;
+import com.amazonaws.codegen.model.intermediate.MemberModel;
+import com.amazonaws.codegen.model.intermediate.ShapeModel;
+import com.amazonaws.jmespath.JmesPathExpression;
+import com.amazonaws.jmespath.JmesPathField;
+import com.amazonaws.jmespath.JmesPathFlatten;
+import com.amazonaws.jmespath.JmesPathIdentity;
+import com.amazonaws.jmespath.JmesPathProjection;
+import com.amazonaws.jmespath.JmesPathSubExpression;
+
+/**
+ * Compiles the JmesPath expression of a waiter acceptor into a method body that
+ * walks the operation result through its getters, instead of converting the
+ * whole result to a JSON tree on every poll and evaluating the AST against it.
+ *
+ * <p>Only field paths and (flattened) list projections over structures are
+ * compiled, which covers nearly all of the acceptors in the service models.
+ * The generated code yields the same JSON as the {@code JmesPathEvaluationVisitor}
+ * would for those expressions. For anything else {@link #compile} returns null
+ * and the acceptor keeps evaluating the AST.</p>
+ */
+public class JmesPathAccessorCompiler {
+
+    private static final String NULL_NODE = "NullNode.getInstance()";
+
+    private final IntermediateModel model;
+
+    private final StringBuilder code = new StringBuilder();
+
+    private int variableCount;
+
+    private int openLoops;
+
+    private JmesPathAccessorCompiler(IntermediateModel model) {
+        this.model = model;
+    }
+
+    /**
+     * Generates the body of a method which takes the operation result as
+     * {@code result} and returns the JsonNode the expression evaluates to.
+     *
+     * @param ast         JmesPath expression of the acceptor
+     * @param outputShape Shape of the operation result
+     * @param model       Intermediate model used to resolve member shapes
+     * @return Generated method body, or null if the expression can't be compiled
+     */
+    public static String compile(JmesPathExpression ast, ShapeModel outputShape,
+                                 IntermediateModel model) {
+        if (ast == null || outputShape == null) {
+            return null;
+        }
+        try {
+            return new JmesPathAccessorCompiler(model)
+                    .compileExpression(ast, new Value("result", outputShape.getShapeName(), false,
+                                                      outputShape, null));
+        } catch (UnsupportedExpressionException e) {
+            return null;
+        }
+    }
+
+    private String compileExpression(JmesPathExpression ast, Value root) {
+        if (ast instanceof JmesPathProjection) {
+            final JmesPathProjection projection = (JmesPathProjection) ast;
+            compileProjection(projection.getLhsExpr(), projection.getProjectionExpr(), root);
+        } else if (ast instanceof JmesPathFlatten) {
+            compileProjection(ast, new JmesPathIdentity(), root);
+        } else {
+            line("return " + toJsonNode(compilePath(ast, root)) + ";");
+        }
+        return code.toString();
+    }
+
+    private void compileProjection(JmesPathExpression lhs, JmesPathExpression rhs, Value root) {
+        final Value element = openLoops(lhs, root, true);
+        line("projection.add(" + toJsonNode(compilePath(rhs, element)) + ");");
+        while (openLoops > 0) {
+            line("}");
+            openLoops--;
+        }
+        line("return projection;");
+    }
+
+    /**
+     * Opens a loop for every list the left hand side of a projection iterates
+     * over and returns the element of the innermost one. A flattened
+     * projection is iterated in place rather than collected first.
+     */
+    private Value openLoops(JmesPathExpression lhs, Value input, boolean outermost) {
+        JmesPathExpression source = lhs;
+        if (lhs instanceof JmesPathFlatten) {
+            source = ((JmesPathFlatten) lhs).getFlattenExpr();
+            if (source instanceof JmesPathProjection) {
+                final JmesPathProjection inner = (JmesPathProjection) source;
+                final Value projected = compilePath(inner.getProjectionExpr(),
+                                                    openLoops(inner.getLhsExpr(), input, outermost));
+                // Flattening keeps elements which are not lists as they are.
+                return projected.isList() ? loopOver(projected, false) : projected;
+            }
+        }
+        return loopOver(compilePath(source, input), outermost);
+    }
+
+    private Value loopOver(Value list, boolean outermost) {
+        if (!list.isList()) {
+            throw new UnsupportedExpressionException();
+        }
+        final MemberModel elementMember = list.member.getListModel().getListMemberModel();
+        if (elementMember.isList()) {
+            throw new UnsupportedExpressionException();
+        }
+
+        line("if (" + list.variable + " == null) {");
+        if (outermost) {
+            line("return " + NULL_NODE + ";");
+            line("}");
+            line("ArrayNode projection = ObjectMapperSingleton.getObjectMapper().createArrayNode();");
+        } else {
+            // A missing nested list projects to a single null, the same as a
+            // null element would.
+            line("projection.add(" + NULL_NODE + ");");
+            line("continue;");
+            line("}");
+        }
+
+        final String elementType = elementMember.getVariable().getVariableType();
+        final String element = newVariable("e");
+        line("for (" + elementType + " " + element + " : " + list.variable + ") {");
+        openLoops++;
+        return new Value(element, elementType, true, structureShapeOf(elementMember), elementMember);
+    }
+
+    private Value compilePath(JmesPathExpression expression, Value input) {
+        if (expression instanceof JmesPathField) {
+            return compileField(((JmesPathField) expression).getValue(), input);
+        }
+        if (expression instanceof JmesPathSubExpression) {
+            Value value = input;
+            for (JmesPathExpression part : ((JmesPathSubExpression) expression).getExpressions()) {
+                value = compilePath(part, value);
+            }
+            return value;
+        }
+        if (expression instanceof JmesPathIdentity) {
+            return input;
+        }
+        throw new UnsupportedExpressionException();
+    }
+
+    private Value compileField(String c2jName, Value input) {
+        if (input.shape == null || input.shape.getMembers() == null) {
+            throw new UnsupportedExpressionException();
+        }
+        final MemberModel member = input.shape.getMemberByC2jName(c2jName);
+        if (member == null) {
+            throw new UnsupportedExpressionException();
+        }
+
+        final String type = member.getVariable().getVariableType();
+        final String variable = newVariable("v");
+        final String getter = input.variable + ".get" + member.getName() + "()";
+        line(type + " " + variable + " = " +
+             (input.nullable ? input.variable + " == null ? null : " + getter : getter) + ";");
+        return new Value(variable, type, true, structureShapeOf(member), member);
+    }
+
+    private ShapeModel structureShapeOf(MemberModel member) {
+        if (member.isSimple() || member.isList() || member.isMap()) {
+            return null;
+        }
+        return Utils.findShapeModelByC2jNameIfExists(model, member.getC2jShape());
+    }
+
+    private static String toJsonNode(Value value) {
+        final String node = "String".equals(value.type)
+                ? "TextNode.valueOf(" + value.variable + ")"
+                : "ObjectMapperSingleton.getObjectMapper().<JsonNode>valueToTree(" + value.variable + ")";
+        return value.nullable ? value.variable + " == null ? " + NULL_NODE + " : " + node : node;
+    }
+
+    private String newVariable(String prefix) {
+        return prefix + variableCount++;
+    }
+
+    private void line(String line) {
+        if (code.length() > 0) {
+            code.append('\n');
+        }
+        code.append(line);
+    }
+
+    private static class Value {
+
+        private final String variable;
+
+        private final String type;
+
+        private final boolean nullable;
+
+        /**
+         * Shape of the value if it's a structure, null otherwise.
+         */
+        private final ShapeModel shape;
+
+        /**
+         * Member the value was read from, null for the result itself.
+         */
+        private final MemberModel member;
+
+        Value(String variable, String type, boolean nullable, ShapeModel shape,
+              MemberModel member) {
+            this.variable = variable;
+            this.type = type;
+            this.nullable = nullable;
+            this.shape = shape;
+            this.member = member;
+        }
+
+        boolean isList() {
+            return member != null && member.isList();
+        }
+    }
+
+    private static class UnsupportedExpressionException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -555,12 +555,14 @@ public class CodeEmitter implements AutoCloseable {
         if(model.getWaiters().size() > 0) {
             Metadata metadata = model.getMetadata();
             final String className = metadata.getSyncInterface() + "Waiters";
-            Map<String, Object> dataModel = ImmutableMapParameter.of(
-                    "fileHeader", model.getFileHeader(),
-                    "className", className,
-                    "waiters", model.getWaiters(),
-                    "operation", model.getOperations(),
-                    "metadata", metadata);
+            Map<String, Object> dataModel = ImmutableMapParameter.<String, Object>builder()
+                    .put("fileHeader", model.getFileHeader())
+                    .put("className", className)
+                    .put("waiters", model.getWaiters())
+                    .put("operation", model.getOperations())
+                    .put("metadata", metadata)
+                    .put("customizationConfig", model.getCustomizationConfig())
+                    .build();
 
             submitTask(new ClassGeneratorTask(waiterClassDir, className,
                     freemarker.getWaiterTemplate(),
@@ -201,6 +201,13 @@ public class CustomizationConfig {
      */
     private boolean skipSmokeTests;
 
+    /**
+     * Poll coalescers registered with the scheduler of the generated waiters, by the name of the
+     * operation they merge the polls of. The values are fully qualified class names of
+     * {@code PollCoalescer} implementations with a no-argument constructor.
+     */
+    private Map<String, String> waiterPollCoalescers;
+
     public String getRequestMetrics() {
         return requestMetrics;
     }
@@ -458,6 +465,14 @@ public class CustomizationConfig {
         this.skipSmokeTests = skipSmokeTests;
     }
 
+    public Map<String, String> getWaiterPollCoalescers() {
+        return waiterPollCoalescers;
+    }
+
+    public void setWaiterPollCoalescers(Map<String, String> waiterPollCoalescers) {
+        this.waiterPollCoalescers = waiterPollCoalescers;
+    }
+
     public boolean isSendExplicitlyEmptyListsForQuery() {
         return sendExplicitlyEmptyListsForQuery;
     }
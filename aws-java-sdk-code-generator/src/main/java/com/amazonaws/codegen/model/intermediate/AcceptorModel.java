@@ -15,6 +15,7 @@
 
 package com.amazonaws.codegen.model.intermediate;
 
+import com.amazonaws.codegen.JmesPathAccessorCompiler;
 import com.amazonaws.codegen.JmesPathCodeGenVisitor;
 import com.amazonaws.codegen.internal.Utils;
 import com.amazonaws.jmespath.JmesPathExpression;
@@ -35,6 +36,8 @@ public class AcceptorModel {
 
     private JmesPathExpression ast;
 
+    private String compiledAccessor;
+
     public void setAst(JmesPathExpression ast) {
         this.ast = ast;
     }
@@ -46,6 +49,25 @@ public class AcceptorModel {
         return null;
     }
 
+    /**
+     * Compiles the acceptor path into getter calls on the operation result.
+     * Leaves the acceptor evaluating the AST if the path can't be compiled.
+     *
+     * @param outputShape Shape of the operation result
+     * @param model       Intermediate model the output shape belongs to
+     */
+    public void compileAccessor(ShapeModel outputShape, IntermediateModel model) {
+        this.compiledAccessor = JmesPathAccessorCompiler.compile(ast, outputShape, model);
+    }
+
+    public String getCompiledAccessor() {
+        return compiledAccessor;
+    }
+
+    public boolean getIsCompiled() {
+        return compiledAccessor != null;
+    }
+
     public void setState(String state) {
         this.state = state;
     }
@@ -67,6 +67,10 @@ public class WaiterDefinitionModel {
         this.acceptors = acceptors;
     }
 
+    public boolean getHasCompiledAcceptors() {
+        return acceptors.stream().anyMatch(AcceptorModel::getIsCompiled);
+    }
+
     public String getOperationName(){
         return this.operationModel.getOperationName();
     }
@@ -18,6 +18,8 @@ public ${operation.asyncFutureType} ${operation.methodName}Async(
     final ${operation.input.variableType} request,
     final ${operation.asyncHandlerType} asyncHandler) {
 
+<#-- Streamed content cannot be sent or buffered by the non-blocking client, so these operations block a thread of the executor -->
+<#if operation.input.streamPropertyName?has_content || (operation.outputShape?? && operation.outputShape.hasStreamingMember)>
     return executorService.submit(new ${operation.asyncCallableType}() {
         @Override
         public ${operation.asyncReturnType} call() throws Exception {
@@ -43,5 +45,20 @@ public ${operation.asyncFutureType} ${operation.methodName}Async(
             return result;
         }
     });
+<#else>
+  <#if operation.returnType??>
+    <@ResponseHandlerCreation.content operation, metadata, "new ${operation.syncReturnType}${metadata.unmarshallerClassSuffix}()", operation.returnType.returnType />
+  <#else>
+    <@ResponseHandlerCreation.content operation, metadata, "null", "Void" />
+  </#if>
+
+  <#if operation.authenticated>
+    return asyncInvoke(request, <@RequestMarshallerCreation.content operation />, responseHandler,
+            asyncHandler, executorService);
+  <#else>
+    return anonymousAsyncInvoke(request, <@RequestMarshallerCreation.content operation />, responseHandler,
+            asyncHandler, executorService);
+  </#if>
+</#if>
 }
 </#macro>
@@ -2,6 +2,10 @@ ${fileHeader}
 package ${metadata.packageName};
 
 import ${metadata.packageName}.model.*;
+import ${metadata.packageName}.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -11,6 +11,11 @@ import com.amazonaws.waiters.AcceptorPathMatcher;
 import ${metadata.packageName}.model.*;
 
 import com.fasterxml.jackson.databind.JsonNode;
+<#if waiter.hasCompiledAcceptors>
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+</#if>
 
 import com.amazonaws.jmespath.*;
 
@@ -48,6 +53,35 @@ class ${waiter.waiterName} {
                  }
             }
 
+            <#if acceptor.isCompiled>
+            /**
+              * Takes the result and determines whether the state of the
+              * resource matches the expected state. To determine the current
+              * state of the resource, the JmesPath expression is evaluated
+              * directly against the result and compared against the expected
+              * result.
+              * @param result
+              *          Corresponding result of the operation
+              * @return True if current state of the resource matches the
+              *         expected state, False otherwise
+              */
+            @Override
+            public boolean matches(${outputType} result) {
+                return AcceptorPathMatcher.${acceptor.matcher}(expectedResult, evaluate(result));
+            }
+
+            /**
+              * Evaluates the JmesPath expression of this acceptor by reading
+              * the members it refers to from the result, so the result isn't
+              * converted into a JSON tree on every poll.
+              * @param result
+              *          Corresponding result of the operation
+              * @return JSON value the expression evaluates to
+              */
+            static JsonNode evaluate(${outputType} result) {
+                ${acceptor.compiledAccessor}
+            }
+            <#else>
             private static final JmesPathExpression ast = ${acceptor.ast};
 
             /**
@@ -66,6 +100,7 @@ class ${waiter.waiterName} {
                 JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(), queryNode);
                 return AcceptorPathMatcher.${acceptor.matcher}(expectedResult, finalResult);
             }
+            </#if>
         </#if>
 
         /**
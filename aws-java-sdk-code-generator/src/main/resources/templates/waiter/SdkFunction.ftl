@@ -7,13 +7,19 @@ ${fileHeader}
 package ${metadata.packageName}.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import ${metadata.packageName}.model.${inputType};
 import ${metadata.packageName}.model.${outputType};
 import ${metadata.packageName}.${metadata.syncInterface};
+import ${metadata.packageName}.${metadata.asyncInterface};
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
-public class ${operationName}Function implements SdkFunction<${inputType}, ${outputType}>{
+public class ${operationName}Function implements SdkFunction<${inputType}, ${outputType}>,
+        AsyncSdkFunction<${inputType}, ${outputType}> {
 
     /**
      * Represents the service client
@@ -42,4 +48,20 @@ public class ${operationName}Function implements SdkFunction<${inputType}, ${out
     public ${outputType} apply(${inputType} ${input}){
         return client.${waiter.operationMethodName}(${input});
     }
+
+    /**
+      * Makes an asynchronous call to the operation specified
+      * by the waiter. Only valid if the service client is an
+      * asynchronous client.
+      * @param ${input}
+      *          Corresponding request for the operation
+      * @param asyncHandler
+      *          Callback notified with the result of the operation
+      * @return Future holding the corresponding result of the operation
+      */
+    @Override
+    public Future<${outputType}> applyAsync(${inputType} ${input},
+            AsyncHandler<${inputType}, ${outputType}> asyncHandler){
+        return ((${metadata.asyncInterface}) client).${waiter.operationMethodName}Async(${input}, asyncHandler);
+    }
 }
@@ -3,6 +3,7 @@ package ${metadata.packageName}.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
 import ${metadata.packageName}.${metadata.syncInterface};
+import ${metadata.packageName}.${metadata.asyncInterface};
 import ${metadata.packageName}.model.*;
 import com.amazonaws.waiters.*;
 
@@ -18,6 +19,11 @@ public class ${className}{
 
     private final ExecutorService executorService = Executors.newFixedThreadPool(50);
 
+    /**
+      * Schedules the polls of asynchronous waiters
+      */
+    private final WaiterScheduler scheduler = new WaiterScheduler(WaiterScheduler.newDaemonScheduledExecutorService(), executorService);
+
     /**
       * Constructs a new ${className} with the
       * given client
@@ -27,6 +33,21 @@ public class ${className}{
     @SdkInternalApi
     public ${className}(${metadata.syncInterface} client){
         this.client = client;
+    <#if customizationConfig.waiterPollCoalescers??>
+        <#list customizationConfig.waiterPollCoalescers?keys as operationName>
+        scheduler.withPollCoalescer(${operation[operationName].input.variableType}.class, new ${customizationConfig.waiterPollCoalescers[operationName]}());
+        </#list>
+    </#if>
+    }
+
+    /**
+      * Returns the scheduler the asynchronous waiters of
+      * this client poll on, e.g. to register a
+      * {@link PollCoalescer} for one of its operations
+      * @return Waiter scheduler of this client
+      */
+    public WaiterScheduler getScheduler(){
+        return scheduler;
     }
 
     <#list waiters?values as waiters>
@@ -54,11 +75,14 @@ public class ${className}{
             </#if>
         </#list>
 
+        ${waiters.operationName}Function function = new ${waiters.operationName}Function(client);
         return new WaiterBuilder<${inputType}, ${outputType}>()
-                        .withSdkFunction(new ${waiters.operationName}Function(client))
+                        .withSdkFunction(function)
+                        .withAsyncSdkFunction(client instanceof ${metadata.asyncInterface} ? function : null)
                         .withAcceptors(${acceptorArray?remove_ending(", ")})
                         .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(${waiters.maxAttempts}), new FixedDelayStrategy(${waiters.delay})))
                         .withExecutorService(executorService)
+                        .withScheduler(scheduler)
                         .build();
     }
 
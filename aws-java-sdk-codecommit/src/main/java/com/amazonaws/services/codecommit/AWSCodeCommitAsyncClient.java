@@ -15,6 +15,10 @@
 package com.amazonaws.services.codecommit;
 
 import com.amazonaws.services.codecommit.model.*;
+import com.amazonaws.services.codecommit.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -337,27 +341,15 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final BatchGetRepositoriesRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetRepositoriesRequest, BatchGetRepositoriesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<BatchGetRepositoriesResult>() {
-                    @Override
-                    public BatchGetRepositoriesResult call() throws Exception {
-                        BatchGetRepositoriesResult result;
-
-                        try {
-                            result = batchGetRepositories(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<BatchGetRepositoriesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new BatchGetRepositoriesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new BatchGetRepositoriesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -372,27 +364,15 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final CreateBranchRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateBranchRequest, CreateBranchResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateBranchResult>() {
-                    @Override
-                    public CreateBranchResult call() throws Exception {
-                        CreateBranchResult result;
-
-                        try {
-                            result = createBranch(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateBranchResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateBranchResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateBranchRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -407,27 +387,15 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final CreateRepositoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRepositoryRequest, CreateRepositoryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateRepositoryResult>() {
-                    @Override
-                    public CreateRepositoryResult call() throws Exception {
-                        CreateRepositoryResult result;
-
-                        try {
-                            result = createRepository(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateRepositoryResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateRepositoryResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateRepositoryRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -442,27 +410,15 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final DeleteRepositoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRepositoryRequest, DeleteRepositoryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteRepositoryResult>() {
-                    @Override
-                    public DeleteRepositoryResult call() throws Exception {
-                        DeleteRepositoryResult result;
-
-                        try {
-                            result = deleteRepository(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteRepositoryResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteRepositoryResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteRepositoryRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -477,27 +433,15 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final GetBranchRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetBranchRequest, GetBranchResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetBranchResult>() {
-                    @Override
-                    public GetBranchResult call() throws Exception {
-                        GetBranchResult result;
-
-                        try {
-                            result = getBranch(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetBranchResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetBranchResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetBranchRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -512,27 +456,15 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final GetCommitRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCommitRequest, GetCommitResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetCommitResult>() {
-                    @Override
-                    public GetCommitResult call() throws Exception {
-                        GetCommitResult result;
-
-                        try {
-                            result = getCommit(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetCommitResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetCommitResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetCommitRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -547,27 +479,15 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final GetRepositoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRepositoryRequest, GetRepositoryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetRepositoryResult>() {
-                    @Override
-                    public GetRepositoryResult call() throws Exception {
-                        GetRepositoryResult result;
-
-                        try {
-                            result = getRepository(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetRepositoryResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetRepositoryResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetRepositoryRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -582,27 +502,15 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final GetRepositoryTriggersRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRepositoryTriggersRequest, GetRepositoryTriggersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetRepositoryTriggersResult>() {
-                    @Override
-                    public GetRepositoryTriggersResult call() throws Exception {
-                        GetRepositoryTriggersResult result;
-
-                        try {
-                            result = getRepositoryTriggers(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetRepositoryTriggersResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetRepositoryTriggersResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetRepositoryTriggersRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -617,27 +525,15 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final ListBranchesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListBranchesRequest, ListBranchesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListBranchesResult>() {
-                    @Override
-                    public ListBranchesResult call() throws Exception {
-                        ListBranchesResult result;
-
-                        try {
-                            result = listBranches(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListBranchesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListBranchesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListBranchesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -652,27 +548,15 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final ListRepositoriesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRepositoriesRequest, ListRepositoriesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListRepositoriesResult>() {
-                    @Override
-                    public ListRepositoriesResult call() throws Exception {
-                        ListRepositoriesResult result;
-
-                        try {
-                            result = listRepositories(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListRepositoriesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListRepositoriesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListRepositoriesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -687,27 +571,15 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final PutRepositoryTriggersRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRepositoryTriggersRequest, PutRepositoryTriggersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutRepositoryTriggersResult>() {
-                    @Override
-                    public PutRepositoryTriggersResult call() throws Exception {
-                        PutRepositoryTriggersResult result;
-
-                        try {
-                            result = putRepositoryTriggers(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutRepositoryTriggersResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutRepositoryTriggersResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutRepositoryTriggersRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -722,27 +594,15 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final TestRepositoryTriggersRequest request,
             final com.amazonaws.handlers.AsyncHandler<TestRepositoryTriggersRequest, TestRepositoryTriggersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<TestRepositoryTriggersResult>() {
-                    @Override
-                    public TestRepositoryTriggersResult call() throws Exception {
-                        TestRepositoryTriggersResult result;
-
-                        try {
-                            result = testRepositoryTriggers(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<TestRepositoryTriggersResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new TestRepositoryTriggersResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new TestRepositoryTriggersRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -757,27 +617,15 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final UpdateDefaultBranchRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDefaultBranchRequest, UpdateDefaultBranchResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateDefaultBranchResult>() {
-                    @Override
-                    public UpdateDefaultBranchResult call() throws Exception {
-                        UpdateDefaultBranchResult result;
-
-                        try {
-                            result = updateDefaultBranch(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateDefaultBranchResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateDefaultBranchResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateDefaultBranchRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -792,28 +640,16 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final UpdateRepositoryDescriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateRepositoryDescriptionRequest, UpdateRepositoryDescriptionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateRepositoryDescriptionResult>() {
-                    @Override
-                    public UpdateRepositoryDescriptionResult call()
-                            throws Exception {
-                        UpdateRepositoryDescriptionResult result;
-
-                        try {
-                            result = updateRepositoryDescription(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateRepositoryDescriptionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateRepositoryDescriptionResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new UpdateRepositoryDescriptionRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -828,27 +664,15 @@ public class AWSCodeCommitAsyncClient extends AWSCodeCommitClient implements
             final UpdateRepositoryNameRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateRepositoryNameRequest, UpdateRepositoryNameResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateRepositoryNameResult>() {
-                    @Override
-                    public UpdateRepositoryNameResult call() throws Exception {
-                        UpdateRepositoryNameResult result;
-
-                        try {
-                            result = updateRepositoryName(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateRepositoryNameResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateRepositoryNameResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateRepositoryNameRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
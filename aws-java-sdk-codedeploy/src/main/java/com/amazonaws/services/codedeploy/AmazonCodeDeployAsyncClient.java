@@ -15,6 +15,10 @@
 package com.amazonaws.services.codedeploy;
 
 import com.amazonaws.services.codedeploy.model.*;
+import com.amazonaws.services.codedeploy.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -360,28 +364,16 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final AddTagsToOnPremisesInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToOnPremisesInstancesRequest, AddTagsToOnPremisesInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddTagsToOnPremisesInstancesResult>() {
-                    @Override
-                    public AddTagsToOnPremisesInstancesResult call()
-                            throws Exception {
-                        AddTagsToOnPremisesInstancesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AddTagsToOnPremisesInstancesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddTagsToOnPremisesInstancesResultJsonUnmarshaller());
 
-                        try {
-                            result = addTagsToOnPremisesInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AddTagsToOnPremisesInstancesRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -396,28 +388,16 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final BatchGetApplicationRevisionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetApplicationRevisionsRequest, BatchGetApplicationRevisionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<BatchGetApplicationRevisionsResult>() {
-                    @Override
-                    public BatchGetApplicationRevisionsResult call()
-                            throws Exception {
-                        BatchGetApplicationRevisionsResult result;
-
-                        try {
-                            result = batchGetApplicationRevisions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<BatchGetApplicationRevisionsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new BatchGetApplicationRevisionsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new BatchGetApplicationRevisionsRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -432,27 +412,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final BatchGetApplicationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetApplicationsRequest, BatchGetApplicationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<BatchGetApplicationsResult>() {
-                    @Override
-                    public BatchGetApplicationsResult call() throws Exception {
-                        BatchGetApplicationsResult result;
-
-                        try {
-                            result = batchGetApplications(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<BatchGetApplicationsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new BatchGetApplicationsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new BatchGetApplicationsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -492,28 +460,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final BatchGetDeploymentGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetDeploymentGroupsRequest, BatchGetDeploymentGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<BatchGetDeploymentGroupsResult>() {
-                    @Override
-                    public BatchGetDeploymentGroupsResult call()
-                            throws Exception {
-                        BatchGetDeploymentGroupsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<BatchGetDeploymentGroupsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new BatchGetDeploymentGroupsResultJsonUnmarshaller());
 
-                        try {
-                            result = batchGetDeploymentGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new BatchGetDeploymentGroupsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -528,28 +483,16 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final BatchGetDeploymentInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetDeploymentInstancesRequest, BatchGetDeploymentInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<BatchGetDeploymentInstancesResult>() {
-                    @Override
-                    public BatchGetDeploymentInstancesResult call()
-                            throws Exception {
-                        BatchGetDeploymentInstancesResult result;
-
-                        try {
-                            result = batchGetDeploymentInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<BatchGetDeploymentInstancesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new BatchGetDeploymentInstancesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new BatchGetDeploymentInstancesRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -564,27 +507,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final BatchGetDeploymentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetDeploymentsRequest, BatchGetDeploymentsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<BatchGetDeploymentsResult>() {
-                    @Override
-                    public BatchGetDeploymentsResult call() throws Exception {
-                        BatchGetDeploymentsResult result;
-
-                        try {
-                            result = batchGetDeployments(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<BatchGetDeploymentsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new BatchGetDeploymentsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new BatchGetDeploymentsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -624,28 +555,16 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final BatchGetOnPremisesInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetOnPremisesInstancesRequest, BatchGetOnPremisesInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<BatchGetOnPremisesInstancesResult>() {
-                    @Override
-                    public BatchGetOnPremisesInstancesResult call()
-                            throws Exception {
-                        BatchGetOnPremisesInstancesResult result;
-
-                        try {
-                            result = batchGetOnPremisesInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<BatchGetOnPremisesInstancesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new BatchGetOnPremisesInstancesResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new BatchGetOnPremisesInstancesRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -686,27 +605,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final CreateApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateApplicationRequest, CreateApplicationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateApplicationResult>() {
-                    @Override
-                    public CreateApplicationResult call() throws Exception {
-                        CreateApplicationResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateApplicationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateApplicationResultJsonUnmarshaller());
 
-                        try {
-                            result = createApplication(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateApplicationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -721,27 +628,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final CreateDeploymentRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDeploymentRequest, CreateDeploymentResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateDeploymentResult>() {
-                    @Override
-                    public CreateDeploymentResult call() throws Exception {
-                        CreateDeploymentResult result;
-
-                        try {
-                            result = createDeployment(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateDeploymentResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateDeploymentResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateDeploymentRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -756,27 +651,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final CreateDeploymentConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDeploymentConfigRequest, CreateDeploymentConfigResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateDeploymentConfigResult>() {
-                    @Override
-                    public CreateDeploymentConfigResult call() throws Exception {
-                        CreateDeploymentConfigResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateDeploymentConfigResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateDeploymentConfigResultJsonUnmarshaller());
 
-                        try {
-                            result = createDeploymentConfig(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateDeploymentConfigRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -791,27 +674,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final CreateDeploymentGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDeploymentGroupRequest, CreateDeploymentGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateDeploymentGroupResult>() {
-                    @Override
-                    public CreateDeploymentGroupResult call() throws Exception {
-                        CreateDeploymentGroupResult result;
-
-                        try {
-                            result = createDeploymentGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateDeploymentGroupResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateDeploymentGroupResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateDeploymentGroupRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -826,27 +697,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final DeleteApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteApplicationRequest, DeleteApplicationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteApplicationResult>() {
-                    @Override
-                    public DeleteApplicationResult call() throws Exception {
-                        DeleteApplicationResult result;
-
-                        try {
-                            result = deleteApplication(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteApplicationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteApplicationResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteApplicationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -861,27 +720,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final DeleteDeploymentConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDeploymentConfigRequest, DeleteDeploymentConfigResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDeploymentConfigResult>() {
-                    @Override
-                    public DeleteDeploymentConfigResult call() throws Exception {
-                        DeleteDeploymentConfigResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteDeploymentConfigResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteDeploymentConfigResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteDeploymentConfig(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteDeploymentConfigRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -896,27 +743,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final DeleteDeploymentGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDeploymentGroupRequest, DeleteDeploymentGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDeploymentGroupResult>() {
-                    @Override
-                    public DeleteDeploymentGroupResult call() throws Exception {
-                        DeleteDeploymentGroupResult result;
-
-                        try {
-                            result = deleteDeploymentGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteDeploymentGroupResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteDeploymentGroupResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteDeploymentGroupRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -931,28 +766,16 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final DeregisterOnPremisesInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterOnPremisesInstanceRequest, DeregisterOnPremisesInstanceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeregisterOnPremisesInstanceResult>() {
-                    @Override
-                    public DeregisterOnPremisesInstanceResult call()
-                            throws Exception {
-                        DeregisterOnPremisesInstanceResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeregisterOnPremisesInstanceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeregisterOnPremisesInstanceResultJsonUnmarshaller());
 
-                        try {
-                            result = deregisterOnPremisesInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeregisterOnPremisesInstanceRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -967,27 +790,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetApplicationRequest, GetApplicationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetApplicationResult>() {
-                    @Override
-                    public GetApplicationResult call() throws Exception {
-                        GetApplicationResult result;
-
-                        try {
-                            result = getApplication(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetApplicationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetApplicationResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetApplicationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1002,27 +813,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetApplicationRevisionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetApplicationRevisionRequest, GetApplicationRevisionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetApplicationRevisionResult>() {
-                    @Override
-                    public GetApplicationRevisionResult call() throws Exception {
-                        GetApplicationRevisionResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetApplicationRevisionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetApplicationRevisionResultJsonUnmarshaller());
 
-                        try {
-                            result = getApplicationRevision(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetApplicationRevisionRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1037,27 +836,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetDeploymentRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDeploymentRequest, GetDeploymentResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDeploymentResult>() {
-                    @Override
-                    public GetDeploymentResult call() throws Exception {
-                        GetDeploymentResult result;
-
-                        try {
-                            result = getDeployment(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetDeploymentResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDeploymentResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetDeploymentRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1072,27 +859,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetDeploymentConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDeploymentConfigRequest, GetDeploymentConfigResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDeploymentConfigResult>() {
-                    @Override
-                    public GetDeploymentConfigResult call() throws Exception {
-                        GetDeploymentConfigResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetDeploymentConfigResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDeploymentConfigResultJsonUnmarshaller());
 
-                        try {
-                            result = getDeploymentConfig(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetDeploymentConfigRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1107,27 +882,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetDeploymentGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDeploymentGroupRequest, GetDeploymentGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDeploymentGroupResult>() {
-                    @Override
-                    public GetDeploymentGroupResult call() throws Exception {
-                        GetDeploymentGroupResult result;
-
-                        try {
-                            result = getDeploymentGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetDeploymentGroupResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDeploymentGroupResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetDeploymentGroupRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1142,27 +905,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetDeploymentInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDeploymentInstanceRequest, GetDeploymentInstanceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDeploymentInstanceResult>() {
-                    @Override
-                    public GetDeploymentInstanceResult call() throws Exception {
-                        GetDeploymentInstanceResult result;
-
-                        try {
-                            result = getDeploymentInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetDeploymentInstanceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDeploymentInstanceResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetDeploymentInstanceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1177,27 +928,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final GetOnPremisesInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetOnPremisesInstanceRequest, GetOnPremisesInstanceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetOnPremisesInstanceResult>() {
-                    @Override
-                    public GetOnPremisesInstanceResult call() throws Exception {
-                        GetOnPremisesInstanceResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetOnPremisesInstanceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetOnPremisesInstanceResultJsonUnmarshaller());
 
-                        try {
-                            result = getOnPremisesInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetOnPremisesInstanceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1212,28 +951,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListApplicationRevisionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListApplicationRevisionsRequest, ListApplicationRevisionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListApplicationRevisionsResult>() {
-                    @Override
-                    public ListApplicationRevisionsResult call()
-                            throws Exception {
-                        ListApplicationRevisionsResult result;
-
-                        try {
-                            result = listApplicationRevisions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListApplicationRevisionsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListApplicationRevisionsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListApplicationRevisionsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1248,27 +974,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListApplicationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListApplicationsRequest, ListApplicationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListApplicationsResult>() {
-                    @Override
-                    public ListApplicationsResult call() throws Exception {
-                        ListApplicationsResult result;
-
-                        try {
-                            result = listApplications(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListApplicationsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListApplicationsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListApplicationsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1308,27 +1022,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListDeploymentConfigsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDeploymentConfigsRequest, ListDeploymentConfigsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListDeploymentConfigsResult>() {
-                    @Override
-                    public ListDeploymentConfigsResult call() throws Exception {
-                        ListDeploymentConfigsResult result;
-
-                        try {
-                            result = listDeploymentConfigs(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListDeploymentConfigsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListDeploymentConfigsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListDeploymentConfigsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1368,27 +1070,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListDeploymentGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDeploymentGroupsRequest, ListDeploymentGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListDeploymentGroupsResult>() {
-                    @Override
-                    public ListDeploymentGroupsResult call() throws Exception {
-                        ListDeploymentGroupsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListDeploymentGroupsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListDeploymentGroupsResultJsonUnmarshaller());
 
-                        try {
-                            result = listDeploymentGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListDeploymentGroupsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1403,28 +1093,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListDeploymentInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDeploymentInstancesRequest, ListDeploymentInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListDeploymentInstancesResult>() {
-                    @Override
-                    public ListDeploymentInstancesResult call()
-                            throws Exception {
-                        ListDeploymentInstancesResult result;
-
-                        try {
-                            result = listDeploymentInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListDeploymentInstancesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListDeploymentInstancesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListDeploymentInstancesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1439,27 +1116,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListDeploymentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDeploymentsRequest, ListDeploymentsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListDeploymentsResult>() {
-                    @Override
-                    public ListDeploymentsResult call() throws Exception {
-                        ListDeploymentsResult result;
-
-                        try {
-                            result = listDeployments(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListDeploymentsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListDeploymentsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListDeploymentsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1498,28 +1163,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final ListOnPremisesInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListOnPremisesInstancesRequest, ListOnPremisesInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListOnPremisesInstancesResult>() {
-                    @Override
-                    public ListOnPremisesInstancesResult call()
-                            throws Exception {
-                        ListOnPremisesInstancesResult result;
-
-                        try {
-                            result = listOnPremisesInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListOnPremisesInstancesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListOnPremisesInstancesResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListOnPremisesInstancesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1560,28 +1212,16 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final RegisterApplicationRevisionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterApplicationRevisionRequest, RegisterApplicationRevisionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RegisterApplicationRevisionResult>() {
-                    @Override
-                    public RegisterApplicationRevisionResult call()
-                            throws Exception {
-                        RegisterApplicationRevisionResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<RegisterApplicationRevisionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RegisterApplicationRevisionResultJsonUnmarshaller());
 
-                        try {
-                            result = registerApplicationRevision(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RegisterApplicationRevisionRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1596,28 +1236,16 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final RegisterOnPremisesInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterOnPremisesInstanceRequest, RegisterOnPremisesInstanceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RegisterOnPremisesInstanceResult>() {
-                    @Override
-                    public RegisterOnPremisesInstanceResult call()
-                            throws Exception {
-                        RegisterOnPremisesInstanceResult result;
-
-                        try {
-                            result = registerOnPremisesInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<RegisterOnPremisesInstanceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RegisterOnPremisesInstanceResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new RegisterOnPremisesInstanceRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1632,28 +1260,16 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final RemoveTagsFromOnPremisesInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromOnPremisesInstancesRequest, RemoveTagsFromOnPremisesInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveTagsFromOnPremisesInstancesResult>() {
-                    @Override
-                    public RemoveTagsFromOnPremisesInstancesResult call()
-                            throws Exception {
-                        RemoveTagsFromOnPremisesInstancesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<RemoveTagsFromOnPremisesInstancesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RemoveTagsFromOnPremisesInstancesResultJsonUnmarshaller());
 
-                        try {
-                            result = removeTagsFromOnPremisesInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RemoveTagsFromOnPremisesInstancesRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1668,27 +1284,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final StopDeploymentRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopDeploymentRequest, StopDeploymentResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StopDeploymentResult>() {
-                    @Override
-                    public StopDeploymentResult call() throws Exception {
-                        StopDeploymentResult result;
-
-                        try {
-                            result = stopDeployment(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<StopDeploymentResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StopDeploymentResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new StopDeploymentRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1703,27 +1307,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final UpdateApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateApplicationRequest, UpdateApplicationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateApplicationResult>() {
-                    @Override
-                    public UpdateApplicationResult call() throws Exception {
-                        UpdateApplicationResult result;
-
-                        try {
-                            result = updateApplication(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateApplicationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateApplicationResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateApplicationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1763,27 +1355,15 @@ public class AmazonCodeDeployAsyncClient extends AmazonCodeDeployClient
             final UpdateDeploymentGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDeploymentGroupRequest, UpdateDeploymentGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateDeploymentGroupResult>() {
-                    @Override
-                    public UpdateDeploymentGroupResult call() throws Exception {
-                        UpdateDeploymentGroupResult result;
-
-                        try {
-                            result = updateDeploymentGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateDeploymentGroupResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateDeploymentGroupResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateDeploymentGroupRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.codepipeline;
 
 import com.amazonaws.services.codepipeline.model.*;
+import com.amazonaws.services.codepipeline.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -478,27 +482,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final AcknowledgeJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<AcknowledgeJobRequest, AcknowledgeJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AcknowledgeJobResult>() {
-                    @Override
-                    public AcknowledgeJobResult call() throws Exception {
-                        AcknowledgeJobResult result;
-
-                        try {
-                            result = acknowledgeJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<AcknowledgeJobResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AcknowledgeJobResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new AcknowledgeJobRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -513,28 +505,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final AcknowledgeThirdPartyJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<AcknowledgeThirdPartyJobRequest, AcknowledgeThirdPartyJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AcknowledgeThirdPartyJobResult>() {
-                    @Override
-                    public AcknowledgeThirdPartyJobResult call()
-                            throws Exception {
-                        AcknowledgeThirdPartyJobResult result;
-
-                        try {
-                            result = acknowledgeThirdPartyJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<AcknowledgeThirdPartyJobResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AcknowledgeThirdPartyJobResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new AcknowledgeThirdPartyJobRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -549,27 +528,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final CreateCustomActionTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCustomActionTypeRequest, CreateCustomActionTypeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateCustomActionTypeResult>() {
-                    @Override
-                    public CreateCustomActionTypeResult call() throws Exception {
-                        CreateCustomActionTypeResult result;
-
-                        try {
-                            result = createCustomActionType(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateCustomActionTypeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateCustomActionTypeResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreateCustomActionTypeRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -584,27 +551,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final CreatePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePipelineRequest, CreatePipelineResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreatePipelineResult>() {
-                    @Override
-                    public CreatePipelineResult call() throws Exception {
-                        CreatePipelineResult result;
-
-                        try {
-                            result = createPipeline(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreatePipelineResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreatePipelineResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreatePipelineRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -619,27 +574,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final DeleteCustomActionTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCustomActionTypeRequest, DeleteCustomActionTypeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteCustomActionTypeResult>() {
-                    @Override
-                    public DeleteCustomActionTypeResult call() throws Exception {
-                        DeleteCustomActionTypeResult result;
-
-                        try {
-                            result = deleteCustomActionType(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteCustomActionTypeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteCustomActionTypeResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeleteCustomActionTypeRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -654,27 +597,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final DeletePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePipelineRequest, DeletePipelineResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeletePipelineResult>() {
-                    @Override
-                    public DeletePipelineResult call() throws Exception {
-                        DeletePipelineResult result;
-
-                        try {
-                            result = deletePipeline(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeletePipelineResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeletePipelineResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeletePipelineRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -689,27 +620,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final DisableStageTransitionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableStageTransitionRequest, DisableStageTransitionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableStageTransitionResult>() {
-                    @Override
-                    public DisableStageTransitionResult call() throws Exception {
-                        DisableStageTransitionResult result;
-
-                        try {
-                            result = disableStageTransition(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DisableStageTransitionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DisableStageTransitionResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DisableStageTransitionRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -724,27 +643,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final EnableStageTransitionRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableStageTransitionRequest, EnableStageTransitionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableStageTransitionResult>() {
-                    @Override
-                    public EnableStageTransitionResult call() throws Exception {
-                        EnableStageTransitionResult result;
-
-                        try {
-                            result = enableStageTransition(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<EnableStageTransitionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new EnableStageTransitionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new EnableStageTransitionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -759,27 +666,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final GetJobDetailsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetJobDetailsRequest, GetJobDetailsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetJobDetailsResult>() {
-                    @Override
-                    public GetJobDetailsResult call() throws Exception {
-                        GetJobDetailsResult result;
-
-                        try {
-                            result = getJobDetails(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetJobDetailsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetJobDetailsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetJobDetailsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -794,27 +689,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final GetPipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPipelineRequest, GetPipelineResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetPipelineResult>() {
-                    @Override
-                    public GetPipelineResult call() throws Exception {
-                        GetPipelineResult result;
-
-                        try {
-                            result = getPipeline(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetPipelineResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetPipelineResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetPipelineRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -829,27 +712,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final GetPipelineExecutionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPipelineExecutionRequest, GetPipelineExecutionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetPipelineExecutionResult>() {
-                    @Override
-                    public GetPipelineExecutionResult call() throws Exception {
-                        GetPipelineExecutionResult result;
-
-                        try {
-                            result = getPipelineExecution(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetPipelineExecutionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetPipelineExecutionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetPipelineExecutionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -864,27 +735,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final GetPipelineStateRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPipelineStateRequest, GetPipelineStateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetPipelineStateResult>() {
-                    @Override
-                    public GetPipelineStateResult call() throws Exception {
-                        GetPipelineStateResult result;
-
-                        try {
-                            result = getPipelineState(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetPipelineStateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetPipelineStateResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetPipelineStateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -899,28 +758,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final GetThirdPartyJobDetailsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetThirdPartyJobDetailsRequest, GetThirdPartyJobDetailsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetThirdPartyJobDetailsResult>() {
-                    @Override
-                    public GetThirdPartyJobDetailsResult call()
-                            throws Exception {
-                        GetThirdPartyJobDetailsResult result;
-
-                        try {
-                            result = getThirdPartyJobDetails(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetThirdPartyJobDetailsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetThirdPartyJobDetailsResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetThirdPartyJobDetailsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -935,27 +781,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final ListActionTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListActionTypesRequest, ListActionTypesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListActionTypesResult>() {
-                    @Override
-                    public ListActionTypesResult call() throws Exception {
-                        ListActionTypesResult result;
-
-                        try {
-                            result = listActionTypes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListActionTypesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListActionTypesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListActionTypesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -970,27 +804,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final ListPipelinesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPipelinesRequest, ListPipelinesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListPipelinesResult>() {
-                    @Override
-                    public ListPipelinesResult call() throws Exception {
-                        ListPipelinesResult result;
-
-                        try {
-                            result = listPipelines(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListPipelinesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListPipelinesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListPipelinesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1005,27 +827,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final PollForJobsRequest request,
             final com.amazonaws.handlers.AsyncHandler<PollForJobsRequest, PollForJobsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PollForJobsResult>() {
-                    @Override
-                    public PollForJobsResult call() throws Exception {
-                        PollForJobsResult result;
-
-                        try {
-                            result = pollForJobs(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PollForJobsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PollForJobsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PollForJobsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1040,27 +850,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final PollForThirdPartyJobsRequest request,
             final com.amazonaws.handlers.AsyncHandler<PollForThirdPartyJobsRequest, PollForThirdPartyJobsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PollForThirdPartyJobsResult>() {
-                    @Override
-                    public PollForThirdPartyJobsResult call() throws Exception {
-                        PollForThirdPartyJobsResult result;
-
-                        try {
-                            result = pollForThirdPartyJobs(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PollForThirdPartyJobsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PollForThirdPartyJobsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PollForThirdPartyJobsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1075,27 +873,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final PutActionRevisionRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutActionRevisionRequest, PutActionRevisionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutActionRevisionResult>() {
-                    @Override
-                    public PutActionRevisionResult call() throws Exception {
-                        PutActionRevisionResult result;
-
-                        try {
-                            result = putActionRevision(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutActionRevisionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutActionRevisionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutActionRevisionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1110,27 +896,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final PutApprovalResultRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutApprovalResultRequest, PutApprovalResultResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutApprovalResultResult>() {
-                    @Override
-                    public PutApprovalResultResult call() throws Exception {
-                        PutApprovalResultResult result;
-
-                        try {
-                            result = putApprovalResult(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutApprovalResultResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutApprovalResultResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutApprovalResultRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1145,27 +919,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final PutJobFailureResultRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutJobFailureResultRequest, PutJobFailureResultResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutJobFailureResultResult>() {
-                    @Override
-                    public PutJobFailureResultResult call() throws Exception {
-                        PutJobFailureResultResult result;
-
-                        try {
-                            result = putJobFailureResult(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutJobFailureResultResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutJobFailureResultResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutJobFailureResultRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1180,27 +942,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final PutJobSuccessResultRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutJobSuccessResultRequest, PutJobSuccessResultResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutJobSuccessResultResult>() {
-                    @Override
-                    public PutJobSuccessResultResult call() throws Exception {
-                        PutJobSuccessResultResult result;
-
-                        try {
-                            result = putJobSuccessResult(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutJobSuccessResultResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutJobSuccessResultResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutJobSuccessResultRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1215,28 +965,16 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final PutThirdPartyJobFailureResultRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutThirdPartyJobFailureResultRequest, PutThirdPartyJobFailureResultResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutThirdPartyJobFailureResultResult>() {
-                    @Override
-                    public PutThirdPartyJobFailureResultResult call()
-                            throws Exception {
-                        PutThirdPartyJobFailureResultResult result;
-
-                        try {
-                            result = putThirdPartyJobFailureResult(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutThirdPartyJobFailureResultResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutThirdPartyJobFailureResultResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new PutThirdPartyJobFailureResultRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1251,28 +989,16 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final PutThirdPartyJobSuccessResultRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutThirdPartyJobSuccessResultRequest, PutThirdPartyJobSuccessResultResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutThirdPartyJobSuccessResultResult>() {
-                    @Override
-                    public PutThirdPartyJobSuccessResultResult call()
-                            throws Exception {
-                        PutThirdPartyJobSuccessResultResult result;
-
-                        try {
-                            result = putThirdPartyJobSuccessResult(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutThirdPartyJobSuccessResultResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutThirdPartyJobSuccessResultResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new PutThirdPartyJobSuccessResultRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1287,27 +1013,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final RetryStageExecutionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RetryStageExecutionRequest, RetryStageExecutionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RetryStageExecutionResult>() {
-                    @Override
-                    public RetryStageExecutionResult call() throws Exception {
-                        RetryStageExecutionResult result;
-
-                        try {
-                            result = retryStageExecution(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<RetryStageExecutionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RetryStageExecutionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new RetryStageExecutionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1322,27 +1036,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final StartPipelineExecutionRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartPipelineExecutionRequest, StartPipelineExecutionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StartPipelineExecutionResult>() {
-                    @Override
-                    public StartPipelineExecutionResult call() throws Exception {
-                        StartPipelineExecutionResult result;
-
-                        try {
-                            result = startPipelineExecution(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<StartPipelineExecutionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StartPipelineExecutionResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new StartPipelineExecutionRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1357,27 +1059,15 @@ public class AWSCodePipelineAsyncClient extends AWSCodePipelineClient implements
             final UpdatePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdatePipelineRequest, UpdatePipelineResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdatePipelineResult>() {
-                    @Override
-                    public UpdatePipelineResult call() throws Exception {
-                        UpdatePipelineResult result;
-
-                        try {
-                            result = updatePipeline(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdatePipelineResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdatePipelineResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdatePipelineRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.cognitoidentity;
 
 import com.amazonaws.services.cognitoidentity.model.*;
+import com.amazonaws.services.cognitoidentity.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -323,27 +327,15 @@ public class AmazonCognitoIdentityAsyncClient extends
             final CreateIdentityPoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateIdentityPoolRequest, CreateIdentityPoolResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateIdentityPoolResult>() {
-                    @Override
-                    public CreateIdentityPoolResult call() throws Exception {
-                        CreateIdentityPoolResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateIdentityPoolResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateIdentityPoolResultJsonUnmarshaller());
 
-                        try {
-                            result = createIdentityPool(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateIdentityPoolRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -358,27 +350,15 @@ public class AmazonCognitoIdentityAsyncClient extends
             final DeleteIdentitiesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteIdentitiesRequest, DeleteIdentitiesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteIdentitiesResult>() {
-                    @Override
-                    public DeleteIdentitiesResult call() throws Exception {
-                        DeleteIdentitiesResult result;
-
-                        try {
-                            result = deleteIdentities(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteIdentitiesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteIdentitiesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteIdentitiesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -393,27 +373,15 @@ public class AmazonCognitoIdentityAsyncClient extends
             final DeleteIdentityPoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteIdentityPoolRequest, DeleteIdentityPoolResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteIdentityPoolResult>() {
-                    @Override
-                    public DeleteIdentityPoolResult call() throws Exception {
-                        DeleteIdentityPoolResult result;
-
-                        try {
-                            result = deleteIdentityPool(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteIdentityPoolResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteIdentityPoolResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteIdentityPoolRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -428,27 +396,15 @@ public class AmazonCognitoIdentityAsyncClient extends
             final DescribeIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeIdentityRequest, DescribeIdentityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeIdentityResult>() {
-                    @Override
-                    public DescribeIdentityResult call() throws Exception {
-                        DescribeIdentityResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeIdentityResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeIdentityResultJsonUnmarshaller());
 
-                        try {
-                            result = describeIdentity(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeIdentityRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -463,27 +419,15 @@ public class AmazonCognitoIdentityAsyncClient extends
             final DescribeIdentityPoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeIdentityPoolRequest, DescribeIdentityPoolResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeIdentityPoolResult>() {
-                    @Override
-                    public DescribeIdentityPoolResult call() throws Exception {
-                        DescribeIdentityPoolResult result;
-
-                        try {
-                            result = describeIdentityPool(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeIdentityPoolResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeIdentityPoolResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeIdentityPoolRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -498,28 +442,16 @@ public class AmazonCognitoIdentityAsyncClient extends
             final GetCredentialsForIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCredentialsForIdentityRequest, GetCredentialsForIdentityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetCredentialsForIdentityResult>() {
-                    @Override
-                    public GetCredentialsForIdentityResult call()
-                            throws Exception {
-                        GetCredentialsForIdentityResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetCredentialsForIdentityResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetCredentialsForIdentityResultJsonUnmarshaller());
 
-                        try {
-                            result = getCredentialsForIdentity(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new GetCredentialsForIdentityRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -534,27 +466,15 @@ public class AmazonCognitoIdentityAsyncClient extends
             final GetIdRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIdRequest, GetIdResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetIdResult>() {
-                    @Override
-                    public GetIdResult call() throws Exception {
-                        GetIdResult result;
-
-                        try {
-                            result = getId(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetIdResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetIdResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetIdRequestMarshaller(protocolFactory), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -569,27 +489,15 @@ public class AmazonCognitoIdentityAsyncClient extends
             final GetIdentityPoolRolesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIdentityPoolRolesRequest, GetIdentityPoolRolesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetIdentityPoolRolesResult>() {
-                    @Override
-                    public GetIdentityPoolRolesResult call() throws Exception {
-                        GetIdentityPoolRolesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetIdentityPoolRolesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetIdentityPoolRolesResultJsonUnmarshaller());
 
-                        try {
-                            result = getIdentityPoolRoles(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetIdentityPoolRolesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -604,27 +512,15 @@ public class AmazonCognitoIdentityAsyncClient extends
             final GetOpenIdTokenRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetOpenIdTokenRequest, GetOpenIdTokenResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetOpenIdTokenResult>() {
-                    @Override
-                    public GetOpenIdTokenResult call() throws Exception {
-                        GetOpenIdTokenResult result;
-
-                        try {
-                            result = getOpenIdToken(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetOpenIdTokenResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetOpenIdTokenResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetOpenIdTokenRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -639,28 +535,16 @@ public class AmazonCognitoIdentityAsyncClient extends
             final GetOpenIdTokenForDeveloperIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetOpenIdTokenForDeveloperIdentityRequest, GetOpenIdTokenForDeveloperIdentityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetOpenIdTokenForDeveloperIdentityResult>() {
-                    @Override
-                    public GetOpenIdTokenForDeveloperIdentityResult call()
-                            throws Exception {
-                        GetOpenIdTokenForDeveloperIdentityResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetOpenIdTokenForDeveloperIdentityResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetOpenIdTokenForDeveloperIdentityResultJsonUnmarshaller());
 
-                        try {
-                            result = getOpenIdTokenForDeveloperIdentity(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetOpenIdTokenForDeveloperIdentityRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -675,27 +559,15 @@ public class AmazonCognitoIdentityAsyncClient extends
             final ListIdentitiesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListIdentitiesRequest, ListIdentitiesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListIdentitiesResult>() {
-                    @Override
-                    public ListIdentitiesResult call() throws Exception {
-                        ListIdentitiesResult result;
-
-                        try {
-                            result = listIdentities(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListIdentitiesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListIdentitiesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListIdentitiesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -710,27 +582,15 @@ public class AmazonCognitoIdentityAsyncClient extends
             final ListIdentityPoolsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListIdentityPoolsRequest, ListIdentityPoolsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListIdentityPoolsResult>() {
-                    @Override
-                    public ListIdentityPoolsResult call() throws Exception {
-                        ListIdentityPoolsResult result;
-
-                        try {
-                            result = listIdentityPools(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListIdentityPoolsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListIdentityPoolsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListIdentityPoolsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -745,28 +605,15 @@ public class AmazonCognitoIdentityAsyncClient extends
             final LookupDeveloperIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<LookupDeveloperIdentityRequest, LookupDeveloperIdentityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<LookupDeveloperIdentityResult>() {
-                    @Override
-                    public LookupDeveloperIdentityResult call()
-                            throws Exception {
-                        LookupDeveloperIdentityResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<LookupDeveloperIdentityResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new LookupDeveloperIdentityResultJsonUnmarshaller());
 
-                        try {
-                            result = lookupDeveloperIdentity(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new LookupDeveloperIdentityRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -781,28 +628,15 @@ public class AmazonCognitoIdentityAsyncClient extends
             final MergeDeveloperIdentitiesRequest request,
             final com.amazonaws.handlers.AsyncHandler<MergeDeveloperIdentitiesRequest, MergeDeveloperIdentitiesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<MergeDeveloperIdentitiesResult>() {
-                    @Override
-                    public MergeDeveloperIdentitiesResult call()
-                            throws Exception {
-                        MergeDeveloperIdentitiesResult result;
-
-                        try {
-                            result = mergeDeveloperIdentities(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<MergeDeveloperIdentitiesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new MergeDeveloperIdentitiesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new MergeDeveloperIdentitiesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -817,27 +651,15 @@ public class AmazonCognitoIdentityAsyncClient extends
             final SetIdentityPoolRolesRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetIdentityPoolRolesRequest, SetIdentityPoolRolesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetIdentityPoolRolesResult>() {
-                    @Override
-                    public SetIdentityPoolRolesResult call() throws Exception {
-                        SetIdentityPoolRolesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<SetIdentityPoolRolesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SetIdentityPoolRolesResultJsonUnmarshaller());
 
-                        try {
-                            result = setIdentityPoolRoles(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SetIdentityPoolRolesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -852,28 +674,15 @@ public class AmazonCognitoIdentityAsyncClient extends
             final UnlinkDeveloperIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<UnlinkDeveloperIdentityRequest, UnlinkDeveloperIdentityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UnlinkDeveloperIdentityResult>() {
-                    @Override
-                    public UnlinkDeveloperIdentityResult call()
-                            throws Exception {
-                        UnlinkDeveloperIdentityResult result;
-
-                        try {
-                            result = unlinkDeveloperIdentity(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UnlinkDeveloperIdentityResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UnlinkDeveloperIdentityResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UnlinkDeveloperIdentityRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -888,27 +697,15 @@ public class AmazonCognitoIdentityAsyncClient extends
             final UnlinkIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<UnlinkIdentityRequest, UnlinkIdentityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UnlinkIdentityResult>() {
-                    @Override
-                    public UnlinkIdentityResult call() throws Exception {
-                        UnlinkIdentityResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UnlinkIdentityResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UnlinkIdentityResultJsonUnmarshaller());
 
-                        try {
-                            result = unlinkIdentity(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UnlinkIdentityRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -923,27 +720,15 @@ public class AmazonCognitoIdentityAsyncClient extends
             final UpdateIdentityPoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateIdentityPoolRequest, UpdateIdentityPoolResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateIdentityPoolResult>() {
-                    @Override
-                    public UpdateIdentityPoolResult call() throws Exception {
-                        UpdateIdentityPoolResult result;
-
-                        try {
-                            result = updateIdentityPool(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateIdentityPoolResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateIdentityPoolResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateIdentityPoolRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
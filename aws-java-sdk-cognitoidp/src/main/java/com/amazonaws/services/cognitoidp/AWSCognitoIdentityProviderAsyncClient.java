@@ -15,6 +15,10 @@
 package com.amazonaws.services.cognitoidp;
 
 import com.amazonaws.services.cognitoidp.model.*;
+import com.amazonaws.services.cognitoidp.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -293,27 +297,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AddCustomAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddCustomAttributesRequest, AddCustomAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddCustomAttributesResult>() {
-                    @Override
-                    public AddCustomAttributesResult call() throws Exception {
-                        AddCustomAttributesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AddCustomAttributesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddCustomAttributesResultJsonUnmarshaller());
 
-                        try {
-                            result = addCustomAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AddCustomAttributesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -328,27 +320,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminConfirmSignUpRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminConfirmSignUpRequest, AdminConfirmSignUpResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AdminConfirmSignUpResult>() {
-                    @Override
-                    public AdminConfirmSignUpResult call() throws Exception {
-                        AdminConfirmSignUpResult result;
-
-                        try {
-                            result = adminConfirmSignUp(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<AdminConfirmSignUpResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AdminConfirmSignUpResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AdminConfirmSignUpRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -363,27 +343,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminDeleteUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminDeleteUserRequest, AdminDeleteUserResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AdminDeleteUserResult>() {
-                    @Override
-                    public AdminDeleteUserResult call() throws Exception {
-                        AdminDeleteUserResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AdminDeleteUserResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AdminDeleteUserResultJsonUnmarshaller());
 
-                        try {
-                            result = adminDeleteUser(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AdminDeleteUserRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -398,28 +366,16 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminDeleteUserAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminDeleteUserAttributesRequest, AdminDeleteUserAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AdminDeleteUserAttributesResult>() {
-                    @Override
-                    public AdminDeleteUserAttributesResult call()
-                            throws Exception {
-                        AdminDeleteUserAttributesResult result;
-
-                        try {
-                            result = adminDeleteUserAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<AdminDeleteUserAttributesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AdminDeleteUserAttributesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new AdminDeleteUserAttributesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -434,27 +390,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminDisableUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminDisableUserRequest, AdminDisableUserResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AdminDisableUserResult>() {
-                    @Override
-                    public AdminDisableUserResult call() throws Exception {
-                        AdminDisableUserResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AdminDisableUserResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AdminDisableUserResultJsonUnmarshaller());
 
-                        try {
-                            result = adminDisableUser(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AdminDisableUserRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -469,27 +413,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminEnableUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminEnableUserRequest, AdminEnableUserResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AdminEnableUserResult>() {
-                    @Override
-                    public AdminEnableUserResult call() throws Exception {
-                        AdminEnableUserResult result;
-
-                        try {
-                            result = adminEnableUser(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<AdminEnableUserResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AdminEnableUserResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AdminEnableUserRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -504,27 +436,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminForgetDeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminForgetDeviceRequest, AdminForgetDeviceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AdminForgetDeviceResult>() {
-                    @Override
-                    public AdminForgetDeviceResult call() throws Exception {
-                        AdminForgetDeviceResult result;
-
-                        try {
-                            result = adminForgetDevice(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<AdminForgetDeviceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AdminForgetDeviceResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AdminForgetDeviceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -539,27 +459,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminGetDeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminGetDeviceRequest, AdminGetDeviceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AdminGetDeviceResult>() {
-                    @Override
-                    public AdminGetDeviceResult call() throws Exception {
-                        AdminGetDeviceResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AdminGetDeviceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AdminGetDeviceResultJsonUnmarshaller());
 
-                        try {
-                            result = adminGetDevice(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AdminGetDeviceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -574,27 +482,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminGetUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminGetUserRequest, AdminGetUserResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AdminGetUserResult>() {
-                    @Override
-                    public AdminGetUserResult call() throws Exception {
-                        AdminGetUserResult result;
-
-                        try {
-                            result = adminGetUser(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<AdminGetUserResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AdminGetUserResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AdminGetUserRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -609,27 +505,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminInitiateAuthRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminInitiateAuthRequest, AdminInitiateAuthResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AdminInitiateAuthResult>() {
-                    @Override
-                    public AdminInitiateAuthResult call() throws Exception {
-                        AdminInitiateAuthResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AdminInitiateAuthResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AdminInitiateAuthResultJsonUnmarshaller());
 
-                        try {
-                            result = adminInitiateAuth(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AdminInitiateAuthRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -644,27 +528,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminListDevicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminListDevicesRequest, AdminListDevicesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AdminListDevicesResult>() {
-                    @Override
-                    public AdminListDevicesResult call() throws Exception {
-                        AdminListDevicesResult result;
-
-                        try {
-                            result = adminListDevices(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<AdminListDevicesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AdminListDevicesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AdminListDevicesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -679,27 +551,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminResetUserPasswordRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminResetUserPasswordRequest, AdminResetUserPasswordResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AdminResetUserPasswordResult>() {
-                    @Override
-                    public AdminResetUserPasswordResult call() throws Exception {
-                        AdminResetUserPasswordResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AdminResetUserPasswordResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AdminResetUserPasswordResultJsonUnmarshaller());
 
-                        try {
-                            result = adminResetUserPassword(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AdminResetUserPasswordRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -714,28 +574,16 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminRespondToAuthChallengeRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminRespondToAuthChallengeRequest, AdminRespondToAuthChallengeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AdminRespondToAuthChallengeResult>() {
-                    @Override
-                    public AdminRespondToAuthChallengeResult call()
-                            throws Exception {
-                        AdminRespondToAuthChallengeResult result;
-
-                        try {
-                            result = adminRespondToAuthChallenge(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<AdminRespondToAuthChallengeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AdminRespondToAuthChallengeResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AdminRespondToAuthChallengeRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -750,27 +598,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminSetUserSettingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminSetUserSettingsRequest, AdminSetUserSettingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AdminSetUserSettingsResult>() {
-                    @Override
-                    public AdminSetUserSettingsResult call() throws Exception {
-                        AdminSetUserSettingsResult result;
-
-                        try {
-                            result = adminSetUserSettings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<AdminSetUserSettingsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AdminSetUserSettingsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AdminSetUserSettingsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -785,28 +621,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminUpdateDeviceStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminUpdateDeviceStatusRequest, AdminUpdateDeviceStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AdminUpdateDeviceStatusResult>() {
-                    @Override
-                    public AdminUpdateDeviceStatusResult call()
-                            throws Exception {
-                        AdminUpdateDeviceStatusResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AdminUpdateDeviceStatusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AdminUpdateDeviceStatusResultJsonUnmarshaller());
 
-                        try {
-                            result = adminUpdateDeviceStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AdminUpdateDeviceStatusRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -821,28 +644,16 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminUpdateUserAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminUpdateUserAttributesRequest, AdminUpdateUserAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AdminUpdateUserAttributesResult>() {
-                    @Override
-                    public AdminUpdateUserAttributesResult call()
-                            throws Exception {
-                        AdminUpdateUserAttributesResult result;
-
-                        try {
-                            result = adminUpdateUserAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<AdminUpdateUserAttributesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AdminUpdateUserAttributesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new AdminUpdateUserAttributesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -857,27 +668,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final AdminUserGlobalSignOutRequest request,
             final com.amazonaws.handlers.AsyncHandler<AdminUserGlobalSignOutRequest, AdminUserGlobalSignOutResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AdminUserGlobalSignOutResult>() {
-                    @Override
-                    public AdminUserGlobalSignOutResult call() throws Exception {
-                        AdminUserGlobalSignOutResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AdminUserGlobalSignOutResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AdminUserGlobalSignOutResultJsonUnmarshaller());
 
-                        try {
-                            result = adminUserGlobalSignOut(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AdminUserGlobalSignOutRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -892,27 +691,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ChangePasswordRequest request,
             final com.amazonaws.handlers.AsyncHandler<ChangePasswordRequest, ChangePasswordResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ChangePasswordResult>() {
-                    @Override
-                    public ChangePasswordResult call() throws Exception {
-                        ChangePasswordResult result;
-
-                        try {
-                            result = changePassword(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ChangePasswordResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ChangePasswordResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return anonymousAsyncInvoke(request,
+                new ChangePasswordRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -927,27 +714,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ConfirmDeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConfirmDeviceRequest, ConfirmDeviceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ConfirmDeviceResult>() {
-                    @Override
-                    public ConfirmDeviceResult call() throws Exception {
-                        ConfirmDeviceResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ConfirmDeviceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ConfirmDeviceResultJsonUnmarshaller());
 
-                        try {
-                            result = confirmDevice(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ConfirmDeviceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -962,27 +737,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ConfirmForgotPasswordRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConfirmForgotPasswordRequest, ConfirmForgotPasswordResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ConfirmForgotPasswordResult>() {
-                    @Override
-                    public ConfirmForgotPasswordResult call() throws Exception {
-                        ConfirmForgotPasswordResult result;
-
-                        try {
-                            result = confirmForgotPassword(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ConfirmForgotPasswordResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ConfirmForgotPasswordResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return anonymousAsyncInvoke(request,
+                new ConfirmForgotPasswordRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -997,27 +760,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ConfirmSignUpRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConfirmSignUpRequest, ConfirmSignUpResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ConfirmSignUpResult>() {
-                    @Override
-                    public ConfirmSignUpResult call() throws Exception {
-                        ConfirmSignUpResult result;
-
-                        try {
-                            result = confirmSignUp(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ConfirmSignUpResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ConfirmSignUpResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return anonymousAsyncInvoke(request,
+                new ConfirmSignUpRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1032,27 +783,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final CreateUserImportJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateUserImportJobRequest, CreateUserImportJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateUserImportJobResult>() {
-                    @Override
-                    public CreateUserImportJobResult call() throws Exception {
-                        CreateUserImportJobResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateUserImportJobResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateUserImportJobResultJsonUnmarshaller());
 
-                        try {
-                            result = createUserImportJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateUserImportJobRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1067,27 +806,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final CreateUserPoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateUserPoolRequest, CreateUserPoolResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateUserPoolResult>() {
-                    @Override
-                    public CreateUserPoolResult call() throws Exception {
-                        CreateUserPoolResult result;
-
-                        try {
-                            result = createUserPool(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateUserPoolResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateUserPoolResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateUserPoolRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1102,27 +829,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final CreateUserPoolClientRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateUserPoolClientRequest, CreateUserPoolClientResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateUserPoolClientResult>() {
-                    @Override
-                    public CreateUserPoolClientResult call() throws Exception {
-                        CreateUserPoolClientResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateUserPoolClientResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateUserPoolClientResultJsonUnmarshaller());
 
-                        try {
-                            result = createUserPoolClient(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateUserPoolClientRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1137,27 +852,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final DeleteUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteUserRequest, DeleteUserResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteUserResult>() {
-                    @Override
-                    public DeleteUserResult call() throws Exception {
-                        DeleteUserResult result;
-
-                        try {
-                            result = deleteUser(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteUserResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteUserResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return anonymousAsyncInvoke(request, new DeleteUserRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1172,27 +875,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final DeleteUserAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteUserAttributesRequest, DeleteUserAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteUserAttributesResult>() {
-                    @Override
-                    public DeleteUserAttributesResult call() throws Exception {
-                        DeleteUserAttributesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteUserAttributesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteUserAttributesResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteUserAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return anonymousAsyncInvoke(request,
+                new DeleteUserAttributesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1207,27 +898,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final DeleteUserPoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteUserPoolRequest, DeleteUserPoolResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteUserPoolResult>() {
-                    @Override
-                    public DeleteUserPoolResult call() throws Exception {
-                        DeleteUserPoolResult result;
-
-                        try {
-                            result = deleteUserPool(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteUserPoolResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteUserPoolResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteUserPoolRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1242,27 +921,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final DeleteUserPoolClientRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteUserPoolClientRequest, DeleteUserPoolClientResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteUserPoolClientResult>() {
-                    @Override
-                    public DeleteUserPoolClientResult call() throws Exception {
-                        DeleteUserPoolClientResult result;
-
-                        try {
-                            result = deleteUserPoolClient(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteUserPoolClientResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteUserPoolClientResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteUserPoolClientRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1277,27 +944,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final DescribeUserImportJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeUserImportJobRequest, DescribeUserImportJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeUserImportJobResult>() {
-                    @Override
-                    public DescribeUserImportJobResult call() throws Exception {
-                        DescribeUserImportJobResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeUserImportJobResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeUserImportJobResultJsonUnmarshaller());
 
-                        try {
-                            result = describeUserImportJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeUserImportJobRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1312,27 +967,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final DescribeUserPoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeUserPoolRequest, DescribeUserPoolResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeUserPoolResult>() {
-                    @Override
-                    public DescribeUserPoolResult call() throws Exception {
-                        DescribeUserPoolResult result;
-
-                        try {
-                            result = describeUserPool(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeUserPoolResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeUserPoolResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeUserPoolRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1347,27 +990,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final DescribeUserPoolClientRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeUserPoolClientRequest, DescribeUserPoolClientResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeUserPoolClientResult>() {
-                    @Override
-                    public DescribeUserPoolClientResult call() throws Exception {
-                        DescribeUserPoolClientResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeUserPoolClientResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeUserPoolClientResultJsonUnmarshaller());
 
-                        try {
-                            result = describeUserPoolClient(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeUserPoolClientRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1382,27 +1013,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ForgetDeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ForgetDeviceRequest, ForgetDeviceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ForgetDeviceResult>() {
-                    @Override
-                    public ForgetDeviceResult call() throws Exception {
-                        ForgetDeviceResult result;
-
-                        try {
-                            result = forgetDevice(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ForgetDeviceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ForgetDeviceResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ForgetDeviceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1417,27 +1036,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ForgotPasswordRequest request,
             final com.amazonaws.handlers.AsyncHandler<ForgotPasswordRequest, ForgotPasswordResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ForgotPasswordResult>() {
-                    @Override
-                    public ForgotPasswordResult call() throws Exception {
-                        ForgotPasswordResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ForgotPasswordResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ForgotPasswordResultJsonUnmarshaller());
 
-                        try {
-                            result = forgotPassword(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return anonymousAsyncInvoke(request,
+                new ForgotPasswordRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1452,27 +1059,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final GetCSVHeaderRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCSVHeaderRequest, GetCSVHeaderResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetCSVHeaderResult>() {
-                    @Override
-                    public GetCSVHeaderResult call() throws Exception {
-                        GetCSVHeaderResult result;
-
-                        try {
-                            result = getCSVHeader(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetCSVHeaderResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetCSVHeaderResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetCSVHeaderRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1487,27 +1082,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final GetDeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDeviceRequest, GetDeviceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDeviceResult>() {
-                    @Override
-                    public GetDeviceResult call() throws Exception {
-                        GetDeviceResult result;
-
-                        try {
-                            result = getDevice(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetDeviceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDeviceResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetDeviceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1522,27 +1105,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final GetUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetUserRequest, GetUserResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetUserResult>() {
-                    @Override
-                    public GetUserResult call() throws Exception {
-                        GetUserResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetUserResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetUserResultJsonUnmarshaller());
 
-                        try {
-                            result = getUser(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return anonymousAsyncInvoke(request, new GetUserRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1557,28 +1128,16 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final GetUserAttributeVerificationCodeRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetUserAttributeVerificationCodeRequest, GetUserAttributeVerificationCodeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetUserAttributeVerificationCodeResult>() {
-                    @Override
-                    public GetUserAttributeVerificationCodeResult call()
-                            throws Exception {
-                        GetUserAttributeVerificationCodeResult result;
-
-                        try {
-                            result = getUserAttributeVerificationCode(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetUserAttributeVerificationCodeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetUserAttributeVerificationCodeResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return anonymousAsyncInvoke(request,
+                new GetUserAttributeVerificationCodeRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1593,27 +1152,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final GlobalSignOutRequest request,
             final com.amazonaws.handlers.AsyncHandler<GlobalSignOutRequest, GlobalSignOutResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GlobalSignOutResult>() {
-                    @Override
-                    public GlobalSignOutResult call() throws Exception {
-                        GlobalSignOutResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GlobalSignOutResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GlobalSignOutResultJsonUnmarshaller());
 
-                        try {
-                            result = globalSignOut(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GlobalSignOutRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1628,27 +1175,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final InitiateAuthRequest request,
             final com.amazonaws.handlers.AsyncHandler<InitiateAuthRequest, InitiateAuthResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<InitiateAuthResult>() {
-                    @Override
-                    public InitiateAuthResult call() throws Exception {
-                        InitiateAuthResult result;
-
-                        try {
-                            result = initiateAuth(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<InitiateAuthResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new InitiateAuthResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new InitiateAuthRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1663,27 +1198,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ListDevicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDevicesRequest, ListDevicesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListDevicesResult>() {
-                    @Override
-                    public ListDevicesResult call() throws Exception {
-                        ListDevicesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListDevicesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListDevicesResultJsonUnmarshaller());
 
-                        try {
-                            result = listDevices(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListDevicesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1698,27 +1221,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ListUserImportJobsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListUserImportJobsRequest, ListUserImportJobsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListUserImportJobsResult>() {
-                    @Override
-                    public ListUserImportJobsResult call() throws Exception {
-                        ListUserImportJobsResult result;
-
-                        try {
-                            result = listUserImportJobs(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListUserImportJobsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListUserImportJobsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListUserImportJobsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1733,27 +1244,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ListUserPoolClientsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListUserPoolClientsRequest, ListUserPoolClientsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListUserPoolClientsResult>() {
-                    @Override
-                    public ListUserPoolClientsResult call() throws Exception {
-                        ListUserPoolClientsResult result;
-
-                        try {
-                            result = listUserPoolClients(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListUserPoolClientsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListUserPoolClientsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListUserPoolClientsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1768,27 +1267,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ListUserPoolsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListUserPoolsRequest, ListUserPoolsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListUserPoolsResult>() {
-                    @Override
-                    public ListUserPoolsResult call() throws Exception {
-                        ListUserPoolsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListUserPoolsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListUserPoolsResultJsonUnmarshaller());
 
-                        try {
-                            result = listUserPools(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListUserPoolsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1803,27 +1290,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ListUsersRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListUsersRequest, ListUsersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListUsersResult>() {
-                    @Override
-                    public ListUsersResult call() throws Exception {
-                        ListUsersResult result;
-
-                        try {
-                            result = listUsers(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListUsersResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListUsersResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListUsersRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1838,27 +1313,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final ResendConfirmationCodeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResendConfirmationCodeRequest, ResendConfirmationCodeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ResendConfirmationCodeResult>() {
-                    @Override
-                    public ResendConfirmationCodeResult call() throws Exception {
-                        ResendConfirmationCodeResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ResendConfirmationCodeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ResendConfirmationCodeResultJsonUnmarshaller());
 
-                        try {
-                            result = resendConfirmationCode(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return anonymousAsyncInvoke(request,
+                new ResendConfirmationCodeRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1873,27 +1336,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final RespondToAuthChallengeRequest request,
             final com.amazonaws.handlers.AsyncHandler<RespondToAuthChallengeRequest, RespondToAuthChallengeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RespondToAuthChallengeResult>() {
-                    @Override
-                    public RespondToAuthChallengeResult call() throws Exception {
-                        RespondToAuthChallengeResult result;
-
-                        try {
-                            result = respondToAuthChallenge(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<RespondToAuthChallengeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RespondToAuthChallengeResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RespondToAuthChallengeRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1908,27 +1359,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final SetUserSettingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetUserSettingsRequest, SetUserSettingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetUserSettingsResult>() {
-                    @Override
-                    public SetUserSettingsResult call() throws Exception {
-                        SetUserSettingsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<SetUserSettingsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SetUserSettingsResultJsonUnmarshaller());
 
-                        try {
-                            result = setUserSettings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return anonymousAsyncInvoke(request,
+                new SetUserSettingsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1943,27 +1382,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final SignUpRequest request,
             final com.amazonaws.handlers.AsyncHandler<SignUpRequest, SignUpResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SignUpResult>() {
-                    @Override
-                    public SignUpResult call() throws Exception {
-                        SignUpResult result;
-
-                        try {
-                            result = signUp(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<SignUpResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SignUpResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return anonymousAsyncInvoke(request, new SignUpRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1978,27 +1405,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final StartUserImportJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartUserImportJobRequest, StartUserImportJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StartUserImportJobResult>() {
-                    @Override
-                    public StartUserImportJobResult call() throws Exception {
-                        StartUserImportJobResult result;
-
-                        try {
-                            result = startUserImportJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<StartUserImportJobResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StartUserImportJobResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new StartUserImportJobRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2013,27 +1428,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final StopUserImportJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopUserImportJobRequest, StopUserImportJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StopUserImportJobResult>() {
-                    @Override
-                    public StopUserImportJobResult call() throws Exception {
-                        StopUserImportJobResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<StopUserImportJobResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StopUserImportJobResultJsonUnmarshaller());
 
-                        try {
-                            result = stopUserImportJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new StopUserImportJobRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2048,27 +1451,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final UpdateDeviceStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDeviceStatusRequest, UpdateDeviceStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateDeviceStatusResult>() {
-                    @Override
-                    public UpdateDeviceStatusResult call() throws Exception {
-                        UpdateDeviceStatusResult result;
-
-                        try {
-                            result = updateDeviceStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateDeviceStatusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateDeviceStatusResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateDeviceStatusRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2083,27 +1474,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final UpdateUserAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateUserAttributesRequest, UpdateUserAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateUserAttributesResult>() {
-                    @Override
-                    public UpdateUserAttributesResult call() throws Exception {
-                        UpdateUserAttributesResult result;
-
-                        try {
-                            result = updateUserAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateUserAttributesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateUserAttributesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return anonymousAsyncInvoke(request,
+                new UpdateUserAttributesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2118,27 +1497,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final UpdateUserPoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateUserPoolRequest, UpdateUserPoolResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateUserPoolResult>() {
-                    @Override
-                    public UpdateUserPoolResult call() throws Exception {
-                        UpdateUserPoolResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateUserPoolResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateUserPoolResultJsonUnmarshaller());
 
-                        try {
-                            result = updateUserPool(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateUserPoolRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2153,27 +1520,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final UpdateUserPoolClientRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateUserPoolClientRequest, UpdateUserPoolClientResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateUserPoolClientResult>() {
-                    @Override
-                    public UpdateUserPoolClientResult call() throws Exception {
-                        UpdateUserPoolClientResult result;
-
-                        try {
-                            result = updateUserPoolClient(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateUserPoolClientResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateUserPoolClientResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateUserPoolClientRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2188,27 +1543,15 @@ public class AWSCognitoIdentityProviderAsyncClient extends
             final VerifyUserAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<VerifyUserAttributeRequest, VerifyUserAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<VerifyUserAttributeResult>() {
-                    @Override
-                    public VerifyUserAttributeResult call() throws Exception {
-                        VerifyUserAttributeResult result;
-
-                        try {
-                            result = verifyUserAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<VerifyUserAttributeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new VerifyUserAttributeResultJsonUnmarshaller());
+
+        return anonymousAsyncInvoke(request,
+                new VerifyUserAttributeRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.cognitosync;
 
 import com.amazonaws.services.cognitosync.model.*;
+import com.amazonaws.services.cognitosync.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -307,27 +311,15 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final BulkPublishRequest request,
             final com.amazonaws.handlers.AsyncHandler<BulkPublishRequest, BulkPublishResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<BulkPublishResult>() {
-                    @Override
-                    public BulkPublishResult call() throws Exception {
-                        BulkPublishResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<BulkPublishResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new BulkPublishResultJsonUnmarshaller());
 
-                        try {
-                            result = bulkPublish(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new BulkPublishRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -342,27 +334,15 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final DeleteDatasetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDatasetRequest, DeleteDatasetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDatasetResult>() {
-                    @Override
-                    public DeleteDatasetResult call() throws Exception {
-                        DeleteDatasetResult result;
-
-                        try {
-                            result = deleteDataset(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteDatasetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteDatasetResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteDatasetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -377,27 +357,15 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final DescribeDatasetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDatasetRequest, DescribeDatasetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDatasetResult>() {
-                    @Override
-                    public DescribeDatasetResult call() throws Exception {
-                        DescribeDatasetResult result;
-
-                        try {
-                            result = describeDataset(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeDatasetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeDatasetResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeDatasetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -412,28 +380,16 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final DescribeIdentityPoolUsageRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeIdentityPoolUsageRequest, DescribeIdentityPoolUsageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeIdentityPoolUsageResult>() {
-                    @Override
-                    public DescribeIdentityPoolUsageResult call()
-                            throws Exception {
-                        DescribeIdentityPoolUsageResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeIdentityPoolUsageResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeIdentityPoolUsageResultJsonUnmarshaller());
 
-                        try {
-                            result = describeIdentityPoolUsage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new DescribeIdentityPoolUsageRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -448,27 +404,15 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final DescribeIdentityUsageRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeIdentityUsageRequest, DescribeIdentityUsageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeIdentityUsageResult>() {
-                    @Override
-                    public DescribeIdentityUsageResult call() throws Exception {
-                        DescribeIdentityUsageResult result;
-
-                        try {
-                            result = describeIdentityUsage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeIdentityUsageResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeIdentityUsageResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeIdentityUsageRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -483,27 +427,15 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final GetBulkPublishDetailsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetBulkPublishDetailsRequest, GetBulkPublishDetailsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetBulkPublishDetailsResult>() {
-                    @Override
-                    public GetBulkPublishDetailsResult call() throws Exception {
-                        GetBulkPublishDetailsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetBulkPublishDetailsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetBulkPublishDetailsResultJsonUnmarshaller());
 
-                        try {
-                            result = getBulkPublishDetails(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetBulkPublishDetailsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -518,27 +450,15 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final GetCognitoEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCognitoEventsRequest, GetCognitoEventsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetCognitoEventsResult>() {
-                    @Override
-                    public GetCognitoEventsResult call() throws Exception {
-                        GetCognitoEventsResult result;
-
-                        try {
-                            result = getCognitoEvents(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetCognitoEventsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetCognitoEventsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetCognitoEventsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -553,28 +473,16 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final GetIdentityPoolConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIdentityPoolConfigurationRequest, GetIdentityPoolConfigurationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetIdentityPoolConfigurationResult>() {
-                    @Override
-                    public GetIdentityPoolConfigurationResult call()
-                            throws Exception {
-                        GetIdentityPoolConfigurationResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetIdentityPoolConfigurationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetIdentityPoolConfigurationResultJsonUnmarshaller());
 
-                        try {
-                            result = getIdentityPoolConfiguration(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetIdentityPoolConfigurationRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -589,27 +497,15 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final ListDatasetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDatasetsRequest, ListDatasetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListDatasetsResult>() {
-                    @Override
-                    public ListDatasetsResult call() throws Exception {
-                        ListDatasetsResult result;
-
-                        try {
-                            result = listDatasets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListDatasetsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListDatasetsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListDatasetsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -624,27 +520,15 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final ListIdentityPoolUsageRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListIdentityPoolUsageRequest, ListIdentityPoolUsageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListIdentityPoolUsageResult>() {
-                    @Override
-                    public ListIdentityPoolUsageResult call() throws Exception {
-                        ListIdentityPoolUsageResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListIdentityPoolUsageResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListIdentityPoolUsageResultJsonUnmarshaller());
 
-                        try {
-                            result = listIdentityPoolUsage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListIdentityPoolUsageRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -659,27 +543,15 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final ListRecordsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRecordsRequest, ListRecordsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListRecordsResult>() {
-                    @Override
-                    public ListRecordsResult call() throws Exception {
-                        ListRecordsResult result;
-
-                        try {
-                            result = listRecords(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListRecordsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListRecordsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListRecordsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -694,27 +566,15 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final RegisterDeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterDeviceRequest, RegisterDeviceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RegisterDeviceResult>() {
-                    @Override
-                    public RegisterDeviceResult call() throws Exception {
-                        RegisterDeviceResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<RegisterDeviceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RegisterDeviceResultJsonUnmarshaller());
 
-                        try {
-                            result = registerDevice(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RegisterDeviceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -729,27 +589,15 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final SetCognitoEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetCognitoEventsRequest, SetCognitoEventsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetCognitoEventsResult>() {
-                    @Override
-                    public SetCognitoEventsResult call() throws Exception {
-                        SetCognitoEventsResult result;
-
-                        try {
-                            result = setCognitoEvents(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<SetCognitoEventsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SetCognitoEventsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SetCognitoEventsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -764,28 +612,16 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final SetIdentityPoolConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetIdentityPoolConfigurationRequest, SetIdentityPoolConfigurationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetIdentityPoolConfigurationResult>() {
-                    @Override
-                    public SetIdentityPoolConfigurationResult call()
-                            throws Exception {
-                        SetIdentityPoolConfigurationResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<SetIdentityPoolConfigurationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SetIdentityPoolConfigurationResultJsonUnmarshaller());
 
-                        try {
-                            result = setIdentityPoolConfiguration(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new SetIdentityPoolConfigurationRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -800,27 +636,15 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final SubscribeToDatasetRequest request,
             final com.amazonaws.handlers.AsyncHandler<SubscribeToDatasetRequest, SubscribeToDatasetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SubscribeToDatasetResult>() {
-                    @Override
-                    public SubscribeToDatasetResult call() throws Exception {
-                        SubscribeToDatasetResult result;
-
-                        try {
-                            result = subscribeToDataset(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<SubscribeToDatasetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SubscribeToDatasetResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SubscribeToDatasetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -835,27 +659,15 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final UnsubscribeFromDatasetRequest request,
             final com.amazonaws.handlers.AsyncHandler<UnsubscribeFromDatasetRequest, UnsubscribeFromDatasetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UnsubscribeFromDatasetResult>() {
-                    @Override
-                    public UnsubscribeFromDatasetResult call() throws Exception {
-                        UnsubscribeFromDatasetResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UnsubscribeFromDatasetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UnsubscribeFromDatasetResultJsonUnmarshaller());
 
-                        try {
-                            result = unsubscribeFromDataset(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UnsubscribeFromDatasetRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -870,27 +682,15 @@ public class AmazonCognitoSyncAsyncClient extends AmazonCognitoSyncClient
             final UpdateRecordsRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateRecordsRequest, UpdateRecordsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateRecordsResult>() {
-                    @Override
-                    public UpdateRecordsResult call() throws Exception {
-                        UpdateRecordsResult result;
-
-                        try {
-                            result = updateRecords(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateRecordsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateRecordsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateRecordsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.config;
 
 import com.amazonaws.services.config.model.*;
+import com.amazonaws.services.config.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -314,27 +318,15 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DeleteConfigRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteConfigRuleRequest, DeleteConfigRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteConfigRuleResult>() {
-                    @Override
-                    public DeleteConfigRuleResult call() throws Exception {
-                        DeleteConfigRuleResult result;
-
-                        try {
-                            result = deleteConfigRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteConfigRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteConfigRuleResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteConfigRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -349,28 +341,16 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DeleteConfigurationRecorderRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteConfigurationRecorderRequest, DeleteConfigurationRecorderResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteConfigurationRecorderResult>() {
-                    @Override
-                    public DeleteConfigurationRecorderResult call()
-                            throws Exception {
-                        DeleteConfigurationRecorderResult result;
-
-                        try {
-                            result = deleteConfigurationRecorder(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteConfigurationRecorderResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteConfigurationRecorderResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeleteConfigurationRecorderRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -385,27 +365,15 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DeleteDeliveryChannelRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDeliveryChannelRequest, DeleteDeliveryChannelResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDeliveryChannelResult>() {
-                    @Override
-                    public DeleteDeliveryChannelResult call() throws Exception {
-                        DeleteDeliveryChannelResult result;
-
-                        try {
-                            result = deleteDeliveryChannel(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteDeliveryChannelResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteDeliveryChannelResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteDeliveryChannelRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -420,28 +388,15 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DeleteEvaluationResultsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteEvaluationResultsRequest, DeleteEvaluationResultsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteEvaluationResultsResult>() {
-                    @Override
-                    public DeleteEvaluationResultsResult call()
-                            throws Exception {
-                        DeleteEvaluationResultsResult result;
-
-                        try {
-                            result = deleteEvaluationResults(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteEvaluationResultsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteEvaluationResultsResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeleteEvaluationResultsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -456,27 +411,15 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DeliverConfigSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeliverConfigSnapshotRequest, DeliverConfigSnapshotResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeliverConfigSnapshotResult>() {
-                    @Override
-                    public DeliverConfigSnapshotResult call() throws Exception {
-                        DeliverConfigSnapshotResult result;
-
-                        try {
-                            result = deliverConfigSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeliverConfigSnapshotResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeliverConfigSnapshotResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeliverConfigSnapshotRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -491,28 +434,16 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DescribeComplianceByConfigRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeComplianceByConfigRuleRequest, DescribeComplianceByConfigRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeComplianceByConfigRuleResult>() {
-                    @Override
-                    public DescribeComplianceByConfigRuleResult call()
-                            throws Exception {
-                        DescribeComplianceByConfigRuleResult result;
-
-                        try {
-                            result = describeComplianceByConfigRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeComplianceByConfigRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeComplianceByConfigRuleResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeComplianceByConfigRuleRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -553,28 +484,16 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DescribeComplianceByResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeComplianceByResourceRequest, DescribeComplianceByResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeComplianceByResourceResult>() {
-                    @Override
-                    public DescribeComplianceByResourceResult call()
-                            throws Exception {
-                        DescribeComplianceByResourceResult result;
-
-                        try {
-                            result = describeComplianceByResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeComplianceByResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeComplianceByResourceResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeComplianceByResourceRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -615,28 +534,16 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DescribeConfigRuleEvaluationStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConfigRuleEvaluationStatusRequest, DescribeConfigRuleEvaluationStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeConfigRuleEvaluationStatusResult>() {
-                    @Override
-                    public DescribeConfigRuleEvaluationStatusResult call()
-                            throws Exception {
-                        DescribeConfigRuleEvaluationStatusResult result;
-
-                        try {
-                            result = describeConfigRuleEvaluationStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeConfigRuleEvaluationStatusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeConfigRuleEvaluationStatusResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeConfigRuleEvaluationStatusRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -677,27 +584,15 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DescribeConfigRulesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConfigRulesRequest, DescribeConfigRulesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeConfigRulesResult>() {
-                    @Override
-                    public DescribeConfigRulesResult call() throws Exception {
-                        DescribeConfigRulesResult result;
-
-                        try {
-                            result = describeConfigRules(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeConfigRulesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeConfigRulesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeConfigRulesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -737,28 +632,16 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DescribeConfigurationRecorderStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConfigurationRecorderStatusRequest, DescribeConfigurationRecorderStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeConfigurationRecorderStatusResult>() {
-                    @Override
-                    public DescribeConfigurationRecorderStatusResult call()
-                            throws Exception {
-                        DescribeConfigurationRecorderStatusResult result;
-
-                        try {
-                            result = describeConfigurationRecorderStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeConfigurationRecorderStatusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeConfigurationRecorderStatusResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeConfigurationRecorderStatusRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -799,28 +682,16 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DescribeConfigurationRecordersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConfigurationRecordersRequest, DescribeConfigurationRecordersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeConfigurationRecordersResult>() {
-                    @Override
-                    public DescribeConfigurationRecordersResult call()
-                            throws Exception {
-                        DescribeConfigurationRecordersResult result;
-
-                        try {
-                            result = describeConfigurationRecorders(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeConfigurationRecordersResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeConfigurationRecordersResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeConfigurationRecordersRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -861,28 +732,16 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DescribeDeliveryChannelStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDeliveryChannelStatusRequest, DescribeDeliveryChannelStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDeliveryChannelStatusResult>() {
-                    @Override
-                    public DescribeDeliveryChannelStatusResult call()
-                            throws Exception {
-                        DescribeDeliveryChannelStatusResult result;
-
-                        try {
-                            result = describeDeliveryChannelStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeDeliveryChannelStatusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeDeliveryChannelStatusResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeDeliveryChannelStatusRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -923,28 +782,15 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final DescribeDeliveryChannelsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDeliveryChannelsRequest, DescribeDeliveryChannelsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDeliveryChannelsResult>() {
-                    @Override
-                    public DescribeDeliveryChannelsResult call()
-                            throws Exception {
-                        DescribeDeliveryChannelsResult result;
-
-                        try {
-                            result = describeDeliveryChannels(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeDeliveryChannelsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeDeliveryChannelsResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeDeliveryChannelsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -985,28 +831,16 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final GetComplianceDetailsByConfigRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetComplianceDetailsByConfigRuleRequest, GetComplianceDetailsByConfigRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetComplianceDetailsByConfigRuleResult>() {
-                    @Override
-                    public GetComplianceDetailsByConfigRuleResult call()
-                            throws Exception {
-                        GetComplianceDetailsByConfigRuleResult result;
-
-                        try {
-                            result = getComplianceDetailsByConfigRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetComplianceDetailsByConfigRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetComplianceDetailsByConfigRuleResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetComplianceDetailsByConfigRuleRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1021,28 +855,16 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final GetComplianceDetailsByResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetComplianceDetailsByResourceRequest, GetComplianceDetailsByResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetComplianceDetailsByResourceResult>() {
-                    @Override
-                    public GetComplianceDetailsByResourceResult call()
-                            throws Exception {
-                        GetComplianceDetailsByResourceResult result;
-
-                        try {
-                            result = getComplianceDetailsByResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetComplianceDetailsByResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetComplianceDetailsByResourceResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetComplianceDetailsByResourceRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1057,28 +879,16 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final GetComplianceSummaryByConfigRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetComplianceSummaryByConfigRuleRequest, GetComplianceSummaryByConfigRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetComplianceSummaryByConfigRuleResult>() {
-                    @Override
-                    public GetComplianceSummaryByConfigRuleResult call()
-                            throws Exception {
-                        GetComplianceSummaryByConfigRuleResult result;
-
-                        try {
-                            result = getComplianceSummaryByConfigRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetComplianceSummaryByConfigRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetComplianceSummaryByConfigRuleResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetComplianceSummaryByConfigRuleRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1119,28 +929,16 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final GetComplianceSummaryByResourceTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetComplianceSummaryByResourceTypeRequest, GetComplianceSummaryByResourceTypeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetComplianceSummaryByResourceTypeResult>() {
-                    @Override
-                    public GetComplianceSummaryByResourceTypeResult call()
-                            throws Exception {
-                        GetComplianceSummaryByResourceTypeResult result;
-
-                        try {
-                            result = getComplianceSummaryByResourceType(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetComplianceSummaryByResourceTypeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetComplianceSummaryByResourceTypeResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetComplianceSummaryByResourceTypeRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1181,28 +979,15 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final GetResourceConfigHistoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetResourceConfigHistoryRequest, GetResourceConfigHistoryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetResourceConfigHistoryResult>() {
-                    @Override
-                    public GetResourceConfigHistoryResult call()
-                            throws Exception {
-                        GetResourceConfigHistoryResult result;
-
-                        try {
-                            result = getResourceConfigHistory(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetResourceConfigHistoryResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetResourceConfigHistoryResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetResourceConfigHistoryRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1217,28 +1002,15 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final ListDiscoveredResourcesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDiscoveredResourcesRequest, ListDiscoveredResourcesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListDiscoveredResourcesResult>() {
-                    @Override
-                    public ListDiscoveredResourcesResult call()
-                            throws Exception {
-                        ListDiscoveredResourcesResult result;
-
-                        try {
-                            result = listDiscoveredResources(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListDiscoveredResourcesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListDiscoveredResourcesResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListDiscoveredResourcesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1253,27 +1025,15 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final PutConfigRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutConfigRuleRequest, PutConfigRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutConfigRuleResult>() {
-                    @Override
-                    public PutConfigRuleResult call() throws Exception {
-                        PutConfigRuleResult result;
-
-                        try {
-                            result = putConfigRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutConfigRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutConfigRuleResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutConfigRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1288,28 +1048,15 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final PutConfigurationRecorderRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutConfigurationRecorderRequest, PutConfigurationRecorderResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutConfigurationRecorderResult>() {
-                    @Override
-                    public PutConfigurationRecorderResult call()
-                            throws Exception {
-                        PutConfigurationRecorderResult result;
-
-                        try {
-                            result = putConfigurationRecorder(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutConfigurationRecorderResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutConfigurationRecorderResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new PutConfigurationRecorderRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1324,27 +1071,15 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final PutDeliveryChannelRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutDeliveryChannelRequest, PutDeliveryChannelResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutDeliveryChannelResult>() {
-                    @Override
-                    public PutDeliveryChannelResult call() throws Exception {
-                        PutDeliveryChannelResult result;
-
-                        try {
-                            result = putDeliveryChannel(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutDeliveryChannelResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutDeliveryChannelResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutDeliveryChannelRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1359,27 +1094,15 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final PutEvaluationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutEvaluationsRequest, PutEvaluationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutEvaluationsResult>() {
-                    @Override
-                    public PutEvaluationsResult call() throws Exception {
-                        PutEvaluationsResult result;
-
-                        try {
-                            result = putEvaluations(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutEvaluationsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutEvaluationsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutEvaluationsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1394,28 +1117,16 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final StartConfigRulesEvaluationRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartConfigRulesEvaluationRequest, StartConfigRulesEvaluationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StartConfigRulesEvaluationResult>() {
-                    @Override
-                    public StartConfigRulesEvaluationResult call()
-                            throws Exception {
-                        StartConfigRulesEvaluationResult result;
-
-                        try {
-                            result = startConfigRulesEvaluation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<StartConfigRulesEvaluationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StartConfigRulesEvaluationResultJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new StartConfigRulesEvaluationRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1430,28 +1141,16 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final StartConfigurationRecorderRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartConfigurationRecorderRequest, StartConfigurationRecorderResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StartConfigurationRecorderResult>() {
-                    @Override
-                    public StartConfigurationRecorderResult call()
-                            throws Exception {
-                        StartConfigurationRecorderResult result;
-
-                        try {
-                            result = startConfigurationRecorder(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<StartConfigurationRecorderResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StartConfigurationRecorderResultJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new StartConfigurationRecorderRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1466,28 +1165,16 @@ public class AmazonConfigAsyncClient extends AmazonConfigClient implements
             final StopConfigurationRecorderRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopConfigurationRecorderRequest, StopConfigurationRecorderResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StopConfigurationRecorderResult>() {
-                    @Override
-                    public StopConfigurationRecorderResult call()
-                            throws Exception {
-                        StopConfigurationRecorderResult result;
-
-                        try {
-                            result = stopConfigurationRecorder(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<StopConfigurationRecorderResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StopConfigurationRecorderResultJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new StopConfigurationRecorderRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -16,14 +16,17 @@ package com.amazonaws;
 
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.annotation.SdkProtectedApi;
+import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.auth.RegionAwareSigner;
 import com.amazonaws.auth.Signer;
 import com.amazonaws.auth.SignerFactory;
 import com.amazonaws.client.AwsSyncClientParams;
+import com.amazonaws.handlers.AsyncHandler;
 import com.amazonaws.handlers.RequestHandler;
 import com.amazonaws.handlers.RequestHandler2;
 import com.amazonaws.http.AmazonHttpClient;
 import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpResponseHandler;
 import com.amazonaws.internal.DefaultServiceEndpointBuilder;
 import com.amazonaws.internal.auth.DefaultSignerProvider;
 import com.amazonaws.internal.auth.SignerProviderContext;
@@ -33,19 +36,25 @@ import com.amazonaws.metrics.AwsSdkMetrics;
 import com.amazonaws.metrics.RequestMetricCollector;
 import com.amazonaws.regions.Region;
 import com.amazonaws.regions.Regions;
+import com.amazonaws.transform.Marshaller;
 import com.amazonaws.util.AWSRequestMetrics;
 import com.amazonaws.util.AWSRequestMetrics.Field;
 import com.amazonaws.util.AwsHostNameUtils;
 import com.amazonaws.util.Classes;
+import com.amazonaws.util.CredentialUtils;
 import com.amazonaws.util.RuntimeHttpUtils;
 import com.amazonaws.util.StringUtils;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.FutureCallback;
 
 import java.net.URI;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 
 import static com.amazonaws.SDKGlobalConfiguration.PROFILING_SYSTEM_PROPERTY;
 
@@ -361,6 +370,20 @@ public abstract class AmazonWebServiceClient {
         this.setRegion(Region.getRegion(region));
     }
 
+    /**
+     * Opens connections to the endpoint of this client ahead of the requests, so that the first
+     * requests after startup don't pay for the TCP and TLS handshakes. This is an optional
+     * method, which blocks until the connections are established.
+     *
+     * @param count
+     *            the number of connections to have open, bounded by the maximum number of
+     *            connections of the client configuration
+     * @return the number of open connections to the endpoint available for the requests
+     */
+    public int prewarmConnections(int count) {
+        return client.prewarmConnections(endpoint, count);
+    }
+
     /**
      * Shuts down this client object, releasing any resources that might be held
      * open. This is an optional method, and callers are not expected to call
@@ -443,10 +466,13 @@ public abstract class AmazonWebServiceClient {
 
     protected ExecutionContext createExecutionContext(AmazonWebServiceRequest req,
                                                       SignerProvider signerProvider) {
-        boolean isMetricsEnabled = isRequestMetricsEnabled(req) || isProfilingEnabled();
+        boolean isProfilingEnabled = isProfilingEnabled();
+        boolean isMetricsEnabled = isRequestMetricsEnabled(req) || isProfilingEnabled;
         return ExecutionContext.builder()
                 .withRequestHandler2s(requestHandler2s)
                 .withUseRequestMetrics(isMetricsEnabled)
+                .withUseCompactRequestMetrics(isMetricsEnabled && !isProfilingEnabled
+                        && isCompactRequestMetricsSupported(req))
                 .withAwsClient(this)
                 .withSignerProvider(signerProvider).build();
     }
@@ -476,6 +502,18 @@ public abstract class AmazonWebServiceClient {
         return isRMCEnabledAtClientOrSdkLevel();
     }
 
+    /**
+     * Returns true if the request metric collector that will collect the
+     * metrics of the given request supports compact request metrics.
+     */
+    private boolean isCompactRequestMetricsSupported(AmazonWebServiceRequest req) {
+        RequestMetricCollector c = req.getRequestMetricCollector(); // request level collector
+        if (c == null) {
+            c = requestMetricCollector();
+        }
+        return c != null && c.isCompactMetricsSupported();
+    }
+
     /**
      * Returns true if request metric collection is enabled at the service
      * client or AWS SDK level request; false otherwise.
@@ -590,6 +628,58 @@ public abstract class AmazonWebServiceClient {
         }
     }
 
+    /**
+     * Marshalls and sends a request without blocking the calling thread, on behalf of the asynchronous clients. The
+     * response is handled on the given completion executor (see {@link AmazonHttpClient#executeAsync(Request,
+     * HttpResponseHandler, HttpResponseHandler, ExecutionContext, FutureCallback, Executor)}); the async handler, if
+     * any, is notified before the returned future is completed. Cancelling the future aborts the request.
+     *
+     * @param originalRequest     The request given by the caller.
+     * @param marshaller          Marshaller of the request of the operation.
+     * @param responseHandler     Handler of the successful responses of the operation.
+     * @param errorResponseHandler Handler of the error responses of the service.
+     * @param credentialsProvider The credentials provider of the client; or null if the operation is not
+     *                            authenticated.
+     * @param asyncHandler        Handler notified of the result of the operation; or null if there is none.
+     * @param completionExecutor  Executor on which the response is handled and the async handler notified.
+     * @return A future for the result of the operation.
+     */
+    protected final <X, Y extends AmazonWebServiceRequest> Future<X> executeAsync(
+            Y originalRequest,
+            Marshaller<Request<Y>, Y> marshaller,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            AWSCredentialsProvider credentialsProvider,
+            AsyncHandler<Y, X> asyncHandler,
+            Executor completionExecutor) {
+        final ExecutionContext executionContext = createExecutionContext(originalRequest);
+        final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
+        awsRequestMetrics.startEvent(Field.ClientExecuteTime);
+        final AsyncInvocation<X, Y> invocation =
+                new AsyncInvocation<X, Y>(originalRequest, awsRequestMetrics, asyncHandler);
+        try {
+            awsRequestMetrics.startEvent(Field.RequestMarshallTime);
+            try {
+                invocation.request = marshaller.marshall(beforeMarshalling(originalRequest));
+                // Binds the request metrics to the current request.
+                invocation.request.setAWSRequestMetrics(awsRequestMetrics);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestMarshallTime);
+            }
+            if (credentialsProvider != null) {
+                executionContext.setCredentialsProvider(CredentialUtils.getCredentialsProvider(
+                        invocation.request.getOriginalRequest(), credentialsProvider));
+            }
+            invocation.request.setEndpoint(endpoint);
+            invocation.request.setTimeOffset(timeOffset);
+            invocation.setResponseFuture(client.executeAsync(invocation.request, responseHandler,
+                    errorResponseHandler, executionContext, invocation.responseCallback, completionExecutor));
+        } catch (RuntimeException e) {
+            invocation.fail(e);
+        }
+        return invocation;
+    }
+
     /**
      * @deprecated by {@link #getServiceName()}.
      */
@@ -828,4 +918,82 @@ public abstract class AmazonWebServiceClient {
     protected boolean calculateCRC32FromCompressedData() {
         return false;
     }
+
+    /**
+     * The future of a request sent by {@link #executeAsync}, completed from the response callback once the client
+     * execution has been ended and the async handler notified.
+     */
+    private final class AsyncInvocation<X, Y extends AmazonWebServiceRequest> extends BasicFuture<X> {
+        private final Y originalRequest;
+        private final AWSRequestMetrics awsRequestMetrics;
+        private final AsyncHandler<Y, X> asyncHandler;
+        private volatile Request<Y> request;
+        private volatile Future<Response<X>> responseFuture;
+
+        private final FutureCallback<Response<X>> responseCallback = new FutureCallback<Response<X>>() {
+            @Override
+            public void completed(Response<X> response) {
+                endClientExecution(awsRequestMetrics, request, response);
+                final X result = response.getAwsResponse();
+                if (asyncHandler != null) {
+                    try {
+                        asyncHandler.onSuccess(originalRequest, result);
+                    } catch (RuntimeException e) {
+                        AsyncInvocation.super.failed(e);
+                        return;
+                    }
+                }
+                AsyncInvocation.super.completed(result);
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                fail(ex);
+            }
+
+            @Override
+            public void cancelled() {
+                endClientExecution(awsRequestMetrics, request, null);
+                AsyncInvocation.super.cancel(true);
+            }
+        };
+
+        private AsyncInvocation(Y originalRequest, AWSRequestMetrics awsRequestMetrics,
+                                AsyncHandler<Y, X> asyncHandler) {
+            super(null);
+            this.originalRequest = originalRequest;
+            this.awsRequestMetrics = awsRequestMetrics;
+            this.asyncHandler = asyncHandler;
+        }
+
+        private void setResponseFuture(Future<Response<X>> responseFuture) {
+            this.responseFuture = responseFuture;
+            if (isCancelled()) {
+                responseFuture.cancel(true);
+            }
+        }
+
+        private void fail(Exception ex) {
+            endClientExecution(awsRequestMetrics, request, null);
+            try {
+                if (asyncHandler != null) {
+                    asyncHandler.onError(ex);
+                }
+            } finally {
+                super.failed(ex);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!super.cancel(mayInterruptIfRunning)) {
+                return false;
+            }
+            final Future<Response<X>> future = responseFuture;
+            if (future != null) {
+                future.cancel(mayInterruptIfRunning);
+            }
+            return true;
+        }
+    }
 }
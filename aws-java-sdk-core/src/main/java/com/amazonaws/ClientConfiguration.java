@@ -15,6 +15,8 @@
 package com.amazonaws;
 
 import com.amazonaws.http.IdleConnectionReaper;
+import com.amazonaws.http.apache.client.impl.ConnectionManagerAwareHttpClient;
+import com.amazonaws.http.client.HttpClientFactory;
 import com.amazonaws.retry.PredefinedRetryPolicies;
 import com.amazonaws.retry.RetryPolicy;
 import com.amazonaws.util.VersionInfoUtils;
@@ -83,6 +85,12 @@ public class ClientConfiguration {
      */
     public static final boolean DEFAULT_USE_GZIP = false;
 
+    /**
+     * The default on whether to share the connection pool with other clients of the same
+     * configuration.
+     */
+    public static final boolean DEFAULT_USE_SHARED_CONNECTION_POOL = false;
+
     /**
      * The default expiration time (in milliseconds) for a connection in the connection pool.
      */
@@ -220,6 +228,12 @@ public class ClientConfiguration {
      */
     private boolean useGzip = DEFAULT_USE_GZIP;
 
+    /**
+     * Optional whether to share the connection pool with the other clients having the same
+     * connection settings.
+     */
+    private boolean useSharedConnectionPool = DEFAULT_USE_SHARED_CONNECTION_POOL;
+
     /**
      * Optional override to control which signature algorithm should be used to sign requests to the
      * service. If not explicitly set, the client will determine the algorithm to use by inspecting
@@ -275,12 +289,26 @@ public class ClientConfiguration {
      */
     private DnsResolver dnsResolver = new SystemDefaultDnsResolver();
 
+    /**
+     * The factory of the underlying http client, or null to use the default
+     * HTTP/1.1 client.
+     */
+    private HttpClientFactory<ConnectionManagerAwareHttpClient> httpClientFactory;
+
     /**
      * An instance of {@link SecureRandom} configured by the user; or the JDK default will be used
      * if it is set to null or not explicitly configured.
      */
     private SecureRandom secureRandom;
 
+    /**
+     * The JDK default secure random, shared by the configurations which do not set their own so
+     * that their clients can also share TLS contexts and connection pools.
+     */
+    private static final class DefaultSecureRandom {
+        private static final SecureRandom INSTANCE = new SecureRandom();
+    }
+
     /**
      * Headers to be added to all requests
      */
@@ -330,11 +358,13 @@ public class ClientConfiguration {
         this.userAgentSuffix = other.userAgentSuffix;
         this.useReaper = other.useReaper;
         this.useGzip = other.useGzip;
+        this.useSharedConnectionPool = other.useSharedConnectionPool;
         this.socketReceiveBufferSizeHint = other.socketReceiveBufferSizeHint;
         this.socketSendBufferSizeHint = other.socketSendBufferSizeHint;
         this.signerOverride = other.signerOverride;
         this.responseMetadataCacheSize = other.responseMetadataCacheSize;
         this.dnsResolver = other.dnsResolver;
+        this.httpClientFactory = other.httpClientFactory;
         this.useExpectContinue = other.useExpectContinue;
         this.apacheHttpClientConfig = new ApacheHttpClientConfig(other.apacheHttpClientConfig);
         this.cacheResponseMetadata = other.cacheResponseMetadata;
@@ -1357,6 +1387,44 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Checks if the connection pool is shared with the other clients having the same connection
+     * settings (such as the maximum number of connections, the timeouts and the proxy).
+     *
+     * @return if the connection pool is shared
+     */
+    public boolean useSharedConnectionPool() {
+        return useSharedConnectionPool;
+    }
+
+    /**
+     * Sets whether the connection pool should be shared with the other clients having the same
+     * connection settings. Clients sharing a pool reuse each other's idle connections to an
+     * endpoint, including their TLS sessions, while each may still use up to
+     * {@link #getMaxConnections()} connections. The pool is closed when the last client using it
+     * is shut down.
+     *
+     * @param use
+     *            whether the connection pool should be shared
+     */
+    public void setUseSharedConnectionPool(boolean use) {
+        this.useSharedConnectionPool = use;
+    }
+
+    /**
+     * Sets whether the connection pool should be shared with the other clients having the same
+     * connection settings.
+     *
+     * @param use
+     *            whether the connection pool should be shared
+     * @return The updated ClientConfiguration object.
+     * @see #setUseSharedConnectionPool(boolean)
+     */
+    public ClientConfiguration withSharedConnectionPool(boolean use) {
+        setUseSharedConnectionPool(use);
+        return this;
+    }
+
     /**
      * Returns the optional size hints (in bytes) for the low level TCP send and receive buffers.
      * This is an advanced option for advanced users who want to tune low level TCP parameters to
@@ -1753,6 +1821,37 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Returns the factory of the underlying http client used to send
+     * synchronous requests; or null if the default HTTP/1.1 client is used.
+     */
+    public HttpClientFactory<ConnectionManagerAwareHttpClient> getHttpClientFactory() {
+        return httpClientFactory;
+    }
+
+    /**
+     * Sets the factory of the underlying http client used to send synchronous
+     * requests, e.g. a {@link com.amazonaws.http.http2.Http2HttpClientFactory}
+     * to send them over HTTP/2. The default HTTP/1.1 client is used if null.
+     */
+    public void setHttpClientFactory(
+            final HttpClientFactory<ConnectionManagerAwareHttpClient> httpClientFactory) {
+        this.httpClientFactory = httpClientFactory;
+    }
+
+    /**
+     * Sets the factory of the underlying http client used to send synchronous
+     * requests, e.g. a {@link com.amazonaws.http.http2.Http2HttpClientFactory}
+     * to send them over HTTP/2. The default HTTP/1.1 client is used if null.
+     *
+     * @return The updated ClientConfiguration object.
+     */
+    public ClientConfiguration withHttpClientFactory(
+            final HttpClientFactory<ConnectionManagerAwareHttpClient> httpClientFactory) {
+        setHttpClientFactory(httpClientFactory);
+        return this;
+    }
+
     /**
      * Returns whether or not to cache response metadata.
      * <p>
@@ -1850,9 +1949,7 @@ public class ClientConfiguration {
      * @return a non-null instance of SecureRandom.
      */
     public SecureRandom getSecureRandom() {
-        if (secureRandom == null)
-            secureRandom = new SecureRandom();
-        return secureRandom;
+        return secureRandom != null ? secureRandom : DefaultSecureRandom.INSTANCE;
     }
 
     /**
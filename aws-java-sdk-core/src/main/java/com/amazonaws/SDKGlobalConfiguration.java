@@ -211,6 +211,30 @@ public class SDKGlobalConfiguration {
      */
     public static final String AWS_CBOR_DISABLE_SYSTEM_PROPERTY = "com.amazonaws.sdk.disableCbor";
 
+    /**
+     * System property to configure the number of threads used to deliver
+     * progress events to listeners that are not safe to be called
+     * synchronously. Defaults to the number of available processors, up to 4.
+     */
+    public static final String PROGRESS_DISPATCH_THREADS_SYSTEM_PROPERTY =
+        "com.amazonaws.sdk.progressDispatchThreads";
+
+    /**
+     * System property to configure the time window, in milliseconds, over
+     * which byte transfer progress events are coalesced for each listener
+     * before being delivered asynchronously. Defaults to 50 milliseconds.
+     */
+    public static final String PROGRESS_COALESCING_WINDOW_MILLIS_SYSTEM_PROPERTY =
+        "com.amazonaws.sdk.progressCoalescingWindowMillis";
+
+    /**
+     * System property to configure the maximum number of progress events
+     * pending asynchronous delivery, beyond which publishing threads are
+     * slowed down until listeners catch up. Defaults to 10000.
+     */
+    public static final String PROGRESS_MAX_PENDING_EVENTS_SYSTEM_PROPERTY =
+        "com.amazonaws.sdk.progressMaxPendingEvents";
+
 
     /**
      * @deprecated by {@link SDKGlobalTime#setGlobalTimeOffset(int)}
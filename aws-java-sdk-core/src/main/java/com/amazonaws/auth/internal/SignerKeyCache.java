@@ -0,0 +1,149 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth.internal;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A bounded, lock-free cache of derived SigV4 signing keys, keyed by secret
+ * key, region and service name. Each cached {@link SignerKey} remembers the
+ * day it was derived for, so a lookup for a different day misses and the
+ * caller simply replaces the entry, which handles the daily rollover without
+ * a separate expiry pass.
+ * <p>
+ * When the cache grows beyond its maximum size the oldest keys are evicted in
+ * insertion order. Eviction is best effort: under concurrent inserts the size
+ * may briefly exceed the maximum by the number of racing threads.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SignerKeyCache {
+
+    private final ConcurrentHashMap<CacheKey, SignerKey> cache;
+    private final Queue<CacheKey> insertionOrder = new ConcurrentLinkedQueue<CacheKey>();
+    private final int maxSize;
+
+    /**
+     * @param maxSize
+     *            the maximum number of entries of the cache
+     */
+    public SignerKeyCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize " + maxSize
+                    + " must be at least 1");
+        }
+        this.maxSize = maxSize;
+        this.cache = new ConcurrentHashMap<CacheKey, SignerKey>(maxSize * 4 / 3 + 1);
+    }
+
+    /**
+     * Returns the signing key cached for the given secret key, region and
+     * service if it was derived for the given day; or null otherwise.
+     */
+    public byte[] get(String secretKey, String regionName, String serviceName,
+            long daysSinceEpoch) {
+        SignerKey signerKey = cache.get(new CacheKey(secretKey, regionName, serviceName));
+        if (signerKey != null && signerKey.getNumberOfDaysSinceEpoch() == daysSinceEpoch) {
+            return signerKey.getSigningKey();
+        }
+        return null;
+    }
+
+    /**
+     * Caches the signing key derived for the given secret key, region,
+     * service and day, replacing any key cached for an earlier day and
+     * evicting the oldest entries if the cache is full.
+     */
+    public void put(String secretKey, String regionName, String serviceName,
+            long daysSinceEpoch, byte[] signingKey) {
+        final CacheKey key = new CacheKey(secretKey, regionName, serviceName);
+        final SignerKey signerKey = new SignerKey(daysSinceEpoch, signingKey);
+
+        if (cache.put(key, signerKey) == null) {
+            insertionOrder.offer(key);
+            while (cache.size() > maxSize) {
+                CacheKey eldest = insertionOrder.poll();
+                if (eldest == null) {
+                    break;
+                }
+                cache.remove(eldest);
+            }
+        }
+    }
+
+    /**
+     * Returns the current size of the cache.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the maximum size of the cache.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Composite cache key. The hash code is computed once so that the key can
+     * be used for a lookup without building an intermediate string.
+     */
+    private static final class CacheKey {
+        private final String secretKey;
+        private final String regionName;
+        private final String serviceName;
+        private final int hashCode;
+
+        private CacheKey(String secretKey, String regionName, String serviceName) {
+            this.secretKey = secretKey;
+            this.regionName = regionName;
+            this.serviceName = serviceName;
+            int result = secretKey == null ? 0 : secretKey.hashCode();
+            result = 31 * result + (regionName == null ? 0 : regionName.hashCode());
+            result = 31 * result + (serviceName == null ? 0 : serviceName.hashCode());
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) o;
+            return hashCode == other.hashCode
+                    && equal(secretKey, other.secretKey)
+                    && equal(regionName, other.regionName)
+                    && equal(serviceName, other.serviceName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        private static boolean equal(String a, String b) {
+            return a == null ? b == null : a.equals(b);
+        }
+    }
+}
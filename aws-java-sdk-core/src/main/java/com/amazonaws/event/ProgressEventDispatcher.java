@@ -0,0 +1,338 @@
+/*
+ * Copyright 2014-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.event;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Delivers progress events asynchronously to listeners that are not safe to
+ * be called synchronously.
+ * <p>
+ * Each listener gets its own mailbox, which is drained by at most one pool
+ * thread at a time, so events are delivered to any given listener in the order
+ * they were published while different listeners are served in parallel. Byte
+ * transfer events published in a row to the same listener are coalesced into a
+ * single event, and a mailbox holding nothing but byte transfer events is only
+ * drained after the coalescing window has elapsed. The total number of pending
+ * deliveries is bounded; publishing threads are slowed down when the bound is
+ * reached, rather than letting the pending events grow without limit.
+ */
+final class ProgressEventDispatcher {
+    private static final Log log = LogFactory.getLog(ProgressEventDispatcher.class);
+    private static final String THREAD_NAME = "java-sdk-progress-listener-callback-thread";
+    /** Time to back off when a publishing thread finds too many pending events. */
+    private static final long PUBLISHER_BACKOFF_NANO = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final Runnable NOOP = new Runnable() {
+        @Override public void run() {}
+    };
+
+    private final ScheduledExecutorService executor;
+    private final long coalescingWindowNanos;
+    private final int maxPendingEvents;
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+    private final ConcurrentMap<ProgressListener, Mailbox> mailboxes =
+            new ConcurrentHashMap<ProgressListener, Mailbox>();
+
+    /**
+     * @param threads
+     *            number of threads used to call the listeners
+     * @param coalescingWindowMillis
+     *            time window over which byte transfer events are coalesced;
+     *            zero to deliver them as soon as a thread is available
+     * @param maxPendingEvents
+     *            maximum number of pending deliveries across all listeners
+     */
+    ProgressEventDispatcher(int threads, long coalescingWindowMillis, int maxPendingEvents) {
+        if (threads < 1 || coalescingWindowMillis < 0 || maxPendingEvents < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.coalescingWindowNanos = TimeUnit.MILLISECONDS.toNanos(coalescingWindowMillis);
+        this.maxPendingEvents = maxPendingEvents;
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(threads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new DispatcherThread(r,
+                        THREAD_NAME + "-" + threadCount.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
+
+    /**
+     * Returns the executor service used for calling the listeners.
+     */
+    ScheduledExecutorService getExecutorService() {
+        return executor;
+    }
+
+    /**
+     * Queues the given event for delivery to the given listener.
+     *
+     * @return a future that completes once the event, together with any other
+     *         event queued for the same listener in the same batch, has been
+     *         delivered.
+     */
+    Future<?> dispatch(ProgressListener listener, ProgressEvent event) {
+        return enqueue(listener, new Delivery(listener, event, null));
+    }
+
+    /**
+     * Queues the given task to be run in order with the events delivered to
+     * the given listener.
+     */
+    Future<?> dispatch(ProgressListener listener, Runnable task) {
+        return enqueue(listener, new Delivery(listener, null, task));
+    }
+
+    /**
+     * Shuts down the executor. Events published afterwards are delivered on
+     * the publishing thread.
+     */
+    void shutdown(boolean now) {
+        if (!now) {
+            executor.shutdown();
+            return;
+        }
+        executor.shutdownNow();
+        // drop whatever is pending, as the scheduled drains may have been
+        // cancelled
+        for (Mailbox mailbox: mailboxes.values()) {
+            synchronized (mailbox) {
+                mailbox.retired = true;
+                pendingEvents.addAndGet(-mailbox.deliveries.size());
+                mailbox.deliveries.clear();
+                mailboxes.remove(mailbox.listener, mailbox);
+            }
+        }
+    }
+
+    private Future<?> enqueue(ProgressListener listener, Delivery delivery) {
+        awaitCapacity();
+        while (true) {
+            Mailbox mailbox = mailboxes.get(listener);
+            if (mailbox == null) {
+                Mailbox newMailbox = new Mailbox(listener);
+                mailbox = mailboxes.putIfAbsent(listener, newMailbox);
+                if (mailbox == null) {
+                    mailbox = newMailbox;
+                }
+            }
+            final Future<?> future;
+            final boolean schedule;
+            synchronized (mailbox) {
+                if (mailbox.retired) {
+                    // lost a race with the mailbox being removed; try again
+                    continue;
+                }
+                if (!mailbox.coalesce(delivery)) {
+                    mailbox.deliveries.add(delivery);
+                    pendingEvents.incrementAndGet();
+                }
+                if (mailbox.batchFuture == null) {
+                    mailbox.batchFuture = new FutureTask<Object>(NOOP, null);
+                }
+                future = mailbox.batchFuture;
+                schedule = !mailbox.scheduled;
+                if (schedule) {
+                    mailbox.scheduled = true;
+                }
+            }
+            if (schedule) {
+                schedule(mailbox, delivery.isCoalescable() ? coalescingWindowNanos : 0);
+            }
+            return future;
+        }
+    }
+
+    /**
+     * Slows down the publishing thread while too many events are pending. The
+     * pool threads are never held back, as a listener may itself publish
+     * events.
+     */
+    private void awaitCapacity() {
+        if (pendingEvents.get() < maxPendingEvents
+        ||  Thread.currentThread() instanceof DispatcherThread) {
+            return;
+        }
+        while (pendingEvents.get() >= maxPendingEvents && !executor.isShutdown()) {
+            LockSupport.parkNanos(this, PUBLISHER_BACKOFF_NANO);
+            if (Thread.currentThread().isInterrupted()) {
+                // preserve the interrupt status and give up waiting
+                return;
+            }
+        }
+    }
+
+    private void schedule(Mailbox mailbox, long delayNanos) {
+        try {
+            executor.schedule(mailbox, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // the executor has been shut down; deliver on the current thread
+            mailbox.run();
+        }
+    }
+
+    /**
+     * A pending delivery of either a progress event or a task.
+     */
+    private static final class Delivery {
+        private final ProgressListener listener;
+        private final ProgressEvent event;
+        private final Runnable task;
+        /** Extra bytes coalesced into this delivery. */
+        private long coalescedBytes;
+
+        Delivery(ProgressListener listener, ProgressEvent event, Runnable task) {
+            this.listener = listener;
+            this.event = event;
+            this.task = task;
+        }
+
+        boolean isCoalescable() {
+            if (event == null) {
+                return false;
+            }
+            switch (event.getEventType()) {
+                case BYTE_TRANSFER_EVENT:
+                case REQUEST_BYTE_TRANSFER_EVENT:
+                case RESPONSE_BYTE_TRANSFER_EVENT:
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        void deliver() {
+            try {
+                if (task != null) {
+                    task.run();
+                } else if (coalescedBytes == 0) {
+                    listener.progressChanged(event);
+                } else {
+                    listener.progressChanged(new ProgressEvent(
+                            event.getEventType(), event.getBytes() + coalescedBytes));
+                }
+            } catch (Throwable t) {
+                // on par with the synchronous delivery where all failures
+                // from the listener are ignored
+                log.debug("Failure from the event listener", t);
+            }
+        }
+    }
+
+    /**
+     * The pending deliveries of a single listener.
+     */
+    private final class Mailbox implements Runnable {
+        private final ProgressListener listener;
+        private final ArrayDeque<Delivery> deliveries = new ArrayDeque<Delivery>();
+        /** Completed once the deliveries queued so far have been made. */
+        private FutureTask<Object> batchFuture;
+        /** True if a thread has been scheduled or is draining this mailbox. */
+        private boolean scheduled;
+        /** True once this mailbox has been removed from the map. */
+        private boolean retired;
+
+        Mailbox(ProgressListener listener) {
+            this.listener = listener;
+        }
+
+        /**
+         * Merges the given delivery into the last pending one if both are byte
+         * transfer events of the same type to the same listener. Must be
+         * called while holding the lock of this mailbox.
+         */
+        boolean coalesce(Delivery delivery) {
+            if (!delivery.isCoalescable()) {
+                return false;
+            }
+            Delivery last = deliveries.peekLast();
+            if (last == null || !last.isCoalescable()
+            ||  last.listener != delivery.listener
+            ||  last.event.getEventType() != delivery.event.getEventType()) {
+                return false;
+            }
+            last.coalescedBytes += delivery.event.getBytes();
+            return true;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                final List<Delivery> batch;
+                final FutureTask<Object> future;
+                synchronized (this) {
+                    batch = new ArrayList<Delivery>(deliveries);
+                    deliveries.clear();
+                    future = batchFuture;
+                    batchFuture = null;
+                }
+                for (Delivery delivery: batch) {
+                    delivery.deliver();
+                }
+                pendingEvents.addAndGet(-batch.size());
+                if (future != null) {
+                    future.run();
+                }
+                final long delayNanos;
+                synchronized (this) {
+                    if (deliveries.isEmpty()) {
+                        scheduled = false;
+                        retired = true;
+                        mailboxes.remove(listener, this);
+                        return;
+                    }
+                    delayNanos = deliveries.peekFirst().isCoalescable()
+                            && deliveries.size() == 1 ? coalescingWindowNanos : 0;
+                }
+                try {
+                    executor.schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // the executor has been shut down; keep draining on the
+                    // current thread
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the pool threads so they are never slowed down by the bound on
+     * pending events.
+     */
+    private static final class DispatcherThread extends Thread {
+        DispatcherThread(Runnable r, String name) {
+            super(r, name);
+        }
+    }
+}
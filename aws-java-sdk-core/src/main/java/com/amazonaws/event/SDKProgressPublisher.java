@@ -23,16 +23,22 @@ import static com.amazonaws.event.ProgressEventType.RESPONSE_CONTENT_LENGTH_EVEN
 
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
-import java.util.concurrent.ThreadFactory;
 
 import org.apache.commons.logging.LogFactory;
 
+import com.amazonaws.SDKGlobalConfiguration;
+
 /**
  * This class is responsible for executing the callback method of
- * ProgressListener; listener callbacks are executed sequentially in a separate
- * single thread.
+ * ProgressListener; listener callbacks that are not safe to be executed
+ * synchronously are executed on a small pool of threads, sequentially for any
+ * given listener, with the byte transfer events to the same listener coalesced
+ * over a short time window.
+ *
+ * @see SDKGlobalConfiguration#PROGRESS_DISPATCH_THREADS_SYSTEM_PROPERTY
+ * @see SDKGlobalConfiguration#PROGRESS_COALESCING_WINDOW_MILLIS_SYSTEM_PROPERTY
+ * @see SDKGlobalConfiguration#PROGRESS_MAX_PENDING_EVENTS_SYSTEM_PROPERTY
  */
 public class SDKProgressPublisher {
 
@@ -68,16 +74,22 @@ public class SDKProgressPublisher {
                 return quietlyCallListener(listener, event);
             }
         }
-        // Not safe to call the listener directly; so submit an async task.
+        // Not safe to call the listener directly; so dispatch asynchronously.
         // This is unfortunate as the listener should never block in the first
-        // place, but such task submission is necessary to remain backward
-        // compatible.
-        return latestFutureTask = LazyHolder.executor.submit(new Runnable() {
-            @Override
-            public void run() {
-                listener.progressChanged(event);
-            }
-        });
+        // place, but such asynchronous delivery is necessary to remain
+        // backward compatible.
+        return latestFutureTask = LazyHolder.dispatcher.dispatch(listener, event);
+    }
+
+    /**
+     * Used to run the given task asynchronously, in order with the progress
+     * events delivered asynchronously to the given listener.
+     *
+     * @return the future of the dispatched task
+     */
+    protected static Future<?> deliverTask(final ProgressListener listener,
+            final Runnable task) {
+        return latestFutureTask = LazyHolder.dispatcher.dispatch(listener, task);
     }
 
     private static Future<?> quietlyCallListener(final ProgressListener listener,
@@ -217,7 +229,7 @@ public class SDKProgressPublisher {
      * Returns the executor service used for performing the callbacks.
      */
     protected static ExecutorService getExecutorService() {
-        return LazyHolder.executor;
+        return LazyHolder.dispatcher.getExecutorService();
     }
 
     protected static Future<?> setLatestFutureTask(Future<?> f) {
@@ -238,25 +250,24 @@ public class SDKProgressPublisher {
     }
 
     /**
-     * Used to avoid creating the extra thread until absolutely necessary.
+     * Used to avoid creating the extra threads until absolutely necessary.
      */
     private static final class LazyHolder {
-        /** A single thread pool for executing all ProgressListener callbacks. **/
-        private static final ExecutorService executor = createNewExecutorService();
+        /** Dispatches all the asynchronous ProgressListener callbacks. **/
+        private static final ProgressEventDispatcher dispatcher = createDispatcher();
 
-        /**
-         * Creates a new single threaded executor service for performing the
-         * callbacks.
-         */
-        private static ExecutorService createNewExecutorService() {
-            return Executors.newSingleThreadExecutor(new ThreadFactory() {
-                public Thread newThread(Runnable r) {
-                    Thread t = new Thread(r);
-                    t.setName("java-sdk-progress-listener-callback-thread");
-                    t.setDaemon(true);
-                    return t;
-                }
-            });
+        private static ProgressEventDispatcher createDispatcher() {
+            final int threads = Integer.getInteger(
+                    SDKGlobalConfiguration.PROGRESS_DISPATCH_THREADS_SYSTEM_PROPERTY,
+                    Math.min(4, Runtime.getRuntime().availableProcessors()));
+            final long coalescingWindowMillis = Long.getLong(
+                    SDKGlobalConfiguration.PROGRESS_COALESCING_WINDOW_MILLIS_SYSTEM_PROPERTY,
+                    50L);
+            final int maxPendingEvents = Integer.getInteger(
+                    SDKGlobalConfiguration.PROGRESS_MAX_PENDING_EVENTS_SYSTEM_PROPERTY,
+                    10000);
+            return new ProgressEventDispatcher(Math.max(1, threads),
+                    Math.max(0, coalescingWindowMillis), Math.max(1, maxPendingEvents));
         }
     }
 
@@ -267,14 +278,14 @@ public class SDKProgressPublisher {
      * listeners that are short-lived (ie do not block) and are subclasses of
      * either {@link SyncProgressListener} or
      * <code>S3SyncProgressListener</code>. That way, the progress publisher
-     * (legacy) thread will never be activated in the first place.
+     * (legacy) threads will never be activated in the first place.
+     * <p>
+     * Progress events published after shutdown are delivered synchronously.
      *
-     * @param now true if shutdown now; false otherwise.
+     * @param now true if shutdown now, dropping all pending events; false
+     * otherwise.
      */
     public static void shutdown(boolean now) {
-        if (now)
-            LazyHolder.executor.shutdownNow();
-        else
-            LazyHolder.executor.shutdown();
+        LazyHolder.dispatcher.shutdown(now);
     }
 }
@@ -41,6 +41,18 @@ package com.amazonaws.handlers;
  * </pre>
  */
 public class HandlerContextKey<T> {
+
+    /**
+     * The response to a request, supplied by a request handler from {@link
+     * RequestHandler2#beforeRequest(com.amazonaws.Request)} in place of
+     * sending the request. When it is set, the request is not sent to AWS;
+     * the given object is passed to the {@link RequestHandler2#afterResponse}
+     * callbacks and returned as the result of the call, so it must be of the
+     * result type of the operation.
+     */
+    public static final HandlerContextKey<Object> PROVIDED_RESPONSE =
+            new HandlerContextKey<Object>("ProvidedResponse");
+
     private final String name;
 
     public HandlerContextKey(String name) {
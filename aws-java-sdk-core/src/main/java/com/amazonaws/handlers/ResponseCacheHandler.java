@@ -0,0 +1,471 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.handlers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+
+/**
+ * A request handler that keeps the results of read-only operations in
+ * memory, so that identical calls made within a time-to-live are answered
+ * without sending a request to AWS.
+ * <p>
+ * Caching is opt-in per operation: only requests of the classes given to
+ * {@link Builder#withOperation(Class, long, TimeUnit)} are cached, each for
+ * its own time-to-live. Two calls are identical when their marshalled
+ * requests are, that is when they have the same endpoint, HTTP method,
+ * resource path, query parameters, headers and content, ignoring the
+ * invocation id and retry headers the http client adds, and the same custom
+ * headers, custom query parameters and request credentials provider. At most
+ * {@link Builder#withMaxEntries(int)} results are kept, and the least recently
+ * used are evicted first.
+ * <p>
+ * Concurrent identical calls that miss the cache are coalesced: only the
+ * first is sent, and the others wait for its result instead of sending their
+ * own requests, for up to {@link Builder#withCoalescingTimeout(long, TimeUnit)}.
+ * Every cacheable call is counted as either a
+ * {@link Field#ResponseCacheHitCount} or a {@link Field#ResponseCacheMissCount}
+ * in the request metrics.
+ * <p>
+ * The handler is registered with a client like any other request handler:
+ *
+ * <pre class="brush: java">
+ * ResponseCacheHandler cache = new ResponseCacheHandler.Builder()
+ *         .withOperation(DescribeTableRequest.class, 10, TimeUnit.SECONDS)
+ *         .build();
+ * AmazonDynamoDB dynamoDB = AmazonDynamoDBClientBuilder.standard()
+ *         .withRequestHandlers(cache)
+ *         .build();
+ * </pre>
+ *
+ * Each call gets its own shallow copy of a cached result, made with the
+ * {@code clone()} method of the result; the lists and nested objects of the
+ * result are shared and must not be modified. The cache does not know which
+ * credentials a client signs its requests with, so a handler should not be
+ * shared between clients that use different credentials. Operations with
+ * streaming results, such as S3 GetObject, must not be cached.
+ */
+@ThreadSafe
+public class ResponseCacheHandler extends RequestHandler2 {
+
+    /** The default maximum number of results to keep. */
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    /** The default time a coalesced call waits for the result of the call it is coalesced with. */
+    public static final long DEFAULT_COALESCING_TIMEOUT_MILLIS = 10 * 1000;
+
+    /** Requests with larger content than this are never cached. */
+    private static final int MAX_CACHEABLE_CONTENT_LENGTH = 64 * 1024;
+
+    /** Headers that are unique to each call or attempt, and so are not part of its identity. */
+    private static final String[] PER_CALL_HEADERS = {
+            AmazonHttpClient.HEADER_SDK_TRANSACTION_ID,
+            AmazonHttpClient.HEADER_SDK_RETRY_INFO,
+    };
+
+    private static final HandlerContextKey<PendingCall> PENDING_CALL =
+            new HandlerContextKey<PendingCall>("ResponseCachePendingCall");
+
+    private final Map<Class<?>, Long> ttlNanosByOperation;
+    private final long coalescingTimeoutNanos;
+    private final LruCache cache;
+    private final ConcurrentMap<CacheKey, InFlightCall> inFlightCalls =
+            new ConcurrentHashMap<CacheKey, InFlightCall>();
+    private final ConcurrentMap<Class<?>, Method> cloneMethods = new ConcurrentHashMap<Class<?>, Method>();
+
+    private ResponseCacheHandler(Builder builder) {
+        this.ttlNanosByOperation = new HashMap<Class<?>, Long>(builder.ttlNanosByOperation);
+        this.coalescingTimeoutNanos = builder.coalescingTimeoutNanos;
+        this.cache = new LruCache(builder.maxEntries);
+    }
+
+    @Override
+    public void beforeRequest(Request<?> request) {
+        AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
+        Long ttlNanos = originalRequest == null ? null : ttlNanosByOperation.get(originalRequest.getClass());
+        if (ttlNanos == null) {
+            return;
+        }
+        CacheKey key = CacheKey.of(request);
+        if (key == null) {
+            return;
+        }
+
+        Object result = getCached(key);
+        if (result == null && coalescingTimeoutNanos > 0) {
+            InFlightCall call = new InFlightCall();
+            InFlightCall leader = inFlightCalls.putIfAbsent(key, call);
+            if (leader == null) {
+                miss(request, new PendingCall(key, ttlNanos, call));
+                return;
+            }
+            result = leader.await(coalescingTimeoutNanos);
+            if (result == null) {
+                // The call failed, or is taking too long: stop waiting for it
+                // and send our own request.
+                inFlightCalls.remove(key, leader);
+            }
+        }
+        if (result != null) {
+            request.addHandlerContext(HandlerContextKey.PROVIDED_RESPONSE, copyOf(result));
+            incrementCounter(request, Field.ResponseCacheHitCount);
+        } else {
+            miss(request, new PendingCall(key, ttlNanos, null));
+        }
+    }
+
+    @Override
+    public void afterResponse(Request<?> request, Response<?> response) {
+        PendingCall pending = request.getHandlerContext(PENDING_CALL);
+        if (pending == null) {
+            return;
+        }
+        Object result = response == null ? null : response.getAwsResponse();
+        if (result == null) {
+            complete(pending, null);
+            return;
+        }
+        // Keep a copy, so that changes the caller makes to its result are not
+        // seen by later calls
+        Object cached = copyOf(result);
+        synchronized (cache) {
+            cache.put(pending.key, new CacheEntry(cached, System.nanoTime() + pending.ttlNanos));
+        }
+        complete(pending, cached);
+    }
+
+    @Override
+    public void afterError(Request<?> request, Response<?> response, Exception e) {
+        PendingCall pending = request.getHandlerContext(PENDING_CALL);
+        if (pending != null) {
+            complete(pending, null);
+        }
+    }
+
+    /**
+     * Removes all the cached results.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    private Object getCached(CacheKey key) {
+        synchronized (cache) {
+            CacheEntry entry = cache.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAtNanos - System.nanoTime() <= 0) {
+                cache.remove(key);
+                return null;
+            }
+            return entry.result;
+        }
+    }
+
+    private void miss(Request<?> request, PendingCall pending) {
+        request.addHandlerContext(PENDING_CALL, pending);
+        incrementCounter(request, Field.ResponseCacheMissCount);
+    }
+
+    private void complete(PendingCall pending, Object result) {
+        if (pending.call != null) {
+            inFlightCalls.remove(pending.key, pending.call);
+            pending.call.complete(result);
+        }
+    }
+
+    private static void incrementCounter(Request<?> request, Field field) {
+        AWSRequestMetrics metrics = request.getAWSRequestMetrics();
+        if (metrics != null) {
+            metrics.incrementCounter(field);
+        }
+    }
+
+    /**
+     * Returns a shallow copy of the given result made with its public
+     * {@code clone()} method, or the result itself if it has none.
+     */
+    private Object copyOf(Object result) {
+        if (!(result instanceof Cloneable)) {
+            return result;
+        }
+        Class<?> resultClass = result.getClass();
+        Method cloneMethod = cloneMethods.get(resultClass);
+        try {
+            if (cloneMethod == null) {
+                cloneMethod = resultClass.getMethod("clone");
+                cloneMethods.put(resultClass, cloneMethod);
+            }
+            return cloneMethod.invoke(result);
+        } catch (Exception e) {
+            throw new AmazonClientException("Unable to copy the cached result of type " + resultClass.getName(), e);
+        }
+    }
+
+    /**
+     * Builder for {@link ResponseCacheHandler}.
+     */
+    public static class Builder {
+        private final Map<Class<?>, Long> ttlNanosByOperation = new HashMap<Class<?>, Long>();
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+        private long coalescingTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_COALESCING_TIMEOUT_MILLIS);
+
+        /**
+         * Caches the results of the operation with the given request class,
+         * for example {@code DescribeTableRequest.class}, for the given time.
+         * Only operations that do not change any state on the service side
+         * should be cached.
+         */
+        public Builder withOperation(Class<? extends AmazonWebServiceRequest> requestClass,
+                                     long timeToLive, TimeUnit unit) {
+            if (requestClass == null) {
+                throw new IllegalArgumentException("requestClass cannot be null");
+            }
+            if (timeToLive <= 0) {
+                throw new IllegalArgumentException("timeToLive must be positive");
+            }
+            ttlNanosByOperation.put(requestClass, unit.toNanos(timeToLive));
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of results to keep; the least recently used
+         * are evicted first. Defaults to {@link #DEFAULT_MAX_ENTRIES}.
+         */
+        public Builder withMaxEntries(int maxEntries) {
+            if (maxEntries < 1) {
+                throw new IllegalArgumentException("maxEntries must be at least 1");
+            }
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Sets how long a call waits for the result of an identical call
+         * already in flight before sending its own request. Zero disables the
+         * coalescing of concurrent calls. Defaults to
+         * {@link #DEFAULT_COALESCING_TIMEOUT_MILLIS} milliseconds.
+         */
+        public Builder withCoalescingTimeout(long timeout, TimeUnit unit) {
+            if (timeout < 0) {
+                throw new IllegalArgumentException("timeout cannot be negative");
+            }
+            this.coalescingTimeoutNanos = unit.toNanos(timeout);
+            return this;
+        }
+
+        public ResponseCacheHandler build() {
+            return new ResponseCacheHandler(this);
+        }
+    }
+
+    /**
+     * The identity of a marshalled request.
+     */
+    private static final class CacheKey {
+        private final Object[] parts;
+        private final int hashCode;
+
+        private CacheKey(Object... parts) {
+            this.parts = parts;
+            this.hashCode = Arrays.deepHashCode(parts);
+        }
+
+        /**
+         * Returns the key of the given request, or null if its content cannot
+         * be read without consuming it or is too large to be cached.
+         */
+        static CacheKey of(Request<?> request) {
+            byte[] content = readContent(request.getContent());
+            if (content == null) {
+                return null;
+            }
+            AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
+            return new CacheKey(
+                    originalRequest.getClass(),
+                    request.getServiceName(),
+                    String.valueOf(request.getEndpoint()),
+                    request.getHttpMethod(),
+                    request.getResourcePath(),
+                    new HashMap<String, List<String>>(request.getParameters()),
+                    headersOf(request),
+                    content,
+                    copyOfMap(originalRequest.getCustomRequestHeaders()),
+                    copyOfMap(originalRequest.getCustomQueryParameters()),
+                    originalRequest.getRequestCredentialsProvider());
+        }
+
+        /**
+         * Returns the headers of the request, without those that differ
+         * between otherwise identical calls, such as the invocation id the
+         * http client adds to every call.
+         */
+        private static Map<String, String> headersOf(Request<?> request) {
+            Map<String, String> headers = new HashMap<String, String>();
+            for (Map.Entry<String, String> header : request.getHeaders().entrySet()) {
+                if (!isPerCallHeader(header.getKey())) {
+                    headers.put(header.getKey(), header.getValue());
+                }
+            }
+            return headers;
+        }
+
+        private static boolean isPerCallHeader(String name) {
+            for (String perCallHeader : PER_CALL_HEADERS) {
+                if (perCallHeader.equalsIgnoreCase(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static <K, V> Map<K, V> copyOfMap(Map<K, V> map) {
+            return map == null ? null : new HashMap<K, V>(map);
+        }
+
+        private static byte[] readContent(InputStream content) {
+            if (content == null) {
+                return new byte[0];
+            }
+            if (!content.markSupported()) {
+                return null;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            content.mark(MAX_CACHEABLE_CONTENT_LENGTH + 1);
+            try {
+                try {
+                    int total = 0;
+                    int read;
+                    // Never read past the mark limit, so that the reset below
+                    // always succeeds
+                    while ((read = content.read(buffer, 0,
+                            Math.min(buffer.length, MAX_CACHEABLE_CONTENT_LENGTH + 1 - total))) > 0) {
+                        total += read;
+                        if (total > MAX_CACHEABLE_CONTENT_LENGTH) {
+                            return null;
+                        }
+                        out.write(buffer, 0, read);
+                    }
+                } finally {
+                    content.reset();
+                }
+            } catch (IOException e) {
+                throw new AmazonClientException("Unable to read the request content: " + e.getMessage(), e);
+            }
+            return out.toByteArray();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CacheKey && Arrays.deepEquals(parts, ((CacheKey) o).parts);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class CacheEntry {
+        private final Object result;
+        private final long expiresAtNanos;
+
+        private CacheEntry(Object result, long expiresAtNanos) {
+            this.result = result;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+
+    /**
+     * A call that missed the cache, and whose result is to be cached once it
+     * completes.
+     */
+    private static final class PendingCall {
+        private final CacheKey key;
+        private final long ttlNanos;
+        /** The call that identical calls are waiting for; or null if there is none. */
+        private final InFlightCall call;
+
+        private PendingCall(CacheKey key, long ttlNanos, InFlightCall call) {
+            this.key = key;
+            this.ttlNanos = ttlNanos;
+            this.call = call;
+        }
+    }
+
+    private static final class InFlightCall {
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile Object result;
+
+        void complete(Object result) {
+            this.result = result;
+            completed.countDown();
+        }
+
+        /**
+         * Returns the result of the call, or null if it failed or did not
+         * complete in time.
+         */
+        Object await(long timeoutNanos) {
+            try {
+                if (completed.await(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                    return result;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }
+    }
+
+    private static final class LruCache extends LinkedHashMap<CacheKey, CacheEntry> {
+        private static final long serialVersionUID = 1L;
+        private final int maxEntries;
+
+        LruCache(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+            return size() > maxEntries;
+        }
+    }
+}
@@ -38,9 +38,13 @@ import com.amazonaws.event.ProgressEventType;
 import com.amazonaws.event.ProgressInputStream;
 import com.amazonaws.event.ProgressListener;
 import com.amazonaws.handlers.CredentialsRequestHandler;
+import com.amazonaws.handlers.HandlerContextKey;
 import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.http.apache.client.impl.ApacheAsyncHttpClientFactory;
 import com.amazonaws.http.apache.client.impl.ApacheHttpClientFactory;
+import com.amazonaws.http.apache.client.impl.CRC32ChecksumResponseInterceptor;
 import com.amazonaws.http.apache.client.impl.ConnectionManagerAwareHttpClient;
+import com.amazonaws.http.apache.client.impl.ConnectionPrewarmer;
 import com.amazonaws.http.apache.request.impl.ApacheHttpRequestFactory;
 import com.amazonaws.http.apache.utils.ApacheUtils;
 import com.amazonaws.http.client.HttpClientFactory;
@@ -90,7 +94,10 @@ import org.apache.http.StatusLine;
 import org.apache.http.annotation.ThreadSafe;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.concurrent.BasicFuture;
+import org.apache.http.concurrent.FutureCallback;
 import org.apache.http.entity.BufferedHttpEntity;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
 import org.apache.http.pool.ConnPoolControl;
 import org.apache.http.protocol.HttpContext;
 
@@ -109,6 +116,18 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.amazonaws.SDKGlobalConfiguration.PROFILING_SYSTEM_PROPERTY;
 import static com.amazonaws.event.SDKProgressPublisher.publishProgress;
@@ -141,6 +160,16 @@ public class AmazonHttpClient {
 
     private static final HttpClientFactory<ConnectionManagerAwareHttpClient> httpClientFactory = new
             ApacheHttpClientFactory();
+
+    private static final HttpClientFactory<CloseableHttpAsyncClient> asyncHttpClientFactory = new
+            ApacheAsyncHttpClientFactory();
+
+    /**
+     * Wraps the buffered response content of asynchronous requests for CRC32 validation, which the blocking client
+     * does through a response interceptor.
+     */
+    private static final CRC32ChecksumResponseInterceptor CRC32_CHECKSUM_INTERCEPTOR =
+            new CRC32ChecksumResponseInterceptor();
     /**
      * Used for testing via failure injection.
      */
@@ -178,6 +207,22 @@ public class AmazonHttpClient {
      * Internal client for sending HTTP requests
      */
     private ConnectionManagerAwareHttpClient httpClient;
+    /**
+     * Non-blocking client used by {@link #executeAsync}; created on first use.
+     */
+    private volatile CloseableHttpAsyncClient asyncHttpClient;
+
+    /**
+     * Schedules retries and timeouts of requests sent through {@link #executeAsync}; created on first use.
+     */
+    private volatile ScheduledExecutorService asyncScheduler;
+
+    /**
+     * Handles the responses of requests sent through {@link #executeAsync} when the caller does not provide an
+     * executor of its own; created on first use.
+     */
+    private volatile ExecutorService asyncCompletionExecutor;
+
     /**
      * Client configuration options, such as proxy httpClientSettings, max retries, etc.
      */
@@ -281,7 +326,9 @@ public class AmazonHttpClient {
                             boolean calculateCRC32FromCompressedData) {
         this(config, requestMetricCollector, HttpClientSettings.adapt(config,
                 useBrowserCompatibleHostNameVerifier, calculateCRC32FromCompressedData));
-        this.httpClient = httpClientFactory.create(this.httpClientSettings);
+        this.httpClient = config.getHttpClientFactory() != null
+                ? config.getHttpClientFactory().create(this.httpClientSettings)
+                : httpClientFactory.create(this.httpClientSettings);
     }
 
     /**
@@ -403,6 +450,71 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Executes the request without blocking the calling thread, handling its response on an executor internal to
+     * this client.
+     *
+     * @see #executeAsync(Request, HttpResponseHandler, HttpResponseHandler, ExecutionContext, FutureCallback,
+     * Executor)
+     */
+    public <T> Future<Response<T>> executeAsync(Request<?> request,
+                                                HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                                                HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                                                ExecutionContext executionContext,
+                                                FutureCallback<Response<T>> callback) {
+        return executeAsync(request, responseHandler, errorResponseHandler, executionContext, callback,
+                getAsyncCompletionExecutor());
+    }
+
+    /**
+     * Executes the request without blocking the calling thread. The request is sent through a non-blocking HTTP
+     * client, and retries are scheduled rather than slept on, so the number of requests in flight is bounded by the
+     * connection pool instead of the number of threads. The returned future, and the callback if there is one, are
+     * completed once the response has been unmarshalled, or once the request has finally failed.
+     * <p>
+     * The I/O dispatcher threads of the non-blocking client are never used to run SDK or user code: the response
+     * of each attempt is checked and unmarshalled, the request handlers are run and the callback is notified on
+     * the completion executor, which also signs and sends the retries.
+     * <p>
+     * The response content is buffered in memory before it is unmarshalled, so operations with streaming responses
+     * are not supported.
+     *
+     * @param request              The AmazonWebServices request to send to the remote server
+     * @param responseHandler      A response handler to accept a successful response from the remote server
+     * @param errorResponseHandler A response handler to accept an unsuccessful response from the remote server
+     * @param executionContext     Additional information about the context of this web service call
+     * @param callback             Callback notified on completion of the request; or null if there is none.
+     * @param completionExecutor   Executor on which responses are handled and retries are sent.
+     */
+    public <T> Future<Response<T>> executeAsync(Request<?> request,
+                                                HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                                                HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                                                ExecutionContext executionContext,
+                                                FutureCallback<Response<T>> callback,
+                                                Executor completionExecutor) {
+        if (completionExecutor == null) {
+            throw new IllegalArgumentException("A completion executor is required");
+        }
+        if (executionContext == null) {
+            throw new AmazonClientException("Internal SDK Error: No execution context parameter specified.");
+        }
+        final HttpResponseHandler<AmazonWebServiceResponse<T>> nonNullResponseHandler =
+                getNonNullResponseHandler(responseHandler);
+        if (nonNullResponseHandler.needsConnectionLeftOpen()) {
+            throw new IllegalArgumentException(
+                    "Operations with streaming responses cannot be executed asynchronously");
+        }
+        final HttpResponseHandler<T> awsResponseHandler = new AwsResponseHandlerAdapter<T>(
+                nonNullResponseHandler,
+                request,
+                executionContext.getAwsRequestMetrics(),
+                responseMetadataCache);
+        final AsyncRequestExecution<T> execution = new AsyncRequestExecution<T>(request, awsResponseHandler,
+                getNonNullResponseHandler(errorResponseHandler), executionContext, callback, completionExecutor);
+        execution.start();
+        return execution.future;
+    }
+
     /**
      * Ensures the response handler is not null. If it is this method returns a dummy response handler.
      *
@@ -459,21 +571,9 @@ public class AmazonHttpClient {
 
         AmazonWebServiceRequest awsreq = request.getOriginalRequest();
 
-        setSdkTransactionId(request);
-        setUserAgent(request);
+        addDefaultHeadersAndParameters(request);
 
         ProgressListener listener = awsreq.getGeneralProgressListener();
-        // add custom headers
-        request.getHeaders().putAll(config.getHeaders());
-        Map<String, String> customHeaders = awsreq.getCustomRequestHeaders();
-        if (customHeaders != null) {
-            request.getHeaders().putAll(customHeaders);
-        }
-        // add custom query parameters
-        Map<String, List<String>> customQueryParams = awsreq.getCustomQueryParameters();
-        if (customQueryParams != null) {
-            mergeQueryParameters(request, customQueryParams);
-        }
         final AWSRequestMetrics awsRequestMetrics = executionContext.getAwsRequestMetrics();
         Response<T> response = null;
         final InputStream origContent = request.getContent();
@@ -484,8 +584,11 @@ public class AmazonHttpClient {
         request.setContent(notCloseable);
         try {
             publishProgress(listener, ProgressEventType.CLIENT_REQUEST_STARTED_EVENT);
-            response = executeHelper(request, responseHandler, errorResponseHandler, executionContext,
-                    requestHandler2s);
+            final Object providedResponse = request.getHandlerContext(HandlerContextKey.PROVIDED_RESPONSE);
+            response = providedResponse != null
+                    ? AmazonHttpClient.<T>providedResponse(request, providedResponse)
+                    : executeHelper(request, responseHandler, errorResponseHandler, executionContext,
+                            requestHandler2s);
             publishProgress(listener, ProgressEventType.CLIENT_REQUEST_SUCCESS_EVENT);
             TimingInfo timingInfo = awsRequestMetrics.getTimingInfo().endTiming();
             afterResponse(request, requestHandler2s, response, timingInfo);
@@ -501,6 +604,40 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Wraps the response that a request handler supplied in place of sending the request.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> Response<T> providedResponse(Request<?> request, Object awsResponse) {
+        HttpResponse httpResponse = new HttpResponse(request, null);
+        httpResponse.setStatusCode(HttpStatus.SC_OK);
+        httpResponse.setStatusText("OK");
+        return new Response<T>((T) awsResponse, httpResponse);
+    }
+
+    /**
+     * Adds the SDK transaction id, user agent, client configuration headers and any custom headers
+     * and query parameters of the original request to the given request.
+     */
+    private void addDefaultHeadersAndParameters(Request<?> request) {
+        AmazonWebServiceRequest awsreq = request.getOriginalRequest();
+
+        setSdkTransactionId(request);
+        setUserAgent(request);
+
+        // add custom headers
+        request.getHeaders().putAll(config.getHeaders());
+        Map<String, String> customHeaders = awsreq.getCustomRequestHeaders();
+        if (customHeaders != null) {
+            request.getHeaders().putAll(customHeaders);
+        }
+        // add custom query parameters
+        Map<String, List<String>> customQueryParams = awsreq.getCustomQueryParameters();
+        if (customQueryParams != null) {
+            mergeQueryParameters(request, customQueryParams);
+        }
+    }
+
     /**
      * Determine if an interrupted exception is caused by the client execution timer interrupting the current thread or
      * some other task interrupting the thread for another purpose.
@@ -637,10 +774,12 @@ public class AmazonHttpClient {
                             Response<?> response,
                             List<RequestHandler2> requestHandler2s,
                             AmazonClientException e) throws InterruptedException {
+        // Let every handler see the end of the request, even if interrupted,
+        // so that none of them is left waiting for it
         for (RequestHandler2 handler2 : requestHandler2s) {
             handler2.afterError(request, response, e);
-            checkInterrupted(response);
         }
+        checkInterrupted(response);
     }
 
     private <T> void afterResponse(Request<?> request,
@@ -649,8 +788,8 @@ public class AmazonHttpClient {
                                    TimingInfo timingInfo) throws InterruptedException {
         for (RequestHandler2 handler2 : requestHandler2s) {
             handler2.afterResponse(request, response);
-            checkInterrupted(response);
         }
+        checkInterrupted(response);
     }
 
     private List<RequestHandler2> requestHandler2s(Request<?> request, ExecutionContext executionContext) {
@@ -660,17 +799,41 @@ public class AmazonHttpClient {
         }
         // Apply any additional service specific request handlers that need
         // to be run
-        for (RequestHandler2 requestHandler2 : requestHandler2s) {
-            // If the request handler is a type of CredentialsRequestHandler,
-            // then set the credentials in the request handler.
-            if (requestHandler2 instanceof CredentialsRequestHandler)
-                ((CredentialsRequestHandler) requestHandler2).setCredentials(
-                        executionContext.getCredentialsProvider().getCredentials());
-            requestHandler2.beforeRequest(request);
+        for (int i = 0; i < requestHandler2s.size(); i++) {
+            RequestHandler2 requestHandler2 = requestHandler2s.get(i);
+            try {
+                // If the request handler is a type of CredentialsRequestHandler,
+                // then set the credentials in the request handler.
+                if (requestHandler2 instanceof CredentialsRequestHandler)
+                    ((CredentialsRequestHandler) requestHandler2).setCredentials(
+                            executionContext.getCredentialsProvider().getCredentials());
+                requestHandler2.beforeRequest(request);
+            } catch (RuntimeException e) {
+                abortBeforeRequest(request, requestHandler2s.subList(0, i), e);
+                throw e;
+            }
         }
         return requestHandler2s;
     }
 
+    /**
+     * Ends the request for the handlers that have already seen it, when the
+     * request cannot be sent because another handler failed before it.
+     */
+    private void abortBeforeRequest(Request<?> request, List<RequestHandler2> startedHandlers,
+                                    RuntimeException cause) {
+        AmazonClientException ace = cause instanceof AmazonClientException
+                ? (AmazonClientException) cause
+                : new AmazonClientException("Unable to execute request: " + cause.getMessage(), cause);
+        for (RequestHandler2 handler2 : startedHandlers) {
+            try {
+                handler2.afterError(request, null, ace);
+            } catch (RuntimeException e) {
+                log.warn("Request handler failed while handling the error of a request", e);
+            }
+        }
+    }
+
     /**
      * Internal method to execute the HTTP method given.
      */
@@ -703,35 +866,8 @@ public class AmazonHttpClient {
         }
         while (true) {
             checkInterrupted();
-            if (originalContent instanceof BufferedInputStream && originalContent.markSupported()) {
-                // Mark everytime for BufferedInputStream, since the marker could
-                // have been invalidated
-                AmazonWebServiceRequest awsreq = request.getOriginalRequest();
-                final int readLimit = awsreq.getRequestClientOptions().getReadLimit();
-                originalContent.mark(readLimit);
-            }
-            execOneParams.initPerRetry();
-            if (execOneParams.redirectedURI != null) {
-                /*
-                 * [scheme:][//authority][path][?query][#fragment]
-                 */
-                String scheme = execOneParams.redirectedURI.getScheme();
-                String beforeAuthority = scheme == null ? "" : scheme + "://";
-                String authority = execOneParams.redirectedURI.getAuthority();
-                String path = execOneParams.redirectedURI.getPath();
-
-                request.setEndpoint(URI.create(beforeAuthority + authority));
-                request.setResourcePath(SdkHttpUtils.urlEncode(path, true));
-            }
-            if (execOneParams.authRetryParam != null) {
-                request.setEndpoint(execOneParams.authRetryParam.getEndpointForRetry());
-            }
-            awsRequestMetrics.setCounter(Field.RequestCount, execOneParams.requestCount);
-            if (execOneParams.isRetry()) {
-                request.setParameters(originalParameters);
-                request.setHeaders(originalHeaders);
-                request.setContent(originalContent);
-            }
+            initPerAttempt(request, awsRequestMetrics, execOneParams, originalParameters, originalHeaders,
+                    originalContent);
             try {
                 Response<T> response = executeOneRequest(request, responseHandler, errorResponseHandler,
                         executionContext, awsRequestMetrics, execOneParams, requestHandlers);
@@ -743,8 +879,9 @@ public class AmazonHttpClient {
                 awsRequestMetrics.addProperty(Field.AWSRequestID, null);
                 AmazonClientException ace = new AmazonClientException(
                         "Unable to execute HTTP request: " + ioe.getMessage(), ioe);
-                boolean willRetry = shouldRetry(request.getOriginalRequest(), execOneParams, ace,
-                        executionContext);
+                config.getRetryPolicy().getRetryThrottlingStrategy()
+                        .attemptCompleted(request.getEndpoint(), ace, execOneParams.isRetry());
+                boolean willRetry = shouldRetry(request, execOneParams, ace, executionContext);
                 if (log.isTraceEnabled()) {
                     log.trace(ace.getMessage() + (willRetry ? " Request will be retried." : ""), ioe);
                 } else if (log.isDebugEnabled()) {
@@ -782,6 +919,47 @@ public class AmazonHttpClient {
         } /* end while (true) */
     }
 
+    /**
+     * Prepares the request for the next attempt, restoring the original parameters, headers and
+     * content on a retry and pointing it at the redirect or auth retry endpoint if there is one.
+     */
+    private void initPerAttempt(final Request<?> request,
+                                final AWSRequestMetrics awsRequestMetrics,
+                                final ExecOneRequestParams execOneParams,
+                                final Map<String, List<String>> originalParameters,
+                                final Map<String, String> originalHeaders,
+                                final InputStream originalContent) {
+        if (originalContent instanceof BufferedInputStream && originalContent.markSupported()) {
+            // Mark everytime for BufferedInputStream, since the marker could
+            // have been invalidated
+            AmazonWebServiceRequest awsreq = request.getOriginalRequest();
+            final int readLimit = awsreq.getRequestClientOptions().getReadLimit();
+            originalContent.mark(readLimit);
+        }
+        execOneParams.initPerRetry();
+        if (execOneParams.redirectedURI != null) {
+            /*
+             * [scheme:][//authority][path][?query][#fragment]
+             */
+            String scheme = execOneParams.redirectedURI.getScheme();
+            String beforeAuthority = scheme == null ? "" : scheme + "://";
+            String authority = execOneParams.redirectedURI.getAuthority();
+            String path = execOneParams.redirectedURI.getPath();
+
+            request.setEndpoint(URI.create(beforeAuthority + authority));
+            request.setResourcePath(SdkHttpUtils.urlEncode(path, true));
+        }
+        if (execOneParams.authRetryParam != null) {
+            request.setEndpoint(execOneParams.authRetryParam.getEndpointForRetry());
+        }
+        awsRequestMetrics.setCounter(Field.RequestCount, execOneParams.requestCount);
+        if (execOneParams.isRetry()) {
+            request.setParameters(originalParameters);
+            request.setHeaders(originalHeaders);
+            request.setContent(originalContent);
+        }
+    }
+
     /**
      * Used to perform a last reset on the content input stream (if mark-supported); this is so that, for backward
      * compatibility reason, any "blind" retry (ie without calling reset) by user of this library with the same input
@@ -848,43 +1026,20 @@ public class AmazonHttpClient {
         if (execOneParams.isRetry()) {
             pauseBeforeRetry(request, awsRequestMetrics, execOneParams, listener);
         }
-        updateRetryHeaderInfo(request, execOneParams);
-
-        // Sign the request if a signer was provided
-        execOneParams.newSigner(request, execContext);
-        if (execOneParams.signer != null && (credentials != null || execOneParams.signer instanceof CanHandleNullCredentials)) {
-            awsRequestMetrics.startEvent(Field.RequestSigningTime);
-            try {
-                if (timeOffset != 0) {
-                    // Always use the client level timeOffset if it was
-                    // non-zero; Otherwise, we respect the timeOffset in the
-                    // request, which could have been externally configured (at
-                    // least for the 1st non-retry request).
-                    //
-                    // For retry due to clock skew, the timeOffset in the
-                    // request used for the retry is assumed to have been
-                    // adjusted when execution reaches here.
-                    request.setTimeOffset(timeOffset);
-                }
-                execOneParams.signer.sign(request, credentials);
-            } finally {
-                awsRequestMetrics.endEvent(Field.RequestSigningTime);
-            }
+        final long throttleDelay = config.getRetryPolicy().getRetryThrottlingStrategy()
+                .reserveAttempt(request.getEndpoint());
+        if (throttleDelay > 0) {
+            Thread.sleep(throttleDelay);
         }
+        updateRetryHeaderInfo(request, execOneParams);
+        signRequest(request, credentials, execContext, awsRequestMetrics, execOneParams);
 
         checkInterrupted();
         execOneParams.newApacheRequest(httpRequestFactory, request, httpClientSettings);
 
         captureConnectionPoolMetrics(awsRequestMetrics);
 
-        final HttpClientContext localRequestContext =
-                ApacheUtils.newClientContext(httpClientSettings, ImmutableMapParameter.of
-                        (AWSRequestMetrics.class.getSimpleName(), awsRequestMetrics));
-
-        execOneParams.resetBeforeHttpRequest();
-        publishProgress(listener, ProgressEventType.HTTP_REQUEST_STARTED_EVENT);
-        awsRequestMetrics.startEvent(Field.HttpRequestTime);
-        awsRequestMetrics.setCounter(Field.RetryCapacityConsumed, retryCapacity.consumedCapacity());
+        final HttpClientContext localRequestContext = newRequestContext(awsRequestMetrics, execOneParams, listener);
 
         /////////// Send HTTP request ////////////
         execContext.getClientExecutionTrackerTask().setCurrentHttpRequest(execOneParams.apacheRequest);
@@ -912,6 +1067,71 @@ public class AmazonHttpClient {
             awsRequestMetrics.endEvent(Field.HttpRequestTime);
         }
 
+        return handleHttpResponse(request, responseHandler, errorResponseHandler, execContext, awsRequestMetrics,
+                execOneParams, requestHandlers, localRequestContext);
+    }
+
+    /**
+     * Signs the request for the current attempt if a signer was provided.
+     */
+    private void signRequest(final Request<?> request,
+                             final AWSCredentials credentials,
+                             final ExecutionContext execContext,
+                             final AWSRequestMetrics awsRequestMetrics,
+                             final ExecOneRequestParams execOneParams) {
+        execOneParams.newSigner(request, execContext);
+        if (execOneParams.signer != null && (credentials != null || execOneParams.signer instanceof CanHandleNullCredentials)) {
+            awsRequestMetrics.startEvent(Field.RequestSigningTime);
+            try {
+                if (timeOffset != 0) {
+                    // Always use the client level timeOffset if it was
+                    // non-zero; Otherwise, we respect the timeOffset in the
+                    // request, which could have been externally configured (at
+                    // least for the 1st non-retry request).
+                    //
+                    // For retry due to clock skew, the timeOffset in the
+                    // request used for the retry is assumed to have been
+                    // adjusted when execution reaches here.
+                    request.setTimeOffset(timeOffset);
+                }
+                execOneParams.signer.sign(request, credentials);
+            } finally {
+                awsRequestMetrics.endEvent(Field.RequestSigningTime);
+            }
+        }
+    }
+
+    /**
+     * Creates the Apache context for sending the current attempt and starts timing the HTTP request.
+     */
+    private HttpClientContext newRequestContext(final AWSRequestMetrics awsRequestMetrics,
+                                                final ExecOneRequestParams execOneParams,
+                                                final ProgressListener listener) {
+        final HttpClientContext localRequestContext =
+                ApacheUtils.newClientContext(httpClientSettings, ImmutableMapParameter.of
+                        (AWSRequestMetrics.class.getSimpleName(), awsRequestMetrics));
+
+        execOneParams.resetBeforeHttpRequest();
+        publishProgress(listener, ProgressEventType.HTTP_REQUEST_STARTED_EVENT);
+        awsRequestMetrics.startEvent(Field.HttpRequestTime);
+        awsRequestMetrics.setCounter(Field.RetryCapacityConsumed, retryCapacity.consumedCapacity());
+        return localRequestContext;
+    }
+
+    /**
+     * Handles the HTTP response of one attempt, returning the unmarshalled response if it was successful, or null
+     * if the request should be retried (redirect, auth retry or a retryable service error).
+     */
+    private <T> Response<T> handleHttpResponse(final Request<?> request,
+                                               final HttpResponseHandler<T> responseHandler,
+                                               final HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                                               final ExecutionContext execContext,
+                                               final AWSRequestMetrics awsRequestMetrics,
+                                               final ExecOneRequestParams execOneParams,
+                                               final List<RequestHandler2> requestHandlers,
+                                               final HttpClientContext localRequestContext)
+            throws IOException, InterruptedException {
+        final ProgressListener listener = request.getOriginalRequest().getGeneralProgressListener();
         publishProgress(listener, ProgressEventType.HTTP_REQUEST_COMPLETED_EVENT);
         final StatusLine statusLine = execOneParams.apacheResponse.getStatusLine();
         final int statusCode = statusLine == null ? -1 : statusLine.getStatusCode();
@@ -937,6 +1157,8 @@ public class AmazonHttpClient {
             } else {
                 retryCapacity.release();
             }
+            config.getRetryPolicy().getRetryThrottlingStrategy()
+                    .attemptCompleted(request.getEndpoint(), null, execOneParams.isRetry());
             return new Response<T>(response, httpResponse);
         }
         if (isTemporaryRedirect(execOneParams.apacheResponse)) {
@@ -961,6 +1183,8 @@ public class AmazonHttpClient {
         awsRequestMetrics.addPropertyWith(Field.AWSRequestID, ase.getRequestId())
                 .addPropertyWith(Field.AWSErrorCode, ase.getErrorCode())
                 .addPropertyWith(Field.StatusCode, ase.getStatusCode());
+        config.getRetryPolicy().getRetryThrottlingStrategy()
+                .attemptCompleted(request.getEndpoint(), ase, execOneParams.isRetry());
         // Check whether we should internally retry the auth error
         execOneParams.authRetryParam = null;
         AuthErrorRetryStrategy authRetry = execContext.getAuthErrorRetryStrategy();
@@ -969,8 +1193,7 @@ public class AmazonHttpClient {
                     execOneParams.apacheResponse, localRequestContext);
             execOneParams.authRetryParam = authRetry.shouldRetryWithAuthParam(request, httpResponse, ase);
         }
-        if (execOneParams.authRetryParam == null && !shouldRetry(request.getOriginalRequest(),
-                execOneParams, ase, execContext)) {
+        if (execOneParams.authRetryParam == null && !shouldRetry(request, execOneParams, ase, execContext)) {
             throw ase;
         }
         // Comment out for now. Ref: CR2662349
@@ -1095,6 +1318,28 @@ public class AmazonHttpClient {
         request.addHeader(HEADER_SDK_RETRY_INFO, headerValue);
     }
 
+    /**
+     * Opens connections to the given endpoint ahead of the requests, so that the first requests
+     * don't pay for the TCP and TLS handshakes; the TLS sessions are resumed when possible.
+     *
+     * @param endpoint the endpoint to connect to
+     * @param count    the number of connections to have open, bounded by the maximum number of
+     *                 connections
+     * @return the number of open connections to the endpoint available for the requests
+     */
+    public int prewarmConnections(URI endpoint, int count) {
+        if (endpoint == null) {
+            throw new IllegalArgumentException("endpoint cannot be null");
+        }
+        try {
+            return ConnectionPrewarmer.prewarm(httpClient.getHttpClientConnectionManager(),
+                    httpClientSettings, endpoint, count);
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to prewarm connections to " + endpoint
+                    + ": " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Shuts down this HTTP client object, releasing any resources that might be held open. This is an optional method,
      * and callers are not expected to call it, but can if they want to explicitly release any open resources. Once a
@@ -1106,13 +1351,89 @@ public class AmazonHttpClient {
         IdleConnectionReaper.removeConnectionManager(httpClient
                 .getHttpClientConnectionManager());
         httpClient.getHttpClientConnectionManager().shutdown();
+        synchronized (this) {
+            if (asyncScheduler != null) {
+                asyncScheduler.shutdownNow();
+            }
+            closeQuietly(asyncHttpClient, log);
+            if (asyncCompletionExecutor != null) {
+                asyncCompletionExecutor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Returns the non-blocking HTTP client, creating and starting it on first use.
+     */
+    private CloseableHttpAsyncClient getAsyncHttpClient() {
+        CloseableHttpAsyncClient client = asyncHttpClient;
+        if (client == null) {
+            synchronized (this) {
+                client = asyncHttpClient;
+                if (client == null) {
+                    asyncHttpClient = client = asyncHttpClientFactory.create(httpClientSettings);
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Returns the scheduler for retries and timeouts of asynchronous requests, creating it on first use.
+     */
+    private ScheduledExecutorService getAsyncScheduler() {
+        ScheduledExecutorService scheduler = asyncScheduler;
+        if (scheduler == null) {
+            synchronized (this) {
+                scheduler = asyncScheduler;
+                if (scheduler == null) {
+                    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+                        @Override
+                        public Thread newThread(Runnable runnable) {
+                            Thread thread = new Thread(runnable, "AmazonHttpClient-async-scheduler");
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+                    asyncScheduler = scheduler = executor;
+                }
+            }
+        }
+        return scheduler;
+    }
+
+    /**
+     * Returns the executor handling the responses of asynchronous requests for which the caller does not provide
+     * one, creating it on first use.
+     */
+    private ExecutorService getAsyncCompletionExecutor() {
+        ExecutorService executor = asyncCompletionExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = asyncCompletionExecutor;
+                if (executor == null) {
+                    asyncCompletionExecutor = executor = Executors.newCachedThreadPool(new ThreadFactory() {
+                        private final AtomicInteger threadCount = new AtomicInteger();
+
+                        @Override
+                        public Thread newThread(Runnable runnable) {
+                            Thread thread = new Thread(runnable,
+                                    "AmazonHttpClient-async-completion-" + threadCount.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+                }
+            }
+        }
+        return executor;
     }
 
     /**
      * Returns true if a failed request should be retried.
      *
-     * @param originalRequest
-     *            The original service request that is being executed.
+     * @param request
+     *            The request that is being executed.
      * @param params
      *            Params for the individual request being executed.
      * @param exception
@@ -1121,10 +1442,11 @@ public class AmazonHttpClient {
      *            The execution context for the request being executed.
      * @return True if the failed request should be retried.
      */
-    private boolean shouldRetry(AmazonWebServiceRequest originalRequest,
+    private boolean shouldRetry(Request<?> request,
                                 ExecOneRequestParams params,
                                 AmazonClientException exception,
                                 ExecutionContext executionContext) {
+        final AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
         final int retries = params.requestCount - 1;
         final RetryPolicy retryPolicy = config.getRetryPolicy();
         final HttpRequestBase method = params.apacheRequest;
@@ -1176,6 +1498,15 @@ public class AmazonHttpClient {
             return false;
         }
 
+        // The retry policy may still hold the retry back if the endpoint has been failing
+        if (!retryPolicy.getRetryThrottlingStrategy().acquireRetry(request.getEndpoint(), exception)) {
+            if (executionContext.retryCapacityConsumed()) {
+                retryCapacity.release(THROTTLED_RETRY_COST);
+            }
+            executionContext.getAwsRequestMetrics().incrementCounter(ThrottledRetryCount);
+            return false;
+        }
+
         return true;
     }
 
@@ -1406,6 +1737,23 @@ public class AmazonHttpClient {
                                     int requestCount,
                                     RetryPolicy retryPolicy,
                                     ExecOneRequestParams execOneParams) throws InterruptedException {
+        Thread.sleep(computeDelayBeforeRetry(originalRequest, previousException, requestCount, retryPolicy,
+                execOneParams));
+    }
+
+    /**
+     * Returns the back-off delay (in milliseconds) before the next retry, as decided by the retry policy.
+     *
+     * @param originalRequest   The original service request that is being executed.
+     * @param previousException Exception information for the previous attempt, if any.
+     * @param requestCount      current request count (including the next attempt after the delay)
+     * @param retryPolicy       The retry policy configured in this httpClientSettings client.
+     */
+    private long computeDelayBeforeRetry(AmazonWebServiceRequest originalRequest,
+                                         AmazonClientException previousException,
+                                         int requestCount,
+                                         RetryPolicy retryPolicy,
+                                         ExecOneRequestParams execOneParams) {
         final int retries = requestCount // including next attempt
                 - 1 // number of attempted requests
                 - 1; // number of attempted retries
@@ -1416,8 +1764,7 @@ public class AmazonHttpClient {
         if (log.isDebugEnabled()) {
             log.debug("Retriable error detected, " + "will retry in " + delay + "ms, attempt number: " + retries);
         }
-
-        Thread.sleep(delay);
+        return delay;
     }
 
     // SWF: Signature not yet current: 20140819T173921Z is still later than 20140819T173829Z
@@ -1522,6 +1869,441 @@ public class AmazonHttpClient {
 
     }
 
+    /**
+     * Drives a single request sent through {@link #executeAsync}: each attempt is signed and sent on the non-blocking
+     * client, and retries and timeouts are scheduled on the async scheduler instead of blocking a thread. The
+     * callbacks of the non-blocking client and of the scheduler only hand the work over to the completion executor,
+     * so that neither the I/O dispatcher threads nor the scheduler thread run SDK or user code.
+     */
+    private final class AsyncRequestExecution<T> {
+        private final Request<?> request;
+        private final HttpResponseHandler<T> responseHandler;
+        private final HttpResponseHandler<AmazonServiceException> errorResponseHandler;
+        private final ExecutionContext executionContext;
+        private final BasicFuture<Response<T>> future;
+        private final Executor completionExecutor;
+        private final ExecOneRequestParams execOneParams = new ExecOneRequestParams();
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private List<RequestHandler2> requestHandler2s = Collections.emptyList();
+        private AWSRequestMetrics awsRequestMetrics;
+        private ProgressListener listener;
+        private InputStream origContent;
+        private InputStream toBeClosed;
+        private InputStream originalContent;
+        private Map<String, List<String>> originalParameters;
+        private Map<String, String> originalHeaders;
+
+        private volatile Future<org.apache.http.HttpResponse> inFlight;
+        private volatile ScheduledFuture<?> requestTimeoutTask;
+        private volatile ScheduledFuture<?> clientExecutionTimeoutTask;
+        private volatile boolean requestTimedOut;
+        private boolean attemptReserved;
+
+        private AsyncRequestExecution(Request<?> request,
+                                      HttpResponseHandler<T> responseHandler,
+                                      HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                                      ExecutionContext executionContext,
+                                      FutureCallback<Response<T>> callback,
+                                      Executor completionExecutor) {
+            this.request = request;
+            this.responseHandler = responseHandler;
+            this.errorResponseHandler = errorResponseHandler;
+            this.executionContext = executionContext;
+            this.future = new BasicFuture<Response<T>>(callback) {
+                @Override
+                public boolean cancel(boolean mayInterruptIfRunning) {
+                    if (!super.cancel(mayInterruptIfRunning)) {
+                        return false;
+                    }
+                    dispatch(new Runnable() {
+                        @Override
+                        public void run() {
+                            fail(new AbortedException("The request was cancelled"));
+                        }
+                    });
+                    return true;
+                }
+            };
+            this.completionExecutor = completionExecutor;
+        }
+
+        /**
+         * Runs the given step of the execution on the completion executor; the execution fails if the executor
+         * does not accept it.
+         */
+        private void dispatch(Runnable step) {
+            try {
+                completionExecutor.execute(step);
+            } catch (RejectedExecutionException e) {
+                fail(new AbortedException("The completion executor did not accept the request", e));
+            }
+        }
+
+        /**
+         * Runs the request handlers and sends the first attempt. Failures are reported through the future rather
+         * than thrown to the caller.
+         */
+        void start() {
+            try {
+                requestHandler2s = requestHandler2s(request, executionContext);
+                addDefaultHeadersAndParameters(request);
+
+                final AmazonWebServiceRequest awsreq = request.getOriginalRequest();
+                listener = awsreq.getGeneralProgressListener();
+                awsRequestMetrics = executionContext.getAwsRequestMetrics()
+                        .addPropertyWith(Field.RequestType, awsreq.getClass().getSimpleName())
+                        .addPropertyWith(Field.ServiceName, request.getServiceName())
+                        .addPropertyWith(Field.ServiceEndpoint, request.getEndpoint());
+
+                origContent = request.getContent();
+                toBeClosed = beforeRequest(request); // for progress tracking
+                // make "notCloseable", so reset would work with retries
+                request.setContent(toBeClosed == null ? null
+                        : ReleasableInputStream.wrap(toBeClosed).disableClose());
+                publishProgress(listener, ProgressEventType.CLIENT_REQUEST_STARTED_EVENT);
+
+                final Object providedResponse = request.getHandlerContext(HandlerContextKey.PROVIDED_RESPONSE);
+                if (providedResponse != null) {
+                    succeed(AmazonHttpClient.<T>providedResponse(request, providedResponse));
+                    return;
+                }
+
+                originalParameters = new LinkedHashMap<String, List<String>>(request.getParameters());
+                originalHeaders = new HashMap<String, String>(request.getHeaders());
+                originalContent = request.getContent();
+                if (originalContent != null && originalContent.markSupported()
+                        && !(originalContent instanceof BufferedInputStream)) {
+                    // Mark only once for non-BufferedInputStream
+                    originalContent.mark(awsreq.getRequestClientOptions().getReadLimit());
+                }
+
+                final int clientExecutionTimeout = getClientExecutionTimeout(awsreq);
+                if (clientExecutionTimeout > 0) {
+                    clientExecutionTimeoutTask = getAsyncScheduler().schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            dispatch(new Runnable() {
+                                @Override
+                                public void run() {
+                                    fail(new ClientExecutionTimeoutException());
+                                }
+                            });
+                        }
+                    }, clientExecutionTimeout, TimeUnit.MILLISECONDS);
+                }
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            sendAttempt();
+        }
+
+        /**
+         * Signs and sends the next attempt of the request.
+         */
+        private void sendAttempt() {
+            if (done.get()) {
+                return;
+            }
+            try {
+                if (!attemptReserved) {
+                    final long throttleDelay = config.getRetryPolicy().getRetryThrottlingStrategy()
+                            .reserveAttempt(request.getEndpoint());
+                    if (throttleDelay > 0) {
+                        // Send the reserved attempt once the retry policy lets it go
+                        attemptReserved = true;
+                        getAsyncScheduler().schedule(new Runnable() {
+                            @Override
+                            public void run() {
+                                dispatch(new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        sendAttempt();
+                                    }
+                                });
+                            }
+                        }, throttleDelay, TimeUnit.MILLISECONDS);
+                        return;
+                    }
+                }
+                attemptReserved = false;
+                initPerAttempt(request, awsRequestMetrics, execOneParams, originalParameters, originalHeaders,
+                        originalContent);
+                if (execOneParams.isRetry()) {
+                    resetRequestInputStream(request);
+                }
+                if (requestLog.isDebugEnabled()) {
+                    requestLog.debug((execOneParams.isRetry() ? "Retrying " : "Sending ") + "Request: " + request);
+                }
+                final AWSCredentials credentials = getCredentialsFromContext(executionContext, awsRequestMetrics);
+                updateRetryHeaderInfo(request, execOneParams);
+                signRequest(request, credentials, executionContext, awsRequestMetrics, execOneParams);
+                execOneParams.newApacheRequest(httpRequestFactory, request, httpClientSettings);
+
+                final HttpClientContext localRequestContext =
+                        newRequestContext(awsRequestMetrics, execOneParams, listener);
+                startRequestTimer();
+                inFlight = getAsyncHttpClient().execute(execOneParams.apacheRequest, localRequestContext,
+                        new FutureCallback<org.apache.http.HttpResponse>() {
+                            @Override
+                            public void completed(final org.apache.http.HttpResponse apacheResponse) {
+                                try {
+                                    completionExecutor.execute(new Runnable() {
+                                        @Override
+                                        public void run() {
+                                            onResponse(apacheResponse, localRequestContext);
+                                        }
+                                    });
+                                } catch (RejectedExecutionException e) {
+                                    endAttempt();
+                                    closeResponse(apacheResponse);
+                                    fail(new AbortedException(
+                                            "The completion executor did not accept the response", e));
+                                }
+                            }
+
+                            @Override
+                            public void failed(final Exception ex) {
+                                dispatch(new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        onFailure(ex);
+                                    }
+                                });
+                            }
+
+                            @Override
+                            public void cancelled() {
+                                dispatch(new Runnable() {
+                                    @Override
+                                    public void run() {
+                                        onFailure(null);
+                                    }
+                                });
+                            }
+                        });
+                if (requestTimedOut) {
+                    // The request timer fired before the request was handed to the client
+                    inFlight.cancel(true);
+                }
+            } catch (IOException ioe) {
+                onIOException(ioe);
+            } catch (Throwable t) {
+                fail(t);
+            }
+        }
+
+        private void startRequestTimer() {
+            requestTimedOut = false;
+            final int requestTimeout = getRequestTimeout(request.getOriginalRequest());
+            if (requestTimeout > 0) {
+                requestTimeoutTask = getAsyncScheduler().schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        requestTimedOut = true;
+                        Future<org.apache.http.HttpResponse> attempt = inFlight;
+                        if (attempt != null) {
+                            attempt.cancel(true);
+                        }
+                    }
+                }, requestTimeout, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void endAttempt() {
+            ScheduledFuture<?> timer = requestTimeoutTask;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            awsRequestMetrics.endEvent(Field.HttpRequestTime);
+        }
+
+        /**
+         * Handles the fully received response of the current attempt on the completion executor.
+         */
+        private void onResponse(org.apache.http.HttpResponse apacheResponse, HttpClientContext localRequestContext) {
+            endAttempt();
+            execOneParams.apacheResponse = apacheResponse;
+            try {
+                CRC32_CHECKSUM_INTERCEPTOR.process(apacheResponse, localRequestContext);
+                Response<T> response = handleHttpResponse(request, responseHandler, errorResponseHandler,
+                        executionContext, awsRequestMetrics, execOneParams, requestHandler2s, localRequestContext);
+                if (response != null) {
+                    succeed(response);
+                } else {
+                    scheduleRetry();
+                }
+            } catch (IOException ioe) {
+                onIOException(ioe);
+            } catch (Throwable t) {
+                fail(t);
+            } finally {
+                closeResponse(apacheResponse);
+            }
+        }
+
+        private void closeResponse(org.apache.http.HttpResponse apacheResponse) {
+            HttpEntity entity = apacheResponse.getEntity();
+            if (entity != null) {
+                try {
+                    closeQuietly(entity.getContent(), log);
+                } catch (IOException e) {
+                    log.warn("Cannot close the response content.", e);
+                }
+            }
+        }
+
+        /**
+         * Handles a failed or cancelled attempt.
+         *
+         * @param ex the failure; or null if the attempt was cancelled.
+         */
+        private void onFailure(Exception ex) {
+            endAttempt();
+            if (done.get()) {
+                return;
+            }
+            if (requestTimedOut) {
+                onIOException(ex == null ? new HttpRequestTimeoutException("Request did not complete before the "
+                        + "request timeout configuration.") : new HttpRequestTimeoutException(ex));
+            } else if (ex instanceof IOException) {
+                onIOException((IOException) ex);
+            } else if (ex == null) {
+                fail(new AbortedException());
+            } else {
+                fail(new AmazonClientException("Unable to execute HTTP request: " + ex.getMessage(), ex));
+            }
+        }
+
+        private void onIOException(IOException ioe) {
+            captureExceptionMetrics(ioe, awsRequestMetrics);
+            awsRequestMetrics.addProperty(Field.AWSRequestID, null);
+            AmazonClientException ace = new AmazonClientException(
+                    "Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+            config.getRetryPolicy().getRetryThrottlingStrategy()
+                    .attemptCompleted(request.getEndpoint(), ace, execOneParams.isRetry());
+            boolean willRetry = shouldRetry(request, execOneParams, ace, executionContext);
+            if (log.isDebugEnabled()) {
+                log.debug(ace.getMessage() + (willRetry ? " Request will be retried." : ""), ioe);
+            }
+            if (!willRetry) {
+                fail(lastReset(ace, request));
+                return;
+            }
+            // Cache the retryable exception
+            execOneParams.retriedException = ace;
+            scheduleRetry();
+        }
+
+        /**
+         * Schedules the next attempt after the back-off delay of the retry policy, without blocking a thread.
+         */
+        private void scheduleRetry() {
+            if (done.get()) {
+                return;
+            }
+            publishProgress(listener, ProgressEventType.CLIENT_REQUEST_RETRY_EVENT);
+            long delay = 0;
+            // don't pause if the retry was not due to a redirection
+            // ie when retried exception is null
+            if (execOneParams.retriedException != null) {
+                delay = computeDelayBeforeRetry(request.getOriginalRequest(), execOneParams.retriedException,
+                        execOneParams.requestCount + 1, config.getRetryPolicy(), execOneParams);
+            }
+            awsRequestMetrics.startEvent(Field.RetryPauseTime);
+            try {
+                getAsyncScheduler().schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        awsRequestMetrics.endEvent(Field.RetryPauseTime);
+                        dispatch(new Runnable() {
+                            @Override
+                            public void run() {
+                                sendAttempt();
+                            }
+                        });
+                    }
+                }, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                awsRequestMetrics.endEvent(Field.RetryPauseTime);
+                fail(new AbortedException("Client has been shut down", e));
+            }
+        }
+
+        private void succeed(Response<T> response) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            cancelClientExecutionTimer();
+            try {
+                publishProgress(listener, ProgressEventType.CLIENT_REQUEST_SUCCESS_EVENT);
+                TimingInfo timingInfo = awsRequestMetrics.getTimingInfo().endTiming();
+                afterResponse(request, requestHandler2s, response, timingInfo);
+            } catch (Throwable t) {
+                AmazonClientException ace = toAmazonClientException(t);
+                publishProgress(listener, ProgressEventType.CLIENT_REQUEST_FAILED_EVENT);
+                notifyAfterError(response, ace);
+                cleanUp();
+                future.failed(ace);
+                return;
+            }
+            cleanUp();
+            future.completed(response);
+        }
+
+        private void fail(Throwable t) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            cancelClientExecutionTimer();
+            Future<org.apache.http.HttpResponse> attempt = inFlight;
+            if (attempt != null) {
+                attempt.cancel(true);
+            }
+            if (t instanceof RuntimeException) {
+                captureExceptionMetrics(t, awsRequestMetrics == null
+                        ? executionContext.getAwsRequestMetrics() : awsRequestMetrics);
+            }
+            AmazonClientException ace = lastReset(toAmazonClientException(t), request);
+            publishProgress(listener, ProgressEventType.CLIENT_REQUEST_FAILED_EVENT);
+            notifyAfterError(null, ace);
+            cleanUp();
+            future.failed(ace);
+        }
+
+        private AmazonClientException toAmazonClientException(Throwable t) {
+            if (t instanceof AmazonClientException) {
+                return (AmazonClientException) t;
+            }
+            if (t instanceof InterruptedException) {
+                return new AbortedException(t);
+            }
+            return new AmazonClientException("Unable to execute request: " + t.getMessage(), t);
+        }
+
+        private void notifyAfterError(Response<?> response, AmazonClientException ace) {
+            try {
+                afterError(request, response, requestHandler2s, ace);
+            } catch (Exception e) {
+                log.warn("Request handler failed while handling the error of an asynchronous request", e);
+            }
+        }
+
+        private void cancelClientExecutionTimer() {
+            ScheduledFuture<?> timer = clientExecutionTimeoutTask;
+            if (timer != null) {
+                timer.cancel(false);
+            }
+        }
+
+        private void cleanUp() {
+            // Always close so any progress tracking would get the final events propagated.
+            closeQuietly(toBeClosed, log);
+            request.setContent(origContent); // restore the original content
+        }
+    }
+
     /**
      * Stateful parameters that are used for executing a single httpClientSettings request.
      */
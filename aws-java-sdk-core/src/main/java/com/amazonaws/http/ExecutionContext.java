@@ -25,6 +25,7 @@ import com.amazonaws.internal.auth.SignerProviderContext;
 import com.amazonaws.internal.auth.SignerProvider;
 import com.amazonaws.retry.internal.AuthErrorRetryStrategy;
 import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetricsCompact;
 import com.amazonaws.util.AWSRequestMetricsFullSupport;
 import org.apache.http.annotation.NotThreadSafe;
 
@@ -84,7 +85,13 @@ public class ExecutionContext {
 
     private ExecutionContext(final Builder builder) {
         this.requestHandler2s = builder.requestHandler2s;
-        this.awsRequestMetrics = builder.useRequestMetrics ? new AWSRequestMetricsFullSupport() : new AWSRequestMetrics();
+        if (!builder.useRequestMetrics) {
+            this.awsRequestMetrics = new AWSRequestMetrics();
+        } else if (builder.useCompactRequestMetrics) {
+            this.awsRequestMetrics = new AWSRequestMetricsCompact();
+        } else {
+            this.awsRequestMetrics = new AWSRequestMetricsFullSupport();
+        }
         this.awsClient = builder.awsClient;
         this.signerProvider = builder.signerProvider;
     }
@@ -200,6 +207,7 @@ public class ExecutionContext {
     public static class Builder {
 
         private boolean useRequestMetrics;
+        private boolean useCompactRequestMetrics;
         private List<RequestHandler2> requestHandler2s;
         private AmazonWebServiceClient awsClient;
         private SignerProvider signerProvider;
@@ -219,6 +227,23 @@ public class ExecutionContext {
             return this;
         }
 
+        public boolean useCompactRequestMetrics() {
+            return useCompactRequestMetrics;
+        }
+
+        /**
+         * Sets whether request metrics, if used, are recorded in the compact
+         * {@link AWSRequestMetricsCompact} rather than in the full support.
+         */
+        public void setUseCompactRequestMetrics(final boolean useCompactRequestMetrics) {
+            this.useCompactRequestMetrics = useCompactRequestMetrics;
+        }
+
+        public Builder withUseCompactRequestMetrics(final boolean withUseCompactRequestMetrics) {
+            setUseCompactRequestMetrics(withUseCompactRequestMetrics);
+            return this;
+        }
+
         public List<RequestHandler2> getRequestHandler2s() {
             return requestHandler2s;
         }
@@ -16,8 +16,8 @@ package com.amazonaws.http;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
 
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.protocol.HttpContext;
@@ -37,7 +37,7 @@ public class HttpResponse {
     private String statusText;
     private int statusCode;
     private InputStream content;
-    private Map<String, String> headers = new HashMap<String, String>();
+    private Map<String, String> headers = new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER);
     private HttpContext context;
 
     /**
@@ -78,7 +78,8 @@ public class HttpResponse {
     }
 
     /**
-     * Returns the HTTP headers returned with this response.
+     * Returns the HTTP headers returned with this response. Header names are
+     * looked up case-insensitively.
      *
      * @return The set of HTTP headers returned with this HTTP response.
      */
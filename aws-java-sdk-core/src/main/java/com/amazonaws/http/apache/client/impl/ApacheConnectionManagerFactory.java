@@ -62,6 +62,19 @@ public class ApacheConnectionManagerFactory implements
 
     @Override
     public HttpClientConnectionManager create(final HttpClientSettings settings) {
+        if (settings.useSharedConnectionPool()) {
+            return SharedConnectionManagers.acquire(settings,
+                    new SharedConnectionManagers.PoolFactory() {
+                        @Override
+                        public HttpClientConnectionManager create(HttpClientSettings settings) {
+                            return createPool(settings);
+                        }
+                    });
+        }
+        return createPool(settings);
+    }
+
+    private HttpClientConnectionManager createPool(final HttpClientSettings settings) {
         ConnectionSocketFactory sslsf = getPreferredSocketFactory(settings);
 
         final PoolingHttpClientConnectionManager cm = new
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.apache.client.impl;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.http.apache.SdkProxyRoutePlanner;
+import com.amazonaws.http.settings.HttpClientSettings;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
+import org.apache.http.impl.conn.DefaultSchemePortResolver;
+import org.apache.http.message.BasicHttpRequest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens connections to an endpoint ahead of the requests, so that the first requests don't
+ * pay for the TCP and TLS handshakes.
+ */
+@SdkInternalApi
+public final class ConnectionPrewarmer {
+
+    private static final Log LOG = LogFactory.getLog(ConnectionPrewarmer.class);
+
+    private ConnectionPrewarmer() {
+    }
+
+    /**
+     * Makes sure the given number of connections to the endpoint are open in the pool, up to
+     * the maximum number of connections, establishing new ones as necessary.
+     *
+     * @return the number of open connections to the endpoint available in the pool; zero if
+     *         connections can't be established ahead of the requests, as for HTTPS through a
+     *         proxy.
+     */
+    public static int prewarm(HttpClientConnectionManager cm, HttpClientSettings settings,
+                              URI endpoint, int count) throws IOException {
+        final HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom()
+                .setLocalAddress(settings.getLocalAddress())
+                .build());
+        final HttpRoute route = determineRoute(settings, endpoint, context);
+        if (route.isTunnelled()) {
+            // tunnels are only set up by the client executing a request
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Not prewarming connections to " + endpoint + " tunnelled through a proxy");
+            }
+            return 0;
+        }
+        final int n = Math.min(count, settings.getMaxConnections());
+        final List<HttpClientConnection> leased = new ArrayList<HttpClientConnection>(n);
+        int opened = 0;
+        try {
+            // hold on to each connection, so that the pool hands out a different one every time
+            for (int i = 0; i < n; i++) {
+                final HttpClientConnection conn = lease(cm, route, settings);
+                leased.add(conn);
+                if (!conn.isOpen()) {
+                    cm.connect(conn, route, settings.getConnectionTimeout(), context);
+                    cm.routeComplete(conn, route, context);
+                    opened++;
+                }
+            }
+        } finally {
+            for (HttpClientConnection conn : leased) {
+                cm.releaseConnection(conn, null, conn.isOpen()
+                        ? settings.getMaxIdleConnectionTime() : 0, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Prewarmed " + leased.size() + " connections to " + endpoint
+                    + ", of which " + opened + " newly opened");
+        }
+        return leased.size();
+    }
+
+    private static HttpRoute determineRoute(HttpClientSettings settings, URI endpoint,
+                                            HttpClientContext context) throws IOException {
+        final HttpRoutePlanner routePlanner = settings.getProxyHost() != null
+                && settings.getProxyPort() > 0
+                ? new SdkProxyRoutePlanner(settings.getProxyHost(), settings.getProxyPort(),
+                        settings.getNonProxyHosts())
+                : new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
+        final HttpHost target = new HttpHost(endpoint.getHost(), endpoint.getPort(),
+                endpoint.getScheme());
+        try {
+            return routePlanner.determineRoute(target, new BasicHttpRequest("HEAD", "/"), context);
+        } catch (HttpException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static HttpClientConnection lease(HttpClientConnectionManager cm, HttpRoute route,
+                                              HttpClientSettings settings) throws IOException {
+        final int timeout = Math.max(settings.getConnectionPoolRequestTimeout(), 0);
+        try {
+            return cm.requestConnection(route, null).get(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a connection", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getMessage(), e.getCause());
+        }
+    }
+}
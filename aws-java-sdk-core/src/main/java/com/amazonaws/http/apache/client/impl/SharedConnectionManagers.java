@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.apache.client.impl;
+
+import com.amazonaws.SDKGlobalConfiguration;
+import com.amazonaws.SystemDefaultDnsResolver;
+import com.amazonaws.http.settings.HttpClientSettings;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.pool.ConnPoolControl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of the connection pools shared by the clients with the same connection settings.
+ * Pools are reference counted: each client gets its own {@link SharedConnectionManager} handle,
+ * and a pool is shut down once the handles of all the clients using it are.
+ */
+final class SharedConnectionManagers {
+
+    /**
+     * Creates the connection pool for the first client of a given configuration.
+     */
+    interface PoolFactory {
+        HttpClientConnectionManager create(HttpClientSettings settings);
+    }
+
+    private static final Map<List<Object>, SharedPool> pools = new HashMap<List<Object>, SharedPool>();
+
+    private SharedConnectionManagers() {
+    }
+
+    /**
+     * Returns a new handle on the pool shared by the clients with the same connection settings,
+     * creating the pool if necessary.
+     */
+    static synchronized SharedConnectionManager acquire(HttpClientSettings settings,
+                                                        PoolFactory factory) {
+        final List<Object> key = keyOf(settings);
+        SharedPool pool = pools.get(key);
+        if (pool == null) {
+            pool = new SharedPool(key, factory.create(settings), settings.getMaxConnections());
+            pools.put(key, pool);
+        }
+        pool.references++;
+        pool.updateMaxTotal();
+        return new SharedConnectionManager(pool.cm);
+    }
+
+    /**
+     * Releases a handle acquired with {@link #acquire}, shutting the pool down if this was the
+     * last one.
+     */
+    static void release(HttpClientConnectionManager cm) {
+        final SharedPool pool;
+        synchronized (SharedConnectionManagers.class) {
+            pool = find(cm);
+            if (pool == null) {
+                return;
+            }
+            if (--pool.references > 0) {
+                pool.updateMaxTotal();
+                return;
+            }
+            pools.remove(pool.key);
+        }
+        pool.cm.shutdown();
+    }
+
+    /** Returns the number of pools in use. */
+    static synchronized int size() {
+        return pools.size();
+    }
+
+    private static SharedPool find(HttpClientConnectionManager cm) {
+        for (SharedPool pool : pools.values()) {
+            if (pool.cm == cm) {
+                return pool;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the settings which clients must have in common to share connections: the ones
+     * affecting how connections are established, and the proxy.
+     */
+    private static List<Object> keyOf(HttpClientSettings settings) {
+        final int[] socketBufferSize = settings.getSocketBufferSize();
+        return Arrays.<Object>asList(
+                settings.getMaxConnections(),
+                settings.getConnectionPoolTTL(),
+                settings.getSocketTimeout(),
+                settings.useTcpKeepAlive(),
+                socketBufferSize[0],
+                socketBufferSize[1],
+                settings.useBrowserCompatibleHostNameVerifier(),
+                settings.getLocalAddress(),
+                settings.getProxyHost(),
+                settings.getProxyPort(),
+                settings.getProxyUsername(),
+                settings.getProxyDomain(),
+                settings.getProxyWorkstation(),
+                settings.getNonProxyHosts(),
+                SDKGlobalConfiguration.isCertCheckingDisabled(),
+                // the default resolver is stateless, though instantiated for each configuration
+                settings.getDnsResolver() instanceof SystemDefaultDnsResolver
+                        ? SystemDefaultDnsResolver.class
+                        : settings.getDnsResolver(),
+                settings.getSecureRandom(),
+                settings.getApacheHttpClientConfig().getSslSocketFactory());
+    }
+
+    private static final class SharedPool {
+        private final List<Object> key;
+        private final HttpClientConnectionManager cm;
+        private final int maxConnectionsPerClient;
+        private int references;
+
+        SharedPool(List<Object> key, HttpClientConnectionManager cm, int maxConnectionsPerClient) {
+            this.key = key;
+            this.cm = cm;
+            this.maxConnectionsPerClient = maxConnectionsPerClient;
+        }
+
+        /**
+         * Lets each client use up to its maximum number of connections, as with a pool of its own.
+         */
+        @SuppressWarnings("unchecked")
+        void updateMaxTotal() {
+            if (cm instanceof ConnPoolControl) {
+                final long maxTotal = (long) maxConnectionsPerClient * references;
+                ((ConnPoolControl<HttpRoute>) cm).setMaxTotal(
+                        (int) Math.min(maxTotal, Integer.MAX_VALUE));
+            }
+        }
+    }
+}
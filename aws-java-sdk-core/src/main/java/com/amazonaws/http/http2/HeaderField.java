@@ -0,0 +1,38 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.http2;
+
+/**
+ * A single header field of an HTTP/2 header block, with a lower case name.
+ */
+final class HeaderField {
+    final String name;
+    final String value;
+
+    HeaderField(String name, String value) {
+        this.name = name;
+        this.value = value;
+    }
+
+    /** Returns the size of this field as accounted for by HPACK. */
+    int hpackSize() {
+        return name.length() + value.length() + 32;
+    }
+
+    @Override
+    public String toString() {
+        return name + ": " + value;
+    }
+}
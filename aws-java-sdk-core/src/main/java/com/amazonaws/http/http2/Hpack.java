@@ -0,0 +1,298 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.http2;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HPACK header compression for HTTP/2, as defined in RFC 7541.
+ * <p>
+ * The {@link Encoder} never adds entries to the dynamic table, so that it is
+ * unaffected by the table size the peer allows; the {@link Decoder} supports
+ * the full specification.
+ */
+final class Hpack {
+    /** Header octets are carried as is in ISO-8859-1 strings. */
+    static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
+    private static final HeaderField[] STATIC_TABLE = {
+        null, // indexes start at 1
+        new HeaderField(":authority", ""),
+        new HeaderField(":method", "GET"),
+        new HeaderField(":method", "POST"),
+        new HeaderField(":path", "/"),
+        new HeaderField(":path", "/index.html"),
+        new HeaderField(":scheme", "http"),
+        new HeaderField(":scheme", "https"),
+        new HeaderField(":status", "200"),
+        new HeaderField(":status", "204"),
+        new HeaderField(":status", "206"),
+        new HeaderField(":status", "304"),
+        new HeaderField(":status", "400"),
+        new HeaderField(":status", "404"),
+        new HeaderField(":status", "500"),
+        new HeaderField("accept-charset", ""),
+        new HeaderField("accept-encoding", "gzip, deflate"),
+        new HeaderField("accept-language", ""),
+        new HeaderField("accept-ranges", ""),
+        new HeaderField("accept", ""),
+        new HeaderField("access-control-allow-origin", ""),
+        new HeaderField("age", ""),
+        new HeaderField("allow", ""),
+        new HeaderField("authorization", ""),
+        new HeaderField("cache-control", ""),
+        new HeaderField("content-disposition", ""),
+        new HeaderField("content-encoding", ""),
+        new HeaderField("content-language", ""),
+        new HeaderField("content-length", ""),
+        new HeaderField("content-location", ""),
+        new HeaderField("content-range", ""),
+        new HeaderField("content-type", ""),
+        new HeaderField("cookie", ""),
+        new HeaderField("date", ""),
+        new HeaderField("etag", ""),
+        new HeaderField("expect", ""),
+        new HeaderField("expires", ""),
+        new HeaderField("from", ""),
+        new HeaderField("host", ""),
+        new HeaderField("if-match", ""),
+        new HeaderField("if-modified-since", ""),
+        new HeaderField("if-none-match", ""),
+        new HeaderField("if-range", ""),
+        new HeaderField("if-unmodified-since", ""),
+        new HeaderField("last-modified", ""),
+        new HeaderField("link", ""),
+        new HeaderField("location", ""),
+        new HeaderField("max-forwards", ""),
+        new HeaderField("proxy-authenticate", ""),
+        new HeaderField("proxy-authorization", ""),
+        new HeaderField("range", ""),
+        new HeaderField("referer", ""),
+        new HeaderField("refresh", ""),
+        new HeaderField("retry-after", ""),
+        new HeaderField("server", ""),
+        new HeaderField("set-cookie", ""),
+        new HeaderField("strict-transport-security", ""),
+        new HeaderField("transfer-encoding", ""),
+        new HeaderField("user-agent", ""),
+        new HeaderField("vary", ""),
+        new HeaderField("via", ""),
+        new HeaderField("www-authenticate", ""),
+    };
+
+    /** Index of the first static table entry with a given name. */
+    private static final Map<String, Integer> STATIC_NAME_INDEX = new HashMap<String, Integer>();
+    /** Index of the static table entries with a non-empty value. */
+    private static final Map<String, Integer> STATIC_FIELD_INDEX = new HashMap<String, Integer>();
+
+    static {
+        for (int i = STATIC_TABLE.length - 1; i > 0; i--) {
+            HeaderField field = STATIC_TABLE[i];
+            STATIC_NAME_INDEX.put(field.name, i);
+            if (field.value.length() > 0) {
+                STATIC_FIELD_INDEX.put(field.name + ':' + field.value, i);
+            }
+        }
+    }
+
+    private Hpack() {
+    }
+
+    /**
+     * Writes an integer with the given prefix size, OR-ing the first octet
+     * with the given flags.
+     */
+    static void writeInt(ByteArrayOutputStream out, int flags, int prefixBits, int value) {
+        final int max = (1 << prefixBits) - 1;
+        if (value < max) {
+            out.write(flags | value);
+            return;
+        }
+        out.write(flags | max);
+        value -= max;
+        while (value >= 0x80) {
+            out.write((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    static void writeString(ByteArrayOutputStream out, String s) {
+        final int huffmanLength = Huffman.encodedLength(s);
+        if (huffmanLength < s.length()) {
+            writeInt(out, 0x80, 7, huffmanLength);
+            Huffman.encode(s, out);
+        } else {
+            writeInt(out, 0, 7, s.length());
+            byte[] bytes = s.getBytes(ISO_8859_1);
+            out.write(bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Encodes header blocks without ever indexing, which keeps the encoder
+     * stateless and therefore safe to be shared.
+     */
+    static final class Encoder {
+        byte[] encode(List<HeaderField> fields) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            for (HeaderField field: fields) {
+                Integer index = STATIC_FIELD_INDEX.get(field.name + ':' + field.value);
+                if (index != null) {
+                    // indexed header field
+                    writeInt(out, 0x80, 7, index);
+                    continue;
+                }
+                // literal header field without indexing
+                index = STATIC_NAME_INDEX.get(field.name);
+                if (index != null) {
+                    writeInt(out, 0, 4, index);
+                } else {
+                    writeInt(out, 0, 4, 0);
+                    writeString(out, field.name);
+                }
+                writeString(out, field.value);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Decodes header blocks; the dynamic table state is per connection, so
+     * blocks must be decoded in the order they were received.
+     */
+    static final class Decoder {
+        /** The dynamic table, with the most recently added entry last. */
+        private final List<HeaderField> dynamicTable = new ArrayList<HeaderField>();
+        private final int maxTableSizeLimit;
+        private int maxTableSize;
+        private int tableSize;
+
+        /**
+         * @param maxTableSize
+         *            the header table size advertised to the peer
+         */
+        Decoder(int maxTableSize) {
+            this.maxTableSizeLimit = maxTableSize;
+            this.maxTableSize = maxTableSize;
+        }
+
+        List<HeaderField> decode(byte[] block, int off, int len) throws IOException {
+            final List<HeaderField> fields = new ArrayList<HeaderField>();
+            final int[] pos = {off};
+            final int end = off + len;
+            while (pos[0] < end) {
+                final int b = block[pos[0]] & 0xff;
+                if ((b & 0x80) != 0) {
+                    // indexed header field
+                    fields.add(field(readInt(block, pos, end, 7)));
+                } else if ((b & 0xc0) == 0x40) {
+                    // literal header field with incremental indexing
+                    HeaderField field = readLiteral(block, pos, end, 6);
+                    add(field);
+                    fields.add(field);
+                } else if ((b & 0xe0) == 0x20) {
+                    // dynamic table size update
+                    final int size = readInt(block, pos, end, 5);
+                    if (size > maxTableSizeLimit) {
+                        throw new IOException("Invalid HPACK table size " + size);
+                    }
+                    maxTableSize = size;
+                    evict();
+                } else {
+                    // literal header field without indexing or never indexed
+                    fields.add(readLiteral(block, pos, end, 4));
+                }
+            }
+            return fields;
+        }
+
+        private HeaderField field(int index) throws IOException {
+            if (index <= 0) {
+                throw new IOException("Invalid HPACK index " + index);
+            }
+            if (index < STATIC_TABLE.length) {
+                return STATIC_TABLE[index];
+            }
+            final int dynamicIndex = dynamicTable.size() - 1 - (index - STATIC_TABLE.length);
+            if (dynamicIndex < 0) {
+                throw new IOException("Invalid HPACK index " + index);
+            }
+            return dynamicTable.get(dynamicIndex);
+        }
+
+        private HeaderField readLiteral(byte[] block, int[] pos, int end, int prefixBits)
+                throws IOException {
+            final int index = readInt(block, pos, end, prefixBits);
+            final String name = index == 0
+                    ? readString(block, pos, end)
+                    : field(index).name;
+            return new HeaderField(name, readString(block, pos, end));
+        }
+
+        private void add(HeaderField field) {
+            dynamicTable.add(field);
+            tableSize += field.hpackSize();
+            evict();
+        }
+
+        private void evict() {
+            while (tableSize > maxTableSize) {
+                tableSize -= dynamicTable.remove(0).hpackSize();
+            }
+        }
+
+        private static int readInt(byte[] block, int[] pos, int end, int prefixBits)
+                throws IOException {
+            final int max = (1 << prefixBits) - 1;
+            int value = block[pos[0]++] & max;
+            if (value < max) {
+                return value;
+            }
+            for (int shift = 0; ; shift += 7) {
+                if (pos[0] >= end || shift > 21) {
+                    throw new IOException("Invalid HPACK integer");
+                }
+                final int b = block[pos[0]++] & 0xff;
+                value += (b & 0x7f) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+
+        private static String readString(byte[] block, int[] pos, int end) throws IOException {
+            if (pos[0] >= end) {
+                throw new IOException("Truncated HPACK string");
+            }
+            final boolean huffman = (block[pos[0]] & 0x80) != 0;
+            final int length = readInt(block, pos, end, 7);
+            if (length > end - pos[0]) {
+                throw new IOException("Truncated HPACK string");
+            }
+            final String s = huffman
+                    ? Huffman.decode(block, pos[0], length)
+                    : new String(block, pos[0], length, ISO_8859_1);
+            pos[0] += length;
+            return s;
+        }
+    }
+}
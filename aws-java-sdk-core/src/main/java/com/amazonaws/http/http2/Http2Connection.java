@@ -0,0 +1,729 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.http2;
+
+import static com.amazonaws.http.http2.Http2Frame.*;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * A client side HTTP/2 connection, multiplexing any number of concurrent
+ * {@link Http2Stream}s, up to the limit set by the server, over a single
+ * socket.
+ * <p>
+ * Frames are read by a dedicated daemon thread, while frames are written by
+ * the threads executing the requests, one frame at a time. Server push is
+ * disabled. To avoid deadlocks, the lock of the connection is never held while
+ * acquiring the write lock.
+ */
+final class Http2Connection implements Closeable {
+    private static final Log log = LogFactory.getLog(Http2Connection.class);
+    /** Receive window advertised for each stream. */
+    static final int STREAM_RECEIVE_WINDOW = 1 << 20;
+    /** Receive window advertised for the whole connection. */
+    static final int CONNECTION_RECEIVE_WINDOW = 1 << 24;
+    private static final int HEADER_TABLE_SIZE = 4096;
+    private static final int MAX_STREAM_ID = Integer.MAX_VALUE;
+
+    /**
+     * Notified whenever a stream completes, so that requests waiting for
+     * stream capacity can proceed.
+     */
+    interface Listener {
+        void onStreamCompleted(Http2Connection connection);
+    }
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final OutputStream out;
+    private final String name;
+    private final int readTimeoutMillis;
+    private final Listener listener;
+    private final Hpack.Encoder encoder = new Hpack.Encoder();
+    /** Only ever used by the reader thread. */
+    private final Hpack.Decoder decoder = new Hpack.Decoder(HEADER_TABLE_SIZE);
+    private final Object writeLock = new Object();
+
+    // Guarded by this
+    private final Map<Integer, Http2Stream> streams = new HashMap<Integer, Http2Stream>();
+    private int nextStreamId = 1;
+    private int maxConcurrentStreams = Integer.MAX_VALUE;
+    private int initialSendWindow = DEFAULT_WINDOW_SIZE;
+    private int maxSendFrameSize = DEFAULT_MAX_FRAME_SIZE;
+    private long connectionSendWindow = DEFAULT_WINDOW_SIZE;
+    private int connectionUnackedBytes;
+    private boolean goingAway;
+    private IOException failure;
+    private long idleSinceNanos = System.nanoTime();
+
+    /**
+     * @param socket
+     *            a connected socket, over TLS with h2 negotiated if secure
+     * @param name
+     *            the endpoint name, used for the reader thread name and
+     *            logging
+     * @param readTimeoutMillis
+     *            the maximum time to wait for the server on any given stream;
+     *            zero for no limit
+     */
+    Http2Connection(Socket socket, String name, int readTimeoutMillis, Listener listener)
+            throws IOException {
+        this.socket = socket;
+        this.name = name;
+        this.readTimeoutMillis = readTimeoutMillis;
+        this.listener = listener;
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        this.out = new BufferedOutputStream(socket.getOutputStream());
+    }
+
+    /**
+     * Sends the connection preface and waits for the server settings, which
+     * confirms the server speaks HTTP/2, before starting the reader thread.
+     *
+     * @return true if the connection is established; false if the server does
+     *         not speak HTTP/2, in which case the socket is closed.
+     */
+    boolean start(int timeoutMillis) throws IOException {
+        try {
+            synchronized (writeLock) {
+                out.write(CONNECTION_PREFACE);
+                writeHeader(out, 3 * 6, TYPE_SETTINGS, 0, 0);
+                writeSetting(SETTINGS_ENABLE_PUSH, 0);
+                writeSetting(SETTINGS_INITIAL_WINDOW_SIZE, STREAM_RECEIVE_WINDOW);
+                writeSetting(SETTINGS_HEADER_TABLE_SIZE, HEADER_TABLE_SIZE);
+                writeHeader(out, 4, TYPE_WINDOW_UPDATE, 0, 0);
+                writeInt(out, CONNECTION_RECEIVE_WINDOW - DEFAULT_WINDOW_SIZE);
+                out.flush();
+            }
+            socket.setSoTimeout(timeoutMillis);
+        } catch (IOException e) {
+            closeSocket();
+            throw e;
+        }
+        final Http2Frame first;
+        try {
+            first = Http2Frame.read(in, DEFAULT_MAX_FRAME_SIZE);
+        } catch (SocketTimeoutException e) {
+            // a slow server is not evidence it does not speak HTTP/2
+            closeSocket();
+            throw e;
+        } catch (IOException e) {
+            log.debug("No HTTP/2 settings received from " + name, e);
+            closeSocket();
+            return false;
+        }
+        if (first == null || first.type != TYPE_SETTINGS || first.hasFlag(FLAG_ACK)) {
+            closeSocket();
+            return false;
+        }
+        onSettings(first);
+        // blocking reads on an idle connection are expected
+        socket.setSoTimeout(0);
+        Thread reader = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                readFrames();
+            }
+        }, "java-sdk-http2-reader-" + name);
+        reader.setDaemon(true);
+        reader.start();
+        return true;
+    }
+
+    /**
+     * Returns the number of new streams that can currently be opened on this
+     * connection.
+     */
+    synchronized int availableStreams() {
+        return failure != null || goingAway
+                ? 0
+                : maxConcurrentStreams - streams.size();
+    }
+
+    /**
+     * Returns true if no new stream will ever be opened on this connection.
+     */
+    synchronized boolean isShuttingDown() {
+        return failure != null || goingAway;
+    }
+
+    /**
+     * Returns the number of nanoseconds this connection has had no active
+     * stream; zero if it currently has some.
+     */
+    synchronized long idleNanos() {
+        return streams.isEmpty() ? System.nanoTime() - idleSinceNanos : 0;
+    }
+
+    /**
+     * Opens a new stream by sending the given request headers.
+     *
+     * @return the new stream; or null if the connection has no stream
+     *         capacity left.
+     */
+    Http2Stream newStream(List<HeaderField> requestHeaders, boolean endStream) throws IOException {
+        final byte[] block = encoder.encode(requestHeaders);
+        synchronized (writeLock) {
+            final Http2Stream stream;
+            final int frameSize;
+            synchronized (this) {
+                if (availableStreams() <= 0) {
+                    return null;
+                }
+                final int id = nextStreamId;
+                if (id >= MAX_STREAM_ID - 2) {
+                    // stream ids exhausted; let new requests use a new connection
+                    goingAway = true;
+                }
+                nextStreamId += 2;
+                stream = new Http2Stream(this, id, initialSendWindow, readTimeoutMillis);
+                stream.localClosed = endStream;
+                streams.put(id, stream);
+                frameSize = maxSendFrameSize;
+            }
+            try {
+                int off = 0;
+                int type = TYPE_HEADERS;
+                do {
+                    final int n = Math.min(frameSize, block.length - off);
+                    final boolean last = off + n == block.length;
+                    int flags = last ? FLAG_END_HEADERS : 0;
+                    if (endStream && type == TYPE_HEADERS) {
+                        flags |= FLAG_END_STREAM;
+                    }
+                    writeHeader(out, n, type, flags, stream.id);
+                    out.write(block, off, n);
+                    off += n;
+                    type = TYPE_CONTINUATION;
+                } while (off < block.length);
+                out.flush();
+            } catch (IOException e) {
+                fail(e);
+                throw e;
+            }
+            return stream;
+        }
+    }
+
+    /**
+     * Writes the given request body data, waiting as necessary for the flow
+     * control windows.
+     */
+    void writeData(Http2Stream stream, byte[] buf, int off, int len, boolean endStream)
+            throws IOException {
+        do {
+            final int n;
+            synchronized (this) {
+                final long deadline = readTimeoutMillis > 0
+                        ? System.nanoTime() + readTimeoutMillis * 1000000L
+                        : 0;
+                while (true) {
+                    ensureWritable(stream);
+                    final long window = Math.min(stream.sendWindow, connectionSendWindow);
+                    if (len == 0) {
+                        // an empty frame ending the stream needs no window
+                        n = 0;
+                        break;
+                    }
+                    if (window > 0) {
+                        n = (int) Math.min(Math.min(len, maxSendFrameSize), window);
+                        break;
+                    }
+                    awaitWindow(deadline);
+                }
+                stream.sendWindow -= n;
+                connectionSendWindow -= n;
+            }
+            final boolean last = endStream && n == len;
+            synchronized (writeLock) {
+                try {
+                    writeHeader(out, n, TYPE_DATA, last ? FLAG_END_STREAM : 0, stream.id);
+                    out.write(buf, off, n);
+                    out.flush();
+                } catch (IOException e) {
+                    fail(e);
+                    throw e;
+                }
+            }
+            off += n;
+            len -= n;
+            if (last) {
+                final boolean done;
+                synchronized (this) {
+                    stream.localClosed = true;
+                    done = stream.remoteDone;
+                }
+                if (done) {
+                    completed(stream);
+                }
+                return;
+            }
+        } while (len > 0);
+    }
+
+    private void ensureWritable(Http2Stream stream) throws IOException {
+        if (failure != null) {
+            throw new IOException("HTTP/2 connection to " + name + " failed", failure);
+        }
+        if (stream.reset) {
+            throw new IOException("HTTP/2 stream " + stream.id + " has been reset");
+        }
+        if (stream.localClosed) {
+            throw new IOException("HTTP/2 stream " + stream.id + " already ended");
+        }
+    }
+
+    private void awaitWindow(long deadline) throws IOException {
+        try {
+            if (deadline == 0) {
+                wait();
+                return;
+            }
+            final long remainingMillis = (deadline - System.nanoTime()) / 1000000L;
+            if (remainingMillis <= 0) {
+                throw new SocketTimeoutException(
+                        "Timed out waiting for the HTTP/2 flow control window of " + name);
+            }
+            wait(remainingMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException ie = new InterruptedIOException(
+                    "Interrupted while waiting for the HTTP/2 flow control window");
+            ie.initCause(e);
+            throw ie;
+        }
+    }
+
+    /**
+     * Called as response data is consumed, or discarded, to replenish the
+     * receive windows of the server.
+     *
+     * @param stream
+     *            the stream whose data has been consumed; or null if only the
+     *            connection window is to be replenished
+     */
+    void onConsumed(Http2Stream stream, int bytes) {
+        int connectionIncrement = 0;
+        int streamIncrement = 0;
+        synchronized (this) {
+            if (failure != null) {
+                return;
+            }
+            connectionUnackedBytes += bytes;
+            if (connectionUnackedBytes >= CONNECTION_RECEIVE_WINDOW / 2) {
+                connectionIncrement = connectionUnackedBytes;
+                connectionUnackedBytes = 0;
+            }
+            if (stream != null && !stream.remoteDone && streams.containsKey(stream.id)) {
+                stream.unackedBytes += bytes;
+                if (stream.unackedBytes >= STREAM_RECEIVE_WINDOW / 2) {
+                    streamIncrement = stream.unackedBytes;
+                    stream.unackedBytes = 0;
+                }
+            }
+        }
+        if (connectionIncrement == 0 && streamIncrement == 0) {
+            return;
+        }
+        synchronized (writeLock) {
+            try {
+                if (connectionIncrement > 0) {
+                    writeHeader(out, 4, TYPE_WINDOW_UPDATE, 0, 0);
+                    writeInt(out, connectionIncrement);
+                }
+                if (streamIncrement > 0) {
+                    writeHeader(out, 4, TYPE_WINDOW_UPDATE, 0, stream.id);
+                    writeInt(out, streamIncrement);
+                }
+                out.flush();
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+    }
+
+    /**
+     * Resets the given stream, unless it has already completed.
+     */
+    void resetStream(Http2Stream stream, int errorCode) {
+        synchronized (this) {
+            if (streams.get(stream.id) != stream) {
+                return;
+            }
+            stream.reset = true;
+            notifyAll();
+        }
+        synchronized (writeLock) {
+            try {
+                writeHeader(out, 4, TYPE_RST_STREAM, 0, stream.id);
+                writeInt(out, errorCode);
+                out.flush();
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+        completed(stream);
+    }
+
+    /**
+     * Gracefully closes this connection, failing any active stream.
+     */
+    @Override
+    public void close() {
+        synchronized (writeLock) {
+            try {
+                writeHeader(out, 8, TYPE_GOAWAY, 0, 0);
+                writeInt(out, 0);
+                writeInt(out, NO_ERROR);
+                out.flush();
+            } catch (IOException e) {
+                // closing anyway
+            }
+        }
+        fail(new IOException("HTTP/2 connection to " + name + " closed"));
+    }
+
+    private void readFrames() {
+        try {
+            Http2Frame frame;
+            while ((frame = Http2Frame.read(in, DEFAULT_MAX_FRAME_SIZE)) != null) {
+                onFrame(frame);
+            }
+            fail(new IOException("HTTP/2 connection to " + name + " closed by the server"));
+        } catch (IOException e) {
+            fail(e);
+        } catch (RuntimeException e) {
+            fail(new IOException("Unexpected failure reading from HTTP/2 connection", e));
+        }
+    }
+
+    private void onFrame(Http2Frame frame) throws IOException {
+        switch (frame.type) {
+            case TYPE_DATA:
+                onData(frame);
+                break;
+            case TYPE_HEADERS:
+                onHeaders(frame);
+                break;
+            case TYPE_RST_STREAM:
+                onReset(frame);
+                break;
+            case TYPE_SETTINGS:
+                if (!frame.hasFlag(FLAG_ACK)) {
+                    onSettings(frame);
+                }
+                break;
+            case TYPE_PING:
+                if (!frame.hasFlag(FLAG_ACK)) {
+                    synchronized (writeLock) {
+                        writeHeader(out, frame.payload.length, TYPE_PING, FLAG_ACK, 0);
+                        out.write(frame.payload);
+                        out.flush();
+                    }
+                }
+                break;
+            case TYPE_GOAWAY:
+                onGoAway(frame);
+                break;
+            case TYPE_WINDOW_UPDATE:
+                onWindowUpdate(frame);
+                break;
+            case TYPE_PUSH_PROMISE:
+            case TYPE_CONTINUATION:
+                throw protocolError("Unexpected HTTP/2 frame of type " + frame.type);
+            default:
+                // PRIORITY and unknown frame types are ignored
+                break;
+        }
+    }
+
+    private void onData(Http2Frame frame) throws IOException {
+        final byte[] payload = frame.payload;
+        int off = 0;
+        int len = payload.length;
+        if (frame.hasFlag(FLAG_PADDED)) {
+            if (len == 0) {
+                throw protocolError("Invalid padding");
+            }
+            final int padding = payload[0] & 0xff;
+            off = 1;
+            len -= 1 + padding;
+            if (len < 0) {
+                throw protocolError("Invalid padding");
+            }
+        }
+        final boolean endStream = frame.hasFlag(FLAG_END_STREAM);
+        final Http2Stream stream = stream(frame.streamId);
+        final boolean buffered = stream != null
+                && stream.onData(payload, off, len, endStream);
+        // padding, and data nobody is going to read, is credited right away
+        final int credit = buffered ? payload.length - len : payload.length;
+        if (credit > 0) {
+            onConsumed(buffered ? stream : null, credit);
+        }
+        if (endStream && stream != null) {
+            remoteClosed(stream);
+        }
+    }
+
+    private void onHeaders(Http2Frame frame) throws IOException {
+        final byte[] payload = frame.payload;
+        int off = 0;
+        int end = payload.length;
+        if (frame.hasFlag(FLAG_PADDED)) {
+            if (end == 0) {
+                throw protocolError("Invalid padding");
+            }
+            off = 1;
+            end -= payload[0] & 0xff;
+        }
+        if (frame.hasFlag(FLAG_PRIORITY)) {
+            off += 5;
+        }
+        if (end < off) {
+            throw protocolError("Invalid HEADERS frame");
+        }
+        ByteArrayOutputStream block = new ByteArrayOutputStream(end - off);
+        block.write(payload, off, end - off);
+        boolean endHeaders = frame.hasFlag(FLAG_END_HEADERS);
+        while (!endHeaders) {
+            final Http2Frame continuation = Http2Frame.read(in, DEFAULT_MAX_FRAME_SIZE);
+            if (continuation == null
+            ||  continuation.type != TYPE_CONTINUATION
+            ||  continuation.streamId != frame.streamId) {
+                throw protocolError("Expected a CONTINUATION frame");
+            }
+            block.write(continuation.payload, 0, continuation.payload.length);
+            endHeaders = continuation.hasFlag(FLAG_END_HEADERS);
+        }
+        // always decode, to keep the dynamic table in sync
+        final byte[] bytes = block.toByteArray();
+        final List<HeaderField> fields = decoder.decode(bytes, 0, bytes.length);
+        final boolean endStream = frame.hasFlag(FLAG_END_STREAM);
+        final Http2Stream stream = stream(frame.streamId);
+        if (stream != null) {
+            stream.onHeaders(fields, endStream);
+            if (endStream) {
+                remoteClosed(stream);
+            }
+        }
+    }
+
+    private void onReset(Http2Frame frame) throws IOException {
+        if (frame.payload.length != 4) {
+            throw protocolError("Invalid RST_STREAM frame");
+        }
+        final int errorCode = readInt(frame.payload, 0);
+        final Http2Stream stream;
+        synchronized (this) {
+            stream = streams.get(frame.streamId);
+            if (stream == null) {
+                return;
+            }
+            stream.reset = true;
+            notifyAll();
+        }
+        stream.fail(new IOException("HTTP/2 stream " + stream.id
+                + " reset by the server with error code " + errorCode));
+        completed(stream);
+    }
+
+    private void onSettings(Http2Frame frame) throws IOException {
+        final byte[] payload = frame.payload;
+        if (payload.length % 6 != 0) {
+            throw protocolError("Invalid SETTINGS frame");
+        }
+        synchronized (this) {
+            for (int i = 0; i < payload.length; i += 6) {
+                final int id = ((payload[i] & 0xff) << 8) | (payload[i + 1] & 0xff);
+                final int value = readInt(payload, i + 2);
+                switch (id) {
+                    case SETTINGS_MAX_CONCURRENT_STREAMS:
+                        maxConcurrentStreams = value < 0 ? Integer.MAX_VALUE : value;
+                        break;
+                    case SETTINGS_INITIAL_WINDOW_SIZE:
+                        if (value < 0) {
+                            throw protocolError("Invalid initial window size");
+                        }
+                        final int delta = value - initialSendWindow;
+                        for (Http2Stream stream: streams.values()) {
+                            stream.sendWindow += delta;
+                        }
+                        initialSendWindow = value;
+                        break;
+                    case SETTINGS_MAX_FRAME_SIZE:
+                        if (value < DEFAULT_MAX_FRAME_SIZE || value > 0xffffff) {
+                            throw protocolError("Invalid max frame size");
+                        }
+                        maxSendFrameSize = value;
+                        break;
+                    default:
+                        // the encoder never uses the dynamic table, so the
+                        // header table size does not matter
+                        break;
+                }
+            }
+            notifyAll();
+        }
+        synchronized (writeLock) {
+            writeHeader(out, 0, TYPE_SETTINGS, FLAG_ACK, 0);
+            out.flush();
+        }
+    }
+
+    private void onGoAway(Http2Frame frame) throws IOException {
+        if (frame.payload.length < 8) {
+            throw protocolError("Invalid GOAWAY frame");
+        }
+        final int lastStreamId = readInt(frame.payload, 0) & 0x7fffffff;
+        final int errorCode = readInt(frame.payload, 4);
+        final List<Http2Stream> refused = new ArrayList<Http2Stream>();
+        final boolean idle;
+        synchronized (this) {
+            goingAway = true;
+            for (Http2Stream stream: streams.values()) {
+                if (stream.id > lastStreamId) {
+                    stream.reset = true;
+                    refused.add(stream);
+                }
+            }
+            notifyAll();
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("GOAWAY received from " + name + " with error code " + errorCode);
+        }
+        for (Http2Stream stream: refused) {
+            // never processed by the server, so safe to be retried
+            stream.fail(new IOException("HTTP/2 stream " + stream.id
+                    + " refused as the server is shutting down the connection"));
+            completed(stream);
+        }
+        synchronized (this) {
+            idle = streams.isEmpty();
+        }
+        if (idle) {
+            fail(new IOException("HTTP/2 connection to " + name + " shut down by the server"));
+        }
+    }
+
+    private void onWindowUpdate(Http2Frame frame) throws IOException {
+        if (frame.payload.length != 4) {
+            throw protocolError("Invalid WINDOW_UPDATE frame");
+        }
+        final int increment = readInt(frame.payload, 0) & 0x7fffffff;
+        synchronized (this) {
+            if (frame.streamId == 0) {
+                connectionSendWindow += increment;
+            } else {
+                Http2Stream stream = streams.get(frame.streamId);
+                if (stream != null) {
+                    stream.sendWindow += increment;
+                }
+            }
+            notifyAll();
+        }
+    }
+
+    private synchronized Http2Stream stream(int id) {
+        return streams.get(id);
+    }
+
+    private void remoteClosed(Http2Stream stream) {
+        final boolean done;
+        synchronized (this) {
+            stream.remoteDone = true;
+            done = stream.localClosed;
+        }
+        if (done) {
+            completed(stream);
+        }
+    }
+
+    /**
+     * Removes the given stream from the active streams, if it is still there.
+     */
+    private void completed(Http2Stream stream) {
+        final boolean shutdown;
+        synchronized (this) {
+            if (streams.get(stream.id) != stream) {
+                return;
+            }
+            streams.remove(stream.id);
+            if (streams.isEmpty()) {
+                idleSinceNanos = System.nanoTime();
+            }
+            shutdown = goingAway && streams.isEmpty() && failure == null;
+        }
+        if (shutdown) {
+            fail(new IOException("HTTP/2 connection to " + name + " shut down"));
+        }
+        listener.onStreamCompleted(this);
+    }
+
+    /**
+     * Fails the connection and all its active streams.
+     */
+    private void fail(IOException cause) {
+        final List<Http2Stream> active;
+        synchronized (this) {
+            if (failure != null) {
+                return;
+            }
+            failure = cause;
+            active = new ArrayList<Http2Stream>(streams.values());
+            streams.clear();
+            notifyAll();
+        }
+        for (Http2Stream stream: active) {
+            stream.fail(cause);
+        }
+        closeSocket();
+        listener.onStreamCompleted(this);
+    }
+
+    private void closeSocket() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            log.debug("Failed to close the socket of " + name, e);
+        }
+    }
+
+    private void writeSetting(int id, int value) throws IOException {
+        out.write(id >>> 8);
+        out.write(id);
+        writeInt(out, value);
+    }
+
+    private IOException protocolError(String message) {
+        return new IOException(message + " on HTTP/2 connection to " + name);
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.http2;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Keeps a few multiplexed {@link Http2Connection}s per endpoint. A new stream
+ * goes to the connection with the most spare stream capacity; a new connection
+ * is only opened when all the existing ones are at the concurrency limit set
+ * by the server, up to a maximum number of connections per endpoint. Endpoints
+ * which turn out not to speak HTTP/2 are remembered, so that their requests
+ * are sent over HTTP/1.1 from then on.
+ */
+final class Http2ConnectionPool implements Http2Connection.Listener {
+    private static final Log log = LogFactory.getLog(Http2ConnectionPool.class);
+
+    /**
+     * Opens sockets ready for HTTP/2 to an endpoint.
+     */
+    interface Connector {
+        /**
+         * Returns a connected socket, with h2 negotiated if secure; or null
+         * if HTTP/2 cannot be used with the given endpoint.
+         */
+        Socket connect(String scheme, String host, int port) throws IOException;
+    }
+
+    private final Connector connector;
+    private final int maxConnectionsPerEndpoint;
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+
+    // Guarded by this
+    private final Map<String, Endpoint> endpoints = new HashMap<String, Endpoint>();
+    private boolean shutdown;
+
+    /**
+     * @param connectTimeoutMillis
+     *            maximum time to wait for a connection to be established, or
+     *            for stream capacity to become available; zero for no limit
+     * @param readTimeoutMillis
+     *            maximum time to wait for the server on any given stream; zero
+     *            for no limit
+     */
+    Http2ConnectionPool(Connector connector, int maxConnectionsPerEndpoint,
+            int connectTimeoutMillis, int readTimeoutMillis) {
+        if (maxConnectionsPerEndpoint < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.connector = connector;
+        this.maxConnectionsPerEndpoint = maxConnectionsPerEndpoint;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    /**
+     * Returns false if the given endpoint is known not to speak HTTP/2.
+     */
+    synchronized boolean isHttp2Supported(String scheme, String host, int port) {
+        Endpoint endpoint = endpoints.get(key(scheme, host, port));
+        return endpoint == null || !endpoint.http2Unsupported;
+    }
+
+    /**
+     * Opens a new stream to the given endpoint, connecting as necessary.
+     *
+     * @return the new stream; or null if the endpoint does not speak HTTP/2.
+     */
+    Http2Stream newStream(String scheme, String host, int port,
+            List<HeaderField> requestHeaders, boolean endStream) throws IOException {
+        final String key = key(scheme, host, port);
+        final long deadline = connectTimeoutMillis > 0
+                ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(connectTimeoutMillis)
+                : 0;
+        while (true) {
+            final Endpoint endpoint;
+            Http2Connection connection = null;
+            synchronized (this) {
+                if (shutdown) {
+                    throw new IOException("HTTP/2 connection pool shut down");
+                }
+                endpoint = endpoint(key);
+                if (endpoint.http2Unsupported) {
+                    return null;
+                }
+                int mostAvailable = 0;
+                for (Iterator<Http2Connection> it = endpoint.connections.iterator(); it.hasNext();) {
+                    Http2Connection c = it.next();
+                    if (c.isShuttingDown()) {
+                        // it completes its active streams on its own
+                        it.remove();
+                        continue;
+                    }
+                    final int available = c.availableStreams();
+                    if (available > mostAvailable) {
+                        mostAvailable = available;
+                        connection = c;
+                    }
+                }
+                if (connection == null) {
+                    // wait for a connection being established rather than
+                    // racing it with another one
+                    if (endpoint.connecting > 0
+                            || endpoint.connections.size() >= maxConnectionsPerEndpoint) {
+                        awaitCapacity(deadline);
+                        continue;
+                    }
+                    endpoint.connecting++;
+                }
+            }
+            if (connection != null) {
+                final Http2Stream stream = connection.newStream(requestHeaders, endStream);
+                if (stream != null) {
+                    return stream;
+                }
+                // raced with other requests for the last stream; try again
+                continue;
+            }
+            if (!connect(endpoint, scheme, host, port)) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Closes the connections that have had no active stream for at least the
+     * given time.
+     */
+    void closeIdleConnections(long idleTime, TimeUnit unit) {
+        final long idleNanos = unit.toNanos(idleTime);
+        final List<Http2Connection> idle = new ArrayList<Http2Connection>();
+        synchronized (this) {
+            for (Endpoint endpoint: endpoints.values()) {
+                for (Iterator<Http2Connection> it = endpoint.connections.iterator(); it.hasNext();) {
+                    Http2Connection c = it.next();
+                    if (c.idleNanos() >= idleNanos) {
+                        it.remove();
+                        idle.add(c);
+                    }
+                }
+            }
+        }
+        for (Http2Connection c: idle) {
+            c.close();
+        }
+    }
+
+    /**
+     * Closes all the connections, failing any active stream.
+     */
+    void shutdown() {
+        final List<Http2Connection> all = new ArrayList<Http2Connection>();
+        synchronized (this) {
+            shutdown = true;
+            for (Endpoint endpoint: endpoints.values()) {
+                all.addAll(endpoint.connections);
+            }
+            endpoints.clear();
+            notifyAll();
+        }
+        for (Http2Connection c: all) {
+            c.close();
+        }
+    }
+
+    @Override
+    public synchronized void onStreamCompleted(Http2Connection connection) {
+        notifyAll();
+    }
+
+    /**
+     * Opens a new connection to the given endpoint.
+     *
+     * @return false if the endpoint does not speak HTTP/2; true otherwise.
+     */
+    private boolean connect(Endpoint endpoint, String scheme, String host, int port)
+            throws IOException {
+        Http2Connection connection = null;
+        boolean attempted = false;
+        try {
+            final Socket socket = connector.connect(scheme, host, port);
+            if (socket != null) {
+                connection = new Http2Connection(socket, host + ":" + port,
+                        readTimeoutMillis, this);
+                if (!connection.start(connectTimeoutMillis)) {
+                    connection = null;
+                }
+            }
+            attempted = true;
+        } finally {
+            final boolean closeConnection;
+            synchronized (this) {
+                endpoint.connecting--;
+                closeConnection = connection != null && shutdown;
+                if (connection == null) {
+                    // unless the connection attempt failed, this means the
+                    // endpoint does not speak HTTP/2
+                    endpoint.http2Unsupported = attempted;
+                } else if (!shutdown) {
+                    endpoint.connections.add(connection);
+                }
+                notifyAll();
+            }
+            if (closeConnection) {
+                connection.close();
+            }
+        }
+        if (connection == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("HTTP/2 is not available for " + scheme + "://" + host + ":" + port
+                        + "; using HTTP/1.1 instead");
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private void awaitCapacity(long deadline) throws IOException {
+        try {
+            if (deadline == 0) {
+                wait();
+                return;
+            }
+            final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                throw new IOException("Timeout waiting for HTTP/2 stream capacity");
+            }
+            wait(remainingMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for HTTP/2 stream capacity", e);
+        }
+    }
+
+    private Endpoint endpoint(String key) {
+        Endpoint endpoint = endpoints.get(key);
+        if (endpoint == null) {
+            endpoint = new Endpoint();
+            endpoints.put(key, endpoint);
+        }
+        return endpoint;
+    }
+
+    private static String key(String scheme, String host, int port) {
+        return scheme + "://" + host + ":" + port;
+    }
+
+    private static final class Endpoint {
+        final List<Http2Connection> connections = new ArrayList<Http2Connection>();
+        int connecting;
+        boolean http2Unsupported;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.http2;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An HTTP/2 frame, as defined in RFC 7540 section 4, together with the
+ * protocol constants used by this package.
+ */
+final class Http2Frame {
+    static final byte[] CONNECTION_PREFACE =
+            "PRI * HTTP/2.0\r\n\r\nSM\r\n\r\n".getBytes(Hpack.ISO_8859_1);
+    static final int HEADER_LENGTH = 9;
+
+    static final int TYPE_DATA = 0x0;
+    static final int TYPE_HEADERS = 0x1;
+    static final int TYPE_PRIORITY = 0x2;
+    static final int TYPE_RST_STREAM = 0x3;
+    static final int TYPE_SETTINGS = 0x4;
+    static final int TYPE_PUSH_PROMISE = 0x5;
+    static final int TYPE_PING = 0x6;
+    static final int TYPE_GOAWAY = 0x7;
+    static final int TYPE_WINDOW_UPDATE = 0x8;
+    static final int TYPE_CONTINUATION = 0x9;
+
+    static final int FLAG_END_STREAM = 0x1;
+    static final int FLAG_ACK = 0x1;
+    static final int FLAG_END_HEADERS = 0x4;
+    static final int FLAG_PADDED = 0x8;
+    static final int FLAG_PRIORITY = 0x20;
+
+    static final int SETTINGS_HEADER_TABLE_SIZE = 0x1;
+    static final int SETTINGS_ENABLE_PUSH = 0x2;
+    static final int SETTINGS_MAX_CONCURRENT_STREAMS = 0x3;
+    static final int SETTINGS_INITIAL_WINDOW_SIZE = 0x4;
+    static final int SETTINGS_MAX_FRAME_SIZE = 0x5;
+
+    static final int NO_ERROR = 0x0;
+    static final int PROTOCOL_ERROR = 0x1;
+    static final int FLOW_CONTROL_ERROR = 0x3;
+    static final int FRAME_SIZE_ERROR = 0x6;
+    static final int REFUSED_STREAM = 0x7;
+    static final int CANCEL = 0x8;
+
+    /** Default for both the initial window size and the max frame size. */
+    static final int DEFAULT_WINDOW_SIZE = 65535;
+    static final int DEFAULT_MAX_FRAME_SIZE = 16384;
+
+    final int type;
+    final int flags;
+    final int streamId;
+    final byte[] payload;
+
+    Http2Frame(int type, int flags, int streamId, byte[] payload) {
+        this.type = type;
+        this.flags = flags;
+        this.streamId = streamId;
+        this.payload = payload;
+    }
+
+    boolean hasFlag(int flag) {
+        return (flags & flag) != 0;
+    }
+
+    /**
+     * Reads the next frame; or returns null if the stream ends cleanly before
+     * a new frame.
+     */
+    static Http2Frame read(DataInputStream in, int maxFrameSize) throws IOException {
+        final int first = in.read();
+        if (first < 0) {
+            return null;
+        }
+        final int length = (first << 16) | in.readUnsignedShort();
+        final int type = in.readUnsignedByte();
+        final int flags = in.readUnsignedByte();
+        final int streamId = in.readInt() & 0x7fffffff;
+        if (length > maxFrameSize) {
+            throw new IOException("HTTP/2 frame of " + length
+                    + " bytes exceeds the maximum frame size");
+        }
+        final byte[] payload = new byte[length];
+        try {
+            in.readFully(payload);
+        } catch (EOFException e) {
+            throw new IOException("Truncated HTTP/2 frame");
+        }
+        return new Http2Frame(type, flags, streamId, payload);
+    }
+
+    static void writeHeader(OutputStream out, int length, int type, int flags, int streamId)
+            throws IOException {
+        out.write(length >>> 16);
+        out.write(length >>> 8);
+        out.write(length);
+        out.write(type);
+        out.write(flags);
+        writeInt(out, streamId);
+    }
+
+    static void writeInt(OutputStream out, int value) throws IOException {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+    static int readInt(byte[] buf, int off) {
+        return ((buf[off] & 0xff) << 24)
+                | ((buf[off + 1] & 0xff) << 16)
+                | ((buf[off + 2] & 0xff) << 8)
+                | (buf[off + 3] & 0xff);
+    }
+}
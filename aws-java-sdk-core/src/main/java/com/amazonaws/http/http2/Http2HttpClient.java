@@ -0,0 +1,307 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.http2;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.ProtocolVersion;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.entity.GzipDecompressingEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpExecutionAware;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.concurrent.Cancellable;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.impl.EnglishReasonPhraseCatalog;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.util.EntityUtils;
+
+import com.amazonaws.http.apache.client.impl.CRC32ChecksumResponseInterceptor;
+import com.amazonaws.http.apache.client.impl.ConnectionManagerAwareHttpClient;
+import com.amazonaws.http.settings.HttpClientSettings;
+
+/**
+ * An http client which sends requests as HTTP/2 streams multiplexed over the
+ * connections of a {@link Http2ConnectionPool}, and falls back to the given
+ * HTTP/1.1 client for requests going through a proxy or to endpoints which
+ * don't speak HTTP/2.
+ */
+final class Http2HttpClient implements ConnectionManagerAwareHttpClient {
+    private static final ProtocolVersion HTTP_2 = new ProtocolVersion("HTTP", 2, 0);
+    private static final List<String> CONNECTION_SPECIFIC_HEADERS = Arrays.asList(
+            "connection", "keep-alive", "proxy-connection", "transfer-encoding",
+            "upgrade", "host", "te", "expect");
+    private final ConnectionManagerAwareHttpClient delegate;
+    private final Http2ConnectionPool pool;
+    private final HttpClientConnectionManager cm;
+    private final boolean useProxy;
+    private final boolean useGzip;
+    private final HttpResponseInterceptor crc32Interceptor = new CRC32ChecksumResponseInterceptor();
+    private final boolean crc32FromCompressedData;
+
+    Http2HttpClient(ConnectionManagerAwareHttpClient delegate, Http2ConnectionPool pool,
+            HttpClientSettings settings) {
+        this.delegate = delegate;
+        this.pool = pool;
+        this.cm = new Http2ClientConnectionManager(delegate.getHttpClientConnectionManager(), pool);
+        this.useProxy = settings.getProxyHost() != null && settings.getProxyPort() > 0;
+        this.useGzip = settings.useGzip();
+        this.crc32FromCompressedData = settings.calculateCRC32FromCompressedData();
+    }
+
+    @Override
+    public HttpClientConnectionManager getHttpClientConnectionManager() {
+        return cm;
+    }
+
+    @Override
+    @Deprecated
+    public HttpParams getParams() {
+        return delegate.getParams();
+    }
+
+    @Override
+    @Deprecated
+    public ClientConnectionManager getConnectionManager() {
+        return delegate.getConnectionManager();
+    }
+
+    @Override
+    public HttpResponse execute(HttpUriRequest request) throws IOException, ClientProtocolException {
+        return execute(request, (HttpContext) null);
+    }
+
+    @Override
+    public HttpResponse execute(HttpUriRequest request, HttpContext context) throws IOException, ClientProtocolException {
+        return execute(URIUtils.extractHost(request.getURI()), request, context);
+    }
+
+    @Override
+    public HttpResponse execute(HttpHost target, HttpRequest request) throws IOException, ClientProtocolException {
+        return execute(target, request, (HttpContext) null);
+    }
+
+    @Override
+    public <T> T execute(HttpUriRequest request, ResponseHandler<? extends T> responseHandler) throws IOException, ClientProtocolException {
+        return execute(request, responseHandler, null);
+    }
+
+    @Override
+    public <T> T execute(HttpUriRequest request, ResponseHandler<? extends T> responseHandler, HttpContext context) throws IOException, ClientProtocolException {
+        return execute(URIUtils.extractHost(request.getURI()), request, responseHandler, context);
+    }
+
+    @Override
+    public <T> T execute(HttpHost target, HttpRequest request, ResponseHandler<? extends T> responseHandler) throws IOException, ClientProtocolException {
+        return execute(target, request, responseHandler, null);
+    }
+
+    @Override
+    public <T> T execute(HttpHost target, HttpRequest request, ResponseHandler<? extends T> responseHandler, HttpContext context) throws IOException, ClientProtocolException {
+        final HttpResponse response = execute(target, request, context);
+        try {
+            return responseHandler.handleResponse(response);
+        } finally {
+            EntityUtils.consumeQuietly(response.getEntity());
+        }
+    }
+
+    @Override
+    public HttpResponse execute(HttpHost target, HttpRequest request, HttpContext context) throws IOException, ClientProtocolException {
+        if (target == null || useProxy) {
+            return delegate.execute(target, request, context);
+        }
+        final String scheme = target.getSchemeName();
+        final String host = target.getHostName();
+        final int port = target.getPort() > 0 ? target.getPort()
+                : "https".equalsIgnoreCase(scheme) ? 443 : 80;
+        if (!pool.isHttp2Supported(scheme, host, port)) {
+            return delegate.execute(target, request, context);
+        }
+
+        final HttpEntity entity = request instanceof HttpEntityEnclosingRequest
+                ? ((HttpEntityEnclosingRequest) request).getEntity()
+                : null;
+        final Http2Stream stream = pool.newStream(scheme, host, port,
+                requestHeaders(target, request, entity), entity == null);
+        if (stream == null) {
+            return delegate.execute(target, request, context);
+        }
+        if (request instanceof HttpExecutionAware) {
+            final HttpExecutionAware executionAware = (HttpExecutionAware) request;
+            executionAware.setCancellable(new Cancellable() {
+                @Override
+                public boolean cancel() {
+                    stream.cancel();
+                    return true;
+                }
+            });
+            if (executionAware.isAborted()) {
+                stream.cancel();
+                throw new IOException("Request aborted");
+            }
+        }
+        try {
+            if (entity != null) {
+                final OutputStream out = stream.getRequestBody();
+                entity.writeTo(out);
+                out.close();
+            }
+            return response(stream, context == null ? new BasicHttpContext() : context);
+        } catch (IOException e) {
+            stream.cancel();
+            throw e;
+        } catch (HttpException e) {
+            stream.cancel();
+            throw new ClientProtocolException(e);
+        } catch (RuntimeException e) {
+            stream.cancel();
+            throw e;
+        }
+    }
+
+    private List<HeaderField> requestHeaders(HttpHost target, HttpRequest request, HttpEntity entity) {
+        final List<HeaderField> fields = new ArrayList<HeaderField>();
+        final Header hostHeader = request.getFirstHeader("Host");
+        String path = request.getRequestLine().getUri();
+        if (request instanceof HttpUriRequest) {
+            path = ((HttpUriRequest) request).getURI().getRawPath();
+            final String query = ((HttpUriRequest) request).getURI().getRawQuery();
+            if (query != null) {
+                path = path + "?" + query;
+            }
+        }
+        fields.add(new HeaderField(":method", request.getRequestLine().getMethod()));
+        fields.add(new HeaderField(":scheme", target.getSchemeName()));
+        fields.add(new HeaderField(":authority",
+                hostHeader != null ? hostHeader.getValue() : target.toHostString()));
+        fields.add(new HeaderField(":path", path == null || path.isEmpty() ? "/" : path));
+        for (Header header: request.getAllHeaders()) {
+            final String name = header.getName().toLowerCase(Locale.ENGLISH);
+            if (!CONNECTION_SPECIFIC_HEADERS.contains(name) && header.getValue() != null) {
+                fields.add(new HeaderField(name, header.getValue()));
+            }
+        }
+        if (entity != null) {
+            if (entity.getContentLength() >= 0 && request.getFirstHeader("Content-Length") == null) {
+                fields.add(new HeaderField("content-length", Long.toString(entity.getContentLength())));
+            }
+            if (entity.getContentType() != null && request.getFirstHeader("Content-Type") == null) {
+                fields.add(new HeaderField("content-type", entity.getContentType().getValue()));
+            }
+            if (entity.getContentEncoding() != null && request.getFirstHeader("Content-Encoding") == null) {
+                fields.add(new HeaderField("content-encoding", entity.getContentEncoding().getValue()));
+            }
+        }
+        if (useGzip && request.getFirstHeader("Accept-Encoding") == null) {
+            fields.add(new HeaderField("accept-encoding", "gzip"));
+        }
+        return fields;
+    }
+
+    private HttpResponse response(Http2Stream stream, HttpContext context)
+            throws IOException, HttpException {
+        final List<HeaderField> fields = stream.awaitResponseHeaders();
+        final int status;
+        try {
+            status = Integer.parseInt(Http2Stream.status(fields));
+        } catch (NumberFormatException e) {
+            throw new ClientProtocolException("Invalid HTTP/2 response status");
+        }
+        final Http2HttpResponse response = new Http2HttpResponse(status, stream);
+        String contentType = null;
+        String contentEncoding = null;
+        long contentLength = -1;
+        for (HeaderField field: fields) {
+            if (field.name.startsWith(":")) {
+                continue;
+            }
+            // Names are lower case in HTTP/2; the SDK looks headers up case-insensitively
+            response.addHeader(field.name, field.value);
+            if ("content-type".equals(field.name)) {
+                contentType = field.value;
+            } else if ("content-encoding".equals(field.name)) {
+                contentEncoding = field.value;
+            } else if ("content-length".equals(field.name)) {
+                try {
+                    contentLength = Long.parseLong(field.value);
+                } catch (NumberFormatException ignored) {
+                    // left unknown
+                }
+            }
+        }
+        final BasicHttpEntity entity = new BasicHttpEntity();
+        entity.setContent(stream.getResponseBody());
+        entity.setContentLength(contentLength);
+        entity.setContentType(contentType);
+        entity.setContentEncoding(contentEncoding);
+        response.setEntity(entity);
+
+        if (crc32FromCompressedData) {
+            crc32Interceptor.process(response, context);
+        }
+        if (useGzip && contentEncoding != null
+                && "gzip".equalsIgnoreCase(contentEncoding.trim())) {
+            // the same as Apache's ResponseContentEncoding does over HTTP/1.1
+            response.setEntity(new GzipDecompressingEntity(response.getEntity()));
+            response.removeHeaders("Content-Length");
+            response.removeHeaders("Content-Encoding");
+            response.removeHeaders("Content-MD5");
+        }
+        if (!crc32FromCompressedData) {
+            crc32Interceptor.process(response, context);
+        }
+        return response;
+    }
+
+    private static final class Http2HttpResponse extends BasicHttpResponse
+            implements CloseableHttpResponse {
+        private final Http2Stream stream;
+
+        Http2HttpResponse(int status, Http2Stream stream) {
+            super(new BasicStatusLine(HTTP_2, status,
+                    EnglishReasonPhraseCatalog.INSTANCE.getReason(status, Locale.ENGLISH)));
+            this.stream = stream;
+        }
+
+        @Override
+        public void close() throws IOException {
+            final InputStream content = stream.getResponseBody();
+            content.close();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.http2;
+
+import com.amazonaws.annotation.Beta;
+import com.amazonaws.http.IdleConnectionReaper;
+import com.amazonaws.http.apache.client.impl.ApacheHttpClientFactory;
+import com.amazonaws.http.apache.client.impl.ConnectionManagerAwareHttpClient;
+import com.amazonaws.http.client.HttpClientFactory;
+import com.amazonaws.http.settings.HttpClientSettings;
+
+/**
+ * Factory class that builds an http client sending requests over HTTP/2,
+ * multiplexed over a few connections per endpoint. HTTP/2 is used with prior
+ * knowledge (h2c) for plain HTTP endpoints and negotiated via ALPN for HTTPS
+ * endpoints; requests going through a proxy, or to endpoints where HTTP/2
+ * cannot be used, are sent over HTTP/1.1 by a client built by
+ * {@link ApacheHttpClientFactory}.
+ * <p>
+ * To use it, set it on the client configuration:
+ *
+ * <pre>
+ * new ClientConfiguration().withHttpClientFactory(new Http2HttpClientFactory());
+ * </pre>
+ */
+@Beta
+public class Http2HttpClientFactory implements HttpClientFactory<ConnectionManagerAwareHttpClient> {
+    /** The default maximum number of HTTP/2 connections per endpoint. */
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ENDPOINT = 2;
+
+    private final int maxConnectionsPerEndpoint;
+
+    public Http2HttpClientFactory() {
+        this(DEFAULT_MAX_CONNECTIONS_PER_ENDPOINT);
+    }
+
+    /**
+     * @param maxConnectionsPerEndpoint
+     *            the maximum number of HTTP/2 connections to open to any one
+     *            endpoint; more are only opened when the existing ones are
+     *            at the limit of concurrent streams set by the server.
+     */
+    public Http2HttpClientFactory(int maxConnectionsPerEndpoint) {
+        if (maxConnectionsPerEndpoint < 1) {
+            throw new IllegalArgumentException("maxConnectionsPerEndpoint must be positive");
+        }
+        this.maxConnectionsPerEndpoint = maxConnectionsPerEndpoint;
+    }
+
+    @Override
+    public ConnectionManagerAwareHttpClient create(HttpClientSettings settings) {
+        final ConnectionManagerAwareHttpClient delegate = new ApacheHttpClientFactory().create(settings);
+        final Http2ConnectionPool pool = new Http2ConnectionPool(
+                new Http2SocketConnector(settings), maxConnectionsPerEndpoint,
+                settings.getConnectionTimeout(), settings.getSocketTimeout());
+        final Http2HttpClient httpClient = new Http2HttpClient(delegate, pool, settings);
+
+        if (settings.useReaper()) {
+            // reap the HTTP/2 connections along with the HTTP/1.1 ones
+            IdleConnectionReaper.removeConnectionManager(delegate.getHttpClientConnectionManager());
+            IdleConnectionReaper.registerConnectionManager(httpClient.getHttpClientConnectionManager());
+        }
+        return httpClient;
+    }
+}
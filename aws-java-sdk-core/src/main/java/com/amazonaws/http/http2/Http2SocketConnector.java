@@ -0,0 +1,158 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.http2;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSocket;
+
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+
+import com.amazonaws.DnsResolver;
+import com.amazonaws.SDKGlobalConfiguration;
+import com.amazonaws.http.settings.HttpClientSettings;
+import com.amazonaws.internal.SdkSSLContext;
+
+/**
+ * Opens the sockets of HTTP/2 connections: with prior knowledge (h2c) for
+ * plain HTTP, and with h2 negotiated via ALPN for HTTPS.
+ * <p>
+ * ALPN is only available from the JSSE of Java 8u252/9 onwards, and is
+ * therefore accessed reflectively; HTTPS endpoints fall back to HTTP/1.1 on
+ * older runtimes.
+ */
+final class Http2SocketConnector implements Http2ConnectionPool.Connector {
+    private static final String H2 = "h2";
+    private static final Method SET_APPLICATION_PROTOCOLS =
+            method(SSLParameters.class, "setApplicationProtocols", String[].class);
+    private static final Method GET_APPLICATION_PROTOCOL =
+            method(SSLSocket.class, "getApplicationProtocol");
+
+    private final HttpClientSettings settings;
+    private final DnsResolver dnsResolver;
+    private final HostnameVerifier hostnameVerifier;
+    private volatile SSLContext sslContext;
+
+    Http2SocketConnector(HttpClientSettings settings) {
+        this.settings = settings;
+        this.dnsResolver = settings.getDnsResolver();
+        this.hostnameVerifier = settings.useBrowserCompatibleHostNameVerifier()
+                ? SSLConnectionSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER
+                : SSLConnectionSocketFactory.STRICT_HOSTNAME_VERIFIER;
+    }
+
+    /**
+     * Returns true if the runtime supports ALPN, which is required for HTTP/2
+     * over TLS.
+     */
+    static boolean isAlpnSupported() {
+        return SET_APPLICATION_PROTOCOLS != null && GET_APPLICATION_PROTOCOL != null;
+    }
+
+    @Override
+    public Socket connect(String scheme, String host, int port) throws IOException {
+        final boolean secure = "https".equalsIgnoreCase(scheme);
+        if (secure && (!isAlpnSupported() || SDKGlobalConfiguration.isCertCheckingDisabled())) {
+            return null;
+        }
+        final Socket socket = connectSocket(host, port);
+        if (!secure) {
+            return socket;
+        }
+        try {
+            final SSLSocket sslSocket = (SSLSocket) sslContext().getSocketFactory()
+                    .createSocket(socket, host, port, true);
+            final SSLParameters params = sslSocket.getSSLParameters();
+            invoke(SET_APPLICATION_PROTOCOLS, params, new String[] {H2, "http/1.1"});
+            sslSocket.setSSLParameters(params);
+            sslSocket.startHandshake();
+            if (!hostnameVerifier.verify(host, sslSocket.getSession())) {
+                sslSocket.close();
+                throw new SSLPeerUnverifiedException("Certificate for <" + host
+                        + "> doesn't match any of the subject alternative names");
+            }
+            if (!H2.equals(invoke(GET_APPLICATION_PROTOCOL, sslSocket))) {
+                sslSocket.close();
+                return null;
+            }
+            return sslSocket;
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    private Socket connectSocket(String host, int port) throws IOException {
+        final InetAddress[] addresses = dnsResolver.resolve(host);
+        IOException failure = null;
+        for (InetAddress address: addresses) {
+            final Socket socket = new Socket();
+            try {
+                socket.setTcpNoDelay(true);
+                socket.setKeepAlive(settings.useTcpKeepAlive());
+                final int[] bufferSizes = settings.getSocketBufferSize();
+                if (bufferSizes[0] > 0) {
+                    socket.setSendBufferSize(bufferSizes[0]);
+                }
+                if (bufferSizes[1] > 0) {
+                    socket.setReceiveBufferSize(bufferSizes[1]);
+                }
+                socket.setSoTimeout(settings.getSocketTimeout());
+                socket.connect(new InetSocketAddress(address, port),
+                        settings.getConnectionTimeout());
+                return socket;
+            } catch (IOException e) {
+                socket.close();
+                failure = e;
+            }
+        }
+        throw failure != null ? failure : new IOException("No address found for " + host);
+    }
+
+    private SSLContext sslContext() {
+        SSLContext context = sslContext;
+        if (context == null) {
+            sslContext = context = SdkSSLContext.getPreferredSSLContext(settings.getSecureRandom());
+        }
+        return context;
+    }
+
+    private static Method method(Class<?> clazz, String name, Class<?>... parameterTypes) {
+        try {
+            return clazz.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) throws IOException {
+        try {
+            return method.invoke(target, args);
+        } catch (IllegalAccessException e) {
+            throw new IOException("Unable to negotiate HTTP/2 via ALPN", e);
+        } catch (InvocationTargetException e) {
+            throw new IOException("Unable to negotiate HTTP/2 via ALPN", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.http2;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * A client initiated HTTP/2 stream, carrying a single request/response
+ * exchange over a shared {@link Http2Connection}.
+ * <p>
+ * The receive side state is guarded by this stream, and filled by the
+ * connection reader thread; the send side and flow control state is guarded
+ * by the connection.
+ */
+final class Http2Stream {
+    final int id;
+    private final Http2Connection connection;
+    private final int readTimeoutMillis;
+
+    // Guarded by the connection
+    long sendWindow;
+    boolean localClosed;
+    boolean remoteDone;
+    boolean reset;
+    int unackedBytes;
+
+    // Guarded by this
+    private List<HeaderField> responseHeaders;
+    private final ArrayDeque<byte[]> chunks = new ArrayDeque<byte[]>();
+    private int chunkOffset;
+    private boolean remoteClosed;
+    private boolean userClosed;
+    private IOException failure;
+
+    private final InputStream responseBody = new ResponseBodyInputStream();
+    private final OutputStream requestBody = new RequestBodyOutputStream();
+
+    Http2Stream(Http2Connection connection, int id, long sendWindow, int readTimeoutMillis) {
+        this.connection = connection;
+        this.id = id;
+        this.sendWindow = sendWindow;
+        this.readTimeoutMillis = readTimeoutMillis;
+    }
+
+    /**
+     * Returns the stream to which the request body, if any, is to be written.
+     * Closing it ends the request.
+     */
+    OutputStream getRequestBody() {
+        return requestBody;
+    }
+
+    /**
+     * Returns the stream from which the response body is to be read. Closing
+     * it before the end of the response cancels the stream.
+     */
+    InputStream getResponseBody() {
+        return responseBody;
+    }
+
+    /**
+     * Blocks until the final (non-informational) response headers are
+     * received, returning them including the pseudo-header fields.
+     */
+    synchronized List<HeaderField> awaitResponseHeaders() throws IOException {
+        final long deadline = deadline();
+        while (responseHeaders == null) {
+            if (failure != null) {
+                throw failure(failure);
+            }
+            if (remoteClosed) {
+                throw new IOException("HTTP/2 stream " + id + " ended without response headers");
+            }
+            await(deadline);
+        }
+        return responseHeaders;
+    }
+
+    /**
+     * Cancels this stream, failing any thread blocked on it.
+     */
+    void cancel() {
+        fail(new IOException("HTTP/2 stream " + id + " cancelled"));
+        connection.resetStream(this, Http2Frame.CANCEL);
+    }
+
+    synchronized void onHeaders(List<HeaderField> fields, boolean endStream) {
+        if (responseHeaders == null) {
+            final String status = status(fields);
+            if (status != null && status.startsWith("1") && !endStream) {
+                // informational response, eg 100-continue; keep waiting
+                return;
+            }
+            responseHeaders = fields;
+        }
+        // otherwise these are trailers, which are ignored
+        if (endStream) {
+            remoteClosed = true;
+        }
+        notifyAll();
+    }
+
+    /**
+     * Buffers the given response data.
+     *
+     * @return false if the data has been discarded, as nobody is going to
+     *         read it; true otherwise.
+     */
+    synchronized boolean onData(byte[] buf, int off, int len, boolean endStream) {
+        if (endStream) {
+            remoteClosed = true;
+        }
+        notifyAll();
+        if (userClosed || failure != null) {
+            return false;
+        }
+        if (len > 0) {
+            byte[] chunk = new byte[len];
+            System.arraycopy(buf, off, chunk, 0, len);
+            chunks.addLast(chunk);
+        }
+        return true;
+    }
+
+    synchronized void fail(IOException e) {
+        if (failure == null && !remoteClosed) {
+            failure = e;
+        }
+        notifyAll();
+    }
+
+    static String status(List<HeaderField> fields) {
+        for (HeaderField field: fields) {
+            if (":status".equals(field.name)) {
+                return field.value;
+            }
+        }
+        return null;
+    }
+
+    private long deadline() {
+        return readTimeoutMillis > 0
+                ? System.nanoTime() + readTimeoutMillis * 1000000L
+                : 0;
+    }
+
+    /**
+     * Waits on this stream until notified or the deadline passes; must be
+     * called while holding the lock of this stream.
+     */
+    private void await(long deadline) throws IOException {
+        try {
+            if (deadline == 0) {
+                wait();
+                return;
+            }
+            final long remainingMillis = (deadline - System.nanoTime()) / 1000000L;
+            if (remainingMillis <= 0) {
+                throw new SocketTimeoutException("Read timed out on HTTP/2 stream " + id);
+            }
+            wait(remainingMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException ie = new InterruptedIOException(
+                    "Interrupted while waiting on HTTP/2 stream " + id);
+            ie.initCause(e);
+            throw ie;
+        }
+    }
+
+    private static IOException failure(IOException cause) {
+        // rethrown as a new exception so the stack trace is that of the caller
+        IOException e = new IOException(cause.getMessage());
+        e.initCause(cause);
+        return e;
+    }
+
+    private final class ResponseBodyInputStream extends InputStream {
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            final int n;
+            synchronized (Http2Stream.this) {
+                final long deadline = deadline();
+                while (chunks.isEmpty()) {
+                    if (userClosed) {
+                        throw new IOException("HTTP/2 stream " + id + " closed");
+                    }
+                    if (failure != null) {
+                        throw failure(failure);
+                    }
+                    if (remoteClosed) {
+                        return -1;
+                    }
+                    await(deadline);
+                }
+                final byte[] chunk = chunks.peekFirst();
+                n = Math.min(len, chunk.length - chunkOffset);
+                System.arraycopy(chunk, chunkOffset, b, off, n);
+                chunkOffset += n;
+                if (chunkOffset == chunk.length) {
+                    chunks.removeFirst();
+                    chunkOffset = 0;
+                }
+            }
+            connection.onConsumed(Http2Stream.this, n);
+            return n;
+        }
+
+        @Override
+        public int available() {
+            synchronized (Http2Stream.this) {
+                int available = 0;
+                for (byte[] chunk: chunks) {
+                    available += chunk.length;
+                }
+                return available - chunkOffset;
+            }
+        }
+
+        @Override
+        public void close() {
+            final int unread;
+            final boolean cancel;
+            synchronized (Http2Stream.this) {
+                if (userClosed) {
+                    return;
+                }
+                unread = available();
+                userClosed = true;
+                chunks.clear();
+                cancel = !remoteClosed && failure == null;
+                Http2Stream.this.notifyAll();
+            }
+            // hand back the flow control credit of the discarded bytes
+            if (unread > 0) {
+                connection.onConsumed(null, unread);
+            }
+            if (cancel) {
+                connection.resetStream(Http2Stream.this, Http2Frame.CANCEL);
+            }
+        }
+    }
+
+    private final class RequestBodyOutputStream extends OutputStream {
+        private final byte[] buffer = new byte[Http2Frame.DEFAULT_MAX_FRAME_SIZE];
+        private int count;
+        private boolean closed;
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureOpen();
+            if (count == buffer.length) {
+                flushBuffer();
+            }
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureOpen();
+            while (len > 0) {
+                if (count == buffer.length) {
+                    flushBuffer();
+                }
+                final int n = Math.min(len, buffer.length - count);
+                System.arraycopy(b, off, buffer, count, n);
+                count += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            ensureOpen();
+            if (count > 0) {
+                flushBuffer();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                connection.writeData(Http2Stream.this, buffer, 0, count, true);
+                count = 0;
+            }
+        }
+
+        private void flushBuffer() throws IOException {
+            connection.writeData(Http2Stream.this, buffer, 0, count, false);
+            count = 0;
+        }
+
+        private void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("HTTP/2 request body already closed");
+            }
+        }
+    }
+}
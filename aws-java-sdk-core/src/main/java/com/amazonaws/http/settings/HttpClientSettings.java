@@ -103,6 +103,10 @@ public class HttpClientSettings {
         return config.useGzip();
     }
 
+    public boolean useSharedConnectionPool() {
+        return config.useSharedConnectionPool();
+    }
+
     public DnsResolver getDnsResolver() {
         return config.getDnsResolver();
     }
@@ -18,20 +18,76 @@ import org.apache.http.conn.ssl.SSLContexts;
 import org.apache.http.conn.ssl.SSLInitializationException;
 
 import javax.net.ssl.SSLContext;
+import java.lang.ref.WeakReference;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 public class SdkSSLContext {
 
     /**
+     * The maximum number of TLS client sessions cached for resumption.
+     */
+    private static final int SESSION_CACHE_SIZE = 4096;
+
+    /**
+     * The maximum time (in seconds) a cached TLS client session may be resumed.
+     */
+    private static final int SESSION_TIMEOUT_SECONDS = 24 * 60 * 60;
+
+    /**
+     * The context used with the default secure random. Contexts are shared so that clients
+     * resume the TLS sessions established by each other, rather than each paying for full
+     * handshakes; JSSE caches client sessions per context.
+     */
+    private static volatile SSLContext defaultContext;
+
+    /**
+     * The contexts used with secure randoms configured by the user; weakly referenced, as each
+     * context references its secure random.
+     */
+    private static final Map<SecureRandom, WeakReference<SSLContext>> contexts =
+            new WeakHashMap<SecureRandom, WeakReference<SSLContext>>();
+
+    /**
+     * Returns the context shared by all the clients using the given secure random (or the JDK
+     * default if null), which caches TLS client sessions for resumption.
+     *
      * @see SSLContexts#createDefault()
      */
     public static final SSLContext getPreferredSSLContext(final SecureRandom secureRandom) {
+        if (secureRandom == null) {
+            SSLContext context = defaultContext;
+            if (context == null) {
+                synchronized (contexts) {
+                    context = defaultContext;
+                    if (context == null) {
+                        defaultContext = context = createSSLContext(null);
+                    }
+                }
+            }
+            return context;
+        }
+        synchronized (contexts) {
+            final WeakReference<SSLContext> ref = contexts.get(secureRandom);
+            SSLContext context = ref == null ? null : ref.get();
+            if (context == null) {
+                context = createSSLContext(secureRandom);
+                contexts.put(secureRandom, new WeakReference<SSLContext>(context));
+            }
+            return context;
+        }
+    }
+
+    private static SSLContext createSSLContext(final SecureRandom secureRandom) {
         try {
             final SSLContext sslcontext = SSLContext.getInstance("TLS");
             // http://download.java.net/jdk9/docs/technotes/guides/security/jsse/JSSERefGuide.html
             sslcontext.init(null, null, secureRandom);
+            sslcontext.getClientSessionContext().setSessionCacheSize(SESSION_CACHE_SIZE);
+            sslcontext.getClientSessionContext().setSessionTimeout(SESSION_TIMEOUT_SECONDS);
             return sslcontext;
         } catch (final NoSuchAlgorithmException ex) {
             throw new SSLInitializationException(ex.getMessage(), ex);
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.util.AWSRequestMetrics;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.AWSRequestMetricsCompact;
+import com.amazonaws.util.TimingInfo;
+
+/**
+ * A request metric collector that aggregates the metrics of every request into
+ * {@link LatencyHistogram}s and counters per service operation, kept in memory
+ * for the application to read or publish. It supports compact request metrics,
+ * so requests collected by it record their metrics in
+ * {@link AWSRequestMetricsCompact} rather than the allocation heavy
+ * {@link com.amazonaws.util.AWSRequestMetricsFullSupport}; this makes it cheap
+ * enough to leave enabled in production. Metrics recorded by the full support
+ * (for instance when profiling is enabled) are aggregated as well.
+ * <p>
+ * Latencies are recorded in nanoseconds. Operations are identified by the type
+ * of the original request, so collecting metrics doesn't allocate once an
+ * operation has been seen.
+ *
+ * @see AwsSdkMetrics#setMetricCollector(MetricCollector)
+ * @see com.amazonaws.AmazonWebServiceRequest#setRequestMetricCollector(RequestMetricCollector)
+ */
+@ThreadSafe
+public class LatencyHistogramRequestMetricCollector extends RequestMetricCollector {
+
+    private final ConcurrentMap<Class<?>, OperationMetrics> operations =
+            new ConcurrentHashMap<Class<?>, OperationMetrics>();
+
+    @Override
+    public void collectMetrics(Request<?> request, Response<?> response) {
+        AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
+        Class<?> requestType = originalRequest == null ? AmazonWebServiceRequest.class : originalRequest.getClass();
+        OperationMetrics metrics = operations.get(requestType);
+        if (metrics == null) {
+            OperationMetrics newMetrics = new OperationMetrics(request.getServiceName(), operationName(requestType));
+            metrics = operations.putIfAbsent(requestType, newMetrics);
+            if (metrics == null) {
+                metrics = newMetrics;
+            }
+        }
+        metrics.record(request.getAWSRequestMetrics(), response);
+    }
+
+    /** Always returns true. */
+    @Override
+    public boolean isCompactMetricsSupported() {
+        return true;
+    }
+
+    /**
+     * Returns the metrics of every operation that has been called.
+     */
+    public Collection<OperationMetrics> getOperationMetrics() {
+        return Collections.unmodifiableCollection(operations.values());
+    }
+
+    /**
+     * Returns the metrics of the operation with the given request type; or null
+     * if it hasn't been called.
+     */
+    public OperationMetrics getOperationMetrics(Class<? extends AmazonWebServiceRequest> requestType) {
+        return operations.get(requestType);
+    }
+
+    /**
+     * Clears the metrics of all operations.
+     */
+    public void reset() {
+        operations.clear();
+    }
+
+    private static String operationName(Class<?> requestType) {
+        String name = requestType.getSimpleName();
+        return name.endsWith("Request") ? name.substring(0, name.length() - "Request".length()) : name;
+    }
+
+    /**
+     * Aggregated metrics of one service operation.
+     */
+    @ThreadSafe
+    public static final class OperationMetrics {
+        private final String serviceName;
+        private final String operationName;
+
+        private final LatencyHistogram clientExecuteTime = new LatencyHistogram();
+        private final LatencyHistogram httpRequestTime = new LatencyHistogram();
+        private final AtomicLong requestCount = new AtomicLong();
+        private final AtomicLong errorCount = new AtomicLong();
+        private final AtomicLong retryCount = new AtomicLong();
+        private final AtomicLong throttleCount = new AtomicLong();
+
+        private OperationMetrics(String serviceName, String operationName) {
+            this.serviceName = serviceName;
+            this.operationName = operationName;
+        }
+
+        private void record(AWSRequestMetrics metrics, Response<?> response) {
+            requestCount.incrementAndGet();
+            if (response == null) {
+                errorCount.incrementAndGet();
+            }
+            if (metrics instanceof AWSRequestMetricsCompact) {
+                AWSRequestMetricsCompact compact = (AWSRequestMetricsCompact) metrics;
+                recordLatency(clientExecuteTime, compact.getEventNanos(Field.ClientExecuteTime));
+                recordLatency(httpRequestTime, compact.getEventNanos(Field.HttpRequestTime));
+                recordRetries(compact.getCounter(Field.RequestCount));
+                addIfPositive(throttleCount, compact.getCounter(Field.ThrottleException));
+            } else if (metrics != null) {
+                TimingInfo timingInfo = metrics.getTimingInfo();
+                recordLatency(clientExecuteTime, totalNanos(timingInfo, Field.ClientExecuteTime));
+                recordLatency(httpRequestTime, totalNanos(timingInfo, Field.HttpRequestTime));
+                recordRetries(counter(timingInfo, Field.RequestCount));
+                addIfPositive(throttleCount, counter(timingInfo, Field.ThrottleException));
+            }
+        }
+
+        private void recordRetries(long requests) {
+            addIfPositive(retryCount, requests - 1);
+        }
+
+        private static void recordLatency(LatencyHistogram histogram, long nanos) {
+            if (nanos > 0) {
+                histogram.record(nanos);
+            }
+        }
+
+        private static void addIfPositive(AtomicLong counter, long value) {
+            if (value > 0) {
+                counter.addAndGet(value);
+            }
+        }
+
+        private static long totalNanos(TimingInfo timingInfo, Field field) {
+            List<TimingInfo> events = timingInfo.getAllSubMeasurements(field.name());
+            if (events == null) {
+                return 0;
+            }
+            double millis = 0;
+            for (TimingInfo event : events) {
+                Double taken = event.getTimeTakenMillisIfKnown();
+                if (taken != null) {
+                    millis += taken;
+                }
+            }
+            return (long) (millis * TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        private static long counter(TimingInfo timingInfo, Field field) {
+            Number value = timingInfo.getCounter(field.name());
+            return value == null ? 0 : value.longValue();
+        }
+
+        public String getServiceName() {
+            return serviceName;
+        }
+
+        /**
+         * Returns the name of the operation, which is the simple name of its
+         * request type without the "Request" suffix.
+         */
+        public String getOperationName() {
+            return operationName;
+        }
+
+        /**
+         * Returns the histogram of the total time, in nanoseconds, taken by
+         * calls to the operation, including retries and request handlers.
+         */
+        public LatencyHistogram getClientExecuteTime() {
+            return clientExecuteTime;
+        }
+
+        /**
+         * Returns the histogram of the time, in nanoseconds, each call spent
+         * in HTTP round trips to AWS, summed over its attempts.
+         */
+        public LatencyHistogram getHttpRequestTime() {
+            return httpRequestTime;
+        }
+
+        public long getRequestCount() {
+            return requestCount.get();
+        }
+
+        /**
+         * Returns the number of calls that failed with an exception.
+         */
+        public long getErrorCount() {
+            return errorCount.get();
+        }
+
+        public long getRetryCount() {
+            return retryCount.get();
+        }
+
+        public long getThrottleCount() {
+            return throttleCount.get();
+        }
+
+        @Override
+        public String toString() {
+            return serviceName + "." + operationName + ": requests=" + getRequestCount()
+                   + ", errors=" + getErrorCount() + ", retries=" + getRetryCount()
+                   + ", throttles=" + getThrottleCount()
+                   + ", p50=" + clientExecuteTime.getValueAtPercentile(50)
+                   + "ns, p99=" + clientExecuteTime.getValueAtPercentile(99)
+                   + "ns, max=" + clientExecuteTime.getMax() + "ns";
+        }
+    }
+}
@@ -43,6 +43,16 @@ public abstract class RequestMetricCollector {
     public abstract void collectMetrics(Request<?> request, Response<?> response);
     public boolean isEnabled() { return true; }
 
+    /**
+     * Returns true if this collector only needs the predefined
+     * {@link com.amazonaws.util.AWSRequestMetrics.Field}s, totalled per
+     * request, in which case requests record their metrics in a
+     * {@link com.amazonaws.util.AWSRequestMetricsCompact} instead of an
+     * {@link com.amazonaws.util.AWSRequestMetricsFullSupport}. Returns false by
+     * default.
+     */
+    public boolean isCompactMetricsSupported() { return false; }
+
     /** A convenient instance of a no-op request metric collector. */
     public static final RequestMetricCollector NONE = new RequestMetricCollector() {
         @Override public void collectMetrics(Request<?> request, Response<?> response) {}
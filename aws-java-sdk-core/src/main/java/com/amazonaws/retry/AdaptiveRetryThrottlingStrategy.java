@@ -0,0 +1,173 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.retry;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.retry.internal.AdaptiveRateLimiter;
+import com.amazonaws.retry.internal.RetryCircuitBreaker;
+import com.amazonaws.retry.internal.RetryTokenBucket;
+
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retry throttling strategy that keeps retries from amplifying the load on an
+ * endpoint that is already struggling. For each endpoint it keeps:
+ * <ul>
+ *   <li>a bucket of retry tokens. Each retry costs tokens and each successful
+ *   attempt returns some, so retries stop once most recent attempts failed;</li>
+ *   <li>a circuit breaker that stops all retries for a while once the ratio of
+ *   server errors, throttling errors and I/O errors in a window gets too high;</li>
+ *   <li>optionally, a rate limiter that kicks in after the first throttling
+ *   error and paces every attempt, initial or retry, at a rate it adapts
+ *   to further throttling errors.</li>
+ * </ul>
+ * An instance can be shared by several clients, in which case they share the
+ * state of every endpoint they have in common.
+ *
+ * @see RetryPolicy#RetryPolicy(RetryPolicy.RetryCondition, RetryPolicy.BackoffStrategy, int, boolean,
+ * RetryPolicy.RetryThrottlingStrategy)
+ */
+@ThreadSafe
+public class AdaptiveRetryThrottlingStrategy implements RetryPolicy.RetryThrottlingStrategy {
+
+    /** Default number of tokens in a full retry token bucket. */
+    public static final int DEFAULT_RETRY_TOKENS = 500;
+
+    /** Tokens a retry after a service error costs. */
+    static final int RETRY_COST = 5;
+
+    /** Tokens a retry after an I/O error or timeout costs. */
+    static final int TIMEOUT_RETRY_COST = 10;
+
+    /** Tokens a successful initial attempt returns to the bucket. */
+    static final int NO_RETRY_INCREMENT = 1;
+
+    /** Default ratio of failed attempts that opens the circuit breaker. */
+    public static final double DEFAULT_FAILURE_RATIO_THRESHOLD = 0.5;
+
+    /** Minimum number of attempts in a window before the circuit breaker can open. */
+    static final int CIRCUIT_BREAKER_MINIMUM_ATTEMPTS = 20;
+
+    static final long CIRCUIT_BREAKER_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    static final long CIRCUIT_BREAKER_OPEN_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final int retryTokens;
+    private final double failureRatioThreshold;
+    private final boolean rateLimiting;
+
+    private final ConcurrentMap<URI, EndpointState> endpoints = new ConcurrentHashMap<URI, EndpointState>();
+
+    /**
+     * Creates a strategy with the default retry token bucket and circuit
+     * breaker and with adaptive rate limiting enabled.
+     */
+    public AdaptiveRetryThrottlingStrategy() {
+        this(DEFAULT_RETRY_TOKENS, DEFAULT_FAILURE_RATIO_THRESHOLD, true);
+    }
+
+    /**
+     * @param retryTokens           Number of tokens in a full retry token bucket. A retry costs
+     *                              {@value #RETRY_COST} tokens, or {@value #TIMEOUT_RETRY_COST} after an
+     *                              I/O error.
+     * @param failureRatioThreshold Ratio of failed attempts, between 0 exclusive and 1 inclusive,
+     *                              at which the circuit breaker opens.
+     * @param rateLimiting          Whether to pace attempts at a rate adapted to throttling errors.
+     */
+    public AdaptiveRetryThrottlingStrategy(int retryTokens, double failureRatioThreshold,
+                                           boolean rateLimiting) {
+        if (retryTokens <= 0) {
+            throw new IllegalArgumentException("retryTokens must be positive");
+        }
+        if (failureRatioThreshold <= 0 || failureRatioThreshold > 1) {
+            throw new IllegalArgumentException("failureRatioThreshold must be in (0, 1]");
+        }
+        this.retryTokens = retryTokens;
+        this.failureRatioThreshold = failureRatioThreshold;
+        this.rateLimiting = rateLimiting;
+    }
+
+    @Override
+    public long reserveAttempt(URI endpoint) {
+        if (!rateLimiting) {
+            return 0;
+        }
+        return getState(endpoint).rateLimiter.reserve(System.nanoTime());
+    }
+
+    @Override
+    public boolean acquireRetry(URI endpoint, AmazonClientException exception) {
+        EndpointState state = getState(endpoint);
+        if (!state.circuitBreaker.allowsRetry(System.nanoTime())) {
+            return false;
+        }
+        return state.retryTokens.tryAcquire(
+                exception instanceof AmazonServiceException ? RETRY_COST : TIMEOUT_RETRY_COST);
+    }
+
+    @Override
+    public void attemptCompleted(URI endpoint, AmazonClientException exception, boolean retry) {
+        final long now = System.nanoTime();
+        EndpointState state = getState(endpoint);
+        boolean throttled = false;
+        boolean failure;
+        if (exception == null) {
+            failure = false;
+            state.retryTokens.release(retry ? RETRY_COST : NO_RETRY_INCREMENT);
+        } else if (exception instanceof AmazonServiceException) {
+            AmazonServiceException ase = (AmazonServiceException) exception;
+            throttled = RetryUtils.isThrottlingException(ase);
+            failure = throttled || ase.getStatusCode() >= 500;
+        } else {
+            failure = true;
+        }
+        state.circuitBreaker.record(failure, now);
+        if (rateLimiting) {
+            state.rateLimiter.update(throttled, now);
+        }
+    }
+
+    private EndpointState getState(URI endpoint) {
+        EndpointState state = endpoints.get(endpoint);
+        if (state == null) {
+            EndpointState newState = new EndpointState(System.nanoTime());
+            state = endpoints.putIfAbsent(endpoint, newState);
+            if (state == null) {
+                state = newState;
+            }
+        }
+        return state;
+    }
+
+    private final class EndpointState {
+        private final RetryTokenBucket retryTokens;
+        private final RetryCircuitBreaker circuitBreaker;
+        private final AdaptiveRateLimiter rateLimiter;
+
+        private EndpointState(long nowNanos) {
+            this.retryTokens = new RetryTokenBucket(AdaptiveRetryThrottlingStrategy.this.retryTokens);
+            this.circuitBreaker = new RetryCircuitBreaker(failureRatioThreshold,
+                                                          CIRCUIT_BREAKER_MINIMUM_ATTEMPTS,
+                                                          CIRCUIT_BREAKER_WINDOW_NANOS,
+                                                          CIRCUIT_BREAKER_OPEN_NANOS, nowNanos);
+            this.rateLimiter = new AdaptiveRateLimiter(nowNanos);
+        }
+    }
+}
@@ -118,6 +118,24 @@ public class PredefinedRetryPolicies {
                                true);
     }
 
+    /**
+     * Returns the SDK default retry policy combined with an
+     * {@link AdaptiveRetryThrottlingStrategy}, which bounds retries per
+     * endpoint, stops them while an endpoint keeps failing and paces requests
+     * after throttling errors. This policy will honor the maxErrorRetry set in
+     * ClientConfiguration. Each call returns a policy with its own throttling
+     * state; share the returned policy between clients that should share it.
+     *
+     * @see ClientConfiguration#setMaxErrorRetry(int)
+     */
+    public static RetryPolicy getDefaultRetryPolicyWithAdaptiveThrottling() {
+        return new RetryPolicy(DEFAULT_RETRY_CONDITION,
+                               DEFAULT_BACKOFF_STRATEGY,
+                               DEFAULT_MAX_ERROR_RETRY,
+                               true,
+                               new AdaptiveRetryThrottlingStrategy());
+    }
+
     /**
      * Returns the SDK default retry policy with the specified max retry count.
      */
@@ -20,6 +20,8 @@ import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.ClientConfiguration;
 
+import java.net.URI;
+
 /**
  * Retry policy that can be configured on a specific service client using
  * {@link ClientConfiguration}. This class is immutable, therefore safe to be
@@ -54,6 +56,12 @@ public final class RetryPolicy {
      */
     private final boolean honorMaxErrorRetryInClientConfig;
 
+    /**
+     * Client-side throttling of attempts and retries. This field should not be
+     * null.
+     */
+    private final RetryThrottlingStrategy retryThrottlingStrategy;
+
     /**
      * Constructs a new retry policy. See {@link PredefinedRetryPolicies} for
      * some pre-defined policy components, and also the default policies used by
@@ -79,6 +87,38 @@ public final class RetryPolicy {
                        BackoffStrategy backoffStrategy,
                        int maxErrorRetry,
                        boolean honorMaxErrorRetryInClientConfig) {
+        this(retryCondition, backoffStrategy, maxErrorRetry, honorMaxErrorRetryInClientConfig, null);
+    }
+
+    /**
+     * Constructs a new retry policy with client-side retry throttling. See
+     * {@link AdaptiveRetryThrottlingStrategy} for a strategy that limits
+     * retries per endpoint and adapts the request rate to throttling errors.
+     * @param retryCondition
+     *            Retry condition on whether a specific request and exception
+     *            should be retried. If null value is specified, the SDK'
+     *            default retry condition is used.
+     * @param backoffStrategy
+     *            Back-off strategy for controlling how long the next retry
+     *            should wait. If null value is specified, the SDK' default
+     *            exponential back-off strategy is used.
+     * @param maxErrorRetry
+     *            Maximum number of retry attempts for failed requests.
+     * @param honorMaxErrorRetryInClientConfig
+     *            Whether this retry policy should honor the max error retry set
+     *            by {@link ClientConfiguration#setMaxErrorRetry(int)}
+     * @param retryThrottlingStrategy
+     *            Strategy deciding whether retries are permitted at all and
+     *            how fast attempts may be sent. If null value is specified,
+     *            attempts and retries are not throttled by the policy.
+     * @see ClientConfiguration
+     * @see PredefinedRetryPolicies
+     */
+    public RetryPolicy(RetryCondition retryCondition,
+                       BackoffStrategy backoffStrategy,
+                       int maxErrorRetry,
+                       boolean honorMaxErrorRetryInClientConfig,
+                       RetryThrottlingStrategy retryThrottlingStrategy) {
         if (retryCondition == null) {
             retryCondition = PredefinedRetryPolicies.DEFAULT_RETRY_CONDITION;
         }
@@ -93,6 +133,8 @@ public final class RetryPolicy {
         this.backoffStrategy = backoffStrategy;
         this.maxErrorRetry = maxErrorRetry;
         this.honorMaxErrorRetryInClientConfig = honorMaxErrorRetryInClientConfig;
+        this.retryThrottlingStrategy = retryThrottlingStrategy == null
+                ? RetryThrottlingStrategy.NO_THROTTLING : retryThrottlingStrategy;
     };
 
     /**
@@ -133,6 +175,14 @@ public final class RetryPolicy {
     public boolean isMaxErrorRetryInClientConfigHonored() {
         return honorMaxErrorRetryInClientConfig;
     }
+
+    /**
+     * Returns the retry throttling strategy included in this retry policy.
+     * @return The retry throttling strategy included in this retry policy.
+     */
+    public RetryThrottlingStrategy getRetryThrottlingStrategy() {
+        return retryThrottlingStrategy;
+    }
     
     /**
      * The hook for providing custom condition on whether a failed request
@@ -232,4 +282,65 @@ public final class RetryPolicy {
                                          AmazonClientException exception,
                                          int retriesAttempted);
     }
+
+    /**
+     * The hook for throttling attempts and retries on the client side, based on
+     * how the service behind an endpoint has been responding. Unlike the
+     * {@link RetryCondition} and {@link BackoffStrategy}, which only look at
+     * the request being executed, implementations keep state shared by every
+     * request sent through the policy, and must therefore be thread safe.
+     */
+    public static interface RetryThrottlingStrategy {
+        public static final RetryThrottlingStrategy NO_THROTTLING = new RetryThrottlingStrategy() {
+            @Override
+            public long reserveAttempt(URI endpoint) {
+                return 0;
+            }
+
+            @Override
+            public boolean acquireRetry(URI endpoint, AmazonClientException exception) {
+                return true;
+            }
+
+            @Override
+            public void attemptCompleted(URI endpoint, AmazonClientException exception, boolean retry) {
+            }
+        };
+
+        /**
+         * Reserves the sending of one attempt, initial or retry, to the given
+         * endpoint. The attempt is counted against the endpoint as soon as this
+         * method returns; callers must wait for the returned delay and then
+         * send it.
+         * @param endpoint
+         *            The endpoint the attempt will be sent to.
+         * @return The delay (in milliseconds) before the attempt may be sent.
+         */
+        public long reserveAttempt(URI endpoint);
+
+        /**
+         * Returns whether a failed request that the {@link RetryCondition}
+         * allows to be retried may actually be retried. This is called at
+         * most once per retry, after the retry condition, so implementations
+         * may consume retry capacity here.
+         * @param endpoint
+         *            The endpoint the failed attempt was sent to.
+         * @param exception
+         *            The exception from the failed attempt.
+         * @return True if the request may be retried.
+         */
+        public boolean acquireRetry(URI endpoint, AmazonClientException exception);
+
+        /**
+         * Notifies the strategy of the outcome of an attempt.
+         * @param endpoint
+         *            The endpoint the attempt was sent to.
+         * @param exception
+         *            The exception from the attempt if it failed; or null if
+         *            it succeeded.
+         * @param retry
+         *            Whether the attempt was a retry.
+         */
+        public void attemptCompleted(URI endpoint, AmazonClientException exception, boolean retry);
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.retry.internal;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-side rate limiter for one endpoint that adapts its rate to throttling
+ * errors. It stays out of the way until the first throttling error; from then
+ * on attempts are sent at most at the current fill rate of a token bucket. The
+ * rate is cut multiplicatively on every throttling error and grows back along
+ * a cubic curve on successes, as in the CUBIC congestion control algorithm, so
+ * it quickly settles just below the rate at which the service throttles.
+ * <p>
+ * Reservations never block: {@link #reserve(long)} takes a token, possibly
+ * going into debt, and returns how long the caller should wait before sending.
+ */
+@SdkInternalApi
+@ThreadSafe
+public class AdaptiveRateLimiter {
+
+    /**
+     * Factor the rate is multiplied by on a throttling error.
+     */
+    private static final double BETA = 0.7;
+
+    /**
+     * Scales how fast the rate grows back after a throttling error.
+     */
+    private static final double SCALE_CONSTANT = 0.4;
+
+    /**
+     * Weight of the newest bucket when smoothing the measured send rate.
+     */
+    private static final double SMOOTHING = 0.8;
+
+    /**
+     * Length of the buckets in which the send rate is measured, in seconds.
+     */
+    private static final double MEASUREMENT_BUCKET_SECONDS = 0.5;
+
+    /**
+     * Lowest rate, in attempts per second, the limiter will slow down to.
+     */
+    private static final double MIN_FILL_RATE = 0.5;
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long originNanos;
+
+    /**
+     * Read without the lock so that reservations cost nothing until the
+     * endpoint has throttled.
+     */
+    private volatile boolean enabled;
+
+    private double fillRate;
+    private double maxCapacity;
+    private double currentCapacity;
+    private double lastRefillSeconds;
+
+    private double measuredSendRate;
+    private double measurementBucketStart;
+    private long requestsInBucket;
+
+    private double lastMaxRate;
+    private double lastThrottleSeconds;
+    private double timeWindow;
+
+    /**
+     * @param nowNanos Current time, as given by {@link System#nanoTime()}.
+     */
+    public AdaptiveRateLimiter(long nowNanos) {
+        this.originNanos = nowNanos;
+    }
+
+    /**
+     * Reserves one attempt.
+     *
+     * @return The delay, in milliseconds, before the attempt may be sent.
+     */
+    public long reserve(long nowNanos) {
+        if (!enabled) {
+            return 0;
+        }
+        synchronized (this) {
+            refill(seconds(nowNanos));
+            currentCapacity -= 1;
+            if (currentCapacity >= 0) {
+                return 0;
+            }
+            return (long) Math.ceil(-currentCapacity / fillRate * 1000);
+        }
+    }
+
+    /**
+     * Updates the rate after an attempt to the endpoint completed.
+     *
+     * @param throttled True if the attempt failed with a throttling error.
+     */
+    public synchronized void update(boolean throttled, long nowNanos) {
+        double now = seconds(nowNanos);
+        updateMeasuredRate(now);
+
+        double calculatedRate;
+        if (throttled) {
+            double rateToUse = enabled ? Math.min(measuredSendRate, fillRate) : measuredSendRate;
+            lastMaxRate = rateToUse;
+            timeWindow = Math.cbrt(lastMaxRate * (1 - BETA) / SCALE_CONSTANT);
+            lastThrottleSeconds = now;
+            calculatedRate = rateToUse * BETA;
+            if (!enabled) {
+                lastRefillSeconds = now;
+                enabled = true;
+            }
+        } else {
+            if (!enabled) {
+                return;
+            }
+            double dt = now - lastThrottleSeconds - timeWindow;
+            calculatedRate = SCALE_CONSTANT * dt * dt * dt + lastMaxRate;
+        }
+        updateFillRate(Math.min(calculatedRate, 2 * measuredSendRate), now);
+    }
+
+    /**
+     * @return The current fill rate in attempts per second, or zero if the limiter is not enabled yet.
+     */
+    public synchronized double getFillRate() {
+        return enabled ? fillRate : 0;
+    }
+
+    private void refill(double now) {
+        currentCapacity = Math.min(maxCapacity, currentCapacity + (now - lastRefillSeconds) * fillRate);
+        lastRefillSeconds = now;
+    }
+
+    private void updateFillRate(double newRate, double now) {
+        refill(now);
+        fillRate = Math.max(newRate, MIN_FILL_RATE);
+        maxCapacity = Math.max(fillRate, 1);
+        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    }
+
+    private void updateMeasuredRate(double now) {
+        double bucket = Math.floor(now / MEASUREMENT_BUCKET_SECONDS) * MEASUREMENT_BUCKET_SECONDS;
+        requestsInBucket++;
+        if (bucket > measurementBucketStart) {
+            double currentRate = requestsInBucket / (bucket - measurementBucketStart);
+            measuredSendRate = currentRate * SMOOTHING + measuredSendRate * (1 - SMOOTHING);
+            requestsInBucket = 0;
+            measurementBucketStart = bucket;
+        }
+    }
+
+    private double seconds(long nowNanos) {
+        return (nowNanos - originNanos) / NANOS_PER_SECOND;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.retry.internal;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Circuit breaker for the retries sent to one endpoint. Outcomes of attempts
+ * are counted in fixed windows; once enough attempts in a window have failed
+ * the breaker opens and no retries are allowed until a cool-down has passed.
+ * After that the breaker is half open: retries are allowed again, the next
+ * success closes it and the next failure opens it for another cool-down.
+ * Initial attempts are never held back by the breaker, so they keep probing
+ * the endpoint while it is open. All state changes are compare-and-set.
+ */
+@SdkInternalApi
+@ThreadSafe
+public class RetryCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final double failureRatioThreshold;
+    private final int minimumAttempts;
+    private final long windowNanos;
+    private final long openNanos;
+
+    private final AtomicReference<State> state = new AtomicReference<State>(State.CLOSED);
+    private final AtomicReference<Window> window;
+    private volatile long openedAtNanos;
+
+    /**
+     * @param failureRatioThreshold Ratio of failed attempts in a window at or above which the breaker
+     *                              opens.
+     * @param minimumAttempts       Minimum number of attempts in a window before its failure ratio is
+     *                              considered.
+     * @param windowNanos           Length of a window.
+     * @param openNanos             Time the breaker stays open before letting retries through again.
+     * @param nowNanos              Current time, as given by {@link System#nanoTime()}.
+     */
+    public RetryCircuitBreaker(double failureRatioThreshold, int minimumAttempts, long windowNanos,
+                               long openNanos, long nowNanos) {
+        if (failureRatioThreshold <= 0 || failureRatioThreshold > 1) {
+            throw new IllegalArgumentException("failureRatioThreshold must be in (0, 1]");
+        }
+        this.failureRatioThreshold = failureRatioThreshold;
+        this.minimumAttempts = Math.max(1, minimumAttempts);
+        this.windowNanos = windowNanos;
+        this.openNanos = openNanos;
+        this.window = new AtomicReference<Window>(new Window(nowNanos));
+    }
+
+    /**
+     * @return True if a retry may be sent at the given time.
+     */
+    public boolean allowsRetry(long nowNanos) {
+        if (state.get() == State.OPEN) {
+            if (nowNanos - openedAtNanos < openNanos) {
+                return false;
+            }
+            state.compareAndSet(State.OPEN, State.HALF_OPEN);
+        }
+        return true;
+    }
+
+    /**
+     * Records the outcome of an attempt.
+     *
+     * @param failure True if the attempt failed in a way that indicates the endpoint is unhealthy.
+     */
+    public void record(boolean failure, long nowNanos) {
+        State current = state.get();
+        if (current == State.HALF_OPEN) {
+            if (failure) {
+                trip(State.HALF_OPEN, nowNanos);
+            } else if (state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+                window.set(new Window(nowNanos));
+            }
+            return;
+        }
+        Window w = currentWindow(nowNanos);
+        int attempts = w.attempts.incrementAndGet();
+        int failures = failure ? w.failures.incrementAndGet() : w.failures.get();
+        if (current == State.CLOSED && attempts >= minimumAttempts
+            && failures >= failureRatioThreshold * attempts) {
+            trip(State.CLOSED, nowNanos);
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    private void trip(State from, long nowNanos) {
+        openedAtNanos = nowNanos;
+        if (state.compareAndSet(from, State.OPEN)) {
+            window.set(new Window(nowNanos));
+        }
+    }
+
+    private Window currentWindow(long nowNanos) {
+        while (true) {
+            Window w = window.get();
+            if (nowNanos - w.startNanos < windowNanos) {
+                return w;
+            }
+            Window next = new Window(nowNanos);
+            if (window.compareAndSet(w, next)) {
+                return next;
+            }
+        }
+    }
+
+    private static final class Window {
+        private final long startNanos;
+        private final AtomicInteger attempts = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        private Window(long startNanos) {
+            this.startNanos = startNanos;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.retry.internal;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bucket of retry tokens for one endpoint. Each retry takes tokens out of the
+ * bucket and each successful attempt puts some back, so that while an endpoint
+ * keeps failing the number of retries sent to it is bounded no matter how many
+ * requests are in flight. Taking and returning tokens never blocks.
+ */
+@SdkInternalApi
+@ThreadSafe
+public class RetryTokenBucket {
+
+    private final AtomicInteger availableTokens;
+    private final int maxTokens;
+
+    /**
+     * @param maxTokens Number of tokens in a full bucket. The bucket starts full.
+     */
+    public RetryTokenBucket(int maxTokens) {
+        if (maxTokens <= 0) {
+            throw new IllegalArgumentException("maxTokens must be positive");
+        }
+        this.maxTokens = maxTokens;
+        this.availableTokens = new AtomicInteger(maxTokens);
+    }
+
+    /**
+     * Takes the given number of tokens out of the bucket if that many are
+     * available.
+     *
+     * @return True if the tokens were taken, false if the bucket holds too few.
+     */
+    public boolean tryAcquire(int tokens) {
+        while (true) {
+            int available = availableTokens.get();
+            if (available < tokens) {
+                return false;
+            }
+            if (availableTokens.compareAndSet(available, available - tokens)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Puts the given number of tokens back into the bucket, up to its capacity.
+     */
+    public void release(int tokens) {
+        while (true) {
+            int available = availableTokens.get();
+            if (available == maxTokens) {
+                return;
+            }
+            if (availableTokens.compareAndSet(available, Math.min(available + tokens, maxTokens))) {
+                return;
+            }
+        }
+    }
+
+    public int availableTokens() {
+        return availableTokens.get();
+    }
+}
@@ -95,6 +95,18 @@ public class AWSRequestMetrics {
          * Number of retries that were not attempted due to retry throttling.
          */
         ThrottledRetryCount,
+        /**
+         * Number of calls answered by a
+         * {@link com.amazonaws.handlers.ResponseCacheHandler} without sending
+         * a request to AWS.
+         */
+        ResponseCacheHitCount,
+        /**
+         * Number of cacheable calls that were not found in a
+         * {@link com.amazonaws.handlers.ResponseCacheHandler}, and so were
+         * sent to AWS.
+         */
+        ResponseCacheMissCount,
         /**
          * Number of retries of the underlying http client library in sending a
          * request to AWS.
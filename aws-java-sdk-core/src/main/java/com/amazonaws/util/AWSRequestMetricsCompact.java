@@ -0,0 +1,216 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.annotation.NotThreadSafe;
+
+import com.amazonaws.metrics.MetricType;
+import com.amazonaws.metrics.RequestMetricCollector;
+
+/**
+ * A low overhead alternative to {@link AWSRequestMetricsFullSupport}. Events,
+ * counters and properties are only recorded for the predefined
+ * {@link AWSRequestMetrics.Field}s, in arrays indexed by the field's ordinal,
+ * so recording a metric never allocates. The time of an event is the total of
+ * all its occurrences during the request; its individual occurrences are not
+ * kept, nor are properties beyond the last value added. Metrics of other types
+ * are ignored.
+ * <p>
+ * This class is instantiated instead of {@link AWSRequestMetricsFullSupport}
+ * when the request metric collector in use reports
+ * {@link RequestMetricCollector#isCompactMetricsSupported()}.
+ */
+@NotThreadSafe
+public class AWSRequestMetricsCompact extends AWSRequestMetrics {
+
+    private static final Field[] FIELDS = Field.values();
+
+    private static final Map<String, Field> FIELDS_BY_NAME = new HashMap<String, Field>();
+
+    static {
+        for (Field field : FIELDS) {
+            FIELDS_BY_NAME.put(field.name(), field);
+        }
+    }
+
+    /* Latency Logger */
+    private static final Log latencyLogger = LogFactory.getLog("com.amazonaws.latency");
+
+    /** Start time in nanoseconds of each event currently being timed; zero if none. */
+    private final long[] eventStartNanos = new long[FIELDS.length];
+
+    /** Total time in nanoseconds of all ended occurrences of each event. */
+    private final long[] eventNanos = new long[FIELDS.length];
+
+    private final long[] counters = new long[FIELDS.length];
+
+    /** Last value of each property; allocated on the first property added. */
+    private Object[] properties;
+
+    public AWSRequestMetricsCompact() {
+        super(TimingInfo.startTiming());
+    }
+
+    @Override
+    public void startEvent(String eventName) {
+        Field field = FIELDS_BY_NAME.get(eventName);
+        if (field != null) {
+            startEvent(field);
+        }
+    }
+
+    @Override
+    public void startEvent(MetricType f) {
+        if (f instanceof Field) {
+            eventStartNanos[((Field) f).ordinal()] = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void endEvent(String eventName) {
+        Field field = FIELDS_BY_NAME.get(eventName);
+        if (field != null) {
+            endEvent(field);
+        }
+    }
+
+    @Override
+    public void endEvent(MetricType f) {
+        if (f instanceof Field) {
+            int i = ((Field) f).ordinal();
+            long start = eventStartNanos[i];
+            /* Somebody tried to end an event that was not started. */
+            if (start == 0) {
+                LogFactory.getLog(getClass()).warn("Trying to end an event which was never started: " + f);
+                return;
+            }
+            eventNanos[i] += System.nanoTime() - start;
+            eventStartNanos[i] = 0;
+        }
+    }
+
+    @Override
+    public void incrementCounter(String event) {
+        Field field = FIELDS_BY_NAME.get(event);
+        if (field != null) {
+            incrementCounter(field);
+        }
+    }
+
+    @Override
+    public void incrementCounter(MetricType f) {
+        if (f instanceof Field) {
+            counters[((Field) f).ordinal()]++;
+        }
+    }
+
+    @Override
+    public void setCounter(String counterName, long count) {
+        Field field = FIELDS_BY_NAME.get(counterName);
+        if (field != null) {
+            setCounter(field, count);
+        }
+    }
+
+    @Override
+    public void setCounter(MetricType f, long count) {
+        if (f instanceof Field) {
+            counters[((Field) f).ordinal()] = count;
+        }
+    }
+
+    @Override
+    public void addProperty(String propertyName, Object value) {
+        Field field = FIELDS_BY_NAME.get(propertyName);
+        if (field != null) {
+            addProperty(field, value);
+        }
+    }
+
+    @Override
+    public void addProperty(MetricType f, Object value) {
+        if (f instanceof Field) {
+            if (properties == null) {
+                properties = new Object[FIELDS.length];
+            }
+            properties[((Field) f).ordinal()] = value;
+        }
+    }
+
+    /**
+     * Returns the total time in nanoseconds of all ended occurrences of the
+     * given event; or zero if it never ended.
+     */
+    public long getEventNanos(Field f) {
+        return eventNanos[f.ordinal()];
+    }
+
+    public long getCounter(Field f) {
+        return counters[f.ordinal()];
+    }
+
+    /**
+     * Returns the last value added for the given property; or null if none.
+     */
+    public Object getLastProperty(Field f) {
+        return properties == null ? null : properties[f.ordinal()];
+    }
+
+    @Override
+    public List<Object> getProperty(String propertyName) {
+        Field field = FIELDS_BY_NAME.get(propertyName);
+        return field == null ? Collections.emptyList() : getProperty(field);
+    }
+
+    @Override
+    public List<Object> getProperty(MetricType f) {
+        Object value = f instanceof Field ? getLastProperty((Field) f) : null;
+        return value == null ? Collections.emptyList() : Collections.singletonList(value);
+    }
+
+    @Override
+    public void log() {
+        if (latencyLogger.isInfoEnabled()) {
+            StringBuilder builder = new StringBuilder();
+            for (Field field : FIELDS) {
+                int i = field.ordinal();
+                Object property = properties == null ? null : properties[i];
+                if (property != null) {
+                    builder.append(field).append('=').append(property).append(", ");
+                }
+                if (counters[i] != 0) {
+                    builder.append(field).append('=').append(counters[i]).append(", ");
+                }
+                if (eventNanos[i] != 0) {
+                    builder.append(field).append('=').append(eventNanos[i] / 1000000.0).append(", ");
+                }
+            }
+            latencyLogger.info(builder.toString());
+        }
+    }
+
+    /** Always returns true. */
+    @Override
+    public final boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.waiters;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.annotation.SdkProtectedApi;
+import com.amazonaws.handlers.AsyncHandler;
+
+import java.util.concurrent.Future;
+
+@SdkProtectedApi
+public interface AsyncSdkFunction<Input extends AmazonWebServiceRequest, Output> {
+
+    /**
+     * Abstract method that makes an asynchronous call to the
+     * operation specified by the waiter through the async client
+     * and notifies the handler once it completes
+     *
+     * @param input   Corresponding request for the operation
+     * @param handler Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    Future<Output> applyAsync(Input input, AsyncHandler<Input, Output> handler);
+}
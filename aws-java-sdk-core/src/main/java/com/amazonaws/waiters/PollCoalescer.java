@@ -0,0 +1,68 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.waiters;
+
+import com.amazonaws.AmazonWebServiceRequest;
+
+import java.util.List;
+
+/**
+ * Combines the polls of several waiters into a single call of the operation,
+ * for example one DescribeInstances call for many waiters that each wait on a
+ * single instance. Register it with
+ * {@link WaiterScheduler#withPollCoalescer(Class, PollCoalescer)}.
+ *
+ * <p>Requests which are equal are combined by the {@link WaiterScheduler}
+ * even without a coalescer.</p>
+ *
+ * @param <Input>  Request type of the operation
+ * @param <Output> Result type of the operation
+ */
+public interface PollCoalescer<Input extends AmazonWebServiceRequest, Output> {
+
+    /**
+     * Returns the key under which the given request can be combined with
+     * others. Requests are only merged with requests that have an equal key.
+     *
+     * @param request Request of a waiter
+     * @return Key for the request, or null if the request can't be combined
+     *         with other requests
+     */
+    Object getCoalescingKey(Input request);
+
+    /**
+     * @return The maximum number of distinct requests to merge into one call
+     */
+    int getMaxBatchSize();
+
+    /**
+     * Merges the requests of several waiters into the request that is sent.
+     *
+     * @param requests Distinct requests sharing a coalescing key
+     * @return Request covering all of the given requests
+     */
+    Input merge(List<Input> requests);
+
+    /**
+     * Extracts the part of the result of a merged request that answers a
+     * single request, so that the acceptors of a waiter only see the
+     * resources it waits on.
+     *
+     * @param request Request of a waiter
+     * @param result  Result of the merged request
+     * @return Result as if the request was sent on its own
+     */
+    Output split(Input request, Output result);
+}
@@ -90,4 +90,23 @@ public class PollingStrategy{
         void delayBeforeNextRetry(PollingStrategyContext pollingStrategyContext) throws InterruptedException;
 
     }
+
+    /**
+     * A delay strategy that can tell up front how long to wait before the
+     * next retry. Waiters running on a {@link WaiterScheduler} use it to
+     * schedule the next poll instead of keeping a thread asleep until then.
+     * Other delay strategies are still honored, but block a thread of the
+     * scheduler's poll executor while they delay.
+     */
+    public interface ScheduledDelayStrategy extends DelayStrategy {
+
+        /**
+         * Computes the time to wait before the next retry
+         *
+         * @param pollingStrategyContext Provides the polling context required to define custom delay
+         * @return Delay in milliseconds
+         * @see PollingStrategyContext
+         */
+        long computeDelayBeforeNextRetry(PollingStrategyContext pollingStrategyContext);
+    }
 }
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.waiters;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.util.ValidationUtils;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous counterpart of {@link WaiterExecution}. Rather than sleeping
+ * between polls, every poll is scheduled on a {@link WaiterScheduler} and the
+ * acceptors are evaluated when its result arrives.
+ */
+@SdkInternalApi
+class ScheduledWaiterExecution<Input extends AmazonWebServiceRequest, Output>
+        implements AsyncHandler<Input, Output> {
+
+    private final Input originalRequest;
+
+    private final Input request;
+
+    private final SdkFunction<Input, Output> sdkFunction;
+
+    private final AsyncSdkFunction<Input, Output> asyncSdkFunction;
+
+    private final CompositeAcceptor<Output> acceptor;
+
+    private final PollingStrategy pollingStrategy;
+
+    private final WaiterScheduler scheduler;
+
+    private final WaiterHandler callback;
+
+    private final WaiterFuture future = new WaiterFuture();
+
+    private final Runnable pollTask = new Runnable() {
+        @Override
+        public void run() {
+            poll();
+        }
+    };
+
+    /**
+     * Only accessed by the thread handling the latest poll.
+     */
+    private int retriesAttempted;
+
+    /**
+     * @param originalRequest Request as given by the caller, passed to the callback
+     * @param request         Request sent when polling
+     */
+    ScheduledWaiterExecution(Input originalRequest,
+                             Input request,
+                             SdkFunction<Input, Output> sdkFunction,
+                             AsyncSdkFunction<Input, Output> asyncSdkFunction,
+                             List<WaiterAcceptor<Output>> acceptors,
+                             PollingStrategy pollingStrategy,
+                             WaiterScheduler scheduler,
+                             WaiterHandler callback) {
+        this.originalRequest = originalRequest;
+        this.request = ValidationUtils.assertNotNull(request, "request");
+        this.sdkFunction = ValidationUtils.assertNotNull(sdkFunction, "sdkFunction");
+        this.asyncSdkFunction = asyncSdkFunction;
+        this.acceptor = new CompositeAcceptor<Output>(ValidationUtils.assertNotNull(acceptors, "acceptors"));
+        this.pollingStrategy = ValidationUtils.assertNotNull(pollingStrategy, "pollingStrategy");
+        this.scheduler = ValidationUtils.assertNotNull(scheduler, "scheduler");
+        this.callback = callback;
+    }
+
+    /**
+     * Starts polling the resource.
+     *
+     * @return Future completed once the resource transitioned into the
+     * desired state, or failed with the reason it never will
+     */
+    Future<Void> start() {
+        poll();
+        return future;
+    }
+
+    private void poll() {
+        if (!future.isDone()) {
+            scheduler.poll(request, sdkFunction, asyncSdkFunction, this);
+        }
+    }
+
+    @Override
+    public void onSuccess(Input request, Output result) {
+        final WaiterState state;
+        try {
+            state = acceptor.accepts(result);
+        } catch (RuntimeException e) {
+            fail(e);
+            return;
+        }
+        transition(state);
+    }
+
+    @Override
+    public void onError(Exception exception) {
+        if (!(exception instanceof AmazonServiceException)) {
+            fail(exception);
+            return;
+        }
+        final WaiterState state;
+        try {
+            state = acceptor.accepts((AmazonServiceException) exception);
+        } catch (RuntimeException e) {
+            fail(e);
+            return;
+        }
+        transition(state);
+    }
+
+    private void transition(WaiterState state) {
+        switch (state) {
+            case SUCCESS:
+                succeed();
+                break;
+            case FAILURE:
+                fail(new WaiterUnrecoverableException("Resource never entered the desired state as it failed."));
+                break;
+            case RETRY:
+                final PollingStrategyContext pollingStrategyContext = new PollingStrategyContext(request, retriesAttempted);
+                if (pollingStrategy.getRetryStrategy().shouldRetry(pollingStrategyContext)) {
+                    retriesAttempted++;
+                    scheduleNextPoll(pollingStrategyContext);
+                } else {
+                    fail(new WaiterTimedOutException("Reached maximum attempts without transitioning to the desired state"));
+                }
+                break;
+        }
+    }
+
+    private void scheduleNextPoll(final PollingStrategyContext pollingStrategyContext) {
+        final PollingStrategy.DelayStrategy delayStrategy = pollingStrategy.getDelayStrategy();
+        try {
+            if (delayStrategy instanceof PollingStrategy.ScheduledDelayStrategy) {
+                final long delay = ((PollingStrategy.ScheduledDelayStrategy) delayStrategy)
+                        .computeDelayBeforeNextRetry(pollingStrategyContext);
+                scheduler.getScheduledExecutorService().schedule(pollTask, delay, TimeUnit.MILLISECONDS);
+            } else {
+                scheduler.getPollExecutorService().execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            delayStrategy.delayBeforeNextRetry(pollingStrategyContext);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            fail(new RuntimeException(e));
+                            return;
+                        } catch (RuntimeException e) {
+                            fail(e);
+                            return;
+                        }
+                        poll();
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            fail(e);
+        }
+    }
+
+    private void succeed() {
+        if (future.isDone()) {
+            return;
+        }
+        try {
+            if (callback != null) {
+                callback.onWaitSuccess(originalRequest);
+            }
+        } catch (Exception e) {
+            fail(e);
+            return;
+        }
+        future.succeed();
+    }
+
+    private void fail(Exception exception) {
+        if (future.isDone()) {
+            return;
+        }
+        try {
+            if (callback != null) {
+                callback.onWaitFailure(exception);
+            }
+        } finally {
+            future.fail(exception);
+        }
+    }
+
+    /**
+     * Future completed by the execution instead of by running a task.
+     * Cancelling it stops any further polls.
+     */
+    private static class WaiterFuture extends FutureTask<Void> {
+
+        private static final Callable<Void> NO_TASK = new Callable<Void>() {
+            @Override
+            public Void call() {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        WaiterFuture() {
+            super(NO_TASK);
+        }
+
+        @Override
+        public void run() {
+            throw new UnsupportedOperationException();
+        }
+
+        void succeed() {
+            set(null);
+        }
+
+        void fail(Throwable t) {
+            setException(t);
+        }
+    }
+}
@@ -34,6 +34,10 @@ public class WaiterBuilder<Input extends AmazonWebServiceRequest, Output> {
 
     private ExecutorService executorService;
 
+    private AsyncSdkFunction<Input, Output> asyncSdkFunction;
+
+    private WaiterScheduler scheduler;
+
     public WaiterBuilder<Input, Output> withSdkFunction(SdkFunction<Input, Output> sdkFunction) {
         this.sdkFunction = sdkFunction;
         return this;
@@ -54,6 +58,24 @@ public class WaiterBuilder<Input extends AmazonWebServiceRequest, Output> {
         return this;
     }
 
+    /**
+     * Sets the function making calls through the async client. Only used
+     * together with a scheduler.
+     */
+    public WaiterBuilder<Input, Output> withAsyncSdkFunction(AsyncSdkFunction<Input, Output> asyncSdkFunction) {
+        this.asyncSdkFunction = asyncSdkFunction;
+        return this;
+    }
+
+    /**
+     * Sets the scheduler that {@link Waiter#runAsync} polls on instead of
+     * occupying a thread of the executor service for the whole wait.
+     */
+    public WaiterBuilder<Input, Output> withScheduler(WaiterScheduler scheduler) {
+        this.scheduler = scheduler;
+        return this;
+    }
+
     public List<WaiterAcceptor<Output>> getAcceptor() {
         return this.acceptors;
     }
@@ -70,6 +92,14 @@ public class WaiterBuilder<Input extends AmazonWebServiceRequest, Output> {
         return this.executorService;
     }
 
+    public AsyncSdkFunction<Input, Output> getAsyncSdkFunction() {
+        return this.asyncSdkFunction;
+    }
+
+    public WaiterScheduler getScheduler() {
+        return this.scheduler;
+    }
+
     public Waiter<Input> build() {
         return new WaiterImpl<Input, Output>(this);
     }
@@ -44,6 +44,17 @@ public class WaiterImpl<Input extends AmazonWebServiceRequest, Output> implement
 
     private final ExecutorService executorService;
 
+    /**
+     * Makes calls through the async client, null if there isn't one
+     */
+    private final AsyncSdkFunction<Input, Output> asyncSdkFunction;
+
+    /**
+     * Schedules the polls of asynchronous waits, null to run each of them
+     * on a thread of the executor service
+     */
+    private final WaiterScheduler scheduler;
+
     /**
      * Constructs a new waiter with the given internal parameters
      *
@@ -57,6 +68,8 @@ public class WaiterImpl<Input extends AmazonWebServiceRequest, Output> implement
         this.acceptors = ValidationUtils.assertNotNull(waiterBuilder.getAcceptor(), "acceptors");
         this.defaultPollingStrategy = ValidationUtils.assertNotNull(waiterBuilder.getDefaultPollingStrategy(), "defaultPollingStrategy");
         this.executorService = ValidationUtils.assertNotNull(waiterBuilder.getExecutorService(), "executorService");
+        this.asyncSdkFunction = waiterBuilder.getAsyncSdkFunction();
+        this.scheduler = waiterBuilder.getScheduler();
     }
 
     /**
@@ -103,6 +116,10 @@ public class WaiterImpl<Input extends AmazonWebServiceRequest, Output> implement
     public Future<Void> runAsync(final WaiterParameters<Input> waiterParameters, final WaiterHandler callback)
             throws AmazonServiceException, WaiterTimedOutException, WaiterUnrecoverableException {
 
+        if (scheduler != null) {
+            return runScheduled(waiterParameters, callback);
+        }
+
         return executorService.submit(new java.util.concurrent.Callable<Void>() {
             @Override
             public Void call() throws Exception {
@@ -119,4 +136,24 @@ public class WaiterImpl<Input extends AmazonWebServiceRequest, Output> implement
         });
 
     }
+
+    /**
+     * Polls on the scheduler, so that no thread is held while waiting for
+     * the next poll to become due.
+     */
+    private Future<Void> runScheduled(WaiterParameters<Input> waiterParameters, WaiterHandler callback) {
+        ValidationUtils.assertNotNull(waiterParameters, "waiterParameters");
+        @SuppressWarnings("unchecked")
+        Input request = (Input) ValidationUtils.assertNotNull(waiterParameters.getRequest(), "request").clone();
+        request.getRequestClientOptions().appendUserAgent("waiter-request");
+        return new ScheduledWaiterExecution<Input, Output>(
+                waiterParameters.getRequest(),
+                request,
+                sdkFunction,
+                asyncSdkFunction,
+                acceptors,
+                waiterParameters.getPollingStrategy() != null ? waiterParameters.getPollingStrategy() : defaultPollingStrategy,
+                scheduler,
+                callback).start();
+    }
 }
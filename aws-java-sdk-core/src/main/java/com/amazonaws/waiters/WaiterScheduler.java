@@ -0,0 +1,397 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.waiters;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.util.ValidationUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs asynchronous waiters without dedicating a thread to each of them.
+ * Polls are scheduled on a shared {@link ScheduledExecutorService} and sent
+ * through the async client when one is available, so a waiter only occupies
+ * a thread while its result is being evaluated.
+ *
+ * <p>Polls of the same operation that become due within the coalescing
+ * window are combined into one call. Equal requests are always combined;
+ * a {@link PollCoalescer} registered for the request type can merge
+ * different requests as well. Requests carrying their own credentials,
+ * headers or query parameters are never combined. A scheduler must only be
+ * shared by the waiters of a single client.</p>
+ */
+public class WaiterScheduler {
+
+    /**
+     * Default time a due poll waits for others to be combined with.
+     */
+    public static final long DEFAULT_COALESCING_WINDOW_MILLIS = 100;
+
+    private static final PollCoalescer<AmazonWebServiceRequest, Object> EQUAL_REQUESTS =
+            new PollCoalescer<AmazonWebServiceRequest, Object>() {
+                @Override
+                public Object getCoalescingKey(AmazonWebServiceRequest request) {
+                    return request;
+                }
+
+                @Override
+                public int getMaxBatchSize() {
+                    return Integer.MAX_VALUE;
+                }
+
+                @Override
+                public AmazonWebServiceRequest merge(List<AmazonWebServiceRequest> requests) {
+                    return requests.get(0);
+                }
+
+                @Override
+                public Object split(AmazonWebServiceRequest request, Object result) {
+                    return result;
+                }
+            };
+
+    private final ScheduledExecutorService scheduledExecutorService;
+
+    private final ExecutorService pollExecutorService;
+
+    private final long coalescingWindowMillis;
+
+    private final ConcurrentMap<Class<?>, PollCoalescer<?, ?>> coalescers =
+            new ConcurrentHashMap<Class<?>, PollCoalescer<?, ?>>();
+
+    /**
+     * Batches waiting for the coalescing window to pass, guarded by itself.
+     */
+    private final Map<Object, PollBatch<?, ?>> pendingBatches = new HashMap<Object, PollBatch<?, ?>>();
+
+    /**
+     * Constructs a new WaiterScheduler with the default coalescing window
+     *
+     * @param scheduledExecutorService Executor the polls are scheduled on
+     * @param pollExecutorService      Executor running the polls of waiters
+     *                                 without an async client, and delay
+     *                                 strategies which can only block
+     */
+    public WaiterScheduler(ScheduledExecutorService scheduledExecutorService,
+                           ExecutorService pollExecutorService) {
+        this(scheduledExecutorService, pollExecutorService, DEFAULT_COALESCING_WINDOW_MILLIS);
+    }
+
+    /**
+     * Constructs a new WaiterScheduler
+     *
+     * @param scheduledExecutorService Executor the polls are scheduled on
+     * @param pollExecutorService      Executor running the polls of waiters
+     *                                 without an async client, and delay
+     *                                 strategies which can only block
+     * @param coalescingWindowMillis   Time a due poll waits for others to be
+     *                                 combined with
+     */
+    public WaiterScheduler(ScheduledExecutorService scheduledExecutorService,
+                           ExecutorService pollExecutorService,
+                           long coalescingWindowMillis) {
+        this.scheduledExecutorService = ValidationUtils.assertNotNull(scheduledExecutorService, "scheduledExecutorService");
+        this.pollExecutorService = ValidationUtils.assertNotNull(pollExecutorService, "pollExecutorService");
+        if (coalescingWindowMillis < 0) {
+            throw new IllegalArgumentException("coalescingWindowMillis must not be negative");
+        }
+        this.coalescingWindowMillis = coalescingWindowMillis;
+    }
+
+    /**
+     * Returns a new single threaded executor to schedule polls on. Its thread
+     * is a daemon thread, so that waiters don't keep the process running if
+     * it's the only one left.
+     *
+     * @return Executor to pass to the constructor of a WaiterScheduler
+     */
+    public static ScheduledExecutorService newDaemonScheduledExecutorService() {
+        return Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory());
+    }
+
+    /**
+     * Registers a coalescer for the polls of the operation taking the given
+     * request type
+     *
+     * @param requestType Request type of the operation
+     * @param coalescer   Coalescer merging requests of that type
+     * @return This object for method chaining
+     */
+    public <Input extends AmazonWebServiceRequest, Output> WaiterScheduler withPollCoalescer(
+            Class<Input> requestType, PollCoalescer<Input, Output> coalescer) {
+        coalescers.put(ValidationUtils.assertNotNull(requestType, "requestType"),
+                       ValidationUtils.assertNotNull(coalescer, "coalescer"));
+        return this;
+    }
+
+    ScheduledExecutorService getScheduledExecutorService() {
+        return scheduledExecutorService;
+    }
+
+    ExecutorService getPollExecutorService() {
+        return pollExecutorService;
+    }
+
+    /**
+     * Polls the resource once, possibly as part of a call shared with other
+     * waiters, and notifies the handler with the result for this request.
+     *
+     * @param request          Request of the waiter
+     * @param sdkFunction      Function making a blocking call
+     * @param asyncSdkFunction Function making the call through the async
+     *                         client, null if there isn't one
+     * @param handler          Callback for the result of the poll
+     */
+    <Input extends AmazonWebServiceRequest, Output> void poll(Input request,
+                                                              SdkFunction<Input, Output> sdkFunction,
+                                                              AsyncSdkFunction<Input, Output> asyncSdkFunction,
+                                                              AsyncHandler<Input, Output> handler) {
+        final PollCoalescer<Input, Output> coalescer = getCoalescer(request);
+        final Object coalescingKey = isSelfContained(request) ? coalescer.getCoalescingKey(request) : null;
+        final Poll<Input, Output> poll = new Poll<Input, Output>(request, handler);
+
+        if (coalescingKey == null) {
+            new PollBatch<Input, Output>(null, coalescer, sdkFunction, asyncSdkFunction)
+                    .issue(Collections.singletonList(poll), false);
+            return;
+        }
+
+        final Object batchKey = Arrays.asList(request.getClass(), coalescingKey);
+        PollBatch<Input, Output> full = null;
+        synchronized (pendingBatches) {
+            @SuppressWarnings("unchecked")
+            PollBatch<Input, Output> batch = (PollBatch<Input, Output>) pendingBatches.get(batchKey);
+            if (batch == null) {
+                batch = new PollBatch<Input, Output>(batchKey, coalescer, sdkFunction, asyncSdkFunction);
+                pendingBatches.put(batchKey, batch);
+                scheduledExecutorService.schedule(batch, coalescingWindowMillis, TimeUnit.MILLISECONDS);
+            }
+            if (batch.add(poll)) {
+                pendingBatches.remove(batchKey);
+                full = batch;
+            }
+        }
+        if (full != null) {
+            scheduledExecutorService.execute(full);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <Input extends AmazonWebServiceRequest, Output> PollCoalescer<Input, Output> getCoalescer(Input request) {
+        PollCoalescer<?, ?> coalescer = coalescers.get(request.getClass());
+        return (PollCoalescer<Input, Output>) (coalescer != null ? coalescer : EQUAL_REQUESTS);
+    }
+
+    /**
+     * Request equality doesn't cover the per request overrides, so requests
+     * using them are sent as they are.
+     */
+    private static boolean isSelfContained(AmazonWebServiceRequest request) {
+        return request.getRequestCredentialsProvider() == null
+                && request.getCustomRequestHeaders() == null
+                && request.getCustomQueryParameters() == null;
+    }
+
+    private static class Poll<Input extends AmazonWebServiceRequest, Output> {
+
+        private final Input request;
+
+        private final AsyncHandler<Input, Output> handler;
+
+        Poll(Input request, AsyncHandler<Input, Output> handler) {
+            this.request = request;
+            this.handler = handler;
+        }
+    }
+
+    /**
+     * Polls sharing one call of the operation.
+     */
+    private class PollBatch<Input extends AmazonWebServiceRequest, Output> implements Runnable {
+
+        private final Object key;
+
+        private final PollCoalescer<Input, Output> coalescer;
+
+        private final SdkFunction<Input, Output> sdkFunction;
+
+        private final AsyncSdkFunction<Input, Output> asyncSdkFunction;
+
+        /**
+         * Guarded by pendingBatches until the batch is issued.
+         */
+        private final List<Poll<Input, Output>> polls = new ArrayList<Poll<Input, Output>>();
+
+        private final Set<Input> requests = new HashSet<Input>();
+
+        private boolean issued;
+
+        PollBatch(Object key, PollCoalescer<Input, Output> coalescer,
+                  SdkFunction<Input, Output> sdkFunction,
+                  AsyncSdkFunction<Input, Output> asyncSdkFunction) {
+            this.key = key;
+            this.coalescer = coalescer;
+            this.sdkFunction = sdkFunction;
+            this.asyncSdkFunction = asyncSdkFunction;
+        }
+
+        /**
+         * @return True if the batch reached its maximum size
+         */
+        boolean add(Poll<Input, Output> poll) {
+            polls.add(poll);
+            requests.add(poll.request);
+            return requests.size() >= coalescer.getMaxBatchSize();
+        }
+
+        @Override
+        public void run() {
+            final List<Poll<Input, Output>> batch;
+            synchronized (pendingBatches) {
+                if (issued) {
+                    return;
+                }
+                issued = true;
+                if (pendingBatches.get(key) == this) {
+                    pendingBatches.remove(key);
+                }
+                batch = new ArrayList<Poll<Input, Output>>(polls);
+            }
+            issue(batch, true);
+        }
+
+        /**
+         * Sends one request covering all the given polls. If a merged
+         * request fails with a service error, which may be caused by just
+         * one of its requests, the requests are retried one by one.
+         */
+        void issue(final List<Poll<Input, Output>> batch, final boolean retrySeparately) {
+            final Map<Input, List<Poll<Input, Output>>> byRequest = groupByRequest(batch);
+            final Input request;
+            try {
+                request = coalescer.merge(new ArrayList<Input>(byRequest.keySet()));
+            } catch (RuntimeException e) {
+                notifyError(batch, e);
+                return;
+            }
+
+            execute(request, new AsyncHandler<Input, Output>() {
+                @Override
+                public void onError(Exception exception) {
+                    if (retrySeparately && byRequest.size() > 1
+                        && exception instanceof AmazonServiceException) {
+                        for (List<Poll<Input, Output>> samePolls : byRequest.values()) {
+                            issue(samePolls, false);
+                        }
+                    } else {
+                        notifyError(batch, exception);
+                    }
+                }
+
+                @Override
+                public void onSuccess(Input mergedRequest, Output result) {
+                    for (Poll<Input, Output> poll : batch) {
+                        final Output split;
+                        try {
+                            split = coalescer.split(poll.request, result);
+                        } catch (RuntimeException e) {
+                            poll.handler.onError(e);
+                            continue;
+                        }
+                        poll.handler.onSuccess(poll.request, split);
+                    }
+                }
+            });
+        }
+
+        private void execute(final Input request, final AsyncHandler<Input, Output> handler) {
+            try {
+                if (asyncSdkFunction != null) {
+                    asyncSdkFunction.applyAsync(request, handler);
+                    return;
+                }
+                pollExecutorService.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        final Output result;
+                        try {
+                            result = sdkFunction.apply(request);
+                        } catch (Exception e) {
+                            handler.onError(e);
+                            return;
+                        }
+                        handler.onSuccess(request, result);
+                    }
+                });
+            } catch (RuntimeException e) {
+                handler.onError(e);
+            }
+        }
+
+        private Map<Input, List<Poll<Input, Output>>> groupByRequest(List<Poll<Input, Output>> batch) {
+            final Map<Input, List<Poll<Input, Output>>> byRequest =
+                    new LinkedHashMap<Input, List<Poll<Input, Output>>>();
+            for (Poll<Input, Output> poll : batch) {
+                List<Poll<Input, Output>> samePolls = byRequest.get(poll.request);
+                if (samePolls == null) {
+                    samePolls = new ArrayList<Poll<Input, Output>>();
+                    byRequest.put(poll.request, samePolls);
+                }
+                samePolls.add(poll);
+            }
+            return byRequest;
+        }
+
+        private void notifyError(List<Poll<Input, Output>> batch, Exception exception) {
+            for (Poll<Input, Output> poll : batch) {
+                poll.handler.onError(exception);
+            }
+        }
+    }
+
+    /**
+     * We need daemon threads in our executors so that we don't keep the process running if our
+     * executor threads are the only ones left in the process.
+     */
+    private static class DaemonThreadFactory implements ThreadFactory {
+        static AtomicInteger threadCount = new AtomicInteger(0);
+
+        public Thread newThread(Runnable r) {
+            int threadNumber = threadCount.addAndGet(1);
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName("WaiterSchedulerThread-" + threadNumber);
+            return thread;
+        }
+    }
+}
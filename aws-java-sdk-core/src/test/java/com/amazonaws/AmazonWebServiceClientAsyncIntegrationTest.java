@@ -0,0 +1,140 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws;
+
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.transform.Marshaller;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import utils.http.WireMockTestBase;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static utils.http.HttpResponseHandlers.stringResponseHandler;
+
+public class AmazonWebServiceClientAsyncIntegrationTest extends WireMockTestBase {
+    private static final String OPERATION = "/some-operation";
+
+    private ExecutorService completionExecutor;
+    private AmazonTestClient client;
+
+    @Before
+    public void setUp() {
+        stubFor(any(urlPathEqualTo(OPERATION)).willReturn(aResponse().withStatus(200).withBody("hello")));
+        completionExecutor = Executors.newSingleThreadExecutor();
+        client = new AmazonTestClient();
+        client.setEndpoint("http://localhost:" + mockServer.port());
+    }
+
+    @After
+    public void tearDown() {
+        client.shutdown();
+        completionExecutor.shutdown();
+    }
+
+    @Test
+    public void asyncHandlerIsNotifiedBeforeFutureCompletes() throws Exception {
+        final TestRequest request = new TestRequest();
+        final RecordingAsyncHandler asyncHandler = new RecordingAsyncHandler();
+
+        Future<String> future = client.executeAsync(request, new TestMarshaller(), asyncHandler,
+                completionExecutor);
+
+        assertEquals("hello", future.get(10, TimeUnit.SECONDS));
+        assertSame(request, asyncHandler.request.get());
+        assertEquals("hello", asyncHandler.result.get());
+    }
+
+    @Test
+    public void marshallingFailureFailsFutureAndNotifiesAsyncHandler() throws Exception {
+        final IllegalArgumentException failure = new IllegalArgumentException("Missing parameter");
+        final RecordingAsyncHandler asyncHandler = new RecordingAsyncHandler();
+
+        Future<String> future = client.executeAsync(new TestRequest(),
+                new Marshaller<Request<TestRequest>, TestRequest>() {
+                    @Override
+                    public Request<TestRequest> marshall(TestRequest in) {
+                        throw failure;
+                    }
+                }, asyncHandler, completionExecutor);
+
+        assertTrue(future.isDone());
+        try {
+            future.get();
+            fail("Expected ExecutionException");
+        } catch (ExecutionException expected) {
+            assertSame(failure, expected.getCause());
+        }
+        assertSame(failure, asyncHandler.error.get());
+    }
+
+    private static class TestRequest extends AmazonWebServiceRequest {
+    }
+
+    private static class TestMarshaller implements Marshaller<Request<TestRequest>, TestRequest> {
+        @Override
+        public Request<TestRequest> marshall(TestRequest in) {
+            Request<TestRequest> request = new DefaultRequest<TestRequest>(in, "test");
+            request.setResourcePath(OPERATION);
+            request.setHttpMethod(HttpMethodName.GET);
+            return request;
+        }
+    }
+
+    private static class RecordingAsyncHandler implements AsyncHandler<TestRequest, String> {
+        private final AtomicReference<TestRequest> request = new AtomicReference<TestRequest>();
+        private final AtomicReference<String> result = new AtomicReference<String>();
+        private final AtomicReference<Exception> error = new AtomicReference<Exception>();
+
+        @Override
+        public void onError(Exception exception) {
+            error.set(exception);
+        }
+
+        @Override
+        public void onSuccess(TestRequest request, String result) {
+            this.request.set(request);
+            this.result.set(result);
+        }
+    }
+
+    private class AmazonTestClient extends AmazonWebServiceClient {
+        AmazonTestClient() {
+            super(new ClientConfiguration());
+        }
+
+        Future<String> executeAsync(TestRequest request, Marshaller<Request<TestRequest>, TestRequest> marshaller,
+                                    AsyncHandler<TestRequest, String> asyncHandler,
+                                    ExecutorService completionExecutor) throws Exception {
+            return executeAsync(request, marshaller, stringResponseHandler(), stubErrorHandler(), null,
+                    asyncHandler, completionExecutor);
+        }
+    }
+}
@@ -19,12 +19,15 @@ import com.amazonaws.auth.internal.AWS4SignerUtils;
 import org.junit.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.SimpleTimeZone;
 import java.util.TimeZone;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
@@ -158,6 +161,67 @@ public class AWS4SignerTest {
         assertNull(request.getHeaders().get("Authorization"));
     }
 
+    @Test
+    public void precomputedContentHashIsNotUsedByDefault() throws Exception {
+        signer.setServiceName("demo");
+        final AtomicBoolean payloadRead = new AtomicBoolean();
+        SignableRequest<?> request = MockRequestBuilder.create()
+                .withContent(new ByteArrayInputStream("{\"TableName\": \"foo\"}".getBytes()) {
+                    @Override
+                    public synchronized int read(byte[] b, int off, int len) {
+                        payloadRead.set(true);
+                        return super.read(b, off, len);
+                    }
+                })
+                .withHeader("Host", "demo.us-east-1.amazonaws.com")
+                .withHeader("x-amz-content-sha256",
+                        "0000000000000000000000000000000000000000000000000000000000000000")
+                .withPath("/")
+                .withEndpoint("http://demo.us-east-1.amazonaws.com").build();
+
+        signer.sign(request, new BasicAWSCredentials("access", "secret"));
+
+        assertTrue(payloadRead.get());
+    }
+
+    @Test
+    public void precomputedContentHashCanBeUsedWithoutReadingThePayload() throws Exception {
+        AWS4Signer precomputedHashSigner = new AWS4Signer() {
+            @Override
+            protected String calculateContentHash(SignableRequest<?> request) {
+                String precomputedHash = getPrecomputedContentHash(request);
+                return precomputedHash != null ? precomputedHash : super.calculateContentHash(request);
+            }
+        };
+        AWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+        Calendar c = new GregorianCalendar();
+        c.set(1981, 1, 16, 6, 30, 0);
+        c.setTimeZone(TimeZone.getTimeZone("UTC"));
+        precomputedHashSigner.setOverrideDate(c.getTime());
+        precomputedHashSigner.setServiceName("demo");
+
+        SignableRequest<?> request = generateBasicRequest();
+        request.addHeader("x-amz-content-sha256", "required");
+        precomputedHashSigner.sign(request, credentials);
+        String contentHash = request.getHeaders().get("x-amz-content-sha256");
+
+        SignableRequest<?> precomputed = MockRequestBuilder.create()
+                .withContent(new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("The payload should not be read");
+                    }
+                })
+                .withHeader("Host", "demo.us-east-1.amazonaws.com")
+                .withHeader("x-amz-archive-description", "test  test")
+                .withHeader("x-amz-content-sha256", contentHash)
+                .withPath("/")
+                .withEndpoint("http://demo.us-east-1.amazonaws.com").build();
+        precomputedHashSigner.sign(precomputed, credentials);
+
+        assertEquals(request.getHeaders().get("Authorization"), precomputed.getHeaders().get("Authorization"));
+    }
+
     private SignableRequest<?> generateBasicRequest() {
         return MockRequestBuilder.create()
                 .withContent(new ByteArrayInputStream("{\"TableName\": \"foo\"}".getBytes()))
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class SignerKeyCacheTest {
+
+    private static final byte[] KEY_1 = new byte[] { 1 };
+    private static final byte[] KEY_2 = new byte[] { 2 };
+
+    @Test
+    public void cachedKeyIsReturnedForSameDay() {
+        SignerKeyCache cache = new SignerKeyCache(3);
+        cache.put("secret", "us-east-1", "s3", 100, KEY_1);
+        assertArrayEquals(KEY_1, cache.get("secret", "us-east-1", "s3", 100));
+        assertNull(cache.get("secret", "us-west-2", "s3", 100));
+        assertNull(cache.get("secret", "us-east-1", "sqs", 100));
+        assertNull(cache.get("other", "us-east-1", "s3", 100));
+    }
+
+    @Test
+    public void cachedKeyIsNotReturnedForDifferentDay() {
+        SignerKeyCache cache = new SignerKeyCache(3);
+        cache.put("secret", "us-east-1", "s3", 100, KEY_1);
+        assertNull(cache.get("secret", "us-east-1", "s3", 101));
+
+        cache.put("secret", "us-east-1", "s3", 101, KEY_2);
+        assertEquals(1, cache.size());
+        assertArrayEquals(KEY_2, cache.get("secret", "us-east-1", "s3", 101));
+    }
+
+    @Test
+    public void oldestEntryIsEvictedWhenFull() {
+        SignerKeyCache cache = new SignerKeyCache(2);
+        cache.put("k1", "r", "s", 100, KEY_1);
+        cache.put("k2", "r", "s", 100, KEY_1);
+        cache.put("k3", "r", "s", 100, KEY_2);
+        assertEquals(2, cache.size());
+        assertNull(cache.get("k1", "r", "s", 100));
+        assertArrayEquals(KEY_1, cache.get("k2", "r", "s", 100));
+        assertArrayEquals(KEY_2, cache.get("k3", "r", "s", 100));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroSizeIsRejected() {
+        new SignerKeyCache(0);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2014-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class ProgressEventDispatcherTest {
+    private ProgressEventDispatcher dispatcher;
+
+    @After
+    public void tearDown() {
+        if (dispatcher != null) {
+            dispatcher.shutdown(true);
+        }
+    }
+
+    @Test
+    public void coalescesByteTransferEventsBetweenOtherEvents() throws Exception {
+        dispatcher = new ProgressEventDispatcher(2, 50, 1000);
+        RecordingListener listener = new RecordingListener();
+        dispatcher.dispatch(listener, new ProgressEvent(ProgressEventType.TRANSFER_STARTED_EVENT));
+        for (int i = 0; i < 100; i++) {
+            dispatcher.dispatch(listener,
+                    new ProgressEvent(ProgressEventType.REQUEST_BYTE_TRANSFER_EVENT, 10));
+        }
+        Future<?> f = dispatcher.dispatch(listener,
+                new ProgressEvent(ProgressEventType.TRANSFER_COMPLETED_EVENT));
+        f.get(10, TimeUnit.SECONDS);
+
+        List<ProgressEvent> events = listener.events();
+        assertEquals(ProgressEventType.TRANSFER_STARTED_EVENT, events.get(0).getEventType());
+        assertEquals(ProgressEventType.TRANSFER_COMPLETED_EVENT,
+                events.get(events.size() - 1).getEventType());
+        long bytes = 0;
+        for (ProgressEvent e: events.subList(1, events.size() - 1)) {
+            assertEquals(ProgressEventType.REQUEST_BYTE_TRANSFER_EVENT, e.getEventType());
+            bytes += e.getBytes();
+        }
+        assertEquals(1000, bytes);
+        assertTrue(events.size() < 102);
+    }
+
+    @Test
+    public void preservesOrderPerListener() throws Exception {
+        dispatcher = new ProgressEventDispatcher(4, 0, 1000);
+        final int listenerCount = 8;
+        final int eventCount = 2000;
+        RecordingListener[] listeners = new RecordingListener[listenerCount];
+        for (int i = 0; i < listenerCount; i++) {
+            listeners[i] = new RecordingListener();
+        }
+        // more events than the bound, so the publisher gets slowed down
+        Future<?>[] last = new Future<?>[listenerCount];
+        for (int j = 0; j < eventCount; j++) {
+            for (int i = 0; i < listenerCount; i++) {
+                last[i] = dispatcher.dispatch(listeners[i], new ProgressEvent(
+                        ProgressEventType.HTTP_REQUEST_CONTENT_RESET_EVENT, j + 1));
+            }
+        }
+        for (int i = 0; i < listenerCount; i++) {
+            last[i].get(10, TimeUnit.SECONDS);
+            List<ProgressEvent> events = listeners[i].events();
+            assertEquals(eventCount, events.size());
+            for (int j = 0; j < eventCount; j++) {
+                assertEquals(j + 1, events.get(j).getBytes());
+            }
+        }
+    }
+
+    @Test
+    public void runsTasksInOrderWithEvents() throws Exception {
+        dispatcher = new ProgressEventDispatcher(2, 50, 1000);
+        final RecordingListener listener = new RecordingListener();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final List<Integer> eventsSeenByTask = new ArrayList<Integer>();
+        dispatcher.dispatch(listener,
+                new ProgressEvent(ProgressEventType.RESPONSE_BYTE_TRANSFER_EVENT, 1));
+        dispatcher.dispatch(listener, new Runnable() {
+            @Override public void run() {
+                eventsSeenByTask.add(listener.events().size());
+                latch.countDown();
+            }
+        });
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(1), eventsSeenByTask);
+    }
+
+    @Test
+    public void deliversSynchronouslyAfterShutdown() {
+        dispatcher = new ProgressEventDispatcher(1, 50, 1000);
+        dispatcher.shutdown(false);
+        RecordingListener listener = new RecordingListener();
+        Future<?> f = dispatcher.dispatch(listener,
+                new ProgressEvent(ProgressEventType.TRANSFER_STARTED_EVENT));
+        assertTrue(f.isDone());
+        assertEquals(1, listener.events().size());
+    }
+
+    @Test
+    public void ignoresListenerFailures() throws Exception {
+        dispatcher = new ProgressEventDispatcher(1, 0, 1000);
+        final RecordingListener listener = new RecordingListener();
+        ProgressListener failing = new ProgressListener() {
+            @Override public void progressChanged(ProgressEvent progressEvent) {
+                listener.progressChanged(progressEvent);
+                throw new RuntimeException();
+            }
+        };
+        dispatcher.dispatch(failing, new ProgressEvent(ProgressEventType.TRANSFER_STARTED_EVENT));
+        dispatcher.dispatch(failing, new ProgressEvent(ProgressEventType.TRANSFER_COMPLETED_EVENT))
+                .get(10, TimeUnit.SECONDS);
+        assertEquals(2, listener.events().size());
+    }
+
+    private static class RecordingListener implements ProgressListener {
+        private final List<ProgressEvent> events = new ArrayList<ProgressEvent>();
+
+        @Override
+        public synchronized void progressChanged(ProgressEvent progressEvent) {
+            events.add(progressEvent);
+        }
+
+        synchronized List<ProgressEvent> events() {
+            return new ArrayList<ProgressEvent>(events);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.handlers;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static utils.http.HttpResponseHandlers.stringResponseHandler;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.http.ExecutionContext;
+import com.amazonaws.http.HttpMethodName;
+import com.amazonaws.internal.auth.NoOpSignerProvider;
+
+import utils.http.WireMockTestBase;
+
+public class ResponseCacheHandlerIntegrationTest extends WireMockTestBase {
+    private static final String OPERATION = "/describe";
+
+    private AmazonHttpClient client;
+    private ResponseCacheHandler cache;
+
+    @Before
+    public void setUp() {
+        stubFor(any(urlPathEqualTo(OPERATION)).willReturn(aResponse().withStatus(200).withBody("described")));
+        client = new AmazonHttpClient(new ClientConfiguration());
+        cache = new ResponseCacheHandler.Builder()
+                .withOperation(DescribeRequest.class, 60, TimeUnit.SECONDS)
+                .build();
+    }
+
+    @After
+    public void tearDown() {
+        client.shutdown();
+    }
+
+    @Test
+    public void secondIdenticalCallIsAnsweredFromTheCache() throws Exception {
+        assertEquals("described", execute());
+        assertEquals("described", execute());
+
+        verify(1, getRequestedFor(urlPathEqualTo(OPERATION)));
+    }
+
+    /**
+     * The first call fails in a handler that runs after the cache, so it never
+     * gets a response; the call coalesced onto it must not wait out the
+     * coalescing timeout.
+     */
+    @Test
+    public void coalescedCallIsReleasedWhenTheFirstCallFailsBeforeBeingSent() throws Exception {
+        final CountDownLatch leaderRegistered = new CountDownLatch(1);
+        final AtomicBoolean failed = new AtomicBoolean();
+        final List<RequestHandler2> handlers = Arrays.asList(cache, new RequestHandler2() {
+            @Override
+            public void beforeRequest(Request<?> request) {
+                if (failed.compareAndSet(false, true)) {
+                    leaderRegistered.countDown();
+                    sleep(300);
+                    throw new IllegalStateException("rejected");
+                }
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> leader = executor.submit(executeWith(handlers));
+            leaderRegistered.await();
+            Future<String> follower = executor.submit(executeWith(handlers));
+
+            assertEquals("described", follower.get(5, TimeUnit.SECONDS));
+            try {
+                leader.get();
+                fail("Expected the first call to fail");
+            } catch (ExecutionException expected) {
+                assertTrue(expected.getCause() instanceof IllegalStateException);
+            }
+            verify(1, getRequestedFor(urlPathEqualTo(OPERATION)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * The first call is interrupted while its response goes through the
+     * handlers; the cache must still see the response and hand it to the call
+     * coalesced onto it.
+     */
+    @Test
+    public void coalescedCallIsReleasedWhenTheFirstCallIsInterrupted() throws Exception {
+        final CountDownLatch leaderResponded = new CountDownLatch(1);
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final List<RequestHandler2> handlers = Arrays.asList(new RequestHandler2() {
+            @Override
+            public void afterResponse(Request<?> request, Response<?> response) {
+                if (interrupted.compareAndSet(false, true)) {
+                    leaderResponded.countDown();
+                    sleep(300);
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, cache);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            executor.submit(executeWith(handlers));
+            leaderResponded.await();
+            Future<String> follower = executor.submit(executeWith(handlers));
+
+            assertEquals("described", follower.get(5, TimeUnit.SECONDS));
+            verify(1, getRequestedFor(urlPathEqualTo(OPERATION)));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Callable<String> executeWith(final List<RequestHandler2> handlers) {
+        return new Callable<String>() {
+            @Override
+            public String call() throws Exception {
+                return execute(handlers);
+            }
+        };
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String execute() throws Exception {
+        return execute(Collections.<RequestHandler2>singletonList(cache));
+    }
+
+    private String execute(List<RequestHandler2> handlers) throws Exception {
+        return client.execute(newRequest(), stringResponseHandler(), stubErrorHandler(),
+                ExecutionContext.builder()
+                        .withRequestHandler2s(handlers)
+                        .withSignerProvider(new NoOpSignerProvider())
+                        .build())
+                .getAwsResponse();
+    }
+
+    /**
+     * A new request for each call, as marshalled by a client.
+     */
+    private Request<DescribeRequest> newRequest() {
+        Request<DescribeRequest> request = new DefaultRequest<DescribeRequest>(new DescribeRequest(), "mock");
+        request.setEndpoint(URI.create("http://localhost:" + mockServer.port()));
+        request.setResourcePath(OPERATION);
+        request.setHttpMethod(HttpMethodName.GET);
+        return request;
+    }
+
+    private static class DescribeRequest extends AmazonWebServiceRequest {
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.handlers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+import com.amazonaws.util.AWSRequestMetricsFullSupport;
+import com.amazonaws.util.StringInputStream;
+
+public class ResponseCacheHandlerTest {
+
+    private int requestsSent;
+
+    @Test
+    public void identicalCallsAreAnsweredFromTheCache() throws Exception {
+        ResponseCacheHandler handler = newHandler(60, TimeUnit.SECONDS);
+
+        TestResult first = call(handler, new DescribeRequest(), "{\"Name\":\"a\"}");
+        TestResult second = call(handler, new DescribeRequest(), "{\"Name\":\"a\"}");
+
+        assertEquals(1, requestsSent);
+        assertEquals(first.value, second.value);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void callsWithDifferentContentAreNotShared() throws Exception {
+        ResponseCacheHandler handler = newHandler(60, TimeUnit.SECONDS);
+
+        call(handler, new DescribeRequest(), "{\"Name\":\"a\"}");
+        call(handler, new DescribeRequest(), "{\"Name\":\"b\"}");
+
+        assertEquals(2, requestsSent);
+    }
+
+    @Test
+    public void invocationIdAndRetryHeadersAreNotPartOfTheKey() throws Exception {
+        ResponseCacheHandler handler = newHandler(60, TimeUnit.SECONDS);
+
+        Request<?> first = newRequest(new DescribeRequest(), "{}");
+        first.addHeader(AmazonHttpClient.HEADER_SDK_TRANSACTION_ID, "5d3b4e5c-0000-0000-0000-000000000001");
+        handler.beforeRequest(first);
+        handler.afterResponse(first, new Response<Object>(new TestResult("x"), null));
+
+        Request<?> second = newRequest(new DescribeRequest(), "{}");
+        second.addHeader(AmazonHttpClient.HEADER_SDK_TRANSACTION_ID, "5d3b4e5c-0000-0000-0000-000000000002");
+        second.addHeader(AmazonHttpClient.HEADER_SDK_RETRY_INFO, "1/100/495");
+        handler.beforeRequest(second);
+
+        assertNotNull(second.getHandlerContext(HandlerContextKey.PROVIDED_RESPONSE));
+    }
+
+    @Test
+    public void operationsThatAreNotOptedInAreNeverCached() throws Exception {
+        ResponseCacheHandler handler = newHandler(60, TimeUnit.SECONDS);
+
+        call(handler, new UpdateRequest(), "{}");
+        call(handler, new UpdateRequest(), "{}");
+
+        assertEquals(2, requestsSent);
+    }
+
+    @Test
+    public void resultsExpireAfterTheirTimeToLive() throws Exception {
+        ResponseCacheHandler handler = newHandler(1, TimeUnit.MILLISECONDS);
+
+        call(handler, new DescribeRequest(), "{}");
+        Thread.sleep(10);
+        call(handler, new DescribeRequest(), "{}");
+
+        assertEquals(2, requestsSent);
+    }
+
+    @Test
+    public void leastRecentlyUsedResultsAreEvicted() throws Exception {
+        ResponseCacheHandler handler = new ResponseCacheHandler.Builder()
+                .withOperation(DescribeRequest.class, 60, TimeUnit.SECONDS)
+                .withMaxEntries(2)
+                .build();
+
+        call(handler, new DescribeRequest(), "a");
+        call(handler, new DescribeRequest(), "b");
+        call(handler, new DescribeRequest(), "a");
+        call(handler, new DescribeRequest(), "c");
+        assertEquals(3, requestsSent);
+
+        call(handler, new DescribeRequest(), "a");
+        assertEquals(3, requestsSent);
+        call(handler, new DescribeRequest(), "b");
+        assertEquals(4, requestsSent);
+    }
+
+    @Test
+    public void failedCallsAreNotCached() throws Exception {
+        ResponseCacheHandler handler = newHandler(60, TimeUnit.SECONDS);
+
+        Request<?> request = newRequest(new DescribeRequest(), "{}");
+        handler.beforeRequest(request);
+        handler.afterError(request, null, new AmazonServiceException("Throttled"));
+
+        call(handler, new DescribeRequest(), "{}");
+        assertEquals(1, requestsSent);
+    }
+
+    @Test
+    public void hitsAndMissesAreCounted() throws Exception {
+        ResponseCacheHandler handler = newHandler(60, TimeUnit.SECONDS);
+
+        Request<?> miss = newRequest(new DescribeRequest(), "{}");
+        handler.beforeRequest(miss);
+        handler.afterResponse(miss, new Response<Object>(new TestResult("x"), null));
+        Request<?> hit = newRequest(new DescribeRequest(), "{}");
+        handler.beforeRequest(hit);
+
+        assertEquals(1, miss.getAWSRequestMetrics().getTimingInfo()
+                .getCounter(Field.ResponseCacheMissCount.name()).intValue());
+        assertNull(miss.getAWSRequestMetrics().getTimingInfo().getCounter(Field.ResponseCacheHitCount.name()));
+        assertEquals(1, hit.getAWSRequestMetrics().getTimingInfo()
+                .getCounter(Field.ResponseCacheHitCount.name()).intValue());
+    }
+
+    @Test
+    public void concurrentIdenticalCallsAreCoalesced() throws Exception {
+        final ResponseCacheHandler handler = newHandler(60, TimeUnit.SECONDS);
+        Request<?> leader = newRequest(new DescribeRequest(), "{}");
+        handler.beforeRequest(leader);
+
+        final List<Request<?>> followers = new ArrayList<Request<?>>();
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int i = 0; i < 4; i++) {
+            final Request<?> follower = newRequest(new DescribeRequest(), "{}");
+            followers.add(follower);
+            Thread thread = new Thread() {
+                @Override
+                public void run() {
+                    handler.beforeRequest(follower);
+                }
+            };
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            while (thread.getState() != Thread.State.TIMED_WAITING) {
+                Thread.sleep(1);
+            }
+        }
+
+        handler.afterResponse(leader, new Response<Object>(new TestResult("x"), null));
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (Request<?> follower : followers) {
+            TestResult result = (TestResult) follower.getHandlerContext(HandlerContextKey.PROVIDED_RESPONSE);
+            assertNotNull(result);
+            assertEquals("x", result.value);
+        }
+    }
+
+    @Test
+    public void coalescedCallsAreSentWhenTheFirstCallFails() throws Exception {
+        final ResponseCacheHandler handler = newHandler(60, TimeUnit.SECONDS);
+        Request<?> leader = newRequest(new DescribeRequest(), "{}");
+        handler.beforeRequest(leader);
+
+        final Request<?> follower = newRequest(new DescribeRequest(), "{}");
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                handler.beforeRequest(follower);
+            }
+        };
+        thread.start();
+        while (thread.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(1);
+        }
+
+        handler.afterError(leader, null, new AmazonServiceException("Throttled"));
+        thread.join();
+        assertNull(follower.getHandlerContext(HandlerContextKey.PROVIDED_RESPONSE));
+    }
+
+    private ResponseCacheHandler newHandler(long timeToLive, TimeUnit unit) {
+        return new ResponseCacheHandler.Builder()
+                .withOperation(DescribeRequest.class, timeToLive, unit)
+                .build();
+    }
+
+    /**
+     * Runs the given request through the handler the way the http client
+     * does, sending it only if the handler does not provide a response.
+     */
+    private TestResult call(ResponseCacheHandler handler, AmazonWebServiceRequest originalRequest, String content)
+            throws Exception {
+        Request<?> request = newRequest(originalRequest, content);
+        handler.beforeRequest(request);
+        Object result = request.getHandlerContext(HandlerContextKey.PROVIDED_RESPONSE);
+        if (result == null) {
+            requestsSent++;
+            result = new TestResult(content + "-" + requestsSent);
+        }
+        handler.afterResponse(request, new Response<Object>(result, null));
+        return (TestResult) result;
+    }
+
+    private static Request<?> newRequest(AmazonWebServiceRequest originalRequest, String content)
+            throws Exception {
+        Request<?> request = new DefaultRequest<Object>(originalRequest, "testsvc");
+        request.setEndpoint(URI.create("https://testsvc.us-east-1.amazonaws.com"));
+        request.addHeader("X-Amz-Target", "TestService." + originalRequest.getClass().getSimpleName());
+        request.setContent(new StringInputStream(content));
+        request.setAWSRequestMetrics(new AWSRequestMetricsFullSupport());
+        return request;
+    }
+
+    private static class DescribeRequest extends AmazonWebServiceRequest {
+    }
+
+    private static class UpdateRequest extends AmazonWebServiceRequest {
+    }
+
+    public static class TestResult implements Cloneable {
+        private final String value;
+
+        TestResult(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public TestResult clone() {
+            try {
+                return (TestResult) super.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
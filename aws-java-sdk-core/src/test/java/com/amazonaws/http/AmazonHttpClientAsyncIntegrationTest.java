@@ -0,0 +1,171 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.Request;
+import com.amazonaws.Response;
+import org.apache.http.concurrent.FutureCallback;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import utils.http.WireMockTestBase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static utils.http.HttpResponseHandlers.stringResponseHandler;
+
+public class AmazonHttpClientAsyncIntegrationTest extends WireMockTestBase {
+    private static final String OPERATION = "/some-operation";
+    private static final String FAILING_OPERATION = "/failing-operation";
+    private static final String HEADER = "Async-Header";
+    private static final String CONFIG_HEADER_VALUE = "client config header value";
+
+    private AmazonHttpClient client;
+
+    @Before
+    public void setUp() {
+        stubFor(any(urlPathEqualTo(OPERATION)).willReturn(aResponse().withStatus(200).withBody("hello")));
+        stubFor(any(urlPathEqualTo(FAILING_OPERATION)).willReturn(aResponse().withStatus(500)));
+        client = new AmazonHttpClient(new ClientConfiguration()
+                .withHeader(HEADER, CONFIG_HEADER_VALUE)
+                .withMaxErrorRetry(2));
+    }
+
+    @After
+    public void tearDown() {
+        client.shutdown();
+    }
+
+    @Test
+    public void successfulResponseCompletesFuture() throws Exception {
+        Request<?> request = newGetRequest(OPERATION);
+
+        Response<String> response = client.executeAsync(request, stringResponseHandler(), stubErrorHandler(),
+                new ExecutionContext(), null).get(10, TimeUnit.SECONDS);
+
+        assertEquals("hello", response.getAwsResponse());
+        verify(getRequestedFor(urlPathEqualTo(OPERATION)).withHeader(HEADER, matching(CONFIG_HEADER_VALUE)));
+    }
+
+    @Test
+    public void successfulResponseNotifiesCallback() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicReference<String> result = new AtomicReference<String>();
+
+        client.executeAsync(newGetRequest(OPERATION), stringResponseHandler(), stubErrorHandler(),
+                new ExecutionContext(), new FutureCallback<Response<String>>() {
+                    @Override
+                    public void completed(Response<String> response) {
+                        result.set(response.getAwsResponse());
+                        latch.countDown();
+                    }
+
+                    @Override
+                    public void failed(Exception ex) {
+                        latch.countDown();
+                    }
+
+                    @Override
+                    public void cancelled() {
+                        latch.countDown();
+                    }
+                });
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertEquals("hello", result.get());
+    }
+
+    @Test
+    public void serviceErrorIsRetriedThenFailsFuture() throws Exception {
+        try {
+            client.executeAsync(newGetRequest(FAILING_OPERATION), stringResponseHandler(), stubErrorHandler(),
+                    new ExecutionContext(), null).get(10, TimeUnit.SECONDS);
+            fail("Expected ExecutionException");
+        } catch (ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof AmazonServiceException);
+            assertEquals(500, ((AmazonServiceException) expected.getCause()).getStatusCode());
+        }
+
+        verify(3, getRequestedFor(urlPathEqualTo(FAILING_OPERATION)));
+    }
+
+    @Test
+    public void responseIsHandledOnCompletionExecutor() throws Exception {
+        final ExecutorService completionExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                return new Thread(runnable, "completion-executor");
+            }
+        });
+        final AtomicReference<String> handlerThread = new AtomicReference<String>();
+        final AtomicReference<String> callbackThread = new AtomicReference<String>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        try {
+            client.executeAsync(newGetRequest(OPERATION), new HttpResponseHandler<AmazonWebServiceResponse<String>>() {
+                @Override
+                public AmazonWebServiceResponse<String> handle(HttpResponse response) throws Exception {
+                    handlerThread.set(Thread.currentThread().getName());
+                    return stringResponseHandler().handle(response);
+                }
+
+                @Override
+                public boolean needsConnectionLeftOpen() {
+                    return false;
+                }
+            }, stubErrorHandler(), new ExecutionContext(), new FutureCallback<Response<String>>() {
+                @Override
+                public void completed(Response<String> response) {
+                    callbackThread.set(Thread.currentThread().getName());
+                    latch.countDown();
+                }
+
+                @Override
+                public void failed(Exception ex) {
+                    latch.countDown();
+                }
+
+                @Override
+                public void cancelled() {
+                    latch.countDown();
+                }
+            }, completionExecutor);
+
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertEquals("completion-executor", handlerThread.get());
+            assertEquals("completion-executor", callbackThread.get());
+        } finally {
+            completionExecutor.shutdown();
+        }
+    }
+}
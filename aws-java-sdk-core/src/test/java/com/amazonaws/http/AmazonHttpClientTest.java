@@ -22,6 +22,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.util.Collections;
 
 import com.amazonaws.http.apache.client.impl.ConnectionManagerAwareHttpClient;
 import com.amazonaws.http.apache.request.impl.ApacheHttpRequestFactory;
@@ -46,6 +47,10 @@ import com.amazonaws.AmazonWebServiceResponse;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.DefaultRequest;
 import com.amazonaws.Request;
+import com.amazonaws.Response;
+import com.amazonaws.handlers.HandlerContextKey;
+import com.amazonaws.handlers.RequestHandler2;
+import com.amazonaws.internal.auth.NoOpSignerProvider;
 
 public class AmazonHttpClientTest {
 
@@ -160,6 +165,38 @@ public class AmazonHttpClientTest {
         EasyMock.verify(httpClient);
     }
 
+    @Test
+    public void testProvidedResponseIsReturnedWithoutSendingRequest() throws Exception {
+        final Object providedResponse = new Object();
+        final Response<?>[] handledResponse = new Response<?>[1];
+        RequestHandler2 handler = new RequestHandler2() {
+            @Override
+            public void beforeRequest(Request<?> request) {
+                request.addHandlerContext(HandlerContextKey.PROVIDED_RESPONSE, providedResponse);
+            }
+
+            @Override
+            public void afterResponse(Request<?> request, Response<?> response) {
+                handledResponse[0] = response;
+            }
+        };
+        ExecutionContext context = ExecutionContext.builder()
+                .withRequestHandler2s(Collections.singletonList(handler))
+                .withSignerProvider(new NoOpSignerProvider())
+                .build();
+
+        Request<?> request = new DefaultRequest<Object>(null, "testsvc");
+        request.setEndpoint(URI.create(URI_NAME));
+
+        // The mock http client fails the test if the request is sent
+        Response<Object> response = client.execute(request, null, null, context);
+
+        Assert.assertSame(providedResponse, response.getAwsResponse());
+        Assert.assertEquals(200, response.getHttpResponse().getStatusCode());
+        Assert.assertSame(response, handledResponse[0]);
+        EasyMock.verify(httpClient);
+    }
+
     @Test
     public void testUseExpectContinueTrue() throws IOException {
         Request<?> request = mockRequest(SERVER_NAME, HttpMethodName.PUT, URI_NAME, true);
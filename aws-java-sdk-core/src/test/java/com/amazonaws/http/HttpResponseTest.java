@@ -0,0 +1,47 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.amazonaws.DefaultRequest;
+
+public class HttpResponseTest {
+
+    @Test
+    public void headersAreLookedUpCaseInsensitively() {
+        HttpResponse response = new HttpResponse(new DefaultRequest<String>("someService"), null);
+        // As received over HTTP/2, where header names are always lower case
+        response.addHeader("x-amz-function-error", "Unhandled");
+        response.addHeader("x-amzn-requestid", "request-id");
+        response.addHeader("etag", "\"etag\"");
+
+        assertEquals("Unhandled", response.getHeaders().get("X-Amz-Function-Error"));
+        assertEquals("request-id", response.getHeaders().get("x-amzn-RequestId"));
+        assertEquals("\"etag\"", response.getHeaders().get("ETag"));
+    }
+
+    @Test
+    public void laterHeaderReplacesOneDifferingOnlyInCase() {
+        HttpResponse response = new HttpResponse(new DefaultRequest<String>("someService"), null);
+        response.addHeader("X-Amz-Log-Result", "first");
+        response.addHeader("x-amz-log-result", "second");
+
+        assertEquals(1, response.getHeaders().size());
+        assertEquals("second", response.getHeaders().get("X-Amz-Log-Result"));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.apache.client.impl;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.http.settings.HttpClientSettings;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+public class ConnectionPrewarmerTest {
+
+    private final HttpClientSettings settings = HttpClientSettings.adapt(
+            new ClientConfiguration().withMaxConnections(4));
+    private final List<Socket> accepted = new ArrayList<Socket>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private ServerSocket server;
+    private HttpClientConnectionManager cm;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new ServerSocket(0, 50, InetAddress.getByName("localhost"));
+        final Thread acceptor = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (true) {
+                        Socket socket = server.accept();
+                        synchronized (accepted) {
+                            accepted.add(socket);
+                        }
+                        connections.incrementAndGet();
+                    }
+                } catch (IOException e) {
+                    // server closed
+                }
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+        cm = new ApacheConnectionManagerFactory().create(settings);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        cm.shutdown();
+        server.close();
+        synchronized (accepted) {
+            for (Socket socket : accepted) {
+                socket.close();
+            }
+        }
+    }
+
+    @Test
+    public void opensConnectionsAheadOfRequests() throws Exception {
+        final URI endpoint = URI.create("http://localhost:" + server.getLocalPort());
+        assertEquals(3, ConnectionPrewarmer.prewarm(cm, settings, endpoint, 3));
+        awaitConnections(3);
+
+        // open connections are reused rather than opened again
+        assertEquals(3, ConnectionPrewarmer.prewarm(cm, settings, endpoint, 3));
+        Thread.sleep(100);
+        assertEquals(3, connections.get());
+    }
+
+    @Test
+    public void isBoundedByTheMaximumNumberOfConnections() throws Exception {
+        final URI endpoint = URI.create("http://localhost:" + server.getLocalPort());
+        assertEquals(4, ConnectionPrewarmer.prewarm(cm, settings, endpoint, 10));
+        awaitConnections(4);
+    }
+
+    private void awaitConnections(int expected) throws InterruptedException {
+        for (int i = 0; i < 100 && connections.get() < expected; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, connections.get());
+    }
+}
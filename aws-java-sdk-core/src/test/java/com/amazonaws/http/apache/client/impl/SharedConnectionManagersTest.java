@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2016. Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ * http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.apache.client.impl;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.http.settings.HttpClientSettings;
+import com.amazonaws.internal.SdkSSLContext;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.ConnPoolControl;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SharedConnectionManagersTest {
+
+    private final ApacheConnectionManagerFactory factory = new ApacheConnectionManagerFactory();
+
+    @Test
+    public void clientsWithTheSameSettingsShareAPool() {
+        final HttpClientSettings settings = HttpClientSettings.adapt(
+                new ClientConfiguration().withSharedConnectionPool(true).withMaxConnections(10));
+        final HttpClientConnectionManager first = factory.create(settings);
+        final HttpClientConnectionManager second = factory.create(HttpClientSettings.adapt(
+                new ClientConfiguration().withSharedConnectionPool(true).withMaxConnections(10)));
+        try {
+            assertTrue(first instanceof SharedConnectionManager);
+            assertNotSame(first, second);
+            assertEquals(1, SharedConnectionManagers.size());
+            // each client may still use up to its maximum number of connections
+            assertEquals(20, ((ConnPoolControl<?>) first).getMaxTotal());
+            assertEquals(10, ((ConnPoolControl<?>) first).getDefaultMaxPerRoute());
+
+            first.shutdown();
+            first.shutdown();
+            assertEquals(1, SharedConnectionManagers.size());
+            assertEquals(10, ((ConnPoolControl<?>) second).getMaxTotal());
+        } finally {
+            first.shutdown();
+            second.shutdown();
+        }
+        assertEquals(0, SharedConnectionManagers.size());
+    }
+
+    @Test
+    public void clientsWithDifferentSettingsUseDifferentPools() {
+        final HttpClientConnectionManager first = factory.create(HttpClientSettings.adapt(
+                new ClientConfiguration().withSharedConnectionPool(true).withMaxConnections(10)));
+        final HttpClientConnectionManager second = factory.create(HttpClientSettings.adapt(
+                new ClientConfiguration().withSharedConnectionPool(true).withMaxConnections(10)
+                        .withProxyHost("localhost").withProxyPort(3128)));
+        try {
+            assertEquals(2, SharedConnectionManagers.size());
+        } finally {
+            first.shutdown();
+            second.shutdown();
+        }
+        assertEquals(0, SharedConnectionManagers.size());
+    }
+
+    @Test
+    public void poolsAreNotSharedByDefault() {
+        final HttpClientConnectionManager cm = factory.create(
+                HttpClientSettings.adapt(new ClientConfiguration()));
+        try {
+            assertTrue(cm instanceof PoolingHttpClientConnectionManager);
+            assertEquals(0, SharedConnectionManagers.size());
+        } finally {
+            cm.shutdown();
+        }
+    }
+
+    @Test
+    public void sslContextIsSharedForSessionResumption() {
+        assertSame(SdkSSLContext.getPreferredSSLContext(null),
+                SdkSSLContext.getPreferredSSLContext(null));
+        assertFalse(SdkSSLContext.getPreferredSSLContext(null).getClientSessionContext()
+                .getSessionCacheSize() == 0);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2014-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.http2;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class HpackTest {
+
+    @Test
+    public void huffmanEncodesAsInRfc7541() throws IOException {
+        // RFC 7541 appendix C.4.1
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Huffman.encode("www.example.com", out);
+        assertEquals("f1e3c2e5f23a6ba0ab90f4ff", hex(out.toByteArray()));
+        assertEquals(12, Huffman.encodedLength("www.example.com"));
+
+        byte[] encoded = unhex("f1e3c2e5f23a6ba0ab90f4ff");
+        assertEquals("www.example.com", Huffman.decode(encoded, 0, encoded.length));
+    }
+
+    @Test
+    public void huffmanRoundTripsAllOctets() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (char c = 0; c < 256; c++) {
+            sb.append(c);
+        }
+        String s = sb.toString();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Huffman.encode(s, out);
+        byte[] encoded = out.toByteArray();
+        assertEquals(Huffman.encodedLength(s), encoded.length);
+        assertEquals(s, Huffman.decode(encoded, 0, encoded.length));
+    }
+
+    @Test(expected = IOException.class)
+    public void huffmanRejectsInvalidPadding() throws IOException {
+        // 'a' is 00011 (5 bits); padding must be all ones
+        Huffman.decode(new byte[] {0x18}, 0, 1);
+    }
+
+    @Test
+    public void decodesRfc7541RequestsWithHuffmanCoding() throws IOException {
+        // RFC 7541 appendix C.4, sharing the dynamic table across requests
+        Hpack.Decoder decoder = new Hpack.Decoder(4096);
+        byte[] first = unhex("828684418cf1e3c2e5f23a6ba0ab90f4ff");
+        assertFields(decoder.decode(first, 0, first.length),
+                ":method", "GET", ":scheme", "http", ":path", "/",
+                ":authority", "www.example.com");
+
+        byte[] second = unhex("828684be5886a8eb10649cbf");
+        assertFields(decoder.decode(second, 0, second.length),
+                ":method", "GET", ":scheme", "http", ":path", "/",
+                ":authority", "www.example.com", "cache-control", "no-cache");
+
+        byte[] third = unhex("828785bf408825a849e95ba97d7f8925a849e95bb8e8b4bf");
+        assertFields(decoder.decode(third, 0, third.length),
+                ":method", "GET", ":scheme", "https", ":path", "/index.html",
+                ":authority", "www.example.com", "custom-key", "custom-value");
+    }
+
+    @Test
+    public void decodesRfc7541ResponsesWithEviction() throws IOException {
+        // RFC 7541 appendix C.5, with a 256 byte table forcing evictions
+        Hpack.Decoder decoder = new Hpack.Decoder(256);
+        byte[] first = unhex("4803333032580770726976617465611d"
+                + "4d6f6e2c203231204f637420323031332032303a31333a323120474d54"
+                + "6e1768747470733a2f2f7777772e6578616d706c652e636f6d");
+        assertFields(decoder.decode(first, 0, first.length),
+                ":status", "302", "cache-control", "private",
+                "date", "Mon, 21 Oct 2013 20:13:21 GMT",
+                "location", "https://www.example.com");
+
+        byte[] second = unhex("4803333037c1c0bf");
+        assertFields(decoder.decode(second, 0, second.length),
+                ":status", "307", "cache-control", "private",
+                "date", "Mon, 21 Oct 2013 20:13:21 GMT",
+                "location", "https://www.example.com");
+    }
+
+    @Test
+    public void encoderOutputRoundTrips() throws IOException {
+        List<HeaderField> fields = Arrays.asList(
+                new HeaderField(":method", "POST"),
+                new HeaderField(":scheme", "https"),
+                new HeaderField(":authority", "dynamodb.us-east-1.amazonaws.com"),
+                new HeaderField(":path", "/"),
+                new HeaderField("content-type", "application/x-amz-json-1.0"),
+                new HeaderField("x-amz-target", "DynamoDB_20120810.GetItem"),
+                new HeaderField("x-amz-date", "20161018T000000Z"));
+        byte[] block = new Hpack.Encoder().encode(fields);
+        List<HeaderField> decoded = new Hpack.Decoder(4096).decode(block, 0, block.length);
+        assertEquals(fields.toString(), decoded.toString());
+    }
+
+    @Test
+    public void rejectsIndexesOutOfTheTable() {
+        byte[] block = unhex("be");
+        try {
+            new Hpack.Decoder(4096).decode(block, 0, block.length);
+            fail();
+        } catch (IOException expected) {
+        }
+    }
+
+    private static void assertFields(List<HeaderField> fields, String... namesAndValues) {
+        assertEquals(namesAndValues.length / 2, fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            assertEquals(namesAndValues[2 * i], fields.get(i).name);
+            assertEquals(namesAndValues[2 * i + 1], fields.get(i).value);
+        }
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder();
+        for (byte b: bytes) {
+            sb.append(String.format("%02x", b & 0xff));
+        }
+        return sb.toString();
+    }
+
+    private static byte[] unhex(String s) {
+        byte[] bytes = new byte[s.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(s.substring(2 * i, 2 * i + 2), 16);
+        }
+        return bytes;
+    }
+}
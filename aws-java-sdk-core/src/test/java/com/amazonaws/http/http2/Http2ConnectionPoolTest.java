@@ -0,0 +1,366 @@
+/*
+ * Copyright 2014-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http.http2;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the HTTP/2 client against a minimal h2c server, which answers
+ * "/hello" with a fixed body, "/echo" with the request body, "/pair" once two
+ * such requests are in flight, and "/reset" with a RST_STREAM.
+ */
+public class Http2ConnectionPoolTest {
+    private StubServer server;
+    private Http2ConnectionPool pool;
+
+    @Before
+    public void setUp() throws IOException {
+        server = new StubServer(false);
+        pool = new Http2ConnectionPool(new PlainConnector(), 2, 5000, 5000);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        server.close();
+    }
+
+    @Test
+    public void getReturnsResponse() throws IOException {
+        Http2Stream stream = pool.newStream("http", "localhost", server.port(),
+                request("GET", "/hello"), true);
+        List<HeaderField> headers = stream.awaitResponseHeaders();
+        assertEquals("200", Http2Stream.status(headers));
+        assertEquals("hello", new String(read(stream.getResponseBody()), "UTF-8"));
+    }
+
+    @Test
+    public void echoesBodiesLargerThanTheFlowControlWindow() throws IOException {
+        byte[] body = new byte[300 * 1024];
+        new Random(42).nextBytes(body);
+        Http2Stream stream = pool.newStream("http", "localhost", server.port(),
+                request("POST", "/echo"), false);
+        OutputStream out = stream.getRequestBody();
+        out.write(body);
+        out.close();
+        assertEquals("200", Http2Stream.status(stream.awaitResponseHeaders()));
+        assertArrayEquals(body, read(stream.getResponseBody()));
+    }
+
+    @Test
+    public void concurrentStreamsShareOneConnection() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<String>> results = new ArrayList<Future<String>>();
+            for (int i = 0; i < 2; i++) {
+                results.add(executor.submit(new Callable<String>() {
+                    @Override
+                    public String call() throws IOException {
+                        Http2Stream stream = pool.newStream("http", "localhost", server.port(),
+                                request("GET", "/pair"), true);
+                        stream.awaitResponseHeaders();
+                        return new String(read(stream.getResponseBody()), "UTF-8");
+                    }
+                }));
+            }
+            for (Future<String> result: results) {
+                assertEquals("pair", result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, server.connections.get());
+    }
+
+    @Test
+    public void resetStreamFailsTheResponse() throws IOException {
+        Http2Stream stream = pool.newStream("http", "localhost", server.port(),
+                request("GET", "/reset"), true);
+        try {
+            stream.awaitResponseHeaders();
+            fail();
+        } catch (IOException expected) {
+        }
+        // the connection remains usable
+        stream = pool.newStream("http", "localhost", server.port(), request("GET", "/hello"), true);
+        assertEquals("200", Http2Stream.status(stream.awaitResponseHeaders()));
+        assertEquals(1, server.connections.get());
+    }
+
+    @Test
+    public void fallsBackForHttp11Servers() throws IOException {
+        StubServer http11 = new StubServer(true);
+        try {
+            assertTrue(pool.isHttp2Supported("http", "localhost", http11.port()));
+            assertNull(pool.newStream("http", "localhost", http11.port(),
+                    request("GET", "/hello"), true));
+            assertTrue(!pool.isHttp2Supported("http", "localhost", http11.port()));
+        } finally {
+            http11.close();
+        }
+    }
+
+    @Test
+    public void closesIdleConnections() throws IOException {
+        Http2Stream stream = pool.newStream("http", "localhost", server.port(),
+                request("GET", "/hello"), true);
+        read(stream.getResponseBody());
+        pool.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+        stream = pool.newStream("http", "localhost", server.port(), request("GET", "/hello"), true);
+        read(stream.getResponseBody());
+        assertEquals(2, server.connections.get());
+    }
+
+    private static List<HeaderField> request(String method, String path) {
+        List<HeaderField> fields = new ArrayList<HeaderField>();
+        fields.add(new HeaderField(":method", method));
+        fields.add(new HeaderField(":scheme", "http"));
+        fields.add(new HeaderField(":authority", "localhost"));
+        fields.add(new HeaderField(":path", path));
+        return fields;
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[8192];
+        for (int n; (n = in.read(buf)) != -1;) {
+            out.write(buf, 0, n);
+        }
+        in.close();
+        return out.toByteArray();
+    }
+
+    private static final class PlainConnector implements Http2ConnectionPool.Connector {
+        @Override
+        public Socket connect(String scheme, String host, int port) throws IOException {
+            return new Socket(InetAddress.getByName(host), port);
+        }
+    }
+
+    private static final class StubServer implements Runnable {
+        private final ServerSocket serverSocket;
+        private final boolean http11;
+        private final List<Socket> sockets = Collections.synchronizedList(new ArrayList<Socket>());
+        final AtomicInteger connections = new AtomicInteger();
+
+        StubServer(boolean http11) throws IOException {
+            this.http11 = http11;
+            this.serverSocket = new ServerSocket(0, 50, InetAddress.getByName("localhost"));
+            Thread thread = new Thread(this, "http2-stub-server");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        void close() throws IOException {
+            serverSocket.close();
+            synchronized (sockets) {
+                for (Socket socket: sockets) {
+                    socket.close();
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                final Socket socket;
+                try {
+                    socket = serverSocket.accept();
+                } catch (IOException e) {
+                    return;
+                }
+                connections.incrementAndGet();
+                sockets.add(socket);
+                Thread thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            if (http11) {
+                                socket.getOutputStream().write(
+                                        "HTTP/1.1 400 Bad Request\r\nContent-Length: 0\r\n\r\n"
+                                                .getBytes("US-ASCII"));
+                                socket.getOutputStream().flush();
+                            } else {
+                                new StubConnection(socket).serve();
+                            }
+                        } catch (IOException e) {
+                            // the client went away
+                        } finally {
+                            try {
+                                socket.close();
+                            } catch (IOException ignored) {
+                            }
+                        }
+                    }
+                }, "http2-stub-connection");
+                thread.setDaemon(true);
+                thread.start();
+            }
+        }
+    }
+
+    private static final class StubConnection {
+        private final DataInputStream in;
+        private final OutputStream out;
+        private final Hpack.Decoder decoder = new Hpack.Decoder(4096);
+        private final Hpack.Encoder encoder = new Hpack.Encoder();
+        private final Map<Integer, String> paths = new HashMap<Integer, String>();
+        private final Map<Integer, ByteArrayOutputStream> bodies =
+                new HashMap<Integer, ByteArrayOutputStream>();
+        private final CountDownLatch pair = new CountDownLatch(2);
+
+        StubConnection(Socket socket) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            this.out = socket.getOutputStream();
+        }
+
+        void serve() throws IOException {
+            byte[] preface = new byte[Http2Frame.CONNECTION_PREFACE.length];
+            in.readFully(preface);
+            assertArrayEquals(Http2Frame.CONNECTION_PREFACE, preface);
+            writeFrame(Http2Frame.TYPE_SETTINGS, 0, 0, new byte[0]);
+
+            Http2Frame frame;
+            while ((frame = Http2Frame.read(in, Http2Frame.DEFAULT_MAX_FRAME_SIZE)) != null) {
+                switch (frame.type) {
+                case Http2Frame.TYPE_SETTINGS:
+                    if (!frame.hasFlag(Http2Frame.FLAG_ACK)) {
+                        writeFrame(Http2Frame.TYPE_SETTINGS, Http2Frame.FLAG_ACK, 0, new byte[0]);
+                    }
+                    break;
+                case Http2Frame.TYPE_HEADERS:
+                    for (HeaderField field: decoder.decode(frame.payload, 0, frame.payload.length)) {
+                        if (":path".equals(field.name)) {
+                            paths.put(frame.streamId, field.value);
+                        }
+                    }
+                    bodies.put(frame.streamId, new ByteArrayOutputStream());
+                    if (frame.hasFlag(Http2Frame.FLAG_END_STREAM)) {
+                        respond(frame.streamId);
+                    }
+                    break;
+                case Http2Frame.TYPE_DATA:
+                    bodies.get(frame.streamId).write(frame.payload);
+                    if (frame.payload.length > 0) {
+                        writeWindowUpdate(0, frame.payload.length);
+                        writeWindowUpdate(frame.streamId, frame.payload.length);
+                    }
+                    if (frame.hasFlag(Http2Frame.FLAG_END_STREAM)) {
+                        respond(frame.streamId);
+                    }
+                    break;
+                case Http2Frame.TYPE_GOAWAY:
+                    return;
+                default:
+                    break;
+                }
+            }
+        }
+
+        private void respond(final int streamId) throws IOException {
+            final String path = paths.get(streamId);
+            if ("/reset".equals(path)) {
+                ByteArrayOutputStream payload = new ByteArrayOutputStream();
+                Http2Frame.writeInt(payload, Http2Frame.CANCEL);
+                writeFrame(Http2Frame.TYPE_RST_STREAM, 0, streamId, payload.toByteArray());
+            } else if ("/pair".equals(path)) {
+                // only answer once both requests share this connection
+                pair.countDown();
+                Thread thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            if (pair.await(10, TimeUnit.SECONDS)) {
+                                writeResponse(streamId, "pair".getBytes("UTF-8"));
+                            }
+                        } catch (Exception ignored) {
+                        }
+                    }
+                });
+                thread.setDaemon(true);
+                thread.start();
+            } else if ("/echo".equals(path)) {
+                writeResponse(streamId, bodies.get(streamId).toByteArray());
+            } else {
+                writeResponse(streamId, "hello".getBytes("UTF-8"));
+            }
+        }
+
+        private void writeResponse(int streamId, byte[] body) throws IOException {
+            List<HeaderField> headers = new ArrayList<HeaderField>();
+            headers.add(new HeaderField(":status", "200"));
+            headers.add(new HeaderField("content-length", Integer.toString(body.length)));
+            writeFrame(Http2Frame.TYPE_HEADERS, Http2Frame.FLAG_END_HEADERS, streamId,
+                    encoder.encode(headers));
+            int off = 0;
+            do {
+                int n = Math.min(body.length - off, Http2Frame.DEFAULT_MAX_FRAME_SIZE);
+                byte[] chunk = new byte[n];
+                System.arraycopy(body, off, chunk, 0, n);
+                off += n;
+                writeFrame(Http2Frame.TYPE_DATA,
+                        off == body.length ? Http2Frame.FLAG_END_STREAM : 0, streamId, chunk);
+            } while (off < body.length);
+        }
+
+        private void writeWindowUpdate(int streamId, int increment) throws IOException {
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            Http2Frame.writeInt(payload, increment);
+            writeFrame(Http2Frame.TYPE_WINDOW_UPDATE, 0, streamId, payload.toByteArray());
+        }
+
+        private synchronized void writeFrame(int type, int flags, int streamId, byte[] payload)
+                throws IOException {
+            Http2Frame.writeHeader(out, payload.length, type, flags, streamId);
+            out.write(payload);
+            out.flush();
+        }
+    }
+}
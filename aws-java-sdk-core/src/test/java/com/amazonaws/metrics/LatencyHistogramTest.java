@@ -0,0 +1,70 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 50; i++) {
+            histogram.record(i);
+        }
+        Assert.assertEquals(50, histogram.getCount());
+        Assert.assertEquals(25, histogram.getValueAtPercentile(50));
+        Assert.assertEquals(50, histogram.getValueAtPercentile(100));
+        Assert.assertEquals(25.5, histogram.getMean(), 0.0001);
+    }
+
+    @Test
+    public void largeValuesAreWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000000L);
+        }
+        long p99 = histogram.getValueAtPercentile(99);
+        Assert.assertTrue(p99 >= 990000000L);
+        Assert.assertTrue(p99 <= 990000000L * 1.04);
+        Assert.assertEquals(1000000000L, histogram.getMax());
+        Assert.assertEquals(1000000000L, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void bucketsCoverTheWholeRange() {
+        long[] values = {0, 63, 64, 65, 127, 128, 1L << 40, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.bucketIndex(value);
+            Assert.assertTrue(LatencyHistogram.highestValueInBucket(index) >= value);
+            if (index > 0) {
+                Assert.assertTrue(LatencyHistogram.highestValueInBucket(index - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    public void emptyAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getValueAtPercentile(99));
+        histogram.record(-5);
+        histogram.record(1000);
+        Assert.assertEquals(0, histogram.getValueAtPercentile(50));
+        histogram.reset();
+        Assert.assertEquals(0, histogram.getCount());
+        Assert.assertEquals(0, histogram.getMax());
+    }
+}
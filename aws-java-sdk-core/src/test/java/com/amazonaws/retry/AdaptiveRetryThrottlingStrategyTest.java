@@ -0,0 +1,99 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.retry;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.net.URI;
+
+public class AdaptiveRetryThrottlingStrategyTest {
+
+    private static final URI ENDPOINT = URI.create("https://sqs.us-east-1.amazonaws.com");
+    private static final URI OTHER_ENDPOINT = URI.create("https://sqs.us-west-2.amazonaws.com");
+
+    @Test
+    public void retriesStopOnceTokensAreSpent() {
+        AdaptiveRetryThrottlingStrategy strategy = new AdaptiveRetryThrottlingStrategy(
+                2 * AdaptiveRetryThrottlingStrategy.RETRY_COST, 1.0, false);
+        AmazonServiceException error = serviceException(400, "ValidationError");
+        Assert.assertTrue(strategy.acquireRetry(ENDPOINT, error));
+        Assert.assertTrue(strategy.acquireRetry(ENDPOINT, error));
+        Assert.assertFalse(strategy.acquireRetry(ENDPOINT, error));
+        // Endpoints don't share tokens
+        Assert.assertTrue(strategy.acquireRetry(OTHER_ENDPOINT, error));
+
+        // A successful retry returns what it cost
+        strategy.attemptCompleted(ENDPOINT, null, true);
+        Assert.assertTrue(strategy.acquireRetry(ENDPOINT, error));
+    }
+
+    @Test
+    public void ioErrorsCostMoreThanServiceErrors() {
+        AdaptiveRetryThrottlingStrategy strategy = new AdaptiveRetryThrottlingStrategy(
+                AdaptiveRetryThrottlingStrategy.RETRY_COST, 1.0, false);
+        Assert.assertFalse(strategy.acquireRetry(ENDPOINT, new AmazonClientException("Connection reset")));
+        Assert.assertTrue(strategy.acquireRetry(ENDPOINT, serviceException(500, "InternalError")));
+    }
+
+    @Test
+    public void circuitBreakerStopsRetriesOnSustainedServerErrors() {
+        AdaptiveRetryThrottlingStrategy strategy = new AdaptiveRetryThrottlingStrategy();
+        AmazonServiceException error = serviceException(503, "ServiceUnavailable");
+        for (int i = 0; i < AdaptiveRetryThrottlingStrategy.CIRCUIT_BREAKER_MINIMUM_ATTEMPTS; i++) {
+            strategy.attemptCompleted(ENDPOINT, error, false);
+        }
+        Assert.assertFalse(strategy.acquireRetry(ENDPOINT, error));
+        Assert.assertTrue(strategy.acquireRetry(OTHER_ENDPOINT, error));
+    }
+
+    @Test
+    public void clientErrorsDontOpenTheCircuitBreaker() {
+        AdaptiveRetryThrottlingStrategy strategy = new AdaptiveRetryThrottlingStrategy();
+        AmazonServiceException error = serviceException(400, "ValidationError");
+        for (int i = 0; i < AdaptiveRetryThrottlingStrategy.CIRCUIT_BREAKER_MINIMUM_ATTEMPTS * 2; i++) {
+            strategy.attemptCompleted(ENDPOINT, error, false);
+        }
+        Assert.assertTrue(strategy.acquireRetry(ENDPOINT, error));
+    }
+
+    @Test
+    public void attemptsAreNotPacedUntilThrottled() {
+        AdaptiveRetryThrottlingStrategy strategy = new AdaptiveRetryThrottlingStrategy();
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertEquals(0, strategy.reserveAttempt(ENDPOINT));
+            strategy.attemptCompleted(ENDPOINT, null, false);
+        }
+    }
+
+    @Test
+    public void noThrottlingAllowsEverything() {
+        RetryPolicy.RetryThrottlingStrategy strategy = new RetryPolicy(null, null, 3, true)
+                .getRetryThrottlingStrategy();
+        Assert.assertSame(RetryPolicy.RetryThrottlingStrategy.NO_THROTTLING, strategy);
+        Assert.assertEquals(0, strategy.reserveAttempt(ENDPOINT));
+        Assert.assertTrue(strategy.acquireRetry(ENDPOINT, serviceException(503, "ServiceUnavailable")));
+    }
+
+    private static AmazonServiceException serviceException(int statusCode, String errorCode) {
+        AmazonServiceException ase = new AmazonServiceException(errorCode);
+        ase.setStatusCode(statusCode);
+        ase.setErrorCode(errorCode);
+        return ase;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.retry.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class AdaptiveRateLimiterTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void doesNotPaceBeforeFirstThrottle() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(0);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(0, limiter.reserve(i * MILLIS));
+            limiter.update(false, i * MILLIS);
+        }
+        Assert.assertEquals(0, limiter.getFillRate(), 0);
+    }
+
+    @Test
+    public void throttleCutsRateAndSuccessesGrowItBack() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter(0);
+        // Send 100 attempts per second for two seconds
+        long now = 0;
+        for (int i = 0; i < 200; i++) {
+            now = i * 10 * MILLIS;
+            limiter.update(false, now);
+        }
+        limiter.update(true, now);
+        double throttledRate = limiter.getFillRate();
+        Assert.assertTrue(throttledRate > 0);
+        Assert.assertTrue(throttledRate < 100);
+
+        // Back-to-back reservations beyond the bucket have to wait
+        long delay = 0;
+        for (int i = 0; i < 200 && delay == 0; i++) {
+            delay = limiter.reserve(now);
+        }
+        Assert.assertTrue(delay > 0);
+
+        long later = now + TimeUnit.SECONDS.toNanos(2);
+        limiter.update(false, later);
+        Assert.assertTrue(limiter.getFillRate() > throttledRate);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.retry.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class RetryCircuitBreakerTest {
+
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(10);
+    private static final long OPEN = TimeUnit.SECONDS.toNanos(5);
+
+    @Test
+    public void opensWhenFailureRatioIsReached() {
+        RetryCircuitBreaker breaker = new RetryCircuitBreaker(0.5, 4, WINDOW, OPEN, 0);
+        breaker.record(false, 1);
+        breaker.record(true, 2);
+        breaker.record(false, 3);
+        Assert.assertEquals(RetryCircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.record(true, 4);
+        Assert.assertEquals(RetryCircuitBreaker.State.OPEN, breaker.getState());
+        Assert.assertFalse(breaker.allowsRetry(5));
+    }
+
+    @Test
+    public void failuresInOldWindowsAreForgotten() {
+        RetryCircuitBreaker breaker = new RetryCircuitBreaker(0.5, 4, WINDOW, OPEN, 0);
+        breaker.record(true, 1);
+        breaker.record(true, 2);
+        breaker.record(true, 3);
+        breaker.record(false, WINDOW + 1);
+        Assert.assertEquals(RetryCircuitBreaker.State.CLOSED, breaker.getState());
+        Assert.assertTrue(breaker.allowsRetry(WINDOW + 2));
+    }
+
+    @Test
+    public void halfOpenClosesOnSuccessAndReopensOnFailure() {
+        RetryCircuitBreaker breaker = new RetryCircuitBreaker(1.0, 1, WINDOW, OPEN, 0);
+        breaker.record(true, 0);
+        Assert.assertFalse(breaker.allowsRetry(OPEN - 1));
+        Assert.assertTrue(breaker.allowsRetry(OPEN));
+        Assert.assertEquals(RetryCircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        breaker.record(true, OPEN + 1);
+        Assert.assertEquals(RetryCircuitBreaker.State.OPEN, breaker.getState());
+        Assert.assertFalse(breaker.allowsRetry(OPEN + 2));
+
+        Assert.assertTrue(breaker.allowsRetry(2 * OPEN + 1));
+        breaker.record(false, 2 * OPEN + 2);
+        Assert.assertEquals(RetryCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.amazonaws.metrics.SimpleMetricType;
+import com.amazonaws.util.AWSRequestMetrics.Field;
+
+public class AWSRequestMetricsCompactTest {
+
+    @Test
+    public void eventsAreTotalled() throws InterruptedException {
+        AWSRequestMetricsCompact metrics = new AWSRequestMetricsCompact();
+        metrics.startEvent(Field.HttpRequestTime);
+        Thread.sleep(5);
+        metrics.endEvent(Field.HttpRequestTime);
+        long first = metrics.getEventNanos(Field.HttpRequestTime);
+        assertTrue(first > 0);
+        metrics.startEvent(Field.HttpRequestTime.name());
+        metrics.endEvent(Field.HttpRequestTime.name());
+        assertTrue(metrics.getEventNanos(Field.HttpRequestTime) >= first);
+        // Ending an event that never started is ignored
+        metrics.endEvent(Field.RetryPauseTime);
+        assertEquals(0, metrics.getEventNanos(Field.RetryPauseTime));
+    }
+
+    @Test
+    public void countersAndProperties() {
+        AWSRequestMetricsCompact metrics = new AWSRequestMetricsCompact();
+        metrics.incrementCounter(Field.ThrottleException);
+        metrics.incrementCounter(Field.ThrottleException.name());
+        metrics.setCounter(Field.RequestCount, 3);
+        assertEquals(2, metrics.getCounter(Field.ThrottleException));
+        assertEquals(3, metrics.getCounter(Field.RequestCount));
+
+        assertNull(metrics.getLastProperty(Field.StatusCode));
+        metrics.addProperty(Field.StatusCode, 500);
+        metrics.addProperty(Field.StatusCode, 200);
+        assertEquals(200, metrics.getLastProperty(Field.StatusCode));
+        assertEquals(1, metrics.getProperty(Field.StatusCode).size());
+    }
+
+    @Test
+    public void otherMetricTypesAreIgnored() {
+        AWSRequestMetricsCompact metrics = new AWSRequestMetricsCompact();
+        SimpleMetricType custom = new SimpleMetricType() {
+            @Override
+            public String name() {
+                return "Custom";
+            }
+        };
+        metrics.incrementCounter(custom);
+        metrics.addProperty("Custom", "value");
+        assertTrue(metrics.getProperty(custom).isEmpty());
+        assertTrue(metrics.getProperty("Custom").isEmpty());
+        assertTrue(metrics.isEnabled());
+    }
+}
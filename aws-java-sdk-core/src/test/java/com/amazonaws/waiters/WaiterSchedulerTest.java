@@ -0,0 +1,372 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.waiters;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.handlers.AsyncHandler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class WaiterSchedulerTest {
+
+    private ScheduledExecutorService scheduledExecutorService;
+    private ExecutorService executorService;
+    private WaiterScheduler scheduler;
+
+    @Before
+    public void setup() {
+        scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+        executorService = Executors.newFixedThreadPool(2);
+        scheduler = new WaiterScheduler(scheduledExecutorService, executorService, 200);
+    }
+
+    @After
+    public void tearDown() {
+        scheduledExecutorService.shutdownNow();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void defaultSchedulingThreadIsDaemon() throws Exception {
+        ScheduledExecutorService daemonExecutorService = WaiterScheduler.newDaemonScheduledExecutorService();
+        try {
+            assertTrue(daemonExecutorService.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    return Thread.currentThread().isDaemon();
+                }
+            }).get(5, TimeUnit.SECONDS));
+        } finally {
+            daemonExecutorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void succeedsAfterRetries() throws Exception {
+        MockDescribeFunction function = new MockDescribeFunction();
+        function.statesUntilReady = 2;
+        MockHandler handler = new MockHandler();
+
+        waiter(function, null, 5).runAsync(new WaiterParameters<MockRequest>(new MockRequest("a")), handler)
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(3, function.calls.get());
+        assertEquals(1, handler.successes.get());
+        assertEquals(0, handler.failures.get());
+    }
+
+    @Test
+    public void timesOutAfterMaxAttempts() throws Exception {
+        MockDescribeFunction function = new MockDescribeFunction();
+        function.statesUntilReady = 10;
+        MockHandler handler = new MockHandler();
+
+        assertFails(waiter(function, null, 2).runAsync(new WaiterParameters<MockRequest>(new MockRequest("a")), handler),
+                    WaiterTimedOutException.class);
+        assertEquals(3, function.calls.get());
+        assertEquals(1, handler.failures.get());
+    }
+
+    @Test
+    public void unmatchedServiceErrorFailsTheWaiter() throws Exception {
+        MockDescribeFunction function = new MockDescribeFunction();
+        function.missing = "a";
+
+        assertFails(waiter(function, null, 2).runAsync(new WaiterParameters<MockRequest>(new MockRequest("a")), new MockHandler()),
+                    AmazonServiceException.class);
+    }
+
+    @Test
+    public void equalRequestsShareOnePoll() throws Exception {
+        MockDescribeFunction function = new MockDescribeFunction();
+        Waiter<MockRequest> waiter = waiter(function, null, 5);
+
+        List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        for (int i = 0; i < 20; i++) {
+            futures.add(waiter.runAsync(new WaiterParameters<MockRequest>(new MockRequest("a")), new MockHandler()));
+        }
+        for (Future<Void> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(1, function.calls.get());
+    }
+
+    @Test
+    public void coalescerMergesAndSplitsRequests() throws Exception {
+        MockDescribeFunction function = new MockDescribeFunction();
+        function.statesUntilReady = 1;
+        scheduler.withPollCoalescer(MockRequest.class, new MockCoalescer());
+        Waiter<MockRequest> waiter = waiter(function, null, 5);
+
+        List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(waiter.runAsync(new WaiterParameters<MockRequest>(new MockRequest("id-" + i)), new MockHandler()));
+        }
+        for (Future<Void> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(2, function.calls.get());
+        assertEquals(10, function.lastRequest.ids.size());
+    }
+
+    @Test
+    public void eachCoalescedWaiterOnlySeesItsOwnPartOfTheResult() throws Exception {
+        MockDescribeFunction function = new MockDescribeFunction();
+        function.neverReady = "id-0";
+        scheduler.withPollCoalescer(MockRequest.class, new MockCoalescer());
+        Waiter<MockRequest> waiter = waiter(function, null, 2);
+
+        Future<Void> neverReady = waiter.runAsync(new WaiterParameters<MockRequest>(new MockRequest("id-0")), new MockHandler());
+        List<Future<Void>> ready = new ArrayList<Future<Void>>();
+        for (int i = 1; i < 5; i++) {
+            ready.add(waiter.runAsync(new WaiterParameters<MockRequest>(new MockRequest("id-" + i)), new MockHandler()));
+        }
+
+        for (Future<Void> future : ready) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        assertFails(neverReady, WaiterTimedOutException.class);
+        // One merged poll for all five, then the retries of the waiter left
+        assertEquals(5, function.requests.get(0).ids.size());
+        assertEquals(3, function.calls.get());
+        assertEquals(new MockRequest("id-0"), function.requests.get(2));
+    }
+
+    @Test
+    public void failedMergedPollIsRetriedSeparately() throws Exception {
+        MockDescribeFunction function = new MockDescribeFunction();
+        function.missing = "id-0";
+        scheduler.withPollCoalescer(MockRequest.class, new MockCoalescer());
+        Waiter<MockRequest> waiter = waiter(function, null, 5);
+
+        Future<Void> missing = waiter.runAsync(new WaiterParameters<MockRequest>(new MockRequest("id-0")), new MockHandler());
+        Future<Void> present = waiter.runAsync(new WaiterParameters<MockRequest>(new MockRequest("id-1")), new MockHandler());
+
+        present.get(5, TimeUnit.SECONDS);
+        assertFails(missing, AmazonServiceException.class);
+        assertEquals(3, function.calls.get());
+    }
+
+    @Test
+    public void pollsThroughAsyncFunction() throws Exception {
+        MockDescribeFunction function = new MockDescribeFunction();
+        function.statesUntilReady = 1;
+        MockAsyncDescribeFunction asyncFunction = new MockAsyncDescribeFunction(function);
+
+        waiter(new MockDescribeFunction(), asyncFunction, 5)
+                .runAsync(new WaiterParameters<MockRequest>(new MockRequest("a")), new MockHandler())
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, asyncFunction.calls.get());
+        assertEquals(2, function.calls.get());
+    }
+
+    @Test
+    public void blockingDelayStrategyIsHonored() throws Exception {
+        MockDescribeFunction function = new MockDescribeFunction();
+        function.statesUntilReady = 2;
+        final AtomicInteger delays = new AtomicInteger();
+        PollingStrategy pollingStrategy = new PollingStrategy(new MaxAttemptsRetryStrategy(5), new PollingStrategy.DelayStrategy() {
+            @Override
+            public void delayBeforeNextRetry(PollingStrategyContext pollingStrategyContext) {
+                delays.incrementAndGet();
+            }
+        });
+
+        waiter(function, null, 5)
+                .runAsync(new WaiterParameters<MockRequest>(new MockRequest("a")).withPollingStrategy(pollingStrategy), new MockHandler())
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, delays.get());
+        assertEquals(3, function.calls.get());
+    }
+
+    private Waiter<MockRequest> waiter(MockDescribeFunction function, MockAsyncDescribeFunction asyncFunction, int maxAttempts) {
+        return new WaiterBuilder<MockRequest, MockResult>()
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(asyncFunction)
+                .withAcceptors(new ReadyAcceptor())
+                .withDefaultPollingStrategy(new PollingStrategy(new MaxAttemptsRetryStrategy(maxAttempts), new FixedDelayStrategy(0)))
+                .withExecutorService(executorService)
+                .withScheduler(scheduler)
+                .build();
+    }
+
+    private static void assertFails(Future<Void> future, Class<? extends Exception> expected) throws Exception {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+            fail("Expected the waiter to fail");
+        } catch (ExecutionException e) {
+            assertTrue("Unexpected failure " + e.getCause(), expected.isInstance(e.getCause()));
+        }
+    }
+
+    static class MockRequest extends AmazonWebServiceRequest {
+
+        private final List<String> ids = new ArrayList<String>();
+
+        MockRequest(String... ids) {
+            for (String id : ids) {
+                this.ids.add(id);
+            }
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof MockRequest && ((MockRequest) obj).ids.equals(ids);
+        }
+
+        @Override
+        public int hashCode() {
+            return ids.hashCode();
+        }
+    }
+
+    static class MockResult {
+
+        private final Map<String, Boolean> ready = new HashMap<String, Boolean>();
+    }
+
+    static class MockDescribeFunction implements SdkFunction<MockRequest, MockResult> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private volatile int statesUntilReady;
+        private volatile String missing;
+        private volatile String neverReady;
+        private volatile MockRequest lastRequest;
+        private final List<MockRequest> requests = new CopyOnWriteArrayList<MockRequest>();
+
+        @Override
+        public MockResult apply(MockRequest request) {
+            int call = calls.incrementAndGet();
+            lastRequest = request;
+            requests.add(request);
+            if (request.ids.contains(missing)) {
+                throw new AmazonServiceException("Resource not found");
+            }
+            MockResult result = new MockResult();
+            for (String id : request.ids) {
+                result.ready.put(id, call > statesUntilReady && !id.equals(neverReady));
+            }
+            return result;
+        }
+    }
+
+    static class MockAsyncDescribeFunction implements AsyncSdkFunction<MockRequest, MockResult> {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final MockDescribeFunction function;
+
+        MockAsyncDescribeFunction(MockDescribeFunction function) {
+            this.function = function;
+        }
+
+        @Override
+        public Future<MockResult> applyAsync(final MockRequest request, final AsyncHandler<MockRequest, MockResult> handler) {
+            calls.incrementAndGet();
+            MockResult result = function.apply(request);
+            handler.onSuccess(request, result);
+            return null;
+        }
+    }
+
+    static class MockCoalescer implements PollCoalescer<MockRequest, MockResult> {
+
+        @Override
+        public Object getCoalescingKey(MockRequest request) {
+            return "ids";
+        }
+
+        @Override
+        public int getMaxBatchSize() {
+            return 100;
+        }
+
+        @Override
+        public MockRequest merge(List<MockRequest> requests) {
+            MockRequest merged = new MockRequest();
+            for (MockRequest request : requests) {
+                merged.ids.addAll(request.ids);
+            }
+            return merged;
+        }
+
+        @Override
+        public MockResult split(MockRequest request, MockResult result) {
+            MockResult split = new MockResult();
+            for (String id : request.ids) {
+                split.ready.put(id, result.ready.get(id));
+            }
+            return split;
+        }
+    }
+
+    static class ReadyAcceptor extends WaiterAcceptor<MockResult> {
+
+        @Override
+        public boolean matches(MockResult result) {
+            for (Boolean ready : result.ready.values()) {
+                if (!ready) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public WaiterState getState() {
+            return WaiterState.SUCCESS;
+        }
+    }
+
+    static class MockHandler extends WaiterHandler<MockRequest> {
+
+        private final AtomicInteger successes = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        @Override
+        public void onWaitSuccess(MockRequest request) {
+            successes.incrementAndGet();
+        }
+
+        @Override
+        public void onWaitFailure(Exception e) {
+            failures.incrementAndGet();
+        }
+    }
+}
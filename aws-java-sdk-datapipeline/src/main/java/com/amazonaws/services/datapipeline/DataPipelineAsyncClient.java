@@ -15,6 +15,10 @@
 package com.amazonaws.services.datapipeline;
 
 import com.amazonaws.services.datapipeline.model.*;
+import com.amazonaws.services.datapipeline.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -305,27 +309,15 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final ActivatePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<ActivatePipelineRequest, ActivatePipelineResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ActivatePipelineResult>() {
-                    @Override
-                    public ActivatePipelineResult call() throws Exception {
-                        ActivatePipelineResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ActivatePipelineResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ActivatePipelineResultJsonUnmarshaller());
 
-                        try {
-                            result = activatePipeline(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ActivatePipelineRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -340,27 +332,15 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final AddTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsRequest, AddTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddTagsResult>() {
-                    @Override
-                    public AddTagsResult call() throws Exception {
-                        AddTagsResult result;
-
-                        try {
-                            result = addTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<AddTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddTagsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AddTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -375,27 +355,15 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final CreatePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePipelineRequest, CreatePipelineResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreatePipelineResult>() {
-                    @Override
-                    public CreatePipelineResult call() throws Exception {
-                        CreatePipelineResult result;
-
-                        try {
-                            result = createPipeline(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreatePipelineResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreatePipelineResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreatePipelineRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -410,27 +378,15 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final DeactivatePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeactivatePipelineRequest, DeactivatePipelineResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeactivatePipelineResult>() {
-                    @Override
-                    public DeactivatePipelineResult call() throws Exception {
-                        DeactivatePipelineResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeactivatePipelineResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeactivatePipelineResultJsonUnmarshaller());
 
-                        try {
-                            result = deactivatePipeline(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeactivatePipelineRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -445,27 +401,15 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final DeletePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePipelineRequest, DeletePipelineResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeletePipelineResult>() {
-                    @Override
-                    public DeletePipelineResult call() throws Exception {
-                        DeletePipelineResult result;
-
-                        try {
-                            result = deletePipeline(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeletePipelineResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeletePipelineResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeletePipelineRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -480,27 +424,15 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final DescribeObjectsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeObjectsRequest, DescribeObjectsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeObjectsResult>() {
-                    @Override
-                    public DescribeObjectsResult call() throws Exception {
-                        DescribeObjectsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeObjectsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeObjectsResultJsonUnmarshaller());
 
-                        try {
-                            result = describeObjects(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeObjectsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -515,27 +447,15 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final DescribePipelinesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribePipelinesRequest, DescribePipelinesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribePipelinesResult>() {
-                    @Override
-                    public DescribePipelinesResult call() throws Exception {
-                        DescribePipelinesResult result;
-
-                        try {
-                            result = describePipelines(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribePipelinesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribePipelinesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribePipelinesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -550,27 +470,15 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final EvaluateExpressionRequest request,
             final com.amazonaws.handlers.AsyncHandler<EvaluateExpressionRequest, EvaluateExpressionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EvaluateExpressionResult>() {
-                    @Override
-                    public EvaluateExpressionResult call() throws Exception {
-                        EvaluateExpressionResult result;
-
-                        try {
-                            result = evaluateExpression(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<EvaluateExpressionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new EvaluateExpressionResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new EvaluateExpressionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -585,27 +493,15 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final GetPipelineDefinitionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPipelineDefinitionRequest, GetPipelineDefinitionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetPipelineDefinitionResult>() {
-                    @Override
-                    public GetPipelineDefinitionResult call() throws Exception {
-                        GetPipelineDefinitionResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetPipelineDefinitionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetPipelineDefinitionResultJsonUnmarshaller());
 
-                        try {
-                            result = getPipelineDefinition(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetPipelineDefinitionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -620,27 +516,15 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final ListPipelinesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPipelinesRequest, ListPipelinesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListPipelinesResult>() {
-                    @Override
-                    public ListPipelinesResult call() throws Exception {
-                        ListPipelinesResult result;
-
-                        try {
-                            result = listPipelines(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListPipelinesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListPipelinesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListPipelinesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -679,27 +563,15 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final PollForTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<PollForTaskRequest, PollForTaskResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PollForTaskResult>() {
-                    @Override
-                    public PollForTaskResult call() throws Exception {
-                        PollForTaskResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<PollForTaskResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PollForTaskResultJsonUnmarshaller());
 
-                        try {
-                            result = pollForTask(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new PollForTaskRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -714,27 +586,15 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final PutPipelineDefinitionRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutPipelineDefinitionRequest, PutPipelineDefinitionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutPipelineDefinitionResult>() {
-                    @Override
-                    public PutPipelineDefinitionResult call() throws Exception {
-                        PutPipelineDefinitionResult result;
-
-                        try {
-                            result = putPipelineDefinition(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<PutPipelineDefinitionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutPipelineDefinitionResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new PutPipelineDefinitionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -749,27 +609,15 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final QueryObjectsRequest request,
             final com.amazonaws.handlers.AsyncHandler<QueryObjectsRequest, QueryObjectsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<QueryObjectsResult>() {
-                    @Override
-                    public QueryObjectsResult call() throws Exception {
-                        QueryObjectsResult result;
-
-                        try {
-                            result = queryObjects(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<QueryObjectsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new QueryObjectsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new QueryObjectsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -784,27 +632,15 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final RemoveTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsRequest, RemoveTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveTagsResult>() {
-                    @Override
-                    public RemoveTagsResult call() throws Exception {
-                        RemoveTagsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<RemoveTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RemoveTagsResultJsonUnmarshaller());
 
-                        try {
-                            result = removeTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RemoveTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -819,27 +655,15 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final ReportTaskProgressRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReportTaskProgressRequest, ReportTaskProgressResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReportTaskProgressResult>() {
-                    @Override
-                    public ReportTaskProgressResult call() throws Exception {
-                        ReportTaskProgressResult result;
-
-                        try {
-                            result = reportTaskProgress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ReportTaskProgressResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ReportTaskProgressResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ReportTaskProgressRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -854,28 +678,16 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final ReportTaskRunnerHeartbeatRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReportTaskRunnerHeartbeatRequest, ReportTaskRunnerHeartbeatResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReportTaskRunnerHeartbeatResult>() {
-                    @Override
-                    public ReportTaskRunnerHeartbeatResult call()
-                            throws Exception {
-                        ReportTaskRunnerHeartbeatResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ReportTaskRunnerHeartbeatResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ReportTaskRunnerHeartbeatResultJsonUnmarshaller());
 
-                        try {
-                            result = reportTaskRunnerHeartbeat(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new ReportTaskRunnerHeartbeatRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -890,27 +702,15 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final SetStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetStatusRequest, SetStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetStatusResult>() {
-                    @Override
-                    public SetStatusResult call() throws Exception {
-                        SetStatusResult result;
-
-                        try {
-                            result = setStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<SetStatusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SetStatusResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SetStatusRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -925,27 +725,15 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final SetTaskStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetTaskStatusRequest, SetTaskStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetTaskStatusResult>() {
-                    @Override
-                    public SetTaskStatusResult call() throws Exception {
-                        SetTaskStatusResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<SetTaskStatusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SetTaskStatusResultJsonUnmarshaller());
 
-                        try {
-                            result = setTaskStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SetTaskStatusRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -960,28 +748,16 @@ public class DataPipelineAsyncClient extends DataPipelineClient implements
             final ValidatePipelineDefinitionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ValidatePipelineDefinitionRequest, ValidatePipelineDefinitionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ValidatePipelineDefinitionResult>() {
-                    @Override
-                    public ValidatePipelineDefinitionResult call()
-                            throws Exception {
-                        ValidatePipelineDefinitionResult result;
-
-                        try {
-                            result = validatePipelineDefinition(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ValidatePipelineDefinitionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ValidatePipelineDefinitionResultJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new ValidatePipelineDefinitionRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
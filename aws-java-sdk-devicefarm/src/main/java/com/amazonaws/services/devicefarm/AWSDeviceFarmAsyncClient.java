@@ -15,6 +15,10 @@
 package com.amazonaws.services.devicefarm;
 
 import com.amazonaws.services.devicefarm.model.*;
+import com.amazonaws.services.devicefarm.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -284,27 +288,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final CreateDevicePoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDevicePoolRequest, CreateDevicePoolResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateDevicePoolResult>() {
-                    @Override
-                    public CreateDevicePoolResult call() throws Exception {
-                        CreateDevicePoolResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateDevicePoolResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateDevicePoolResultJsonUnmarshaller());
 
-                        try {
-                            result = createDevicePool(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateDevicePoolRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -319,27 +311,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final CreateProjectRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateProjectRequest, CreateProjectResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateProjectResult>() {
-                    @Override
-                    public CreateProjectResult call() throws Exception {
-                        CreateProjectResult result;
-
-                        try {
-                            result = createProject(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateProjectResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateProjectResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateProjectRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -354,28 +334,16 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final CreateRemoteAccessSessionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRemoteAccessSessionRequest, CreateRemoteAccessSessionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateRemoteAccessSessionResult>() {
-                    @Override
-                    public CreateRemoteAccessSessionResult call()
-                            throws Exception {
-                        CreateRemoteAccessSessionResult result;
-
-                        try {
-                            result = createRemoteAccessSession(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateRemoteAccessSessionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateRemoteAccessSessionResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new CreateRemoteAccessSessionRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -390,27 +358,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final CreateUploadRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateUploadRequest, CreateUploadResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateUploadResult>() {
-                    @Override
-                    public CreateUploadResult call() throws Exception {
-                        CreateUploadResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateUploadResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateUploadResultJsonUnmarshaller());
 
-                        try {
-                            result = createUpload(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateUploadRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -425,27 +381,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final DeleteDevicePoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDevicePoolRequest, DeleteDevicePoolResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDevicePoolResult>() {
-                    @Override
-                    public DeleteDevicePoolResult call() throws Exception {
-                        DeleteDevicePoolResult result;
-
-                        try {
-                            result = deleteDevicePool(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteDevicePoolResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteDevicePoolResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteDevicePoolRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -460,27 +404,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final DeleteProjectRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteProjectRequest, DeleteProjectResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteProjectResult>() {
-                    @Override
-                    public DeleteProjectResult call() throws Exception {
-                        DeleteProjectResult result;
-
-                        try {
-                            result = deleteProject(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteProjectResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteProjectResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteProjectRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -495,28 +427,16 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final DeleteRemoteAccessSessionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRemoteAccessSessionRequest, DeleteRemoteAccessSessionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteRemoteAccessSessionResult>() {
-                    @Override
-                    public DeleteRemoteAccessSessionResult call()
-                            throws Exception {
-                        DeleteRemoteAccessSessionResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteRemoteAccessSessionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteRemoteAccessSessionResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteRemoteAccessSession(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new DeleteRemoteAccessSessionRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -531,27 +451,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final DeleteRunRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRunRequest, DeleteRunResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteRunResult>() {
-                    @Override
-                    public DeleteRunResult call() throws Exception {
-                        DeleteRunResult result;
-
-                        try {
-                            result = deleteRun(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteRunResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteRunResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteRunRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -566,27 +474,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final DeleteUploadRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteUploadRequest, DeleteUploadResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteUploadResult>() {
-                    @Override
-                    public DeleteUploadResult call() throws Exception {
-                        DeleteUploadResult result;
-
-                        try {
-                            result = deleteUpload(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteUploadResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteUploadResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteUploadRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -601,27 +497,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetAccountSettingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAccountSettingsRequest, GetAccountSettingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetAccountSettingsResult>() {
-                    @Override
-                    public GetAccountSettingsResult call() throws Exception {
-                        GetAccountSettingsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetAccountSettingsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetAccountSettingsResultJsonUnmarshaller());
 
-                        try {
-                            result = getAccountSettings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetAccountSettingsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -636,27 +520,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetDeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDeviceRequest, GetDeviceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDeviceResult>() {
-                    @Override
-                    public GetDeviceResult call() throws Exception {
-                        GetDeviceResult result;
-
-                        try {
-                            result = getDevice(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetDeviceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDeviceResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetDeviceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -671,27 +543,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetDevicePoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDevicePoolRequest, GetDevicePoolResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDevicePoolResult>() {
-                    @Override
-                    public GetDevicePoolResult call() throws Exception {
-                        GetDevicePoolResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetDevicePoolResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDevicePoolResultJsonUnmarshaller());
 
-                        try {
-                            result = getDevicePool(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetDevicePoolRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -706,28 +566,16 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetDevicePoolCompatibilityRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDevicePoolCompatibilityRequest, GetDevicePoolCompatibilityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDevicePoolCompatibilityResult>() {
-                    @Override
-                    public GetDevicePoolCompatibilityResult call()
-                            throws Exception {
-                        GetDevicePoolCompatibilityResult result;
-
-                        try {
-                            result = getDevicePoolCompatibility(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetDevicePoolCompatibilityResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDevicePoolCompatibilityResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new GetDevicePoolCompatibilityRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -742,27 +590,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetJobRequest, GetJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetJobResult>() {
-                    @Override
-                    public GetJobResult call() throws Exception {
-                        GetJobResult result;
-
-                        try {
-                            result = getJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetJobResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetJobResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetJobRequestMarshaller(protocolFactory), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -777,27 +613,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetOfferingStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetOfferingStatusRequest, GetOfferingStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetOfferingStatusResult>() {
-                    @Override
-                    public GetOfferingStatusResult call() throws Exception {
-                        GetOfferingStatusResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetOfferingStatusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetOfferingStatusResultJsonUnmarshaller());
 
-                        try {
-                            result = getOfferingStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetOfferingStatusRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -812,27 +636,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetProjectRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetProjectRequest, GetProjectResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetProjectResult>() {
-                    @Override
-                    public GetProjectResult call() throws Exception {
-                        GetProjectResult result;
-
-                        try {
-                            result = getProject(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetProjectResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetProjectResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetProjectRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -847,27 +659,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetRemoteAccessSessionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRemoteAccessSessionRequest, GetRemoteAccessSessionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetRemoteAccessSessionResult>() {
-                    @Override
-                    public GetRemoteAccessSessionResult call() throws Exception {
-                        GetRemoteAccessSessionResult result;
-
-                        try {
-                            result = getRemoteAccessSession(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetRemoteAccessSessionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetRemoteAccessSessionResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetRemoteAccessSessionRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -882,27 +682,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetRunRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRunRequest, GetRunResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetRunResult>() {
-                    @Override
-                    public GetRunResult call() throws Exception {
-                        GetRunResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetRunResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetRunResultJsonUnmarshaller());
 
-                        try {
-                            result = getRun(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetRunRequestMarshaller(protocolFactory), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -917,27 +705,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetSuiteRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSuiteRequest, GetSuiteResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetSuiteResult>() {
-                    @Override
-                    public GetSuiteResult call() throws Exception {
-                        GetSuiteResult result;
-
-                        try {
-                            result = getSuite(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetSuiteResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetSuiteResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetSuiteRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -952,27 +728,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetTestRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTestRequest, GetTestResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetTestResult>() {
-                    @Override
-                    public GetTestResult call() throws Exception {
-                        GetTestResult result;
-
-                        try {
-                            result = getTest(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetTestResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetTestResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetTestRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -987,27 +751,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final GetUploadRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetUploadRequest, GetUploadResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetUploadResult>() {
-                    @Override
-                    public GetUploadResult call() throws Exception {
-                        GetUploadResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetUploadResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetUploadResultJsonUnmarshaller());
 
-                        try {
-                            result = getUpload(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetUploadRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1022,28 +774,16 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final InstallToRemoteAccessSessionRequest request,
             final com.amazonaws.handlers.AsyncHandler<InstallToRemoteAccessSessionRequest, InstallToRemoteAccessSessionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<InstallToRemoteAccessSessionResult>() {
-                    @Override
-                    public InstallToRemoteAccessSessionResult call()
-                            throws Exception {
-                        InstallToRemoteAccessSessionResult result;
-
-                        try {
-                            result = installToRemoteAccessSession(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<InstallToRemoteAccessSessionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new InstallToRemoteAccessSessionResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new InstallToRemoteAccessSessionRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1058,27 +798,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListArtifactsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListArtifactsRequest, ListArtifactsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListArtifactsResult>() {
-                    @Override
-                    public ListArtifactsResult call() throws Exception {
-                        ListArtifactsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListArtifactsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListArtifactsResultJsonUnmarshaller());
 
-                        try {
-                            result = listArtifacts(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListArtifactsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1093,27 +821,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListDevicePoolsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDevicePoolsRequest, ListDevicePoolsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListDevicePoolsResult>() {
-                    @Override
-                    public ListDevicePoolsResult call() throws Exception {
-                        ListDevicePoolsResult result;
-
-                        try {
-                            result = listDevicePools(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListDevicePoolsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListDevicePoolsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListDevicePoolsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1128,27 +844,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListDevicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDevicesRequest, ListDevicesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListDevicesResult>() {
-                    @Override
-                    public ListDevicesResult call() throws Exception {
-                        ListDevicesResult result;
-
-                        try {
-                            result = listDevices(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListDevicesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListDevicesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListDevicesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1163,27 +867,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListJobsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListJobsRequest, ListJobsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListJobsResult>() {
-                    @Override
-                    public ListJobsResult call() throws Exception {
-                        ListJobsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListJobsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListJobsResultJsonUnmarshaller());
 
-                        try {
-                            result = listJobs(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListJobsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1198,28 +890,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListOfferingTransactionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListOfferingTransactionsRequest, ListOfferingTransactionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListOfferingTransactionsResult>() {
-                    @Override
-                    public ListOfferingTransactionsResult call()
-                            throws Exception {
-                        ListOfferingTransactionsResult result;
-
-                        try {
-                            result = listOfferingTransactions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListOfferingTransactionsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListOfferingTransactionsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListOfferingTransactionsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1234,27 +913,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListOfferingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListOfferingsRequest, ListOfferingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListOfferingsResult>() {
-                    @Override
-                    public ListOfferingsResult call() throws Exception {
-                        ListOfferingsResult result;
-
-                        try {
-                            result = listOfferings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListOfferingsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListOfferingsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListOfferingsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1269,27 +936,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListProjectsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListProjectsRequest, ListProjectsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListProjectsResult>() {
-                    @Override
-                    public ListProjectsResult call() throws Exception {
-                        ListProjectsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListProjectsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListProjectsResultJsonUnmarshaller());
 
-                        try {
-                            result = listProjects(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListProjectsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1304,28 +959,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListRemoteAccessSessionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRemoteAccessSessionsRequest, ListRemoteAccessSessionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListRemoteAccessSessionsResult>() {
-                    @Override
-                    public ListRemoteAccessSessionsResult call()
-                            throws Exception {
-                        ListRemoteAccessSessionsResult result;
-
-                        try {
-                            result = listRemoteAccessSessions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListRemoteAccessSessionsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListRemoteAccessSessionsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListRemoteAccessSessionsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1340,27 +982,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListRunsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRunsRequest, ListRunsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListRunsResult>() {
-                    @Override
-                    public ListRunsResult call() throws Exception {
-                        ListRunsResult result;
-
-                        try {
-                            result = listRuns(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListRunsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListRunsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListRunsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1375,27 +1005,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListSamplesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSamplesRequest, ListSamplesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListSamplesResult>() {
-                    @Override
-                    public ListSamplesResult call() throws Exception {
-                        ListSamplesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListSamplesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListSamplesResultJsonUnmarshaller());
 
-                        try {
-                            result = listSamples(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListSamplesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1410,27 +1028,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListSuitesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSuitesRequest, ListSuitesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListSuitesResult>() {
-                    @Override
-                    public ListSuitesResult call() throws Exception {
-                        ListSuitesResult result;
-
-                        try {
-                            result = listSuites(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListSuitesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListSuitesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListSuitesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1445,27 +1051,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListTestsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTestsRequest, ListTestsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTestsResult>() {
-                    @Override
-                    public ListTestsResult call() throws Exception {
-                        ListTestsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListTestsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTestsResultJsonUnmarshaller());
 
-                        try {
-                            result = listTests(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListTestsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1480,27 +1074,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListUniqueProblemsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListUniqueProblemsRequest, ListUniqueProblemsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListUniqueProblemsResult>() {
-                    @Override
-                    public ListUniqueProblemsResult call() throws Exception {
-                        ListUniqueProblemsResult result;
-
-                        try {
-                            result = listUniqueProblems(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListUniqueProblemsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListUniqueProblemsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListUniqueProblemsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1515,27 +1097,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ListUploadsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListUploadsRequest, ListUploadsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListUploadsResult>() {
-                    @Override
-                    public ListUploadsResult call() throws Exception {
-                        ListUploadsResult result;
-
-                        try {
-                            result = listUploads(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListUploadsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListUploadsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListUploadsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1550,27 +1120,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final PurchaseOfferingRequest request,
             final com.amazonaws.handlers.AsyncHandler<PurchaseOfferingRequest, PurchaseOfferingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PurchaseOfferingResult>() {
-                    @Override
-                    public PurchaseOfferingResult call() throws Exception {
-                        PurchaseOfferingResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<PurchaseOfferingResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PurchaseOfferingResultJsonUnmarshaller());
 
-                        try {
-                            result = purchaseOffering(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new PurchaseOfferingRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1585,27 +1143,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final RenewOfferingRequest request,
             final com.amazonaws.handlers.AsyncHandler<RenewOfferingRequest, RenewOfferingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RenewOfferingResult>() {
-                    @Override
-                    public RenewOfferingResult call() throws Exception {
-                        RenewOfferingResult result;
-
-                        try {
-                            result = renewOffering(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<RenewOfferingResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RenewOfferingResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RenewOfferingRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1620,27 +1166,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final ScheduleRunRequest request,
             final com.amazonaws.handlers.AsyncHandler<ScheduleRunRequest, ScheduleRunResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ScheduleRunResult>() {
-                    @Override
-                    public ScheduleRunResult call() throws Exception {
-                        ScheduleRunResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ScheduleRunResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ScheduleRunResultJsonUnmarshaller());
 
-                        try {
-                            result = scheduleRun(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ScheduleRunRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1655,28 +1189,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final StopRemoteAccessSessionRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopRemoteAccessSessionRequest, StopRemoteAccessSessionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StopRemoteAccessSessionResult>() {
-                    @Override
-                    public StopRemoteAccessSessionResult call()
-                            throws Exception {
-                        StopRemoteAccessSessionResult result;
-
-                        try {
-                            result = stopRemoteAccessSession(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<StopRemoteAccessSessionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StopRemoteAccessSessionResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new StopRemoteAccessSessionRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1691,27 +1212,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final StopRunRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopRunRequest, StopRunResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StopRunResult>() {
-                    @Override
-                    public StopRunResult call() throws Exception {
-                        StopRunResult result;
-
-                        try {
-                            result = stopRun(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<StopRunResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StopRunResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new StopRunRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1726,27 +1235,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final UpdateDevicePoolRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDevicePoolRequest, UpdateDevicePoolResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateDevicePoolResult>() {
-                    @Override
-                    public UpdateDevicePoolResult call() throws Exception {
-                        UpdateDevicePoolResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateDevicePoolResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateDevicePoolResultJsonUnmarshaller());
 
-                        try {
-                            result = updateDevicePool(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateDevicePoolRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1761,27 +1258,15 @@ public class AWSDeviceFarmAsyncClient extends AWSDeviceFarmClient implements
             final UpdateProjectRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateProjectRequest, UpdateProjectResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateProjectResult>() {
-                    @Override
-                    public UpdateProjectResult call() throws Exception {
-                        UpdateProjectResult result;
-
-                        try {
-                            result = updateProject(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateProjectResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateProjectResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateProjectRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.directconnect;
 
 import com.amazonaws.services.directconnect.model.*;
+import com.amazonaws.services.directconnect.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -293,28 +297,16 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final AllocateConnectionOnInterconnectRequest request,
             final com.amazonaws.handlers.AsyncHandler<AllocateConnectionOnInterconnectRequest, AllocateConnectionOnInterconnectResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AllocateConnectionOnInterconnectResult>() {
-                    @Override
-                    public AllocateConnectionOnInterconnectResult call()
-                            throws Exception {
-                        AllocateConnectionOnInterconnectResult result;
-
-                        try {
-                            result = allocateConnectionOnInterconnect(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<AllocateConnectionOnInterconnectResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AllocateConnectionOnInterconnectResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new AllocateConnectionOnInterconnectRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -329,28 +321,16 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final AllocatePrivateVirtualInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AllocatePrivateVirtualInterfaceRequest, AllocatePrivateVirtualInterfaceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AllocatePrivateVirtualInterfaceResult>() {
-                    @Override
-                    public AllocatePrivateVirtualInterfaceResult call()
-                            throws Exception {
-                        AllocatePrivateVirtualInterfaceResult result;
-
-                        try {
-                            result = allocatePrivateVirtualInterface(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<AllocatePrivateVirtualInterfaceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AllocatePrivateVirtualInterfaceResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new AllocatePrivateVirtualInterfaceRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -365,28 +345,16 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final AllocatePublicVirtualInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AllocatePublicVirtualInterfaceRequest, AllocatePublicVirtualInterfaceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AllocatePublicVirtualInterfaceResult>() {
-                    @Override
-                    public AllocatePublicVirtualInterfaceResult call()
-                            throws Exception {
-                        AllocatePublicVirtualInterfaceResult result;
-
-                        try {
-                            result = allocatePublicVirtualInterface(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<AllocatePublicVirtualInterfaceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AllocatePublicVirtualInterfaceResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new AllocatePublicVirtualInterfaceRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -401,27 +369,15 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final ConfirmConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConfirmConnectionRequest, ConfirmConnectionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ConfirmConnectionResult>() {
-                    @Override
-                    public ConfirmConnectionResult call() throws Exception {
-                        ConfirmConnectionResult result;
-
-                        try {
-                            result = confirmConnection(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ConfirmConnectionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ConfirmConnectionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ConfirmConnectionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -436,28 +392,16 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final ConfirmPrivateVirtualInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConfirmPrivateVirtualInterfaceRequest, ConfirmPrivateVirtualInterfaceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ConfirmPrivateVirtualInterfaceResult>() {
-                    @Override
-                    public ConfirmPrivateVirtualInterfaceResult call()
-                            throws Exception {
-                        ConfirmPrivateVirtualInterfaceResult result;
-
-                        try {
-                            result = confirmPrivateVirtualInterface(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ConfirmPrivateVirtualInterfaceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ConfirmPrivateVirtualInterfaceResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new ConfirmPrivateVirtualInterfaceRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -472,28 +416,16 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final ConfirmPublicVirtualInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConfirmPublicVirtualInterfaceRequest, ConfirmPublicVirtualInterfaceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ConfirmPublicVirtualInterfaceResult>() {
-                    @Override
-                    public ConfirmPublicVirtualInterfaceResult call()
-                            throws Exception {
-                        ConfirmPublicVirtualInterfaceResult result;
-
-                        try {
-                            result = confirmPublicVirtualInterface(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ConfirmPublicVirtualInterfaceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ConfirmPublicVirtualInterfaceResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new ConfirmPublicVirtualInterfaceRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -508,27 +440,15 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final CreateConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateConnectionRequest, CreateConnectionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateConnectionResult>() {
-                    @Override
-                    public CreateConnectionResult call() throws Exception {
-                        CreateConnectionResult result;
-
-                        try {
-                            result = createConnection(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateConnectionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateConnectionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateConnectionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -543,27 +463,15 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final CreateInterconnectRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateInterconnectRequest, CreateInterconnectResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateInterconnectResult>() {
-                    @Override
-                    public CreateInterconnectResult call() throws Exception {
-                        CreateInterconnectResult result;
-
-                        try {
-                            result = createInterconnect(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateInterconnectResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateInterconnectResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateInterconnectRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -578,28 +486,16 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final CreatePrivateVirtualInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePrivateVirtualInterfaceRequest, CreatePrivateVirtualInterfaceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreatePrivateVirtualInterfaceResult>() {
-                    @Override
-                    public CreatePrivateVirtualInterfaceResult call()
-                            throws Exception {
-                        CreatePrivateVirtualInterfaceResult result;
-
-                        try {
-                            result = createPrivateVirtualInterface(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreatePrivateVirtualInterfaceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreatePrivateVirtualInterfaceResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreatePrivateVirtualInterfaceRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -614,28 +510,16 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final CreatePublicVirtualInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePublicVirtualInterfaceRequest, CreatePublicVirtualInterfaceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreatePublicVirtualInterfaceResult>() {
-                    @Override
-                    public CreatePublicVirtualInterfaceResult call()
-                            throws Exception {
-                        CreatePublicVirtualInterfaceResult result;
-
-                        try {
-                            result = createPublicVirtualInterface(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreatePublicVirtualInterfaceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreatePublicVirtualInterfaceResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreatePublicVirtualInterfaceRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -650,27 +534,15 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DeleteConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteConnectionRequest, DeleteConnectionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteConnectionResult>() {
-                    @Override
-                    public DeleteConnectionResult call() throws Exception {
-                        DeleteConnectionResult result;
-
-                        try {
-                            result = deleteConnection(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteConnectionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteConnectionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteConnectionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -685,27 +557,15 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DeleteInterconnectRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteInterconnectRequest, DeleteInterconnectResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteInterconnectResult>() {
-                    @Override
-                    public DeleteInterconnectResult call() throws Exception {
-                        DeleteInterconnectResult result;
-
-                        try {
-                            result = deleteInterconnect(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteInterconnectResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteInterconnectResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteInterconnectRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -720,27 +580,15 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DeleteVirtualInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVirtualInterfaceRequest, DeleteVirtualInterfaceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteVirtualInterfaceResult>() {
-                    @Override
-                    public DeleteVirtualInterfaceResult call() throws Exception {
-                        DeleteVirtualInterfaceResult result;
-
-                        try {
-                            result = deleteVirtualInterface(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteVirtualInterfaceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteVirtualInterfaceResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeleteVirtualInterfaceRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -755,27 +603,15 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeConnectionLoaRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConnectionLoaRequest, DescribeConnectionLoaResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeConnectionLoaResult>() {
-                    @Override
-                    public DescribeConnectionLoaResult call() throws Exception {
-                        DescribeConnectionLoaResult result;
-
-                        try {
-                            result = describeConnectionLoa(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeConnectionLoaResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeConnectionLoaResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeConnectionLoaRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -790,27 +626,15 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeConnectionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConnectionsRequest, DescribeConnectionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeConnectionsResult>() {
-                    @Override
-                    public DescribeConnectionsResult call() throws Exception {
-                        DescribeConnectionsResult result;
-
-                        try {
-                            result = describeConnections(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeConnectionsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeConnectionsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeConnectionsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -850,28 +674,16 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeConnectionsOnInterconnectRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConnectionsOnInterconnectRequest, DescribeConnectionsOnInterconnectResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeConnectionsOnInterconnectResult>() {
-                    @Override
-                    public DescribeConnectionsOnInterconnectResult call()
-                            throws Exception {
-                        DescribeConnectionsOnInterconnectResult result;
-
-                        try {
-                            result = describeConnectionsOnInterconnect(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeConnectionsOnInterconnectResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeConnectionsOnInterconnectResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeConnectionsOnInterconnectRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -886,28 +698,15 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeInterconnectLoaRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInterconnectLoaRequest, DescribeInterconnectLoaResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeInterconnectLoaResult>() {
-                    @Override
-                    public DescribeInterconnectLoaResult call()
-                            throws Exception {
-                        DescribeInterconnectLoaResult result;
-
-                        try {
-                            result = describeInterconnectLoa(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeInterconnectLoaResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeInterconnectLoaResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeInterconnectLoaRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -922,27 +721,15 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeInterconnectsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInterconnectsRequest, DescribeInterconnectsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeInterconnectsResult>() {
-                    @Override
-                    public DescribeInterconnectsResult call() throws Exception {
-                        DescribeInterconnectsResult result;
-
-                        try {
-                            result = describeInterconnects(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeInterconnectsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeInterconnectsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeInterconnectsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -982,27 +769,15 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeLocationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLocationsRequest, DescribeLocationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeLocationsResult>() {
-                    @Override
-                    public DescribeLocationsResult call() throws Exception {
-                        DescribeLocationsResult result;
-
-                        try {
-                            result = describeLocations(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeLocationsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeLocationsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeLocationsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1042,28 +817,15 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeVirtualGatewaysRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVirtualGatewaysRequest, DescribeVirtualGatewaysResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeVirtualGatewaysResult>() {
-                    @Override
-                    public DescribeVirtualGatewaysResult call()
-                            throws Exception {
-                        DescribeVirtualGatewaysResult result;
-
-                        try {
-                            result = describeVirtualGateways(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeVirtualGatewaysResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeVirtualGatewaysResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeVirtualGatewaysRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1104,28 +866,16 @@ public class AmazonDirectConnectAsyncClient extends AmazonDirectConnectClient
             final DescribeVirtualInterfacesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVirtualInterfacesRequest, DescribeVirtualInterfacesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeVirtualInterfacesResult>() {
-                    @Override
-                    public DescribeVirtualInterfacesResult call()
-                            throws Exception {
-                        DescribeVirtualInterfacesResult result;
-
-                        try {
-                            result = describeVirtualInterfaces(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeVirtualInterfacesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeVirtualInterfacesResultJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new DescribeVirtualInterfacesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.directory;
 
 import com.amazonaws.services.directory.model.*;
+import com.amazonaws.services.directory.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -285,27 +289,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final AddIpRoutesRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddIpRoutesRequest, AddIpRoutesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddIpRoutesResult>() {
-                    @Override
-                    public AddIpRoutesResult call() throws Exception {
-                        AddIpRoutesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AddIpRoutesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddIpRoutesResultJsonUnmarshaller());
 
-                        try {
-                            result = addIpRoutes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AddIpRoutesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -320,27 +312,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final AddTagsToResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToResourceRequest, AddTagsToResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddTagsToResourceResult>() {
-                    @Override
-                    public AddTagsToResourceResult call() throws Exception {
-                        AddTagsToResourceResult result;
-
-                        try {
-                            result = addTagsToResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<AddTagsToResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddTagsToResourceResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AddTagsToResourceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -355,27 +335,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final ConnectDirectoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConnectDirectoryRequest, ConnectDirectoryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ConnectDirectoryResult>() {
-                    @Override
-                    public ConnectDirectoryResult call() throws Exception {
-                        ConnectDirectoryResult result;
-
-                        try {
-                            result = connectDirectory(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ConnectDirectoryResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ConnectDirectoryResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ConnectDirectoryRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -390,27 +358,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final CreateAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAliasRequest, CreateAliasResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateAliasResult>() {
-                    @Override
-                    public CreateAliasResult call() throws Exception {
-                        CreateAliasResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateAliasResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateAliasResultJsonUnmarshaller());
 
-                        try {
-                            result = createAlias(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateAliasRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -425,27 +381,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final CreateComputerRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateComputerRequest, CreateComputerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateComputerResult>() {
-                    @Override
-                    public CreateComputerResult call() throws Exception {
-                        CreateComputerResult result;
-
-                        try {
-                            result = createComputer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateComputerResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateComputerResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateComputerRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -460,28 +404,16 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final CreateConditionalForwarderRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateConditionalForwarderRequest, CreateConditionalForwarderResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateConditionalForwarderResult>() {
-                    @Override
-                    public CreateConditionalForwarderResult call()
-                            throws Exception {
-                        CreateConditionalForwarderResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateConditionalForwarderResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateConditionalForwarderResultJsonUnmarshaller());
 
-                        try {
-                            result = createConditionalForwarder(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new CreateConditionalForwarderRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -496,27 +428,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final CreateDirectoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDirectoryRequest, CreateDirectoryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateDirectoryResult>() {
-                    @Override
-                    public CreateDirectoryResult call() throws Exception {
-                        CreateDirectoryResult result;
-
-                        try {
-                            result = createDirectory(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateDirectoryResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateDirectoryResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateDirectoryRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -531,27 +451,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final CreateMicrosoftADRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateMicrosoftADRequest, CreateMicrosoftADResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateMicrosoftADResult>() {
-                    @Override
-                    public CreateMicrosoftADResult call() throws Exception {
-                        CreateMicrosoftADResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateMicrosoftADResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateMicrosoftADResultJsonUnmarshaller());
 
-                        try {
-                            result = createMicrosoftAD(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateMicrosoftADRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -566,27 +474,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final CreateSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateSnapshotResult>() {
-                    @Override
-                    public CreateSnapshotResult call() throws Exception {
-                        CreateSnapshotResult result;
-
-                        try {
-                            result = createSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateSnapshotResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateSnapshotResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateSnapshotRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -601,27 +497,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final CreateTrustRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTrustRequest, CreateTrustResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateTrustResult>() {
-                    @Override
-                    public CreateTrustResult call() throws Exception {
-                        CreateTrustResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateTrustResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateTrustResultJsonUnmarshaller());
 
-                        try {
-                            result = createTrust(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateTrustRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -636,28 +520,16 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DeleteConditionalForwarderRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteConditionalForwarderRequest, DeleteConditionalForwarderResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteConditionalForwarderResult>() {
-                    @Override
-                    public DeleteConditionalForwarderResult call()
-                            throws Exception {
-                        DeleteConditionalForwarderResult result;
-
-                        try {
-                            result = deleteConditionalForwarder(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteConditionalForwarderResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteConditionalForwarderResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new DeleteConditionalForwarderRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -672,27 +544,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DeleteDirectoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDirectoryRequest, DeleteDirectoryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDirectoryResult>() {
-                    @Override
-                    public DeleteDirectoryResult call() throws Exception {
-                        DeleteDirectoryResult result;
-
-                        try {
-                            result = deleteDirectory(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteDirectoryResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteDirectoryResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteDirectoryRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -707,27 +567,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DeleteSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSnapshotRequest, DeleteSnapshotResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteSnapshotResult>() {
-                    @Override
-                    public DeleteSnapshotResult call() throws Exception {
-                        DeleteSnapshotResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteSnapshotResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteSnapshotResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteSnapshotRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -742,27 +590,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DeleteTrustRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTrustRequest, DeleteTrustResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteTrustResult>() {
-                    @Override
-                    public DeleteTrustResult call() throws Exception {
-                        DeleteTrustResult result;
-
-                        try {
-                            result = deleteTrust(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteTrustResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteTrustResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteTrustRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -777,27 +613,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DeregisterEventTopicRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterEventTopicRequest, DeregisterEventTopicResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeregisterEventTopicResult>() {
-                    @Override
-                    public DeregisterEventTopicResult call() throws Exception {
-                        DeregisterEventTopicResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeregisterEventTopicResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeregisterEventTopicResultJsonUnmarshaller());
 
-                        try {
-                            result = deregisterEventTopic(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeregisterEventTopicRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -812,28 +636,16 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DescribeConditionalForwardersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConditionalForwardersRequest, DescribeConditionalForwardersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeConditionalForwardersResult>() {
-                    @Override
-                    public DescribeConditionalForwardersResult call()
-                            throws Exception {
-                        DescribeConditionalForwardersResult result;
-
-                        try {
-                            result = describeConditionalForwarders(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeConditionalForwardersResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeConditionalForwardersResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeConditionalForwardersRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -848,27 +660,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DescribeDirectoriesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDirectoriesRequest, DescribeDirectoriesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDirectoriesResult>() {
-                    @Override
-                    public DescribeDirectoriesResult call() throws Exception {
-                        DescribeDirectoriesResult result;
-
-                        try {
-                            result = describeDirectories(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeDirectoriesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeDirectoriesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeDirectoriesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -908,27 +708,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DescribeEventTopicsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventTopicsRequest, DescribeEventTopicsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEventTopicsResult>() {
-                    @Override
-                    public DescribeEventTopicsResult call() throws Exception {
-                        DescribeEventTopicsResult result;
-
-                        try {
-                            result = describeEventTopics(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeEventTopicsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeEventTopicsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeEventTopicsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -943,27 +731,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DescribeSnapshotsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSnapshotsResult>() {
-                    @Override
-                    public DescribeSnapshotsResult call() throws Exception {
-                        DescribeSnapshotsResult result;
-
-                        try {
-                            result = describeSnapshots(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeSnapshotsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeSnapshotsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeSnapshotsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1003,27 +779,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DescribeTrustsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTrustsRequest, DescribeTrustsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTrustsResult>() {
-                    @Override
-                    public DescribeTrustsResult call() throws Exception {
-                        DescribeTrustsResult result;
-
-                        try {
-                            result = describeTrusts(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeTrustsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeTrustsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeTrustsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1038,27 +802,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DisableRadiusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableRadiusRequest, DisableRadiusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableRadiusResult>() {
-                    @Override
-                    public DisableRadiusResult call() throws Exception {
-                        DisableRadiusResult result;
-
-                        try {
-                            result = disableRadius(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DisableRadiusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DisableRadiusResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DisableRadiusRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1073,27 +825,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final DisableSsoRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableSsoRequest, DisableSsoResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableSsoResult>() {
-                    @Override
-                    public DisableSsoResult call() throws Exception {
-                        DisableSsoResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DisableSsoResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DisableSsoResultJsonUnmarshaller());
 
-                        try {
-                            result = disableSso(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DisableSsoRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1108,27 +848,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final EnableRadiusRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableRadiusRequest, EnableRadiusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableRadiusResult>() {
-                    @Override
-                    public EnableRadiusResult call() throws Exception {
-                        EnableRadiusResult result;
-
-                        try {
-                            result = enableRadius(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<EnableRadiusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new EnableRadiusResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new EnableRadiusRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1143,27 +871,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final EnableSsoRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableSsoRequest, EnableSsoResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableSsoResult>() {
-                    @Override
-                    public EnableSsoResult call() throws Exception {
-                        EnableSsoResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<EnableSsoResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new EnableSsoResultJsonUnmarshaller());
 
-                        try {
-                            result = enableSso(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new EnableSsoRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1178,27 +894,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final GetDirectoryLimitsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDirectoryLimitsRequest, GetDirectoryLimitsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDirectoryLimitsResult>() {
-                    @Override
-                    public GetDirectoryLimitsResult call() throws Exception {
-                        GetDirectoryLimitsResult result;
-
-                        try {
-                            result = getDirectoryLimits(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetDirectoryLimitsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDirectoryLimitsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetDirectoryLimitsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1238,27 +942,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final GetSnapshotLimitsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSnapshotLimitsRequest, GetSnapshotLimitsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetSnapshotLimitsResult>() {
-                    @Override
-                    public GetSnapshotLimitsResult call() throws Exception {
-                        GetSnapshotLimitsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetSnapshotLimitsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetSnapshotLimitsResultJsonUnmarshaller());
 
-                        try {
-                            result = getSnapshotLimits(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetSnapshotLimitsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1273,27 +965,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final ListIpRoutesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListIpRoutesRequest, ListIpRoutesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListIpRoutesResult>() {
-                    @Override
-                    public ListIpRoutesResult call() throws Exception {
-                        ListIpRoutesResult result;
-
-                        try {
-                            result = listIpRoutes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListIpRoutesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListIpRoutesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListIpRoutesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1308,27 +988,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
-                    @Override
-                    public ListTagsForResourceResult call() throws Exception {
-                        ListTagsForResourceResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListTagsForResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTagsForResourceResultJsonUnmarshaller());
 
-                        try {
-                            result = listTagsForResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListTagsForResourceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1343,27 +1011,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final RegisterEventTopicRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterEventTopicRequest, RegisterEventTopicResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RegisterEventTopicResult>() {
-                    @Override
-                    public RegisterEventTopicResult call() throws Exception {
-                        RegisterEventTopicResult result;
-
-                        try {
-                            result = registerEventTopic(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<RegisterEventTopicResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RegisterEventTopicResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RegisterEventTopicRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1378,27 +1034,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final RemoveIpRoutesRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveIpRoutesRequest, RemoveIpRoutesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveIpRoutesResult>() {
-                    @Override
-                    public RemoveIpRoutesResult call() throws Exception {
-                        RemoveIpRoutesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<RemoveIpRoutesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RemoveIpRoutesResultJsonUnmarshaller());
 
-                        try {
-                            result = removeIpRoutes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RemoveIpRoutesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1413,27 +1057,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final RemoveTagsFromResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromResourceRequest, RemoveTagsFromResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveTagsFromResourceResult>() {
-                    @Override
-                    public RemoveTagsFromResourceResult call() throws Exception {
-                        RemoveTagsFromResourceResult result;
-
-                        try {
-                            result = removeTagsFromResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<RemoveTagsFromResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RemoveTagsFromResourceResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RemoveTagsFromResourceRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1448,27 +1080,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final RestoreFromSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestoreFromSnapshotRequest, RestoreFromSnapshotResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RestoreFromSnapshotResult>() {
-                    @Override
-                    public RestoreFromSnapshotResult call() throws Exception {
-                        RestoreFromSnapshotResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<RestoreFromSnapshotResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RestoreFromSnapshotResultJsonUnmarshaller());
 
-                        try {
-                            result = restoreFromSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RestoreFromSnapshotRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1483,28 +1103,16 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final UpdateConditionalForwarderRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateConditionalForwarderRequest, UpdateConditionalForwarderResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateConditionalForwarderResult>() {
-                    @Override
-                    public UpdateConditionalForwarderResult call()
-                            throws Exception {
-                        UpdateConditionalForwarderResult result;
-
-                        try {
-                            result = updateConditionalForwarder(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateConditionalForwarderResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateConditionalForwarderResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new UpdateConditionalForwarderRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1519,27 +1127,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final UpdateRadiusRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateRadiusRequest, UpdateRadiusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateRadiusResult>() {
-                    @Override
-                    public UpdateRadiusResult call() throws Exception {
-                        UpdateRadiusResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateRadiusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateRadiusResultJsonUnmarshaller());
 
-                        try {
-                            result = updateRadius(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateRadiusRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1554,27 +1150,15 @@ public class AWSDirectoryServiceAsyncClient extends AWSDirectoryServiceClient
             final VerifyTrustRequest request,
             final com.amazonaws.handlers.AsyncHandler<VerifyTrustRequest, VerifyTrustResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<VerifyTrustResult>() {
-                    @Override
-                    public VerifyTrustResult call() throws Exception {
-                        VerifyTrustResult result;
-
-                        try {
-                            result = verifyTrust(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<VerifyTrustResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new VerifyTrustResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new VerifyTrustRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
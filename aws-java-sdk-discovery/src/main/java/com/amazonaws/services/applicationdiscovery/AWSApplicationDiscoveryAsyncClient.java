@@ -15,6 +15,10 @@
 package com.amazonaws.services.applicationdiscovery;
 
 import com.amazonaws.services.applicationdiscovery.model.*;
+import com.amazonaws.services.applicationdiscovery.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -684,27 +688,15 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final CreateTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTagsRequest, CreateTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateTagsResult>() {
-                    @Override
-                    public CreateTagsResult call() throws Exception {
-                        CreateTagsResult result;
-
-                        try {
-                            result = createTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateTagsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -719,27 +711,15 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final DeleteTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTagsRequest, DeleteTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteTagsResult>() {
-                    @Override
-                    public DeleteTagsResult call() throws Exception {
-                        DeleteTagsResult result;
-
-                        try {
-                            result = deleteTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteTagsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -754,27 +734,15 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final DescribeAgentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAgentsRequest, DescribeAgentsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAgentsResult>() {
-                    @Override
-                    public DescribeAgentsResult call() throws Exception {
-                        DescribeAgentsResult result;
-
-                        try {
-                            result = describeAgents(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeAgentsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeAgentsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeAgentsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -789,27 +757,15 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final DescribeConfigurationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConfigurationsRequest, DescribeConfigurationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeConfigurationsResult>() {
-                    @Override
-                    public DescribeConfigurationsResult call() throws Exception {
-                        DescribeConfigurationsResult result;
-
-                        try {
-                            result = describeConfigurations(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeConfigurationsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeConfigurationsResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeConfigurationsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -824,28 +780,16 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final DescribeExportConfigurationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeExportConfigurationsRequest, DescribeExportConfigurationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeExportConfigurationsResult>() {
-                    @Override
-                    public DescribeExportConfigurationsResult call()
-                            throws Exception {
-                        DescribeExportConfigurationsResult result;
-
-                        try {
-                            result = describeExportConfigurations(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeExportConfigurationsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeExportConfigurationsResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeExportConfigurationsRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -860,27 +804,15 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final DescribeTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTagsResult>() {
-                    @Override
-                    public DescribeTagsResult call() throws Exception {
-                        DescribeTagsResult result;
-
-                        try {
-                            result = describeTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeTagsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -895,27 +827,15 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final ExportConfigurationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ExportConfigurationsRequest, ExportConfigurationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ExportConfigurationsResult>() {
-                    @Override
-                    public ExportConfigurationsResult call() throws Exception {
-                        ExportConfigurationsResult result;
-
-                        try {
-                            result = exportConfigurations(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ExportConfigurationsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ExportConfigurationsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ExportConfigurationsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -930,27 +850,15 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final ListConfigurationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListConfigurationsRequest, ListConfigurationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListConfigurationsResult>() {
-                    @Override
-                    public ListConfigurationsResult call() throws Exception {
-                        ListConfigurationsResult result;
-
-                        try {
-                            result = listConfigurations(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListConfigurationsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListConfigurationsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListConfigurationsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -965,28 +873,16 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final StartDataCollectionByAgentIdsRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartDataCollectionByAgentIdsRequest, StartDataCollectionByAgentIdsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StartDataCollectionByAgentIdsResult>() {
-                    @Override
-                    public StartDataCollectionByAgentIdsResult call()
-                            throws Exception {
-                        StartDataCollectionByAgentIdsResult result;
-
-                        try {
-                            result = startDataCollectionByAgentIds(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<StartDataCollectionByAgentIdsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StartDataCollectionByAgentIdsResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new StartDataCollectionByAgentIdsRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1001,28 +897,16 @@ public class AWSApplicationDiscoveryAsyncClient extends
             final StopDataCollectionByAgentIdsRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopDataCollectionByAgentIdsRequest, StopDataCollectionByAgentIdsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StopDataCollectionByAgentIdsResult>() {
-                    @Override
-                    public StopDataCollectionByAgentIdsResult call()
-                            throws Exception {
-                        StopDataCollectionByAgentIdsResult result;
-
-                        try {
-                            result = stopDataCollectionByAgentIds(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<StopDataCollectionByAgentIdsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StopDataCollectionByAgentIdsResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new StopDataCollectionByAgentIdsRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.databasemigrationservice;
 
 import com.amazonaws.services.databasemigrationservice.model.*;
+import com.amazonaws.services.databasemigrationservice.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -290,27 +294,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final AddTagsToResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToResourceRequest, AddTagsToResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddTagsToResourceResult>() {
-                    @Override
-                    public AddTagsToResourceResult call() throws Exception {
-                        AddTagsToResourceResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AddTagsToResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddTagsToResourceResultJsonUnmarshaller());
 
-                        try {
-                            result = addTagsToResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AddTagsToResourceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -325,27 +317,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final CreateEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateEndpointRequest, CreateEndpointResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateEndpointResult>() {
-                    @Override
-                    public CreateEndpointResult call() throws Exception {
-                        CreateEndpointResult result;
-
-                        try {
-                            result = createEndpoint(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateEndpointResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateEndpointResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateEndpointRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -360,28 +340,16 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final CreateReplicationInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReplicationInstanceRequest, CreateReplicationInstanceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateReplicationInstanceResult>() {
-                    @Override
-                    public CreateReplicationInstanceResult call()
-                            throws Exception {
-                        CreateReplicationInstanceResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateReplicationInstanceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateReplicationInstanceResultJsonUnmarshaller());
 
-                        try {
-                            result = createReplicationInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new CreateReplicationInstanceRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -396,28 +364,16 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final CreateReplicationSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReplicationSubnetGroupRequest, CreateReplicationSubnetGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateReplicationSubnetGroupResult>() {
-                    @Override
-                    public CreateReplicationSubnetGroupResult call()
-                            throws Exception {
-                        CreateReplicationSubnetGroupResult result;
-
-                        try {
-                            result = createReplicationSubnetGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateReplicationSubnetGroupResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateReplicationSubnetGroupResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateReplicationSubnetGroupRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -432,27 +388,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final CreateReplicationTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReplicationTaskRequest, CreateReplicationTaskResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateReplicationTaskResult>() {
-                    @Override
-                    public CreateReplicationTaskResult call() throws Exception {
-                        CreateReplicationTaskResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateReplicationTaskResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateReplicationTaskResultJsonUnmarshaller());
 
-                        try {
-                            result = createReplicationTask(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateReplicationTaskRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -467,27 +411,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DeleteCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCertificateRequest, DeleteCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteCertificateResult>() {
-                    @Override
-                    public DeleteCertificateResult call() throws Exception {
-                        DeleteCertificateResult result;
-
-                        try {
-                            result = deleteCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteCertificateResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteCertificateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -502,27 +434,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DeleteEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteEndpointRequest, DeleteEndpointResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteEndpointResult>() {
-                    @Override
-                    public DeleteEndpointResult call() throws Exception {
-                        DeleteEndpointResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteEndpointResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteEndpointResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteEndpoint(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteEndpointRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -537,28 +457,16 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DeleteReplicationInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteReplicationInstanceRequest, DeleteReplicationInstanceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteReplicationInstanceResult>() {
-                    @Override
-                    public DeleteReplicationInstanceResult call()
-                            throws Exception {
-                        DeleteReplicationInstanceResult result;
-
-                        try {
-                            result = deleteReplicationInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteReplicationInstanceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteReplicationInstanceResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new DeleteReplicationInstanceRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -573,28 +481,16 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DeleteReplicationSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteReplicationSubnetGroupRequest, DeleteReplicationSubnetGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteReplicationSubnetGroupResult>() {
-                    @Override
-                    public DeleteReplicationSubnetGroupResult call()
-                            throws Exception {
-                        DeleteReplicationSubnetGroupResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteReplicationSubnetGroupResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteReplicationSubnetGroupResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteReplicationSubnetGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteReplicationSubnetGroupRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -609,27 +505,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DeleteReplicationTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteReplicationTaskRequest, DeleteReplicationTaskResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteReplicationTaskResult>() {
-                    @Override
-                    public DeleteReplicationTaskResult call() throws Exception {
-                        DeleteReplicationTaskResult result;
-
-                        try {
-                            result = deleteReplicationTask(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteReplicationTaskResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteReplicationTaskResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteReplicationTaskRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -644,28 +528,16 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeAccountAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAccountAttributesRequest, DescribeAccountAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAccountAttributesResult>() {
-                    @Override
-                    public DescribeAccountAttributesResult call()
-                            throws Exception {
-                        DescribeAccountAttributesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeAccountAttributesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeAccountAttributesResultJsonUnmarshaller());
 
-                        try {
-                            result = describeAccountAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new DescribeAccountAttributesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -680,27 +552,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeCertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCertificatesRequest, DescribeCertificatesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeCertificatesResult>() {
-                    @Override
-                    public DescribeCertificatesResult call() throws Exception {
-                        DescribeCertificatesResult result;
-
-                        try {
-                            result = describeCertificates(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeCertificatesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeCertificatesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeCertificatesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -715,27 +575,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeConnectionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConnectionsRequest, DescribeConnectionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeConnectionsResult>() {
-                    @Override
-                    public DescribeConnectionsResult call() throws Exception {
-                        DescribeConnectionsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeConnectionsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeConnectionsResultJsonUnmarshaller());
 
-                        try {
-                            result = describeConnections(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeConnectionsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -750,27 +598,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeEndpointTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEndpointTypesRequest, DescribeEndpointTypesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEndpointTypesResult>() {
-                    @Override
-                    public DescribeEndpointTypesResult call() throws Exception {
-                        DescribeEndpointTypesResult result;
-
-                        try {
-                            result = describeEndpointTypes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeEndpointTypesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeEndpointTypesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeEndpointTypesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -785,27 +621,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeEndpointsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEndpointsRequest, DescribeEndpointsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEndpointsResult>() {
-                    @Override
-                    public DescribeEndpointsResult call() throws Exception {
-                        DescribeEndpointsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeEndpointsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeEndpointsResultJsonUnmarshaller());
 
-                        try {
-                            result = describeEndpoints(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeEndpointsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -820,28 +644,16 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeOrderableReplicationInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeOrderableReplicationInstancesRequest, DescribeOrderableReplicationInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeOrderableReplicationInstancesResult>() {
-                    @Override
-                    public DescribeOrderableReplicationInstancesResult call()
-                            throws Exception {
-                        DescribeOrderableReplicationInstancesResult result;
-
-                        try {
-                            result = describeOrderableReplicationInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeOrderableReplicationInstancesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeOrderableReplicationInstancesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeOrderableReplicationInstancesRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -856,28 +668,16 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeRefreshSchemasStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRefreshSchemasStatusRequest, DescribeRefreshSchemasStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeRefreshSchemasStatusResult>() {
-                    @Override
-                    public DescribeRefreshSchemasStatusResult call()
-                            throws Exception {
-                        DescribeRefreshSchemasStatusResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeRefreshSchemasStatusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeRefreshSchemasStatusResultJsonUnmarshaller());
 
-                        try {
-                            result = describeRefreshSchemasStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeRefreshSchemasStatusRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -892,28 +692,16 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeReplicationInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReplicationInstancesRequest, DescribeReplicationInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeReplicationInstancesResult>() {
-                    @Override
-                    public DescribeReplicationInstancesResult call()
-                            throws Exception {
-                        DescribeReplicationInstancesResult result;
-
-                        try {
-                            result = describeReplicationInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeReplicationInstancesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeReplicationInstancesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeReplicationInstancesRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -928,28 +716,16 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeReplicationSubnetGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReplicationSubnetGroupsRequest, DescribeReplicationSubnetGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeReplicationSubnetGroupsResult>() {
-                    @Override
-                    public DescribeReplicationSubnetGroupsResult call()
-                            throws Exception {
-                        DescribeReplicationSubnetGroupsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeReplicationSubnetGroupsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeReplicationSubnetGroupsResultJsonUnmarshaller());
 
-                        try {
-                            result = describeReplicationSubnetGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeReplicationSubnetGroupsRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -964,28 +740,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeReplicationTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReplicationTasksRequest, DescribeReplicationTasksResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeReplicationTasksResult>() {
-                    @Override
-                    public DescribeReplicationTasksResult call()
-                            throws Exception {
-                        DescribeReplicationTasksResult result;
-
-                        try {
-                            result = describeReplicationTasks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeReplicationTasksResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeReplicationTasksResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeReplicationTasksRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1000,27 +763,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeSchemasRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSchemasRequest, DescribeSchemasResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSchemasResult>() {
-                    @Override
-                    public DescribeSchemasResult call() throws Exception {
-                        DescribeSchemasResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeSchemasResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeSchemasResultJsonUnmarshaller());
 
-                        try {
-                            result = describeSchemas(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeSchemasRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1035,28 +786,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final DescribeTableStatisticsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTableStatisticsRequest, DescribeTableStatisticsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTableStatisticsResult>() {
-                    @Override
-                    public DescribeTableStatisticsResult call()
-                            throws Exception {
-                        DescribeTableStatisticsResult result;
-
-                        try {
-                            result = describeTableStatistics(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeTableStatisticsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeTableStatisticsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeTableStatisticsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1071,27 +809,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final ImportCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<ImportCertificateRequest, ImportCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ImportCertificateResult>() {
-                    @Override
-                    public ImportCertificateResult call() throws Exception {
-                        ImportCertificateResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ImportCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ImportCertificateResultJsonUnmarshaller());
 
-                        try {
-                            result = importCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ImportCertificateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1106,27 +832,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
-                    @Override
-                    public ListTagsForResourceResult call() throws Exception {
-                        ListTagsForResourceResult result;
-
-                        try {
-                            result = listTagsForResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListTagsForResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTagsForResourceResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListTagsForResourceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1141,27 +855,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final ModifyEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyEndpointRequest, ModifyEndpointResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyEndpointResult>() {
-                    @Override
-                    public ModifyEndpointResult call() throws Exception {
-                        ModifyEndpointResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ModifyEndpointResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ModifyEndpointResultJsonUnmarshaller());
 
-                        try {
-                            result = modifyEndpoint(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ModifyEndpointRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1176,28 +878,16 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final ModifyReplicationInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyReplicationInstanceRequest, ModifyReplicationInstanceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyReplicationInstanceResult>() {
-                    @Override
-                    public ModifyReplicationInstanceResult call()
-                            throws Exception {
-                        ModifyReplicationInstanceResult result;
-
-                        try {
-                            result = modifyReplicationInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ModifyReplicationInstanceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ModifyReplicationInstanceResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new ModifyReplicationInstanceRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1212,28 +902,16 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final ModifyReplicationSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyReplicationSubnetGroupRequest, ModifyReplicationSubnetGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyReplicationSubnetGroupResult>() {
-                    @Override
-                    public ModifyReplicationSubnetGroupResult call()
-                            throws Exception {
-                        ModifyReplicationSubnetGroupResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ModifyReplicationSubnetGroupResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ModifyReplicationSubnetGroupResultJsonUnmarshaller());
 
-                        try {
-                            result = modifyReplicationSubnetGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyReplicationSubnetGroupRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1248,27 +926,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final RefreshSchemasRequest request,
             final com.amazonaws.handlers.AsyncHandler<RefreshSchemasRequest, RefreshSchemasResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RefreshSchemasResult>() {
-                    @Override
-                    public RefreshSchemasResult call() throws Exception {
-                        RefreshSchemasResult result;
-
-                        try {
-                            result = refreshSchemas(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<RefreshSchemasResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RefreshSchemasResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RefreshSchemasRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1283,27 +949,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final RemoveTagsFromResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromResourceRequest, RemoveTagsFromResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveTagsFromResourceResult>() {
-                    @Override
-                    public RemoveTagsFromResourceResult call() throws Exception {
-                        RemoveTagsFromResourceResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<RemoveTagsFromResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RemoveTagsFromResourceResultJsonUnmarshaller());
 
-                        try {
-                            result = removeTagsFromResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RemoveTagsFromResourceRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1318,27 +972,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final StartReplicationTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartReplicationTaskRequest, StartReplicationTaskResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StartReplicationTaskResult>() {
-                    @Override
-                    public StartReplicationTaskResult call() throws Exception {
-                        StartReplicationTaskResult result;
-
-                        try {
-                            result = startReplicationTask(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<StartReplicationTaskResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StartReplicationTaskResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new StartReplicationTaskRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1353,27 +995,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final StopReplicationTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopReplicationTaskRequest, StopReplicationTaskResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StopReplicationTaskResult>() {
-                    @Override
-                    public StopReplicationTaskResult call() throws Exception {
-                        StopReplicationTaskResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<StopReplicationTaskResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StopReplicationTaskResultJsonUnmarshaller());
 
-                        try {
-                            result = stopReplicationTask(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new StopReplicationTaskRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1388,27 +1018,15 @@ public class AWSDatabaseMigrationServiceAsyncClient extends
             final TestConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<TestConnectionRequest, TestConnectionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<TestConnectionResult>() {
-                    @Override
-                    public TestConnectionResult call() throws Exception {
-                        TestConnectionResult result;
-
-                        try {
-                            result = testConnection(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<TestConnectionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new TestConnectionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new TestConnectionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
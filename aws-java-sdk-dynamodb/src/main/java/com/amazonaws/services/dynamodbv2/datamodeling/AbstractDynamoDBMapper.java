@@ -16,6 +16,7 @@ package com.amazonaws.services.dynamodbv2.datamodeling;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
 import com.amazonaws.services.dynamodbv2.model.AttributeValue;
@@ -146,6 +147,19 @@ public class AbstractDynamoDBMapper implements IDynamoDBMapper {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public Future<List<FailedBatch>> batchWriteAsync(Iterable<? extends Object> objectsToWrite,
+                                                     Iterable<? extends Object> objectsToDelete) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Future<List<FailedBatch>> batchWriteAsync(Iterable<? extends Object> objectsToWrite,
+                                                     Iterable<? extends Object> objectsToDelete,
+                                                     DynamoDBMapperConfig config) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public Map<String, List<Object>> batchLoad(Iterable<? extends Object> itemsToGet) {
         throw new UnsupportedOperationException();
@@ -166,6 +180,17 @@ public class AbstractDynamoDBMapper implements IDynamoDBMapper {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public BatchLoadIterator batchLoadIterator(Iterable<? extends Object> itemsToGet, int maxConcurrency) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public BatchLoadIterator batchLoadIterator(Iterable<? extends Object> itemsToGet, int maxConcurrency,
+                                               DynamoDBMapperConfig config) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public <T> PaginatedScanList<T> scan(Class<T> clazz, DynamoDBScanExpression scanExpression) {
         throw new UnsupportedOperationException();
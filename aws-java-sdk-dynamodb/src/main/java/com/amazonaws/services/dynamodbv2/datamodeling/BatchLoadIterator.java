@@ -0,0 +1,339 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchLoadRetryStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.ConsistentReads;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+
+/**
+ * Iterator over the objects loaded by
+ * {@link DynamoDBMapper#batchLoadIterator(Iterable, int, DynamoDBMapperConfig)}.
+ * <p>
+ * Keys are read from the given iterable and sent in BatchGetItem requests of
+ * up to 100 keys, with several requests in flight at once. The returned items
+ * are unmarshalled on the request threads and handed out as soon as a
+ * request completes, so objects are returned in no particular order. Any
+ * UnprocessedKeys are sent again with the next requests, as per the
+ * {@link BatchLoadRetryStrategy} of the config.
+ * <p>
+ * New requests are only sent as the objects of completed requests are
+ * consumed, so no more than about
+ * {@code (maxConcurrency + 1) * 100} objects are held in memory at any time,
+ * however many keys are loaded. The requests are sent on an executor shared
+ * with other operations, which the iterator does not own; callers that stop
+ * before the iterator is exhausted must call {@link #close()}, or the
+ * requests in flight keep running and their results are held until the
+ * iterator is garbage collected.
+ * <p>
+ * This class is not thread-safe; it is meant to be consumed by one thread.
+ */
+public final class BatchLoadIterator implements Iterator<Object>, Closeable {
+
+    /** The max number of keys allowed in a BatchGetItem request */
+    private static final int MAX_KEYS_PER_BATCH = 100;
+
+    private final AmazonDynamoDB db;
+    private final Iterator<PendingKey> keys;
+    private final ResultConverter converter;
+    private final DynamoDBMapperConfig config;
+    private final int maxConcurrency;
+    private final CompletionService<BatchResult> completionService;
+
+    /** Keys waiting to be sent, by table; unprocessed keys go first. */
+    private final LinkedHashMap<String, LinkedList<PendingKey>> pendingKeys =
+            new LinkedHashMap<String, LinkedList<PendingKey>>();
+    private final Set<Future<BatchResult>> inflightFutures = new HashSet<Future<BatchResult>>();
+    private final LinkedList<Object> loadedObjects = new LinkedList<Object>();
+
+    private int pendingCount;
+    private long resumeDispatchAt;
+    private boolean closed;
+
+    BatchLoadIterator(AmazonDynamoDB db,
+                      Iterator<PendingKey> keys,
+                      ResultConverter converter,
+                      DynamoDBMapperConfig config,
+                      int maxConcurrency,
+                      ExecutorService executorService) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+        this.db = db;
+        this.keys = keys;
+        this.converter = converter;
+        this.config = config;
+        this.maxConcurrency = maxConcurrency;
+        this.completionService = new ExecutorCompletionService<BatchResult>(executorService);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (loadedObjects.isEmpty()) {
+            if (closed) {
+                return false;
+            }
+            dispatchBatches();
+            if (inflightFutures.isEmpty() && pendingCount == 0) {
+                close();
+                return false;
+            }
+            try {
+                if (inflightFutures.isEmpty()) {
+                    // Everything pending is waiting for a retry delay
+                    Thread.sleep(Math.max(0, resumeDispatchAt - System.currentTimeMillis()));
+                    continue;
+                }
+                Future<BatchResult> completed = completionService.take();
+                inflightFutures.remove(completed);
+                onBatchCompleted(completed.get());
+            } catch (InterruptedException e) {
+                close();
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException("Interrupted while waiting for BatchGetItem results", e);
+            } catch (ExecutionException e) {
+                close();
+                if (e.getCause() instanceof AmazonClientException) {
+                    throw (AmazonClientException) e.getCause();
+                }
+                throw new AmazonClientException(e.getCause().getMessage(), e.getCause());
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Object next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return loadedObjects.removeFirst();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Stops loading: cancels the requests in flight. Objects already loaded
+     * but not yet returned are discarded. The executor is left running.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Future<BatchResult> future : inflightFutures) {
+            future.cancel(true);
+        }
+        inflightFutures.clear();
+        loadedObjects.clear();
+    }
+
+    private void dispatchBatches() {
+        while (inflightFutures.size() < maxConcurrency) {
+            fillPendingKeys();
+            if (pendingCount == 0 || System.currentTimeMillis() < resumeDispatchAt) {
+                return;
+            }
+            inflightFutures.add(completionService.submit(new BatchGetCallable(nextBatch())));
+        }
+    }
+
+    private void fillPendingKeys() {
+        while (pendingCount < MAX_KEYS_PER_BATCH && keys.hasNext()) {
+            addPendingKey(keys.next(), false);
+        }
+    }
+
+    private void addPendingKey(PendingKey key, boolean first) {
+        LinkedList<PendingKey> tableKeys = pendingKeys.get(key.tableName);
+        if (tableKeys == null) {
+            tableKeys = new LinkedList<PendingKey>();
+            pendingKeys.put(key.tableName, tableKeys);
+        }
+        if (first) {
+            tableKeys.addFirst(key);
+        } else {
+            tableKeys.addLast(key);
+        }
+        pendingCount++;
+    }
+
+    private Batch nextBatch() {
+        Batch batch = new Batch();
+        Iterator<LinkedList<PendingKey>> tableIter = pendingKeys.values().iterator();
+        while (tableIter.hasNext() && batch.keys.size() < MAX_KEYS_PER_BATCH) {
+            LinkedList<PendingKey> tableKeys = tableIter.next();
+            while (!tableKeys.isEmpty() && batch.keys.size() < MAX_KEYS_PER_BATCH) {
+                batch.add(tableKeys.removeFirst());
+                pendingCount--;
+            }
+            if (tableKeys.isEmpty()) {
+                tableIter.remove();
+            }
+        }
+        return batch;
+    }
+
+    private void onBatchCompleted(BatchResult result) {
+        loadedObjects.addAll(result.objects);
+
+        Map<String, KeysAndAttributes> unprocessedKeys = result.result.getUnprocessedKeys();
+        if (unprocessedKeys == null || unprocessedKeys.isEmpty()) {
+            return;
+        }
+
+        final Batch batch = result.batch;
+        BatchLoadContext batchLoadContext = new BatchLoadContext(result.request);
+        batchLoadContext.setBatchGetItemResult(result.result);
+        batchLoadContext.setRetriesAttempted(batch.retries + 1);
+
+        BatchLoadRetryStrategy retryStrategy = config.getBatchLoadRetryStrategy();
+        if (!retryStrategy.shouldRetry(batchLoadContext)) {
+            // Same as DynamoDBMapper#batchLoad: give up silently unless none
+            // of the keys could be processed.
+            if (result.objects.isEmpty()) {
+                throw new AmazonClientException(
+                        "Batch Get Item request to server hasn't received any data. Please try again later");
+            }
+            return;
+        }
+
+        resumeDispatchAt = Math.max(resumeDispatchAt,
+                System.currentTimeMillis() + retryStrategy.getDelayBeforeNextRetry(batchLoadContext));
+        for (Map.Entry<String, KeysAndAttributes> entry : unprocessedKeys.entrySet()) {
+            List<Map<String, AttributeValue>> tableKeys = entry.getValue().getKeys();
+            for (int i = tableKeys.size() - 1; i >= 0; i--) {
+                addPendingKey(new PendingKey(entry.getKey(), tableKeys.get(i), batch.retries + 1), true);
+            }
+        }
+    }
+
+    /**
+     * Converts the items returned by BatchGetItem to objects.
+     */
+    interface ResultConverter {
+        Object convert(String tableName, Map<String, AttributeValue> item);
+    }
+
+    /**
+     * The key of one item to load, with the number of times it has already
+     * come back unprocessed.
+     */
+    static final class PendingKey {
+        private final String tableName;
+        private final Map<String, AttributeValue> key;
+        private final int retries;
+
+        PendingKey(String tableName, Map<String, AttributeValue> key) {
+            this(tableName, key, 0);
+        }
+
+        private PendingKey(String tableName, Map<String, AttributeValue> key, int retries) {
+            this.tableName = tableName;
+            this.key = key;
+            this.retries = retries;
+        }
+    }
+
+    private static final class Batch {
+        private final List<PendingKey> keys = new ArrayList<PendingKey>(MAX_KEYS_PER_BATCH);
+        private int retries;
+
+        private void add(PendingKey key) {
+            keys.add(key);
+            retries = Math.max(retries, key.retries);
+        }
+    }
+
+    private static final class BatchResult {
+        private final Batch batch;
+        private final BatchGetItemRequest request;
+        private final BatchGetItemResult result;
+        private final List<Object> objects;
+
+        private BatchResult(Batch batch, BatchGetItemRequest request, BatchGetItemResult result,
+                            List<Object> objects) {
+            this.batch = batch;
+            this.request = request;
+            this.result = result;
+            this.objects = objects;
+        }
+    }
+
+    private final class BatchGetCallable implements Callable<BatchResult> {
+        private final Batch batch;
+
+        private BatchGetCallable(Batch batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public BatchResult call() {
+            final boolean consistentReads = (config.getConsistentReads() == ConsistentReads.CONSISTENT);
+            final Map<String, KeysAndAttributes> requestItems = new LinkedHashMap<String, KeysAndAttributes>();
+            for (PendingKey key : batch.keys) {
+                KeysAndAttributes keysAndAttributes = requestItems.get(key.tableName);
+                if (keysAndAttributes == null) {
+                    keysAndAttributes = new KeysAndAttributes().withConsistentRead(consistentReads)
+                            .withKeys(new ArrayList<Map<String, AttributeValue>>());
+                    requestItems.put(key.tableName, keysAndAttributes);
+                }
+                keysAndAttributes.getKeys().add(key.key);
+            }
+
+            BatchGetItemRequest request = new BatchGetItemRequest()
+                    .withRequestMetricCollector(config.getRequestMetricCollector());
+            request.setRequestItems(requestItems);
+            BatchGetItemResult result = db.batchGetItem(DynamoDBMapper.applyBatchOperationUserAgent(request));
+
+            List<Object> objects = new ArrayList<Object>();
+            for (Map.Entry<String, List<Map<String, AttributeValue>>> entry : result.getResponses().entrySet()) {
+                for (Map<String, AttributeValue> item : entry.getValue()) {
+                    objects.add(converter.convert(entry.getKey(), item));
+                }
+            }
+            return new BatchResult(batch, request, result, objects);
+        }
+    }
+}
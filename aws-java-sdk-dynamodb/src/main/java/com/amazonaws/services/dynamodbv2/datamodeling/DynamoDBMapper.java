@@ -30,6 +30,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -41,6 +48,7 @@ import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.retry.RetryUtils;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchLoadRetryStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteConcurrency;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteRetryStrategy;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.ConsistentReads;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.SaveBehavior;
@@ -225,6 +233,23 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
 
     private static final Log log = LogFactory.getLog(DynamoDBMapper.class);
 
+    /**
+     * Runs the requests of the concurrent batch operations of all mappers.
+     * Each operation bounds its own number of requests in flight, so the pool
+     * itself is unbounded; its daemon threads are released after a minute
+     * without work, so operations need not shut anything down.
+     */
+    private static final ExecutorService BATCH_EXECUTOR = Executors.newCachedThreadPool(new ThreadFactory() {
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        public Thread newThread(Runnable r) {
+            Thread t = new Thread(r);
+            t.setName("dynamodb-mapper-batch-thread-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }
+    });
+
     /**
      * Fail fast when trying to create a subclass of the DynamoDBMapper that
      * attempts to override one of the old {@code transformAttributes} methods.
@@ -1117,53 +1142,24 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
 
         List<ValueUpdate> inMemoryUpdates = new LinkedList<ValueUpdate>();
         for ( Object toWrite : objectsToWrite ) {
-            Class<Object> clazz = (Class<Object>)toWrite.getClass();
-            String tableName = getTableName(clazz, toWrite, config);
-
-            Map<String, AttributeValue> attributeValues = new HashMap<String, AttributeValue>();
-
-            // Look at every getter and construct a value object for it
-            final DynamoDBMapperTableModel<Object> model = getTableModel(clazz, config);
-            for ( final DynamoDBMapperFieldModel<Object,Object> field : model.fields() ) {
-                AttributeValue currentValue = null;
-                if ( canGenerate(model, toWrite, config.getSaveBehavior(), field) && !field.versioned() ) {
-                    currentValue = field.convert(field.generate(field.get(toWrite)));
-                    inMemoryUpdates.add(new ValueUpdate(field, currentValue, toWrite));
-                } else {
-                    currentValue = field.convert(field.get(toWrite));
-                }
-                if ( currentValue != null ) {
-                    attributeValues.put(field.name(), currentValue);
-                }
-            }
+            String tableName = getTableName(toWrite.getClass(), toWrite, config);
 
             if ( !requestItems.containsKey(tableName) ) {
                 requestItems.put(tableName, new LinkedList<WriteRequest>());
             }
 
-            AttributeTransformer.Parameters<?> parameters =
-                toParameters(attributeValues, clazz, tableName, config);
-
             requestItems.get(tableName).add(
-                new WriteRequest().withPutRequest(
-                    new PutRequest().withItem(
-                        transformAttributes(parameters))));
+                    toPutWriteRequest(toWrite, tableName, config, inMemoryUpdates));
         }
 
         for ( Object toDelete : objectsToDelete ) {
-            Class<Object> clazz = (Class<Object>)toDelete.getClass();
-
-            String tableName = getTableName(clazz, toDelete, config);
-            final DynamoDBMapperTableModel<Object> model = getTableModel(clazz, config);
-
-            Map<String, AttributeValue> key = model.convertKey(toDelete);
+            String tableName = getTableName(toDelete.getClass(), toDelete, config);
 
             if ( !requestItems.containsKey(tableName) ) {
                 requestItems.put(tableName, new LinkedList<WriteRequest>());
             }
 
-            requestItems.get(tableName).add(
-                    new WriteRequest().withDeleteRequest(new DeleteRequest().withKey(key)));
+            requestItems.get(tableName).add(toDeleteWriteRequest(toDelete, config));
         }
 
         // Break into chunks of 25 items and make service requests to DynamoDB
@@ -1217,6 +1213,141 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
         return totalFailedBatches;
     }
 
+    @Override
+    public Future<List<FailedBatch>> batchWriteAsync(Iterable<? extends Object> objectsToWrite,
+                                                     Iterable<? extends Object> objectsToDelete) {
+        return batchWriteAsync(objectsToWrite, objectsToDelete, this.config);
+    }
+
+    @Override
+    public Future<List<FailedBatch>> batchWriteAsync(Iterable<? extends Object> objectsToWrite,
+                                                     Iterable<? extends Object> objectsToDelete,
+                                                     DynamoDBMapperConfig config) {
+        final DynamoDBMapperConfig finalConfig = mergeConfig(config);
+
+        BatchWriteConcurrency concurrency = finalConfig.getBatchWriteConcurrency();
+        if (concurrency == null) {
+            concurrency = BatchWriteConcurrency.DEFAULT;
+        }
+
+        // One thread coordinates, the others send the batches
+        final List<ValueUpdate> inMemoryUpdates = new LinkedList<ValueUpdate>();
+        final ParallelBatchWriteTask task = new ParallelBatchWriteTask(
+                db,
+                new PendingWriteIterator(objectsToWrite, objectsToDelete, finalConfig, inMemoryUpdates),
+                finalConfig.getBatchWriteRetryStrategy(),
+                concurrency,
+                BATCH_EXECUTOR);
+
+        return BATCH_EXECUTOR.submit(new Callable<List<FailedBatch>>() {
+            @Override
+            public List<FailedBatch> call() throws Exception {
+                List<FailedBatch> failedBatches = task.call();
+
+                // Once the entire batch is processed, update assigned keys in memory
+                for ( ValueUpdate update : inMemoryUpdates ) {
+                    update.apply();
+                }
+                return failedBatches;
+            }
+        });
+    }
+
+    /**
+     * Converts the object given to a put request for the given table, adding
+     * the in-memory updates for any auto-generated attributes to the given
+     * list.
+     */
+    private WriteRequest toPutWriteRequest(
+            Object toWrite,
+            String tableName,
+            DynamoDBMapperConfig config,
+            List<ValueUpdate> inMemoryUpdates) {
+
+        Class<Object> clazz = (Class<Object>)toWrite.getClass();
+
+        Map<String, AttributeValue> attributeValues = new HashMap<String, AttributeValue>();
+
+        // Look at every getter and construct a value object for it
+        final DynamoDBMapperTableModel<Object> model = getTableModel(clazz, config);
+        for ( final DynamoDBMapperFieldModel<Object,Object> field : model.fields() ) {
+            AttributeValue currentValue = null;
+            if ( canGenerate(model, toWrite, config.getSaveBehavior(), field) && !field.versioned() ) {
+                currentValue = field.convert(field.generate(field.get(toWrite)));
+                inMemoryUpdates.add(new ValueUpdate(field, currentValue, toWrite));
+            } else {
+                currentValue = field.convert(field.get(toWrite));
+            }
+            if ( currentValue != null ) {
+                attributeValues.put(field.name(), currentValue);
+            }
+        }
+
+        AttributeTransformer.Parameters<?> parameters =
+            toParameters(attributeValues, clazz, tableName, config);
+
+        return new WriteRequest().withPutRequest(
+                new PutRequest().withItem(
+                    transformAttributes(parameters)));
+    }
+
+    /**
+     * Converts the object given to a delete request for its key.
+     */
+    private WriteRequest toDeleteWriteRequest(Object toDelete, DynamoDBMapperConfig config) {
+        Class<Object> clazz = (Class<Object>)toDelete.getClass();
+        final DynamoDBMapperTableModel<Object> model = getTableModel(clazz, config);
+
+        Map<String, AttributeValue> key = model.convertKey(toDelete);
+
+        return new WriteRequest().withDeleteRequest(new DeleteRequest().withKey(key));
+    }
+
+    /**
+     * Lazily converts the objects to write, then the objects to delete, to
+     * write requests as the {@link ParallelBatchWriteTask} asks for them.
+     */
+    private final class PendingWriteIterator implements Iterator<ParallelBatchWriteTask.PendingWrite> {
+        private final Iterator<? extends Object> objectsToWrite;
+        private final Iterator<? extends Object> objectsToDelete;
+        private final DynamoDBMapperConfig config;
+        private final List<ValueUpdate> inMemoryUpdates;
+
+        private PendingWriteIterator(
+                Iterable<? extends Object> objectsToWrite,
+                Iterable<? extends Object> objectsToDelete,
+                DynamoDBMapperConfig config,
+                List<ValueUpdate> inMemoryUpdates) {
+            this.objectsToWrite = objectsToWrite.iterator();
+            this.objectsToDelete = objectsToDelete.iterator();
+            this.config = config;
+            this.inMemoryUpdates = inMemoryUpdates;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return objectsToWrite.hasNext() || objectsToDelete.hasNext();
+        }
+
+        @Override
+        public ParallelBatchWriteTask.PendingWrite next() {
+            if ( objectsToWrite.hasNext() ) {
+                Object toWrite = objectsToWrite.next();
+                String tableName = getTableName(toWrite.getClass(), toWrite, config);
+                return new ParallelBatchWriteTask.PendingWrite(tableName,
+                        toPutWriteRequest(toWrite, tableName, config, inMemoryUpdates));
+            }
+            Object toDelete = objectsToDelete.next();
+            String tableName = getTableName(toDelete.getClass(), toDelete, config);
+            return new ParallelBatchWriteTask.PendingWrite(tableName, toDeleteWriteRequest(toDelete, config));
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     /**
      * Process one batch of requests(max 25). It will divide the batch if
      * receives request too large exception(the total size of the request is beyond 1M).
@@ -1426,6 +1557,53 @@ public class DynamoDBMapper extends AbstractDynamoDBMapper {
         return batchLoad(keys, config);
     }
 
+    @Override
+    public BatchLoadIterator batchLoadIterator(Iterable<? extends Object> itemsToGet, int maxConcurrency) {
+        return batchLoadIterator(itemsToGet, maxConcurrency, this.config);
+    }
+
+    @Override
+    public BatchLoadIterator batchLoadIterator(Iterable<? extends Object> itemsToGet, int maxConcurrency,
+                                               DynamoDBMapperConfig config) {
+        final DynamoDBMapperConfig finalConfig = mergeConfig(config);
+        final Iterator<? extends Object> keyObjects = itemsToGet.iterator();
+        final Map<String, Class<?>> classesByTableName = new ConcurrentHashMap<String, Class<?>>();
+
+        Iterator<BatchLoadIterator.PendingKey> keys = new Iterator<BatchLoadIterator.PendingKey>() {
+            @Override
+            public boolean hasNext() {
+                return keyObjects.hasNext();
+            }
+
+            @Override
+            public BatchLoadIterator.PendingKey next() {
+                Object keyObject = keyObjects.next();
+                Class<Object> clazz = (Class<Object>)keyObject.getClass();
+                final DynamoDBMapperTableModel<Object> model = getTableModel(clazz, finalConfig);
+
+                String tableName = getTableName(clazz, keyObject, finalConfig);
+                classesByTableName.put(tableName, clazz);
+                return new BatchLoadIterator.PendingKey(tableName, model.convertKey(keyObject));
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        BatchLoadIterator.ResultConverter converter = new BatchLoadIterator.ResultConverter() {
+            @Override
+            public Object convert(String tableName, Map<String, AttributeValue> item) {
+                AttributeTransformer.Parameters<?> parameters =
+                    toParameters(item, classesByTableName.get(tableName), tableName, finalConfig);
+                return privateMarshallIntoObject(parameters);
+            }
+        };
+
+        return new BatchLoadIterator(db, keys, converter, finalConfig, maxConcurrency, BATCH_EXECUTOR);
+    }
+
     /**
      * @param config never null
      */
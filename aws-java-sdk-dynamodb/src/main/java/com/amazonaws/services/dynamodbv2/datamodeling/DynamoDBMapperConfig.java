@@ -58,6 +58,7 @@ public class DynamoDBMapperConfig {
         private ConversionSchema conversionSchema;
         private BatchWriteRetryStrategy batchWriteRetryStrategy;
         private BatchLoadRetryStrategy batchLoadRetryStrategy;
+        private BatchWriteConcurrency batchWriteConcurrency;
 
         /**
          * Creates a new builder initialized with the {@link #DEFAULT} values.
@@ -73,6 +74,7 @@ public class DynamoDBMapperConfig {
             conversionSchema = DEFAULT.getConversionSchema();
             batchWriteRetryStrategy = DEFAULT.getBatchWriteRetryStrategy();
             batchLoadRetryStrategy = DEFAULT.getBatchLoadRetryStrategy();
+            batchWriteConcurrency = DEFAULT.getBatchWriteConcurrency();
         }
 
         /**
@@ -320,6 +322,29 @@ public class DynamoDBMapperConfig {
             return this;
         }
 
+        /**
+         * @return the currently-configured BatchWriteConcurrency
+         */
+        public BatchWriteConcurrency getBatchWriteConcurrency() {
+            return batchWriteConcurrency;
+        }
+
+        /**
+         * @param value the new BatchWriteConcurrency
+         */
+        public void setBatchWriteConcurrency(BatchWriteConcurrency value) {
+            this.batchWriteConcurrency = value;
+        }
+
+        /**
+         * @param value the new BatchWriteConcurrency
+         * @return this builder
+         */
+        public Builder withBatchWriteConcurrency(BatchWriteConcurrency value) {
+            setBatchWriteConcurrency(value);
+            return this;
+        }
+
         /**
          * Builds a new {@code DynamoDBMapperConfig} object.
          *
@@ -336,7 +361,8 @@ public class DynamoDBMapperConfig {
                     requestMetricCollector,
                     conversionSchema,
                     batchWriteRetryStrategy,
-                    batchLoadRetryStrategy);
+                    batchLoadRetryStrategy,
+                    batchWriteConcurrency);
         }
     }
 
@@ -753,6 +779,65 @@ public class DynamoDBMapperConfig {
 
     }
 
+    /**
+     * Controls how many BatchWriteItem requests
+     * {@link DynamoDBMapper#batchWriteAsync(Iterable, Iterable, DynamoDBMapperConfig)}
+     * keeps in flight at once.
+     * <p>
+     * The number of concurrent requests starts at {@code maxConcurrency} and
+     * is adjusted with additive-increase/multiplicative-decrease: every time a
+     * batch is throttled, or comes back with UnprocessedItems, the limit is
+     * halved (but never below one), and it then grows back by one for every
+     * window of batches written without throttling. The number of in-flight
+     * requests that contain items of any single table is additionally capped
+     * at {@code maxInflightPerTable}, so that one hot table cannot take all
+     * the capacity.
+     */
+    public static final class BatchWriteConcurrency {
+
+        /**
+         * Default setting: up to 8 concurrent requests, with no more than 8
+         * in flight per table.
+         */
+        public static final BatchWriteConcurrency DEFAULT = new BatchWriteConcurrency(8, 8);
+
+        private final int maxConcurrency;
+        private final int maxInflightPerTable;
+
+        /**
+         * @param maxConcurrency
+         *            the maximum number of concurrent BatchWriteItem requests
+         * @param maxInflightPerTable
+         *            the maximum number of concurrent BatchWriteItem requests
+         *            that contain items of the same table
+         */
+        public BatchWriteConcurrency(int maxConcurrency, int maxInflightPerTable) {
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("maxConcurrency must be at least 1");
+            }
+            if (maxInflightPerTable < 1) {
+                throw new IllegalArgumentException("maxInflightPerTable must be at least 1");
+            }
+            this.maxConcurrency = maxConcurrency;
+            this.maxInflightPerTable = maxInflightPerTable;
+        }
+
+        /**
+         * Returns the maximum number of concurrent BatchWriteItem requests.
+         */
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        /**
+         * Returns the maximum number of concurrent BatchWriteItem requests
+         * that contain items of the same table.
+         */
+        public int getMaxInflightPerTable() {
+            return maxInflightPerTable;
+        }
+    }
+
     private final SaveBehavior saveBehavior;
     private final ConsistentReads consistentReads;
     private final TableNameOverride tableNameOverride;
@@ -763,6 +848,7 @@ public class DynamoDBMapperConfig {
     private final ConversionSchema conversionSchema;
     private final BatchWriteRetryStrategy batchWriteRetryStrategy;
     private final BatchLoadRetryStrategy batchLoadRetryStrategy;
+    private final BatchWriteConcurrency batchWriteConcurrency;
 
     /**
      * Legacy constructor, using default PaginationLoadingStrategy
@@ -834,7 +920,7 @@ public class DynamoDBMapperConfig {
                 requestMetricCollector,
                 ConversionSchemas.DEFAULT,
                 new DefaultBatchWriteRetryStrategy(),
-                new DefaultBatchLoadRetryStrategy());
+                new DefaultBatchLoadRetryStrategy(), null);
     }
 
     private DynamoDBMapperConfig(
@@ -847,7 +933,8 @@ public class DynamoDBMapperConfig {
             RequestMetricCollector requestMetricCollector,
             ConversionSchema conversionSchema,
             BatchWriteRetryStrategy batchWriteRetryStrategy,
-            BatchLoadRetryStrategy batchLoadRetryStrategy) {
+            BatchLoadRetryStrategy batchLoadRetryStrategy,
+            BatchWriteConcurrency batchWriteConcurrency) {
 
         this.saveBehavior = saveBehavior;
         this.consistentReads = consistentReads;
@@ -859,6 +946,7 @@ public class DynamoDBMapperConfig {
         this.conversionSchema = conversionSchema;
         this.batchWriteRetryStrategy = batchWriteRetryStrategy;
         this.batchLoadRetryStrategy = batchLoadRetryStrategy;
+        this.batchWriteConcurrency = batchWriteConcurrency;
     }
 
     /**
@@ -866,7 +954,7 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(SaveBehavior saveBehavior) {
         this(saveBehavior, null, null, null, null, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(), null);
     }
 
     /**
@@ -875,7 +963,7 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(ConsistentReads consistentReads) {
         this(null, consistentReads, null, null, null, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(), null);
     }
 
     /**
@@ -883,7 +971,7 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(TableNameOverride tableNameOverride) {
         this(null, null, tableNameOverride, null, null, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(), null);
     }
 
     /**
@@ -891,7 +979,7 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(TableNameResolver tableNameResolver) {
         this(null, null, null, tableNameResolver, null, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(), null);
     }
 
     /**
@@ -899,7 +987,7 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(ObjectTableNameResolver objectTableNameResolver) {
         this(null, null, null, null, objectTableNameResolver, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(), null);
     }
 
     /**
@@ -907,7 +995,7 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(TableNameResolver tableNameResolver, ObjectTableNameResolver objectTableNameResolver) {
         this(null, null, null, tableNameResolver, objectTableNameResolver, null, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(), null);
     }
 
     /**
@@ -918,14 +1006,14 @@ public class DynamoDBMapperConfig {
             PaginationLoadingStrategy paginationLoadingStrategy) {
 
         this(null, null, null, null, null, paginationLoadingStrategy, null,
-                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+                ConversionSchemas.DEFAULT, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(), null);
     }
 
     /**
      * Constructs a new configuration object with the conversion schema given.
      */
     public DynamoDBMapperConfig(ConversionSchema conversionSchema) {
-        this(null, null, null, null, null, null, null, conversionSchema, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy());
+        this(null, null, null, null, null, null, null, conversionSchema, new DefaultBatchWriteRetryStrategy(), new DefaultBatchLoadRetryStrategy(), null);
     }
 
     /**
@@ -959,6 +1047,7 @@ public class DynamoDBMapperConfig {
             this.conversionSchema = defaults.getConversionSchema();
             this.batchWriteRetryStrategy = defaults.getBatchWriteRetryStrategy();
             this.batchLoadRetryStrategy = defaults.getBatchLoadRetryStrategy();
+            this.batchWriteConcurrency = defaults.getBatchWriteConcurrency();
 
         } else {
 
@@ -1004,6 +1093,10 @@ public class DynamoDBMapperConfig {
                             ? defaults.getBatchLoadRetryStrategy()
                             : overrides.getBatchLoadRetryStrategy();
 
+            this.batchWriteConcurrency = (overrides.getBatchWriteConcurrency() == null)
+                    ? defaults.getBatchWriteConcurrency()
+                    : overrides.getBatchWriteConcurrency();
+
         }
     }
 
@@ -1102,6 +1195,13 @@ public class DynamoDBMapperConfig {
         return batchWriteRetryStrategy;
     }
 
+    /**
+     * @return the BatchWriteConcurrency for this config object
+     */
+    public BatchWriteConcurrency getBatchWriteConcurrency() {
+        return batchWriteConcurrency;
+    }
+
     /**
      * Default configuration uses UPDATE behavior for saves and eventually
      * consistent reads, with no table name override and lazy-loading strategy.
@@ -1116,5 +1216,6 @@ public class DynamoDBMapperConfig {
             null,  // RequestMetricCollector
             ConversionSchemas.DEFAULT,
             new DefaultBatchWriteRetryStrategy(),
-            new DefaultBatchLoadRetryStrategy());
+            new DefaultBatchLoadRetryStrategy(),
+            BatchWriteConcurrency.DEFAULT);
 }
@@ -16,6 +16,7 @@ package com.amazonaws.services.dynamodbv2.datamodeling;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
@@ -321,6 +322,59 @@ public interface IDynamoDBMapper {
                                  Iterable<? extends Object> objectsToDelete,
                                  DynamoDBMapperConfig config);
 
+    /**
+     * Saves and deletes the objects given using many concurrent calls to the
+     * {@link AmazonDynamoDB#batchWriteItem(BatchWriteItemRequest)} API, with the mapper's
+     * default config.
+     *
+     * @see DynamoDBMapper#batchWriteAsync(Iterable, Iterable, DynamoDBMapperConfig)
+     */
+    Future<List<FailedBatch>> batchWriteAsync(Iterable<? extends Object> objectsToWrite,
+                                              Iterable<? extends Object> objectsToDelete);
+
+    /**
+     * Saves and deletes the objects given using many concurrent calls to the
+     * {@link AmazonDynamoDB#batchWriteItem(BatchWriteItemRequest)} API, and returns
+     * immediately. This is the same operation as
+     * {@link #batchWrite(Iterable, Iterable, DynamoDBMapperConfig)}, meant for writing large
+     * numbers of objects.
+     * <p>
+     * The objects are converted to write requests as they are needed, on a background thread,
+     * so the two iterables must not be modified until the returned future completes. Up to
+     * {@link DynamoDBMapperConfig#getBatchWriteConcurrency()} batches are sent concurrently;
+     * UnprocessedItems and throttled batches are sent again with the following batches, and
+     * throttling reduces the number of concurrent batches until the table keeps up. The
+     * batches of all mappers are sent by a shared pool of daemon threads, which need not be
+     * shut down.
+     * </p>
+     * <p>
+     * Writes are not ordered per item: batches are sent concurrently, and items that come back
+     * unprocessed or throttled are sent again ahead of the pending writes, so they may overtake
+     * or be overtaken by later writes of the same item. Each item should therefore be written or
+     * deleted at most once per call.
+     * </p>
+     *
+     * @param objectsToWrite
+     *            A list of objects to save to DynamoDB. <b>No version checks are performed</b>, as
+     *            required by the {@link AmazonDynamoDB#batchWriteItem(BatchWriteItemRequest)} API.
+     * @param objectsToDelete
+     *            A list of objects to delete from DynamoDB. <b>No version checks are performed</b>,
+     *            as required by the {@link AmazonDynamoDB#batchWriteItem(BatchWriteItemRequest)}
+     *            API.
+     * @param config
+     *            Only {@link DynamoDBMapperConfig#getTableNameOverride()},
+     *            {@link DynamoDBMapperConfig#getBatchWriteRetryStrategy()} and
+     *            {@link DynamoDBMapperConfig#getBatchWriteConcurrency()} are considered. As for
+     *            {@link #batchWrite(Iterable, Iterable, DynamoDBMapperConfig)}, this method
+     *            <b>always acts as if SaveBehavior.CLOBBER was specified</b>.
+     * @return A future of the list of failed batches which include the unprocessed items and the
+     *         exceptions causing the failure.
+     * @see DynamoDBMapperConfig#getBatchWriteConcurrency()
+     */
+    Future<List<FailedBatch>> batchWriteAsync(Iterable<? extends Object> objectsToWrite,
+                                              Iterable<? extends Object> objectsToDelete,
+                                              DynamoDBMapperConfig config);
+
     /**
      * Retrieves multiple items from multiple tables using their primary keys.
      *
@@ -378,6 +432,42 @@ public interface IDynamoDBMapper {
      */
     Map<String, List<Object>> batchLoad(Map<Class<?>, List<KeyPair>> itemsToGet, DynamoDBMapperConfig config);
 
+    /**
+     * Loads the items with the given primary keys through an iterator, using the mapper's
+     * default config.
+     *
+     * @see DynamoDBMapper#batchLoadIterator(Iterable, int, DynamoDBMapperConfig)
+     */
+    BatchLoadIterator batchLoadIterator(Iterable<? extends Object> itemsToGet, int maxConcurrency);
+
+    /**
+     * Loads the items with the given primary keys through an iterator, for key sets too large to
+     * load at once with {@link #batchLoad(Iterable, DynamoDBMapperConfig)}. Keys are read from
+     * {@code itemsToGet} as the returned iterator is consumed, and up to {@code maxConcurrency}
+     * {@link AmazonDynamoDB#batchGetItem(BatchGetItemRequest)} requests are kept in flight. The
+     * loaded objects are returned in no particular order; items that do not exist are skipped.
+     * <p>
+     * Callers that stop before the iterator is exhausted must close it, to cancel the
+     * requests in flight. The requests are sent by a pool of daemon threads shared with the other
+     * batch operations, which need not be shut down.
+     * </p>
+     *
+     * @param itemsToGet
+     *            Key objects, corresponding to the class to fetch, with their primary key values
+     *            set. May be arbitrarily large.
+     * @param maxConcurrency
+     *            The maximum number of concurrent BatchGetItem requests.
+     * @param config
+     *            Only {@link DynamoDBMapperConfig#getTableNameOverride()},
+     *            {@link DynamoDBMapperConfig#getConsistentReads()} and
+     *            {@link DynamoDBMapperConfig#getBatchLoadRetryStrategy()} are considered.
+     * @return An iterator over the loaded objects. Each object can be cast to the user defined
+     *         type of its key object.
+     * @see BatchLoadIterator
+     */
+    BatchLoadIterator batchLoadIterator(Iterable<? extends Object> itemsToGet, int maxConcurrency,
+                                        DynamoDBMapperConfig config);
+
     /**
      * Scans through an Amazon DynamoDB table and returns the matching results as an unmodifiable
      * list of instantiated objects, using the default configuration.
@@ -0,0 +1,449 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteConcurrency;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteRetryStrategy;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+
+/**
+ * Writes a stream of write requests with many concurrent BatchWriteItem
+ * calls. The task itself is the single coordinator: it pulls write requests
+ * from the source only as fast as they can be sent, packs them into batches
+ * of up to {@link DynamoDBMapper#MAX_ITEMS_PER_BATCH} items and hands every
+ * batch to the executor, so the coordinator never blocks on a request.
+ * <p>
+ * UnprocessedItems and throttled batches are put back at the head of their
+ * table's queue and go out with the next batches rather than being retried in
+ * place, and every throttling signal halves the concurrency limit and delays
+ * further dispatching as per the {@link BatchWriteRetryStrategy}. The limit
+ * then grows back additively as batches succeed, see
+ * {@link BatchWriteConcurrency}. Writes of the same item are therefore not
+ * kept in order; callers are expected to write each item at most once.
+ */
+class ParallelBatchWriteTask implements Callable<List<FailedBatch>> {
+
+    private static final Log log = LogFactory.getLog(ParallelBatchWriteTask.class);
+
+    private final AmazonDynamoDB db;
+    private final Iterator<PendingWrite> source;
+    private final BatchWriteRetryStrategy retryStrategy;
+    private final int maxConcurrency;
+    private final int maxInflightPerTable;
+    private final CompletionService<BatchOutcome> completionService;
+
+    /**
+     * Write requests waiting to be sent, by table. Tables are rotated to the
+     * end of the map whenever a batch takes items from them, so that all
+     * tables get a fair share of the batches.
+     */
+    private final LinkedHashMap<String, LinkedList<PendingWrite>> pendingWrites =
+            new LinkedHashMap<String, LinkedList<PendingWrite>>();
+
+    /** Halves of batches that were too large, sent ahead of pending writes. */
+    private final LinkedList<Batch> splitBatches = new LinkedList<Batch>();
+
+    private final Map<String, Integer> inflightPerTable = new HashMap<String, Integer>();
+    private final Set<Future<BatchOutcome>> inflightFutures = new HashSet<Future<BatchOutcome>>();
+    private final List<FailedBatch> failedBatches = new LinkedList<FailedBatch>();
+
+    private int pendingCount;
+    private int concurrencyLimit;
+    private int successesSinceIncrease;
+    private long nextSequence;
+    private long lastDecreaseSequence;
+    private long resumeDispatchAt;
+
+    ParallelBatchWriteTask(AmazonDynamoDB db,
+                           Iterator<PendingWrite> source,
+                           BatchWriteRetryStrategy retryStrategy,
+                           BatchWriteConcurrency concurrency,
+                           ExecutorService executorService) {
+        this.db = db;
+        this.source = source;
+        this.retryStrategy = retryStrategy;
+        this.maxConcurrency = concurrency.getMaxConcurrency();
+        this.maxInflightPerTable = concurrency.getMaxInflightPerTable();
+        this.completionService = new ExecutorCompletionService<BatchOutcome>(executorService);
+        this.concurrencyLimit = maxConcurrency;
+    }
+
+    @Override
+    public List<FailedBatch> call() throws InterruptedException {
+        try {
+            while (true) {
+                fillPendingWrites();
+                dispatchBatches();
+
+                if (inflightFutures.isEmpty()) {
+                    if (pendingCount == 0 && splitBatches.isEmpty()) {
+                        return failedBatches;
+                    }
+                    long delay = resumeDispatchAt - System.currentTimeMillis();
+                    if (delay > 0) {
+                        Thread.sleep(delay);
+                    }
+                    continue;
+                }
+
+                Future<BatchOutcome> completed;
+                long delay = resumeDispatchAt - System.currentTimeMillis();
+                if (delay > 0) {
+                    completed = completionService.poll(delay, TimeUnit.MILLISECONDS);
+                } else {
+                    completed = completionService.take();
+                }
+                if (completed != null) {
+                    inflightFutures.remove(completed);
+                    onBatchCompleted(getOutcome(completed));
+                }
+            }
+        } finally {
+            for (Future<BatchOutcome> future : inflightFutures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Pulls write requests from the source until there are enough to keep
+     * every allowed request busy for two rounds.
+     */
+    private void fillPendingWrites() {
+        final int target = 2 * maxConcurrency * DynamoDBMapper.MAX_ITEMS_PER_BATCH;
+        while (pendingCount < target && source.hasNext()) {
+            addPendingWrite(source.next(), false);
+        }
+    }
+
+    private void addPendingWrite(PendingWrite write, boolean first) {
+        LinkedList<PendingWrite> writes = pendingWrites.get(write.tableName);
+        if (writes == null) {
+            writes = new LinkedList<PendingWrite>();
+            pendingWrites.put(write.tableName, writes);
+        }
+        if (first) {
+            writes.addFirst(write);
+        } else {
+            writes.addLast(write);
+        }
+        pendingCount++;
+    }
+
+    private void dispatchBatches() {
+        if (System.currentTimeMillis() < resumeDispatchAt) {
+            return;
+        }
+        while (inflightFutures.size() < concurrencyLimit) {
+            Batch batch = nextSplitBatch();
+            if (batch == null) {
+                batch = nextBatch();
+            }
+            if (batch == null) {
+                return;
+            }
+            batch.sequence = nextSequence++;
+            for (String tableName : batch.writes.keySet()) {
+                Integer inflight = inflightPerTable.get(tableName);
+                inflightPerTable.put(tableName, inflight == null ? 1 : inflight + 1);
+            }
+            inflightFutures.add(completionService.submit(new BatchWriteCallable(batch)));
+        }
+    }
+
+    private Batch nextSplitBatch() {
+        for (Iterator<Batch> it = splitBatches.iterator(); it.hasNext();) {
+            Batch batch = it.next();
+            if (canDispatch(batch.writes.keySet())) {
+                it.remove();
+                return batch;
+            }
+        }
+        return null;
+    }
+
+    private boolean canDispatch(Set<String> tableNames) {
+        for (String tableName : tableNames) {
+            if (!canDispatch(tableName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean canDispatch(String tableName) {
+        Integer inflight = inflightPerTable.get(tableName);
+        return inflight == null || inflight < maxInflightPerTable;
+    }
+
+    /**
+     * Packs up to {@link DynamoDBMapper#MAX_ITEMS_PER_BATCH} pending write
+     * requests of the tables that are under their in-flight limit into one
+     * batch; or returns null if there is nothing to send.
+     */
+    private Batch nextBatch() {
+        Batch batch = null;
+        Iterator<Map.Entry<String, LinkedList<PendingWrite>>> tableIter =
+                pendingWrites.entrySet().iterator();
+
+        while (tableIter.hasNext() && (batch == null || batch.size < DynamoDBMapper.MAX_ITEMS_PER_BATCH)) {
+            Map.Entry<String, LinkedList<PendingWrite>> entry = tableIter.next();
+            if (!canDispatch(entry.getKey())) {
+                continue;
+            }
+            if (batch == null) {
+                batch = new Batch();
+            }
+            LinkedList<PendingWrite> writes = entry.getValue();
+            while (!writes.isEmpty() && batch.size < DynamoDBMapper.MAX_ITEMS_PER_BATCH) {
+                batch.add(writes.removeFirst());
+                pendingCount--;
+            }
+            tableIter.remove();
+            if (!writes.isEmpty()) {
+                // Rotate the table to the back of the queue
+                pendingWrites.put(entry.getKey(), writes);
+                break;
+            }
+        }
+        return batch;
+    }
+
+    private void onBatchCompleted(BatchOutcome outcome) {
+        final Batch batch = outcome.batch;
+        for (String tableName : batch.writes.keySet()) {
+            inflightPerTable.put(tableName, inflightPerTable.get(tableName) - 1);
+        }
+
+        if (outcome.exception == null) {
+            Map<String, List<WriteRequest>> unprocessedItems = outcome.result.getUnprocessedItems();
+            if (unprocessedItems == null || unprocessedItems.isEmpty()) {
+                onSuccess();
+            } else {
+                onThrottled(batch, unprocessedItems);
+                retry(batch, unprocessedItems, null);
+            }
+            return;
+        }
+
+        if (outcome.exception instanceof AmazonServiceException) {
+            AmazonServiceException ase = (AmazonServiceException) outcome.exception;
+            if (RetryUtils.isRequestEntityTooLargeException(ase) && batch.size > 1) {
+                // Like the sequential batchWrite, divide the batch in two
+                // halves; unlike it, send both halves concurrently.
+                splitBatches.addAll(batch.divide());
+                return;
+            }
+            if (RetryUtils.isThrottlingException(ase)) {
+                Map<String, List<WriteRequest>> items = batch.toRequestItems();
+                onThrottled(batch, items);
+                retry(batch, items, ase);
+                return;
+            }
+        }
+        failedBatches.add(newFailedBatch(batch.toRequestItems(), outcome.exception));
+    }
+
+    /**
+     * Additive increase: raise the concurrency limit by one every time a
+     * window of as many batches as the current limit succeeds.
+     */
+    private void onSuccess() {
+        if (concurrencyLimit < maxConcurrency && ++successesSinceIncrease >= concurrencyLimit) {
+            concurrencyLimit++;
+            successesSinceIncrease = 0;
+        }
+    }
+
+    /**
+     * Multiplicative decrease: halve the concurrency limit and hold off the
+     * next batches. Batches that were already in flight when the limit was
+     * last decreased were sent under the old limit, so their throttling does
+     * not decrease it again.
+     */
+    private void onThrottled(Batch batch, Map<String, List<WriteRequest>> throttledItems) {
+        if (batch.sequence >= lastDecreaseSequence) {
+            concurrencyLimit = Math.max(1, concurrencyLimit / 2);
+            successesSinceIncrease = 0;
+            lastDecreaseSequence = nextSequence;
+            if (log.isDebugEnabled()) {
+                log.debug("BatchWriteItem throttled, reducing concurrency to " + concurrencyLimit);
+            }
+        }
+        long delay = retryStrategy.getDelayBeforeRetryUnprocessedItems(
+                Collections.unmodifiableMap(throttledItems), batch.retries);
+        resumeDispatchAt = Math.max(resumeDispatchAt, System.currentTimeMillis() + delay);
+    }
+
+    /**
+     * Puts the given items back at the head of their table queues, or fails
+     * them if the batch has used up its retries.
+     */
+    private void retry(Batch batch, Map<String, List<WriteRequest>> items, Exception exception) {
+        int maxRetries = retryStrategy.getMaxRetryOnUnprocessedItems(
+                Collections.unmodifiableMap(batch.toRequestItems()));
+        if (maxRetries >= 0 && batch.retries >= maxRetries) {
+            failedBatches.add(newFailedBatch(items, exception));
+            return;
+        }
+        for (Map.Entry<String, List<WriteRequest>> entry : items.entrySet()) {
+            List<WriteRequest> requests = entry.getValue();
+            for (int i = requests.size() - 1; i >= 0; i--) {
+                addPendingWrite(new PendingWrite(entry.getKey(), requests.get(i), batch.retries + 1), true);
+            }
+        }
+    }
+
+    private static FailedBatch newFailedBatch(Map<String, List<WriteRequest>> items, Exception exception) {
+        FailedBatch failedBatch = new FailedBatch();
+        failedBatch.setUnprocessedItems(items);
+        failedBatch.setException(exception);
+        return failedBatch;
+    }
+
+    private static BatchOutcome getOutcome(Future<BatchOutcome> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            // BatchWriteCallable catches everything it can recover from
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * A write request waiting to be sent, with the number of times it has
+     * already been sent and came back unprocessed or throttled.
+     */
+    static final class PendingWrite {
+        private final String tableName;
+        private final WriteRequest writeRequest;
+        private final int retries;
+
+        PendingWrite(String tableName, WriteRequest writeRequest) {
+            this(tableName, writeRequest, 0);
+        }
+
+        private PendingWrite(String tableName, WriteRequest writeRequest, int retries) {
+            this.tableName = tableName;
+            this.writeRequest = writeRequest;
+            this.retries = retries;
+        }
+    }
+
+    private static final class Batch {
+        private final Map<String, List<PendingWrite>> writes = new LinkedHashMap<String, List<PendingWrite>>();
+        private int size;
+        private int retries;
+        private long sequence;
+
+        private void add(PendingWrite write) {
+            List<PendingWrite> tableWrites = writes.get(write.tableName);
+            if (tableWrites == null) {
+                tableWrites = new ArrayList<PendingWrite>();
+                writes.put(write.tableName, tableWrites);
+            }
+            tableWrites.add(write);
+            retries = Math.max(retries, write.retries);
+            size++;
+        }
+
+        private List<Batch> divide() {
+            Batch firstHalf = new Batch();
+            Batch secondHalf = new Batch();
+            int i = 0;
+            for (List<PendingWrite> tableWrites : writes.values()) {
+                for (PendingWrite write : tableWrites) {
+                    (i++ < size / 2 ? firstHalf : secondHalf).add(write);
+                }
+            }
+            return Arrays.asList(firstHalf, secondHalf);
+        }
+
+        private Map<String, List<WriteRequest>> toRequestItems() {
+            Map<String, List<WriteRequest>> requestItems = new HashMap<String, List<WriteRequest>>();
+            for (Map.Entry<String, List<PendingWrite>> entry : writes.entrySet()) {
+                List<WriteRequest> requests = new ArrayList<WriteRequest>(entry.getValue().size());
+                for (PendingWrite write : entry.getValue()) {
+                    requests.add(write.writeRequest);
+                }
+                requestItems.put(entry.getKey(), requests);
+            }
+            return requestItems;
+        }
+    }
+
+    private static final class BatchOutcome {
+        private final Batch batch;
+        private final BatchWriteItemResult result;
+        private final Exception exception;
+
+        private BatchOutcome(Batch batch, BatchWriteItemResult result, Exception exception) {
+            this.batch = batch;
+            this.result = result;
+            this.exception = exception;
+        }
+    }
+
+    private final class BatchWriteCallable implements Callable<BatchOutcome> {
+        private final Batch batch;
+
+        private BatchWriteCallable(Batch batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public BatchOutcome call() {
+            try {
+                BatchWriteItemResult result = db.batchWriteItem(DynamoDBMapper.applyBatchOperationUserAgent(
+                        new BatchWriteItemRequest().withRequestItems(batch.toRequestItems())));
+                return new BatchOutcome(batch, result, null);
+            } catch (Exception e) {
+                return new BatchOutcome(batch, null, e);
+            }
+        }
+    }
+}
@@ -16,6 +16,8 @@ package com.amazonaws.services.dynamodbv2.datamodeling;
 
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperFieldModel.Reflect;
+import com.amazonaws.services.dynamodbv2.datamodeling.internal.PropertyAccessor;
+import com.amazonaws.services.dynamodbv2.datamodeling.internal.PropertyAccessorGenerator;
 
 import java.lang.reflect.Method;
 
@@ -34,7 +36,14 @@ final class StandardMethodReflects {
             final String name = "set" + getter.getName().replaceFirst("^(get|is)","");
             setter = getter.getDeclaringClass().getMethod(name, getter.getReturnType());
         } catch (final Exception no) {}
-        return new MethodReflect<T,V>(getter, setter);
+        final MethodReflect<T,V> reflect = new MethodReflect<T,V>(getter, setter);
+        if (PropertyAccessorGenerator.isEnabled()) {
+            final PropertyAccessor accessor = PropertyAccessorGenerator.generate(getter, setter);
+            if (accessor != null) {
+                return new AccessorReflect<T,V>(accessor, reflect);
+            }
+        }
+        return reflect;
     }
 
     /**
@@ -84,6 +93,55 @@ final class StandardMethodReflects {
         }
     }
 
+    /**
+     * Get/set operations through a generated accessor. Falls back to
+     * reflection if the JVM refuses to link the generated code.
+     */
+    static final class AccessorReflect<T,V> implements Reflect<T,V> {
+        private final PropertyAccessor accessor;
+        private final MethodReflect<T,V> reflect;
+
+        /**
+         * Constructs the generated accessor reflector.
+         */
+        private AccessorReflect(final PropertyAccessor accessor, final MethodReflect<T,V> reflect) {
+            this.accessor = accessor;
+            this.reflect = reflect;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public V get(final T object) {
+            try {
+                return (V)accessor.get(object);
+            } catch (final LinkageError e) {
+                return reflect.get(object);
+            } catch (final RuntimeException e) {
+                throw new DynamoDBMappingException("could not invoke " + reflect.getter + " on " + object.getClass(), e);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void set(final T object, final V value) {
+            if (reflect.setter == null) {
+                reflect.set(object, value);
+                return;
+            }
+            try {
+                accessor.set(object, value);
+            } catch (final LinkageError e) {
+                reflect.set(object, value);
+            } catch (final RuntimeException e) {
+                throw new DynamoDBMappingException("could not invoke " + reflect.setter + " on " + object.getClass(), e);
+            }
+        }
+    }
+
     /**
      * Get/set reflection operations with a declaring property.
      */
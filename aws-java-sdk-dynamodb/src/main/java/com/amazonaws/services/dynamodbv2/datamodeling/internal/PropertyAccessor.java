@@ -0,0 +1,37 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling.internal;
+
+import com.amazonaws.annotation.SdkInternalApi;
+
+/**
+ * Reads and writes one bean property. Implementations are generated at
+ * runtime by {@link PropertyAccessorGenerator}; this interface is public only
+ * so that the generated classes, which live in their own class loader, can
+ * implement it.
+ */
+@SdkInternalApi
+public interface PropertyAccessor {
+
+    /**
+     * Invokes the getter on the given object, boxing primitive values.
+     */
+    Object get(Object object);
+
+    /**
+     * Invokes the setter on the given object, unboxing primitive values.
+     */
+    void set(Object object, Object value);
+}
@@ -0,0 +1,441 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.annotation.SdkInternalApi;
+
+/**
+ * Generates {@link PropertyAccessor} classes that call a bean's getter and
+ * setter directly, instead of through {@link Method#invoke}. Each generated
+ * class holds two straight-line methods equivalent to
+ *
+ * <pre>
+ * public Object get(Object o) { return Integer.valueOf(((Bean) o).getValue()); }
+ * public void set(Object o, Object v) { ((Bean) o).setValue(((Integer) v).intValue()); }
+ * </pre>
+ *
+ * which the JIT can inline into the mapper, removing both the reflective call
+ * and the argument array allocation of every property access.
+ * <p>
+ * The classes are written in the Java 5 class file format, which needs no
+ * stack map frames, and are defined in a small class loader whose parent is
+ * the bean's class loader. Since they live in their own runtime package,
+ * only public methods of public classes, with public parameter and return
+ * types, can be accessed this way; for any other property, or if class
+ * generation fails for any reason (for example under a restrictive security
+ * manager), {@link #generate} returns null and the caller keeps using
+ * reflection.
+ * <p>
+ * Generation is off by default; set the
+ * {@value #ENABLE_GENERATED_ACCESSORS_PROPERTY} system property to
+ * {@code true} to turn it on for the table models built afterwards.
+ */
+@SdkInternalApi
+public final class PropertyAccessorGenerator {
+
+    /**
+     * System property that turns on generated property accessors for the
+     * {@code DynamoDBMapper}.
+     */
+    public static final String ENABLE_GENERATED_ACCESSORS_PROPERTY =
+            "com.amazonaws.services.dynamodbv2.datamodeling.enableGeneratedAccessors";
+
+    private static final Log log = LogFactory.getLog(PropertyAccessorGenerator.class);
+
+    private static final String ACCESSOR_NAME = PropertyAccessor.class.getName().replace('.', '/');
+    private static final String OBJECT_NAME = "java/lang/Object";
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private static final int CLASS_VERSION_JAVA_5 = 49;
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ALOAD_2 = 0x2c;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int INVOKEINTERFACE = 0xb9;
+    private static final int CHECKCAST = 0xc0;
+
+    private PropertyAccessorGenerator() {
+    }
+
+    /**
+     * Returns true if generated accessors have been turned on with the
+     * {@value #ENABLE_GENERATED_ACCESSORS_PROPERTY} system property.
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty(ENABLE_GENERATED_ACCESSORS_PROPERTY));
+    }
+
+    /**
+     * Generates an accessor for the given getter and optional setter; or
+     * returns null if they cannot be called from generated code.
+     */
+    public static PropertyAccessor generate(final Method getter, final Method setter) {
+        final ClassLoader beanLoader = getter.getDeclaringClass().getClassLoader();
+        if (!isAccessible(getter, beanLoader) || (setter != null && !isAccessible(setter, beanLoader))) {
+            return null;
+        }
+        final String className = PropertyAccessorGenerator.class.getPackage().getName()
+                + ".GeneratedAccessor$" + COUNTER.incrementAndGet();
+        try {
+            final byte[] bytes = new ClassWriter(className.replace('.', '/'), getter, setter).toByteArray();
+            final AccessorClassLoader loader = new AccessorClassLoader(beanLoader);
+            return (PropertyAccessor) loader.define(className, bytes).newInstance();
+        } catch (final Throwable t) {
+            if (log.isDebugEnabled()) {
+                log.debug("Unable to generate an accessor for " + getter + ", using reflection", t);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Returns true if generated code, loaded through the given loader, can
+     * call the method: the method, its declaring class and the types of its
+     * parameters and return value must all be public and resolve to the same
+     * classes from that loader. Otherwise the JVM only finds out on the first
+     * call, with an {@link IllegalAccessError}.
+     */
+    private static boolean isAccessible(final Method method, final ClassLoader loader) {
+        if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers())
+            || loader == null || !isVisible(method.getDeclaringClass(), loader)
+            || !isVisible(method.getReturnType(), loader)) {
+            return false;
+        }
+        for (final Class<?> parameterType : method.getParameterTypes()) {
+            if (!isVisible(parameterType, loader)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisible(Class<?> type, final ClassLoader loader) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        } else if (!Modifier.isPublic(type.getModifiers())) {
+            return false;
+        }
+        try {
+            return Class.forName(type.getName(), false, loader) == type;
+        } catch (final ClassNotFoundException e) {
+            return false;
+        } catch (final LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Class loader for one generated accessor. Resolves {@link PropertyAccessor}
+     * to the SDK's own copy and everything else through the bean's loader.
+     */
+    private static final class AccessorClassLoader extends ClassLoader {
+        private AccessorClassLoader(final ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected synchronized Class<?> loadClass(final String name, final boolean resolve)
+                throws ClassNotFoundException {
+            if (PropertyAccessor.class.getName().equals(name)) {
+                return PropertyAccessor.class;
+            }
+            return super.loadClass(name, resolve);
+        }
+
+        private Class<?> define(final String name, final byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Writes the class file of one accessor.
+     */
+    private static final class ClassWriter {
+        private final Map<String,Integer> constants = new HashMap<String,Integer>();
+        private final ByteArrayOutputStream pool = new ByteArrayOutputStream();
+        private final DataOutputStream poolOut = new DataOutputStream(pool);
+        private int poolCount = 1;
+
+        private final String className;
+        private final Method getter;
+        private final Method setter;
+
+        private ClassWriter(final String className, final Method getter, final Method setter) {
+            this.className = className;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        private byte[] toByteArray() throws IOException {
+            // Methods first, since they fill the constant pool
+            final ByteArrayOutputStream methods = new ByteArrayOutputStream();
+            final DataOutputStream methodsOut = new DataOutputStream(methods);
+            writeMethod(methodsOut, "<init>", "()V", constructorCode(), 1, 1);
+            writeMethod(methodsOut, "get", "(Ljava/lang/Object;)Ljava/lang/Object;", getCode(), 2, 2);
+            writeMethod(methodsOut, "set", "(Ljava/lang/Object;Ljava/lang/Object;)V", setCode(), 3, 3);
+            final int thisClass = classConstant(className);
+            final int superClass = classConstant(OBJECT_NAME);
+            final int accessorInterface = classConstant(ACCESSOR_NAME);
+
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(CLASS_VERSION_JAVA_5);
+            out.writeShort(poolCount);
+            pool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(1);
+            out.writeShort(accessorInterface);
+            out.writeShort(0); // fields
+            out.writeShort(3); // methods
+            methods.writeTo(out);
+            out.writeShort(0); // attributes
+            out.flush();
+            return bytes.toByteArray();
+        }
+
+        private byte[] constructorCode() throws IOException {
+            final Code code = new Code();
+            code.op(ALOAD_0);
+            code.op(INVOKESPECIAL).u2(methodConstant(OBJECT_NAME, "<init>", "()V", false));
+            code.op(RETURN);
+            return code.toByteArray();
+        }
+
+        private byte[] getCode() throws IOException {
+            final Class<?> type = getter.getReturnType();
+            final Code code = new Code();
+            code.op(ALOAD_1);
+            code.op(CHECKCAST).u2(classConstant(internalName(getter.getDeclaringClass())));
+            invoke(code, getter);
+            if (type.isPrimitive()) {
+                final Class<?> boxed = boxedType(type);
+                code.op(INVOKESTATIC).u2(methodConstant(internalName(boxed), "valueOf",
+                        "(" + descriptor(type) + ")" + descriptor(boxed), false));
+            }
+            code.op(ARETURN);
+            return code.toByteArray();
+        }
+
+        private byte[] setCode() throws IOException {
+            final Code code = new Code();
+            if (setter == null) {
+                // Never called: the caller falls back to reflection
+                code.op(RETURN);
+                return code.toByteArray();
+            }
+            final Class<?> type = setter.getParameterTypes()[0];
+            code.op(ALOAD_1);
+            code.op(CHECKCAST).u2(classConstant(internalName(setter.getDeclaringClass())));
+            code.op(ALOAD_2);
+            if (type.isPrimitive()) {
+                final Class<?> boxed = boxedType(type);
+                code.op(CHECKCAST).u2(classConstant(internalName(boxed)));
+                code.op(INVOKEVIRTUAL).u2(methodConstant(internalName(boxed), type.getName() + "Value",
+                        "()" + descriptor(type), false));
+            } else if (type != Object.class) {
+                code.op(CHECKCAST).u2(classConstant(internalName(type)));
+            }
+            invoke(code, setter);
+            code.op(RETURN);
+            return code.toByteArray();
+        }
+
+        private void invoke(final Code code, final Method method) throws IOException {
+            final Class<?> owner = method.getDeclaringClass();
+            final int index = methodConstant(internalName(owner), method.getName(), descriptor(method),
+                    owner.isInterface());
+            if (owner.isInterface()) {
+                int slots = 1;
+                for (final Class<?> parameterType : method.getParameterTypes()) {
+                    slots += (parameterType == long.class || parameterType == double.class) ? 2 : 1;
+                }
+                code.op(INVOKEINTERFACE).u2(index).op(slots).op(0);
+            } else {
+                code.op(INVOKEVIRTUAL).u2(index);
+            }
+        }
+
+        private void writeMethod(final DataOutputStream out, final String name, final String descriptor,
+                                 final byte[] code, final int maxStack, final int maxLocals) throws IOException {
+            out.writeShort(ACC_PUBLIC);
+            out.writeShort(utf8Constant(name));
+            out.writeShort(utf8Constant(descriptor));
+            out.writeShort(1);
+            out.writeShort(utf8Constant("Code"));
+            out.writeInt(12 + code.length);
+            // Wide values take two stack slots, hence the extra slot
+            out.writeShort(maxStack + 1);
+            out.writeShort(maxLocals);
+            out.writeInt(code.length);
+            out.write(code);
+            out.writeShort(0); // exception table
+            out.writeShort(0); // attributes
+        }
+
+        private int utf8Constant(final String value) throws IOException {
+            final String key = "U" + value;
+            Integer index = constants.get(key);
+            if (index == null) {
+                poolOut.writeByte(1);
+                poolOut.writeUTF(value);
+                index = poolCount++;
+                constants.put(key, index);
+            }
+            return index;
+        }
+
+        private int classConstant(final String internalName) throws IOException {
+            final String key = "C" + internalName;
+            Integer index = constants.get(key);
+            if (index == null) {
+                final int name = utf8Constant(internalName);
+                poolOut.writeByte(7);
+                poolOut.writeShort(name);
+                index = poolCount++;
+                constants.put(key, index);
+            }
+            return index;
+        }
+
+        private int methodConstant(final String owner, final String name, final String descriptor,
+                                   final boolean isInterface) throws IOException {
+            final String key = "M" + owner + "." + name + descriptor;
+            Integer index = constants.get(key);
+            if (index == null) {
+                final int ownerIndex = classConstant(owner);
+                final int nameIndex = utf8Constant(name);
+                final int descriptorIndex = utf8Constant(descriptor);
+                poolOut.writeByte(12);
+                poolOut.writeShort(nameIndex);
+                poolOut.writeShort(descriptorIndex);
+                final int nameAndType = poolCount++;
+                poolOut.writeByte(isInterface ? 11 : 10);
+                poolOut.writeShort(ownerIndex);
+                poolOut.writeShort(nameAndType);
+                index = poolCount++;
+                constants.put(key, index);
+            }
+            return index;
+        }
+    }
+
+    /**
+     * Bytecode buffer of one method.
+     */
+    private static final class Code {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        private Code op(final int opcode) {
+            bytes.write(opcode);
+            return this;
+        }
+
+        private Code u2(final int value) {
+            bytes.write((value >>> 8) & 0xff);
+            bytes.write(value & 0xff);
+            return this;
+        }
+
+        private byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+    }
+
+    private static String internalName(final Class<?> type) {
+        // Array classes are referenced by their descriptor
+        return type.isArray() ? descriptor(type) : type.getName().replace('.', '/');
+    }
+
+    private static String descriptor(final Method method) {
+        final StringBuilder descriptor = new StringBuilder("(");
+        for (final Class<?> parameterType : method.getParameterTypes()) {
+            descriptor.append(descriptor(parameterType));
+        }
+        return descriptor.append(')').append(descriptor(method.getReturnType())).toString();
+    }
+
+    private static String descriptor(final Class<?> type) {
+        if (type.isArray()) {
+            return type.getName().replace('.', '/');
+        } else if (type == int.class) {
+            return "I";
+        } else if (type == long.class) {
+            return "J";
+        } else if (type == boolean.class) {
+            return "Z";
+        } else if (type == double.class) {
+            return "D";
+        } else if (type == float.class) {
+            return "F";
+        } else if (type == short.class) {
+            return "S";
+        } else if (type == byte.class) {
+            return "B";
+        } else if (type == char.class) {
+            return "C";
+        } else if (type == void.class) {
+            return "V";
+        }
+        return "L" + type.getName().replace('.', '/') + ";";
+    }
+
+    private static Class<?> boxedType(final Class<?> type) {
+        if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else if (type == char.class) {
+            return Character.class;
+        }
+        throw new IllegalArgumentException("not a primitive type: " + type);
+    }
+}
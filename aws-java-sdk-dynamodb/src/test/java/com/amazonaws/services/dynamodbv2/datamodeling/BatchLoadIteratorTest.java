@@ -0,0 +1,217 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.dynamodbv2.AbstractAmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.BatchLoadIterator.PendingKey;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchLoadRetryStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.NoRetryBatchLoadRetryStrategy;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodbv2.model.KeysAndAttributes;
+
+public class BatchLoadIteratorTest {
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool();
+
+    private static final BatchLoadRetryStrategy RETRY_WITHOUT_DELAY = new BatchLoadRetryStrategy() {
+        @Override
+        public boolean shouldRetry(BatchLoadContext batchLoadContext) {
+            return batchLoadContext.getRetriesAttempted() < 5;
+        }
+
+        @Override
+        public long getDelayBeforeNextRetry(BatchLoadContext batchLoadContext) {
+            return 0;
+        }
+    };
+
+    private static final BatchLoadIterator.ResultConverter CONVERTER = new BatchLoadIterator.ResultConverter() {
+        @Override
+        public Object convert(String tableName, Map<String, AttributeValue> item) {
+            return item.get("hash").getS();
+        }
+    };
+
+    @AfterClass
+    public static void shutdownExecutor() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    public void allKeysAreLoaded() {
+        RecordingDynamoDB db = new RecordingDynamoDB();
+        BatchLoadIterator iterator = newIterator(db, keys(1000).iterator(), 4, RETRY_WITHOUT_DELAY);
+
+        Set<Object> loaded = drain(iterator);
+
+        assertEquals(1000, loaded.size());
+        assertEquals(10, db.requests.get());
+        assertTrue(db.maxKeysPerRequest.get() <= 100);
+    }
+
+    @Test
+    public void unprocessedKeysAreLoadedWithLaterRequests() {
+        RecordingDynamoDB db = new RecordingDynamoDB() {
+            @Override
+            protected boolean process(String key) {
+                // Every key comes back unprocessed the first time
+                return !attempted.add(key);
+            }
+        };
+        BatchLoadIterator iterator = newIterator(db, keys(250).iterator(), 4, RETRY_WITHOUT_DELAY);
+
+        assertEquals(250, drain(iterator).size());
+    }
+
+    @Test(expected = AmazonClientException.class)
+    public void batchWithNoProcessedKeysFailsWhenNotRetried() {
+        RecordingDynamoDB db = new RecordingDynamoDB() {
+            @Override
+            protected boolean process(String key) {
+                return false;
+            }
+        };
+        drain(newIterator(db, keys(10).iterator(), 4, new NoRetryBatchLoadRetryStrategy()));
+    }
+
+    @Test
+    public void keysAreReadOnlyAsObjectsAreConsumed() {
+        RecordingDynamoDB db = new RecordingDynamoDB();
+        final AtomicInteger keysRead = new AtomicInteger();
+        final Iterator<PendingKey> keys = keys(100000).iterator();
+        Iterator<PendingKey> countingKeys = new Iterator<PendingKey>() {
+            public boolean hasNext() {
+                return keys.hasNext();
+            }
+
+            public PendingKey next() {
+                keysRead.incrementAndGet();
+                return keys.next();
+            }
+
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        BatchLoadIterator iterator = newIterator(db, countingKeys, 4, RETRY_WITHOUT_DELAY);
+
+        for (int i = 0; i < 1000; i++) {
+            iterator.next();
+        }
+        assertTrue(keysRead.get() <= 1000 + 5 * 100);
+
+        iterator.close();
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void closeLeavesTheSharedExecutorRunning() throws Exception {
+        BatchLoadIterator iterator = newIterator(new RecordingDynamoDB(), keys(1000).iterator(), 4,
+                RETRY_WITHOUT_DELAY);
+        iterator.next();
+
+        iterator.close();
+
+        assertFalse(EXECUTOR.isShutdown());
+        assertEquals(1000, drain(newIterator(new RecordingDynamoDB(), keys(1000).iterator(), 4,
+                RETRY_WITHOUT_DELAY)).size());
+    }
+
+    private static BatchLoadIterator newIterator(RecordingDynamoDB db, Iterator<PendingKey> keys,
+                                                 int maxConcurrency, BatchLoadRetryStrategy retryStrategy) {
+        DynamoDBMapperConfig config = new DynamoDBMapperConfig.Builder()
+                .withBatchLoadRetryStrategy(retryStrategy)
+                .build();
+        return new BatchLoadIterator(db, keys, CONVERTER, config, maxConcurrency, EXECUTOR);
+    }
+
+    private static List<PendingKey> keys(int count) {
+        List<PendingKey> keys = new ArrayList<PendingKey>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add(new PendingKey("t1", Collections.singletonMap("hash", new AttributeValue("key-" + i))));
+        }
+        return keys;
+    }
+
+    private static Set<Object> drain(Iterator<Object> iterator) {
+        Set<Object> loaded = new HashSet<Object>();
+        while (iterator.hasNext()) {
+            assertTrue(loaded.add(iterator.next()));
+        }
+        return loaded;
+    }
+
+    private static class RecordingDynamoDB extends AbstractAmazonDynamoDB {
+        final Set<String> attempted = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        final AtomicInteger requests = new AtomicInteger();
+        final AtomicInteger maxKeysPerRequest = new AtomicInteger();
+
+        @Override
+        public BatchGetItemResult batchGetItem(BatchGetItemRequest request) {
+            requests.incrementAndGet();
+            Map<String, List<Map<String, AttributeValue>>> responses =
+                    new HashMap<String, List<Map<String, AttributeValue>>>();
+            Map<String, KeysAndAttributes> unprocessedKeys = new HashMap<String, KeysAndAttributes>();
+
+            for (Map.Entry<String, KeysAndAttributes> entry : request.getRequestItems().entrySet()) {
+                List<Map<String, AttributeValue>> items = new ArrayList<Map<String, AttributeValue>>();
+                List<Map<String, AttributeValue>> unprocessed = new ArrayList<Map<String, AttributeValue>>();
+                List<Map<String, AttributeValue>> keys = entry.getValue().getKeys();
+                synchronized (maxKeysPerRequest) {
+                    maxKeysPerRequest.set(Math.max(maxKeysPerRequest.get(), keys.size()));
+                }
+                for (Map<String, AttributeValue> key : keys) {
+                    if (process(key.get("hash").getS())) {
+                        items.add(key);
+                    } else {
+                        unprocessed.add(key);
+                    }
+                }
+                responses.put(entry.getKey(), items);
+                if (!unprocessed.isEmpty()) {
+                    unprocessedKeys.put(entry.getKey(), new KeysAndAttributes().withKeys(unprocessed));
+                }
+            }
+            return new BatchGetItemResult().withResponses(responses).withUnprocessedKeys(unprocessedKeys);
+        }
+
+        protected boolean process(String key) {
+            return true;
+        }
+    }
+}
@@ -132,6 +132,21 @@ public class BatchWriteRetryStrategyTest {
                 failedBatch.getException());
     }
 
+    @Test
+    public void testBatchWriteAsync_UnprocessedItemRetriedUpToMaxRetry() throws Exception {
+
+        expectBatchWriteItemReturnUnprocessedItems().times(MAX_RETRY + 1);
+
+        replay(ddbMock);
+        List<FailedBatch> failedBatches = mapper.batchWriteAsync(
+                Arrays.asList(new Item("foo")), Collections.emptyList()).get();
+        verify(ddbMock);
+
+        Assert.assertEquals(1, failedBatches.size());
+        Assert.assertEquals(unprocessedItems, failedBatches.get(0).getUnprocessedItems());
+        Assert.assertNull(failedBatches.get(0).getException());
+    }
+
     private IExpectationSetters<BatchWriteItemResult> expectBatchWriteItemSuccess() {
         return expect(ddbMock.batchWriteItem(isA(BatchWriteItemRequest.class)))
                 .andReturn(new BatchWriteItemResult()
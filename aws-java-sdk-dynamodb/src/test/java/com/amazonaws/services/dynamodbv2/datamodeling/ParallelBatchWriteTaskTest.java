@@ -0,0 +1,237 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.services.dynamodbv2.AbstractAmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapper.FailedBatch;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteConcurrency;
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperConfig.BatchWriteRetryStrategy;
+import com.amazonaws.services.dynamodbv2.datamodeling.ParallelBatchWriteTask.PendingWrite;
+import com.amazonaws.services.dynamodbv2.model.AttributeValue;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.PutRequest;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+
+public class ParallelBatchWriteTaskTest {
+
+    private static final BatchWriteRetryStrategy NO_DELAY = new BatchWriteRetryStrategy() {
+        @Override
+        public int getMaxRetryOnUnprocessedItems(Map<String, List<WriteRequest>> batchWriteItemInput) {
+            return 3;
+        }
+
+        @Override
+        public long getDelayBeforeRetryUnprocessedItems(Map<String, List<WriteRequest>> unprocessedItems,
+                                                        int retriesAttempted) {
+            return 0;
+        }
+    };
+
+    private ExecutorService executor;
+
+    @Before
+    public void setup() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void allItemsAreWrittenWithConcurrentBatches() throws Exception {
+        RecordingDynamoDB db = new RecordingDynamoDB();
+        List<FailedBatch> failed = newTask(db, writes("t1", 1000), 4, 4).call();
+
+        assertEquals(0, failed.size());
+        assertEquals(1000, db.written.size());
+        assertEquals(40, db.requests.get());
+        assertTrue(db.maxInflight.get() > 1);
+        assertTrue(db.maxInflight.get() <= 4);
+    }
+
+    @Test
+    public void inflightRequestsPerTableAreLimited() throws Exception {
+        RecordingDynamoDB db = new RecordingDynamoDB();
+        List<PendingWrite> writes = writes("t1", 500);
+        writes.addAll(writes("t2", 500));
+        List<FailedBatch> failed = newTask(db, writes, 8, 2).call();
+
+        assertEquals(0, failed.size());
+        assertEquals(1000, db.written.size());
+        assertTrue(db.maxInflight.get() <= 4);
+    }
+
+    @Test
+    public void unprocessedItemsAreMergedIntoLaterBatches() throws Exception {
+        RecordingDynamoDB db = new RecordingDynamoDB() {
+            @Override
+            protected Map<String, List<WriteRequest>> unprocessed(Map<String, List<WriteRequest>> items) {
+                // Leave the first item of every fresh batch unprocessed once
+                Map<String, List<WriteRequest>> unprocessed = new HashMap<String, List<WriteRequest>>();
+                for (Map.Entry<String, List<WriteRequest>> entry : items.entrySet()) {
+                    WriteRequest first = entry.getValue().get(0);
+                    if (attempted.add(key(first))) {
+                        unprocessed.put(entry.getKey(), Collections.singletonList(first));
+                    }
+                }
+                return unprocessed;
+            }
+        };
+        List<FailedBatch> failed = newTask(db, writes("t1", 250), 4, 4).call();
+
+        assertEquals(0, failed.size());
+        assertEquals(250, db.written.size());
+    }
+
+    @Test
+    public void unprocessedItemsFailAfterMaxRetries() throws Exception {
+        RecordingDynamoDB db = new RecordingDynamoDB() {
+            @Override
+            protected Map<String, List<WriteRequest>> unprocessed(Map<String, List<WriteRequest>> items) {
+                return items;
+            }
+        };
+        List<FailedBatch> failed = newTask(db, writes("t1", 10), 4, 4).call();
+
+        assertEquals(1, failed.size());
+        assertEquals(10, failed.get(0).getUnprocessedItems().get("t1").size());
+        assertNull(failed.get(0).getException());
+        // The first attempt plus three retries
+        assertEquals(4, db.requests.get());
+    }
+
+    @Test
+    public void tooLargeBatchesAreDivided() throws Exception {
+        RecordingDynamoDB db = new RecordingDynamoDB() {
+            @Override
+            protected void beforeWrite(Map<String, List<WriteRequest>> items) {
+                if (items.get("t1").size() > 5) {
+                    AmazonServiceException ase = new AmazonServiceException("Request entity too large");
+                    ase.setStatusCode(413);
+                    throw ase;
+                }
+            }
+        };
+        List<FailedBatch> failed = newTask(db, writes("t1", 100), 4, 4).call();
+
+        assertEquals(0, failed.size());
+        assertEquals(100, db.written.size());
+    }
+
+    @Test
+    public void nonRetryableExceptionFailsTheBatch() throws Exception {
+        final RuntimeException boom = new RuntimeException("BOOM");
+        RecordingDynamoDB db = new RecordingDynamoDB() {
+            @Override
+            protected void beforeWrite(Map<String, List<WriteRequest>> items) {
+                throw boom;
+            }
+        };
+        List<FailedBatch> failed = newTask(db, writes("t1", 30), 4, 4).call();
+
+        assertEquals(2, failed.size());
+        assertSame(boom, failed.get(0).getException());
+        assertSame(boom, failed.get(1).getException());
+        assertEquals(30, failed.get(0).getUnprocessedItems().get("t1").size()
+                + failed.get(1).getUnprocessedItems().get("t1").size());
+    }
+
+    private ParallelBatchWriteTask newTask(RecordingDynamoDB db, List<PendingWrite> writes,
+                                           int maxConcurrency, int maxInflightPerTable) {
+        return new ParallelBatchWriteTask(db, writes.iterator(), NO_DELAY,
+                new BatchWriteConcurrency(maxConcurrency, maxInflightPerTable), executor);
+    }
+
+    private static List<PendingWrite> writes(String tableName, int count) {
+        List<PendingWrite> writes = new ArrayList<PendingWrite>(count);
+        for (int i = 0; i < count; i++) {
+            writes.add(new PendingWrite(tableName, new WriteRequest().withPutRequest(
+                    new PutRequest().withItem(Collections.singletonMap(
+                            "hash", new AttributeValue(tableName + "-" + i))))));
+        }
+        return writes;
+    }
+
+    private static String key(WriteRequest writeRequest) {
+        return writeRequest.getPutRequest().getItem().get("hash").getS();
+    }
+
+    private static class RecordingDynamoDB extends AbstractAmazonDynamoDB {
+        final Set<String> written = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        final Set<String> attempted = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        final AtomicInteger requests = new AtomicInteger();
+        final AtomicInteger inflight = new AtomicInteger();
+        final AtomicInteger maxInflight = new AtomicInteger();
+
+        @Override
+        public BatchWriteItemResult batchWriteItem(BatchWriteItemRequest request) {
+            requests.incrementAndGet();
+            int current = inflight.incrementAndGet();
+            try {
+                while (maxInflight.get() < current && !maxInflight.compareAndSet(maxInflight.get(), current)) {
+                }
+                Map<String, List<WriteRequest>> items = request.getRequestItems();
+                beforeWrite(items);
+                Thread.sleep(5);
+
+                Map<String, List<WriteRequest>> unprocessed = unprocessed(items);
+                for (Map.Entry<String, List<WriteRequest>> entry : items.entrySet()) {
+                    List<WriteRequest> skipped = unprocessed.get(entry.getKey());
+                    for (WriteRequest writeRequest : entry.getValue()) {
+                        if (skipped == null || !skipped.contains(writeRequest)) {
+                            written.add(key(writeRequest));
+                        }
+                    }
+                }
+                return new BatchWriteItemResult().withUnprocessedItems(unprocessed);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            } finally {
+                inflight.decrementAndGet();
+            }
+        }
+
+        protected void beforeWrite(Map<String, List<WriteRequest>> items) {
+        }
+
+        protected Map<String, List<WriteRequest>> unprocessed(Map<String, List<WriteRequest>> items) {
+            return Collections.emptyMap();
+        }
+    }
+}
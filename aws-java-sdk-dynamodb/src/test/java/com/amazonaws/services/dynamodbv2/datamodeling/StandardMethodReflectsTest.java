@@ -0,0 +1,82 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.services.dynamodbv2.datamodeling.DynamoDBMapperFieldModel.Reflect;
+import com.amazonaws.services.dynamodbv2.datamodeling.internal.PropertyAccessorGenerator;
+
+public class StandardMethodReflectsTest {
+
+    private String enabled;
+
+    @Before
+    public void enableGeneratedAccessors() {
+        enabled = System.getProperty(PropertyAccessorGenerator.ENABLE_GENERATED_ACCESSORS_PROPERTY);
+        System.setProperty(PropertyAccessorGenerator.ENABLE_GENERATED_ACCESSORS_PROPERTY, "true");
+    }
+
+    @After
+    public void restoreGeneratedAccessors() {
+        if (enabled == null) {
+            System.clearProperty(PropertyAccessorGenerator.ENABLE_GENERATED_ACCESSORS_PROPERTY);
+        } else {
+            System.setProperty(PropertyAccessorGenerator.ENABLE_GENERATED_ACCESSORS_PROPERTY, enabled);
+        }
+    }
+
+    @Test
+    public void publicPropertyUsesAGeneratedAccessor() throws Exception {
+        Reflect<Bean,String> reflect = StandardMethodReflects.of(Bean.class.getMethod("getName"));
+        Bean bean = new Bean();
+        reflect.set(bean, "name");
+
+        assertTrue(reflect instanceof StandardMethodReflects.AccessorReflect);
+        assertEquals("name", bean.getName());
+        assertEquals("name", reflect.get(bean));
+    }
+
+    @Test
+    public void propertyOfAPackagePrivateTypeUsesReflection() throws Exception {
+        Reflect<Bean,Hidden> reflect = StandardMethodReflects.of(Bean.class.getMethod("getHidden"));
+        Bean bean = new Bean();
+        Hidden hidden = new Hidden();
+        reflect.set(bean, hidden);
+
+        assertTrue(reflect instanceof StandardMethodReflects.MethodReflect);
+        assertSame(hidden, bean.getHidden());
+        assertSame(hidden, reflect.get(bean));
+    }
+
+    public static class Bean {
+        private String name;
+        private Hidden hidden;
+
+        public String getName() { return name; }
+        public void setName(String value) { this.name = value; }
+        public Hidden getHidden() { return hidden; }
+        public void setHidden(Hidden value) { this.hidden = value; }
+    }
+
+    static class Hidden {
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodbv2.datamodeling.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.amazonaws.util.IOUtils;
+
+public class PropertyAccessorGeneratorTest {
+
+    @Test
+    public void primitivePropertiesAreBoxedAndUnboxed() throws Exception {
+        Bean bean = new Bean();
+        accessor("Int", int.class).set(bean, 42);
+        accessor("Long", long.class).set(bean, 42L);
+        accessor("Double", double.class).set(bean, 4.2d);
+        accessor("Char", char.class).set(bean, 'x');
+        accessor("Flag", boolean.class, "is").set(bean, true);
+
+        assertEquals(42, bean.getInt());
+        assertEquals(42L, bean.getLong());
+        assertEquals(4.2d, bean.getDouble(), 0d);
+        assertEquals('x', bean.getChar());
+        assertEquals(true, bean.isFlag());
+
+        assertEquals(42, accessor("Int", int.class).get(bean));
+        assertEquals(42L, accessor("Long", long.class).get(bean));
+        assertEquals(4.2d, accessor("Double", double.class).get(bean));
+        assertEquals('x', accessor("Char", char.class).get(bean));
+        assertEquals(Boolean.TRUE, accessor("Flag", boolean.class, "is").get(bean));
+    }
+
+    @Test
+    public void referencePropertiesArePassedThrough() throws Exception {
+        Bean bean = new Bean();
+        accessor("String", String.class).set(bean, "value");
+        accessor("Strings", String[].class).set(bean, new String[] { "a", "b" });
+        accessor("List", List.class).set(bean, Arrays.asList(1, 2));
+
+        assertEquals("value", accessor("String", String.class).get(bean));
+        assertArrayEquals(new String[] { "a", "b" }, (String[]) accessor("Strings", String[].class).get(bean));
+        assertEquals(Arrays.asList(1, 2), accessor("List", List.class).get(bean));
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void wrongValueTypeIsRejected() throws Exception {
+        accessor("String", String.class).set(new Bean(), 42);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void nullPrimitiveIsRejected() throws Exception {
+        accessor("Int", int.class).set(new Bean(), null);
+    }
+
+    @Test
+    public void interfaceGetterIsSupported() throws Exception {
+        Method getter = Named.class.getMethod("getName");
+        PropertyAccessor accessor = PropertyAccessorGenerator.generate(getter, null);
+        assertNotNull(accessor);
+        assertEquals("bean", accessor.get(new Bean()));
+    }
+
+    @Test
+    public void nonPublicClassIsNotSupported() throws Exception {
+        Method getter = Hidden.class.getMethod("getValue");
+        assertNull(PropertyAccessorGenerator.generate(getter, null));
+    }
+
+    @Test
+    public void nonPublicPropertyTypeIsNotSupported() throws Exception {
+        assertNull(PropertyAccessorGenerator.generate(Bean.class.getMethod("getHidden"),
+                Bean.class.getMethod("setHidden", Hidden.class)));
+        assertNull(PropertyAccessorGenerator.generate(Bean.class.getMethod("getHiddens"),
+                Bean.class.getMethod("setHiddens", Hidden[].class)));
+        assertNull(PropertyAccessorGenerator.generate(Bean.class.getMethod("getName"),
+                Bean.class.getMethod("setHidden", Hidden.class)));
+    }
+
+    @Test
+    public void methodsWhoseClassesTheBeanLoaderCannotSeeAreNotSupported() throws Exception {
+        Class<?> isolatedBean = new IsolatingClassLoader().loadClass(Bean.class.getName());
+        Method getter = isolatedBean.getMethod("getString");
+        Method setter = isolatedBean.getMethod("setString", String.class);
+        PropertyAccessor accessor = PropertyAccessorGenerator.generate(getter, setter);
+        assertNotNull(accessor);
+        Object bean = isolatedBean.newInstance();
+        accessor.set(bean, "value");
+        assertEquals("value", accessor.get(bean));
+
+        // A setter of the same named class, but not the one the isolated loader resolves
+        assertNull(PropertyAccessorGenerator.generate(getter, Bean.class.getMethod("setString", String.class)));
+    }
+
+    private static PropertyAccessor accessor(String property, Class<?> type) throws Exception {
+        return accessor(property, type, "get");
+    }
+
+    private static PropertyAccessor accessor(String property, Class<?> type, String prefix) throws Exception {
+        PropertyAccessor accessor = PropertyAccessorGenerator.generate(
+                Bean.class.getMethod(prefix + property), Bean.class.getMethod("set" + property, type));
+        assertNotNull(accessor);
+        return accessor;
+    }
+
+    public interface Named {
+        String getName();
+    }
+
+    public static class Bean implements Named {
+        private int intValue;
+        private long longValue;
+        private double doubleValue;
+        private char charValue;
+        private boolean flag;
+        private String string;
+        private String[] strings;
+        private List<Integer> list;
+        private Hidden hidden;
+        private Hidden[] hiddens;
+
+        public String getName() { return "bean"; }
+        public int getInt() { return intValue; }
+        public void setInt(int value) { this.intValue = value; }
+        public long getLong() { return longValue; }
+        public void setLong(long value) { this.longValue = value; }
+        public double getDouble() { return doubleValue; }
+        public void setDouble(double value) { this.doubleValue = value; }
+        public char getChar() { return charValue; }
+        public void setChar(char value) { this.charValue = value; }
+        public boolean isFlag() { return flag; }
+        public void setFlag(boolean value) { this.flag = value; }
+        public String getString() { return string; }
+        public void setString(String value) { this.string = value; }
+        public String[] getStrings() { return strings; }
+        public void setStrings(String[] value) { this.strings = value; }
+        public List<Integer> getList() { return list; }
+        public void setList(List<Integer> value) { this.list = value; }
+        public Hidden getHidden() { return hidden; }
+        public void setHidden(Hidden value) { this.hidden = value; }
+        public Hidden[] getHiddens() { return hiddens; }
+        public void setHiddens(Hidden[] value) { this.hiddens = value; }
+    }
+
+    static class Hidden {
+        public String getValue() { return "hidden"; }
+    }
+
+    /**
+     * Defines its own copies of the classes of this test, instead of
+     * delegating to the loader that already has them.
+     */
+    private static class IsolatingClassLoader extends ClassLoader {
+        private IsolatingClassLoader() {
+            super(PropertyAccessorGeneratorTest.class.getClassLoader());
+        }
+
+        @Override
+        protected synchronized Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(PropertyAccessorGeneratorTest.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded == null) {
+                try {
+                    byte[] bytes = IOUtils.toByteArray(getParent().getResourceAsStream(name.replace('.', '/') + ".class"));
+                    loaded = defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+            return loaded;
+        }
+    }
+}
@@ -15,6 +15,10 @@
 package com.amazonaws.services.ec2;
 
 import com.amazonaws.services.ec2.model.*;
+import com.amazonaws.services.ec2.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -284,28 +288,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AcceptVpcPeeringConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<AcceptVpcPeeringConnectionRequest, AcceptVpcPeeringConnectionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AcceptVpcPeeringConnectionResult>() {
-                    @Override
-                    public AcceptVpcPeeringConnectionResult call()
-                            throws Exception {
-                        AcceptVpcPeeringConnectionResult result;
-
-                        try {
-                            result = acceptVpcPeeringConnection(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<AcceptVpcPeeringConnectionResult> responseHandler = new StaxResponseHandler<AcceptVpcPeeringConnectionResult>(
+                new AcceptVpcPeeringConnectionResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new AcceptVpcPeeringConnectionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -346,27 +334,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AllocateAddressRequest request,
             final com.amazonaws.handlers.AsyncHandler<AllocateAddressRequest, AllocateAddressResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AllocateAddressResult>() {
-                    @Override
-                    public AllocateAddressResult call() throws Exception {
-                        AllocateAddressResult result;
-
-                        try {
-                            result = allocateAddress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<AllocateAddressResult> responseHandler = new StaxResponseHandler<AllocateAddressResult>(
+                new AllocateAddressResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new AllocateAddressRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -405,27 +377,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AllocateHostsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AllocateHostsRequest, AllocateHostsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AllocateHostsResult>() {
-                    @Override
-                    public AllocateHostsResult call() throws Exception {
-                        AllocateHostsResult result;
+        StaxResponseHandler<AllocateHostsResult> responseHandler = new StaxResponseHandler<AllocateHostsResult>(
+                new AllocateHostsResultStaxUnmarshaller());
 
-                        try {
-                            result = allocateHosts(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AllocateHostsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -440,28 +396,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AssignPrivateIpAddressesRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssignPrivateIpAddressesRequest, AssignPrivateIpAddressesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AssignPrivateIpAddressesResult>() {
-                    @Override
-                    public AssignPrivateIpAddressesResult call()
-                            throws Exception {
-                        AssignPrivateIpAddressesResult result;
-
-                        try {
-                            result = assignPrivateIpAddresses(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<AssignPrivateIpAddressesResult> responseHandler = new StaxResponseHandler<AssignPrivateIpAddressesResult>(
+                new AssignPrivateIpAddressesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AssignPrivateIpAddressesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -476,27 +416,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AssociateAddressRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssociateAddressRequest, AssociateAddressResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AssociateAddressResult>() {
-                    @Override
-                    public AssociateAddressResult call() throws Exception {
-                        AssociateAddressResult result;
+        StaxResponseHandler<AssociateAddressResult> responseHandler = new StaxResponseHandler<AssociateAddressResult>(
+                new AssociateAddressResultStaxUnmarshaller());
 
-                        try {
-                            result = associateAddress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AssociateAddressRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -511,27 +435,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AssociateDhcpOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssociateDhcpOptionsRequest, AssociateDhcpOptionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AssociateDhcpOptionsResult>() {
-                    @Override
-                    public AssociateDhcpOptionsResult call() throws Exception {
-                        AssociateDhcpOptionsResult result;
-
-                        try {
-                            result = associateDhcpOptions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<AssociateDhcpOptionsResult> responseHandler = new StaxResponseHandler<AssociateDhcpOptionsResult>(
+                new AssociateDhcpOptionsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AssociateDhcpOptionsRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -546,27 +455,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AssociateRouteTableRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssociateRouteTableRequest, AssociateRouteTableResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AssociateRouteTableResult>() {
-                    @Override
-                    public AssociateRouteTableResult call() throws Exception {
-                        AssociateRouteTableResult result;
-
-                        try {
-                            result = associateRouteTable(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<AssociateRouteTableResult> responseHandler = new StaxResponseHandler<AssociateRouteTableResult>(
+                new AssociateRouteTableResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AssociateRouteTableRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -581,27 +474,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AttachClassicLinkVpcRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachClassicLinkVpcRequest, AttachClassicLinkVpcResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AttachClassicLinkVpcResult>() {
-                    @Override
-                    public AttachClassicLinkVpcResult call() throws Exception {
-                        AttachClassicLinkVpcResult result;
+        StaxResponseHandler<AttachClassicLinkVpcResult> responseHandler = new StaxResponseHandler<AttachClassicLinkVpcResult>(
+                new AttachClassicLinkVpcResultStaxUnmarshaller());
 
-                        try {
-                            result = attachClassicLinkVpc(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AttachClassicLinkVpcRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -616,27 +494,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AttachInternetGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachInternetGatewayRequest, AttachInternetGatewayResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AttachInternetGatewayResult>() {
-                    @Override
-                    public AttachInternetGatewayResult call() throws Exception {
-                        AttachInternetGatewayResult result;
-
-                        try {
-                            result = attachInternetGateway(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<AttachInternetGatewayResult> responseHandler = new StaxResponseHandler<AttachInternetGatewayResult>(
+                new AttachInternetGatewayResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AttachInternetGatewayRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -651,27 +514,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AttachNetworkInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachNetworkInterfaceRequest, AttachNetworkInterfaceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AttachNetworkInterfaceResult>() {
-                    @Override
-                    public AttachNetworkInterfaceResult call() throws Exception {
-                        AttachNetworkInterfaceResult result;
+        StaxResponseHandler<AttachNetworkInterfaceResult> responseHandler = new StaxResponseHandler<AttachNetworkInterfaceResult>(
+                new AttachNetworkInterfaceResultStaxUnmarshaller());
 
-                        try {
-                            result = attachNetworkInterface(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AttachNetworkInterfaceRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -686,27 +534,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AttachVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachVolumeRequest, AttachVolumeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AttachVolumeResult>() {
-                    @Override
-                    public AttachVolumeResult call() throws Exception {
-                        AttachVolumeResult result;
-
-                        try {
-                            result = attachVolume(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<AttachVolumeResult> responseHandler = new StaxResponseHandler<AttachVolumeResult>(
+                new AttachVolumeResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AttachVolumeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -721,27 +553,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AttachVpnGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachVpnGatewayRequest, AttachVpnGatewayResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AttachVpnGatewayResult>() {
-                    @Override
-                    public AttachVpnGatewayResult call() throws Exception {
-                        AttachVpnGatewayResult result;
+        StaxResponseHandler<AttachVpnGatewayResult> responseHandler = new StaxResponseHandler<AttachVpnGatewayResult>(
+                new AttachVpnGatewayResultStaxUnmarshaller());
 
-                        try {
-                            result = attachVpnGateway(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AttachVpnGatewayRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -756,28 +572,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AuthorizeSecurityGroupEgressRequest request,
             final com.amazonaws.handlers.AsyncHandler<AuthorizeSecurityGroupEgressRequest, AuthorizeSecurityGroupEgressResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AuthorizeSecurityGroupEgressResult>() {
-                    @Override
-                    public AuthorizeSecurityGroupEgressResult call()
-                            throws Exception {
-                        AuthorizeSecurityGroupEgressResult result;
-
-                        try {
-                            result = authorizeSecurityGroupEgress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<AuthorizeSecurityGroupEgressResult> responseHandler = new StaxResponseHandler<AuthorizeSecurityGroupEgressResult>(
+                new AuthorizeSecurityGroupEgressResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AuthorizeSecurityGroupEgressRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -792,28 +592,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final AuthorizeSecurityGroupIngressRequest request,
             final com.amazonaws.handlers.AsyncHandler<AuthorizeSecurityGroupIngressRequest, AuthorizeSecurityGroupIngressResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AuthorizeSecurityGroupIngressResult>() {
-                    @Override
-                    public AuthorizeSecurityGroupIngressResult call()
-                            throws Exception {
-                        AuthorizeSecurityGroupIngressResult result;
-
-                        try {
-                            result = authorizeSecurityGroupIngress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<AuthorizeSecurityGroupIngressResult> responseHandler = new StaxResponseHandler<AuthorizeSecurityGroupIngressResult>(
+                new AuthorizeSecurityGroupIngressResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AuthorizeSecurityGroupIngressRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -828,27 +612,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final BundleInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<BundleInstanceRequest, BundleInstanceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<BundleInstanceResult>() {
-                    @Override
-                    public BundleInstanceResult call() throws Exception {
-                        BundleInstanceResult result;
+        StaxResponseHandler<BundleInstanceResult> responseHandler = new StaxResponseHandler<BundleInstanceResult>(
+                new BundleInstanceResultStaxUnmarshaller());
 
-                        try {
-                            result = bundleInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new BundleInstanceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -863,27 +631,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CancelBundleTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelBundleTaskRequest, CancelBundleTaskResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CancelBundleTaskResult>() {
-                    @Override
-                    public CancelBundleTaskResult call() throws Exception {
-                        CancelBundleTaskResult result;
-
-                        try {
-                            result = cancelBundleTask(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CancelBundleTaskResult> responseHandler = new StaxResponseHandler<CancelBundleTaskResult>(
+                new CancelBundleTaskResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CancelBundleTaskRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -898,27 +650,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CancelConversionTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelConversionTaskRequest, CancelConversionTaskResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CancelConversionTaskResult>() {
-                    @Override
-                    public CancelConversionTaskResult call() throws Exception {
-                        CancelConversionTaskResult result;
+        StaxResponseHandler<CancelConversionTaskResult> responseHandler = new StaxResponseHandler<CancelConversionTaskResult>(
+                new CancelConversionTaskResultStaxUnmarshaller());
 
-                        try {
-                            result = cancelConversionTask(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CancelConversionTaskRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -933,27 +670,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CancelExportTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelExportTaskRequest, CancelExportTaskResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CancelExportTaskResult>() {
-                    @Override
-                    public CancelExportTaskResult call() throws Exception {
-                        CancelExportTaskResult result;
-
-                        try {
-                            result = cancelExportTask(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CancelExportTaskResult> responseHandler = new StaxResponseHandler<CancelExportTaskResult>(
+                new CancelExportTaskResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CancelExportTaskRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -968,27 +689,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CancelImportTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelImportTaskRequest, CancelImportTaskResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CancelImportTaskResult>() {
-                    @Override
-                    public CancelImportTaskResult call() throws Exception {
-                        CancelImportTaskResult result;
-
-                        try {
-                            result = cancelImportTask(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CancelImportTaskResult> responseHandler = new StaxResponseHandler<CancelImportTaskResult>(
+                new CancelImportTaskResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CancelImportTaskRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1028,28 +733,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CancelReservedInstancesListingRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelReservedInstancesListingRequest, CancelReservedInstancesListingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CancelReservedInstancesListingResult>() {
-                    @Override
-                    public CancelReservedInstancesListingResult call()
-                            throws Exception {
-                        CancelReservedInstancesListingResult result;
-
-                        try {
-                            result = cancelReservedInstancesListing(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CancelReservedInstancesListingResult> responseHandler = new StaxResponseHandler<CancelReservedInstancesListingResult>(
+                new CancelReservedInstancesListingResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CancelReservedInstancesListingRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1064,28 +753,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CancelSpotFleetRequestsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelSpotFleetRequestsRequest, CancelSpotFleetRequestsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CancelSpotFleetRequestsResult>() {
-                    @Override
-                    public CancelSpotFleetRequestsResult call()
-                            throws Exception {
-                        CancelSpotFleetRequestsResult result;
-
-                        try {
-                            result = cancelSpotFleetRequests(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CancelSpotFleetRequestsResult> responseHandler = new StaxResponseHandler<CancelSpotFleetRequestsResult>(
+                new CancelSpotFleetRequestsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CancelSpotFleetRequestsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1100,28 +773,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CancelSpotInstanceRequestsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelSpotInstanceRequestsRequest, CancelSpotInstanceRequestsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CancelSpotInstanceRequestsResult>() {
-                    @Override
-                    public CancelSpotInstanceRequestsResult call()
-                            throws Exception {
-                        CancelSpotInstanceRequestsResult result;
+        StaxResponseHandler<CancelSpotInstanceRequestsResult> responseHandler = new StaxResponseHandler<CancelSpotInstanceRequestsResult>(
+                new CancelSpotInstanceRequestsResultStaxUnmarshaller());
 
-                        try {
-                            result = cancelSpotInstanceRequests(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CancelSpotInstanceRequestsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1136,27 +793,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ConfirmProductInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConfirmProductInstanceRequest, ConfirmProductInstanceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ConfirmProductInstanceResult>() {
-                    @Override
-                    public ConfirmProductInstanceResult call() throws Exception {
-                        ConfirmProductInstanceResult result;
-
-                        try {
-                            result = confirmProductInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ConfirmProductInstanceResult> responseHandler = new StaxResponseHandler<ConfirmProductInstanceResult>(
+                new ConfirmProductInstanceResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ConfirmProductInstanceRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1171,27 +813,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CopyImageRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopyImageRequest, CopyImageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CopyImageResult>() {
-                    @Override
-                    public CopyImageResult call() throws Exception {
-                        CopyImageResult result;
-
-                        try {
-                            result = copyImage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CopyImageResult> responseHandler = new StaxResponseHandler<CopyImageResult>(
+                new CopyImageResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CopyImageRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1206,27 +832,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CopySnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopySnapshotRequest, CopySnapshotResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CopySnapshotResult>() {
-                    @Override
-                    public CopySnapshotResult call() throws Exception {
-                        CopySnapshotResult result;
+        StaxResponseHandler<CopySnapshotResult> responseHandler = new StaxResponseHandler<CopySnapshotResult>(
+                new CopySnapshotResultStaxUnmarshaller());
 
-                        try {
-                            result = copySnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CopySnapshotRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1241,27 +851,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateCustomerGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCustomerGatewayRequest, CreateCustomerGatewayResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateCustomerGatewayResult>() {
-                    @Override
-                    public CreateCustomerGatewayResult call() throws Exception {
-                        CreateCustomerGatewayResult result;
-
-                        try {
-                            result = createCustomerGateway(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateCustomerGatewayResult> responseHandler = new StaxResponseHandler<CreateCustomerGatewayResult>(
+                new CreateCustomerGatewayResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateCustomerGatewayRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1276,27 +871,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateDhcpOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDhcpOptionsRequest, CreateDhcpOptionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateDhcpOptionsResult>() {
-                    @Override
-                    public CreateDhcpOptionsResult call() throws Exception {
-                        CreateDhcpOptionsResult result;
-
-                        try {
-                            result = createDhcpOptions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateDhcpOptionsResult> responseHandler = new StaxResponseHandler<CreateDhcpOptionsResult>(
+                new CreateDhcpOptionsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateDhcpOptionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1311,27 +890,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateFlowLogsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateFlowLogsRequest, CreateFlowLogsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateFlowLogsResult>() {
-                    @Override
-                    public CreateFlowLogsResult call() throws Exception {
-                        CreateFlowLogsResult result;
+        StaxResponseHandler<CreateFlowLogsResult> responseHandler = new StaxResponseHandler<CreateFlowLogsResult>(
+                new CreateFlowLogsResultStaxUnmarshaller());
 
-                        try {
-                            result = createFlowLogs(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateFlowLogsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1346,27 +909,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateImageRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateImageRequest, CreateImageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateImageResult>() {
-                    @Override
-                    public CreateImageResult call() throws Exception {
-                        CreateImageResult result;
-
-                        try {
-                            result = createImage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateImageResult> responseHandler = new StaxResponseHandler<CreateImageResult>(
+                new CreateImageResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateImageRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1381,28 +928,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateInstanceExportTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateInstanceExportTaskRequest, CreateInstanceExportTaskResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateInstanceExportTaskResult>() {
-                    @Override
-                    public CreateInstanceExportTaskResult call()
-                            throws Exception {
-                        CreateInstanceExportTaskResult result;
+        StaxResponseHandler<CreateInstanceExportTaskResult> responseHandler = new StaxResponseHandler<CreateInstanceExportTaskResult>(
+                new CreateInstanceExportTaskResultStaxUnmarshaller());
 
-                        try {
-                            result = createInstanceExportTask(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateInstanceExportTaskRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1417,27 +948,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateInternetGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateInternetGatewayRequest, CreateInternetGatewayResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateInternetGatewayResult>() {
-                    @Override
-                    public CreateInternetGatewayResult call() throws Exception {
-                        CreateInternetGatewayResult result;
-
-                        try {
-                            result = createInternetGateway(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateInternetGatewayResult> responseHandler = new StaxResponseHandler<CreateInternetGatewayResult>(
+                new CreateInternetGatewayResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreateInternetGatewayRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1477,27 +993,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateKeyPairRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateKeyPairRequest, CreateKeyPairResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateKeyPairResult>() {
-                    @Override
-                    public CreateKeyPairResult call() throws Exception {
-                        CreateKeyPairResult result;
+        StaxResponseHandler<CreateKeyPairResult> responseHandler = new StaxResponseHandler<CreateKeyPairResult>(
+                new CreateKeyPairResultStaxUnmarshaller());
 
-                        try {
-                            result = createKeyPair(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateKeyPairRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1512,27 +1012,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateNatGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateNatGatewayRequest, CreateNatGatewayResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateNatGatewayResult>() {
-                    @Override
-                    public CreateNatGatewayResult call() throws Exception {
-                        CreateNatGatewayResult result;
-
-                        try {
-                            result = createNatGateway(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateNatGatewayResult> responseHandler = new StaxResponseHandler<CreateNatGatewayResult>(
+                new CreateNatGatewayResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateNatGatewayRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1547,27 +1031,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateNetworkAclRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateNetworkAclRequest, CreateNetworkAclResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateNetworkAclResult>() {
-                    @Override
-                    public CreateNetworkAclResult call() throws Exception {
-                        CreateNetworkAclResult result;
-
-                        try {
-                            result = createNetworkAcl(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateNetworkAclResult> responseHandler = new StaxResponseHandler<CreateNetworkAclResult>(
+                new CreateNetworkAclResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateNetworkAclRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1582,27 +1050,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateNetworkAclEntryRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateNetworkAclEntryRequest, CreateNetworkAclEntryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateNetworkAclEntryResult>() {
-                    @Override
-                    public CreateNetworkAclEntryResult call() throws Exception {
-                        CreateNetworkAclEntryResult result;
+        StaxResponseHandler<CreateNetworkAclEntryResult> responseHandler = new StaxResponseHandler<CreateNetworkAclEntryResult>(
+                new CreateNetworkAclEntryResultStaxUnmarshaller());
 
-                        try {
-                            result = createNetworkAclEntry(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateNetworkAclEntryRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1617,27 +1070,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateNetworkInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateNetworkInterfaceRequest, CreateNetworkInterfaceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateNetworkInterfaceResult>() {
-                    @Override
-                    public CreateNetworkInterfaceResult call() throws Exception {
-                        CreateNetworkInterfaceResult result;
-
-                        try {
-                            result = createNetworkInterface(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateNetworkInterfaceResult> responseHandler = new StaxResponseHandler<CreateNetworkInterfaceResult>(
+                new CreateNetworkInterfaceResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateNetworkInterfaceRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1652,27 +1090,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreatePlacementGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePlacementGroupRequest, CreatePlacementGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreatePlacementGroupResult>() {
-                    @Override
-                    public CreatePlacementGroupResult call() throws Exception {
-                        CreatePlacementGroupResult result;
-
-                        try {
-                            result = createPlacementGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreatePlacementGroupResult> responseHandler = new StaxResponseHandler<CreatePlacementGroupResult>(
+                new CreatePlacementGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreatePlacementGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1687,28 +1110,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateReservedInstancesListingRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReservedInstancesListingRequest, CreateReservedInstancesListingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateReservedInstancesListingResult>() {
-                    @Override
-                    public CreateReservedInstancesListingResult call()
-                            throws Exception {
-                        CreateReservedInstancesListingResult result;
+        StaxResponseHandler<CreateReservedInstancesListingResult> responseHandler = new StaxResponseHandler<CreateReservedInstancesListingResult>(
+                new CreateReservedInstancesListingResultStaxUnmarshaller());
 
-                        try {
-                            result = createReservedInstancesListing(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateReservedInstancesListingRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1723,27 +1130,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateRouteRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRouteRequest, CreateRouteResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateRouteResult>() {
-                    @Override
-                    public CreateRouteResult call() throws Exception {
-                        CreateRouteResult result;
-
-                        try {
-                            result = createRoute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateRouteResult> responseHandler = new StaxResponseHandler<CreateRouteResult>(
+                new CreateRouteResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateRouteRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1758,27 +1149,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateRouteTableRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRouteTableRequest, CreateRouteTableResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateRouteTableResult>() {
-                    @Override
-                    public CreateRouteTableResult call() throws Exception {
-                        CreateRouteTableResult result;
-
-                        try {
-                            result = createRouteTable(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateRouteTableResult> responseHandler = new StaxResponseHandler<CreateRouteTableResult>(
+                new CreateRouteTableResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateRouteTableRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1793,27 +1168,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateSecurityGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSecurityGroupRequest, CreateSecurityGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateSecurityGroupResult>() {
-                    @Override
-                    public CreateSecurityGroupResult call() throws Exception {
-                        CreateSecurityGroupResult result;
+        StaxResponseHandler<CreateSecurityGroupResult> responseHandler = new StaxResponseHandler<CreateSecurityGroupResult>(
+                new CreateSecurityGroupResultStaxUnmarshaller());
 
-                        try {
-                            result = createSecurityGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateSecurityGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1828,27 +1187,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateSnapshotResult>() {
-                    @Override
-                    public CreateSnapshotResult call() throws Exception {
-                        CreateSnapshotResult result;
-
-                        try {
-                            result = createSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateSnapshotResult> responseHandler = new StaxResponseHandler<CreateSnapshotResult>(
+                new CreateSnapshotResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateSnapshotRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1863,28 +1206,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateSpotDatafeedSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSpotDatafeedSubscriptionRequest, CreateSpotDatafeedSubscriptionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateSpotDatafeedSubscriptionResult>() {
-                    @Override
-                    public CreateSpotDatafeedSubscriptionResult call()
-                            throws Exception {
-                        CreateSpotDatafeedSubscriptionResult result;
+        StaxResponseHandler<CreateSpotDatafeedSubscriptionResult> responseHandler = new StaxResponseHandler<CreateSpotDatafeedSubscriptionResult>(
+                new CreateSpotDatafeedSubscriptionResultStaxUnmarshaller());
 
-                        try {
-                            result = createSpotDatafeedSubscription(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateSpotDatafeedSubscriptionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1899,27 +1226,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateSubnetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSubnetRequest, CreateSubnetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateSubnetResult>() {
-                    @Override
-                    public CreateSubnetResult call() throws Exception {
-                        CreateSubnetResult result;
-
-                        try {
-                            result = createSubnet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateSubnetResult> responseHandler = new StaxResponseHandler<CreateSubnetResult>(
+                new CreateSubnetResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateSubnetRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1934,27 +1245,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTagsRequest, CreateTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateTagsResult>() {
-                    @Override
-                    public CreateTagsResult call() throws Exception {
-                        CreateTagsResult result;
+        StaxResponseHandler<CreateTagsResult> responseHandler = new StaxResponseHandler<CreateTagsResult>(
+                new CreateTagsResultStaxUnmarshaller());
 
-                        try {
-                            result = createTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateTagsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1969,27 +1264,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVolumeRequest, CreateVolumeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateVolumeResult>() {
-                    @Override
-                    public CreateVolumeResult call() throws Exception {
-                        CreateVolumeResult result;
-
-                        try {
-                            result = createVolume(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateVolumeResult> responseHandler = new StaxResponseHandler<CreateVolumeResult>(
+                new CreateVolumeResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateVolumeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2004,27 +1283,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateVpcRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVpcRequest, CreateVpcResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateVpcResult>() {
-                    @Override
-                    public CreateVpcResult call() throws Exception {
-                        CreateVpcResult result;
-
-                        try {
-                            result = createVpc(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateVpcResult> responseHandler = new StaxResponseHandler<CreateVpcResult>(
+                new CreateVpcResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateVpcRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2039,27 +1302,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateVpcEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVpcEndpointRequest, CreateVpcEndpointResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateVpcEndpointResult>() {
-                    @Override
-                    public CreateVpcEndpointResult call() throws Exception {
-                        CreateVpcEndpointResult result;
+        StaxResponseHandler<CreateVpcEndpointResult> responseHandler = new StaxResponseHandler<CreateVpcEndpointResult>(
+                new CreateVpcEndpointResultStaxUnmarshaller());
 
-                        try {
-                            result = createVpcEndpoint(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateVpcEndpointRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2074,28 +1321,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateVpcPeeringConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVpcPeeringConnectionRequest, CreateVpcPeeringConnectionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateVpcPeeringConnectionResult>() {
-                    @Override
-                    public CreateVpcPeeringConnectionResult call()
-                            throws Exception {
-                        CreateVpcPeeringConnectionResult result;
-
-                        try {
-                            result = createVpcPeeringConnection(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateVpcPeeringConnectionResult> responseHandler = new StaxResponseHandler<CreateVpcPeeringConnectionResult>(
+                new CreateVpcPeeringConnectionResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreateVpcPeeringConnectionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2136,27 +1367,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateVpnConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVpnConnectionRequest, CreateVpnConnectionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateVpnConnectionResult>() {
-                    @Override
-                    public CreateVpnConnectionResult call() throws Exception {
-                        CreateVpnConnectionResult result;
-
-                        try {
-                            result = createVpnConnection(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateVpnConnectionResult> responseHandler = new StaxResponseHandler<CreateVpnConnectionResult>(
+                new CreateVpnConnectionResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateVpnConnectionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2171,28 +1386,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateVpnConnectionRouteRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVpnConnectionRouteRequest, CreateVpnConnectionRouteResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateVpnConnectionRouteResult>() {
-                    @Override
-                    public CreateVpnConnectionRouteResult call()
-                            throws Exception {
-                        CreateVpnConnectionRouteResult result;
+        StaxResponseHandler<CreateVpnConnectionRouteResult> responseHandler = new StaxResponseHandler<CreateVpnConnectionRouteResult>(
+                new CreateVpnConnectionRouteResultStaxUnmarshaller());
 
-                        try {
-                            result = createVpnConnectionRoute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateVpnConnectionRouteRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2207,27 +1406,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final CreateVpnGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVpnGatewayRequest, CreateVpnGatewayResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateVpnGatewayResult>() {
-                    @Override
-                    public CreateVpnGatewayResult call() throws Exception {
-                        CreateVpnGatewayResult result;
-
-                        try {
-                            result = createVpnGateway(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateVpnGatewayResult> responseHandler = new StaxResponseHandler<CreateVpnGatewayResult>(
+                new CreateVpnGatewayResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateVpnGatewayRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2242,27 +1425,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteCustomerGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCustomerGatewayRequest, DeleteCustomerGatewayResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteCustomerGatewayResult>() {
-                    @Override
-                    public DeleteCustomerGatewayResult call() throws Exception {
-                        DeleteCustomerGatewayResult result;
-
-                        try {
-                            result = deleteCustomerGateway(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteCustomerGatewayResult> responseHandler = new StaxResponseHandler<DeleteCustomerGatewayResult>(
+                new DeleteCustomerGatewayResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteCustomerGatewayRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -2277,27 +1445,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteDhcpOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDhcpOptionsRequest, DeleteDhcpOptionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDhcpOptionsResult>() {
-                    @Override
-                    public DeleteDhcpOptionsResult call() throws Exception {
-                        DeleteDhcpOptionsResult result;
+        StaxResponseHandler<DeleteDhcpOptionsResult> responseHandler = new StaxResponseHandler<DeleteDhcpOptionsResult>(
+                new DeleteDhcpOptionsResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteDhcpOptions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteDhcpOptionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2312,27 +1464,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteFlowLogsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteFlowLogsRequest, DeleteFlowLogsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteFlowLogsResult>() {
-                    @Override
-                    public DeleteFlowLogsResult call() throws Exception {
-                        DeleteFlowLogsResult result;
-
-                        try {
-                            result = deleteFlowLogs(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteFlowLogsResult> responseHandler = new StaxResponseHandler<DeleteFlowLogsResult>(
+                new DeleteFlowLogsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteFlowLogsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2347,27 +1483,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteInternetGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteInternetGatewayRequest, DeleteInternetGatewayResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteInternetGatewayResult>() {
-                    @Override
-                    public DeleteInternetGatewayResult call() throws Exception {
-                        DeleteInternetGatewayResult result;
+        StaxResponseHandler<DeleteInternetGatewayResult> responseHandler = new StaxResponseHandler<DeleteInternetGatewayResult>(
+                new DeleteInternetGatewayResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteInternetGateway(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteInternetGatewayRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -2382,27 +1503,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteKeyPairRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteKeyPairRequest, DeleteKeyPairResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteKeyPairResult>() {
-                    @Override
-                    public DeleteKeyPairResult call() throws Exception {
-                        DeleteKeyPairResult result;
-
-                        try {
-                            result = deleteKeyPair(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteKeyPairResult> responseHandler = new StaxResponseHandler<DeleteKeyPairResult>(
+                new DeleteKeyPairResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteKeyPairRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2417,27 +1522,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteNatGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteNatGatewayRequest, DeleteNatGatewayResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteNatGatewayResult>() {
-                    @Override
-                    public DeleteNatGatewayResult call() throws Exception {
-                        DeleteNatGatewayResult result;
+        StaxResponseHandler<DeleteNatGatewayResult> responseHandler = new StaxResponseHandler<DeleteNatGatewayResult>(
+                new DeleteNatGatewayResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteNatGateway(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteNatGatewayRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2452,27 +1541,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteNetworkAclRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteNetworkAclRequest, DeleteNetworkAclResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteNetworkAclResult>() {
-                    @Override
-                    public DeleteNetworkAclResult call() throws Exception {
-                        DeleteNetworkAclResult result;
-
-                        try {
-                            result = deleteNetworkAcl(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteNetworkAclResult> responseHandler = new StaxResponseHandler<DeleteNetworkAclResult>(
+                new DeleteNetworkAclResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteNetworkAclRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2487,27 +1560,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteNetworkAclEntryRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteNetworkAclEntryRequest, DeleteNetworkAclEntryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteNetworkAclEntryResult>() {
-                    @Override
-                    public DeleteNetworkAclEntryResult call() throws Exception {
-                        DeleteNetworkAclEntryResult result;
-
-                        try {
-                            result = deleteNetworkAclEntry(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteNetworkAclEntryResult> responseHandler = new StaxResponseHandler<DeleteNetworkAclEntryResult>(
+                new DeleteNetworkAclEntryResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteNetworkAclEntryRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -2522,27 +1580,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteNetworkInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteNetworkInterfaceRequest, DeleteNetworkInterfaceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteNetworkInterfaceResult>() {
-                    @Override
-                    public DeleteNetworkInterfaceResult call() throws Exception {
-                        DeleteNetworkInterfaceResult result;
+        StaxResponseHandler<DeleteNetworkInterfaceResult> responseHandler = new StaxResponseHandler<DeleteNetworkInterfaceResult>(
+                new DeleteNetworkInterfaceResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteNetworkInterface(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteNetworkInterfaceRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -2557,27 +1600,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeletePlacementGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePlacementGroupRequest, DeletePlacementGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeletePlacementGroupResult>() {
-                    @Override
-                    public DeletePlacementGroupResult call() throws Exception {
-                        DeletePlacementGroupResult result;
-
-                        try {
-                            result = deletePlacementGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeletePlacementGroupResult> responseHandler = new StaxResponseHandler<DeletePlacementGroupResult>(
+                new DeletePlacementGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeletePlacementGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -2592,27 +1620,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteRouteRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRouteRequest, DeleteRouteResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteRouteResult>() {
-                    @Override
-                    public DeleteRouteResult call() throws Exception {
-                        DeleteRouteResult result;
-
-                        try {
-                            result = deleteRoute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteRouteResult> responseHandler = new StaxResponseHandler<DeleteRouteResult>(
+                new DeleteRouteResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteRouteRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2627,27 +1639,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteRouteTableRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRouteTableRequest, DeleteRouteTableResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteRouteTableResult>() {
-                    @Override
-                    public DeleteRouteTableResult call() throws Exception {
-                        DeleteRouteTableResult result;
+        StaxResponseHandler<DeleteRouteTableResult> responseHandler = new StaxResponseHandler<DeleteRouteTableResult>(
+                new DeleteRouteTableResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteRouteTable(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteRouteTableRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2662,27 +1658,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteSecurityGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSecurityGroupRequest, DeleteSecurityGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteSecurityGroupResult>() {
-                    @Override
-                    public DeleteSecurityGroupResult call() throws Exception {
-                        DeleteSecurityGroupResult result;
-
-                        try {
-                            result = deleteSecurityGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteSecurityGroupResult> responseHandler = new StaxResponseHandler<DeleteSecurityGroupResult>(
+                new DeleteSecurityGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteSecurityGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2697,27 +1677,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSnapshotRequest, DeleteSnapshotResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteSnapshotResult>() {
-                    @Override
-                    public DeleteSnapshotResult call() throws Exception {
-                        DeleteSnapshotResult result;
-
-                        try {
-                            result = deleteSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteSnapshotResult> responseHandler = new StaxResponseHandler<DeleteSnapshotResult>(
+                new DeleteSnapshotResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteSnapshotRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2732,28 +1696,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteSpotDatafeedSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSpotDatafeedSubscriptionRequest, DeleteSpotDatafeedSubscriptionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteSpotDatafeedSubscriptionResult>() {
-                    @Override
-                    public DeleteSpotDatafeedSubscriptionResult call()
-                            throws Exception {
-                        DeleteSpotDatafeedSubscriptionResult result;
-
-                        try {
-                            result = deleteSpotDatafeedSubscription(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteSpotDatafeedSubscriptionResult> responseHandler = new StaxResponseHandler<DeleteSpotDatafeedSubscriptionResult>(
+                new DeleteSpotDatafeedSubscriptionResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeleteSpotDatafeedSubscriptionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2794,27 +1742,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteSubnetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSubnetRequest, DeleteSubnetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteSubnetResult>() {
-                    @Override
-                    public DeleteSubnetResult call() throws Exception {
-                        DeleteSubnetResult result;
-
-                        try {
-                            result = deleteSubnet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteSubnetResult> responseHandler = new StaxResponseHandler<DeleteSubnetResult>(
+                new DeleteSubnetResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteSubnetRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2829,27 +1761,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTagsRequest, DeleteTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteTagsResult>() {
-                    @Override
-                    public DeleteTagsResult call() throws Exception {
-                        DeleteTagsResult result;
+        StaxResponseHandler<DeleteTagsResult> responseHandler = new StaxResponseHandler<DeleteTagsResult>(
+                new DeleteTagsResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteTagsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2864,27 +1780,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVolumeRequest, DeleteVolumeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteVolumeResult>() {
-                    @Override
-                    public DeleteVolumeResult call() throws Exception {
-                        DeleteVolumeResult result;
-
-                        try {
-                            result = deleteVolume(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteVolumeResult> responseHandler = new StaxResponseHandler<DeleteVolumeResult>(
+                new DeleteVolumeResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteVolumeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2899,27 +1799,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteVpcRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVpcRequest, DeleteVpcResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteVpcResult>() {
-                    @Override
-                    public DeleteVpcResult call() throws Exception {
-                        DeleteVpcResult result;
+        StaxResponseHandler<DeleteVpcResult> responseHandler = new StaxResponseHandler<DeleteVpcResult>(
+                new DeleteVpcResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteVpc(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteVpcRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2934,27 +1818,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteVpcEndpointsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVpcEndpointsRequest, DeleteVpcEndpointsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteVpcEndpointsResult>() {
-                    @Override
-                    public DeleteVpcEndpointsResult call() throws Exception {
-                        DeleteVpcEndpointsResult result;
-
-                        try {
-                            result = deleteVpcEndpoints(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteVpcEndpointsResult> responseHandler = new StaxResponseHandler<DeleteVpcEndpointsResult>(
+                new DeleteVpcEndpointsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteVpcEndpointsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2969,28 +1837,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteVpcPeeringConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVpcPeeringConnectionRequest, DeleteVpcPeeringConnectionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteVpcPeeringConnectionResult>() {
-                    @Override
-                    public DeleteVpcPeeringConnectionResult call()
-                            throws Exception {
-                        DeleteVpcPeeringConnectionResult result;
-
-                        try {
-                            result = deleteVpcPeeringConnection(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteVpcPeeringConnectionResult> responseHandler = new StaxResponseHandler<DeleteVpcPeeringConnectionResult>(
+                new DeleteVpcPeeringConnectionResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteVpcPeeringConnectionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3005,27 +1857,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteVpnConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVpnConnectionRequest, DeleteVpnConnectionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteVpnConnectionResult>() {
-                    @Override
-                    public DeleteVpnConnectionResult call() throws Exception {
-                        DeleteVpnConnectionResult result;
+        StaxResponseHandler<DeleteVpnConnectionResult> responseHandler = new StaxResponseHandler<DeleteVpnConnectionResult>(
+                new DeleteVpnConnectionResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteVpnConnection(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteVpnConnectionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3040,28 +1876,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteVpnConnectionRouteRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVpnConnectionRouteRequest, DeleteVpnConnectionRouteResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteVpnConnectionRouteResult>() {
-                    @Override
-                    public DeleteVpnConnectionRouteResult call()
-                            throws Exception {
-                        DeleteVpnConnectionRouteResult result;
-
-                        try {
-                            result = deleteVpnConnectionRoute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteVpnConnectionRouteResult> responseHandler = new StaxResponseHandler<DeleteVpnConnectionRouteResult>(
+                new DeleteVpnConnectionRouteResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteVpnConnectionRouteRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3076,27 +1896,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeleteVpnGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVpnGatewayRequest, DeleteVpnGatewayResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteVpnGatewayResult>() {
-                    @Override
-                    public DeleteVpnGatewayResult call() throws Exception {
-                        DeleteVpnGatewayResult result;
-
-                        try {
-                            result = deleteVpnGateway(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteVpnGatewayResult> responseHandler = new StaxResponseHandler<DeleteVpnGatewayResult>(
+                new DeleteVpnGatewayResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteVpnGatewayRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3111,27 +1915,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DeregisterImageRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterImageRequest, DeregisterImageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeregisterImageResult>() {
-                    @Override
-                    public DeregisterImageResult call() throws Exception {
-                        DeregisterImageResult result;
+        StaxResponseHandler<DeregisterImageResult> responseHandler = new StaxResponseHandler<DeregisterImageResult>(
+                new DeregisterImageResultStaxUnmarshaller());
 
-                        try {
-                            result = deregisterImage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeregisterImageRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3146,28 +1934,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeAccountAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAccountAttributesRequest, DescribeAccountAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAccountAttributesResult>() {
-                    @Override
-                    public DescribeAccountAttributesResult call()
-                            throws Exception {
-                        DescribeAccountAttributesResult result;
-
-                        try {
-                            result = describeAccountAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeAccountAttributesResult> responseHandler = new StaxResponseHandler<DescribeAccountAttributesResult>(
+                new DescribeAccountAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeAccountAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3208,27 +1980,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeAddressesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAddressesRequest, DescribeAddressesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAddressesResult>() {
-                    @Override
-                    public DescribeAddressesResult call() throws Exception {
-                        DescribeAddressesResult result;
-
-                        try {
-                            result = describeAddresses(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeAddressesResult> responseHandler = new StaxResponseHandler<DescribeAddressesResult>(
+                new DescribeAddressesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeAddressesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3268,28 +2024,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeAvailabilityZonesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAvailabilityZonesRequest, DescribeAvailabilityZonesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAvailabilityZonesResult>() {
-                    @Override
-                    public DescribeAvailabilityZonesResult call()
-                            throws Exception {
-                        DescribeAvailabilityZonesResult result;
-
-                        try {
-                            result = describeAvailabilityZones(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeAvailabilityZonesResult> responseHandler = new StaxResponseHandler<DescribeAvailabilityZonesResult>(
+                new DescribeAvailabilityZonesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeAvailabilityZonesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3330,27 +2070,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeBundleTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeBundleTasksRequest, DescribeBundleTasksResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeBundleTasksResult>() {
-                    @Override
-                    public DescribeBundleTasksResult call() throws Exception {
-                        DescribeBundleTasksResult result;
-
-                        try {
-                            result = describeBundleTasks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeBundleTasksResult> responseHandler = new StaxResponseHandler<DescribeBundleTasksResult>(
+                new DescribeBundleTasksResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeBundleTasksRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3390,28 +2114,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeClassicLinkInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClassicLinkInstancesRequest, DescribeClassicLinkInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeClassicLinkInstancesResult>() {
-                    @Override
-                    public DescribeClassicLinkInstancesResult call()
-                            throws Exception {
-                        DescribeClassicLinkInstancesResult result;
-
-                        try {
-                            result = describeClassicLinkInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeClassicLinkInstancesResult> responseHandler = new StaxResponseHandler<DescribeClassicLinkInstancesResult>(
+                new DescribeClassicLinkInstancesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeClassicLinkInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3452,28 +2160,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeConversionTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConversionTasksRequest, DescribeConversionTasksResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeConversionTasksResult>() {
-                    @Override
-                    public DescribeConversionTasksResult call()
-                            throws Exception {
-                        DescribeConversionTasksResult result;
-
-                        try {
-                            result = describeConversionTasks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeConversionTasksResult> responseHandler = new StaxResponseHandler<DescribeConversionTasksResult>(
+                new DescribeConversionTasksResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeConversionTasksRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3514,28 +2206,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeCustomerGatewaysRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeCustomerGatewaysResult>() {
-                    @Override
-                    public DescribeCustomerGatewaysResult call()
-                            throws Exception {
-                        DescribeCustomerGatewaysResult result;
-
-                        try {
-                            result = describeCustomerGateways(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeCustomerGatewaysResult> responseHandler = new StaxResponseHandler<DescribeCustomerGatewaysResult>(
+                new DescribeCustomerGatewaysResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeCustomerGatewaysRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3576,27 +2252,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeDhcpOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDhcpOptionsRequest, DescribeDhcpOptionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDhcpOptionsResult>() {
-                    @Override
-                    public DescribeDhcpOptionsResult call() throws Exception {
-                        DescribeDhcpOptionsResult result;
-
-                        try {
-                            result = describeDhcpOptions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeDhcpOptionsResult> responseHandler = new StaxResponseHandler<DescribeDhcpOptionsResult>(
+                new DescribeDhcpOptionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeDhcpOptionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3636,27 +2296,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeExportTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeExportTasksRequest, DescribeExportTasksResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeExportTasksResult>() {
-                    @Override
-                    public DescribeExportTasksResult call() throws Exception {
-                        DescribeExportTasksResult result;
-
-                        try {
-                            result = describeExportTasks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeExportTasksResult> responseHandler = new StaxResponseHandler<DescribeExportTasksResult>(
+                new DescribeExportTasksResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeExportTasksRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3696,27 +2340,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeFlowLogsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeFlowLogsRequest, DescribeFlowLogsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeFlowLogsResult>() {
-                    @Override
-                    public DescribeFlowLogsResult call() throws Exception {
-                        DescribeFlowLogsResult result;
-
-                        try {
-                            result = describeFlowLogs(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeFlowLogsResult> responseHandler = new StaxResponseHandler<DescribeFlowLogsResult>(
+                new DescribeFlowLogsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeFlowLogsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3756,28 +2384,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeHostReservationOfferingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeHostReservationOfferingsRequest, DescribeHostReservationOfferingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeHostReservationOfferingsResult>() {
-                    @Override
-                    public DescribeHostReservationOfferingsResult call()
-                            throws Exception {
-                        DescribeHostReservationOfferingsResult result;
-
-                        try {
-                            result = describeHostReservationOfferings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeHostReservationOfferingsResult> responseHandler = new StaxResponseHandler<DescribeHostReservationOfferingsResult>(
+                new DescribeHostReservationOfferingsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeHostReservationOfferingsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3792,28 +2404,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeHostReservationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeHostReservationsRequest, DescribeHostReservationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeHostReservationsResult>() {
-                    @Override
-                    public DescribeHostReservationsResult call()
-                            throws Exception {
-                        DescribeHostReservationsResult result;
-
-                        try {
-                            result = describeHostReservations(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeHostReservationsResult> responseHandler = new StaxResponseHandler<DescribeHostReservationsResult>(
+                new DescribeHostReservationsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeHostReservationsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3828,27 +2424,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeHostsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeHostsRequest, DescribeHostsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeHostsResult>() {
-                    @Override
-                    public DescribeHostsResult call() throws Exception {
-                        DescribeHostsResult result;
-
-                        try {
-                            result = describeHosts(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeHostsResult> responseHandler = new StaxResponseHandler<DescribeHostsResult>(
+                new DescribeHostsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeHostsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3887,27 +2467,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeIdFormatRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeIdFormatRequest, DescribeIdFormatResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeIdFormatResult>() {
-                    @Override
-                    public DescribeIdFormatResult call() throws Exception {
-                        DescribeIdFormatResult result;
-
-                        try {
-                            result = describeIdFormat(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeIdFormatResult> responseHandler = new StaxResponseHandler<DescribeIdFormatResult>(
+                new DescribeIdFormatResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeIdFormatRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3947,28 +2511,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeIdentityIdFormatRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeIdentityIdFormatRequest, DescribeIdentityIdFormatResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeIdentityIdFormatResult>() {
-                    @Override
-                    public DescribeIdentityIdFormatResult call()
-                            throws Exception {
-                        DescribeIdentityIdFormatResult result;
-
-                        try {
-                            result = describeIdentityIdFormat(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeIdentityIdFormatResult> responseHandler = new StaxResponseHandler<DescribeIdentityIdFormatResult>(
+                new DescribeIdentityIdFormatResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeIdentityIdFormatRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3983,27 +2531,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeImageAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeImageAttributeRequest, DescribeImageAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeImageAttributeResult>() {
-                    @Override
-                    public DescribeImageAttributeResult call() throws Exception {
-                        DescribeImageAttributeResult result;
+        StaxResponseHandler<DescribeImageAttributeResult> responseHandler = new StaxResponseHandler<DescribeImageAttributeResult>(
+                new DescribeImageAttributeResultStaxUnmarshaller());
 
-                        try {
-                            result = describeImageAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeImageAttributeRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -4018,27 +2551,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeImagesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeImagesRequest, DescribeImagesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeImagesResult>() {
-                    @Override
-                    public DescribeImagesResult call() throws Exception {
-                        DescribeImagesResult result;
-
-                        try {
-                            result = describeImages(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeImagesResult> responseHandler = new StaxResponseHandler<DescribeImagesResult>(
+                new DescribeImagesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeImagesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -4077,28 +2594,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeImportImageTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeImportImageTasksRequest, DescribeImportImageTasksResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeImportImageTasksResult>() {
-                    @Override
-                    public DescribeImportImageTasksResult call()
-                            throws Exception {
-                        DescribeImportImageTasksResult result;
-
-                        try {
-                            result = describeImportImageTasks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeImportImageTasksResult> responseHandler = new StaxResponseHandler<DescribeImportImageTasksResult>(
+                new DescribeImportImageTasksResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeImportImageTasksRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -4139,28 +2640,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeImportSnapshotTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeImportSnapshotTasksRequest, DescribeImportSnapshotTasksResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeImportSnapshotTasksResult>() {
-                    @Override
-                    public DescribeImportSnapshotTasksResult call()
-                            throws Exception {
-                        DescribeImportSnapshotTasksResult result;
-
-                        try {
-                            result = describeImportSnapshotTasks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeImportSnapshotTasksResult> responseHandler = new StaxResponseHandler<DescribeImportSnapshotTasksResult>(
+                new DescribeImportSnapshotTasksResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeImportSnapshotTasksRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -4201,28 +2686,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeInstanceAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInstanceAttributeRequest, DescribeInstanceAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeInstanceAttributeResult>() {
-                    @Override
-                    public DescribeInstanceAttributeResult call()
-                            throws Exception {
-                        DescribeInstanceAttributeResult result;
+        StaxResponseHandler<DescribeInstanceAttributeResult> responseHandler = new StaxResponseHandler<DescribeInstanceAttributeResult>(
+                new DescribeInstanceAttributeResultStaxUnmarshaller());
 
-                        try {
-                            result = describeInstanceAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeInstanceAttributeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4237,27 +2706,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeInstanceStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInstanceStatusRequest, DescribeInstanceStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeInstanceStatusResult>() {
-                    @Override
-                    public DescribeInstanceStatusResult call() throws Exception {
-                        DescribeInstanceStatusResult result;
-
-                        try {
-                            result = describeInstanceStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeInstanceStatusResult> responseHandler = new StaxResponseHandler<DescribeInstanceStatusResult>(
+                new DescribeInstanceStatusResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeInstanceStatusRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -4297,27 +2751,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInstancesRequest, DescribeInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeInstancesResult>() {
-                    @Override
-                    public DescribeInstancesResult call() throws Exception {
-                        DescribeInstancesResult result;
-
-                        try {
-                            result = describeInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeInstancesResult> responseHandler = new StaxResponseHandler<DescribeInstancesResult>(
+                new DescribeInstancesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -4357,28 +2795,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeInternetGatewaysRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInternetGatewaysRequest, DescribeInternetGatewaysResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeInternetGatewaysResult>() {
-                    @Override
-                    public DescribeInternetGatewaysResult call()
-                            throws Exception {
-                        DescribeInternetGatewaysResult result;
-
-                        try {
-                            result = describeInternetGateways(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeInternetGatewaysResult> responseHandler = new StaxResponseHandler<DescribeInternetGatewaysResult>(
+                new DescribeInternetGatewaysResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeInternetGatewaysRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -4419,27 +2841,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeKeyPairsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeKeyPairsRequest, DescribeKeyPairsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeKeyPairsResult>() {
-                    @Override
-                    public DescribeKeyPairsResult call() throws Exception {
-                        DescribeKeyPairsResult result;
-
-                        try {
-                            result = describeKeyPairs(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeKeyPairsResult> responseHandler = new StaxResponseHandler<DescribeKeyPairsResult>(
+                new DescribeKeyPairsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeKeyPairsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -4479,28 +2885,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeMovingAddressesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeMovingAddressesRequest, DescribeMovingAddressesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeMovingAddressesResult>() {
-                    @Override
-                    public DescribeMovingAddressesResult call()
-                            throws Exception {
-                        DescribeMovingAddressesResult result;
-
-                        try {
-                            result = describeMovingAddresses(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeMovingAddressesResult> responseHandler = new StaxResponseHandler<DescribeMovingAddressesResult>(
+                new DescribeMovingAddressesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeMovingAddressesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -4541,27 +2931,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeNatGatewaysRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeNatGatewaysRequest, DescribeNatGatewaysResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeNatGatewaysResult>() {
-                    @Override
-                    public DescribeNatGatewaysResult call() throws Exception {
-                        DescribeNatGatewaysResult result;
+        StaxResponseHandler<DescribeNatGatewaysResult> responseHandler = new StaxResponseHandler<DescribeNatGatewaysResult>(
+                new DescribeNatGatewaysResultStaxUnmarshaller());
 
-                        try {
-                            result = describeNatGateways(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeNatGatewaysRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4576,27 +2950,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeNetworkAclsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeNetworkAclsRequest, DescribeNetworkAclsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeNetworkAclsResult>() {
-                    @Override
-                    public DescribeNetworkAclsResult call() throws Exception {
-                        DescribeNetworkAclsResult result;
-
-                        try {
-                            result = describeNetworkAcls(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeNetworkAclsResult> responseHandler = new StaxResponseHandler<DescribeNetworkAclsResult>(
+                new DescribeNetworkAclsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeNetworkAclsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -4636,28 +2994,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeNetworkInterfaceAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeNetworkInterfaceAttributeRequest, DescribeNetworkInterfaceAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeNetworkInterfaceAttributeResult>() {
-                    @Override
-                    public DescribeNetworkInterfaceAttributeResult call()
-                            throws Exception {
-                        DescribeNetworkInterfaceAttributeResult result;
-
-                        try {
-                            result = describeNetworkInterfaceAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeNetworkInterfaceAttributeResult> responseHandler = new StaxResponseHandler<DescribeNetworkInterfaceAttributeResult>(
+                new DescribeNetworkInterfaceAttributeResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeNetworkInterfaceAttributeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4672,28 +3014,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeNetworkInterfacesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeNetworkInterfacesRequest, DescribeNetworkInterfacesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeNetworkInterfacesResult>() {
-                    @Override
-                    public DescribeNetworkInterfacesResult call()
-                            throws Exception {
-                        DescribeNetworkInterfacesResult result;
-
-                        try {
-                            result = describeNetworkInterfaces(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeNetworkInterfacesResult> responseHandler = new StaxResponseHandler<DescribeNetworkInterfacesResult>(
+                new DescribeNetworkInterfacesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeNetworkInterfacesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -4734,28 +3060,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribePlacementGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribePlacementGroupsRequest, DescribePlacementGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribePlacementGroupsResult>() {
-                    @Override
-                    public DescribePlacementGroupsResult call()
-                            throws Exception {
-                        DescribePlacementGroupsResult result;
-
-                        try {
-                            result = describePlacementGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribePlacementGroupsResult> responseHandler = new StaxResponseHandler<DescribePlacementGroupsResult>(
+                new DescribePlacementGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribePlacementGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -4796,27 +3106,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribePrefixListsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribePrefixListsRequest, DescribePrefixListsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribePrefixListsResult>() {
-                    @Override
-                    public DescribePrefixListsResult call() throws Exception {
-                        DescribePrefixListsResult result;
-
-                        try {
-                            result = describePrefixLists(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribePrefixListsResult> responseHandler = new StaxResponseHandler<DescribePrefixListsResult>(
+                new DescribePrefixListsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribePrefixListsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -4856,27 +3150,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeRegionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRegionsRequest, DescribeRegionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeRegionsResult>() {
-                    @Override
-                    public DescribeRegionsResult call() throws Exception {
-                        DescribeRegionsResult result;
-
-                        try {
-                            result = describeRegions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeRegionsResult> responseHandler = new StaxResponseHandler<DescribeRegionsResult>(
+                new DescribeRegionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeRegionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -4915,28 +3193,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeReservedInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedInstancesRequest, DescribeReservedInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeReservedInstancesResult>() {
-                    @Override
-                    public DescribeReservedInstancesResult call()
-                            throws Exception {
-                        DescribeReservedInstancesResult result;
-
-                        try {
-                            result = describeReservedInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeReservedInstancesResult> responseHandler = new StaxResponseHandler<DescribeReservedInstancesResult>(
+                new DescribeReservedInstancesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeReservedInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -4977,28 +3239,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeReservedInstancesListingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedInstancesListingsRequest, DescribeReservedInstancesListingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeReservedInstancesListingsResult>() {
-                    @Override
-                    public DescribeReservedInstancesListingsResult call()
-                            throws Exception {
-                        DescribeReservedInstancesListingsResult result;
-
-                        try {
-                            result = describeReservedInstancesListings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeReservedInstancesListingsResult> responseHandler = new StaxResponseHandler<DescribeReservedInstancesListingsResult>(
+                new DescribeReservedInstancesListingsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeReservedInstancesListingsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -5039,28 +3285,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeReservedInstancesModificationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedInstancesModificationsRequest, DescribeReservedInstancesModificationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeReservedInstancesModificationsResult>() {
-                    @Override
-                    public DescribeReservedInstancesModificationsResult call()
-                            throws Exception {
-                        DescribeReservedInstancesModificationsResult result;
-
-                        try {
-                            result = describeReservedInstancesModifications(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeReservedInstancesModificationsResult> responseHandler = new StaxResponseHandler<DescribeReservedInstancesModificationsResult>(
+                new DescribeReservedInstancesModificationsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeReservedInstancesModificationsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -5102,28 +3332,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeReservedInstancesOfferingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedInstancesOfferingsRequest, DescribeReservedInstancesOfferingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeReservedInstancesOfferingsResult>() {
-                    @Override
-                    public DescribeReservedInstancesOfferingsResult call()
-                            throws Exception {
-                        DescribeReservedInstancesOfferingsResult result;
-
-                        try {
-                            result = describeReservedInstancesOfferings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeReservedInstancesOfferingsResult> responseHandler = new StaxResponseHandler<DescribeReservedInstancesOfferingsResult>(
+                new DescribeReservedInstancesOfferingsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeReservedInstancesOfferingsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -5164,27 +3378,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeRouteTablesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRouteTablesRequest, DescribeRouteTablesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeRouteTablesResult>() {
-                    @Override
-                    public DescribeRouteTablesResult call() throws Exception {
-                        DescribeRouteTablesResult result;
-
-                        try {
-                            result = describeRouteTables(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeRouteTablesResult> responseHandler = new StaxResponseHandler<DescribeRouteTablesResult>(
+                new DescribeRouteTablesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeRouteTablesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -5224,28 +3422,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeScheduledInstanceAvailabilityRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScheduledInstanceAvailabilityRequest, DescribeScheduledInstanceAvailabilityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeScheduledInstanceAvailabilityResult>() {
-                    @Override
-                    public DescribeScheduledInstanceAvailabilityResult call()
-                            throws Exception {
-                        DescribeScheduledInstanceAvailabilityResult result;
+        StaxResponseHandler<DescribeScheduledInstanceAvailabilityResult> responseHandler = new StaxResponseHandler<DescribeScheduledInstanceAvailabilityResult>(
+                new DescribeScheduledInstanceAvailabilityResultStaxUnmarshaller());
 
-                        try {
-                            result = describeScheduledInstanceAvailability(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeScheduledInstanceAvailabilityRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -5260,28 +3442,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeScheduledInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeScheduledInstancesRequest, DescribeScheduledInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeScheduledInstancesResult>() {
-                    @Override
-                    public DescribeScheduledInstancesResult call()
-                            throws Exception {
-                        DescribeScheduledInstancesResult result;
-
-                        try {
-                            result = describeScheduledInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeScheduledInstancesResult> responseHandler = new StaxResponseHandler<DescribeScheduledInstancesResult>(
+                new DescribeScheduledInstancesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeScheduledInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -5296,28 +3462,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSecurityGroupReferencesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSecurityGroupReferencesRequest, DescribeSecurityGroupReferencesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSecurityGroupReferencesResult>() {
-                    @Override
-                    public DescribeSecurityGroupReferencesResult call()
-                            throws Exception {
-                        DescribeSecurityGroupReferencesResult result;
+        StaxResponseHandler<DescribeSecurityGroupReferencesResult> responseHandler = new StaxResponseHandler<DescribeSecurityGroupReferencesResult>(
+                new DescribeSecurityGroupReferencesResultStaxUnmarshaller());
 
-                        try {
-                            result = describeSecurityGroupReferences(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeSecurityGroupReferencesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -5332,27 +3482,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSecurityGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSecurityGroupsRequest, DescribeSecurityGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSecurityGroupsResult>() {
-                    @Override
-                    public DescribeSecurityGroupsResult call() throws Exception {
-                        DescribeSecurityGroupsResult result;
-
-                        try {
-                            result = describeSecurityGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeSecurityGroupsResult> responseHandler = new StaxResponseHandler<DescribeSecurityGroupsResult>(
+                new DescribeSecurityGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeSecurityGroupsRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -5392,28 +3527,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSnapshotAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSnapshotAttributeRequest, DescribeSnapshotAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSnapshotAttributeResult>() {
-                    @Override
-                    public DescribeSnapshotAttributeResult call()
-                            throws Exception {
-                        DescribeSnapshotAttributeResult result;
-
-                        try {
-                            result = describeSnapshotAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeSnapshotAttributeResult> responseHandler = new StaxResponseHandler<DescribeSnapshotAttributeResult>(
+                new DescribeSnapshotAttributeResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeSnapshotAttributeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -5428,27 +3547,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSnapshotsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSnapshotsResult>() {
-                    @Override
-                    public DescribeSnapshotsResult call() throws Exception {
-                        DescribeSnapshotsResult result;
-
-                        try {
-                            result = describeSnapshots(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeSnapshotsResult> responseHandler = new StaxResponseHandler<DescribeSnapshotsResult>(
+                new DescribeSnapshotsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeSnapshotsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -5488,28 +3591,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSpotDatafeedSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSpotDatafeedSubscriptionRequest, DescribeSpotDatafeedSubscriptionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSpotDatafeedSubscriptionResult>() {
-                    @Override
-                    public DescribeSpotDatafeedSubscriptionResult call()
-                            throws Exception {
-                        DescribeSpotDatafeedSubscriptionResult result;
-
-                        try {
-                            result = describeSpotDatafeedSubscription(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeSpotDatafeedSubscriptionResult> responseHandler = new StaxResponseHandler<DescribeSpotDatafeedSubscriptionResult>(
+                new DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeSpotDatafeedSubscriptionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -5550,28 +3637,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSpotFleetInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSpotFleetInstancesRequest, DescribeSpotFleetInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSpotFleetInstancesResult>() {
-                    @Override
-                    public DescribeSpotFleetInstancesResult call()
-                            throws Exception {
-                        DescribeSpotFleetInstancesResult result;
+        StaxResponseHandler<DescribeSpotFleetInstancesResult> responseHandler = new StaxResponseHandler<DescribeSpotFleetInstancesResult>(
+                new DescribeSpotFleetInstancesResultStaxUnmarshaller());
 
-                        try {
-                            result = describeSpotFleetInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeSpotFleetInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -5586,28 +3657,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSpotFleetRequestHistoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSpotFleetRequestHistoryRequest, DescribeSpotFleetRequestHistoryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSpotFleetRequestHistoryResult>() {
-                    @Override
-                    public DescribeSpotFleetRequestHistoryResult call()
-                            throws Exception {
-                        DescribeSpotFleetRequestHistoryResult result;
-
-                        try {
-                            result = describeSpotFleetRequestHistory(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeSpotFleetRequestHistoryResult> responseHandler = new StaxResponseHandler<DescribeSpotFleetRequestHistoryResult>(
+                new DescribeSpotFleetRequestHistoryResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeSpotFleetRequestHistoryRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -5622,28 +3677,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSpotFleetRequestsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSpotFleetRequestsRequest, DescribeSpotFleetRequestsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSpotFleetRequestsResult>() {
-                    @Override
-                    public DescribeSpotFleetRequestsResult call()
-                            throws Exception {
-                        DescribeSpotFleetRequestsResult result;
-
-                        try {
-                            result = describeSpotFleetRequests(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeSpotFleetRequestsResult> responseHandler = new StaxResponseHandler<DescribeSpotFleetRequestsResult>(
+                new DescribeSpotFleetRequestsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeSpotFleetRequestsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -5684,28 +3723,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSpotInstanceRequestsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSpotInstanceRequestsRequest, DescribeSpotInstanceRequestsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSpotInstanceRequestsResult>() {
-                    @Override
-                    public DescribeSpotInstanceRequestsResult call()
-                            throws Exception {
-                        DescribeSpotInstanceRequestsResult result;
-
-                        try {
-                            result = describeSpotInstanceRequests(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeSpotInstanceRequestsResult> responseHandler = new StaxResponseHandler<DescribeSpotInstanceRequestsResult>(
+                new DescribeSpotInstanceRequestsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeSpotInstanceRequestsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -5746,28 +3769,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSpotPriceHistoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSpotPriceHistoryRequest, DescribeSpotPriceHistoryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSpotPriceHistoryResult>() {
-                    @Override
-                    public DescribeSpotPriceHistoryResult call()
-                            throws Exception {
-                        DescribeSpotPriceHistoryResult result;
-
-                        try {
-                            result = describeSpotPriceHistory(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeSpotPriceHistoryResult> responseHandler = new StaxResponseHandler<DescribeSpotPriceHistoryResult>(
+                new DescribeSpotPriceHistoryResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeSpotPriceHistoryRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -5808,28 +3815,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeStaleSecurityGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStaleSecurityGroupsRequest, DescribeStaleSecurityGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeStaleSecurityGroupsResult>() {
-                    @Override
-                    public DescribeStaleSecurityGroupsResult call()
-                            throws Exception {
-                        DescribeStaleSecurityGroupsResult result;
+        StaxResponseHandler<DescribeStaleSecurityGroupsResult> responseHandler = new StaxResponseHandler<DescribeStaleSecurityGroupsResult>(
+                new DescribeStaleSecurityGroupsResultStaxUnmarshaller());
 
-                        try {
-                            result = describeStaleSecurityGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeStaleSecurityGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -5844,27 +3835,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeSubnetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSubnetsRequest, DescribeSubnetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSubnetsResult>() {
-                    @Override
-                    public DescribeSubnetsResult call() throws Exception {
-                        DescribeSubnetsResult result;
-
-                        try {
-                            result = describeSubnets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeSubnetsResult> responseHandler = new StaxResponseHandler<DescribeSubnetsResult>(
+                new DescribeSubnetsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeSubnetsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -5903,27 +3878,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTagsResult>() {
-                    @Override
-                    public DescribeTagsResult call() throws Exception {
-                        DescribeTagsResult result;
-
-                        try {
-                            result = describeTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeTagsResult> responseHandler = new StaxResponseHandler<DescribeTagsResult>(
+                new DescribeTagsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeTagsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -5962,28 +3921,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVolumeAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVolumeAttributeRequest, DescribeVolumeAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeVolumeAttributeResult>() {
-                    @Override
-                    public DescribeVolumeAttributeResult call()
-                            throws Exception {
-                        DescribeVolumeAttributeResult result;
+        StaxResponseHandler<DescribeVolumeAttributeResult> responseHandler = new StaxResponseHandler<DescribeVolumeAttributeResult>(
+                new DescribeVolumeAttributeResultStaxUnmarshaller());
 
-                        try {
-                            result = describeVolumeAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeVolumeAttributeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -5998,27 +3941,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVolumeStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVolumeStatusRequest, DescribeVolumeStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeVolumeStatusResult>() {
-                    @Override
-                    public DescribeVolumeStatusResult call() throws Exception {
-                        DescribeVolumeStatusResult result;
-
-                        try {
-                            result = describeVolumeStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeVolumeStatusResult> responseHandler = new StaxResponseHandler<DescribeVolumeStatusResult>(
+                new DescribeVolumeStatusResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeVolumeStatusRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -6058,27 +3986,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVolumesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVolumesRequest, DescribeVolumesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeVolumesResult>() {
-                    @Override
-                    public DescribeVolumesResult call() throws Exception {
-                        DescribeVolumesResult result;
-
-                        try {
-                            result = describeVolumes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeVolumesResult> responseHandler = new StaxResponseHandler<DescribeVolumesResult>(
+                new DescribeVolumesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeVolumesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -6117,27 +4029,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpcAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpcAttributeRequest, DescribeVpcAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeVpcAttributeResult>() {
-                    @Override
-                    public DescribeVpcAttributeResult call() throws Exception {
-                        DescribeVpcAttributeResult result;
+        StaxResponseHandler<DescribeVpcAttributeResult> responseHandler = new StaxResponseHandler<DescribeVpcAttributeResult>(
+                new DescribeVpcAttributeResultStaxUnmarshaller());
 
-                        try {
-                            result = describeVpcAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeVpcAttributeRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -6152,27 +4049,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpcClassicLinkRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpcClassicLinkRequest, DescribeVpcClassicLinkResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeVpcClassicLinkResult>() {
-                    @Override
-                    public DescribeVpcClassicLinkResult call() throws Exception {
-                        DescribeVpcClassicLinkResult result;
-
-                        try {
-                            result = describeVpcClassicLink(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeVpcClassicLinkResult> responseHandler = new StaxResponseHandler<DescribeVpcClassicLinkResult>(
+                new DescribeVpcClassicLinkResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeVpcClassicLinkRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -6212,28 +4094,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpcClassicLinkDnsSupportRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpcClassicLinkDnsSupportRequest, DescribeVpcClassicLinkDnsSupportResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeVpcClassicLinkDnsSupportResult>() {
-                    @Override
-                    public DescribeVpcClassicLinkDnsSupportResult call()
-                            throws Exception {
-                        DescribeVpcClassicLinkDnsSupportResult result;
+        StaxResponseHandler<DescribeVpcClassicLinkDnsSupportResult> responseHandler = new StaxResponseHandler<DescribeVpcClassicLinkDnsSupportResult>(
+                new DescribeVpcClassicLinkDnsSupportResultStaxUnmarshaller());
 
-                        try {
-                            result = describeVpcClassicLinkDnsSupport(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeVpcClassicLinkDnsSupportRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -6248,28 +4114,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpcEndpointServicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpcEndpointServicesRequest, DescribeVpcEndpointServicesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeVpcEndpointServicesResult>() {
-                    @Override
-                    public DescribeVpcEndpointServicesResult call()
-                            throws Exception {
-                        DescribeVpcEndpointServicesResult result;
-
-                        try {
-                            result = describeVpcEndpointServices(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeVpcEndpointServicesResult> responseHandler = new StaxResponseHandler<DescribeVpcEndpointServicesResult>(
+                new DescribeVpcEndpointServicesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeVpcEndpointServicesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -6310,27 +4160,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpcEndpointsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpcEndpointsRequest, DescribeVpcEndpointsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeVpcEndpointsResult>() {
-                    @Override
-                    public DescribeVpcEndpointsResult call() throws Exception {
-                        DescribeVpcEndpointsResult result;
-
-                        try {
-                            result = describeVpcEndpoints(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeVpcEndpointsResult> responseHandler = new StaxResponseHandler<DescribeVpcEndpointsResult>(
+                new DescribeVpcEndpointsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeVpcEndpointsRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -6370,28 +4205,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpcPeeringConnectionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpcPeeringConnectionsRequest, DescribeVpcPeeringConnectionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeVpcPeeringConnectionsResult>() {
-                    @Override
-                    public DescribeVpcPeeringConnectionsResult call()
-                            throws Exception {
-                        DescribeVpcPeeringConnectionsResult result;
-
-                        try {
-                            result = describeVpcPeeringConnections(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeVpcPeeringConnectionsResult> responseHandler = new StaxResponseHandler<DescribeVpcPeeringConnectionsResult>(
+                new DescribeVpcPeeringConnectionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeVpcPeeringConnectionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -6432,27 +4251,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpcsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpcsRequest, DescribeVpcsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeVpcsResult>() {
-                    @Override
-                    public DescribeVpcsResult call() throws Exception {
-                        DescribeVpcsResult result;
-
-                        try {
-                            result = describeVpcs(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeVpcsResult> responseHandler = new StaxResponseHandler<DescribeVpcsResult>(
+                new DescribeVpcsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeVpcsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -6491,27 +4294,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpnConnectionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeVpnConnectionsResult>() {
-                    @Override
-                    public DescribeVpnConnectionsResult call() throws Exception {
-                        DescribeVpnConnectionsResult result;
-
-                        try {
-                            result = describeVpnConnections(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeVpnConnectionsResult> responseHandler = new StaxResponseHandler<DescribeVpnConnectionsResult>(
+                new DescribeVpnConnectionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeVpnConnectionsRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -6551,27 +4339,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DescribeVpnGatewaysRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVpnGatewaysRequest, DescribeVpnGatewaysResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeVpnGatewaysResult>() {
-                    @Override
-                    public DescribeVpnGatewaysResult call() throws Exception {
-                        DescribeVpnGatewaysResult result;
-
-                        try {
-                            result = describeVpnGateways(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeVpnGatewaysResult> responseHandler = new StaxResponseHandler<DescribeVpnGatewaysResult>(
+                new DescribeVpnGatewaysResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeVpnGatewaysRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -6611,27 +4383,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DetachClassicLinkVpcRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachClassicLinkVpcRequest, DetachClassicLinkVpcResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DetachClassicLinkVpcResult>() {
-                    @Override
-                    public DetachClassicLinkVpcResult call() throws Exception {
-                        DetachClassicLinkVpcResult result;
-
-                        try {
-                            result = detachClassicLinkVpc(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DetachClassicLinkVpcResult> responseHandler = new StaxResponseHandler<DetachClassicLinkVpcResult>(
+                new DetachClassicLinkVpcResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DetachClassicLinkVpcRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -6646,27 +4403,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DetachInternetGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachInternetGatewayRequest, DetachInternetGatewayResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DetachInternetGatewayResult>() {
-                    @Override
-                    public DetachInternetGatewayResult call() throws Exception {
-                        DetachInternetGatewayResult result;
+        StaxResponseHandler<DetachInternetGatewayResult> responseHandler = new StaxResponseHandler<DetachInternetGatewayResult>(
+                new DetachInternetGatewayResultStaxUnmarshaller());
 
-                        try {
-                            result = detachInternetGateway(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DetachInternetGatewayRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -6681,27 +4423,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DetachNetworkInterfaceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachNetworkInterfaceRequest, DetachNetworkInterfaceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DetachNetworkInterfaceResult>() {
-                    @Override
-                    public DetachNetworkInterfaceResult call() throws Exception {
-                        DetachNetworkInterfaceResult result;
-
-                        try {
-                            result = detachNetworkInterface(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DetachNetworkInterfaceResult> responseHandler = new StaxResponseHandler<DetachNetworkInterfaceResult>(
+                new DetachNetworkInterfaceResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DetachNetworkInterfaceRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -6716,27 +4443,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DetachVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachVolumeRequest, DetachVolumeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DetachVolumeResult>() {
-                    @Override
-                    public DetachVolumeResult call() throws Exception {
-                        DetachVolumeResult result;
-
-                        try {
-                            result = detachVolume(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DetachVolumeResult> responseHandler = new StaxResponseHandler<DetachVolumeResult>(
+                new DetachVolumeResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DetachVolumeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -6751,27 +4462,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DetachVpnGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachVpnGatewayRequest, DetachVpnGatewayResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DetachVpnGatewayResult>() {
-                    @Override
-                    public DetachVpnGatewayResult call() throws Exception {
-                        DetachVpnGatewayResult result;
+        StaxResponseHandler<DetachVpnGatewayResult> responseHandler = new StaxResponseHandler<DetachVpnGatewayResult>(
+                new DetachVpnGatewayResultStaxUnmarshaller());
 
-                        try {
-                            result = detachVpnGateway(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DetachVpnGatewayRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -6786,28 +4481,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DisableVgwRoutePropagationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableVgwRoutePropagationRequest, DisableVgwRoutePropagationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableVgwRoutePropagationResult>() {
-                    @Override
-                    public DisableVgwRoutePropagationResult call()
-                            throws Exception {
-                        DisableVgwRoutePropagationResult result;
-
-                        try {
-                            result = disableVgwRoutePropagation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DisableVgwRoutePropagationResult> responseHandler = new StaxResponseHandler<DisableVgwRoutePropagationResult>(
+                new DisableVgwRoutePropagationResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DisableVgwRoutePropagationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -6822,27 +4501,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DisableVpcClassicLinkRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableVpcClassicLinkRequest, DisableVpcClassicLinkResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableVpcClassicLinkResult>() {
-                    @Override
-                    public DisableVpcClassicLinkResult call() throws Exception {
-                        DisableVpcClassicLinkResult result;
+        StaxResponseHandler<DisableVpcClassicLinkResult> responseHandler = new StaxResponseHandler<DisableVpcClassicLinkResult>(
+                new DisableVpcClassicLinkResultStaxUnmarshaller());
 
-                        try {
-                            result = disableVpcClassicLink(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DisableVpcClassicLinkRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -6857,28 +4521,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DisableVpcClassicLinkDnsSupportRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableVpcClassicLinkDnsSupportRequest, DisableVpcClassicLinkDnsSupportResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableVpcClassicLinkDnsSupportResult>() {
-                    @Override
-                    public DisableVpcClassicLinkDnsSupportResult call()
-                            throws Exception {
-                        DisableVpcClassicLinkDnsSupportResult result;
-
-                        try {
-                            result = disableVpcClassicLinkDnsSupport(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DisableVpcClassicLinkDnsSupportResult> responseHandler = new StaxResponseHandler<DisableVpcClassicLinkDnsSupportResult>(
+                new DisableVpcClassicLinkDnsSupportResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DisableVpcClassicLinkDnsSupportRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -6893,27 +4541,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DisassociateAddressRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisassociateAddressRequest, DisassociateAddressResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisassociateAddressResult>() {
-                    @Override
-                    public DisassociateAddressResult call() throws Exception {
-                        DisassociateAddressResult result;
+        StaxResponseHandler<DisassociateAddressResult> responseHandler = new StaxResponseHandler<DisassociateAddressResult>(
+                new DisassociateAddressResultStaxUnmarshaller());
 
-                        try {
-                            result = disassociateAddress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DisassociateAddressRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -6928,27 +4560,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final DisassociateRouteTableRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisassociateRouteTableRequest, DisassociateRouteTableResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisassociateRouteTableResult>() {
-                    @Override
-                    public DisassociateRouteTableResult call() throws Exception {
-                        DisassociateRouteTableResult result;
-
-                        try {
-                            result = disassociateRouteTable(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DisassociateRouteTableResult> responseHandler = new StaxResponseHandler<DisassociateRouteTableResult>(
+                new DisassociateRouteTableResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DisassociateRouteTableRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -6963,28 +4580,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final EnableVgwRoutePropagationRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableVgwRoutePropagationRequest, EnableVgwRoutePropagationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableVgwRoutePropagationResult>() {
-                    @Override
-                    public EnableVgwRoutePropagationResult call()
-                            throws Exception {
-                        EnableVgwRoutePropagationResult result;
-
-                        try {
-                            result = enableVgwRoutePropagation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<EnableVgwRoutePropagationResult> responseHandler = new StaxResponseHandler<EnableVgwRoutePropagationResult>(
+                new EnableVgwRoutePropagationResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new EnableVgwRoutePropagationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -6999,27 +4600,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final EnableVolumeIORequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableVolumeIORequest, EnableVolumeIOResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableVolumeIOResult>() {
-                    @Override
-                    public EnableVolumeIOResult call() throws Exception {
-                        EnableVolumeIOResult result;
+        StaxResponseHandler<EnableVolumeIOResult> responseHandler = new StaxResponseHandler<EnableVolumeIOResult>(
+                new EnableVolumeIOResultStaxUnmarshaller());
 
-                        try {
-                            result = enableVolumeIO(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new EnableVolumeIORequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -7034,27 +4619,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final EnableVpcClassicLinkRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableVpcClassicLinkRequest, EnableVpcClassicLinkResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableVpcClassicLinkResult>() {
-                    @Override
-                    public EnableVpcClassicLinkResult call() throws Exception {
-                        EnableVpcClassicLinkResult result;
-
-                        try {
-                            result = enableVpcClassicLink(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<EnableVpcClassicLinkResult> responseHandler = new StaxResponseHandler<EnableVpcClassicLinkResult>(
+                new EnableVpcClassicLinkResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new EnableVpcClassicLinkRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -7069,28 +4639,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final EnableVpcClassicLinkDnsSupportRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableVpcClassicLinkDnsSupportRequest, EnableVpcClassicLinkDnsSupportResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableVpcClassicLinkDnsSupportResult>() {
-                    @Override
-                    public EnableVpcClassicLinkDnsSupportResult call()
-                            throws Exception {
-                        EnableVpcClassicLinkDnsSupportResult result;
-
-                        try {
-                            result = enableVpcClassicLinkDnsSupport(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<EnableVpcClassicLinkDnsSupportResult> responseHandler = new StaxResponseHandler<EnableVpcClassicLinkDnsSupportResult>(
+                new EnableVpcClassicLinkDnsSupportResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new EnableVpcClassicLinkDnsSupportRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -7105,27 +4659,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final GetConsoleOutputRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetConsoleOutputRequest, GetConsoleOutputResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetConsoleOutputResult>() {
-                    @Override
-                    public GetConsoleOutputResult call() throws Exception {
-                        GetConsoleOutputResult result;
+        StaxResponseHandler<GetConsoleOutputResult> responseHandler = new StaxResponseHandler<GetConsoleOutputResult>(
+                new GetConsoleOutputResultStaxUnmarshaller());
 
-                        try {
-                            result = getConsoleOutput(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetConsoleOutputRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -7140,27 +4678,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final GetConsoleScreenshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetConsoleScreenshotRequest, GetConsoleScreenshotResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetConsoleScreenshotResult>() {
-                    @Override
-                    public GetConsoleScreenshotResult call() throws Exception {
-                        GetConsoleScreenshotResult result;
-
-                        try {
-                            result = getConsoleScreenshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetConsoleScreenshotResult> responseHandler = new StaxResponseHandler<GetConsoleScreenshotResult>(
+                new GetConsoleScreenshotResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetConsoleScreenshotRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -7175,28 +4698,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final GetHostReservationPurchasePreviewRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetHostReservationPurchasePreviewRequest, GetHostReservationPurchasePreviewResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetHostReservationPurchasePreviewResult>() {
-                    @Override
-                    public GetHostReservationPurchasePreviewResult call()
-                            throws Exception {
-                        GetHostReservationPurchasePreviewResult result;
-
-                        try {
-                            result = getHostReservationPurchasePreview(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetHostReservationPurchasePreviewResult> responseHandler = new StaxResponseHandler<GetHostReservationPurchasePreviewResult>(
+                new GetHostReservationPurchasePreviewResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetHostReservationPurchasePreviewRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -7211,27 +4718,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final GetPasswordDataRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPasswordDataRequest, GetPasswordDataResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetPasswordDataResult>() {
-                    @Override
-                    public GetPasswordDataResult call() throws Exception {
-                        GetPasswordDataResult result;
+        StaxResponseHandler<GetPasswordDataResult> responseHandler = new StaxResponseHandler<GetPasswordDataResult>(
+                new GetPasswordDataResultStaxUnmarshaller());
 
-                        try {
-                            result = getPasswordData(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetPasswordDataRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -7246,27 +4737,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ImportImageRequest request,
             final com.amazonaws.handlers.AsyncHandler<ImportImageRequest, ImportImageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ImportImageResult>() {
-                    @Override
-                    public ImportImageResult call() throws Exception {
-                        ImportImageResult result;
-
-                        try {
-                            result = importImage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ImportImageResult> responseHandler = new StaxResponseHandler<ImportImageResult>(
+                new ImportImageResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ImportImageRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -7305,27 +4780,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ImportInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ImportInstanceRequest, ImportInstanceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ImportInstanceResult>() {
-                    @Override
-                    public ImportInstanceResult call() throws Exception {
-                        ImportInstanceResult result;
+        StaxResponseHandler<ImportInstanceResult> responseHandler = new StaxResponseHandler<ImportInstanceResult>(
+                new ImportInstanceResultStaxUnmarshaller());
 
-                        try {
-                            result = importInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ImportInstanceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -7340,27 +4799,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ImportKeyPairRequest request,
             final com.amazonaws.handlers.AsyncHandler<ImportKeyPairRequest, ImportKeyPairResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ImportKeyPairResult>() {
-                    @Override
-                    public ImportKeyPairResult call() throws Exception {
-                        ImportKeyPairResult result;
-
-                        try {
-                            result = importKeyPair(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ImportKeyPairResult> responseHandler = new StaxResponseHandler<ImportKeyPairResult>(
+                new ImportKeyPairResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ImportKeyPairRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -7375,27 +4818,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ImportSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<ImportSnapshotRequest, ImportSnapshotResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ImportSnapshotResult>() {
-                    @Override
-                    public ImportSnapshotResult call() throws Exception {
-                        ImportSnapshotResult result;
-
-                        try {
-                            result = importSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ImportSnapshotResult> responseHandler = new StaxResponseHandler<ImportSnapshotResult>(
+                new ImportSnapshotResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ImportSnapshotRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -7434,27 +4861,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ImportVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ImportVolumeRequest, ImportVolumeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ImportVolumeResult>() {
-                    @Override
-                    public ImportVolumeResult call() throws Exception {
-                        ImportVolumeResult result;
-
-                        try {
-                            result = importVolume(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ImportVolumeResult> responseHandler = new StaxResponseHandler<ImportVolumeResult>(
+                new ImportVolumeResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ImportVolumeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -7469,27 +4880,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyHostsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyHostsRequest, ModifyHostsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyHostsResult>() {
-                    @Override
-                    public ModifyHostsResult call() throws Exception {
-                        ModifyHostsResult result;
-
-                        try {
-                            result = modifyHosts(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ModifyHostsResult> responseHandler = new StaxResponseHandler<ModifyHostsResult>(
+                new ModifyHostsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ModifyHostsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -7504,27 +4899,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyIdFormatRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyIdFormatRequest, ModifyIdFormatResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyIdFormatResult>() {
-                    @Override
-                    public ModifyIdFormatResult call() throws Exception {
-                        ModifyIdFormatResult result;
+        StaxResponseHandler<ModifyIdFormatResult> responseHandler = new StaxResponseHandler<ModifyIdFormatResult>(
+                new ModifyIdFormatResultStaxUnmarshaller());
 
-                        try {
-                            result = modifyIdFormat(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ModifyIdFormatRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -7539,27 +4918,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyIdentityIdFormatRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyIdentityIdFormatRequest, ModifyIdentityIdFormatResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyIdentityIdFormatResult>() {
-                    @Override
-                    public ModifyIdentityIdFormatResult call() throws Exception {
-                        ModifyIdentityIdFormatResult result;
-
-                        try {
-                            result = modifyIdentityIdFormat(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ModifyIdentityIdFormatResult> responseHandler = new StaxResponseHandler<ModifyIdentityIdFormatResult>(
+                new ModifyIdentityIdFormatResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyIdentityIdFormatRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -7574,27 +4938,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyImageAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyImageAttributeRequest, ModifyImageAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyImageAttributeResult>() {
-                    @Override
-                    public ModifyImageAttributeResult call() throws Exception {
-                        ModifyImageAttributeResult result;
-
-                        try {
-                            result = modifyImageAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ModifyImageAttributeResult> responseHandler = new StaxResponseHandler<ModifyImageAttributeResult>(
+                new ModifyImageAttributeResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyImageAttributeRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -7609,28 +4958,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyInstanceAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyInstanceAttributeRequest, ModifyInstanceAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyInstanceAttributeResult>() {
-                    @Override
-                    public ModifyInstanceAttributeResult call()
-                            throws Exception {
-                        ModifyInstanceAttributeResult result;
+        StaxResponseHandler<ModifyInstanceAttributeResult> responseHandler = new StaxResponseHandler<ModifyInstanceAttributeResult>(
+                new ModifyInstanceAttributeResultStaxUnmarshaller());
 
-                        try {
-                            result = modifyInstanceAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyInstanceAttributeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -7645,28 +4978,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyInstancePlacementRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyInstancePlacementRequest, ModifyInstancePlacementResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyInstancePlacementResult>() {
-                    @Override
-                    public ModifyInstancePlacementResult call()
-                            throws Exception {
-                        ModifyInstancePlacementResult result;
-
-                        try {
-                            result = modifyInstancePlacement(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ModifyInstancePlacementResult> responseHandler = new StaxResponseHandler<ModifyInstancePlacementResult>(
+                new ModifyInstancePlacementResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyInstancePlacementRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -7681,28 +4998,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyNetworkInterfaceAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyNetworkInterfaceAttributeRequest, ModifyNetworkInterfaceAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyNetworkInterfaceAttributeResult>() {
-                    @Override
-                    public ModifyNetworkInterfaceAttributeResult call()
-                            throws Exception {
-                        ModifyNetworkInterfaceAttributeResult result;
-
-                        try {
-                            result = modifyNetworkInterfaceAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ModifyNetworkInterfaceAttributeResult> responseHandler = new StaxResponseHandler<ModifyNetworkInterfaceAttributeResult>(
+                new ModifyNetworkInterfaceAttributeResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyNetworkInterfaceAttributeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -7717,28 +5018,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyReservedInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyReservedInstancesRequest, ModifyReservedInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyReservedInstancesResult>() {
-                    @Override
-                    public ModifyReservedInstancesResult call()
-                            throws Exception {
-                        ModifyReservedInstancesResult result;
+        StaxResponseHandler<ModifyReservedInstancesResult> responseHandler = new StaxResponseHandler<ModifyReservedInstancesResult>(
+                new ModifyReservedInstancesResultStaxUnmarshaller());
 
-                        try {
-                            result = modifyReservedInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyReservedInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -7753,28 +5038,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifySnapshotAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifySnapshotAttributeRequest, ModifySnapshotAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifySnapshotAttributeResult>() {
-                    @Override
-                    public ModifySnapshotAttributeResult call()
-                            throws Exception {
-                        ModifySnapshotAttributeResult result;
-
-                        try {
-                            result = modifySnapshotAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ModifySnapshotAttributeResult> responseHandler = new StaxResponseHandler<ModifySnapshotAttributeResult>(
+                new ModifySnapshotAttributeResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifySnapshotAttributeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -7789,27 +5058,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifySpotFleetRequestRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifySpotFleetRequestRequest, ModifySpotFleetRequestResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifySpotFleetRequestResult>() {
-                    @Override
-                    public ModifySpotFleetRequestResult call() throws Exception {
-                        ModifySpotFleetRequestResult result;
+        StaxResponseHandler<ModifySpotFleetRequestResult> responseHandler = new StaxResponseHandler<ModifySpotFleetRequestResult>(
+                new ModifySpotFleetRequestResultStaxUnmarshaller());
 
-                        try {
-                            result = modifySpotFleetRequest(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifySpotFleetRequestRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -7824,27 +5078,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifySubnetAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifySubnetAttributeRequest, ModifySubnetAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifySubnetAttributeResult>() {
-                    @Override
-                    public ModifySubnetAttributeResult call() throws Exception {
-                        ModifySubnetAttributeResult result;
-
-                        try {
-                            result = modifySubnetAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ModifySubnetAttributeResult> responseHandler = new StaxResponseHandler<ModifySubnetAttributeResult>(
+                new ModifySubnetAttributeResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifySubnetAttributeRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -7859,27 +5098,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyVolumeAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyVolumeAttributeRequest, ModifyVolumeAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyVolumeAttributeResult>() {
-                    @Override
-                    public ModifyVolumeAttributeResult call() throws Exception {
-                        ModifyVolumeAttributeResult result;
+        StaxResponseHandler<ModifyVolumeAttributeResult> responseHandler = new StaxResponseHandler<ModifyVolumeAttributeResult>(
+                new ModifyVolumeAttributeResultStaxUnmarshaller());
 
-                        try {
-                            result = modifyVolumeAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyVolumeAttributeRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -7894,27 +5118,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyVpcAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyVpcAttributeRequest, ModifyVpcAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyVpcAttributeResult>() {
-                    @Override
-                    public ModifyVpcAttributeResult call() throws Exception {
-                        ModifyVpcAttributeResult result;
-
-                        try {
-                            result = modifyVpcAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ModifyVpcAttributeResult> responseHandler = new StaxResponseHandler<ModifyVpcAttributeResult>(
+                new ModifyVpcAttributeResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ModifyVpcAttributeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -7929,27 +5137,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyVpcEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyVpcEndpointRequest, ModifyVpcEndpointResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyVpcEndpointResult>() {
-                    @Override
-                    public ModifyVpcEndpointResult call() throws Exception {
-                        ModifyVpcEndpointResult result;
-
-                        try {
-                            result = modifyVpcEndpoint(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ModifyVpcEndpointResult> responseHandler = new StaxResponseHandler<ModifyVpcEndpointResult>(
+                new ModifyVpcEndpointResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ModifyVpcEndpointRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -7964,28 +5156,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ModifyVpcPeeringConnectionOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyVpcPeeringConnectionOptionsRequest, ModifyVpcPeeringConnectionOptionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyVpcPeeringConnectionOptionsResult>() {
-                    @Override
-                    public ModifyVpcPeeringConnectionOptionsResult call()
-                            throws Exception {
-                        ModifyVpcPeeringConnectionOptionsResult result;
+        StaxResponseHandler<ModifyVpcPeeringConnectionOptionsResult> responseHandler = new StaxResponseHandler<ModifyVpcPeeringConnectionOptionsResult>(
+                new ModifyVpcPeeringConnectionOptionsResultStaxUnmarshaller());
 
-                        try {
-                            result = modifyVpcPeeringConnectionOptions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyVpcPeeringConnectionOptionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8000,27 +5176,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final MonitorInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<MonitorInstancesRequest, MonitorInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<MonitorInstancesResult>() {
-                    @Override
-                    public MonitorInstancesResult call() throws Exception {
-                        MonitorInstancesResult result;
-
-                        try {
-                            result = monitorInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<MonitorInstancesResult> responseHandler = new StaxResponseHandler<MonitorInstancesResult>(
+                new MonitorInstancesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new MonitorInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8035,27 +5195,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final MoveAddressToVpcRequest request,
             final com.amazonaws.handlers.AsyncHandler<MoveAddressToVpcRequest, MoveAddressToVpcResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<MoveAddressToVpcResult>() {
-                    @Override
-                    public MoveAddressToVpcResult call() throws Exception {
-                        MoveAddressToVpcResult result;
-
-                        try {
-                            result = moveAddressToVpc(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<MoveAddressToVpcResult> responseHandler = new StaxResponseHandler<MoveAddressToVpcResult>(
+                new MoveAddressToVpcResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new MoveAddressToVpcRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8070,28 +5214,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final PurchaseHostReservationRequest request,
             final com.amazonaws.handlers.AsyncHandler<PurchaseHostReservationRequest, PurchaseHostReservationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PurchaseHostReservationResult>() {
-                    @Override
-                    public PurchaseHostReservationResult call()
-                            throws Exception {
-                        PurchaseHostReservationResult result;
+        StaxResponseHandler<PurchaseHostReservationResult> responseHandler = new StaxResponseHandler<PurchaseHostReservationResult>(
+                new PurchaseHostReservationResultStaxUnmarshaller());
 
-                        try {
-                            result = purchaseHostReservation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new PurchaseHostReservationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8106,28 +5234,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final PurchaseReservedInstancesOfferingRequest request,
             final com.amazonaws.handlers.AsyncHandler<PurchaseReservedInstancesOfferingRequest, PurchaseReservedInstancesOfferingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PurchaseReservedInstancesOfferingResult>() {
-                    @Override
-                    public PurchaseReservedInstancesOfferingResult call()
-                            throws Exception {
-                        PurchaseReservedInstancesOfferingResult result;
-
-                        try {
-                            result = purchaseReservedInstancesOffering(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<PurchaseReservedInstancesOfferingResult> responseHandler = new StaxResponseHandler<PurchaseReservedInstancesOfferingResult>(
+                new PurchaseReservedInstancesOfferingResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new PurchaseReservedInstancesOfferingRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8142,28 +5254,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final PurchaseScheduledInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<PurchaseScheduledInstancesRequest, PurchaseScheduledInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PurchaseScheduledInstancesResult>() {
-                    @Override
-                    public PurchaseScheduledInstancesResult call()
-                            throws Exception {
-                        PurchaseScheduledInstancesResult result;
-
-                        try {
-                            result = purchaseScheduledInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<PurchaseScheduledInstancesResult> responseHandler = new StaxResponseHandler<PurchaseScheduledInstancesResult>(
+                new PurchaseScheduledInstancesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new PurchaseScheduledInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8178,27 +5274,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RebootInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<RebootInstancesRequest, RebootInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RebootInstancesResult>() {
-                    @Override
-                    public RebootInstancesResult call() throws Exception {
-                        RebootInstancesResult result;
+        StaxResponseHandler<RebootInstancesResult> responseHandler = new StaxResponseHandler<RebootInstancesResult>(
+                new RebootInstancesResultStaxUnmarshaller());
 
-                        try {
-                            result = rebootInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RebootInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8213,27 +5293,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RegisterImageRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterImageRequest, RegisterImageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RegisterImageResult>() {
-                    @Override
-                    public RegisterImageResult call() throws Exception {
-                        RegisterImageResult result;
-
-                        try {
-                            result = registerImage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<RegisterImageResult> responseHandler = new StaxResponseHandler<RegisterImageResult>(
+                new RegisterImageResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RegisterImageRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8248,28 +5312,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RejectVpcPeeringConnectionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RejectVpcPeeringConnectionRequest, RejectVpcPeeringConnectionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RejectVpcPeeringConnectionResult>() {
-                    @Override
-                    public RejectVpcPeeringConnectionResult call()
-                            throws Exception {
-                        RejectVpcPeeringConnectionResult result;
+        StaxResponseHandler<RejectVpcPeeringConnectionResult> responseHandler = new StaxResponseHandler<RejectVpcPeeringConnectionResult>(
+                new RejectVpcPeeringConnectionResultStaxUnmarshaller());
 
-                        try {
-                            result = rejectVpcPeeringConnection(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RejectVpcPeeringConnectionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8284,27 +5332,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ReleaseAddressRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReleaseAddressRequest, ReleaseAddressResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReleaseAddressResult>() {
-                    @Override
-                    public ReleaseAddressResult call() throws Exception {
-                        ReleaseAddressResult result;
-
-                        try {
-                            result = releaseAddress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ReleaseAddressResult> responseHandler = new StaxResponseHandler<ReleaseAddressResult>(
+                new ReleaseAddressResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ReleaseAddressRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8319,27 +5351,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ReleaseHostsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReleaseHostsRequest, ReleaseHostsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReleaseHostsResult>() {
-                    @Override
-                    public ReleaseHostsResult call() throws Exception {
-                        ReleaseHostsResult result;
+        StaxResponseHandler<ReleaseHostsResult> responseHandler = new StaxResponseHandler<ReleaseHostsResult>(
+                new ReleaseHostsResultStaxUnmarshaller());
 
-                        try {
-                            result = releaseHosts(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ReleaseHostsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8354,28 +5370,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ReplaceNetworkAclAssociationRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReplaceNetworkAclAssociationRequest, ReplaceNetworkAclAssociationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReplaceNetworkAclAssociationResult>() {
-                    @Override
-                    public ReplaceNetworkAclAssociationResult call()
-                            throws Exception {
-                        ReplaceNetworkAclAssociationResult result;
-
-                        try {
-                            result = replaceNetworkAclAssociation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ReplaceNetworkAclAssociationResult> responseHandler = new StaxResponseHandler<ReplaceNetworkAclAssociationResult>(
+                new ReplaceNetworkAclAssociationResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ReplaceNetworkAclAssociationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8390,27 +5390,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ReplaceNetworkAclEntryRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReplaceNetworkAclEntryRequest, ReplaceNetworkAclEntryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReplaceNetworkAclEntryResult>() {
-                    @Override
-                    public ReplaceNetworkAclEntryResult call() throws Exception {
-                        ReplaceNetworkAclEntryResult result;
-
-                        try {
-                            result = replaceNetworkAclEntry(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ReplaceNetworkAclEntryResult> responseHandler = new StaxResponseHandler<ReplaceNetworkAclEntryResult>(
+                new ReplaceNetworkAclEntryResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ReplaceNetworkAclEntryRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -8425,27 +5410,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ReplaceRouteRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReplaceRouteRequest, ReplaceRouteResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReplaceRouteResult>() {
-                    @Override
-                    public ReplaceRouteResult call() throws Exception {
-                        ReplaceRouteResult result;
+        StaxResponseHandler<ReplaceRouteResult> responseHandler = new StaxResponseHandler<ReplaceRouteResult>(
+                new ReplaceRouteResultStaxUnmarshaller());
 
-                        try {
-                            result = replaceRoute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ReplaceRouteRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8460,28 +5429,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ReplaceRouteTableAssociationRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReplaceRouteTableAssociationRequest, ReplaceRouteTableAssociationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReplaceRouteTableAssociationResult>() {
-                    @Override
-                    public ReplaceRouteTableAssociationResult call()
-                            throws Exception {
-                        ReplaceRouteTableAssociationResult result;
-
-                        try {
-                            result = replaceRouteTableAssociation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ReplaceRouteTableAssociationResult> responseHandler = new StaxResponseHandler<ReplaceRouteTableAssociationResult>(
+                new ReplaceRouteTableAssociationResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ReplaceRouteTableAssociationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8496,27 +5449,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ReportInstanceStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReportInstanceStatusRequest, ReportInstanceStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReportInstanceStatusResult>() {
-                    @Override
-                    public ReportInstanceStatusResult call() throws Exception {
-                        ReportInstanceStatusResult result;
-
-                        try {
-                            result = reportInstanceStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ReportInstanceStatusResult> responseHandler = new StaxResponseHandler<ReportInstanceStatusResult>(
+                new ReportInstanceStatusResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ReportInstanceStatusRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -8531,27 +5469,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RequestSpotFleetRequest request,
             final com.amazonaws.handlers.AsyncHandler<RequestSpotFleetRequest, RequestSpotFleetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RequestSpotFleetResult>() {
-                    @Override
-                    public RequestSpotFleetResult call() throws Exception {
-                        RequestSpotFleetResult result;
+        StaxResponseHandler<RequestSpotFleetResult> responseHandler = new StaxResponseHandler<RequestSpotFleetResult>(
+                new RequestSpotFleetResultStaxUnmarshaller());
 
-                        try {
-                            result = requestSpotFleet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RequestSpotFleetRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8566,27 +5488,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RequestSpotInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<RequestSpotInstancesRequest, RequestSpotInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RequestSpotInstancesResult>() {
-                    @Override
-                    public RequestSpotInstancesResult call() throws Exception {
-                        RequestSpotInstancesResult result;
-
-                        try {
-                            result = requestSpotInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<RequestSpotInstancesResult> responseHandler = new StaxResponseHandler<RequestSpotInstancesResult>(
+                new RequestSpotInstancesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RequestSpotInstancesRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -8601,27 +5508,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ResetImageAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetImageAttributeRequest, ResetImageAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ResetImageAttributeResult>() {
-                    @Override
-                    public ResetImageAttributeResult call() throws Exception {
-                        ResetImageAttributeResult result;
-
-                        try {
-                            result = resetImageAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ResetImageAttributeResult> responseHandler = new StaxResponseHandler<ResetImageAttributeResult>(
+                new ResetImageAttributeResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ResetImageAttributeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8636,27 +5527,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ResetInstanceAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetInstanceAttributeRequest, ResetInstanceAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ResetInstanceAttributeResult>() {
-                    @Override
-                    public ResetInstanceAttributeResult call() throws Exception {
-                        ResetInstanceAttributeResult result;
+        StaxResponseHandler<ResetInstanceAttributeResult> responseHandler = new StaxResponseHandler<ResetInstanceAttributeResult>(
+                new ResetInstanceAttributeResultStaxUnmarshaller());
 
-                        try {
-                            result = resetInstanceAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ResetInstanceAttributeRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -8671,28 +5547,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ResetNetworkInterfaceAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetNetworkInterfaceAttributeRequest, ResetNetworkInterfaceAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ResetNetworkInterfaceAttributeResult>() {
-                    @Override
-                    public ResetNetworkInterfaceAttributeResult call()
-                            throws Exception {
-                        ResetNetworkInterfaceAttributeResult result;
-
-                        try {
-                            result = resetNetworkInterfaceAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ResetNetworkInterfaceAttributeResult> responseHandler = new StaxResponseHandler<ResetNetworkInterfaceAttributeResult>(
+                new ResetNetworkInterfaceAttributeResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ResetNetworkInterfaceAttributeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8707,27 +5567,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final ResetSnapshotAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetSnapshotAttributeRequest, ResetSnapshotAttributeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ResetSnapshotAttributeResult>() {
-                    @Override
-                    public ResetSnapshotAttributeResult call() throws Exception {
-                        ResetSnapshotAttributeResult result;
+        StaxResponseHandler<ResetSnapshotAttributeResult> responseHandler = new StaxResponseHandler<ResetSnapshotAttributeResult>(
+                new ResetSnapshotAttributeResultStaxUnmarshaller());
 
-                        try {
-                            result = resetSnapshotAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ResetSnapshotAttributeRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -8742,28 +5587,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RestoreAddressToClassicRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestoreAddressToClassicRequest, RestoreAddressToClassicResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RestoreAddressToClassicResult>() {
-                    @Override
-                    public RestoreAddressToClassicResult call()
-                            throws Exception {
-                        RestoreAddressToClassicResult result;
-
-                        try {
-                            result = restoreAddressToClassic(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<RestoreAddressToClassicResult> responseHandler = new StaxResponseHandler<RestoreAddressToClassicResult>(
+                new RestoreAddressToClassicResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RestoreAddressToClassicRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8778,28 +5607,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RevokeSecurityGroupEgressRequest request,
             final com.amazonaws.handlers.AsyncHandler<RevokeSecurityGroupEgressRequest, RevokeSecurityGroupEgressResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RevokeSecurityGroupEgressResult>() {
-                    @Override
-                    public RevokeSecurityGroupEgressResult call()
-                            throws Exception {
-                        RevokeSecurityGroupEgressResult result;
+        StaxResponseHandler<RevokeSecurityGroupEgressResult> responseHandler = new StaxResponseHandler<RevokeSecurityGroupEgressResult>(
+                new RevokeSecurityGroupEgressResultStaxUnmarshaller());
 
-                        try {
-                            result = revokeSecurityGroupEgress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RevokeSecurityGroupEgressRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8814,28 +5627,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RevokeSecurityGroupIngressRequest request,
             final com.amazonaws.handlers.AsyncHandler<RevokeSecurityGroupIngressRequest, RevokeSecurityGroupIngressResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RevokeSecurityGroupIngressResult>() {
-                    @Override
-                    public RevokeSecurityGroupIngressResult call()
-                            throws Exception {
-                        RevokeSecurityGroupIngressResult result;
-
-                        try {
-                            result = revokeSecurityGroupIngress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<RevokeSecurityGroupIngressResult> responseHandler = new StaxResponseHandler<RevokeSecurityGroupIngressResult>(
+                new RevokeSecurityGroupIngressResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new RevokeSecurityGroupIngressRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -8876,27 +5673,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RunInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<RunInstancesRequest, RunInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RunInstancesResult>() {
-                    @Override
-                    public RunInstancesResult call() throws Exception {
-                        RunInstancesResult result;
-
-                        try {
-                            result = runInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<RunInstancesResult> responseHandler = new StaxResponseHandler<RunInstancesResult>(
+                new RunInstancesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RunInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8911,27 +5692,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final RunScheduledInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<RunScheduledInstancesRequest, RunScheduledInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RunScheduledInstancesResult>() {
-                    @Override
-                    public RunScheduledInstancesResult call() throws Exception {
-                        RunScheduledInstancesResult result;
+        StaxResponseHandler<RunScheduledInstancesResult> responseHandler = new StaxResponseHandler<RunScheduledInstancesResult>(
+                new RunScheduledInstancesResultStaxUnmarshaller());
 
-                        try {
-                            result = runScheduledInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RunScheduledInstancesRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -8946,27 +5712,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final StartInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartInstancesRequest, StartInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StartInstancesResult>() {
-                    @Override
-                    public StartInstancesResult call() throws Exception {
-                        StartInstancesResult result;
-
-                        try {
-                            result = startInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<StartInstancesResult> responseHandler = new StaxResponseHandler<StartInstancesResult>(
+                new StartInstancesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new StartInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -8981,27 +5731,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final StopInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopInstancesRequest, StopInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StopInstancesResult>() {
-                    @Override
-                    public StopInstancesResult call() throws Exception {
-                        StopInstancesResult result;
-
-                        try {
-                            result = stopInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<StopInstancesResult> responseHandler = new StaxResponseHandler<StopInstancesResult>(
+                new StopInstancesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new StopInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -9016,27 +5750,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final TerminateInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<TerminateInstancesRequest, TerminateInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<TerminateInstancesResult>() {
-                    @Override
-                    public TerminateInstancesResult call() throws Exception {
-                        TerminateInstancesResult result;
+        StaxResponseHandler<TerminateInstancesResult> responseHandler = new StaxResponseHandler<TerminateInstancesResult>(
+                new TerminateInstancesResultStaxUnmarshaller());
 
-                        try {
-                            result = terminateInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new TerminateInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -9051,28 +5769,12 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final UnassignPrivateIpAddressesRequest request,
             final com.amazonaws.handlers.AsyncHandler<UnassignPrivateIpAddressesRequest, UnassignPrivateIpAddressesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UnassignPrivateIpAddressesResult>() {
-                    @Override
-                    public UnassignPrivateIpAddressesResult call()
-                            throws Exception {
-                        UnassignPrivateIpAddressesResult result;
-
-                        try {
-                            result = unassignPrivateIpAddresses(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<UnassignPrivateIpAddressesResult> responseHandler = new StaxResponseHandler<UnassignPrivateIpAddressesResult>(
+                new UnassignPrivateIpAddressesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UnassignPrivateIpAddressesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -9087,27 +5789,11 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client implements
             final UnmonitorInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<UnmonitorInstancesRequest, UnmonitorInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UnmonitorInstancesResult>() {
-                    @Override
-                    public UnmonitorInstancesResult call() throws Exception {
-                        UnmonitorInstancesResult result;
-
-                        try {
-                            result = unmonitorInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<UnmonitorInstancesResult> responseHandler = new StaxResponseHandler<UnmonitorInstancesResult>(
+                new UnmonitorInstancesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new UnmonitorInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
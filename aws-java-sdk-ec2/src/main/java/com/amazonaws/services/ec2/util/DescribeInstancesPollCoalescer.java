@@ -0,0 +1,105 @@
+/*
+ * Copyright 2010-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.ec2.util;
+
+import com.amazonaws.services.ec2.model.DescribeInstancesRequest;
+import com.amazonaws.services.ec2.model.DescribeInstancesResult;
+import com.amazonaws.services.ec2.model.Instance;
+import com.amazonaws.services.ec2.model.Reservation;
+import com.amazonaws.waiters.PollCoalescer;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Merges the DescribeInstances polls of waiters which each wait on their own
+ * instances into one DescribeInstances call for all of the instances, and
+ * gives every waiter only the reservations and instances it asked for. It is
+ * registered with the scheduler of {@code AmazonEC2Waiters}.
+ *
+ * <p>Only requests which select instances by id alone are merged; requests
+ * with filters, a page size or a page token are sent as they are. If the
+ * merged call fails, for example because one of the instances doesn't
+ * exist, the requests are retried separately by the scheduler.</p>
+ */
+public class DescribeInstancesPollCoalescer
+        implements PollCoalescer<DescribeInstancesRequest, DescribeInstancesResult> {
+
+    /**
+     * The maximum number of requests merged into one call.
+     */
+    private static final int MAX_BATCH_SIZE = 200;
+
+    /**
+     * Key shared by all the requests selecting instances by id alone.
+     */
+    private static final String INSTANCE_IDS_ONLY = "InstanceIds";
+
+    @Override
+    public Object getCoalescingKey(DescribeInstancesRequest request) {
+        if (request.getInstanceIds().isEmpty()
+            || !request.getFilters().isEmpty()
+            || request.getMaxResults() != null
+            || request.getNextToken() != null) {
+            return null;
+        }
+        return INSTANCE_IDS_ONLY;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
+    @Override
+    public DescribeInstancesRequest merge(List<DescribeInstancesRequest> requests) {
+        Set<String> instanceIds = new LinkedHashSet<String>();
+        for (DescribeInstancesRequest request : requests) {
+            instanceIds.addAll(request.getInstanceIds());
+        }
+        return new DescribeInstancesRequest().withInstanceIds(instanceIds);
+    }
+
+    @Override
+    public DescribeInstancesResult split(DescribeInstancesRequest request, DescribeInstancesResult result) {
+        Set<String> instanceIds = new HashSet<String>(request.getInstanceIds());
+        List<Reservation> reservations = new ArrayList<Reservation>();
+        for (Reservation reservation : result.getReservations()) {
+            List<Instance> instances = new ArrayList<Instance>();
+            for (Instance instance : reservation.getInstances()) {
+                if (instanceIds.contains(instance.getInstanceId())) {
+                    instances.add(instance);
+                }
+            }
+            if (instances.isEmpty()) {
+                continue;
+            }
+            if (instances.size() == reservation.getInstances().size()) {
+                reservations.add(reservation);
+            } else {
+                Reservation filtered = reservation.clone();
+                filtered.setInstances(instances);
+                reservations.add(filtered);
+            }
+        }
+        DescribeInstancesResult split = result.clone();
+        split.setReservations(reservations);
+        return split;
+    }
+}
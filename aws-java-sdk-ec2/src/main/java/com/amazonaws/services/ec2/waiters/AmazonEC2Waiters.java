@@ -16,6 +16,7 @@ package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
 import com.amazonaws.services.ec2.model.*;
 import com.amazonaws.waiters.*;
 
@@ -32,6 +33,13 @@ public class AmazonEC2Waiters {
     private final ExecutorService executorService = Executors
             .newFixedThreadPool(50);
 
+    /**
+     * Schedules the polls of asynchronous waiters
+     */
+    private final WaiterScheduler scheduler = new WaiterScheduler(
+            WaiterScheduler.newDaemonScheduledExecutorService(),
+            executorService);
+
     /**
      * Constructs a new AmazonEC2Waiters with the given client
      * 
@@ -41,6 +49,20 @@ public class AmazonEC2Waiters {
     @SdkInternalApi
     public AmazonEC2Waiters(AmazonEC2 client) {
         this.client = client;
+        scheduler
+                .withPollCoalescer(
+                        DescribeInstancesRequest.class,
+                        new com.amazonaws.services.ec2.util.DescribeInstancesPollCoalescer());
+    }
+
+    /**
+     * Returns the scheduler the asynchronous waiters of this client poll on,
+     * e.g. to register a {@link PollCoalescer} for one of its operations
+     * 
+     * @return Waiter scheduler of this client
+     */
+    public WaiterScheduler getScheduler() {
+        return scheduler;
     }
 
     /**
@@ -52,13 +74,17 @@ public class AmazonEC2Waiters {
      */
     public Waiter<GetPasswordDataRequest> passwordDataAvailable() {
 
+        GetPasswordDataFunction function = new GetPasswordDataFunction(client);
         return new WaiterBuilder<GetPasswordDataRequest, GetPasswordDataResult>()
-                .withSdkFunction(new GetPasswordDataFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new PasswordDataAvailable.IsTrueMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -70,14 +96,18 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeVolumesRequest> volumeInUse() {
 
+        DescribeVolumesFunction function = new DescribeVolumesFunction(client);
         return new WaiterBuilder<DescribeVolumesRequest, DescribeVolumesResult>()
-                .withSdkFunction(new DescribeVolumesFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new VolumeInUse.IsInuseMatcher(),
                         new VolumeInUse.IsDeletedMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -89,14 +119,18 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeImagesRequest> imageAvailable() {
 
+        DescribeImagesFunction function = new DescribeImagesFunction(client);
         return new WaiterBuilder<DescribeImagesRequest, DescribeImagesResult>()
-                .withSdkFunction(new DescribeImagesFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new ImageAvailable.IsAvailableMatcher(),
                         new ImageAvailable.IsFailedMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -108,15 +142,19 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeNetworkInterfacesRequest> networkInterfaceAvailable() {
 
+        DescribeNetworkInterfacesFunction function = new DescribeNetworkInterfacesFunction(client);
         return new WaiterBuilder<DescribeNetworkInterfacesRequest, DescribeNetworkInterfacesResult>()
-                .withSdkFunction(new DescribeNetworkInterfacesFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(
                         new NetworkInterfaceAvailable.IsAvailableMatcher(),
                         new NetworkInterfaceAvailable.IsInvalidNetworkInterfaceIDNotFoundMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(10),
                                 new FixedDelayStrategy(20)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -128,13 +166,17 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeInstanceStatusRequest> systemStatusOk() {
 
+        DescribeInstanceStatusFunction function = new DescribeInstanceStatusFunction(client);
         return new WaiterBuilder<DescribeInstanceStatusRequest, DescribeInstanceStatusResult>()
-                .withSdkFunction(new DescribeInstanceStatusFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new SystemStatusOk.IsOkMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -146,16 +188,19 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeVpcPeeringConnectionsRequest> vpcPeeringConnectionExists() {
 
+        DescribeVpcPeeringConnectionsFunction function = new DescribeVpcPeeringConnectionsFunction(client);
         return new WaiterBuilder<DescribeVpcPeeringConnectionsRequest, DescribeVpcPeeringConnectionsResult>()
-                .withSdkFunction(
-                        new DescribeVpcPeeringConnectionsFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(
                         new HttpSuccessStatusAcceptor(WaiterState.SUCCESS),
                         new VpcPeeringConnectionExists.IsInvalidVpcPeeringConnectionIDNotFoundMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -167,14 +212,18 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeVolumesRequest> volumeAvailable() {
 
+        DescribeVolumesFunction function = new DescribeVolumesFunction(client);
         return new WaiterBuilder<DescribeVolumesRequest, DescribeVolumesResult>()
-                .withSdkFunction(new DescribeVolumesFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new VolumeAvailable.IsAvailableMatcher(),
                         new VolumeAvailable.IsDeletedMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -186,15 +235,19 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeInstanceStatusRequest> instanceStatusOk() {
 
+        DescribeInstanceStatusFunction function = new DescribeInstanceStatusFunction(client);
         return new WaiterBuilder<DescribeInstanceStatusRequest, DescribeInstanceStatusResult>()
-                .withSdkFunction(new DescribeInstanceStatusFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(
                         new InstanceStatusOk.IsOkMatcher(),
                         new InstanceStatusOk.IsInvalidInstanceIDNotFoundMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -206,14 +259,18 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeVolumesRequest> volumeDeleted() {
 
+        DescribeVolumesFunction function = new DescribeVolumesFunction(client);
         return new WaiterBuilder<DescribeVolumesRequest, DescribeVolumesResult>()
-                .withSdkFunction(new DescribeVolumesFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new VolumeDeleted.IsDeletedMatcher(),
                         new VolumeDeleted.IsInvalidVolumeNotFoundMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -225,8 +282,11 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeCustomerGatewaysRequest> customerGatewayAvailable() {
 
+        DescribeCustomerGatewaysFunction function = new DescribeCustomerGatewaysFunction(client);
         return new WaiterBuilder<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult>()
-                .withSdkFunction(new DescribeCustomerGatewaysFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(
                         new CustomerGatewayAvailable.IsAvailableMatcher(),
                         new CustomerGatewayAvailable.IsDeletedMatcher(),
@@ -234,7 +294,8 @@ public class AmazonEC2Waiters {
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -246,8 +307,11 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeNatGatewaysRequest> natGatewayAvailable() {
 
+        DescribeNatGatewaysFunction function = new DescribeNatGatewaysFunction(client);
         return new WaiterBuilder<DescribeNatGatewaysRequest, DescribeNatGatewaysResult>()
-                .withSdkFunction(new DescribeNatGatewaysFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new NatGatewayAvailable.IsAvailableMatcher(),
                         new NatGatewayAvailable.IsFailedMatcher(),
                         new NatGatewayAvailable.IsDeletingMatcher(),
@@ -256,7 +320,8 @@ public class AmazonEC2Waiters {
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -268,15 +333,19 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeVpcsRequest> vpcExists() {
 
+        DescribeVpcsFunction function = new DescribeVpcsFunction(client);
         return new WaiterBuilder<DescribeVpcsRequest, DescribeVpcsResult>()
-                .withSdkFunction(new DescribeVpcsFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(
                         new HttpSuccessStatusAcceptor(WaiterState.SUCCESS),
                         new VpcExists.IsInvalidVpcIDNotFoundMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(5),
                                 new FixedDelayStrategy(1)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -288,13 +357,17 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeConversionTasksRequest> conversionTaskDeleted() {
 
+        DescribeConversionTasksFunction function = new DescribeConversionTasksFunction(client);
         return new WaiterBuilder<DescribeConversionTasksRequest, DescribeConversionTasksResult>()
-                .withSdkFunction(new DescribeConversionTasksFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new ConversionTaskDeleted.IsDeletedMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -306,14 +379,18 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeImagesRequest> imageExists() {
 
+        DescribeImagesFunction function = new DescribeImagesFunction(client);
         return new WaiterBuilder<DescribeImagesRequest, DescribeImagesResult>()
-                .withSdkFunction(new DescribeImagesFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new ImageExists.IsTrueMatcher(),
                         new ImageExists.IsInvalidAMIIDNotFoundMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -325,13 +402,17 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeVpcsRequest> vpcAvailable() {
 
+        DescribeVpcsFunction function = new DescribeVpcsFunction(client);
         return new WaiterBuilder<DescribeVpcsRequest, DescribeVpcsResult>()
-                .withSdkFunction(new DescribeVpcsFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new VpcAvailable.IsAvailableMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -343,13 +424,17 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeConversionTasksRequest> conversionTaskCancelled() {
 
+        DescribeConversionTasksFunction function = new DescribeConversionTasksFunction(client);
         return new WaiterBuilder<DescribeConversionTasksRequest, DescribeConversionTasksResult>()
-                .withSdkFunction(new DescribeConversionTasksFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new ConversionTaskCancelled.IsCancelledMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -361,14 +446,18 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeInstancesRequest> instanceExists() {
 
+        DescribeInstancesFunction function = new DescribeInstancesFunction(client);
         return new WaiterBuilder<DescribeInstancesRequest, DescribeInstancesResult>()
-                .withSdkFunction(new DescribeInstancesFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new InstanceExists.IsTrueMatcher(),
                         new InstanceExists.IsInvalidInstanceIDNotFoundMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(5)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -380,15 +469,19 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeInstancesRequest> instanceTerminated() {
 
+        DescribeInstancesFunction function = new DescribeInstancesFunction(client);
         return new WaiterBuilder<DescribeInstancesRequest, DescribeInstancesResult>()
-                .withSdkFunction(new DescribeInstancesFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new InstanceTerminated.IsTerminatedMatcher(),
                         new InstanceTerminated.IsPendingMatcher(),
                         new InstanceTerminated.IsStoppingMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -400,8 +493,11 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeConversionTasksRequest> conversionTaskCompleted() {
 
+        DescribeConversionTasksFunction function = new DescribeConversionTasksFunction(client);
         return new WaiterBuilder<DescribeConversionTasksRequest, DescribeConversionTasksResult>()
-                .withSdkFunction(new DescribeConversionTasksFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(
                         new ConversionTaskCompleted.IsCompletedMatcher(),
                         new ConversionTaskCompleted.IsCancelledMatcher(),
@@ -409,7 +505,8 @@ public class AmazonEC2Waiters {
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -421,14 +518,18 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeKeyPairsRequest> keyPairExists() {
 
+        DescribeKeyPairsFunction function = new DescribeKeyPairsFunction(client);
         return new WaiterBuilder<DescribeKeyPairsRequest, DescribeKeyPairsResult>()
-                .withSdkFunction(new DescribeKeyPairsFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new KeyPairExists.IsTrueMatcher(),
                         new KeyPairExists.IsInvalidKeyPairNotFoundMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(6),
                                 new FixedDelayStrategy(5)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -440,9 +541,11 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeSpotInstanceRequestsRequest> spotInstanceRequestFulfilled() {
 
+        DescribeSpotInstanceRequestsFunction function = new DescribeSpotInstanceRequestsFunction(client);
         return new WaiterBuilder<DescribeSpotInstanceRequestsRequest, DescribeSpotInstanceRequestsResult>()
-                .withSdkFunction(
-                        new DescribeSpotInstanceRequestsFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(
                         new SpotInstanceRequestFulfilled.IsFulfilledMatcher(),
                         new SpotInstanceRequestFulfilled.IsScheduleexpiredMatcher(),
@@ -452,7 +555,8 @@ public class AmazonEC2Waiters {
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -464,14 +568,18 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeBundleTasksRequest> bundleTaskComplete() {
 
+        DescribeBundleTasksFunction function = new DescribeBundleTasksFunction(client);
         return new WaiterBuilder<DescribeBundleTasksRequest, DescribeBundleTasksResult>()
-                .withSdkFunction(new DescribeBundleTasksFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new BundleTaskComplete.IsCompleteMatcher(),
                         new BundleTaskComplete.IsFailedMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -483,8 +591,11 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeInstancesRequest> instanceRunning() {
 
+        DescribeInstancesFunction function = new DescribeInstancesFunction(client);
         return new WaiterBuilder<DescribeInstancesRequest, DescribeInstancesResult>()
-                .withSdkFunction(new DescribeInstancesFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(
                         new InstanceRunning.IsRunningMatcher(),
                         new InstanceRunning.IsShuttingdownMatcher(),
@@ -494,7 +605,8 @@ public class AmazonEC2Waiters {
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -506,13 +618,17 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeExportTasksRequest> exportTaskCompleted() {
 
+        DescribeExportTasksFunction function = new DescribeExportTasksFunction(client);
         return new WaiterBuilder<DescribeExportTasksRequest, DescribeExportTasksResult>()
-                .withSdkFunction(new DescribeExportTasksFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new ExportTaskCompleted.IsCompletedMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -524,13 +640,17 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeSnapshotsRequest> snapshotCompleted() {
 
+        DescribeSnapshotsFunction function = new DescribeSnapshotsFunction(client);
         return new WaiterBuilder<DescribeSnapshotsRequest, DescribeSnapshotsResult>()
-                .withSdkFunction(new DescribeSnapshotsFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new SnapshotCompleted.IsCompletedMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -542,13 +662,17 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeExportTasksRequest> exportTaskCancelled() {
 
+        DescribeExportTasksFunction function = new DescribeExportTasksFunction(client);
         return new WaiterBuilder<DescribeExportTasksRequest, DescribeExportTasksResult>()
-                .withSdkFunction(new DescribeExportTasksFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new ExportTaskCancelled.IsCancelledMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -560,14 +684,18 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeVpnConnectionsRequest> vpnConnectionDeleted() {
 
+        DescribeVpnConnectionsFunction function = new DescribeVpnConnectionsFunction(client);
         return new WaiterBuilder<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult>()
-                .withSdkFunction(new DescribeVpnConnectionsFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new VpnConnectionDeleted.IsDeletedMatcher(),
                         new VpnConnectionDeleted.IsPendingMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -579,15 +707,19 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeVpnConnectionsRequest> vpnConnectionAvailable() {
 
+        DescribeVpnConnectionsFunction function = new DescribeVpnConnectionsFunction(client);
         return new WaiterBuilder<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult>()
-                .withSdkFunction(new DescribeVpnConnectionsFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new VpnConnectionAvailable.IsAvailableMatcher(),
                         new VpnConnectionAvailable.IsDeletingMatcher(),
                         new VpnConnectionAvailable.IsDeletedMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -599,15 +731,19 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeInstancesRequest> instanceStopped() {
 
+        DescribeInstancesFunction function = new DescribeInstancesFunction(client);
         return new WaiterBuilder<DescribeInstancesRequest, DescribeInstancesResult>()
-                .withSdkFunction(new DescribeInstancesFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new InstanceStopped.IsStoppedMatcher(),
                         new InstanceStopped.IsPendingMatcher(),
                         new InstanceStopped.IsTerminatedMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
     /**
@@ -619,13 +755,17 @@ public class AmazonEC2Waiters {
      */
     public Waiter<DescribeSubnetsRequest> subnetAvailable() {
 
+        DescribeSubnetsFunction function = new DescribeSubnetsFunction(client);
         return new WaiterBuilder<DescribeSubnetsRequest, DescribeSubnetsResult>()
-                .withSdkFunction(new DescribeSubnetsFunction(client))
+                .withSdkFunction(function)
+                .withAsyncSdkFunction(
+                        client instanceof AmazonEC2Async ? function : null)
                 .withAcceptors(new SubnetAvailable.IsAvailableMatcher())
                 .withDefaultPollingStrategy(
                         new PollingStrategy(new MaxAttemptsRetryStrategy(40),
                                 new FixedDelayStrategy(15)))
-                .withExecutorService(executorService).build();
+                .withExecutorService(executorService)
+                .withScheduler(scheduler).build();
     }
 
 }
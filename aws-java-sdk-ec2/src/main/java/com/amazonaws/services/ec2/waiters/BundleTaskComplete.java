@@ -23,6 +23,9 @@ import com.amazonaws.waiters.AcceptorPathMatcher;
 import com.amazonaws.services.ec2.model.*;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 
 import com.amazonaws.jmespath.*;
 
@@ -44,15 +47,11 @@ class BundleTaskComplete {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(
-                new JmesPathFlatten(new JmesPathField("BundleTasks")),
-                new JmesPathField("State"));
-
         /**
          * Takes the result and determines whether the state of the resource
          * matches the expected state. To determine the current state of the
-         * resource, JmesPath expression is evaluated and compared against the
-         * expected result.
+         * resource, the JmesPath expression is evaluated directly against the
+         * result and compared against the expected result.
          * 
          * @param result
          *        Corresponding result of the operation
@@ -61,11 +60,32 @@ class BundleTaskComplete {
          */
         @Override
         public boolean matches(DescribeBundleTasksResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper()
-                    .valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(),
-                    queryNode);
-            return AcceptorPathMatcher.pathAll(expectedResult, finalResult);
+            return AcceptorPathMatcher
+                    .pathAll(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by reading the
+         * members it refers to from the result, so the result isn't converted
+         * into a JSON tree on every poll.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return JSON value the expression evaluates to
+         */
+        static JsonNode evaluate(DescribeBundleTasksResult result) {
+            java.util.List<BundleTask> v0 = result.getBundleTasks();
+            if (v0 == null) {
+                return NullNode.getInstance();
+            }
+            ArrayNode projection = ObjectMapperSingleton.getObjectMapper()
+                    .createArrayNode();
+            for (BundleTask e1 : v0) {
+                String v2 = e1 == null ? null : e1.getState();
+                projection.add(v2 == null ? NullNode.getInstance() : TextNode
+                        .valueOf(v2));
+            }
+            return projection;
         }
 
         /**
@@ -93,15 +113,11 @@ class BundleTaskComplete {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(
-                new JmesPathFlatten(new JmesPathField("BundleTasks")),
-                new JmesPathField("State"));
-
         /**
          * Takes the result and determines whether the state of the resource
          * matches the expected state. To determine the current state of the
-         * resource, JmesPath expression is evaluated and compared against the
-         * expected result.
+         * resource, the JmesPath expression is evaluated directly against the
+         * result and compared against the expected result.
          * 
          * @param result
          *        Corresponding result of the operation
@@ -110,11 +126,32 @@ class BundleTaskComplete {
          */
         @Override
         public boolean matches(DescribeBundleTasksResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper()
-                    .valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(),
-                    queryNode);
-            return AcceptorPathMatcher.pathAny(expectedResult, finalResult);
+            return AcceptorPathMatcher
+                    .pathAny(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by reading the
+         * members it refers to from the result, so the result isn't converted
+         * into a JSON tree on every poll.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return JSON value the expression evaluates to
+         */
+        static JsonNode evaluate(DescribeBundleTasksResult result) {
+            java.util.List<BundleTask> v0 = result.getBundleTasks();
+            if (v0 == null) {
+                return NullNode.getInstance();
+            }
+            ArrayNode projection = ObjectMapperSingleton.getObjectMapper()
+                    .createArrayNode();
+            for (BundleTask e1 : v0) {
+                String v2 = e1 == null ? null : e1.getState();
+                projection.add(v2 == null ? NullNode.getInstance() : TextNode
+                        .valueOf(v2));
+            }
+            return projection;
         }
 
         /**
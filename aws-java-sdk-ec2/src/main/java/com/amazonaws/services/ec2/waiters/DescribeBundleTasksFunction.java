@@ -16,14 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.DescribeBundleTasksRequest;
 import com.amazonaws.services.ec2.model.DescribeBundleTasksResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
 public class DescribeBundleTasksFunction implements
-        SdkFunction<DescribeBundleTasksRequest, DescribeBundleTasksResult> {
+        SdkFunction<DescribeBundleTasksRequest, DescribeBundleTasksResult>,
+        AsyncSdkFunction<DescribeBundleTasksRequest, DescribeBundleTasksResult> {
 
     /**
      * Represents the service client
@@ -53,4 +59,22 @@ public class DescribeBundleTasksFunction implements
             DescribeBundleTasksRequest describeBundleTasksRequest) {
         return client.describeBundleTasks(describeBundleTasksRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param describeBundleTasksRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<DescribeBundleTasksResult> applyAsync(
+            DescribeBundleTasksRequest describeBundleTasksRequest,
+            AsyncHandler<DescribeBundleTasksRequest, DescribeBundleTasksResult> asyncHandler) {
+        return ((AmazonEC2Async) client).describeBundleTasksAsync(
+                describeBundleTasksRequest, asyncHandler);
+    }
 }
@@ -16,15 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.DescribeConversionTasksRequest;
 import com.amazonaws.services.ec2.model.DescribeConversionTasksResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
-public class DescribeConversionTasksFunction
-        implements
-        SdkFunction<DescribeConversionTasksRequest, DescribeConversionTasksResult> {
+public class DescribeConversionTasksFunction implements
+        SdkFunction<DescribeConversionTasksRequest, DescribeConversionTasksResult>,
+        AsyncSdkFunction<DescribeConversionTasksRequest, DescribeConversionTasksResult> {
 
     /**
      * Represents the service client
@@ -54,4 +59,22 @@ public class DescribeConversionTasksFunction
             DescribeConversionTasksRequest describeConversionTasksRequest) {
         return client.describeConversionTasks(describeConversionTasksRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param describeConversionTasksRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<DescribeConversionTasksResult> applyAsync(
+            DescribeConversionTasksRequest describeConversionTasksRequest,
+            AsyncHandler<DescribeConversionTasksRequest, DescribeConversionTasksResult> asyncHandler) {
+        return ((AmazonEC2Async) client).describeConversionTasksAsync(
+                describeConversionTasksRequest, asyncHandler);
+    }
 }
@@ -16,15 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.DescribeCustomerGatewaysRequest;
 import com.amazonaws.services.ec2.model.DescribeCustomerGatewaysResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
-public class DescribeCustomerGatewaysFunction
-        implements
-        SdkFunction<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult> {
+public class DescribeCustomerGatewaysFunction implements
+        SdkFunction<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult>,
+        AsyncSdkFunction<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult> {
 
     /**
      * Represents the service client
@@ -54,4 +59,22 @@ public class DescribeCustomerGatewaysFunction
             DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest) {
         return client.describeCustomerGateways(describeCustomerGatewaysRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param describeCustomerGatewaysRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<DescribeCustomerGatewaysResult> applyAsync(
+            DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest,
+            AsyncHandler<DescribeCustomerGatewaysRequest, DescribeCustomerGatewaysResult> asyncHandler) {
+        return ((AmazonEC2Async) client).describeCustomerGatewaysAsync(
+                describeCustomerGatewaysRequest, asyncHandler);
+    }
 }
@@ -16,14 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.DescribeExportTasksRequest;
 import com.amazonaws.services.ec2.model.DescribeExportTasksResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
 public class DescribeExportTasksFunction implements
-        SdkFunction<DescribeExportTasksRequest, DescribeExportTasksResult> {
+        SdkFunction<DescribeExportTasksRequest, DescribeExportTasksResult>,
+        AsyncSdkFunction<DescribeExportTasksRequest, DescribeExportTasksResult> {
 
     /**
      * Represents the service client
@@ -53,4 +59,22 @@ public class DescribeExportTasksFunction implements
             DescribeExportTasksRequest describeExportTasksRequest) {
         return client.describeExportTasks(describeExportTasksRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param describeExportTasksRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<DescribeExportTasksResult> applyAsync(
+            DescribeExportTasksRequest describeExportTasksRequest,
+            AsyncHandler<DescribeExportTasksRequest, DescribeExportTasksResult> asyncHandler) {
+        return ((AmazonEC2Async) client).describeExportTasksAsync(
+                describeExportTasksRequest, asyncHandler);
+    }
 }
@@ -16,14 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.DescribeImagesRequest;
 import com.amazonaws.services.ec2.model.DescribeImagesResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
 public class DescribeImagesFunction implements
-        SdkFunction<DescribeImagesRequest, DescribeImagesResult> {
+        SdkFunction<DescribeImagesRequest, DescribeImagesResult>,
+        AsyncSdkFunction<DescribeImagesRequest, DescribeImagesResult> {
 
     /**
      * Represents the service client
@@ -53,4 +59,22 @@ public class DescribeImagesFunction implements
             DescribeImagesRequest describeImagesRequest) {
         return client.describeImages(describeImagesRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param describeImagesRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<DescribeImagesResult> applyAsync(
+            DescribeImagesRequest describeImagesRequest,
+            AsyncHandler<DescribeImagesRequest, DescribeImagesResult> asyncHandler) {
+        return ((AmazonEC2Async) client).describeImagesAsync(
+                describeImagesRequest, asyncHandler);
+    }
 }
@@ -16,15 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.DescribeInstanceStatusRequest;
 import com.amazonaws.services.ec2.model.DescribeInstanceStatusResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
-public class DescribeInstanceStatusFunction
-        implements
-        SdkFunction<DescribeInstanceStatusRequest, DescribeInstanceStatusResult> {
+public class DescribeInstanceStatusFunction implements
+        SdkFunction<DescribeInstanceStatusRequest, DescribeInstanceStatusResult>,
+        AsyncSdkFunction<DescribeInstanceStatusRequest, DescribeInstanceStatusResult> {
 
     /**
      * Represents the service client
@@ -54,4 +59,22 @@ public class DescribeInstanceStatusFunction
             DescribeInstanceStatusRequest describeInstanceStatusRequest) {
         return client.describeInstanceStatus(describeInstanceStatusRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param describeInstanceStatusRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<DescribeInstanceStatusResult> applyAsync(
+            DescribeInstanceStatusRequest describeInstanceStatusRequest,
+            AsyncHandler<DescribeInstanceStatusRequest, DescribeInstanceStatusResult> asyncHandler) {
+        return ((AmazonEC2Async) client).describeInstanceStatusAsync(
+                describeInstanceStatusRequest, asyncHandler);
+    }
 }
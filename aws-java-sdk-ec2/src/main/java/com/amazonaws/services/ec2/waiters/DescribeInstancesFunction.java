@@ -16,14 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.DescribeInstancesRequest;
 import com.amazonaws.services.ec2.model.DescribeInstancesResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
 public class DescribeInstancesFunction implements
-        SdkFunction<DescribeInstancesRequest, DescribeInstancesResult> {
+        SdkFunction<DescribeInstancesRequest, DescribeInstancesResult>,
+        AsyncSdkFunction<DescribeInstancesRequest, DescribeInstancesResult> {
 
     /**
      * Represents the service client
@@ -53,4 +59,22 @@ public class DescribeInstancesFunction implements
             DescribeInstancesRequest describeInstancesRequest) {
         return client.describeInstances(describeInstancesRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param describeInstancesRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<DescribeInstancesResult> applyAsync(
+            DescribeInstancesRequest describeInstancesRequest,
+            AsyncHandler<DescribeInstancesRequest, DescribeInstancesResult> asyncHandler) {
+        return ((AmazonEC2Async) client).describeInstancesAsync(
+                describeInstancesRequest, asyncHandler);
+    }
 }
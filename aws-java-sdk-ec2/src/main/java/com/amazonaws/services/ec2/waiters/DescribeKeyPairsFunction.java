@@ -16,14 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.DescribeKeyPairsRequest;
 import com.amazonaws.services.ec2.model.DescribeKeyPairsResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
 public class DescribeKeyPairsFunction implements
-        SdkFunction<DescribeKeyPairsRequest, DescribeKeyPairsResult> {
+        SdkFunction<DescribeKeyPairsRequest, DescribeKeyPairsResult>,
+        AsyncSdkFunction<DescribeKeyPairsRequest, DescribeKeyPairsResult> {
 
     /**
      * Represents the service client
@@ -53,4 +59,22 @@ public class DescribeKeyPairsFunction implements
             DescribeKeyPairsRequest describeKeyPairsRequest) {
         return client.describeKeyPairs(describeKeyPairsRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param describeKeyPairsRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<DescribeKeyPairsResult> applyAsync(
+            DescribeKeyPairsRequest describeKeyPairsRequest,
+            AsyncHandler<DescribeKeyPairsRequest, DescribeKeyPairsResult> asyncHandler) {
+        return ((AmazonEC2Async) client).describeKeyPairsAsync(
+                describeKeyPairsRequest, asyncHandler);
+    }
 }
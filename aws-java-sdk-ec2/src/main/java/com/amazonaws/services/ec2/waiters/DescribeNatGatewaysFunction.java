@@ -16,14 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.DescribeNatGatewaysRequest;
 import com.amazonaws.services.ec2.model.DescribeNatGatewaysResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
 public class DescribeNatGatewaysFunction implements
-        SdkFunction<DescribeNatGatewaysRequest, DescribeNatGatewaysResult> {
+        SdkFunction<DescribeNatGatewaysRequest, DescribeNatGatewaysResult>,
+        AsyncSdkFunction<DescribeNatGatewaysRequest, DescribeNatGatewaysResult> {
 
     /**
      * Represents the service client
@@ -53,4 +59,22 @@ public class DescribeNatGatewaysFunction implements
             DescribeNatGatewaysRequest describeNatGatewaysRequest) {
         return client.describeNatGateways(describeNatGatewaysRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param describeNatGatewaysRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<DescribeNatGatewaysResult> applyAsync(
+            DescribeNatGatewaysRequest describeNatGatewaysRequest,
+            AsyncHandler<DescribeNatGatewaysRequest, DescribeNatGatewaysResult> asyncHandler) {
+        return ((AmazonEC2Async) client).describeNatGatewaysAsync(
+                describeNatGatewaysRequest, asyncHandler);
+    }
 }
@@ -16,15 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.DescribeNetworkInterfacesRequest;
 import com.amazonaws.services.ec2.model.DescribeNetworkInterfacesResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
-public class DescribeNetworkInterfacesFunction
-        implements
-        SdkFunction<DescribeNetworkInterfacesRequest, DescribeNetworkInterfacesResult> {
+public class DescribeNetworkInterfacesFunction implements
+        SdkFunction<DescribeNetworkInterfacesRequest, DescribeNetworkInterfacesResult>,
+        AsyncSdkFunction<DescribeNetworkInterfacesRequest, DescribeNetworkInterfacesResult> {
 
     /**
      * Represents the service client
@@ -55,4 +60,22 @@ public class DescribeNetworkInterfacesFunction
         return client
                 .describeNetworkInterfaces(describeNetworkInterfacesRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param describeNetworkInterfacesRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<DescribeNetworkInterfacesResult> applyAsync(
+            DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest,
+            AsyncHandler<DescribeNetworkInterfacesRequest, DescribeNetworkInterfacesResult> asyncHandler) {
+        return ((AmazonEC2Async) client).describeNetworkInterfacesAsync(
+                describeNetworkInterfacesRequest, asyncHandler);
+    }
 }
@@ -16,14 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.DescribeSnapshotsRequest;
 import com.amazonaws.services.ec2.model.DescribeSnapshotsResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
 public class DescribeSnapshotsFunction implements
-        SdkFunction<DescribeSnapshotsRequest, DescribeSnapshotsResult> {
+        SdkFunction<DescribeSnapshotsRequest, DescribeSnapshotsResult>,
+        AsyncSdkFunction<DescribeSnapshotsRequest, DescribeSnapshotsResult> {
 
     /**
      * Represents the service client
@@ -53,4 +59,22 @@ public class DescribeSnapshotsFunction implements
             DescribeSnapshotsRequest describeSnapshotsRequest) {
         return client.describeSnapshots(describeSnapshotsRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param describeSnapshotsRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<DescribeSnapshotsResult> applyAsync(
+            DescribeSnapshotsRequest describeSnapshotsRequest,
+            AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler) {
+        return ((AmazonEC2Async) client).describeSnapshotsAsync(
+                describeSnapshotsRequest, asyncHandler);
+    }
 }
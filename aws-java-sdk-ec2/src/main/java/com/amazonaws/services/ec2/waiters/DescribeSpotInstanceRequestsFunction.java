@@ -16,15 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.DescribeSpotInstanceRequestsRequest;
 import com.amazonaws.services.ec2.model.DescribeSpotInstanceRequestsResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
-public class DescribeSpotInstanceRequestsFunction
-        implements
-        SdkFunction<DescribeSpotInstanceRequestsRequest, DescribeSpotInstanceRequestsResult> {
+public class DescribeSpotInstanceRequestsFunction implements
+        SdkFunction<DescribeSpotInstanceRequestsRequest, DescribeSpotInstanceRequestsResult>,
+        AsyncSdkFunction<DescribeSpotInstanceRequestsRequest, DescribeSpotInstanceRequestsResult> {
 
     /**
      * Represents the service client
@@ -56,4 +61,22 @@ public class DescribeSpotInstanceRequestsFunction
         return client
                 .describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param describeSpotInstanceRequestsRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<DescribeSpotInstanceRequestsResult> applyAsync(
+            DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest,
+            AsyncHandler<DescribeSpotInstanceRequestsRequest, DescribeSpotInstanceRequestsResult> asyncHandler) {
+        return ((AmazonEC2Async) client).describeSpotInstanceRequestsAsync(
+                describeSpotInstanceRequestsRequest, asyncHandler);
+    }
 }
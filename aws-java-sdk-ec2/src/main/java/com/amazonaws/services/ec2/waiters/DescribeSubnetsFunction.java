@@ -16,14 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.DescribeSubnetsRequest;
 import com.amazonaws.services.ec2.model.DescribeSubnetsResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
 public class DescribeSubnetsFunction implements
-        SdkFunction<DescribeSubnetsRequest, DescribeSubnetsResult> {
+        SdkFunction<DescribeSubnetsRequest, DescribeSubnetsResult>,
+        AsyncSdkFunction<DescribeSubnetsRequest, DescribeSubnetsResult> {
 
     /**
      * Represents the service client
@@ -53,4 +59,22 @@ public class DescribeSubnetsFunction implements
             DescribeSubnetsRequest describeSubnetsRequest) {
         return client.describeSubnets(describeSubnetsRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param describeSubnetsRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<DescribeSubnetsResult> applyAsync(
+            DescribeSubnetsRequest describeSubnetsRequest,
+            AsyncHandler<DescribeSubnetsRequest, DescribeSubnetsResult> asyncHandler) {
+        return ((AmazonEC2Async) client).describeSubnetsAsync(
+                describeSubnetsRequest, asyncHandler);
+    }
 }
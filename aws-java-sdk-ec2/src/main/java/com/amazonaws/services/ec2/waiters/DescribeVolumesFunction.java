@@ -16,14 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.DescribeVolumesRequest;
 import com.amazonaws.services.ec2.model.DescribeVolumesResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
 public class DescribeVolumesFunction implements
-        SdkFunction<DescribeVolumesRequest, DescribeVolumesResult> {
+        SdkFunction<DescribeVolumesRequest, DescribeVolumesResult>,
+        AsyncSdkFunction<DescribeVolumesRequest, DescribeVolumesResult> {
 
     /**
      * Represents the service client
@@ -53,4 +59,22 @@ public class DescribeVolumesFunction implements
             DescribeVolumesRequest describeVolumesRequest) {
         return client.describeVolumes(describeVolumesRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param describeVolumesRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<DescribeVolumesResult> applyAsync(
+            DescribeVolumesRequest describeVolumesRequest,
+            AsyncHandler<DescribeVolumesRequest, DescribeVolumesResult> asyncHandler) {
+        return ((AmazonEC2Async) client).describeVolumesAsync(
+                describeVolumesRequest, asyncHandler);
+    }
 }
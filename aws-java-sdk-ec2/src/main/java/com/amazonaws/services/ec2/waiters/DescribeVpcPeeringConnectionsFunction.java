@@ -16,15 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.DescribeVpcPeeringConnectionsRequest;
 import com.amazonaws.services.ec2.model.DescribeVpcPeeringConnectionsResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
-public class DescribeVpcPeeringConnectionsFunction
-        implements
-        SdkFunction<DescribeVpcPeeringConnectionsRequest, DescribeVpcPeeringConnectionsResult> {
+public class DescribeVpcPeeringConnectionsFunction implements
+        SdkFunction<DescribeVpcPeeringConnectionsRequest, DescribeVpcPeeringConnectionsResult>,
+        AsyncSdkFunction<DescribeVpcPeeringConnectionsRequest, DescribeVpcPeeringConnectionsResult> {
 
     /**
      * Represents the service client
@@ -56,4 +61,22 @@ public class DescribeVpcPeeringConnectionsFunction
         return client
                 .describeVpcPeeringConnections(describeVpcPeeringConnectionsRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param describeVpcPeeringConnectionsRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<DescribeVpcPeeringConnectionsResult> applyAsync(
+            DescribeVpcPeeringConnectionsRequest describeVpcPeeringConnectionsRequest,
+            AsyncHandler<DescribeVpcPeeringConnectionsRequest, DescribeVpcPeeringConnectionsResult> asyncHandler) {
+        return ((AmazonEC2Async) client).describeVpcPeeringConnectionsAsync(
+                describeVpcPeeringConnectionsRequest, asyncHandler);
+    }
 }
@@ -16,14 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.DescribeVpcsRequest;
 import com.amazonaws.services.ec2.model.DescribeVpcsResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
 public class DescribeVpcsFunction implements
-        SdkFunction<DescribeVpcsRequest, DescribeVpcsResult> {
+        SdkFunction<DescribeVpcsRequest, DescribeVpcsResult>,
+        AsyncSdkFunction<DescribeVpcsRequest, DescribeVpcsResult> {
 
     /**
      * Represents the service client
@@ -52,4 +58,22 @@ public class DescribeVpcsFunction implements
     public DescribeVpcsResult apply(DescribeVpcsRequest describeVpcsRequest) {
         return client.describeVpcs(describeVpcsRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param describeVpcsRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<DescribeVpcsResult> applyAsync(
+            DescribeVpcsRequest describeVpcsRequest,
+            AsyncHandler<DescribeVpcsRequest, DescribeVpcsResult> asyncHandler) {
+        return ((AmazonEC2Async) client).describeVpcsAsync(
+                describeVpcsRequest, asyncHandler);
+    }
 }
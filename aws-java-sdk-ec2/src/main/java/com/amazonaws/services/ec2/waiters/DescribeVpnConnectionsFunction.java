@@ -16,15 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.DescribeVpnConnectionsRequest;
 import com.amazonaws.services.ec2.model.DescribeVpnConnectionsResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
-public class DescribeVpnConnectionsFunction
-        implements
-        SdkFunction<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult> {
+public class DescribeVpnConnectionsFunction implements
+        SdkFunction<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult>,
+        AsyncSdkFunction<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult> {
 
     /**
      * Represents the service client
@@ -54,4 +59,22 @@ public class DescribeVpnConnectionsFunction
             DescribeVpnConnectionsRequest describeVpnConnectionsRequest) {
         return client.describeVpnConnections(describeVpnConnectionsRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param describeVpnConnectionsRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<DescribeVpnConnectionsResult> applyAsync(
+            DescribeVpnConnectionsRequest describeVpnConnectionsRequest,
+            AsyncHandler<DescribeVpnConnectionsRequest, DescribeVpnConnectionsResult> asyncHandler) {
+        return ((AmazonEC2Async) client).describeVpnConnectionsAsync(
+                describeVpnConnectionsRequest, asyncHandler);
+    }
 }
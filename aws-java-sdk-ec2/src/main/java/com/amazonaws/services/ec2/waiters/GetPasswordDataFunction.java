@@ -16,14 +16,20 @@
 package com.amazonaws.services.ec2.waiters;
 
 import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.handlers.AsyncHandler;
+import com.amazonaws.waiters.AsyncSdkFunction;
 import com.amazonaws.waiters.SdkFunction;
 import com.amazonaws.services.ec2.model.GetPasswordDataRequest;
 import com.amazonaws.services.ec2.model.GetPasswordDataResult;
 import com.amazonaws.services.ec2.AmazonEC2;
+import com.amazonaws.services.ec2.AmazonEC2Async;
+
+import java.util.concurrent.Future;
 
 @SdkInternalApi
 public class GetPasswordDataFunction implements
-        SdkFunction<GetPasswordDataRequest, GetPasswordDataResult> {
+        SdkFunction<GetPasswordDataRequest, GetPasswordDataResult>,
+        AsyncSdkFunction<GetPasswordDataRequest, GetPasswordDataResult> {
 
     /**
      * Represents the service client
@@ -53,4 +59,22 @@ public class GetPasswordDataFunction implements
             GetPasswordDataRequest getPasswordDataRequest) {
         return client.getPasswordData(getPasswordDataRequest);
     }
+
+    /**
+     * Makes an asynchronous call to the operation specified by the waiter.
+     * Only valid if the service client is an asynchronous client.
+     * 
+     * @param getPasswordDataRequest
+     *        Corresponding request for the operation
+     * @param asyncHandler
+     *        Callback notified with the result of the operation
+     * @return Future holding the corresponding result of the operation
+     */
+    @Override
+    public Future<GetPasswordDataResult> applyAsync(
+            GetPasswordDataRequest getPasswordDataRequest,
+            AsyncHandler<GetPasswordDataRequest, GetPasswordDataResult> asyncHandler) {
+        return ((AmazonEC2Async) client).getPasswordDataAsync(
+                getPasswordDataRequest, asyncHandler);
+    }
 }
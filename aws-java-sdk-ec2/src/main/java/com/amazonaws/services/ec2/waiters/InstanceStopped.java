@@ -23,6 +23,9 @@ import com.amazonaws.waiters.AcceptorPathMatcher;
 import com.amazonaws.services.ec2.model.*;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 
 import com.amazonaws.jmespath.*;
 
@@ -44,17 +47,11 @@ class InstanceStopped {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(
-                new JmesPathFlatten(new JmesPathProjection(new JmesPathFlatten(
-                        new JmesPathField("Reservations")), new JmesPathField(
-                        "Instances"))), new JmesPathSubExpression(
-                        new JmesPathField("State"), new JmesPathField("Name")));
-
         /**
          * Takes the result and determines whether the state of the resource
          * matches the expected state. To determine the current state of the
-         * resource, JmesPath expression is evaluated and compared against the
-         * expected result.
+         * resource, the JmesPath expression is evaluated directly against the
+         * result and compared against the expected result.
          * 
          * @param result
          *        Corresponding result of the operation
@@ -63,11 +60,41 @@ class InstanceStopped {
          */
         @Override
         public boolean matches(DescribeInstancesResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper()
-                    .valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(),
-                    queryNode);
-            return AcceptorPathMatcher.pathAll(expectedResult, finalResult);
+            return AcceptorPathMatcher
+                    .pathAll(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by reading the
+         * members it refers to from the result, so the result isn't converted
+         * into a JSON tree on every poll.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return JSON value the expression evaluates to
+         */
+        static JsonNode evaluate(DescribeInstancesResult result) {
+            java.util.List<Reservation> v0 = result.getReservations();
+            if (v0 == null) {
+                return NullNode.getInstance();
+            }
+            ArrayNode projection = ObjectMapperSingleton.getObjectMapper()
+                    .createArrayNode();
+            for (Reservation e1 : v0) {
+                java.util.List<Instance> v2 = e1 == null ? null : e1
+                        .getInstances();
+                if (v2 == null) {
+                    projection.add(NullNode.getInstance());
+                    continue;
+                }
+                for (Instance e3 : v2) {
+                    InstanceState v4 = e3 == null ? null : e3.getState();
+                    String v5 = v4 == null ? null : v4.getName();
+                    projection.add(v5 == null ? NullNode.getInstance()
+                            : TextNode.valueOf(v5));
+                }
+            }
+            return projection;
         }
 
         /**
@@ -95,17 +122,11 @@ class InstanceStopped {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(
-                new JmesPathFlatten(new JmesPathProjection(new JmesPathFlatten(
-                        new JmesPathField("Reservations")), new JmesPathField(
-                        "Instances"))), new JmesPathSubExpression(
-                        new JmesPathField("State"), new JmesPathField("Name")));
-
         /**
          * Takes the result and determines whether the state of the resource
          * matches the expected state. To determine the current state of the
-         * resource, JmesPath expression is evaluated and compared against the
-         * expected result.
+         * resource, the JmesPath expression is evaluated directly against the
+         * result and compared against the expected result.
          * 
          * @param result
          *        Corresponding result of the operation
@@ -114,11 +135,41 @@ class InstanceStopped {
          */
         @Override
         public boolean matches(DescribeInstancesResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper()
-                    .valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(),
-                    queryNode);
-            return AcceptorPathMatcher.pathAny(expectedResult, finalResult);
+            return AcceptorPathMatcher
+                    .pathAny(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by reading the
+         * members it refers to from the result, so the result isn't converted
+         * into a JSON tree on every poll.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return JSON value the expression evaluates to
+         */
+        static JsonNode evaluate(DescribeInstancesResult result) {
+            java.util.List<Reservation> v0 = result.getReservations();
+            if (v0 == null) {
+                return NullNode.getInstance();
+            }
+            ArrayNode projection = ObjectMapperSingleton.getObjectMapper()
+                    .createArrayNode();
+            for (Reservation e1 : v0) {
+                java.util.List<Instance> v2 = e1 == null ? null : e1
+                        .getInstances();
+                if (v2 == null) {
+                    projection.add(NullNode.getInstance());
+                    continue;
+                }
+                for (Instance e3 : v2) {
+                    InstanceState v4 = e3 == null ? null : e3.getState();
+                    String v5 = v4 == null ? null : v4.getName();
+                    projection.add(v5 == null ? NullNode.getInstance()
+                            : TextNode.valueOf(v5));
+                }
+            }
+            return projection;
         }
 
         /**
@@ -146,17 +197,11 @@ class InstanceStopped {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(
-                new JmesPathFlatten(new JmesPathProjection(new JmesPathFlatten(
-                        new JmesPathField("Reservations")), new JmesPathField(
-                        "Instances"))), new JmesPathSubExpression(
-                        new JmesPathField("State"), new JmesPathField("Name")));
-
         /**
          * Takes the result and determines whether the state of the resource
          * matches the expected state. To determine the current state of the
-         * resource, JmesPath expression is evaluated and compared against the
-         * expected result.
+         * resource, the JmesPath expression is evaluated directly against the
+         * result and compared against the expected result.
          * 
          * @param result
          *        Corresponding result of the operation
@@ -165,11 +210,41 @@ class InstanceStopped {
          */
         @Override
         public boolean matches(DescribeInstancesResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper()
-                    .valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(),
-                    queryNode);
-            return AcceptorPathMatcher.pathAny(expectedResult, finalResult);
+            return AcceptorPathMatcher
+                    .pathAny(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by reading the
+         * members it refers to from the result, so the result isn't converted
+         * into a JSON tree on every poll.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return JSON value the expression evaluates to
+         */
+        static JsonNode evaluate(DescribeInstancesResult result) {
+            java.util.List<Reservation> v0 = result.getReservations();
+            if (v0 == null) {
+                return NullNode.getInstance();
+            }
+            ArrayNode projection = ObjectMapperSingleton.getObjectMapper()
+                    .createArrayNode();
+            for (Reservation e1 : v0) {
+                java.util.List<Instance> v2 = e1 == null ? null : e1
+                        .getInstances();
+                if (v2 == null) {
+                    projection.add(NullNode.getInstance());
+                    continue;
+                }
+                for (Instance e3 : v2) {
+                    InstanceState v4 = e3 == null ? null : e3.getState();
+                    String v5 = v4 == null ? null : v4.getName();
+                    projection.add(v5 == null ? NullNode.getInstance()
+                            : TextNode.valueOf(v5));
+                }
+            }
+            return projection;
         }
 
         /**
@@ -23,6 +23,9 @@ import com.amazonaws.waiters.AcceptorPathMatcher;
 import com.amazonaws.services.ec2.model.*;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 
 import com.amazonaws.jmespath.*;
 
@@ -44,16 +47,11 @@ class SpotInstanceRequestFulfilled {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(
-                new JmesPathFlatten(new JmesPathField("SpotInstanceRequests")),
-                new JmesPathSubExpression(new JmesPathField("Status"),
-                        new JmesPathField("Code")));
-
         /**
          * Takes the result and determines whether the state of the resource
          * matches the expected state. To determine the current state of the
-         * resource, JmesPath expression is evaluated and compared against the
-         * expected result.
+         * resource, the JmesPath expression is evaluated directly against the
+         * result and compared against the expected result.
          * 
          * @param result
          *        Corresponding result of the operation
@@ -62,11 +60,34 @@ class SpotInstanceRequestFulfilled {
          */
         @Override
         public boolean matches(DescribeSpotInstanceRequestsResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper()
-                    .valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(),
-                    queryNode);
-            return AcceptorPathMatcher.pathAll(expectedResult, finalResult);
+            return AcceptorPathMatcher
+                    .pathAll(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by reading the
+         * members it refers to from the result, so the result isn't converted
+         * into a JSON tree on every poll.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return JSON value the expression evaluates to
+         */
+        static JsonNode evaluate(DescribeSpotInstanceRequestsResult result) {
+            java.util.List<SpotInstanceRequest> v0 = result
+                    .getSpotInstanceRequests();
+            if (v0 == null) {
+                return NullNode.getInstance();
+            }
+            ArrayNode projection = ObjectMapperSingleton.getObjectMapper()
+                    .createArrayNode();
+            for (SpotInstanceRequest e1 : v0) {
+                SpotInstanceStatus v2 = e1 == null ? null : e1.getStatus();
+                String v3 = v2 == null ? null : v2.getCode();
+                projection.add(v3 == null ? NullNode.getInstance() : TextNode
+                        .valueOf(v3));
+            }
+            return projection;
         }
 
         /**
@@ -94,16 +115,11 @@ class SpotInstanceRequestFulfilled {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(
-                new JmesPathFlatten(new JmesPathField("SpotInstanceRequests")),
-                new JmesPathSubExpression(new JmesPathField("Status"),
-                        new JmesPathField("Code")));
-
         /**
          * Takes the result and determines whether the state of the resource
          * matches the expected state. To determine the current state of the
-         * resource, JmesPath expression is evaluated and compared against the
-         * expected result.
+         * resource, the JmesPath expression is evaluated directly against the
+         * result and compared against the expected result.
          * 
          * @param result
          *        Corresponding result of the operation
@@ -112,11 +128,34 @@ class SpotInstanceRequestFulfilled {
          */
         @Override
         public boolean matches(DescribeSpotInstanceRequestsResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper()
-                    .valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(),
-                    queryNode);
-            return AcceptorPathMatcher.pathAny(expectedResult, finalResult);
+            return AcceptorPathMatcher
+                    .pathAny(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by reading the
+         * members it refers to from the result, so the result isn't converted
+         * into a JSON tree on every poll.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return JSON value the expression evaluates to
+         */
+        static JsonNode evaluate(DescribeSpotInstanceRequestsResult result) {
+            java.util.List<SpotInstanceRequest> v0 = result
+                    .getSpotInstanceRequests();
+            if (v0 == null) {
+                return NullNode.getInstance();
+            }
+            ArrayNode projection = ObjectMapperSingleton.getObjectMapper()
+                    .createArrayNode();
+            for (SpotInstanceRequest e1 : v0) {
+                SpotInstanceStatus v2 = e1 == null ? null : e1.getStatus();
+                String v3 = v2 == null ? null : v2.getCode();
+                projection.add(v3 == null ? NullNode.getInstance() : TextNode
+                        .valueOf(v3));
+            }
+            return projection;
         }
 
         /**
@@ -144,16 +183,11 @@ class SpotInstanceRequestFulfilled {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(
-                new JmesPathFlatten(new JmesPathField("SpotInstanceRequests")),
-                new JmesPathSubExpression(new JmesPathField("Status"),
-                        new JmesPathField("Code")));
-
         /**
          * Takes the result and determines whether the state of the resource
          * matches the expected state. To determine the current state of the
-         * resource, JmesPath expression is evaluated and compared against the
-         * expected result.
+         * resource, the JmesPath expression is evaluated directly against the
+         * result and compared against the expected result.
          * 
          * @param result
          *        Corresponding result of the operation
@@ -162,11 +196,34 @@ class SpotInstanceRequestFulfilled {
          */
         @Override
         public boolean matches(DescribeSpotInstanceRequestsResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper()
-                    .valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(),
-                    queryNode);
-            return AcceptorPathMatcher.pathAny(expectedResult, finalResult);
+            return AcceptorPathMatcher
+                    .pathAny(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by reading the
+         * members it refers to from the result, so the result isn't converted
+         * into a JSON tree on every poll.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return JSON value the expression evaluates to
+         */
+        static JsonNode evaluate(DescribeSpotInstanceRequestsResult result) {
+            java.util.List<SpotInstanceRequest> v0 = result
+                    .getSpotInstanceRequests();
+            if (v0 == null) {
+                return NullNode.getInstance();
+            }
+            ArrayNode projection = ObjectMapperSingleton.getObjectMapper()
+                    .createArrayNode();
+            for (SpotInstanceRequest e1 : v0) {
+                SpotInstanceStatus v2 = e1 == null ? null : e1.getStatus();
+                String v3 = v2 == null ? null : v2.getCode();
+                projection.add(v3 == null ? NullNode.getInstance() : TextNode
+                        .valueOf(v3));
+            }
+            return projection;
         }
 
         /**
@@ -194,16 +251,11 @@ class SpotInstanceRequestFulfilled {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(
-                new JmesPathFlatten(new JmesPathField("SpotInstanceRequests")),
-                new JmesPathSubExpression(new JmesPathField("Status"),
-                        new JmesPathField("Code")));
-
         /**
          * Takes the result and determines whether the state of the resource
          * matches the expected state. To determine the current state of the
-         * resource, JmesPath expression is evaluated and compared against the
-         * expected result.
+         * resource, the JmesPath expression is evaluated directly against the
+         * result and compared against the expected result.
          * 
          * @param result
          *        Corresponding result of the operation
@@ -212,11 +264,34 @@ class SpotInstanceRequestFulfilled {
          */
         @Override
         public boolean matches(DescribeSpotInstanceRequestsResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper()
-                    .valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(),
-                    queryNode);
-            return AcceptorPathMatcher.pathAny(expectedResult, finalResult);
+            return AcceptorPathMatcher
+                    .pathAny(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by reading the
+         * members it refers to from the result, so the result isn't converted
+         * into a JSON tree on every poll.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return JSON value the expression evaluates to
+         */
+        static JsonNode evaluate(DescribeSpotInstanceRequestsResult result) {
+            java.util.List<SpotInstanceRequest> v0 = result
+                    .getSpotInstanceRequests();
+            if (v0 == null) {
+                return NullNode.getInstance();
+            }
+            ArrayNode projection = ObjectMapperSingleton.getObjectMapper()
+                    .createArrayNode();
+            for (SpotInstanceRequest e1 : v0) {
+                SpotInstanceStatus v2 = e1 == null ? null : e1.getStatus();
+                String v3 = v2 == null ? null : v2.getCode();
+                projection.add(v3 == null ? NullNode.getInstance() : TextNode
+                        .valueOf(v3));
+            }
+            return projection;
         }
 
         /**
@@ -244,16 +319,11 @@ class SpotInstanceRequestFulfilled {
             }
         }
 
-        private static final JmesPathExpression ast = new JmesPathProjection(
-                new JmesPathFlatten(new JmesPathField("SpotInstanceRequests")),
-                new JmesPathSubExpression(new JmesPathField("Status"),
-                        new JmesPathField("Code")));
-
         /**
          * Takes the result and determines whether the state of the resource
          * matches the expected state. To determine the current state of the
-         * resource, JmesPath expression is evaluated and compared against the
-         * expected result.
+         * resource, the JmesPath expression is evaluated directly against the
+         * result and compared against the expected result.
          * 
          * @param result
          *        Corresponding result of the operation
@@ -262,11 +332,34 @@ class SpotInstanceRequestFulfilled {
          */
         @Override
         public boolean matches(DescribeSpotInstanceRequestsResult result) {
-            JsonNode queryNode = ObjectMapperSingleton.getObjectMapper()
-                    .valueToTree(result);
-            JsonNode finalResult = ast.accept(new JmesPathEvaluationVisitor(),
-                    queryNode);
-            return AcceptorPathMatcher.pathAny(expectedResult, finalResult);
+            return AcceptorPathMatcher
+                    .pathAny(expectedResult, evaluate(result));
+        }
+
+        /**
+         * Evaluates the JmesPath expression of this acceptor by reading the
+         * members it refers to from the result, so the result isn't converted
+         * into a JSON tree on every poll.
+         * 
+         * @param result
+         *        Corresponding result of the operation
+         * @return JSON value the expression evaluates to
+         */
+        static JsonNode evaluate(DescribeSpotInstanceRequestsResult result) {
+            java.util.List<SpotInstanceRequest> v0 = result
+                    .getSpotInstanceRequests();
+            if (v0 == null) {
+                return NullNode.getInstance();
+            }
+            ArrayNode projection = ObjectMapperSingleton.getObjectMapper()
+                    .createArrayNode();
+            for (SpotInstanceRequest e1 : v0) {
+                SpotInstanceStatus v2 = e1 == null ? null : e1.getStatus();
+                String v3 = v2 == null ? null : v2.getCode();
+                projection.add(v3 == null ? NullNode.getInstance() : TextNode
+                        .valueOf(v3));
+            }
+            return projection;
         }
 
         /**
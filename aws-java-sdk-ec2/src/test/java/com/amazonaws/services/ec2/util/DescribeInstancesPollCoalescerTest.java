@@ -0,0 +1,132 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.ec2.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.amazonaws.services.ec2.AbstractAmazonEC2;
+import com.amazonaws.services.ec2.model.DescribeInstancesRequest;
+import com.amazonaws.services.ec2.model.DescribeInstancesResult;
+import com.amazonaws.services.ec2.model.Filter;
+import com.amazonaws.services.ec2.model.Instance;
+import com.amazonaws.services.ec2.model.InstanceState;
+import com.amazonaws.services.ec2.model.Reservation;
+import com.amazonaws.services.ec2.waiters.AmazonEC2Waiters;
+import com.amazonaws.waiters.NoOpWaiterHandler;
+import com.amazonaws.waiters.WaiterParameters;
+
+public class DescribeInstancesPollCoalescerTest {
+
+    private final DescribeInstancesPollCoalescer coalescer = new DescribeInstancesPollCoalescer();
+
+    @Test
+    public void onlyRequestsSelectingInstancesByIdAloneAreCoalesced() {
+        assertNotNull(coalescer.getCoalescingKey(new DescribeInstancesRequest().withInstanceIds("i-1")));
+        assertEquals(coalescer.getCoalescingKey(new DescribeInstancesRequest().withInstanceIds("i-1")),
+                coalescer.getCoalescingKey(new DescribeInstancesRequest().withInstanceIds("i-2", "i-3")));
+
+        assertNull(coalescer.getCoalescingKey(new DescribeInstancesRequest()));
+        assertNull(coalescer.getCoalescingKey(new DescribeInstancesRequest().withInstanceIds("i-1")
+                .withFilters(new Filter("instance-state-name", Arrays.asList("running")))));
+        assertNull(coalescer.getCoalescingKey(new DescribeInstancesRequest().withInstanceIds("i-1")
+                .withMaxResults(5)));
+        assertNull(coalescer.getCoalescingKey(new DescribeInstancesRequest().withInstanceIds("i-1")
+                .withNextToken("token")));
+    }
+
+    @Test
+    public void mergedRequestSelectsEveryInstanceOnce() {
+        DescribeInstancesRequest merged = coalescer.merge(Arrays.asList(
+                new DescribeInstancesRequest().withInstanceIds("i-1", "i-2"),
+                new DescribeInstancesRequest().withInstanceIds("i-2"),
+                new DescribeInstancesRequest().withInstanceIds("i-3")));
+
+        assertEquals(Arrays.asList("i-1", "i-2", "i-3"), merged.getInstanceIds());
+    }
+
+    @Test
+    public void splitResultOnlyHasTheRequestedInstances() {
+        Reservation both = new Reservation().withReservationId("r-1")
+                .withInstances(instance("i-1", "running"), instance("i-2", "pending"));
+        Reservation other = new Reservation().withReservationId("r-2").withInstances(instance("i-3", "running"));
+        Reservation mine = new Reservation().withReservationId("r-3").withInstances(instance("i-4", "stopped"));
+        DescribeInstancesResult result = new DescribeInstancesResult().withReservations(both, other, mine);
+
+        DescribeInstancesResult split = coalescer.split(
+                new DescribeInstancesRequest().withInstanceIds("i-2", "i-4"), result);
+
+        assertEquals(2, split.getReservations().size());
+        Reservation filtered = split.getReservations().get(0);
+        assertEquals("r-1", filtered.getReservationId());
+        assertEquals(1, filtered.getInstances().size());
+        assertEquals("i-2", filtered.getInstances().get(0).getInstanceId());
+        assertSame(mine, split.getReservations().get(1));
+
+        // The merged result is shared by every waiter, so it must be left as it is
+        assertEquals(3, result.getReservations().size());
+        assertEquals(2, both.getInstances().size());
+    }
+
+    @Test
+    public void waitersShareOneDescribeInstancesCall() throws Exception {
+        RecordingEC2 ec2 = new RecordingEC2();
+        AmazonEC2Waiters waiters = new AmazonEC2Waiters(ec2);
+
+        List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(waiters.instanceRunning().runAsync(new WaiterParameters<DescribeInstancesRequest>(
+                    new DescribeInstancesRequest().withInstanceIds("i-" + i)), new NoOpWaiterHandler()));
+        }
+        for (Future<Void> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+
+        assertEquals(1, ec2.requests.size());
+        assertEquals(10, ec2.requests.get(0).getInstanceIds().size());
+    }
+
+    private static Instance instance(String instanceId, String state) {
+        return new Instance().withInstanceId(instanceId).withState(new InstanceState().withName(state));
+    }
+
+    /**
+     * Describes every requested instance as running, in a single reservation.
+     */
+    private static class RecordingEC2 extends AbstractAmazonEC2 {
+        private final List<DescribeInstancesRequest> requests = new CopyOnWriteArrayList<DescribeInstancesRequest>();
+
+        @Override
+        public DescribeInstancesResult describeInstances(DescribeInstancesRequest request) {
+            requests.add(request);
+            Reservation reservation = new Reservation().withReservationId("r-1");
+            for (String instanceId : request.getInstanceIds()) {
+                reservation.getInstances().add(instance(instanceId, "running"));
+            }
+            return new DescribeInstancesResult().withReservations(reservation);
+        }
+    }
+}
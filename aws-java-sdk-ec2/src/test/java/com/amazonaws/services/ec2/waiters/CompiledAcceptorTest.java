@@ -0,0 +1,125 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.ec2.waiters;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.amazonaws.jmespath.JmesPathEvaluationVisitor;
+import com.amazonaws.jmespath.JmesPathExpression;
+import com.amazonaws.jmespath.JmesPathField;
+import com.amazonaws.jmespath.JmesPathFlatten;
+import com.amazonaws.jmespath.JmesPathProjection;
+import com.amazonaws.jmespath.JmesPathSubExpression;
+import com.amazonaws.jmespath.ObjectMapperSingleton;
+import com.amazonaws.services.ec2.model.DescribeInstancesResult;
+import com.amazonaws.services.ec2.model.DescribeSpotInstanceRequestsResult;
+import com.amazonaws.services.ec2.model.DescribeVpcsResult;
+import com.amazonaws.services.ec2.model.Instance;
+import com.amazonaws.services.ec2.model.InstanceState;
+import com.amazonaws.services.ec2.model.Reservation;
+import com.amazonaws.services.ec2.model.SpotInstanceRequest;
+import com.amazonaws.services.ec2.model.SpotInstanceStatus;
+import com.amazonaws.services.ec2.model.Vpc;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Checks that the acceptors compiled into getter calls evaluate to the same
+ * JSON as evaluating their JmesPath AST against the result converted to a
+ * JSON tree, which is what they did before.
+ */
+public class CompiledAcceptorTest {
+
+    /** Vpcs[].State */
+    private static final JmesPathExpression VPC_STATES = new JmesPathProjection(
+            new JmesPathFlatten(new JmesPathField("Vpcs")), new JmesPathField("State"));
+
+    /** SpotInstanceRequests[].Status.Code */
+    private static final JmesPathExpression SPOT_INSTANCE_REQUEST_STATUS_CODES = new JmesPathProjection(
+            new JmesPathFlatten(new JmesPathField("SpotInstanceRequests")),
+            new JmesPathSubExpression(new JmesPathField("Status"), new JmesPathField("Code")));
+
+    /** Reservations[].Instances[].State.Name */
+    private static final JmesPathExpression INSTANCE_STATE_NAMES = new JmesPathProjection(
+            new JmesPathFlatten(new JmesPathProjection(
+                    new JmesPathFlatten(new JmesPathField("Reservations")), new JmesPathField("Instances"))),
+            new JmesPathSubExpression(new JmesPathField("State"), new JmesPathField("Name")));
+
+    @Test
+    public void projectedField() {
+        DescribeVpcsResult result = new DescribeVpcsResult()
+                .withVpcs(new Vpc().withState("available"), new Vpc(), new Vpc().withState("pending"));
+
+        assertSameAsAst(VPC_STATES, result, VpcAvailable.IsAvailableMatcher.evaluate(result));
+    }
+
+    @Test
+    public void projectedSubExpression() {
+        DescribeSpotInstanceRequestsResult result = new DescribeSpotInstanceRequestsResult()
+                .withSpotInstanceRequests(
+                        new SpotInstanceRequest().withStatus(new SpotInstanceStatus().withCode("fulfilled")),
+                        new SpotInstanceRequest().withStatus(new SpotInstanceStatus()),
+                        new SpotInstanceRequest());
+
+        assertSameAsAst(SPOT_INSTANCE_REQUEST_STATUS_CODES, result,
+                SpotInstanceRequestFulfilled.IsFulfilledMatcher.evaluate(result));
+    }
+
+    @Test
+    public void flattenedProjection() {
+        DescribeInstancesResult result = new DescribeInstancesResult().withReservations(
+                new Reservation().withInstances(running(), new Instance().withState(new InstanceState())),
+                new Reservation().withInstances(new Instance(), running()),
+                new Reservation().withInstances(running()));
+
+        assertSameAsAst(INSTANCE_STATE_NAMES, result, InstanceRunning.IsRunningMatcher.evaluate(result));
+    }
+
+    @Test
+    public void unsetLists() {
+        DescribeVpcsResult vpcs = new DescribeVpcsResult();
+        assertSameAsAst(VPC_STATES, vpcs, VpcAvailable.IsAvailableMatcher.evaluate(vpcs));
+
+        DescribeInstancesResult instances = new DescribeInstancesResult()
+                .withReservations(new Reservation(), new Reservation().withInstances(running()));
+        assertSameAsAst(INSTANCE_STATE_NAMES, instances, InstanceRunning.IsRunningMatcher.evaluate(instances));
+    }
+
+    @Test
+    public void nullElements() {
+        DescribeVpcsResult vpcs = new DescribeVpcsResult()
+                .withVpcs(new Vpc().withState("available"), null);
+        assertSameAsAst(VPC_STATES, vpcs, VpcAvailable.IsAvailableMatcher.evaluate(vpcs));
+
+        DescribeSpotInstanceRequestsResult requests = new DescribeSpotInstanceRequestsResult()
+                .withSpotInstanceRequests(null, new SpotInstanceRequest());
+        assertSameAsAst(SPOT_INSTANCE_REQUEST_STATUS_CODES, requests,
+                SpotInstanceRequestFulfilled.IsFulfilledMatcher.evaluate(requests));
+
+        DescribeInstancesResult instances = new DescribeInstancesResult().withReservations(
+                null, new Reservation().withInstances(null, running()));
+        assertSameAsAst(INSTANCE_STATE_NAMES, instances, InstanceRunning.IsRunningMatcher.evaluate(instances));
+    }
+
+    private static Instance running() {
+        return new Instance().withState(new InstanceState().withName("running"));
+    }
+
+    private static void assertSameAsAst(JmesPathExpression ast, Object result, JsonNode compiled) {
+        JsonNode tree = ObjectMapperSingleton.getObjectMapper().valueToTree(result);
+        assertEquals(ast.accept(new JmesPathEvaluationVisitor(), tree), compiled);
+    }
+}
@@ -15,6 +15,10 @@
 package com.amazonaws.services.ecr;
 
 import com.amazonaws.services.ecr.model.*;
+import com.amazonaws.services.ecr.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -286,28 +290,16 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final BatchCheckLayerAvailabilityRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchCheckLayerAvailabilityRequest, BatchCheckLayerAvailabilityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<BatchCheckLayerAvailabilityResult>() {
-                    @Override
-                    public BatchCheckLayerAvailabilityResult call()
-                            throws Exception {
-                        BatchCheckLayerAvailabilityResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<BatchCheckLayerAvailabilityResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new BatchCheckLayerAvailabilityResultJsonUnmarshaller());
 
-                        try {
-                            result = batchCheckLayerAvailability(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new BatchCheckLayerAvailabilityRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -322,27 +314,15 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final BatchDeleteImageRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchDeleteImageRequest, BatchDeleteImageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<BatchDeleteImageResult>() {
-                    @Override
-                    public BatchDeleteImageResult call() throws Exception {
-                        BatchDeleteImageResult result;
-
-                        try {
-                            result = batchDeleteImage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<BatchDeleteImageResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new BatchDeleteImageResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new BatchDeleteImageRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -357,27 +337,15 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final BatchGetImageRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchGetImageRequest, BatchGetImageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<BatchGetImageResult>() {
-                    @Override
-                    public BatchGetImageResult call() throws Exception {
-                        BatchGetImageResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<BatchGetImageResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new BatchGetImageResultJsonUnmarshaller());
 
-                        try {
-                            result = batchGetImage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new BatchGetImageRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -392,27 +360,15 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final CompleteLayerUploadRequest request,
             final com.amazonaws.handlers.AsyncHandler<CompleteLayerUploadRequest, CompleteLayerUploadResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CompleteLayerUploadResult>() {
-                    @Override
-                    public CompleteLayerUploadResult call() throws Exception {
-                        CompleteLayerUploadResult result;
-
-                        try {
-                            result = completeLayerUpload(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CompleteLayerUploadResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CompleteLayerUploadResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CompleteLayerUploadRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -427,27 +383,15 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final CreateRepositoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRepositoryRequest, CreateRepositoryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateRepositoryResult>() {
-                    @Override
-                    public CreateRepositoryResult call() throws Exception {
-                        CreateRepositoryResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateRepositoryResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateRepositoryResultJsonUnmarshaller());
 
-                        try {
-                            result = createRepository(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateRepositoryRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -462,27 +406,15 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final DeleteRepositoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRepositoryRequest, DeleteRepositoryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteRepositoryResult>() {
-                    @Override
-                    public DeleteRepositoryResult call() throws Exception {
-                        DeleteRepositoryResult result;
-
-                        try {
-                            result = deleteRepository(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteRepositoryResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteRepositoryResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteRepositoryRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -497,27 +429,15 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final DeleteRepositoryPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRepositoryPolicyRequest, DeleteRepositoryPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteRepositoryPolicyResult>() {
-                    @Override
-                    public DeleteRepositoryPolicyResult call() throws Exception {
-                        DeleteRepositoryPolicyResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteRepositoryPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteRepositoryPolicyResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteRepositoryPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteRepositoryPolicyRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -532,27 +452,15 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final DescribeRepositoriesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRepositoriesRequest, DescribeRepositoriesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeRepositoriesResult>() {
-                    @Override
-                    public DescribeRepositoriesResult call() throws Exception {
-                        DescribeRepositoriesResult result;
-
-                        try {
-                            result = describeRepositories(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeRepositoriesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeRepositoriesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeRepositoriesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -567,27 +475,15 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final GetAuthorizationTokenRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAuthorizationTokenRequest, GetAuthorizationTokenResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetAuthorizationTokenResult>() {
-                    @Override
-                    public GetAuthorizationTokenResult call() throws Exception {
-                        GetAuthorizationTokenResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetAuthorizationTokenResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetAuthorizationTokenResultJsonUnmarshaller());
 
-                        try {
-                            result = getAuthorizationToken(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetAuthorizationTokenRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -602,27 +498,15 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final GetDownloadUrlForLayerRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDownloadUrlForLayerRequest, GetDownloadUrlForLayerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDownloadUrlForLayerResult>() {
-                    @Override
-                    public GetDownloadUrlForLayerResult call() throws Exception {
-                        GetDownloadUrlForLayerResult result;
-
-                        try {
-                            result = getDownloadUrlForLayer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetDownloadUrlForLayerResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDownloadUrlForLayerResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetDownloadUrlForLayerRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -637,27 +521,15 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final GetRepositoryPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRepositoryPolicyRequest, GetRepositoryPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetRepositoryPolicyResult>() {
-                    @Override
-                    public GetRepositoryPolicyResult call() throws Exception {
-                        GetRepositoryPolicyResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetRepositoryPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetRepositoryPolicyResultJsonUnmarshaller());
 
-                        try {
-                            result = getRepositoryPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetRepositoryPolicyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -672,27 +544,15 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final InitiateLayerUploadRequest request,
             final com.amazonaws.handlers.AsyncHandler<InitiateLayerUploadRequest, InitiateLayerUploadResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<InitiateLayerUploadResult>() {
-                    @Override
-                    public InitiateLayerUploadResult call() throws Exception {
-                        InitiateLayerUploadResult result;
-
-                        try {
-                            result = initiateLayerUpload(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<InitiateLayerUploadResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new InitiateLayerUploadResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new InitiateLayerUploadRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -707,27 +567,15 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final ListImagesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListImagesRequest, ListImagesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListImagesResult>() {
-                    @Override
-                    public ListImagesResult call() throws Exception {
-                        ListImagesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListImagesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListImagesResultJsonUnmarshaller());
 
-                        try {
-                            result = listImages(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListImagesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -742,27 +590,15 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final PutImageRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutImageRequest, PutImageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutImageResult>() {
-                    @Override
-                    public PutImageResult call() throws Exception {
-                        PutImageResult result;
-
-                        try {
-                            result = putImage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<PutImageResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutImageResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new PutImageRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -777,27 +613,15 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final SetRepositoryPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetRepositoryPolicyRequest, SetRepositoryPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetRepositoryPolicyResult>() {
-                    @Override
-                    public SetRepositoryPolicyResult call() throws Exception {
-                        SetRepositoryPolicyResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<SetRepositoryPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SetRepositoryPolicyResultJsonUnmarshaller());
 
-                        try {
-                            result = setRepositoryPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SetRepositoryPolicyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -812,27 +636,15 @@ public class AmazonECRAsyncClient extends AmazonECRClient implements
             final UploadLayerPartRequest request,
             final com.amazonaws.handlers.AsyncHandler<UploadLayerPartRequest, UploadLayerPartResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UploadLayerPartResult>() {
-                    @Override
-                    public UploadLayerPartResult call() throws Exception {
-                        UploadLayerPartResult result;
-
-                        try {
-                            result = uploadLayerPart(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UploadLayerPartResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UploadLayerPartResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UploadLayerPartRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
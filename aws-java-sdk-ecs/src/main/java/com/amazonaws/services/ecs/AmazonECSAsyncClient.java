@@ -15,6 +15,10 @@
 package com.amazonaws.services.ecs;
 
 import com.amazonaws.services.ecs.model.*;
+import com.amazonaws.services.ecs.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -293,27 +297,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final CreateClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateClusterRequest, CreateClusterResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateClusterResult>() {
-                    @Override
-                    public CreateClusterResult call() throws Exception {
-                        CreateClusterResult result;
-
-                        try {
-                            result = createCluster(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateClusterResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateClusterResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateClusterRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -352,27 +344,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final CreateServiceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateServiceRequest, CreateServiceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateServiceResult>() {
-                    @Override
-                    public CreateServiceResult call() throws Exception {
-                        CreateServiceResult result;
-
-                        try {
-                            result = createService(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateServiceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateServiceResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateServiceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -387,27 +367,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DeleteClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteClusterRequest, DeleteClusterResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteClusterResult>() {
-                    @Override
-                    public DeleteClusterResult call() throws Exception {
-                        DeleteClusterResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteClusterResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteClusterResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteCluster(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteClusterRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -422,27 +390,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DeleteServiceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteServiceRequest, DeleteServiceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteServiceResult>() {
-                    @Override
-                    public DeleteServiceResult call() throws Exception {
-                        DeleteServiceResult result;
-
-                        try {
-                            result = deleteService(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteServiceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteServiceResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteServiceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -457,28 +413,16 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DeregisterContainerInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterContainerInstanceRequest, DeregisterContainerInstanceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeregisterContainerInstanceResult>() {
-                    @Override
-                    public DeregisterContainerInstanceResult call()
-                            throws Exception {
-                        DeregisterContainerInstanceResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeregisterContainerInstanceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeregisterContainerInstanceResultJsonUnmarshaller());
 
-                        try {
-                            result = deregisterContainerInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeregisterContainerInstanceRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -493,28 +437,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DeregisterTaskDefinitionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterTaskDefinitionRequest, DeregisterTaskDefinitionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeregisterTaskDefinitionResult>() {
-                    @Override
-                    public DeregisterTaskDefinitionResult call()
-                            throws Exception {
-                        DeregisterTaskDefinitionResult result;
-
-                        try {
-                            result = deregisterTaskDefinition(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeregisterTaskDefinitionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeregisterTaskDefinitionResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeregisterTaskDefinitionRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -529,27 +460,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DescribeClustersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClustersRequest, DescribeClustersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeClustersResult>() {
-                    @Override
-                    public DescribeClustersResult call() throws Exception {
-                        DescribeClustersResult result;
-
-                        try {
-                            result = describeClusters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeClustersResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeClustersResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeClustersRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -589,28 +508,16 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DescribeContainerInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeContainerInstancesRequest, DescribeContainerInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeContainerInstancesResult>() {
-                    @Override
-                    public DescribeContainerInstancesResult call()
-                            throws Exception {
-                        DescribeContainerInstancesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeContainerInstancesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeContainerInstancesResultJsonUnmarshaller());
 
-                        try {
-                            result = describeContainerInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new DescribeContainerInstancesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -625,27 +532,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DescribeServicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeServicesRequest, DescribeServicesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeServicesResult>() {
-                    @Override
-                    public DescribeServicesResult call() throws Exception {
-                        DescribeServicesResult result;
-
-                        try {
-                            result = describeServices(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeServicesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeServicesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeServicesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -660,27 +555,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DescribeTaskDefinitionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTaskDefinitionRequest, DescribeTaskDefinitionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTaskDefinitionResult>() {
-                    @Override
-                    public DescribeTaskDefinitionResult call() throws Exception {
-                        DescribeTaskDefinitionResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeTaskDefinitionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeTaskDefinitionResultJsonUnmarshaller());
 
-                        try {
-                            result = describeTaskDefinition(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeTaskDefinitionRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -695,27 +578,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DescribeTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTasksRequest, DescribeTasksResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTasksResult>() {
-                    @Override
-                    public DescribeTasksResult call() throws Exception {
-                        DescribeTasksResult result;
-
-                        try {
-                            result = describeTasks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeTasksResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeTasksResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeTasksRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -730,27 +601,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final DiscoverPollEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<DiscoverPollEndpointRequest, DiscoverPollEndpointResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DiscoverPollEndpointResult>() {
-                    @Override
-                    public DiscoverPollEndpointResult call() throws Exception {
-                        DiscoverPollEndpointResult result;
-
-                        try {
-                            result = discoverPollEndpoint(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DiscoverPollEndpointResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DiscoverPollEndpointResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DiscoverPollEndpointRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -790,27 +649,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final ListClustersRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListClustersRequest, ListClustersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListClustersResult>() {
-                    @Override
-                    public ListClustersResult call() throws Exception {
-                        ListClustersResult result;
-
-                        try {
-                            result = listClusters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListClustersResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListClustersResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListClustersRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -849,27 +696,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final ListContainerInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListContainerInstancesRequest, ListContainerInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListContainerInstancesResult>() {
-                    @Override
-                    public ListContainerInstancesResult call() throws Exception {
-                        ListContainerInstancesResult result;
-
-                        try {
-                            result = listContainerInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListContainerInstancesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListContainerInstancesResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListContainerInstancesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -909,27 +744,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final ListServicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListServicesRequest, ListServicesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListServicesResult>() {
-                    @Override
-                    public ListServicesResult call() throws Exception {
-                        ListServicesResult result;
-
-                        try {
-                            result = listServices(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListServicesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListServicesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListServicesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -968,28 +791,16 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final ListTaskDefinitionFamiliesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTaskDefinitionFamiliesRequest, ListTaskDefinitionFamiliesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTaskDefinitionFamiliesResult>() {
-                    @Override
-                    public ListTaskDefinitionFamiliesResult call()
-                            throws Exception {
-                        ListTaskDefinitionFamiliesResult result;
-
-                        try {
-                            result = listTaskDefinitionFamilies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListTaskDefinitionFamiliesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTaskDefinitionFamiliesResultJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new ListTaskDefinitionFamiliesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1030,27 +841,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final ListTaskDefinitionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTaskDefinitionsRequest, ListTaskDefinitionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTaskDefinitionsResult>() {
-                    @Override
-                    public ListTaskDefinitionsResult call() throws Exception {
-                        ListTaskDefinitionsResult result;
-
-                        try {
-                            result = listTaskDefinitions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListTaskDefinitionsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTaskDefinitionsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListTaskDefinitionsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1090,27 +889,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final ListTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTasksRequest, ListTasksResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTasksResult>() {
-                    @Override
-                    public ListTasksResult call() throws Exception {
-                        ListTasksResult result;
-
-                        try {
-                            result = listTasks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListTasksResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTasksResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListTasksRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1149,28 +936,16 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final RegisterContainerInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterContainerInstanceRequest, RegisterContainerInstanceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RegisterContainerInstanceResult>() {
-                    @Override
-                    public RegisterContainerInstanceResult call()
-                            throws Exception {
-                        RegisterContainerInstanceResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<RegisterContainerInstanceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RegisterContainerInstanceResultJsonUnmarshaller());
 
-                        try {
-                            result = registerContainerInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new RegisterContainerInstanceRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1185,27 +960,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final RegisterTaskDefinitionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterTaskDefinitionRequest, RegisterTaskDefinitionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RegisterTaskDefinitionResult>() {
-                    @Override
-                    public RegisterTaskDefinitionResult call() throws Exception {
-                        RegisterTaskDefinitionResult result;
-
-                        try {
-                            result = registerTaskDefinition(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<RegisterTaskDefinitionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RegisterTaskDefinitionResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RegisterTaskDefinitionRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1220,27 +983,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final RunTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<RunTaskRequest, RunTaskResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RunTaskResult>() {
-                    @Override
-                    public RunTaskResult call() throws Exception {
-                        RunTaskResult result;
-
-                        try {
-                            result = runTask(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<RunTaskResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RunTaskResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RunTaskRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1255,27 +1006,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final StartTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartTaskRequest, StartTaskResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StartTaskResult>() {
-                    @Override
-                    public StartTaskResult call() throws Exception {
-                        StartTaskResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<StartTaskResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StartTaskResultJsonUnmarshaller());
 
-                        try {
-                            result = startTask(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new StartTaskRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1290,27 +1029,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final StopTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopTaskRequest, StopTaskResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StopTaskResult>() {
-                    @Override
-                    public StopTaskResult call() throws Exception {
-                        StopTaskResult result;
-
-                        try {
-                            result = stopTask(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<StopTaskResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StopTaskResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new StopTaskRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1325,28 +1052,16 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final SubmitContainerStateChangeRequest request,
             final com.amazonaws.handlers.AsyncHandler<SubmitContainerStateChangeRequest, SubmitContainerStateChangeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SubmitContainerStateChangeResult>() {
-                    @Override
-                    public SubmitContainerStateChangeResult call()
-                            throws Exception {
-                        SubmitContainerStateChangeResult result;
-
-                        try {
-                            result = submitContainerStateChange(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<SubmitContainerStateChangeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SubmitContainerStateChangeResultJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new SubmitContainerStateChangeRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1387,27 +1102,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final SubmitTaskStateChangeRequest request,
             final com.amazonaws.handlers.AsyncHandler<SubmitTaskStateChangeRequest, SubmitTaskStateChangeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SubmitTaskStateChangeResult>() {
-                    @Override
-                    public SubmitTaskStateChangeResult call() throws Exception {
-                        SubmitTaskStateChangeResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<SubmitTaskStateChangeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SubmitTaskStateChangeResultJsonUnmarshaller());
 
-                        try {
-                            result = submitTaskStateChange(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SubmitTaskStateChangeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1422,27 +1125,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final UpdateContainerAgentRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateContainerAgentRequest, UpdateContainerAgentResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateContainerAgentResult>() {
-                    @Override
-                    public UpdateContainerAgentResult call() throws Exception {
-                        UpdateContainerAgentResult result;
-
-                        try {
-                            result = updateContainerAgent(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateContainerAgentResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateContainerAgentResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateContainerAgentRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1457,27 +1148,15 @@ public class AmazonECSAsyncClient extends AmazonECSClient implements
             final UpdateServiceRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateServiceRequest, UpdateServiceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateServiceResult>() {
-                    @Override
-                    public UpdateServiceResult call() throws Exception {
-                        UpdateServiceResult result;
-
-                        try {
-                            result = updateService(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateServiceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateServiceResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateServiceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
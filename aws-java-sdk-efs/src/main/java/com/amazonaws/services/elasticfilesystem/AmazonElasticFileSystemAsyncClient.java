@@ -15,6 +15,10 @@
 package com.amazonaws.services.elasticfilesystem;
 
 import com.amazonaws.services.elasticfilesystem.model.*;
+import com.amazonaws.services.elasticfilesystem.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -279,27 +283,15 @@ public class AmazonElasticFileSystemAsyncClient extends
             final CreateFileSystemRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateFileSystemRequest, CreateFileSystemResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateFileSystemResult>() {
-                    @Override
-                    public CreateFileSystemResult call() throws Exception {
-                        CreateFileSystemResult result;
-
-                        try {
-                            result = createFileSystem(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateFileSystemResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateFileSystemResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateFileSystemRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -314,27 +306,15 @@ public class AmazonElasticFileSystemAsyncClient extends
             final CreateMountTargetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateMountTargetRequest, CreateMountTargetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateMountTargetResult>() {
-                    @Override
-                    public CreateMountTargetResult call() throws Exception {
-                        CreateMountTargetResult result;
-
-                        try {
-                            result = createMountTarget(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateMountTargetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateMountTargetResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateMountTargetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -349,27 +329,15 @@ public class AmazonElasticFileSystemAsyncClient extends
             final CreateTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTagsRequest, CreateTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateTagsResult>() {
-                    @Override
-                    public CreateTagsResult call() throws Exception {
-                        CreateTagsResult result;
-
-                        try {
-                            result = createTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateTagsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -384,27 +352,15 @@ public class AmazonElasticFileSystemAsyncClient extends
             final DeleteFileSystemRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteFileSystemRequest, DeleteFileSystemResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteFileSystemResult>() {
-                    @Override
-                    public DeleteFileSystemResult call() throws Exception {
-                        DeleteFileSystemResult result;
-
-                        try {
-                            result = deleteFileSystem(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteFileSystemResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteFileSystemResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteFileSystemRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -419,27 +375,15 @@ public class AmazonElasticFileSystemAsyncClient extends
             final DeleteMountTargetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteMountTargetRequest, DeleteMountTargetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteMountTargetResult>() {
-                    @Override
-                    public DeleteMountTargetResult call() throws Exception {
-                        DeleteMountTargetResult result;
-
-                        try {
-                            result = deleteMountTarget(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteMountTargetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteMountTargetResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteMountTargetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -454,27 +398,15 @@ public class AmazonElasticFileSystemAsyncClient extends
             final DeleteTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTagsRequest, DeleteTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteTagsResult>() {
-                    @Override
-                    public DeleteTagsResult call() throws Exception {
-                        DeleteTagsResult result;
-
-                        try {
-                            result = deleteTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteTagsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -489,27 +421,15 @@ public class AmazonElasticFileSystemAsyncClient extends
             final DescribeFileSystemsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeFileSystemsRequest, DescribeFileSystemsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeFileSystemsResult>() {
-                    @Override
-                    public DescribeFileSystemsResult call() throws Exception {
-                        DescribeFileSystemsResult result;
-
-                        try {
-                            result = describeFileSystems(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeFileSystemsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeFileSystemsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeFileSystemsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -549,28 +469,16 @@ public class AmazonElasticFileSystemAsyncClient extends
             final DescribeMountTargetSecurityGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeMountTargetSecurityGroupsRequest, DescribeMountTargetSecurityGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeMountTargetSecurityGroupsResult>() {
-                    @Override
-                    public DescribeMountTargetSecurityGroupsResult call()
-                            throws Exception {
-                        DescribeMountTargetSecurityGroupsResult result;
-
-                        try {
-                            result = describeMountTargetSecurityGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeMountTargetSecurityGroupsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeMountTargetSecurityGroupsResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeMountTargetSecurityGroupsRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -585,27 +493,15 @@ public class AmazonElasticFileSystemAsyncClient extends
             final DescribeMountTargetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeMountTargetsRequest, DescribeMountTargetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeMountTargetsResult>() {
-                    @Override
-                    public DescribeMountTargetsResult call() throws Exception {
-                        DescribeMountTargetsResult result;
-
-                        try {
-                            result = describeMountTargets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeMountTargetsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeMountTargetsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeMountTargetsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -620,27 +516,15 @@ public class AmazonElasticFileSystemAsyncClient extends
             final DescribeTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTagsResult>() {
-                    @Override
-                    public DescribeTagsResult call() throws Exception {
-                        DescribeTagsResult result;
-
-                        try {
-                            result = describeTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeTagsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -655,28 +539,16 @@ public class AmazonElasticFileSystemAsyncClient extends
             final ModifyMountTargetSecurityGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyMountTargetSecurityGroupsRequest, ModifyMountTargetSecurityGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyMountTargetSecurityGroupsResult>() {
-                    @Override
-                    public ModifyMountTargetSecurityGroupsResult call()
-                            throws Exception {
-                        ModifyMountTargetSecurityGroupsResult result;
-
-                        try {
-                            result = modifyMountTargetSecurityGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ModifyMountTargetSecurityGroupsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ModifyMountTargetSecurityGroupsResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new ModifyMountTargetSecurityGroupsRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.elasticache;
 
 import com.amazonaws.services.elasticache.model.*;
+import com.amazonaws.services.elasticache.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -295,27 +299,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final AddTagsToResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToResourceRequest, AddTagsToResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddTagsToResourceResult>() {
-                    @Override
-                    public AddTagsToResourceResult call() throws Exception {
-                        AddTagsToResourceResult result;
+        StaxResponseHandler<AddTagsToResourceResult> responseHandler = new StaxResponseHandler<AddTagsToResourceResult>(
+                new AddTagsToResourceResultStaxUnmarshaller());
 
-                        try {
-                            result = addTagsToResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AddTagsToResourceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -330,27 +318,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final AuthorizeCacheSecurityGroupIngressRequest request,
             final com.amazonaws.handlers.AsyncHandler<AuthorizeCacheSecurityGroupIngressRequest, CacheSecurityGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CacheSecurityGroup>() {
-                    @Override
-                    public CacheSecurityGroup call() throws Exception {
-                        CacheSecurityGroup result;
-
-                        try {
-                            result = authorizeCacheSecurityGroupIngress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CacheSecurityGroup> responseHandler = new StaxResponseHandler<CacheSecurityGroup>(
+                new CacheSecurityGroupStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AuthorizeCacheSecurityGroupIngressRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -365,27 +338,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CopySnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopySnapshotRequest, Snapshot> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Snapshot>() {
-                    @Override
-                    public Snapshot call() throws Exception {
-                        Snapshot result;
-
-                        try {
-                            result = copySnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<Snapshot> responseHandler = new StaxResponseHandler<Snapshot>(
+                new SnapshotStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CopySnapshotRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -400,27 +357,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateCacheClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCacheClusterRequest, CacheCluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CacheCluster>() {
-                    @Override
-                    public CacheCluster call() throws Exception {
-                        CacheCluster result;
+        StaxResponseHandler<CacheCluster> responseHandler = new StaxResponseHandler<CacheCluster>(
+                new CacheClusterStaxUnmarshaller());
 
-                        try {
-                            result = createCacheCluster(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateCacheClusterRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -435,27 +376,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateCacheParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCacheParameterGroupRequest, CacheParameterGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CacheParameterGroup>() {
-                    @Override
-                    public CacheParameterGroup call() throws Exception {
-                        CacheParameterGroup result;
-
-                        try {
-                            result = createCacheParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CacheParameterGroup> responseHandler = new StaxResponseHandler<CacheParameterGroup>(
+                new CacheParameterGroupStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateCacheParameterGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -470,27 +396,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateCacheSecurityGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCacheSecurityGroupRequest, CacheSecurityGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CacheSecurityGroup>() {
-                    @Override
-                    public CacheSecurityGroup call() throws Exception {
-                        CacheSecurityGroup result;
+        StaxResponseHandler<CacheSecurityGroup> responseHandler = new StaxResponseHandler<CacheSecurityGroup>(
+                new CacheSecurityGroupStaxUnmarshaller());
 
-                        try {
-                            result = createCacheSecurityGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateCacheSecurityGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -505,27 +416,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateCacheSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCacheSubnetGroupRequest, CacheSubnetGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CacheSubnetGroup>() {
-                    @Override
-                    public CacheSubnetGroup call() throws Exception {
-                        CacheSubnetGroup result;
-
-                        try {
-                            result = createCacheSubnetGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CacheSubnetGroup> responseHandler = new StaxResponseHandler<CacheSubnetGroup>(
+                new CacheSubnetGroupStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateCacheSubnetGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -540,27 +436,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateReplicationGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReplicationGroupRequest, ReplicationGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReplicationGroup>() {
-                    @Override
-                    public ReplicationGroup call() throws Exception {
-                        ReplicationGroup result;
-
-                        try {
-                            result = createReplicationGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ReplicationGroup> responseHandler = new StaxResponseHandler<ReplicationGroup>(
+                new ReplicationGroupStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateReplicationGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -575,27 +456,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final CreateSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSnapshotRequest, Snapshot> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Snapshot>() {
-                    @Override
-                    public Snapshot call() throws Exception {
-                        Snapshot result;
+        StaxResponseHandler<Snapshot> responseHandler = new StaxResponseHandler<Snapshot>(
+                new SnapshotStaxUnmarshaller());
 
-                        try {
-                            result = createSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateSnapshotRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -610,27 +475,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteCacheClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCacheClusterRequest, CacheCluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CacheCluster>() {
-                    @Override
-                    public CacheCluster call() throws Exception {
-                        CacheCluster result;
-
-                        try {
-                            result = deleteCacheCluster(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CacheCluster> responseHandler = new StaxResponseHandler<CacheCluster>(
+                new CacheClusterStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteCacheClusterRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -645,28 +494,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteCacheParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCacheParameterGroupRequest, DeleteCacheParameterGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteCacheParameterGroupResult>() {
-                    @Override
-                    public DeleteCacheParameterGroupResult call()
-                            throws Exception {
-                        DeleteCacheParameterGroupResult result;
+        StaxResponseHandler<DeleteCacheParameterGroupResult> responseHandler = new StaxResponseHandler<DeleteCacheParameterGroupResult>(
+                new DeleteCacheParameterGroupResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteCacheParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteCacheParameterGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -681,28 +514,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteCacheSecurityGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCacheSecurityGroupRequest, DeleteCacheSecurityGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteCacheSecurityGroupResult>() {
-                    @Override
-                    public DeleteCacheSecurityGroupResult call()
-                            throws Exception {
-                        DeleteCacheSecurityGroupResult result;
-
-                        try {
-                            result = deleteCacheSecurityGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteCacheSecurityGroupResult> responseHandler = new StaxResponseHandler<DeleteCacheSecurityGroupResult>(
+                new DeleteCacheSecurityGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteCacheSecurityGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -717,27 +534,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteCacheSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCacheSubnetGroupRequest, DeleteCacheSubnetGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteCacheSubnetGroupResult>() {
-                    @Override
-                    public DeleteCacheSubnetGroupResult call() throws Exception {
-                        DeleteCacheSubnetGroupResult result;
-
-                        try {
-                            result = deleteCacheSubnetGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteCacheSubnetGroupResult> responseHandler = new StaxResponseHandler<DeleteCacheSubnetGroupResult>(
+                new DeleteCacheSubnetGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteCacheSubnetGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -752,27 +554,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteReplicationGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteReplicationGroupRequest, ReplicationGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReplicationGroup>() {
-                    @Override
-                    public ReplicationGroup call() throws Exception {
-                        ReplicationGroup result;
+        StaxResponseHandler<ReplicationGroup> responseHandler = new StaxResponseHandler<ReplicationGroup>(
+                new ReplicationGroupStaxUnmarshaller());
 
-                        try {
-                            result = deleteReplicationGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteReplicationGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -787,27 +574,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DeleteSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSnapshotRequest, Snapshot> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Snapshot>() {
-                    @Override
-                    public Snapshot call() throws Exception {
-                        Snapshot result;
-
-                        try {
-                            result = deleteSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<Snapshot> responseHandler = new StaxResponseHandler<Snapshot>(
+                new SnapshotStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteSnapshotRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -822,27 +593,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheClustersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCacheClustersRequest, DescribeCacheClustersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeCacheClustersResult>() {
-                    @Override
-                    public DescribeCacheClustersResult call() throws Exception {
-                        DescribeCacheClustersResult result;
-
-                        try {
-                            result = describeCacheClusters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeCacheClustersResult> responseHandler = new StaxResponseHandler<DescribeCacheClustersResult>(
+                new DescribeCacheClustersResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeCacheClustersRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -882,28 +638,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheEngineVersionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCacheEngineVersionsRequest, DescribeCacheEngineVersionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeCacheEngineVersionsResult>() {
-                    @Override
-                    public DescribeCacheEngineVersionsResult call()
-                            throws Exception {
-                        DescribeCacheEngineVersionsResult result;
-
-                        try {
-                            result = describeCacheEngineVersions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeCacheEngineVersionsResult> responseHandler = new StaxResponseHandler<DescribeCacheEngineVersionsResult>(
+                new DescribeCacheEngineVersionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeCacheEngineVersionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -944,28 +684,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheParameterGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCacheParameterGroupsRequest, DescribeCacheParameterGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeCacheParameterGroupsResult>() {
-                    @Override
-                    public DescribeCacheParameterGroupsResult call()
-                            throws Exception {
-                        DescribeCacheParameterGroupsResult result;
-
-                        try {
-                            result = describeCacheParameterGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeCacheParameterGroupsResult> responseHandler = new StaxResponseHandler<DescribeCacheParameterGroupsResult>(
+                new DescribeCacheParameterGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeCacheParameterGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1006,28 +730,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCacheParametersRequest, DescribeCacheParametersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeCacheParametersResult>() {
-                    @Override
-                    public DescribeCacheParametersResult call()
-                            throws Exception {
-                        DescribeCacheParametersResult result;
-
-                        try {
-                            result = describeCacheParameters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeCacheParametersResult> responseHandler = new StaxResponseHandler<DescribeCacheParametersResult>(
+                new DescribeCacheParametersResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeCacheParametersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1042,28 +750,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheSecurityGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCacheSecurityGroupsRequest, DescribeCacheSecurityGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeCacheSecurityGroupsResult>() {
-                    @Override
-                    public DescribeCacheSecurityGroupsResult call()
-                            throws Exception {
-                        DescribeCacheSecurityGroupsResult result;
-
-                        try {
-                            result = describeCacheSecurityGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeCacheSecurityGroupsResult> responseHandler = new StaxResponseHandler<DescribeCacheSecurityGroupsResult>(
+                new DescribeCacheSecurityGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeCacheSecurityGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1104,28 +796,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeCacheSubnetGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCacheSubnetGroupsRequest, DescribeCacheSubnetGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeCacheSubnetGroupsResult>() {
-                    @Override
-                    public DescribeCacheSubnetGroupsResult call()
-                            throws Exception {
-                        DescribeCacheSubnetGroupsResult result;
-
-                        try {
-                            result = describeCacheSubnetGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeCacheSubnetGroupsResult> responseHandler = new StaxResponseHandler<DescribeCacheSubnetGroupsResult>(
+                new DescribeCacheSubnetGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeCacheSubnetGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1166,27 +842,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeEngineDefaultParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEngineDefaultParametersRequest, EngineDefaults> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EngineDefaults>() {
-                    @Override
-                    public EngineDefaults call() throws Exception {
-                        EngineDefaults result;
-
-                        try {
-                            result = describeEngineDefaultParameters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<EngineDefaults> responseHandler = new StaxResponseHandler<EngineDefaults>(
+                new EngineDefaultsStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeEngineDefaultParametersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1201,27 +862,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEventsResult>() {
-                    @Override
-                    public DescribeEventsResult call() throws Exception {
-                        DescribeEventsResult result;
-
-                        try {
-                            result = describeEvents(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeEventsResult> responseHandler = new StaxResponseHandler<DescribeEventsResult>(
+                new DescribeEventsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeEventsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1260,28 +905,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeReplicationGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReplicationGroupsRequest, DescribeReplicationGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeReplicationGroupsResult>() {
-                    @Override
-                    public DescribeReplicationGroupsResult call()
-                            throws Exception {
-                        DescribeReplicationGroupsResult result;
-
-                        try {
-                            result = describeReplicationGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeReplicationGroupsResult> responseHandler = new StaxResponseHandler<DescribeReplicationGroupsResult>(
+                new DescribeReplicationGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeReplicationGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1322,28 +951,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeReservedCacheNodesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedCacheNodesRequest, DescribeReservedCacheNodesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeReservedCacheNodesResult>() {
-                    @Override
-                    public DescribeReservedCacheNodesResult call()
-                            throws Exception {
-                        DescribeReservedCacheNodesResult result;
-
-                        try {
-                            result = describeReservedCacheNodes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeReservedCacheNodesResult> responseHandler = new StaxResponseHandler<DescribeReservedCacheNodesResult>(
+                new DescribeReservedCacheNodesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeReservedCacheNodesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1384,28 +997,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeReservedCacheNodesOfferingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedCacheNodesOfferingsRequest, DescribeReservedCacheNodesOfferingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeReservedCacheNodesOfferingsResult>() {
-                    @Override
-                    public DescribeReservedCacheNodesOfferingsResult call()
-                            throws Exception {
-                        DescribeReservedCacheNodesOfferingsResult result;
-
-                        try {
-                            result = describeReservedCacheNodesOfferings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeReservedCacheNodesOfferingsResult> responseHandler = new StaxResponseHandler<DescribeReservedCacheNodesOfferingsResult>(
+                new DescribeReservedCacheNodesOfferingsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeReservedCacheNodesOfferingsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1446,27 +1043,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final DescribeSnapshotsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSnapshotsRequest, DescribeSnapshotsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSnapshotsResult>() {
-                    @Override
-                    public DescribeSnapshotsResult call() throws Exception {
-                        DescribeSnapshotsResult result;
-
-                        try {
-                            result = describeSnapshots(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeSnapshotsResult> responseHandler = new StaxResponseHandler<DescribeSnapshotsResult>(
+                new DescribeSnapshotsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeSnapshotsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1506,28 +1087,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ListAllowedNodeTypeModificationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAllowedNodeTypeModificationsRequest, ListAllowedNodeTypeModificationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListAllowedNodeTypeModificationsResult>() {
-                    @Override
-                    public ListAllowedNodeTypeModificationsResult call()
-                            throws Exception {
-                        ListAllowedNodeTypeModificationsResult result;
-
-                        try {
-                            result = listAllowedNodeTypeModifications(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListAllowedNodeTypeModificationsResult> responseHandler = new StaxResponseHandler<ListAllowedNodeTypeModificationsResult>(
+                new ListAllowedNodeTypeModificationsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListAllowedNodeTypeModificationsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1568,27 +1133,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
-                    @Override
-                    public ListTagsForResourceResult call() throws Exception {
-                        ListTagsForResourceResult result;
-
-                        try {
-                            result = listTagsForResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ListTagsForResourceResult> responseHandler = new StaxResponseHandler<ListTagsForResourceResult>(
+                new ListTagsForResourceResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListTagsForResourceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1603,27 +1152,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ModifyCacheClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyCacheClusterRequest, CacheCluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CacheCluster>() {
-                    @Override
-                    public CacheCluster call() throws Exception {
-                        CacheCluster result;
+        StaxResponseHandler<CacheCluster> responseHandler = new StaxResponseHandler<CacheCluster>(
+                new CacheClusterStaxUnmarshaller());
 
-                        try {
-                            result = modifyCacheCluster(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ModifyCacheClusterRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1638,28 +1171,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ModifyCacheParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyCacheParameterGroupRequest, ModifyCacheParameterGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyCacheParameterGroupResult>() {
-                    @Override
-                    public ModifyCacheParameterGroupResult call()
-                            throws Exception {
-                        ModifyCacheParameterGroupResult result;
-
-                        try {
-                            result = modifyCacheParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ModifyCacheParameterGroupResult> responseHandler = new StaxResponseHandler<ModifyCacheParameterGroupResult>(
+                new ModifyCacheParameterGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyCacheParameterGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1674,27 +1191,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ModifyCacheSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyCacheSubnetGroupRequest, CacheSubnetGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CacheSubnetGroup>() {
-                    @Override
-                    public CacheSubnetGroup call() throws Exception {
-                        CacheSubnetGroup result;
-
-                        try {
-                            result = modifyCacheSubnetGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CacheSubnetGroup> responseHandler = new StaxResponseHandler<CacheSubnetGroup>(
+                new CacheSubnetGroupStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyCacheSubnetGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1709,27 +1211,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ModifyReplicationGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyReplicationGroupRequest, ReplicationGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReplicationGroup>() {
-                    @Override
-                    public ReplicationGroup call() throws Exception {
-                        ReplicationGroup result;
+        StaxResponseHandler<ReplicationGroup> responseHandler = new StaxResponseHandler<ReplicationGroup>(
+                new ReplicationGroupStaxUnmarshaller());
 
-                        try {
-                            result = modifyReplicationGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyReplicationGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1744,27 +1231,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final PurchaseReservedCacheNodesOfferingRequest request,
             final com.amazonaws.handlers.AsyncHandler<PurchaseReservedCacheNodesOfferingRequest, ReservedCacheNode> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReservedCacheNode>() {
-                    @Override
-                    public ReservedCacheNode call() throws Exception {
-                        ReservedCacheNode result;
-
-                        try {
-                            result = purchaseReservedCacheNodesOffering(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ReservedCacheNode> responseHandler = new StaxResponseHandler<ReservedCacheNode>(
+                new ReservedCacheNodeStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new PurchaseReservedCacheNodesOfferingRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1779,27 +1251,11 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final RebootCacheClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<RebootCacheClusterRequest, CacheCluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CacheCluster>() {
-                    @Override
-                    public CacheCluster call() throws Exception {
-                        CacheCluster result;
+        StaxResponseHandler<CacheCluster> responseHandler = new StaxResponseHandler<CacheCluster>(
+                new CacheClusterStaxUnmarshaller());
 
-                        try {
-                            result = rebootCacheCluster(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RebootCacheClusterRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1814,27 +1270,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final RemoveTagsFromResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromResourceRequest, RemoveTagsFromResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveTagsFromResourceResult>() {
-                    @Override
-                    public RemoveTagsFromResourceResult call() throws Exception {
-                        RemoveTagsFromResourceResult result;
-
-                        try {
-                            result = removeTagsFromResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<RemoveTagsFromResourceResult> responseHandler = new StaxResponseHandler<RemoveTagsFromResourceResult>(
+                new RemoveTagsFromResourceResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RemoveTagsFromResourceRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1849,28 +1290,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final ResetCacheParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetCacheParameterGroupRequest, ResetCacheParameterGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ResetCacheParameterGroupResult>() {
-                    @Override
-                    public ResetCacheParameterGroupResult call()
-                            throws Exception {
-                        ResetCacheParameterGroupResult result;
+        StaxResponseHandler<ResetCacheParameterGroupResult> responseHandler = new StaxResponseHandler<ResetCacheParameterGroupResult>(
+                new ResetCacheParameterGroupResultStaxUnmarshaller());
 
-                        try {
-                            result = resetCacheParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ResetCacheParameterGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1885,27 +1310,12 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
             final RevokeCacheSecurityGroupIngressRequest request,
             final com.amazonaws.handlers.AsyncHandler<RevokeCacheSecurityGroupIngressRequest, CacheSecurityGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CacheSecurityGroup>() {
-                    @Override
-                    public CacheSecurityGroup call() throws Exception {
-                        CacheSecurityGroup result;
-
-                        try {
-                            result = revokeCacheSecurityGroupIngress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CacheSecurityGroup> responseHandler = new StaxResponseHandler<CacheSecurityGroup>(
+                new CacheSecurityGroupStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new RevokeCacheSecurityGroupIngressRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
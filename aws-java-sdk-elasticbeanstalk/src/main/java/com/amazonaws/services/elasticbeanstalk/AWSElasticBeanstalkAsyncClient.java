@@ -15,6 +15,10 @@
 package com.amazonaws.services.elasticbeanstalk;
 
 import com.amazonaws.services.elasticbeanstalk.model.*;
+import com.amazonaws.services.elasticbeanstalk.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -306,27 +310,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final AbortEnvironmentUpdateRequest request,
             final com.amazonaws.handlers.AsyncHandler<AbortEnvironmentUpdateRequest, AbortEnvironmentUpdateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AbortEnvironmentUpdateResult>() {
-                    @Override
-                    public AbortEnvironmentUpdateResult call() throws Exception {
-                        AbortEnvironmentUpdateResult result;
-
-                        try {
-                            result = abortEnvironmentUpdate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<AbortEnvironmentUpdateResult> responseHandler = new StaxResponseHandler<AbortEnvironmentUpdateResult>(
+                new AbortEnvironmentUpdateResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new AbortEnvironmentUpdateRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -366,28 +355,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final ApplyEnvironmentManagedActionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ApplyEnvironmentManagedActionRequest, ApplyEnvironmentManagedActionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ApplyEnvironmentManagedActionResult>() {
-                    @Override
-                    public ApplyEnvironmentManagedActionResult call()
-                            throws Exception {
-                        ApplyEnvironmentManagedActionResult result;
-
-                        try {
-                            result = applyEnvironmentManagedAction(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ApplyEnvironmentManagedActionResult> responseHandler = new StaxResponseHandler<ApplyEnvironmentManagedActionResult>(
+                new ApplyEnvironmentManagedActionResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ApplyEnvironmentManagedActionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -402,27 +375,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CheckDNSAvailabilityRequest request,
             final com.amazonaws.handlers.AsyncHandler<CheckDNSAvailabilityRequest, CheckDNSAvailabilityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CheckDNSAvailabilityResult>() {
-                    @Override
-                    public CheckDNSAvailabilityResult call() throws Exception {
-                        CheckDNSAvailabilityResult result;
-
-                        try {
-                            result = checkDNSAvailability(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CheckDNSAvailabilityResult> responseHandler = new StaxResponseHandler<CheckDNSAvailabilityResult>(
+                new CheckDNSAvailabilityResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CheckDNSAvailabilityRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -437,27 +395,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final ComposeEnvironmentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ComposeEnvironmentsRequest, ComposeEnvironmentsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ComposeEnvironmentsResult>() {
-                    @Override
-                    public ComposeEnvironmentsResult call() throws Exception {
-                        ComposeEnvironmentsResult result;
+        StaxResponseHandler<ComposeEnvironmentsResult> responseHandler = new StaxResponseHandler<ComposeEnvironmentsResult>(
+                new ComposeEnvironmentsResultStaxUnmarshaller());
 
-                        try {
-                            result = composeEnvironments(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ComposeEnvironmentsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -472,27 +414,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateApplicationRequest, CreateApplicationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateApplicationResult>() {
-                    @Override
-                    public CreateApplicationResult call() throws Exception {
-                        CreateApplicationResult result;
-
-                        try {
-                            result = createApplication(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateApplicationResult> responseHandler = new StaxResponseHandler<CreateApplicationResult>(
+                new CreateApplicationResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateApplicationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -507,28 +433,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateApplicationVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateApplicationVersionRequest, CreateApplicationVersionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateApplicationVersionResult>() {
-                    @Override
-                    public CreateApplicationVersionResult call()
-                            throws Exception {
-                        CreateApplicationVersionResult result;
+        StaxResponseHandler<CreateApplicationVersionResult> responseHandler = new StaxResponseHandler<CreateApplicationVersionResult>(
+                new CreateApplicationVersionResultStaxUnmarshaller());
 
-                        try {
-                            result = createApplicationVersion(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateApplicationVersionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -543,28 +453,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateConfigurationTemplateRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateConfigurationTemplateRequest, CreateConfigurationTemplateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateConfigurationTemplateResult>() {
-                    @Override
-                    public CreateConfigurationTemplateResult call()
-                            throws Exception {
-                        CreateConfigurationTemplateResult result;
-
-                        try {
-                            result = createConfigurationTemplate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateConfigurationTemplateResult> responseHandler = new StaxResponseHandler<CreateConfigurationTemplateResult>(
+                new CreateConfigurationTemplateResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateConfigurationTemplateRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -579,27 +473,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateEnvironmentRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateEnvironmentRequest, CreateEnvironmentResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateEnvironmentResult>() {
-                    @Override
-                    public CreateEnvironmentResult call() throws Exception {
-                        CreateEnvironmentResult result;
+        StaxResponseHandler<CreateEnvironmentResult> responseHandler = new StaxResponseHandler<CreateEnvironmentResult>(
+                new CreateEnvironmentResultStaxUnmarshaller());
 
-                        try {
-                            result = createEnvironment(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateEnvironmentRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -614,27 +492,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final CreateStorageLocationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateStorageLocationRequest, CreateStorageLocationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateStorageLocationResult>() {
-                    @Override
-                    public CreateStorageLocationResult call() throws Exception {
-                        CreateStorageLocationResult result;
-
-                        try {
-                            result = createStorageLocation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateStorageLocationResult> responseHandler = new StaxResponseHandler<CreateStorageLocationResult>(
+                new CreateStorageLocationResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreateStorageLocationRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -674,27 +537,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DeleteApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteApplicationRequest, DeleteApplicationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteApplicationResult>() {
-                    @Override
-                    public DeleteApplicationResult call() throws Exception {
-                        DeleteApplicationResult result;
+        StaxResponseHandler<DeleteApplicationResult> responseHandler = new StaxResponseHandler<DeleteApplicationResult>(
+                new DeleteApplicationResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteApplication(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteApplicationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -709,28 +556,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DeleteApplicationVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteApplicationVersionRequest, DeleteApplicationVersionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteApplicationVersionResult>() {
-                    @Override
-                    public DeleteApplicationVersionResult call()
-                            throws Exception {
-                        DeleteApplicationVersionResult result;
-
-                        try {
-                            result = deleteApplicationVersion(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteApplicationVersionResult> responseHandler = new StaxResponseHandler<DeleteApplicationVersionResult>(
+                new DeleteApplicationVersionResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteApplicationVersionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -745,28 +576,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DeleteConfigurationTemplateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteConfigurationTemplateRequest, DeleteConfigurationTemplateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteConfigurationTemplateResult>() {
-                    @Override
-                    public DeleteConfigurationTemplateResult call()
-                            throws Exception {
-                        DeleteConfigurationTemplateResult result;
-
-                        try {
-                            result = deleteConfigurationTemplate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteConfigurationTemplateResult> responseHandler = new StaxResponseHandler<DeleteConfigurationTemplateResult>(
+                new DeleteConfigurationTemplateResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteConfigurationTemplateRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -781,28 +596,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DeleteEnvironmentConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteEnvironmentConfigurationRequest, DeleteEnvironmentConfigurationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteEnvironmentConfigurationResult>() {
-                    @Override
-                    public DeleteEnvironmentConfigurationResult call()
-                            throws Exception {
-                        DeleteEnvironmentConfigurationResult result;
+        StaxResponseHandler<DeleteEnvironmentConfigurationResult> responseHandler = new StaxResponseHandler<DeleteEnvironmentConfigurationResult>(
+                new DeleteEnvironmentConfigurationResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteEnvironmentConfiguration(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteEnvironmentConfigurationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -817,28 +616,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeApplicationVersionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeApplicationVersionsRequest, DescribeApplicationVersionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeApplicationVersionsResult>() {
-                    @Override
-                    public DescribeApplicationVersionsResult call()
-                            throws Exception {
-                        DescribeApplicationVersionsResult result;
-
-                        try {
-                            result = describeApplicationVersions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeApplicationVersionsResult> responseHandler = new StaxResponseHandler<DescribeApplicationVersionsResult>(
+                new DescribeApplicationVersionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeApplicationVersionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -879,27 +662,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeApplicationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeApplicationsRequest, DescribeApplicationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeApplicationsResult>() {
-                    @Override
-                    public DescribeApplicationsResult call() throws Exception {
-                        DescribeApplicationsResult result;
-
-                        try {
-                            result = describeApplications(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeApplicationsResult> responseHandler = new StaxResponseHandler<DescribeApplicationsResult>(
+                new DescribeApplicationsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeApplicationsRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -939,28 +707,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeConfigurationOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConfigurationOptionsRequest, DescribeConfigurationOptionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeConfigurationOptionsResult>() {
-                    @Override
-                    public DescribeConfigurationOptionsResult call()
-                            throws Exception {
-                        DescribeConfigurationOptionsResult result;
-
-                        try {
-                            result = describeConfigurationOptions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeConfigurationOptionsResult> responseHandler = new StaxResponseHandler<DescribeConfigurationOptionsResult>(
+                new DescribeConfigurationOptionsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeConfigurationOptionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -975,28 +727,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeConfigurationSettingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeConfigurationSettingsRequest, DescribeConfigurationSettingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeConfigurationSettingsResult>() {
-                    @Override
-                    public DescribeConfigurationSettingsResult call()
-                            throws Exception {
-                        DescribeConfigurationSettingsResult result;
+        StaxResponseHandler<DescribeConfigurationSettingsResult> responseHandler = new StaxResponseHandler<DescribeConfigurationSettingsResult>(
+                new DescribeConfigurationSettingsResultStaxUnmarshaller());
 
-                        try {
-                            result = describeConfigurationSettings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeConfigurationSettingsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1011,28 +747,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEnvironmentHealthRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEnvironmentHealthRequest, DescribeEnvironmentHealthResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEnvironmentHealthResult>() {
-                    @Override
-                    public DescribeEnvironmentHealthResult call()
-                            throws Exception {
-                        DescribeEnvironmentHealthResult result;
-
-                        try {
-                            result = describeEnvironmentHealth(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeEnvironmentHealthResult> responseHandler = new StaxResponseHandler<DescribeEnvironmentHealthResult>(
+                new DescribeEnvironmentHealthResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeEnvironmentHealthRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1047,28 +767,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEnvironmentManagedActionHistoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEnvironmentManagedActionHistoryRequest, DescribeEnvironmentManagedActionHistoryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEnvironmentManagedActionHistoryResult>() {
-                    @Override
-                    public DescribeEnvironmentManagedActionHistoryResult call()
-                            throws Exception {
-                        DescribeEnvironmentManagedActionHistoryResult result;
+        StaxResponseHandler<DescribeEnvironmentManagedActionHistoryResult> responseHandler = new StaxResponseHandler<DescribeEnvironmentManagedActionHistoryResult>(
+                new DescribeEnvironmentManagedActionHistoryResultStaxUnmarshaller());
 
-                        try {
-                            result = describeEnvironmentManagedActionHistory(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeEnvironmentManagedActionHistoryRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1083,28 +787,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEnvironmentManagedActionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEnvironmentManagedActionsRequest, DescribeEnvironmentManagedActionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEnvironmentManagedActionsResult>() {
-                    @Override
-                    public DescribeEnvironmentManagedActionsResult call()
-                            throws Exception {
-                        DescribeEnvironmentManagedActionsResult result;
-
-                        try {
-                            result = describeEnvironmentManagedActions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeEnvironmentManagedActionsResult> responseHandler = new StaxResponseHandler<DescribeEnvironmentManagedActionsResult>(
+                new DescribeEnvironmentManagedActionsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeEnvironmentManagedActionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1119,28 +807,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEnvironmentResourcesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEnvironmentResourcesRequest, DescribeEnvironmentResourcesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEnvironmentResourcesResult>() {
-                    @Override
-                    public DescribeEnvironmentResourcesResult call()
-                            throws Exception {
-                        DescribeEnvironmentResourcesResult result;
-
-                        try {
-                            result = describeEnvironmentResources(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeEnvironmentResourcesResult> responseHandler = new StaxResponseHandler<DescribeEnvironmentResourcesResult>(
+                new DescribeEnvironmentResourcesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeEnvironmentResourcesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1155,27 +827,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEnvironmentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEnvironmentsRequest, DescribeEnvironmentsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEnvironmentsResult>() {
-                    @Override
-                    public DescribeEnvironmentsResult call() throws Exception {
-                        DescribeEnvironmentsResult result;
-
-                        try {
-                            result = describeEnvironments(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeEnvironmentsResult> responseHandler = new StaxResponseHandler<DescribeEnvironmentsResult>(
+                new DescribeEnvironmentsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeEnvironmentsRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1215,27 +872,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEventsResult>() {
-                    @Override
-                    public DescribeEventsResult call() throws Exception {
-                        DescribeEventsResult result;
-
-                        try {
-                            result = describeEvents(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeEventsResult> responseHandler = new StaxResponseHandler<DescribeEventsResult>(
+                new DescribeEventsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeEventsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1274,28 +915,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final DescribeInstancesHealthRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInstancesHealthRequest, DescribeInstancesHealthResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeInstancesHealthResult>() {
-                    @Override
-                    public DescribeInstancesHealthResult call()
-                            throws Exception {
-                        DescribeInstancesHealthResult result;
+        StaxResponseHandler<DescribeInstancesHealthResult> responseHandler = new StaxResponseHandler<DescribeInstancesHealthResult>(
+                new DescribeInstancesHealthResultStaxUnmarshaller());
 
-                        try {
-                            result = describeInstancesHealth(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeInstancesHealthRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1310,28 +935,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final ListAvailableSolutionStacksRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAvailableSolutionStacksRequest, ListAvailableSolutionStacksResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListAvailableSolutionStacksResult>() {
-                    @Override
-                    public ListAvailableSolutionStacksResult call()
-                            throws Exception {
-                        ListAvailableSolutionStacksResult result;
-
-                        try {
-                            result = listAvailableSolutionStacks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListAvailableSolutionStacksResult> responseHandler = new StaxResponseHandler<ListAvailableSolutionStacksResult>(
+                new ListAvailableSolutionStacksResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListAvailableSolutionStacksRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1372,27 +981,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final RebuildEnvironmentRequest request,
             final com.amazonaws.handlers.AsyncHandler<RebuildEnvironmentRequest, RebuildEnvironmentResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RebuildEnvironmentResult>() {
-                    @Override
-                    public RebuildEnvironmentResult call() throws Exception {
-                        RebuildEnvironmentResult result;
+        StaxResponseHandler<RebuildEnvironmentResult> responseHandler = new StaxResponseHandler<RebuildEnvironmentResult>(
+                new RebuildEnvironmentResultStaxUnmarshaller());
 
-                        try {
-                            result = rebuildEnvironment(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RebuildEnvironmentRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1407,27 +1000,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final RequestEnvironmentInfoRequest request,
             final com.amazonaws.handlers.AsyncHandler<RequestEnvironmentInfoRequest, RequestEnvironmentInfoResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RequestEnvironmentInfoResult>() {
-                    @Override
-                    public RequestEnvironmentInfoResult call() throws Exception {
-                        RequestEnvironmentInfoResult result;
-
-                        try {
-                            result = requestEnvironmentInfo(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<RequestEnvironmentInfoResult> responseHandler = new StaxResponseHandler<RequestEnvironmentInfoResult>(
+                new RequestEnvironmentInfoResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RequestEnvironmentInfoRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1442,27 +1020,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final RestartAppServerRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestartAppServerRequest, RestartAppServerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RestartAppServerResult>() {
-                    @Override
-                    public RestartAppServerResult call() throws Exception {
-                        RestartAppServerResult result;
+        StaxResponseHandler<RestartAppServerResult> responseHandler = new StaxResponseHandler<RestartAppServerResult>(
+                new RestartAppServerResultStaxUnmarshaller());
 
-                        try {
-                            result = restartAppServer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RestartAppServerRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1477,28 +1039,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final RetrieveEnvironmentInfoRequest request,
             final com.amazonaws.handlers.AsyncHandler<RetrieveEnvironmentInfoRequest, RetrieveEnvironmentInfoResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RetrieveEnvironmentInfoResult>() {
-                    @Override
-                    public RetrieveEnvironmentInfoResult call()
-                            throws Exception {
-                        RetrieveEnvironmentInfoResult result;
-
-                        try {
-                            result = retrieveEnvironmentInfo(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<RetrieveEnvironmentInfoResult> responseHandler = new StaxResponseHandler<RetrieveEnvironmentInfoResult>(
+                new RetrieveEnvironmentInfoResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RetrieveEnvironmentInfoRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1513,27 +1059,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final SwapEnvironmentCNAMEsRequest request,
             final com.amazonaws.handlers.AsyncHandler<SwapEnvironmentCNAMEsRequest, SwapEnvironmentCNAMEsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SwapEnvironmentCNAMEsResult>() {
-                    @Override
-                    public SwapEnvironmentCNAMEsResult call() throws Exception {
-                        SwapEnvironmentCNAMEsResult result;
-
-                        try {
-                            result = swapEnvironmentCNAMEs(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<SwapEnvironmentCNAMEsResult> responseHandler = new StaxResponseHandler<SwapEnvironmentCNAMEsResult>(
+                new SwapEnvironmentCNAMEsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new SwapEnvironmentCNAMEsRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1573,27 +1104,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final TerminateEnvironmentRequest request,
             final com.amazonaws.handlers.AsyncHandler<TerminateEnvironmentRequest, TerminateEnvironmentResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<TerminateEnvironmentResult>() {
-                    @Override
-                    public TerminateEnvironmentResult call() throws Exception {
-                        TerminateEnvironmentResult result;
+        StaxResponseHandler<TerminateEnvironmentResult> responseHandler = new StaxResponseHandler<TerminateEnvironmentResult>(
+                new TerminateEnvironmentResultStaxUnmarshaller());
 
-                        try {
-                            result = terminateEnvironment(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new TerminateEnvironmentRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1608,27 +1124,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final UpdateApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateApplicationRequest, UpdateApplicationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateApplicationResult>() {
-                    @Override
-                    public UpdateApplicationResult call() throws Exception {
-                        UpdateApplicationResult result;
-
-                        try {
-                            result = updateApplication(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<UpdateApplicationResult> responseHandler = new StaxResponseHandler<UpdateApplicationResult>(
+                new UpdateApplicationResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateApplicationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1643,28 +1143,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final UpdateApplicationVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateApplicationVersionRequest, UpdateApplicationVersionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateApplicationVersionResult>() {
-                    @Override
-                    public UpdateApplicationVersionResult call()
-                            throws Exception {
-                        UpdateApplicationVersionResult result;
+        StaxResponseHandler<UpdateApplicationVersionResult> responseHandler = new StaxResponseHandler<UpdateApplicationVersionResult>(
+                new UpdateApplicationVersionResultStaxUnmarshaller());
 
-                        try {
-                            result = updateApplicationVersion(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UpdateApplicationVersionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1679,28 +1163,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final UpdateConfigurationTemplateRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateConfigurationTemplateRequest, UpdateConfigurationTemplateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateConfigurationTemplateResult>() {
-                    @Override
-                    public UpdateConfigurationTemplateResult call()
-                            throws Exception {
-                        UpdateConfigurationTemplateResult result;
-
-                        try {
-                            result = updateConfigurationTemplate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<UpdateConfigurationTemplateResult> responseHandler = new StaxResponseHandler<UpdateConfigurationTemplateResult>(
+                new UpdateConfigurationTemplateResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UpdateConfigurationTemplateRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1715,27 +1183,11 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final UpdateEnvironmentRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateEnvironmentRequest, UpdateEnvironmentResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateEnvironmentResult>() {
-                    @Override
-                    public UpdateEnvironmentResult call() throws Exception {
-                        UpdateEnvironmentResult result;
+        StaxResponseHandler<UpdateEnvironmentResult> responseHandler = new StaxResponseHandler<UpdateEnvironmentResult>(
+                new UpdateEnvironmentResultStaxUnmarshaller());
 
-                        try {
-                            result = updateEnvironment(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateEnvironmentRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1750,28 +1202,12 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
             final ValidateConfigurationSettingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ValidateConfigurationSettingsRequest, ValidateConfigurationSettingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ValidateConfigurationSettingsResult>() {
-                    @Override
-                    public ValidateConfigurationSettingsResult call()
-                            throws Exception {
-                        ValidateConfigurationSettingsResult result;
-
-                        try {
-                            result = validateConfigurationSettings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ValidateConfigurationSettingsResult> responseHandler = new StaxResponseHandler<ValidateConfigurationSettingsResult>(
+                new ValidateConfigurationSettingsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ValidateConfigurationSettingsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
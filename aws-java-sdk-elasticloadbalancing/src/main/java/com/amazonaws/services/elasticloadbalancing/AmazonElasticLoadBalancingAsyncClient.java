@@ -15,6 +15,10 @@
 package com.amazonaws.services.elasticloadbalancing;
 
 import com.amazonaws.services.elasticloadbalancing.model.*;
+import com.amazonaws.services.elasticloadbalancing.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -315,27 +319,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final AddTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsRequest, AddTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddTagsResult>() {
-                    @Override
-                    public AddTagsResult call() throws Exception {
-                        AddTagsResult result;
-
-                        try {
-                            result = addTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<AddTagsResult> responseHandler = new StaxResponseHandler<AddTagsResult>(
+                new AddTagsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new AddTagsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -350,28 +338,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final ApplySecurityGroupsToLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<ApplySecurityGroupsToLoadBalancerRequest, ApplySecurityGroupsToLoadBalancerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ApplySecurityGroupsToLoadBalancerResult>() {
-                    @Override
-                    public ApplySecurityGroupsToLoadBalancerResult call()
-                            throws Exception {
-                        ApplySecurityGroupsToLoadBalancerResult result;
-
-                        try {
-                            result = applySecurityGroupsToLoadBalancer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ApplySecurityGroupsToLoadBalancerResult> responseHandler = new StaxResponseHandler<ApplySecurityGroupsToLoadBalancerResult>(
+                new ApplySecurityGroupsToLoadBalancerResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ApplySecurityGroupsToLoadBalancerRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -386,28 +358,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final AttachLoadBalancerToSubnetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachLoadBalancerToSubnetsRequest, AttachLoadBalancerToSubnetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AttachLoadBalancerToSubnetsResult>() {
-                    @Override
-                    public AttachLoadBalancerToSubnetsResult call()
-                            throws Exception {
-                        AttachLoadBalancerToSubnetsResult result;
-
-                        try {
-                            result = attachLoadBalancerToSubnets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<AttachLoadBalancerToSubnetsResult> responseHandler = new StaxResponseHandler<AttachLoadBalancerToSubnetsResult>(
+                new AttachLoadBalancerToSubnetsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new AttachLoadBalancerToSubnetsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -422,27 +378,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final ConfigureHealthCheckRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConfigureHealthCheckRequest, ConfigureHealthCheckResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ConfigureHealthCheckResult>() {
-                    @Override
-                    public ConfigureHealthCheckResult call() throws Exception {
-                        ConfigureHealthCheckResult result;
-
-                        try {
-                            result = configureHealthCheck(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ConfigureHealthCheckResult> responseHandler = new StaxResponseHandler<ConfigureHealthCheckResult>(
+                new ConfigureHealthCheckResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ConfigureHealthCheckRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -457,28 +398,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final CreateAppCookieStickinessPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAppCookieStickinessPolicyRequest, CreateAppCookieStickinessPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateAppCookieStickinessPolicyResult>() {
-                    @Override
-                    public CreateAppCookieStickinessPolicyResult call()
-                            throws Exception {
-                        CreateAppCookieStickinessPolicyResult result;
-
-                        try {
-                            result = createAppCookieStickinessPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateAppCookieStickinessPolicyResult> responseHandler = new StaxResponseHandler<CreateAppCookieStickinessPolicyResult>(
+                new CreateAppCookieStickinessPolicyResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreateAppCookieStickinessPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -493,28 +418,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final CreateLBCookieStickinessPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLBCookieStickinessPolicyRequest, CreateLBCookieStickinessPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateLBCookieStickinessPolicyResult>() {
-                    @Override
-                    public CreateLBCookieStickinessPolicyResult call()
-                            throws Exception {
-                        CreateLBCookieStickinessPolicyResult result;
-
-                        try {
-                            result = createLBCookieStickinessPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateLBCookieStickinessPolicyResult> responseHandler = new StaxResponseHandler<CreateLBCookieStickinessPolicyResult>(
+                new CreateLBCookieStickinessPolicyResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreateLBCookieStickinessPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -529,27 +438,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final CreateLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLoadBalancerRequest, CreateLoadBalancerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateLoadBalancerResult>() {
-                    @Override
-                    public CreateLoadBalancerResult call() throws Exception {
-                        CreateLoadBalancerResult result;
-
-                        try {
-                            result = createLoadBalancer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateLoadBalancerResult> responseHandler = new StaxResponseHandler<CreateLoadBalancerResult>(
+                new CreateLoadBalancerResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CreateLoadBalancerRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -564,28 +457,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final CreateLoadBalancerListenersRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLoadBalancerListenersRequest, CreateLoadBalancerListenersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateLoadBalancerListenersResult>() {
-                    @Override
-                    public CreateLoadBalancerListenersResult call()
-                            throws Exception {
-                        CreateLoadBalancerListenersResult result;
-
-                        try {
-                            result = createLoadBalancerListeners(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateLoadBalancerListenersResult> responseHandler = new StaxResponseHandler<CreateLoadBalancerListenersResult>(
+                new CreateLoadBalancerListenersResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreateLoadBalancerListenersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -600,28 +477,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final CreateLoadBalancerPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLoadBalancerPolicyRequest, CreateLoadBalancerPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateLoadBalancerPolicyResult>() {
-                    @Override
-                    public CreateLoadBalancerPolicyResult call()
-                            throws Exception {
-                        CreateLoadBalancerPolicyResult result;
-
-                        try {
-                            result = createLoadBalancerPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateLoadBalancerPolicyResult> responseHandler = new StaxResponseHandler<CreateLoadBalancerPolicyResult>(
+                new CreateLoadBalancerPolicyResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreateLoadBalancerPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -636,27 +497,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DeleteLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLoadBalancerRequest, DeleteLoadBalancerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteLoadBalancerResult>() {
-                    @Override
-                    public DeleteLoadBalancerResult call() throws Exception {
-                        DeleteLoadBalancerResult result;
-
-                        try {
-                            result = deleteLoadBalancer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteLoadBalancerResult> responseHandler = new StaxResponseHandler<DeleteLoadBalancerResult>(
+                new DeleteLoadBalancerResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteLoadBalancerRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -671,28 +516,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DeleteLoadBalancerListenersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLoadBalancerListenersRequest, DeleteLoadBalancerListenersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteLoadBalancerListenersResult>() {
-                    @Override
-                    public DeleteLoadBalancerListenersResult call()
-                            throws Exception {
-                        DeleteLoadBalancerListenersResult result;
-
-                        try {
-                            result = deleteLoadBalancerListeners(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteLoadBalancerListenersResult> responseHandler = new StaxResponseHandler<DeleteLoadBalancerListenersResult>(
+                new DeleteLoadBalancerListenersResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeleteLoadBalancerListenersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -707,28 +536,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DeleteLoadBalancerPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLoadBalancerPolicyRequest, DeleteLoadBalancerPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteLoadBalancerPolicyResult>() {
-                    @Override
-                    public DeleteLoadBalancerPolicyResult call()
-                            throws Exception {
-                        DeleteLoadBalancerPolicyResult result;
-
-                        try {
-                            result = deleteLoadBalancerPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteLoadBalancerPolicyResult> responseHandler = new StaxResponseHandler<DeleteLoadBalancerPolicyResult>(
+                new DeleteLoadBalancerPolicyResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeleteLoadBalancerPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -743,28 +556,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DeregisterInstancesFromLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterInstancesFromLoadBalancerRequest, DeregisterInstancesFromLoadBalancerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeregisterInstancesFromLoadBalancerResult>() {
-                    @Override
-                    public DeregisterInstancesFromLoadBalancerResult call()
-                            throws Exception {
-                        DeregisterInstancesFromLoadBalancerResult result;
-
-                        try {
-                            result = deregisterInstancesFromLoadBalancer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeregisterInstancesFromLoadBalancerResult> responseHandler = new StaxResponseHandler<DeregisterInstancesFromLoadBalancerResult>(
+                new DeregisterInstancesFromLoadBalancerResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeregisterInstancesFromLoadBalancerRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -779,27 +576,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeInstanceHealthRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeInstanceHealthRequest, DescribeInstanceHealthResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeInstanceHealthResult>() {
-                    @Override
-                    public DescribeInstanceHealthResult call() throws Exception {
-                        DescribeInstanceHealthResult result;
-
-                        try {
-                            result = describeInstanceHealth(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeInstanceHealthResult> responseHandler = new StaxResponseHandler<DescribeInstanceHealthResult>(
+                new DescribeInstanceHealthResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeInstanceHealthRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -814,28 +596,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeLoadBalancerAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLoadBalancerAttributesRequest, DescribeLoadBalancerAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeLoadBalancerAttributesResult>() {
-                    @Override
-                    public DescribeLoadBalancerAttributesResult call()
-                            throws Exception {
-                        DescribeLoadBalancerAttributesResult result;
-
-                        try {
-                            result = describeLoadBalancerAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeLoadBalancerAttributesResult> responseHandler = new StaxResponseHandler<DescribeLoadBalancerAttributesResult>(
+                new DescribeLoadBalancerAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeLoadBalancerAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -850,28 +616,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeLoadBalancerPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLoadBalancerPoliciesRequest, DescribeLoadBalancerPoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeLoadBalancerPoliciesResult>() {
-                    @Override
-                    public DescribeLoadBalancerPoliciesResult call()
-                            throws Exception {
-                        DescribeLoadBalancerPoliciesResult result;
-
-                        try {
-                            result = describeLoadBalancerPolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeLoadBalancerPoliciesResult> responseHandler = new StaxResponseHandler<DescribeLoadBalancerPoliciesResult>(
+                new DescribeLoadBalancerPoliciesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeLoadBalancerPoliciesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -912,28 +662,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeLoadBalancerPolicyTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLoadBalancerPolicyTypesRequest, DescribeLoadBalancerPolicyTypesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeLoadBalancerPolicyTypesResult>() {
-                    @Override
-                    public DescribeLoadBalancerPolicyTypesResult call()
-                            throws Exception {
-                        DescribeLoadBalancerPolicyTypesResult result;
-
-                        try {
-                            result = describeLoadBalancerPolicyTypes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeLoadBalancerPolicyTypesResult> responseHandler = new StaxResponseHandler<DescribeLoadBalancerPolicyTypesResult>(
+                new DescribeLoadBalancerPolicyTypesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeLoadBalancerPolicyTypesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -974,27 +708,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeLoadBalancersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLoadBalancersRequest, DescribeLoadBalancersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeLoadBalancersResult>() {
-                    @Override
-                    public DescribeLoadBalancersResult call() throws Exception {
-                        DescribeLoadBalancersResult result;
-
-                        try {
-                            result = describeLoadBalancers(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeLoadBalancersResult> responseHandler = new StaxResponseHandler<DescribeLoadBalancersResult>(
+                new DescribeLoadBalancersResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeLoadBalancersRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1034,27 +753,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTagsResult>() {
-                    @Override
-                    public DescribeTagsResult call() throws Exception {
-                        DescribeTagsResult result;
-
-                        try {
-                            result = describeTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeTagsResult> responseHandler = new StaxResponseHandler<DescribeTagsResult>(
+                new DescribeTagsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeTagsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1069,28 +772,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DetachLoadBalancerFromSubnetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachLoadBalancerFromSubnetsRequest, DetachLoadBalancerFromSubnetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DetachLoadBalancerFromSubnetsResult>() {
-                    @Override
-                    public DetachLoadBalancerFromSubnetsResult call()
-                            throws Exception {
-                        DetachLoadBalancerFromSubnetsResult result;
-
-                        try {
-                            result = detachLoadBalancerFromSubnets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DetachLoadBalancerFromSubnetsResult> responseHandler = new StaxResponseHandler<DetachLoadBalancerFromSubnetsResult>(
+                new DetachLoadBalancerFromSubnetsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DetachLoadBalancerFromSubnetsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1105,28 +792,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DisableAvailabilityZonesForLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableAvailabilityZonesForLoadBalancerRequest, DisableAvailabilityZonesForLoadBalancerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableAvailabilityZonesForLoadBalancerResult>() {
-                    @Override
-                    public DisableAvailabilityZonesForLoadBalancerResult call()
-                            throws Exception {
-                        DisableAvailabilityZonesForLoadBalancerResult result;
-
-                        try {
-                            result = disableAvailabilityZonesForLoadBalancer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DisableAvailabilityZonesForLoadBalancerResult> responseHandler = new StaxResponseHandler<DisableAvailabilityZonesForLoadBalancerResult>(
+                new DisableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DisableAvailabilityZonesForLoadBalancerRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1141,28 +812,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final EnableAvailabilityZonesForLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableAvailabilityZonesForLoadBalancerRequest, EnableAvailabilityZonesForLoadBalancerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
-                    @Override
-                    public EnableAvailabilityZonesForLoadBalancerResult call()
-                            throws Exception {
-                        EnableAvailabilityZonesForLoadBalancerResult result;
-
-                        try {
-                            result = enableAvailabilityZonesForLoadBalancer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<EnableAvailabilityZonesForLoadBalancerResult> responseHandler = new StaxResponseHandler<EnableAvailabilityZonesForLoadBalancerResult>(
+                new EnableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new EnableAvailabilityZonesForLoadBalancerRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1177,28 +832,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final ModifyLoadBalancerAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyLoadBalancerAttributesRequest, ModifyLoadBalancerAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyLoadBalancerAttributesResult>() {
-                    @Override
-                    public ModifyLoadBalancerAttributesResult call()
-                            throws Exception {
-                        ModifyLoadBalancerAttributesResult result;
-
-                        try {
-                            result = modifyLoadBalancerAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ModifyLoadBalancerAttributesResult> responseHandler = new StaxResponseHandler<ModifyLoadBalancerAttributesResult>(
+                new ModifyLoadBalancerAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ModifyLoadBalancerAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1213,28 +852,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final RegisterInstancesWithLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterInstancesWithLoadBalancerRequest, RegisterInstancesWithLoadBalancerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RegisterInstancesWithLoadBalancerResult>() {
-                    @Override
-                    public RegisterInstancesWithLoadBalancerResult call()
-                            throws Exception {
-                        RegisterInstancesWithLoadBalancerResult result;
-
-                        try {
-                            result = registerInstancesWithLoadBalancer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<RegisterInstancesWithLoadBalancerResult> responseHandler = new StaxResponseHandler<RegisterInstancesWithLoadBalancerResult>(
+                new RegisterInstancesWithLoadBalancerResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new RegisterInstancesWithLoadBalancerRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1249,27 +872,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final RemoveTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsRequest, RemoveTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveTagsResult>() {
-                    @Override
-                    public RemoveTagsResult call() throws Exception {
-                        RemoveTagsResult result;
-
-                        try {
-                            result = removeTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<RemoveTagsResult> responseHandler = new StaxResponseHandler<RemoveTagsResult>(
+                new RemoveTagsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new RemoveTagsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1284,28 +891,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final SetLoadBalancerListenerSSLCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetLoadBalancerListenerSSLCertificateRequest, SetLoadBalancerListenerSSLCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetLoadBalancerListenerSSLCertificateResult>() {
-                    @Override
-                    public SetLoadBalancerListenerSSLCertificateResult call()
-                            throws Exception {
-                        SetLoadBalancerListenerSSLCertificateResult result;
-
-                        try {
-                            result = setLoadBalancerListenerSSLCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<SetLoadBalancerListenerSSLCertificateResult> responseHandler = new StaxResponseHandler<SetLoadBalancerListenerSSLCertificateResult>(
+                new SetLoadBalancerListenerSSLCertificateResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new SetLoadBalancerListenerSSLCertificateRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1320,28 +911,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final SetLoadBalancerPoliciesForBackendServerRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetLoadBalancerPoliciesForBackendServerRequest, SetLoadBalancerPoliciesForBackendServerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetLoadBalancerPoliciesForBackendServerResult>() {
-                    @Override
-                    public SetLoadBalancerPoliciesForBackendServerResult call()
-                            throws Exception {
-                        SetLoadBalancerPoliciesForBackendServerResult result;
-
-                        try {
-                            result = setLoadBalancerPoliciesForBackendServer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<SetLoadBalancerPoliciesForBackendServerResult> responseHandler = new StaxResponseHandler<SetLoadBalancerPoliciesForBackendServerResult>(
+                new SetLoadBalancerPoliciesForBackendServerResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new SetLoadBalancerPoliciesForBackendServerRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1356,28 +931,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final SetLoadBalancerPoliciesOfListenerRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetLoadBalancerPoliciesOfListenerRequest, SetLoadBalancerPoliciesOfListenerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetLoadBalancerPoliciesOfListenerResult>() {
-                    @Override
-                    public SetLoadBalancerPoliciesOfListenerResult call()
-                            throws Exception {
-                        SetLoadBalancerPoliciesOfListenerResult result;
-
-                        try {
-                            result = setLoadBalancerPoliciesOfListener(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<SetLoadBalancerPoliciesOfListenerResult> responseHandler = new StaxResponseHandler<SetLoadBalancerPoliciesOfListenerResult>(
+                new SetLoadBalancerPoliciesOfListenerResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new SetLoadBalancerPoliciesOfListenerRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.elasticloadbalancingv2;
 
 import com.amazonaws.services.elasticloadbalancingv2.model.*;
+import com.amazonaws.services.elasticloadbalancingv2.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -362,27 +366,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final AddTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsRequest, AddTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddTagsResult>() {
-                    @Override
-                    public AddTagsResult call() throws Exception {
-                        AddTagsResult result;
-
-                        try {
-                            result = addTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<AddTagsResult> responseHandler = new StaxResponseHandler<AddTagsResult>(
+                new AddTagsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new AddTagsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -397,27 +385,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final CreateListenerRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateListenerRequest, CreateListenerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateListenerResult>() {
-                    @Override
-                    public CreateListenerResult call() throws Exception {
-                        CreateListenerResult result;
-
-                        try {
-                            result = createListener(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateListenerResult> responseHandler = new StaxResponseHandler<CreateListenerResult>(
+                new CreateListenerResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CreateListenerRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -432,27 +404,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final CreateLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLoadBalancerRequest, CreateLoadBalancerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateLoadBalancerResult>() {
-                    @Override
-                    public CreateLoadBalancerResult call() throws Exception {
-                        CreateLoadBalancerResult result;
-
-                        try {
-                            result = createLoadBalancer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateLoadBalancerResult> responseHandler = new StaxResponseHandler<CreateLoadBalancerResult>(
+                new CreateLoadBalancerResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CreateLoadBalancerRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -467,27 +423,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final CreateRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRuleRequest, CreateRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateRuleResult>() {
-                    @Override
-                    public CreateRuleResult call() throws Exception {
-                        CreateRuleResult result;
-
-                        try {
-                            result = createRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateRuleResult> responseHandler = new StaxResponseHandler<CreateRuleResult>(
+                new CreateRuleResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CreateRuleRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -502,27 +442,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final CreateTargetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTargetGroupRequest, CreateTargetGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateTargetGroupResult>() {
-                    @Override
-                    public CreateTargetGroupResult call() throws Exception {
-                        CreateTargetGroupResult result;
-
-                        try {
-                            result = createTargetGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateTargetGroupResult> responseHandler = new StaxResponseHandler<CreateTargetGroupResult>(
+                new CreateTargetGroupResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CreateTargetGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -537,27 +461,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DeleteListenerRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteListenerRequest, DeleteListenerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteListenerResult>() {
-                    @Override
-                    public DeleteListenerResult call() throws Exception {
-                        DeleteListenerResult result;
-
-                        try {
-                            result = deleteListener(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteListenerResult> responseHandler = new StaxResponseHandler<DeleteListenerResult>(
+                new DeleteListenerResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteListenerRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -572,27 +480,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DeleteLoadBalancerRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLoadBalancerRequest, DeleteLoadBalancerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteLoadBalancerResult>() {
-                    @Override
-                    public DeleteLoadBalancerResult call() throws Exception {
-                        DeleteLoadBalancerResult result;
-
-                        try {
-                            result = deleteLoadBalancer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteLoadBalancerResult> responseHandler = new StaxResponseHandler<DeleteLoadBalancerResult>(
+                new DeleteLoadBalancerResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteLoadBalancerRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -607,27 +499,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DeleteRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRuleRequest, DeleteRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteRuleResult>() {
-                    @Override
-                    public DeleteRuleResult call() throws Exception {
-                        DeleteRuleResult result;
-
-                        try {
-                            result = deleteRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteRuleResult> responseHandler = new StaxResponseHandler<DeleteRuleResult>(
+                new DeleteRuleResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteRuleRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -642,27 +518,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DeleteTargetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTargetGroupRequest, DeleteTargetGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteTargetGroupResult>() {
-                    @Override
-                    public DeleteTargetGroupResult call() throws Exception {
-                        DeleteTargetGroupResult result;
-
-                        try {
-                            result = deleteTargetGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteTargetGroupResult> responseHandler = new StaxResponseHandler<DeleteTargetGroupResult>(
+                new DeleteTargetGroupResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteTargetGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -677,27 +537,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DeregisterTargetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeregisterTargetsRequest, DeregisterTargetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeregisterTargetsResult>() {
-                    @Override
-                    public DeregisterTargetsResult call() throws Exception {
-                        DeregisterTargetsResult result;
-
-                        try {
-                            result = deregisterTargets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeregisterTargetsResult> responseHandler = new StaxResponseHandler<DeregisterTargetsResult>(
+                new DeregisterTargetsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeregisterTargetsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -712,27 +556,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeListenersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeListenersRequest, DescribeListenersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeListenersResult>() {
-                    @Override
-                    public DescribeListenersResult call() throws Exception {
-                        DescribeListenersResult result;
-
-                        try {
-                            result = describeListeners(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeListenersResult> responseHandler = new StaxResponseHandler<DescribeListenersResult>(
+                new DescribeListenersResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeListenersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -747,28 +575,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeLoadBalancerAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLoadBalancerAttributesRequest, DescribeLoadBalancerAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeLoadBalancerAttributesResult>() {
-                    @Override
-                    public DescribeLoadBalancerAttributesResult call()
-                            throws Exception {
-                        DescribeLoadBalancerAttributesResult result;
-
-                        try {
-                            result = describeLoadBalancerAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeLoadBalancerAttributesResult> responseHandler = new StaxResponseHandler<DescribeLoadBalancerAttributesResult>(
+                new DescribeLoadBalancerAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeLoadBalancerAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -783,27 +595,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeLoadBalancersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLoadBalancersRequest, DescribeLoadBalancersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeLoadBalancersResult>() {
-                    @Override
-                    public DescribeLoadBalancersResult call() throws Exception {
-                        DescribeLoadBalancersResult result;
-
-                        try {
-                            result = describeLoadBalancers(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeLoadBalancersResult> responseHandler = new StaxResponseHandler<DescribeLoadBalancersResult>(
+                new DescribeLoadBalancersResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeLoadBalancersRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -818,27 +615,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeRulesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRulesRequest, DescribeRulesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeRulesResult>() {
-                    @Override
-                    public DescribeRulesResult call() throws Exception {
-                        DescribeRulesResult result;
-
-                        try {
-                            result = describeRules(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeRulesResult> responseHandler = new StaxResponseHandler<DescribeRulesResult>(
+                new DescribeRulesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeRulesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -853,27 +634,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeSSLPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSSLPoliciesRequest, DescribeSSLPoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSSLPoliciesResult>() {
-                    @Override
-                    public DescribeSSLPoliciesResult call() throws Exception {
-                        DescribeSSLPoliciesResult result;
-
-                        try {
-                            result = describeSSLPolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeSSLPoliciesResult> responseHandler = new StaxResponseHandler<DescribeSSLPoliciesResult>(
+                new DescribeSSLPoliciesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeSSLPoliciesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -888,27 +653,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTagsResult>() {
-                    @Override
-                    public DescribeTagsResult call() throws Exception {
-                        DescribeTagsResult result;
-
-                        try {
-                            result = describeTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeTagsResult> responseHandler = new StaxResponseHandler<DescribeTagsResult>(
+                new DescribeTagsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeTagsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -923,28 +672,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeTargetGroupAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTargetGroupAttributesRequest, DescribeTargetGroupAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTargetGroupAttributesResult>() {
-                    @Override
-                    public DescribeTargetGroupAttributesResult call()
-                            throws Exception {
-                        DescribeTargetGroupAttributesResult result;
-
-                        try {
-                            result = describeTargetGroupAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeTargetGroupAttributesResult> responseHandler = new StaxResponseHandler<DescribeTargetGroupAttributesResult>(
+                new DescribeTargetGroupAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeTargetGroupAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -959,27 +692,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeTargetGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTargetGroupsRequest, DescribeTargetGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTargetGroupsResult>() {
-                    @Override
-                    public DescribeTargetGroupsResult call() throws Exception {
-                        DescribeTargetGroupsResult result;
-
-                        try {
-                            result = describeTargetGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeTargetGroupsResult> responseHandler = new StaxResponseHandler<DescribeTargetGroupsResult>(
+                new DescribeTargetGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeTargetGroupsRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -994,27 +712,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final DescribeTargetHealthRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTargetHealthRequest, DescribeTargetHealthResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTargetHealthResult>() {
-                    @Override
-                    public DescribeTargetHealthResult call() throws Exception {
-                        DescribeTargetHealthResult result;
-
-                        try {
-                            result = describeTargetHealth(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeTargetHealthResult> responseHandler = new StaxResponseHandler<DescribeTargetHealthResult>(
+                new DescribeTargetHealthResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeTargetHealthRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1029,27 +732,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final ModifyListenerRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyListenerRequest, ModifyListenerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyListenerResult>() {
-                    @Override
-                    public ModifyListenerResult call() throws Exception {
-                        ModifyListenerResult result;
-
-                        try {
-                            result = modifyListener(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ModifyListenerResult> responseHandler = new StaxResponseHandler<ModifyListenerResult>(
+                new ModifyListenerResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ModifyListenerRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1064,28 +751,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final ModifyLoadBalancerAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyLoadBalancerAttributesRequest, ModifyLoadBalancerAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyLoadBalancerAttributesResult>() {
-                    @Override
-                    public ModifyLoadBalancerAttributesResult call()
-                            throws Exception {
-                        ModifyLoadBalancerAttributesResult result;
-
-                        try {
-                            result = modifyLoadBalancerAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ModifyLoadBalancerAttributesResult> responseHandler = new StaxResponseHandler<ModifyLoadBalancerAttributesResult>(
+                new ModifyLoadBalancerAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ModifyLoadBalancerAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1100,27 +771,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final ModifyRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyRuleRequest, ModifyRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyRuleResult>() {
-                    @Override
-                    public ModifyRuleResult call() throws Exception {
-                        ModifyRuleResult result;
-
-                        try {
-                            result = modifyRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ModifyRuleResult> responseHandler = new StaxResponseHandler<ModifyRuleResult>(
+                new ModifyRuleResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ModifyRuleRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1135,27 +790,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final ModifyTargetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyTargetGroupRequest, ModifyTargetGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyTargetGroupResult>() {
-                    @Override
-                    public ModifyTargetGroupResult call() throws Exception {
-                        ModifyTargetGroupResult result;
-
-                        try {
-                            result = modifyTargetGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ModifyTargetGroupResult> responseHandler = new StaxResponseHandler<ModifyTargetGroupResult>(
+                new ModifyTargetGroupResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ModifyTargetGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1170,28 +809,12 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final ModifyTargetGroupAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyTargetGroupAttributesRequest, ModifyTargetGroupAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyTargetGroupAttributesResult>() {
-                    @Override
-                    public ModifyTargetGroupAttributesResult call()
-                            throws Exception {
-                        ModifyTargetGroupAttributesResult result;
-
-                        try {
-                            result = modifyTargetGroupAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ModifyTargetGroupAttributesResult> responseHandler = new StaxResponseHandler<ModifyTargetGroupAttributesResult>(
+                new ModifyTargetGroupAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ModifyTargetGroupAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1206,27 +829,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final RegisterTargetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterTargetsRequest, RegisterTargetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RegisterTargetsResult>() {
-                    @Override
-                    public RegisterTargetsResult call() throws Exception {
-                        RegisterTargetsResult result;
-
-                        try {
-                            result = registerTargets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<RegisterTargetsResult> responseHandler = new StaxResponseHandler<RegisterTargetsResult>(
+                new RegisterTargetsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new RegisterTargetsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1241,27 +848,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final RemoveTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsRequest, RemoveTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveTagsResult>() {
-                    @Override
-                    public RemoveTagsResult call() throws Exception {
-                        RemoveTagsResult result;
-
-                        try {
-                            result = removeTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<RemoveTagsResult> responseHandler = new StaxResponseHandler<RemoveTagsResult>(
+                new RemoveTagsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new RemoveTagsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1276,27 +867,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final SetRulePrioritiesRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetRulePrioritiesRequest, SetRulePrioritiesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetRulePrioritiesResult>() {
-                    @Override
-                    public SetRulePrioritiesResult call() throws Exception {
-                        SetRulePrioritiesResult result;
-
-                        try {
-                            result = setRulePriorities(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<SetRulePrioritiesResult> responseHandler = new StaxResponseHandler<SetRulePrioritiesResult>(
+                new SetRulePrioritiesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new SetRulePrioritiesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1311,27 +886,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final SetSecurityGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetSecurityGroupsRequest, SetSecurityGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetSecurityGroupsResult>() {
-                    @Override
-                    public SetSecurityGroupsResult call() throws Exception {
-                        SetSecurityGroupsResult result;
-
-                        try {
-                            result = setSecurityGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<SetSecurityGroupsResult> responseHandler = new StaxResponseHandler<SetSecurityGroupsResult>(
+                new SetSecurityGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new SetSecurityGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1346,27 +905,11 @@ public class AmazonElasticLoadBalancingAsyncClient extends
             final SetSubnetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetSubnetsRequest, SetSubnetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetSubnetsResult>() {
-                    @Override
-                    public SetSubnetsResult call() throws Exception {
-                        SetSubnetsResult result;
-
-                        try {
-                            result = setSubnets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<SetSubnetsResult> responseHandler = new StaxResponseHandler<SetSubnetsResult>(
+                new SetSubnetsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new SetSubnetsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
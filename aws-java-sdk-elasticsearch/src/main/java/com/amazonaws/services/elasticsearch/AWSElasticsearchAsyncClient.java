@@ -15,6 +15,10 @@
 package com.amazonaws.services.elasticsearch;
 
 import com.amazonaws.services.elasticsearch.model.*;
+import com.amazonaws.services.elasticsearch.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -291,27 +295,15 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final AddTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsRequest, AddTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddTagsResult>() {
-                    @Override
-                    public AddTagsResult call() throws Exception {
-                        AddTagsResult result;
-
-                        try {
-                            result = addTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<AddTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddTagsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new AddTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -326,28 +318,16 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final CreateElasticsearchDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateElasticsearchDomainRequest, CreateElasticsearchDomainResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateElasticsearchDomainResult>() {
-                    @Override
-                    public CreateElasticsearchDomainResult call()
-                            throws Exception {
-                        CreateElasticsearchDomainResult result;
-
-                        try {
-                            result = createElasticsearchDomain(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateElasticsearchDomainResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateElasticsearchDomainResultJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new CreateElasticsearchDomainRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -362,28 +342,16 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final DeleteElasticsearchDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteElasticsearchDomainRequest, DeleteElasticsearchDomainResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteElasticsearchDomainResult>() {
-                    @Override
-                    public DeleteElasticsearchDomainResult call()
-                            throws Exception {
-                        DeleteElasticsearchDomainResult result;
-
-                        try {
-                            result = deleteElasticsearchDomain(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteElasticsearchDomainResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteElasticsearchDomainResultJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new DeleteElasticsearchDomainRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -398,28 +366,16 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final DescribeElasticsearchDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeElasticsearchDomainRequest, DescribeElasticsearchDomainResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeElasticsearchDomainResult>() {
-                    @Override
-                    public DescribeElasticsearchDomainResult call()
-                            throws Exception {
-                        DescribeElasticsearchDomainResult result;
-
-                        try {
-                            result = describeElasticsearchDomain(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeElasticsearchDomainResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeElasticsearchDomainResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeElasticsearchDomainRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -434,28 +390,16 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final DescribeElasticsearchDomainConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeElasticsearchDomainConfigRequest, DescribeElasticsearchDomainConfigResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeElasticsearchDomainConfigResult>() {
-                    @Override
-                    public DescribeElasticsearchDomainConfigResult call()
-                            throws Exception {
-                        DescribeElasticsearchDomainConfigResult result;
-
-                        try {
-                            result = describeElasticsearchDomainConfig(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeElasticsearchDomainConfigResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeElasticsearchDomainConfigResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeElasticsearchDomainConfigRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -470,28 +414,16 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final DescribeElasticsearchDomainsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeElasticsearchDomainsRequest, DescribeElasticsearchDomainsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeElasticsearchDomainsResult>() {
-                    @Override
-                    public DescribeElasticsearchDomainsResult call()
-                            throws Exception {
-                        DescribeElasticsearchDomainsResult result;
-
-                        try {
-                            result = describeElasticsearchDomains(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeElasticsearchDomainsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeElasticsearchDomainsResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeElasticsearchDomainsRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -506,27 +438,15 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final ListDomainNamesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDomainNamesRequest, ListDomainNamesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListDomainNamesResult>() {
-                    @Override
-                    public ListDomainNamesResult call() throws Exception {
-                        ListDomainNamesResult result;
-
-                        try {
-                            result = listDomainNames(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListDomainNamesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListDomainNamesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListDomainNamesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -541,27 +461,15 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final ListTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsRequest, ListTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTagsResult>() {
-                    @Override
-                    public ListTagsResult call() throws Exception {
-                        ListTagsResult result;
-
-                        try {
-                            result = listTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTagsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -576,27 +484,15 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final RemoveTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsRequest, RemoveTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveTagsResult>() {
-                    @Override
-                    public RemoveTagsResult call() throws Exception {
-                        RemoveTagsResult result;
-
-                        try {
-                            result = removeTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<RemoveTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RemoveTagsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new RemoveTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -611,28 +507,16 @@ public class AWSElasticsearchAsyncClient extends AWSElasticsearchClient
             final UpdateElasticsearchDomainConfigRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateElasticsearchDomainConfigRequest, UpdateElasticsearchDomainConfigResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateElasticsearchDomainConfigResult>() {
-                    @Override
-                    public UpdateElasticsearchDomainConfigResult call()
-                            throws Exception {
-                        UpdateElasticsearchDomainConfigResult result;
-
-                        try {
-                            result = updateElasticsearchDomainConfig(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateElasticsearchDomainConfigResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateElasticsearchDomainConfigResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new UpdateElasticsearchDomainConfigRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.elastictranscoder;
 
 import com.amazonaws.services.elastictranscoder.model.*;
+import com.amazonaws.services.elastictranscoder.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -283,27 +287,15 @@ public class AmazonElasticTranscoderAsyncClient extends
             final CancelJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelJobRequest, CancelJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CancelJobResult>() {
-                    @Override
-                    public CancelJobResult call() throws Exception {
-                        CancelJobResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CancelJobResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CancelJobResultJsonUnmarshaller());
 
-                        try {
-                            result = cancelJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CancelJobRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -318,27 +310,15 @@ public class AmazonElasticTranscoderAsyncClient extends
             final CreateJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateJobRequest, CreateJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateJobResult>() {
-                    @Override
-                    public CreateJobResult call() throws Exception {
-                        CreateJobResult result;
-
-                        try {
-                            result = createJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateJobResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateJobResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateJobRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -353,27 +333,15 @@ public class AmazonElasticTranscoderAsyncClient extends
             final CreatePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePipelineRequest, CreatePipelineResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreatePipelineResult>() {
-                    @Override
-                    public CreatePipelineResult call() throws Exception {
-                        CreatePipelineResult result;
-
-                        try {
-                            result = createPipeline(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreatePipelineResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreatePipelineResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreatePipelineRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -388,27 +356,15 @@ public class AmazonElasticTranscoderAsyncClient extends
             final CreatePresetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePresetRequest, CreatePresetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreatePresetResult>() {
-                    @Override
-                    public CreatePresetResult call() throws Exception {
-                        CreatePresetResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreatePresetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreatePresetResultJsonUnmarshaller());
 
-                        try {
-                            result = createPreset(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreatePresetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -423,27 +379,15 @@ public class AmazonElasticTranscoderAsyncClient extends
             final DeletePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePipelineRequest, DeletePipelineResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeletePipelineResult>() {
-                    @Override
-                    public DeletePipelineResult call() throws Exception {
-                        DeletePipelineResult result;
-
-                        try {
-                            result = deletePipeline(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeletePipelineResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeletePipelineResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeletePipelineRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -458,27 +402,15 @@ public class AmazonElasticTranscoderAsyncClient extends
             final DeletePresetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePresetRequest, DeletePresetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeletePresetResult>() {
-                    @Override
-                    public DeletePresetResult call() throws Exception {
-                        DeletePresetResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeletePresetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeletePresetResultJsonUnmarshaller());
 
-                        try {
-                            result = deletePreset(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeletePresetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -493,27 +425,15 @@ public class AmazonElasticTranscoderAsyncClient extends
             final ListJobsByPipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListJobsByPipelineRequest, ListJobsByPipelineResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListJobsByPipelineResult>() {
-                    @Override
-                    public ListJobsByPipelineResult call() throws Exception {
-                        ListJobsByPipelineResult result;
-
-                        try {
-                            result = listJobsByPipeline(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListJobsByPipelineResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListJobsByPipelineResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListJobsByPipelineRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -528,27 +448,15 @@ public class AmazonElasticTranscoderAsyncClient extends
             final ListJobsByStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListJobsByStatusRequest, ListJobsByStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListJobsByStatusResult>() {
-                    @Override
-                    public ListJobsByStatusResult call() throws Exception {
-                        ListJobsByStatusResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListJobsByStatusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListJobsByStatusResultJsonUnmarshaller());
 
-                        try {
-                            result = listJobsByStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListJobsByStatusRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -563,27 +471,15 @@ public class AmazonElasticTranscoderAsyncClient extends
             final ListPipelinesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPipelinesRequest, ListPipelinesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListPipelinesResult>() {
-                    @Override
-                    public ListPipelinesResult call() throws Exception {
-                        ListPipelinesResult result;
-
-                        try {
-                            result = listPipelines(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListPipelinesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListPipelinesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListPipelinesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -622,27 +518,15 @@ public class AmazonElasticTranscoderAsyncClient extends
             final ListPresetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPresetsRequest, ListPresetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListPresetsResult>() {
-                    @Override
-                    public ListPresetsResult call() throws Exception {
-                        ListPresetsResult result;
-
-                        try {
-                            result = listPresets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListPresetsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListPresetsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListPresetsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -681,27 +565,15 @@ public class AmazonElasticTranscoderAsyncClient extends
             final ReadJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReadJobRequest, ReadJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReadJobResult>() {
-                    @Override
-                    public ReadJobResult call() throws Exception {
-                        ReadJobResult result;
-
-                        try {
-                            result = readJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ReadJobResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ReadJobResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ReadJobRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -716,27 +588,15 @@ public class AmazonElasticTranscoderAsyncClient extends
             final ReadPipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReadPipelineRequest, ReadPipelineResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReadPipelineResult>() {
-                    @Override
-                    public ReadPipelineResult call() throws Exception {
-                        ReadPipelineResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ReadPipelineResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ReadPipelineResultJsonUnmarshaller());
 
-                        try {
-                            result = readPipeline(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ReadPipelineRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -751,27 +611,15 @@ public class AmazonElasticTranscoderAsyncClient extends
             final ReadPresetRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReadPresetRequest, ReadPresetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReadPresetResult>() {
-                    @Override
-                    public ReadPresetResult call() throws Exception {
-                        ReadPresetResult result;
-
-                        try {
-                            result = readPreset(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ReadPresetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ReadPresetResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ReadPresetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -786,27 +634,15 @@ public class AmazonElasticTranscoderAsyncClient extends
             final TestRoleRequest request,
             final com.amazonaws.handlers.AsyncHandler<TestRoleRequest, TestRoleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<TestRoleResult>() {
-                    @Override
-                    public TestRoleResult call() throws Exception {
-                        TestRoleResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<TestRoleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new TestRoleResultJsonUnmarshaller());
 
-                        try {
-                            result = testRole(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new TestRoleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -821,27 +657,15 @@ public class AmazonElasticTranscoderAsyncClient extends
             final UpdatePipelineRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdatePipelineRequest, UpdatePipelineResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdatePipelineResult>() {
-                    @Override
-                    public UpdatePipelineResult call() throws Exception {
-                        UpdatePipelineResult result;
-
-                        try {
-                            result = updatePipeline(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdatePipelineResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdatePipelineResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdatePipelineRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -856,28 +680,16 @@ public class AmazonElasticTranscoderAsyncClient extends
             final UpdatePipelineNotificationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdatePipelineNotificationsRequest, UpdatePipelineNotificationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdatePipelineNotificationsResult>() {
-                    @Override
-                    public UpdatePipelineNotificationsResult call()
-                            throws Exception {
-                        UpdatePipelineNotificationsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdatePipelineNotificationsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdatePipelineNotificationsResultJsonUnmarshaller());
 
-                        try {
-                            result = updatePipelineNotifications(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UpdatePipelineNotificationsRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -892,27 +704,15 @@ public class AmazonElasticTranscoderAsyncClient extends
             final UpdatePipelineStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdatePipelineStatusRequest, UpdatePipelineStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdatePipelineStatusResult>() {
-                    @Override
-                    public UpdatePipelineStatusResult call() throws Exception {
-                        UpdatePipelineStatusResult result;
-
-                        try {
-                            result = updatePipelineStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdatePipelineStatusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdatePipelineStatusResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdatePipelineStatusRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
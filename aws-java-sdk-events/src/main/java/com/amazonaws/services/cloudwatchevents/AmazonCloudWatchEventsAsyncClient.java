@@ -15,6 +15,10 @@
 package com.amazonaws.services.cloudwatchevents;
 
 import com.amazonaws.services.cloudwatchevents.model.*;
+import com.amazonaws.services.cloudwatchevents.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -301,27 +305,15 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final DeleteRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRuleRequest, DeleteRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteRuleResult>() {
-                    @Override
-                    public DeleteRuleResult call() throws Exception {
-                        DeleteRuleResult result;
-
-                        try {
-                            result = deleteRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteRuleResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -336,27 +328,15 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final DescribeRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRuleRequest, DescribeRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeRuleResult>() {
-                    @Override
-                    public DescribeRuleResult call() throws Exception {
-                        DescribeRuleResult result;
-
-                        try {
-                            result = describeRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeRuleResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -371,27 +351,15 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final DisableRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableRuleRequest, DisableRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableRuleResult>() {
-                    @Override
-                    public DisableRuleResult call() throws Exception {
-                        DisableRuleResult result;
-
-                        try {
-                            result = disableRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DisableRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DisableRuleResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DisableRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -406,27 +374,15 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final EnableRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableRuleRequest, EnableRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableRuleResult>() {
-                    @Override
-                    public EnableRuleResult call() throws Exception {
-                        EnableRuleResult result;
-
-                        try {
-                            result = enableRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<EnableRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new EnableRuleResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new EnableRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -441,27 +397,15 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final ListRuleNamesByTargetRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRuleNamesByTargetRequest, ListRuleNamesByTargetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListRuleNamesByTargetResult>() {
-                    @Override
-                    public ListRuleNamesByTargetResult call() throws Exception {
-                        ListRuleNamesByTargetResult result;
-
-                        try {
-                            result = listRuleNamesByTarget(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListRuleNamesByTargetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListRuleNamesByTargetResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListRuleNamesByTargetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -476,27 +420,15 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final ListRulesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRulesRequest, ListRulesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListRulesResult>() {
-                    @Override
-                    public ListRulesResult call() throws Exception {
-                        ListRulesResult result;
-
-                        try {
-                            result = listRules(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListRulesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListRulesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListRulesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -511,27 +443,15 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final ListTargetsByRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTargetsByRuleRequest, ListTargetsByRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTargetsByRuleResult>() {
-                    @Override
-                    public ListTargetsByRuleResult call() throws Exception {
-                        ListTargetsByRuleResult result;
-
-                        try {
-                            result = listTargetsByRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListTargetsByRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTargetsByRuleResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListTargetsByRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -546,27 +466,15 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final PutEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutEventsRequest, PutEventsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutEventsResult>() {
-                    @Override
-                    public PutEventsResult call() throws Exception {
-                        PutEventsResult result;
-
-                        try {
-                            result = putEvents(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutEventsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutEventsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutEventsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -581,27 +489,15 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final PutRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRuleRequest, PutRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutRuleResult>() {
-                    @Override
-                    public PutRuleResult call() throws Exception {
-                        PutRuleResult result;
-
-                        try {
-                            result = putRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutRuleResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -616,27 +512,15 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final PutTargetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutTargetsRequest, PutTargetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutTargetsResult>() {
-                    @Override
-                    public PutTargetsResult call() throws Exception {
-                        PutTargetsResult result;
-
-                        try {
-                            result = putTargets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutTargetsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutTargetsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutTargetsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -651,27 +535,15 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final RemoveTargetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTargetsRequest, RemoveTargetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveTargetsResult>() {
-                    @Override
-                    public RemoveTargetsResult call() throws Exception {
-                        RemoveTargetsResult result;
-
-                        try {
-                            result = removeTargets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<RemoveTargetsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RemoveTargetsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new RemoveTargetsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -686,27 +558,15 @@ public class AmazonCloudWatchEventsAsyncClient extends
             final TestEventPatternRequest request,
             final com.amazonaws.handlers.AsyncHandler<TestEventPatternRequest, TestEventPatternResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<TestEventPatternResult>() {
-                    @Override
-                    public TestEventPatternResult call() throws Exception {
-                        TestEventPatternResult result;
-
-                        try {
-                            result = testEventPattern(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<TestEventPatternResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new TestEventPatternResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new TestEventPatternRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
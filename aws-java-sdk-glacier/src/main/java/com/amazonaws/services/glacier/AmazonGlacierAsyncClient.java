@@ -15,6 +15,10 @@
 package com.amazonaws.services.glacier;
 
 import com.amazonaws.services.glacier.model.*;
+import com.amazonaws.services.glacier.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -329,27 +333,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final AbortMultipartUploadRequest request,
             final com.amazonaws.handlers.AsyncHandler<AbortMultipartUploadRequest, AbortMultipartUploadResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AbortMultipartUploadResult>() {
-                    @Override
-                    public AbortMultipartUploadResult call() throws Exception {
-                        AbortMultipartUploadResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AbortMultipartUploadResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AbortMultipartUploadResultJsonUnmarshaller());
 
-                        try {
-                            result = abortMultipartUpload(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AbortMultipartUploadRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -364,27 +356,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final AbortVaultLockRequest request,
             final com.amazonaws.handlers.AsyncHandler<AbortVaultLockRequest, AbortVaultLockResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AbortVaultLockResult>() {
-                    @Override
-                    public AbortVaultLockResult call() throws Exception {
-                        AbortVaultLockResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AbortVaultLockResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AbortVaultLockResultJsonUnmarshaller());
 
-                        try {
-                            result = abortVaultLock(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AbortVaultLockRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -399,27 +379,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final AddTagsToVaultRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToVaultRequest, AddTagsToVaultResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddTagsToVaultResult>() {
-                    @Override
-                    public AddTagsToVaultResult call() throws Exception {
-                        AddTagsToVaultResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AddTagsToVaultResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddTagsToVaultResultJsonUnmarshaller());
 
-                        try {
-                            result = addTagsToVault(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AddTagsToVaultRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -434,28 +402,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final CompleteMultipartUploadRequest request,
             final com.amazonaws.handlers.AsyncHandler<CompleteMultipartUploadRequest, CompleteMultipartUploadResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CompleteMultipartUploadResult>() {
-                    @Override
-                    public CompleteMultipartUploadResult call()
-                            throws Exception {
-                        CompleteMultipartUploadResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CompleteMultipartUploadResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CompleteMultipartUploadResultJsonUnmarshaller());
 
-                        try {
-                            result = completeMultipartUpload(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CompleteMultipartUploadRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -470,27 +425,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final CompleteVaultLockRequest request,
             final com.amazonaws.handlers.AsyncHandler<CompleteVaultLockRequest, CompleteVaultLockResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CompleteVaultLockResult>() {
-                    @Override
-                    public CompleteVaultLockResult call() throws Exception {
-                        CompleteVaultLockResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CompleteVaultLockResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CompleteVaultLockResultJsonUnmarshaller());
 
-                        try {
-                            result = completeVaultLock(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CompleteVaultLockRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -505,27 +448,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final CreateVaultRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVaultRequest, CreateVaultResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateVaultResult>() {
-                    @Override
-                    public CreateVaultResult call() throws Exception {
-                        CreateVaultResult result;
-
-                        try {
-                            result = createVault(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateVaultResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateVaultResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateVaultRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -540,27 +471,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final DeleteArchiveRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteArchiveRequest, DeleteArchiveResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteArchiveResult>() {
-                    @Override
-                    public DeleteArchiveResult call() throws Exception {
-                        DeleteArchiveResult result;
-
-                        try {
-                            result = deleteArchive(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteArchiveResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteArchiveResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteArchiveRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -575,27 +494,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final DeleteVaultRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVaultRequest, DeleteVaultResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteVaultResult>() {
-                    @Override
-                    public DeleteVaultResult call() throws Exception {
-                        DeleteVaultResult result;
-
-                        try {
-                            result = deleteVault(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteVaultResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteVaultResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteVaultRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -610,28 +517,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final DeleteVaultAccessPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVaultAccessPolicyRequest, DeleteVaultAccessPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteVaultAccessPolicyResult>() {
-                    @Override
-                    public DeleteVaultAccessPolicyResult call()
-                            throws Exception {
-                        DeleteVaultAccessPolicyResult result;
-
-                        try {
-                            result = deleteVaultAccessPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteVaultAccessPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteVaultAccessPolicyResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteVaultAccessPolicyRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -646,28 +540,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final DeleteVaultNotificationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVaultNotificationsRequest, DeleteVaultNotificationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteVaultNotificationsResult>() {
-                    @Override
-                    public DeleteVaultNotificationsResult call()
-                            throws Exception {
-                        DeleteVaultNotificationsResult result;
-
-                        try {
-                            result = deleteVaultNotifications(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteVaultNotificationsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteVaultNotificationsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteVaultNotificationsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -682,27 +563,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final DescribeJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeJobRequest, DescribeJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeJobResult>() {
-                    @Override
-                    public DescribeJobResult call() throws Exception {
-                        DescribeJobResult result;
-
-                        try {
-                            result = describeJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeJobResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeJobResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeJobRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -717,27 +586,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final DescribeVaultRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVaultRequest, DescribeVaultResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeVaultResult>() {
-                    @Override
-                    public DescribeVaultResult call() throws Exception {
-                        DescribeVaultResult result;
-
-                        try {
-                            result = describeVault(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeVaultResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeVaultResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeVaultRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -752,27 +609,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final GetDataRetrievalPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDataRetrievalPolicyRequest, GetDataRetrievalPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDataRetrievalPolicyResult>() {
-                    @Override
-                    public GetDataRetrievalPolicyResult call() throws Exception {
-                        GetDataRetrievalPolicyResult result;
-
-                        try {
-                            result = getDataRetrievalPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetDataRetrievalPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDataRetrievalPolicyResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetDataRetrievalPolicyRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -822,27 +667,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final GetVaultAccessPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetVaultAccessPolicyRequest, GetVaultAccessPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetVaultAccessPolicyResult>() {
-                    @Override
-                    public GetVaultAccessPolicyResult call() throws Exception {
-                        GetVaultAccessPolicyResult result;
-
-                        try {
-                            result = getVaultAccessPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetVaultAccessPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetVaultAccessPolicyResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetVaultAccessPolicyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -857,27 +690,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final GetVaultLockRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetVaultLockRequest, GetVaultLockResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetVaultLockResult>() {
-                    @Override
-                    public GetVaultLockResult call() throws Exception {
-                        GetVaultLockResult result;
-
-                        try {
-                            result = getVaultLock(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetVaultLockResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetVaultLockResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetVaultLockRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -892,27 +713,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final GetVaultNotificationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetVaultNotificationsRequest, GetVaultNotificationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetVaultNotificationsResult>() {
-                    @Override
-                    public GetVaultNotificationsResult call() throws Exception {
-                        GetVaultNotificationsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetVaultNotificationsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetVaultNotificationsResultJsonUnmarshaller());
 
-                        try {
-                            result = getVaultNotifications(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetVaultNotificationsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -927,27 +736,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final InitiateJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<InitiateJobRequest, InitiateJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<InitiateJobResult>() {
-                    @Override
-                    public InitiateJobResult call() throws Exception {
-                        InitiateJobResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<InitiateJobResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new InitiateJobResultJsonUnmarshaller());
 
-                        try {
-                            result = initiateJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new InitiateJobRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -962,28 +759,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final InitiateMultipartUploadRequest request,
             final com.amazonaws.handlers.AsyncHandler<InitiateMultipartUploadRequest, InitiateMultipartUploadResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<InitiateMultipartUploadResult>() {
-                    @Override
-                    public InitiateMultipartUploadResult call()
-                            throws Exception {
-                        InitiateMultipartUploadResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<InitiateMultipartUploadResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new InitiateMultipartUploadResultJsonUnmarshaller());
 
-                        try {
-                            result = initiateMultipartUpload(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new InitiateMultipartUploadRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -998,27 +782,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final InitiateVaultLockRequest request,
             final com.amazonaws.handlers.AsyncHandler<InitiateVaultLockRequest, InitiateVaultLockResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<InitiateVaultLockResult>() {
-                    @Override
-                    public InitiateVaultLockResult call() throws Exception {
-                        InitiateVaultLockResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<InitiateVaultLockResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new InitiateVaultLockResultJsonUnmarshaller());
 
-                        try {
-                            result = initiateVaultLock(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new InitiateVaultLockRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1033,27 +805,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final ListJobsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListJobsRequest, ListJobsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListJobsResult>() {
-                    @Override
-                    public ListJobsResult call() throws Exception {
-                        ListJobsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListJobsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListJobsResultJsonUnmarshaller());
 
-                        try {
-                            result = listJobs(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListJobsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1068,27 +828,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final ListMultipartUploadsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListMultipartUploadsRequest, ListMultipartUploadsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListMultipartUploadsResult>() {
-                    @Override
-                    public ListMultipartUploadsResult call() throws Exception {
-                        ListMultipartUploadsResult result;
-
-                        try {
-                            result = listMultipartUploads(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListMultipartUploadsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListMultipartUploadsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListMultipartUploadsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1103,27 +851,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final ListPartsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPartsRequest, ListPartsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListPartsResult>() {
-                    @Override
-                    public ListPartsResult call() throws Exception {
-                        ListPartsResult result;
-
-                        try {
-                            result = listParts(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListPartsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListPartsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListPartsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1138,27 +874,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final ListTagsForVaultRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForVaultRequest, ListTagsForVaultResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTagsForVaultResult>() {
-                    @Override
-                    public ListTagsForVaultResult call() throws Exception {
-                        ListTagsForVaultResult result;
-
-                        try {
-                            result = listTagsForVault(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListTagsForVaultResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTagsForVaultResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListTagsForVaultRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1173,27 +897,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final ListVaultsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListVaultsRequest, ListVaultsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListVaultsResult>() {
-                    @Override
-                    public ListVaultsResult call() throws Exception {
-                        ListVaultsResult result;
-
-                        try {
-                            result = listVaults(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListVaultsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListVaultsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListVaultsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1208,27 +920,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final RemoveTagsFromVaultRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromVaultRequest, RemoveTagsFromVaultResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveTagsFromVaultResult>() {
-                    @Override
-                    public RemoveTagsFromVaultResult call() throws Exception {
-                        RemoveTagsFromVaultResult result;
-
-                        try {
-                            result = removeTagsFromVault(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<RemoveTagsFromVaultResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RemoveTagsFromVaultResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RemoveTagsFromVaultRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1243,27 +943,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final SetDataRetrievalPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetDataRetrievalPolicyRequest, SetDataRetrievalPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetDataRetrievalPolicyResult>() {
-                    @Override
-                    public SetDataRetrievalPolicyResult call() throws Exception {
-                        SetDataRetrievalPolicyResult result;
-
-                        try {
-                            result = setDataRetrievalPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<SetDataRetrievalPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SetDataRetrievalPolicyResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new SetDataRetrievalPolicyRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1278,27 +966,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final SetVaultAccessPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetVaultAccessPolicyRequest, SetVaultAccessPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetVaultAccessPolicyResult>() {
-                    @Override
-                    public SetVaultAccessPolicyResult call() throws Exception {
-                        SetVaultAccessPolicyResult result;
-
-                        try {
-                            result = setVaultAccessPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<SetVaultAccessPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SetVaultAccessPolicyResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SetVaultAccessPolicyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1313,27 +989,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final SetVaultNotificationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetVaultNotificationsRequest, SetVaultNotificationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetVaultNotificationsResult>() {
-                    @Override
-                    public SetVaultNotificationsResult call() throws Exception {
-                        SetVaultNotificationsResult result;
-
-                        try {
-                            result = setVaultNotifications(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<SetVaultNotificationsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SetVaultNotificationsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SetVaultNotificationsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1348,27 +1012,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final UploadArchiveRequest request,
             final com.amazonaws.handlers.AsyncHandler<UploadArchiveRequest, UploadArchiveResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UploadArchiveResult>() {
-                    @Override
-                    public UploadArchiveResult call() throws Exception {
-                        UploadArchiveResult result;
-
-                        try {
-                            result = uploadArchive(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UploadArchiveResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UploadArchiveResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UploadArchiveRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1383,27 +1035,15 @@ public class AmazonGlacierAsyncClient extends AmazonGlacierClient implements
             final UploadMultipartPartRequest request,
             final com.amazonaws.handlers.AsyncHandler<UploadMultipartPartRequest, UploadMultipartPartResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UploadMultipartPartResult>() {
-                    @Override
-                    public UploadMultipartPartResult call() throws Exception {
-                        UploadMultipartPartResult result;
-
-                        try {
-                            result = uploadMultipartPart(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UploadMultipartPartResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UploadMultipartPartResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UploadMultipartPartRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
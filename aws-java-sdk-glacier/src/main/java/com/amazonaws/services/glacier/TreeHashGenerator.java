@@ -14,19 +14,21 @@
  */
 package com.amazonaws.services.glacier;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
-import com.amazonaws.internal.ResettableInputStream;
-import com.amazonaws.services.glacier.internal.TreeHashInputStream;
+import com.amazonaws.services.glacier.internal.TreeHasher;
 import com.amazonaws.util.BinaryUtils;
 
 /**
@@ -37,6 +39,24 @@ import com.amazonaws.util.BinaryUtils;
  */
 public class TreeHashGenerator {
 
+    /**
+     * The size of the ranges of a file hashed by each task of a parallel
+     * tree hash. It must be a power of two number of leaves, so that each
+     * range is a subtree of the tree hash of the file.
+     */
+    private static final long PARALLEL_SEGMENT_SIZE = 64L * TreeHasher.LEAF_SIZE;
+
+    /**
+     * Tree hashers are not thread safe, but are reused by each thread so that
+     * hashing doesn't allocate digests and buffers for every call.
+     */
+    private static final ThreadLocal<TreeHasher> HASHERS = new ThreadLocal<TreeHasher>() {
+        @Override
+        protected TreeHasher initialValue() {
+            return new TreeHasher();
+        }
+    };
+
 	/**
 	 * Calculates a hex encoded binary hash using a tree hashing algorithm for
 	 * the data in the specified file.
@@ -53,19 +73,98 @@ public class TreeHashGenerator {
 	 */
     public static String calculateTreeHash(File file)
             throws AmazonClientException {
-        ResettableInputStream is = null;
+        return calculateTreeHash(file, null);
+    }
+
+    /**
+     * Calculates a hex encoded binary hash using a tree hashing algorithm for
+     * the data in the specified file. Large files are split into ranges of
+     * whole 1 MB leaves, which are hashed in parallel using the given
+     * executor.
+     *
+     * @param file
+     *            The file containing the data to hash.
+     * @param executorService
+     *            The executor used to hash the ranges of the file, or null to
+     *            hash the file in the calling thread.
+     *
+     * @return The hex encoded binary tree hash for the data in the specified
+     *         file.
+     *
+     * @throws AmazonClientException
+     *             If any problems were encountered reading the data or
+     *             computing the hash.
+     */
+    public static String calculateTreeHash(File file, ExecutorService executorService)
+            throws AmazonClientException {
+        FileInputStream input = null;
         try {
-            is = new ResettableInputStream(file);
-            return calculateTreeHash(is);
+            input = new FileInputStream(file);
+            FileChannel channel = input.getChannel();
+            long length = channel.size();
+            if (executorService == null || length <= PARALLEL_SEGMENT_SIZE) {
+                return calculateTreeHash(channel, 0, length);
+            }
+            return BinaryUtils.toHex(calculateTreeHashInParallel(channel, length, executorService));
         } catch (IOException e) {
             throw new AmazonClientException("Unable to compute hash for file: "
                     + file.getAbsolutePath(), e);
         } finally {
-            if (is != null)
-                is.release();
+            if (input != null) {
+                try { input.close(); } catch (IOException e) {}
+            }
         }
     }
 
+    /**
+     * Calculates a hex encoded binary hash using a tree hashing algorithm for
+     * the specified range of the given channel. The position of the channel
+     * is not changed.
+     *
+     * @param channel
+     *            The channel containing the data to hash.
+     * @param position
+     *            The position of the first byte to hash.
+     * @param length
+     *            The number of bytes to hash.
+     *
+     * @return The hex encoded binary tree hash for the data in the specified
+     *         range.
+     *
+     * @throws AmazonClientException
+     *             If problems were encountered reading the data or calculating
+     *             the hash.
+     */
+    public static String calculateTreeHash(FileChannel channel, long position, long length)
+            throws AmazonClientException {
+        TreeHasher hasher = HASHERS.get();
+        try {
+            hasher.update(channel, position, length);
+            return BinaryUtils.toHex(hasher.digest());
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to compute hash", e);
+        } finally {
+            hasher.reset();
+        }
+    }
+
+    /**
+     * Calculates a hex encoded binary hash using a tree hashing algorithm for
+     * the remaining data in the specified buffer, which may be direct. The
+     * buffer is left at its limit.
+     *
+     * @param buffer
+     *            The buffer containing the data to hash.
+     *
+     * @return The hex encoded binary tree hash for the remaining data in the
+     *         specified buffer.
+     */
+    public static String calculateTreeHash(ByteBuffer buffer) {
+        TreeHasher hasher = HASHERS.get();
+        hasher.update(buffer);
+        return BinaryUtils.toHex(hasher.digest());
+    }
+
 	/**
 	 * Calculates a hex encoded binary hash using a tree hashing algorithm for
 	 * the data in the specified input stream. The method will consume all the
@@ -83,16 +182,15 @@ public class TreeHashGenerator {
 	 */
     public static String calculateTreeHash(InputStream input)
             throws AmazonClientException {
+        TreeHasher hasher = HASHERS.get();
         try {
-            TreeHashInputStream treeHashInputStream =
-                new TreeHashInputStream(input);
-            byte[] buffer = new byte[1024];
-            while (treeHashInputStream.read(buffer, 0, buffer.length) != -1);
-            // closing is currently required to compute the checksum 
-            treeHashInputStream.close();
-            return calculateTreeHash(treeHashInputStream.getChecksums());
+            hasher.update(input);
+            return BinaryUtils.toHex(hasher.digest());
         } catch (Exception e) {
             throw new AmazonClientException("Unable to compute hash", e);
+        } finally {
+            hasher.reset();
+            try { input.close(); } catch (IOException e) {}
         }
     }
 
@@ -116,46 +214,65 @@ public class TreeHashGenerator {
          * individual checksums, then taking the checksum of the resulting bytes
          * and storing it, then recursing on this new list until there is only
          * one element. Any final odd-numbered parts at each step are carried
-         * over to the next iteration as-is.
+         * over to the next iteration as-is. The hasher combines each pair as
+         * soon as both of its parts are known.
          */
-        List<byte[]> hashes = new ArrayList<byte[]>();
-        hashes.addAll(checksums);
-        while ( hashes.size() > 1 ) {
-            List<byte[]> treeHashes = new ArrayList<byte[]>();
-            for ( int i = 0; i < hashes.size() / 2; i++ ) {
-                byte[] firstPart = hashes.get(2 * i);
-                byte[] secondPart = hashes.get(2 * i + 1);
-                byte[] concatenation = new byte[firstPart.length + secondPart.length];
-                System.arraycopy(firstPart, 0, concatenation, 0, firstPart.length);
-                System.arraycopy(secondPart, 0, concatenation, firstPart.length, secondPart.length);
-                try {
-					treeHashes.add(computeSHA256Hash(concatenation));
-				} catch (Exception e) {
-					throw new AmazonClientException("Unable to compute hash", e);
-				}
-            }
-            if ( hashes.size() % 2 == 1 ) {
-                treeHashes.add(hashes.get(hashes.size() - 1));
+        TreeHasher hasher = HASHERS.get();
+        try {
+            for (byte[] checksum : checksums) {
+                hasher.addLeafHash(checksum);
             }
-            hashes = treeHashes;
+            return BinaryUtils.toHex(hasher.digest());
+        } finally {
+            hasher.reset();
         }
-
-        return BinaryUtils.toHex(hashes.get(0));
     }
-    
 
-    private static byte[] computeSHA256Hash(byte[] data) throws NoSuchAlgorithmException, IOException {
-        BufferedInputStream bis = new BufferedInputStream(new ByteArrayInputStream(data));
+    /**
+     * Hashes each range of the channel in a separate task, and combines the
+     * roots of the resulting subtrees. Since every range but the last holds
+     * the same power of two number of leaves, the subtrees combine exactly as
+     * the leaves of the range would have.
+     */
+    private static byte[] calculateTreeHashInParallel(final FileChannel channel, final long length,
+            ExecutorService executorService) throws IOException {
+        List<Future<byte[]>> futures = new ArrayList<Future<byte[]>>();
+        TreeHasher hasher = HASHERS.get();
         try {
-            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
-            byte[] buffer = new byte[16384];
-            int bytesRead = -1;
-            while ( (bytesRead = bis.read(buffer, 0, buffer.length)) != -1 ) {
-                messageDigest.update(buffer, 0, bytesRead);
+            for (long position = 0; position < length; position += PARALLEL_SEGMENT_SIZE) {
+                final long segmentPosition = position;
+                futures.add(executorService.submit(new Callable<byte[]>() {
+                    @Override
+                    public byte[] call() throws IOException {
+                        TreeHasher hasher = HASHERS.get();
+                        try {
+                            hasher.update(channel, segmentPosition,
+                                    Math.min(PARALLEL_SEGMENT_SIZE, length - segmentPosition));
+                            return hasher.digest();
+                        } finally {
+                            hasher.reset();
+                        }
+                    }
+                }));
+            }
+
+            for (Future<byte[]> future : futures) {
+                hasher.addLeafHash(future.get());
+            }
+            return hasher.digest();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while computing hash", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
             }
-            return messageDigest.digest();
+            throw new AmazonClientException("Unable to compute hash", e.getCause());
         } finally {
-            try { bis.close(); } catch ( Exception e ) {}
+            hasher.reset();
+            for (Future<byte[]> future : futures) {
+                future.cancel(true);
+            }
         }
     }
 }
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.glacier.internal;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.annotation.NotThreadSafe;
+import com.amazonaws.annotation.SdkInternalApi;
+
+/**
+ * Computes a tree hash incrementally, without holding on to the hashes of
+ * the individual 1 MB leaves.
+ * <p>
+ * Completed subtrees are kept on a stack with one slot per tree level, so a
+ * hasher only ever holds 64 hashes, however much data it is fed. The digests
+ * and buffers are allocated once and reused after {@link #digest()}, which
+ * makes a hasher cheap to keep around per thread.
+ */
+@NotThreadSafe
+@SdkInternalApi
+public final class TreeHasher {
+
+    /** The size of the leaves of the tree. */
+    public static final int LEAF_SIZE = 1024 * 1024;
+
+    private static final int HASH_SIZE = 32;
+    private static final int MAX_LEVELS = 64;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final MessageDigest leafDigest = newSha256Digest();
+    private final MessageDigest nodeDigest = newSha256Digest();
+
+    /** The root of the completed subtree at each level, if any. */
+    private final byte[][] levels = new byte[MAX_LEVELS][HASH_SIZE];
+    private final boolean[] present = new boolean[MAX_LEVELS];
+    private final byte[] leafHash = new byte[HASH_SIZE];
+
+    private ByteBuffer buffer;
+    private int bytesInLeaf;
+    private long leafCount;
+
+    /**
+     * Hashes the given bytes.
+     */
+    public void update(byte[] bytes, int offset, int length) {
+        while (length > 0) {
+            int count = Math.min(length, LEAF_SIZE - bytesInLeaf);
+            leafDigest.update(bytes, offset, count);
+            offset += count;
+            length -= count;
+            advance(count);
+        }
+    }
+
+    /**
+     * Hashes the remaining bytes of the given buffer, which may be direct,
+     * leaving the buffer at its limit.
+     */
+    public void update(ByteBuffer bytes) {
+        int limit = bytes.limit();
+        while (bytes.hasRemaining()) {
+            int count = Math.min(bytes.remaining(), LEAF_SIZE - bytesInLeaf);
+            bytes.limit(bytes.position() + count);
+            leafDigest.update(bytes);
+            bytes.limit(limit);
+            advance(count);
+        }
+    }
+
+    /**
+     * Hashes the given range of the given channel. Positional reads are used,
+     * so the position of the channel is unchanged and several hashers can
+     * read from the same channel at once.
+     */
+    public void update(FileChannel channel, long position, long length) throws IOException {
+        ByteBuffer buffer = buffer();
+        long end = position + length;
+        while (position < end) {
+            buffer.clear();
+            buffer.limit((int) Math.min(buffer.capacity(), end - position));
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of channel at position " + position);
+            }
+            position += read;
+            buffer.flip();
+            update(buffer);
+        }
+    }
+
+    /**
+     * Hashes the remaining bytes of the given stream. The stream is not
+     * closed.
+     */
+    public void update(InputStream input) throws IOException {
+        byte[] bytes = buffer().array();
+        int read;
+        while ((read = input.read(bytes, 0, bytes.length)) != -1) {
+            update(bytes, 0, read);
+        }
+    }
+
+    /**
+     * Adds the hash of a complete 1 MB leaf, or of the final partial leaf,
+     * that was computed elsewhere.
+     */
+    public void addLeafHash(byte[] leafHash) {
+        if (bytesInLeaf != 0) {
+            throw new IllegalStateException("A leaf is partially hashed");
+        }
+        push(leafHash);
+    }
+
+    /**
+     * Returns the number of leaves hashed so far.
+     */
+    public long getLeafCount() {
+        return leafCount;
+    }
+
+    /**
+     * Completes the tree hash of all data given since the hasher was created
+     * or last reset, and resets the hasher.
+     */
+    public byte[] digest() {
+        if (bytesInLeaf > 0 || leafCount == 0) {
+            pushLeaf();
+        }
+
+        // Fold the remaining subtrees from the right; an odd subtree at any
+        // level is carried up as-is, so only adjacent present levels combine.
+        byte[] root = new byte[HASH_SIZE];
+        boolean haveRoot = false;
+        for (int level = 0; level < MAX_LEVELS; level++) {
+            if (!present[level]) {
+                continue;
+            }
+            if (haveRoot) {
+                combine(levels[level], root, root);
+            } else {
+                System.arraycopy(levels[level], 0, root, 0, HASH_SIZE);
+                haveRoot = true;
+            }
+        }
+        reset();
+        return root;
+    }
+
+    /**
+     * Discards all data given since the hasher was created or last reset.
+     */
+    public void reset() {
+        leafDigest.reset();
+        for (int level = 0; level < MAX_LEVELS; level++) {
+            present[level] = false;
+        }
+        bytesInLeaf = 0;
+        leafCount = 0;
+    }
+
+    private void advance(int count) {
+        bytesInLeaf += count;
+        if (bytesInLeaf == LEAF_SIZE) {
+            pushLeaf();
+        }
+    }
+
+    private void pushLeaf() {
+        digestInto(leafDigest, leafHash);
+        bytesInLeaf = 0;
+        push(leafHash);
+    }
+
+    private void push(byte[] hash) {
+        leafCount++;
+        int level = 0;
+        byte[] carry = hash;
+        while (present[level]) {
+            combine(levels[level], carry, levels[level]);
+            present[level] = false;
+            carry = levels[level];
+            level++;
+        }
+        if (carry != levels[level]) {
+            System.arraycopy(carry, 0, levels[level], 0, HASH_SIZE);
+        }
+        present[level] = true;
+    }
+
+    /**
+     * Stores the hash of the concatenation of left and right into result,
+     * which may be either of them.
+     */
+    private void combine(byte[] left, byte[] right, byte[] result) {
+        nodeDigest.update(left, 0, HASH_SIZE);
+        nodeDigest.update(right, 0, HASH_SIZE);
+        digestInto(nodeDigest, result);
+    }
+
+    private ByteBuffer buffer() {
+        if (buffer == null) {
+            buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        }
+        return buffer;
+    }
+
+    private static void digestInto(MessageDigest digest, byte[] result) {
+        try {
+            digest.digest(result, 0, HASH_SIZE);
+        } catch (DigestException e) {
+            throw new AmazonClientException("Unable to compute hash", e);
+        }
+    }
+
+    private static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AmazonClientException("Unable to compute hash for data integrity", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.glacier.internal.auth;
+
+import com.amazonaws.SignableRequest;
+import com.amazonaws.auth.AWS4Signer;
+
+/**
+ * AWS4 signer implementation for Amazon Glacier. The callers of Glacier hash
+ * their payloads anyway, for the tree hash of an archive or part, so a hex
+ * encoded SHA-256 hash already in the "x-amz-content-sha256" header is signed
+ * as is instead of reading the payload again.
+ */
+public class GlacierSigner extends AWS4Signer {
+
+    @Override
+    protected String calculateContentHash(SignableRequest<?> request) {
+        String precomputedHash = getPrecomputedContentHash(request);
+        return precomputedHash != null ? precomputedHash : super.calculateContentHash(request);
+    }
+}
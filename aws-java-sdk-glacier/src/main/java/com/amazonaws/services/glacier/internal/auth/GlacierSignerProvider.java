@@ -0,0 +1,55 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.glacier.internal.auth;
+
+import com.amazonaws.AmazonWebServiceClient;
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.Signer;
+import com.amazonaws.internal.auth.SignerProviderContext;
+import com.amazonaws.internal.auth.SignerProvider;
+
+/**
+ * Signs Glacier requests with a {@link GlacierSigner} in place of the
+ * standard AWS4 signer configured for the client. Any other signer, such as
+ * one chosen with a signer override, is used as is.
+ */
+public class GlacierSignerProvider extends SignerProvider {
+
+    private final AmazonWebServiceClient awsClient;
+    private final Signer signer;
+
+    public GlacierSignerProvider(AmazonWebServiceClient awsClient,
+                                 Signer signer) {
+        this.awsClient = awsClient;
+        if (signer != null && signer.getClass() == AWS4Signer.class) {
+            AWS4Signer aws4Signer = (AWS4Signer) signer;
+            GlacierSigner glacierSigner = new GlacierSigner();
+            glacierSigner.setServiceName(aws4Signer.getServiceName());
+            glacierSigner.setRegionName(aws4Signer.getRegionName());
+            this.signer = glacierSigner;
+        } else {
+            this.signer = signer;
+        }
+    }
+
+    @Override
+    public Signer getSigner(SignerProviderContext context) {
+        if (context.isRedirect()) {
+            return awsClient.getSignerByURI(context.getUri());
+        }
+        return signer;
+    }
+
+}
@@ -21,24 +21,34 @@ import static com.amazonaws.util.IOUtils.closeQuietly;
 import static com.amazonaws.util.IOUtils.release;
 import static com.amazonaws.util.Throwables.failure;
 
-import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.RandomAccessFile;
-import java.security.NoSuchAlgorithmException;
-import java.util.LinkedList;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import com.amazonaws.AbortedException;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.event.DeliveryMode;
+import com.amazonaws.event.ProgressEvent;
 import com.amazonaws.event.ProgressEventType;
 import com.amazonaws.event.ProgressListener;
 import com.amazonaws.internal.ResettableInputStream;
@@ -46,7 +56,7 @@ import com.amazonaws.internal.StaticCredentialsProvider;
 import com.amazonaws.services.glacier.AmazonGlacier;
 import com.amazonaws.services.glacier.AmazonGlacierClient;
 import com.amazonaws.services.glacier.TreeHashGenerator;
-import com.amazonaws.services.glacier.internal.TreeHashInputStream;
+import com.amazonaws.services.glacier.internal.TreeHasher;
 import com.amazonaws.services.glacier.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.glacier.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.glacier.model.CompleteMultipartUploadResult;
@@ -87,6 +97,12 @@ public class ArchiveTransferManager {
     /** Default retry time when downloading in multiple chunks using range retrieval */
     private static final int DEFAULT_MAX_RETRIES = 3;
 
+    /** The number of times each part of a multipart upload is tried */
+    private static final int MAX_UPLOAD_PART_TRIES = 5;
+
+    /** The header with the SHA-256 hash of the payload, used to sign the request */
+    private static final String CONTENT_SHA256_HEADER = "x-amz-content-sha256";
+
     /** Glacier client used for making all requests. */
     private final AmazonGlacier glacier;
 
@@ -98,6 +114,11 @@ public class ArchiveTransferManager {
 
     private final AmazonSNSClient sns;
 
+    /** The executor to transfer parts on; or null to transfer them one at a time. */
+    private volatile ExecutorService executorService;
+
+    private volatile int maxPartsInFlight = 1;
+
     private static final Log log = LogFactory.getLog(ArchiveTransferManager.class);
 
     /**
@@ -197,6 +218,36 @@ public class ArchiveTransferManager {
         this.sns = sns;
     }
 
+    /**
+     * Makes this transfer manager upload the parts of large archives, and
+     * download the chunks of job outputs, concurrently, on the threads of the
+     * given executor service, with at most the given number of parts or
+     * chunks in flight at any time. By default, they are transferred one at a
+     * time on the calling thread.
+     * <p>
+     * Every part or chunk in flight uses its own connection, so the number of parts in
+     * flight should not be more than the maximum number of connections of the
+     * Glacier client. The executor service is not shut down by this transfer
+     * manager. Progress listeners are called from the threads of the executor
+     * service, but never by two of them at once.
+     *
+     * @param executorService
+     *            The executor service to transfer parts and chunks on; or
+     *            null to transfer them one at a time on the calling thread.
+     * @param maxPartsInFlight
+     *            The maximum number of parts or chunks in flight at any time.
+     *
+     * @return This object, for method chaining.
+     */
+    public ArchiveTransferManager withConcurrency(ExecutorService executorService, int maxPartsInFlight) {
+        if (maxPartsInFlight < 1) {
+            throw new IllegalArgumentException("maxPartsInFlight must be at least 1");
+        }
+        this.executorService = executorService;
+        this.maxPartsInFlight = maxPartsInFlight;
+        return this;
+    }
+
     /**
      * Uploads the specified file to Amazon Glacier for archival storage in the
      * specified vault for the user's current account. For small archives, this
@@ -460,8 +511,9 @@ public class ArchiveTransferManager {
      * Downloads the job output for the specified job (which must be ready to
      * download already, and must be a complete archive retrieval, not a partial
      * range retrieval), into the specified file. This method will request
-     * individual chunks of the data, one at a time, in order to handle any
-     * transient errors along the way.
+     * individual chunks of the data, one at a time unless
+     * {@link #withConcurrency(ExecutorService, int)} is used, in order to
+     * handle any transient errors along the way.
      *
      * @param accountId
      *            The account ID containing the job output to download (or null
@@ -482,9 +534,12 @@ public class ArchiveTransferManager {
      * Downloads the job output for the specified job (which must be ready to
      * download already, and must be a complete archive retrieval, not a partial
      * range retrieval), into the specified file. This method will request
-     * individual chunks of the data, one at a time, in order to handle any
-     * transient errors along the way. You can also add an optional progress
-     * listener for receiving updates about the download status.
+     * individual chunks of the data, one at a time unless
+     * {@link #withConcurrency(ExecutorService, int)} is used, in order to
+     * handle any transient errors along the way. You can also add an optional progress
+     * listener for receiving updates about the download status. When chunks are
+     * downloaded concurrently, the listener is called from the threads of the
+     * executor service, but never by two of them at once.
      *
      * @param accountId
      *            The account ID containing the job output to download (or null
@@ -500,8 +555,8 @@ public class ArchiveTransferManager {
      *            The optional progress listener for receiving updates about the
      *            download status.
      */
-    public void downloadJobOutput(String accountId, String vaultName,
-            String jobId, File file, ProgressListener progressListener) {
+    public void downloadJobOutput(final String accountId, final String vaultName,
+            final String jobId, File file, final ProgressListener progressListener) {
         long archiveSize = 0;
         long chunkSize = DEFAULT_DOWNLOAD_CHUNK_SIZE;
         long currentPosition = 0;
@@ -533,22 +588,44 @@ public class ArchiveTransferManager {
 
         try {
             publishProgress(progressListener, ProgressEventType.TRANSFER_STARTED_EVENT);
-            while (currentPosition < archiveSize) {
-                if (currentPosition + chunkSize > archiveSize) {
-                    endPosition = archiveSize - 1;
-                } else {
-                    endPosition = currentPosition + chunkSize - 1;
+            final FileChannel channel = output.getChannel();
+            final ExecutorService executor = executorService;
+            if (executor == null || maxPartsInFlight == 1) {
+                while (currentPosition < archiveSize) {
+                    if (currentPosition + chunkSize > archiveSize) {
+                        endPosition = archiveSize - 1;
+                    } else {
+                        endPosition = currentPosition + chunkSize - 1;
+                    }
+
+                    // Download the chunk
+                    try {
+                        downloadOneChunk(accountId, vaultName, jobId, channel,
+                                currentPosition, endPosition, progressListener);
+                    } catch (Throwable t) {
+                        publishProgress(progressListener, ProgressEventType.TRANSFER_FAILED_EVENT);
+                        throw failure(t);
+                    }
+                    currentPosition += chunkSize;
                 }
-    
-                // Download the chunk
+            } else {
+                final long finalArchiveSize = archiveSize;
+                final long finalChunkSize = chunkSize;
+                final ProgressListener chunkListener = SerialProgressListener.wrap(progressListener);
                 try {
-                    downloadOneChunk(accountId, vaultName, jobId, output,
-                            currentPosition, endPosition, progressListener);
+                    runConcurrently(executor, (int) ((archiveSize + chunkSize - 1) / chunkSize), new IndexedTask() {
+                        @Override
+                        public void run(int chunk) {
+                            long startPosition = chunk * finalChunkSize;
+                            downloadOneChunk(accountId, vaultName, jobId, channel, startPosition,
+                                    Math.min(startPosition + finalChunkSize, finalArchiveSize) - 1,
+                                    chunkListener);
+                        }
+                    });
                 } catch (Throwable t) {
                     publishProgress(progressListener, ProgressEventType.TRANSFER_FAILED_EVENT);
                     throw failure(t);
                 }
-                currentPosition += chunkSize;
             }
             publishProgress(progressListener, ProgressEventType.TRANSFER_COMPLETED_EVENT);
         } finally {
@@ -568,14 +645,16 @@ public class ArchiveTransferManager {
     }
 
     /**
-     * Download one chunk from Amazon Glacier. It will do the retry if any
-     * errors are encountered while streaming the data from Amazon Glacier.
+     * Download one chunk from Amazon Glacier, and write it at its position in
+     * the output file. The tree hash of the chunk is computed as it is
+     * received. It will do the retry if any errors are encountered while
+     * streaming the data from Amazon Glacier.
      */
     private void downloadOneChunk(String accountId, String vaultName,
-            String jobId, RandomAccessFile output, long currentPosition,
+            String jobId, FileChannel output, long currentPosition,
             long endPosition, ProgressListener progressListener) {
         final long chunkSize = endPosition - currentPosition + 1;
-        TreeHashInputStream input = null;
+        final TreeHasher hasher = new TreeHasher();
         int retries = 0;
         while (true) {
             try {
@@ -587,11 +666,10 @@ public class ArchiveTransferManager {
                     .withGeneralProgressListener(progressListener)
                     ;
                 GetJobOutputResult jobOutputResult = glacier.getJobOutput(req);
+                InputStream input = jobOutputResult.getBody();
+                hasher.reset();
                 try {
-                    input = new TreeHashInputStream(new BufferedInputStream(jobOutputResult.getBody()));
-                    appendToFile(output, input);
-                } catch (NoSuchAlgorithmException e) {
-                    throw failure(e, "Unable to compute hash for data integrity");
+                    writeToFile(output, currentPosition, input, hasher);
                 } finally {
                     closeQuietly(input, log);
                 }
@@ -599,7 +677,7 @@ public class ArchiveTransferManager {
                 // Only do tree-hash check when the output checksum is returned from Glacier
                 if (null != jobOutputResult.getChecksum()) {
                     // Checksum does not match
-                    if (!input.getTreeHash().equalsIgnoreCase(jobOutputResult.getChecksum())) {
+                    if (!BinaryUtils.toHex(hasher.digest()).equalsIgnoreCase(jobOutputResult.getChecksum())) {
                         // Discard the chunk of bytes received 
                         publishResponseBytesDiscarded(progressListener, chunkSize);
                         if (log.isDebugEnabled())
@@ -624,11 +702,6 @@ public class ArchiveTransferManager {
                                 + currentPosition + " endPosition="
                                 + endPosition);
                     }
-                    try {
-                        output.seek(currentPosition);
-                    } catch (IOException e) {
-                        throw new AmazonClientException("Unable to download the archive: " + ioe.getMessage(), e);
-                    }
                 } else {
                     throw new AmazonClientException("Unable to download the archive: " + ioe.getMessage(), ioe);
                 }
@@ -637,19 +710,24 @@ public class ArchiveTransferManager {
     }
 
     /**
-     * Writes the data from the given input stream to the given output stream.
+     * Writes the data from the given input stream to the given file channel,
+     * starting at the given position, and adds it to the given tree hash.
+     * Positional writes don't move the position of the channel, so several
+     * chunks can be written at once.
      */
-    private void appendToFile(RandomAccessFile output, InputStream input)
+    private void writeToFile(FileChannel output, long position, InputStream input, TreeHasher hasher)
             throws IOException {
         byte[] buffer = new byte[1024 * 1024];
-        int bytesRead = 0;
-        do {
-            bytesRead = input.read(buffer);
-            if (bytesRead < 0)
-                break;
-            output.write(buffer, 0, bytesRead);
-        } while (bytesRead > 0);
-        return;
+        ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+        int bytesRead;
+        while ((bytesRead = input.read(buffer)) >= 0) {
+            hasher.update(buffer, 0, bytesRead);
+            byteBuffer.limit(bytesRead);
+            byteBuffer.position(0);
+            while (byteBuffer.hasRemaining()) {
+                position += output.write(byteBuffer, position);
+            }
+        }
     }
 
     /**
@@ -676,7 +754,7 @@ public class ArchiveTransferManager {
 
     private UploadResult uploadInMultipleParts(final String accountId,
             final String vaultName, final String archiveDescription,
-            final File file, ProgressListener progressListener) {
+            final File file, final ProgressListener progressListener) {
         final long partSize = calculatePartSize(file.length());
         String partSizeString = Long.toString(partSize);
 
@@ -694,58 +772,30 @@ public class ArchiveTransferManager {
             throw failure(t);
         }
         publishProgress(progressListener, ProgressEventType.TRANSFER_STARTED_EVENT);
-        final String fileNotFoundMsg = "Unable to find file '"
-                + file.getAbsolutePath() + "'";
         try {
-            List<byte[]> binaryChecksums = new LinkedList<byte[]>();
-
-            long currentPosition = 0;
-            while (currentPosition < file.length()) {
-                long length = partSize;
-                if (currentPosition + partSize > file.length()) {
-                    length = file.length() - currentPosition;
+            final long fileLength = file.length();
+            final byte[][] binaryChecksums = new byte[(int) ((fileLength + partSize - 1) / partSize)][];
+            final ExecutorService executor = executorService;
+            if (executor == null || maxPartsInFlight == 1) {
+                for (int part = 0; part < binaryChecksums.length; part++) {
+                    long position = part * partSize;
+                    binaryChecksums[part] = uploadPart(accountId, vaultName, uploadId, file,
+                            position, Math.min(partSize, fileLength - position), progressListener);
                 }
+            } else {
+                final String finalUploadId = uploadId;
+                final ProgressListener partListener = SerialProgressListener.wrap(progressListener);
+                runConcurrently(executor, binaryChecksums.length, new IndexedTask() {
+                    @Override
+                    public void run(int part) throws Exception {
+                        long position = part * partSize;
+                        binaryChecksums[part] = uploadPart(accountId, vaultName, finalUploadId, file,
+                                position, Math.min(partSize, fileLength - position), partListener);
+                    }
+                });
+            }
 
-                Exception failedException = null;
-                boolean completed = false;
-                int tries = 0;
-                    while (!completed && tries < 5){
-                        tries++;
-                        InputSubstream inputSubStream = null;
-                        try {
-                            inputSubStream = new InputSubstream(
-                                    newResettableInputStream(file, fileNotFoundMsg)
-                                        .disableClose(), // requires explicit release
-                                    currentPosition, length, true);
-                            String checksum = TreeHashGenerator.calculateTreeHash(inputSubStream);
-                            byte[] binaryChecksum = BinaryUtils.fromHex(checksum);
-                            inputSubStream.reset();
-                            UploadMultipartPartRequest req = new UploadMultipartPartRequest()
-                                .withAccountId(accountId)
-                                .withChecksum(checksum)
-                                .withBody(inputSubStream)
-                                .withRange("bytes " + currentPosition + "-" + (currentPosition + length - 1) + "/*")
-                                .withUploadId(uploadId)
-                                .withVaultName(vaultName)
-                                .withGeneralProgressListener(progressListener)
-                                ;
-                            
-                            glacier.uploadMultipartPart(req);
-                            completed = true;
-                            binaryChecksums.add(binaryChecksum);
-                        } catch (Exception e){
-                            failedException = e;
-                        } finally {
-                            // We opened the file underneath; so need to release it
-                            release(inputSubStream, log);
-                        }
-                    } // end inner while
-                if (!completed && failedException!=null)
-                    throw failedException;
-                currentPosition += partSize;
-            } // end outer while
-
-            String checksum = TreeHashGenerator.calculateTreeHash(binaryChecksums);
+            String checksum = TreeHashGenerator.calculateTreeHash(Arrays.asList(binaryChecksums));
 
             String archiveSize = Long.toString(file.length());
             CompleteMultipartUploadResult completeMultipartUploadResult =
@@ -766,6 +816,134 @@ public class ArchiveTransferManager {
         }
     }
 
+    /**
+     * Hands the progress events of the parts or chunks of a concurrent
+     * transfer to the wrapped listener one at a time, so that listeners
+     * written for serial transfers don't see concurrent callbacks.
+     */
+    private static final class SerialProgressListener implements ProgressListener, DeliveryMode {
+        private final ProgressListener listener;
+
+        private SerialProgressListener(ProgressListener listener) {
+            this.listener = listener;
+        }
+
+        static ProgressListener wrap(ProgressListener listener) {
+            return listener == null || listener == ProgressListener.NOOP
+                    ? listener : new SerialProgressListener(listener);
+        }
+
+        @Override
+        public void progressChanged(ProgressEvent progressEvent) {
+            synchronized (listener) {
+                listener.progressChanged(progressEvent);
+            }
+        }
+
+        @Override
+        public boolean isSyncCallSafe() {
+            return listener instanceof DeliveryMode && ((DeliveryMode) listener).isSyncCallSafe();
+        }
+    }
+
+    /**
+     * A task run for each part or chunk of a concurrent transfer.
+     */
+    private interface IndexedTask {
+        void run(int index) throws Exception;
+    }
+
+    /**
+     * Runs the given task for every index from 0 to count - 1 on the given
+     * executor, with at most {@link #maxPartsInFlight} tasks running at once.
+     * Stops at the first task that fails, and cancels the tasks still
+     * running.
+     */
+    private void runConcurrently(ExecutorService executor, int count, final IndexedTask task)
+            throws InterruptedException {
+        final int maxInFlight = maxPartsInFlight;
+        CompletionService<Void> completionService = new ExecutorCompletionService<Void>(executor);
+        List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        int next = 0;
+        int inFlight = 0;
+        try {
+            while (next < count || inFlight > 0) {
+                while (next < count && inFlight < maxInFlight) {
+                    final int index = next++;
+                    futures.add(completionService.submit(new Callable<Void>() {
+                        @Override
+                        public Void call() throws Exception {
+                            task.run(index);
+                            return null;
+                        }
+                    }));
+                    inFlight++;
+                }
+                Future<Void> completed = completionService.take();
+                inFlight--;
+                completed.get();
+            }
+        } catch (ExecutionException e) {
+            throw failure(e.getCause());
+        } finally {
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Uploads one part of a multipart upload, trying it up to
+     * {@link #MAX_UPLOAD_PART_TRIES} times unless it is cancelled, and returns
+     * its binary tree hash. The tree hash and the payload hash of the part are
+     * computed together from a single read of the part; the payload hash is
+     * handed to the signer so that it doesn't read the part again.
+     */
+    private byte[] uploadPart(String accountId, String vaultName, String uploadId, File file,
+            long position, long length, ProgressListener progressListener) throws Exception {
+        final String fileNotFoundMsg = "Unable to find file '"
+                + file.getAbsolutePath() + "'";
+        PartChecksums checksums = null;
+        Exception failedException = null;
+        for (int tries = 0; tries < MAX_UPLOAD_PART_TRIES; tries++) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException("Interrupted while uploading the archive");
+            }
+            InputSubstream inputSubStream = null;
+            try {
+                if (checksums == null) {
+                    checksums = PartChecksums.compute(file, position, length);
+                }
+                inputSubStream = new InputSubstream(
+                        newResettableInputStream(file, fileNotFoundMsg)
+                            .disableClose(), // requires explicit release
+                        position, length, true);
+                UploadMultipartPartRequest req = new UploadMultipartPartRequest()
+                    .withAccountId(accountId)
+                    .withChecksum(checksums.getTreeHash())
+                    .withBody(inputSubStream)
+                    .withRange("bytes " + position + "-" + (position + length - 1) + "/*")
+                    .withUploadId(uploadId)
+                    .withVaultName(vaultName)
+                    .withGeneralProgressListener(progressListener)
+                    ;
+                req.putCustomRequestHeader(CONTENT_SHA256_HEADER, checksums.getPayloadHash());
+
+                glacier.uploadMultipartPart(req);
+                return BinaryUtils.fromHex(checksums.getTreeHash());
+            } catch (AbortedException e) {
+                // Cancelled; don't try again
+                throw e;
+            } catch (Exception e) {
+                failedException = e;
+            } finally {
+                // We opened the file underneath; so need to release it
+                release(inputSubStream, log);
+            }
+        }
+        throw failedException;
+    }
+
     private UploadResult uploadInSinglePart(final String accountId,
             final String vaultName, final String archiveDescription,
             final File file, ProgressListener progressListener) {
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.glacier.transfer;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.glacier.internal.TreeHasher;
+import com.amazonaws.util.BinaryUtils;
+
+/**
+ * The two checksums Glacier needs for a part of a multipart upload: the tree
+ * hash of the part, and the linear SHA-256 hash of the payload used to sign
+ * the request. Both are computed from a single read of the part.
+ */
+final class PartChecksums {
+
+    private static final int MB = 1024 * 1024;
+
+    private final String treeHash;
+    private final String payloadHash;
+
+    private PartChecksums(String treeHash, String payloadHash) {
+        this.treeHash = treeHash;
+        this.payloadHash = payloadHash;
+    }
+
+    /**
+     * Returns the hex encoded tree hash of the part.
+     */
+    String getTreeHash() {
+        return treeHash;
+    }
+
+    /**
+     * Returns the hex encoded SHA-256 hash of the part.
+     */
+    String getPayloadHash() {
+        return payloadHash;
+    }
+
+    /**
+     * Computes the checksums of the given range of the given file.
+     */
+    static PartChecksums compute(File file, long position, long length) throws IOException {
+        final TreeHasher treeHasher = new TreeHasher();
+        final MessageDigest payloadDigest = newSha256Digest();
+        final ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(MB, Math.max(length, 1)));
+
+        FileInputStream input = new FileInputStream(file);
+        try {
+            FileChannel channel = input.getChannel();
+            long offset = 0;
+            while (offset < length) {
+                buffer.clear();
+                buffer.limit((int) Math.min(buffer.capacity(), length - offset));
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + offset + buffer.position()) < 0) {
+                        throw new EOFException("Unexpected end of file " + file.getPath());
+                    }
+                }
+                treeHasher.update(buffer.array(), 0, buffer.limit());
+                payloadDigest.update(buffer.array(), 0, buffer.limit());
+                offset += buffer.limit();
+            }
+        } finally {
+            input.close();
+        }
+        return new PartChecksums(BinaryUtils.toHex(treeHasher.digest()),
+                BinaryUtils.toHex(payloadDigest.digest()));
+    }
+
+    private static MessageDigest newSha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AmazonClientException("Unable to compute hash for data integrity", e);
+        }
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.glacier;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.amazonaws.services.glacier.internal.TreeHasher;
+import com.amazonaws.util.BinaryUtils;
+
+/**
+ * Checks every way of computing a tree hash against the original algorithm,
+ * which hashed each 1 MB leaf and then combined the list of leaf hashes level
+ * by level.
+ */
+public class TreeHashGeneratorTest {
+
+    private static final int LEAF = TreeHasher.LEAF_SIZE;
+
+    /** The size of the ranges hashed in parallel by TreeHashGenerator. */
+    private static final long PARALLEL_SEGMENT_SIZE = 64L * LEAF;
+
+    /**
+     * Zero, one, a power of two and one more than a power of two leaves, and
+     * sizes above the parallel segment size, with full and partial last
+     * segments.
+     */
+    private static final long[] SIZES = {
+            0,
+            1,
+            LEAF - 1,
+            LEAF,
+            2L * LEAF,
+            4L * LEAF,
+            4L * LEAF + 1,
+            PARALLEL_SEGMENT_SIZE,
+            PARALLEL_SEGMENT_SIZE + 1,
+            2 * PARALLEL_SEGMENT_SIZE + 3L * LEAF + 17,
+    };
+
+    private static final List<File> files = new ArrayList<File>();
+    private static final List<String> expectedHashes = new ArrayList<String>();
+    private static ExecutorService executor;
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        Random random = new Random(42);
+        for (long size : SIZES) {
+            File file = File.createTempFile("tree-hash-" + size + "-", ".bin");
+            file.deleteOnExit();
+            writeRandomBytes(file, size, random);
+            files.add(file);
+            expectedHashes.add(listBasedTreeHash(file));
+        }
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        executor.shutdownNow();
+        for (File file : files) {
+            file.delete();
+        }
+    }
+
+    @Test
+    public void fileHashMatchesListBasedHash() {
+        for (int i = 0; i < SIZES.length; i++) {
+            assertEquals("Size " + SIZES[i], expectedHashes.get(i),
+                    TreeHashGenerator.calculateTreeHash(files.get(i)));
+        }
+    }
+
+    @Test
+    public void parallelFileHashMatchesListBasedHash() {
+        for (int i = 0; i < SIZES.length; i++) {
+            assertEquals("Size " + SIZES[i], expectedHashes.get(i),
+                    TreeHashGenerator.calculateTreeHash(files.get(i), executor));
+        }
+    }
+
+    @Test
+    public void inputStreamHashMatchesListBasedHash() throws Exception {
+        for (int i = 0; i < SIZES.length; i++) {
+            assertEquals("Size " + SIZES[i], expectedHashes.get(i),
+                    TreeHashGenerator.calculateTreeHash(new FileInputStream(files.get(i))));
+        }
+    }
+
+    @Test
+    public void fileChannelRangeHashMatchesListBasedHash() throws Exception {
+        for (int i = 0; i < SIZES.length; i++) {
+            RandomAccessFile raf = new RandomAccessFile(files.get(i), "r");
+            try {
+                FileChannel channel = raf.getChannel();
+                assertEquals("Size " + SIZES[i], expectedHashes.get(i),
+                        TreeHashGenerator.calculateTreeHash(channel, 0, channel.size()));
+                assertEquals(0, channel.position());
+            } finally {
+                raf.close();
+            }
+        }
+    }
+
+    @Test
+    public void directByteBufferHashMatchesListBasedHash() throws Exception {
+        for (int i = 0; i < SIZES.length; i++) {
+            RandomAccessFile raf = new RandomAccessFile(files.get(i), "r");
+            try {
+                MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, SIZES[i]);
+                assertEquals("Size " + SIZES[i], expectedHashes.get(i), TreeHashGenerator.calculateTreeHash(buffer));
+                assertEquals(buffer.limit(), buffer.position());
+            } finally {
+                raf.close();
+            }
+        }
+    }
+
+    @Test
+    public void incrementalHashIsIndependentOfTheChunkSizes() throws Exception {
+        TreeHasher hasher = new TreeHasher();
+        byte[] chunk = new byte[7919];
+        for (int i = 0; i < SIZES.length; i++) {
+            InputStream input = new FileInputStream(files.get(i));
+            try {
+                int read;
+                // Chunks that straddle the leaf boundaries
+                while ((read = input.read(chunk, 0, 1 + (int) (SIZES[i] % chunk.length))) != -1) {
+                    hasher.update(chunk, 0, read);
+                }
+            } finally {
+                input.close();
+            }
+            assertEquals("Size " + SIZES[i], expectedHashes.get(i), BinaryUtils.toHex(hasher.digest()));
+        }
+    }
+
+    @Test
+    public void checksumListHashMatchesListBasedHash() throws Exception {
+        for (int leaves = 1; leaves <= 130; leaves++) {
+            List<byte[]> checksums = new ArrayList<byte[]>();
+            for (int i = 0; i < leaves; i++) {
+                checksums.add(sha256(new byte[] { (byte) i }, 1));
+            }
+            assertEquals("Leaves " + leaves, listBasedTreeHash(checksums),
+                    TreeHashGenerator.calculateTreeHash(checksums));
+        }
+    }
+
+    private static void writeRandomBytes(File file, long size, Random random) throws IOException {
+        OutputStream out = new FileOutputStream(file);
+        try {
+            byte[] buffer = new byte[LEAF];
+            for (long written = 0; written < size; written += buffer.length) {
+                random.nextBytes(buffer);
+                out.write(buffer, 0, (int) Math.min(buffer.length, size - written));
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * The original algorithm: the hash of each 1 MB leaf, of which there is
+     * at least one, combined by {@link #listBasedTreeHash(List)}.
+     */
+    private static String listBasedTreeHash(File file) throws Exception {
+        List<byte[]> checksums = new ArrayList<byte[]>();
+        InputStream input = new FileInputStream(file);
+        try {
+            byte[] leaf = new byte[LEAF];
+            int length;
+            while ((length = readFully(input, leaf)) > 0 || checksums.isEmpty()) {
+                checksums.add(sha256(leaf, length));
+                if (length < LEAF) {
+                    break;
+                }
+            }
+        } finally {
+            input.close();
+        }
+        return listBasedTreeHash(checksums);
+    }
+
+    /**
+     * Combines adjacent pairs of hashes, carrying an odd last hash over as
+     * is, until a single hash is left.
+     */
+    private static String listBasedTreeHash(List<byte[]> checksums) throws Exception {
+        List<byte[]> hashes = new ArrayList<byte[]>(checksums);
+        while (hashes.size() > 1) {
+            List<byte[]> treeHashes = new ArrayList<byte[]>();
+            for (int i = 0; i < hashes.size() / 2; i++) {
+                byte[] concatenation = new byte[64];
+                System.arraycopy(hashes.get(2 * i), 0, concatenation, 0, 32);
+                System.arraycopy(hashes.get(2 * i + 1), 0, concatenation, 32, 32);
+                treeHashes.add(sha256(concatenation, concatenation.length));
+            }
+            if (hashes.size() % 2 == 1) {
+                treeHashes.add(hashes.get(hashes.size() - 1));
+            }
+            hashes = treeHashes;
+        }
+        return BinaryUtils.toHex(hashes.get(0));
+    }
+
+    private static int readFully(InputStream input, byte[] buffer) throws IOException {
+        int total = 0;
+        int read;
+        while (total < buffer.length && (read = input.read(buffer, total, buffer.length - total)) != -1) {
+            total += read;
+        }
+        return total;
+    }
+
+    private static byte[] sha256(byte[] data, int length) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update(data, 0, length);
+        return digest.digest();
+    }
+}
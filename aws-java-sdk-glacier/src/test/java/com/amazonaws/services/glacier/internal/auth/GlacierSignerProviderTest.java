@@ -0,0 +1,104 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.glacier.internal.auth;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+import org.junit.Test;
+
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.auth.AWS4Signer;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.auth.Signer;
+import com.amazonaws.internal.auth.SignerProviderContext;
+
+public class GlacierSignerProviderTest {
+
+    private static final String CONTENT_SHA256 = "x-amz-content-sha256";
+
+    private final BasicAWSCredentials credentials = new BasicAWSCredentials("access", "secret");
+
+    @Test
+    public void standardSignerIsReplacedWithGlacierSigner() {
+        AWS4Signer standard = new AWS4Signer();
+        standard.setServiceName("glacier");
+        standard.setRegionName("eu-west-1");
+
+        Signer signer = new GlacierSignerProvider(null, standard)
+                .getSigner(SignerProviderContext.builder().build());
+
+        assertTrue(signer instanceof GlacierSigner);
+        assertEquals("glacier", ((GlacierSigner) signer).getServiceName());
+        assertEquals("eu-west-1", ((GlacierSigner) signer).getRegionName());
+    }
+
+    @Test
+    public void otherSignersAreKept() {
+        AWS4Signer custom = new AWS4Signer() {
+        };
+
+        assertSame(custom, new GlacierSignerProvider(null, custom)
+                .getSigner(SignerProviderContext.builder().build()));
+    }
+
+    @Test
+    public void precomputedContentHashIsSignedWithoutReadingThePayload() {
+        DefaultRequest<Void> request = request(new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("The payload should not be read");
+            }
+        });
+        request.addHeader(CONTENT_SHA256, "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef");
+
+        signer().sign(request, credentials);
+
+        assertNotNull(request.getHeaders().get("Authorization"));
+    }
+
+    @Test
+    public void payloadIsHashedWithoutAPrecomputedContentHash() {
+        DefaultRequest<Void> request = request(new ByteArrayInputStream("payload".getBytes()));
+        request.addHeader(CONTENT_SHA256, "required");
+
+        signer().sign(request, credentials);
+
+        assertEquals("239f59ed55e737c77147cf55ad0c1b030b6d7ee748a7426952f9b852d5a935e5",
+                request.getHeaders().get(CONTENT_SHA256));
+    }
+
+    private static GlacierSigner signer() {
+        GlacierSigner signer = new GlacierSigner();
+        signer.setServiceName("glacier");
+        signer.setRegionName("us-east-1");
+        return signer;
+    }
+
+    private static DefaultRequest<Void> request(InputStream content) {
+        DefaultRequest<Void> request = new DefaultRequest<Void>("glacier");
+        request.setEndpoint(URI.create("https://glacier.us-east-1.amazonaws.com"));
+        request.setResourcePath("/-/vaults/vault/multipart-uploads/upload");
+        request.setContent(content);
+        return request;
+    }
+}
@@ -0,0 +1,473 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.glacier.transfer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AbortedException;
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.event.ProgressEvent;
+import com.amazonaws.event.ProgressEventType;
+import com.amazonaws.event.SDKProgressPublisher;
+import com.amazonaws.event.SyncProgressListener;
+import com.amazonaws.services.glacier.AmazonGlacierClient;
+import com.amazonaws.services.glacier.TreeHashGenerator;
+import com.amazonaws.services.glacier.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.glacier.model.AbortMultipartUploadResult;
+import com.amazonaws.services.glacier.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.glacier.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.glacier.model.DescribeJobRequest;
+import com.amazonaws.services.glacier.model.DescribeJobResult;
+import com.amazonaws.services.glacier.model.GetJobOutputRequest;
+import com.amazonaws.services.glacier.model.GetJobOutputResult;
+import com.amazonaws.services.glacier.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.glacier.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.glacier.model.UploadMultipartPartRequest;
+import com.amazonaws.services.glacier.model.UploadMultipartPartResult;
+import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.IOUtils;
+
+public class ArchiveTransferManagerTest {
+
+    private static final String CHUNK_SIZE_PROPERTY = "com.amazonaws.services.glacier.transfer.downloadChunkSizeInMB";
+
+    private static final int MB = 1024 * 1024;
+
+    /** Five chunks of a megabyte, the last one short. */
+    private static final byte[] ARCHIVE = new byte[4 * MB + 100];
+
+    static {
+        new Random(42).nextBytes(ARCHIVE);
+    }
+
+    private final RecordingListener listener = new RecordingListener();
+
+    private ExecutorService executor;
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        System.setProperty(CHUNK_SIZE_PROPERTY, "1");
+        executor = Executors.newFixedThreadPool(4);
+        file = File.createTempFile("archive", ".tmp");
+    }
+
+    @After
+    public void tearDown() {
+        System.clearProperty(CHUNK_SIZE_PROPERTY);
+        executor.shutdownNow();
+        file.delete();
+    }
+
+    @Test
+    public void chunksCompletingOutOfOrderAreWrittenAtTheirPositions() throws Exception {
+        final CountDownLatch laterChunksRequested = new CountDownLatch(3);
+        final AtomicBoolean firstChunkHeldBack = new AtomicBoolean();
+        GlacierStandIn glacier = new GlacierStandIn() {
+            @Override
+            byte[] body(int chunk, int attempt, byte[] data) throws InterruptedException {
+                if (chunk == 0) {
+                    firstChunkHeldBack.set(laterChunksRequested.await(10, TimeUnit.SECONDS));
+                } else {
+                    laterChunksRequested.countDown();
+                }
+                return data;
+            }
+        };
+
+        download(glacier);
+
+        assertTrue("The first chunk completed before the later ones were requested", firstChunkHeldBack.get());
+        assertArrayEquals(ARCHIVE, IOUtils.toByteArray(new FileInputStream(file)));
+        assertEquals(ARCHIVE.length, listener.bytes(ProgressEventType.RESPONSE_BYTE_TRANSFER_EVENT));
+        assertTrue(listener.types().contains(ProgressEventType.TRANSFER_COMPLETED_EVENT));
+        assertFalse("The listener was called concurrently", listener.overlapped.get());
+    }
+
+    @Test
+    public void chunkWithMismatchedChecksumIsDownloadedAgain() throws Exception {
+        GlacierStandIn glacier = new GlacierStandIn() {
+            @Override
+            byte[] body(int chunk, int attempt, byte[] data) {
+                return chunk == 2 && attempt == 1 ? corrupt(data) : data;
+            }
+        };
+
+        download(glacier);
+
+        assertArrayEquals(ARCHIVE, IOUtils.toByteArray(new FileInputStream(file)));
+        assertEquals(2, glacier.attempts(2));
+        assertEquals(1, glacier.attempts(3));
+        assertEquals(MB, listener.bytes(ProgressEventType.RESPONSE_BYTE_DISCARD_EVENT));
+        assertFalse("The listener was called concurrently", listener.overlapped.get());
+    }
+
+    @Test
+    public void failedChunkCancelsTheChunksInFlight() throws Exception {
+        final AtomicInteger interrupted = new AtomicInteger();
+        GlacierStandIn glacier = new GlacierStandIn() {
+            @Override
+            byte[] body(int chunk, int attempt, byte[] data) {
+                if (chunk == 1) {
+                    return corrupt(data);
+                }
+                if (chunk == 2 || chunk == 3) {
+                    try {
+                        Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                    } catch (InterruptedException e) {
+                        interrupted.incrementAndGet();
+                        throw new AbortedException();
+                    }
+                }
+                return data;
+            }
+        };
+
+        try {
+            download(glacier);
+            fail("Expected the download to fail");
+        } catch (AmazonClientException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().startsWith("Unable to download the archive"));
+        }
+
+        assertEquals("Every try of the corrupt chunk", 4, glacier.attempts(1));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (interrupted.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, interrupted.get());
+        assertTrue(listener.types().contains(ProgressEventType.TRANSFER_FAILED_EVENT));
+        assertFalse(listener.types().contains(ProgressEventType.TRANSFER_COMPLETED_EVENT));
+    }
+
+    @Test
+    public void partsAreUploadedConcurrentlyAndCompletedWithTheTreeHashOfTheArchive() throws Exception {
+        writeLargeArchive();
+        GlacierStandIn glacier = new GlacierStandIn() {
+            @Override
+            void uploadPart(int part, int attempt) throws InterruptedException {
+                Thread.sleep(50);
+            }
+        };
+
+        UploadResult result = upload(glacier);
+
+        assertEquals("archive", result.getArchiveId());
+        assertEquals(7, glacier.partsUploaded.get());
+        assertTrue("Max parts in flight " + glacier.maxPartsInFlight, glacier.maxPartsInFlight.get() > 1);
+        assertTrue(glacier.maxPartsInFlight.get() <= 4);
+        assertEquals(TreeHashGenerator.calculateTreeHash(file), glacier.completedChecksum);
+        assertEquals(Long.toString(file.length()), glacier.completedArchiveSize);
+        assertFalse(glacier.aborted.get());
+        assertTrue(listener.types().contains(ProgressEventType.TRANSFER_COMPLETED_EVENT));
+    }
+
+    @Test
+    public void failedPartIsTriedAgain() throws Exception {
+        writeLargeArchive();
+        GlacierStandIn glacier = new GlacierStandIn() {
+            @Override
+            void uploadPart(int part, int attempt) {
+                if (part == 2 && attempt < 3) {
+                    throw new AmazonClientException("Part failed");
+                }
+            }
+        };
+
+        upload(glacier);
+
+        assertEquals(3, glacier.attempts(2));
+        assertEquals(1, glacier.attempts(3));
+        assertEquals(TreeHashGenerator.calculateTreeHash(file), glacier.completedChecksum);
+        assertFalse(glacier.aborted.get());
+    }
+
+    @Test
+    public void partFailingEveryTryCancelsThePartsInFlightAndAbortsTheUpload() throws Exception {
+        writeLargeArchive();
+        final CountDownLatch partsInFlight = new CountDownLatch(2);
+        final AtomicInteger interrupted = new AtomicInteger();
+        GlacierStandIn glacier = new GlacierStandIn() {
+            @Override
+            void uploadPart(int part, int attempt) throws InterruptedException {
+                if (part == 1) {
+                    partsInFlight.await(10, TimeUnit.SECONDS);
+                    throw new AmazonClientException("Part failed");
+                }
+                if (part == 2 || part == 3) {
+                    partsInFlight.countDown();
+                    try {
+                        Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                    } catch (InterruptedException e) {
+                        interrupted.incrementAndGet();
+                        throw new AbortedException();
+                    }
+                }
+            }
+        };
+
+        try {
+            upload(glacier);
+            fail("Expected the upload to fail");
+        } catch (AmazonClientException expected) {
+            assertEquals("Part failed", expected.getMessage());
+        }
+
+        assertEquals("Every try of the failing part", 5, glacier.attempts(1));
+        assertTrue(glacier.aborted.get());
+        assertEquals(null, glacier.completedChecksum);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (interrupted.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, interrupted.get());
+        assertEquals("Interrupted parts are not tried again", 1, glacier.attempts(2));
+        assertTrue(listener.types().contains(ProgressEventType.TRANSFER_FAILED_EVENT));
+    }
+
+    private UploadResult upload(GlacierStandIn glacier) {
+        return new ArchiveTransferManager(glacier, new BasicAWSCredentials("access", "secret"))
+                .withConcurrency(executor, 4)
+                .upload("account", "vault", "description", file, listener);
+    }
+
+    /**
+     * Writes an archive just large enough to be uploaded in parts, 7 parts
+     * of 16 MB, with each megabyte starting with its offset so that no two
+     * parts are alike.
+     */
+    private void writeLargeArchive() throws IOException {
+        RandomAccessFile archive = new RandomAccessFile(file, "rw");
+        try {
+            archive.setLength(100L * MB + 1);
+            for (long offset = 0; offset < archive.length(); offset += MB) {
+                archive.seek(offset);
+                archive.writeLong(offset);
+            }
+        } finally {
+            archive.close();
+        }
+    }
+
+    private void download(GlacierStandIn glacier) {
+        new ArchiveTransferManager(glacier, new BasicAWSCredentials("access", "secret"))
+                .withConcurrency(executor, 4)
+                .downloadJobOutput("account", "vault", "job", file, listener);
+    }
+
+    private static byte[] corrupt(byte[] data) {
+        byte[] corrupt = data.clone();
+        corrupt[corrupt.length / 2] ^= 1;
+        return corrupt;
+    }
+
+    /**
+     * Serves the ranges of {@link #ARCHIVE} with their tree hashes, and takes
+     * multipart uploads, checking the hashes of each part. Counts the
+     * attempts of each chunk or part, and reports the bytes transferred to
+     * the request's listener as the client would.
+     */
+    private static class GlacierStandIn extends AmazonGlacierClient {
+        private final ConcurrentMap<Integer, AtomicInteger> attempts = new ConcurrentHashMap<Integer, AtomicInteger>();
+        private final AtomicInteger partsInFlight = new AtomicInteger();
+        private final AtomicInteger maxPartsInFlight = new AtomicInteger();
+        private final AtomicInteger partsUploaded = new AtomicInteger();
+        private final AtomicBoolean aborted = new AtomicBoolean();
+        private volatile long partSize;
+        private volatile String completedChecksum;
+        private volatile String completedArchiveSize;
+
+        GlacierStandIn() {
+            super(new BasicAWSCredentials("access", "secret"));
+        }
+
+        /**
+         * Returns the body to serve for the given try of the given chunk.
+         */
+        byte[] body(int chunk, int attempt, byte[] data) throws InterruptedException {
+            return data;
+        }
+
+        /**
+         * Called for the given try of the given part before it is read.
+         */
+        void uploadPart(int part, int attempt) throws InterruptedException {
+        }
+
+        int attempts(int chunkOrPart) {
+            AtomicInteger count = attempts.get(chunkOrPart);
+            return count == null ? 0 : count.get();
+        }
+
+        private int attempt(int chunkOrPart) {
+            attempts.putIfAbsent(chunkOrPart, new AtomicInteger());
+            return attempts.get(chunkOrPart).incrementAndGet();
+        }
+
+        @Override
+        public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+            partSize = Long.parseLong(request.getPartSize());
+            return new InitiateMultipartUploadResult().withUploadId("upload");
+        }
+
+        @Override
+        public UploadMultipartPartResult uploadMultipartPart(UploadMultipartPartRequest request) {
+            String range = request.getRange();
+            long start = Long.parseLong(range.substring("bytes ".length(), range.indexOf('-')));
+            int part = (int) (start / partSize);
+            int attempt = attempt(part);
+            int inFlight = partsInFlight.incrementAndGet();
+            int max;
+            while (inFlight > (max = maxPartsInFlight.get()) && !maxPartsInFlight.compareAndSet(max, inFlight)) {
+            }
+            try {
+                uploadPart(part, attempt);
+                MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+                String treeHash = TreeHashGenerator.calculateTreeHash(
+                        new DigestInputStream(request.getBody(), sha256));
+                assertEquals(treeHash, request.getChecksum());
+                assertEquals(BinaryUtils.toHex(sha256.digest()),
+                        request.getCustomRequestHeaders().get("x-amz-content-sha256"));
+                partsUploaded.incrementAndGet();
+                return new UploadMultipartPartResult().withChecksum(treeHash);
+            } catch (InterruptedException e) {
+                throw new AbortedException();
+            } catch (NoSuchAlgorithmException e) {
+                throw new AmazonClientException(e);
+            } finally {
+                partsInFlight.decrementAndGet();
+            }
+        }
+
+        @Override
+        public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            completedChecksum = request.getChecksum();
+            completedArchiveSize = request.getArchiveSize();
+            return new CompleteMultipartUploadResult().withArchiveId("archive");
+        }
+
+        @Override
+        public AbortMultipartUploadResult abortMultipartUpload(AbortMultipartUploadRequest request) {
+            aborted.set(true);
+            return new AbortMultipartUploadResult();
+        }
+
+        @Override
+        public DescribeJobResult describeJob(DescribeJobRequest request) {
+            return new DescribeJobResult().withArchiveSizeInBytes((long) ARCHIVE.length);
+        }
+
+        @Override
+        public GetJobOutputResult getJobOutput(GetJobOutputRequest request) {
+            String[] range = request.getRange().substring("bytes=".length()).split("-");
+            int start = Integer.parseInt(range[0]);
+            int end = Integer.parseInt(range[1]);
+            int chunk = start / MB;
+            int attempt = attempt(chunk);
+
+            byte[] data = Arrays.copyOfRange(ARCHIVE, start, end + 1);
+            byte[] body;
+            try {
+                body = body(chunk, attempt, data);
+            } catch (InterruptedException e) {
+                throw new AbortedException();
+            }
+            SDKProgressPublisher.publishResponseBytesTransferred(
+                    request.getGeneralProgressListener(), body.length);
+            return new GetJobOutputResult()
+                    .withBody(new ByteArrayInputStream(body))
+                    .withChecksum(TreeHashGenerator.calculateTreeHash(new ByteArrayInputStream(data)));
+        }
+    }
+
+    /**
+     * Records the events it receives, and whether it was ever called while
+     * another call was still in progress.
+     */
+    private static class RecordingListener extends SyncProgressListener {
+        private final List<ProgressEvent> events = new ArrayList<ProgressEvent>();
+        private final AtomicBoolean inProgress = new AtomicBoolean();
+        private final AtomicBoolean overlapped = new AtomicBoolean();
+
+        @Override
+        public void progressChanged(ProgressEvent progressEvent) {
+            if (!inProgress.compareAndSet(false, true)) {
+                overlapped.set(true);
+            }
+            try {
+                Thread.sleep(1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (events) {
+                events.add(progressEvent);
+            }
+            inProgress.set(false);
+        }
+
+        List<ProgressEventType> types() {
+            List<ProgressEventType> types = new ArrayList<ProgressEventType>();
+            synchronized (events) {
+                for (ProgressEvent event : events) {
+                    types.add(event.getEventType());
+                }
+            }
+            return types;
+        }
+
+        long bytes(ProgressEventType type) {
+            long bytes = 0;
+            synchronized (events) {
+                for (ProgressEvent event : events) {
+                    if (event.getEventType() == type) {
+                        bytes += event.getBytes();
+                    }
+                }
+            }
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.glacier.transfer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.amazonaws.services.glacier.TreeHashGenerator;
+import com.amazonaws.util.BinaryUtils;
+
+public class PartChecksumsTest {
+
+    private static final int MB = 1024 * 1024;
+
+    private static final byte[] DATA = new byte[3 * MB + 12345];
+
+    private static File file;
+
+    @BeforeClass
+    public static void setUp() throws IOException {
+        new Random(7).nextBytes(DATA);
+        file = File.createTempFile("part", ".tmp");
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(DATA);
+        } finally {
+            out.close();
+        }
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void checksumsOfWholeFile() throws Exception {
+        assertChecksums(0, DATA.length);
+    }
+
+    @Test
+    public void checksumsOfPartsAtAnyOffset() throws Exception {
+        assertChecksums(0, MB);
+        assertChecksums(MB, MB);
+        assertChecksums(2 * MB, DATA.length - 2 * MB);
+        assertChecksums(17, 2 * MB + 3);
+        assertChecksums(DATA.length - 1, 1);
+    }
+
+    @Test
+    public void partBeyondTheEndOfTheFileFails() throws Exception {
+        try {
+            PartChecksums.compute(file, DATA.length - MB, 2 * MB);
+            fail("Expected the end of the file to be reached");
+        } catch (EOFException expected) {
+        }
+    }
+
+    private static void assertChecksums(int position, int length) throws Exception {
+        byte[] part = Arrays.copyOfRange(DATA, position, position + length);
+        PartChecksums checksums = PartChecksums.compute(file, position, length);
+
+        assertEquals(TreeHashGenerator.calculateTreeHash(new ByteArrayInputStream(part)), checksums.getTreeHash());
+        assertEquals(BinaryUtils.toHex(MessageDigest.getInstance("SHA-256").digest(part)), checksums.getPayloadHash());
+    }
+}
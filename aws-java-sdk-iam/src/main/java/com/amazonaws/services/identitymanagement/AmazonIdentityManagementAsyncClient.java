@@ -15,6 +15,10 @@
 package com.amazonaws.services.identitymanagement;
 
 import com.amazonaws.services.identitymanagement.model.*;
+import com.amazonaws.services.identitymanagement.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -361,28 +365,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final AddClientIDToOpenIDConnectProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddClientIDToOpenIDConnectProviderRequest, AddClientIDToOpenIDConnectProviderResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddClientIDToOpenIDConnectProviderResult>() {
-                    @Override
-                    public AddClientIDToOpenIDConnectProviderResult call()
-                            throws Exception {
-                        AddClientIDToOpenIDConnectProviderResult result;
+        StaxResponseHandler<AddClientIDToOpenIDConnectProviderResult> responseHandler = new StaxResponseHandler<AddClientIDToOpenIDConnectProviderResult>(
+                new AddClientIDToOpenIDConnectProviderResultStaxUnmarshaller());
 
-                        try {
-                            result = addClientIDToOpenIDConnectProvider(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AddClientIDToOpenIDConnectProviderRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -397,28 +385,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final AddRoleToInstanceProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddRoleToInstanceProfileRequest, AddRoleToInstanceProfileResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddRoleToInstanceProfileResult>() {
-                    @Override
-                    public AddRoleToInstanceProfileResult call()
-                            throws Exception {
-                        AddRoleToInstanceProfileResult result;
-
-                        try {
-                            result = addRoleToInstanceProfile(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<AddRoleToInstanceProfileResult> responseHandler = new StaxResponseHandler<AddRoleToInstanceProfileResult>(
+                new AddRoleToInstanceProfileResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AddRoleToInstanceProfileRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -433,27 +405,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final AddUserToGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddUserToGroupRequest, AddUserToGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddUserToGroupResult>() {
-                    @Override
-                    public AddUserToGroupResult call() throws Exception {
-                        AddUserToGroupResult result;
+        StaxResponseHandler<AddUserToGroupResult> responseHandler = new StaxResponseHandler<AddUserToGroupResult>(
+                new AddUserToGroupResultStaxUnmarshaller());
 
-                        try {
-                            result = addUserToGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AddUserToGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -468,27 +424,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final AttachGroupPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachGroupPolicyRequest, AttachGroupPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AttachGroupPolicyResult>() {
-                    @Override
-                    public AttachGroupPolicyResult call() throws Exception {
-                        AttachGroupPolicyResult result;
-
-                        try {
-                            result = attachGroupPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<AttachGroupPolicyResult> responseHandler = new StaxResponseHandler<AttachGroupPolicyResult>(
+                new AttachGroupPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AttachGroupPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -503,27 +443,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final AttachRolePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachRolePolicyRequest, AttachRolePolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AttachRolePolicyResult>() {
-                    @Override
-                    public AttachRolePolicyResult call() throws Exception {
-                        AttachRolePolicyResult result;
+        StaxResponseHandler<AttachRolePolicyResult> responseHandler = new StaxResponseHandler<AttachRolePolicyResult>(
+                new AttachRolePolicyResultStaxUnmarshaller());
 
-                        try {
-                            result = attachRolePolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AttachRolePolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -538,27 +462,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final AttachUserPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachUserPolicyRequest, AttachUserPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AttachUserPolicyResult>() {
-                    @Override
-                    public AttachUserPolicyResult call() throws Exception {
-                        AttachUserPolicyResult result;
-
-                        try {
-                            result = attachUserPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<AttachUserPolicyResult> responseHandler = new StaxResponseHandler<AttachUserPolicyResult>(
+                new AttachUserPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AttachUserPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -573,27 +481,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ChangePasswordRequest request,
             final com.amazonaws.handlers.AsyncHandler<ChangePasswordRequest, ChangePasswordResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ChangePasswordResult>() {
-                    @Override
-                    public ChangePasswordResult call() throws Exception {
-                        ChangePasswordResult result;
+        StaxResponseHandler<ChangePasswordResult> responseHandler = new StaxResponseHandler<ChangePasswordResult>(
+                new ChangePasswordResultStaxUnmarshaller());
 
-                        try {
-                            result = changePassword(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ChangePasswordRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -608,27 +500,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateAccessKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAccessKeyRequest, CreateAccessKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateAccessKeyResult>() {
-                    @Override
-                    public CreateAccessKeyResult call() throws Exception {
-                        CreateAccessKeyResult result;
-
-                        try {
-                            result = createAccessKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateAccessKeyResult> responseHandler = new StaxResponseHandler<CreateAccessKeyResult>(
+                new CreateAccessKeyResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CreateAccessKeyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -667,27 +543,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateAccountAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAccountAliasRequest, CreateAccountAliasResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateAccountAliasResult>() {
-                    @Override
-                    public CreateAccountAliasResult call() throws Exception {
-                        CreateAccountAliasResult result;
+        StaxResponseHandler<CreateAccountAliasResult> responseHandler = new StaxResponseHandler<CreateAccountAliasResult>(
+                new CreateAccountAliasResultStaxUnmarshaller());
 
-                        try {
-                            result = createAccountAlias(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateAccountAliasRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -702,27 +562,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateGroupRequest, CreateGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateGroupResult>() {
-                    @Override
-                    public CreateGroupResult call() throws Exception {
-                        CreateGroupResult result;
-
-                        try {
-                            result = createGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateGroupResult> responseHandler = new StaxResponseHandler<CreateGroupResult>(
+                new CreateGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -737,27 +581,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateInstanceProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateInstanceProfileRequest, CreateInstanceProfileResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateInstanceProfileResult>() {
-                    @Override
-                    public CreateInstanceProfileResult call() throws Exception {
-                        CreateInstanceProfileResult result;
+        StaxResponseHandler<CreateInstanceProfileResult> responseHandler = new StaxResponseHandler<CreateInstanceProfileResult>(
+                new CreateInstanceProfileResultStaxUnmarshaller());
 
-                        try {
-                            result = createInstanceProfile(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateInstanceProfileRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -772,27 +601,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateLoginProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLoginProfileRequest, CreateLoginProfileResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateLoginProfileResult>() {
-                    @Override
-                    public CreateLoginProfileResult call() throws Exception {
-                        CreateLoginProfileResult result;
-
-                        try {
-                            result = createLoginProfile(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateLoginProfileResult> responseHandler = new StaxResponseHandler<CreateLoginProfileResult>(
+                new CreateLoginProfileResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateLoginProfileRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -807,28 +620,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateOpenIDConnectProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateOpenIDConnectProviderRequest, CreateOpenIDConnectProviderResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateOpenIDConnectProviderResult>() {
-                    @Override
-                    public CreateOpenIDConnectProviderResult call()
-                            throws Exception {
-                        CreateOpenIDConnectProviderResult result;
+        StaxResponseHandler<CreateOpenIDConnectProviderResult> responseHandler = new StaxResponseHandler<CreateOpenIDConnectProviderResult>(
+                new CreateOpenIDConnectProviderResultStaxUnmarshaller());
 
-                        try {
-                            result = createOpenIDConnectProvider(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateOpenIDConnectProviderRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -843,27 +640,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreatePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePolicyRequest, CreatePolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreatePolicyResult>() {
-                    @Override
-                    public CreatePolicyResult call() throws Exception {
-                        CreatePolicyResult result;
-
-                        try {
-                            result = createPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreatePolicyResult> responseHandler = new StaxResponseHandler<CreatePolicyResult>(
+                new CreatePolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreatePolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -878,27 +659,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreatePolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePolicyVersionRequest, CreatePolicyVersionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreatePolicyVersionResult>() {
-                    @Override
-                    public CreatePolicyVersionResult call() throws Exception {
-                        CreatePolicyVersionResult result;
-
-                        try {
-                            result = createPolicyVersion(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreatePolicyVersionResult> responseHandler = new StaxResponseHandler<CreatePolicyVersionResult>(
+                new CreatePolicyVersionResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreatePolicyVersionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -913,27 +678,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateRoleRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRoleRequest, CreateRoleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateRoleResult>() {
-                    @Override
-                    public CreateRoleResult call() throws Exception {
-                        CreateRoleResult result;
+        StaxResponseHandler<CreateRoleResult> responseHandler = new StaxResponseHandler<CreateRoleResult>(
+                new CreateRoleResultStaxUnmarshaller());
 
-                        try {
-                            result = createRole(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateRoleRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -948,27 +697,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateSAMLProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSAMLProviderRequest, CreateSAMLProviderResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateSAMLProviderResult>() {
-                    @Override
-                    public CreateSAMLProviderResult call() throws Exception {
-                        CreateSAMLProviderResult result;
-
-                        try {
-                            result = createSAMLProvider(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateSAMLProviderResult> responseHandler = new StaxResponseHandler<CreateSAMLProviderResult>(
+                new CreateSAMLProviderResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateSAMLProviderRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -983,27 +716,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateUserRequest, CreateUserResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateUserResult>() {
-                    @Override
-                    public CreateUserResult call() throws Exception {
-                        CreateUserResult result;
+        StaxResponseHandler<CreateUserResult> responseHandler = new StaxResponseHandler<CreateUserResult>(
+                new CreateUserResultStaxUnmarshaller());
 
-                        try {
-                            result = createUser(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateUserRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1018,27 +735,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final CreateVirtualMFADeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateVirtualMFADeviceRequest, CreateVirtualMFADeviceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateVirtualMFADeviceResult>() {
-                    @Override
-                    public CreateVirtualMFADeviceResult call() throws Exception {
-                        CreateVirtualMFADeviceResult result;
-
-                        try {
-                            result = createVirtualMFADevice(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateVirtualMFADeviceResult> responseHandler = new StaxResponseHandler<CreateVirtualMFADeviceResult>(
+                new CreateVirtualMFADeviceResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateVirtualMFADeviceRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1053,27 +755,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeactivateMFADeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeactivateMFADeviceRequest, DeactivateMFADeviceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeactivateMFADeviceResult>() {
-                    @Override
-                    public DeactivateMFADeviceResult call() throws Exception {
-                        DeactivateMFADeviceResult result;
+        StaxResponseHandler<DeactivateMFADeviceResult> responseHandler = new StaxResponseHandler<DeactivateMFADeviceResult>(
+                new DeactivateMFADeviceResultStaxUnmarshaller());
 
-                        try {
-                            result = deactivateMFADevice(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeactivateMFADeviceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1088,27 +774,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteAccessKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAccessKeyRequest, DeleteAccessKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteAccessKeyResult>() {
-                    @Override
-                    public DeleteAccessKeyResult call() throws Exception {
-                        DeleteAccessKeyResult result;
-
-                        try {
-                            result = deleteAccessKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteAccessKeyResult> responseHandler = new StaxResponseHandler<DeleteAccessKeyResult>(
+                new DeleteAccessKeyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteAccessKeyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1123,27 +793,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteAccountAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAccountAliasRequest, DeleteAccountAliasResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteAccountAliasResult>() {
-                    @Override
-                    public DeleteAccountAliasResult call() throws Exception {
-                        DeleteAccountAliasResult result;
-
-                        try {
-                            result = deleteAccountAlias(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteAccountAliasResult> responseHandler = new StaxResponseHandler<DeleteAccountAliasResult>(
+                new DeleteAccountAliasResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteAccountAliasRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1158,28 +812,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteAccountPasswordPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAccountPasswordPolicyRequest, DeleteAccountPasswordPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteAccountPasswordPolicyResult>() {
-                    @Override
-                    public DeleteAccountPasswordPolicyResult call()
-                            throws Exception {
-                        DeleteAccountPasswordPolicyResult result;
-
-                        try {
-                            result = deleteAccountPasswordPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteAccountPasswordPolicyResult> responseHandler = new StaxResponseHandler<DeleteAccountPasswordPolicyResult>(
+                new DeleteAccountPasswordPolicyResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeleteAccountPasswordPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1220,27 +858,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteGroupRequest, DeleteGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteGroupResult>() {
-                    @Override
-                    public DeleteGroupResult call() throws Exception {
-                        DeleteGroupResult result;
-
-                        try {
-                            result = deleteGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteGroupResult> responseHandler = new StaxResponseHandler<DeleteGroupResult>(
+                new DeleteGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1255,27 +877,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteGroupPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteGroupPolicyRequest, DeleteGroupPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteGroupPolicyResult>() {
-                    @Override
-                    public DeleteGroupPolicyResult call() throws Exception {
-                        DeleteGroupPolicyResult result;
+        StaxResponseHandler<DeleteGroupPolicyResult> responseHandler = new StaxResponseHandler<DeleteGroupPolicyResult>(
+                new DeleteGroupPolicyResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteGroupPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteGroupPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1290,27 +896,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteInstanceProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteInstanceProfileRequest, DeleteInstanceProfileResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteInstanceProfileResult>() {
-                    @Override
-                    public DeleteInstanceProfileResult call() throws Exception {
-                        DeleteInstanceProfileResult result;
-
-                        try {
-                            result = deleteInstanceProfile(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteInstanceProfileResult> responseHandler = new StaxResponseHandler<DeleteInstanceProfileResult>(
+                new DeleteInstanceProfileResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteInstanceProfileRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1325,27 +916,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteLoginProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLoginProfileRequest, DeleteLoginProfileResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteLoginProfileResult>() {
-                    @Override
-                    public DeleteLoginProfileResult call() throws Exception {
-                        DeleteLoginProfileResult result;
+        StaxResponseHandler<DeleteLoginProfileResult> responseHandler = new StaxResponseHandler<DeleteLoginProfileResult>(
+                new DeleteLoginProfileResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteLoginProfile(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteLoginProfileRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1360,28 +935,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteOpenIDConnectProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteOpenIDConnectProviderRequest, DeleteOpenIDConnectProviderResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteOpenIDConnectProviderResult>() {
-                    @Override
-                    public DeleteOpenIDConnectProviderResult call()
-                            throws Exception {
-                        DeleteOpenIDConnectProviderResult result;
-
-                        try {
-                            result = deleteOpenIDConnectProvider(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteOpenIDConnectProviderResult> responseHandler = new StaxResponseHandler<DeleteOpenIDConnectProviderResult>(
+                new DeleteOpenIDConnectProviderResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteOpenIDConnectProviderRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1396,27 +955,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeletePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePolicyRequest, DeletePolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeletePolicyResult>() {
-                    @Override
-                    public DeletePolicyResult call() throws Exception {
-                        DeletePolicyResult result;
-
-                        try {
-                            result = deletePolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeletePolicyResult> responseHandler = new StaxResponseHandler<DeletePolicyResult>(
+                new DeletePolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeletePolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1431,27 +974,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeletePolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePolicyVersionRequest, DeletePolicyVersionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeletePolicyVersionResult>() {
-                    @Override
-                    public DeletePolicyVersionResult call() throws Exception {
-                        DeletePolicyVersionResult result;
+        StaxResponseHandler<DeletePolicyVersionResult> responseHandler = new StaxResponseHandler<DeletePolicyVersionResult>(
+                new DeletePolicyVersionResultStaxUnmarshaller());
 
-                        try {
-                            result = deletePolicyVersion(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeletePolicyVersionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1466,27 +993,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteRoleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRoleRequest, DeleteRoleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteRoleResult>() {
-                    @Override
-                    public DeleteRoleResult call() throws Exception {
-                        DeleteRoleResult result;
-
-                        try {
-                            result = deleteRole(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteRoleResult> responseHandler = new StaxResponseHandler<DeleteRoleResult>(
+                new DeleteRoleResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteRoleRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1501,27 +1012,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteRolePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRolePolicyRequest, DeleteRolePolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteRolePolicyResult>() {
-                    @Override
-                    public DeleteRolePolicyResult call() throws Exception {
-                        DeleteRolePolicyResult result;
+        StaxResponseHandler<DeleteRolePolicyResult> responseHandler = new StaxResponseHandler<DeleteRolePolicyResult>(
+                new DeleteRolePolicyResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteRolePolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteRolePolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1536,27 +1031,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteSAMLProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSAMLProviderRequest, DeleteSAMLProviderResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteSAMLProviderResult>() {
-                    @Override
-                    public DeleteSAMLProviderResult call() throws Exception {
-                        DeleteSAMLProviderResult result;
-
-                        try {
-                            result = deleteSAMLProvider(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteSAMLProviderResult> responseHandler = new StaxResponseHandler<DeleteSAMLProviderResult>(
+                new DeleteSAMLProviderResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteSAMLProviderRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1571,27 +1050,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteSSHPublicKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSSHPublicKeyRequest, DeleteSSHPublicKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteSSHPublicKeyResult>() {
-                    @Override
-                    public DeleteSSHPublicKeyResult call() throws Exception {
-                        DeleteSSHPublicKeyResult result;
+        StaxResponseHandler<DeleteSSHPublicKeyResult> responseHandler = new StaxResponseHandler<DeleteSSHPublicKeyResult>(
+                new DeleteSSHPublicKeyResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteSSHPublicKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteSSHPublicKeyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1606,28 +1069,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteServerCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteServerCertificateRequest, DeleteServerCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteServerCertificateResult>() {
-                    @Override
-                    public DeleteServerCertificateResult call()
-                            throws Exception {
-                        DeleteServerCertificateResult result;
-
-                        try {
-                            result = deleteServerCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteServerCertificateResult> responseHandler = new StaxResponseHandler<DeleteServerCertificateResult>(
+                new DeleteServerCertificateResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteServerCertificateRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1642,28 +1089,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteSigningCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSigningCertificateRequest, DeleteSigningCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteSigningCertificateResult>() {
-                    @Override
-                    public DeleteSigningCertificateResult call()
-                            throws Exception {
-                        DeleteSigningCertificateResult result;
-
-                        try {
-                            result = deleteSigningCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteSigningCertificateResult> responseHandler = new StaxResponseHandler<DeleteSigningCertificateResult>(
+                new DeleteSigningCertificateResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteSigningCertificateRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1678,27 +1109,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteUserRequest, DeleteUserResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteUserResult>() {
-                    @Override
-                    public DeleteUserResult call() throws Exception {
-                        DeleteUserResult result;
+        StaxResponseHandler<DeleteUserResult> responseHandler = new StaxResponseHandler<DeleteUserResult>(
+                new DeleteUserResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteUser(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteUserRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1713,27 +1128,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteUserPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteUserPolicyRequest, DeleteUserPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteUserPolicyResult>() {
-                    @Override
-                    public DeleteUserPolicyResult call() throws Exception {
-                        DeleteUserPolicyResult result;
-
-                        try {
-                            result = deleteUserPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteUserPolicyResult> responseHandler = new StaxResponseHandler<DeleteUserPolicyResult>(
+                new DeleteUserPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteUserPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1748,27 +1147,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final DeleteVirtualMFADeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVirtualMFADeviceRequest, DeleteVirtualMFADeviceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteVirtualMFADeviceResult>() {
-                    @Override
-                    public DeleteVirtualMFADeviceResult call() throws Exception {
-                        DeleteVirtualMFADeviceResult result;
+        StaxResponseHandler<DeleteVirtualMFADeviceResult> responseHandler = new StaxResponseHandler<DeleteVirtualMFADeviceResult>(
+                new DeleteVirtualMFADeviceResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteVirtualMFADevice(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteVirtualMFADeviceRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1783,27 +1167,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DetachGroupPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachGroupPolicyRequest, DetachGroupPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DetachGroupPolicyResult>() {
-                    @Override
-                    public DetachGroupPolicyResult call() throws Exception {
-                        DetachGroupPolicyResult result;
-
-                        try {
-                            result = detachGroupPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DetachGroupPolicyResult> responseHandler = new StaxResponseHandler<DetachGroupPolicyResult>(
+                new DetachGroupPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DetachGroupPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1818,27 +1186,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DetachRolePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachRolePolicyRequest, DetachRolePolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DetachRolePolicyResult>() {
-                    @Override
-                    public DetachRolePolicyResult call() throws Exception {
-                        DetachRolePolicyResult result;
+        StaxResponseHandler<DetachRolePolicyResult> responseHandler = new StaxResponseHandler<DetachRolePolicyResult>(
+                new DetachRolePolicyResultStaxUnmarshaller());
 
-                        try {
-                            result = detachRolePolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DetachRolePolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1853,27 +1205,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final DetachUserPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachUserPolicyRequest, DetachUserPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DetachUserPolicyResult>() {
-                    @Override
-                    public DetachUserPolicyResult call() throws Exception {
-                        DetachUserPolicyResult result;
-
-                        try {
-                            result = detachUserPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DetachUserPolicyResult> responseHandler = new StaxResponseHandler<DetachUserPolicyResult>(
+                new DetachUserPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DetachUserPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1888,27 +1224,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final EnableMFADeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableMFADeviceRequest, EnableMFADeviceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableMFADeviceResult>() {
-                    @Override
-                    public EnableMFADeviceResult call() throws Exception {
-                        EnableMFADeviceResult result;
-
-                        try {
-                            result = enableMFADevice(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<EnableMFADeviceResult> responseHandler = new StaxResponseHandler<EnableMFADeviceResult>(
+                new EnableMFADeviceResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new EnableMFADeviceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1923,28 +1243,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final GenerateCredentialReportRequest request,
             final com.amazonaws.handlers.AsyncHandler<GenerateCredentialReportRequest, GenerateCredentialReportResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GenerateCredentialReportResult>() {
-                    @Override
-                    public GenerateCredentialReportResult call()
-                            throws Exception {
-                        GenerateCredentialReportResult result;
-
-                        try {
-                            result = generateCredentialReport(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GenerateCredentialReportResult> responseHandler = new StaxResponseHandler<GenerateCredentialReportResult>(
+                new GenerateCredentialReportResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new GenerateCredentialReportRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1985,27 +1289,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetAccessKeyLastUsedRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAccessKeyLastUsedRequest, GetAccessKeyLastUsedResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetAccessKeyLastUsedResult>() {
-                    @Override
-                    public GetAccessKeyLastUsedResult call() throws Exception {
-                        GetAccessKeyLastUsedResult result;
-
-                        try {
-                            result = getAccessKeyLastUsed(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetAccessKeyLastUsedResult> responseHandler = new StaxResponseHandler<GetAccessKeyLastUsedResult>(
+                new GetAccessKeyLastUsedResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetAccessKeyLastUsedRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -2020,28 +1309,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetAccountAuthorizationDetailsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAccountAuthorizationDetailsRequest, GetAccountAuthorizationDetailsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetAccountAuthorizationDetailsResult>() {
-                    @Override
-                    public GetAccountAuthorizationDetailsResult call()
-                            throws Exception {
-                        GetAccountAuthorizationDetailsResult result;
-
-                        try {
-                            result = getAccountAuthorizationDetails(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetAccountAuthorizationDetailsResult> responseHandler = new StaxResponseHandler<GetAccountAuthorizationDetailsResult>(
+                new GetAccountAuthorizationDetailsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetAccountAuthorizationDetailsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2082,28 +1355,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetAccountPasswordPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAccountPasswordPolicyRequest, GetAccountPasswordPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetAccountPasswordPolicyResult>() {
-                    @Override
-                    public GetAccountPasswordPolicyResult call()
-                            throws Exception {
-                        GetAccountPasswordPolicyResult result;
-
-                        try {
-                            result = getAccountPasswordPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetAccountPasswordPolicyResult> responseHandler = new StaxResponseHandler<GetAccountPasswordPolicyResult>(
+                new GetAccountPasswordPolicyResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetAccountPasswordPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2144,27 +1401,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetAccountSummaryRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAccountSummaryRequest, GetAccountSummaryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetAccountSummaryResult>() {
-                    @Override
-                    public GetAccountSummaryResult call() throws Exception {
-                        GetAccountSummaryResult result;
-
-                        try {
-                            result = getAccountSummary(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetAccountSummaryResult> responseHandler = new StaxResponseHandler<GetAccountSummaryResult>(
+                new GetAccountSummaryResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetAccountSummaryRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2204,28 +1445,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetContextKeysForCustomPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetContextKeysForCustomPolicyRequest, GetContextKeysForCustomPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetContextKeysForCustomPolicyResult>() {
-                    @Override
-                    public GetContextKeysForCustomPolicyResult call()
-                            throws Exception {
-                        GetContextKeysForCustomPolicyResult result;
-
-                        try {
-                            result = getContextKeysForCustomPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetContextKeysForCustomPolicyResult> responseHandler = new StaxResponseHandler<GetContextKeysForCustomPolicyResult>(
+                new GetContextKeysForCustomPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetContextKeysForCustomPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2240,28 +1465,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetContextKeysForPrincipalPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetContextKeysForPrincipalPolicyRequest, GetContextKeysForPrincipalPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetContextKeysForPrincipalPolicyResult>() {
-                    @Override
-                    public GetContextKeysForPrincipalPolicyResult call()
-                            throws Exception {
-                        GetContextKeysForPrincipalPolicyResult result;
-
-                        try {
-                            result = getContextKeysForPrincipalPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetContextKeysForPrincipalPolicyResult> responseHandler = new StaxResponseHandler<GetContextKeysForPrincipalPolicyResult>(
+                new GetContextKeysForPrincipalPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetContextKeysForPrincipalPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2276,27 +1485,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetCredentialReportRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCredentialReportRequest, GetCredentialReportResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetCredentialReportResult>() {
-                    @Override
-                    public GetCredentialReportResult call() throws Exception {
-                        GetCredentialReportResult result;
-
-                        try {
-                            result = getCredentialReport(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetCredentialReportResult> responseHandler = new StaxResponseHandler<GetCredentialReportResult>(
+                new GetCredentialReportResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetCredentialReportRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2336,27 +1529,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetGroupRequest, GetGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetGroupResult>() {
-                    @Override
-                    public GetGroupResult call() throws Exception {
-                        GetGroupResult result;
-
-                        try {
-                            result = getGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetGroupResult> responseHandler = new StaxResponseHandler<GetGroupResult>(
+                new GetGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2371,27 +1548,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetGroupPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetGroupPolicyRequest, GetGroupPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetGroupPolicyResult>() {
-                    @Override
-                    public GetGroupPolicyResult call() throws Exception {
-                        GetGroupPolicyResult result;
+        StaxResponseHandler<GetGroupPolicyResult> responseHandler = new StaxResponseHandler<GetGroupPolicyResult>(
+                new GetGroupPolicyResultStaxUnmarshaller());
 
-                        try {
-                            result = getGroupPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetGroupPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2406,27 +1567,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetInstanceProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetInstanceProfileRequest, GetInstanceProfileResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetInstanceProfileResult>() {
-                    @Override
-                    public GetInstanceProfileResult call() throws Exception {
-                        GetInstanceProfileResult result;
-
-                        try {
-                            result = getInstanceProfile(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetInstanceProfileResult> responseHandler = new StaxResponseHandler<GetInstanceProfileResult>(
+                new GetInstanceProfileResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetInstanceProfileRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2441,27 +1586,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetLoginProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetLoginProfileRequest, GetLoginProfileResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetLoginProfileResult>() {
-                    @Override
-                    public GetLoginProfileResult call() throws Exception {
-                        GetLoginProfileResult result;
+        StaxResponseHandler<GetLoginProfileResult> responseHandler = new StaxResponseHandler<GetLoginProfileResult>(
+                new GetLoginProfileResultStaxUnmarshaller());
 
-                        try {
-                            result = getLoginProfile(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetLoginProfileRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2476,28 +1605,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetOpenIDConnectProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetOpenIDConnectProviderRequest, GetOpenIDConnectProviderResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetOpenIDConnectProviderResult>() {
-                    @Override
-                    public GetOpenIDConnectProviderResult call()
-                            throws Exception {
-                        GetOpenIDConnectProviderResult result;
-
-                        try {
-                            result = getOpenIDConnectProvider(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetOpenIDConnectProviderResult> responseHandler = new StaxResponseHandler<GetOpenIDConnectProviderResult>(
+                new GetOpenIDConnectProviderResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetOpenIDConnectProviderRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2512,27 +1625,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPolicyRequest, GetPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetPolicyResult>() {
-                    @Override
-                    public GetPolicyResult call() throws Exception {
-                        GetPolicyResult result;
-
-                        try {
-                            result = getPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetPolicyResult> responseHandler = new StaxResponseHandler<GetPolicyResult>(
+                new GetPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2547,27 +1644,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetPolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPolicyVersionRequest, GetPolicyVersionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetPolicyVersionResult>() {
-                    @Override
-                    public GetPolicyVersionResult call() throws Exception {
-                        GetPolicyVersionResult result;
+        StaxResponseHandler<GetPolicyVersionResult> responseHandler = new StaxResponseHandler<GetPolicyVersionResult>(
+                new GetPolicyVersionResultStaxUnmarshaller());
 
-                        try {
-                            result = getPolicyVersion(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetPolicyVersionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2582,27 +1663,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetRoleRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRoleRequest, GetRoleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetRoleResult>() {
-                    @Override
-                    public GetRoleResult call() throws Exception {
-                        GetRoleResult result;
-
-                        try {
-                            result = getRole(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetRoleResult> responseHandler = new StaxResponseHandler<GetRoleResult>(
+                new GetRoleResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetRoleRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2617,27 +1682,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetRolePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRolePolicyRequest, GetRolePolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetRolePolicyResult>() {
-                    @Override
-                    public GetRolePolicyResult call() throws Exception {
-                        GetRolePolicyResult result;
+        StaxResponseHandler<GetRolePolicyResult> responseHandler = new StaxResponseHandler<GetRolePolicyResult>(
+                new GetRolePolicyResultStaxUnmarshaller());
 
-                        try {
-                            result = getRolePolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetRolePolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2652,27 +1701,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetSAMLProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSAMLProviderRequest, GetSAMLProviderResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetSAMLProviderResult>() {
-                    @Override
-                    public GetSAMLProviderResult call() throws Exception {
-                        GetSAMLProviderResult result;
-
-                        try {
-                            result = getSAMLProvider(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetSAMLProviderResult> responseHandler = new StaxResponseHandler<GetSAMLProviderResult>(
+                new GetSAMLProviderResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetSAMLProviderRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2687,27 +1720,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetSSHPublicKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSSHPublicKeyRequest, GetSSHPublicKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetSSHPublicKeyResult>() {
-                    @Override
-                    public GetSSHPublicKeyResult call() throws Exception {
-                        GetSSHPublicKeyResult result;
+        StaxResponseHandler<GetSSHPublicKeyResult> responseHandler = new StaxResponseHandler<GetSSHPublicKeyResult>(
+                new GetSSHPublicKeyResultStaxUnmarshaller());
 
-                        try {
-                            result = getSSHPublicKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetSSHPublicKeyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2722,27 +1739,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetServerCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetServerCertificateRequest, GetServerCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetServerCertificateResult>() {
-                    @Override
-                    public GetServerCertificateResult call() throws Exception {
-                        GetServerCertificateResult result;
-
-                        try {
-                            result = getServerCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetServerCertificateResult> responseHandler = new StaxResponseHandler<GetServerCertificateResult>(
+                new GetServerCertificateResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetServerCertificateRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -2757,27 +1759,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetUserRequest, GetUserResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetUserResult>() {
-                    @Override
-                    public GetUserResult call() throws Exception {
-                        GetUserResult result;
-
-                        try {
-                            result = getUser(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetUserResult> responseHandler = new StaxResponseHandler<GetUserResult>(
+                new GetUserResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetUserRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2815,27 +1801,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final GetUserPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetUserPolicyRequest, GetUserPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetUserPolicyResult>() {
-                    @Override
-                    public GetUserPolicyResult call() throws Exception {
-                        GetUserPolicyResult result;
+        StaxResponseHandler<GetUserPolicyResult> responseHandler = new StaxResponseHandler<GetUserPolicyResult>(
+                new GetUserPolicyResultStaxUnmarshaller());
 
-                        try {
-                            result = getUserPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetUserPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2850,27 +1820,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListAccessKeysRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAccessKeysRequest, ListAccessKeysResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListAccessKeysResult>() {
-                    @Override
-                    public ListAccessKeysResult call() throws Exception {
-                        ListAccessKeysResult result;
-
-                        try {
-                            result = listAccessKeys(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListAccessKeysResult> responseHandler = new StaxResponseHandler<ListAccessKeysResult>(
+                new ListAccessKeysResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListAccessKeysRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2909,27 +1863,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListAccountAliasesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAccountAliasesRequest, ListAccountAliasesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListAccountAliasesResult>() {
-                    @Override
-                    public ListAccountAliasesResult call() throws Exception {
-                        ListAccountAliasesResult result;
-
-                        try {
-                            result = listAccountAliases(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListAccountAliasesResult> responseHandler = new StaxResponseHandler<ListAccountAliasesResult>(
+                new ListAccountAliasesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListAccountAliasesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2969,28 +1907,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListAttachedGroupPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAttachedGroupPoliciesRequest, ListAttachedGroupPoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListAttachedGroupPoliciesResult>() {
-                    @Override
-                    public ListAttachedGroupPoliciesResult call()
-                            throws Exception {
-                        ListAttachedGroupPoliciesResult result;
-
-                        try {
-                            result = listAttachedGroupPolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ListAttachedGroupPoliciesResult> responseHandler = new StaxResponseHandler<ListAttachedGroupPoliciesResult>(
+                new ListAttachedGroupPoliciesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListAttachedGroupPoliciesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3005,28 +1927,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListAttachedRolePoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAttachedRolePoliciesRequest, ListAttachedRolePoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListAttachedRolePoliciesResult>() {
-                    @Override
-                    public ListAttachedRolePoliciesResult call()
-                            throws Exception {
-                        ListAttachedRolePoliciesResult result;
+        StaxResponseHandler<ListAttachedRolePoliciesResult> responseHandler = new StaxResponseHandler<ListAttachedRolePoliciesResult>(
+                new ListAttachedRolePoliciesResultStaxUnmarshaller());
 
-                        try {
-                            result = listAttachedRolePolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListAttachedRolePoliciesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3041,28 +1947,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListAttachedUserPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAttachedUserPoliciesRequest, ListAttachedUserPoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListAttachedUserPoliciesResult>() {
-                    @Override
-                    public ListAttachedUserPoliciesResult call()
-                            throws Exception {
-                        ListAttachedUserPoliciesResult result;
-
-                        try {
-                            result = listAttachedUserPolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ListAttachedUserPoliciesResult> responseHandler = new StaxResponseHandler<ListAttachedUserPoliciesResult>(
+                new ListAttachedUserPoliciesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListAttachedUserPoliciesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3077,27 +1967,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListEntitiesForPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListEntitiesForPolicyRequest, ListEntitiesForPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListEntitiesForPolicyResult>() {
-                    @Override
-                    public ListEntitiesForPolicyResult call() throws Exception {
-                        ListEntitiesForPolicyResult result;
-
-                        try {
-                            result = listEntitiesForPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ListEntitiesForPolicyResult> responseHandler = new StaxResponseHandler<ListEntitiesForPolicyResult>(
+                new ListEntitiesForPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListEntitiesForPolicyRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -3112,27 +1987,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListGroupPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListGroupPoliciesRequest, ListGroupPoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListGroupPoliciesResult>() {
-                    @Override
-                    public ListGroupPoliciesResult call() throws Exception {
-                        ListGroupPoliciesResult result;
+        StaxResponseHandler<ListGroupPoliciesResult> responseHandler = new StaxResponseHandler<ListGroupPoliciesResult>(
+                new ListGroupPoliciesResultStaxUnmarshaller());
 
-                        try {
-                            result = listGroupPolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListGroupPoliciesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3147,27 +2006,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListGroupsRequest, ListGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListGroupsResult>() {
-                    @Override
-                    public ListGroupsResult call() throws Exception {
-                        ListGroupsResult result;
-
-                        try {
-                            result = listGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListGroupsResult> responseHandler = new StaxResponseHandler<ListGroupsResult>(
+                new ListGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3206,27 +2049,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListGroupsForUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListGroupsForUserRequest, ListGroupsForUserResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListGroupsForUserResult>() {
-                    @Override
-                    public ListGroupsForUserResult call() throws Exception {
-                        ListGroupsForUserResult result;
+        StaxResponseHandler<ListGroupsForUserResult> responseHandler = new StaxResponseHandler<ListGroupsForUserResult>(
+                new ListGroupsForUserResultStaxUnmarshaller());
 
-                        try {
-                            result = listGroupsForUser(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListGroupsForUserRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3241,27 +2068,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListInstanceProfilesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListInstanceProfilesRequest, ListInstanceProfilesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListInstanceProfilesResult>() {
-                    @Override
-                    public ListInstanceProfilesResult call() throws Exception {
-                        ListInstanceProfilesResult result;
-
-                        try {
-                            result = listInstanceProfiles(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListInstanceProfilesResult> responseHandler = new StaxResponseHandler<ListInstanceProfilesResult>(
+                new ListInstanceProfilesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListInstanceProfilesRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -3301,28 +2113,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListInstanceProfilesForRoleRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListInstanceProfilesForRoleRequest, ListInstanceProfilesForRoleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListInstanceProfilesForRoleResult>() {
-                    @Override
-                    public ListInstanceProfilesForRoleResult call()
-                            throws Exception {
-                        ListInstanceProfilesForRoleResult result;
+        StaxResponseHandler<ListInstanceProfilesForRoleResult> responseHandler = new StaxResponseHandler<ListInstanceProfilesForRoleResult>(
+                new ListInstanceProfilesForRoleResultStaxUnmarshaller());
 
-                        try {
-                            result = listInstanceProfilesForRole(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListInstanceProfilesForRoleRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3337,27 +2133,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListMFADevicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListMFADevicesRequest, ListMFADevicesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListMFADevicesResult>() {
-                    @Override
-                    public ListMFADevicesResult call() throws Exception {
-                        ListMFADevicesResult result;
-
-                        try {
-                            result = listMFADevices(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListMFADevicesResult> responseHandler = new StaxResponseHandler<ListMFADevicesResult>(
+                new ListMFADevicesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListMFADevicesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3396,28 +2176,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListOpenIDConnectProvidersRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListOpenIDConnectProvidersRequest, ListOpenIDConnectProvidersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListOpenIDConnectProvidersResult>() {
-                    @Override
-                    public ListOpenIDConnectProvidersResult call()
-                            throws Exception {
-                        ListOpenIDConnectProvidersResult result;
-
-                        try {
-                            result = listOpenIDConnectProviders(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListOpenIDConnectProvidersResult> responseHandler = new StaxResponseHandler<ListOpenIDConnectProvidersResult>(
+                new ListOpenIDConnectProvidersResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListOpenIDConnectProvidersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3458,27 +2222,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPoliciesRequest, ListPoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListPoliciesResult>() {
-                    @Override
-                    public ListPoliciesResult call() throws Exception {
-                        ListPoliciesResult result;
-
-                        try {
-                            result = listPolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListPoliciesResult> responseHandler = new StaxResponseHandler<ListPoliciesResult>(
+                new ListPoliciesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListPoliciesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3517,27 +2265,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListPolicyVersionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPolicyVersionsRequest, ListPolicyVersionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListPolicyVersionsResult>() {
-                    @Override
-                    public ListPolicyVersionsResult call() throws Exception {
-                        ListPolicyVersionsResult result;
-
-                        try {
-                            result = listPolicyVersions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ListPolicyVersionsResult> responseHandler = new StaxResponseHandler<ListPolicyVersionsResult>(
+                new ListPolicyVersionsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListPolicyVersionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3552,27 +2284,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListRolePoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRolePoliciesRequest, ListRolePoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListRolePoliciesResult>() {
-                    @Override
-                    public ListRolePoliciesResult call() throws Exception {
-                        ListRolePoliciesResult result;
+        StaxResponseHandler<ListRolePoliciesResult> responseHandler = new StaxResponseHandler<ListRolePoliciesResult>(
+                new ListRolePoliciesResultStaxUnmarshaller());
 
-                        try {
-                            result = listRolePolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListRolePoliciesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3587,27 +2303,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListRolesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRolesRequest, ListRolesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListRolesResult>() {
-                    @Override
-                    public ListRolesResult call() throws Exception {
-                        ListRolesResult result;
-
-                        try {
-                            result = listRoles(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListRolesResult> responseHandler = new StaxResponseHandler<ListRolesResult>(
+                new ListRolesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListRolesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3646,27 +2346,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListSAMLProvidersRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSAMLProvidersRequest, ListSAMLProvidersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListSAMLProvidersResult>() {
-                    @Override
-                    public ListSAMLProvidersResult call() throws Exception {
-                        ListSAMLProvidersResult result;
-
-                        try {
-                            result = listSAMLProviders(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListSAMLProvidersResult> responseHandler = new StaxResponseHandler<ListSAMLProvidersResult>(
+                new ListSAMLProvidersResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListSAMLProvidersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3706,27 +2390,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListSSHPublicKeysRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSSHPublicKeysRequest, ListSSHPublicKeysResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListSSHPublicKeysResult>() {
-                    @Override
-                    public ListSSHPublicKeysResult call() throws Exception {
-                        ListSSHPublicKeysResult result;
-
-                        try {
-                            result = listSSHPublicKeys(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListSSHPublicKeysResult> responseHandler = new StaxResponseHandler<ListSSHPublicKeysResult>(
+                new ListSSHPublicKeysResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListSSHPublicKeysRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3766,27 +2434,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListServerCertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListServerCertificatesRequest, ListServerCertificatesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListServerCertificatesResult>() {
-                    @Override
-                    public ListServerCertificatesResult call() throws Exception {
-                        ListServerCertificatesResult result;
-
-                        try {
-                            result = listServerCertificates(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListServerCertificatesResult> responseHandler = new StaxResponseHandler<ListServerCertificatesResult>(
+                new ListServerCertificatesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListServerCertificatesRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -3826,28 +2479,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListSigningCertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSigningCertificatesRequest, ListSigningCertificatesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListSigningCertificatesResult>() {
-                    @Override
-                    public ListSigningCertificatesResult call()
-                            throws Exception {
-                        ListSigningCertificatesResult result;
-
-                        try {
-                            result = listSigningCertificates(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListSigningCertificatesResult> responseHandler = new StaxResponseHandler<ListSigningCertificatesResult>(
+                new ListSigningCertificatesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListSigningCertificatesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3888,27 +2525,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListUserPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListUserPoliciesRequest, ListUserPoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListUserPoliciesResult>() {
-                    @Override
-                    public ListUserPoliciesResult call() throws Exception {
-                        ListUserPoliciesResult result;
-
-                        try {
-                            result = listUserPolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ListUserPoliciesResult> responseHandler = new StaxResponseHandler<ListUserPoliciesResult>(
+                new ListUserPoliciesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListUserPoliciesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3923,27 +2544,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListUsersRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListUsersRequest, ListUsersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListUsersResult>() {
-                    @Override
-                    public ListUsersResult call() throws Exception {
-                        ListUsersResult result;
-
-                        try {
-                            result = listUsers(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListUsersResult> responseHandler = new StaxResponseHandler<ListUsersResult>(
+                new ListUsersResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListUsersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -3982,27 +2587,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final ListVirtualMFADevicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListVirtualMFADevicesRequest, ListVirtualMFADevicesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListVirtualMFADevicesResult>() {
-                    @Override
-                    public ListVirtualMFADevicesResult call() throws Exception {
-                        ListVirtualMFADevicesResult result;
-
-                        try {
-                            result = listVirtualMFADevices(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListVirtualMFADevicesResult> responseHandler = new StaxResponseHandler<ListVirtualMFADevicesResult>(
+                new ListVirtualMFADevicesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListVirtualMFADevicesRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -4042,27 +2632,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final PutGroupPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutGroupPolicyRequest, PutGroupPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutGroupPolicyResult>() {
-                    @Override
-                    public PutGroupPolicyResult call() throws Exception {
-                        PutGroupPolicyResult result;
+        StaxResponseHandler<PutGroupPolicyResult> responseHandler = new StaxResponseHandler<PutGroupPolicyResult>(
+                new PutGroupPolicyResultStaxUnmarshaller());
 
-                        try {
-                            result = putGroupPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new PutGroupPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4077,27 +2651,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final PutRolePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRolePolicyRequest, PutRolePolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutRolePolicyResult>() {
-                    @Override
-                    public PutRolePolicyResult call() throws Exception {
-                        PutRolePolicyResult result;
-
-                        try {
-                            result = putRolePolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<PutRolePolicyResult> responseHandler = new StaxResponseHandler<PutRolePolicyResult>(
+                new PutRolePolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new PutRolePolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4112,27 +2670,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final PutUserPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutUserPolicyRequest, PutUserPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutUserPolicyResult>() {
-                    @Override
-                    public PutUserPolicyResult call() throws Exception {
-                        PutUserPolicyResult result;
-
-                        try {
-                            result = putUserPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<PutUserPolicyResult> responseHandler = new StaxResponseHandler<PutUserPolicyResult>(
+                new PutUserPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new PutUserPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4147,28 +2689,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final RemoveClientIDFromOpenIDConnectProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveClientIDFromOpenIDConnectProviderRequest, RemoveClientIDFromOpenIDConnectProviderResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveClientIDFromOpenIDConnectProviderResult>() {
-                    @Override
-                    public RemoveClientIDFromOpenIDConnectProviderResult call()
-                            throws Exception {
-                        RemoveClientIDFromOpenIDConnectProviderResult result;
+        StaxResponseHandler<RemoveClientIDFromOpenIDConnectProviderResult> responseHandler = new StaxResponseHandler<RemoveClientIDFromOpenIDConnectProviderResult>(
+                new RemoveClientIDFromOpenIDConnectProviderResultStaxUnmarshaller());
 
-                        try {
-                            result = removeClientIDFromOpenIDConnectProvider(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RemoveClientIDFromOpenIDConnectProviderRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4183,28 +2709,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final RemoveRoleFromInstanceProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveRoleFromInstanceProfileRequest, RemoveRoleFromInstanceProfileResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveRoleFromInstanceProfileResult>() {
-                    @Override
-                    public RemoveRoleFromInstanceProfileResult call()
-                            throws Exception {
-                        RemoveRoleFromInstanceProfileResult result;
-
-                        try {
-                            result = removeRoleFromInstanceProfile(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<RemoveRoleFromInstanceProfileResult> responseHandler = new StaxResponseHandler<RemoveRoleFromInstanceProfileResult>(
+                new RemoveRoleFromInstanceProfileResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RemoveRoleFromInstanceProfileRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4219,27 +2729,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final RemoveUserFromGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveUserFromGroupRequest, RemoveUserFromGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveUserFromGroupResult>() {
-                    @Override
-                    public RemoveUserFromGroupResult call() throws Exception {
-                        RemoveUserFromGroupResult result;
+        StaxResponseHandler<RemoveUserFromGroupResult> responseHandler = new StaxResponseHandler<RemoveUserFromGroupResult>(
+                new RemoveUserFromGroupResultStaxUnmarshaller());
 
-                        try {
-                            result = removeUserFromGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RemoveUserFromGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4254,27 +2748,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final ResyncMFADeviceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResyncMFADeviceRequest, ResyncMFADeviceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ResyncMFADeviceResult>() {
-                    @Override
-                    public ResyncMFADeviceResult call() throws Exception {
-                        ResyncMFADeviceResult result;
-
-                        try {
-                            result = resyncMFADevice(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ResyncMFADeviceResult> responseHandler = new StaxResponseHandler<ResyncMFADeviceResult>(
+                new ResyncMFADeviceResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ResyncMFADeviceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4289,28 +2767,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final SetDefaultPolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetDefaultPolicyVersionRequest, SetDefaultPolicyVersionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetDefaultPolicyVersionResult>() {
-                    @Override
-                    public SetDefaultPolicyVersionResult call()
-                            throws Exception {
-                        SetDefaultPolicyVersionResult result;
+        StaxResponseHandler<SetDefaultPolicyVersionResult> responseHandler = new StaxResponseHandler<SetDefaultPolicyVersionResult>(
+                new SetDefaultPolicyVersionResultStaxUnmarshaller());
 
-                        try {
-                            result = setDefaultPolicyVersion(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new SetDefaultPolicyVersionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4325,27 +2787,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final SimulateCustomPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<SimulateCustomPolicyRequest, SimulateCustomPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SimulateCustomPolicyResult>() {
-                    @Override
-                    public SimulateCustomPolicyResult call() throws Exception {
-                        SimulateCustomPolicyResult result;
-
-                        try {
-                            result = simulateCustomPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<SimulateCustomPolicyResult> responseHandler = new StaxResponseHandler<SimulateCustomPolicyResult>(
+                new SimulateCustomPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new SimulateCustomPolicyRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -4360,28 +2807,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final SimulatePrincipalPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<SimulatePrincipalPolicyRequest, SimulatePrincipalPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SimulatePrincipalPolicyResult>() {
-                    @Override
-                    public SimulatePrincipalPolicyResult call()
-                            throws Exception {
-                        SimulatePrincipalPolicyResult result;
-
-                        try {
-                            result = simulatePrincipalPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<SimulatePrincipalPolicyResult> responseHandler = new StaxResponseHandler<SimulatePrincipalPolicyResult>(
+                new SimulatePrincipalPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new SimulatePrincipalPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4396,27 +2827,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateAccessKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAccessKeyRequest, UpdateAccessKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateAccessKeyResult>() {
-                    @Override
-                    public UpdateAccessKeyResult call() throws Exception {
-                        UpdateAccessKeyResult result;
+        StaxResponseHandler<UpdateAccessKeyResult> responseHandler = new StaxResponseHandler<UpdateAccessKeyResult>(
+                new UpdateAccessKeyResultStaxUnmarshaller());
 
-                        try {
-                            result = updateAccessKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateAccessKeyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4431,28 +2846,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateAccountPasswordPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAccountPasswordPolicyRequest, UpdateAccountPasswordPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateAccountPasswordPolicyResult>() {
-                    @Override
-                    public UpdateAccountPasswordPolicyResult call()
-                            throws Exception {
-                        UpdateAccountPasswordPolicyResult result;
-
-                        try {
-                            result = updateAccountPasswordPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<UpdateAccountPasswordPolicyResult> responseHandler = new StaxResponseHandler<UpdateAccountPasswordPolicyResult>(
+                new UpdateAccountPasswordPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UpdateAccountPasswordPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4467,27 +2866,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateAssumeRolePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAssumeRolePolicyRequest, UpdateAssumeRolePolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateAssumeRolePolicyResult>() {
-                    @Override
-                    public UpdateAssumeRolePolicyResult call() throws Exception {
-                        UpdateAssumeRolePolicyResult result;
+        StaxResponseHandler<UpdateAssumeRolePolicyResult> responseHandler = new StaxResponseHandler<UpdateAssumeRolePolicyResult>(
+                new UpdateAssumeRolePolicyResultStaxUnmarshaller());
 
-                        try {
-                            result = updateAssumeRolePolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UpdateAssumeRolePolicyRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -4502,27 +2886,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateGroupRequest, UpdateGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateGroupResult>() {
-                    @Override
-                    public UpdateGroupResult call() throws Exception {
-                        UpdateGroupResult result;
-
-                        try {
-                            result = updateGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<UpdateGroupResult> responseHandler = new StaxResponseHandler<UpdateGroupResult>(
+                new UpdateGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4537,27 +2905,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateLoginProfileRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateLoginProfileRequest, UpdateLoginProfileResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateLoginProfileResult>() {
-                    @Override
-                    public UpdateLoginProfileResult call() throws Exception {
-                        UpdateLoginProfileResult result;
+        StaxResponseHandler<UpdateLoginProfileResult> responseHandler = new StaxResponseHandler<UpdateLoginProfileResult>(
+                new UpdateLoginProfileResultStaxUnmarshaller());
 
-                        try {
-                            result = updateLoginProfile(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateLoginProfileRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4572,28 +2924,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateOpenIDConnectProviderThumbprintRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateOpenIDConnectProviderThumbprintRequest, UpdateOpenIDConnectProviderThumbprintResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateOpenIDConnectProviderThumbprintResult>() {
-                    @Override
-                    public UpdateOpenIDConnectProviderThumbprintResult call()
-                            throws Exception {
-                        UpdateOpenIDConnectProviderThumbprintResult result;
-
-                        try {
-                            result = updateOpenIDConnectProviderThumbprint(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<UpdateOpenIDConnectProviderThumbprintResult> responseHandler = new StaxResponseHandler<UpdateOpenIDConnectProviderThumbprintResult>(
+                new UpdateOpenIDConnectProviderThumbprintResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UpdateOpenIDConnectProviderThumbprintRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4608,27 +2944,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateSAMLProviderRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateSAMLProviderRequest, UpdateSAMLProviderResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateSAMLProviderResult>() {
-                    @Override
-                    public UpdateSAMLProviderResult call() throws Exception {
-                        UpdateSAMLProviderResult result;
-
-                        try {
-                            result = updateSAMLProvider(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<UpdateSAMLProviderResult> responseHandler = new StaxResponseHandler<UpdateSAMLProviderResult>(
+                new UpdateSAMLProviderResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateSAMLProviderRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4643,27 +2963,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateSSHPublicKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateSSHPublicKeyRequest, UpdateSSHPublicKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateSSHPublicKeyResult>() {
-                    @Override
-                    public UpdateSSHPublicKeyResult call() throws Exception {
-                        UpdateSSHPublicKeyResult result;
+        StaxResponseHandler<UpdateSSHPublicKeyResult> responseHandler = new StaxResponseHandler<UpdateSSHPublicKeyResult>(
+                new UpdateSSHPublicKeyResultStaxUnmarshaller());
 
-                        try {
-                            result = updateSSHPublicKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateSSHPublicKeyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4678,28 +2982,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateServerCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateServerCertificateRequest, UpdateServerCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateServerCertificateResult>() {
-                    @Override
-                    public UpdateServerCertificateResult call()
-                            throws Exception {
-                        UpdateServerCertificateResult result;
-
-                        try {
-                            result = updateServerCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<UpdateServerCertificateResult> responseHandler = new StaxResponseHandler<UpdateServerCertificateResult>(
+                new UpdateServerCertificateResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UpdateServerCertificateRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4714,28 +3002,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateSigningCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateSigningCertificateRequest, UpdateSigningCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateSigningCertificateResult>() {
-                    @Override
-                    public UpdateSigningCertificateResult call()
-                            throws Exception {
-                        UpdateSigningCertificateResult result;
+        StaxResponseHandler<UpdateSigningCertificateResult> responseHandler = new StaxResponseHandler<UpdateSigningCertificateResult>(
+                new UpdateSigningCertificateResultStaxUnmarshaller());
 
-                        try {
-                            result = updateSigningCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UpdateSigningCertificateRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4750,27 +3022,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UpdateUserRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateUserRequest, UpdateUserResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateUserResult>() {
-                    @Override
-                    public UpdateUserResult call() throws Exception {
-                        UpdateUserResult result;
-
-                        try {
-                            result = updateUser(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<UpdateUserResult> responseHandler = new StaxResponseHandler<UpdateUserResult>(
+                new UpdateUserResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateUserRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4785,27 +3041,11 @@ public class AmazonIdentityManagementAsyncClient extends
             final UploadSSHPublicKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<UploadSSHPublicKeyRequest, UploadSSHPublicKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UploadSSHPublicKeyResult>() {
-                    @Override
-                    public UploadSSHPublicKeyResult call() throws Exception {
-                        UploadSSHPublicKeyResult result;
+        StaxResponseHandler<UploadSSHPublicKeyResult> responseHandler = new StaxResponseHandler<UploadSSHPublicKeyResult>(
+                new UploadSSHPublicKeyResultStaxUnmarshaller());
 
-                        try {
-                            result = uploadSSHPublicKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UploadSSHPublicKeyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4820,28 +3060,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final UploadServerCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<UploadServerCertificateRequest, UploadServerCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UploadServerCertificateResult>() {
-                    @Override
-                    public UploadServerCertificateResult call()
-                            throws Exception {
-                        UploadServerCertificateResult result;
-
-                        try {
-                            result = uploadServerCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<UploadServerCertificateResult> responseHandler = new StaxResponseHandler<UploadServerCertificateResult>(
+                new UploadServerCertificateResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UploadServerCertificateRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -4856,28 +3080,12 @@ public class AmazonIdentityManagementAsyncClient extends
             final UploadSigningCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<UploadSigningCertificateRequest, UploadSigningCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UploadSigningCertificateResult>() {
-                    @Override
-                    public UploadSigningCertificateResult call()
-                            throws Exception {
-                        UploadSigningCertificateResult result;
-
-                        try {
-                            result = uploadSigningCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<UploadSigningCertificateResult> responseHandler = new StaxResponseHandler<UploadSigningCertificateResult>(
+                new UploadSigningCertificateResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new UploadSigningCertificateRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
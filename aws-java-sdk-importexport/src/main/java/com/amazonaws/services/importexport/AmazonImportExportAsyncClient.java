@@ -15,6 +15,10 @@
 package com.amazonaws.services.importexport;
 
 import com.amazonaws.services.importexport.model.*;
+import com.amazonaws.services.importexport.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -286,27 +290,11 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final CancelJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelJobRequest, CancelJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CancelJobResult>() {
-                    @Override
-                    public CancelJobResult call() throws Exception {
-                        CancelJobResult result;
-
-                        try {
-                            result = cancelJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CancelJobResult> responseHandler = new StaxResponseHandler<CancelJobResult>(
+                new CancelJobResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CancelJobRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -321,27 +309,11 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final CreateJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateJobRequest, CreateJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateJobResult>() {
-                    @Override
-                    public CreateJobResult call() throws Exception {
-                        CreateJobResult result;
-
-                        try {
-                            result = createJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateJobResult> responseHandler = new StaxResponseHandler<CreateJobResult>(
+                new CreateJobResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CreateJobRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -356,27 +328,11 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final GetShippingLabelRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetShippingLabelRequest, GetShippingLabelResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetShippingLabelResult>() {
-                    @Override
-                    public GetShippingLabelResult call() throws Exception {
-                        GetShippingLabelResult result;
-
-                        try {
-                            result = getShippingLabel(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetShippingLabelResult> responseHandler = new StaxResponseHandler<GetShippingLabelResult>(
+                new GetShippingLabelResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetShippingLabelRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -391,27 +347,11 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final GetStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetStatusRequest, GetStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetStatusResult>() {
-                    @Override
-                    public GetStatusResult call() throws Exception {
-                        GetStatusResult result;
-
-                        try {
-                            result = getStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetStatusResult> responseHandler = new StaxResponseHandler<GetStatusResult>(
+                new GetStatusResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetStatusRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -426,27 +366,11 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final ListJobsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListJobsRequest, ListJobsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListJobsResult>() {
-                    @Override
-                    public ListJobsResult call() throws Exception {
-                        ListJobsResult result;
-
-                        try {
-                            result = listJobs(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListJobsResult> responseHandler = new StaxResponseHandler<ListJobsResult>(
+                new ListJobsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListJobsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -484,27 +408,11 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
             final UpdateJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateJobRequest, UpdateJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateJobResult>() {
-                    @Override
-                    public UpdateJobResult call() throws Exception {
-                        UpdateJobResult result;
-
-                        try {
-                            result = updateJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<UpdateJobResult> responseHandler = new StaxResponseHandler<UpdateJobResult>(
+                new UpdateJobResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new UpdateJobRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
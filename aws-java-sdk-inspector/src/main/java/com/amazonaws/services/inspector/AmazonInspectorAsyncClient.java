@@ -15,6 +15,10 @@
 package com.amazonaws.services.inspector;
 
 import com.amazonaws.services.inspector.model.*;
+import com.amazonaws.services.inspector.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -286,28 +290,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final AddAttributesToFindingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddAttributesToFindingsRequest, AddAttributesToFindingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddAttributesToFindingsResult>() {
-                    @Override
-                    public AddAttributesToFindingsResult call()
-                            throws Exception {
-                        AddAttributesToFindingsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AddAttributesToFindingsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddAttributesToFindingsResultJsonUnmarshaller());
 
-                        try {
-                            result = addAttributesToFindings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AddAttributesToFindingsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -322,27 +313,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final CreateAssessmentTargetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAssessmentTargetRequest, CreateAssessmentTargetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateAssessmentTargetResult>() {
-                    @Override
-                    public CreateAssessmentTargetResult call() throws Exception {
-                        CreateAssessmentTargetResult result;
-
-                        try {
-                            result = createAssessmentTarget(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateAssessmentTargetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateAssessmentTargetResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateAssessmentTargetRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -357,28 +336,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final CreateAssessmentTemplateRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAssessmentTemplateRequest, CreateAssessmentTemplateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateAssessmentTemplateResult>() {
-                    @Override
-                    public CreateAssessmentTemplateResult call()
-                            throws Exception {
-                        CreateAssessmentTemplateResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateAssessmentTemplateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateAssessmentTemplateResultJsonUnmarshaller());
 
-                        try {
-                            result = createAssessmentTemplate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateAssessmentTemplateRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -393,27 +359,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final CreateResourceGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateResourceGroupRequest, CreateResourceGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateResourceGroupResult>() {
-                    @Override
-                    public CreateResourceGroupResult call() throws Exception {
-                        CreateResourceGroupResult result;
-
-                        try {
-                            result = createResourceGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateResourceGroupResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateResourceGroupResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateResourceGroupRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -428,27 +382,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DeleteAssessmentRunRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAssessmentRunRequest, DeleteAssessmentRunResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteAssessmentRunResult>() {
-                    @Override
-                    public DeleteAssessmentRunResult call() throws Exception {
-                        DeleteAssessmentRunResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteAssessmentRunResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteAssessmentRunResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteAssessmentRun(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteAssessmentRunRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -463,27 +405,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DeleteAssessmentTargetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAssessmentTargetRequest, DeleteAssessmentTargetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteAssessmentTargetResult>() {
-                    @Override
-                    public DeleteAssessmentTargetResult call() throws Exception {
-                        DeleteAssessmentTargetResult result;
-
-                        try {
-                            result = deleteAssessmentTarget(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteAssessmentTargetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteAssessmentTargetResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteAssessmentTargetRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -498,28 +428,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DeleteAssessmentTemplateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAssessmentTemplateRequest, DeleteAssessmentTemplateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteAssessmentTemplateResult>() {
-                    @Override
-                    public DeleteAssessmentTemplateResult call()
-                            throws Exception {
-                        DeleteAssessmentTemplateResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteAssessmentTemplateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteAssessmentTemplateResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteAssessmentTemplate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteAssessmentTemplateRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -534,27 +451,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DescribeAssessmentRunsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAssessmentRunsRequest, DescribeAssessmentRunsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAssessmentRunsResult>() {
-                    @Override
-                    public DescribeAssessmentRunsResult call() throws Exception {
-                        DescribeAssessmentRunsResult result;
-
-                        try {
-                            result = describeAssessmentRuns(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeAssessmentRunsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeAssessmentRunsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeAssessmentRunsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -569,28 +474,16 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DescribeAssessmentTargetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAssessmentTargetsRequest, DescribeAssessmentTargetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAssessmentTargetsResult>() {
-                    @Override
-                    public DescribeAssessmentTargetsResult call()
-                            throws Exception {
-                        DescribeAssessmentTargetsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeAssessmentTargetsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeAssessmentTargetsResultJsonUnmarshaller());
 
-                        try {
-                            result = describeAssessmentTargets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new DescribeAssessmentTargetsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -605,28 +498,16 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DescribeAssessmentTemplatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAssessmentTemplatesRequest, DescribeAssessmentTemplatesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAssessmentTemplatesResult>() {
-                    @Override
-                    public DescribeAssessmentTemplatesResult call()
-                            throws Exception {
-                        DescribeAssessmentTemplatesResult result;
-
-                        try {
-                            result = describeAssessmentTemplates(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeAssessmentTemplatesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeAssessmentTemplatesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeAssessmentTemplatesRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -641,28 +522,16 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DescribeCrossAccountAccessRoleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCrossAccountAccessRoleRequest, DescribeCrossAccountAccessRoleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeCrossAccountAccessRoleResult>() {
-                    @Override
-                    public DescribeCrossAccountAccessRoleResult call()
-                            throws Exception {
-                        DescribeCrossAccountAccessRoleResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeCrossAccountAccessRoleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeCrossAccountAccessRoleResultJsonUnmarshaller());
 
-                        try {
-                            result = describeCrossAccountAccessRole(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeCrossAccountAccessRoleRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -677,27 +546,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DescribeFindingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeFindingsRequest, DescribeFindingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeFindingsResult>() {
-                    @Override
-                    public DescribeFindingsResult call() throws Exception {
-                        DescribeFindingsResult result;
-
-                        try {
-                            result = describeFindings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeFindingsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeFindingsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeFindingsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -712,27 +569,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DescribeResourceGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeResourceGroupsRequest, DescribeResourceGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeResourceGroupsResult>() {
-                    @Override
-                    public DescribeResourceGroupsResult call() throws Exception {
-                        DescribeResourceGroupsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeResourceGroupsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeResourceGroupsResultJsonUnmarshaller());
 
-                        try {
-                            result = describeResourceGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeResourceGroupsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -747,27 +592,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final DescribeRulesPackagesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRulesPackagesRequest, DescribeRulesPackagesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeRulesPackagesResult>() {
-                    @Override
-                    public DescribeRulesPackagesResult call() throws Exception {
-                        DescribeRulesPackagesResult result;
-
-                        try {
-                            result = describeRulesPackages(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeRulesPackagesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeRulesPackagesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeRulesPackagesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -782,27 +615,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final GetTelemetryMetadataRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTelemetryMetadataRequest, GetTelemetryMetadataResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetTelemetryMetadataResult>() {
-                    @Override
-                    public GetTelemetryMetadataResult call() throws Exception {
-                        GetTelemetryMetadataResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetTelemetryMetadataResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetTelemetryMetadataResultJsonUnmarshaller());
 
-                        try {
-                            result = getTelemetryMetadata(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetTelemetryMetadataRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -817,28 +638,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final ListAssessmentRunAgentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAssessmentRunAgentsRequest, ListAssessmentRunAgentsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListAssessmentRunAgentsResult>() {
-                    @Override
-                    public ListAssessmentRunAgentsResult call()
-                            throws Exception {
-                        ListAssessmentRunAgentsResult result;
-
-                        try {
-                            result = listAssessmentRunAgents(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListAssessmentRunAgentsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListAssessmentRunAgentsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListAssessmentRunAgentsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -853,27 +661,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final ListAssessmentRunsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAssessmentRunsRequest, ListAssessmentRunsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListAssessmentRunsResult>() {
-                    @Override
-                    public ListAssessmentRunsResult call() throws Exception {
-                        ListAssessmentRunsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListAssessmentRunsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListAssessmentRunsResultJsonUnmarshaller());
 
-                        try {
-                            result = listAssessmentRuns(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListAssessmentRunsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -888,27 +684,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final ListAssessmentTargetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAssessmentTargetsRequest, ListAssessmentTargetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListAssessmentTargetsResult>() {
-                    @Override
-                    public ListAssessmentTargetsResult call() throws Exception {
-                        ListAssessmentTargetsResult result;
-
-                        try {
-                            result = listAssessmentTargets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListAssessmentTargetsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListAssessmentTargetsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListAssessmentTargetsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -923,28 +707,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final ListAssessmentTemplatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAssessmentTemplatesRequest, ListAssessmentTemplatesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListAssessmentTemplatesResult>() {
-                    @Override
-                    public ListAssessmentTemplatesResult call()
-                            throws Exception {
-                        ListAssessmentTemplatesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListAssessmentTemplatesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListAssessmentTemplatesResultJsonUnmarshaller());
 
-                        try {
-                            result = listAssessmentTemplates(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListAssessmentTemplatesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -959,27 +730,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final ListEventSubscriptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListEventSubscriptionsRequest, ListEventSubscriptionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListEventSubscriptionsResult>() {
-                    @Override
-                    public ListEventSubscriptionsResult call() throws Exception {
-                        ListEventSubscriptionsResult result;
-
-                        try {
-                            result = listEventSubscriptions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListEventSubscriptionsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListEventSubscriptionsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListEventSubscriptionsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -994,27 +753,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final ListFindingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListFindingsRequest, ListFindingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListFindingsResult>() {
-                    @Override
-                    public ListFindingsResult call() throws Exception {
-                        ListFindingsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListFindingsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListFindingsResultJsonUnmarshaller());
 
-                        try {
-                            result = listFindings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListFindingsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1029,27 +776,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final ListRulesPackagesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRulesPackagesRequest, ListRulesPackagesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListRulesPackagesResult>() {
-                    @Override
-                    public ListRulesPackagesResult call() throws Exception {
-                        ListRulesPackagesResult result;
-
-                        try {
-                            result = listRulesPackages(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListRulesPackagesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListRulesPackagesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListRulesPackagesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1064,27 +799,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
-                    @Override
-                    public ListTagsForResourceResult call() throws Exception {
-                        ListTagsForResourceResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListTagsForResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTagsForResourceResultJsonUnmarshaller());
 
-                        try {
-                            result = listTagsForResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListTagsForResourceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1099,27 +822,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final PreviewAgentsRequest request,
             final com.amazonaws.handlers.AsyncHandler<PreviewAgentsRequest, PreviewAgentsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PreviewAgentsResult>() {
-                    @Override
-                    public PreviewAgentsResult call() throws Exception {
-                        PreviewAgentsResult result;
-
-                        try {
-                            result = previewAgents(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<PreviewAgentsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PreviewAgentsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new PreviewAgentsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1134,28 +845,16 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final RegisterCrossAccountAccessRoleRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterCrossAccountAccessRoleRequest, RegisterCrossAccountAccessRoleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RegisterCrossAccountAccessRoleResult>() {
-                    @Override
-                    public RegisterCrossAccountAccessRoleResult call()
-                            throws Exception {
-                        RegisterCrossAccountAccessRoleResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<RegisterCrossAccountAccessRoleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RegisterCrossAccountAccessRoleResultJsonUnmarshaller());
 
-                        try {
-                            result = registerCrossAccountAccessRole(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RegisterCrossAccountAccessRoleRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1170,28 +869,16 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final RemoveAttributesFromFindingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveAttributesFromFindingsRequest, RemoveAttributesFromFindingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveAttributesFromFindingsResult>() {
-                    @Override
-                    public RemoveAttributesFromFindingsResult call()
-                            throws Exception {
-                        RemoveAttributesFromFindingsResult result;
-
-                        try {
-                            result = removeAttributesFromFindings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<RemoveAttributesFromFindingsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RemoveAttributesFromFindingsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RemoveAttributesFromFindingsRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1206,27 +893,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final SetTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetTagsForResourceRequest, SetTagsForResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetTagsForResourceResult>() {
-                    @Override
-                    public SetTagsForResourceResult call() throws Exception {
-                        SetTagsForResourceResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<SetTagsForResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SetTagsForResourceResultJsonUnmarshaller());
 
-                        try {
-                            result = setTagsForResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SetTagsForResourceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1241,27 +916,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final StartAssessmentRunRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartAssessmentRunRequest, StartAssessmentRunResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StartAssessmentRunResult>() {
-                    @Override
-                    public StartAssessmentRunResult call() throws Exception {
-                        StartAssessmentRunResult result;
-
-                        try {
-                            result = startAssessmentRun(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<StartAssessmentRunResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StartAssessmentRunResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new StartAssessmentRunRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1276,27 +939,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final StopAssessmentRunRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopAssessmentRunRequest, StopAssessmentRunResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StopAssessmentRunResult>() {
-                    @Override
-                    public StopAssessmentRunResult call() throws Exception {
-                        StopAssessmentRunResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<StopAssessmentRunResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StopAssessmentRunResultJsonUnmarshaller());
 
-                        try {
-                            result = stopAssessmentRun(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new StopAssessmentRunRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1311,27 +962,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final SubscribeToEventRequest request,
             final com.amazonaws.handlers.AsyncHandler<SubscribeToEventRequest, SubscribeToEventResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SubscribeToEventResult>() {
-                    @Override
-                    public SubscribeToEventResult call() throws Exception {
-                        SubscribeToEventResult result;
-
-                        try {
-                            result = subscribeToEvent(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<SubscribeToEventResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SubscribeToEventResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SubscribeToEventRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1346,27 +985,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final UnsubscribeFromEventRequest request,
             final com.amazonaws.handlers.AsyncHandler<UnsubscribeFromEventRequest, UnsubscribeFromEventResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UnsubscribeFromEventResult>() {
-                    @Override
-                    public UnsubscribeFromEventResult call() throws Exception {
-                        UnsubscribeFromEventResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UnsubscribeFromEventResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UnsubscribeFromEventResultJsonUnmarshaller());
 
-                        try {
-                            result = unsubscribeFromEvent(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UnsubscribeFromEventRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1381,27 +1008,15 @@ public class AmazonInspectorAsyncClient extends AmazonInspectorClient implements
             final UpdateAssessmentTargetRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAssessmentTargetRequest, UpdateAssessmentTargetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateAssessmentTargetResult>() {
-                    @Override
-                    public UpdateAssessmentTargetResult call() throws Exception {
-                        UpdateAssessmentTargetResult result;
-
-                        try {
-                            result = updateAssessmentTarget(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateAssessmentTargetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateAssessmentTargetResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new UpdateAssessmentTargetRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
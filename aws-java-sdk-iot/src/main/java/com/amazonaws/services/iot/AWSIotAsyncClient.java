@@ -15,6 +15,10 @@
 package com.amazonaws.services.iot;
 
 import com.amazonaws.services.iot.model.*;
+import com.amazonaws.services.iot.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -289,28 +293,16 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final AcceptCertificateTransferRequest request,
             final com.amazonaws.handlers.AsyncHandler<AcceptCertificateTransferRequest, AcceptCertificateTransferResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AcceptCertificateTransferResult>() {
-                    @Override
-                    public AcceptCertificateTransferResult call()
-                            throws Exception {
-                        AcceptCertificateTransferResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AcceptCertificateTransferResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AcceptCertificateTransferResultJsonUnmarshaller());
 
-                        try {
-                            result = acceptCertificateTransfer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new AcceptCertificateTransferRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -325,27 +317,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final AttachPrincipalPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachPrincipalPolicyRequest, AttachPrincipalPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AttachPrincipalPolicyResult>() {
-                    @Override
-                    public AttachPrincipalPolicyResult call() throws Exception {
-                        AttachPrincipalPolicyResult result;
-
-                        try {
-                            result = attachPrincipalPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<AttachPrincipalPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AttachPrincipalPolicyResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AttachPrincipalPolicyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -360,27 +340,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final AttachThingPrincipalRequest request,
             final com.amazonaws.handlers.AsyncHandler<AttachThingPrincipalRequest, AttachThingPrincipalResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AttachThingPrincipalResult>() {
-                    @Override
-                    public AttachThingPrincipalResult call() throws Exception {
-                        AttachThingPrincipalResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AttachThingPrincipalResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AttachThingPrincipalResultJsonUnmarshaller());
 
-                        try {
-                            result = attachThingPrincipal(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AttachThingPrincipalRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -395,28 +363,16 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final CancelCertificateTransferRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelCertificateTransferRequest, CancelCertificateTransferResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CancelCertificateTransferResult>() {
-                    @Override
-                    public CancelCertificateTransferResult call()
-                            throws Exception {
-                        CancelCertificateTransferResult result;
-
-                        try {
-                            result = cancelCertificateTransfer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CancelCertificateTransferResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CancelCertificateTransferResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new CancelCertificateTransferRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -431,28 +387,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final CreateCertificateFromCsrRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCertificateFromCsrRequest, CreateCertificateFromCsrResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateCertificateFromCsrResult>() {
-                    @Override
-                    public CreateCertificateFromCsrResult call()
-                            throws Exception {
-                        CreateCertificateFromCsrResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateCertificateFromCsrResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateCertificateFromCsrResultJsonUnmarshaller());
 
-                        try {
-                            result = createCertificateFromCsr(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateCertificateFromCsrRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -467,28 +410,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final CreateKeysAndCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateKeysAndCertificateRequest, CreateKeysAndCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateKeysAndCertificateResult>() {
-                    @Override
-                    public CreateKeysAndCertificateResult call()
-                            throws Exception {
-                        CreateKeysAndCertificateResult result;
-
-                        try {
-                            result = createKeysAndCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateKeysAndCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateKeysAndCertificateResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateKeysAndCertificateRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -503,27 +433,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final CreatePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePolicyRequest, CreatePolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreatePolicyResult>() {
-                    @Override
-                    public CreatePolicyResult call() throws Exception {
-                        CreatePolicyResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreatePolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreatePolicyResultJsonUnmarshaller());
 
-                        try {
-                            result = createPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreatePolicyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -538,27 +456,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final CreatePolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePolicyVersionRequest, CreatePolicyVersionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreatePolicyVersionResult>() {
-                    @Override
-                    public CreatePolicyVersionResult call() throws Exception {
-                        CreatePolicyVersionResult result;
-
-                        try {
-                            result = createPolicyVersion(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreatePolicyVersionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreatePolicyVersionResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreatePolicyVersionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -573,27 +479,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final CreateThingRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateThingRequest, CreateThingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateThingResult>() {
-                    @Override
-                    public CreateThingResult call() throws Exception {
-                        CreateThingResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateThingResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateThingResultJsonUnmarshaller());
 
-                        try {
-                            result = createThing(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateThingRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -608,27 +502,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final CreateThingTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateThingTypeRequest, CreateThingTypeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateThingTypeResult>() {
-                    @Override
-                    public CreateThingTypeResult call() throws Exception {
-                        CreateThingTypeResult result;
-
-                        try {
-                            result = createThingType(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateThingTypeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateThingTypeResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateThingTypeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -643,27 +525,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final CreateTopicRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTopicRuleRequest, CreateTopicRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateTopicRuleResult>() {
-                    @Override
-                    public CreateTopicRuleResult call() throws Exception {
-                        CreateTopicRuleResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateTopicRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateTopicRuleResultJsonUnmarshaller());
 
-                        try {
-                            result = createTopicRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateTopicRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -678,27 +548,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DeleteCACertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCACertificateRequest, DeleteCACertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteCACertificateResult>() {
-                    @Override
-                    public DeleteCACertificateResult call() throws Exception {
-                        DeleteCACertificateResult result;
-
-                        try {
-                            result = deleteCACertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteCACertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteCACertificateResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteCACertificateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -713,27 +571,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DeleteCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteCertificateRequest, DeleteCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteCertificateResult>() {
-                    @Override
-                    public DeleteCertificateResult call() throws Exception {
-                        DeleteCertificateResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteCertificateResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteCertificateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -748,27 +594,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DeletePolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePolicyRequest, DeletePolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeletePolicyResult>() {
-                    @Override
-                    public DeletePolicyResult call() throws Exception {
-                        DeletePolicyResult result;
-
-                        try {
-                            result = deletePolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeletePolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeletePolicyResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeletePolicyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -783,27 +617,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DeletePolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePolicyVersionRequest, DeletePolicyVersionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeletePolicyVersionResult>() {
-                    @Override
-                    public DeletePolicyVersionResult call() throws Exception {
-                        DeletePolicyVersionResult result;
-
-                        try {
-                            result = deletePolicyVersion(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeletePolicyVersionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeletePolicyVersionResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeletePolicyVersionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -818,27 +640,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DeleteRegistrationCodeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRegistrationCodeRequest, DeleteRegistrationCodeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteRegistrationCodeResult>() {
-                    @Override
-                    public DeleteRegistrationCodeResult call() throws Exception {
-                        DeleteRegistrationCodeResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteRegistrationCodeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteRegistrationCodeResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteRegistrationCode(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteRegistrationCodeRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -853,27 +663,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DeleteThingRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteThingRequest, DeleteThingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteThingResult>() {
-                    @Override
-                    public DeleteThingResult call() throws Exception {
-                        DeleteThingResult result;
-
-                        try {
-                            result = deleteThing(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteThingResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteThingResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteThingRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -888,27 +686,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DeleteThingTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteThingTypeRequest, DeleteThingTypeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteThingTypeResult>() {
-                    @Override
-                    public DeleteThingTypeResult call() throws Exception {
-                        DeleteThingTypeResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteThingTypeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteThingTypeResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteThingType(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteThingTypeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -923,27 +709,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DeleteTopicRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTopicRuleRequest, DeleteTopicRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteTopicRuleResult>() {
-                    @Override
-                    public DeleteTopicRuleResult call() throws Exception {
-                        DeleteTopicRuleResult result;
-
-                        try {
-                            result = deleteTopicRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteTopicRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteTopicRuleResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteTopicRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -958,27 +732,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DeprecateThingTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeprecateThingTypeRequest, DeprecateThingTypeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeprecateThingTypeResult>() {
-                    @Override
-                    public DeprecateThingTypeResult call() throws Exception {
-                        DeprecateThingTypeResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeprecateThingTypeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeprecateThingTypeResultJsonUnmarshaller());
 
-                        try {
-                            result = deprecateThingType(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeprecateThingTypeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -993,27 +755,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DescribeCACertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCACertificateRequest, DescribeCACertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeCACertificateResult>() {
-                    @Override
-                    public DescribeCACertificateResult call() throws Exception {
-                        DescribeCACertificateResult result;
-
-                        try {
-                            result = describeCACertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeCACertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeCACertificateResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeCACertificateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1028,27 +778,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DescribeCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCertificateRequest, DescribeCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeCertificateResult>() {
-                    @Override
-                    public DescribeCertificateResult call() throws Exception {
-                        DescribeCertificateResult result;
-
-                        try {
-                            result = describeCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeCertificateResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeCertificateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1063,27 +801,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DescribeEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEndpointRequest, DescribeEndpointResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEndpointResult>() {
-                    @Override
-                    public DescribeEndpointResult call() throws Exception {
-                        DescribeEndpointResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeEndpointResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeEndpointResultJsonUnmarshaller());
 
-                        try {
-                            result = describeEndpoint(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeEndpointRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1098,27 +824,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DescribeThingRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeThingRequest, DescribeThingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeThingResult>() {
-                    @Override
-                    public DescribeThingResult call() throws Exception {
-                        DescribeThingResult result;
-
-                        try {
-                            result = describeThing(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeThingResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeThingResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeThingRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1133,27 +847,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DescribeThingTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeThingTypeRequest, DescribeThingTypeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeThingTypeResult>() {
-                    @Override
-                    public DescribeThingTypeResult call() throws Exception {
-                        DescribeThingTypeResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeThingTypeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeThingTypeResultJsonUnmarshaller());
 
-                        try {
-                            result = describeThingType(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeThingTypeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1168,27 +870,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DetachPrincipalPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachPrincipalPolicyRequest, DetachPrincipalPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DetachPrincipalPolicyResult>() {
-                    @Override
-                    public DetachPrincipalPolicyResult call() throws Exception {
-                        DetachPrincipalPolicyResult result;
-
-                        try {
-                            result = detachPrincipalPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DetachPrincipalPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DetachPrincipalPolicyResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DetachPrincipalPolicyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1203,27 +893,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DetachThingPrincipalRequest request,
             final com.amazonaws.handlers.AsyncHandler<DetachThingPrincipalRequest, DetachThingPrincipalResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DetachThingPrincipalResult>() {
-                    @Override
-                    public DetachThingPrincipalResult call() throws Exception {
-                        DetachThingPrincipalResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DetachThingPrincipalResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DetachThingPrincipalResultJsonUnmarshaller());
 
-                        try {
-                            result = detachThingPrincipal(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DetachThingPrincipalRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1238,27 +916,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final DisableTopicRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableTopicRuleRequest, DisableTopicRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableTopicRuleResult>() {
-                    @Override
-                    public DisableTopicRuleResult call() throws Exception {
-                        DisableTopicRuleResult result;
-
-                        try {
-                            result = disableTopicRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DisableTopicRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DisableTopicRuleResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DisableTopicRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1273,27 +939,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final EnableTopicRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableTopicRuleRequest, EnableTopicRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableTopicRuleResult>() {
-                    @Override
-                    public EnableTopicRuleResult call() throws Exception {
-                        EnableTopicRuleResult result;
-
-                        try {
-                            result = enableTopicRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<EnableTopicRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new EnableTopicRuleResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new EnableTopicRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1308,27 +962,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final GetLoggingOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetLoggingOptionsRequest, GetLoggingOptionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetLoggingOptionsResult>() {
-                    @Override
-                    public GetLoggingOptionsResult call() throws Exception {
-                        GetLoggingOptionsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetLoggingOptionsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetLoggingOptionsResultJsonUnmarshaller());
 
-                        try {
-                            result = getLoggingOptions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetLoggingOptionsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1343,27 +985,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final GetPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPolicyRequest, GetPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetPolicyResult>() {
-                    @Override
-                    public GetPolicyResult call() throws Exception {
-                        GetPolicyResult result;
-
-                        try {
-                            result = getPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetPolicyResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetPolicyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1378,27 +1008,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final GetPolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPolicyVersionRequest, GetPolicyVersionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetPolicyVersionResult>() {
-                    @Override
-                    public GetPolicyVersionResult call() throws Exception {
-                        GetPolicyVersionResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetPolicyVersionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetPolicyVersionResultJsonUnmarshaller());
 
-                        try {
-                            result = getPolicyVersion(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetPolicyVersionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1413,27 +1031,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final GetRegistrationCodeRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRegistrationCodeRequest, GetRegistrationCodeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetRegistrationCodeResult>() {
-                    @Override
-                    public GetRegistrationCodeResult call() throws Exception {
-                        GetRegistrationCodeResult result;
-
-                        try {
-                            result = getRegistrationCode(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetRegistrationCodeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetRegistrationCodeResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetRegistrationCodeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1448,27 +1054,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final GetTopicRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTopicRuleRequest, GetTopicRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetTopicRuleResult>() {
-                    @Override
-                    public GetTopicRuleResult call() throws Exception {
-                        GetTopicRuleResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetTopicRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetTopicRuleResultJsonUnmarshaller());
 
-                        try {
-                            result = getTopicRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetTopicRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1483,27 +1077,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListCACertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListCACertificatesRequest, ListCACertificatesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListCACertificatesResult>() {
-                    @Override
-                    public ListCACertificatesResult call() throws Exception {
-                        ListCACertificatesResult result;
-
-                        try {
-                            result = listCACertificates(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListCACertificatesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListCACertificatesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListCACertificatesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1518,27 +1100,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListCertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListCertificatesRequest, ListCertificatesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListCertificatesResult>() {
-                    @Override
-                    public ListCertificatesResult call() throws Exception {
-                        ListCertificatesResult result;
-
-                        try {
-                            result = listCertificates(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListCertificatesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListCertificatesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListCertificatesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1553,27 +1123,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListCertificatesByCARequest request,
             final com.amazonaws.handlers.AsyncHandler<ListCertificatesByCARequest, ListCertificatesByCAResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListCertificatesByCAResult>() {
-                    @Override
-                    public ListCertificatesByCAResult call() throws Exception {
-                        ListCertificatesByCAResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListCertificatesByCAResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListCertificatesByCAResultJsonUnmarshaller());
 
-                        try {
-                            result = listCertificatesByCA(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListCertificatesByCARequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1588,28 +1146,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListOutgoingCertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListOutgoingCertificatesRequest, ListOutgoingCertificatesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListOutgoingCertificatesResult>() {
-                    @Override
-                    public ListOutgoingCertificatesResult call()
-                            throws Exception {
-                        ListOutgoingCertificatesResult result;
-
-                        try {
-                            result = listOutgoingCertificates(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListOutgoingCertificatesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListOutgoingCertificatesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListOutgoingCertificatesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1624,27 +1169,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPoliciesRequest, ListPoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListPoliciesResult>() {
-                    @Override
-                    public ListPoliciesResult call() throws Exception {
-                        ListPoliciesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListPoliciesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListPoliciesResultJsonUnmarshaller());
 
-                        try {
-                            result = listPolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListPoliciesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1659,27 +1192,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListPolicyPrincipalsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPolicyPrincipalsRequest, ListPolicyPrincipalsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListPolicyPrincipalsResult>() {
-                    @Override
-                    public ListPolicyPrincipalsResult call() throws Exception {
-                        ListPolicyPrincipalsResult result;
-
-                        try {
-                            result = listPolicyPrincipals(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListPolicyPrincipalsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListPolicyPrincipalsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListPolicyPrincipalsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1694,27 +1215,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListPolicyVersionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPolicyVersionsRequest, ListPolicyVersionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListPolicyVersionsResult>() {
-                    @Override
-                    public ListPolicyVersionsResult call() throws Exception {
-                        ListPolicyVersionsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListPolicyVersionsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListPolicyVersionsResultJsonUnmarshaller());
 
-                        try {
-                            result = listPolicyVersions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListPolicyVersionsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1729,27 +1238,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListPrincipalPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPrincipalPoliciesRequest, ListPrincipalPoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListPrincipalPoliciesResult>() {
-                    @Override
-                    public ListPrincipalPoliciesResult call() throws Exception {
-                        ListPrincipalPoliciesResult result;
-
-                        try {
-                            result = listPrincipalPolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListPrincipalPoliciesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListPrincipalPoliciesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListPrincipalPoliciesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1764,27 +1261,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListPrincipalThingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPrincipalThingsRequest, ListPrincipalThingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListPrincipalThingsResult>() {
-                    @Override
-                    public ListPrincipalThingsResult call() throws Exception {
-                        ListPrincipalThingsResult result;
-
-                        try {
-                            result = listPrincipalThings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListPrincipalThingsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListPrincipalThingsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListPrincipalThingsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1799,27 +1284,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListThingPrincipalsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListThingPrincipalsRequest, ListThingPrincipalsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListThingPrincipalsResult>() {
-                    @Override
-                    public ListThingPrincipalsResult call() throws Exception {
-                        ListThingPrincipalsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListThingPrincipalsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListThingPrincipalsResultJsonUnmarshaller());
 
-                        try {
-                            result = listThingPrincipals(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListThingPrincipalsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1834,27 +1307,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListThingTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListThingTypesRequest, ListThingTypesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListThingTypesResult>() {
-                    @Override
-                    public ListThingTypesResult call() throws Exception {
-                        ListThingTypesResult result;
-
-                        try {
-                            result = listThingTypes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListThingTypesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListThingTypesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListThingTypesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1869,27 +1330,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListThingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListThingsRequest, ListThingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListThingsResult>() {
-                    @Override
-                    public ListThingsResult call() throws Exception {
-                        ListThingsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListThingsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListThingsResultJsonUnmarshaller());
 
-                        try {
-                            result = listThings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListThingsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1904,27 +1353,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ListTopicRulesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTopicRulesRequest, ListTopicRulesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTopicRulesResult>() {
-                    @Override
-                    public ListTopicRulesResult call() throws Exception {
-                        ListTopicRulesResult result;
-
-                        try {
-                            result = listTopicRules(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListTopicRulesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTopicRulesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListTopicRulesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1939,27 +1376,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final RegisterCACertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterCACertificateRequest, RegisterCACertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RegisterCACertificateResult>() {
-                    @Override
-                    public RegisterCACertificateResult call() throws Exception {
-                        RegisterCACertificateResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<RegisterCACertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RegisterCACertificateResultJsonUnmarshaller());
 
-                        try {
-                            result = registerCACertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RegisterCACertificateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1974,27 +1399,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final RegisterCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterCertificateRequest, RegisterCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RegisterCertificateResult>() {
-                    @Override
-                    public RegisterCertificateResult call() throws Exception {
-                        RegisterCertificateResult result;
-
-                        try {
-                            result = registerCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<RegisterCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RegisterCertificateResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RegisterCertificateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2009,28 +1422,16 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final RejectCertificateTransferRequest request,
             final com.amazonaws.handlers.AsyncHandler<RejectCertificateTransferRequest, RejectCertificateTransferResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RejectCertificateTransferResult>() {
-                    @Override
-                    public RejectCertificateTransferResult call()
-                            throws Exception {
-                        RejectCertificateTransferResult result;
-
-                        try {
-                            result = rejectCertificateTransfer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<RejectCertificateTransferResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RejectCertificateTransferResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new RejectCertificateTransferRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2045,27 +1446,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final ReplaceTopicRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReplaceTopicRuleRequest, ReplaceTopicRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReplaceTopicRuleResult>() {
-                    @Override
-                    public ReplaceTopicRuleResult call() throws Exception {
-                        ReplaceTopicRuleResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ReplaceTopicRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ReplaceTopicRuleResultJsonUnmarshaller());
 
-                        try {
-                            result = replaceTopicRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ReplaceTopicRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2080,28 +1469,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final SetDefaultPolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetDefaultPolicyVersionRequest, SetDefaultPolicyVersionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetDefaultPolicyVersionResult>() {
-                    @Override
-                    public SetDefaultPolicyVersionResult call()
-                            throws Exception {
-                        SetDefaultPolicyVersionResult result;
-
-                        try {
-                            result = setDefaultPolicyVersion(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<SetDefaultPolicyVersionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SetDefaultPolicyVersionResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new SetDefaultPolicyVersionRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2116,27 +1492,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final SetLoggingOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetLoggingOptionsRequest, SetLoggingOptionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetLoggingOptionsResult>() {
-                    @Override
-                    public SetLoggingOptionsResult call() throws Exception {
-                        SetLoggingOptionsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<SetLoggingOptionsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SetLoggingOptionsResultJsonUnmarshaller());
 
-                        try {
-                            result = setLoggingOptions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SetLoggingOptionsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2151,27 +1515,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final TransferCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<TransferCertificateRequest, TransferCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<TransferCertificateResult>() {
-                    @Override
-                    public TransferCertificateResult call() throws Exception {
-                        TransferCertificateResult result;
-
-                        try {
-                            result = transferCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<TransferCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new TransferCertificateResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new TransferCertificateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2186,27 +1538,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final UpdateCACertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateCACertificateRequest, UpdateCACertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateCACertificateResult>() {
-                    @Override
-                    public UpdateCACertificateResult call() throws Exception {
-                        UpdateCACertificateResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateCACertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateCACertificateResultJsonUnmarshaller());
 
-                        try {
-                            result = updateCACertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateCACertificateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2221,27 +1561,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final UpdateCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateCertificateRequest, UpdateCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateCertificateResult>() {
-                    @Override
-                    public UpdateCertificateResult call() throws Exception {
-                        UpdateCertificateResult result;
-
-                        try {
-                            result = updateCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateCertificateResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateCertificateResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateCertificateRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2256,27 +1584,15 @@ public class AWSIotAsyncClient extends AWSIotClient implements AWSIotAsync {
             final UpdateThingRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateThingRequest, UpdateThingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateThingResult>() {
-                    @Override
-                    public UpdateThingResult call() throws Exception {
-                        UpdateThingResult result;
-
-                        try {
-                            result = updateThing(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateThingResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateThingResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateThingRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.iotdata;
 
 import com.amazonaws.services.iotdata.model.*;
+import com.amazonaws.services.iotdata.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -288,27 +292,15 @@ public class AWSIotDataAsyncClient extends AWSIotDataClient implements
             final DeleteThingShadowRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteThingShadowRequest, DeleteThingShadowResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteThingShadowResult>() {
-                    @Override
-                    public DeleteThingShadowResult call() throws Exception {
-                        DeleteThingShadowResult result;
-
-                        try {
-                            result = deleteThingShadow(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteThingShadowResult>> responseHandler = protocolFactory
+                .createResponseHandler(new JsonOperationMetadata()
+                        .withPayloadJson(false)
+                        .withHasStreamingSuccessResponse(false),
+                        new DeleteThingShadowResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteThingShadowRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -323,27 +315,15 @@ public class AWSIotDataAsyncClient extends AWSIotDataClient implements
             final GetThingShadowRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetThingShadowRequest, GetThingShadowResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetThingShadowResult>() {
-                    @Override
-                    public GetThingShadowResult call() throws Exception {
-                        GetThingShadowResult result;
-
-                        try {
-                            result = getThingShadow(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetThingShadowResult>> responseHandler = protocolFactory
+                .createResponseHandler(new JsonOperationMetadata()
+                        .withPayloadJson(false)
+                        .withHasStreamingSuccessResponse(false),
+                        new GetThingShadowResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetThingShadowRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -358,27 +338,15 @@ public class AWSIotDataAsyncClient extends AWSIotDataClient implements
             final PublishRequest request,
             final com.amazonaws.handlers.AsyncHandler<PublishRequest, PublishResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PublishResult>() {
-                    @Override
-                    public PublishResult call() throws Exception {
-                        PublishResult result;
-
-                        try {
-                            result = publish(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PublishResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PublishResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PublishRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -393,27 +361,15 @@ public class AWSIotDataAsyncClient extends AWSIotDataClient implements
             final UpdateThingShadowRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateThingShadowRequest, UpdateThingShadowResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateThingShadowResult>() {
-                    @Override
-                    public UpdateThingShadowResult call() throws Exception {
-                        UpdateThingShadowResult result;
-
-                        try {
-                            result = updateThingShadow(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateThingShadowResult>> responseHandler = protocolFactory
+                .createResponseHandler(new JsonOperationMetadata()
+                        .withPayloadJson(false)
+                        .withHasStreamingSuccessResponse(false),
+                        new UpdateThingShadowResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateThingShadowRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.kinesis;
 
 import com.amazonaws.services.kinesis.model.*;
+import com.amazonaws.services.kinesis.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -283,27 +287,15 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final AddTagsToStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToStreamRequest, AddTagsToStreamResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddTagsToStreamResult>() {
-                    @Override
-                    public AddTagsToStreamResult call() throws Exception {
-                        AddTagsToStreamResult result;
-
-                        try {
-                            result = addTagsToStream(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<AddTagsToStreamResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddTagsToStreamResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new AddTagsToStreamRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -318,27 +310,15 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final CreateStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateStreamRequest, CreateStreamResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateStreamResult>() {
-                    @Override
-                    public CreateStreamResult call() throws Exception {
-                        CreateStreamResult result;
-
-                        try {
-                            result = createStream(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateStreamResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateStreamResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateStreamRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -383,28 +363,16 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final DecreaseStreamRetentionPeriodRequest request,
             final com.amazonaws.handlers.AsyncHandler<DecreaseStreamRetentionPeriodRequest, DecreaseStreamRetentionPeriodResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DecreaseStreamRetentionPeriodResult>() {
-                    @Override
-                    public DecreaseStreamRetentionPeriodResult call()
-                            throws Exception {
-                        DecreaseStreamRetentionPeriodResult result;
-
-                        try {
-                            result = decreaseStreamRetentionPeriod(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DecreaseStreamRetentionPeriodResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DecreaseStreamRetentionPeriodResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DecreaseStreamRetentionPeriodRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -419,27 +387,15 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final DeleteStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteStreamRequest, DeleteStreamResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteStreamResult>() {
-                    @Override
-                    public DeleteStreamResult call() throws Exception {
-                        DeleteStreamResult result;
-
-                        try {
-                            result = deleteStream(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteStreamResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteStreamResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteStreamRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -483,27 +439,15 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final DescribeStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStreamRequest, DescribeStreamResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeStreamResult>() {
-                    @Override
-                    public DescribeStreamResult call() throws Exception {
-                        DescribeStreamResult result;
-
-                        try {
-                            result = describeStream(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeStreamResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeStreamResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeStreamRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -612,28 +556,16 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final DisableEnhancedMonitoringRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableEnhancedMonitoringRequest, DisableEnhancedMonitoringResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableEnhancedMonitoringResult>() {
-                    @Override
-                    public DisableEnhancedMonitoringResult call()
-                            throws Exception {
-                        DisableEnhancedMonitoringResult result;
-
-                        try {
-                            result = disableEnhancedMonitoring(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DisableEnhancedMonitoringResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DisableEnhancedMonitoringResultJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new DisableEnhancedMonitoringRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -648,28 +580,15 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final EnableEnhancedMonitoringRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableEnhancedMonitoringRequest, EnableEnhancedMonitoringResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableEnhancedMonitoringResult>() {
-                    @Override
-                    public EnableEnhancedMonitoringResult call()
-                            throws Exception {
-                        EnableEnhancedMonitoringResult result;
-
-                        try {
-                            result = enableEnhancedMonitoring(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<EnableEnhancedMonitoringResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new EnableEnhancedMonitoringResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new EnableEnhancedMonitoringRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -684,27 +603,15 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final GetRecordsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRecordsRequest, GetRecordsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetRecordsResult>() {
-                    @Override
-                    public GetRecordsResult call() throws Exception {
-                        GetRecordsResult result;
-
-                        try {
-                            result = getRecords(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetRecordsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetRecordsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetRecordsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -719,27 +626,15 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final GetShardIteratorRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetShardIteratorRequest, GetShardIteratorResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetShardIteratorResult>() {
-                    @Override
-                    public GetShardIteratorResult call() throws Exception {
-                        GetShardIteratorResult result;
-
-                        try {
-                            result = getShardIterator(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetShardIteratorResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetShardIteratorResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetShardIteratorRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -823,28 +718,16 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final IncreaseStreamRetentionPeriodRequest request,
             final com.amazonaws.handlers.AsyncHandler<IncreaseStreamRetentionPeriodRequest, IncreaseStreamRetentionPeriodResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<IncreaseStreamRetentionPeriodResult>() {
-                    @Override
-                    public IncreaseStreamRetentionPeriodResult call()
-                            throws Exception {
-                        IncreaseStreamRetentionPeriodResult result;
-
-                        try {
-                            result = increaseStreamRetentionPeriod(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<IncreaseStreamRetentionPeriodResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new IncreaseStreamRetentionPeriodResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new IncreaseStreamRetentionPeriodRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -859,27 +742,15 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final ListStreamsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListStreamsRequest, ListStreamsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListStreamsResult>() {
-                    @Override
-                    public ListStreamsResult call() throws Exception {
-                        ListStreamsResult result;
-
-                        try {
-                            result = listStreams(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListStreamsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListStreamsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListStreamsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -978,27 +849,15 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final ListTagsForStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForStreamRequest, ListTagsForStreamResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTagsForStreamResult>() {
-                    @Override
-                    public ListTagsForStreamResult call() throws Exception {
-                        ListTagsForStreamResult result;
-
-                        try {
-                            result = listTagsForStream(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListTagsForStreamResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTagsForStreamResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListTagsForStreamRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1013,27 +872,15 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final MergeShardsRequest request,
             final com.amazonaws.handlers.AsyncHandler<MergeShardsRequest, MergeShardsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<MergeShardsResult>() {
-                    @Override
-                    public MergeShardsResult call() throws Exception {
-                        MergeShardsResult result;
-
-                        try {
-                            result = mergeShards(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<MergeShardsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new MergeShardsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new MergeShardsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1082,27 +929,15 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final PutRecordRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRecordRequest, PutRecordResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutRecordResult>() {
-                    @Override
-                    public PutRecordResult call() throws Exception {
-                        PutRecordResult result;
-
-                        try {
-                            result = putRecord(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutRecordResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutRecordResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutRecordRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1182,27 +1017,15 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final PutRecordsRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRecordsRequest, PutRecordsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutRecordsResult>() {
-                    @Override
-                    public PutRecordsResult call() throws Exception {
-                        PutRecordsResult result;
-
-                        try {
-                            result = putRecords(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutRecordsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutRecordsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutRecordsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1217,27 +1040,15 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final RemoveTagsFromStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromStreamRequest, RemoveTagsFromStreamResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveTagsFromStreamResult>() {
-                    @Override
-                    public RemoveTagsFromStreamResult call() throws Exception {
-                        RemoveTagsFromStreamResult result;
-
-                        try {
-                            result = removeTagsFromStream(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<RemoveTagsFromStreamResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RemoveTagsFromStreamResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new RemoveTagsFromStreamRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1252,27 +1063,15 @@ public class AmazonKinesisAsyncClient extends AmazonKinesisClient implements
             final SplitShardRequest request,
             final com.amazonaws.handlers.AsyncHandler<SplitShardRequest, SplitShardResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SplitShardResult>() {
-                    @Override
-                    public SplitShardResult call() throws Exception {
-                        SplitShardResult result;
-
-                        try {
-                            result = splitShard(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<SplitShardResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SplitShardResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new SplitShardRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.buffered;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.kinesis.AmazonKinesis;
+
+/**
+ * Puts user records into Kinesis streams through an {@link AmazonKinesis} client in batches,
+ * instead of making a PutRecord call per record.
+ * <p>
+ * Small user records headed for the same shard are aggregated into a single Kinesis record,
+ * predicting the shard of each user record from the hash key ranges of the shards of its stream.
+ * Aggregated records use the format of the Kinesis Producer Library, so the Kinesis Client Library
+ * de-aggregates them transparently. Kinesis records are sent in PutRecords batches of up to
+ * {@code maxBatchRecords} records or {@code maxBatchSizeBytes} bytes, at the latest
+ * {@code maxBatchOpenMs} after they were added. The records a PutRecords call fails to put are sent
+ * again, up to {@code maxAttempts} times.
+ * <p>
+ * The producer holds at most {@code maxBufferedBytes} bytes of user records, adding a record blocks
+ * until enough of the held records were put or failed.
+ */
+public class BufferedRecordProducer {
+
+    private final AmazonKinesis client;
+
+    private final RecordProducerConfig config;
+
+    /** Makes the PutRecords calls. */
+    private final ExecutorService executor;
+
+    /** Flushes the buffers and schedules the retries. */
+    private final ScheduledExecutorService scheduler;
+
+    private final ConcurrentMap<String, StreamBuffer> streamBuffers = new ConcurrentHashMap<String, StreamBuffer>();
+
+    /** Permits for the bytes of user records the producer may hold. */
+    private final Semaphore bufferPermits;
+
+    /** The number of user records which were added but not put or failed yet. */
+    private final AtomicLong outstandingRecords = new AtomicLong();
+
+    private final Object outstandingRecordsLock = new Object();
+
+    private volatile boolean shutdown;
+
+    public BufferedRecordProducer(AmazonKinesis client) {
+        this(client, new RecordProducerConfig());
+    }
+
+    public BufferedRecordProducer(AmazonKinesis client, RecordProducerConfig config) {
+        config.validate();
+        this.client = client;
+        this.config = new RecordProducerConfig(config);
+        this.executor = Executors.newFixedThreadPool(config.getMaxInflightBatches(), new DaemonThreadFactory());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory());
+        this.bufferPermits = new Semaphore((int) Math.min(config.getMaxBufferedBytes(), Integer.MAX_VALUE));
+    }
+
+    /**
+     * Adds a user record to put into a stream, routed by the MD5 hash of its partition key.
+     *
+     * @return A future holding the result of putting the record. If the record couldn't be put,
+     *         it fails with a {@link UserRecordFailedException}.
+     * @throws IllegalArgumentException
+     *             if the partition key or the size of the record is out of the service limits
+     */
+    public Future<UserRecordResult> addUserRecord(String streamName, String partitionKey, ByteBuffer data) {
+        return addUserRecord(streamName, partitionKey, null, data);
+    }
+
+    /**
+     * Adds a user record to put into a stream, routed by the explicit hash key if it's not null
+     * and by the MD5 hash of its partition key otherwise.
+     *
+     * @return A future holding the result of putting the record. If the record couldn't be put,
+     *         it fails with a {@link UserRecordFailedException}.
+     * @throws IllegalArgumentException
+     *             if the partition key, the explicit hash key or the size of the record is out of
+     *             the service limits
+     */
+    public Future<UserRecordResult> addUserRecord(String streamName, String partitionKey, String explicitHashKey,
+            ByteBuffer data) {
+        if (shutdown) {
+            throw new AmazonClientException("The producer has been shut down");
+        }
+        UserRecord userRecord = new UserRecord(streamName, partitionKey, explicitHashKey, data);
+        try {
+            bufferPermits.acquire(userRecord.getSize());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while waiting for buffer space", e);
+        }
+        outstandingRecords.incrementAndGet();
+        streamBuffer(streamName).put(userRecord);
+        return userRecord.getFuture();
+    }
+
+    private StreamBuffer streamBuffer(String streamName) {
+        StreamBuffer streamBuffer = streamBuffers.get(streamName);
+        if (streamBuffer == null) {
+            // created under a lock, since creating it describes the stream
+            synchronized (streamBuffers) {
+                streamBuffer = streamBuffers.get(streamName);
+                if (streamBuffer == null) {
+                    streamBuffer = new StreamBuffer(this, client, config, streamName, executor, scheduler);
+                    streamBuffers.put(streamName, streamBuffer);
+                }
+            }
+        }
+        return streamBuffer;
+    }
+
+    /**
+     * @return The number of user records which were added but not put or failed yet.
+     */
+    public long getOutstandingRecordsCount() {
+        return outstandingRecords.get();
+    }
+
+    /**
+     * Sends all buffered records without waiting for {@code maxBatchOpenMs} to pass. Returns
+     * without waiting for them to be put.
+     */
+    public void flush() {
+        for (StreamBuffer streamBuffer : streamBuffers.values()) {
+            streamBuffer.flush();
+        }
+    }
+
+    /**
+     * Sends all buffered records and waits until all outstanding records were put or failed.
+     */
+    public void flushSync() {
+        flush();
+        synchronized (outstandingRecordsLock) {
+            while (outstandingRecords.get() > 0) {
+                try {
+                    outstandingRecordsLock.wait(config.getMaxBatchOpenMs());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new AmazonClientException("Interrupted while waiting for records to be put", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Puts all outstanding records and stops the producer's threads. The client is not shut
+     * down.
+     */
+    public void shutdown() {
+        shutdown = true;
+        flushSync();
+        for (StreamBuffer streamBuffer : streamBuffers.values()) {
+            streamBuffer.shutdown();
+        }
+        scheduler.shutdown();
+        executor.shutdown();
+    }
+
+    void succeed(UserRecord userRecord, UserRecordResult result) {
+        release(userRecord);
+        userRecord.getFuture().succeed(result);
+    }
+
+    void fail(UserRecord userRecord, Exception e) {
+        release(userRecord);
+        userRecord.getFuture().fail(e);
+    }
+
+    private void release(UserRecord userRecord) {
+        bufferPermits.release(userRecord.getSize());
+        if (outstandingRecords.decrementAndGet() == 0) {
+            synchronized (outstandingRecordsLock) {
+                outstandingRecordsLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * We need daemon threads in our executors so that we don't keep the process running if our
+     * executor threads are the only ones left in the process.
+     */
+    private static class DaemonThreadFactory implements ThreadFactory {
+        static AtomicInteger threadCount = new AtomicInteger(0);
+
+        public Thread newThread(Runnable r) {
+            int threadNumber = threadCount.addAndGet(1);
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName("KinesisRecordProducerThread-" + threadNumber);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.buffered;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.amazonaws.services.kinesis.model.PutRecordsRequestEntry;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * A Kinesis record assembled from one or more user records headed for the same shard.
+ * <p>
+ * A Kinesis record holding a single user record is sent as the plain user record. Several user
+ * records are aggregated into the format of the Kinesis Producer Library: a magic number, the
+ * protobuf encoded {@code AggregatedRecord} message below and the MD5 digest of that message.
+ *
+ * <pre>
+ * message AggregatedRecord {
+ *   repeated string partition_key_table = 1;
+ *   repeated string explicit_hash_key_table = 2;
+ *   repeated Record records = 3;
+ * }
+ * message Record {
+ *   required uint64 partition_key_index = 1;
+ *   optional uint64 explicit_hash_key_index = 2;
+ *   required bytes data = 3;
+ * }
+ * </pre>
+ */
+class KinesisRecord {
+
+    static final byte[] AGGREGATED_RECORD_MAGIC = { (byte) 0xF3, (byte) 0x89, (byte) 0x9A, (byte) 0xC2 };
+
+    private static final int DIGEST_LENGTH = 16;
+
+    private static final int PARTITION_KEY_TABLE_FIELD = 1;
+
+    private static final int EXPLICIT_HASH_KEY_TABLE_FIELD = 2;
+
+    private static final int RECORDS_FIELD = 3;
+
+    private static final int PARTITION_KEY_INDEX_FIELD = 1;
+
+    private static final int EXPLICIT_HASH_KEY_INDEX_FIELD = 2;
+
+    private static final int DATA_FIELD = 3;
+
+    private static final int VARINT_WIRE_TYPE = 0;
+
+    private static final int LENGTH_DELIMITED_WIRE_TYPE = 2;
+
+    /** The shard the user records were predicted to map to, null if the shards aren't known. */
+    private final String predictedShardId;
+
+    private final List<UserRecord> userRecords = new ArrayList<UserRecord>();
+
+    private final Map<String, Integer> partitionKeyIndexes = new HashMap<String, Integer>();
+
+    private final List<String> partitionKeys = new ArrayList<String>();
+
+    private final Map<String, Integer> explicitHashKeyIndexes = new HashMap<String, Integer>();
+
+    private final List<String> explicitHashKeys = new ArrayList<String>();
+
+    /** The size of the aggregated record holding the user records added so far. */
+    private int aggregatedSize = AGGREGATED_RECORD_MAGIC.length + DIGEST_LENGTH;
+
+    KinesisRecord(String predictedShardId) {
+        this.predictedShardId = predictedShardId;
+    }
+
+    /**
+     * Creates a Kinesis record holding the given user record only.
+     */
+    static KinesisRecord of(UserRecord userRecord, String predictedShardId) {
+        KinesisRecord record = new KinesisRecord(predictedShardId);
+        record.add(userRecord);
+        return record;
+    }
+
+    String getPredictedShardId() {
+        return predictedShardId;
+    }
+
+    List<UserRecord> getUserRecords() {
+        return userRecords;
+    }
+
+    boolean isEmpty() {
+        return userRecords.isEmpty();
+    }
+
+    boolean isAggregated() {
+        return userRecords.size() > 1;
+    }
+
+    /**
+     * @return The size of the aggregated record, data and partition key, if the given user record
+     *         was added to it.
+     */
+    int sizeWith(UserRecord userRecord) {
+        UserRecord first = isEmpty() ? userRecord : userRecords.get(0);
+        return aggregatedSizeWith(userRecord) + first.getPartitionKeyBytes().length;
+    }
+
+    private int aggregatedSizeWith(UserRecord userRecord) {
+        int size = aggregatedSize;
+        Integer partitionKeyIndex = partitionKeyIndexes.get(userRecord.getPartitionKey());
+        if (partitionKeyIndex == null) {
+            partitionKeyIndex = partitionKeys.size();
+            size += fieldSize(userRecord.getPartitionKeyBytes().length);
+        }
+        Integer explicitHashKeyIndex = null;
+        if (userRecord.getExplicitHashKey() != null) {
+            explicitHashKeyIndex = explicitHashKeyIndexes.get(userRecord.getExplicitHashKey());
+            if (explicitHashKeyIndex == null) {
+                explicitHashKeyIndex = explicitHashKeys.size();
+                size += fieldSize(utf8Length(userRecord.getExplicitHashKey()));
+            }
+        }
+        return size + fieldSize(recordSize(partitionKeyIndex, explicitHashKeyIndex, userRecord.getDataLength()));
+    }
+
+    void add(UserRecord userRecord) {
+        aggregatedSize = aggregatedSizeWith(userRecord);
+        if (!partitionKeyIndexes.containsKey(userRecord.getPartitionKey())) {
+            partitionKeyIndexes.put(userRecord.getPartitionKey(), partitionKeys.size());
+            partitionKeys.add(userRecord.getPartitionKey());
+        }
+        String explicitHashKey = userRecord.getExplicitHashKey();
+        if (explicitHashKey != null && !explicitHashKeyIndexes.containsKey(explicitHashKey)) {
+            explicitHashKeyIndexes.put(explicitHashKey, explicitHashKeys.size());
+            explicitHashKeys.add(explicitHashKey);
+        }
+        userRecords.add(userRecord);
+    }
+
+    /**
+     * @return The size the service accounts the record with, i.e. the size of its data and its
+     *         partition key.
+     */
+    int getSize() {
+        UserRecord first = userRecords.get(0);
+        return isAggregated() ? aggregatedSize + first.getPartitionKeyBytes().length : first.getSize();
+    }
+
+    PutRecordsRequestEntry toEntry() {
+        UserRecord first = userRecords.get(0);
+        if (!isAggregated()) {
+            return new PutRecordsRequestEntry()
+                    .withPartitionKey(first.getPartitionKey())
+                    .withExplicitHashKey(first.getExplicitHashKey())
+                    .withData(first.getData());
+        }
+        // Route the aggregated record by the hash key of its first user record, so that it ends
+        // up in the shard all of its user records were predicted to map to.
+        return new PutRecordsRequestEntry()
+                .withPartitionKey(first.getPartitionKey())
+                .withExplicitHashKey(first.getHashKey().toString())
+                .withData(ByteBuffer.wrap(aggregate()));
+    }
+
+    private byte[] aggregate() {
+        ByteBuffer buffer = ByteBuffer.allocate(aggregatedSize);
+        buffer.put(AGGREGATED_RECORD_MAGIC);
+        for (String partitionKey : partitionKeys) {
+            putBytesField(buffer, PARTITION_KEY_TABLE_FIELD, partitionKey.getBytes(StringUtils.UTF8));
+        }
+        for (String explicitHashKey : explicitHashKeys) {
+            putBytesField(buffer, EXPLICIT_HASH_KEY_TABLE_FIELD, explicitHashKey.getBytes(StringUtils.UTF8));
+        }
+        for (UserRecord userRecord : userRecords) {
+            Integer partitionKeyIndex = partitionKeyIndexes.get(userRecord.getPartitionKey());
+            Integer explicitHashKeyIndex = userRecord.getExplicitHashKey() == null ? null
+                    : explicitHashKeyIndexes.get(userRecord.getExplicitHashKey());
+
+            putTag(buffer, RECORDS_FIELD, LENGTH_DELIMITED_WIRE_TYPE);
+            putVarint(buffer, recordSize(partitionKeyIndex, explicitHashKeyIndex, userRecord.getDataLength()));
+            putTag(buffer, PARTITION_KEY_INDEX_FIELD, VARINT_WIRE_TYPE);
+            putVarint(buffer, partitionKeyIndex);
+            if (explicitHashKeyIndex != null) {
+                putTag(buffer, EXPLICIT_HASH_KEY_INDEX_FIELD, VARINT_WIRE_TYPE);
+                putVarint(buffer, explicitHashKeyIndex);
+            }
+            putTag(buffer, DATA_FIELD, LENGTH_DELIMITED_WIRE_TYPE);
+            putVarint(buffer, userRecord.getDataLength());
+            buffer.put(userRecord.getData());
+        }
+
+        MessageDigest md5 = UserRecord.md5();
+        md5.update(buffer.array(), AGGREGATED_RECORD_MAGIC.length, buffer.position() - AGGREGATED_RECORD_MAGIC.length);
+        buffer.put(md5.digest());
+        return buffer.array();
+    }
+
+    private static int recordSize(int partitionKeyIndex, Integer explicitHashKeyIndex, int dataLength) {
+        int size = 1 + varintSize(partitionKeyIndex);
+        if (explicitHashKeyIndex != null) {
+            size += 1 + varintSize(explicitHashKeyIndex);
+        }
+        return size + fieldSize(dataLength);
+    }
+
+    /**
+     * @return The size of a length delimited field with the given length, including its tag.
+     */
+    private static int fieldSize(int length) {
+        return 1 + varintSize(length) + length;
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        while ((value >>>= 7) != 0) {
+            size++;
+        }
+        return size;
+    }
+
+    private static int utf8Length(String value) {
+        return value.getBytes(StringUtils.UTF8).length;
+    }
+
+    private static void putTag(ByteBuffer buffer, int field, int wireType) {
+        buffer.put((byte) (field << 3 | wireType));
+    }
+
+    private static void putBytesField(ByteBuffer buffer, int field, byte[] bytes) {
+        putTag(buffer, field, LENGTH_DELIMITED_WIRE_TYPE);
+        putVarint(buffer, bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static void putVarint(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+}
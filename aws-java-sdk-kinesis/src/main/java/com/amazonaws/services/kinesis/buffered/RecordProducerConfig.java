@@ -0,0 +1,372 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.buffered;
+
+import com.amazonaws.AmazonClientException;
+
+/**
+ * Configuration of a {@link BufferedRecordProducer}.
+ */
+public class RecordProducerConfig {
+
+    /** The maximum number of records a PutRecords call accepts. */
+    public static final int SERVICE_MAX_BATCH_RECORDS = 500;
+
+    /** The maximum size of a PutRecords call, 5 MiB. */
+    public static final long SERVICE_MAX_BATCH_SIZE_BYTES = 5 * 1024 * 1024;
+
+    /** The maximum size of the data and partition key of a single record, 1 MiB. */
+    public static final int SERVICE_MAX_RECORD_SIZE_BYTES = 1024 * 1024;
+
+    /**
+     * The maximum time (milliseconds) records are buffered before they are sent. The longer this
+     * time, the more records get aggregated and batched together, which reduces the number of
+     * calls made and increases throughput, but also increases average record latency.
+     */
+    private long maxBatchOpenMs;
+
+    /** 100 milliseconds */
+    public static final long MAX_BATCH_OPEN_MS_DEFAULT = 100;
+
+    /** The maximum number of records sent in one PutRecords call. */
+    private int maxBatchRecords;
+
+    public static final int MAX_BATCH_RECORDS_DEFAULT = SERVICE_MAX_BATCH_RECORDS;
+
+    /** The maximum size (bytes) of the records sent in one PutRecords call. */
+    private long maxBatchSizeBytes;
+
+    public static final long MAX_BATCH_SIZE_BYTES_DEFAULT = SERVICE_MAX_BATCH_SIZE_BYTES;
+
+    /**
+     * Should user records headed for the same shard be aggregated into a single Kinesis record or
+     * not? Aggregated records use the same format as the Kinesis Producer Library, which the
+     * Kinesis Client Library de-aggregates transparently.
+     */
+    private boolean aggregationEnabled;
+
+    /** true */
+    public static final boolean AGGREGATION_ENABLED_DEFAULT = true;
+
+    /** The maximum size (bytes) of an aggregated Kinesis record. */
+    private int maxAggregatedRecordSizeBytes;
+
+    /** 50 kilobytes */
+    public static final int MAX_AGGREGATED_RECORD_SIZE_BYTES_DEFAULT = 50 * 1024;
+
+    /**
+     * The maximum number of bytes of user records held by the producer, counting both buffered
+     * records and records which are being sent or waiting to be retried. Adding a record blocks
+     * while the limit is reached.
+     */
+    private long maxBufferedBytes;
+
+    /** 64 megabytes */
+    public static final long MAX_BUFFERED_BYTES_DEFAULT = 64 * 1024 * 1024;
+
+    /**
+     * The maximum number of concurrent PutRecords calls. The greater the number, the greater the
+     * throughput that can be achieved (at the expense of consuming more threads).
+     */
+    private int maxInflightBatches;
+
+    /** 16 batches */
+    public static final int MAX_INFLIGHT_BATCHES_DEFAULT = 16;
+
+    /**
+     * The maximum number of times a user record is sent before it is failed. Only the records a
+     * PutRecords call failed to put are sent again.
+     */
+    private int maxAttempts;
+
+    /** 10 attempts */
+    public static final int MAX_ATTEMPTS_DEFAULT = 10;
+
+    public RecordProducerConfig() {
+        this.maxBatchOpenMs = MAX_BATCH_OPEN_MS_DEFAULT;
+        this.maxBatchRecords = MAX_BATCH_RECORDS_DEFAULT;
+        this.maxBatchSizeBytes = MAX_BATCH_SIZE_BYTES_DEFAULT;
+        this.aggregationEnabled = AGGREGATION_ENABLED_DEFAULT;
+        this.maxAggregatedRecordSizeBytes = MAX_AGGREGATED_RECORD_SIZE_BYTES_DEFAULT;
+        this.maxBufferedBytes = MAX_BUFFERED_BYTES_DEFAULT;
+        this.maxInflightBatches = MAX_INFLIGHT_BATCHES_DEFAULT;
+        this.maxAttempts = MAX_ATTEMPTS_DEFAULT;
+    }
+
+    /** copy constructor */
+    public RecordProducerConfig(RecordProducerConfig other) {
+        maxBatchOpenMs = other.maxBatchOpenMs;
+        maxBatchRecords = other.maxBatchRecords;
+        maxBatchSizeBytes = other.maxBatchSizeBytes;
+        aggregationEnabled = other.aggregationEnabled;
+        maxAggregatedRecordSizeBytes = other.maxAggregatedRecordSizeBytes;
+        maxBufferedBytes = other.maxBufferedBytes;
+        maxInflightBatches = other.maxInflightBatches;
+        maxAttempts = other.maxAttempts;
+    }
+
+    @Override
+    public String toString() {
+        return "RecordProducerConfig [maxBatchOpenMs=" + maxBatchOpenMs + ", maxBatchRecords="
+                + maxBatchRecords + ", maxBatchSizeBytes=" + maxBatchSizeBytes + ", aggregationEnabled="
+                + aggregationEnabled + ", maxAggregatedRecordSizeBytes=" + maxAggregatedRecordSizeBytes
+                + ", maxBufferedBytes=" + maxBufferedBytes + ", maxInflightBatches=" + maxInflightBatches
+                + ", maxAttempts=" + maxAttempts + "]";
+    }
+
+    /**
+     * The maximum time (milliseconds) records are buffered before they are sent. The longer this
+     * time, the more records get aggregated and batched together, which reduces the number of
+     * calls made and increases throughput, but also increases average record latency.
+     */
+    public long getMaxBatchOpenMs() {
+        return maxBatchOpenMs;
+    }
+
+    /**
+     * The maximum time (milliseconds) records are buffered before they are sent. The longer this
+     * time, the more records get aggregated and batched together, which reduces the number of
+     * calls made and increases throughput, but also increases average record latency.
+     */
+    public void setMaxBatchOpenMs(long maxBatchOpenMs) {
+        this.maxBatchOpenMs = maxBatchOpenMs;
+    }
+
+    /**
+     * The maximum time (milliseconds) records are buffered before they are sent. The longer this
+     * time, the more records get aggregated and batched together, which reduces the number of
+     * calls made and increases throughput, but also increases average record latency.
+     */
+    public RecordProducerConfig withMaxBatchOpenMs(long maxBatchOpenMs) {
+        setMaxBatchOpenMs(maxBatchOpenMs);
+        return this;
+    }
+
+    /**
+     * The maximum number of records sent in one PutRecords call. Can be at most
+     * {@value #SERVICE_MAX_BATCH_RECORDS}.
+     */
+    public int getMaxBatchRecords() {
+        return maxBatchRecords;
+    }
+
+    /**
+     * The maximum number of records sent in one PutRecords call. Can be at most
+     * {@value #SERVICE_MAX_BATCH_RECORDS}.
+     */
+    public void setMaxBatchRecords(int maxBatchRecords) {
+        this.maxBatchRecords = maxBatchRecords;
+    }
+
+    /**
+     * The maximum number of records sent in one PutRecords call. Can be at most
+     * {@value #SERVICE_MAX_BATCH_RECORDS}.
+     */
+    public RecordProducerConfig withMaxBatchRecords(int maxBatchRecords) {
+        setMaxBatchRecords(maxBatchRecords);
+        return this;
+    }
+
+    /**
+     * The maximum size (bytes) of the records sent in one PutRecords call. Can be at most
+     * {@value #SERVICE_MAX_BATCH_SIZE_BYTES}.
+     */
+    public long getMaxBatchSizeBytes() {
+        return maxBatchSizeBytes;
+    }
+
+    /**
+     * The maximum size (bytes) of the records sent in one PutRecords call. Can be at most
+     * {@value #SERVICE_MAX_BATCH_SIZE_BYTES}.
+     */
+    public void setMaxBatchSizeBytes(long maxBatchSizeBytes) {
+        this.maxBatchSizeBytes = maxBatchSizeBytes;
+    }
+
+    /**
+     * The maximum size (bytes) of the records sent in one PutRecords call. Can be at most
+     * {@value #SERVICE_MAX_BATCH_SIZE_BYTES}.
+     */
+    public RecordProducerConfig withMaxBatchSizeBytes(long maxBatchSizeBytes) {
+        setMaxBatchSizeBytes(maxBatchSizeBytes);
+        return this;
+    }
+
+    /**
+     * Should user records headed for the same shard be aggregated into a single Kinesis record or
+     * not? Aggregated records use the same format as the Kinesis Producer Library, which the
+     * Kinesis Client Library de-aggregates transparently.
+     */
+    public boolean isAggregationEnabled() {
+        return aggregationEnabled;
+    }
+
+    /**
+     * Should user records headed for the same shard be aggregated into a single Kinesis record or
+     * not? Aggregated records use the same format as the Kinesis Producer Library, which the
+     * Kinesis Client Library de-aggregates transparently.
+     */
+    public void setAggregationEnabled(boolean aggregationEnabled) {
+        this.aggregationEnabled = aggregationEnabled;
+    }
+
+    /**
+     * Should user records headed for the same shard be aggregated into a single Kinesis record or
+     * not? Aggregated records use the same format as the Kinesis Producer Library, which the
+     * Kinesis Client Library de-aggregates transparently.
+     */
+    public RecordProducerConfig withAggregationEnabled(boolean aggregationEnabled) {
+        setAggregationEnabled(aggregationEnabled);
+        return this;
+    }
+
+    /**
+     * The maximum size (bytes) of an aggregated Kinesis record. User records larger than this
+     * are sent on their own.
+     */
+    public int getMaxAggregatedRecordSizeBytes() {
+        return maxAggregatedRecordSizeBytes;
+    }
+
+    /**
+     * The maximum size (bytes) of an aggregated Kinesis record. User records larger than this
+     * are sent on their own.
+     */
+    public void setMaxAggregatedRecordSizeBytes(int maxAggregatedRecordSizeBytes) {
+        this.maxAggregatedRecordSizeBytes = maxAggregatedRecordSizeBytes;
+    }
+
+    /**
+     * The maximum size (bytes) of an aggregated Kinesis record. User records larger than this
+     * are sent on their own.
+     */
+    public RecordProducerConfig withMaxAggregatedRecordSizeBytes(int maxAggregatedRecordSizeBytes) {
+        setMaxAggregatedRecordSizeBytes(maxAggregatedRecordSizeBytes);
+        return this;
+    }
+
+    /**
+     * The maximum number of bytes of user records held by the producer, counting both buffered
+     * records and records which are being sent or waiting to be retried. Adding a record blocks
+     * while the limit is reached.
+     */
+    public long getMaxBufferedBytes() {
+        return maxBufferedBytes;
+    }
+
+    /**
+     * The maximum number of bytes of user records held by the producer, counting both buffered
+     * records and records which are being sent or waiting to be retried. Adding a record blocks
+     * while the limit is reached.
+     */
+    public void setMaxBufferedBytes(long maxBufferedBytes) {
+        this.maxBufferedBytes = maxBufferedBytes;
+    }
+
+    /**
+     * The maximum number of bytes of user records held by the producer, counting both buffered
+     * records and records which are being sent or waiting to be retried. Adding a record blocks
+     * while the limit is reached.
+     */
+    public RecordProducerConfig withMaxBufferedBytes(long maxBufferedBytes) {
+        setMaxBufferedBytes(maxBufferedBytes);
+        return this;
+    }
+
+    /**
+     * The maximum number of concurrent PutRecords calls. The greater the number, the greater the
+     * throughput that can be achieved (at the expense of consuming more threads).
+     */
+    public int getMaxInflightBatches() {
+        return maxInflightBatches;
+    }
+
+    /**
+     * The maximum number of concurrent PutRecords calls. The greater the number, the greater the
+     * throughput that can be achieved (at the expense of consuming more threads).
+     */
+    public void setMaxInflightBatches(int maxInflightBatches) {
+        this.maxInflightBatches = maxInflightBatches;
+    }
+
+    /**
+     * The maximum number of concurrent PutRecords calls. The greater the number, the greater the
+     * throughput that can be achieved (at the expense of consuming more threads).
+     */
+    public RecordProducerConfig withMaxInflightBatches(int maxInflightBatches) {
+        setMaxInflightBatches(maxInflightBatches);
+        return this;
+    }
+
+    /**
+     * The maximum number of times a user record is sent before it is failed. Only the records a
+     * PutRecords call failed to put are sent again.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * The maximum number of times a user record is sent before it is failed. Only the records a
+     * PutRecords call failed to put are sent again.
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * The maximum number of times a user record is sent before it is failed. Only the records a
+     * PutRecords call failed to put are sent again.
+     */
+    public RecordProducerConfig withMaxAttempts(int maxAttempts) {
+        setMaxAttempts(maxAttempts);
+        return this;
+    }
+
+    /**
+     * this method checks the config for validity. If the config is deemed to be invalid, an
+     * informative exception is thrown.
+     *
+     * @throws AmazonClientException
+     *             with a message explaining why the config was invalid
+     */
+    void validate() {
+        if (maxBatchOpenMs <= 0) {
+            throw new AmazonClientException("Maximum batch open time must be positive");
+        }
+        if (maxBatchRecords < 1 || maxBatchRecords > SERVICE_MAX_BATCH_RECORDS) {
+            throw new AmazonClientException("Maximum batch records must be between 1 and "
+                    + SERVICE_MAX_BATCH_RECORDS);
+        }
+        if (maxBatchSizeBytes < SERVICE_MAX_RECORD_SIZE_BYTES || maxBatchSizeBytes > SERVICE_MAX_BATCH_SIZE_BYTES) {
+            throw new AmazonClientException("Maximum batch size must be between " + SERVICE_MAX_RECORD_SIZE_BYTES
+                    + " and " + SERVICE_MAX_BATCH_SIZE_BYTES + " bytes");
+        }
+        if (maxAggregatedRecordSizeBytes < 1 || maxAggregatedRecordSizeBytes > SERVICE_MAX_RECORD_SIZE_BYTES) {
+            throw new AmazonClientException("Maximum aggregated record size must be between 1 and "
+                    + SERVICE_MAX_RECORD_SIZE_BYTES + " bytes");
+        }
+        if (maxBufferedBytes < SERVICE_MAX_RECORD_SIZE_BYTES) {
+            throw new AmazonClientException("Maximum buffered bytes must be at least " + SERVICE_MAX_RECORD_SIZE_BYTES);
+        }
+        if (maxInflightBatches < 1) {
+            throw new AmazonClientException("Maximum inflight batches must be positive");
+        }
+        if (maxAttempts < 1) {
+            throw new AmazonClientException("Maximum attempts must be positive");
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.buffered;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.kinesis.AmazonKinesis;
+import com.amazonaws.services.kinesis.model.DescribeStreamRequest;
+import com.amazonaws.services.kinesis.model.Shard;
+import com.amazonaws.services.kinesis.model.StreamDescription;
+
+/**
+ * Predicts the shard a record is put into from the hash key ranges of the open shards of a
+ * stream, as reported by DescribeStream.
+ * <p>
+ * The map is loaded once when it's created and reloaded in the background whenever a record
+ * turns out to be put into a different shard than predicted, e.g. after the stream was
+ * resharded. The previous map stays in use while it's reloaded.
+ */
+class ShardMap {
+    private static final Log log = LogFactory.getLog(ShardMap.class);
+
+    /** DescribeStream is throttled at a few calls per second for the whole account. */
+    private static final long MIN_REFRESH_INTERVAL_MS = 1000;
+
+    private final AmazonKinesis client;
+
+    private final String streamName;
+
+    private final Executor executor;
+
+    /** The open shards by ending hash key, null if they couldn't be loaded yet. */
+    private volatile OpenShards openShards;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+    private volatile long lastRefreshMs;
+
+    ShardMap(AmazonKinesis client, String streamName, Executor executor) {
+        this.client = client;
+        this.streamName = streamName;
+        this.executor = executor;
+    }
+
+    /**
+     * @return The id of the shard records with the given hash key are put into, or null if it's
+     *         not known.
+     */
+    String shardFor(BigInteger hashKey) {
+        OpenShards current = openShards;
+        if (current == null) {
+            invalidate();
+            return null;
+        }
+        return current.shardFor(hashKey);
+    }
+
+    /**
+     * Reloads the map in the background, unless it was reloaded very recently.
+     */
+    void invalidate() {
+        if (System.currentTimeMillis() - lastRefreshMs < MIN_REFRESH_INTERVAL_MS
+                || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    refresh();
+                } finally {
+                    refreshing.set(false);
+                }
+            }
+        });
+    }
+
+    /**
+     * Reloads the map, keeping the previous one if the shards of the stream can't be described.
+     */
+    void refresh() {
+        lastRefreshMs = System.currentTimeMillis();
+        try {
+            openShards = load();
+        } catch (AmazonClientException e) {
+            log.warn("Unable to describe the shards of stream " + streamName
+                    + ", records are sent without being aggregated until they are known", e);
+        }
+    }
+
+    private OpenShards load() {
+        List<Shard> shards = new ArrayList<Shard>();
+        String lastShardId = null;
+        StreamDescription description;
+        do {
+            description = client.describeStream(new DescribeStreamRequest()
+                    .withStreamName(streamName)
+                    .withExclusiveStartShardId(lastShardId))
+                    .getStreamDescription();
+            for (Shard shard : description.getShards()) {
+                lastShardId = shard.getShardId();
+                if (shard.getSequenceNumberRange().getEndingSequenceNumber() == null) {
+                    shards.add(shard);
+                }
+            }
+        } while (Boolean.TRUE.equals(description.getHasMoreShards()) && !description.getShards().isEmpty());
+        return new OpenShards(shards);
+    }
+
+    private static class OpenShards {
+
+        private final BigInteger[] startingHashKeys;
+
+        private final BigInteger[] endingHashKeys;
+
+        private final String[] shardIds;
+
+        OpenShards(List<Shard> shards) {
+            List<Shard> sorted = new ArrayList<Shard>(shards);
+            Collections.sort(sorted, new Comparator<Shard>() {
+                @Override
+                public int compare(Shard a, Shard b) {
+                    return endingHashKey(a).compareTo(endingHashKey(b));
+                }
+            });
+            startingHashKeys = new BigInteger[sorted.size()];
+            endingHashKeys = new BigInteger[sorted.size()];
+            shardIds = new String[sorted.size()];
+            for (int i = 0; i < sorted.size(); i++) {
+                Shard shard = sorted.get(i);
+                startingHashKeys[i] = new BigInteger(shard.getHashKeyRange().getStartingHashKey());
+                endingHashKeys[i] = endingHashKey(shard);
+                shardIds[i] = shard.getShardId();
+            }
+        }
+
+        private static BigInteger endingHashKey(Shard shard) {
+            return new BigInteger(shard.getHashKeyRange().getEndingHashKey());
+        }
+
+        String shardFor(BigInteger hashKey) {
+            int low = 0;
+            int high = endingHashKeys.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (endingHashKeys[mid].compareTo(hashKey) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            if (high < 0 || endingHashKeys[low].compareTo(hashKey) < 0
+                    || startingHashKeys[low].compareTo(hashKey) > 0) {
+                return null;
+            }
+            return shardIds[low];
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.buffered;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonServiceException.ErrorType;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.services.kinesis.AmazonKinesis;
+import com.amazonaws.services.kinesis.model.PutRecordsRequest;
+import com.amazonaws.services.kinesis.model.PutRecordsRequestEntry;
+import com.amazonaws.services.kinesis.model.PutRecordsResult;
+import com.amazonaws.services.kinesis.model.PutRecordsResultEntry;
+
+/**
+ * Buffers the user records of one stream. <br>
+ * User records are aggregated per predicted shard into Kinesis records, which are closed once
+ * they reach the maximum aggregated record size. Closed Kinesis records are added to the open
+ * PutRecords batch of the stream, which is sent as soon as it's full. Everything still buffered
+ * is sent every {@code maxBatchOpenMs}, so records don't wait for longer than that. <br>
+ * Records a PutRecords call fails to put are added back to the buffer after a backoff, so only
+ * they are sent again.
+ */
+class StreamBuffer {
+    private static final Log log = LogFactory.getLog(StreamBuffer.class);
+
+    private static final long RETRY_BASE_DELAY_MS = 100;
+
+    private static final long RETRY_MAX_DELAY_MS = 5000;
+
+    private static final String WRONG_SHARD_ERROR_CODE = "WrongShard";
+
+    private final BufferedRecordProducer producer;
+
+    private final AmazonKinesis client;
+
+    private final RecordProducerConfig config;
+
+    private final String streamName;
+
+    /** The executor the PutRecords calls are made on. */
+    private final Executor executor;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final ShardMap shardMap;
+
+    /** The Kinesis records user records are being aggregated into, by predicted shard. */
+    private final ConcurrentMap<String, Aggregation> aggregations = new ConcurrentHashMap<String, Aggregation>();
+
+    private final Object batchLock = new Object();
+
+    /** The open PutRecords batch, guarded by batchLock. */
+    private Batch openBatch = new Batch();
+
+    private final ScheduledFuture<?> flushTask;
+
+    StreamBuffer(BufferedRecordProducer producer, AmazonKinesis client, RecordProducerConfig config,
+            String streamName, Executor executor, ScheduledExecutorService scheduler) {
+        this.producer = producer;
+        this.client = client;
+        this.config = config;
+        this.streamName = streamName;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.shardMap = new ShardMap(client, streamName, executor);
+        if (config.isAggregationEnabled()) {
+            shardMap.refresh();
+        }
+        this.flushTask = scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    flush();
+                } catch (RuntimeException e) {
+                    log.warn("Unable to flush the records of stream " + StreamBuffer.this.streamName, e);
+                }
+            }
+        }, config.getMaxBatchOpenMs(), config.getMaxBatchOpenMs(), TimeUnit.MILLISECONDS);
+    }
+
+    void put(UserRecord userRecord) {
+        String shardId = config.isAggregationEnabled() ? shardMap.shardFor(userRecord.getHashKey()) : null;
+        if (shardId == null) {
+            addToBatch(KinesisRecord.of(userRecord, null));
+            return;
+        }
+
+        Aggregation aggregation = aggregationFor(shardId);
+        KinesisRecord closed = null;
+        KinesisRecord single = null;
+        synchronized (aggregation) {
+            if (!aggregation.record.isEmpty()
+                    && aggregation.record.sizeWith(userRecord) > config.getMaxAggregatedRecordSizeBytes()) {
+                closed = aggregation.record;
+                aggregation.record = new KinesisRecord(shardId);
+            }
+            if (aggregation.record.sizeWith(userRecord) > config.getMaxAggregatedRecordSizeBytes()) {
+                // too large to be aggregated at all
+                single = KinesisRecord.of(userRecord, shardId);
+            } else {
+                aggregation.record.add(userRecord);
+            }
+        }
+        if (closed != null) {
+            addToBatch(closed);
+        }
+        if (single != null) {
+            addToBatch(single);
+        }
+    }
+
+    private Aggregation aggregationFor(String shardId) {
+        Aggregation aggregation = aggregations.get(shardId);
+        if (aggregation == null) {
+            aggregation = new Aggregation(shardId);
+            Aggregation existing = aggregations.putIfAbsent(shardId, aggregation);
+            if (existing != null) {
+                aggregation = existing;
+            }
+        }
+        return aggregation;
+    }
+
+    private void addToBatch(KinesisRecord record) {
+        Batch closed = null;
+        Batch full = null;
+        synchronized (batchLock) {
+            if (!openBatch.fits(record)) {
+                closed = openBatch;
+                openBatch = new Batch();
+            }
+            openBatch.add(record);
+            if (openBatch.records.size() >= config.getMaxBatchRecords()) {
+                full = openBatch;
+                openBatch = new Batch();
+            }
+        }
+        send(closed);
+        send(full);
+    }
+
+    /**
+     * Closes the Kinesis records being aggregated and sends the open batch.
+     */
+    void flush() {
+        for (Aggregation aggregation : aggregations.values()) {
+            KinesisRecord closed;
+            synchronized (aggregation) {
+                if (aggregation.record.isEmpty()) {
+                    continue;
+                }
+                closed = aggregation.record;
+                aggregation.record = new KinesisRecord(aggregation.shardId);
+            }
+            addToBatch(closed);
+        }
+        Batch batch;
+        synchronized (batchLock) {
+            batch = openBatch;
+            openBatch = new Batch();
+        }
+        send(batch);
+    }
+
+    void shutdown() {
+        flushTask.cancel(false);
+    }
+
+    private void send(final Batch batch) {
+        if (batch == null || batch.records.isEmpty()) {
+            return;
+        }
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                putRecords(batch.records);
+            }
+        });
+    }
+
+    private void putRecords(List<KinesisRecord> records) {
+        List<PutRecordsRequestEntry> entries = new ArrayList<PutRecordsRequestEntry>(records.size());
+        for (KinesisRecord record : records) {
+            entries.add(record.toEntry());
+            for (UserRecord userRecord : record.getUserRecords()) {
+                userRecord.incrementAttempts();
+            }
+        }
+
+        PutRecordsResult result;
+        try {
+            result = client.putRecords(new PutRecordsRequest()
+                    .withStreamName(streamName)
+                    .withRecords(entries));
+        } catch (AmazonServiceException e) {
+            boolean retryable = e.getErrorType() != ErrorType.Client || RetryUtils.isThrottlingException(e);
+            for (KinesisRecord record : records) {
+                retryOrFail(record.getUserRecords(), e.getErrorCode(), e.getMessage(), e, retryable);
+            }
+            return;
+        } catch (RuntimeException e) {
+            for (KinesisRecord record : records) {
+                retryOrFail(record.getUserRecords(), null, e.getMessage(), e, true);
+            }
+            return;
+        }
+
+        boolean shardMapStale = false;
+        for (int i = 0; i < records.size(); i++) {
+            KinesisRecord record = records.get(i);
+            PutRecordsResultEntry entry = result.getRecords().get(i);
+            if (entry.getErrorCode() != null) {
+                retryOrFail(record.getUserRecords(), entry.getErrorCode(), entry.getErrorMessage(), null, true);
+                continue;
+            }
+
+            String predictedShardId = record.getPredictedShardId();
+            if (predictedShardId != null && !predictedShardId.equals(entry.getShardId())) {
+                shardMapStale = true;
+                if (record.isAggregated()) {
+                    // Consumers drop the user records outside the hash key range of the shard
+                    // an aggregated record is read from, so put them again.
+                    retryOrFail(record.getUserRecords(), WRONG_SHARD_ERROR_CODE, "Aggregated record was put into shard "
+                            + entry.getShardId() + " instead of " + predictedShardId, null, true);
+                    continue;
+                }
+            }
+
+            List<UserRecord> userRecords = record.getUserRecords();
+            for (int j = 0; j < userRecords.size(); j++) {
+                UserRecord userRecord = userRecords.get(j);
+                producer.succeed(userRecord, new UserRecordResult(entry.getShardId(), entry.getSequenceNumber(),
+                        record.isAggregated() ? j : 0, userRecord.getAttempts()));
+            }
+        }
+        if (shardMapStale) {
+            shardMap.invalidate();
+        }
+    }
+
+    private void retryOrFail(List<UserRecord> userRecords, String errorCode, String errorMessage,
+            Throwable cause, boolean retryable) {
+        for (final UserRecord userRecord : userRecords) {
+            int attempts = userRecord.getAttempts();
+            if (!retryable || attempts >= config.getMaxAttempts()) {
+                producer.fail(userRecord, new UserRecordFailedException("Unable to put record after " + attempts
+                        + " attempts: " + errorMessage, errorCode, attempts, cause));
+                continue;
+            }
+            long delay = Math.min(RETRY_BASE_DELAY_MS << Math.min(attempts - 1, 16), RETRY_MAX_DELAY_MS);
+            scheduler.schedule(new Runnable() {
+                @Override
+                public void run() {
+                    put(userRecord);
+                }
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * The Kinesis record user records for a shard are aggregated into.
+     */
+    private static class Aggregation {
+
+        private final String shardId;
+
+        /** Guarded by the aggregation. */
+        private KinesisRecord record;
+
+        Aggregation(String shardId) {
+            this.shardId = shardId;
+            this.record = new KinesisRecord(shardId);
+        }
+    }
+
+    /**
+     * The Kinesis records of one PutRecords call.
+     */
+    private class Batch {
+
+        private final List<KinesisRecord> records = new ArrayList<KinesisRecord>();
+
+        private long sizeBytes;
+
+        boolean fits(KinesisRecord record) {
+            return records.isEmpty() || sizeBytes + record.getSize() <= config.getMaxBatchSizeBytes();
+        }
+
+        void add(KinesisRecord record) {
+            records.add(record);
+            sizeBytes += record.getSize();
+        }
+    }
+}
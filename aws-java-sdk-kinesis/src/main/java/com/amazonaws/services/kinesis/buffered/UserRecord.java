@@ -0,0 +1,201 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.buffered;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * A user record held by a {@link BufferedRecordProducer} until it's put or failed.
+ */
+class UserRecord {
+
+    /** Hash keys are unsigned 128 bit integers. */
+    static final BigInteger MAX_HASH_KEY = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+
+    private static final int MAX_PARTITION_KEY_LENGTH = 256;
+
+    /** Every user record is hashed, so the digests are reused rather than looked up each time. */
+    private static final ThreadLocal<MessageDigest> MD5_MESSAGE_DIGEST = new ThreadLocal<MessageDigest>() {
+        @Override
+        protected MessageDigest initialValue() {
+            try {
+                return MessageDigest.getInstance("MD5");
+            } catch (NoSuchAlgorithmException e) {
+                throw new AmazonClientException("Unable to get MD5 Function" + e.getMessage(), e);
+            }
+        }
+    };
+
+    private final String streamName;
+
+    private final String partitionKey;
+
+    private final byte[] partitionKeyBytes;
+
+    private final String explicitHashKey;
+
+    /** The hash key the record is routed by. */
+    private final BigInteger hashKey;
+
+    private final ByteBuffer data;
+
+    private final ResultFuture future = new ResultFuture();
+
+    /** The number of times the record was sent, only updated by the sending thread. */
+    private volatile int attempts;
+
+    UserRecord(String streamName, String partitionKey, String explicitHashKey, ByteBuffer data) {
+        if (streamName == null) {
+            throw new IllegalArgumentException("Stream name must not be null");
+        }
+        if (partitionKey == null || partitionKey.isEmpty() || partitionKey.length() > MAX_PARTITION_KEY_LENGTH) {
+            throw new IllegalArgumentException("Partition key must be between 1 and " + MAX_PARTITION_KEY_LENGTH
+                    + " characters long");
+        }
+        if (data == null) {
+            throw new IllegalArgumentException("Data must not be null");
+        }
+        this.streamName = streamName;
+        this.partitionKey = partitionKey;
+        this.partitionKeyBytes = partitionKey.getBytes(StringUtils.UTF8);
+        this.explicitHashKey = explicitHashKey;
+        this.hashKey = explicitHashKey == null ? hash(partitionKeyBytes) : parseHashKey(explicitHashKey);
+        this.data = data.slice().asReadOnlyBuffer();
+        if (getSize() > RecordProducerConfig.SERVICE_MAX_RECORD_SIZE_BYTES) {
+            throw new IllegalArgumentException("Data and partition key must be at most "
+                    + RecordProducerConfig.SERVICE_MAX_RECORD_SIZE_BYTES + " bytes");
+        }
+    }
+
+    /**
+     * @return The MD5 digest of the calling thread, reset.
+     */
+    static MessageDigest md5() {
+        MessageDigest md5 = MD5_MESSAGE_DIGEST.get();
+        md5.reset();
+        return md5;
+    }
+
+    private static BigInteger hash(byte[] partitionKeyBytes) {
+        return new BigInteger(1, md5().digest(partitionKeyBytes));
+    }
+
+    private static BigInteger parseHashKey(String explicitHashKey) {
+        BigInteger hashKey;
+        try {
+            hashKey = new BigInteger(explicitHashKey);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Explicit hash key must be a decimal number", e);
+        }
+        if (hashKey.signum() < 0 || hashKey.compareTo(MAX_HASH_KEY) > 0) {
+            throw new IllegalArgumentException("Explicit hash key must be between 0 and " + MAX_HASH_KEY);
+        }
+        return hashKey;
+    }
+
+    String getStreamName() {
+        return streamName;
+    }
+
+    String getPartitionKey() {
+        return partitionKey;
+    }
+
+    byte[] getPartitionKeyBytes() {
+        return partitionKeyBytes;
+    }
+
+    String getExplicitHashKey() {
+        return explicitHashKey;
+    }
+
+    BigInteger getHashKey() {
+        return hashKey;
+    }
+
+    /**
+     * @return A view of the data of the record, which the caller may consume.
+     */
+    ByteBuffer getData() {
+        return data.duplicate();
+    }
+
+    int getDataLength() {
+        return data.remaining();
+    }
+
+    /**
+     * @return The size the service accounts the record with, which is also what the record
+     *         holds of the producer's buffer.
+     */
+    int getSize() {
+        return data.remaining() + partitionKeyBytes.length;
+    }
+
+    int getAttempts() {
+        return attempts;
+    }
+
+    int incrementAttempts() {
+        return ++attempts;
+    }
+
+    ResultFuture getFuture() {
+        return future;
+    }
+
+    /**
+     * The future of the result of a user record. It's completed by the producer and can't be
+     * cancelled.
+     */
+    static class ResultFuture extends FutureTask<UserRecordResult> {
+
+        ResultFuture() {
+            super(new Callable<UserRecordResult>() {
+                @Override
+                public UserRecordResult call() {
+                    throw new UnsupportedOperationException();
+                }
+            });
+        }
+
+        @Override
+        public void run() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            return false;
+        }
+
+        void succeed(UserRecordResult result) {
+            set(result);
+        }
+
+        void fail(Exception e) {
+            setException(e);
+        }
+    }
+}
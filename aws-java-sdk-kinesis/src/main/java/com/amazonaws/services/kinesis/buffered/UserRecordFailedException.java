@@ -0,0 +1,53 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.buffered;
+
+import com.amazonaws.AmazonClientException;
+
+/**
+ * Thrown from the future of a user record which a {@link BufferedRecordProducer} failed to put,
+ * either because the service rejected it or because it ran out of attempts.
+ */
+public class UserRecordFailedException extends AmazonClientException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String errorCode;
+
+    private final int attempts;
+
+    UserRecordFailedException(String message, String errorCode, int attempts, Throwable cause) {
+        super(message, cause);
+        this.errorCode = errorCode;
+        this.attempts = attempts;
+    }
+
+    /**
+     * @return The error code of the last attempt, e.g.
+     *         ProvisionedThroughputExceededException, or null if the last attempt failed
+     *         without reaching the service.
+     */
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * @return The number of times the record was sent.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.buffered;
+
+/**
+ * The result of putting a user record through a {@link BufferedRecordProducer}.
+ */
+public class UserRecordResult {
+
+    private final String shardId;
+
+    private final String sequenceNumber;
+
+    private final long subSequenceNumber;
+
+    private final int attempts;
+
+    UserRecordResult(String shardId, String sequenceNumber, long subSequenceNumber, int attempts) {
+        this.shardId = shardId;
+        this.sequenceNumber = sequenceNumber;
+        this.subSequenceNumber = subSequenceNumber;
+        this.attempts = attempts;
+    }
+
+    /**
+     * @return The shard the record was put into.
+     */
+    public String getShardId() {
+        return shardId;
+    }
+
+    /**
+     * @return The sequence number of the Kinesis record holding the user record.
+     */
+    public String getSequenceNumber() {
+        return sequenceNumber;
+    }
+
+    /**
+     * @return The position of the user record within its aggregated Kinesis record, 0 if the
+     *         record was not aggregated.
+     */
+    public long getSubSequenceNumber() {
+        return subSequenceNumber;
+    }
+
+    /**
+     * @return The number of times the record was sent.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    @Override
+    public String toString() {
+        return "UserRecordResult [shardId=" + shardId + ", sequenceNumber=" + sequenceNumber
+                + ", subSequenceNumber=" + subSequenceNumber + ", attempts=" + attempts + "]";
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.consumer;
+
+/**
+ * Stores how far a {@link StreamConsumer} has processed each shard, so that it resumes from
+ * there when it's restarted. Implementations must be thread safe, the checkpoints of different
+ * shards are read and written concurrently.
+ */
+public interface CheckpointStore {
+
+    /**
+     * The checkpoint of a shard which was processed to its end.
+     */
+    String SHARD_END = "SHARD_END";
+
+    /**
+     * @return The sequence number of the last processed record of the shard, {@link #SHARD_END}
+     *         if all of its records were processed, or null if none were.
+     */
+    String getCheckpoint(String streamName, String shardId);
+
+    /**
+     * Records that the shard was processed up to and including the record with the given
+     * sequence number, or to its end if it's {@link #SHARD_END}.
+     */
+    void setCheckpoint(String streamName, String shardId, String sequenceNumber);
+}
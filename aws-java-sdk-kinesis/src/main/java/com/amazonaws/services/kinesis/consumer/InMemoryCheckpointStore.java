@@ -0,0 +1,42 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.consumer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps checkpoints in memory only, so a restarted consumer starts over from its initial
+ * position.
+ */
+public class InMemoryCheckpointStore implements CheckpointStore {
+
+    private final ConcurrentMap<String, String> checkpoints = new ConcurrentHashMap<String, String>();
+
+    @Override
+    public String getCheckpoint(String streamName, String shardId) {
+        return checkpoints.get(key(streamName, shardId));
+    }
+
+    @Override
+    public void setCheckpoint(String streamName, String shardId, String sequenceNumber) {
+        checkpoints.put(key(streamName, shardId), sequenceNumber);
+    }
+
+    private static String key(String streamName, String shardId) {
+        return streamName + "/" + shardId;
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.consumer;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.kinesis.model.Record;
+import com.amazonaws.util.Md5Utils;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * Splits Kinesis records aggregated in the format of the Kinesis Producer Library, as written by
+ * the {@code BufferedRecordProducer}, back into the user records they hold. Records which are not
+ * aggregated, or which can't be decoded, are returned as they are.
+ */
+public final class RecordDeaggregator {
+
+    private static final byte[] AGGREGATED_RECORD_MAGIC = { (byte) 0xF3, (byte) 0x89, (byte) 0x9A, (byte) 0xC2 };
+
+    private static final int DIGEST_LENGTH = 16;
+
+    private static final int PARTITION_KEY_TABLE_FIELD = 1;
+
+    private static final int EXPLICIT_HASH_KEY_TABLE_FIELD = 2;
+
+    private static final int RECORDS_FIELD = 3;
+
+    private static final int PARTITION_KEY_INDEX_FIELD = 1;
+
+    private static final int EXPLICIT_HASH_KEY_INDEX_FIELD = 2;
+
+    private static final int DATA_FIELD = 3;
+
+    private static final int VARINT_WIRE_TYPE = 0;
+
+    private static final int FIXED64_WIRE_TYPE = 1;
+
+    private static final int LENGTH_DELIMITED_WIRE_TYPE = 2;
+
+    private static final int FIXED32_WIRE_TYPE = 5;
+
+    private RecordDeaggregator() {
+    }
+
+    /**
+     * De-aggregates the given records.
+     */
+    public static List<UserRecord> deaggregate(List<Record> records) {
+        return deaggregate(records, null, null);
+    }
+
+    /**
+     * De-aggregates the given records, read from the shard with the given hash key range.
+     * Aggregated user records whose hash key is outside the range are dropped: the producer put
+     * them into another shard as well, after the shard was split or merged.
+     */
+    public static List<UserRecord> deaggregate(List<Record> records, BigInteger startingHashKey,
+            BigInteger endingHashKey) {
+        List<UserRecord> userRecords = new ArrayList<UserRecord>(records.size());
+        for (Record record : records) {
+            if (!deaggregate(record, startingHashKey, endingHashKey, userRecords)) {
+                userRecords.add(new UserRecord(record));
+            }
+        }
+        return userRecords;
+    }
+
+    /**
+     * @return Whether the record was aggregated, in which case its user records were added.
+     */
+    private static boolean deaggregate(Record record, BigInteger startingHashKey, BigInteger endingHashKey,
+            List<UserRecord> userRecords) {
+        ByteBuffer data = record.getData();
+        if (data == null || !isAggregated(data)) {
+            return false;
+        }
+
+        byte[] bytes = new byte[data.remaining()];
+        data.duplicate().get(bytes);
+        int end = bytes.length - DIGEST_LENGTH;
+        MessageDigest md5;
+        try {
+            md5 = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AmazonClientException("Unable to get MD5 Function" + e.getMessage(), e);
+        }
+        md5.update(bytes, AGGREGATED_RECORD_MAGIC.length, end - AGGREGATED_RECORD_MAGIC.length);
+        if (!Arrays.equals(md5.digest(), Arrays.copyOfRange(bytes, end, bytes.length))) {
+            return false;
+        }
+
+        List<String> partitionKeys = new ArrayList<String>();
+        List<String> explicitHashKeys = new ArrayList<String>();
+        List<int[]> records = new ArrayList<int[]>();
+        List<UserRecord> aggregated = new ArrayList<UserRecord>();
+        try {
+            Reader reader = new Reader(bytes, AGGREGATED_RECORD_MAGIC.length, end);
+            while (reader.hasMore()) {
+                int tag = (int) reader.readVarint();
+                switch (tag >>> 3) {
+                case PARTITION_KEY_TABLE_FIELD:
+                    partitionKeys.add(reader.readString());
+                    break;
+                case EXPLICIT_HASH_KEY_TABLE_FIELD:
+                    explicitHashKeys.add(reader.readString());
+                    break;
+                case RECORDS_FIELD:
+                    int length = (int) reader.readVarint();
+                    records.add(new int[] { reader.position, length });
+                    reader.skip(length);
+                    break;
+                default:
+                    reader.skipField(tag);
+                }
+            }
+
+            long subSequenceNumber = 0;
+            for (int[] position : records) {
+                Reader recordReader = new Reader(bytes, position[0], position[0] + position[1]);
+                String partitionKey = null;
+                String explicitHashKey = null;
+                ByteBuffer userData = null;
+                while (recordReader.hasMore()) {
+                    int tag = (int) recordReader.readVarint();
+                    switch (tag >>> 3) {
+                    case PARTITION_KEY_INDEX_FIELD:
+                        partitionKey = partitionKeys.get((int) recordReader.readVarint());
+                        break;
+                    case EXPLICIT_HASH_KEY_INDEX_FIELD:
+                        explicitHashKey = explicitHashKeys.get((int) recordReader.readVarint());
+                        break;
+                    case DATA_FIELD:
+                        int length = (int) recordReader.readVarint();
+                        userData = ByteBuffer.wrap(bytes, recordReader.position, length).slice();
+                        recordReader.skip(length);
+                        break;
+                    default:
+                        recordReader.skipField(tag);
+                    }
+                }
+                if (partitionKey == null || userData == null) {
+                    throw new IllegalArgumentException("Aggregated record is missing a partition key or data");
+                }
+                if (inRange(hashKey(partitionKey, explicitHashKey), startingHashKey, endingHashKey)) {
+                    aggregated.add(new UserRecord(record, partitionKey, explicitHashKey, userData, subSequenceNumber));
+                }
+                subSequenceNumber++;
+            }
+        } catch (RuntimeException e) {
+            // not a well formed aggregated record after all
+            return false;
+        }
+        userRecords.addAll(aggregated);
+        return true;
+    }
+
+    private static boolean isAggregated(ByteBuffer data) {
+        if (data.remaining() < AGGREGATED_RECORD_MAGIC.length + DIGEST_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < AGGREGATED_RECORD_MAGIC.length; i++) {
+            if (data.get(data.position() + i) != AGGREGATED_RECORD_MAGIC[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static BigInteger hashKey(String partitionKey, String explicitHashKey) {
+        if (explicitHashKey != null) {
+            return new BigInteger(explicitHashKey);
+        }
+        return new BigInteger(1, Md5Utils.computeMD5Hash(partitionKey.getBytes(StringUtils.UTF8)));
+    }
+
+    private static boolean inRange(BigInteger hashKey, BigInteger startingHashKey, BigInteger endingHashKey) {
+        return (startingHashKey == null || hashKey.compareTo(startingHashKey) >= 0)
+                && (endingHashKey == null || hashKey.compareTo(endingHashKey) <= 0);
+    }
+
+    /**
+     * Reads protobuf encoded fields from a range of bytes.
+     */
+    private static class Reader {
+
+        private final byte[] bytes;
+
+        private final int end;
+
+        private int position;
+
+        Reader(byte[] bytes, int position, int end) {
+            this.bytes = bytes;
+            this.position = position;
+            this.end = end;
+        }
+
+        boolean hasMore() {
+            return position < end;
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+
+        String readString() {
+            int length = (int) readVarint();
+            checkAvailable(length);
+            String value = new String(bytes, position, length, StringUtils.UTF8);
+            position += length;
+            return value;
+        }
+
+        void skip(int length) {
+            checkAvailable(length);
+            position += length;
+        }
+
+        void skipField(int tag) {
+            switch (tag & 0x7) {
+            case VARINT_WIRE_TYPE:
+                readVarint();
+                break;
+            case FIXED64_WIRE_TYPE:
+                skip(8);
+                break;
+            case LENGTH_DELIMITED_WIRE_TYPE:
+                skip((int) readVarint());
+                break;
+            case FIXED32_WIRE_TYPE:
+                skip(4);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported wire type in tag " + tag);
+            }
+        }
+
+        private byte readByte() {
+            checkAvailable(1);
+            return bytes[position++];
+        }
+
+        private void checkAvailable(int length) {
+            if (length < 0 || length > end - position) {
+                throw new IllegalArgumentException("Truncated field");
+            }
+        }
+    }
+}
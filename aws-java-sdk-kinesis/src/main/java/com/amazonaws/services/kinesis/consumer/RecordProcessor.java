@@ -0,0 +1,39 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.consumer;
+
+import java.util.List;
+
+/**
+ * Processes the records a {@link StreamConsumer} reads from the shards of a stream.
+ */
+public interface RecordProcessor {
+
+    /**
+     * Processes the next records of a shard, in sequence number order. Batches of the same shard
+     * are processed one at a time, in order, while batches of different shards are processed
+     * concurrently. The records of a parent shard are processed before those of its child shards.
+     * <p>
+     * When this method returns the batch is checkpointed. When it throws, the same batch is
+     * processed again after a delay, so records can be delivered more than once.
+     *
+     * @param shardId
+     *            The shard the records were read from
+     * @param records
+     *            The records, with aggregated records de-aggregated
+     */
+    void processRecords(String shardId, List<UserRecord> records) throws Exception;
+}
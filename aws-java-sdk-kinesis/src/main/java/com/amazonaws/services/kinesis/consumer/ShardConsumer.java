@@ -0,0 +1,317 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.consumer;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.services.kinesis.AmazonKinesis;
+import com.amazonaws.services.kinesis.model.ExpiredIteratorException;
+import com.amazonaws.services.kinesis.model.GetRecordsRequest;
+import com.amazonaws.services.kinesis.model.GetRecordsResult;
+import com.amazonaws.services.kinesis.model.GetShardIteratorRequest;
+import com.amazonaws.services.kinesis.model.Record;
+import com.amazonaws.services.kinesis.model.Shard;
+import com.amazonaws.services.kinesis.model.ShardIteratorType;
+
+/**
+ * Reads and processes one shard. <br>
+ * The next page of records is read while the current one is processed, so at most two pages of
+ * a shard are held at a time. Reading and processing run as separate tasks on the worker pool of
+ * the consumer, and waiting is done by scheduling the next task rather than by sleeping, so a
+ * small pool can serve many shards.
+ */
+class ShardConsumer {
+    private static final Log log = LogFactory.getLog(ShardConsumer.class);
+
+    private final StreamConsumer consumer;
+
+    private final AmazonKinesis client;
+
+    private final StreamConsumerConfig config;
+
+    private final String streamName;
+
+    private final String shardId;
+
+    private final BigInteger startingHashKey;
+
+    private final BigInteger endingHashKey;
+
+    /** Where to start reading the shard if it has no checkpoint. */
+    private final ShardIteratorType initialPosition;
+
+    private final RecordProcessor processor;
+
+    private final CheckpointStore checkpointStore;
+
+    private final ExecutorService workers;
+
+    private final ScheduledExecutorService scheduler;
+
+    /** The iterator of the next page, null once the end of the shard was read. */
+    private String shardIterator;
+
+    /** The sequence number of the last record read, to renew expired iterators from. */
+    private String lastReadSequenceNumber;
+
+    /** The sequence number the shard was checkpointed at when it was started. */
+    private String startingCheckpoint;
+
+    private boolean reading;
+
+    /** The page read ahead of the one being processed. */
+    private GetRecordsResult readAhead;
+
+    private boolean processing;
+
+    private volatile boolean shutdown;
+
+    ShardConsumer(StreamConsumer consumer, AmazonKinesis client, StreamConsumerConfig config, String streamName,
+            Shard shard, ShardIteratorType initialPosition, RecordProcessor processor,
+            CheckpointStore checkpointStore, ExecutorService workers, ScheduledExecutorService scheduler) {
+        this.consumer = consumer;
+        this.client = client;
+        this.config = config;
+        this.streamName = streamName;
+        this.shardId = shard.getShardId();
+        this.startingHashKey = new BigInteger(shard.getHashKeyRange().getStartingHashKey());
+        this.endingHashKey = new BigInteger(shard.getHashKeyRange().getEndingHashKey());
+        this.initialPosition = initialPosition;
+        this.processor = processor;
+        this.checkpointStore = checkpointStore;
+        this.workers = workers;
+        this.scheduler = scheduler;
+    }
+
+    String getShardId() {
+        return shardId;
+    }
+
+    void start() {
+        submit(new Runnable() {
+            @Override
+            public void run() {
+                initialize();
+            }
+        }, 0);
+    }
+
+    void shutdown() {
+        shutdown = true;
+    }
+
+    private void initialize() {
+        try {
+            startingCheckpoint = checkpointStore.getCheckpoint(streamName, shardId);
+            if (CheckpointStore.SHARD_END.equals(startingCheckpoint)) {
+                consumer.shardEnded(this);
+                return;
+            }
+            String iterator = getShardIterator();
+            synchronized (this) {
+                shardIterator = iterator;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Unable to start reading shard " + shardId + ", retrying", e);
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    initialize();
+                }
+            }, config.getRetryDelayMs());
+            return;
+        }
+        advance(0);
+    }
+
+    /**
+     * Gets an iterator positioned after the last record read, the checkpoint or at the initial
+     * position, in that order.
+     */
+    private String getShardIterator() {
+        GetShardIteratorRequest request = new GetShardIteratorRequest()
+                .withStreamName(streamName)
+                .withShardId(shardId);
+        String after = lastReadSequenceNumber != null ? lastReadSequenceNumber : startingCheckpoint;
+        if (after != null) {
+            request.withShardIteratorType(ShardIteratorType.AFTER_SEQUENCE_NUMBER).withStartingSequenceNumber(after);
+        } else {
+            request.withShardIteratorType(initialPosition);
+        }
+        return client.getShardIterator(request).getShardIterator();
+    }
+
+    /**
+     * Starts processing the page read ahead and reading the next one, if they aren't already.
+     */
+    private void advance(long readDelayMs) {
+        GetRecordsResult toProcess = null;
+        boolean read = false;
+        synchronized (this) {
+            if (shutdown) {
+                return;
+            }
+            if (!processing && readAhead != null) {
+                toProcess = readAhead;
+                readAhead = null;
+                processing = true;
+            }
+            if (!reading && readAhead == null && shardIterator != null) {
+                reading = true;
+                read = true;
+            }
+        }
+        if (toProcess != null) {
+            final GetRecordsResult page = toProcess;
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    process(page);
+                }
+            }, 0);
+        }
+        if (read) {
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    read();
+                }
+            }, readDelayMs);
+        }
+    }
+
+    private void read() {
+        String iterator;
+        synchronized (this) {
+            iterator = shardIterator;
+        }
+        GetRecordsResult page;
+        try {
+            page = client.getRecords(new GetRecordsRequest()
+                    .withShardIterator(iterator)
+                    .withLimit(config.getMaxRecordsPerGet()));
+        } catch (ExpiredIteratorException e) {
+            // the records read since are still held, so continue after the last of them
+            retryRead(true, e);
+            return;
+        } catch (RuntimeException e) {
+            retryRead(false, e);
+            return;
+        }
+
+        List<Record> records = page.getRecords();
+        boolean caughtUp = records.isEmpty()
+                || (page.getMillisBehindLatest() != null && page.getMillisBehindLatest() == 0);
+        synchronized (this) {
+            reading = false;
+            shardIterator = page.getNextShardIterator();
+            if (!records.isEmpty()) {
+                lastReadSequenceNumber = records.get(records.size() - 1).getSequenceNumber();
+            }
+            // the last page of a shard is processed even if it's empty, to checkpoint the end
+            if (!records.isEmpty() || shardIterator == null) {
+                readAhead = page;
+            }
+        }
+        advance(caughtUp ? config.getIdleTimeBetweenReadsMs() : 0);
+    }
+
+    private void retryRead(boolean renewIterator, RuntimeException e) {
+        if (!shutdown) {
+            log.warn("Unable to read shard " + shardId + ", retrying", e);
+        }
+        if (renewIterator) {
+            try {
+                String iterator = getShardIterator();
+                synchronized (this) {
+                    shardIterator = iterator;
+                }
+            } catch (RuntimeException renewFailure) {
+                log.warn("Unable to renew the iterator of shard " + shardId, renewFailure);
+            }
+        }
+        synchronized (this) {
+            reading = false;
+        }
+        advance(config.getRetryDelayMs());
+    }
+
+    private void process(final GetRecordsResult page) {
+        List<Record> records = page.getRecords();
+        try {
+            List<UserRecord> userRecords = RecordDeaggregator.deaggregate(records, startingHashKey, endingHashKey);
+            if (!userRecords.isEmpty()) {
+                processor.processRecords(shardId, userRecords);
+            }
+            if (!records.isEmpty()) {
+                checkpointStore.setCheckpoint(streamName, shardId,
+                        records.get(records.size() - 1).getSequenceNumber());
+            }
+            if (page.getNextShardIterator() == null) {
+                checkpointStore.setCheckpoint(streamName, shardId, CheckpointStore.SHARD_END);
+            }
+        } catch (Exception e) {
+            if (shutdown) {
+                return;
+            }
+            log.warn("Unable to process records of shard " + shardId + ", retrying", e);
+            submit(new Runnable() {
+                @Override
+                public void run() {
+                    process(page);
+                }
+            }, config.getRetryDelayMs());
+            return;
+        }
+
+        synchronized (this) {
+            processing = false;
+        }
+        if (page.getNextShardIterator() == null) {
+            consumer.shardEnded(this);
+        } else {
+            advance(0);
+        }
+    }
+
+    private void submit(final Runnable task, long delayMs) {
+        if (shutdown) {
+            return;
+        }
+        try {
+            if (delayMs <= 0) {
+                workers.execute(task);
+            } else {
+                scheduler.schedule(new Runnable() {
+                    @Override
+                    public void run() {
+                        submit(task, 0);
+                    }
+                }, delayMs, TimeUnit.MILLISECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            // the consumer was shut down
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.consumer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.kinesis.AmazonKinesis;
+import com.amazonaws.services.kinesis.model.DescribeStreamRequest;
+import com.amazonaws.services.kinesis.model.Shard;
+import com.amazonaws.services.kinesis.model.ShardIteratorType;
+import com.amazonaws.services.kinesis.model.StreamDescription;
+
+/**
+ * Reads all shards of a Kinesis stream through an {@link AmazonKinesis} client and hands their
+ * records to a {@link RecordProcessor}.
+ * <p>
+ * Shards are read concurrently on a pool of at most {@code maxWorkers} threads, and the next page
+ * of each shard is read while the current one is processed. After a shard was split or merged,
+ * its child shards are read once their parents have been processed to their end, so the records
+ * of a partition key are processed in order. Aggregated records are de-aggregated. Processed
+ * records are checkpointed to a {@link CheckpointStore}, in memory unless another store is given,
+ * and a restarted consumer continues from the checkpoints.
+ * <p>
+ * The consumer does not coordinate with other consumers of the same stream: each consumer reads
+ * all shards.
+ */
+public class StreamConsumer {
+    private static final Log log = LogFactory.getLog(StreamConsumer.class);
+
+    private final AmazonKinesis client;
+
+    private final String streamName;
+
+    private final RecordProcessor processor;
+
+    private final StreamConsumerConfig config;
+
+    private final CheckpointStore checkpointStore;
+
+    /** Reads and processes the shards. */
+    private final ExecutorService workers;
+
+    /** Schedules delayed reads and retries, and the shard syncs. */
+    private final ScheduledExecutorService scheduler;
+
+    /** The shards which were started, guarded by the consumer. */
+    private final Map<String, ShardConsumer> shardConsumers = new HashMap<String, ShardConsumer>();
+
+    private final Set<String> endedShards = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+    private volatile boolean shutdown;
+
+    public StreamConsumer(AmazonKinesis client, String streamName, RecordProcessor processor) {
+        this(client, streamName, processor, new StreamConsumerConfig(), new InMemoryCheckpointStore());
+    }
+
+    public StreamConsumer(AmazonKinesis client, String streamName, RecordProcessor processor,
+            StreamConsumerConfig config, CheckpointStore checkpointStore) {
+        config.validate();
+        this.client = client;
+        this.streamName = streamName;
+        this.processor = processor;
+        this.config = new StreamConsumerConfig(config);
+        this.checkpointStore = checkpointStore;
+        this.workers = Executors.newFixedThreadPool(config.getMaxWorkers(), new DaemonThreadFactory());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory());
+    }
+
+    /**
+     * Starts reading the stream. Returns without waiting for any records to be processed.
+     */
+    public void start() {
+        scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                requestShardSync();
+            }
+        }, 0, config.getShardSyncIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops reading the stream. Batches which are being processed are completed, but not
+     * retried if they fail.
+     */
+    public void shutdown() {
+        shutdown = true;
+        synchronized (this) {
+            for (ShardConsumer shardConsumer : shardConsumers.values()) {
+                shardConsumer.shutdown();
+            }
+        }
+        scheduler.shutdownNow();
+        workers.shutdown();
+    }
+
+    /**
+     * Waits until the batches which were being processed when the consumer was shut down have
+     * completed.
+     *
+     * @return true if they completed, false if the timeout elapsed first
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return workers.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * @return The ids of the shards which are being read.
+     */
+    public synchronized List<String> getActiveShardIds() {
+        List<String> shardIds = new ArrayList<String>();
+        for (String shardId : shardConsumers.keySet()) {
+            if (!endedShards.contains(shardId)) {
+                shardIds.add(shardId);
+            }
+        }
+        return shardIds;
+    }
+
+    void shardEnded(ShardConsumer shardConsumer) {
+        endedShards.add(shardConsumer.getShardId());
+        // pick up the children right away
+        requestShardSync();
+    }
+
+    private void requestShardSync() {
+        if (shutdown) {
+            return;
+        }
+        try {
+            workers.execute(new Runnable() {
+                @Override
+                public void run() {
+                    syncShards();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // the consumer was shut down
+        }
+    }
+
+    /**
+     * Starts the shards whose parents have been processed to their end.
+     */
+    private synchronized void syncShards() {
+        if (shutdown) {
+            return;
+        }
+        Map<String, Shard> shards;
+        try {
+            shards = listShards();
+        } catch (AmazonClientException e) {
+            log.warn("Unable to list the shards of stream " + streamName, e);
+            return;
+        }
+        for (Shard shard : shards.values()) {
+            if (shardConsumers.containsKey(shard.getShardId())
+                    || !hasEnded(shard.getParentShardId(), shards)
+                    || !hasEnded(shard.getAdjacentParentShardId(), shards)) {
+                continue;
+            }
+            boolean isChild = shards.containsKey(shard.getParentShardId())
+                    || shards.containsKey(shard.getAdjacentParentShardId());
+            ShardConsumer shardConsumer = new ShardConsumer(this, client, config, streamName, shard,
+                    isChild ? ShardIteratorType.TRIM_HORIZON : config.getInitialPosition(), processor,
+                    checkpointStore, workers, scheduler);
+            shardConsumers.put(shard.getShardId(), shardConsumer);
+            shardConsumer.start();
+        }
+    }
+
+    /**
+     * @return Whether the given parent shard, if any, has been processed to its end. Parents
+     *         which aren't listed anymore have expired, and count as ended.
+     */
+    private boolean hasEnded(String parentShardId, Map<String, Shard> shards) {
+        return parentShardId == null
+                || !shards.containsKey(parentShardId)
+                || endedShards.contains(parentShardId)
+                || CheckpointStore.SHARD_END.equals(checkpointStore.getCheckpoint(streamName, parentShardId));
+    }
+
+    private Map<String, Shard> listShards() {
+        Map<String, Shard> shards = new HashMap<String, Shard>();
+        String lastShardId = null;
+        StreamDescription description;
+        do {
+            description = client.describeStream(new DescribeStreamRequest()
+                    .withStreamName(streamName)
+                    .withExclusiveStartShardId(lastShardId))
+                    .getStreamDescription();
+            for (Shard shard : description.getShards()) {
+                lastShardId = shard.getShardId();
+                shards.put(shard.getShardId(), shard);
+            }
+        } while (Boolean.TRUE.equals(description.getHasMoreShards()) && !description.getShards().isEmpty());
+        return shards;
+    }
+
+    /**
+     * We need daemon threads in our executors so that we don't keep the process running if our
+     * executor threads are the only ones left in the process.
+     */
+    private static class DaemonThreadFactory implements ThreadFactory {
+        static AtomicInteger threadCount = new AtomicInteger(0);
+
+        public Thread newThread(Runnable r) {
+            int threadNumber = threadCount.addAndGet(1);
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName("KinesisStreamConsumerThread-" + threadNumber);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.consumer;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.kinesis.model.ShardIteratorType;
+
+/**
+ * Configuration of a {@link StreamConsumer}.
+ */
+public class StreamConsumerConfig {
+
+    /** The maximum number of records a GetRecords call returns. */
+    public static final int SERVICE_MAX_RECORDS_PER_GET = 10000;
+
+    /**
+     * The maximum number of threads reading and processing shards. Shards are read and processed
+     * concurrently, up to this number at a time.
+     */
+    private int maxWorkers;
+
+    /** 10 threads */
+    public static final int MAX_WORKERS_DEFAULT = 10;
+
+    /** The maximum number of records read from a shard with one GetRecords call. */
+    private int maxRecordsPerGet;
+
+    public static final int MAX_RECORDS_PER_GET_DEFAULT = SERVICE_MAX_RECORDS_PER_GET;
+
+    /**
+     * The time (milliseconds) to wait before reading a shard again once all of its records were
+     * read. Each shard supports a few GetRecords calls per second, which are shared by all of its
+     * consumers.
+     */
+    private long idleTimeBetweenReadsMs;
+
+    /** 1 second */
+    public static final long IDLE_TIME_BETWEEN_READS_MS_DEFAULT = 1000;
+
+    /**
+     * The interval (milliseconds) between listing the shards of the stream to pick up new shards.
+     * The child shards of a shard are also picked up as soon as it has been processed to its end.
+     */
+    private long shardSyncIntervalMs;
+
+    /** 1 minute */
+    public static final long SHARD_SYNC_INTERVAL_MS_DEFAULT = 60 * 1000;
+
+    /**
+     * The time (milliseconds) to wait before retrying a failed call or a batch which failed to be
+     * processed.
+     */
+    private long retryDelayMs;
+
+    /** 1 second */
+    public static final long RETRY_DELAY_MS_DEFAULT = 1000;
+
+    /**
+     * Where to start reading shards which have neither a checkpoint nor a parent shard, either
+     * TRIM_HORIZON or LATEST. Child shards are always read from their start.
+     */
+    private ShardIteratorType initialPosition;
+
+    /** LATEST */
+    public static final ShardIteratorType INITIAL_POSITION_DEFAULT = ShardIteratorType.LATEST;
+
+    public StreamConsumerConfig() {
+        this.maxWorkers = MAX_WORKERS_DEFAULT;
+        this.maxRecordsPerGet = MAX_RECORDS_PER_GET_DEFAULT;
+        this.idleTimeBetweenReadsMs = IDLE_TIME_BETWEEN_READS_MS_DEFAULT;
+        this.shardSyncIntervalMs = SHARD_SYNC_INTERVAL_MS_DEFAULT;
+        this.retryDelayMs = RETRY_DELAY_MS_DEFAULT;
+        this.initialPosition = INITIAL_POSITION_DEFAULT;
+    }
+
+    /** copy constructor */
+    public StreamConsumerConfig(StreamConsumerConfig other) {
+        maxWorkers = other.maxWorkers;
+        maxRecordsPerGet = other.maxRecordsPerGet;
+        idleTimeBetweenReadsMs = other.idleTimeBetweenReadsMs;
+        shardSyncIntervalMs = other.shardSyncIntervalMs;
+        retryDelayMs = other.retryDelayMs;
+        initialPosition = other.initialPosition;
+    }
+
+    @Override
+    public String toString() {
+        return "StreamConsumerConfig [maxWorkers=" + maxWorkers + ", maxRecordsPerGet=" + maxRecordsPerGet
+                + ", idleTimeBetweenReadsMs=" + idleTimeBetweenReadsMs + ", shardSyncIntervalMs="
+                + shardSyncIntervalMs + ", retryDelayMs=" + retryDelayMs + ", initialPosition="
+                + initialPosition + "]";
+    }
+
+    /**
+     * The maximum number of threads reading and processing shards. Shards are read and processed
+     * concurrently, up to this number at a time.
+     */
+    public int getMaxWorkers() {
+        return maxWorkers;
+    }
+
+    /**
+     * The maximum number of threads reading and processing shards. Shards are read and processed
+     * concurrently, up to this number at a time.
+     */
+    public void setMaxWorkers(int maxWorkers) {
+        this.maxWorkers = maxWorkers;
+    }
+
+    /**
+     * The maximum number of threads reading and processing shards. Shards are read and processed
+     * concurrently, up to this number at a time.
+     */
+    public StreamConsumerConfig withMaxWorkers(int maxWorkers) {
+        setMaxWorkers(maxWorkers);
+        return this;
+    }
+
+    /**
+     * The maximum number of records read from a shard with one GetRecords call. Can be at most
+     * {@value #SERVICE_MAX_RECORDS_PER_GET}.
+     */
+    public int getMaxRecordsPerGet() {
+        return maxRecordsPerGet;
+    }
+
+    /**
+     * The maximum number of records read from a shard with one GetRecords call. Can be at most
+     * {@value #SERVICE_MAX_RECORDS_PER_GET}.
+     */
+    public void setMaxRecordsPerGet(int maxRecordsPerGet) {
+        this.maxRecordsPerGet = maxRecordsPerGet;
+    }
+
+    /**
+     * The maximum number of records read from a shard with one GetRecords call. Can be at most
+     * {@value #SERVICE_MAX_RECORDS_PER_GET}.
+     */
+    public StreamConsumerConfig withMaxRecordsPerGet(int maxRecordsPerGet) {
+        setMaxRecordsPerGet(maxRecordsPerGet);
+        return this;
+    }
+
+    /**
+     * The time (milliseconds) to wait before reading a shard again once all of its records were
+     * read. Each shard supports a few GetRecords calls per second, which are shared by all of its
+     * consumers.
+     */
+    public long getIdleTimeBetweenReadsMs() {
+        return idleTimeBetweenReadsMs;
+    }
+
+    /**
+     * The time (milliseconds) to wait before reading a shard again once all of its records were
+     * read. Each shard supports a few GetRecords calls per second, which are shared by all of its
+     * consumers.
+     */
+    public void setIdleTimeBetweenReadsMs(long idleTimeBetweenReadsMs) {
+        this.idleTimeBetweenReadsMs = idleTimeBetweenReadsMs;
+    }
+
+    /**
+     * The time (milliseconds) to wait before reading a shard again once all of its records were
+     * read. Each shard supports a few GetRecords calls per second, which are shared by all of its
+     * consumers.
+     */
+    public StreamConsumerConfig withIdleTimeBetweenReadsMs(long idleTimeBetweenReadsMs) {
+        setIdleTimeBetweenReadsMs(idleTimeBetweenReadsMs);
+        return this;
+    }
+
+    /**
+     * The interval (milliseconds) between listing the shards of the stream to pick up new shards.
+     * The child shards of a shard are also picked up as soon as it has been processed to its end.
+     */
+    public long getShardSyncIntervalMs() {
+        return shardSyncIntervalMs;
+    }
+
+    /**
+     * The interval (milliseconds) between listing the shards of the stream to pick up new shards.
+     * The child shards of a shard are also picked up as soon as it has been processed to its end.
+     */
+    public void setShardSyncIntervalMs(long shardSyncIntervalMs) {
+        this.shardSyncIntervalMs = shardSyncIntervalMs;
+    }
+
+    /**
+     * The interval (milliseconds) between listing the shards of the stream to pick up new shards.
+     * The child shards of a shard are also picked up as soon as it has been processed to its end.
+     */
+    public StreamConsumerConfig withShardSyncIntervalMs(long shardSyncIntervalMs) {
+        setShardSyncIntervalMs(shardSyncIntervalMs);
+        return this;
+    }
+
+    /**
+     * The time (milliseconds) to wait before retrying a failed call or a batch which failed to be
+     * processed.
+     */
+    public long getRetryDelayMs() {
+        return retryDelayMs;
+    }
+
+    /**
+     * The time (milliseconds) to wait before retrying a failed call or a batch which failed to be
+     * processed.
+     */
+    public void setRetryDelayMs(long retryDelayMs) {
+        this.retryDelayMs = retryDelayMs;
+    }
+
+    /**
+     * The time (milliseconds) to wait before retrying a failed call or a batch which failed to be
+     * processed.
+     */
+    public StreamConsumerConfig withRetryDelayMs(long retryDelayMs) {
+        setRetryDelayMs(retryDelayMs);
+        return this;
+    }
+
+    /**
+     * Where to start reading shards which have neither a checkpoint nor a parent shard, either
+     * TRIM_HORIZON or LATEST. Child shards are always read from their start.
+     */
+    public ShardIteratorType getInitialPosition() {
+        return initialPosition;
+    }
+
+    /**
+     * Where to start reading shards which have neither a checkpoint nor a parent shard, either
+     * TRIM_HORIZON or LATEST. Child shards are always read from their start.
+     */
+    public void setInitialPosition(ShardIteratorType initialPosition) {
+        this.initialPosition = initialPosition;
+    }
+
+    /**
+     * Where to start reading shards which have neither a checkpoint nor a parent shard, either
+     * TRIM_HORIZON or LATEST. Child shards are always read from their start.
+     */
+    public StreamConsumerConfig withInitialPosition(ShardIteratorType initialPosition) {
+        setInitialPosition(initialPosition);
+        return this;
+    }
+
+    /**
+     * this method checks the config for validity. If the config is deemed to be invalid, an
+     * informative exception is thrown.
+     *
+     * @throws AmazonClientException
+     *             with a message explaining why the config was invalid
+     */
+    void validate() {
+        if (maxWorkers < 1) {
+            throw new AmazonClientException("Maximum workers must be positive");
+        }
+        if (maxRecordsPerGet < 1 || maxRecordsPerGet > SERVICE_MAX_RECORDS_PER_GET) {
+            throw new AmazonClientException("Maximum records per get must be between 1 and "
+                    + SERVICE_MAX_RECORDS_PER_GET);
+        }
+        if (idleTimeBetweenReadsMs < 0 || retryDelayMs < 0) {
+            throw new AmazonClientException("Idle time between reads and retry delay may not be negative");
+        }
+        if (shardSyncIntervalMs <= 0) {
+            throw new AmazonClientException("Shard sync interval must be positive");
+        }
+        if (initialPosition != ShardIteratorType.TRIM_HORIZON && initialPosition != ShardIteratorType.LATEST) {
+            throw new AmazonClientException("Initial position must be TRIM_HORIZON or LATEST");
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.kinesis.consumer;
+
+import java.nio.ByteBuffer;
+
+import com.amazonaws.services.kinesis.model.Record;
+
+/**
+ * A record read from a shard. Records which were aggregated into a single Kinesis record share
+ * the sequence number of that record and are told apart by their sub-sequence number.
+ */
+public class UserRecord extends Record {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long subSequenceNumber;
+
+    private final String explicitHashKey;
+
+    private final boolean aggregated;
+
+    /**
+     * Creates a user record for a Kinesis record which was not aggregated.
+     */
+    UserRecord(Record record) {
+        this(record, record.getPartitionKey(), null, record.getData(), 0, false);
+    }
+
+    /**
+     * Creates a user record from one of the records aggregated into the given Kinesis record.
+     */
+    UserRecord(Record record, String partitionKey, String explicitHashKey, ByteBuffer data,
+            long subSequenceNumber) {
+        this(record, partitionKey, explicitHashKey, data, subSequenceNumber, true);
+    }
+
+    private UserRecord(Record record, String partitionKey, String explicitHashKey, ByteBuffer data,
+            long subSequenceNumber, boolean aggregated) {
+        setSequenceNumber(record.getSequenceNumber());
+        setApproximateArrivalTimestamp(record.getApproximateArrivalTimestamp());
+        setPartitionKey(partitionKey);
+        setData(data);
+        this.subSequenceNumber = subSequenceNumber;
+        this.explicitHashKey = explicitHashKey;
+        this.aggregated = aggregated;
+    }
+
+    /**
+     * @return The position of the record within its aggregated Kinesis record, 0 if it was not
+     *         aggregated.
+     */
+    public long getSubSequenceNumber() {
+        return subSequenceNumber;
+    }
+
+    /**
+     * @return The explicit hash key the record was put with, null if it was routed by its
+     *         partition key or if it was not aggregated.
+     */
+    public String getExplicitHashKey() {
+        return explicitHashKey;
+    }
+
+    /**
+     * @return Whether the record was aggregated into a Kinesis record with other records.
+     */
+    public boolean isAggregated() {
+        return aggregated;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!super.equals(obj) || !(obj instanceof UserRecord)) {
+            return false;
+        }
+        UserRecord other = (UserRecord) obj;
+        return subSequenceNumber == other.subSequenceNumber && aggregated == other.aggregated;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * super.hashCode() + (int) (subSequenceNumber ^ (subSequenceNumber >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return super.toString() + (aggregated ? " SubSequenceNumber: " + subSequenceNumber : "");
+    }
+}
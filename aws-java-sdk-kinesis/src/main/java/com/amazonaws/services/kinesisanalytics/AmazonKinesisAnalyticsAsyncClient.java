@@ -15,6 +15,10 @@
 package com.amazonaws.services.kinesisanalytics;
 
 import com.amazonaws.services.kinesisanalytics.model.*;
+import com.amazonaws.services.kinesisanalytics.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -278,27 +282,15 @@ public class AmazonKinesisAnalyticsAsyncClient extends
             final AddApplicationInputRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddApplicationInputRequest, AddApplicationInputResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddApplicationInputResult>() {
-                    @Override
-                    public AddApplicationInputResult call() throws Exception {
-                        AddApplicationInputResult result;
-
-                        try {
-                            result = addApplicationInput(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<AddApplicationInputResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddApplicationInputResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new AddApplicationInputRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -313,27 +305,15 @@ public class AmazonKinesisAnalyticsAsyncClient extends
             final AddApplicationOutputRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddApplicationOutputRequest, AddApplicationOutputResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddApplicationOutputResult>() {
-                    @Override
-                    public AddApplicationOutputResult call() throws Exception {
-                        AddApplicationOutputResult result;
-
-                        try {
-                            result = addApplicationOutput(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<AddApplicationOutputResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddApplicationOutputResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new AddApplicationOutputRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -348,28 +328,16 @@ public class AmazonKinesisAnalyticsAsyncClient extends
             final AddApplicationReferenceDataSourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddApplicationReferenceDataSourceRequest, AddApplicationReferenceDataSourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddApplicationReferenceDataSourceResult>() {
-                    @Override
-                    public AddApplicationReferenceDataSourceResult call()
-                            throws Exception {
-                        AddApplicationReferenceDataSourceResult result;
-
-                        try {
-                            result = addApplicationReferenceDataSource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<AddApplicationReferenceDataSourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddApplicationReferenceDataSourceResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new AddApplicationReferenceDataSourceRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -384,27 +352,15 @@ public class AmazonKinesisAnalyticsAsyncClient extends
             final CreateApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateApplicationRequest, CreateApplicationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateApplicationResult>() {
-                    @Override
-                    public CreateApplicationResult call() throws Exception {
-                        CreateApplicationResult result;
-
-                        try {
-                            result = createApplication(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateApplicationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateApplicationResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateApplicationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -419,27 +375,15 @@ public class AmazonKinesisAnalyticsAsyncClient extends
             final DeleteApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteApplicationRequest, DeleteApplicationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteApplicationResult>() {
-                    @Override
-                    public DeleteApplicationResult call() throws Exception {
-                        DeleteApplicationResult result;
-
-                        try {
-                            result = deleteApplication(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteApplicationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteApplicationResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteApplicationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -454,28 +398,15 @@ public class AmazonKinesisAnalyticsAsyncClient extends
             final DeleteApplicationOutputRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteApplicationOutputRequest, DeleteApplicationOutputResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteApplicationOutputResult>() {
-                    @Override
-                    public DeleteApplicationOutputResult call()
-                            throws Exception {
-                        DeleteApplicationOutputResult result;
-
-                        try {
-                            result = deleteApplicationOutput(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteApplicationOutputResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteApplicationOutputResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeleteApplicationOutputRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -490,28 +421,16 @@ public class AmazonKinesisAnalyticsAsyncClient extends
             final DeleteApplicationReferenceDataSourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteApplicationReferenceDataSourceRequest, DeleteApplicationReferenceDataSourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteApplicationReferenceDataSourceResult>() {
-                    @Override
-                    public DeleteApplicationReferenceDataSourceResult call()
-                            throws Exception {
-                        DeleteApplicationReferenceDataSourceResult result;
-
-                        try {
-                            result = deleteApplicationReferenceDataSource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteApplicationReferenceDataSourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteApplicationReferenceDataSourceResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeleteApplicationReferenceDataSourceRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -526,27 +445,15 @@ public class AmazonKinesisAnalyticsAsyncClient extends
             final DescribeApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeApplicationRequest, DescribeApplicationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeApplicationResult>() {
-                    @Override
-                    public DescribeApplicationResult call() throws Exception {
-                        DescribeApplicationResult result;
-
-                        try {
-                            result = describeApplication(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeApplicationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeApplicationResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeApplicationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -561,27 +468,15 @@ public class AmazonKinesisAnalyticsAsyncClient extends
             final DiscoverInputSchemaRequest request,
             final com.amazonaws.handlers.AsyncHandler<DiscoverInputSchemaRequest, DiscoverInputSchemaResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DiscoverInputSchemaResult>() {
-                    @Override
-                    public DiscoverInputSchemaResult call() throws Exception {
-                        DiscoverInputSchemaResult result;
-
-                        try {
-                            result = discoverInputSchema(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DiscoverInputSchemaResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DiscoverInputSchemaResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DiscoverInputSchemaRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -596,27 +491,15 @@ public class AmazonKinesisAnalyticsAsyncClient extends
             final ListApplicationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListApplicationsRequest, ListApplicationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListApplicationsResult>() {
-                    @Override
-                    public ListApplicationsResult call() throws Exception {
-                        ListApplicationsResult result;
-
-                        try {
-                            result = listApplications(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListApplicationsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListApplicationsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListApplicationsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -631,27 +514,15 @@ public class AmazonKinesisAnalyticsAsyncClient extends
             final StartApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartApplicationRequest, StartApplicationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StartApplicationResult>() {
-                    @Override
-                    public StartApplicationResult call() throws Exception {
-                        StartApplicationResult result;
-
-                        try {
-                            result = startApplication(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<StartApplicationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StartApplicationResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new StartApplicationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -666,27 +537,15 @@ public class AmazonKinesisAnalyticsAsyncClient extends
             final StopApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopApplicationRequest, StopApplicationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StopApplicationResult>() {
-                    @Override
-                    public StopApplicationResult call() throws Exception {
-                        StopApplicationResult result;
-
-                        try {
-                            result = stopApplication(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<StopApplicationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StopApplicationResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new StopApplicationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -701,27 +560,15 @@ public class AmazonKinesisAnalyticsAsyncClient extends
             final UpdateApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateApplicationRequest, UpdateApplicationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateApplicationResult>() {
-                    @Override
-                    public UpdateApplicationResult call() throws Exception {
-                        UpdateApplicationResult result;
-
-                        try {
-                            result = updateApplication(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateApplicationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateApplicationResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateApplicationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
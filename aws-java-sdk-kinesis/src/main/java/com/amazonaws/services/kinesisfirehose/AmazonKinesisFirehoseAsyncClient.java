@@ -15,6 +15,10 @@
 package com.amazonaws.services.kinesisfirehose;
 
 import com.amazonaws.services.kinesisfirehose.model.*;
+import com.amazonaws.services.kinesisfirehose.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -284,27 +288,15 @@ public class AmazonKinesisFirehoseAsyncClient extends
             final CreateDeliveryStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDeliveryStreamRequest, CreateDeliveryStreamResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateDeliveryStreamResult>() {
-                    @Override
-                    public CreateDeliveryStreamResult call() throws Exception {
-                        CreateDeliveryStreamResult result;
-
-                        try {
-                            result = createDeliveryStream(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateDeliveryStreamResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateDeliveryStreamResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateDeliveryStreamRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -319,27 +311,15 @@ public class AmazonKinesisFirehoseAsyncClient extends
             final DeleteDeliveryStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDeliveryStreamRequest, DeleteDeliveryStreamResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDeliveryStreamResult>() {
-                    @Override
-                    public DeleteDeliveryStreamResult call() throws Exception {
-                        DeleteDeliveryStreamResult result;
-
-                        try {
-                            result = deleteDeliveryStream(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteDeliveryStreamResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteDeliveryStreamResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteDeliveryStreamRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -354,27 +334,15 @@ public class AmazonKinesisFirehoseAsyncClient extends
             final DescribeDeliveryStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDeliveryStreamRequest, DescribeDeliveryStreamResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDeliveryStreamResult>() {
-                    @Override
-                    public DescribeDeliveryStreamResult call() throws Exception {
-                        DescribeDeliveryStreamResult result;
-
-                        try {
-                            result = describeDeliveryStream(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeDeliveryStreamResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeDeliveryStreamResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeDeliveryStreamRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -389,27 +357,15 @@ public class AmazonKinesisFirehoseAsyncClient extends
             final ListDeliveryStreamsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDeliveryStreamsRequest, ListDeliveryStreamsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListDeliveryStreamsResult>() {
-                    @Override
-                    public ListDeliveryStreamsResult call() throws Exception {
-                        ListDeliveryStreamsResult result;
-
-                        try {
-                            result = listDeliveryStreams(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListDeliveryStreamsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListDeliveryStreamsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListDeliveryStreamsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -424,27 +380,15 @@ public class AmazonKinesisFirehoseAsyncClient extends
             final PutRecordRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRecordRequest, PutRecordResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutRecordResult>() {
-                    @Override
-                    public PutRecordResult call() throws Exception {
-                        PutRecordResult result;
-
-                        try {
-                            result = putRecord(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutRecordResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutRecordResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutRecordRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -459,27 +403,15 @@ public class AmazonKinesisFirehoseAsyncClient extends
             final PutRecordBatchRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRecordBatchRequest, PutRecordBatchResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutRecordBatchResult>() {
-                    @Override
-                    public PutRecordBatchResult call() throws Exception {
-                        PutRecordBatchResult result;
-
-                        try {
-                            result = putRecordBatch(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutRecordBatchResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutRecordBatchResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutRecordBatchRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -494,27 +426,15 @@ public class AmazonKinesisFirehoseAsyncClient extends
             final UpdateDestinationRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDestinationRequest, UpdateDestinationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateDestinationResult>() {
-                    @Override
-                    public UpdateDestinationResult call() throws Exception {
-                        UpdateDestinationResult result;
-
-                        try {
-                            result = updateDestination(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateDestinationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateDestinationResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateDestinationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.kinesis.buffered;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonServiceException.ErrorType;
+import com.amazonaws.services.kinesis.AbstractAmazonKinesis;
+import com.amazonaws.services.kinesis.model.DescribeStreamRequest;
+import com.amazonaws.services.kinesis.model.DescribeStreamResult;
+import com.amazonaws.services.kinesis.model.HashKeyRange;
+import com.amazonaws.services.kinesis.model.PutRecordsRequest;
+import com.amazonaws.services.kinesis.model.PutRecordsRequestEntry;
+import com.amazonaws.services.kinesis.model.PutRecordsResult;
+import com.amazonaws.services.kinesis.model.PutRecordsResultEntry;
+import com.amazonaws.services.kinesis.model.SequenceNumberRange;
+import com.amazonaws.services.kinesis.model.Shard;
+import com.amazonaws.services.kinesis.model.StreamDescription;
+import com.amazonaws.util.Md5Utils;
+import com.amazonaws.util.StringUtils;
+
+public class BufferedRecordProducerTest {
+
+    private static final String STREAM = "stream";
+
+    private final StandInKinesis kinesis = new StandInKinesis(4);
+
+    private BufferedRecordProducer producer;
+
+    @After
+    public void tearDown() {
+        if (producer != null) {
+            producer.shutdown();
+        }
+    }
+
+    @Test
+    public void onlyFailedEntriesAreSentAgain() throws Exception {
+        producer = new BufferedRecordProducer(kinesis, new RecordProducerConfig().withAggregationEnabled(false));
+        kinesis.failFirstAttemptOf.add("key-2");
+        kinesis.failFirstAttemptOf.add("key-5");
+
+        List<Future<UserRecordResult>> futures = addUserRecords(10, 10);
+        producer.flushSync();
+
+        Map<String, Integer> sent = new HashMap<String, Integer>();
+        for (PutRecordsRequest request : kinesis.putRecordsRequests) {
+            for (PutRecordsRequestEntry entry : request.getRecords()) {
+                Integer times = sent.get(entry.getPartitionKey());
+                sent.put(entry.getPartitionKey(), times == null ? 1 : times + 1);
+            }
+        }
+        for (int i = 0; i < futures.size(); i++) {
+            int expectedAttempts = kinesis.failFirstAttemptOf.contains("key-" + i) ? 2 : 1;
+            assertEquals(expectedAttempts, sent.get("key-" + i).intValue());
+            assertEquals(expectedAttempts, futures.get(i).get().getAttempts());
+        }
+    }
+
+    @Test
+    public void recordIsFailedAfterMaxAttempts() throws Exception {
+        producer = new BufferedRecordProducer(kinesis, new RecordProducerConfig()
+                .withAggregationEnabled(false)
+                .withMaxAttempts(3));
+        kinesis.alwaysFail.add("key-0");
+
+        List<Future<UserRecordResult>> futures = addUserRecords(2, 2);
+        producer.flushSync();
+
+        UserRecordFailedException failure = getFailure(futures.get(0));
+        assertEquals(3, failure.getAttempts());
+        assertEquals("ProvisionedThroughputExceededException", failure.getErrorCode());
+        assertEquals(1, futures.get(1).get().getAttempts());
+    }
+
+    @Test
+    public void nonRetryableServiceErrorFailsTheRecordsRightAway() throws Exception {
+        producer = new BufferedRecordProducer(kinesis);
+        kinesis.streamMissing = true;
+
+        List<Future<UserRecordResult>> futures = addUserRecords(5, 5);
+        producer.flushSync();
+
+        for (Future<UserRecordResult> future : futures) {
+            UserRecordFailedException failure = getFailure(future);
+            assertEquals(1, failure.getAttempts());
+            assertEquals("ResourceNotFoundException", failure.getErrorCode());
+        }
+    }
+
+    @Test
+    public void batchesStayWithinTheRecordCountLimit() throws Exception {
+        producer = new BufferedRecordProducer(kinesis, new RecordProducerConfig()
+                .withAggregationEnabled(false)
+                .withMaxBatchOpenMs(60000));
+
+        addUserRecords(1200, 1200);
+        producer.flushSync();
+
+        List<Integer> batchSizes = new ArrayList<Integer>();
+        for (PutRecordsRequest request : kinesis.putRecordsRequests) {
+            batchSizes.add(request.getRecords().size());
+        }
+        assertEquals(3, batchSizes.size());
+        assertTrue(batchSizes.toString(), batchSizes.contains(500));
+        assertTrue(batchSizes.toString(), batchSizes.contains(200));
+    }
+
+    @Test
+    public void aggregatedUserRecordsArePutIntoTheirOwnShard() throws Exception {
+        producer = new BufferedRecordProducer(kinesis, new RecordProducerConfig().withMaxBatchOpenMs(60000));
+
+        List<Future<UserRecordResult>> futures = addUserRecords(2000, 100);
+        producer.flushSync();
+
+        // One aggregated record per shard
+        assertEquals(4, kinesis.entries.get());
+        for (int i = 0; i < futures.size(); i++) {
+            UserRecordResult result = futures.get(i).get(30, TimeUnit.SECONDS);
+            BigInteger hashKey = new BigInteger(1, Md5Utils.computeMD5Hash(("key-" + (i % 100)).getBytes(StringUtils.UTF8)));
+            assertEquals(kinesis.shardIdFor(hashKey), result.getShardId());
+        }
+        assertEquals(0, producer.getOutstandingRecordsCount());
+    }
+
+    private List<Future<UserRecordResult>> addUserRecords(int count, int partitionKeys) {
+        List<Future<UserRecordResult>> futures = new ArrayList<Future<UserRecordResult>>();
+        for (int i = 0; i < count; i++) {
+            futures.add(producer.addUserRecord(STREAM, "key-" + (i % partitionKeys),
+                    ByteBuffer.wrap(("record-" + i).getBytes(StringUtils.UTF8))));
+        }
+        return futures;
+    }
+
+    private static UserRecordFailedException getFailure(Future<UserRecordResult> future) throws Exception {
+        try {
+            future.get(30, TimeUnit.SECONDS);
+            fail("Expected UserRecordFailedException");
+            return null;
+        } catch (ExecutionException e) {
+            return (UserRecordFailedException) e.getCause();
+        }
+    }
+
+    /**
+     * A stream of evenly sized open shards, putting records into the shard of their hash key.
+     */
+    private static class StandInKinesis extends AbstractAmazonKinesis {
+        private final BigInteger[] endingHashKeys;
+        private final ConcurrentLinkedQueue<PutRecordsRequest> putRecordsRequests =
+                new ConcurrentLinkedQueue<PutRecordsRequest>();
+        private final AtomicInteger entries = new AtomicInteger();
+        private final AtomicInteger sequenceNumber = new AtomicInteger();
+
+        /** Partition keys whose first attempt fails. */
+        private final Set<String> failFirstAttemptOf = new HashSet<String>();
+        private final Set<String> alwaysFail = new HashSet<String>();
+        private final ConcurrentMap<String, Boolean> failedOnce = new ConcurrentHashMap<String, Boolean>();
+        private volatile boolean streamMissing;
+
+        StandInKinesis(int shards) {
+            endingHashKeys = new BigInteger[shards];
+            BigInteger span = UserRecord.MAX_HASH_KEY.add(BigInteger.ONE).divide(BigInteger.valueOf(shards));
+            for (int i = 0; i < shards; i++) {
+                endingHashKeys[i] = span.multiply(BigInteger.valueOf(i + 1)).subtract(BigInteger.ONE);
+            }
+            endingHashKeys[shards - 1] = UserRecord.MAX_HASH_KEY;
+        }
+
+        String shardIdFor(BigInteger hashKey) {
+            for (int i = 0; i < endingHashKeys.length; i++) {
+                if (hashKey.compareTo(endingHashKeys[i]) <= 0) {
+                    return "shardId-" + i;
+                }
+            }
+            throw new IllegalArgumentException("Hash key out of range: " + hashKey);
+        }
+
+        @Override
+        public DescribeStreamResult describeStream(DescribeStreamRequest request) {
+            List<Shard> shards = new ArrayList<Shard>();
+            for (int i = 0; i < endingHashKeys.length; i++) {
+                BigInteger startingHashKey = i == 0 ? BigInteger.ZERO : endingHashKeys[i - 1].add(BigInteger.ONE);
+                shards.add(new Shard()
+                        .withShardId("shardId-" + i)
+                        .withHashKeyRange(new HashKeyRange()
+                                .withStartingHashKey(startingHashKey.toString())
+                                .withEndingHashKey(endingHashKeys[i].toString()))
+                        .withSequenceNumberRange(new SequenceNumberRange().withStartingSequenceNumber("0")));
+            }
+            return new DescribeStreamResult().withStreamDescription(new StreamDescription()
+                    .withStreamName(request.getStreamName())
+                    .withShards(shards)
+                    .withHasMoreShards(false));
+        }
+
+        @Override
+        public PutRecordsResult putRecords(PutRecordsRequest request) {
+            if (streamMissing) {
+                AmazonServiceException e = new AmazonServiceException("Stream not found");
+                e.setErrorCode("ResourceNotFoundException");
+                e.setErrorType(ErrorType.Client);
+                e.setStatusCode(400);
+                throw e;
+            }
+            putRecordsRequests.add(request);
+            List<PutRecordsResultEntry> resultEntries = new ArrayList<PutRecordsResultEntry>();
+            for (PutRecordsRequestEntry entry : request.getRecords()) {
+                entries.incrementAndGet();
+                String partitionKey = entry.getPartitionKey();
+                if (alwaysFail.contains(partitionKey)
+                        || failFirstAttemptOf.contains(partitionKey) && failedOnce.putIfAbsent(partitionKey, true) == null) {
+                    resultEntries.add(new PutRecordsResultEntry()
+                            .withErrorCode("ProvisionedThroughputExceededException")
+                            .withErrorMessage("Rate exceeded"));
+                    continue;
+                }
+                BigInteger hashKey = entry.getExplicitHashKey() != null
+                        ? new BigInteger(entry.getExplicitHashKey())
+                        : new BigInteger(1, Md5Utils.computeMD5Hash(partitionKey.getBytes(StringUtils.UTF8)));
+                resultEntries.add(new PutRecordsResultEntry()
+                        .withShardId(shardIdFor(hashKey))
+                        .withSequenceNumber(Integer.toString(sequenceNumber.incrementAndGet())));
+            }
+            return new PutRecordsResult().withRecords(resultEntries);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.kinesis.buffered;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.amazonaws.services.kinesis.model.PutRecordsRequestEntry;
+import com.amazonaws.util.StringUtils;
+
+public class KinesisRecordTest {
+
+    private static final String STREAM = "stream";
+
+    /** Data lengths on either side of the one and two byte varint boundaries. */
+    private static final int[] DATA_LENGTHS = { 0, 1, 127, 128, 129, 16383, 16384, 16385 };
+
+    private final Random random = new Random(7);
+
+    @Test
+    public void singleUserRecordIsSentAsIs() {
+        UserRecord userRecord = new UserRecord(STREAM, "key", "42", data(10));
+        KinesisRecord record = KinesisRecord.of(userRecord, "shardId-0");
+
+        PutRecordsRequestEntry entry = record.toEntry();
+        assertFalse(record.isAggregated());
+        assertEquals("key", entry.getPartitionKey());
+        assertEquals("42", entry.getExplicitHashKey());
+        assertEquals(userRecord.getData(), entry.getData());
+        assertEquals(userRecord.getSize(), record.getSize());
+    }
+
+    @Test
+    public void aggregatedRecordDecodesToItsUserRecords() throws Exception {
+        KinesisRecord record = new KinesisRecord("shardId-0");
+        List<UserRecord> userRecords = new ArrayList<UserRecord>();
+        for (int i = 0; i < 20; i++) {
+            // Repeated partition keys and explicit hash keys share table entries
+            String explicitHashKey = i % 3 == 0 ? null : Integer.toString(i % 5);
+            UserRecord userRecord = new UserRecord(STREAM, "key-" + (i % 7), explicitHashKey,
+                    data(DATA_LENGTHS[i % DATA_LENGTHS.length]));
+            userRecords.add(userRecord);
+            record.add(userRecord);
+        }
+
+        PutRecordsRequestEntry entry = record.toEntry();
+        assertTrue(record.isAggregated());
+        assertEquals("key-0", entry.getPartitionKey());
+        assertEquals(userRecords.get(0).getHashKey().toString(), entry.getExplicitHashKey());
+
+        List<DecodedRecord> decoded = decode(toArray(entry.getData()));
+        assertEquals(userRecords.size(), decoded.size());
+        for (int i = 0; i < userRecords.size(); i++) {
+            UserRecord userRecord = userRecords.get(i);
+            assertEquals(userRecord.getPartitionKey(), decoded.get(i).partitionKey);
+            assertEquals(userRecord.getExplicitHashKey(), decoded.get(i).explicitHashKey);
+            assertArrayEquals(toArray(userRecord.getData()), decoded.get(i).data);
+        }
+    }
+
+    @Test
+    public void sizeWithIsTheSizeOfTheEncodedRecord() {
+        KinesisRecord record = new KinesisRecord("shardId-0");
+        // Enough distinct partition keys for two byte table indexes
+        for (int i = 0; i < 300; i++) {
+            String explicitHashKey = i % 2 == 0 ? null : Integer.toString(i);
+            UserRecord userRecord = new UserRecord(STREAM, "partition-key-" + i, explicitHashKey,
+                    data(DATA_LENGTHS[i % DATA_LENGTHS.length]));
+            int predicted = record.sizeWith(userRecord);
+            record.add(userRecord);
+
+            // A single user record is sent as is, so it's smaller than predicted
+            if (record.isAggregated()) {
+                PutRecordsRequestEntry entry = record.toEntry();
+                assertEquals("Record " + i, predicted, record.getSize());
+                assertEquals("Record " + i, predicted,
+                        entry.getData().remaining() + entry.getPartitionKey().getBytes(StringUtils.UTF8).length);
+            }
+        }
+    }
+
+    private ByteBuffer data(int length) {
+        byte[] data = new byte[length];
+        random.nextBytes(data);
+        return ByteBuffer.wrap(data);
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Decodes an aggregated record, checking its magic number and digest.
+     */
+    private static List<DecodedRecord> decode(byte[] aggregated) throws Exception {
+        int magicLength = KinesisRecord.AGGREGATED_RECORD_MAGIC.length;
+        assertArrayEquals(KinesisRecord.AGGREGATED_RECORD_MAGIC, Arrays.copyOf(aggregated, magicLength));
+        byte[] message = Arrays.copyOfRange(aggregated, magicLength, aggregated.length - 16);
+        assertArrayEquals(MessageDigest.getInstance("MD5").digest(message),
+                Arrays.copyOfRange(aggregated, aggregated.length - 16, aggregated.length));
+
+        List<String> partitionKeys = new ArrayList<String>();
+        List<String> explicitHashKeys = new ArrayList<String>();
+        List<DecodedRecord> records = new ArrayList<DecodedRecord>();
+        ByteBuffer buffer = ByteBuffer.wrap(message);
+        while (buffer.hasRemaining()) {
+            int tag = buffer.get();
+            byte[] field = new byte[(int) readVarint(buffer)];
+            buffer.get(field);
+            switch (tag >>> 3) {
+            case 1:
+                partitionKeys.add(new String(field, StringUtils.UTF8));
+                break;
+            case 2:
+                explicitHashKeys.add(new String(field, StringUtils.UTF8));
+                break;
+            case 3:
+                records.add(decodeRecord(ByteBuffer.wrap(field), partitionKeys, explicitHashKeys));
+                break;
+            default:
+                throw new AssertionError("Unexpected field " + (tag >>> 3));
+            }
+        }
+        return records;
+    }
+
+    private static DecodedRecord decodeRecord(ByteBuffer buffer, List<String> partitionKeys,
+            List<String> explicitHashKeys) {
+        DecodedRecord record = new DecodedRecord();
+        while (buffer.hasRemaining()) {
+            int tag = buffer.get();
+            switch (tag >>> 3) {
+            case 1:
+                record.partitionKey = partitionKeys.get((int) readVarint(buffer));
+                break;
+            case 2:
+                record.explicitHashKey = explicitHashKeys.get((int) readVarint(buffer));
+                break;
+            case 3:
+                record.data = new byte[(int) readVarint(buffer)];
+                buffer.get(record.data);
+                break;
+            default:
+                throw new AssertionError("Unexpected field " + (tag >>> 3));
+            }
+        }
+        return record;
+    }
+
+    private static long readVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0;; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    private static class DecodedRecord {
+        private String partitionKey;
+        private String explicitHashKey;
+        private byte[] data;
+    }
+}
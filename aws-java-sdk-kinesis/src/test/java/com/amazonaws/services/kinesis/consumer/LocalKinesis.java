@@ -0,0 +1,292 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.kinesis.consumer;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.services.kinesis.AbstractAmazonKinesis;
+import com.amazonaws.services.kinesis.model.DescribeStreamRequest;
+import com.amazonaws.services.kinesis.model.DescribeStreamResult;
+import com.amazonaws.services.kinesis.model.ExpiredIteratorException;
+import com.amazonaws.services.kinesis.model.GetRecordsRequest;
+import com.amazonaws.services.kinesis.model.GetRecordsResult;
+import com.amazonaws.services.kinesis.model.GetShardIteratorRequest;
+import com.amazonaws.services.kinesis.model.GetShardIteratorResult;
+import com.amazonaws.services.kinesis.model.HashKeyRange;
+import com.amazonaws.services.kinesis.model.PutRecordsRequest;
+import com.amazonaws.services.kinesis.model.PutRecordsRequestEntry;
+import com.amazonaws.services.kinesis.model.PutRecordsResult;
+import com.amazonaws.services.kinesis.model.PutRecordsResultEntry;
+import com.amazonaws.services.kinesis.model.Record;
+import com.amazonaws.services.kinesis.model.SequenceNumberRange;
+import com.amazonaws.services.kinesis.model.Shard;
+import com.amazonaws.services.kinesis.model.ShardIteratorType;
+import com.amazonaws.services.kinesis.model.StreamDescription;
+import com.amazonaws.util.Md5Utils;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * An in-memory stand-in for a single Kinesis stream, supporting what the producer and the
+ * consumer call: PutRecords, paged DescribeStream, GetShardIterator and GetRecords. Shards can be
+ * split and merged, and GetRecords calls can be made to fail with an expired iterator.
+ * <p>
+ * Shard iterators are the shard id and the index of the next record in the shard.
+ */
+class LocalKinesis extends AbstractAmazonKinesis {
+
+    static final BigInteger MAX_HASH_KEY = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+
+    /** The number of shards DescribeStream returns per page. */
+    private static final int SHARDS_PER_PAGE = 3;
+
+    /** All shards, open and closed, in the order they were created. */
+    private final Map<String, LocalShard> shards = new LinkedHashMap<String, LocalShard>();
+
+    private long nextSequenceNumber = 1000;
+
+    private int nextShardNumber;
+
+    /** Every how many GetRecords calls one fails with an expired iterator, 0 for never. */
+    private volatile int expireEvery;
+
+    private final AtomicInteger getRecordsCalls = new AtomicInteger();
+
+    private final AtomicInteger expiredIterators = new AtomicInteger();
+
+    private final AtomicInteger concurrentGetRecordsCalls = new AtomicInteger();
+
+    private final AtomicInteger maxConcurrentGetRecordsCalls = new AtomicInteger();
+
+    LocalKinesis(int shardCount) {
+        BigInteger span = MAX_HASH_KEY.add(BigInteger.ONE).divide(BigInteger.valueOf(shardCount));
+        for (int i = 0; i < shardCount; i++) {
+            BigInteger endingHashKey = i == shardCount - 1 ? MAX_HASH_KEY
+                    : span.multiply(BigInteger.valueOf(i + 1)).subtract(BigInteger.ONE);
+            addShard(null, null, span.multiply(BigInteger.valueOf(i)), endingHashKey);
+        }
+    }
+
+    void setExpireEvery(int expireEvery) {
+        this.expireEvery = expireEvery;
+    }
+
+    int getExpiredIterators() {
+        return expiredIterators.get();
+    }
+
+    int getMaxConcurrentGetRecordsCalls() {
+        return maxConcurrentGetRecordsCalls.get();
+    }
+
+    synchronized List<String> getShardIds() {
+        return new ArrayList<String>(shards.keySet());
+    }
+
+    synchronized List<String> getOpenShardIds() {
+        List<String> shardIds = new ArrayList<String>();
+        for (LocalShard shard : shards.values()) {
+            if (!shard.closed) {
+                shardIds.add(shard.shardId);
+            }
+        }
+        return shardIds;
+    }
+
+    synchronized List<Record> getRecords(String shardId) {
+        return new ArrayList<Record>(shards.get(shardId).records);
+    }
+
+    synchronized BigInteger getStartingHashKey(String shardId) {
+        return shards.get(shardId).startingHashKey;
+    }
+
+    synchronized BigInteger getEndingHashKey(String shardId) {
+        return shards.get(shardId).endingHashKey;
+    }
+
+    /**
+     * Closes the shard and splits its hash key range in half between two new shards.
+     */
+    synchronized void split(String shardId) {
+        LocalShard parent = shards.get(shardId);
+        parent.closed = true;
+        BigInteger middle = parent.startingHashKey.add(parent.endingHashKey).shiftRight(1);
+        addShard(shardId, null, parent.startingHashKey, middle);
+        addShard(shardId, null, middle.add(BigInteger.ONE), parent.endingHashKey);
+    }
+
+    /**
+     * Closes two shards with adjacent hash key ranges and opens a shard covering both.
+     */
+    synchronized void merge(String shardId, String adjacentShardId) {
+        LocalShard parent = shards.get(shardId);
+        LocalShard adjacentParent = shards.get(adjacentShardId);
+        parent.closed = true;
+        adjacentParent.closed = true;
+        addShard(shardId, adjacentShardId, parent.startingHashKey.min(adjacentParent.startingHashKey),
+                parent.endingHashKey.max(adjacentParent.endingHashKey));
+    }
+
+    private void addShard(String parentShardId, String adjacentParentShardId, BigInteger startingHashKey,
+            BigInteger endingHashKey) {
+        LocalShard shard = new LocalShard(String.format("shardId-%012d", nextShardNumber++), parentShardId,
+                adjacentParentShardId, startingHashKey, endingHashKey);
+        shards.put(shard.shardId, shard);
+    }
+
+    @Override
+    public synchronized DescribeStreamResult describeStream(DescribeStreamRequest request) {
+        List<Shard> page = new ArrayList<Shard>();
+        boolean started = request.getExclusiveStartShardId() == null;
+        boolean hasMoreShards = false;
+        for (LocalShard shard : shards.values()) {
+            if (!started) {
+                started = shard.shardId.equals(request.getExclusiveStartShardId());
+                continue;
+            }
+            if (page.size() == SHARDS_PER_PAGE) {
+                hasMoreShards = true;
+                break;
+            }
+            page.add(new Shard()
+                    .withShardId(shard.shardId)
+                    .withParentShardId(shard.parentShardId)
+                    .withAdjacentParentShardId(shard.adjacentParentShardId)
+                    .withHashKeyRange(new HashKeyRange()
+                            .withStartingHashKey(shard.startingHashKey.toString())
+                            .withEndingHashKey(shard.endingHashKey.toString()))
+                    .withSequenceNumberRange(new SequenceNumberRange()
+                            .withStartingSequenceNumber("0")
+                            .withEndingSequenceNumber(shard.closed ? Long.toString(nextSequenceNumber) : null)));
+        }
+        return new DescribeStreamResult().withStreamDescription(new StreamDescription()
+                .withStreamName(request.getStreamName())
+                .withShards(page)
+                .withHasMoreShards(hasMoreShards));
+    }
+
+    @Override
+    public synchronized PutRecordsResult putRecords(PutRecordsRequest request) {
+        List<PutRecordsResultEntry> resultEntries = new ArrayList<PutRecordsResultEntry>();
+        for (PutRecordsRequestEntry entry : request.getRecords()) {
+            BigInteger hashKey = entry.getExplicitHashKey() != null
+                    ? new BigInteger(entry.getExplicitHashKey())
+                    : new BigInteger(1, Md5Utils.computeMD5Hash(entry.getPartitionKey().getBytes(StringUtils.UTF8)));
+            LocalShard shard = openShardFor(hashKey);
+            String sequenceNumber = Long.toString(nextSequenceNumber++);
+            shard.records.add(new Record()
+                    .withSequenceNumber(sequenceNumber)
+                    .withPartitionKey(entry.getPartitionKey())
+                    .withData(entry.getData()));
+            resultEntries.add(new PutRecordsResultEntry().withShardId(shard.shardId).withSequenceNumber(sequenceNumber));
+        }
+        return new PutRecordsResult().withRecords(resultEntries);
+    }
+
+    private LocalShard openShardFor(BigInteger hashKey) {
+        for (LocalShard shard : shards.values()) {
+            if (!shard.closed && shard.startingHashKey.compareTo(hashKey) <= 0
+                    && shard.endingHashKey.compareTo(hashKey) >= 0) {
+                return shard;
+            }
+        }
+        throw new IllegalStateException("No open shard for hash key " + hashKey);
+    }
+
+    @Override
+    public synchronized GetShardIteratorResult getShardIterator(GetShardIteratorRequest request) {
+        LocalShard shard = shards.get(request.getShardId());
+        int index;
+        switch (ShardIteratorType.fromValue(request.getShardIteratorType())) {
+        case TRIM_HORIZON:
+            index = 0;
+            break;
+        case LATEST:
+            index = shard.records.size();
+            break;
+        case AFTER_SEQUENCE_NUMBER:
+            index = shard.indexOf(request.getStartingSequenceNumber()) + 1;
+            break;
+        case AT_SEQUENCE_NUMBER:
+            index = shard.indexOf(request.getStartingSequenceNumber());
+            break;
+        default:
+            throw new UnsupportedOperationException(request.getShardIteratorType());
+        }
+        return new GetShardIteratorResult().withShardIterator(shard.shardId + ":" + index);
+    }
+
+    @Override
+    public GetRecordsResult getRecords(GetRecordsRequest request) {
+        int concurrent = concurrentGetRecordsCalls.incrementAndGet();
+        int max;
+        while (concurrent > (max = maxConcurrentGetRecordsCalls.get())
+                && !maxConcurrentGetRecordsCalls.compareAndSet(max, concurrent)) {
+        }
+        try {
+            int expireEvery = this.expireEvery;
+            if (expireEvery > 0 && getRecordsCalls.incrementAndGet() % expireEvery == 0) {
+                expiredIterators.incrementAndGet();
+                throw new ExpiredIteratorException("Iterator expired");
+            }
+            synchronized (this) {
+                String[] iterator = request.getShardIterator().split(":");
+                LocalShard shard = shards.get(iterator[0]);
+                int from = Integer.parseInt(iterator[1]);
+                int to = Math.min(shard.records.size(), from + request.getLimit());
+                String nextShardIterator = shard.closed && to == shard.records.size() ? null : shard.shardId + ":" + to;
+                return new GetRecordsResult()
+                        .withRecords(new ArrayList<Record>(shard.records.subList(from, to)))
+                        .withNextShardIterator(nextShardIterator)
+                        .withMillisBehindLatest(to < shard.records.size() ? 1000L : 0L);
+            }
+        } finally {
+            concurrentGetRecordsCalls.decrementAndGet();
+        }
+    }
+
+    private static class LocalShard {
+        private final String shardId;
+        private final String parentShardId;
+        private final String adjacentParentShardId;
+        private final BigInteger startingHashKey;
+        private final BigInteger endingHashKey;
+        private final List<Record> records = new ArrayList<Record>();
+        private boolean closed;
+
+        LocalShard(String shardId, String parentShardId, String adjacentParentShardId, BigInteger startingHashKey,
+                BigInteger endingHashKey) {
+            this.shardId = shardId;
+            this.parentShardId = parentShardId;
+            this.adjacentParentShardId = adjacentParentShardId;
+            this.startingHashKey = startingHashKey;
+            this.endingHashKey = endingHashKey;
+        }
+
+        int indexOf(String sequenceNumber) {
+            for (int i = 0; i < records.size(); i++) {
+                if (records.get(i).getSequenceNumber().equals(sequenceNumber)) {
+                    return i;
+                }
+            }
+            throw new IllegalArgumentException("Unknown sequence number " + sequenceNumber);
+        }
+    }
+}
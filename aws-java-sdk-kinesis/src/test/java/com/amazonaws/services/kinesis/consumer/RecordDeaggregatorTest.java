@@ -0,0 +1,170 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.kinesis.consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.amazonaws.services.kinesis.buffered.BufferedRecordProducer;
+import com.amazonaws.services.kinesis.buffered.RecordProducerConfig;
+import com.amazonaws.services.kinesis.buffered.UserRecordResult;
+import com.amazonaws.services.kinesis.model.Record;
+import com.amazonaws.util.Md5Utils;
+import com.amazonaws.util.StringUtils;
+
+/**
+ * Reads back the records written by the {@link BufferedRecordProducer}.
+ */
+public class RecordDeaggregatorTest {
+
+    private static final String STREAM = "stream";
+
+    private BufferedRecordProducer producer;
+
+    @After
+    public void tearDown() {
+        if (producer != null) {
+            producer.shutdown();
+        }
+    }
+
+    @Test
+    public void producedUserRecordsAreDeaggregated() throws Exception {
+        LocalKinesis kinesis = new LocalKinesis(3);
+        Map<String, String> sent = produce(kinesis, 3000);
+
+        int aggregated = 0;
+        int userRecords = 0;
+        for (String shardId : kinesis.getShardIds()) {
+            for (UserRecord userRecord : RecordDeaggregator.deaggregate(kinesis.getRecords(shardId),
+                    kinesis.getStartingHashKey(shardId), kinesis.getEndingHashKey(shardId))) {
+                String expected = sent.get(key(shardId, userRecord.getSequenceNumber(), userRecord.getSubSequenceNumber()));
+                assertNotNull("Unexpected " + userRecord, expected);
+                assertEquals(expected, describe(userRecord));
+                aggregated += userRecord.isAggregated() ? 1 : 0;
+                userRecords++;
+            }
+        }
+        assertEquals(sent.size(), userRecords);
+        assertEquals(sent.size(), aggregated);
+    }
+
+    @Test
+    public void userRecordsOutsideTheHashKeyRangeAreDropped() throws Exception {
+        LocalKinesis kinesis = new LocalKinesis(1);
+        produce(kinesis, 500);
+        String shardId = kinesis.getShardIds().get(0);
+        List<Record> records = kinesis.getRecords(shardId);
+        BigInteger middle = LocalKinesis.MAX_HASH_KEY.shiftRight(1);
+
+        List<UserRecord> lowerHalf = RecordDeaggregator.deaggregate(records, BigInteger.ZERO, middle);
+        List<UserRecord> upperHalf = RecordDeaggregator.deaggregate(records, middle.add(BigInteger.ONE),
+                LocalKinesis.MAX_HASH_KEY);
+
+        assertEquals(500, lowerHalf.size() + upperHalf.size());
+        assertFalse(lowerHalf.isEmpty());
+        assertFalse(upperHalf.isEmpty());
+        for (UserRecord userRecord : lowerHalf) {
+            assertTrue(hashKey(userRecord).compareTo(middle) <= 0);
+        }
+        for (UserRecord userRecord : upperHalf) {
+            assertTrue(hashKey(userRecord).compareTo(middle) > 0);
+        }
+    }
+
+    @Test
+    public void recordsWhichAreNotAggregatedArePassedThrough() {
+        ByteBuffer plain = ByteBuffer.wrap("plain".getBytes(StringUtils.UTF8));
+        // The magic number followed by something which isn't an aggregated record and its digest
+        byte[] corrupt = new byte[] { (byte) 0xF3, (byte) 0x89, (byte) 0x9A, (byte) 0xC2,
+                1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17 };
+        List<Record> records = Arrays.asList(
+                new Record().withSequenceNumber("1").withPartitionKey("a").withData(plain),
+                new Record().withSequenceNumber("2").withPartitionKey("b").withData(ByteBuffer.wrap(corrupt)));
+
+        List<UserRecord> userRecords = RecordDeaggregator.deaggregate(records);
+
+        assertEquals(2, userRecords.size());
+        for (int i = 0; i < records.size(); i++) {
+            assertFalse(userRecords.get(i).isAggregated());
+            assertEquals(0, userRecords.get(i).getSubSequenceNumber());
+            assertEquals(records.get(i).getSequenceNumber(), userRecords.get(i).getSequenceNumber());
+            assertEquals(records.get(i).getPartitionKey(), userRecords.get(i).getPartitionKey());
+            assertSame(records.get(i).getData(), userRecords.get(i).getData());
+        }
+    }
+
+    /**
+     * Puts the given number of small user records through a producer, some of them with explicit
+     * hash keys.
+     *
+     * @return A description of every user record, by where the producer reported putting it
+     */
+    private Map<String, String> produce(LocalKinesis kinesis, int count) throws Exception {
+        producer = new BufferedRecordProducer(kinesis, new RecordProducerConfig().withMaxBatchOpenMs(60000));
+        List<Future<UserRecordResult>> futures = new ArrayList<Future<UserRecordResult>>();
+        List<String> descriptions = new ArrayList<String>();
+        for (int i = 0; i < count; i++) {
+            String partitionKey = "key-" + (i % 37);
+            String explicitHashKey = i % 5 == 0 ? LocalKinesis.MAX_HASH_KEY.divide(BigInteger.valueOf(1 + i % 7)).toString() : null;
+            String data = "record-" + i;
+            futures.add(producer.addUserRecord(STREAM, partitionKey, explicitHashKey,
+                    ByteBuffer.wrap(data.getBytes(StringUtils.UTF8))));
+            descriptions.add(partitionKey + "/" + explicitHashKey + "/" + data);
+        }
+        producer.flushSync();
+
+        Map<String, String> sent = new HashMap<String, String>();
+        for (int i = 0; i < count; i++) {
+            UserRecordResult result = futures.get(i).get();
+            sent.put(key(result.getShardId(), result.getSequenceNumber(), result.getSubSequenceNumber()),
+                    descriptions.get(i));
+        }
+        return sent;
+    }
+
+    private static String key(String shardId, String sequenceNumber, long subSequenceNumber) {
+        return shardId + "/" + sequenceNumber + "/" + subSequenceNumber;
+    }
+
+    private static String describe(UserRecord userRecord) {
+        byte[] data = new byte[userRecord.getData().remaining()];
+        userRecord.getData().duplicate().get(data);
+        return userRecord.getPartitionKey() + "/" + userRecord.getExplicitHashKey() + "/"
+                + new String(data, StringUtils.UTF8);
+    }
+
+    private static BigInteger hashKey(UserRecord userRecord) {
+        if (userRecord.getExplicitHashKey() != null) {
+            return new BigInteger(userRecord.getExplicitHashKey());
+        }
+        return new BigInteger(1, Md5Utils.computeMD5Hash(userRecord.getPartitionKey().getBytes(StringUtils.UTF8)));
+    }
+}
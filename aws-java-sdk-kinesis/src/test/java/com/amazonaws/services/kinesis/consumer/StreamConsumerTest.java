@@ -0,0 +1,249 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.kinesis.consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.amazonaws.services.kinesis.model.PutRecordsRequest;
+import com.amazonaws.services.kinesis.model.PutRecordsRequestEntry;
+import com.amazonaws.services.kinesis.model.ShardIteratorType;
+import com.amazonaws.util.StringUtils;
+
+public class StreamConsumerTest {
+
+    private static final String STREAM = "stream";
+
+    private static final int PARTITION_KEYS = 50;
+
+    private final InMemoryCheckpointStore checkpointStore = new InMemoryCheckpointStore();
+
+    private final List<StreamConsumer> consumers = new ArrayList<StreamConsumer>();
+
+    @After
+    public void tearDown() {
+        for (StreamConsumer consumer : consumers) {
+            consumer.shutdown();
+        }
+    }
+
+    @Test
+    public void childShardsAreProcessedAfterTheirParents() throws Exception {
+        LocalKinesis kinesis = new LocalKinesis(4);
+        CollectingProcessor processor = new CollectingProcessor(0);
+        put(kinesis, 0, 2000);
+        start(kinesis, processor, 3);
+
+        List<String> shardIds = kinesis.getOpenShardIds();
+        kinesis.split(shardIds.get(0));
+        put(kinesis, 2000, 4000);
+        kinesis.merge(shardIds.get(2), shardIds.get(3));
+        put(kinesis, 4000, 6000);
+        List<String> openShardIds = kinesis.getOpenShardIds();
+        kinesis.split(openShardIds.get(openShardIds.size() - 1));
+        put(kinesis, 6000, 8000);
+
+        processor.awaitDistinct(8000);
+        processor.assertInPartitionKeyOrder(8000);
+        assertEquals(new HashSet<String>(kinesis.getShardIds()), processor.shardIds);
+        for (String shardId : kinesis.getShardIds()) {
+            boolean closed = !kinesis.getOpenShardIds().contains(shardId);
+            assertEquals(shardId, closed,
+                    CheckpointStore.SHARD_END.equals(checkpointStore.getCheckpoint(STREAM, shardId)));
+        }
+        assertTrue("Max concurrent batches " + processor.maxConcurrentBatches,
+                processor.maxConcurrentBatches.get() <= 3);
+        assertTrue("Max concurrent reads " + kinesis.getMaxConcurrentGetRecordsCalls(),
+                kinesis.getMaxConcurrentGetRecordsCalls() <= 3);
+    }
+
+    @Test
+    public void expiredIteratorsAreRenewedAfterTheLastRecordRead() throws Exception {
+        LocalKinesis kinesis = new LocalKinesis(2);
+        kinesis.setExpireEvery(3);
+        CollectingProcessor processor = new CollectingProcessor(0);
+        put(kinesis, 0, 3000);
+        start(kinesis, processor, 2);
+
+        processor.awaitDistinct(3000);
+
+        assertTrue(kinesis.getExpiredIterators() > 0);
+        processor.assertInPartitionKeyOrder(3000);
+        // Records are only delivered again when processing them failed
+        assertEquals(3000, processor.processed.get());
+    }
+
+    @Test
+    public void failedBatchesAreProcessedAgainAndCheckpointsSurviveARestart() throws Exception {
+        LocalKinesis kinesis = new LocalKinesis(3);
+        CollectingProcessor processor = new CollectingProcessor(4);
+        put(kinesis, 0, 3000);
+        StreamConsumer consumer = start(kinesis, processor, 2);
+
+        processor.awaitDistinct(3000);
+        processor.assertInPartitionKeyOrder(3000);
+        assertTrue(processor.failures.get() > 0);
+        consumer.shutdown();
+        assertTrue(consumer.awaitTermination(5, TimeUnit.SECONDS));
+
+        put(kinesis, 3000, 4000);
+        CollectingProcessor restarted = new CollectingProcessor(0);
+        start(kinesis, restarted, 2);
+
+        restarted.awaitDistinct(1000);
+        Thread.sleep(200);
+        assertEquals(1000, restarted.processed.get());
+        restarted.assertInPartitionKeyOrder(1000);
+    }
+
+    private StreamConsumer start(LocalKinesis kinesis, RecordProcessor processor, int maxWorkers) {
+        StreamConsumer consumer = new StreamConsumer(kinesis, STREAM, processor, new StreamConsumerConfig()
+                .withMaxWorkers(maxWorkers)
+                .withMaxRecordsPerGet(100)
+                .withIdleTimeBetweenReadsMs(20)
+                .withRetryDelayMs(10)
+                .withShardSyncIntervalMs(200)
+                .withInitialPosition(ShardIteratorType.TRIM_HORIZON), checkpointStore);
+        consumers.add(consumer);
+        consumer.start();
+        return consumer;
+    }
+
+    /**
+     * Puts the records numbered from and up to the given numbers, with data "key#number".
+     */
+    private static void put(LocalKinesis kinesis, int from, int to) {
+        for (int i = from; i < to; i++) {
+            String partitionKey = "key-" + (i % PARTITION_KEYS);
+            kinesis.putRecords(new PutRecordsRequest().withStreamName(STREAM).withRecords(new PutRecordsRequestEntry()
+                    .withPartitionKey(partitionKey)
+                    .withData(ByteBuffer.wrap((partitionKey + "#" + i).getBytes(StringUtils.UTF8)))));
+        }
+    }
+
+    /**
+     * Collects the numbers of the records by partition key, failing every so many batches.
+     */
+    private static class CollectingProcessor implements RecordProcessor {
+        private final int failEvery;
+        private final ConcurrentMap<String, List<Integer>> numbers = new ConcurrentHashMap<String, List<Integer>>();
+        private final Set<String> shardIds = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        private final Set<String> shardsBeingProcessed =
+                Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        private final AtomicInteger batches = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger concurrentBatches = new AtomicInteger();
+        private final AtomicInteger maxConcurrentBatches = new AtomicInteger();
+
+        CollectingProcessor(int failEvery) {
+            this.failEvery = failEvery;
+        }
+
+        @Override
+        public void processRecords(String shardId, List<UserRecord> records) throws Exception {
+            if (!shardsBeingProcessed.add(shardId)) {
+                throw new AssertionError("Concurrent batches of shard " + shardId);
+            }
+            int concurrent = concurrentBatches.incrementAndGet();
+            int max;
+            while (concurrent > (max = maxConcurrentBatches.get())
+                    && !maxConcurrentBatches.compareAndSet(max, concurrent)) {
+            }
+            try {
+                if (failEvery > 0 && batches.incrementAndGet() % failEvery == 0) {
+                    failures.incrementAndGet();
+                    throw new RuntimeException("Processing failed");
+                }
+                shardIds.add(shardId);
+                for (UserRecord record : records) {
+                    byte[] bytes = new byte[record.getData().remaining()];
+                    record.getData().duplicate().get(bytes);
+                    String data = new String(bytes, StringUtils.UTF8);
+                    String partitionKey = data.substring(0, data.indexOf('#'));
+                    numbersOf(partitionKey).add(Integer.parseInt(data.substring(data.indexOf('#') + 1)));
+                    processed.incrementAndGet();
+                }
+            } finally {
+                concurrentBatches.decrementAndGet();
+                shardsBeingProcessed.remove(shardId);
+            }
+        }
+
+        private List<Integer> numbersOf(String partitionKey) {
+            List<Integer> list = numbers.get(partitionKey);
+            if (list == null) {
+                numbers.putIfAbsent(partitionKey, Collections.synchronizedList(new ArrayList<Integer>()));
+                list = numbers.get(partitionKey);
+            }
+            return list;
+        }
+
+        private int distinct() {
+            int distinct = 0;
+            for (List<Integer> list : numbers.values()) {
+                synchronized (list) {
+                    distinct += new HashSet<Integer>(list).size();
+                }
+            }
+            return distinct;
+        }
+
+        void awaitDistinct(int count) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(60);
+            while (distinct() < count && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertEquals(count, distinct());
+        }
+
+        /**
+         * Checks that the records of every partition key were first processed in the order they
+         * were put. Records processed again after a failed batch are skipped.
+         */
+        void assertInPartitionKeyOrder(int count) {
+            int total = 0;
+            for (String partitionKey : numbers.keySet()) {
+                List<Integer> list = numbers.get(partitionKey);
+                Set<Integer> seen = new HashSet<Integer>();
+                int last = -1;
+                synchronized (list) {
+                    for (int number : list) {
+                        if (seen.add(number)) {
+                            assertTrue(partitionKey + ": " + number + " after " + last, number > last);
+                            last = number;
+                        }
+                    }
+                }
+                total += seen.size();
+            }
+            assertEquals(count, total);
+        }
+    }
+}
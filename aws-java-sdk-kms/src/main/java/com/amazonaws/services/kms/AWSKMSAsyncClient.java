@@ -15,6 +15,10 @@
 package com.amazonaws.services.kms;
 
 import com.amazonaws.services.kms.model.*;
+import com.amazonaws.services.kms.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -398,27 +402,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final CancelKeyDeletionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelKeyDeletionRequest, CancelKeyDeletionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CancelKeyDeletionResult>() {
-                    @Override
-                    public CancelKeyDeletionResult call() throws Exception {
-                        CancelKeyDeletionResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CancelKeyDeletionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CancelKeyDeletionResultJsonUnmarshaller());
 
-                        try {
-                            result = cancelKeyDeletion(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CancelKeyDeletionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -433,27 +425,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final CreateAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAliasRequest, CreateAliasResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateAliasResult>() {
-                    @Override
-                    public CreateAliasResult call() throws Exception {
-                        CreateAliasResult result;
-
-                        try {
-                            result = createAlias(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateAliasResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateAliasResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateAliasRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -468,27 +448,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final CreateGrantRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateGrantRequest, CreateGrantResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateGrantResult>() {
-                    @Override
-                    public CreateGrantResult call() throws Exception {
-                        CreateGrantResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateGrantResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateGrantResultJsonUnmarshaller());
 
-                        try {
-                            result = createGrant(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateGrantRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -503,27 +471,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final CreateKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateKeyRequest, CreateKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateKeyResult>() {
-                    @Override
-                    public CreateKeyResult call() throws Exception {
-                        CreateKeyResult result;
-
-                        try {
-                            result = createKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateKeyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateKeyResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateKeyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -562,27 +518,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final DecryptRequest request,
             final com.amazonaws.handlers.AsyncHandler<DecryptRequest, DecryptResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DecryptResult>() {
-                    @Override
-                    public DecryptResult call() throws Exception {
-                        DecryptResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DecryptResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DecryptResultJsonUnmarshaller());
 
-                        try {
-                            result = decrypt(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DecryptRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -597,27 +541,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final DeleteAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAliasRequest, DeleteAliasResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteAliasResult>() {
-                    @Override
-                    public DeleteAliasResult call() throws Exception {
-                        DeleteAliasResult result;
-
-                        try {
-                            result = deleteAlias(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteAliasResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteAliasResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteAliasRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -632,28 +564,16 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final DeleteImportedKeyMaterialRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteImportedKeyMaterialRequest, DeleteImportedKeyMaterialResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteImportedKeyMaterialResult>() {
-                    @Override
-                    public DeleteImportedKeyMaterialResult call()
-                            throws Exception {
-                        DeleteImportedKeyMaterialResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteImportedKeyMaterialResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteImportedKeyMaterialResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteImportedKeyMaterial(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new DeleteImportedKeyMaterialRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -668,27 +588,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final DescribeKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeKeyRequest, DescribeKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeKeyResult>() {
-                    @Override
-                    public DescribeKeyResult call() throws Exception {
-                        DescribeKeyResult result;
-
-                        try {
-                            result = describeKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeKeyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeKeyResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeKeyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -703,27 +611,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final DisableKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableKeyRequest, DisableKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableKeyResult>() {
-                    @Override
-                    public DisableKeyResult call() throws Exception {
-                        DisableKeyResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DisableKeyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DisableKeyResultJsonUnmarshaller());
 
-                        try {
-                            result = disableKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DisableKeyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -738,27 +634,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final DisableKeyRotationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableKeyRotationRequest, DisableKeyRotationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableKeyRotationResult>() {
-                    @Override
-                    public DisableKeyRotationResult call() throws Exception {
-                        DisableKeyRotationResult result;
-
-                        try {
-                            result = disableKeyRotation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DisableKeyRotationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DisableKeyRotationResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DisableKeyRotationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -773,27 +657,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final EnableKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableKeyRequest, EnableKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableKeyResult>() {
-                    @Override
-                    public EnableKeyResult call() throws Exception {
-                        EnableKeyResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<EnableKeyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new EnableKeyResultJsonUnmarshaller());
 
-                        try {
-                            result = enableKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new EnableKeyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -808,27 +680,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final EnableKeyRotationRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableKeyRotationRequest, EnableKeyRotationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableKeyRotationResult>() {
-                    @Override
-                    public EnableKeyRotationResult call() throws Exception {
-                        EnableKeyRotationResult result;
-
-                        try {
-                            result = enableKeyRotation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<EnableKeyRotationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new EnableKeyRotationResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new EnableKeyRotationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -843,27 +703,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final EncryptRequest request,
             final com.amazonaws.handlers.AsyncHandler<EncryptRequest, EncryptResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EncryptResult>() {
-                    @Override
-                    public EncryptResult call() throws Exception {
-                        EncryptResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<EncryptResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new EncryptResultJsonUnmarshaller());
 
-                        try {
-                            result = encrypt(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new EncryptRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -878,27 +726,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final GenerateDataKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GenerateDataKeyRequest, GenerateDataKeyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GenerateDataKeyResult>() {
-                    @Override
-                    public GenerateDataKeyResult call() throws Exception {
-                        GenerateDataKeyResult result;
-
-                        try {
-                            result = generateDataKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GenerateDataKeyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GenerateDataKeyResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GenerateDataKeyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -913,28 +749,16 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final GenerateDataKeyWithoutPlaintextRequest request,
             final com.amazonaws.handlers.AsyncHandler<GenerateDataKeyWithoutPlaintextRequest, GenerateDataKeyWithoutPlaintextResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GenerateDataKeyWithoutPlaintextResult>() {
-                    @Override
-                    public GenerateDataKeyWithoutPlaintextResult call()
-                            throws Exception {
-                        GenerateDataKeyWithoutPlaintextResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GenerateDataKeyWithoutPlaintextResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GenerateDataKeyWithoutPlaintextResultJsonUnmarshaller());
 
-                        try {
-                            result = generateDataKeyWithoutPlaintext(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GenerateDataKeyWithoutPlaintextRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -949,27 +773,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final GenerateRandomRequest request,
             final com.amazonaws.handlers.AsyncHandler<GenerateRandomRequest, GenerateRandomResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GenerateRandomResult>() {
-                    @Override
-                    public GenerateRandomResult call() throws Exception {
-                        GenerateRandomResult result;
-
-                        try {
-                            result = generateRandom(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GenerateRandomResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GenerateRandomResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GenerateRandomRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1008,27 +820,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final GetKeyPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetKeyPolicyRequest, GetKeyPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetKeyPolicyResult>() {
-                    @Override
-                    public GetKeyPolicyResult call() throws Exception {
-                        GetKeyPolicyResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetKeyPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetKeyPolicyResultJsonUnmarshaller());
 
-                        try {
-                            result = getKeyPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetKeyPolicyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1043,27 +843,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final GetKeyRotationStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetKeyRotationStatusRequest, GetKeyRotationStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetKeyRotationStatusResult>() {
-                    @Override
-                    public GetKeyRotationStatusResult call() throws Exception {
-                        GetKeyRotationStatusResult result;
-
-                        try {
-                            result = getKeyRotationStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetKeyRotationStatusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetKeyRotationStatusResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetKeyRotationStatusRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1078,27 +866,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final GetParametersForImportRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetParametersForImportRequest, GetParametersForImportResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetParametersForImportResult>() {
-                    @Override
-                    public GetParametersForImportResult call() throws Exception {
-                        GetParametersForImportResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetParametersForImportResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetParametersForImportResultJsonUnmarshaller());
 
-                        try {
-                            result = getParametersForImport(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetParametersForImportRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1113,27 +889,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final ImportKeyMaterialRequest request,
             final com.amazonaws.handlers.AsyncHandler<ImportKeyMaterialRequest, ImportKeyMaterialResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ImportKeyMaterialResult>() {
-                    @Override
-                    public ImportKeyMaterialResult call() throws Exception {
-                        ImportKeyMaterialResult result;
-
-                        try {
-                            result = importKeyMaterial(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ImportKeyMaterialResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ImportKeyMaterialResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ImportKeyMaterialRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1148,27 +912,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final ListAliasesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAliasesRequest, ListAliasesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListAliasesResult>() {
-                    @Override
-                    public ListAliasesResult call() throws Exception {
-                        ListAliasesResult result;
-
-                        try {
-                            result = listAliases(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListAliasesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListAliasesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListAliasesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1207,27 +959,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final ListGrantsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListGrantsRequest, ListGrantsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListGrantsResult>() {
-                    @Override
-                    public ListGrantsResult call() throws Exception {
-                        ListGrantsResult result;
-
-                        try {
-                            result = listGrants(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListGrantsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListGrantsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListGrantsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1242,27 +982,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final ListKeyPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListKeyPoliciesRequest, ListKeyPoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListKeyPoliciesResult>() {
-                    @Override
-                    public ListKeyPoliciesResult call() throws Exception {
-                        ListKeyPoliciesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListKeyPoliciesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListKeyPoliciesResultJsonUnmarshaller());
 
-                        try {
-                            result = listKeyPolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListKeyPoliciesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1277,27 +1005,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final ListKeysRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListKeysRequest, ListKeysResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListKeysResult>() {
-                    @Override
-                    public ListKeysResult call() throws Exception {
-                        ListKeysResult result;
-
-                        try {
-                            result = listKeys(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListKeysResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListKeysResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListKeysRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1335,27 +1051,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final ListRetirableGrantsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRetirableGrantsRequest, ListRetirableGrantsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListRetirableGrantsResult>() {
-                    @Override
-                    public ListRetirableGrantsResult call() throws Exception {
-                        ListRetirableGrantsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListRetirableGrantsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListRetirableGrantsResultJsonUnmarshaller());
 
-                        try {
-                            result = listRetirableGrants(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListRetirableGrantsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1370,27 +1074,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final PutKeyPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutKeyPolicyRequest, PutKeyPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutKeyPolicyResult>() {
-                    @Override
-                    public PutKeyPolicyResult call() throws Exception {
-                        PutKeyPolicyResult result;
-
-                        try {
-                            result = putKeyPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<PutKeyPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutKeyPolicyResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new PutKeyPolicyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1405,27 +1097,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final ReEncryptRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReEncryptRequest, ReEncryptResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReEncryptResult>() {
-                    @Override
-                    public ReEncryptResult call() throws Exception {
-                        ReEncryptResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ReEncryptResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ReEncryptResultJsonUnmarshaller());
 
-                        try {
-                            result = reEncrypt(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ReEncryptRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1440,27 +1120,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final RetireGrantRequest request,
             final com.amazonaws.handlers.AsyncHandler<RetireGrantRequest, RetireGrantResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RetireGrantResult>() {
-                    @Override
-                    public RetireGrantResult call() throws Exception {
-                        RetireGrantResult result;
-
-                        try {
-                            result = retireGrant(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<RetireGrantResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RetireGrantResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new RetireGrantRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1499,27 +1167,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final RevokeGrantRequest request,
             final com.amazonaws.handlers.AsyncHandler<RevokeGrantRequest, RevokeGrantResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RevokeGrantResult>() {
-                    @Override
-                    public RevokeGrantResult call() throws Exception {
-                        RevokeGrantResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<RevokeGrantResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RevokeGrantResultJsonUnmarshaller());
 
-                        try {
-                            result = revokeGrant(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RevokeGrantRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1534,27 +1190,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final ScheduleKeyDeletionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ScheduleKeyDeletionRequest, ScheduleKeyDeletionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ScheduleKeyDeletionResult>() {
-                    @Override
-                    public ScheduleKeyDeletionResult call() throws Exception {
-                        ScheduleKeyDeletionResult result;
-
-                        try {
-                            result = scheduleKeyDeletion(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ScheduleKeyDeletionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ScheduleKeyDeletionResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ScheduleKeyDeletionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1569,27 +1213,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final UpdateAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAliasRequest, UpdateAliasResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateAliasResult>() {
-                    @Override
-                    public UpdateAliasResult call() throws Exception {
-                        UpdateAliasResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateAliasResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateAliasResultJsonUnmarshaller());
 
-                        try {
-                            result = updateAlias(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateAliasRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1604,27 +1236,15 @@ public class AWSKMSAsyncClient extends AWSKMSClient implements AWSKMSAsync {
             final UpdateKeyDescriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateKeyDescriptionRequest, UpdateKeyDescriptionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateKeyDescriptionResult>() {
-                    @Override
-                    public UpdateKeyDescriptionResult call() throws Exception {
-                        UpdateKeyDescriptionResult result;
-
-                        try {
-                            result = updateKeyDescription(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateKeyDescriptionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateKeyDescriptionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateKeyDescriptionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.lambda;
 
 import com.amazonaws.services.lambda.model.*;
+import com.amazonaws.services.lambda.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -289,27 +293,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final AddPermissionRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddPermissionRequest, AddPermissionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddPermissionResult>() {
-                    @Override
-                    public AddPermissionResult call() throws Exception {
-                        AddPermissionResult result;
-
-                        try {
-                            result = addPermission(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<AddPermissionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddPermissionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new AddPermissionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -324,27 +316,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final CreateAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAliasRequest, CreateAliasResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateAliasResult>() {
-                    @Override
-                    public CreateAliasResult call() throws Exception {
-                        CreateAliasResult result;
-
-                        try {
-                            result = createAlias(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateAliasResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateAliasResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateAliasRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -359,28 +339,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final CreateEventSourceMappingRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateEventSourceMappingRequest, CreateEventSourceMappingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateEventSourceMappingResult>() {
-                    @Override
-                    public CreateEventSourceMappingResult call()
-                            throws Exception {
-                        CreateEventSourceMappingResult result;
-
-                        try {
-                            result = createEventSourceMapping(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateEventSourceMappingResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateEventSourceMappingResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreateEventSourceMappingRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -395,27 +362,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final CreateFunctionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateFunctionRequest, CreateFunctionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateFunctionResult>() {
-                    @Override
-                    public CreateFunctionResult call() throws Exception {
-                        CreateFunctionResult result;
-
-                        try {
-                            result = createFunction(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateFunctionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateFunctionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateFunctionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -430,27 +385,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final DeleteAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAliasRequest, DeleteAliasResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteAliasResult>() {
-                    @Override
-                    public DeleteAliasResult call() throws Exception {
-                        DeleteAliasResult result;
-
-                        try {
-                            result = deleteAlias(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteAliasResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteAliasResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteAliasRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -465,28 +408,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final DeleteEventSourceMappingRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteEventSourceMappingRequest, DeleteEventSourceMappingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteEventSourceMappingResult>() {
-                    @Override
-                    public DeleteEventSourceMappingResult call()
-                            throws Exception {
-                        DeleteEventSourceMappingResult result;
-
-                        try {
-                            result = deleteEventSourceMapping(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteEventSourceMappingResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteEventSourceMappingResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeleteEventSourceMappingRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -501,27 +431,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final DeleteFunctionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteFunctionRequest, DeleteFunctionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteFunctionResult>() {
-                    @Override
-                    public DeleteFunctionResult call() throws Exception {
-                        DeleteFunctionResult result;
-
-                        try {
-                            result = deleteFunction(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteFunctionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteFunctionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteFunctionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -536,27 +454,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final GetAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAliasRequest, GetAliasResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetAliasResult>() {
-                    @Override
-                    public GetAliasResult call() throws Exception {
-                        GetAliasResult result;
-
-                        try {
-                            result = getAlias(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetAliasResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetAliasResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetAliasRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -571,27 +477,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final GetEventSourceMappingRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetEventSourceMappingRequest, GetEventSourceMappingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetEventSourceMappingResult>() {
-                    @Override
-                    public GetEventSourceMappingResult call() throws Exception {
-                        GetEventSourceMappingResult result;
-
-                        try {
-                            result = getEventSourceMapping(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetEventSourceMappingResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetEventSourceMappingResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetEventSourceMappingRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -606,27 +500,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final GetFunctionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetFunctionRequest, GetFunctionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetFunctionResult>() {
-                    @Override
-                    public GetFunctionResult call() throws Exception {
-                        GetFunctionResult result;
-
-                        try {
-                            result = getFunction(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetFunctionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetFunctionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetFunctionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -641,28 +523,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final GetFunctionConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetFunctionConfigurationRequest, GetFunctionConfigurationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetFunctionConfigurationResult>() {
-                    @Override
-                    public GetFunctionConfigurationResult call()
-                            throws Exception {
-                        GetFunctionConfigurationResult result;
-
-                        try {
-                            result = getFunctionConfiguration(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetFunctionConfigurationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetFunctionConfigurationResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetFunctionConfigurationRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -677,27 +546,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final GetPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPolicyRequest, GetPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetPolicyResult>() {
-                    @Override
-                    public GetPolicyResult call() throws Exception {
-                        GetPolicyResult result;
-
-                        try {
-                            result = getPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetPolicyResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetPolicyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -712,27 +569,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final InvokeRequest request,
             final com.amazonaws.handlers.AsyncHandler<InvokeRequest, InvokeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<InvokeResult>() {
-                    @Override
-                    public InvokeResult call() throws Exception {
-                        InvokeResult result;
-
-                        try {
-                            result = invoke(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<InvokeResult>> responseHandler = protocolFactory
+                .createResponseHandler(new JsonOperationMetadata()
+                        .withPayloadJson(false)
+                        .withHasStreamingSuccessResponse(false),
+                        new InvokeResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new InvokeRequestMarshaller(protocolFactory), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -749,27 +594,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final InvokeAsyncRequest request,
             final com.amazonaws.handlers.AsyncHandler<InvokeAsyncRequest, InvokeAsyncResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<InvokeAsyncResult>() {
-                    @Override
-                    public InvokeAsyncResult call() throws Exception {
-                        InvokeAsyncResult result;
-
-                        try {
-                            result = invokeAsync(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<InvokeAsyncResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new InvokeAsyncResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new InvokeAsyncRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -784,27 +617,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final ListAliasesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListAliasesRequest, ListAliasesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListAliasesResult>() {
-                    @Override
-                    public ListAliasesResult call() throws Exception {
-                        ListAliasesResult result;
-
-                        try {
-                            result = listAliases(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListAliasesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListAliasesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListAliasesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -819,28 +640,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final ListEventSourceMappingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListEventSourceMappingsRequest, ListEventSourceMappingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListEventSourceMappingsResult>() {
-                    @Override
-                    public ListEventSourceMappingsResult call()
-                            throws Exception {
-                        ListEventSourceMappingsResult result;
-
-                        try {
-                            result = listEventSourceMappings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListEventSourceMappingsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListEventSourceMappingsResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListEventSourceMappingsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -881,27 +689,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final ListFunctionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListFunctionsRequest, ListFunctionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListFunctionsResult>() {
-                    @Override
-                    public ListFunctionsResult call() throws Exception {
-                        ListFunctionsResult result;
-
-                        try {
-                            result = listFunctions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListFunctionsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListFunctionsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListFunctionsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -940,27 +736,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final ListVersionsByFunctionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListVersionsByFunctionRequest, ListVersionsByFunctionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListVersionsByFunctionResult>() {
-                    @Override
-                    public ListVersionsByFunctionResult call() throws Exception {
-                        ListVersionsByFunctionResult result;
-
-                        try {
-                            result = listVersionsByFunction(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListVersionsByFunctionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListVersionsByFunctionResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListVersionsByFunctionRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -975,27 +759,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final PublishVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<PublishVersionRequest, PublishVersionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PublishVersionResult>() {
-                    @Override
-                    public PublishVersionResult call() throws Exception {
-                        PublishVersionResult result;
-
-                        try {
-                            result = publishVersion(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PublishVersionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PublishVersionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PublishVersionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1010,27 +782,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final RemovePermissionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemovePermissionRequest, RemovePermissionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemovePermissionResult>() {
-                    @Override
-                    public RemovePermissionResult call() throws Exception {
-                        RemovePermissionResult result;
-
-                        try {
-                            result = removePermission(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<RemovePermissionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RemovePermissionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new RemovePermissionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1045,27 +805,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final UpdateAliasRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateAliasRequest, UpdateAliasResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateAliasResult>() {
-                    @Override
-                    public UpdateAliasResult call() throws Exception {
-                        UpdateAliasResult result;
-
-                        try {
-                            result = updateAlias(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateAliasResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateAliasResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateAliasRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1080,28 +828,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final UpdateEventSourceMappingRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateEventSourceMappingRequest, UpdateEventSourceMappingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateEventSourceMappingResult>() {
-                    @Override
-                    public UpdateEventSourceMappingResult call()
-                            throws Exception {
-                        UpdateEventSourceMappingResult result;
-
-                        try {
-                            result = updateEventSourceMapping(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateEventSourceMappingResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateEventSourceMappingResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new UpdateEventSourceMappingRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1116,27 +851,15 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final UpdateFunctionCodeRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateFunctionCodeRequest, UpdateFunctionCodeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateFunctionCodeResult>() {
-                    @Override
-                    public UpdateFunctionCodeResult call() throws Exception {
-                        UpdateFunctionCodeResult result;
-
-                        try {
-                            result = updateFunctionCode(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateFunctionCodeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateFunctionCodeResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateFunctionCodeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1151,28 +874,16 @@ public class AWSLambdaAsyncClient extends AWSLambdaClient implements
             final UpdateFunctionConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateFunctionConfigurationRequest, UpdateFunctionConfigurationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateFunctionConfigurationResult>() {
-                    @Override
-                    public UpdateFunctionConfigurationResult call()
-                            throws Exception {
-                        UpdateFunctionConfigurationResult result;
-
-                        try {
-                            result = updateFunctionConfiguration(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateFunctionConfigurationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateFunctionConfigurationResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new UpdateFunctionConfigurationRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.logs;
 
 import com.amazonaws.services.logs.model.*;
+import com.amazonaws.services.logs.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -319,27 +323,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final CancelExportTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelExportTaskRequest, CancelExportTaskResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CancelExportTaskResult>() {
-                    @Override
-                    public CancelExportTaskResult call() throws Exception {
-                        CancelExportTaskResult result;
-
-                        try {
-                            result = cancelExportTask(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CancelExportTaskResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CancelExportTaskResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CancelExportTaskRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -354,27 +346,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final CreateExportTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateExportTaskRequest, CreateExportTaskResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateExportTaskResult>() {
-                    @Override
-                    public CreateExportTaskResult call() throws Exception {
-                        CreateExportTaskResult result;
-
-                        try {
-                            result = createExportTask(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateExportTaskResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateExportTaskResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateExportTaskRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -389,27 +369,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final CreateLogGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLogGroupRequest, CreateLogGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateLogGroupResult>() {
-                    @Override
-                    public CreateLogGroupResult call() throws Exception {
-                        CreateLogGroupResult result;
-
-                        try {
-                            result = createLogGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateLogGroupResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateLogGroupResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateLogGroupRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -424,27 +392,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final CreateLogStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateLogStreamRequest, CreateLogStreamResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateLogStreamResult>() {
-                    @Override
-                    public CreateLogStreamResult call() throws Exception {
-                        CreateLogStreamResult result;
-
-                        try {
-                            result = createLogStream(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateLogStreamResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateLogStreamResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateLogStreamRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -459,27 +415,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DeleteDestinationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDestinationRequest, DeleteDestinationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDestinationResult>() {
-                    @Override
-                    public DeleteDestinationResult call() throws Exception {
-                        DeleteDestinationResult result;
-
-                        try {
-                            result = deleteDestination(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteDestinationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteDestinationResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteDestinationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -494,27 +438,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DeleteLogGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLogGroupRequest, DeleteLogGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteLogGroupResult>() {
-                    @Override
-                    public DeleteLogGroupResult call() throws Exception {
-                        DeleteLogGroupResult result;
-
-                        try {
-                            result = deleteLogGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteLogGroupResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteLogGroupResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteLogGroupRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -529,27 +461,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DeleteLogStreamRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteLogStreamRequest, DeleteLogStreamResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteLogStreamResult>() {
-                    @Override
-                    public DeleteLogStreamResult call() throws Exception {
-                        DeleteLogStreamResult result;
-
-                        try {
-                            result = deleteLogStream(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteLogStreamResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteLogStreamResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteLogStreamRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -564,27 +484,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DeleteMetricFilterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteMetricFilterRequest, DeleteMetricFilterResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteMetricFilterResult>() {
-                    @Override
-                    public DeleteMetricFilterResult call() throws Exception {
-                        DeleteMetricFilterResult result;
-
-                        try {
-                            result = deleteMetricFilter(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteMetricFilterResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteMetricFilterResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteMetricFilterRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -599,27 +507,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DeleteRetentionPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRetentionPolicyRequest, DeleteRetentionPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteRetentionPolicyResult>() {
-                    @Override
-                    public DeleteRetentionPolicyResult call() throws Exception {
-                        DeleteRetentionPolicyResult result;
-
-                        try {
-                            result = deleteRetentionPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteRetentionPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteRetentionPolicyResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteRetentionPolicyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -634,28 +530,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DeleteSubscriptionFilterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSubscriptionFilterRequest, DeleteSubscriptionFilterResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteSubscriptionFilterResult>() {
-                    @Override
-                    public DeleteSubscriptionFilterResult call()
-                            throws Exception {
-                        DeleteSubscriptionFilterResult result;
-
-                        try {
-                            result = deleteSubscriptionFilter(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteSubscriptionFilterResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteSubscriptionFilterResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeleteSubscriptionFilterRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -670,27 +553,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DescribeDestinationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDestinationsRequest, DescribeDestinationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDestinationsResult>() {
-                    @Override
-                    public DescribeDestinationsResult call() throws Exception {
-                        DescribeDestinationsResult result;
-
-                        try {
-                            result = describeDestinations(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeDestinationsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeDestinationsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeDestinationsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -730,27 +601,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DescribeExportTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeExportTasksRequest, DescribeExportTasksResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeExportTasksResult>() {
-                    @Override
-                    public DescribeExportTasksResult call() throws Exception {
-                        DescribeExportTasksResult result;
-
-                        try {
-                            result = describeExportTasks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeExportTasksResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeExportTasksResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeExportTasksRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -765,27 +624,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DescribeLogGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLogGroupsRequest, DescribeLogGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeLogGroupsResult>() {
-                    @Override
-                    public DescribeLogGroupsResult call() throws Exception {
-                        DescribeLogGroupsResult result;
-
-                        try {
-                            result = describeLogGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeLogGroupsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeLogGroupsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeLogGroupsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -825,27 +672,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DescribeLogStreamsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLogStreamsRequest, DescribeLogStreamsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeLogStreamsResult>() {
-                    @Override
-                    public DescribeLogStreamsResult call() throws Exception {
-                        DescribeLogStreamsResult result;
-
-                        try {
-                            result = describeLogStreams(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeLogStreamsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeLogStreamsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeLogStreamsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -860,27 +695,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DescribeMetricFiltersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeMetricFiltersRequest, DescribeMetricFiltersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeMetricFiltersResult>() {
-                    @Override
-                    public DescribeMetricFiltersResult call() throws Exception {
-                        DescribeMetricFiltersResult result;
-
-                        try {
-                            result = describeMetricFilters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeMetricFiltersResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeMetricFiltersResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeMetricFiltersRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -895,28 +718,16 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final DescribeSubscriptionFiltersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSubscriptionFiltersRequest, DescribeSubscriptionFiltersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSubscriptionFiltersResult>() {
-                    @Override
-                    public DescribeSubscriptionFiltersResult call()
-                            throws Exception {
-                        DescribeSubscriptionFiltersResult result;
-
-                        try {
-                            result = describeSubscriptionFilters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeSubscriptionFiltersResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeSubscriptionFiltersResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeSubscriptionFiltersRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -931,27 +742,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final FilterLogEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<FilterLogEventsRequest, FilterLogEventsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<FilterLogEventsResult>() {
-                    @Override
-                    public FilterLogEventsResult call() throws Exception {
-                        FilterLogEventsResult result;
-
-                        try {
-                            result = filterLogEvents(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<FilterLogEventsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new FilterLogEventsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new FilterLogEventsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -966,27 +765,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final GetLogEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetLogEventsRequest, GetLogEventsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetLogEventsResult>() {
-                    @Override
-                    public GetLogEventsResult call() throws Exception {
-                        GetLogEventsResult result;
-
-                        try {
-                            result = getLogEvents(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetLogEventsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetLogEventsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetLogEventsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1001,27 +788,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final PutDestinationRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutDestinationRequest, PutDestinationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutDestinationResult>() {
-                    @Override
-                    public PutDestinationResult call() throws Exception {
-                        PutDestinationResult result;
-
-                        try {
-                            result = putDestination(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutDestinationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutDestinationResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutDestinationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1036,27 +811,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final PutDestinationPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutDestinationPolicyRequest, PutDestinationPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutDestinationPolicyResult>() {
-                    @Override
-                    public PutDestinationPolicyResult call() throws Exception {
-                        PutDestinationPolicyResult result;
-
-                        try {
-                            result = putDestinationPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutDestinationPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutDestinationPolicyResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutDestinationPolicyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1071,27 +834,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final PutLogEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutLogEventsRequest, PutLogEventsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutLogEventsResult>() {
-                    @Override
-                    public PutLogEventsResult call() throws Exception {
-                        PutLogEventsResult result;
-
-                        try {
-                            result = putLogEvents(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutLogEventsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutLogEventsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutLogEventsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1106,27 +857,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final PutMetricFilterRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutMetricFilterRequest, PutMetricFilterResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutMetricFilterResult>() {
-                    @Override
-                    public PutMetricFilterResult call() throws Exception {
-                        PutMetricFilterResult result;
-
-                        try {
-                            result = putMetricFilter(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutMetricFilterResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutMetricFilterResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutMetricFilterRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1141,27 +880,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final PutRetentionPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutRetentionPolicyRequest, PutRetentionPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutRetentionPolicyResult>() {
-                    @Override
-                    public PutRetentionPolicyResult call() throws Exception {
-                        PutRetentionPolicyResult result;
-
-                        try {
-                            result = putRetentionPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutRetentionPolicyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutRetentionPolicyResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutRetentionPolicyRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1176,27 +903,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final PutSubscriptionFilterRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutSubscriptionFilterRequest, PutSubscriptionFilterResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutSubscriptionFilterResult>() {
-                    @Override
-                    public PutSubscriptionFilterResult call() throws Exception {
-                        PutSubscriptionFilterResult result;
-
-                        try {
-                            result = putSubscriptionFilter(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PutSubscriptionFilterResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PutSubscriptionFilterResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PutSubscriptionFilterRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1211,27 +926,15 @@ public class AWSLogsAsyncClient extends AWSLogsClient implements AWSLogsAsync {
             final TestMetricFilterRequest request,
             final com.amazonaws.handlers.AsyncHandler<TestMetricFilterRequest, TestMetricFilterResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<TestMetricFilterResult>() {
-                    @Override
-                    public TestMetricFilterResult call() throws Exception {
-                        TestMetricFilterResult result;
-
-                        try {
-                            result = testMetricFilter(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<TestMetricFilterResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new TestMetricFilterResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new TestMetricFilterRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.logs.buffered;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.logs.AWSLogs;
+import com.amazonaws.services.logs.model.InputLogEvent;
+
+/**
+ * Publishes log events to CloudWatch Logs through an {@link AWSLogs} client in batches, taking
+ * care of the sequence tokens, event order and batch limits of PutLogEvents.
+ * <p>
+ * Publishing an event only appends it to a lock-free queue per log stream; the PutLogEvents calls
+ * are made on the publisher's own threads. The events of a log stream are sent in batches of up
+ * to {@code maxBatchEvents} events or {@code maxBatchSizeBytes} bytes, sorted by timestamp, at the
+ * latest {@code maxBatchOpenMs} after they were published. Calls for the same log stream are made
+ * one after the other, each with the sequence token returned by the previous one, while calls for
+ * different log streams are made concurrently. Batches which fail are sent again, up to
+ * {@code maxAttempts} times.
+ * <p>
+ * The publisher holds at most {@code maxBufferedBytes} bytes of events. Depending on the
+ * {@link OverflowPolicy}, publishing an event while the limit is reached either blocks until
+ * enough of the held events were sent or failed, or discards the event.
+ * <p>
+ * The log groups and log streams must exist; the publisher doesn't create them.
+ */
+public class BufferedLogPublisher {
+
+    private final AWSLogs client;
+
+    private final LogPublisherConfig config;
+
+    /** Makes the PutLogEvents calls. */
+    private final ExecutorService executor;
+
+    /** Flushes the buffers and schedules the retries. */
+    private final ScheduledExecutorService scheduler;
+
+    private final ConcurrentMap<String, LogStreamBuffer> logStreamBuffers = new ConcurrentHashMap<String, LogStreamBuffer>();
+
+    /** Permits for the bytes of events the publisher may hold. */
+    private final Semaphore bufferPermits;
+
+    /** The number of events which were published but not sent or failed yet. */
+    private final AtomicLong outstandingEvents = new AtomicLong();
+
+    private final Object outstandingEventsLock = new Object();
+
+    private final AtomicLong sentEvents = new AtomicLong();
+
+    private final AtomicLong failedEvents = new AtomicLong();
+
+    private final AtomicLong discardedEvents = new AtomicLong();
+
+    private volatile boolean shutdown;
+
+    public BufferedLogPublisher(AWSLogs client) {
+        this(client, new LogPublisherConfig());
+    }
+
+    public BufferedLogPublisher(AWSLogs client, LogPublisherConfig config) {
+        config.validate();
+        this.client = client;
+        this.config = new LogPublisherConfig(config);
+        this.executor = Executors.newFixedThreadPool(config.getMaxInflightBatches(), new DaemonThreadFactory());
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory());
+        this.bufferPermits = new Semaphore((int) Math.min(config.getMaxBufferedBytes(), Integer.MAX_VALUE));
+    }
+
+    /**
+     * Publishes an event to a log stream.
+     *
+     * @param timestamp
+     *            The time of the event, in milliseconds since Jan 1, 1970 00:00:00 UTC.
+     * @return false if the event was discarded because the publisher holds
+     *         {@code maxBufferedBytes} bytes of events already, true otherwise.
+     * @throws IllegalArgumentException
+     *             if the message is empty or longer than the service allows
+     */
+    public boolean publish(String logGroupName, String logStreamName, long timestamp, String message) {
+        if (shutdown) {
+            throw new AmazonClientException("The publisher has been shut down");
+        }
+        if (logGroupName == null || logStreamName == null) {
+            throw new IllegalArgumentException("Log group and log stream names must not be null");
+        }
+        LogEvent event = new LogEvent(timestamp, message);
+        if (!acquire(event.getSize())) {
+            discardedEvents.incrementAndGet();
+            return false;
+        }
+        outstandingEvents.incrementAndGet();
+        logStreamBuffer(logGroupName, logStreamName).put(event);
+        return true;
+    }
+
+    /**
+     * Publishes an event to a log stream.
+     *
+     * @return false if the event was discarded because the publisher holds
+     *         {@code maxBufferedBytes} bytes of events already, true otherwise.
+     * @throws IllegalArgumentException
+     *             if the event has no timestamp, or its message is empty or longer than the
+     *             service allows
+     */
+    public boolean publish(String logGroupName, String logStreamName, InputLogEvent event) {
+        if (event.getTimestamp() == null) {
+            throw new IllegalArgumentException("Timestamp must not be null");
+        }
+        return publish(logGroupName, logStreamName, event.getTimestamp(), event.getMessage());
+    }
+
+    private boolean acquire(int bytes) {
+        if (config.getOverflowPolicy() == OverflowPolicy.DISCARD) {
+            return bufferPermits.tryAcquire(bytes);
+        }
+        try {
+            bufferPermits.acquire(bytes);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while waiting for buffer space", e);
+        }
+    }
+
+    private LogStreamBuffer logStreamBuffer(String logGroupName, String logStreamName) {
+        // log stream names can't contain a colon
+        String key = logGroupName + ":" + logStreamName;
+        LogStreamBuffer logStreamBuffer = logStreamBuffers.get(key);
+        if (logStreamBuffer == null) {
+            // created under a lock, since creating it schedules its flush task
+            synchronized (logStreamBuffers) {
+                logStreamBuffer = logStreamBuffers.get(key);
+                if (logStreamBuffer == null) {
+                    logStreamBuffer = new LogStreamBuffer(this, client, config, logGroupName, logStreamName,
+                            executor, scheduler);
+                    logStreamBuffers.put(key, logStreamBuffer);
+                }
+            }
+        }
+        return logStreamBuffer;
+    }
+
+    /**
+     * @return The number of events which were published but not sent or failed yet.
+     */
+    public long getOutstandingEventsCount() {
+        return outstandingEvents.get();
+    }
+
+    /**
+     * @return The number of events which were accepted by CloudWatch Logs.
+     */
+    public long getSentEventsCount() {
+        return sentEvents.get();
+    }
+
+    /**
+     * @return The number of events which were rejected by CloudWatch Logs, for example for being
+     *         too old, or couldn't be sent within {@code maxAttempts} attempts.
+     */
+    public long getFailedEventsCount() {
+        return failedEvents.get();
+    }
+
+    /**
+     * @return The number of events which were discarded because the publisher held
+     *         {@code maxBufferedBytes} bytes of events already.
+     */
+    public long getDiscardedEventsCount() {
+        return discardedEvents.get();
+    }
+
+    /**
+     * Sends all buffered events without waiting for {@code maxBatchOpenMs} to pass. Returns
+     * without waiting for them to be sent.
+     */
+    public void flush() {
+        for (LogStreamBuffer logStreamBuffer : logStreamBuffers.values()) {
+            logStreamBuffer.flush();
+        }
+    }
+
+    /**
+     * Sends all buffered events and waits until all outstanding events were sent or failed.
+     */
+    public void flushSync() {
+        flush();
+        synchronized (outstandingEventsLock) {
+            while (outstandingEvents.get() > 0) {
+                try {
+                    outstandingEventsLock.wait(config.getMaxBatchOpenMs());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new AmazonClientException("Interrupted while waiting for events to be sent", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends all outstanding events and stops the publisher's threads. The client is not shut
+     * down.
+     */
+    public void shutdown() {
+        shutdown = true;
+        flushSync();
+        for (LogStreamBuffer logStreamBuffer : logStreamBuffers.values()) {
+            logStreamBuffer.shutdown();
+        }
+        scheduler.shutdown();
+        executor.shutdown();
+    }
+
+    void succeed(List<LogEvent> events, int rejected) {
+        sentEvents.addAndGet(events.size() - rejected);
+        failedEvents.addAndGet(rejected);
+        release(events);
+    }
+
+    void fail(List<LogEvent> events) {
+        failedEvents.addAndGet(events.size());
+        release(events);
+    }
+
+    private void release(List<LogEvent> events) {
+        int bytes = 0;
+        for (LogEvent event : events) {
+            bytes += event.getSize();
+        }
+        bufferPermits.release(bytes);
+        if (outstandingEvents.addAndGet(-events.size()) == 0) {
+            synchronized (outstandingEventsLock) {
+                outstandingEventsLock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * We need daemon threads in our executors so that we don't keep the process running if our
+     * executor threads are the only ones left in the process.
+     */
+    private static class DaemonThreadFactory implements ThreadFactory {
+        static AtomicInteger threadCount = new AtomicInteger(0);
+
+        public Thread newThread(Runnable r) {
+            int threadNumber = threadCount.addAndGet(1);
+            Thread thread = new Thread(r);
+            thread.setDaemon(true);
+            thread.setName("CloudWatchLogsPublisherThread-" + threadNumber);
+            return thread;
+        }
+    }
+}
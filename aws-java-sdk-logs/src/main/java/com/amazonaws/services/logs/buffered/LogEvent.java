@@ -0,0 +1,85 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.logs.buffered;
+
+import com.amazonaws.services.logs.model.InputLogEvent;
+
+/**
+ * An event buffered by a {@link BufferedLogPublisher}, together with the number of bytes it adds
+ * to a PutLogEvents call.
+ */
+class LogEvent {
+
+    private final long timestamp;
+
+    private final String message;
+
+    private final int size;
+
+    LogEvent(long timestamp, String message) {
+        if (message == null || message.length() == 0) {
+            throw new IllegalArgumentException("Message must not be empty");
+        }
+        this.timestamp = timestamp;
+        this.message = message;
+        this.size = utf8Length(message) + LogPublisherConfig.SERVICE_EVENT_OVERHEAD_BYTES;
+        if (size > LogPublisherConfig.SERVICE_MAX_EVENT_SIZE_BYTES) {
+            throw new IllegalArgumentException("Message must be at most "
+                    + (LogPublisherConfig.SERVICE_MAX_EVENT_SIZE_BYTES - LogPublisherConfig.SERVICE_EVENT_OVERHEAD_BYTES)
+                    + " bytes long in UTF-8, but was " + (size - LogPublisherConfig.SERVICE_EVENT_OVERHEAD_BYTES));
+        }
+    }
+
+    long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return The number of bytes the event adds to a PutLogEvents call.
+     */
+    int getSize() {
+        return size;
+    }
+
+    InputLogEvent toInputLogEvent() {
+        return new InputLogEvent().withTimestamp(timestamp).withMessage(message);
+    }
+
+    /**
+     * Counts the bytes of the UTF-8 encoding of a string without encoding it. Unpaired surrogates
+     * are counted as the '?' they are encoded as.
+     */
+    static int utf8Length(String s) {
+        int length = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < s.length()
+                    && Character.isLowSurrogate(s.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+                length++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
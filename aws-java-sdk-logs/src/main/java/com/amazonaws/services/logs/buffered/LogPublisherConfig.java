@@ -0,0 +1,348 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.logs.buffered;
+
+import com.amazonaws.AmazonClientException;
+
+/**
+ * Configuration of a {@link BufferedLogPublisher}.
+ */
+public class LogPublisherConfig {
+
+    /** The maximum number of events a PutLogEvents call accepts. */
+    public static final int SERVICE_MAX_BATCH_EVENTS = 10000;
+
+    /** The maximum size of a PutLogEvents call, 1 MiB. */
+    public static final long SERVICE_MAX_BATCH_SIZE_BYTES = 1024 * 1024;
+
+    /** The number of bytes every event adds to the size of a PutLogEvents call. */
+    public static final int SERVICE_EVENT_OVERHEAD_BYTES = 26;
+
+    /** The maximum size of a single event, 256 KiB including the overhead. */
+    public static final int SERVICE_MAX_EVENT_SIZE_BYTES = 256 * 1024;
+
+    /** The maximum time span between the events of a PutLogEvents call, 24 hours. */
+    public static final long SERVICE_MAX_BATCH_SPAN_MS = 24 * 60 * 60 * 1000L;
+
+    /**
+     * The maximum time (milliseconds) events are buffered before they are sent. The longer this
+     * time, the more events are batched together, which reduces the number of calls made, but the
+     * later the events show up in CloudWatch Logs.
+     */
+    private long maxBatchOpenMs;
+
+    /** 1 second */
+    public static final long MAX_BATCH_OPEN_MS_DEFAULT = 1000;
+
+    /**
+     * The maximum number of events sent in one PutLogEvents call. Can be at most
+     * {@value #SERVICE_MAX_BATCH_EVENTS}.
+     */
+    private int maxBatchEvents;
+
+    public static final int MAX_BATCH_EVENTS_DEFAULT = SERVICE_MAX_BATCH_EVENTS;
+
+    /**
+     * The maximum size (bytes) of the events sent in one PutLogEvents call, counting the UTF-8
+     * encoded message plus {@value #SERVICE_EVENT_OVERHEAD_BYTES} bytes per event. Can be at most
+     * {@value #SERVICE_MAX_BATCH_SIZE_BYTES}.
+     */
+    private long maxBatchSizeBytes;
+
+    public static final long MAX_BATCH_SIZE_BYTES_DEFAULT = SERVICE_MAX_BATCH_SIZE_BYTES;
+
+    /**
+     * The maximum number of bytes of events held by the publisher, counting both buffered events
+     * and events which are being sent or waiting to be retried. What happens to events published
+     * while the limit is reached is decided by the overflow policy.
+     */
+    private long maxBufferedBytes;
+
+    /** 32 megabytes */
+    public static final long MAX_BUFFERED_BYTES_DEFAULT = 32 * 1024 * 1024;
+
+    /**
+     * What happens to an event published while the publisher holds {@code maxBufferedBytes} bytes
+     * of events already: either the publishing thread blocks or the event is discarded.
+     */
+    private OverflowPolicy overflowPolicy;
+
+    /** {@link OverflowPolicy#BLOCK} */
+    public static final OverflowPolicy OVERFLOW_POLICY_DEFAULT = OverflowPolicy.BLOCK;
+
+    /**
+     * The maximum number of concurrent PutLogEvents calls. Calls for the same log stream are always
+     * made one after the other, so more than one call is only made at a time when events are
+     * published to several log streams.
+     */
+    private int maxInflightBatches;
+
+    /** 8 batches */
+    public static final int MAX_INFLIGHT_BATCHES_DEFAULT = 8;
+
+    /**
+     * The maximum number of times a batch of events is sent before its events are failed.
+     */
+    private int maxAttempts;
+
+    /** 10 attempts */
+    public static final int MAX_ATTEMPTS_DEFAULT = 10;
+
+    public LogPublisherConfig() {
+        this.maxBatchOpenMs = MAX_BATCH_OPEN_MS_DEFAULT;
+        this.maxBatchEvents = MAX_BATCH_EVENTS_DEFAULT;
+        this.maxBatchSizeBytes = MAX_BATCH_SIZE_BYTES_DEFAULT;
+        this.maxBufferedBytes = MAX_BUFFERED_BYTES_DEFAULT;
+        this.overflowPolicy = OVERFLOW_POLICY_DEFAULT;
+        this.maxInflightBatches = MAX_INFLIGHT_BATCHES_DEFAULT;
+        this.maxAttempts = MAX_ATTEMPTS_DEFAULT;
+    }
+
+    /** copy constructor */
+    public LogPublisherConfig(LogPublisherConfig other) {
+        maxBatchOpenMs = other.maxBatchOpenMs;
+        maxBatchEvents = other.maxBatchEvents;
+        maxBatchSizeBytes = other.maxBatchSizeBytes;
+        maxBufferedBytes = other.maxBufferedBytes;
+        overflowPolicy = other.overflowPolicy;
+        maxInflightBatches = other.maxInflightBatches;
+        maxAttempts = other.maxAttempts;
+    }
+
+    @Override
+    public String toString() {
+        return "LogPublisherConfig [maxBatchOpenMs=" + maxBatchOpenMs + ", maxBatchEvents=" + maxBatchEvents
+                + ", maxBatchSizeBytes=" + maxBatchSizeBytes + ", maxBufferedBytes=" + maxBufferedBytes
+                + ", overflowPolicy=" + overflowPolicy + ", maxInflightBatches=" + maxInflightBatches
+                + ", maxAttempts=" + maxAttempts + "]";
+    }
+
+    /**
+     * The maximum time (milliseconds) events are buffered before they are sent. The longer this
+     * time, the more events are batched together, which reduces the number of calls made, but the
+     * later the events show up in CloudWatch Logs.
+     */
+    public long getMaxBatchOpenMs() {
+        return maxBatchOpenMs;
+    }
+
+    /**
+     * The maximum time (milliseconds) events are buffered before they are sent. The longer this
+     * time, the more events are batched together, which reduces the number of calls made, but the
+     * later the events show up in CloudWatch Logs.
+     */
+    public void setMaxBatchOpenMs(long maxBatchOpenMs) {
+        this.maxBatchOpenMs = maxBatchOpenMs;
+    }
+
+    /**
+     * The maximum time (milliseconds) events are buffered before they are sent. The longer this
+     * time, the more events are batched together, which reduces the number of calls made, but the
+     * later the events show up in CloudWatch Logs.
+     */
+    public LogPublisherConfig withMaxBatchOpenMs(long maxBatchOpenMs) {
+        setMaxBatchOpenMs(maxBatchOpenMs);
+        return this;
+    }
+
+    /**
+     * The maximum number of events sent in one PutLogEvents call. Can be at most
+     * {@value #SERVICE_MAX_BATCH_EVENTS}.
+     */
+    public int getMaxBatchEvents() {
+        return maxBatchEvents;
+    }
+
+    /**
+     * The maximum number of events sent in one PutLogEvents call. Can be at most
+     * {@value #SERVICE_MAX_BATCH_EVENTS}.
+     */
+    public void setMaxBatchEvents(int maxBatchEvents) {
+        this.maxBatchEvents = maxBatchEvents;
+    }
+
+    /**
+     * The maximum number of events sent in one PutLogEvents call. Can be at most
+     * {@value #SERVICE_MAX_BATCH_EVENTS}.
+     */
+    public LogPublisherConfig withMaxBatchEvents(int maxBatchEvents) {
+        setMaxBatchEvents(maxBatchEvents);
+        return this;
+    }
+
+    /**
+     * The maximum size (bytes) of the events sent in one PutLogEvents call, counting the UTF-8
+     * encoded message plus {@value #SERVICE_EVENT_OVERHEAD_BYTES} bytes per event. Can be at most
+     * {@value #SERVICE_MAX_BATCH_SIZE_BYTES}.
+     */
+    public long getMaxBatchSizeBytes() {
+        return maxBatchSizeBytes;
+    }
+
+    /**
+     * The maximum size (bytes) of the events sent in one PutLogEvents call, counting the UTF-8
+     * encoded message plus {@value #SERVICE_EVENT_OVERHEAD_BYTES} bytes per event. Can be at most
+     * {@value #SERVICE_MAX_BATCH_SIZE_BYTES}.
+     */
+    public void setMaxBatchSizeBytes(long maxBatchSizeBytes) {
+        this.maxBatchSizeBytes = maxBatchSizeBytes;
+    }
+
+    /**
+     * The maximum size (bytes) of the events sent in one PutLogEvents call, counting the UTF-8
+     * encoded message plus {@value #SERVICE_EVENT_OVERHEAD_BYTES} bytes per event. Can be at most
+     * {@value #SERVICE_MAX_BATCH_SIZE_BYTES}.
+     */
+    public LogPublisherConfig withMaxBatchSizeBytes(long maxBatchSizeBytes) {
+        setMaxBatchSizeBytes(maxBatchSizeBytes);
+        return this;
+    }
+
+    /**
+     * The maximum number of bytes of events held by the publisher, counting both buffered events
+     * and events which are being sent or waiting to be retried. What happens to events published
+     * while the limit is reached is decided by the overflow policy.
+     */
+    public long getMaxBufferedBytes() {
+        return maxBufferedBytes;
+    }
+
+    /**
+     * The maximum number of bytes of events held by the publisher, counting both buffered events
+     * and events which are being sent or waiting to be retried. What happens to events published
+     * while the limit is reached is decided by the overflow policy.
+     */
+    public void setMaxBufferedBytes(long maxBufferedBytes) {
+        this.maxBufferedBytes = maxBufferedBytes;
+    }
+
+    /**
+     * The maximum number of bytes of events held by the publisher, counting both buffered events
+     * and events which are being sent or waiting to be retried. What happens to events published
+     * while the limit is reached is decided by the overflow policy.
+     */
+    public LogPublisherConfig withMaxBufferedBytes(long maxBufferedBytes) {
+        setMaxBufferedBytes(maxBufferedBytes);
+        return this;
+    }
+
+    /**
+     * What happens to an event published while the publisher holds {@code maxBufferedBytes} bytes
+     * of events already: either the publishing thread blocks or the event is discarded.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * What happens to an event published while the publisher holds {@code maxBufferedBytes} bytes
+     * of events already: either the publishing thread blocks or the event is discarded.
+     */
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * What happens to an event published while the publisher holds {@code maxBufferedBytes} bytes
+     * of events already: either the publishing thread blocks or the event is discarded.
+     */
+    public LogPublisherConfig withOverflowPolicy(OverflowPolicy overflowPolicy) {
+        setOverflowPolicy(overflowPolicy);
+        return this;
+    }
+
+    /**
+     * The maximum number of concurrent PutLogEvents calls. Calls for the same log stream are always
+     * made one after the other, so more than one call is only made at a time when events are
+     * published to several log streams.
+     */
+    public int getMaxInflightBatches() {
+        return maxInflightBatches;
+    }
+
+    /**
+     * The maximum number of concurrent PutLogEvents calls. Calls for the same log stream are always
+     * made one after the other, so more than one call is only made at a time when events are
+     * published to several log streams.
+     */
+    public void setMaxInflightBatches(int maxInflightBatches) {
+        this.maxInflightBatches = maxInflightBatches;
+    }
+
+    /**
+     * The maximum number of concurrent PutLogEvents calls. Calls for the same log stream are always
+     * made one after the other, so more than one call is only made at a time when events are
+     * published to several log streams.
+     */
+    public LogPublisherConfig withMaxInflightBatches(int maxInflightBatches) {
+        setMaxInflightBatches(maxInflightBatches);
+        return this;
+    }
+
+    /**
+     * The maximum number of times a batch of events is sent before its events are failed.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * The maximum number of times a batch of events is sent before its events are failed.
+     */
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * The maximum number of times a batch of events is sent before its events are failed.
+     */
+    public LogPublisherConfig withMaxAttempts(int maxAttempts) {
+        setMaxAttempts(maxAttempts);
+        return this;
+    }
+
+    /**
+     * this method checks the config for validity. If the config is deemed to be invalid, an
+     * informative exception is thrown.
+     *
+     * @throws AmazonClientException
+     *             with a message explaining why the config was invalid
+     */
+    void validate() {
+        if (maxBatchOpenMs <= 0) {
+            throw new AmazonClientException("Maximum batch open time must be positive");
+        }
+        if (maxBatchEvents < 1 || maxBatchEvents > SERVICE_MAX_BATCH_EVENTS) {
+            throw new AmazonClientException("Maximum batch events must be between 1 and " + SERVICE_MAX_BATCH_EVENTS);
+        }
+        if (maxBatchSizeBytes < SERVICE_MAX_EVENT_SIZE_BYTES || maxBatchSizeBytes > SERVICE_MAX_BATCH_SIZE_BYTES) {
+            throw new AmazonClientException("Maximum batch size must be between " + SERVICE_MAX_EVENT_SIZE_BYTES
+                    + " and " + SERVICE_MAX_BATCH_SIZE_BYTES + " bytes");
+        }
+        if (maxBufferedBytes < SERVICE_MAX_EVENT_SIZE_BYTES) {
+            throw new AmazonClientException("Maximum buffered bytes must be at least " + SERVICE_MAX_EVENT_SIZE_BYTES);
+        }
+        if (overflowPolicy == null) {
+            throw new AmazonClientException("Overflow policy must not be null");
+        }
+        if (maxInflightBatches < 1) {
+            throw new AmazonClientException("Maximum inflight batches must be positive");
+        }
+        if (maxAttempts < 1) {
+            throw new AmazonClientException("Maximum attempts must be positive");
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.logs.buffered;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonServiceException.ErrorType;
+import com.amazonaws.retry.RetryUtils;
+import com.amazonaws.services.logs.AWSLogs;
+import com.amazonaws.services.logs.model.DataAlreadyAcceptedException;
+import com.amazonaws.services.logs.model.InputLogEvent;
+import com.amazonaws.services.logs.model.InvalidSequenceTokenException;
+import com.amazonaws.services.logs.model.PutLogEventsRequest;
+import com.amazonaws.services.logs.model.PutLogEventsResult;
+import com.amazonaws.services.logs.model.RejectedLogEventsInfo;
+
+/**
+ * Buffers the events of one log stream. <br>
+ * Publishing threads only append events to a lock-free queue. Batches are taken from the queue
+ * by a single sender at a time, since every PutLogEvents call for a log stream needs the sequence
+ * token returned by the previous one. The sender is started as soon as a full batch is queued and
+ * every {@code maxBatchOpenMs} otherwise. It keeps sending batches back to back with the token of
+ * the previous response for as long as full batches are queued. <br>
+ * A batch the service rejects with an unexpected sequence token is sent again right away with the
+ * token the service expects. A batch the service reports as already accepted is done. Other
+ * failures are retried after a backoff.
+ */
+class LogStreamBuffer {
+    private static final Log log = LogFactory.getLog(LogStreamBuffer.class);
+
+    private static final long RETRY_BASE_DELAY_MS = 100;
+
+    private static final long RETRY_MAX_DELAY_MS = 5000;
+
+    /** Returned by {@link #putLogEvents} once a batch was sent or failed. */
+    private static final long DONE = -1;
+
+    private static final Comparator<LogEvent> BY_TIMESTAMP = new Comparator<LogEvent>() {
+        @Override
+        public int compare(LogEvent e1, LogEvent e2) {
+            return e1.getTimestamp() < e2.getTimestamp() ? -1 : (e1.getTimestamp() == e2.getTimestamp() ? 0 : 1);
+        }
+    };
+
+    private final BufferedLogPublisher publisher;
+
+    private final AWSLogs client;
+
+    private final LogPublisherConfig config;
+
+    private final String logGroupName;
+
+    private final String logStreamName;
+
+    /** The executor the PutLogEvents calls are made on. */
+    private final Executor executor;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final ConcurrentLinkedQueue<LogEvent> queue = new ConcurrentLinkedQueue<LogEvent>();
+
+    /** The number of queued events, including the ones held back by the sender. */
+    private final AtomicInteger queuedEvents = new AtomicInteger();
+
+    /** The bytes of the queued events, including the ones held back by the sender. */
+    private final AtomicLong queuedBytes = new AtomicLong();
+
+    /** Whether a sender is running or waiting to retry a batch. */
+    private final AtomicBoolean sending = new AtomicBoolean();
+
+    /** Whether partially filled batches should be sent as well. */
+    private volatile boolean flushRequested;
+
+    /**
+     * Events taken from the queue which didn't fit into the last batch. Only accessed by the
+     * sender.
+     */
+    private final Deque<LogEvent> heldBack = new ArrayDeque<LogEvent>();
+
+    /** The batch being sent, kept across retries. Only accessed by the sender. */
+    private List<LogEvent> batch;
+
+    /** The number of times the current batch was sent. Only accessed by the sender. */
+    private int attempts;
+
+    /**
+     * The sequence token for the next PutLogEvents call, null for a new log stream. Only accessed
+     * by the sender, but by different threads over time.
+     */
+    private volatile String sequenceToken;
+
+    private final Runnable sender = new Runnable() {
+        @Override
+        public void run() {
+            send();
+        }
+    };
+
+    private final ScheduledFuture<?> flushTask;
+
+    LogStreamBuffer(BufferedLogPublisher publisher, AWSLogs client, LogPublisherConfig config, String logGroupName,
+            String logStreamName, Executor executor, ScheduledExecutorService scheduler) {
+        this.publisher = publisher;
+        this.client = client;
+        this.config = config;
+        this.logGroupName = logGroupName;
+        this.logStreamName = logStreamName;
+        this.executor = executor;
+        this.scheduler = scheduler;
+        this.flushTask = scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    flush();
+                } catch (RuntimeException e) {
+                    log.warn("Unable to flush the events of log stream " + describe(), e);
+                }
+            }
+        }, config.getMaxBatchOpenMs(), config.getMaxBatchOpenMs(), TimeUnit.MILLISECONDS);
+    }
+
+    void put(LogEvent event) {
+        queue.offer(event);
+        int events = queuedEvents.incrementAndGet();
+        long bytes = queuedBytes.addAndGet(event.getSize());
+        if (events >= config.getMaxBatchEvents() || bytes >= config.getMaxBatchSizeBytes()) {
+            startSender();
+        }
+    }
+
+    /**
+     * Sends all queued events without waiting for a batch to fill up.
+     */
+    void flush() {
+        if (queuedEvents.get() > 0) {
+            flushRequested = true;
+            startSender();
+        }
+    }
+
+    void shutdown() {
+        flushTask.cancel(false);
+    }
+
+    private void startSender() {
+        if (sending.compareAndSet(false, true)) {
+            executor.execute(sender);
+        }
+    }
+
+    private boolean batchReady() {
+        return queuedEvents.get() >= config.getMaxBatchEvents()
+                || queuedBytes.get() >= config.getMaxBatchSizeBytes()
+                || (flushRequested && queuedEvents.get() > 0);
+    }
+
+    private void send() {
+        try {
+            while (true) {
+                if (batch == null) {
+                    batch = batchReady() ? nextBatch() : null;
+                    attempts = 0;
+                }
+                if (batch == null) {
+                    sending.set(false);
+                    // an event may have filled a batch after the check, without starting a sender
+                    if (batchReady() && sending.compareAndSet(false, true)) {
+                        continue;
+                    }
+                    return;
+                }
+
+                long retryDelay = putLogEvents(batch);
+                if (retryDelay > 0) {
+                    // keeps sending set, so no other sender takes a batch before this one is sent
+                    scheduler.schedule(new Runnable() {
+                        @Override
+                        public void run() {
+                            executor.execute(sender);
+                        }
+                    }, retryDelay, TimeUnit.MILLISECONDS);
+                    return;
+                }
+                if (retryDelay == DONE) {
+                    batch = null;
+                }
+            }
+        } catch (RuntimeException e) {
+            // rejected by an executor that was shut down
+            sending.set(false);
+            log.warn("Unable to send the events of log stream " + describe(), e);
+        }
+    }
+
+    /**
+     * Takes the next batch from the held back and queued events, sorted by timestamp as the
+     * service requires. Events which don't fit into the batch are held back for the next one.
+     */
+    private List<LogEvent> nextBatch() {
+        List<LogEvent> events = new ArrayList<LogEvent>();
+        long bytes = 0;
+        while (events.size() < config.getMaxBatchEvents()) {
+            LogEvent event = heldBack.isEmpty() ? queue.poll() : heldBack.pollFirst();
+            if (event == null) {
+                break;
+            }
+            if (bytes + event.getSize() > config.getMaxBatchSizeBytes()) {
+                heldBack.addFirst(event);
+                break;
+            }
+            events.add(event);
+            bytes += event.getSize();
+        }
+        Collections.sort(events, BY_TIMESTAMP);
+
+        // the events of a batch must not span more than 24 hours
+        if (!events.isEmpty()) {
+            long end = events.get(0).getTimestamp() + LogPublisherConfig.SERVICE_MAX_BATCH_SPAN_MS;
+            int last = events.size() - 1;
+            while (events.get(last).getTimestamp() >= end) {
+                LogEvent event = events.remove(last--);
+                heldBack.addFirst(event);
+                bytes -= event.getSize();
+            }
+        }
+
+        queuedBytes.addAndGet(-bytes);
+        if (queuedEvents.addAndGet(-events.size()) == 0) {
+            flushRequested = false;
+        }
+        return events.isEmpty() ? null : events;
+    }
+
+    /**
+     * Sends a batch with the current sequence token.
+     *
+     * @return {@link #DONE} if the batch was sent or failed, 0 if it should be sent again right
+     *         away, or the time to wait in milliseconds before it's sent again.
+     */
+    private long putLogEvents(List<LogEvent> events) {
+        List<InputLogEvent> inputEvents = new ArrayList<InputLogEvent>(events.size());
+        for (LogEvent event : events) {
+            inputEvents.add(event.toInputLogEvent());
+        }
+        attempts++;
+
+        PutLogEventsResult result;
+        try {
+            result = client.putLogEvents(new PutLogEventsRequest()
+                    .withLogGroupName(logGroupName)
+                    .withLogStreamName(logStreamName)
+                    .withLogEvents(inputEvents)
+                    .withSequenceToken(sequenceToken));
+        } catch (InvalidSequenceTokenException e) {
+            // another writer put events into the stream, or the token was lost with a response
+            sequenceToken = e.getExpectedSequenceToken();
+            return retryOrFail(events, 0, e);
+        } catch (DataAlreadyAcceptedException e) {
+            // an earlier attempt of this batch was accepted, but its response was lost
+            sequenceToken = e.getExpectedSequenceToken();
+            publisher.succeed(events, 0);
+            return DONE;
+        } catch (AmazonServiceException e) {
+            boolean retryable = e.getErrorType() != ErrorType.Client || RetryUtils.isThrottlingException(e);
+            return retryOrFail(events, retryable ? retryDelay() : DONE, e);
+        } catch (RuntimeException e) {
+            return retryOrFail(events, retryDelay(), e);
+        }
+
+        sequenceToken = result.getNextSequenceToken();
+        int rejected = rejectedEvents(result.getRejectedLogEventsInfo(), events.size());
+        if (rejected > 0) {
+            log.warn(rejected + " events were rejected by log stream " + describe()
+                    + " for being too old or too far in the future: " + result.getRejectedLogEventsInfo());
+        }
+        publisher.succeed(events, rejected);
+        return DONE;
+    }
+
+    private long retryOrFail(List<LogEvent> events, long retryDelay, Exception e) {
+        if (retryDelay == DONE || attempts >= config.getMaxAttempts()) {
+            log.warn("Unable to put " + events.size() + " events into log stream " + describe() + " after "
+                    + attempts + " attempts", e);
+            publisher.fail(events);
+            return DONE;
+        }
+        return retryDelay;
+    }
+
+    private long retryDelay() {
+        return Math.min(RETRY_BASE_DELAY_MS << Math.min(attempts - 1, 16), RETRY_MAX_DELAY_MS);
+    }
+
+    /**
+     * Counts the events of a batch the service rejected. The rejected events are at the start
+     * and the end of the batch, since it is sorted by timestamp.
+     */
+    private static int rejectedEvents(RejectedLogEventsInfo info, int batchSize) {
+        if (info == null) {
+            return 0;
+        }
+        int endIndex = -1;
+        if (info.getTooOldLogEventEndIndex() != null) {
+            endIndex = Math.max(endIndex, info.getTooOldLogEventEndIndex());
+        }
+        if (info.getExpiredLogEventEndIndex() != null) {
+            endIndex = Math.max(endIndex, info.getExpiredLogEventEndIndex());
+        }
+        int startIndex = batchSize;
+        if (info.getTooNewLogEventStartIndex() != null) {
+            startIndex = Math.max(info.getTooNewLogEventStartIndex(), endIndex + 1);
+        }
+        return Math.min(endIndex + 1, batchSize) + Math.max(batchSize - startIndex, 0);
+    }
+
+    private String describe() {
+        return logGroupName + "/" + logStreamName;
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2012-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package com.amazonaws.services.logs.buffered;
+
+/**
+ * What a {@link BufferedLogPublisher} does with an event published while it holds
+ * {@code maxBufferedBytes} bytes of events already.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Blocks the publishing thread until enough of the held events were sent or failed. No event is
+     * lost, but logging slows the application down to the rate CloudWatch Logs accepts events at.
+     */
+    BLOCK,
+
+    /**
+     * Discards the published event without blocking. The number of discarded events is reported by
+     * {@link BufferedLogPublisher#getDiscardedEventsCount()}.
+     */
+    DISCARD
+}
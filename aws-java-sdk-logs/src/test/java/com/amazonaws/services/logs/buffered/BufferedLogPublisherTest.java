@@ -0,0 +1,330 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.logs.buffered;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.logs.AbstractAWSLogs;
+import com.amazonaws.services.logs.model.DataAlreadyAcceptedException;
+import com.amazonaws.services.logs.model.InputLogEvent;
+import com.amazonaws.services.logs.model.InvalidSequenceTokenException;
+import com.amazonaws.services.logs.model.PutLogEventsRequest;
+import com.amazonaws.services.logs.model.PutLogEventsResult;
+import com.amazonaws.services.logs.model.RejectedLogEventsInfo;
+
+public class BufferedLogPublisherTest {
+
+    private static final String GROUP = "group";
+
+    private static final long DAY_MS = TimeUnit.DAYS.toMillis(1);
+
+    private final long now = System.currentTimeMillis();
+
+    private final LocalLogs logs = new LocalLogs();
+
+    private BufferedLogPublisher publisher;
+
+    @After
+    public void tearDown() {
+        if (publisher != null) {
+            publisher.shutdown();
+        }
+        assertNull(logs.violation, logs.violation);
+    }
+
+    @Test
+    public void batchesAreSentBackToBackWithTheTokenOfThePreviousResponse() throws Exception {
+        publisher = new BufferedLogPublisher(logs, new LogPublisherConfig().withMaxBatchEvents(100));
+
+        publish("stream", 0, 1000);
+        publisher.flushSync();
+
+        assertEquals(10, logs.calls.get());
+        assertEquals(0, logs.invalidTokens.get());
+        assertEquals(1000, logs.stored("stream").size());
+        assertEquals(1000, publisher.getSentEventsCount());
+    }
+
+    @Test
+    public void logStreamsAreSentConcurrently() throws Exception {
+        logs.delayMs = 50;
+        publisher = new BufferedLogPublisher(logs, new LogPublisherConfig().withMaxBatchEvents(10));
+
+        for (int i = 0; i < 4; i++) {
+            publish("stream-" + i, 0, 100);
+        }
+        publisher.flushSync();
+
+        assertTrue("Max concurrent calls " + logs.maxConcurrentCalls, logs.maxConcurrentCalls.get() > 1);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(100, logs.stored("stream-" + i).size());
+        }
+    }
+
+    @Test
+    public void invalidSequenceTokenIsReplacedWithTheExpectedOne() throws Exception {
+        publisher = new BufferedLogPublisher(logs);
+        publish("stream", 0, 10);
+        publisher.flushSync();
+
+        logs.writeFromElsewhere("stream");
+        publish("stream", 10, 20);
+        publisher.flushSync();
+
+        assertEquals(1, logs.invalidTokens.get());
+        assertEquals(20, logs.stored("stream").size());
+        assertEquals(20, publisher.getSentEventsCount());
+        assertEquals(0, publisher.getFailedEventsCount());
+    }
+
+    @Test
+    public void batchWhoseResponseWasLostIsNotStoredTwice() throws Exception {
+        publisher = new BufferedLogPublisher(logs);
+        logs.loseNextResponse = true;
+
+        publish("stream", 0, 10);
+        publisher.flushSync();
+        publish("stream", 10, 20);
+        publisher.flushSync();
+
+        assertEquals(1, logs.alreadyAccepted.get());
+        assertEquals(20, logs.stored("stream").size());
+        assertEquals(20, publisher.getSentEventsCount());
+        assertEquals(0, logs.invalidTokens.get());
+    }
+
+    @Test
+    public void batchesAreSortedAndSpanLessThanADay() throws Exception {
+        publisher = new BufferedLogPublisher(logs);
+
+        for (int day = 0; day < 30; day++) {
+            for (int i = 0; i < 10; i++) {
+                publisher.publish(GROUP, "stream", now - day * DAY_MS + i * 1000, "day " + day + " event " + i);
+            }
+        }
+        publisher.flushSync();
+
+        assertEquals(300, logs.stored("stream").size());
+        assertTrue("Calls " + logs.calls.get(), logs.calls.get() >= 30);
+        assertEquals(300, publisher.getSentEventsCount());
+    }
+
+    @Test
+    public void rejectedEventsAreCountedAsFailed() throws Exception {
+        logs.rejectOlderThan = now - 10 * DAY_MS;
+        publisher = new BufferedLogPublisher(logs);
+
+        for (int day = 0; day < 30; day++) {
+            publisher.publish(GROUP, "stream", now - day * DAY_MS, "day " + day);
+        }
+        publisher.flushSync();
+
+        assertEquals(11, publisher.getSentEventsCount());
+        assertEquals(19, publisher.getFailedEventsCount());
+    }
+
+    @Test
+    public void discardPolicyDropsEventsInsteadOfWaiting() throws Exception {
+        logs.delayMs = 500;
+        publisher = new BufferedLogPublisher(logs, new LogPublisherConfig()
+                .withMaxBufferedBytes(LogPublisherConfig.SERVICE_MAX_EVENT_SIZE_BYTES)
+                .withOverflowPolicy(OverflowPolicy.DISCARD));
+
+        long start = System.nanoTime();
+        int accepted = 0;
+        for (int i = 0; i < 20000; i++) {
+            if (publisher.publish(GROUP, "stream", now, "event " + i + " with some padding")) {
+                accepted++;
+            }
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        publisher.flushSync();
+
+        assertTrue("Took " + elapsedMs + " ms", elapsedMs < 500);
+        assertTrue(accepted < 20000);
+        assertEquals(20000 - accepted, publisher.getDiscardedEventsCount());
+        assertEquals(accepted, publisher.getSentEventsCount());
+    }
+
+    @Test
+    public void blockPolicyWaitsForBufferSpace() throws Exception {
+        logs.delayMs = 200;
+        publisher = new BufferedLogPublisher(logs, new LogPublisherConfig()
+                .withMaxBufferedBytes(LogPublisherConfig.SERVICE_MAX_EVENT_SIZE_BYTES)
+                .withMaxBatchSizeBytes(LogPublisherConfig.SERVICE_MAX_EVENT_SIZE_BYTES));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(publisher.publish(GROUP, "stream", now, "event " + i + " with some padding"));
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        publisher.flushSync();
+
+        // The events fill the buffer about twice, so publishing waits for at least one call
+        assertTrue("Took " + elapsedMs + " ms", elapsedMs >= 200);
+        assertEquals(10000, publisher.getSentEventsCount());
+        assertEquals(0, publisher.getDiscardedEventsCount());
+    }
+
+    private void publish(String logStreamName, int from, int to) {
+        for (int i = from; i < to; i++) {
+            assertTrue(publisher.publish(GROUP, logStreamName, now + i % 7, logStreamName + " event " + i));
+        }
+    }
+
+    /**
+     * Keeps the events of log streams in memory and checks every PutLogEvents call the way the
+     * service does: the sequence token, the order, span and size of the batch, and that calls for
+     * a log stream are made one at a time.
+     */
+    private static class LocalLogs extends AbstractAWSLogs {
+        private final Map<String, List<InputLogEvent>> stored = new HashMap<String, List<InputLogEvent>>();
+        private final Map<String, String> expectedTokens = new HashMap<String, String>();
+        /** The batch accepted with each sequence token, by log stream and token. */
+        private final Map<String, List<InputLogEvent>> acceptedBatches = new HashMap<String, List<InputLogEvent>>();
+        private final Set<String> streamsBeingPut = new HashSet<String>();
+        private int nextToken;
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger invalidTokens = new AtomicInteger();
+        private final AtomicInteger alreadyAccepted = new AtomicInteger();
+        private final AtomicInteger concurrentCalls = new AtomicInteger();
+        private final AtomicInteger maxConcurrentCalls = new AtomicInteger();
+
+        private volatile long delayMs;
+        private volatile boolean loseNextResponse;
+        private volatile long rejectOlderThan = Long.MIN_VALUE;
+
+        /** The first thing the service would have rejected outright. */
+        private volatile String violation;
+
+        synchronized List<InputLogEvent> stored(String logStreamName) {
+            List<InputLogEvent> events = stored.get(logStreamName);
+            return events == null ? new ArrayList<InputLogEvent>() : new ArrayList<InputLogEvent>(events);
+        }
+
+        /**
+         * Puts an event into the log stream as another writer would, changing its token.
+         */
+        synchronized void writeFromElsewhere(String logStreamName) {
+            expectedTokens.put(logStreamName, Integer.toString(nextToken++));
+        }
+
+        @Override
+        public PutLogEventsResult putLogEvents(PutLogEventsRequest request) {
+            String logStreamName = request.getLogStreamName();
+            synchronized (this) {
+                if (!streamsBeingPut.add(logStreamName)) {
+                    violation = "Concurrent calls for log stream " + logStreamName;
+                }
+            }
+            int concurrent = concurrentCalls.incrementAndGet();
+            int max;
+            while (concurrent > (max = maxConcurrentCalls.get()) && !maxConcurrentCalls.compareAndSet(max, concurrent)) {
+            }
+            try {
+                if (delayMs > 0) {
+                    Thread.sleep(delayMs);
+                }
+                calls.incrementAndGet();
+                checkBatch(request.getLogEvents());
+                return put(logStreamName, request.getSequenceToken(), request.getLogEvents());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException("Interrupted", e);
+            } finally {
+                concurrentCalls.decrementAndGet();
+                synchronized (this) {
+                    streamsBeingPut.remove(logStreamName);
+                }
+            }
+        }
+
+        private synchronized PutLogEventsResult put(String logStreamName, String sequenceToken,
+                List<InputLogEvent> events) {
+            String expectedToken = expectedTokens.get(logStreamName);
+            if (!String.valueOf(expectedToken).equals(String.valueOf(sequenceToken))) {
+                if (events.equals(acceptedBatches.get(logStreamName + ":" + sequenceToken))) {
+                    alreadyAccepted.incrementAndGet();
+                    DataAlreadyAcceptedException e = new DataAlreadyAcceptedException("Already accepted");
+                    e.setExpectedSequenceToken(expectedToken);
+                    throw e;
+                }
+                invalidTokens.incrementAndGet();
+                InvalidSequenceTokenException e = new InvalidSequenceTokenException("Invalid sequence token");
+                e.setExpectedSequenceToken(expectedToken);
+                throw e;
+            }
+
+            List<InputLogEvent> streamEvents = stored.get(logStreamName);
+            if (streamEvents == null) {
+                streamEvents = new ArrayList<InputLogEvent>();
+                stored.put(logStreamName, streamEvents);
+            }
+            Integer tooOldEndIndex = null;
+            for (int i = 0; i < events.size(); i++) {
+                if (events.get(i).getTimestamp() < rejectOlderThan) {
+                    tooOldEndIndex = i;
+                } else {
+                    streamEvents.add(events.get(i));
+                }
+            }
+            acceptedBatches.put(logStreamName + ":" + sequenceToken, events);
+            String nextSequenceToken = Integer.toString(nextToken++);
+            expectedTokens.put(logStreamName, nextSequenceToken);
+
+            if (loseNextResponse) {
+                loseNextResponse = false;
+                throw new AmazonClientException("Unable to execute HTTP request: Read timed out");
+            }
+            return new PutLogEventsResult()
+                    .withNextSequenceToken(nextSequenceToken)
+                    .withRejectedLogEventsInfo(tooOldEndIndex == null ? null
+                            : new RejectedLogEventsInfo().withTooOldLogEventEndIndex(tooOldEndIndex));
+        }
+
+        private void checkBatch(List<InputLogEvent> events) {
+            long bytes = 0;
+            for (int i = 0; i < events.size(); i++) {
+                bytes += LogEvent.utf8Length(events.get(i).getMessage()) + LogPublisherConfig.SERVICE_EVENT_OVERHEAD_BYTES;
+                if (i > 0 && events.get(i).getTimestamp() < events.get(i - 1).getTimestamp()) {
+                    violation = "Events out of order";
+                }
+            }
+            if (events.isEmpty() || events.size() > LogPublisherConfig.SERVICE_MAX_BATCH_EVENTS
+                    || bytes > LogPublisherConfig.SERVICE_MAX_BATCH_SIZE_BYTES) {
+                violation = "Batch of " + events.size() + " events and " + bytes + " bytes";
+            } else if (events.get(events.size() - 1).getTimestamp() - events.get(0).getTimestamp()
+                    >= LogPublisherConfig.SERVICE_MAX_BATCH_SPAN_MS) {
+                violation = "Batch spans more than 24 hours";
+            }
+        }
+    }
+}
@@ -15,6 +15,10 @@
 package com.amazonaws.services.machinelearning;
 
 import com.amazonaws.services.machinelearning.model.*;
+import com.amazonaws.services.machinelearning.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -280,27 +284,15 @@ public class AmazonMachineLearningAsyncClient extends
             final AddTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsRequest, AddTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddTagsResult>() {
-                    @Override
-                    public AddTagsResult call() throws Exception {
-                        AddTagsResult result;
-
-                        try {
-                            result = addTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<AddTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddTagsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new AddTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -315,27 +307,15 @@ public class AmazonMachineLearningAsyncClient extends
             final CreateBatchPredictionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateBatchPredictionRequest, CreateBatchPredictionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateBatchPredictionResult>() {
-                    @Override
-                    public CreateBatchPredictionResult call() throws Exception {
-                        CreateBatchPredictionResult result;
-
-                        try {
-                            result = createBatchPrediction(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateBatchPredictionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateBatchPredictionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateBatchPredictionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -350,28 +330,15 @@ public class AmazonMachineLearningAsyncClient extends
             final CreateDataSourceFromRDSRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDataSourceFromRDSRequest, CreateDataSourceFromRDSResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateDataSourceFromRDSResult>() {
-                    @Override
-                    public CreateDataSourceFromRDSResult call()
-                            throws Exception {
-                        CreateDataSourceFromRDSResult result;
-
-                        try {
-                            result = createDataSourceFromRDS(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateDataSourceFromRDSResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateDataSourceFromRDSResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreateDataSourceFromRDSRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -386,28 +353,16 @@ public class AmazonMachineLearningAsyncClient extends
             final CreateDataSourceFromRedshiftRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDataSourceFromRedshiftRequest, CreateDataSourceFromRedshiftResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateDataSourceFromRedshiftResult>() {
-                    @Override
-                    public CreateDataSourceFromRedshiftResult call()
-                            throws Exception {
-                        CreateDataSourceFromRedshiftResult result;
-
-                        try {
-                            result = createDataSourceFromRedshift(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateDataSourceFromRedshiftResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateDataSourceFromRedshiftResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreateDataSourceFromRedshiftRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -422,27 +377,15 @@ public class AmazonMachineLearningAsyncClient extends
             final CreateDataSourceFromS3Request request,
             final com.amazonaws.handlers.AsyncHandler<CreateDataSourceFromS3Request, CreateDataSourceFromS3Result> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateDataSourceFromS3Result>() {
-                    @Override
-                    public CreateDataSourceFromS3Result call() throws Exception {
-                        CreateDataSourceFromS3Result result;
-
-                        try {
-                            result = createDataSourceFromS3(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateDataSourceFromS3Result>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateDataSourceFromS3ResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreateDataSourceFromS3RequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -457,27 +400,15 @@ public class AmazonMachineLearningAsyncClient extends
             final CreateEvaluationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateEvaluationRequest, CreateEvaluationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateEvaluationResult>() {
-                    @Override
-                    public CreateEvaluationResult call() throws Exception {
-                        CreateEvaluationResult result;
-
-                        try {
-                            result = createEvaluation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateEvaluationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateEvaluationResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateEvaluationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -492,27 +423,15 @@ public class AmazonMachineLearningAsyncClient extends
             final CreateMLModelRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateMLModelRequest, CreateMLModelResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateMLModelResult>() {
-                    @Override
-                    public CreateMLModelResult call() throws Exception {
-                        CreateMLModelResult result;
-
-                        try {
-                            result = createMLModel(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateMLModelResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateMLModelResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateMLModelRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -527,27 +446,15 @@ public class AmazonMachineLearningAsyncClient extends
             final CreateRealtimeEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRealtimeEndpointRequest, CreateRealtimeEndpointResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateRealtimeEndpointResult>() {
-                    @Override
-                    public CreateRealtimeEndpointResult call() throws Exception {
-                        CreateRealtimeEndpointResult result;
-
-                        try {
-                            result = createRealtimeEndpoint(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateRealtimeEndpointResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateRealtimeEndpointResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new CreateRealtimeEndpointRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -562,27 +469,15 @@ public class AmazonMachineLearningAsyncClient extends
             final DeleteBatchPredictionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteBatchPredictionRequest, DeleteBatchPredictionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteBatchPredictionResult>() {
-                    @Override
-                    public DeleteBatchPredictionResult call() throws Exception {
-                        DeleteBatchPredictionResult result;
-
-                        try {
-                            result = deleteBatchPrediction(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteBatchPredictionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteBatchPredictionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteBatchPredictionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -597,27 +492,15 @@ public class AmazonMachineLearningAsyncClient extends
             final DeleteDataSourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDataSourceRequest, DeleteDataSourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDataSourceResult>() {
-                    @Override
-                    public DeleteDataSourceResult call() throws Exception {
-                        DeleteDataSourceResult result;
-
-                        try {
-                            result = deleteDataSource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteDataSourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteDataSourceResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteDataSourceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -632,27 +515,15 @@ public class AmazonMachineLearningAsyncClient extends
             final DeleteEvaluationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteEvaluationRequest, DeleteEvaluationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteEvaluationResult>() {
-                    @Override
-                    public DeleteEvaluationResult call() throws Exception {
-                        DeleteEvaluationResult result;
-
-                        try {
-                            result = deleteEvaluation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteEvaluationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteEvaluationResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteEvaluationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -667,27 +538,15 @@ public class AmazonMachineLearningAsyncClient extends
             final DeleteMLModelRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteMLModelRequest, DeleteMLModelResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteMLModelResult>() {
-                    @Override
-                    public DeleteMLModelResult call() throws Exception {
-                        DeleteMLModelResult result;
-
-                        try {
-                            result = deleteMLModel(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteMLModelResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteMLModelResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteMLModelRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -702,27 +561,15 @@ public class AmazonMachineLearningAsyncClient extends
             final DeleteRealtimeEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRealtimeEndpointRequest, DeleteRealtimeEndpointResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteRealtimeEndpointResult>() {
-                    @Override
-                    public DeleteRealtimeEndpointResult call() throws Exception {
-                        DeleteRealtimeEndpointResult result;
-
-                        try {
-                            result = deleteRealtimeEndpoint(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteRealtimeEndpointResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteRealtimeEndpointResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DeleteRealtimeEndpointRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -737,27 +584,15 @@ public class AmazonMachineLearningAsyncClient extends
             final DeleteTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTagsRequest, DeleteTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteTagsResult>() {
-                    @Override
-                    public DeleteTagsResult call() throws Exception {
-                        DeleteTagsResult result;
-
-                        try {
-                            result = deleteTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteTagsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -772,28 +607,15 @@ public class AmazonMachineLearningAsyncClient extends
             final DescribeBatchPredictionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeBatchPredictionsRequest, DescribeBatchPredictionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeBatchPredictionsResult>() {
-                    @Override
-                    public DescribeBatchPredictionsResult call()
-                            throws Exception {
-                        DescribeBatchPredictionsResult result;
-
-                        try {
-                            result = describeBatchPredictions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeBatchPredictionsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeBatchPredictionsResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeBatchPredictionsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -834,27 +656,15 @@ public class AmazonMachineLearningAsyncClient extends
             final DescribeDataSourcesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDataSourcesRequest, DescribeDataSourcesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDataSourcesResult>() {
-                    @Override
-                    public DescribeDataSourcesResult call() throws Exception {
-                        DescribeDataSourcesResult result;
-
-                        try {
-                            result = describeDataSources(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeDataSourcesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeDataSourcesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeDataSourcesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -894,27 +704,15 @@ public class AmazonMachineLearningAsyncClient extends
             final DescribeEvaluationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEvaluationsRequest, DescribeEvaluationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEvaluationsResult>() {
-                    @Override
-                    public DescribeEvaluationsResult call() throws Exception {
-                        DescribeEvaluationsResult result;
-
-                        try {
-                            result = describeEvaluations(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeEvaluationsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeEvaluationsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeEvaluationsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -954,27 +752,15 @@ public class AmazonMachineLearningAsyncClient extends
             final DescribeMLModelsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeMLModelsRequest, DescribeMLModelsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeMLModelsResult>() {
-                    @Override
-                    public DescribeMLModelsResult call() throws Exception {
-                        DescribeMLModelsResult result;
-
-                        try {
-                            result = describeMLModels(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeMLModelsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeMLModelsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeMLModelsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1014,27 +800,15 @@ public class AmazonMachineLearningAsyncClient extends
             final DescribeTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTagsResult>() {
-                    @Override
-                    public DescribeTagsResult call() throws Exception {
-                        DescribeTagsResult result;
-
-                        try {
-                            result = describeTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeTagsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1049,27 +823,15 @@ public class AmazonMachineLearningAsyncClient extends
             final GetBatchPredictionRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetBatchPredictionRequest, GetBatchPredictionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetBatchPredictionResult>() {
-                    @Override
-                    public GetBatchPredictionResult call() throws Exception {
-                        GetBatchPredictionResult result;
-
-                        try {
-                            result = getBatchPrediction(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetBatchPredictionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetBatchPredictionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetBatchPredictionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1084,27 +846,15 @@ public class AmazonMachineLearningAsyncClient extends
             final GetDataSourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDataSourceRequest, GetDataSourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDataSourceResult>() {
-                    @Override
-                    public GetDataSourceResult call() throws Exception {
-                        GetDataSourceResult result;
-
-                        try {
-                            result = getDataSource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetDataSourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDataSourceResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetDataSourceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1119,27 +869,15 @@ public class AmazonMachineLearningAsyncClient extends
             final GetEvaluationRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetEvaluationRequest, GetEvaluationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetEvaluationResult>() {
-                    @Override
-                    public GetEvaluationResult call() throws Exception {
-                        GetEvaluationResult result;
-
-                        try {
-                            result = getEvaluation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetEvaluationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetEvaluationResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetEvaluationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1154,27 +892,15 @@ public class AmazonMachineLearningAsyncClient extends
             final GetMLModelRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetMLModelRequest, GetMLModelResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetMLModelResult>() {
-                    @Override
-                    public GetMLModelResult call() throws Exception {
-                        GetMLModelResult result;
-
-                        try {
-                            result = getMLModel(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetMLModelResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetMLModelResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetMLModelRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1189,27 +915,15 @@ public class AmazonMachineLearningAsyncClient extends
             final PredictRequest request,
             final com.amazonaws.handlers.AsyncHandler<PredictRequest, PredictResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PredictResult>() {
-                    @Override
-                    public PredictResult call() throws Exception {
-                        PredictResult result;
-
-                        try {
-                            result = predict(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PredictResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PredictResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new PredictRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1224,27 +938,15 @@ public class AmazonMachineLearningAsyncClient extends
             final UpdateBatchPredictionRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateBatchPredictionRequest, UpdateBatchPredictionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateBatchPredictionResult>() {
-                    @Override
-                    public UpdateBatchPredictionResult call() throws Exception {
-                        UpdateBatchPredictionResult result;
-
-                        try {
-                            result = updateBatchPrediction(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateBatchPredictionResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateBatchPredictionResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateBatchPredictionRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1259,27 +961,15 @@ public class AmazonMachineLearningAsyncClient extends
             final UpdateDataSourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDataSourceRequest, UpdateDataSourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateDataSourceResult>() {
-                    @Override
-                    public UpdateDataSourceResult call() throws Exception {
-                        UpdateDataSourceResult result;
-
-                        try {
-                            result = updateDataSource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateDataSourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateDataSourceResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateDataSourceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1294,27 +984,15 @@ public class AmazonMachineLearningAsyncClient extends
             final UpdateEvaluationRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateEvaluationRequest, UpdateEvaluationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateEvaluationResult>() {
-                    @Override
-                    public UpdateEvaluationResult call() throws Exception {
-                        UpdateEvaluationResult result;
-
-                        try {
-                            result = updateEvaluation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateEvaluationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateEvaluationResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateEvaluationRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1329,27 +1007,15 @@ public class AmazonMachineLearningAsyncClient extends
             final UpdateMLModelRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateMLModelRequest, UpdateMLModelResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateMLModelResult>() {
-                    @Override
-                    public UpdateMLModelResult call() throws Exception {
-                        UpdateMLModelResult result;
-
-                        try {
-                            result = updateMLModel(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateMLModelResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateMLModelResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateMLModelRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
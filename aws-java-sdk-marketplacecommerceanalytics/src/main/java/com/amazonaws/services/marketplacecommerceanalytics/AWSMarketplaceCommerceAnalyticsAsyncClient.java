@@ -15,6 +15,10 @@
 package com.amazonaws.services.marketplacecommerceanalytics;
 
 import com.amazonaws.services.marketplacecommerceanalytics.model.*;
+import com.amazonaws.services.marketplacecommerceanalytics.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -284,27 +288,15 @@ public class AWSMarketplaceCommerceAnalyticsAsyncClient extends
             final GenerateDataSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<GenerateDataSetRequest, GenerateDataSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GenerateDataSetResult>() {
-                    @Override
-                    public GenerateDataSetResult call() throws Exception {
-                        GenerateDataSetResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GenerateDataSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GenerateDataSetResultJsonUnmarshaller());
 
-                        try {
-                            result = generateDataSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GenerateDataSetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -319,27 +311,15 @@ public class AWSMarketplaceCommerceAnalyticsAsyncClient extends
             final StartSupportDataExportRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartSupportDataExportRequest, StartSupportDataExportResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StartSupportDataExportResult>() {
-                    @Override
-                    public StartSupportDataExportResult call() throws Exception {
-                        StartSupportDataExportResult result;
-
-                        try {
-                            result = startSupportDataExport(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<StartSupportDataExportResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StartSupportDataExportResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new StartSupportDataExportRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
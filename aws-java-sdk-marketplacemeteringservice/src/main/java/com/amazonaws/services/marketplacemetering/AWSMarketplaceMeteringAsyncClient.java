@@ -15,6 +15,10 @@
 package com.amazonaws.services.marketplacemetering;
 
 import com.amazonaws.services.marketplacemetering.model.*;
+import com.amazonaws.services.marketplacemetering.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -298,27 +302,15 @@ public class AWSMarketplaceMeteringAsyncClient extends
             final MeterUsageRequest request,
             final com.amazonaws.handlers.AsyncHandler<MeterUsageRequest, MeterUsageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<MeterUsageResult>() {
-                    @Override
-                    public MeterUsageResult call() throws Exception {
-                        MeterUsageResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<MeterUsageResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new MeterUsageResultJsonUnmarshaller());
 
-                        try {
-                            result = meterUsage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new MeterUsageRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
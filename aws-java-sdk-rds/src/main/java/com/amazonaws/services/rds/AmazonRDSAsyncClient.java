@@ -15,6 +15,10 @@
 package com.amazonaws.services.rds;
 
 import com.amazonaws.services.rds.model.*;
+import com.amazonaws.services.rds.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -361,27 +365,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final AddSourceIdentifierToSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddSourceIdentifierToSubscriptionRequest, EventSubscription> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EventSubscription>() {
-                    @Override
-                    public EventSubscription call() throws Exception {
-                        EventSubscription result;
+        StaxResponseHandler<EventSubscription> responseHandler = new StaxResponseHandler<EventSubscription>(
+                new EventSubscriptionStaxUnmarshaller());
 
-                        try {
-                            result = addSourceIdentifierToSubscription(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AddSourceIdentifierToSubscriptionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -396,27 +385,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final AddTagsToResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToResourceRequest, AddTagsToResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddTagsToResourceResult>() {
-                    @Override
-                    public AddTagsToResourceResult call() throws Exception {
-                        AddTagsToResourceResult result;
-
-                        try {
-                            result = addTagsToResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<AddTagsToResourceResult> responseHandler = new StaxResponseHandler<AddTagsToResourceResult>(
+                new AddTagsToResourceResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AddTagsToResourceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -431,28 +404,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ApplyPendingMaintenanceActionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ApplyPendingMaintenanceActionRequest, ResourcePendingMaintenanceActions> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ResourcePendingMaintenanceActions>() {
-                    @Override
-                    public ResourcePendingMaintenanceActions call()
-                            throws Exception {
-                        ResourcePendingMaintenanceActions result;
-
-                        try {
-                            result = applyPendingMaintenanceAction(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ResourcePendingMaintenanceActions> responseHandler = new StaxResponseHandler<ResourcePendingMaintenanceActions>(
+                new ResourcePendingMaintenanceActionsStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ApplyPendingMaintenanceActionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -467,27 +424,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final AuthorizeDBSecurityGroupIngressRequest request,
             final com.amazonaws.handlers.AsyncHandler<AuthorizeDBSecurityGroupIngressRequest, DBSecurityGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBSecurityGroup>() {
-                    @Override
-                    public DBSecurityGroup call() throws Exception {
-                        DBSecurityGroup result;
+        StaxResponseHandler<DBSecurityGroup> responseHandler = new StaxResponseHandler<DBSecurityGroup>(
+                new DBSecurityGroupStaxUnmarshaller());
 
-                        try {
-                            result = authorizeDBSecurityGroupIngress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AuthorizeDBSecurityGroupIngressRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -502,27 +444,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CopyDBClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopyDBClusterParameterGroupRequest, DBClusterParameterGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBClusterParameterGroup>() {
-                    @Override
-                    public DBClusterParameterGroup call() throws Exception {
-                        DBClusterParameterGroup result;
-
-                        try {
-                            result = copyDBClusterParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBClusterParameterGroup> responseHandler = new StaxResponseHandler<DBClusterParameterGroup>(
+                new DBClusterParameterGroupStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CopyDBClusterParameterGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -537,27 +464,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CopyDBClusterSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopyDBClusterSnapshotRequest, DBClusterSnapshot> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBClusterSnapshot>() {
-                    @Override
-                    public DBClusterSnapshot call() throws Exception {
-                        DBClusterSnapshot result;
-
-                        try {
-                            result = copyDBClusterSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBClusterSnapshot> responseHandler = new StaxResponseHandler<DBClusterSnapshot>(
+                new DBClusterSnapshotStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CopyDBClusterSnapshotRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -572,27 +484,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CopyDBParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopyDBParameterGroupRequest, DBParameterGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBParameterGroup>() {
-                    @Override
-                    public DBParameterGroup call() throws Exception {
-                        DBParameterGroup result;
+        StaxResponseHandler<DBParameterGroup> responseHandler = new StaxResponseHandler<DBParameterGroup>(
+                new DBParameterGroupStaxUnmarshaller());
 
-                        try {
-                            result = copyDBParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CopyDBParameterGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -607,27 +504,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CopyDBSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopyDBSnapshotRequest, DBSnapshot> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBSnapshot>() {
-                    @Override
-                    public DBSnapshot call() throws Exception {
-                        DBSnapshot result;
-
-                        try {
-                            result = copyDBSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBSnapshot> responseHandler = new StaxResponseHandler<DBSnapshot>(
+                new DBSnapshotStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CopyDBSnapshotRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -642,27 +523,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CopyOptionGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopyOptionGroupRequest, OptionGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<OptionGroup>() {
-                    @Override
-                    public OptionGroup call() throws Exception {
-                        OptionGroup result;
-
-                        try {
-                            result = copyOptionGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<OptionGroup> responseHandler = new StaxResponseHandler<OptionGroup>(
+                new OptionGroupStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CopyOptionGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -677,27 +542,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBClusterRequest, DBCluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBCluster>() {
-                    @Override
-                    public DBCluster call() throws Exception {
-                        DBCluster result;
+        StaxResponseHandler<DBCluster> responseHandler = new StaxResponseHandler<DBCluster>(
+                new DBClusterStaxUnmarshaller());
 
-                        try {
-                            result = createDBCluster(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateDBClusterRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -712,27 +561,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBClusterParameterGroupRequest, DBClusterParameterGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBClusterParameterGroup>() {
-                    @Override
-                    public DBClusterParameterGroup call() throws Exception {
-                        DBClusterParameterGroup result;
-
-                        try {
-                            result = createDBClusterParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBClusterParameterGroup> responseHandler = new StaxResponseHandler<DBClusterParameterGroup>(
+                new DBClusterParameterGroupStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateDBClusterParameterGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -747,27 +581,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBClusterSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBClusterSnapshotRequest, DBClusterSnapshot> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBClusterSnapshot>() {
-                    @Override
-                    public DBClusterSnapshot call() throws Exception {
-                        DBClusterSnapshot result;
+        StaxResponseHandler<DBClusterSnapshot> responseHandler = new StaxResponseHandler<DBClusterSnapshot>(
+                new DBClusterSnapshotStaxUnmarshaller());
 
-                        try {
-                            result = createDBClusterSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateDBClusterSnapshotRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -782,27 +601,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBInstanceRequest, DBInstance> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBInstance>() {
-                    @Override
-                    public DBInstance call() throws Exception {
-                        DBInstance result;
-
-                        try {
-                            result = createDBInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBInstance> responseHandler = new StaxResponseHandler<DBInstance>(
+                new DBInstanceStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateDBInstanceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -817,27 +620,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBInstanceReadReplicaRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBInstanceReadReplicaRequest, DBInstance> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBInstance>() {
-                    @Override
-                    public DBInstance call() throws Exception {
-                        DBInstance result;
-
-                        try {
-                            result = createDBInstanceReadReplica(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBInstance> responseHandler = new StaxResponseHandler<DBInstance>(
+                new DBInstanceStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateDBInstanceReadReplicaRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -852,27 +640,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBParameterGroupRequest, DBParameterGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBParameterGroup>() {
-                    @Override
-                    public DBParameterGroup call() throws Exception {
-                        DBParameterGroup result;
+        StaxResponseHandler<DBParameterGroup> responseHandler = new StaxResponseHandler<DBParameterGroup>(
+                new DBParameterGroupStaxUnmarshaller());
 
-                        try {
-                            result = createDBParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateDBParameterGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -887,27 +660,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBSecurityGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBSecurityGroupRequest, DBSecurityGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBSecurityGroup>() {
-                    @Override
-                    public DBSecurityGroup call() throws Exception {
-                        DBSecurityGroup result;
-
-                        try {
-                            result = createDBSecurityGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBSecurityGroup> responseHandler = new StaxResponseHandler<DBSecurityGroup>(
+                new DBSecurityGroupStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateDBSecurityGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -922,27 +680,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBSnapshotRequest, DBSnapshot> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBSnapshot>() {
-                    @Override
-                    public DBSnapshot call() throws Exception {
-                        DBSnapshot result;
+        StaxResponseHandler<DBSnapshot> responseHandler = new StaxResponseHandler<DBSnapshot>(
+                new DBSnapshotStaxUnmarshaller());
 
-                        try {
-                            result = createDBSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateDBSnapshotRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -957,27 +699,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateDBSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDBSubnetGroupRequest, DBSubnetGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBSubnetGroup>() {
-                    @Override
-                    public DBSubnetGroup call() throws Exception {
-                        DBSubnetGroup result;
-
-                        try {
-                            result = createDBSubnetGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBSubnetGroup> responseHandler = new StaxResponseHandler<DBSubnetGroup>(
+                new DBSubnetGroupStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateDBSubnetGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -992,27 +718,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateEventSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateEventSubscriptionRequest, EventSubscription> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EventSubscription>() {
-                    @Override
-                    public EventSubscription call() throws Exception {
-                        EventSubscription result;
-
-                        try {
-                            result = createEventSubscription(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<EventSubscription> responseHandler = new StaxResponseHandler<EventSubscription>(
+                new EventSubscriptionStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateEventSubscriptionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1027,27 +738,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final CreateOptionGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateOptionGroupRequest, OptionGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<OptionGroup>() {
-                    @Override
-                    public OptionGroup call() throws Exception {
-                        OptionGroup result;
+        StaxResponseHandler<OptionGroup> responseHandler = new StaxResponseHandler<OptionGroup>(
+                new OptionGroupStaxUnmarshaller());
 
-                        try {
-                            result = createOptionGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateOptionGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1062,27 +757,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteDBClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDBClusterRequest, DBCluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBCluster>() {
-                    @Override
-                    public DBCluster call() throws Exception {
-                        DBCluster result;
-
-                        try {
-                            result = deleteDBCluster(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBCluster> responseHandler = new StaxResponseHandler<DBCluster>(
+                new DBClusterStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteDBClusterRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1097,28 +776,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteDBClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDBClusterParameterGroupRequest, DeleteDBClusterParameterGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDBClusterParameterGroupResult>() {
-                    @Override
-                    public DeleteDBClusterParameterGroupResult call()
-                            throws Exception {
-                        DeleteDBClusterParameterGroupResult result;
+        StaxResponseHandler<DeleteDBClusterParameterGroupResult> responseHandler = new StaxResponseHandler<DeleteDBClusterParameterGroupResult>(
+                new DeleteDBClusterParameterGroupResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteDBClusterParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteDBClusterParameterGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1133,27 +796,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteDBClusterSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDBClusterSnapshotRequest, DBClusterSnapshot> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBClusterSnapshot>() {
-                    @Override
-                    public DBClusterSnapshot call() throws Exception {
-                        DBClusterSnapshot result;
-
-                        try {
-                            result = deleteDBClusterSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBClusterSnapshot> responseHandler = new StaxResponseHandler<DBClusterSnapshot>(
+                new DBClusterSnapshotStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteDBClusterSnapshotRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1168,27 +816,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteDBInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDBInstanceRequest, DBInstance> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBInstance>() {
-                    @Override
-                    public DBInstance call() throws Exception {
-                        DBInstance result;
-
-                        try {
-                            result = deleteDBInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBInstance> responseHandler = new StaxResponseHandler<DBInstance>(
+                new DBInstanceStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteDBInstanceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1203,27 +835,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteDBParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDBParameterGroupRequest, DeleteDBParameterGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDBParameterGroupResult>() {
-                    @Override
-                    public DeleteDBParameterGroupResult call() throws Exception {
-                        DeleteDBParameterGroupResult result;
+        StaxResponseHandler<DeleteDBParameterGroupResult> responseHandler = new StaxResponseHandler<DeleteDBParameterGroupResult>(
+                new DeleteDBParameterGroupResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteDBParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteDBParameterGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1238,27 +855,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteDBSecurityGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDBSecurityGroupRequest, DeleteDBSecurityGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDBSecurityGroupResult>() {
-                    @Override
-                    public DeleteDBSecurityGroupResult call() throws Exception {
-                        DeleteDBSecurityGroupResult result;
-
-                        try {
-                            result = deleteDBSecurityGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteDBSecurityGroupResult> responseHandler = new StaxResponseHandler<DeleteDBSecurityGroupResult>(
+                new DeleteDBSecurityGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteDBSecurityGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1273,27 +875,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteDBSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDBSnapshotRequest, DBSnapshot> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBSnapshot>() {
-                    @Override
-                    public DBSnapshot call() throws Exception {
-                        DBSnapshot result;
-
-                        try {
-                            result = deleteDBSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBSnapshot> responseHandler = new StaxResponseHandler<DBSnapshot>(
+                new DBSnapshotStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteDBSnapshotRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1308,27 +894,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteDBSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDBSubnetGroupRequest, DeleteDBSubnetGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDBSubnetGroupResult>() {
-                    @Override
-                    public DeleteDBSubnetGroupResult call() throws Exception {
-                        DeleteDBSubnetGroupResult result;
+        StaxResponseHandler<DeleteDBSubnetGroupResult> responseHandler = new StaxResponseHandler<DeleteDBSubnetGroupResult>(
+                new DeleteDBSubnetGroupResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteDBSubnetGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteDBSubnetGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1343,27 +913,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteEventSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteEventSubscriptionRequest, EventSubscription> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EventSubscription>() {
-                    @Override
-                    public EventSubscription call() throws Exception {
-                        EventSubscription result;
-
-                        try {
-                            result = deleteEventSubscription(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<EventSubscription> responseHandler = new StaxResponseHandler<EventSubscription>(
+                new EventSubscriptionStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteEventSubscriptionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1378,27 +933,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DeleteOptionGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteOptionGroupRequest, DeleteOptionGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteOptionGroupResult>() {
-                    @Override
-                    public DeleteOptionGroupResult call() throws Exception {
-                        DeleteOptionGroupResult result;
-
-                        try {
-                            result = deleteOptionGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteOptionGroupResult> responseHandler = new StaxResponseHandler<DeleteOptionGroupResult>(
+                new DeleteOptionGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteOptionGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1413,28 +952,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeAccountAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAccountAttributesRequest, DescribeAccountAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAccountAttributesResult>() {
-                    @Override
-                    public DescribeAccountAttributesResult call()
-                            throws Exception {
-                        DescribeAccountAttributesResult result;
-
-                        try {
-                            result = describeAccountAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeAccountAttributesResult> responseHandler = new StaxResponseHandler<DescribeAccountAttributesResult>(
+                new DescribeAccountAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeAccountAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1475,27 +998,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeCertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCertificatesRequest, DescribeCertificatesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeCertificatesResult>() {
-                    @Override
-                    public DescribeCertificatesResult call() throws Exception {
-                        DescribeCertificatesResult result;
-
-                        try {
-                            result = describeCertificates(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeCertificatesResult> responseHandler = new StaxResponseHandler<DescribeCertificatesResult>(
+                new DescribeCertificatesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeCertificatesRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1535,28 +1043,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBClusterParameterGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBClusterParameterGroupsRequest, DescribeDBClusterParameterGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDBClusterParameterGroupsResult>() {
-                    @Override
-                    public DescribeDBClusterParameterGroupsResult call()
-                            throws Exception {
-                        DescribeDBClusterParameterGroupsResult result;
-
-                        try {
-                            result = describeDBClusterParameterGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeDBClusterParameterGroupsResult> responseHandler = new StaxResponseHandler<DescribeDBClusterParameterGroupsResult>(
+                new DescribeDBClusterParameterGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeDBClusterParameterGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1597,28 +1089,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBClusterParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBClusterParametersRequest, DescribeDBClusterParametersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDBClusterParametersResult>() {
-                    @Override
-                    public DescribeDBClusterParametersResult call()
-                            throws Exception {
-                        DescribeDBClusterParametersResult result;
-
-                        try {
-                            result = describeDBClusterParameters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeDBClusterParametersResult> responseHandler = new StaxResponseHandler<DescribeDBClusterParametersResult>(
+                new DescribeDBClusterParametersResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeDBClusterParametersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1633,28 +1109,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBClusterSnapshotAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBClusterSnapshotAttributesRequest, DBClusterSnapshotAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBClusterSnapshotAttributesResult>() {
-                    @Override
-                    public DBClusterSnapshotAttributesResult call()
-                            throws Exception {
-                        DBClusterSnapshotAttributesResult result;
-
-                        try {
-                            result = describeDBClusterSnapshotAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBClusterSnapshotAttributesResult> responseHandler = new StaxResponseHandler<DBClusterSnapshotAttributesResult>(
+                new DBClusterSnapshotAttributesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeDBClusterSnapshotAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1669,28 +1129,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBClusterSnapshotsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBClusterSnapshotsRequest, DescribeDBClusterSnapshotsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDBClusterSnapshotsResult>() {
-                    @Override
-                    public DescribeDBClusterSnapshotsResult call()
-                            throws Exception {
-                        DescribeDBClusterSnapshotsResult result;
-
-                        try {
-                            result = describeDBClusterSnapshots(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeDBClusterSnapshotsResult> responseHandler = new StaxResponseHandler<DescribeDBClusterSnapshotsResult>(
+                new DescribeDBClusterSnapshotsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeDBClusterSnapshotsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1731,27 +1175,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBClustersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBClustersRequest, DescribeDBClustersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDBClustersResult>() {
-                    @Override
-                    public DescribeDBClustersResult call() throws Exception {
-                        DescribeDBClustersResult result;
-
-                        try {
-                            result = describeDBClusters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeDBClustersResult> responseHandler = new StaxResponseHandler<DescribeDBClustersResult>(
+                new DescribeDBClustersResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeDBClustersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1791,28 +1219,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBEngineVersionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBEngineVersionsRequest, DescribeDBEngineVersionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDBEngineVersionsResult>() {
-                    @Override
-                    public DescribeDBEngineVersionsResult call()
-                            throws Exception {
-                        DescribeDBEngineVersionsResult result;
-
-                        try {
-                            result = describeDBEngineVersions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeDBEngineVersionsResult> responseHandler = new StaxResponseHandler<DescribeDBEngineVersionsResult>(
+                new DescribeDBEngineVersionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeDBEngineVersionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1853,27 +1265,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBInstancesRequest, DescribeDBInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDBInstancesResult>() {
-                    @Override
-                    public DescribeDBInstancesResult call() throws Exception {
-                        DescribeDBInstancesResult result;
-
-                        try {
-                            result = describeDBInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeDBInstancesResult> responseHandler = new StaxResponseHandler<DescribeDBInstancesResult>(
+                new DescribeDBInstancesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeDBInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1913,27 +1309,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBLogFilesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBLogFilesRequest, DescribeDBLogFilesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDBLogFilesResult>() {
-                    @Override
-                    public DescribeDBLogFilesResult call() throws Exception {
-                        DescribeDBLogFilesResult result;
-
-                        try {
-                            result = describeDBLogFiles(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeDBLogFilesResult> responseHandler = new StaxResponseHandler<DescribeDBLogFilesResult>(
+                new DescribeDBLogFilesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeDBLogFilesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1948,28 +1328,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBParameterGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBParameterGroupsRequest, DescribeDBParameterGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDBParameterGroupsResult>() {
-                    @Override
-                    public DescribeDBParameterGroupsResult call()
-                            throws Exception {
-                        DescribeDBParameterGroupsResult result;
-
-                        try {
-                            result = describeDBParameterGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeDBParameterGroupsResult> responseHandler = new StaxResponseHandler<DescribeDBParameterGroupsResult>(
+                new DescribeDBParameterGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeDBParameterGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2010,27 +1374,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBParametersRequest, DescribeDBParametersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDBParametersResult>() {
-                    @Override
-                    public DescribeDBParametersResult call() throws Exception {
-                        DescribeDBParametersResult result;
-
-                        try {
-                            result = describeDBParameters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeDBParametersResult> responseHandler = new StaxResponseHandler<DescribeDBParametersResult>(
+                new DescribeDBParametersResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeDBParametersRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -2045,28 +1394,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBSecurityGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBSecurityGroupsRequest, DescribeDBSecurityGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDBSecurityGroupsResult>() {
-                    @Override
-                    public DescribeDBSecurityGroupsResult call()
-                            throws Exception {
-                        DescribeDBSecurityGroupsResult result;
-
-                        try {
-                            result = describeDBSecurityGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeDBSecurityGroupsResult> responseHandler = new StaxResponseHandler<DescribeDBSecurityGroupsResult>(
+                new DescribeDBSecurityGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeDBSecurityGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2107,27 +1440,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBSnapshotAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBSnapshotAttributesRequest, DBSnapshotAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBSnapshotAttributesResult>() {
-                    @Override
-                    public DBSnapshotAttributesResult call() throws Exception {
-                        DBSnapshotAttributesResult result;
-
-                        try {
-                            result = describeDBSnapshotAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DBSnapshotAttributesResult> responseHandler = new StaxResponseHandler<DBSnapshotAttributesResult>(
+                new DBSnapshotAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeDBSnapshotAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2168,27 +1486,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBSnapshotsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBSnapshotsRequest, DescribeDBSnapshotsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDBSnapshotsResult>() {
-                    @Override
-                    public DescribeDBSnapshotsResult call() throws Exception {
-                        DescribeDBSnapshotsResult result;
-
-                        try {
-                            result = describeDBSnapshots(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeDBSnapshotsResult> responseHandler = new StaxResponseHandler<DescribeDBSnapshotsResult>(
+                new DescribeDBSnapshotsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeDBSnapshotsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2228,27 +1530,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeDBSubnetGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDBSubnetGroupsRequest, DescribeDBSubnetGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeDBSubnetGroupsResult>() {
-                    @Override
-                    public DescribeDBSubnetGroupsResult call() throws Exception {
-                        DescribeDBSubnetGroupsResult result;
-
-                        try {
-                            result = describeDBSubnetGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeDBSubnetGroupsResult> responseHandler = new StaxResponseHandler<DescribeDBSubnetGroupsResult>(
+                new DescribeDBSubnetGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeDBSubnetGroupsRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -2288,27 +1575,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeEngineDefaultClusterParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEngineDefaultClusterParametersRequest, EngineDefaults> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EngineDefaults>() {
-                    @Override
-                    public EngineDefaults call() throws Exception {
-                        EngineDefaults result;
-
-                        try {
-                            result = describeEngineDefaultClusterParameters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<EngineDefaults> responseHandler = new StaxResponseHandler<EngineDefaults>(
+                new EngineDefaultsStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeEngineDefaultClusterParametersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2323,27 +1595,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeEngineDefaultParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEngineDefaultParametersRequest, EngineDefaults> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EngineDefaults>() {
-                    @Override
-                    public EngineDefaults call() throws Exception {
-                        EngineDefaults result;
-
-                        try {
-                            result = describeEngineDefaultParameters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<EngineDefaults> responseHandler = new StaxResponseHandler<EngineDefaults>(
+                new EngineDefaultsStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeEngineDefaultParametersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2358,28 +1615,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeEventCategoriesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventCategoriesRequest, DescribeEventCategoriesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEventCategoriesResult>() {
-                    @Override
-                    public DescribeEventCategoriesResult call()
-                            throws Exception {
-                        DescribeEventCategoriesResult result;
-
-                        try {
-                            result = describeEventCategories(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeEventCategoriesResult> responseHandler = new StaxResponseHandler<DescribeEventCategoriesResult>(
+                new DescribeEventCategoriesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeEventCategoriesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2420,28 +1661,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeEventSubscriptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventSubscriptionsRequest, DescribeEventSubscriptionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEventSubscriptionsResult>() {
-                    @Override
-                    public DescribeEventSubscriptionsResult call()
-                            throws Exception {
-                        DescribeEventSubscriptionsResult result;
-
-                        try {
-                            result = describeEventSubscriptions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeEventSubscriptionsResult> responseHandler = new StaxResponseHandler<DescribeEventSubscriptionsResult>(
+                new DescribeEventSubscriptionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeEventSubscriptionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2482,27 +1707,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEventsResult>() {
-                    @Override
-                    public DescribeEventsResult call() throws Exception {
-                        DescribeEventsResult result;
-
-                        try {
-                            result = describeEvents(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeEventsResult> responseHandler = new StaxResponseHandler<DescribeEventsResult>(
+                new DescribeEventsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeEventsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2541,28 +1750,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeOptionGroupOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeOptionGroupOptionsRequest, DescribeOptionGroupOptionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeOptionGroupOptionsResult>() {
-                    @Override
-                    public DescribeOptionGroupOptionsResult call()
-                            throws Exception {
-                        DescribeOptionGroupOptionsResult result;
+        StaxResponseHandler<DescribeOptionGroupOptionsResult> responseHandler = new StaxResponseHandler<DescribeOptionGroupOptionsResult>(
+                new DescribeOptionGroupOptionsResultStaxUnmarshaller());
 
-                        try {
-                            result = describeOptionGroupOptions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeOptionGroupOptionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2577,27 +1770,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeOptionGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeOptionGroupsRequest, DescribeOptionGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeOptionGroupsResult>() {
-                    @Override
-                    public DescribeOptionGroupsResult call() throws Exception {
-                        DescribeOptionGroupsResult result;
-
-                        try {
-                            result = describeOptionGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeOptionGroupsResult> responseHandler = new StaxResponseHandler<DescribeOptionGroupsResult>(
+                new DescribeOptionGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeOptionGroupsRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -2637,28 +1815,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeOrderableDBInstanceOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeOrderableDBInstanceOptionsRequest, DescribeOrderableDBInstanceOptionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeOrderableDBInstanceOptionsResult>() {
-                    @Override
-                    public DescribeOrderableDBInstanceOptionsResult call()
-                            throws Exception {
-                        DescribeOrderableDBInstanceOptionsResult result;
+        StaxResponseHandler<DescribeOrderableDBInstanceOptionsResult> responseHandler = new StaxResponseHandler<DescribeOrderableDBInstanceOptionsResult>(
+                new DescribeOrderableDBInstanceOptionsResultStaxUnmarshaller());
 
-                        try {
-                            result = describeOrderableDBInstanceOptions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeOrderableDBInstanceOptionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2673,28 +1835,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribePendingMaintenanceActionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribePendingMaintenanceActionsRequest, DescribePendingMaintenanceActionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribePendingMaintenanceActionsResult>() {
-                    @Override
-                    public DescribePendingMaintenanceActionsResult call()
-                            throws Exception {
-                        DescribePendingMaintenanceActionsResult result;
-
-                        try {
-                            result = describePendingMaintenanceActions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribePendingMaintenanceActionsResult> responseHandler = new StaxResponseHandler<DescribePendingMaintenanceActionsResult>(
+                new DescribePendingMaintenanceActionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribePendingMaintenanceActionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2735,28 +1881,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeReservedDBInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedDBInstancesRequest, DescribeReservedDBInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeReservedDBInstancesResult>() {
-                    @Override
-                    public DescribeReservedDBInstancesResult call()
-                            throws Exception {
-                        DescribeReservedDBInstancesResult result;
-
-                        try {
-                            result = describeReservedDBInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeReservedDBInstancesResult> responseHandler = new StaxResponseHandler<DescribeReservedDBInstancesResult>(
+                new DescribeReservedDBInstancesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeReservedDBInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2797,28 +1927,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeReservedDBInstancesOfferingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedDBInstancesOfferingsRequest, DescribeReservedDBInstancesOfferingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeReservedDBInstancesOfferingsResult>() {
-                    @Override
-                    public DescribeReservedDBInstancesOfferingsResult call()
-                            throws Exception {
-                        DescribeReservedDBInstancesOfferingsResult result;
-
-                        try {
-                            result = describeReservedDBInstancesOfferings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeReservedDBInstancesOfferingsResult> responseHandler = new StaxResponseHandler<DescribeReservedDBInstancesOfferingsResult>(
+                new DescribeReservedDBInstancesOfferingsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeReservedDBInstancesOfferingsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2859,27 +1973,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DescribeSourceRegionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSourceRegionsRequest, DescribeSourceRegionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSourceRegionsResult>() {
-                    @Override
-                    public DescribeSourceRegionsResult call() throws Exception {
-                        DescribeSourceRegionsResult result;
-
-                        try {
-                            result = describeSourceRegions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeSourceRegionsResult> responseHandler = new StaxResponseHandler<DescribeSourceRegionsResult>(
+                new DescribeSourceRegionsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeSourceRegionsRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -2894,28 +1993,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final DownloadDBLogFilePortionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DownloadDBLogFilePortionRequest, DownloadDBLogFilePortionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DownloadDBLogFilePortionResult>() {
-                    @Override
-                    public DownloadDBLogFilePortionResult call()
-                            throws Exception {
-                        DownloadDBLogFilePortionResult result;
+        StaxResponseHandler<DownloadDBLogFilePortionResult> responseHandler = new StaxResponseHandler<DownloadDBLogFilePortionResult>(
+                new DownloadDBLogFilePortionResultStaxUnmarshaller());
 
-                        try {
-                            result = downloadDBLogFilePortion(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DownloadDBLogFilePortionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2930,27 +2013,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final FailoverDBClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<FailoverDBClusterRequest, DBCluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBCluster>() {
-                    @Override
-                    public DBCluster call() throws Exception {
-                        DBCluster result;
-
-                        try {
-                            result = failoverDBCluster(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DBCluster> responseHandler = new StaxResponseHandler<DBCluster>(
+                new DBClusterStaxUnmarshaller());
+
+        return asyncInvoke(request, new FailoverDBClusterRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2990,27 +2057,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
-                    @Override
-                    public ListTagsForResourceResult call() throws Exception {
-                        ListTagsForResourceResult result;
-
-                        try {
-                            result = listTagsForResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ListTagsForResourceResult> responseHandler = new StaxResponseHandler<ListTagsForResourceResult>(
+                new ListTagsForResourceResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListTagsForResourceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3025,27 +2076,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyDBClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyDBClusterRequest, DBCluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBCluster>() {
-                    @Override
-                    public DBCluster call() throws Exception {
-                        DBCluster result;
+        StaxResponseHandler<DBCluster> responseHandler = new StaxResponseHandler<DBCluster>(
+                new DBClusterStaxUnmarshaller());
 
-                        try {
-                            result = modifyDBCluster(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ModifyDBClusterRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3060,28 +2095,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyDBClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyDBClusterParameterGroupRequest, ModifyDBClusterParameterGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyDBClusterParameterGroupResult>() {
-                    @Override
-                    public ModifyDBClusterParameterGroupResult call()
-                            throws Exception {
-                        ModifyDBClusterParameterGroupResult result;
-
-                        try {
-                            result = modifyDBClusterParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ModifyDBClusterParameterGroupResult> responseHandler = new StaxResponseHandler<ModifyDBClusterParameterGroupResult>(
+                new ModifyDBClusterParameterGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyDBClusterParameterGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3096,28 +2115,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyDBClusterSnapshotAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyDBClusterSnapshotAttributeRequest, DBClusterSnapshotAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBClusterSnapshotAttributesResult>() {
-                    @Override
-                    public DBClusterSnapshotAttributesResult call()
-                            throws Exception {
-                        DBClusterSnapshotAttributesResult result;
+        StaxResponseHandler<DBClusterSnapshotAttributesResult> responseHandler = new StaxResponseHandler<DBClusterSnapshotAttributesResult>(
+                new DBClusterSnapshotAttributesResultStaxUnmarshaller());
 
-                        try {
-                            result = modifyDBClusterSnapshotAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyDBClusterSnapshotAttributeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3132,27 +2135,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyDBInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyDBInstanceRequest, DBInstance> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBInstance>() {
-                    @Override
-                    public DBInstance call() throws Exception {
-                        DBInstance result;
-
-                        try {
-                            result = modifyDBInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBInstance> responseHandler = new StaxResponseHandler<DBInstance>(
+                new DBInstanceStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ModifyDBInstanceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3167,27 +2154,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyDBParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyDBParameterGroupRequest, ModifyDBParameterGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyDBParameterGroupResult>() {
-                    @Override
-                    public ModifyDBParameterGroupResult call() throws Exception {
-                        ModifyDBParameterGroupResult result;
-
-                        try {
-                            result = modifyDBParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ModifyDBParameterGroupResult> responseHandler = new StaxResponseHandler<ModifyDBParameterGroupResult>(
+                new ModifyDBParameterGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyDBParameterGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -3202,27 +2174,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyDBSnapshotAttributeRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyDBSnapshotAttributeRequest, DBSnapshotAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBSnapshotAttributesResult>() {
-                    @Override
-                    public DBSnapshotAttributesResult call() throws Exception {
-                        DBSnapshotAttributesResult result;
+        StaxResponseHandler<DBSnapshotAttributesResult> responseHandler = new StaxResponseHandler<DBSnapshotAttributesResult>(
+                new DBSnapshotAttributesResultStaxUnmarshaller());
 
-                        try {
-                            result = modifyDBSnapshotAttribute(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyDBSnapshotAttributeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3237,27 +2194,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyDBSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyDBSubnetGroupRequest, DBSubnetGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBSubnetGroup>() {
-                    @Override
-                    public DBSubnetGroup call() throws Exception {
-                        DBSubnetGroup result;
-
-                        try {
-                            result = modifyDBSubnetGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBSubnetGroup> responseHandler = new StaxResponseHandler<DBSubnetGroup>(
+                new DBSubnetGroupStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ModifyDBSubnetGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3272,27 +2213,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyEventSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyEventSubscriptionRequest, EventSubscription> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EventSubscription>() {
-                    @Override
-                    public EventSubscription call() throws Exception {
-                        EventSubscription result;
-
-                        try {
-                            result = modifyEventSubscription(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<EventSubscription> responseHandler = new StaxResponseHandler<EventSubscription>(
+                new EventSubscriptionStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyEventSubscriptionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3307,27 +2233,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ModifyOptionGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyOptionGroupRequest, OptionGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<OptionGroup>() {
-                    @Override
-                    public OptionGroup call() throws Exception {
-                        OptionGroup result;
+        StaxResponseHandler<OptionGroup> responseHandler = new StaxResponseHandler<OptionGroup>(
+                new OptionGroupStaxUnmarshaller());
 
-                        try {
-                            result = modifyOptionGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ModifyOptionGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3342,27 +2252,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final PromoteReadReplicaRequest request,
             final com.amazonaws.handlers.AsyncHandler<PromoteReadReplicaRequest, DBInstance> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBInstance>() {
-                    @Override
-                    public DBInstance call() throws Exception {
-                        DBInstance result;
-
-                        try {
-                            result = promoteReadReplica(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBInstance> responseHandler = new StaxResponseHandler<DBInstance>(
+                new DBInstanceStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new PromoteReadReplicaRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3377,27 +2271,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final PromoteReadReplicaDBClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<PromoteReadReplicaDBClusterRequest, DBCluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBCluster>() {
-                    @Override
-                    public DBCluster call() throws Exception {
-                        DBCluster result;
-
-                        try {
-                            result = promoteReadReplicaDBCluster(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBCluster> responseHandler = new StaxResponseHandler<DBCluster>(
+                new DBClusterStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new PromoteReadReplicaDBClusterRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3412,27 +2291,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final PurchaseReservedDBInstancesOfferingRequest request,
             final com.amazonaws.handlers.AsyncHandler<PurchaseReservedDBInstancesOfferingRequest, ReservedDBInstance> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReservedDBInstance>() {
-                    @Override
-                    public ReservedDBInstance call() throws Exception {
-                        ReservedDBInstance result;
+        StaxResponseHandler<ReservedDBInstance> responseHandler = new StaxResponseHandler<ReservedDBInstance>(
+                new ReservedDBInstanceStaxUnmarshaller());
 
-                        try {
-                            result = purchaseReservedDBInstancesOffering(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new PurchaseReservedDBInstancesOfferingRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3447,27 +2311,11 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final RebootDBInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RebootDBInstanceRequest, DBInstance> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBInstance>() {
-                    @Override
-                    public DBInstance call() throws Exception {
-                        DBInstance result;
-
-                        try {
-                            result = rebootDBInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBInstance> responseHandler = new StaxResponseHandler<DBInstance>(
+                new DBInstanceStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RebootDBInstanceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3482,27 +2330,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final RemoveSourceIdentifierFromSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveSourceIdentifierFromSubscriptionRequest, EventSubscription> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EventSubscription>() {
-                    @Override
-                    public EventSubscription call() throws Exception {
-                        EventSubscription result;
+        StaxResponseHandler<EventSubscription> responseHandler = new StaxResponseHandler<EventSubscription>(
+                new EventSubscriptionStaxUnmarshaller());
 
-                        try {
-                            result = removeSourceIdentifierFromSubscription(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RemoveSourceIdentifierFromSubscriptionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3517,27 +2350,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final RemoveTagsFromResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromResourceRequest, RemoveTagsFromResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveTagsFromResourceResult>() {
-                    @Override
-                    public RemoveTagsFromResourceResult call() throws Exception {
-                        RemoveTagsFromResourceResult result;
-
-                        try {
-                            result = removeTagsFromResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<RemoveTagsFromResourceResult> responseHandler = new StaxResponseHandler<RemoveTagsFromResourceResult>(
+                new RemoveTagsFromResourceResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RemoveTagsFromResourceRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -3552,28 +2370,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ResetDBClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetDBClusterParameterGroupRequest, ResetDBClusterParameterGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ResetDBClusterParameterGroupResult>() {
-                    @Override
-                    public ResetDBClusterParameterGroupResult call()
-                            throws Exception {
-                        ResetDBClusterParameterGroupResult result;
-
-                        try {
-                            result = resetDBClusterParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ResetDBClusterParameterGroupResult> responseHandler = new StaxResponseHandler<ResetDBClusterParameterGroupResult>(
+                new ResetDBClusterParameterGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ResetDBClusterParameterGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3588,27 +2390,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final ResetDBParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetDBParameterGroupRequest, ResetDBParameterGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ResetDBParameterGroupResult>() {
-                    @Override
-                    public ResetDBParameterGroupResult call() throws Exception {
-                        ResetDBParameterGroupResult result;
+        StaxResponseHandler<ResetDBParameterGroupResult> responseHandler = new StaxResponseHandler<ResetDBParameterGroupResult>(
+                new ResetDBParameterGroupResultStaxUnmarshaller());
 
-                        try {
-                            result = resetDBParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ResetDBParameterGroupRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -3623,27 +2410,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final RestoreDBClusterFromS3Request request,
             final com.amazonaws.handlers.AsyncHandler<RestoreDBClusterFromS3Request, DBCluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBCluster>() {
-                    @Override
-                    public DBCluster call() throws Exception {
-                        DBCluster result;
-
-                        try {
-                            result = restoreDBClusterFromS3(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBCluster> responseHandler = new StaxResponseHandler<DBCluster>(
+                new DBClusterStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RestoreDBClusterFromS3RequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -3658,27 +2430,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final RestoreDBClusterFromSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestoreDBClusterFromSnapshotRequest, DBCluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBCluster>() {
-                    @Override
-                    public DBCluster call() throws Exception {
-                        DBCluster result;
+        StaxResponseHandler<DBCluster> responseHandler = new StaxResponseHandler<DBCluster>(
+                new DBClusterStaxUnmarshaller());
 
-                        try {
-                            result = restoreDBClusterFromSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RestoreDBClusterFromSnapshotRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3693,27 +2450,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final RestoreDBClusterToPointInTimeRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestoreDBClusterToPointInTimeRequest, DBCluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBCluster>() {
-                    @Override
-                    public DBCluster call() throws Exception {
-                        DBCluster result;
-
-                        try {
-                            result = restoreDBClusterToPointInTime(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBCluster> responseHandler = new StaxResponseHandler<DBCluster>(
+                new DBClusterStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RestoreDBClusterToPointInTimeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3728,27 +2470,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final RestoreDBInstanceFromDBSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestoreDBInstanceFromDBSnapshotRequest, DBInstance> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBInstance>() {
-                    @Override
-                    public DBInstance call() throws Exception {
-                        DBInstance result;
-
-                        try {
-                            result = restoreDBInstanceFromDBSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DBInstance> responseHandler = new StaxResponseHandler<DBInstance>(
+                new DBInstanceStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RestoreDBInstanceFromDBSnapshotRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3763,27 +2490,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final RestoreDBInstanceToPointInTimeRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestoreDBInstanceToPointInTimeRequest, DBInstance> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBInstance>() {
-                    @Override
-                    public DBInstance call() throws Exception {
-                        DBInstance result;
+        StaxResponseHandler<DBInstance> responseHandler = new StaxResponseHandler<DBInstance>(
+                new DBInstanceStaxUnmarshaller());
 
-                        try {
-                            result = restoreDBInstanceToPointInTime(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RestoreDBInstanceToPointInTimeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -3798,27 +2510,12 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient implements
             final RevokeDBSecurityGroupIngressRequest request,
             final com.amazonaws.handlers.AsyncHandler<RevokeDBSecurityGroupIngressRequest, DBSecurityGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DBSecurityGroup>() {
-                    @Override
-                    public DBSecurityGroup call() throws Exception {
-                        DBSecurityGroup result;
-
-                        try {
-                            result = revokeDBSecurityGroupIngress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DBSecurityGroup> responseHandler = new StaxResponseHandler<DBSecurityGroup>(
+                new DBSecurityGroupStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new RevokeDBSecurityGroupIngressRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
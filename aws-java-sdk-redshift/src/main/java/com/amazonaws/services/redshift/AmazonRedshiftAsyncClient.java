@@ -15,6 +15,10 @@
 package com.amazonaws.services.redshift;
 
 import com.amazonaws.services.redshift.model.*;
+import com.amazonaws.services.redshift.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -312,27 +316,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final AuthorizeClusterSecurityGroupIngressRequest request,
             final com.amazonaws.handlers.AsyncHandler<AuthorizeClusterSecurityGroupIngressRequest, ClusterSecurityGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ClusterSecurityGroup>() {
-                    @Override
-                    public ClusterSecurityGroup call() throws Exception {
-                        ClusterSecurityGroup result;
+        StaxResponseHandler<ClusterSecurityGroup> responseHandler = new StaxResponseHandler<ClusterSecurityGroup>(
+                new ClusterSecurityGroupStaxUnmarshaller());
 
-                        try {
-                            result = authorizeClusterSecurityGroupIngress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AuthorizeClusterSecurityGroupIngressRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -347,27 +336,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final AuthorizeSnapshotAccessRequest request,
             final com.amazonaws.handlers.AsyncHandler<AuthorizeSnapshotAccessRequest, Snapshot> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Snapshot>() {
-                    @Override
-                    public Snapshot call() throws Exception {
-                        Snapshot result;
-
-                        try {
-                            result = authorizeSnapshotAccess(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<Snapshot> responseHandler = new StaxResponseHandler<Snapshot>(
+                new SnapshotStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AuthorizeSnapshotAccessRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -382,27 +356,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CopyClusterSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CopyClusterSnapshotRequest, Snapshot> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Snapshot>() {
-                    @Override
-                    public Snapshot call() throws Exception {
-                        Snapshot result;
+        StaxResponseHandler<Snapshot> responseHandler = new StaxResponseHandler<Snapshot>(
+                new SnapshotStaxUnmarshaller());
 
-                        try {
-                            result = copyClusterSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CopyClusterSnapshotRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -417,27 +375,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateClusterRequest, Cluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Cluster>() {
-                    @Override
-                    public Cluster call() throws Exception {
-                        Cluster result;
-
-                        try {
-                            result = createCluster(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                new ClusterStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateClusterRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -452,27 +394,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateClusterParameterGroupRequest, ClusterParameterGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ClusterParameterGroup>() {
-                    @Override
-                    public ClusterParameterGroup call() throws Exception {
-                        ClusterParameterGroup result;
+        StaxResponseHandler<ClusterParameterGroup> responseHandler = new StaxResponseHandler<ClusterParameterGroup>(
+                new ClusterParameterGroupStaxUnmarshaller());
 
-                        try {
-                            result = createClusterParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateClusterParameterGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -487,27 +414,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateClusterSecurityGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateClusterSecurityGroupRequest, ClusterSecurityGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ClusterSecurityGroup>() {
-                    @Override
-                    public ClusterSecurityGroup call() throws Exception {
-                        ClusterSecurityGroup result;
-
-                        try {
-                            result = createClusterSecurityGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ClusterSecurityGroup> responseHandler = new StaxResponseHandler<ClusterSecurityGroup>(
+                new ClusterSecurityGroupStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateClusterSecurityGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -522,27 +434,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateClusterSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateClusterSnapshotRequest, Snapshot> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Snapshot>() {
-                    @Override
-                    public Snapshot call() throws Exception {
-                        Snapshot result;
+        StaxResponseHandler<Snapshot> responseHandler = new StaxResponseHandler<Snapshot>(
+                new SnapshotStaxUnmarshaller());
 
-                        try {
-                            result = createClusterSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateClusterSnapshotRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -557,27 +454,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateClusterSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateClusterSubnetGroupRequest, ClusterSubnetGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ClusterSubnetGroup>() {
-                    @Override
-                    public ClusterSubnetGroup call() throws Exception {
-                        ClusterSubnetGroup result;
-
-                        try {
-                            result = createClusterSubnetGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ClusterSubnetGroup> responseHandler = new StaxResponseHandler<ClusterSubnetGroup>(
+                new ClusterSubnetGroupStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateClusterSubnetGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -592,27 +474,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateEventSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateEventSubscriptionRequest, EventSubscription> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EventSubscription>() {
-                    @Override
-                    public EventSubscription call() throws Exception {
-                        EventSubscription result;
+        StaxResponseHandler<EventSubscription> responseHandler = new StaxResponseHandler<EventSubscription>(
+                new EventSubscriptionStaxUnmarshaller());
 
-                        try {
-                            result = createEventSubscription(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateEventSubscriptionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -627,27 +494,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateHsmClientCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateHsmClientCertificateRequest, HsmClientCertificate> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<HsmClientCertificate>() {
-                    @Override
-                    public HsmClientCertificate call() throws Exception {
-                        HsmClientCertificate result;
-
-                        try {
-                            result = createHsmClientCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<HsmClientCertificate> responseHandler = new StaxResponseHandler<HsmClientCertificate>(
+                new HsmClientCertificateStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateHsmClientCertificateRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -662,27 +514,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateHsmConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateHsmConfigurationRequest, HsmConfiguration> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<HsmConfiguration>() {
-                    @Override
-                    public HsmConfiguration call() throws Exception {
-                        HsmConfiguration result;
+        StaxResponseHandler<HsmConfiguration> responseHandler = new StaxResponseHandler<HsmConfiguration>(
+                new HsmConfigurationStaxUnmarshaller());
 
-                        try {
-                            result = createHsmConfiguration(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateHsmConfigurationRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -697,27 +534,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateSnapshotCopyGrantRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSnapshotCopyGrantRequest, SnapshotCopyGrant> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SnapshotCopyGrant>() {
-                    @Override
-                    public SnapshotCopyGrant call() throws Exception {
-                        SnapshotCopyGrant result;
-
-                        try {
-                            result = createSnapshotCopyGrant(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<SnapshotCopyGrant> responseHandler = new StaxResponseHandler<SnapshotCopyGrant>(
+                new SnapshotCopyGrantStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateSnapshotCopyGrantRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -732,27 +554,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final CreateTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTagsRequest, CreateTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateTagsResult>() {
-                    @Override
-                    public CreateTagsResult call() throws Exception {
-                        CreateTagsResult result;
+        StaxResponseHandler<CreateTagsResult> responseHandler = new StaxResponseHandler<CreateTagsResult>(
+                new CreateTagsResultStaxUnmarshaller());
 
-                        try {
-                            result = createTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateTagsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -767,27 +573,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteClusterRequest, Cluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Cluster>() {
-                    @Override
-                    public Cluster call() throws Exception {
-                        Cluster result;
-
-                        try {
-                            result = deleteCluster(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                new ClusterStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteClusterRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -802,28 +592,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteClusterParameterGroupRequest, DeleteClusterParameterGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteClusterParameterGroupResult>() {
-                    @Override
-                    public DeleteClusterParameterGroupResult call()
-                            throws Exception {
-                        DeleteClusterParameterGroupResult result;
+        StaxResponseHandler<DeleteClusterParameterGroupResult> responseHandler = new StaxResponseHandler<DeleteClusterParameterGroupResult>(
+                new DeleteClusterParameterGroupResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteClusterParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteClusterParameterGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -838,28 +612,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteClusterSecurityGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteClusterSecurityGroupRequest, DeleteClusterSecurityGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteClusterSecurityGroupResult>() {
-                    @Override
-                    public DeleteClusterSecurityGroupResult call()
-                            throws Exception {
-                        DeleteClusterSecurityGroupResult result;
-
-                        try {
-                            result = deleteClusterSecurityGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteClusterSecurityGroupResult> responseHandler = new StaxResponseHandler<DeleteClusterSecurityGroupResult>(
+                new DeleteClusterSecurityGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteClusterSecurityGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -874,27 +632,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteClusterSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteClusterSnapshotRequest, Snapshot> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Snapshot>() {
-                    @Override
-                    public Snapshot call() throws Exception {
-                        Snapshot result;
+        StaxResponseHandler<Snapshot> responseHandler = new StaxResponseHandler<Snapshot>(
+                new SnapshotStaxUnmarshaller());
 
-                        try {
-                            result = deleteClusterSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteClusterSnapshotRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -909,28 +652,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteClusterSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteClusterSubnetGroupRequest, DeleteClusterSubnetGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteClusterSubnetGroupResult>() {
-                    @Override
-                    public DeleteClusterSubnetGroupResult call()
-                            throws Exception {
-                        DeleteClusterSubnetGroupResult result;
-
-                        try {
-                            result = deleteClusterSubnetGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteClusterSubnetGroupResult> responseHandler = new StaxResponseHandler<DeleteClusterSubnetGroupResult>(
+                new DeleteClusterSubnetGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteClusterSubnetGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -945,28 +672,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteEventSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteEventSubscriptionRequest, DeleteEventSubscriptionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteEventSubscriptionResult>() {
-                    @Override
-                    public DeleteEventSubscriptionResult call()
-                            throws Exception {
-                        DeleteEventSubscriptionResult result;
+        StaxResponseHandler<DeleteEventSubscriptionResult> responseHandler = new StaxResponseHandler<DeleteEventSubscriptionResult>(
+                new DeleteEventSubscriptionResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteEventSubscription(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteEventSubscriptionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -981,28 +692,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteHsmClientCertificateRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteHsmClientCertificateRequest, DeleteHsmClientCertificateResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteHsmClientCertificateResult>() {
-                    @Override
-                    public DeleteHsmClientCertificateResult call()
-                            throws Exception {
-                        DeleteHsmClientCertificateResult result;
-
-                        try {
-                            result = deleteHsmClientCertificate(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteHsmClientCertificateResult> responseHandler = new StaxResponseHandler<DeleteHsmClientCertificateResult>(
+                new DeleteHsmClientCertificateResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteHsmClientCertificateRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1017,27 +712,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteHsmConfigurationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteHsmConfigurationRequest, DeleteHsmConfigurationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteHsmConfigurationResult>() {
-                    @Override
-                    public DeleteHsmConfigurationResult call() throws Exception {
-                        DeleteHsmConfigurationResult result;
+        StaxResponseHandler<DeleteHsmConfigurationResult> responseHandler = new StaxResponseHandler<DeleteHsmConfigurationResult>(
+                new DeleteHsmConfigurationResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteHsmConfiguration(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteHsmConfigurationRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1052,28 +732,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteSnapshotCopyGrantRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSnapshotCopyGrantRequest, DeleteSnapshotCopyGrantResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteSnapshotCopyGrantResult>() {
-                    @Override
-                    public DeleteSnapshotCopyGrantResult call()
-                            throws Exception {
-                        DeleteSnapshotCopyGrantResult result;
-
-                        try {
-                            result = deleteSnapshotCopyGrant(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteSnapshotCopyGrantResult> responseHandler = new StaxResponseHandler<DeleteSnapshotCopyGrantResult>(
+                new DeleteSnapshotCopyGrantResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteSnapshotCopyGrantRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1088,27 +752,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DeleteTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTagsRequest, DeleteTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteTagsResult>() {
-                    @Override
-                    public DeleteTagsResult call() throws Exception {
-                        DeleteTagsResult result;
+        StaxResponseHandler<DeleteTagsResult> responseHandler = new StaxResponseHandler<DeleteTagsResult>(
+                new DeleteTagsResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteTagsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1123,28 +771,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeClusterParameterGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClusterParameterGroupsRequest, DescribeClusterParameterGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeClusterParameterGroupsResult>() {
-                    @Override
-                    public DescribeClusterParameterGroupsResult call()
-                            throws Exception {
-                        DescribeClusterParameterGroupsResult result;
-
-                        try {
-                            result = describeClusterParameterGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeClusterParameterGroupsResult> responseHandler = new StaxResponseHandler<DescribeClusterParameterGroupsResult>(
+                new DescribeClusterParameterGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeClusterParameterGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1185,28 +817,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeClusterParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClusterParametersRequest, DescribeClusterParametersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeClusterParametersResult>() {
-                    @Override
-                    public DescribeClusterParametersResult call()
-                            throws Exception {
-                        DescribeClusterParametersResult result;
+        StaxResponseHandler<DescribeClusterParametersResult> responseHandler = new StaxResponseHandler<DescribeClusterParametersResult>(
+                new DescribeClusterParametersResultStaxUnmarshaller());
 
-                        try {
-                            result = describeClusterParameters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeClusterParametersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1221,28 +837,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeClusterSecurityGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClusterSecurityGroupsRequest, DescribeClusterSecurityGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeClusterSecurityGroupsResult>() {
-                    @Override
-                    public DescribeClusterSecurityGroupsResult call()
-                            throws Exception {
-                        DescribeClusterSecurityGroupsResult result;
-
-                        try {
-                            result = describeClusterSecurityGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeClusterSecurityGroupsResult> responseHandler = new StaxResponseHandler<DescribeClusterSecurityGroupsResult>(
+                new DescribeClusterSecurityGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeClusterSecurityGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1283,28 +883,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeClusterSnapshotsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClusterSnapshotsRequest, DescribeClusterSnapshotsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeClusterSnapshotsResult>() {
-                    @Override
-                    public DescribeClusterSnapshotsResult call()
-                            throws Exception {
-                        DescribeClusterSnapshotsResult result;
-
-                        try {
-                            result = describeClusterSnapshots(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeClusterSnapshotsResult> responseHandler = new StaxResponseHandler<DescribeClusterSnapshotsResult>(
+                new DescribeClusterSnapshotsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeClusterSnapshotsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1345,28 +929,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeClusterSubnetGroupsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClusterSubnetGroupsRequest, DescribeClusterSubnetGroupsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeClusterSubnetGroupsResult>() {
-                    @Override
-                    public DescribeClusterSubnetGroupsResult call()
-                            throws Exception {
-                        DescribeClusterSubnetGroupsResult result;
-
-                        try {
-                            result = describeClusterSubnetGroups(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeClusterSubnetGroupsResult> responseHandler = new StaxResponseHandler<DescribeClusterSubnetGroupsResult>(
+                new DescribeClusterSubnetGroupsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeClusterSubnetGroupsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1407,28 +975,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeClusterVersionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClusterVersionsRequest, DescribeClusterVersionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeClusterVersionsResult>() {
-                    @Override
-                    public DescribeClusterVersionsResult call()
-                            throws Exception {
-                        DescribeClusterVersionsResult result;
-
-                        try {
-                            result = describeClusterVersions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeClusterVersionsResult> responseHandler = new StaxResponseHandler<DescribeClusterVersionsResult>(
+                new DescribeClusterVersionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeClusterVersionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1469,27 +1021,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeClustersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeClustersRequest, DescribeClustersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeClustersResult>() {
-                    @Override
-                    public DescribeClustersResult call() throws Exception {
-                        DescribeClustersResult result;
-
-                        try {
-                            result = describeClusters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeClustersResult> responseHandler = new StaxResponseHandler<DescribeClustersResult>(
+                new DescribeClustersResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeClustersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1529,27 +1065,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeDefaultClusterParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDefaultClusterParametersRequest, DefaultClusterParameters> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DefaultClusterParameters>() {
-                    @Override
-                    public DefaultClusterParameters call() throws Exception {
-                        DefaultClusterParameters result;
-
-                        try {
-                            result = describeDefaultClusterParameters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DefaultClusterParameters> responseHandler = new StaxResponseHandler<DefaultClusterParameters>(
+                new DefaultClusterParametersStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeDefaultClusterParametersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1564,28 +1085,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeEventCategoriesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventCategoriesRequest, DescribeEventCategoriesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEventCategoriesResult>() {
-                    @Override
-                    public DescribeEventCategoriesResult call()
-                            throws Exception {
-                        DescribeEventCategoriesResult result;
-
-                        try {
-                            result = describeEventCategories(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeEventCategoriesResult> responseHandler = new StaxResponseHandler<DescribeEventCategoriesResult>(
+                new DescribeEventCategoriesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeEventCategoriesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1626,28 +1131,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeEventSubscriptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventSubscriptionsRequest, DescribeEventSubscriptionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEventSubscriptionsResult>() {
-                    @Override
-                    public DescribeEventSubscriptionsResult call()
-                            throws Exception {
-                        DescribeEventSubscriptionsResult result;
-
-                        try {
-                            result = describeEventSubscriptions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeEventSubscriptionsResult> responseHandler = new StaxResponseHandler<DescribeEventSubscriptionsResult>(
+                new DescribeEventSubscriptionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeEventSubscriptionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1688,27 +1177,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeEventsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeEventsRequest, DescribeEventsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeEventsResult>() {
-                    @Override
-                    public DescribeEventsResult call() throws Exception {
-                        DescribeEventsResult result;
-
-                        try {
-                            result = describeEvents(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeEventsResult> responseHandler = new StaxResponseHandler<DescribeEventsResult>(
+                new DescribeEventsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeEventsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1747,28 +1220,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeHsmClientCertificatesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeHsmClientCertificatesRequest, DescribeHsmClientCertificatesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeHsmClientCertificatesResult>() {
-                    @Override
-                    public DescribeHsmClientCertificatesResult call()
-                            throws Exception {
-                        DescribeHsmClientCertificatesResult result;
-
-                        try {
-                            result = describeHsmClientCertificates(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeHsmClientCertificatesResult> responseHandler = new StaxResponseHandler<DescribeHsmClientCertificatesResult>(
+                new DescribeHsmClientCertificatesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeHsmClientCertificatesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1809,28 +1266,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeHsmConfigurationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeHsmConfigurationsRequest, DescribeHsmConfigurationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeHsmConfigurationsResult>() {
-                    @Override
-                    public DescribeHsmConfigurationsResult call()
-                            throws Exception {
-                        DescribeHsmConfigurationsResult result;
-
-                        try {
-                            result = describeHsmConfigurations(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeHsmConfigurationsResult> responseHandler = new StaxResponseHandler<DescribeHsmConfigurationsResult>(
+                new DescribeHsmConfigurationsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeHsmConfigurationsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1871,27 +1312,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeLoggingStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeLoggingStatusRequest, DescribeLoggingStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeLoggingStatusResult>() {
-                    @Override
-                    public DescribeLoggingStatusResult call() throws Exception {
-                        DescribeLoggingStatusResult result;
-
-                        try {
-                            result = describeLoggingStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeLoggingStatusResult> responseHandler = new StaxResponseHandler<DescribeLoggingStatusResult>(
+                new DescribeLoggingStatusResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeLoggingStatusRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1906,28 +1332,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeOrderableClusterOptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeOrderableClusterOptionsRequest, DescribeOrderableClusterOptionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeOrderableClusterOptionsResult>() {
-                    @Override
-                    public DescribeOrderableClusterOptionsResult call()
-                            throws Exception {
-                        DescribeOrderableClusterOptionsResult result;
-
-                        try {
-                            result = describeOrderableClusterOptions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeOrderableClusterOptionsResult> responseHandler = new StaxResponseHandler<DescribeOrderableClusterOptionsResult>(
+                new DescribeOrderableClusterOptionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeOrderableClusterOptionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1968,28 +1378,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeReservedNodeOfferingsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedNodeOfferingsRequest, DescribeReservedNodeOfferingsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeReservedNodeOfferingsResult>() {
-                    @Override
-                    public DescribeReservedNodeOfferingsResult call()
-                            throws Exception {
-                        DescribeReservedNodeOfferingsResult result;
-
-                        try {
-                            result = describeReservedNodeOfferings(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeReservedNodeOfferingsResult> responseHandler = new StaxResponseHandler<DescribeReservedNodeOfferingsResult>(
+                new DescribeReservedNodeOfferingsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeReservedNodeOfferingsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2030,27 +1424,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeReservedNodesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReservedNodesRequest, DescribeReservedNodesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeReservedNodesResult>() {
-                    @Override
-                    public DescribeReservedNodesResult call() throws Exception {
-                        DescribeReservedNodesResult result;
-
-                        try {
-                            result = describeReservedNodes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeReservedNodesResult> responseHandler = new StaxResponseHandler<DescribeReservedNodesResult>(
+                new DescribeReservedNodesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeReservedNodesRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -2090,27 +1469,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeResizeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeResizeRequest, DescribeResizeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeResizeResult>() {
-                    @Override
-                    public DescribeResizeResult call() throws Exception {
-                        DescribeResizeResult result;
-
-                        try {
-                            result = describeResize(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeResizeResult> responseHandler = new StaxResponseHandler<DescribeResizeResult>(
+                new DescribeResizeResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeResizeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2125,28 +1488,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeSnapshotCopyGrantsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSnapshotCopyGrantsRequest, DescribeSnapshotCopyGrantsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSnapshotCopyGrantsResult>() {
-                    @Override
-                    public DescribeSnapshotCopyGrantsResult call()
-                            throws Exception {
-                        DescribeSnapshotCopyGrantsResult result;
-
-                        try {
-                            result = describeSnapshotCopyGrants(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeSnapshotCopyGrantsResult> responseHandler = new StaxResponseHandler<DescribeSnapshotCopyGrantsResult>(
+                new DescribeSnapshotCopyGrantsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeSnapshotCopyGrantsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2187,28 +1534,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeTableRestoreStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTableRestoreStatusRequest, DescribeTableRestoreStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTableRestoreStatusResult>() {
-                    @Override
-                    public DescribeTableRestoreStatusResult call()
-                            throws Exception {
-                        DescribeTableRestoreStatusResult result;
-
-                        try {
-                            result = describeTableRestoreStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeTableRestoreStatusResult> responseHandler = new StaxResponseHandler<DescribeTableRestoreStatusResult>(
+                new DescribeTableRestoreStatusResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeTableRestoreStatusRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2249,27 +1580,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DescribeTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTagsResult>() {
-                    @Override
-                    public DescribeTagsResult call() throws Exception {
-                        DescribeTagsResult result;
-
-                        try {
-                            result = describeTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DescribeTagsResult> responseHandler = new StaxResponseHandler<DescribeTagsResult>(
+                new DescribeTagsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DescribeTagsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2308,27 +1623,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DisableLoggingRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableLoggingRequest, DisableLoggingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableLoggingResult>() {
-                    @Override
-                    public DisableLoggingResult call() throws Exception {
-                        DisableLoggingResult result;
-
-                        try {
-                            result = disableLogging(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DisableLoggingResult> responseHandler = new StaxResponseHandler<DisableLoggingResult>(
+                new DisableLoggingResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DisableLoggingRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2343,27 +1642,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final DisableSnapshotCopyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableSnapshotCopyRequest, Cluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Cluster>() {
-                    @Override
-                    public Cluster call() throws Exception {
-                        Cluster result;
+        StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                new ClusterStaxUnmarshaller());
 
-                        try {
-                            result = disableSnapshotCopy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DisableSnapshotCopyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2378,27 +1661,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final EnableLoggingRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableLoggingRequest, EnableLoggingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableLoggingResult>() {
-                    @Override
-                    public EnableLoggingResult call() throws Exception {
-                        EnableLoggingResult result;
-
-                        try {
-                            result = enableLogging(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<EnableLoggingResult> responseHandler = new StaxResponseHandler<EnableLoggingResult>(
+                new EnableLoggingResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new EnableLoggingRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2413,27 +1680,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final EnableSnapshotCopyRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableSnapshotCopyRequest, Cluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Cluster>() {
-                    @Override
-                    public Cluster call() throws Exception {
-                        Cluster result;
+        StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                new ClusterStaxUnmarshaller());
 
-                        try {
-                            result = enableSnapshotCopy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new EnableSnapshotCopyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2448,27 +1699,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final ModifyClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyClusterRequest, Cluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Cluster>() {
-                    @Override
-                    public Cluster call() throws Exception {
-                        Cluster result;
-
-                        try {
-                            result = modifyCluster(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                new ClusterStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ModifyClusterRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2483,27 +1718,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final ModifyClusterIamRolesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyClusterIamRolesRequest, Cluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Cluster>() {
-                    @Override
-                    public Cluster call() throws Exception {
-                        Cluster result;
+        StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                new ClusterStaxUnmarshaller());
 
-                        try {
-                            result = modifyClusterIamRoles(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyClusterIamRolesRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -2518,28 +1738,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final ModifyClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyClusterParameterGroupRequest, ModifyClusterParameterGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyClusterParameterGroupResult>() {
-                    @Override
-                    public ModifyClusterParameterGroupResult call()
-                            throws Exception {
-                        ModifyClusterParameterGroupResult result;
-
-                        try {
-                            result = modifyClusterParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ModifyClusterParameterGroupResult> responseHandler = new StaxResponseHandler<ModifyClusterParameterGroupResult>(
+                new ModifyClusterParameterGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyClusterParameterGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2554,27 +1758,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final ModifyClusterSubnetGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyClusterSubnetGroupRequest, ClusterSubnetGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ClusterSubnetGroup>() {
-                    @Override
-                    public ClusterSubnetGroup call() throws Exception {
-                        ClusterSubnetGroup result;
+        StaxResponseHandler<ClusterSubnetGroup> responseHandler = new StaxResponseHandler<ClusterSubnetGroup>(
+                new ClusterSubnetGroupStaxUnmarshaller());
 
-                        try {
-                            result = modifyClusterSubnetGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyClusterSubnetGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2589,27 +1778,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final ModifyEventSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyEventSubscriptionRequest, EventSubscription> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EventSubscription>() {
-                    @Override
-                    public EventSubscription call() throws Exception {
-                        EventSubscription result;
-
-                        try {
-                            result = modifyEventSubscription(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<EventSubscription> responseHandler = new StaxResponseHandler<EventSubscription>(
+                new EventSubscriptionStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifyEventSubscriptionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2624,27 +1798,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final ModifySnapshotCopyRetentionPeriodRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifySnapshotCopyRetentionPeriodRequest, Cluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Cluster>() {
-                    @Override
-                    public Cluster call() throws Exception {
-                        Cluster result;
+        StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                new ClusterStaxUnmarshaller());
 
-                        try {
-                            result = modifySnapshotCopyRetentionPeriod(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ModifySnapshotCopyRetentionPeriodRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2659,27 +1818,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final PurchaseReservedNodeOfferingRequest request,
             final com.amazonaws.handlers.AsyncHandler<PurchaseReservedNodeOfferingRequest, ReservedNode> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReservedNode>() {
-                    @Override
-                    public ReservedNode call() throws Exception {
-                        ReservedNode result;
-
-                        try {
-                            result = purchaseReservedNodeOffering(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ReservedNode> responseHandler = new StaxResponseHandler<ReservedNode>(
+                new ReservedNodeStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new PurchaseReservedNodeOfferingRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2694,27 +1838,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final RebootClusterRequest request,
             final com.amazonaws.handlers.AsyncHandler<RebootClusterRequest, Cluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Cluster>() {
-                    @Override
-                    public Cluster call() throws Exception {
-                        Cluster result;
+        StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                new ClusterStaxUnmarshaller());
 
-                        try {
-                            result = rebootCluster(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RebootClusterRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2729,28 +1857,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final ResetClusterParameterGroupRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetClusterParameterGroupRequest, ResetClusterParameterGroupResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ResetClusterParameterGroupResult>() {
-                    @Override
-                    public ResetClusterParameterGroupResult call()
-                            throws Exception {
-                        ResetClusterParameterGroupResult result;
-
-                        try {
-                            result = resetClusterParameterGroup(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ResetClusterParameterGroupResult> responseHandler = new StaxResponseHandler<ResetClusterParameterGroupResult>(
+                new ResetClusterParameterGroupResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ResetClusterParameterGroupRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2765,27 +1877,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final RestoreFromClusterSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestoreFromClusterSnapshotRequest, Cluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Cluster>() {
-                    @Override
-                    public Cluster call() throws Exception {
-                        Cluster result;
+        StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                new ClusterStaxUnmarshaller());
 
-                        try {
-                            result = restoreFromClusterSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RestoreFromClusterSnapshotRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2800,27 +1897,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final RestoreTableFromClusterSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<RestoreTableFromClusterSnapshotRequest, TableRestoreStatus> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<TableRestoreStatus>() {
-                    @Override
-                    public TableRestoreStatus call() throws Exception {
-                        TableRestoreStatus result;
-
-                        try {
-                            result = restoreTableFromClusterSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<TableRestoreStatus> responseHandler = new StaxResponseHandler<TableRestoreStatus>(
+                new TableRestoreStatusStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RestoreTableFromClusterSnapshotRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2835,27 +1917,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final RevokeClusterSecurityGroupIngressRequest request,
             final com.amazonaws.handlers.AsyncHandler<RevokeClusterSecurityGroupIngressRequest, ClusterSecurityGroup> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ClusterSecurityGroup>() {
-                    @Override
-                    public ClusterSecurityGroup call() throws Exception {
-                        ClusterSecurityGroup result;
+        StaxResponseHandler<ClusterSecurityGroup> responseHandler = new StaxResponseHandler<ClusterSecurityGroup>(
+                new ClusterSecurityGroupStaxUnmarshaller());
 
-                        try {
-                            result = revokeClusterSecurityGroupIngress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RevokeClusterSecurityGroupIngressRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2870,27 +1937,12 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final RevokeSnapshotAccessRequest request,
             final com.amazonaws.handlers.AsyncHandler<RevokeSnapshotAccessRequest, Snapshot> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Snapshot>() {
-                    @Override
-                    public Snapshot call() throws Exception {
-                        Snapshot result;
-
-                        try {
-                            result = revokeSnapshotAccess(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<Snapshot> responseHandler = new StaxResponseHandler<Snapshot>(
+                new SnapshotStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new RevokeSnapshotAccessRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -2905,27 +1957,11 @@ public class AmazonRedshiftAsyncClient extends AmazonRedshiftClient implements
             final RotateEncryptionKeyRequest request,
             final com.amazonaws.handlers.AsyncHandler<RotateEncryptionKeyRequest, Cluster> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Cluster>() {
-                    @Override
-                    public Cluster call() throws Exception {
-                        Cluster result;
-
-                        try {
-                            result = rotateEncryptionKey(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<Cluster> responseHandler = new StaxResponseHandler<Cluster>(
+                new ClusterStaxUnmarshaller());
+
+        return asyncInvoke(request, new RotateEncryptionKeyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
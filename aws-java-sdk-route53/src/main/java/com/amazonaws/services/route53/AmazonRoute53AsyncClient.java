@@ -15,6 +15,10 @@
 package com.amazonaws.services.route53;
 
 import com.amazonaws.services.route53.model.*;
+import com.amazonaws.services.route53.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -277,28 +281,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final AssociateVPCWithHostedZoneRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssociateVPCWithHostedZoneRequest, AssociateVPCWithHostedZoneResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AssociateVPCWithHostedZoneResult>() {
-                    @Override
-                    public AssociateVPCWithHostedZoneResult call()
-                            throws Exception {
-                        AssociateVPCWithHostedZoneResult result;
+        StaxResponseHandler<AssociateVPCWithHostedZoneResult> responseHandler = new StaxResponseHandler<AssociateVPCWithHostedZoneResult>(
+                new AssociateVPCWithHostedZoneResultStaxUnmarshaller());
 
-                        try {
-                            result = associateVPCWithHostedZone(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AssociateVPCWithHostedZoneRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -313,28 +301,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ChangeResourceRecordSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ChangeResourceRecordSetsRequest, ChangeResourceRecordSetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ChangeResourceRecordSetsResult>() {
-                    @Override
-                    public ChangeResourceRecordSetsResult call()
-                            throws Exception {
-                        ChangeResourceRecordSetsResult result;
-
-                        try {
-                            result = changeResourceRecordSets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ChangeResourceRecordSetsResult> responseHandler = new StaxResponseHandler<ChangeResourceRecordSetsResult>(
+                new ChangeResourceRecordSetsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ChangeResourceRecordSetsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -349,27 +321,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ChangeTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ChangeTagsForResourceRequest, ChangeTagsForResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ChangeTagsForResourceResult>() {
-                    @Override
-                    public ChangeTagsForResourceResult call() throws Exception {
-                        ChangeTagsForResourceResult result;
+        StaxResponseHandler<ChangeTagsForResourceResult> responseHandler = new StaxResponseHandler<ChangeTagsForResourceResult>(
+                new ChangeTagsForResourceResultStaxUnmarshaller());
 
-                        try {
-                            result = changeTagsForResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ChangeTagsForResourceRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -384,27 +341,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final CreateHealthCheckRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateHealthCheckRequest, CreateHealthCheckResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateHealthCheckResult>() {
-                    @Override
-                    public CreateHealthCheckResult call() throws Exception {
-                        CreateHealthCheckResult result;
-
-                        try {
-                            result = createHealthCheck(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateHealthCheckResult> responseHandler = new StaxResponseHandler<CreateHealthCheckResult>(
+                new CreateHealthCheckResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateHealthCheckRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -419,27 +360,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final CreateHostedZoneRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateHostedZoneRequest, CreateHostedZoneResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateHostedZoneResult>() {
-                    @Override
-                    public CreateHostedZoneResult call() throws Exception {
-                        CreateHostedZoneResult result;
+        StaxResponseHandler<CreateHostedZoneResult> responseHandler = new StaxResponseHandler<CreateHostedZoneResult>(
+                new CreateHostedZoneResultStaxUnmarshaller());
 
-                        try {
-                            result = createHostedZone(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateHostedZoneRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -454,28 +379,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final CreateReusableDelegationSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReusableDelegationSetRequest, CreateReusableDelegationSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateReusableDelegationSetResult>() {
-                    @Override
-                    public CreateReusableDelegationSetResult call()
-                            throws Exception {
-                        CreateReusableDelegationSetResult result;
-
-                        try {
-                            result = createReusableDelegationSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateReusableDelegationSetResult> responseHandler = new StaxResponseHandler<CreateReusableDelegationSetResult>(
+                new CreateReusableDelegationSetResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateReusableDelegationSetRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -490,27 +399,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final CreateTrafficPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTrafficPolicyRequest, CreateTrafficPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateTrafficPolicyResult>() {
-                    @Override
-                    public CreateTrafficPolicyResult call() throws Exception {
-                        CreateTrafficPolicyResult result;
-
-                        try {
-                            result = createTrafficPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateTrafficPolicyResult> responseHandler = new StaxResponseHandler<CreateTrafficPolicyResult>(
+                new CreateTrafficPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateTrafficPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -525,28 +418,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final CreateTrafficPolicyInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTrafficPolicyInstanceRequest, CreateTrafficPolicyInstanceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateTrafficPolicyInstanceResult>() {
-                    @Override
-                    public CreateTrafficPolicyInstanceResult call()
-                            throws Exception {
-                        CreateTrafficPolicyInstanceResult result;
+        StaxResponseHandler<CreateTrafficPolicyInstanceResult> responseHandler = new StaxResponseHandler<CreateTrafficPolicyInstanceResult>(
+                new CreateTrafficPolicyInstanceResultStaxUnmarshaller());
 
-                        try {
-                            result = createTrafficPolicyInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateTrafficPolicyInstanceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -561,28 +438,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final CreateTrafficPolicyVersionRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTrafficPolicyVersionRequest, CreateTrafficPolicyVersionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateTrafficPolicyVersionResult>() {
-                    @Override
-                    public CreateTrafficPolicyVersionResult call()
-                            throws Exception {
-                        CreateTrafficPolicyVersionResult result;
-
-                        try {
-                            result = createTrafficPolicyVersion(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateTrafficPolicyVersionResult> responseHandler = new StaxResponseHandler<CreateTrafficPolicyVersionResult>(
+                new CreateTrafficPolicyVersionResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateTrafficPolicyVersionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -597,27 +458,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final DeleteHealthCheckRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteHealthCheckRequest, DeleteHealthCheckResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteHealthCheckResult>() {
-                    @Override
-                    public DeleteHealthCheckResult call() throws Exception {
-                        DeleteHealthCheckResult result;
-
-                        try {
-                            result = deleteHealthCheck(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteHealthCheckResult> responseHandler = new StaxResponseHandler<DeleteHealthCheckResult>(
+                new DeleteHealthCheckResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteHealthCheckRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -632,27 +477,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final DeleteHostedZoneRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteHostedZoneRequest, DeleteHostedZoneResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteHostedZoneResult>() {
-                    @Override
-                    public DeleteHostedZoneResult call() throws Exception {
-                        DeleteHostedZoneResult result;
+        StaxResponseHandler<DeleteHostedZoneResult> responseHandler = new StaxResponseHandler<DeleteHostedZoneResult>(
+                new DeleteHostedZoneResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteHostedZone(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteHostedZoneRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -667,28 +496,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final DeleteReusableDelegationSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteReusableDelegationSetRequest, DeleteReusableDelegationSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteReusableDelegationSetResult>() {
-                    @Override
-                    public DeleteReusableDelegationSetResult call()
-                            throws Exception {
-                        DeleteReusableDelegationSetResult result;
-
-                        try {
-                            result = deleteReusableDelegationSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteReusableDelegationSetResult> responseHandler = new StaxResponseHandler<DeleteReusableDelegationSetResult>(
+                new DeleteReusableDelegationSetResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteReusableDelegationSetRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -703,27 +516,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final DeleteTrafficPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTrafficPolicyRequest, DeleteTrafficPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteTrafficPolicyResult>() {
-                    @Override
-                    public DeleteTrafficPolicyResult call() throws Exception {
-                        DeleteTrafficPolicyResult result;
-
-                        try {
-                            result = deleteTrafficPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteTrafficPolicyResult> responseHandler = new StaxResponseHandler<DeleteTrafficPolicyResult>(
+                new DeleteTrafficPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteTrafficPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -738,28 +535,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final DeleteTrafficPolicyInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTrafficPolicyInstanceRequest, DeleteTrafficPolicyInstanceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteTrafficPolicyInstanceResult>() {
-                    @Override
-                    public DeleteTrafficPolicyInstanceResult call()
-                            throws Exception {
-                        DeleteTrafficPolicyInstanceResult result;
+        StaxResponseHandler<DeleteTrafficPolicyInstanceResult> responseHandler = new StaxResponseHandler<DeleteTrafficPolicyInstanceResult>(
+                new DeleteTrafficPolicyInstanceResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteTrafficPolicyInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteTrafficPolicyInstanceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -774,28 +555,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final DisassociateVPCFromHostedZoneRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisassociateVPCFromHostedZoneRequest, DisassociateVPCFromHostedZoneResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisassociateVPCFromHostedZoneResult>() {
-                    @Override
-                    public DisassociateVPCFromHostedZoneResult call()
-                            throws Exception {
-                        DisassociateVPCFromHostedZoneResult result;
-
-                        try {
-                            result = disassociateVPCFromHostedZone(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DisassociateVPCFromHostedZoneResult> responseHandler = new StaxResponseHandler<DisassociateVPCFromHostedZoneResult>(
+                new DisassociateVPCFromHostedZoneResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DisassociateVPCFromHostedZoneRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -810,27 +575,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetChangeRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetChangeRequest, GetChangeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetChangeResult>() {
-                    @Override
-                    public GetChangeResult call() throws Exception {
-                        GetChangeResult result;
-
-                        try {
-                            result = getChange(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetChangeResult> responseHandler = new StaxResponseHandler<GetChangeResult>(
+                new GetChangeResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetChangeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -847,27 +596,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetChangeDetailsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetChangeDetailsRequest, GetChangeDetailsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetChangeDetailsResult>() {
-                    @Override
-                    public GetChangeDetailsResult call() throws Exception {
-                        GetChangeDetailsResult result;
+        StaxResponseHandler<GetChangeDetailsResult> responseHandler = new StaxResponseHandler<GetChangeDetailsResult>(
+                new GetChangeDetailsResultStaxUnmarshaller());
 
-                        try {
-                            result = getChangeDetails(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetChangeDetailsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -882,27 +615,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetCheckerIpRangesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCheckerIpRangesRequest, GetCheckerIpRangesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetCheckerIpRangesResult>() {
-                    @Override
-                    public GetCheckerIpRangesResult call() throws Exception {
-                        GetCheckerIpRangesResult result;
-
-                        try {
-                            result = getCheckerIpRanges(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetCheckerIpRangesResult> responseHandler = new StaxResponseHandler<GetCheckerIpRangesResult>(
+                new GetCheckerIpRangesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetCheckerIpRangesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -942,27 +659,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetGeoLocationRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetGeoLocationRequest, GetGeoLocationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetGeoLocationResult>() {
-                    @Override
-                    public GetGeoLocationResult call() throws Exception {
-                        GetGeoLocationResult result;
-
-                        try {
-                            result = getGeoLocation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetGeoLocationResult> responseHandler = new StaxResponseHandler<GetGeoLocationResult>(
+                new GetGeoLocationResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetGeoLocationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1001,27 +702,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetHealthCheckRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetHealthCheckRequest, GetHealthCheckResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetHealthCheckResult>() {
-                    @Override
-                    public GetHealthCheckResult call() throws Exception {
-                        GetHealthCheckResult result;
+        StaxResponseHandler<GetHealthCheckResult> responseHandler = new StaxResponseHandler<GetHealthCheckResult>(
+                new GetHealthCheckResultStaxUnmarshaller());
 
-                        try {
-                            result = getHealthCheck(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetHealthCheckRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1036,27 +721,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetHealthCheckCountRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetHealthCheckCountRequest, GetHealthCheckCountResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetHealthCheckCountResult>() {
-                    @Override
-                    public GetHealthCheckCountResult call() throws Exception {
-                        GetHealthCheckCountResult result;
-
-                        try {
-                            result = getHealthCheckCount(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetHealthCheckCountResult> responseHandler = new StaxResponseHandler<GetHealthCheckCountResult>(
+                new GetHealthCheckCountResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetHealthCheckCountRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1096,28 +765,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetHealthCheckLastFailureReasonRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetHealthCheckLastFailureReasonRequest, GetHealthCheckLastFailureReasonResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetHealthCheckLastFailureReasonResult>() {
-                    @Override
-                    public GetHealthCheckLastFailureReasonResult call()
-                            throws Exception {
-                        GetHealthCheckLastFailureReasonResult result;
-
-                        try {
-                            result = getHealthCheckLastFailureReason(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetHealthCheckLastFailureReasonResult> responseHandler = new StaxResponseHandler<GetHealthCheckLastFailureReasonResult>(
+                new GetHealthCheckLastFailureReasonResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetHealthCheckLastFailureReasonRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1132,27 +785,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetHealthCheckStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetHealthCheckStatusRequest, GetHealthCheckStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetHealthCheckStatusResult>() {
-                    @Override
-                    public GetHealthCheckStatusResult call() throws Exception {
-                        GetHealthCheckStatusResult result;
+        StaxResponseHandler<GetHealthCheckStatusResult> responseHandler = new StaxResponseHandler<GetHealthCheckStatusResult>(
+                new GetHealthCheckStatusResultStaxUnmarshaller());
 
-                        try {
-                            result = getHealthCheckStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetHealthCheckStatusRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1167,27 +805,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetHostedZoneRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetHostedZoneRequest, GetHostedZoneResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetHostedZoneResult>() {
-                    @Override
-                    public GetHostedZoneResult call() throws Exception {
-                        GetHostedZoneResult result;
-
-                        try {
-                            result = getHostedZone(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetHostedZoneResult> responseHandler = new StaxResponseHandler<GetHostedZoneResult>(
+                new GetHostedZoneResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetHostedZoneRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1202,27 +824,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetHostedZoneCountRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetHostedZoneCountRequest, GetHostedZoneCountResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetHostedZoneCountResult>() {
-                    @Override
-                    public GetHostedZoneCountResult call() throws Exception {
-                        GetHostedZoneCountResult result;
-
-                        try {
-                            result = getHostedZoneCount(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetHostedZoneCountResult> responseHandler = new StaxResponseHandler<GetHostedZoneCountResult>(
+                new GetHostedZoneCountResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetHostedZoneCountRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1262,28 +868,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetReusableDelegationSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetReusableDelegationSetRequest, GetReusableDelegationSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetReusableDelegationSetResult>() {
-                    @Override
-                    public GetReusableDelegationSetResult call()
-                            throws Exception {
-                        GetReusableDelegationSetResult result;
+        StaxResponseHandler<GetReusableDelegationSetResult> responseHandler = new StaxResponseHandler<GetReusableDelegationSetResult>(
+                new GetReusableDelegationSetResultStaxUnmarshaller());
 
-                        try {
-                            result = getReusableDelegationSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetReusableDelegationSetRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1298,27 +888,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetTrafficPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTrafficPolicyRequest, GetTrafficPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetTrafficPolicyResult>() {
-                    @Override
-                    public GetTrafficPolicyResult call() throws Exception {
-                        GetTrafficPolicyResult result;
-
-                        try {
-                            result = getTrafficPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetTrafficPolicyResult> responseHandler = new StaxResponseHandler<GetTrafficPolicyResult>(
+                new GetTrafficPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetTrafficPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1333,28 +907,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetTrafficPolicyInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTrafficPolicyInstanceRequest, GetTrafficPolicyInstanceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetTrafficPolicyInstanceResult>() {
-                    @Override
-                    public GetTrafficPolicyInstanceResult call()
-                            throws Exception {
-                        GetTrafficPolicyInstanceResult result;
-
-                        try {
-                            result = getTrafficPolicyInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetTrafficPolicyInstanceResult> responseHandler = new StaxResponseHandler<GetTrafficPolicyInstanceResult>(
+                new GetTrafficPolicyInstanceResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetTrafficPolicyInstanceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1369,28 +927,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final GetTrafficPolicyInstanceCountRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTrafficPolicyInstanceCountRequest, GetTrafficPolicyInstanceCountResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetTrafficPolicyInstanceCountResult>() {
-                    @Override
-                    public GetTrafficPolicyInstanceCountResult call()
-                            throws Exception {
-                        GetTrafficPolicyInstanceCountResult result;
-
-                        try {
-                            result = getTrafficPolicyInstanceCount(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetTrafficPolicyInstanceCountResult> responseHandler = new StaxResponseHandler<GetTrafficPolicyInstanceCountResult>(
+                new GetTrafficPolicyInstanceCountResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetTrafficPolicyInstanceCountRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1433,28 +975,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListChangeBatchesByHostedZoneRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListChangeBatchesByHostedZoneRequest, ListChangeBatchesByHostedZoneResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListChangeBatchesByHostedZoneResult>() {
-                    @Override
-                    public ListChangeBatchesByHostedZoneResult call()
-                            throws Exception {
-                        ListChangeBatchesByHostedZoneResult result;
-
-                        try {
-                            result = listChangeBatchesByHostedZone(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ListChangeBatchesByHostedZoneResult> responseHandler = new StaxResponseHandler<ListChangeBatchesByHostedZoneResult>(
+                new ListChangeBatchesByHostedZoneResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListChangeBatchesByHostedZoneRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1471,28 +997,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListChangeBatchesByRRSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListChangeBatchesByRRSetRequest, ListChangeBatchesByRRSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListChangeBatchesByRRSetResult>() {
-                    @Override
-                    public ListChangeBatchesByRRSetResult call()
-                            throws Exception {
-                        ListChangeBatchesByRRSetResult result;
-
-                        try {
-                            result = listChangeBatchesByRRSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ListChangeBatchesByRRSetResult> responseHandler = new StaxResponseHandler<ListChangeBatchesByRRSetResult>(
+                new ListChangeBatchesByRRSetResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListChangeBatchesByRRSetRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1507,27 +1017,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListGeoLocationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListGeoLocationsRequest, ListGeoLocationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListGeoLocationsResult>() {
-                    @Override
-                    public ListGeoLocationsResult call() throws Exception {
-                        ListGeoLocationsResult result;
-
-                        try {
-                            result = listGeoLocations(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListGeoLocationsResult> responseHandler = new StaxResponseHandler<ListGeoLocationsResult>(
+                new ListGeoLocationsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListGeoLocationsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1567,27 +1061,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListHealthChecksRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListHealthChecksRequest, ListHealthChecksResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListHealthChecksResult>() {
-                    @Override
-                    public ListHealthChecksResult call() throws Exception {
-                        ListHealthChecksResult result;
-
-                        try {
-                            result = listHealthChecks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListHealthChecksResult> responseHandler = new StaxResponseHandler<ListHealthChecksResult>(
+                new ListHealthChecksResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListHealthChecksRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1627,27 +1105,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListHostedZonesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListHostedZonesRequest, ListHostedZonesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListHostedZonesResult>() {
-                    @Override
-                    public ListHostedZonesResult call() throws Exception {
-                        ListHostedZonesResult result;
-
-                        try {
-                            result = listHostedZones(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListHostedZonesResult> responseHandler = new StaxResponseHandler<ListHostedZonesResult>(
+                new ListHostedZonesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListHostedZonesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1686,27 +1148,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListHostedZonesByNameRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListHostedZonesByNameRequest, ListHostedZonesByNameResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListHostedZonesByNameResult>() {
-                    @Override
-                    public ListHostedZonesByNameResult call() throws Exception {
-                        ListHostedZonesByNameResult result;
-
-                        try {
-                            result = listHostedZonesByName(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListHostedZonesByNameResult> responseHandler = new StaxResponseHandler<ListHostedZonesByNameResult>(
+                new ListHostedZonesByNameResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListHostedZonesByNameRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     /**
@@ -1746,27 +1193,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListResourceRecordSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListResourceRecordSetsRequest, ListResourceRecordSetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListResourceRecordSetsResult>() {
-                    @Override
-                    public ListResourceRecordSetsResult call() throws Exception {
-                        ListResourceRecordSetsResult result;
-
-                        try {
-                            result = listResourceRecordSets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ListResourceRecordSetsResult> responseHandler = new StaxResponseHandler<ListResourceRecordSetsResult>(
+                new ListResourceRecordSetsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListResourceRecordSetsRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1781,28 +1213,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListReusableDelegationSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListReusableDelegationSetsRequest, ListReusableDelegationSetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListReusableDelegationSetsResult>() {
-                    @Override
-                    public ListReusableDelegationSetsResult call()
-                            throws Exception {
-                        ListReusableDelegationSetsResult result;
-
-                        try {
-                            result = listReusableDelegationSets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListReusableDelegationSetsResult> responseHandler = new StaxResponseHandler<ListReusableDelegationSetsResult>(
+                new ListReusableDelegationSetsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListReusableDelegationSetsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1843,27 +1259,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
-                    @Override
-                    public ListTagsForResourceResult call() throws Exception {
-                        ListTagsForResourceResult result;
+        StaxResponseHandler<ListTagsForResourceResult> responseHandler = new StaxResponseHandler<ListTagsForResourceResult>(
+                new ListTagsForResourceResultStaxUnmarshaller());
 
-                        try {
-                            result = listTagsForResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListTagsForResourceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1878,27 +1278,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListTagsForResourcesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourcesRequest, ListTagsForResourcesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTagsForResourcesResult>() {
-                    @Override
-                    public ListTagsForResourcesResult call() throws Exception {
-                        ListTagsForResourcesResult result;
-
-                        try {
-                            result = listTagsForResources(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ListTagsForResourcesResult> responseHandler = new StaxResponseHandler<ListTagsForResourcesResult>(
+                new ListTagsForResourcesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListTagsForResourcesRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1913,27 +1298,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListTrafficPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTrafficPoliciesRequest, ListTrafficPoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTrafficPoliciesResult>() {
-                    @Override
-                    public ListTrafficPoliciesResult call() throws Exception {
-                        ListTrafficPoliciesResult result;
-
-                        try {
-                            result = listTrafficPolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListTrafficPoliciesResult> responseHandler = new StaxResponseHandler<ListTrafficPoliciesResult>(
+                new ListTrafficPoliciesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListTrafficPoliciesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1973,28 +1342,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListTrafficPolicyInstancesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTrafficPolicyInstancesRequest, ListTrafficPolicyInstancesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTrafficPolicyInstancesResult>() {
-                    @Override
-                    public ListTrafficPolicyInstancesResult call()
-                            throws Exception {
-                        ListTrafficPolicyInstancesResult result;
-
-                        try {
-                            result = listTrafficPolicyInstances(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListTrafficPolicyInstancesResult> responseHandler = new StaxResponseHandler<ListTrafficPolicyInstancesResult>(
+                new ListTrafficPolicyInstancesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListTrafficPolicyInstancesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -2035,28 +1388,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListTrafficPolicyInstancesByHostedZoneRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTrafficPolicyInstancesByHostedZoneRequest, ListTrafficPolicyInstancesByHostedZoneResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTrafficPolicyInstancesByHostedZoneResult>() {
-                    @Override
-                    public ListTrafficPolicyInstancesByHostedZoneResult call()
-                            throws Exception {
-                        ListTrafficPolicyInstancesByHostedZoneResult result;
-
-                        try {
-                            result = listTrafficPolicyInstancesByHostedZone(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ListTrafficPolicyInstancesByHostedZoneResult> responseHandler = new StaxResponseHandler<ListTrafficPolicyInstancesByHostedZoneResult>(
+                new ListTrafficPolicyInstancesByHostedZoneResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListTrafficPolicyInstancesByHostedZoneRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2071,28 +1408,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListTrafficPolicyInstancesByPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTrafficPolicyInstancesByPolicyRequest, ListTrafficPolicyInstancesByPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTrafficPolicyInstancesByPolicyResult>() {
-                    @Override
-                    public ListTrafficPolicyInstancesByPolicyResult call()
-                            throws Exception {
-                        ListTrafficPolicyInstancesByPolicyResult result;
-
-                        try {
-                            result = listTrafficPolicyInstancesByPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ListTrafficPolicyInstancesByPolicyResult> responseHandler = new StaxResponseHandler<ListTrafficPolicyInstancesByPolicyResult>(
+                new ListTrafficPolicyInstancesByPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListTrafficPolicyInstancesByPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2107,28 +1428,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final ListTrafficPolicyVersionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTrafficPolicyVersionsRequest, ListTrafficPolicyVersionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTrafficPolicyVersionsResult>() {
-                    @Override
-                    public ListTrafficPolicyVersionsResult call()
-                            throws Exception {
-                        ListTrafficPolicyVersionsResult result;
+        StaxResponseHandler<ListTrafficPolicyVersionsResult> responseHandler = new StaxResponseHandler<ListTrafficPolicyVersionsResult>(
+                new ListTrafficPolicyVersionsResultStaxUnmarshaller());
 
-                        try {
-                            result = listTrafficPolicyVersions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListTrafficPolicyVersionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2143,27 +1448,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final TestDNSAnswerRequest request,
             final com.amazonaws.handlers.AsyncHandler<TestDNSAnswerRequest, TestDNSAnswerResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<TestDNSAnswerResult>() {
-                    @Override
-                    public TestDNSAnswerResult call() throws Exception {
-                        TestDNSAnswerResult result;
-
-                        try {
-                            result = testDNSAnswer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<TestDNSAnswerResult> responseHandler = new StaxResponseHandler<TestDNSAnswerResult>(
+                new TestDNSAnswerResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new TestDNSAnswerRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2178,27 +1467,11 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final UpdateHealthCheckRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateHealthCheckRequest, UpdateHealthCheckResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateHealthCheckResult>() {
-                    @Override
-                    public UpdateHealthCheckResult call() throws Exception {
-                        UpdateHealthCheckResult result;
-
-                        try {
-                            result = updateHealthCheck(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<UpdateHealthCheckResult> responseHandler = new StaxResponseHandler<UpdateHealthCheckResult>(
+                new UpdateHealthCheckResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateHealthCheckRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2213,28 +1486,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final UpdateHostedZoneCommentRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateHostedZoneCommentRequest, UpdateHostedZoneCommentResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateHostedZoneCommentResult>() {
-                    @Override
-                    public UpdateHostedZoneCommentResult call()
-                            throws Exception {
-                        UpdateHostedZoneCommentResult result;
+        StaxResponseHandler<UpdateHostedZoneCommentResult> responseHandler = new StaxResponseHandler<UpdateHostedZoneCommentResult>(
+                new UpdateHostedZoneCommentResultStaxUnmarshaller());
 
-                        try {
-                            result = updateHostedZoneComment(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UpdateHostedZoneCommentRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2249,28 +1506,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final UpdateTrafficPolicyCommentRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateTrafficPolicyCommentRequest, UpdateTrafficPolicyCommentResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateTrafficPolicyCommentResult>() {
-                    @Override
-                    public UpdateTrafficPolicyCommentResult call()
-                            throws Exception {
-                        UpdateTrafficPolicyCommentResult result;
-
-                        try {
-                            result = updateTrafficPolicyComment(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<UpdateTrafficPolicyCommentResult> responseHandler = new StaxResponseHandler<UpdateTrafficPolicyCommentResult>(
+                new UpdateTrafficPolicyCommentResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UpdateTrafficPolicyCommentRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2285,28 +1526,12 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client implements
             final UpdateTrafficPolicyInstanceRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateTrafficPolicyInstanceRequest, UpdateTrafficPolicyInstanceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateTrafficPolicyInstanceResult>() {
-                    @Override
-                    public UpdateTrafficPolicyInstanceResult call()
-                            throws Exception {
-                        UpdateTrafficPolicyInstanceResult result;
-
-                        try {
-                            result = updateTrafficPolicyInstance(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<UpdateTrafficPolicyInstanceResult> responseHandler = new StaxResponseHandler<UpdateTrafficPolicyInstanceResult>(
+                new UpdateTrafficPolicyInstanceResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new UpdateTrafficPolicyInstanceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
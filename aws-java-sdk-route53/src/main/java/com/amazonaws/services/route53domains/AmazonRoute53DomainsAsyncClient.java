@@ -15,6 +15,10 @@
 package com.amazonaws.services.route53domains;
 
 import com.amazonaws.services.route53domains.model.*;
+import com.amazonaws.services.route53domains.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -278,28 +282,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final CheckDomainAvailabilityRequest request,
             final com.amazonaws.handlers.AsyncHandler<CheckDomainAvailabilityRequest, CheckDomainAvailabilityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CheckDomainAvailabilityResult>() {
-                    @Override
-                    public CheckDomainAvailabilityResult call()
-                            throws Exception {
-                        CheckDomainAvailabilityResult result;
-
-                        try {
-                            result = checkDomainAvailability(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CheckDomainAvailabilityResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CheckDomainAvailabilityResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new CheckDomainAvailabilityRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -314,27 +305,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final DeleteTagsForDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTagsForDomainRequest, DeleteTagsForDomainResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteTagsForDomainResult>() {
-                    @Override
-                    public DeleteTagsForDomainResult call() throws Exception {
-                        DeleteTagsForDomainResult result;
-
-                        try {
-                            result = deleteTagsForDomain(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteTagsForDomainResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteTagsForDomainResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DeleteTagsForDomainRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -349,27 +328,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final DisableDomainAutoRenewRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableDomainAutoRenewRequest, DisableDomainAutoRenewResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableDomainAutoRenewResult>() {
-                    @Override
-                    public DisableDomainAutoRenewResult call() throws Exception {
-                        DisableDomainAutoRenewResult result;
-
-                        try {
-                            result = disableDomainAutoRenew(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DisableDomainAutoRenewResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DisableDomainAutoRenewResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DisableDomainAutoRenewRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -384,28 +351,16 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final DisableDomainTransferLockRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableDomainTransferLockRequest, DisableDomainTransferLockResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableDomainTransferLockResult>() {
-                    @Override
-                    public DisableDomainTransferLockResult call()
-                            throws Exception {
-                        DisableDomainTransferLockResult result;
-
-                        try {
-                            result = disableDomainTransferLock(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DisableDomainTransferLockResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DisableDomainTransferLockResultJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new DisableDomainTransferLockRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -420,27 +375,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final EnableDomainAutoRenewRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableDomainAutoRenewRequest, EnableDomainAutoRenewResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableDomainAutoRenewResult>() {
-                    @Override
-                    public EnableDomainAutoRenewResult call() throws Exception {
-                        EnableDomainAutoRenewResult result;
-
-                        try {
-                            result = enableDomainAutoRenew(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<EnableDomainAutoRenewResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new EnableDomainAutoRenewResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new EnableDomainAutoRenewRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -455,28 +398,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final EnableDomainTransferLockRequest request,
             final com.amazonaws.handlers.AsyncHandler<EnableDomainTransferLockRequest, EnableDomainTransferLockResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<EnableDomainTransferLockResult>() {
-                    @Override
-                    public EnableDomainTransferLockResult call()
-                            throws Exception {
-                        EnableDomainTransferLockResult result;
-
-                        try {
-                            result = enableDomainTransferLock(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<EnableDomainTransferLockResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new EnableDomainTransferLockResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new EnableDomainTransferLockRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -491,28 +421,16 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final GetContactReachabilityStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetContactReachabilityStatusRequest, GetContactReachabilityStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetContactReachabilityStatusResult>() {
-                    @Override
-                    public GetContactReachabilityStatusResult call()
-                            throws Exception {
-                        GetContactReachabilityStatusResult result;
-
-                        try {
-                            result = getContactReachabilityStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetContactReachabilityStatusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetContactReachabilityStatusResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetContactReachabilityStatusRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -527,27 +445,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final GetDomainDetailRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDomainDetailRequest, GetDomainDetailResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDomainDetailResult>() {
-                    @Override
-                    public GetDomainDetailResult call() throws Exception {
-                        GetDomainDetailResult result;
-
-                        try {
-                            result = getDomainDetail(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetDomainDetailResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDomainDetailResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetDomainDetailRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -562,27 +468,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final GetDomainSuggestionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetDomainSuggestionsRequest, GetDomainSuggestionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetDomainSuggestionsResult>() {
-                    @Override
-                    public GetDomainSuggestionsResult call() throws Exception {
-                        GetDomainSuggestionsResult result;
-
-                        try {
-                            result = getDomainSuggestions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetDomainSuggestionsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetDomainSuggestionsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetDomainSuggestionsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -597,27 +491,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final GetOperationDetailRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetOperationDetailRequest, GetOperationDetailResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetOperationDetailResult>() {
-                    @Override
-                    public GetOperationDetailResult call() throws Exception {
-                        GetOperationDetailResult result;
-
-                        try {
-                            result = getOperationDetail(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetOperationDetailResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetOperationDetailResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetOperationDetailRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -632,27 +514,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final ListDomainsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDomainsRequest, ListDomainsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListDomainsResult>() {
-                    @Override
-                    public ListDomainsResult call() throws Exception {
-                        ListDomainsResult result;
-
-                        try {
-                            result = listDomains(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListDomainsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListDomainsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListDomainsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -691,27 +561,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final ListOperationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListOperationsRequest, ListOperationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListOperationsResult>() {
-                    @Override
-                    public ListOperationsResult call() throws Exception {
-                        ListOperationsResult result;
-
-                        try {
-                            result = listOperations(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListOperationsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListOperationsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListOperationsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -750,27 +608,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final ListTagsForDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForDomainRequest, ListTagsForDomainResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTagsForDomainResult>() {
-                    @Override
-                    public ListTagsForDomainResult call() throws Exception {
-                        ListTagsForDomainResult result;
-
-                        try {
-                            result = listTagsForDomain(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListTagsForDomainResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTagsForDomainResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListTagsForDomainRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -785,27 +631,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final RegisterDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterDomainRequest, RegisterDomainResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RegisterDomainResult>() {
-                    @Override
-                    public RegisterDomainResult call() throws Exception {
-                        RegisterDomainResult result;
-
-                        try {
-                            result = registerDomain(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<RegisterDomainResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RegisterDomainResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new RegisterDomainRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -820,27 +654,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final RenewDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<RenewDomainRequest, RenewDomainResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RenewDomainResult>() {
-                    @Override
-                    public RenewDomainResult call() throws Exception {
-                        RenewDomainResult result;
-
-                        try {
-                            result = renewDomain(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<RenewDomainResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RenewDomainResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new RenewDomainRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -855,28 +677,16 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final ResendContactReachabilityEmailRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResendContactReachabilityEmailRequest, ResendContactReachabilityEmailResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ResendContactReachabilityEmailResult>() {
-                    @Override
-                    public ResendContactReachabilityEmailResult call()
-                            throws Exception {
-                        ResendContactReachabilityEmailResult result;
-
-                        try {
-                            result = resendContactReachabilityEmail(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ResendContactReachabilityEmailResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ResendContactReachabilityEmailResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new ResendContactReachabilityEmailRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -891,27 +701,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final RetrieveDomainAuthCodeRequest request,
             final com.amazonaws.handlers.AsyncHandler<RetrieveDomainAuthCodeRequest, RetrieveDomainAuthCodeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RetrieveDomainAuthCodeResult>() {
-                    @Override
-                    public RetrieveDomainAuthCodeResult call() throws Exception {
-                        RetrieveDomainAuthCodeResult result;
-
-                        try {
-                            result = retrieveDomainAuthCode(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<RetrieveDomainAuthCodeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RetrieveDomainAuthCodeResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new RetrieveDomainAuthCodeRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -926,27 +724,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final TransferDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<TransferDomainRequest, TransferDomainResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<TransferDomainResult>() {
-                    @Override
-                    public TransferDomainResult call() throws Exception {
-                        TransferDomainResult result;
-
-                        try {
-                            result = transferDomain(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<TransferDomainResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new TransferDomainResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new TransferDomainRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -961,27 +747,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final UpdateDomainContactRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDomainContactRequest, UpdateDomainContactResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateDomainContactResult>() {
-                    @Override
-                    public UpdateDomainContactResult call() throws Exception {
-                        UpdateDomainContactResult result;
-
-                        try {
-                            result = updateDomainContact(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateDomainContactResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateDomainContactResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateDomainContactRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -996,28 +770,16 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final UpdateDomainContactPrivacyRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDomainContactPrivacyRequest, UpdateDomainContactPrivacyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateDomainContactPrivacyResult>() {
-                    @Override
-                    public UpdateDomainContactPrivacyResult call()
-                            throws Exception {
-                        UpdateDomainContactPrivacyResult result;
-
-                        try {
-                            result = updateDomainContactPrivacy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateDomainContactPrivacyResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateDomainContactPrivacyResultJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new UpdateDomainContactPrivacyRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1032,28 +794,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final UpdateDomainNameserversRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateDomainNameserversRequest, UpdateDomainNameserversResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateDomainNameserversResult>() {
-                    @Override
-                    public UpdateDomainNameserversResult call()
-                            throws Exception {
-                        UpdateDomainNameserversResult result;
-
-                        try {
-                            result = updateDomainNameservers(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateDomainNameserversResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateDomainNameserversResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new UpdateDomainNameserversRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1068,27 +817,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final UpdateTagsForDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateTagsForDomainRequest, UpdateTagsForDomainResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateTagsForDomainResult>() {
-                    @Override
-                    public UpdateTagsForDomainResult call() throws Exception {
-                        UpdateTagsForDomainResult result;
-
-                        try {
-                            result = updateTagsForDomain(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateTagsForDomainResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateTagsForDomainResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateTagsForDomainRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1103,27 +840,15 @@ public class AmazonRoute53DomainsAsyncClient extends AmazonRoute53DomainsClient
             final ViewBillingRequest request,
             final com.amazonaws.handlers.AsyncHandler<ViewBillingRequest, ViewBillingResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ViewBillingResult>() {
-                    @Override
-                    public ViewBillingResult call() throws Exception {
-                        ViewBillingResult result;
-
-                        try {
-                            result = viewBilling(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ViewBillingResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ViewBillingResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ViewBillingRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -86,6 +86,13 @@ public abstract class AbstractAmazonS3 implements AmazonS3 {
 
     }
 
+    @Override
+    public ObjectListing listObjects(ListObjectsRequest listObjectsRequest,
+            S3ObjectSummaryListener objectSummaryListener)
+            throws AmazonClientException, AmazonServiceException {
+        throw new UnsupportedOperationException("Extend AbstractAmazonS3 to provide an implementation");
+    }
+
     @Override
     public ListObjectsV2Result listObjectsV2(String bucketName)
             throws AmazonClientException, AmazonServiceException {
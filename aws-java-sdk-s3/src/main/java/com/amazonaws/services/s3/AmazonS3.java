@@ -359,6 +359,46 @@ public interface AmazonS3 extends S3DirectSpi {
     public ObjectListing listObjects(ListObjectsRequest listObjectsRequest)
             throws AmazonClientException, AmazonServiceException;
 
+    /**
+     * <p>
+     * Returns a page of the objects in the specified bucket, like
+     * {@link #listObjects(ListObjectsRequest)}, but hands each object summary
+     * to the given listener as soon as it is parsed from the response instead
+     * of collecting it into the returned <code>ObjectListing</code>. This
+     * keeps memory use per page constant regardless of the number of keys
+     * returned, which is useful when walking very large buckets.
+     * </p>
+     * <p>
+     * The returned listing carries all the other information of the page,
+     * such as {@link ObjectListing#isTruncated()}, the next marker and the
+     * common prefixes, so it can be passed to
+     * {@link #listNextBatchOfObjects(ObjectListing)} as usual. Its list of
+     * object summaries is always empty.
+     * </p>
+     *
+     * @param listObjectsRequest
+     *            The request object containing all options for listing the
+     *            objects in a specified bucket.
+     * @param objectSummaryListener
+     *            The listener to receive each object summary of the page, in
+     *            listing order.
+     *
+     * @return The listing of the page, without object summaries.
+     *
+     * @throws AmazonClientException
+     *             If any errors are encountered in the client while making the
+     *             request or handling the response.
+     * @throws AmazonServiceException
+     *             If any errors occurred in Amazon S3 while processing the
+     *             request.
+     *
+     * @see AmazonS3#listObjects(ListObjectsRequest)
+     * @see com.amazonaws.services.s3.iterable.S3Objects#forEachObjectSummary(S3ObjectSummaryListener)
+     */
+    public ObjectListing listObjects(ListObjectsRequest listObjectsRequest,
+            S3ObjectSummaryListener objectSummaryListener)
+            throws AmazonClientException, AmazonServiceException;
+
     public ListObjectsV2Result listObjectsV2(String bucketName) throws AmazonClientException,
             AmazonServiceException;
 
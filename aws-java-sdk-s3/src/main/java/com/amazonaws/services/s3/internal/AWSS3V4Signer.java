@@ -73,11 +73,13 @@ public class AWSS3V4Signer extends AWS4Signer {
 
     /**
      * Returns the pre-defined header value and set other necessary headers if
-     * the request needs to be chunk-encoded. Otherwise calls the superclass
-     * method which calculates the hash of the whole content for signing.
+     * the request needs to be chunk-encoded. Otherwise uses the hash of the
+     * whole content that the caller already put in the "x-amz-content-sha256"
+     * header, or calls the superclass method which calculates it.
      */
     @Override
     protected String calculateContentHash(SignableRequest<?> request) {
+        final String precomputedHash = getPrecomputedContentHash(request);
         // To be consistent with other service clients using sig-v4,
         // we just set the header as "required", and AWS4Signer.sign() will be
         // notified to pick up the header value returned by this method.
@@ -114,6 +116,8 @@ public class AWSS3V4Signer extends AWS4Signer {
                         AwsChunkedEncodingInputStream
                                 .calculateStreamContentLength(originalContentLength)));
                 return CONTENT_SHA_256;
+            } else if (precomputedHash != null) {
+                return precomputedHash;
             } else {
                 return super.calculateContentHash(request);
             }
@@ -20,6 +20,7 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.S3ObjectSummaryListener;
 
 /**
  * Provides an easy way to iterate Amazon S3 objects in a "foreach" statement.
@@ -34,6 +35,10 @@ import com.amazonaws.services.s3.model.S3ObjectSummary;
  * The list of {@link S3ObjectSummary}s will be fetched lazily, a page at a
  * time, as they are needed. The size of the page can be controlled with the
  * {@link S3Objects#withBatchSize(int)} method.
+ * <p>
+ * For very large buckets, {@link #forEachObjectSummary(S3ObjectSummaryListener)}
+ * hands each summary to a listener as it is parsed, so that no page of
+ * summaries is ever held in memory.
  */
 public class S3Objects implements Iterable<S3ObjectSummary> {
 
@@ -154,4 +159,28 @@ public class S3Objects implements Iterable<S3ObjectSummary> {
         return new S3ObjectIterator();
     }
 
+    /**
+     * Lists all the objects, a page at a time, handing each object summary to
+     * the given listener as soon as it is parsed from the response rather than
+     * collecting the page first. Returns once the last page has been read.
+     *
+     * @param listener
+     *            The listener to receive every object summary, in listing
+     *            order.
+     *
+     * @see AmazonS3#listObjects(ListObjectsRequest, S3ObjectSummaryListener)
+     */
+    public void forEachObjectSummary(S3ObjectSummaryListener listener) {
+        ListObjectsRequest req = new ListObjectsRequest();
+        req.setBucketName(getBucketName());
+        req.setPrefix(getPrefix());
+        req.setMaxKeys(getBatchSize());
+        ObjectListing listing = getS3().listObjects(req, listener);
+
+        while (listing.isTruncated()) {
+            req.setMarker(listing.getNextMarker());
+            listing = getS3().listObjects(req, listener);
+        }
+    }
+
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.model;
+
+/**
+ * Receives the object summaries of a listing one at a time, as they are parsed
+ * from the response, instead of having them collected into an
+ * {@link ObjectListing}.
+ *
+ * @see com.amazonaws.services.s3.AmazonS3#listObjects(ListObjectsRequest, S3ObjectSummaryListener)
+ */
+public interface S3ObjectSummaryListener {
+
+    /**
+     * Called for each object summary of a listing, in listing order, on the
+     * thread that made the list request.
+     * <p>
+     * If reading a listing page fails part way and the request is retried,
+     * the summaries already delivered from that page are skipped, so each
+     * summary is delivered at most once per page.
+     *
+     * @param objectSummary
+     *            The next object summary of the listing.
+     */
+    void objectSummaryReceived(S3ObjectSummary objectSummary);
+}
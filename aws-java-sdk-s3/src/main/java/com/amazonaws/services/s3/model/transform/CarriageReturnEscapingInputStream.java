@@ -0,0 +1,117 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.model.transform;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.amazonaws.util.StringUtils;
+
+/**
+ * Replaces every carriage return (\r) byte in the wrapped UTF-8 XML document
+ * with the explicit character entity "&amp;#013;" as the document is read,
+ * to prevent the SAX parser from normalizing 0x0D characters in key names
+ * into 0x0A. Since 0x0D never occurs inside a multi-byte UTF-8 sequence the
+ * replacement can be done on the raw bytes, without decoding or buffering the
+ * whole document.
+ */
+class CarriageReturnEscapingInputStream extends FilterInputStream {
+
+    private static final byte[] ESCAPED_CARRIAGE_RETURN = "&#013;".getBytes(StringUtils.UTF8);
+
+    private final byte[] buffer = new byte[8192];
+    private final byte[] single = new byte[1];
+    private int position;
+    private int limit;
+
+    /** The next byte of the escape sequence to emit; or -1 if none is pending. */
+    private int escapeIndex = -1;
+
+    CarriageReturnEscapingInputStream(InputStream in) {
+        super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+        int read = read(single, 0, 1);
+        return read == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        int count = 0;
+        while (count < len) {
+            if (escapeIndex >= 0) {
+                b[off + count++] = ESCAPED_CARRIAGE_RETURN[escapeIndex++];
+                if (escapeIndex == ESCAPED_CARRIAGE_RETURN.length) {
+                    escapeIndex = -1;
+                }
+                continue;
+            }
+            if (position == limit) {
+                if (count > 0) {
+                    // Return what we have rather than block for more input
+                    break;
+                }
+                int read = in.read(buffer, 0, buffer.length);
+                if (read == -1) {
+                    return -1;
+                }
+                position = 0;
+                limit = read;
+                continue;
+            }
+            byte next = buffer[position++];
+            if (next == '\r') {
+                escapeIndex = 0;
+            } else {
+                b[off + count++] = next;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && read() != -1) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (limit - position) + (escapeIndex >= 0 ? ESCAPED_CARRIAGE_RETURN.length - escapeIndex : 0);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+}
@@ -58,14 +58,61 @@ public class Unmarshallers {
             Unmarshaller<ObjectListing, InputStream> {
 
         private final boolean shouldSDKDecodeResponse;
+        private final S3ObjectSummaryListener objectSummaryListener;
+
+        /**
+         * The number of object summaries already handed to the listener, and
+         * the key of the last of them, by earlier attempts of the request.
+         */
+        private int deliveredCount;
+        private String lastDeliveredKey;
 
         public ListObjectsUnmarshaller(final boolean shouldSDKDecodeResponse) {
+            this(shouldSDKDecodeResponse, null);
+        }
+
+        /**
+         * @param objectSummaryListener
+         *            If not null, receives each object summary as it is
+         *            parsed instead of it being added to the returned listing.
+         *            The same unmarshaller is used for every attempt of a
+         *            request, so that summaries already delivered by a
+         *            failed attempt are not delivered again by its retry.
+         */
+        public ListObjectsUnmarshaller(final boolean shouldSDKDecodeResponse,
+                final S3ObjectSummaryListener objectSummaryListener) {
             this.shouldSDKDecodeResponse = shouldSDKDecodeResponse;
+            this.objectSummaryListener = objectSummaryListener;
         }
 
         public ObjectListing unmarshall(InputStream in) throws Exception {
             return new XmlResponsesSaxParser()
-                    .parseListBucketObjectsResponse(in, shouldSDKDecodeResponse).getObjectListing();
+                    .parseListBucketObjectsResponse(in, shouldSDKDecodeResponse,
+                            objectSummaryListener == null ? null : new RetryAwareListener())
+                    .getObjectListing();
+        }
+
+        /**
+         * Forwards the summaries of one attempt to the listener, skipping
+         * those at the start of the page that an earlier attempt already
+         * delivered: at most as many as were delivered, and no further than
+         * the last delivered key.
+         */
+        private final class RetryAwareListener implements S3ObjectSummaryListener {
+            private int toSkip = deliveredCount;
+
+            public void objectSummaryReceived(S3ObjectSummary objectSummary) {
+                if (toSkip > 0) {
+                    toSkip--;
+                    if (objectSummary.getKey() != null && objectSummary.getKey().equals(lastDeliveredKey)) {
+                        toSkip = 0;
+                    }
+                    return;
+                }
+                objectSummaryListener.objectSummaryReceived(objectSummary);
+                deliveredCount++;
+                lastDeliveredKey = objectSummary.getKey();
+            }
         }
     }
 
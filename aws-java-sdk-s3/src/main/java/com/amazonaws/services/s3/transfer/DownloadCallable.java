@@ -47,6 +47,7 @@ import com.amazonaws.services.s3.transfer.internal.AbstractTransfer;
 import com.amazonaws.services.s3.transfer.internal.DownloadImpl;
 import com.amazonaws.services.s3.transfer.internal.DownloadMonitor;
 import com.amazonaws.services.s3.transfer.internal.DownloadPartCallable;
+import com.amazonaws.services.s3.transfer.internal.DownloadRangeCallable;
 import com.amazonaws.util.IOUtils;
 
 @SdkInternalApi
@@ -65,7 +66,12 @@ final class DownloadCallable implements Callable<File> {
     /** The thread pool in which parts are downloaded downloaded. */
     private final ExecutorService executor;
     private final List<Future<File>> futureFiles;
+    private final List<Future<Long>> futureRanges;
     private final boolean isDownloadParallel;
+    /** The size of each range for ranged downloads; zero or less if the download is not ranged. */
+    private final long downloadRangeSize;
+    /** The ranges of a ranged download which are writing to dstfile. */
+    private final DownloadRangeCallable.RangeWriters rangeWriters = new DownloadRangeCallable.RangeWriters();
     private Integer lastFullyMergedPartNumber;
     private final boolean resumeOnRetry;
 
@@ -77,7 +83,8 @@ final class DownloadCallable implements Callable<File> {
             long expectedFileLength, long timeout,
             ScheduledExecutorService timedExecutor,
             ExecutorService executor,
-            Integer lastFullyDownloadedPartNumber, boolean isDownloadParallel, boolean resumeOnRetry)
+            Integer lastFullyDownloadedPartNumber, boolean isDownloadParallel, boolean resumeOnRetry,
+            long downloadRangeSize)
     {
         if (s3 == null || latch == null || req == null || dstfile == null || download == null)
             throw new IllegalArgumentException();
@@ -93,9 +100,11 @@ final class DownloadCallable implements Callable<File> {
         this.timedExecutor = timedExecutor;
         this.executor = executor;
         this.futureFiles = new ArrayList<Future<File>>();
+        this.futureRanges = new ArrayList<Future<Long>>();
         this.lastFullyMergedPartNumber = lastFullyDownloadedPartNumber;
         this.isDownloadParallel = isDownloadParallel;
         this.resumeOnRetry = resumeOnRetry;
+        this.downloadRangeSize = downloadRangeSize;
     }
 
     /**
@@ -127,7 +136,10 @@ final class DownloadCallable implements Callable<File> {
 
             download.setState(TransferState.InProgress);
 
-            if (isDownloadParallel) {
+            if (isDownloadRanged()) {
+                downloadInRanges(download.getObjectMetadata().getContentLength());
+                download.setState(TransferState.Completed);
+            } else if (isDownloadParallel) {
                 downloadInParallel(ServiceUtils.getPartCount(req, s3));
                 download.setState(TransferState.Completed);
             } else {
@@ -141,6 +153,15 @@ final class DownloadCallable implements Callable<File> {
             for (Future<File> f : futureFiles) {
                 f.cancel(true);
             }
+            for (Future<Long> f : futureRanges) {
+                f.cancel(true);
+            }
+            if (isDownloadRanged()) {
+                // Cancelling doesn't wait for the running ranges, which could
+                // otherwise write past the truncated length
+                rangeWriters.closeAndAwait();
+                truncateToCompletedRanges();
+            }
             // Downloads aren't allowed to move from canceled to failed
             if (download.getState() != TransferState.Canceled) {
                 download.setState(TransferState.Failed);
@@ -176,23 +197,115 @@ final class DownloadCallable implements Callable<File> {
         }
 
         for (int i = lastFullyMergedPartNumber + 1; i <= partCount; i++) {
-            GetObjectRequest getPartRequest = new GetObjectRequest(req.getBucketName(), req.getKey(),
-                    req.getVersionId()).withUnmodifiedSinceConstraint(req.getUnmodifiedSinceConstraint())
-                            .withModifiedSinceConstraint(req.getModifiedSinceConstraint())
-                            .withResponseHeaders(req.getResponseHeaders()).withSSECustomerKey(req.getSSECustomerKey())
-                            .withGeneralProgressListener(req.getGeneralProgressListener());
-
-            getPartRequest.setMatchingETagConstraints(req.getMatchingETagConstraints());
-            getPartRequest.setNonmatchingETagConstraints(req.getNonmatchingETagConstraints());
-            getPartRequest.setRequesterPays(req.isRequesterPays());
-
             futureFiles.add(
-                    executor.submit(new DownloadPartCallable(s3, getPartRequest.withPartNumber(i), dstfile.getName())));
+                    executor.submit(new DownloadPartCallable(s3, copyRequest().withPartNumber(i), dstfile.getName())));
         }
 
         combineFiles();
     }
 
+    /**
+     * Downloads the object as ranged GETs of {@link #downloadRangeSize} bytes,
+     * each written concurrently to its own offset of the preallocated
+     * dstFile. No temporary files are created and no merge pass is needed.
+     */
+    private void downloadInRanges(long objectLength) throws Exception {
+        preallocateDestinationFile(objectLength);
+
+        // Unless a specific version is requested, pin every range to the
+        // ETag of the object the download started with, so that an object
+        // overwritten mid-download fails the download instead of silently
+        // mixing the contents of two versions.
+        String eTag = req.getVersionId() == null ? download.getObjectMetadata().getETag() : null;
+
+        for (long start = 0; start < objectLength; start += downloadRangeSize) {
+            long end = Math.min(start + downloadRangeSize, objectLength) - 1;
+            GetObjectRequest rangeRequest = copyRequest().withRange(start, end);
+            if (eTag != null) {
+                rangeRequest.setMatchingETagConstraints(Arrays.asList(eTag));
+            }
+            futureRanges.add(executor.submit(
+                    new DownloadRangeCallable(s3, rangeRequest, dstfile, start, rangeWriters)));
+        }
+
+        for (Future<Long> f : futureRanges) {
+            f.get();
+        }
+    }
+
+    /**
+     * Returns a new request for the same object as the original request,
+     * carrying over its constraints, encryption key and progress listener, to
+     * be used for fetching a single part or range.
+     */
+    private GetObjectRequest copyRequest() {
+        GetObjectRequest copy = new GetObjectRequest(req.getBucketName(), req.getKey(),
+                req.getVersionId()).withUnmodifiedSinceConstraint(req.getUnmodifiedSinceConstraint())
+                        .withModifiedSinceConstraint(req.getModifiedSinceConstraint())
+                        .withResponseHeaders(req.getResponseHeaders()).withSSECustomerKey(req.getSSECustomerKey())
+                        .withGeneralProgressListener(req.getGeneralProgressListener());
+
+        copy.setMatchingETagConstraints(req.getMatchingETagConstraints());
+        copy.setNonmatchingETagConstraints(req.getNonmatchingETagConstraints());
+        copy.setRequesterPays(req.isRequesterPays());
+        return copy;
+    }
+
+    /**
+     * Creates the dstFile, if necessary, and sets its length to the length of
+     * the object so that ranges can be written at their offsets.
+     */
+    private void preallocateDestinationFile(long objectLength) {
+        File parentDirectory = dstfile.getParentFile();
+        if (parentDirectory != null && !parentDirectory.exists() && !parentDirectory.mkdirs()) {
+            throw new AmazonClientException(
+                    "Unable to create directory in the path" + parentDirectory.getAbsolutePath());
+        }
+
+        resizeDestinationFile(objectLength);
+    }
+
+    /**
+     * If a ranged download fails or is paused, shrinks the dstFile to the
+     * ranges that were completely downloaded from the start of the object, so
+     * that a resumed download can append to it like a serial download.
+     */
+    private void truncateToCompletedRanges() {
+        long completedLength = 0;
+        for (Future<Long> f : futureRanges) {
+            if (!f.isDone() || f.isCancelled()) {
+                break;
+            }
+            try {
+                completedLength += f.get();
+            } catch (Exception e) {
+                break;
+            }
+        }
+        try {
+            resizeDestinationFile(completedLength);
+        } catch (Exception e) {
+            LOG.warn("Unable to truncate " + dstfile + " after failed ranged download", e);
+        }
+    }
+
+    private void resizeDestinationFile(long length) {
+        RandomAccessFile raf = null;
+        if (!FileLocks.lock(dstfile)) {
+            throw new FileLockException("Fail to lock " + dstfile);
+        }
+
+        try {
+            raf = new RandomAccessFile(dstfile, "rw");
+            raf.setLength(length);
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to set the length of " + dstfile + ": " + e.getMessage(), e);
+        } finally {
+            IOUtils.closeQuietly(raf, LOG);
+            FileLocks.unlock(dstfile);
+        }
+    }
+
     /**
      * Merges all the individual part Files into dstFile
      */
@@ -325,6 +438,10 @@ final class DownloadCallable implements Callable<File> {
         }
     }
 
+    private boolean isDownloadRanged() {
+        return downloadRangeSize > 0;
+    }
+
     private boolean isTimeoutEnabled() {
         return timeout > 0;
     }
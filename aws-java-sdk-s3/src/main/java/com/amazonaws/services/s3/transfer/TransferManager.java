@@ -1035,8 +1035,14 @@ public class TransferManager {
         }
 
         final long origStartingByte = startingByte;
-        final boolean isDownloadParallel = TransferManagerUtils.isDownloadParallelizable(s3, getObjectRequest,
-                ServiceUtils.getPartCount(getObjectRequest, s3));
+        // Ranged downloads write straight into the preallocated file, so they
+        // take precedence over the part based parallel download when enabled.
+        final boolean isDownloadRanged = !resumeExistingDownload
+                && TransferManagerUtils.isDownloadRangeable(s3, getObjectRequest,
+                        objectMetadata.getContentLength(), configuration.getDownloadRangeSize());
+        final boolean isDownloadParallel = !isDownloadRanged
+                && TransferManagerUtils.isDownloadParallelizable(s3, getObjectRequest,
+                        ServiceUtils.getPartCount(getObjectRequest, s3));
         // We still pass the unfiltered listener chain into DownloadImpl
         final DownloadImpl download = new DownloadImpl(description, transferProgress, listenerChain, null,
                 stateListener, getObjectRequest, file, objectMetadata, isDownloadParallel);
@@ -1086,7 +1092,8 @@ public class TransferManager {
             new DownloadCallable(s3, latch,
                 getObjectRequest, resumeExistingDownload,
                 download, file, origStartingByte, fileLength, timeoutMillis, timedThreadPool,
-                executorService, lastFullyDownloadedPart, isDownloadParallel, resumeOnRetry));
+                executorService, lastFullyDownloadedPart, isDownloadParallel, resumeOnRetry,
+                isDownloadRanged ? configuration.getDownloadRangeSize() : 0L));
         download.setMonitor(new DownloadMonitor(download, future));
         latch.countDown();
         return download;
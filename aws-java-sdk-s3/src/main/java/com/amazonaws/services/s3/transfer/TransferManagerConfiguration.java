@@ -83,6 +83,15 @@ public class TransferManagerConfiguration {
      */
     private long multipartCopyPartSize = DEFAULT_MINIMUM_COPY_PART_SIZE;
 
+    /**
+     * The size in bytes of each byte range when a download is split into
+     * ranged GET requests. Objects larger than this size are downloaded in
+     * parallel ranges written directly into the destination file, regardless
+     * of how the object was uploaded. A value of zero or less disables ranged
+     * downloads.
+     */
+    private long downloadRangeSize;
+
     /**
      * Returns the minimum part size for upload parts.
      * Decreasing the minimum part size causes
@@ -199,6 +208,33 @@ public class TransferManagerConfiguration {
         this.multipartCopyThreshold = multipartCopyThreshold;
     }
 
+    /**
+     * Returns the size in bytes of each byte range when a download is split
+     * into ranged GET requests, or zero if ranged downloads are disabled.
+     *
+     * @return The size in bytes of each range of a ranged download.
+     */
+    public long getDownloadRangeSize() {
+        return downloadRangeSize;
+    }
+
+    /**
+     * Sets the size in bytes of each byte range when a download is split into
+     * ranged GET requests. When set, objects larger than this size are
+     * downloaded as parallel ranged GETs, each written straight to its offset
+     * in the preallocated destination file, so no temporary part files are
+     * merged afterwards. This works for any object, not only those uploaded
+     * with multipart upload. Encrypted downloads, requests that already carry
+     * a range or part number, and resumed downloads are not split.
+     *
+     * @param downloadRangeSize
+     *            The size in bytes of each range, or zero to disable ranged
+     *            downloads.
+     */
+    public void setDownloadRangeSize(long downloadRangeSize) {
+        this.downloadRangeSize = downloadRangeSize;
+    }
+
     /**
      * Sets the size threshold in bytes for when to use multipart uploads.
      * Uploads over this size will automatically use a multipart upload
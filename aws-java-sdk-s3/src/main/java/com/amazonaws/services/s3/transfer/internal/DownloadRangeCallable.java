@@ -0,0 +1,209 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AbortedException;
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.util.IOUtils;
+
+/**
+ * Helper class to get a byte range of an object from s3 and write it directly
+ * at the matching offset of an already preallocated destination file, using
+ * positional {@link FileChannel} writes. Since every range owns a disjoint
+ * region of the file, ranges can be written concurrently and in any order,
+ * and no merge pass is needed once all ranges complete.
+ * <p>
+ * Returns the number of bytes written, which is always the length of the
+ * requested range.
+ * <p>
+ * Cancelling the future of a range does not wait for it to stop writing. The
+ * ranges of one download therefore share a {@link RangeWriters}, which the
+ * download closes before it resizes the file.
+ */
+public class DownloadRangeCallable implements Callable<Long> {
+    private static final Log LOG = LogFactory.getLog(DownloadRangeCallable.class);
+
+    private static final int BUFFER_SIZE = 128 * 1024;
+
+    private final AmazonS3 s3;
+    private final GetObjectRequest getRangeRequest;
+    private final File destinationFile;
+    private final long position;
+    private final RangeWriters writers;
+    /** The content of the range being downloaded, if any. */
+    private volatile S3ObjectInputStream content;
+
+    /**
+     * @param s3 The s3 client used to download the range
+     * @param getRangeRequest The request for the range; must carry a range
+     * @param destinationFile The preallocated file to write the range into
+     * @param position The offset in the file at which the range starts
+     * @param writers The writers of all the ranges of the download
+     */
+    public DownloadRangeCallable(AmazonS3 s3, GetObjectRequest getRangeRequest, File destinationFile,
+            long position, RangeWriters writers) {
+        this.s3 = s3;
+        this.getRangeRequest = getRangeRequest;
+        this.destinationFile = destinationFile;
+        this.position = position;
+        this.writers = writers;
+    }
+
+    public Long call() throws Exception {
+        if (!writers.enter(this)) {
+            throw new AbortedException("The download of range " + rangeToString() + " was cancelled");
+        }
+        try {
+            return downloadRange();
+        } catch (AmazonClientException ace) {
+            if (!ace.isRetryable() || Thread.currentThread().isInterrupted() || writers.isClosed()) {
+                throw ace;
+            }
+            // Positional writes make the range idempotent, so a failure while
+            // streaming the content can simply be retried from the start of
+            // the range without touching the rest of the file.
+            LOG.info("Retry the download of range " + rangeToString() + " of object "
+                    + getRangeRequest.getKey() + " (bucket " + getRangeRequest.getBucketName() + ")", ace);
+            return downloadRange();
+        } finally {
+            writers.exit(this);
+        }
+    }
+
+    private long downloadRange() {
+        final S3Object s3Object = s3.getObject(getRangeRequest);
+        if (s3Object == null) {
+            throw new AmazonClientException(
+                    "There is no object in S3 satisfying this request. The getObject method returned null");
+        }
+
+        final InputStream content = this.content = s3Object.getObjectContent();
+        RandomAccessFile raf = null;
+        try {
+            raf = new RandomAccessFile(destinationFile, "rw");
+            final FileChannel channel = raf.getChannel();
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            final ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+            long offset = position;
+            int bytesRead;
+            while ((bytesRead = content.read(buffer)) > -1) {
+                if (Thread.currentThread().isInterrupted() || writers.isClosed()) {
+                    s3Object.getObjectContent().abort();
+                    throw new AbortedException("The download of range " + rangeToString() + " was cancelled");
+                }
+                byteBuffer.clear().limit(bytesRead);
+                while (byteBuffer.hasRemaining()) {
+                    offset += channel.write(byteBuffer, offset);
+                }
+            }
+            final long bytesWritten = offset - position;
+            final long[] range = getRangeRequest.getRange();
+            if (range != null && bytesWritten != range[1] - range[0] + 1) {
+                // A short read leaves stale bytes of the preallocated file in
+                // place of the missing content; fail (retryably) instead.
+                throw new AmazonClientException("Wrote " + bytesWritten + " bytes for range "
+                        + rangeToString() + " of object " + getRangeRequest.getKey() + ", expected "
+                        + (range[1] - range[0] + 1));
+            }
+            return bytesWritten;
+        } catch (IOException e) {
+            s3Object.getObjectContent().abort();
+            throw new AmazonClientException("Unable to store range " + rangeToString()
+                    + " of object contents to disk: " + e.getMessage(), e);
+        } finally {
+            this.content = null;
+            IOUtils.closeQuietly(raf, LOG);
+            IOUtils.closeQuietly(content, LOG);
+        }
+    }
+
+    private void abort() {
+        final S3ObjectInputStream content = this.content;
+        if (content != null) {
+            content.abort();
+        }
+    }
+
+    private String rangeToString() {
+        long[] range = getRangeRequest.getRange();
+        return range == null ? "[]" : "[" + range[0] + ", " + range[1] + "]";
+    }
+
+    /**
+     * The range callables of one download which are writing to its file.
+     */
+    public static final class RangeWriters {
+        private final Set<DownloadRangeCallable> running = new HashSet<DownloadRangeCallable>();
+        private boolean closed;
+
+        private synchronized boolean enter(DownloadRangeCallable writer) {
+            if (closed) {
+                return false;
+            }
+            running.add(writer);
+            return true;
+        }
+
+        private synchronized void exit(DownloadRangeCallable writer) {
+            running.remove(writer);
+            notifyAll();
+        }
+
+        private synchronized boolean isClosed() {
+            return closed;
+        }
+
+        /**
+         * Stops the ranges that have not started yet from writing, aborts
+         * the content streams of the running ones and waits for them to
+         * return. Waits even if the current thread is interrupted, since the
+         * download is usually being cancelled at this point.
+         */
+        public synchronized void closeAndAwait() {
+            closed = true;
+            for (DownloadRangeCallable writer : running) {
+                writer.abort();
+            }
+            boolean interrupted = false;
+            while (!running.isEmpty()) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -57,15 +57,16 @@ public class S3ProgressPublisher extends SDKProgressPublisher {
             }
         }
 
-        // Not safe to call the listener directly; so submit an async task.
+        // Not safe to call the listener directly; so dispatch an async task,
+        // in order with the progress events delivered to the same listener.
         // This is unfortunate as the listener should never block in the first
         // place, but such task submission is necessary to remain backward
         // compatible.
-        return setLatestFutureTask(getExecutorService().submit(new Runnable() {
+        return deliverTask(listener, new Runnable() {
             @Override public void run() {
                 listener.onPersistableTransfer(persistableTransfer);
             }
-        }));
+        });
     }
 
     private static Future<?> quietlyCallListener(
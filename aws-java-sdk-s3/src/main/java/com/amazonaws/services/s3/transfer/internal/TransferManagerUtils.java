@@ -210,4 +210,27 @@ public class TransferManagerUtils {
         }
         return true;
     }
+
+    /**
+     * Returns true if the specified download request can be split into byte
+     * ranges of the given size and downloaded in parallel into a
+     * preallocated file. This is independent of how the object was uploaded.
+     *
+     * @param s3 The s3 client used for the download
+     * @param getObjectRequest The request to check
+     * @param objectLength The length in bytes of the object to download
+     * @param rangeSize The configured range size; zero or less disables
+     *            ranged downloads
+     */
+    public static boolean isDownloadRangeable(final AmazonS3 s3, final GetObjectRequest getObjectRequest,
+            long objectLength, long rangeSize) {
+        ValidationUtils.assertNotNull(s3, "S3 client");
+        ValidationUtils.assertNotNull(getObjectRequest, "GetObjectRequest");
+
+        if (rangeSize <= 0 || objectLength <= rangeSize || s3 instanceof AmazonS3Encryption
+                || getObjectRequest.getRange() != null || getObjectRequest.getPartNumber() != null) {
+            return false;
+        }
+        return true;
+    }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+import org.junit.Test;
+
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.auth.BasicAWSCredentials;
+
+public class AWSS3V4SignerTest {
+
+    private static final String CONTENT_SHA256 = "x-amz-content-sha256";
+
+    private static final String PRECOMPUTED_HASH = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    @Test
+    public void precomputedContentHashIsSignedWithoutReadingThePayload() {
+        DefaultRequest<Void> request = request(new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("The payload should not be read");
+            }
+        });
+        request.addHeader(CONTENT_SHA256, PRECOMPUTED_HASH);
+
+        signer().sign(request, new BasicAWSCredentials("access", "secret"));
+
+        assertEquals(PRECOMPUTED_HASH, request.getHeaders().get(CONTENT_SHA256));
+    }
+
+    @Test
+    public void payloadIsHashedWithoutAPrecomputedContentHash() {
+        DefaultRequest<Void> request = request(new ByteArrayInputStream("payload".getBytes()));
+
+        signer().sign(request, new BasicAWSCredentials("access", "secret"));
+
+        assertEquals("239f59ed55e737c77147cf55ad0c1b030b6d7ee748a7426952f9b852d5a935e5",
+                request.getHeaders().get(CONTENT_SHA256));
+    }
+
+    private static AWSS3V4Signer signer() {
+        AWSS3V4Signer signer = new AWSS3V4Signer();
+        signer.setServiceName("s3");
+        signer.setRegionName("us-east-1");
+        return signer;
+    }
+
+    private static DefaultRequest<Void> request(InputStream content) {
+        // Payloads sent over plain HTTP are always signed
+        DefaultRequest<Void> request = new DefaultRequest<Void>("Amazon S3");
+        request.setEndpoint(URI.create("http://bucket.s3.amazonaws.com"));
+        request.setResourcePath("/key");
+        request.setContent(content);
+        return request;
+    }
+}
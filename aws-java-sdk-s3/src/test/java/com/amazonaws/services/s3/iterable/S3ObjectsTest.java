@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.iterable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.S3ObjectSummaryListener;
+
+public class S3ObjectsTest {
+
+    @Test
+    public void forEachObjectSummaryPagesThroughTheBucket() {
+        PagedS3 s3 = new PagedS3("a", "b", "c", "d", "e");
+        final List<String> keys = new ArrayList<String>();
+
+        S3Objects.withPrefix(s3, "bucket", "prefix").withBatchSize(2)
+                .forEachObjectSummary(new S3ObjectSummaryListener() {
+                    public void objectSummaryReceived(S3ObjectSummary objectSummary) {
+                        keys.add(objectSummary.getKey());
+                    }
+                });
+
+        assertEquals(Arrays.asList("a", "b", "c", "d", "e"), keys);
+        assertEquals(3, s3.requests.size());
+        assertNull(s3.requests.get(0).getMarker());
+        assertEquals("b", s3.requests.get(1).getMarker());
+        assertEquals("d", s3.requests.get(2).getMarker());
+        for (ListObjectsRequest request : s3.requests) {
+            assertEquals("bucket", request.getBucketName());
+            assertEquals("prefix", request.getPrefix());
+            assertEquals(Integer.valueOf(2), request.getMaxKeys());
+        }
+    }
+
+    /**
+     * Lists the given keys in pages of the requested size, handing each
+     * summary to the listener.
+     */
+    private static class PagedS3 extends AbstractAmazonS3 {
+        private final List<String> keys;
+        private final List<ListObjectsRequest> requests = new ArrayList<ListObjectsRequest>();
+
+        PagedS3(String... keys) {
+            this.keys = Arrays.asList(keys);
+        }
+
+        @Override
+        public ObjectListing listObjects(ListObjectsRequest request, S3ObjectSummaryListener listener) {
+            requests.add(new ListObjectsRequest(request.getBucketName(), request.getPrefix(),
+                    request.getMarker(), request.getDelimiter(), request.getMaxKeys()));
+            int start = request.getMarker() == null ? 0 : keys.indexOf(request.getMarker()) + 1;
+            int end = Math.min(start + request.getMaxKeys(), keys.size());
+            for (String key : keys.subList(start, end)) {
+                S3ObjectSummary summary = new S3ObjectSummary();
+                summary.setBucketName(request.getBucketName());
+                summary.setKey(key);
+                listener.objectSummaryReceived(summary);
+            }
+            ObjectListing listing = new ObjectListing();
+            listing.setTruncated(end < keys.size());
+            listing.setNextMarker(keys.get(end - 1));
+            return listing;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.model.transform;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.amazonaws.util.IOUtils;
+import com.amazonaws.util.StringUtils;
+
+public class CarriageReturnEscapingInputStreamTest {
+
+    @Test
+    public void carriageReturnsAreEscaped() throws IOException {
+        assertEquals("<Key>a&#013;b&#013;&#013;</Key>", escape("<Key>a\rb\r\r</Key>"));
+        assertEquals("no carriage return\n", escape("no carriage return\n"));
+        assertEquals("", escape(""));
+    }
+
+    @Test
+    public void multiByteCharactersArePreserved() throws IOException {
+        assertEquals("été&#013;日本", escape("été\r日本"));
+    }
+
+    @Test
+    public void carriageReturnsAcrossInternalBufferBoundariesAreEscaped() throws IOException {
+        // The stream reads its source 8192 bytes at a time
+        char[] chars = new char[3 * 8192];
+        Arrays.fill(chars, 'x');
+        for (int i : new int[] {0, 8191, 8192, 16383, 16384, chars.length - 1}) {
+            chars[i] = '\r';
+        }
+        String document = new String(chars);
+        String expected = document.replace("\r", "&#013;");
+
+        assertEquals(expected, escape(document));
+        assertEquals(expected, readInChunks(document, 1));
+        assertEquals(expected, readInChunks(document, 5));
+        assertEquals(expected, readInChunks(document, 8191));
+    }
+
+    @Test
+    public void escapeSequencesSplitAcrossReadsAreCompleted() throws IOException {
+        assertEquals("&#013;&#013;", readInChunks("\r\r", 4));
+        assertEquals("a&#013;b", readInChunks("a\rb", 2));
+    }
+
+    @Test
+    public void singleByteReadsEscapeCarriageReturns() throws IOException {
+        InputStream in = new CarriageReturnEscapingInputStream(source("a\rb"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != -1) {
+            out.write(b);
+        }
+        assertEquals("a&#013;b", new String(out.toByteArray(), StringUtils.UTF8));
+    }
+
+    @Test
+    public void skipCountsEscapedBytes() throws IOException {
+        InputStream in = new CarriageReturnEscapingInputStream(source("\rab"));
+        assertEquals(7, in.skip(7));
+        assertEquals("b", IOUtils.toString(in));
+    }
+
+    private static String escape(String document) throws IOException {
+        return IOUtils.toString(new CarriageReturnEscapingInputStream(source(document)));
+    }
+
+    private static String readInChunks(String document, int chunkSize) throws IOException {
+        InputStream in = new CarriageReturnEscapingInputStream(source(document));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[chunkSize];
+        int read;
+        while ((read = in.read(chunk, 0, chunkSize)) != -1) {
+            out.write(chunk, 0, read);
+        }
+        return new String(out.toByteArray(), StringUtils.UTF8);
+    }
+
+    private static InputStream source(String document) {
+        return new ByteArrayInputStream(document.getBytes(StringUtils.UTF8));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.model.transform;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.S3ObjectSummaryListener;
+import com.amazonaws.util.StringUtils;
+
+public class ListObjectsUnmarshallerTest {
+
+    private final RecordingListener listener = new RecordingListener();
+
+    @Test
+    public void summariesAreHandedToTheListener() throws Exception {
+        ObjectListing listing = new Unmarshallers.ListObjectsUnmarshaller(false, listener)
+                .unmarshall(stream(page(true, "a", "b\rc", "d")));
+
+        assertEquals(Arrays.asList("a", "b\rc", "d"), listener.keys);
+        assertEquals("bucket", listener.summaries.get(0).getBucketName());
+        assertEquals(3, listener.summaries.get(0).getSize());
+        assertTrue(listing.getObjectSummaries().isEmpty());
+        assertTrue(listing.isTruncated());
+        assertEquals("d", listing.getNextMarker());
+        assertEquals(Arrays.asList("prefix/"), listing.getCommonPrefixes());
+    }
+
+    @Test
+    public void summariesAreCollectedWithoutAListener() throws Exception {
+        ObjectListing listing = new Unmarshallers.ListObjectsUnmarshaller(false)
+                .unmarshall(stream(page(false, "a", "b\rc")));
+
+        assertEquals(2, listing.getObjectSummaries().size());
+        assertEquals("b\rc", listing.getObjectSummaries().get(1).getKey());
+    }
+
+    @Test
+    public void summariesDeliveredBeforeAFailureAreNotDeliveredByTheRetry() throws Exception {
+        Unmarshallers.ListObjectsUnmarshaller unmarshaller =
+                new Unmarshallers.ListObjectsUnmarshaller(false, listener);
+
+        attemptFailingAfter(unmarshaller, page(true, "a", "b", "c", "d"), "b");
+        assertEquals(Arrays.asList("a", "b"), listener.keys);
+
+        attemptFailingAfter(unmarshaller, page(true, "a", "b", "c", "d"), "c");
+        assertEquals(Arrays.asList("a", "b", "c"), listener.keys);
+
+        unmarshaller.unmarshall(stream(page(false, "a", "b", "c", "d")));
+        assertEquals(Arrays.asList("a", "b", "c", "d"), listener.keys);
+    }
+
+    @Test
+    public void retryStopsSkippingAtTheLastDeliveredKey() throws Exception {
+        Unmarshallers.ListObjectsUnmarshaller unmarshaller =
+                new Unmarshallers.ListObjectsUnmarshaller(false, listener);
+
+        attemptFailingAfter(unmarshaller, page(true, "a", "b", "c"), "b");
+        // "a" was deleted between the attempts
+        unmarshaller.unmarshall(stream(page(false, "b", "c")));
+
+        assertEquals(Arrays.asList("a", "b", "c"), listener.keys);
+    }
+
+    private static void attemptFailingAfter(Unmarshallers.ListObjectsUnmarshaller unmarshaller,
+            String document, String key) throws Exception {
+        String end = "<Key>" + key + "</Key>";
+        int failAt = document.indexOf("</Contents>", document.indexOf(end)) + "</Contents>".length();
+        try {
+            unmarshaller.unmarshall(new FailingInputStream(document, failAt));
+            fail("Expected the connection to be reset");
+        } catch (IOException expected) {
+        }
+    }
+
+    private static String page(boolean truncated, String... keys) {
+        StringBuilder document = new StringBuilder()
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+                .append("<ListBucketResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">")
+                .append("<Name>bucket</Name><Prefix></Prefix><Marker></Marker><MaxKeys>1000</MaxKeys>")
+                .append("<IsTruncated>").append(truncated).append("</IsTruncated>");
+        for (String key : keys) {
+            document.append("<Contents><Key>").append(key).append("</Key>")
+                    .append("<LastModified>2016-01-01T00:00:00.000Z</LastModified>")
+                    .append("<ETag>&quot;etag&quot;</ETag><Size>3</Size>")
+                    .append("<StorageClass>STANDARD</StorageClass></Contents>");
+        }
+        document.append("<CommonPrefixes><Prefix>prefix/</Prefix></CommonPrefixes>")
+                .append("</ListBucketResult>");
+        return document.toString();
+    }
+
+    private static InputStream stream(String document) {
+        return new ByteArrayInputStream(document.getBytes(StringUtils.UTF8));
+    }
+
+    /**
+     * Returns the document a byte at a time, failing once the given number
+     * of bytes has been read.
+     */
+    private static class FailingInputStream extends InputStream {
+        private final InputStream in;
+        private int remaining;
+
+        FailingInputStream(String document, int failAt) {
+            this.in = stream(document);
+            this.remaining = failAt;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining-- == 0) {
+                throw new IOException("Connection reset");
+            }
+            return in.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = read();
+            if (read == -1) {
+                return -1;
+            }
+            b[off] = (byte) read;
+            return 1;
+        }
+    }
+
+    private static class RecordingListener implements S3ObjectSummaryListener {
+        private final List<S3ObjectSummary> summaries = new ArrayList<S3ObjectSummary>();
+        private final List<String> keys = new ArrayList<String>();
+
+        public void objectSummaryReceived(S3ObjectSummary objectSummary) {
+            summaries.add(objectSummary);
+            keys.add(objectSummary.getKey());
+        }
+    }
+}
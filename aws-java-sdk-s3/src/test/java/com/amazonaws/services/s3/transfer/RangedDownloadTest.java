@@ -0,0 +1,323 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.GetObjectMetadataRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.services.s3.transfer.Transfer.TransferState;
+import com.amazonaws.util.IOUtils;
+
+public class RangedDownloadTest {
+
+    private static final int RANGE_SIZE = 100;
+
+    private static final byte[] DATA = new byte[10 * RANGE_SIZE];
+
+    static {
+        for (int i = 0; i < DATA.length; i++) {
+            DATA[i] = (byte) (i * 31);
+        }
+    }
+
+    private final StandInS3 s3 = new StandInS3();
+
+    private ExecutorService threadPool;
+
+    private TransferManager tm;
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        threadPool = Executors.newFixedThreadPool(10);
+        tm = transferManager(threadPool);
+        file = File.createTempFile("ranged", ".tmp");
+    }
+
+    @After
+    public void tearDown() {
+        tm.shutdownNow(false);
+        file.delete();
+    }
+
+    @Test
+    public void rangesArePinnedToTheETagTheDownloadStartedWith() throws Exception {
+        tm.download(new GetObjectRequest("bucket", "key"), file).waitForCompletion();
+
+        assertArrayEquals(DATA, contents());
+        Set<Long> starts = new HashSet<Long>();
+        for (GetObjectRequest request : s3.requests) {
+            assertEquals(Arrays.asList("etag-1"), request.getMatchingETagConstraints());
+            long[] range = request.getRange();
+            assertEquals(RANGE_SIZE - 1, range[1] - range[0]);
+            starts.add(range[0]);
+        }
+        assertEquals(10, s3.requests.size());
+        assertEquals(10, starts.size());
+    }
+
+    @Test
+    public void versionedDownloadIsNotPinned() throws Exception {
+        tm.download(new GetObjectRequest("bucket", "key", "version"), file).waitForCompletion();
+
+        assertArrayEquals(DATA, contents());
+        for (GetObjectRequest request : s3.requests) {
+            assertTrue(request.getMatchingETagConstraints().isEmpty());
+        }
+    }
+
+    @Test
+    public void objectOverwrittenDuringTheDownloadFailsIt() throws Exception {
+        s3.overwriteAfter = 3;
+
+        Download download = tm.download(new GetObjectRequest("bucket", "key"), file);
+        try {
+            download.waitForCompletion();
+            fail("Expected AmazonClientException");
+        } catch (AmazonClientException expected) {
+        }
+
+        assertEquals(TransferState.Failed, download.getState());
+        assertCompletedRanges(file.length());
+    }
+
+    @Test
+    public void pauseWaitsForRunningRangesBeforeTruncatingAndResumeCompletesTheFile() throws Exception {
+        // Range 1 is read until the download aborts it, and range 2 keeps
+        // going past the abort until it is released
+        s3.hangingRangeStart = RANGE_SIZE;
+        s3.heldRangeStart = 2 * RANGE_SIZE;
+
+        Download download = tm.download(new GetObjectRequest("bucket", "key"), file);
+        assertTrue(s3.held.await(30, TimeUnit.SECONDS));
+        long deadline = System.currentTimeMillis() + 30000;
+        while (s3.completedRanges.get() < 8 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(100);
+
+        PersistableDownload persistableDownload = download.pause();
+        Thread.sleep(200);
+        s3.release.countDown();
+        threadPool.shutdown();
+        assertTrue(threadPool.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Only range 0 was complete when the download was paused
+        assertEquals(RANGE_SIZE, file.length());
+        assertCompletedRanges(file.length());
+
+        ExecutorService resumePool = Executors.newFixedThreadPool(10);
+        TransferManager resumed = transferManager(resumePool);
+        try {
+            resumed.resumeDownload(persistableDownload).waitForCompletion();
+        } finally {
+            resumed.shutdownNow(false);
+        }
+        assertArrayEquals(DATA, contents());
+    }
+
+    private TransferManager transferManager(ExecutorService threadPool) {
+        TransferManager tm = new TransferManager(s3, threadPool, false);
+        TransferManagerConfiguration configuration = new TransferManagerConfiguration();
+        configuration.setDownloadRangeSize(RANGE_SIZE);
+        tm.setConfiguration(configuration);
+        return tm;
+    }
+
+    /**
+     * Checks that the file holds whole ranges from the start of the object.
+     */
+    private void assertCompletedRanges(long length) throws IOException {
+        assertEquals(0, length % RANGE_SIZE);
+        assertTrue(length < DATA.length);
+        assertArrayEquals(Arrays.copyOf(DATA, (int) length), contents());
+    }
+
+    private byte[] contents() throws IOException {
+        FileInputStream in = new FileInputStream(file);
+        try {
+            return IOUtils.toByteArray(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Serves {@link #DATA} like S3 does, returning null for GETs whose ETag
+     * constraint doesn't match. Reads of selected ranges can be made to hang.
+     */
+    private static class StandInS3 extends AbstractAmazonS3 {
+        private final ConcurrentLinkedQueue<GetObjectRequest> requests = new ConcurrentLinkedQueue<GetObjectRequest>();
+        private final AtomicInteger completedRanges = new AtomicInteger();
+        private final CountDownLatch held = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile String eTag = "etag-1";
+
+        /** The number of GETs after which the object is overwritten, or -1 for never. */
+        private volatile int overwriteAfter = -1;
+        /** The start of the range whose first read only returns once its stream is closed. */
+        private volatile long hangingRangeStart = -1;
+        /** The start of the range whose first read only returns once released. */
+        private volatile long heldRangeStart = -1;
+
+        @Override
+        public ObjectMetadata getObjectMetadata(GetObjectMetadataRequest request) {
+            return metadata(DATA.length);
+        }
+
+        @Override
+        public synchronized S3Object getObject(GetObjectRequest request) {
+            requests.add(request);
+            if (overwriteAfter >= 0 && requests.size() > overwriteAfter) {
+                eTag = "etag-2";
+            }
+            if (!request.getMatchingETagConstraints().isEmpty()
+                    && !request.getMatchingETagConstraints().contains(eTag)) {
+                return null;
+            }
+            long[] range = request.getRange();
+            int start = range == null ? 0 : (int) range[0];
+            int length = range == null ? DATA.length : (int) (range[1] - range[0] + 1);
+            InputStream content = new CountingStream(new ByteArrayInputStream(DATA, start, length));
+            if (start == hangingRangeStart) {
+                hangingRangeStart = -1;
+                content = new HangingStream(content);
+            } else if (start == heldRangeStart) {
+                heldRangeStart = -1;
+                content = new HeldStream(content);
+            }
+            S3Object object = new S3Object();
+            object.setBucketName(request.getBucketName());
+            object.setKey(request.getKey());
+            object.setObjectMetadata(metadata(length));
+            object.setObjectContent(new S3ObjectInputStream(content, null));
+            return object;
+        }
+
+        private ObjectMetadata metadata(long contentLength) {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentLength(contentLength);
+            metadata.setHeader(Headers.ETAG, eTag);
+            metadata.setLastModified(new Date(1000000000000L));
+            return metadata;
+        }
+
+        /**
+         * Counts the streams read to the end.
+         */
+        private class CountingStream extends FilterInputStream {
+            private CountingStream(InputStream in) {
+                super(in);
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int read = super.read(b, off, len);
+                if (read == -1) {
+                    completedRanges.incrementAndGet();
+                }
+                return read;
+            }
+        }
+
+        /**
+         * Blocks until closed, like a connection that is aborted.
+         */
+        private static class HangingStream extends FilterInputStream {
+            private final CountDownLatch closed = new CountDownLatch(1);
+
+            private HangingStream(InputStream in) {
+                super(in);
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                awaitUninterruptibly(closed);
+                throw new IOException("Connection aborted");
+            }
+
+            @Override
+            public void close() throws IOException {
+                closed.countDown();
+                super.close();
+            }
+        }
+
+        /**
+         * Blocks until released, neither noticing that it is closed nor
+         * keeping the interrupt status of its thread.
+         */
+        private class HeldStream extends FilterInputStream {
+            private HeldStream(InputStream in) {
+                super(in);
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                held.countDown();
+                awaitUninterruptibly(release);
+                return super.read(b, off, len);
+            }
+
+            @Override
+            public void close() {
+            }
+        }
+
+        private static void awaitUninterruptibly(CountDownLatch latch) {
+            while (true) {
+                try {
+                    latch.await();
+                    return;
+                } catch (InterruptedException e) {
+                    // Swallowed, as some streams do
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AbortedException;
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.util.IOUtils;
+
+public class DownloadRangeCallableTest {
+
+    private static final byte[] DATA = new byte[1000];
+
+    static {
+        for (int i = 0; i < DATA.length; i++) {
+            DATA[i] = (byte) i;
+        }
+    }
+
+    private final RangedS3 s3 = new RangedS3();
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("range", ".tmp");
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(new byte[DATA.length]);
+        } finally {
+            out.close();
+        }
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void rangeIsWrittenAtItsOffset() throws Exception {
+        long written = new DownloadRangeCallable(s3, request(200, 499), file, 200,
+                new DownloadRangeCallable.RangeWriters()).call();
+
+        assertEquals(300, written);
+        byte[] expected = new byte[DATA.length];
+        System.arraycopy(DATA, 200, expected, 200, 300);
+        assertArrayEquals(expected, contents());
+    }
+
+    @Test
+    public void shortRangeIsRetried() throws Exception {
+        s3.shortResponses.set(1);
+
+        long written = new DownloadRangeCallable(s3, request(0, 499), file, 0,
+                new DownloadRangeCallable.RangeWriters()).call();
+
+        assertEquals(500, written);
+        assertEquals(2, s3.requests.get());
+        assertArrayEquals(Arrays.copyOf(DATA, 500), Arrays.copyOf(contents(), 500));
+    }
+
+    @Test
+    public void rangeWhichIsShortTwiceFails() throws Exception {
+        s3.shortResponses.set(2);
+
+        try {
+            new DownloadRangeCallable(s3, request(0, 499), file, 0, new DownloadRangeCallable.RangeWriters()).call();
+            fail("Expected AmazonClientException");
+        } catch (AmazonClientException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("expected 500"));
+        }
+        assertEquals(2, s3.requests.get());
+    }
+
+    @Test
+    public void rangeOfAClosedDownloadIsNotDownloaded() throws Exception {
+        DownloadRangeCallable.RangeWriters writers = new DownloadRangeCallable.RangeWriters();
+        writers.closeAndAwait();
+
+        try {
+            new DownloadRangeCallable(s3, request(0, 499), file, 0, writers).call();
+            fail("Expected AbortedException");
+        } catch (AbortedException expected) {
+        }
+        assertEquals(0, s3.requests.get());
+        assertArrayEquals(new byte[DATA.length], contents());
+    }
+
+    private static GetObjectRequest request(long start, long end) {
+        return new GetObjectRequest("bucket", "key").withRange(start, end);
+    }
+
+    private byte[] contents() throws IOException {
+        FileInputStream in = new FileInputStream(file);
+        try {
+            return IOUtils.toByteArray(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Returns the requested range of {@link #DATA}, one byte short for the
+     * given number of requests.
+     */
+    private static class RangedS3 extends AbstractAmazonS3 {
+        private final AtomicInteger requests = new AtomicInteger();
+        private final AtomicInteger shortResponses = new AtomicInteger();
+
+        @Override
+        public S3Object getObject(GetObjectRequest request) {
+            requests.incrementAndGet();
+            long[] range = request.getRange();
+            int length = (int) (range[1] - range[0] + 1);
+            if (shortResponses.getAndDecrement() > 0) {
+                length--;
+            }
+            S3Object object = new S3Object();
+            object.setObjectContent(new S3ObjectInputStream(
+                    new ByteArrayInputStream(DATA, (int) range[0], length), null));
+            return object;
+        }
+    }
+}
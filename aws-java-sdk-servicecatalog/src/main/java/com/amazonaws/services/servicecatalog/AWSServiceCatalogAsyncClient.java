@@ -15,6 +15,10 @@
 package com.amazonaws.services.servicecatalog;
 
 import com.amazonaws.services.servicecatalog.model.*;
+import com.amazonaws.services.servicecatalog.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -312,27 +316,15 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final DescribeProductRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeProductRequest, DescribeProductResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeProductResult>() {
-                    @Override
-                    public DescribeProductResult call() throws Exception {
-                        DescribeProductResult result;
-
-                        try {
-                            result = describeProduct(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeProductResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeProductResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeProductRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -347,27 +339,15 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final DescribeProductViewRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeProductViewRequest, DescribeProductViewResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeProductViewResult>() {
-                    @Override
-                    public DescribeProductViewResult call() throws Exception {
-                        DescribeProductViewResult result;
-
-                        try {
-                            result = describeProductView(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeProductViewResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeProductViewResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeProductViewRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -382,28 +362,16 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final DescribeProvisioningParametersRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeProvisioningParametersRequest, DescribeProvisioningParametersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeProvisioningParametersResult>() {
-                    @Override
-                    public DescribeProvisioningParametersResult call()
-                            throws Exception {
-                        DescribeProvisioningParametersResult result;
-
-                        try {
-                            result = describeProvisioningParameters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeProvisioningParametersResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeProvisioningParametersResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeProvisioningParametersRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -418,27 +386,15 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final DescribeRecordRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeRecordRequest, DescribeRecordResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeRecordResult>() {
-                    @Override
-                    public DescribeRecordResult call() throws Exception {
-                        DescribeRecordResult result;
-
-                        try {
-                            result = describeRecord(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeRecordResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeRecordResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeRecordRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -453,27 +409,15 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final ListLaunchPathsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListLaunchPathsRequest, ListLaunchPathsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListLaunchPathsResult>() {
-                    @Override
-                    public ListLaunchPathsResult call() throws Exception {
-                        ListLaunchPathsResult result;
-
-                        try {
-                            result = listLaunchPaths(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListLaunchPathsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListLaunchPathsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListLaunchPathsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -488,27 +432,15 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final ListRecordHistoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRecordHistoryRequest, ListRecordHistoryResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListRecordHistoryResult>() {
-                    @Override
-                    public ListRecordHistoryResult call() throws Exception {
-                        ListRecordHistoryResult result;
-
-                        try {
-                            result = listRecordHistory(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListRecordHistoryResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListRecordHistoryResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListRecordHistoryRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -523,27 +455,15 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final ProvisionProductRequest request,
             final com.amazonaws.handlers.AsyncHandler<ProvisionProductRequest, ProvisionProductResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ProvisionProductResult>() {
-                    @Override
-                    public ProvisionProductResult call() throws Exception {
-                        ProvisionProductResult result;
-
-                        try {
-                            result = provisionProduct(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ProvisionProductResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ProvisionProductResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ProvisionProductRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -558,28 +478,15 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final ScanProvisionedProductsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ScanProvisionedProductsRequest, ScanProvisionedProductsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ScanProvisionedProductsResult>() {
-                    @Override
-                    public ScanProvisionedProductsResult call()
-                            throws Exception {
-                        ScanProvisionedProductsResult result;
-
-                        try {
-                            result = scanProvisionedProducts(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ScanProvisionedProductsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ScanProvisionedProductsResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new ScanProvisionedProductsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -594,27 +501,15 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final SearchProductsRequest request,
             final com.amazonaws.handlers.AsyncHandler<SearchProductsRequest, SearchProductsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SearchProductsResult>() {
-                    @Override
-                    public SearchProductsResult call() throws Exception {
-                        SearchProductsResult result;
-
-                        try {
-                            result = searchProducts(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<SearchProductsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SearchProductsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new SearchProductsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -629,28 +524,16 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final TerminateProvisionedProductRequest request,
             final com.amazonaws.handlers.AsyncHandler<TerminateProvisionedProductRequest, TerminateProvisionedProductResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<TerminateProvisionedProductResult>() {
-                    @Override
-                    public TerminateProvisionedProductResult call()
-                            throws Exception {
-                        TerminateProvisionedProductResult result;
-
-                        try {
-                            result = terminateProvisionedProduct(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<TerminateProvisionedProductResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new TerminateProvisionedProductResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new TerminateProvisionedProductRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -665,28 +548,15 @@ public class AWSServiceCatalogAsyncClient extends AWSServiceCatalogClient
             final UpdateProvisionedProductRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateProvisionedProductRequest, UpdateProvisionedProductResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateProvisionedProductResult>() {
-                    @Override
-                    public UpdateProvisionedProductResult call()
-                            throws Exception {
-                        UpdateProvisionedProductResult result;
-
-                        try {
-                            result = updateProvisionedProduct(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateProvisionedProductResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateProvisionedProductResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new UpdateProvisionedProductRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
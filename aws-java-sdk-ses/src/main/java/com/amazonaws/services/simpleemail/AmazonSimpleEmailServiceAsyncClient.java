@@ -15,6 +15,10 @@
 package com.amazonaws.services.simpleemail;
 
 import com.amazonaws.services.simpleemail.model.*;
+import com.amazonaws.services.simpleemail.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -292,27 +296,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final CloneReceiptRuleSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CloneReceiptRuleSetRequest, CloneReceiptRuleSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CloneReceiptRuleSetResult>() {
-                    @Override
-                    public CloneReceiptRuleSetResult call() throws Exception {
-                        CloneReceiptRuleSetResult result;
+        StaxResponseHandler<CloneReceiptRuleSetResult> responseHandler = new StaxResponseHandler<CloneReceiptRuleSetResult>(
+                new CloneReceiptRuleSetResultStaxUnmarshaller());
 
-                        try {
-                            result = cloneReceiptRuleSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CloneReceiptRuleSetRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -327,27 +315,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final CreateReceiptFilterRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReceiptFilterRequest, CreateReceiptFilterResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateReceiptFilterResult>() {
-                    @Override
-                    public CreateReceiptFilterResult call() throws Exception {
-                        CreateReceiptFilterResult result;
-
-                        try {
-                            result = createReceiptFilter(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateReceiptFilterResult> responseHandler = new StaxResponseHandler<CreateReceiptFilterResult>(
+                new CreateReceiptFilterResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateReceiptFilterRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -362,27 +334,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final CreateReceiptRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReceiptRuleRequest, CreateReceiptRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateReceiptRuleResult>() {
-                    @Override
-                    public CreateReceiptRuleResult call() throws Exception {
-                        CreateReceiptRuleResult result;
-
-                        try {
-                            result = createReceiptRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreateReceiptRuleResult> responseHandler = new StaxResponseHandler<CreateReceiptRuleResult>(
+                new CreateReceiptRuleResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateReceiptRuleRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -397,27 +353,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final CreateReceiptRuleSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateReceiptRuleSetRequest, CreateReceiptRuleSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateReceiptRuleSetResult>() {
-                    @Override
-                    public CreateReceiptRuleSetResult call() throws Exception {
-                        CreateReceiptRuleSetResult result;
+        StaxResponseHandler<CreateReceiptRuleSetResult> responseHandler = new StaxResponseHandler<CreateReceiptRuleSetResult>(
+                new CreateReceiptRuleSetResultStaxUnmarshaller());
 
-                        try {
-                            result = createReceiptRuleSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateReceiptRuleSetRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -432,27 +373,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DeleteIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteIdentityRequest, DeleteIdentityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteIdentityResult>() {
-                    @Override
-                    public DeleteIdentityResult call() throws Exception {
-                        DeleteIdentityResult result;
-
-                        try {
-                            result = deleteIdentity(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteIdentityResult> responseHandler = new StaxResponseHandler<DeleteIdentityResult>(
+                new DeleteIdentityResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteIdentityRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -467,27 +392,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DeleteIdentityPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteIdentityPolicyRequest, DeleteIdentityPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteIdentityPolicyResult>() {
-                    @Override
-                    public DeleteIdentityPolicyResult call() throws Exception {
-                        DeleteIdentityPolicyResult result;
-
-                        try {
-                            result = deleteIdentityPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteIdentityPolicyResult> responseHandler = new StaxResponseHandler<DeleteIdentityPolicyResult>(
+                new DeleteIdentityPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteIdentityPolicyRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -502,27 +412,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DeleteReceiptFilterRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteReceiptFilterRequest, DeleteReceiptFilterResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteReceiptFilterResult>() {
-                    @Override
-                    public DeleteReceiptFilterResult call() throws Exception {
-                        DeleteReceiptFilterResult result;
+        StaxResponseHandler<DeleteReceiptFilterResult> responseHandler = new StaxResponseHandler<DeleteReceiptFilterResult>(
+                new DeleteReceiptFilterResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteReceiptFilter(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteReceiptFilterRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -537,27 +431,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DeleteReceiptRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteReceiptRuleRequest, DeleteReceiptRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteReceiptRuleResult>() {
-                    @Override
-                    public DeleteReceiptRuleResult call() throws Exception {
-                        DeleteReceiptRuleResult result;
-
-                        try {
-                            result = deleteReceiptRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteReceiptRuleResult> responseHandler = new StaxResponseHandler<DeleteReceiptRuleResult>(
+                new DeleteReceiptRuleResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteReceiptRuleRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -572,27 +450,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DeleteReceiptRuleSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteReceiptRuleSetRequest, DeleteReceiptRuleSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteReceiptRuleSetResult>() {
-                    @Override
-                    public DeleteReceiptRuleSetResult call() throws Exception {
-                        DeleteReceiptRuleSetResult result;
-
-                        try {
-                            result = deleteReceiptRuleSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeleteReceiptRuleSetResult> responseHandler = new StaxResponseHandler<DeleteReceiptRuleSetResult>(
+                new DeleteReceiptRuleSetResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteReceiptRuleSetRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -607,28 +470,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DeleteVerifiedEmailAddressRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVerifiedEmailAddressRequest, DeleteVerifiedEmailAddressResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteVerifiedEmailAddressResult>() {
-                    @Override
-                    public DeleteVerifiedEmailAddressResult call()
-                            throws Exception {
-                        DeleteVerifiedEmailAddressResult result;
+        StaxResponseHandler<DeleteVerifiedEmailAddressResult> responseHandler = new StaxResponseHandler<DeleteVerifiedEmailAddressResult>(
+                new DeleteVerifiedEmailAddressResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteVerifiedEmailAddress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteVerifiedEmailAddressRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -643,28 +490,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DescribeActiveReceiptRuleSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeActiveReceiptRuleSetRequest, DescribeActiveReceiptRuleSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeActiveReceiptRuleSetResult>() {
-                    @Override
-                    public DescribeActiveReceiptRuleSetResult call()
-                            throws Exception {
-                        DescribeActiveReceiptRuleSetResult result;
-
-                        try {
-                            result = describeActiveReceiptRuleSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeActiveReceiptRuleSetResult> responseHandler = new StaxResponseHandler<DescribeActiveReceiptRuleSetResult>(
+                new DescribeActiveReceiptRuleSetResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeActiveReceiptRuleSetRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -679,27 +510,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DescribeReceiptRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReceiptRuleRequest, DescribeReceiptRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeReceiptRuleResult>() {
-                    @Override
-                    public DescribeReceiptRuleResult call() throws Exception {
-                        DescribeReceiptRuleResult result;
+        StaxResponseHandler<DescribeReceiptRuleResult> responseHandler = new StaxResponseHandler<DescribeReceiptRuleResult>(
+                new DescribeReceiptRuleResultStaxUnmarshaller());
 
-                        try {
-                            result = describeReceiptRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeReceiptRuleRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -714,27 +529,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final DescribeReceiptRuleSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeReceiptRuleSetRequest, DescribeReceiptRuleSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeReceiptRuleSetResult>() {
-                    @Override
-                    public DescribeReceiptRuleSetResult call() throws Exception {
-                        DescribeReceiptRuleSetResult result;
-
-                        try {
-                            result = describeReceiptRuleSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DescribeReceiptRuleSetResult> responseHandler = new StaxResponseHandler<DescribeReceiptRuleSetResult>(
+                new DescribeReceiptRuleSetResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeReceiptRuleSetRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -749,28 +549,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final GetIdentityDkimAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIdentityDkimAttributesRequest, GetIdentityDkimAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetIdentityDkimAttributesResult>() {
-                    @Override
-                    public GetIdentityDkimAttributesResult call()
-                            throws Exception {
-                        GetIdentityDkimAttributesResult result;
-
-                        try {
-                            result = getIdentityDkimAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetIdentityDkimAttributesResult> responseHandler = new StaxResponseHandler<GetIdentityDkimAttributesResult>(
+                new GetIdentityDkimAttributesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetIdentityDkimAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -785,28 +569,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final GetIdentityMailFromDomainAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIdentityMailFromDomainAttributesRequest, GetIdentityMailFromDomainAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetIdentityMailFromDomainAttributesResult>() {
-                    @Override
-                    public GetIdentityMailFromDomainAttributesResult call()
-                            throws Exception {
-                        GetIdentityMailFromDomainAttributesResult result;
+        StaxResponseHandler<GetIdentityMailFromDomainAttributesResult> responseHandler = new StaxResponseHandler<GetIdentityMailFromDomainAttributesResult>(
+                new GetIdentityMailFromDomainAttributesResultStaxUnmarshaller());
 
-                        try {
-                            result = getIdentityMailFromDomainAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetIdentityMailFromDomainAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -821,28 +589,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final GetIdentityNotificationAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIdentityNotificationAttributesRequest, GetIdentityNotificationAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetIdentityNotificationAttributesResult>() {
-                    @Override
-                    public GetIdentityNotificationAttributesResult call()
-                            throws Exception {
-                        GetIdentityNotificationAttributesResult result;
-
-                        try {
-                            result = getIdentityNotificationAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetIdentityNotificationAttributesResult> responseHandler = new StaxResponseHandler<GetIdentityNotificationAttributesResult>(
+                new GetIdentityNotificationAttributesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetIdentityNotificationAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -857,27 +609,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final GetIdentityPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIdentityPoliciesRequest, GetIdentityPoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetIdentityPoliciesResult>() {
-                    @Override
-                    public GetIdentityPoliciesResult call() throws Exception {
-                        GetIdentityPoliciesResult result;
+        StaxResponseHandler<GetIdentityPoliciesResult> responseHandler = new StaxResponseHandler<GetIdentityPoliciesResult>(
+                new GetIdentityPoliciesResultStaxUnmarshaller());
 
-                        try {
-                            result = getIdentityPolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetIdentityPoliciesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -892,28 +628,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final GetIdentityVerificationAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIdentityVerificationAttributesRequest, GetIdentityVerificationAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetIdentityVerificationAttributesResult>() {
-                    @Override
-                    public GetIdentityVerificationAttributesResult call()
-                            throws Exception {
-                        GetIdentityVerificationAttributesResult result;
-
-                        try {
-                            result = getIdentityVerificationAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetIdentityVerificationAttributesResult> responseHandler = new StaxResponseHandler<GetIdentityVerificationAttributesResult>(
+                new GetIdentityVerificationAttributesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetIdentityVerificationAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -928,27 +648,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final GetSendQuotaRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSendQuotaRequest, GetSendQuotaResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetSendQuotaResult>() {
-                    @Override
-                    public GetSendQuotaResult call() throws Exception {
-                        GetSendQuotaResult result;
-
-                        try {
-                            result = getSendQuota(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetSendQuotaResult> responseHandler = new StaxResponseHandler<GetSendQuotaResult>(
+                new GetSendQuotaResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetSendQuotaRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -987,27 +691,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final GetSendStatisticsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSendStatisticsRequest, GetSendStatisticsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetSendStatisticsResult>() {
-                    @Override
-                    public GetSendStatisticsResult call() throws Exception {
-                        GetSendStatisticsResult result;
-
-                        try {
-                            result = getSendStatistics(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetSendStatisticsResult> responseHandler = new StaxResponseHandler<GetSendStatisticsResult>(
+                new GetSendStatisticsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetSendStatisticsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1047,27 +735,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final ListIdentitiesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListIdentitiesRequest, ListIdentitiesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListIdentitiesResult>() {
-                    @Override
-                    public ListIdentitiesResult call() throws Exception {
-                        ListIdentitiesResult result;
-
-                        try {
-                            result = listIdentities(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListIdentitiesResult> responseHandler = new StaxResponseHandler<ListIdentitiesResult>(
+                new ListIdentitiesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListIdentitiesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1106,27 +778,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final ListIdentityPoliciesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListIdentityPoliciesRequest, ListIdentityPoliciesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListIdentityPoliciesResult>() {
-                    @Override
-                    public ListIdentityPoliciesResult call() throws Exception {
-                        ListIdentityPoliciesResult result;
+        StaxResponseHandler<ListIdentityPoliciesResult> responseHandler = new StaxResponseHandler<ListIdentityPoliciesResult>(
+                new ListIdentityPoliciesResultStaxUnmarshaller());
 
-                        try {
-                            result = listIdentityPolicies(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListIdentityPoliciesRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1141,27 +798,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final ListReceiptFiltersRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListReceiptFiltersRequest, ListReceiptFiltersResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListReceiptFiltersResult>() {
-                    @Override
-                    public ListReceiptFiltersResult call() throws Exception {
-                        ListReceiptFiltersResult result;
-
-                        try {
-                            result = listReceiptFilters(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ListReceiptFiltersResult> responseHandler = new StaxResponseHandler<ListReceiptFiltersResult>(
+                new ListReceiptFiltersResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListReceiptFiltersRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1176,27 +817,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final ListReceiptRuleSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListReceiptRuleSetsRequest, ListReceiptRuleSetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListReceiptRuleSetsResult>() {
-                    @Override
-                    public ListReceiptRuleSetsResult call() throws Exception {
-                        ListReceiptRuleSetsResult result;
-
-                        try {
-                            result = listReceiptRuleSets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ListReceiptRuleSetsResult> responseHandler = new StaxResponseHandler<ListReceiptRuleSetsResult>(
+                new ListReceiptRuleSetsResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListReceiptRuleSetsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1211,28 +836,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final ListVerifiedEmailAddressesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListVerifiedEmailAddressesRequest, ListVerifiedEmailAddressesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListVerifiedEmailAddressesResult>() {
-                    @Override
-                    public ListVerifiedEmailAddressesResult call()
-                            throws Exception {
-                        ListVerifiedEmailAddressesResult result;
-
-                        try {
-                            result = listVerifiedEmailAddresses(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListVerifiedEmailAddressesResult> responseHandler = new StaxResponseHandler<ListVerifiedEmailAddressesResult>(
+                new ListVerifiedEmailAddressesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListVerifiedEmailAddressesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1273,27 +882,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final PutIdentityPolicyRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutIdentityPolicyRequest, PutIdentityPolicyResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutIdentityPolicyResult>() {
-                    @Override
-                    public PutIdentityPolicyResult call() throws Exception {
-                        PutIdentityPolicyResult result;
-
-                        try {
-                            result = putIdentityPolicy(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<PutIdentityPolicyResult> responseHandler = new StaxResponseHandler<PutIdentityPolicyResult>(
+                new PutIdentityPolicyResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new PutIdentityPolicyRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1308,27 +901,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final ReorderReceiptRuleSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReorderReceiptRuleSetRequest, ReorderReceiptRuleSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReorderReceiptRuleSetResult>() {
-                    @Override
-                    public ReorderReceiptRuleSetResult call() throws Exception {
-                        ReorderReceiptRuleSetResult result;
-
-                        try {
-                            result = reorderReceiptRuleSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ReorderReceiptRuleSetResult> responseHandler = new StaxResponseHandler<ReorderReceiptRuleSetResult>(
+                new ReorderReceiptRuleSetResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ReorderReceiptRuleSetRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1343,27 +921,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SendBounceRequest request,
             final com.amazonaws.handlers.AsyncHandler<SendBounceRequest, SendBounceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SendBounceResult>() {
-                    @Override
-                    public SendBounceResult call() throws Exception {
-                        SendBounceResult result;
+        StaxResponseHandler<SendBounceResult> responseHandler = new StaxResponseHandler<SendBounceResult>(
+                new SendBounceResultStaxUnmarshaller());
 
-                        try {
-                            result = sendBounce(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SendBounceRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1378,27 +940,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SendEmailRequest request,
             final com.amazonaws.handlers.AsyncHandler<SendEmailRequest, SendEmailResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SendEmailResult>() {
-                    @Override
-                    public SendEmailResult call() throws Exception {
-                        SendEmailResult result;
-
-                        try {
-                            result = sendEmail(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<SendEmailResult> responseHandler = new StaxResponseHandler<SendEmailResult>(
+                new SendEmailResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SendEmailRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1413,27 +959,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SendRawEmailRequest request,
             final com.amazonaws.handlers.AsyncHandler<SendRawEmailRequest, SendRawEmailResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SendRawEmailResult>() {
-                    @Override
-                    public SendRawEmailResult call() throws Exception {
-                        SendRawEmailResult result;
-
-                        try {
-                            result = sendRawEmail(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<SendRawEmailResult> responseHandler = new StaxResponseHandler<SendRawEmailResult>(
+                new SendRawEmailResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SendRawEmailRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1448,28 +978,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SetActiveReceiptRuleSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetActiveReceiptRuleSetRequest, SetActiveReceiptRuleSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetActiveReceiptRuleSetResult>() {
-                    @Override
-                    public SetActiveReceiptRuleSetResult call()
-                            throws Exception {
-                        SetActiveReceiptRuleSetResult result;
+        StaxResponseHandler<SetActiveReceiptRuleSetResult> responseHandler = new StaxResponseHandler<SetActiveReceiptRuleSetResult>(
+                new SetActiveReceiptRuleSetResultStaxUnmarshaller());
 
-                        try {
-                            result = setActiveReceiptRuleSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new SetActiveReceiptRuleSetRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1484,27 +998,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SetIdentityDkimEnabledRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetIdentityDkimEnabledRequest, SetIdentityDkimEnabledResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetIdentityDkimEnabledResult>() {
-                    @Override
-                    public SetIdentityDkimEnabledResult call() throws Exception {
-                        SetIdentityDkimEnabledResult result;
-
-                        try {
-                            result = setIdentityDkimEnabled(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<SetIdentityDkimEnabledResult> responseHandler = new StaxResponseHandler<SetIdentityDkimEnabledResult>(
+                new SetIdentityDkimEnabledResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new SetIdentityDkimEnabledRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1519,28 +1018,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SetIdentityFeedbackForwardingEnabledRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetIdentityFeedbackForwardingEnabledRequest, SetIdentityFeedbackForwardingEnabledResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetIdentityFeedbackForwardingEnabledResult>() {
-                    @Override
-                    public SetIdentityFeedbackForwardingEnabledResult call()
-                            throws Exception {
-                        SetIdentityFeedbackForwardingEnabledResult result;
+        StaxResponseHandler<SetIdentityFeedbackForwardingEnabledResult> responseHandler = new StaxResponseHandler<SetIdentityFeedbackForwardingEnabledResult>(
+                new SetIdentityFeedbackForwardingEnabledResultStaxUnmarshaller());
 
-                        try {
-                            result = setIdentityFeedbackForwardingEnabled(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new SetIdentityFeedbackForwardingEnabledRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1555,28 +1038,13 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SetIdentityHeadersInNotificationsEnabledRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetIdentityHeadersInNotificationsEnabledRequest, SetIdentityHeadersInNotificationsEnabledResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetIdentityHeadersInNotificationsEnabledResult>() {
-                    @Override
-                    public SetIdentityHeadersInNotificationsEnabledResult call()
-                            throws Exception {
-                        SetIdentityHeadersInNotificationsEnabledResult result;
-
-                        try {
-                            result = setIdentityHeadersInNotificationsEnabled(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<SetIdentityHeadersInNotificationsEnabledResult> responseHandler = new StaxResponseHandler<SetIdentityHeadersInNotificationsEnabledResult>(
+                new SetIdentityHeadersInNotificationsEnabledResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new SetIdentityHeadersInNotificationsEnabledRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1591,28 +1059,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SetIdentityMailFromDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetIdentityMailFromDomainRequest, SetIdentityMailFromDomainResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetIdentityMailFromDomainResult>() {
-                    @Override
-                    public SetIdentityMailFromDomainResult call()
-                            throws Exception {
-                        SetIdentityMailFromDomainResult result;
-
-                        try {
-                            result = setIdentityMailFromDomain(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<SetIdentityMailFromDomainResult> responseHandler = new StaxResponseHandler<SetIdentityMailFromDomainResult>(
+                new SetIdentityMailFromDomainResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new SetIdentityMailFromDomainRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1627,28 +1079,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SetIdentityNotificationTopicRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetIdentityNotificationTopicRequest, SetIdentityNotificationTopicResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetIdentityNotificationTopicResult>() {
-                    @Override
-                    public SetIdentityNotificationTopicResult call()
-                            throws Exception {
-                        SetIdentityNotificationTopicResult result;
+        StaxResponseHandler<SetIdentityNotificationTopicResult> responseHandler = new StaxResponseHandler<SetIdentityNotificationTopicResult>(
+                new SetIdentityNotificationTopicResultStaxUnmarshaller());
 
-                        try {
-                            result = setIdentityNotificationTopic(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new SetIdentityNotificationTopicRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1663,27 +1099,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final SetReceiptRulePositionRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetReceiptRulePositionRequest, SetReceiptRulePositionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetReceiptRulePositionResult>() {
-                    @Override
-                    public SetReceiptRulePositionResult call() throws Exception {
-                        SetReceiptRulePositionResult result;
-
-                        try {
-                            result = setReceiptRulePosition(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<SetReceiptRulePositionResult> responseHandler = new StaxResponseHandler<SetReceiptRulePositionResult>(
+                new SetReceiptRulePositionResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new SetReceiptRulePositionRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1698,27 +1119,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final UpdateReceiptRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateReceiptRuleRequest, UpdateReceiptRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateReceiptRuleResult>() {
-                    @Override
-                    public UpdateReceiptRuleResult call() throws Exception {
-                        UpdateReceiptRuleResult result;
+        StaxResponseHandler<UpdateReceiptRuleResult> responseHandler = new StaxResponseHandler<UpdateReceiptRuleResult>(
+                new UpdateReceiptRuleResultStaxUnmarshaller());
 
-                        try {
-                            result = updateReceiptRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateReceiptRuleRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1733,27 +1138,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final VerifyDomainDkimRequest request,
             final com.amazonaws.handlers.AsyncHandler<VerifyDomainDkimRequest, VerifyDomainDkimResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<VerifyDomainDkimResult>() {
-                    @Override
-                    public VerifyDomainDkimResult call() throws Exception {
-                        VerifyDomainDkimResult result;
-
-                        try {
-                            result = verifyDomainDkim(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<VerifyDomainDkimResult> responseHandler = new StaxResponseHandler<VerifyDomainDkimResult>(
+                new VerifyDomainDkimResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new VerifyDomainDkimRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1768,27 +1157,12 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final VerifyDomainIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<VerifyDomainIdentityRequest, VerifyDomainIdentityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<VerifyDomainIdentityResult>() {
-                    @Override
-                    public VerifyDomainIdentityResult call() throws Exception {
-                        VerifyDomainIdentityResult result;
-
-                        try {
-                            result = verifyDomainIdentity(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<VerifyDomainIdentityResult> responseHandler = new StaxResponseHandler<VerifyDomainIdentityResult>(
+                new VerifyDomainIdentityResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new VerifyDomainIdentityRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1803,27 +1177,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final VerifyEmailAddressRequest request,
             final com.amazonaws.handlers.AsyncHandler<VerifyEmailAddressRequest, VerifyEmailAddressResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<VerifyEmailAddressResult>() {
-                    @Override
-                    public VerifyEmailAddressResult call() throws Exception {
-                        VerifyEmailAddressResult result;
+        StaxResponseHandler<VerifyEmailAddressResult> responseHandler = new StaxResponseHandler<VerifyEmailAddressResult>(
+                new VerifyEmailAddressResultStaxUnmarshaller());
 
-                        try {
-                            result = verifyEmailAddress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new VerifyEmailAddressRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1838,27 +1196,11 @@ public class AmazonSimpleEmailServiceAsyncClient extends
             final VerifyEmailIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<VerifyEmailIdentityRequest, VerifyEmailIdentityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<VerifyEmailIdentityResult>() {
-                    @Override
-                    public VerifyEmailIdentityResult call() throws Exception {
-                        VerifyEmailIdentityResult result;
-
-                        try {
-                            result = verifyEmailIdentity(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<VerifyEmailIdentityResult> responseHandler = new StaxResponseHandler<VerifyEmailIdentityResult>(
+                new VerifyEmailIdentityResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new VerifyEmailIdentityRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
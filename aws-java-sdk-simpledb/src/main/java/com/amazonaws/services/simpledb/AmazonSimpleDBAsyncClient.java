@@ -15,6 +15,10 @@
 package com.amazonaws.services.simpledb;
 
 import com.amazonaws.services.simpledb.model.*;
+import com.amazonaws.services.simpledb.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -298,27 +302,12 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final BatchDeleteAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchDeleteAttributesRequest, BatchDeleteAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<BatchDeleteAttributesResult>() {
-                    @Override
-                    public BatchDeleteAttributesResult call() throws Exception {
-                        BatchDeleteAttributesResult result;
-
-                        try {
-                            result = batchDeleteAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<BatchDeleteAttributesResult> responseHandler = new com.amazonaws.services.simpledb.internal.SimpleDBStaxResponseHandler<BatchDeleteAttributesResult>(
+                new BatchDeleteAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new BatchDeleteAttributesRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -333,27 +322,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final BatchPutAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<BatchPutAttributesRequest, BatchPutAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<BatchPutAttributesResult>() {
-                    @Override
-                    public BatchPutAttributesResult call() throws Exception {
-                        BatchPutAttributesResult result;
-
-                        try {
-                            result = batchPutAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<BatchPutAttributesResult> responseHandler = new com.amazonaws.services.simpledb.internal.SimpleDBStaxResponseHandler<BatchPutAttributesResult>(
+                new BatchPutAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new BatchPutAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -368,27 +341,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final CreateDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateDomainRequest, CreateDomainResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateDomainResult>() {
-                    @Override
-                    public CreateDomainResult call() throws Exception {
-                        CreateDomainResult result;
-
-                        try {
-                            result = createDomain(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateDomainResult> responseHandler = new com.amazonaws.services.simpledb.internal.SimpleDBStaxResponseHandler<CreateDomainResult>(
+                new CreateDomainResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CreateDomainRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -403,27 +360,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final DeleteAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteAttributesRequest, DeleteAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteAttributesResult>() {
-                    @Override
-                    public DeleteAttributesResult call() throws Exception {
-                        DeleteAttributesResult result;
-
-                        try {
-                            result = deleteAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteAttributesResult> responseHandler = new com.amazonaws.services.simpledb.internal.SimpleDBStaxResponseHandler<DeleteAttributesResult>(
+                new DeleteAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -438,27 +379,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final DeleteDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteDomainRequest, DeleteDomainResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteDomainResult>() {
-                    @Override
-                    public DeleteDomainResult call() throws Exception {
-                        DeleteDomainResult result;
-
-                        try {
-                            result = deleteDomain(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteDomainResult> responseHandler = new com.amazonaws.services.simpledb.internal.SimpleDBStaxResponseHandler<DeleteDomainResult>(
+                new DeleteDomainResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteDomainRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -473,27 +398,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final DomainMetadataRequest request,
             final com.amazonaws.handlers.AsyncHandler<DomainMetadataRequest, DomainMetadataResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DomainMetadataResult>() {
-                    @Override
-                    public DomainMetadataResult call() throws Exception {
-                        DomainMetadataResult result;
-
-                        try {
-                            result = domainMetadata(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DomainMetadataResult> responseHandler = new com.amazonaws.services.simpledb.internal.SimpleDBStaxResponseHandler<DomainMetadataResult>(
+                new DomainMetadataResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DomainMetadataRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -508,27 +417,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final GetAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetAttributesRequest, GetAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetAttributesResult>() {
-                    @Override
-                    public GetAttributesResult call() throws Exception {
-                        GetAttributesResult result;
-
-                        try {
-                            result = getAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetAttributesResult> responseHandler = new com.amazonaws.services.simpledb.internal.SimpleDBStaxResponseHandler<GetAttributesResult>(
+                new GetAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -543,27 +436,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final ListDomainsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDomainsRequest, ListDomainsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListDomainsResult>() {
-                    @Override
-                    public ListDomainsResult call() throws Exception {
-                        ListDomainsResult result;
-
-                        try {
-                            result = listDomains(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListDomainsResult> responseHandler = new com.amazonaws.services.simpledb.internal.SimpleDBStaxResponseHandler<ListDomainsResult>(
+                new ListDomainsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListDomainsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -602,27 +479,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final PutAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<PutAttributesRequest, PutAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PutAttributesResult>() {
-                    @Override
-                    public PutAttributesResult call() throws Exception {
-                        PutAttributesResult result;
-
-                        try {
-                            result = putAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<PutAttributesResult> responseHandler = new com.amazonaws.services.simpledb.internal.SimpleDBStaxResponseHandler<PutAttributesResult>(
+                new PutAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new PutAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -637,27 +498,11 @@ public class AmazonSimpleDBAsyncClient extends AmazonSimpleDBClient implements
             final SelectRequest request,
             final com.amazonaws.handlers.AsyncHandler<SelectRequest, SelectResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SelectResult>() {
-                    @Override
-                    public SelectResult call() throws Exception {
-                        SelectResult result;
-
-                        try {
-                            result = select(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<SelectResult> responseHandler = new com.amazonaws.services.simpledb.internal.SimpleDBStaxResponseHandler<SelectResult>(
+                new SelectResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new SelectRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
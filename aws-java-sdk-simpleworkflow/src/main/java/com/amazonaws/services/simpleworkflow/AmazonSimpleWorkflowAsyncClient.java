@@ -15,6 +15,10 @@
 package com.amazonaws.services.simpleworkflow;
 
 import com.amazonaws.services.simpleworkflow.model.*;
+import com.amazonaws.services.simpleworkflow.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -298,27 +302,16 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final CountClosedWorkflowExecutionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CountClosedWorkflowExecutionsRequest, WorkflowExecutionCount> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<WorkflowExecutionCount>() {
-                    @Override
-                    public WorkflowExecutionCount call() throws Exception {
-                        WorkflowExecutionCount result;
-
-                        try {
-                            result = countClosedWorkflowExecutions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<WorkflowExecutionCount>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new WorkflowExecutionCountJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new CountClosedWorkflowExecutionsRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -333,27 +326,16 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final CountOpenWorkflowExecutionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CountOpenWorkflowExecutionsRequest, WorkflowExecutionCount> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<WorkflowExecutionCount>() {
-                    @Override
-                    public WorkflowExecutionCount call() throws Exception {
-                        WorkflowExecutionCount result;
-
-                        try {
-                            result = countOpenWorkflowExecutions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<WorkflowExecutionCount>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new WorkflowExecutionCountJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new CountOpenWorkflowExecutionsRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -368,27 +350,16 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final CountPendingActivityTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<CountPendingActivityTasksRequest, PendingTaskCount> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PendingTaskCount>() {
-                    @Override
-                    public PendingTaskCount call() throws Exception {
-                        PendingTaskCount result;
-
-                        try {
-                            result = countPendingActivityTasks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PendingTaskCount>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PendingTaskCountJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new CountPendingActivityTasksRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -403,27 +374,16 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final CountPendingDecisionTasksRequest request,
             final com.amazonaws.handlers.AsyncHandler<CountPendingDecisionTasksRequest, PendingTaskCount> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PendingTaskCount>() {
-                    @Override
-                    public PendingTaskCount call() throws Exception {
-                        PendingTaskCount result;
-
-                        try {
-                            result = countPendingDecisionTasks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<PendingTaskCount>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new PendingTaskCountJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new CountPendingDecisionTasksRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -438,28 +398,14 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DeprecateActivityTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeprecateActivityTypeRequest, Void> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Void>() {
-                    @Override
-                    public Void call() throws Exception {
-                        Void result;
-
-                        try {
-                            deprecateActivityType(request);
-                            result = null;
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<Void>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false), null);
+
+        return asyncInvoke(request, new DeprecateActivityTypeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -474,28 +420,14 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DeprecateDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeprecateDomainRequest, Void> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Void>() {
-                    @Override
-                    public Void call() throws Exception {
-                        Void result;
-
-                        try {
-                            deprecateDomain(request);
-                            result = null;
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<Void>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false), null);
+
+        return asyncInvoke(request, new DeprecateDomainRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -510,28 +442,14 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DeprecateWorkflowTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeprecateWorkflowTypeRequest, Void> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Void>() {
-                    @Override
-                    public Void call() throws Exception {
-                        Void result;
-
-                        try {
-                            deprecateWorkflowType(request);
-                            result = null;
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<Void>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false), null);
+
+        return asyncInvoke(request, new DeprecateWorkflowTypeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -546,27 +464,15 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DescribeActivityTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeActivityTypeRequest, ActivityTypeDetail> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ActivityTypeDetail>() {
-                    @Override
-                    public ActivityTypeDetail call() throws Exception {
-                        ActivityTypeDetail result;
-
-                        try {
-                            result = describeActivityType(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ActivityTypeDetail>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ActivityTypeDetailJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeActivityTypeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -581,27 +487,15 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DescribeDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeDomainRequest, DomainDetail> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DomainDetail>() {
-                    @Override
-                    public DomainDetail call() throws Exception {
-                        DomainDetail result;
-
-                        try {
-                            result = describeDomain(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DomainDetail>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DomainDetailJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeDomainRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -616,27 +510,16 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DescribeWorkflowExecutionRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeWorkflowExecutionRequest, WorkflowExecutionDetail> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<WorkflowExecutionDetail>() {
-                    @Override
-                    public WorkflowExecutionDetail call() throws Exception {
-                        WorkflowExecutionDetail result;
-
-                        try {
-                            result = describeWorkflowExecution(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<WorkflowExecutionDetail>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new WorkflowExecutionDetailJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new DescribeWorkflowExecutionRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -651,27 +534,15 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final DescribeWorkflowTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeWorkflowTypeRequest, WorkflowTypeDetail> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<WorkflowTypeDetail>() {
-                    @Override
-                    public WorkflowTypeDetail call() throws Exception {
-                        WorkflowTypeDetail result;
-
-                        try {
-                            result = describeWorkflowType(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<WorkflowTypeDetail>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new WorkflowTypeDetailJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeWorkflowTypeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -686,27 +557,16 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final GetWorkflowExecutionHistoryRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetWorkflowExecutionHistoryRequest, History> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<History>() {
-                    @Override
-                    public History call() throws Exception {
-                        History result;
-
-                        try {
-                            result = getWorkflowExecutionHistory(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<History>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new HistoryJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetWorkflowExecutionHistoryRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -721,27 +581,15 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListActivityTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListActivityTypesRequest, ActivityTypeInfos> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ActivityTypeInfos>() {
-                    @Override
-                    public ActivityTypeInfos call() throws Exception {
-                        ActivityTypeInfos result;
-
-                        try {
-                            result = listActivityTypes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ActivityTypeInfos>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ActivityTypeInfosJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListActivityTypesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -756,27 +604,16 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListClosedWorkflowExecutionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListClosedWorkflowExecutionsRequest, WorkflowExecutionInfos> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<WorkflowExecutionInfos>() {
-                    @Override
-                    public WorkflowExecutionInfos call() throws Exception {
-                        WorkflowExecutionInfos result;
-
-                        try {
-                            result = listClosedWorkflowExecutions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<WorkflowExecutionInfos>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new WorkflowExecutionInfosJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListClosedWorkflowExecutionsRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -791,27 +628,15 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListDomainsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDomainsRequest, DomainInfos> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DomainInfos>() {
-                    @Override
-                    public DomainInfos call() throws Exception {
-                        DomainInfos result;
-
-                        try {
-                            result = listDomains(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DomainInfos>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DomainInfosJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListDomainsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -826,27 +651,16 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListOpenWorkflowExecutionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListOpenWorkflowExecutionsRequest, WorkflowExecutionInfos> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<WorkflowExecutionInfos>() {
-                    @Override
-                    public WorkflowExecutionInfos call() throws Exception {
-                        WorkflowExecutionInfos result;
-
-                        try {
-                            result = listOpenWorkflowExecutions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<WorkflowExecutionInfos>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new WorkflowExecutionInfosJsonUnmarshaller());
+
+        return asyncInvoke(
+                request,
+                new ListOpenWorkflowExecutionsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -861,27 +675,15 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final ListWorkflowTypesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListWorkflowTypesRequest, WorkflowTypeInfos> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<WorkflowTypeInfos>() {
-                    @Override
-                    public WorkflowTypeInfos call() throws Exception {
-                        WorkflowTypeInfos result;
-
-                        try {
-                            result = listWorkflowTypes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<WorkflowTypeInfos>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new WorkflowTypeInfosJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListWorkflowTypesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -896,27 +698,15 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final PollForActivityTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<PollForActivityTaskRequest, ActivityTask> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ActivityTask>() {
-                    @Override
-                    public ActivityTask call() throws Exception {
-                        ActivityTask result;
-
-                        try {
-                            result = pollForActivityTask(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ActivityTask>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ActivityTaskJsonUnmarshaller());
+
+        return asyncInvoke(request, new PollForActivityTaskRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -931,27 +721,15 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final PollForDecisionTaskRequest request,
             final com.amazonaws.handlers.AsyncHandler<PollForDecisionTaskRequest, DecisionTask> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DecisionTask>() {
-                    @Override
-                    public DecisionTask call() throws Exception {
-                        DecisionTask result;
-
-                        try {
-                            result = pollForDecisionTask(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DecisionTask>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DecisionTaskJsonUnmarshaller());
+
+        return asyncInvoke(request, new PollForDecisionTaskRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -966,27 +744,16 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RecordActivityTaskHeartbeatRequest request,
             final com.amazonaws.handlers.AsyncHandler<RecordActivityTaskHeartbeatRequest, ActivityTaskStatus> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ActivityTaskStatus>() {
-                    @Override
-                    public ActivityTaskStatus call() throws Exception {
-                        ActivityTaskStatus result;
-
-                        try {
-                            result = recordActivityTaskHeartbeat(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ActivityTaskStatus>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ActivityTaskStatusJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new RecordActivityTaskHeartbeatRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1001,28 +768,14 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RegisterActivityTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterActivityTypeRequest, Void> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Void>() {
-                    @Override
-                    public Void call() throws Exception {
-                        Void result;
-
-                        try {
-                            registerActivityType(request);
-                            result = null;
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<Void>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false), null);
+
+        return asyncInvoke(request, new RegisterActivityTypeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1037,28 +790,14 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RegisterDomainRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterDomainRequest, Void> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Void>() {
-                    @Override
-                    public Void call() throws Exception {
-                        Void result;
-
-                        try {
-                            registerDomain(request);
-                            result = null;
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<Void>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false), null);
+
+        return asyncInvoke(request, new RegisterDomainRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1073,28 +812,14 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RegisterWorkflowTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<RegisterWorkflowTypeRequest, Void> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Void>() {
-                    @Override
-                    public Void call() throws Exception {
-                        Void result;
-
-                        try {
-                            registerWorkflowType(request);
-                            result = null;
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<Void>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false), null);
+
+        return asyncInvoke(request, new RegisterWorkflowTypeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1109,28 +834,15 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RequestCancelWorkflowExecutionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RequestCancelWorkflowExecutionRequest, Void> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Void>() {
-                    @Override
-                    public Void call() throws Exception {
-                        Void result;
-
-                        try {
-                            requestCancelWorkflowExecution(request);
-                            result = null;
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<Void>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false), null);
+
+        return asyncInvoke(request,
+                new RequestCancelWorkflowExecutionRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1145,28 +857,15 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RespondActivityTaskCanceledRequest request,
             final com.amazonaws.handlers.AsyncHandler<RespondActivityTaskCanceledRequest, Void> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Void>() {
-                    @Override
-                    public Void call() throws Exception {
-                        Void result;
-
-                        try {
-                            respondActivityTaskCanceled(request);
-                            result = null;
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<Void>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false), null);
+
+        return asyncInvoke(request,
+                new RespondActivityTaskCanceledRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1181,28 +880,15 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RespondActivityTaskCompletedRequest request,
             final com.amazonaws.handlers.AsyncHandler<RespondActivityTaskCompletedRequest, Void> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Void>() {
-                    @Override
-                    public Void call() throws Exception {
-                        Void result;
-
-                        try {
-                            respondActivityTaskCompleted(request);
-                            result = null;
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<Void>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false), null);
+
+        return asyncInvoke(request,
+                new RespondActivityTaskCompletedRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1217,28 +903,15 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RespondActivityTaskFailedRequest request,
             final com.amazonaws.handlers.AsyncHandler<RespondActivityTaskFailedRequest, Void> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Void>() {
-                    @Override
-                    public Void call() throws Exception {
-                        Void result;
-
-                        try {
-                            respondActivityTaskFailed(request);
-                            result = null;
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<Void>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false), null);
+
+        return asyncInvoke(
+                request,
+                new RespondActivityTaskFailedRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1253,28 +926,15 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final RespondDecisionTaskCompletedRequest request,
             final com.amazonaws.handlers.AsyncHandler<RespondDecisionTaskCompletedRequest, Void> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Void>() {
-                    @Override
-                    public Void call() throws Exception {
-                        Void result;
-
-                        try {
-                            respondDecisionTaskCompleted(request);
-                            result = null;
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<Void>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false), null);
+
+        return asyncInvoke(request,
+                new RespondDecisionTaskCompletedRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1289,28 +949,14 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final SignalWorkflowExecutionRequest request,
             final com.amazonaws.handlers.AsyncHandler<SignalWorkflowExecutionRequest, Void> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Void>() {
-                    @Override
-                    public Void call() throws Exception {
-                        Void result;
-
-                        try {
-                            signalWorkflowExecution(request);
-                            result = null;
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<Void>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false), null);
+
+        return asyncInvoke(request,
+                new SignalWorkflowExecutionRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1325,26 +971,15 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final StartWorkflowExecutionRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartWorkflowExecutionRequest, Run> asyncHandler) {
 
-        return executorService.submit(new java.util.concurrent.Callable<Run>() {
-            @Override
-            public Run call() throws Exception {
-                Run result;
-
-                try {
-                    result = startWorkflowExecution(request);
-                } catch (Exception ex) {
-                    if (asyncHandler != null) {
-                        asyncHandler.onError(ex);
-                    }
-                    throw ex;
-                }
+        HttpResponseHandler<AmazonWebServiceResponse<Run>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RunJsonUnmarshaller());
 
-                if (asyncHandler != null) {
-                    asyncHandler.onSuccess(request, result);
-                }
-                return result;
-            }
-        });
+        return asyncInvoke(request,
+                new StartWorkflowExecutionRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1359,28 +994,15 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
             final TerminateWorkflowExecutionRequest request,
             final com.amazonaws.handlers.AsyncHandler<TerminateWorkflowExecutionRequest, Void> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<Void>() {
-                    @Override
-                    public Void call() throws Exception {
-                        Void result;
-
-                        try {
-                            terminateWorkflowExecution(request);
-                            result = null;
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<Void>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false), null);
+
+        return asyncInvoke(
+                request,
+                new TerminateWorkflowExecutionRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.snowball;
 
 import com.amazonaws.services.snowball.model.*;
+import com.amazonaws.services.snowball.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -282,27 +286,15 @@ public class AmazonSnowballAsyncClient extends AmazonSnowballClient implements
             final CancelJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelJobRequest, CancelJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CancelJobResult>() {
-                    @Override
-                    public CancelJobResult call() throws Exception {
-                        CancelJobResult result;
-
-                        try {
-                            result = cancelJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CancelJobResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CancelJobResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CancelJobRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -317,27 +309,15 @@ public class AmazonSnowballAsyncClient extends AmazonSnowballClient implements
             final CreateAddressRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateAddressRequest, CreateAddressResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateAddressResult>() {
-                    @Override
-                    public CreateAddressResult call() throws Exception {
-                        CreateAddressResult result;
-
-                        try {
-                            result = createAddress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateAddressResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateAddressResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateAddressRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -352,27 +332,15 @@ public class AmazonSnowballAsyncClient extends AmazonSnowballClient implements
             final CreateJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateJobRequest, CreateJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateJobResult>() {
-                    @Override
-                    public CreateJobResult call() throws Exception {
-                        CreateJobResult result;
-
-                        try {
-                            result = createJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<CreateJobResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateJobResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new CreateJobRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -387,27 +355,15 @@ public class AmazonSnowballAsyncClient extends AmazonSnowballClient implements
             final DescribeAddressRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAddressRequest, DescribeAddressResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAddressResult>() {
-                    @Override
-                    public DescribeAddressResult call() throws Exception {
-                        DescribeAddressResult result;
-
-                        try {
-                            result = describeAddress(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeAddressResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeAddressResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeAddressRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -422,27 +378,15 @@ public class AmazonSnowballAsyncClient extends AmazonSnowballClient implements
             final DescribeAddressesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAddressesRequest, DescribeAddressesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAddressesResult>() {
-                    @Override
-                    public DescribeAddressesResult call() throws Exception {
-                        DescribeAddressesResult result;
-
-                        try {
-                            result = describeAddresses(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeAddressesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeAddressesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeAddressesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -457,27 +401,15 @@ public class AmazonSnowballAsyncClient extends AmazonSnowballClient implements
             final DescribeJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeJobRequest, DescribeJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeJobResult>() {
-                    @Override
-                    public DescribeJobResult call() throws Exception {
-                        DescribeJobResult result;
-
-                        try {
-                            result = describeJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeJobResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeJobResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeJobRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -492,27 +424,15 @@ public class AmazonSnowballAsyncClient extends AmazonSnowballClient implements
             final GetJobManifestRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetJobManifestRequest, GetJobManifestResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetJobManifestResult>() {
-                    @Override
-                    public GetJobManifestResult call() throws Exception {
-                        GetJobManifestResult result;
-
-                        try {
-                            result = getJobManifest(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetJobManifestResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetJobManifestResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetJobManifestRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -527,27 +447,15 @@ public class AmazonSnowballAsyncClient extends AmazonSnowballClient implements
             final GetJobUnlockCodeRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetJobUnlockCodeRequest, GetJobUnlockCodeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetJobUnlockCodeResult>() {
-                    @Override
-                    public GetJobUnlockCodeResult call() throws Exception {
-                        GetJobUnlockCodeResult result;
-
-                        try {
-                            result = getJobUnlockCode(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetJobUnlockCodeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetJobUnlockCodeResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetJobUnlockCodeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -562,27 +470,15 @@ public class AmazonSnowballAsyncClient extends AmazonSnowballClient implements
             final GetSnowballUsageRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSnowballUsageRequest, GetSnowballUsageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetSnowballUsageResult>() {
-                    @Override
-                    public GetSnowballUsageResult call() throws Exception {
-                        GetSnowballUsageResult result;
-
-                        try {
-                            result = getSnowballUsage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<GetSnowballUsageResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetSnowballUsageResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new GetSnowballUsageRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -597,27 +493,15 @@ public class AmazonSnowballAsyncClient extends AmazonSnowballClient implements
             final ListJobsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListJobsRequest, ListJobsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListJobsResult>() {
-                    @Override
-                    public ListJobsResult call() throws Exception {
-                        ListJobsResult result;
-
-                        try {
-                            result = listJobs(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListJobsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListJobsResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListJobsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -632,27 +516,15 @@ public class AmazonSnowballAsyncClient extends AmazonSnowballClient implements
             final UpdateJobRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateJobRequest, UpdateJobResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateJobResult>() {
-                    @Override
-                    public UpdateJobResult call() throws Exception {
-                        UpdateJobResult result;
-
-                        try {
-                            result = updateJob(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateJobResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateJobResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateJobRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -15,6 +15,10 @@
 package com.amazonaws.services.sns;
 
 import com.amazonaws.services.sns.model.*;
+import com.amazonaws.services.sns.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -297,27 +301,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final AddPermissionRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddPermissionRequest, AddPermissionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddPermissionResult>() {
-                    @Override
-                    public AddPermissionResult call() throws Exception {
-                        AddPermissionResult result;
-
-                        try {
-                            result = addPermission(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<AddPermissionResult> responseHandler = new StaxResponseHandler<AddPermissionResult>(
+                new AddPermissionResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new AddPermissionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -368,28 +356,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final CheckIfPhoneNumberIsOptedOutRequest request,
             final com.amazonaws.handlers.AsyncHandler<CheckIfPhoneNumberIsOptedOutRequest, CheckIfPhoneNumberIsOptedOutResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CheckIfPhoneNumberIsOptedOutResult>() {
-                    @Override
-                    public CheckIfPhoneNumberIsOptedOutResult call()
-                            throws Exception {
-                        CheckIfPhoneNumberIsOptedOutResult result;
-
-                        try {
-                            result = checkIfPhoneNumberIsOptedOut(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CheckIfPhoneNumberIsOptedOutResult> responseHandler = new StaxResponseHandler<CheckIfPhoneNumberIsOptedOutResult>(
+                new CheckIfPhoneNumberIsOptedOutResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CheckIfPhoneNumberIsOptedOutRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -404,27 +376,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final ConfirmSubscriptionRequest request,
             final com.amazonaws.handlers.AsyncHandler<ConfirmSubscriptionRequest, ConfirmSubscriptionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ConfirmSubscriptionResult>() {
-                    @Override
-                    public ConfirmSubscriptionResult call() throws Exception {
-                        ConfirmSubscriptionResult result;
-
-                        try {
-                            result = confirmSubscription(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ConfirmSubscriptionResult> responseHandler = new StaxResponseHandler<ConfirmSubscriptionResult>(
+                new ConfirmSubscriptionResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ConfirmSubscriptionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -501,28 +457,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final CreatePlatformApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePlatformApplicationRequest, CreatePlatformApplicationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreatePlatformApplicationResult>() {
-                    @Override
-                    public CreatePlatformApplicationResult call()
-                            throws Exception {
-                        CreatePlatformApplicationResult result;
-
-                        try {
-                            result = createPlatformApplication(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<CreatePlatformApplicationResult> responseHandler = new StaxResponseHandler<CreatePlatformApplicationResult>(
+                new CreatePlatformApplicationResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreatePlatformApplicationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -537,27 +477,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final CreatePlatformEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreatePlatformEndpointRequest, CreatePlatformEndpointResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreatePlatformEndpointResult>() {
-                    @Override
-                    public CreatePlatformEndpointResult call() throws Exception {
-                        CreatePlatformEndpointResult result;
+        StaxResponseHandler<CreatePlatformEndpointResult> responseHandler = new StaxResponseHandler<CreatePlatformEndpointResult>(
+                new CreatePlatformEndpointResultStaxUnmarshaller());
 
-                        try {
-                            result = createPlatformEndpoint(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreatePlatformEndpointRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -572,27 +497,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final CreateTopicRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTopicRequest, CreateTopicResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateTopicResult>() {
-                    @Override
-                    public CreateTopicResult call() throws Exception {
-                        CreateTopicResult result;
-
-                        try {
-                            result = createTopic(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateTopicResult> responseHandler = new StaxResponseHandler<CreateTopicResult>(
+                new CreateTopicResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CreateTopicRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -634,27 +543,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final DeleteEndpointRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteEndpointRequest, DeleteEndpointResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteEndpointResult>() {
-                    @Override
-                    public DeleteEndpointResult call() throws Exception {
-                        DeleteEndpointResult result;
+        StaxResponseHandler<DeleteEndpointResult> responseHandler = new StaxResponseHandler<DeleteEndpointResult>(
+                new DeleteEndpointResultStaxUnmarshaller());
 
-                        try {
-                            result = deleteEndpoint(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteEndpointRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -669,28 +562,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final DeletePlatformApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeletePlatformApplicationRequest, DeletePlatformApplicationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeletePlatformApplicationResult>() {
-                    @Override
-                    public DeletePlatformApplicationResult call()
-                            throws Exception {
-                        DeletePlatformApplicationResult result;
-
-                        try {
-                            result = deletePlatformApplication(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<DeletePlatformApplicationResult> responseHandler = new StaxResponseHandler<DeletePlatformApplicationResult>(
+                new DeletePlatformApplicationResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeletePlatformApplicationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -705,27 +582,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final DeleteTopicRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTopicRequest, DeleteTopicResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteTopicResult>() {
-                    @Override
-                    public DeleteTopicResult call() throws Exception {
-                        DeleteTopicResult result;
-
-                        try {
-                            result = deleteTopic(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteTopicResult> responseHandler = new StaxResponseHandler<DeleteTopicResult>(
+                new DeleteTopicResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteTopicRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -767,27 +628,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final GetEndpointAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetEndpointAttributesRequest, GetEndpointAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetEndpointAttributesResult>() {
-                    @Override
-                    public GetEndpointAttributesResult call() throws Exception {
-                        GetEndpointAttributesResult result;
-
-                        try {
-                            result = getEndpointAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetEndpointAttributesResult> responseHandler = new StaxResponseHandler<GetEndpointAttributesResult>(
+                new GetEndpointAttributesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetEndpointAttributesRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -802,28 +648,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final GetPlatformApplicationAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetPlatformApplicationAttributesRequest, GetPlatformApplicationAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetPlatformApplicationAttributesResult>() {
-                    @Override
-                    public GetPlatformApplicationAttributesResult call()
-                            throws Exception {
-                        GetPlatformApplicationAttributesResult result;
+        StaxResponseHandler<GetPlatformApplicationAttributesResult> responseHandler = new StaxResponseHandler<GetPlatformApplicationAttributesResult>(
+                new GetPlatformApplicationAttributesResultStaxUnmarshaller());
 
-                        try {
-                            result = getPlatformApplicationAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetPlatformApplicationAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -838,27 +668,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final GetSMSAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSMSAttributesRequest, GetSMSAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetSMSAttributesResult>() {
-                    @Override
-                    public GetSMSAttributesResult call() throws Exception {
-                        GetSMSAttributesResult result;
-
-                        try {
-                            result = getSMSAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<GetSMSAttributesResult> responseHandler = new StaxResponseHandler<GetSMSAttributesResult>(
+                new GetSMSAttributesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetSMSAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -873,28 +687,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final GetSubscriptionAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSubscriptionAttributesRequest, GetSubscriptionAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetSubscriptionAttributesResult>() {
-                    @Override
-                    public GetSubscriptionAttributesResult call()
-                            throws Exception {
-                        GetSubscriptionAttributesResult result;
-
-                        try {
-                            result = getSubscriptionAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetSubscriptionAttributesResult> responseHandler = new StaxResponseHandler<GetSubscriptionAttributesResult>(
+                new GetSubscriptionAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new GetSubscriptionAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -940,27 +738,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final GetTopicAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetTopicAttributesRequest, GetTopicAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetTopicAttributesResult>() {
-                    @Override
-                    public GetTopicAttributesResult call() throws Exception {
-                        GetTopicAttributesResult result;
-
-                        try {
-                            result = getTopicAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetTopicAttributesResult> responseHandler = new StaxResponseHandler<GetTopicAttributesResult>(
+                new GetTopicAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetTopicAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1004,28 +786,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final ListEndpointsByPlatformApplicationRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListEndpointsByPlatformApplicationRequest, ListEndpointsByPlatformApplicationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListEndpointsByPlatformApplicationResult>() {
-                    @Override
-                    public ListEndpointsByPlatformApplicationResult call()
-                            throws Exception {
-                        ListEndpointsByPlatformApplicationResult result;
-
-                        try {
-                            result = listEndpointsByPlatformApplication(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<ListEndpointsByPlatformApplicationResult> responseHandler = new StaxResponseHandler<ListEndpointsByPlatformApplicationResult>(
+                new ListEndpointsByPlatformApplicationResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListEndpointsByPlatformApplicationRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1040,28 +806,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final ListPhoneNumbersOptedOutRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPhoneNumbersOptedOutRequest, ListPhoneNumbersOptedOutResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListPhoneNumbersOptedOutResult>() {
-                    @Override
-                    public ListPhoneNumbersOptedOutResult call()
-                            throws Exception {
-                        ListPhoneNumbersOptedOutResult result;
+        StaxResponseHandler<ListPhoneNumbersOptedOutResult> responseHandler = new StaxResponseHandler<ListPhoneNumbersOptedOutResult>(
+                new ListPhoneNumbersOptedOutResultStaxUnmarshaller());
 
-                        try {
-                            result = listPhoneNumbersOptedOut(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListPhoneNumbersOptedOutRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1076,28 +826,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final ListPlatformApplicationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListPlatformApplicationsRequest, ListPlatformApplicationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListPlatformApplicationsResult>() {
-                    @Override
-                    public ListPlatformApplicationsResult call()
-                            throws Exception {
-                        ListPlatformApplicationsResult result;
-
-                        try {
-                            result = listPlatformApplications(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListPlatformApplicationsResult> responseHandler = new StaxResponseHandler<ListPlatformApplicationsResult>(
+                new ListPlatformApplicationsResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListPlatformApplicationsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1138,27 +872,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final ListSubscriptionsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSubscriptionsRequest, ListSubscriptionsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListSubscriptionsResult>() {
-                    @Override
-                    public ListSubscriptionsResult call() throws Exception {
-                        ListSubscriptionsResult result;
-
-                        try {
-                            result = listSubscriptions(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListSubscriptionsResult> responseHandler = new StaxResponseHandler<ListSubscriptionsResult>(
+                new ListSubscriptionsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListSubscriptionsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1227,28 +945,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final ListSubscriptionsByTopicRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSubscriptionsByTopicRequest, ListSubscriptionsByTopicResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListSubscriptionsByTopicResult>() {
-                    @Override
-                    public ListSubscriptionsByTopicResult call()
-                            throws Exception {
-                        ListSubscriptionsByTopicResult result;
-
-                        try {
-                            result = listSubscriptionsByTopic(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListSubscriptionsByTopicResult> responseHandler = new StaxResponseHandler<ListSubscriptionsByTopicResult>(
+                new ListSubscriptionsByTopicResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListSubscriptionsByTopicRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1324,27 +1026,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final ListTopicsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTopicsRequest, ListTopicsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTopicsResult>() {
-                    @Override
-                    public ListTopicsResult call() throws Exception {
-                        ListTopicsResult result;
-
-                        try {
-                            result = listTopics(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListTopicsResult> responseHandler = new StaxResponseHandler<ListTopicsResult>(
+                new ListTopicsResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListTopicsRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1410,27 +1096,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final OptInPhoneNumberRequest request,
             final com.amazonaws.handlers.AsyncHandler<OptInPhoneNumberRequest, OptInPhoneNumberResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<OptInPhoneNumberResult>() {
-                    @Override
-                    public OptInPhoneNumberResult call() throws Exception {
-                        OptInPhoneNumberResult result;
-
-                        try {
-                            result = optInPhoneNumber(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<OptInPhoneNumberResult> responseHandler = new StaxResponseHandler<OptInPhoneNumberResult>(
+                new OptInPhoneNumberResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new OptInPhoneNumberRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1445,27 +1115,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final PublishRequest request,
             final com.amazonaws.handlers.AsyncHandler<PublishRequest, PublishResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PublishResult>() {
-                    @Override
-                    public PublishResult call() throws Exception {
-                        PublishResult result;
-
-                        try {
-                            result = publish(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<PublishResult> responseHandler = new StaxResponseHandler<PublishResult>(
+                new PublishResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new PublishRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1537,27 +1191,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final RemovePermissionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemovePermissionRequest, RemovePermissionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemovePermissionResult>() {
-                    @Override
-                    public RemovePermissionResult call() throws Exception {
-                        RemovePermissionResult result;
-
-                        try {
-                            result = removePermission(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<RemovePermissionResult> responseHandler = new StaxResponseHandler<RemovePermissionResult>(
+                new RemovePermissionResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new RemovePermissionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1601,27 +1239,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final SetEndpointAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetEndpointAttributesRequest, SetEndpointAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetEndpointAttributesResult>() {
-                    @Override
-                    public SetEndpointAttributesResult call() throws Exception {
-                        SetEndpointAttributesResult result;
+        StaxResponseHandler<SetEndpointAttributesResult> responseHandler = new StaxResponseHandler<SetEndpointAttributesResult>(
+                new SetEndpointAttributesResultStaxUnmarshaller());
 
-                        try {
-                            result = setEndpointAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new SetEndpointAttributesRequestMarshaller(), responseHandler,
+                asyncHandler, executorService);
     }
 
     @Override
@@ -1636,28 +1259,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final SetPlatformApplicationAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetPlatformApplicationAttributesRequest, SetPlatformApplicationAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetPlatformApplicationAttributesResult>() {
-                    @Override
-                    public SetPlatformApplicationAttributesResult call()
-                            throws Exception {
-                        SetPlatformApplicationAttributesResult result;
-
-                        try {
-                            result = setPlatformApplicationAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        StaxResponseHandler<SetPlatformApplicationAttributesResult> responseHandler = new StaxResponseHandler<SetPlatformApplicationAttributesResult>(
+                new SetPlatformApplicationAttributesResultStaxUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new SetPlatformApplicationAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1672,27 +1279,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final SetSMSAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetSMSAttributesRequest, SetSMSAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetSMSAttributesResult>() {
-                    @Override
-                    public SetSMSAttributesResult call() throws Exception {
-                        SetSMSAttributesResult result;
+        StaxResponseHandler<SetSMSAttributesResult> responseHandler = new StaxResponseHandler<SetSMSAttributesResult>(
+                new SetSMSAttributesResultStaxUnmarshaller());
 
-                        try {
-                            result = setSMSAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new SetSMSAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1707,28 +1298,12 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final SetSubscriptionAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetSubscriptionAttributesRequest, SetSubscriptionAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetSubscriptionAttributesResult>() {
-                    @Override
-                    public SetSubscriptionAttributesResult call()
-                            throws Exception {
-                        SetSubscriptionAttributesResult result;
-
-                        try {
-                            result = setSubscriptionAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<SetSubscriptionAttributesResult> responseHandler = new StaxResponseHandler<SetSubscriptionAttributesResult>(
+                new SetSubscriptionAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new SetSubscriptionAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1779,27 +1354,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final SetTopicAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetTopicAttributesRequest, SetTopicAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetTopicAttributesResult>() {
-                    @Override
-                    public SetTopicAttributesResult call() throws Exception {
-                        SetTopicAttributesResult result;
-
-                        try {
-                            result = setTopicAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<SetTopicAttributesResult> responseHandler = new StaxResponseHandler<SetTopicAttributesResult>(
+                new SetTopicAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new SetTopicAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1846,27 +1405,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final SubscribeRequest request,
             final com.amazonaws.handlers.AsyncHandler<SubscribeRequest, SubscribeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SubscribeResult>() {
-                    @Override
-                    public SubscribeResult call() throws Exception {
-                        SubscribeResult result;
-
-                        try {
-                            result = subscribe(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<SubscribeResult> responseHandler = new StaxResponseHandler<SubscribeResult>(
+                new SubscribeResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new SubscribeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1911,27 +1454,11 @@ public class AmazonSNSAsyncClient extends AmazonSNSClient implements
             final UnsubscribeRequest request,
             final com.amazonaws.handlers.AsyncHandler<UnsubscribeRequest, UnsubscribeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UnsubscribeResult>() {
-                    @Override
-                    public UnsubscribeResult call() throws Exception {
-                        UnsubscribeResult result;
-
-                        try {
-                            result = unsubscribe(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<UnsubscribeResult> responseHandler = new StaxResponseHandler<UnsubscribeResult>(
+                new UnsubscribeResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new UnsubscribeRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
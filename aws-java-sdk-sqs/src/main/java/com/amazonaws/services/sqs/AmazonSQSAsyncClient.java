@@ -15,6 +15,10 @@
 package com.amazonaws.services.sqs;
 
 import com.amazonaws.services.sqs.model.*;
+import com.amazonaws.services.sqs.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -357,27 +361,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final AddPermissionRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddPermissionRequest, AddPermissionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddPermissionResult>() {
-                    @Override
-                    public AddPermissionResult call() throws Exception {
-                        AddPermissionResult result;
-
-                        try {
-                            result = addPermission(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<AddPermissionResult> responseHandler = new StaxResponseHandler<AddPermissionResult>(
+                new AddPermissionResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new AddPermissionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -427,28 +415,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final ChangeMessageVisibilityRequest request,
             final com.amazonaws.handlers.AsyncHandler<ChangeMessageVisibilityRequest, ChangeMessageVisibilityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ChangeMessageVisibilityResult>() {
-                    @Override
-                    public ChangeMessageVisibilityResult call()
-                            throws Exception {
-                        ChangeMessageVisibilityResult result;
-
-                        try {
-                            result = changeMessageVisibility(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ChangeMessageVisibilityResult> responseHandler = new StaxResponseHandler<ChangeMessageVisibilityResult>(
+                new ChangeMessageVisibilityResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ChangeMessageVisibilityRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -497,28 +469,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final ChangeMessageVisibilityBatchRequest request,
             final com.amazonaws.handlers.AsyncHandler<ChangeMessageVisibilityBatchRequest, ChangeMessageVisibilityBatchResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ChangeMessageVisibilityBatchResult>() {
-                    @Override
-                    public ChangeMessageVisibilityBatchResult call()
-                            throws Exception {
-                        ChangeMessageVisibilityBatchResult result;
-
-                        try {
-                            result = changeMessageVisibilityBatch(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ChangeMessageVisibilityBatchResult> responseHandler = new StaxResponseHandler<ChangeMessageVisibilityBatchResult>(
+                new ChangeMessageVisibilityBatchResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ChangeMessageVisibilityBatchRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -566,27 +522,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final CreateQueueRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateQueueRequest, CreateQueueResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateQueueResult>() {
-                    @Override
-                    public CreateQueueResult call() throws Exception {
-                        CreateQueueResult result;
-
-                        try {
-                            result = createQueue(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<CreateQueueResult> responseHandler = new StaxResponseHandler<CreateQueueResult>(
+                new CreateQueueResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new CreateQueueRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -629,27 +569,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final DeleteMessageRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteMessageRequest, DeleteMessageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteMessageResult>() {
-                    @Override
-                    public DeleteMessageResult call() throws Exception {
-                        DeleteMessageResult result;
-
-                        try {
-                            result = deleteMessage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteMessageResult> responseHandler = new StaxResponseHandler<DeleteMessageResult>(
+                new DeleteMessageResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteMessageRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -694,27 +618,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final DeleteMessageBatchRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteMessageBatchRequest, DeleteMessageBatchResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteMessageBatchResult>() {
-                    @Override
-                    public DeleteMessageBatchResult call() throws Exception {
-                        DeleteMessageBatchResult result;
-
-                        try {
-                            result = deleteMessageBatch(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteMessageBatchResult> responseHandler = new StaxResponseHandler<DeleteMessageBatchResult>(
+                new DeleteMessageBatchResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteMessageBatchRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -759,27 +667,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final DeleteQueueRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteQueueRequest, DeleteQueueResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteQueueResult>() {
-                    @Override
-                    public DeleteQueueResult call() throws Exception {
-                        DeleteQueueResult result;
-
-                        try {
-                            result = deleteQueue(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DeleteQueueResult> responseHandler = new StaxResponseHandler<DeleteQueueResult>(
+                new DeleteQueueResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new DeleteQueueRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -821,27 +713,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final GetQueueAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetQueueAttributesRequest, GetQueueAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetQueueAttributesResult>() {
-                    @Override
-                    public GetQueueAttributesResult call() throws Exception {
-                        GetQueueAttributesResult result;
-
-                        try {
-                            result = getQueueAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetQueueAttributesResult> responseHandler = new StaxResponseHandler<GetQueueAttributesResult>(
+                new GetQueueAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetQueueAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -886,27 +762,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final GetQueueUrlRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetQueueUrlRequest, GetQueueUrlResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetQueueUrlResult>() {
-                    @Override
-                    public GetQueueUrlResult call() throws Exception {
-                        GetQueueUrlResult result;
-
-                        try {
-                            result = getQueueUrl(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetQueueUrlResult> responseHandler = new StaxResponseHandler<GetQueueUrlResult>(
+                new GetQueueUrlResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetQueueUrlRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -949,28 +809,12 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final ListDeadLetterSourceQueuesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListDeadLetterSourceQueuesRequest, ListDeadLetterSourceQueuesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListDeadLetterSourceQueuesResult>() {
-                    @Override
-                    public ListDeadLetterSourceQueuesResult call()
-                            throws Exception {
-                        ListDeadLetterSourceQueuesResult result;
-
-                        try {
-                            result = listDeadLetterSourceQueues(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListDeadLetterSourceQueuesResult> responseHandler = new StaxResponseHandler<ListDeadLetterSourceQueuesResult>(
+                new ListDeadLetterSourceQueuesResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new ListDeadLetterSourceQueuesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -985,27 +829,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final ListQueuesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListQueuesRequest, ListQueuesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListQueuesResult>() {
-                    @Override
-                    public ListQueuesResult call() throws Exception {
-                        ListQueuesResult result;
-
-                        try {
-                            result = listQueues(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ListQueuesResult> responseHandler = new StaxResponseHandler<ListQueuesResult>(
+                new ListQueuesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ListQueuesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1073,27 +901,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final PurgeQueueRequest request,
             final com.amazonaws.handlers.AsyncHandler<PurgeQueueRequest, PurgeQueueResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<PurgeQueueResult>() {
-                    @Override
-                    public PurgeQueueResult call() throws Exception {
-                        PurgeQueueResult result;
-
-                        try {
-                            result = purgeQueue(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<PurgeQueueResult> responseHandler = new StaxResponseHandler<PurgeQueueResult>(
+                new PurgeQueueResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new PurgeQueueRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1108,27 +920,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final ReceiveMessageRequest request,
             final com.amazonaws.handlers.AsyncHandler<ReceiveMessageRequest, ReceiveMessageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ReceiveMessageResult>() {
-                    @Override
-                    public ReceiveMessageResult call() throws Exception {
-                        ReceiveMessageResult result;
-
-                        try {
-                            result = receiveMessage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<ReceiveMessageResult> responseHandler = new StaxResponseHandler<ReceiveMessageResult>(
+                new ReceiveMessageResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new ReceiveMessageRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1172,27 +968,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final RemovePermissionRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemovePermissionRequest, RemovePermissionResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemovePermissionResult>() {
-                    @Override
-                    public RemovePermissionResult call() throws Exception {
-                        RemovePermissionResult result;
-
-                        try {
-                            result = removePermission(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<RemovePermissionResult> responseHandler = new StaxResponseHandler<RemovePermissionResult>(
+                new RemovePermissionResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new RemovePermissionRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1236,27 +1016,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final SendMessageRequest request,
             final com.amazonaws.handlers.AsyncHandler<SendMessageRequest, SendMessageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SendMessageResult>() {
-                    @Override
-                    public SendMessageResult call() throws Exception {
-                        SendMessageResult result;
-
-                        try {
-                            result = sendMessage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<SendMessageResult> responseHandler = new StaxResponseHandler<SendMessageResult>(
+                new SendMessageResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new SendMessageRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1300,27 +1064,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final SendMessageBatchRequest request,
             final com.amazonaws.handlers.AsyncHandler<SendMessageBatchRequest, SendMessageBatchResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SendMessageBatchResult>() {
-                    @Override
-                    public SendMessageBatchResult call() throws Exception {
-                        SendMessageBatchResult result;
-
-                        try {
-                            result = sendMessageBatch(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<SendMessageBatchResult> responseHandler = new StaxResponseHandler<SendMessageBatchResult>(
+                new SendMessageBatchResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new SendMessageBatchRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1365,27 +1113,11 @@ public class AmazonSQSAsyncClient extends AmazonSQSClient implements
             final SetQueueAttributesRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetQueueAttributesRequest, SetQueueAttributesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetQueueAttributesResult>() {
-                    @Override
-                    public SetQueueAttributesResult call() throws Exception {
-                        SetQueueAttributesResult result;
-
-                        try {
-                            result = setQueueAttributes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<SetQueueAttributesResult> responseHandler = new StaxResponseHandler<SetQueueAttributesResult>(
+                new SetQueueAttributesResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new SetQueueAttributesRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -15,9 +15,10 @@
 
 package com.amazonaws.services.sqs.buffered;
 
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
@@ -83,7 +84,9 @@ import com.amazonaws.util.VersionInfoUtils;
  * is made, the client attempts not only to satisfy that call, but also pre-fetch extra messages to
  * store in a temporary buffer. Future receiveMessage calls will be satisfied from the buffer, and
  * only if the buffer is empty will the calling thread have to wait for the messages to be fetched.
- * The size of the buffer and the maximum number of threads used for prefetching are configurable. <br>
+ * The size of the buffer and the maximum number of threads used for prefetching are configurable.
+ * With {@link QueueBufferConfig#withAdaptivePrefetching(boolean) adaptive prefetching}, those
+ * settings become upper bounds and the client prefetches only as much as consumers are taking. <br>
  * AmazonSQSBufferedAsyncClient is thread-safe.<br>
  */
 public class AmazonSQSBufferedAsyncClient implements AmazonSQSAsync {
@@ -91,7 +94,10 @@ public class AmazonSQSBufferedAsyncClient implements AmazonSQSAsync {
     public static final String USER_AGENT = AmazonSQSBufferedAsyncClient.class.getSimpleName() + "/"
             + VersionInfoUtils.getVersion();
 
-    private final CachingMap buffers = new CachingMap(16, (float) 0.75, true);
+    /** The maximum number of queue buffers kept; the least recently used is dropped beyond that. */
+    private static final int MAX_BUFFERS = 100;
+
+    private final ConcurrentMap<String, QueueBuffer> buffers = new ConcurrentHashMap<String, QueueBuffer>(16, 0.75f, 64);
     private final AmazonSQSAsync realSQS;
     private final QueueBufferConfig bufferConfigExemplar;
 
@@ -359,28 +365,38 @@ public class AmazonSQSBufferedAsyncClient implements AmazonSQSAsync {
      *
      * @return a queue buffer associated with the provided queue URL. Never null
      */
-    private synchronized QueueBuffer getQBuffer(String qUrl) {
+    private QueueBuffer getQBuffer(String qUrl) {
+        // Looking up an existing buffer takes no lock, so that callers sending to the same queue
+        // don't contend here.
+        QueueBuffer toReturn = buffers.get(qUrl);
+        if (null == toReturn) {
+            toReturn = newQBuffer(qUrl);
+        }
+        toReturn.touch();
+        return toReturn;
+    }
+
+    private synchronized QueueBuffer newQBuffer(String qUrl) {
         QueueBuffer toReturn = buffers.get(qUrl);
         if (null == toReturn) {
             QueueBufferConfig config = new QueueBufferConfig(bufferConfigExemplar);
             toReturn = new QueueBuffer(config, qUrl, realSQS);
             buffers.put(qUrl, toReturn);
+            if (buffers.size() > MAX_BUFFERS) {
+                removeLeastRecentlyUsedQBuffer();
+            }
         }
         return toReturn;
     }
 
-    class CachingMap extends LinkedHashMap<String, QueueBuffer> {
-        private static final long serialVersionUID = 1;
-        private static final int MAX_ENTRIES = 100;
-
-        public CachingMap(int initial, float loadFactor, boolean accessOrder) {
-            super(initial, loadFactor, accessOrder);
+    private void removeLeastRecentlyUsedQBuffer() {
+        Map.Entry<String, QueueBuffer> eldest = null;
+        for (Map.Entry<String, QueueBuffer> entry : buffers.entrySet()) {
+            if (eldest == null || entry.getValue().getLastUsedMillis() < eldest.getValue().getLastUsedMillis()) {
+                eldest = entry;
+            }
         }
-
-        protected boolean removeEldestEntry(java.util.Map.Entry<String, QueueBuffer> eldest) {
-            return size() > MAX_ENTRIES;
-        }
-
+        buffers.remove(eldest.getKey(), eldest.getValue());
     }
 
     public Future<ChangeMessageVisibilityResult> changeMessageVisibilityAsync(ChangeMessageVisibilityRequest changeMessageVisibilityRequest,
@@ -56,6 +56,12 @@ class QueueBuffer {
     private final AmazonSQSAsync realSqs;
     QueueBufferConfig config;
 
+    /**
+     * When this buffer was last used, in milliseconds since the epoch. Used to drop the least
+     * recently used buffers.
+     */
+    private volatile long lastUsedMillis;
+
     /**
      * This executor that will be shared among all queue buffers. Since a single JVM can access
      * hundreds of queues, it won't do to have hundreds of executors spinning up hundreds of threads
@@ -71,6 +77,21 @@ class QueueBuffer {
         receiveBuffer = new ReceiveQueueBuffer(sqs, executor, paramConfig, url);
     }
 
+    /**
+     * Records that the buffer is being used. The time is only written when it changed, so that
+     * threads using the same buffer mostly read it.
+     */
+    void touch() {
+        long now = System.currentTimeMillis();
+        if (lastUsedMillis != now) {
+            lastUsedMillis = now;
+        }
+    }
+
+    long getLastUsedMillis() {
+        return lastUsedMillis;
+    }
+
     /**
      * asynchronously enqueues a message to SQS.
      *
@@ -109,6 +109,18 @@ public class QueueBufferConfig {
 
     public static final int LONGPOLL_WAIT_TIMEOUT_SECONDS_DEFAULT = 20;
 
+    /**
+     * If true, the number of receive batches kept in flight and in the buffer is sized from the
+     * rate at which messages are actually consumed, and maxInflightReceiveBatches and
+     * maxDoneReceiveBatches only act as upper bounds. Prefetching slows down when consumers are
+     * idle or the queue is empty, so fewer prefetched messages sit in the buffer until their
+     * visibility timeout expires.
+     */
+    private boolean adaptivePrefetching;
+
+    /** false */
+    public static final boolean ADAPTIVE_PREFETCHING_DEFAULT = false;
+
     public QueueBufferConfig(long maxBatchOpenMs, int maxInflightOutboundBatches, int maxInflightReceiveBatches,
             int maxDoneReceiveBatches, boolean paramLongPoll, long maxBatchSizeBytes, int visibilityTimeout,
             int longPollTimeout, int maxBatch) {
@@ -122,6 +134,7 @@ public class QueueBufferConfig {
         this.visibilityTimeoutSeconds = visibilityTimeout;
         this.longPollWaitTimeoutSeconds = longPollTimeout;
         this.maxBatchSize = maxBatch;
+        this.adaptivePrefetching = ADAPTIVE_PREFETCHING_DEFAULT;
     }
 
     public QueueBufferConfig() {
@@ -141,6 +154,7 @@ public class QueueBufferConfig {
         maxInflightOutboundBatches = other.maxInflightOutboundBatches;
         maxInflightReceiveBatches = other.maxInflightReceiveBatches;
         visibilityTimeoutSeconds = other.visibilityTimeoutSeconds;
+        adaptivePrefetching = other.adaptivePrefetching;
     }
 
     @Override
@@ -149,7 +163,8 @@ public class QueueBufferConfig {
                 + longPoll + ", maxInflightOutboundBatches=" + maxInflightOutboundBatches
                 + ", maxInflightReceiveBatches=" + maxInflightReceiveBatches + ", maxDoneReceiveBatches="
                 + maxDoneReceiveBatches + ", maxBatchSizeBytes=" + maxBatchSizeBytes + ", visibilityTimeoutSeconds="
-                + visibilityTimeoutSeconds + ", longPollWaitTimeoutSeconds=" + longPollWaitTimeoutSeconds + "]";
+                + visibilityTimeoutSeconds + ", longPollWaitTimeoutSeconds=" + longPollWaitTimeoutSeconds + ", adaptivePrefetching="
+                + adaptivePrefetching + "]";
     }
 
     /**
@@ -429,6 +444,40 @@ public class QueueBufferConfig {
         return this;
     }
 
+    /**
+     * If true, the number of receive batches kept in flight and in the buffer is sized from the
+     * rate at which messages are actually consumed, and maxInflightReceiveBatches and
+     * maxDoneReceiveBatches only act as upper bounds. Prefetching slows down when consumers are
+     * idle or the queue is empty, so fewer prefetched messages sit in the buffer until their
+     * visibility timeout expires.
+     */
+    public boolean isAdaptivePrefetching() {
+        return adaptivePrefetching;
+    }
+
+    /**
+     * If true, the number of receive batches kept in flight and in the buffer is sized from the
+     * rate at which messages are actually consumed, and maxInflightReceiveBatches and
+     * maxDoneReceiveBatches only act as upper bounds. Prefetching slows down when consumers are
+     * idle or the queue is empty, so fewer prefetched messages sit in the buffer until their
+     * visibility timeout expires.
+     */
+    public void setAdaptivePrefetching(boolean adaptivePrefetching) {
+        this.adaptivePrefetching = adaptivePrefetching;
+    }
+
+    /**
+     * If true, the number of receive batches kept in flight and in the buffer is sized from the
+     * rate at which messages are actually consumed, and maxInflightReceiveBatches and
+     * maxDoneReceiveBatches only act as upper bounds. Prefetching slows down when consumers are
+     * idle or the queue is empty, so fewer prefetched messages sit in the buffer until their
+     * visibility timeout expires.
+     */
+    public QueueBufferConfig withAdaptivePrefetching(boolean adaptivePrefetching) {
+        setAdaptivePrefetching(adaptivePrefetching);
+        return this;
+    }
+
     /**
      * this method checks the config for validity. If the config is deemed to be invalid, an
      * informative exception is thrown.
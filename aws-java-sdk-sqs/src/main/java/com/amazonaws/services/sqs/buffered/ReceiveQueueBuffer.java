@@ -19,8 +19,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -39,12 +42,15 @@ import com.amazonaws.services.sqs.model.ReceiveMessageResult;
  * It uses the provided executor to pre-fetch messages from the server and keeps them in a buffer
  * which it uses to satisfy incoming requests. The number of requests pre-fetched and kept in the
  * buffer, as well as the maximum number of threads used to retrieve the messages are configurable.
+ * With {@link QueueBufferConfig#isAdaptivePrefetching()}, the configured numbers are upper bounds
+ * and the actual prefetch depth follows the rate at which messages are consumed.
  * <p>
- * Synchronization strategy: - Threads must hold the TaskSpawnSyncPoint object monitor to spawn a
- * new task or modify the number of inflight tasks - Threads must hold the monitor of the "futures"
- * list to modify the list - Threads must hold the monitor of the "finishedTasks" list to modify the
- * list - If you need to lock both futures and finishedTasks, lock futures first and finishedTasks
- * second
+ * Synchronization strategy: the issued futures and the finished batches are kept in lock-free
+ * queues, and the counters in atomics. Matching futures with finished batches is done by one
+ * thread at a time: a thread that wants to match them increments {@code drainWip}, and only the
+ * thread that increments it from zero does the work, looping until no other thread asked for it
+ * in the meantime. Messages are taken from a batch with a compare-and-set, so that a message is
+ * never handed out twice even when the batch is cleared concurrently.
  */
 public class ReceiveQueueBuffer {
 
@@ -64,6 +70,12 @@ public class ReceiveQueueBuffer {
 
     private static Log log = LogFactory.getLog(ReceiveQueueBuffer.class);
 
+    /** Time constant of the moving average of the consumption rate: one second. */
+    private static final double DRAIN_RATE_TAU_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /** Weight of the latest sample in the moving average of the receive latency. */
+    private static final double RECEIVE_LATENCY_WEIGHT = 0.2;
+
     private final QueueBufferConfig config;
 
     private final String qUrl;
@@ -72,34 +84,51 @@ public class ReceiveQueueBuffer {
 
     private final AmazonSQS sqsClient;
 
-    private long bufferCounter = 0;
+    private final AtomicLong bufferCounter = new AtomicLong();
 
     /**
      * This buffer's queue visibility timeout. Used to detect expired message that should not be
-     * returned by the {@code receiveMessage} call. Synchronized by {@code receiveMessageLock}. -1
-     * indicates that the time is uninitialized.
+     * returned by the {@code receiveMessage} call. -1 indicates that the time is uninitialized.
      */
     private volatile long visibilityTimeoutNanos = -1;
 
     /**
-     * Used as permits controlling the number of in flight receive batches. Synchronized by
-     * {@code taskSpawnSyncPoint}.
-     */
-    private volatile int inflightReceiveMessageBatches;
-
-    /**
-     * synchronize on this object to create new receive batches or modify inflight message count
+     * The number of in flight receive batches.
      */
-    private final Object taskSpawnSyncPoint = new Object();
+    private final AtomicInteger inflightReceiveMessageBatches = new AtomicInteger();
 
     /** shutdown buffer does not retrieve any more messages from sqs */
     volatile boolean shutDown = false;
 
     /** message delivery futures we gave out */
-    private final LinkedList<ReceiveMessageFuture> futures = new LinkedList<ReceiveMessageFuture>();
+    private final ConcurrentLinkedQueue<ReceiveMessageFuture> futures = new ConcurrentLinkedQueue<ReceiveMessageFuture>();
+
+    /** finished batches are stored in this queue. */
+    private final ConcurrentLinkedQueue<ReceiveMessageBatchTask> finishedTasks = new ConcurrentLinkedQueue<ReceiveMessageBatchTask>();
+
+    /** the size of {@code finishedTasks}, which the queue itself can only count in linear time */
+    private final AtomicInteger finishedTaskCount = new AtomicInteger();
+
+    /** the number of messages in the finished batches that have not been handed out yet */
+    private final AtomicInteger bufferedMessages = new AtomicInteger();
+
+    /** the number of messages asked for by the futures not satisfied yet */
+    private final AtomicInteger requestedMessages = new AtomicInteger();
 
-    /** finished batches are stored in this list. */
-    private LinkedList<ReceiveMessageBatchTask> finishedTasks = new LinkedList<ReceiveMessageBatchTask>();
+    /** requests to match futures with finished batches; see the class comment */
+    private final AtomicInteger drainWip = new AtomicInteger();
+
+    /**
+     * Moving average of the number of messages handed out per second. Only updated by the thread
+     * matching futures with batches.
+     */
+    private volatile DrainRate drainRate = new DrainRate(0, System.nanoTime());
+
+    /** Moving average of the time a ReceiveMessage call that returned messages took. */
+    private volatile long receiveLatencyNanos;
+
+    /** Whether the last ReceiveMessage call returned no messages. */
+    private volatile boolean queueEmpty;
 
     ReceiveQueueBuffer(AmazonSQS paramSQS, Executor paramExecutor, QueueBufferConfig paramConfig, String url) {
         config = paramConfig;
@@ -116,7 +145,7 @@ public class ReceiveQueueBuffer {
     public void shutdown() {
         shutDown = true;
         try {
-            while (inflightReceiveMessageBatches > 0)
+            while (inflightReceiveMessageBatches.get() > 0)
                 Thread.sleep(100);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -153,51 +182,53 @@ public class ReceiveQueueBuffer {
     }
 
     /**
-     * Creates and returns a new future object. Sleeps if the list of already-issued but as yet
-     * unsatisfied futures is over a throttle limit.
+     * Creates and returns a new future object.
      * 
      * @return never null
      */
     private ReceiveMessageFuture issueFuture(int size,
                                              QueueBufferCallback<ReceiveMessageRequest, ReceiveMessageResult> callback) {
-        synchronized (futures) {
-            ReceiveMessageFuture theFuture = new ReceiveMessageFuture(callback, size);
-            futures.addLast(theFuture);
-            return theFuture;
-        }
+        ReceiveMessageFuture theFuture = new ReceiveMessageFuture(callback, size);
+        requestedMessages.addAndGet(size);
+        futures.offer(theFuture);
+        return theFuture;
     }
 
     /**
      * Attempts to satisfy some or all of the already-issued futures from the local buffer. If the
-     * buffer is empty or there are no futures, this method won't do anything.
+     * buffer is empty or there are no futures, this method won't do anything. If another thread is
+     * already doing this, that thread is made to go through the futures again and this method
+     * returns right away.
      */
     private void satisfyFuturesFromBuffer() {
-        synchronized (futures) {
-            synchronized (finishedTasks) {
-                // attempt to satisfy futures until we run out of either futures or
-                // finished tasks
-                while ((!futures.isEmpty()) && (!finishedTasks.isEmpty())) {
-                    // Remove any expired tasks before attempting to fufill the future
-                    pruneExpiredTasks();
-                    // Fufill the future from a non expired task if there is one. There is still a
-                    // slight chance that the first task could have expired between the time we
-                    // pruned and the time we fufill the future
-                    if (!finishedTasks.isEmpty()) {
-                        fufillFuture(futures.poll());
-                    }
+        if (drainWip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            // attempt to satisfy futures until we run out of either futures or
+            // finished tasks
+            while (!futures.isEmpty()) {
+                // Remove any expired tasks before attempting to fufill the future
+                pruneExpiredTasks();
+                ReceiveMessageBatchTask task = finishedTasks.peek();
+                if (task == null) {
+                    break;
                 }
+                // There is still a slight chance that the task could have expired between the
+                // time we pruned and the time we fufill the future
+                fufillFuture(futures.poll(), task);
             }
-        }
+            missed = drainWip.addAndGet(-missed);
+        } while (missed != 0);
     }
 
     /**
      * Fills the future with whatever results were received by the full batch currently at the head
-     * of the completed batch queue. Those results may be retrieved messages, or an exception. This
-     * method assumes that you are holding the finished tasks lock locks when invoking it. violate
-     * this assumption at your own peril
+     * of the completed batch queue. Those results may be retrieved messages, or an exception. Only
+     * called by the thread currently matching futures with batches.
      */
-    private void fufillFuture(ReceiveMessageFuture future) {
-        ReceiveMessageBatchTask task = finishedTasks.getFirst();
+    private void fufillFuture(ReceiveMessageFuture future, ReceiveMessageBatchTask task) {
         ReceiveMessageResult result = new ReceiveMessageResult();
         LinkedList<Message> messages = new LinkedList<Message>();
         result.setMessages(messages);
@@ -219,9 +250,11 @@ public class ReceiveQueueBuffer {
         // we may have just drained the batch.
         batchDone = batchDone || task.isEmpty() || (exception != null);
         if (batchDone) {
-            finishedTasks.removeFirst();
+            removeFinishedTask(task);
         }
         result.setMessages(messages);
+        requestedMessages.addAndGet(-future.getRequestedSize());
+        recordDelivered(numRetrieved);
 
         // if after the above runs the exception is not null,
         // the finished batch has encountered an error, and we will
@@ -234,9 +267,16 @@ public class ReceiveQueueBuffer {
         }
     }
 
+    private void removeFinishedTask(ReceiveMessageBatchTask task) {
+        // clear() may have taken the task already
+        if (finishedTasks.remove(task)) {
+            finishedTaskCount.decrementAndGet();
+        }
+    }
+
     /**
-     * Prune any expired tasks that do not have an exception associated with them. This method
-     * assumes that you are holding the finishedTasks lock when invoking it
+     * Prune any expired tasks that do not have an exception associated with them. Only called by
+     * the thread currently matching futures with batches.
      */
     private void pruneExpiredTasks() {
         int numberExpiredTasksPruned = pruneHeadTasks(new Predicate<ReceiveQueueBuffer.ReceiveMessageBatchTask>() {
@@ -258,9 +298,9 @@ public class ReceiveQueueBuffer {
     }
 
     /**
-     * Prune all tasks at the beginning of the finishedTasks list that meet the given condition.
-     * Once a task is found that does not meet the given condition the pruning stops. This method
-     * assumes that you are holding the finishedTasks lock when invoking it.
+     * Prune all tasks at the beginning of the finishedTasks queue that meet the given condition.
+     * Once a task is found that does not meet the given condition the pruning stops. Only called
+     * by the thread currently matching futures with batches.
      * 
      * @param pruneCondition
      *            Condition on whether a task is eligible to be pruned
@@ -268,9 +308,11 @@ public class ReceiveQueueBuffer {
      */
     private int pruneHeadTasks(Predicate<ReceiveMessageBatchTask> pruneCondition) {
         int numberPruned = 0;
-        while (!finishedTasks.isEmpty()) {
-            if (pruneCondition.test(finishedTasks.getFirst())) {
-                finishedTasks.removeFirst();
+        ReceiveMessageBatchTask task;
+        while ((task = finishedTasks.peek()) != null) {
+            if (pruneCondition.test(task)) {
+                task.discardMessages();
+                removeFinishedTask(task);
                 numberPruned++;
             } else {
                 break;
@@ -288,79 +330,134 @@ public class ReceiveQueueBuffer {
             return;
         }
 
-        int desiredBatches = config.getMaxDoneReceiveBatches();
-        desiredBatches = desiredBatches < 1 ? 1 : desiredBatches;
+        int max = config.getMaxInflightReceiveBatches();
+        // must allow at least one inflight receive task, or receive won't
+        // work at all.
+        max = max > 0 ? max : 1;
+
+        int desiredInflight;
+        if (config.isAdaptivePrefetching()) {
+            desiredInflight = adaptiveInflightReceiveBatches(max);
+        } else {
+            int desiredBatches = config.getMaxDoneReceiveBatches();
+            desiredBatches = desiredBatches < 1 ? 1 : desiredBatches;
 
-        synchronized (finishedTasks) {
-            if (finishedTasks.size() >= desiredBatches)
+            int finished = finishedTaskCount.get();
+            if (finished >= desiredBatches)
                 return;
 
             // if we have some finished batches already, and
             // existing inflight batches will bring us to the limit,
             // don't spawn more. if our finished tasks cache is empty, we will
             // always spawn a thread.
-            if (finishedTasks.size() > 0 && (finishedTasks.size() + inflightReceiveMessageBatches) >= desiredBatches) {
+            if (finished > 0 && (finished + inflightReceiveMessageBatches.get()) >= desiredBatches) {
                 return;
             }
+            desiredInflight = max;
         }
 
-        synchronized (taskSpawnSyncPoint) {
-            if (visibilityTimeoutNanos == -1) {
-                GetQueueAttributesRequest request = new GetQueueAttributesRequest().withQueueUrl(qUrl)
-                        .withAttributeNames("VisibilityTimeout");
-                ResultConverter.appendUserAgent(request, AmazonSQSBufferedAsyncClient.USER_AGENT);
-                long visibilityTimeoutSeconds = Long.parseLong(sqsClient.getQueueAttributes(request).getAttributes()
-                        .get("VisibilityTimeout"));
-                visibilityTimeoutNanos = TimeUnit.NANOSECONDS.convert(visibilityTimeoutSeconds, TimeUnit.SECONDS);
-            }
+        if (inflightReceiveMessageBatches.get() >= desiredInflight) {
+            return;
+        }
 
-            int max = config.getMaxInflightReceiveBatches();
-            // must allow at least one inflight receive task, or receive won't
-            // work at all.
-            max = max > 0 ? max : 1;
-            int toSpawn = max - inflightReceiveMessageBatches;
-            if (toSpawn > 0) {
-                ReceiveMessageBatchTask task = new ReceiveMessageBatchTask(this);
-                ++inflightReceiveMessageBatches;
-                ++bufferCounter;
-                if (log.isTraceEnabled()) {
-                    log.trace("Spawned receive batch #" + bufferCounter + " (" + inflightReceiveMessageBatches + " of "
-                            + max + " inflight) for queue " + qUrl);
-                }
-                executor.execute(task);
+        if (visibilityTimeoutNanos == -1) {
+            GetQueueAttributesRequest request = new GetQueueAttributesRequest().withQueueUrl(qUrl)
+                    .withAttributeNames("VisibilityTimeout");
+            ResultConverter.appendUserAgent(request, AmazonSQSBufferedAsyncClient.USER_AGENT);
+            long visibilityTimeoutSeconds = Long.parseLong(sqsClient.getQueueAttributes(request).getAttributes()
+                    .get("VisibilityTimeout"));
+            visibilityTimeoutNanos = TimeUnit.NANOSECONDS.convert(visibilityTimeoutSeconds, TimeUnit.SECONDS);
+        }
+
+        int inflight;
+        do {
+            inflight = inflightReceiveMessageBatches.get();
+            if (inflight >= desiredInflight) {
+                return;
             }
+        } while (!inflightReceiveMessageBatches.compareAndSet(inflight, inflight + 1));
+
+        ReceiveMessageBatchTask task = new ReceiveMessageBatchTask(this);
+        long batchNumber = bufferCounter.incrementAndGet();
+        if (log.isTraceEnabled()) {
+            log.trace("Spawned receive batch #" + batchNumber + " (" + (inflight + 1) + " of " + desiredInflight
+                    + " inflight) for queue " + qUrl);
+        }
+        executor.execute(task);
+    }
+
+    /**
+     * The number of receive batches we want in flight when prefetching adaptively: enough to
+     * cover what consumers take while a ReceiveMessage call is in flight, twice over, but no more
+     * than they take in half a visibility timeout, so that prefetched messages are not left to
+     * expire in the buffer. Consumers already waiting for messages always get enough batches for
+     * what they asked for. When the queue was found empty, a single receive (a long poll, if
+     * enabled) is enough to notice new messages.
+     */
+    private int adaptiveInflightReceiveBatches(int max) {
+        final int waiting = requestedMessages.get();
+        if (queueEmpty) {
+            return waiting > 0 ? 1 : 0;
+        }
+
+        final int batchSize = Math.max(1, config.getMaxBatchSize());
+        final int maxBuffered = Math.max(1, config.getMaxDoneReceiveBatches()) * batchSize;
+        final double ratePerNano = drainRate.valueAt(System.nanoTime()) / DRAIN_RATE_TAU_NANOS;
+
+        double target = ratePerNano * receiveLatencyNanos * 2;
+        if (visibilityTimeoutNanos > 0) {
+            target = Math.min(target, ratePerNano * visibilityTimeoutNanos / 2);
         }
+        int missing = Math.max((int) Math.ceil(Math.min(target, maxBuffered)), waiting) - bufferedMessages.get();
+        int batches = missing > 0 ? (missing + batchSize - 1) / batchSize : 0;
+        return Math.min(max, batches);
+    }
+
+    /**
+     * Adds the given number of handed out messages to the consumption rate. Only called by the
+     * thread currently matching futures with batches.
+     */
+    private void recordDelivered(int count) {
+        long now = System.nanoTime();
+        drainRate = new DrainRate(drainRate.valueAt(now) + count, now);
     }
 
     /**
      * This method is called by the batches after they have finished retrieving the messages.
      */
     void reportBatchFinished(ReceiveMessageBatchTask batch) {
-        synchronized (finishedTasks) {
-            finishedTasks.addLast(batch);
-            if (log.isTraceEnabled()) {
-                log.info("Queue " + qUrl + " now has " + finishedTasks.size() + " receive results cached ");
-            }
-        }
-        synchronized (taskSpawnSyncPoint) {
-            --inflightReceiveMessageBatches;
+        finishedTasks.offer(batch);
+        int finished = finishedTaskCount.incrementAndGet();
+        if (log.isTraceEnabled()) {
+            log.trace("Queue " + qUrl + " now has " + finished + " receive results cached ");
         }
+        inflightReceiveMessageBatches.decrementAndGet();
         satisfyFuturesFromBuffer();
         spawnMoreReceiveTasks();
     }
 
+    /**
+     * Records the outcome of a ReceiveMessage call for adaptive prefetching.
+     */
+    private void recordReceive(int messageCount, long latencyNanos) {
+        queueEmpty = messageCount == 0;
+        if (messageCount > 0) {
+            long average = receiveLatencyNanos;
+            receiveLatencyNanos = average == 0 ? latencyNanos
+                    : (long) (average + RECEIVE_LATENCY_WEIGHT * (latencyNanos - average));
+        }
+    }
+
     /**
      * Clears and nacks any pre-fetched messages in this buffer.
      */
     public void clear() {
         boolean done = false;
         while (!done) {
-            ReceiveMessageBatchTask currentBatch = null;
-            synchronized (finishedTasks) {
-                currentBatch = finishedTasks.poll();
-            }
+            ReceiveMessageBatchTask currentBatch = finishedTasks.poll();
 
             if (currentBatch != null) {
+                finishedTaskCount.decrementAndGet();
                 currentBatch.clear();
             } else {
                 // ran out of batches to clear
@@ -369,6 +466,24 @@ public class ReceiveQueueBuffer {
         }
     }
 
+    /**
+     * An exponentially decaying count of handed out messages: {@code value / tau} is the average
+     * number of messages handed out per nanosecond over the last {@code tau} nanoseconds.
+     */
+    private static final class DrainRate {
+        private final double value;
+        private final long asOfNanos;
+
+        DrainRate(double value, long asOfNanos) {
+            this.value = value;
+            this.asOfNanos = asOfNanos;
+        }
+
+        double valueAt(long nanos) {
+            return value * Math.exp(-(nanos - asOfNanos) / DRAIN_RATE_TAU_NANOS);
+        }
+    }
+
     private class ReceiveMessageFuture extends QueueBufferFuture<ReceiveMessageRequest, ReceiveMessageResult> {
         /* how many messages did the request ask for */
         private int requestedSize;
@@ -393,33 +508,32 @@ public class ReceiveQueueBuffer {
     private class ReceiveMessageBatchTask implements Runnable {
         private Exception exception = null;
         private List<Message> messages;
+        /** the number of messages, from the start of the list, not handed out yet */
+        private final AtomicInteger remaining = new AtomicInteger();
         private long visibilityDeadlineNano;
-        private boolean open = false;
+        private volatile boolean open = false;
         private ReceiveQueueBuffer parentBuffer;
 
         /**
-         * Constructs a receive task waiting the specified time before calling SQS.
-         * 
-         * @param waitTimeMs
-         *            the time to wait before calling SQS
+         * Constructs a receive task.
          */
         ReceiveMessageBatchTask(ReceiveQueueBuffer paramParentBuffer) {
             parentBuffer = paramParentBuffer;
             messages = Collections.emptyList();
         }
 
-        synchronized boolean isEmpty() {
+        boolean isEmpty() {
             if (!open) {
                 throw new IllegalStateException("batch is not open");
             }
 
-            return messages.isEmpty();
+            return remaining.get() == 0;
         }
 
         /**
          * @return the exception that was thrown during execution, or null if there was no exception
          */
-        synchronized Exception getException() {
+        Exception getException() {
             if (!open) {
                 throw new IllegalStateException("batch is not open");
             }
@@ -434,49 +548,61 @@ public class ReceiveQueueBuffer {
          * 
          * @return a message or {@code null} if none is available
          */
-        synchronized Message removeMessage() {
+        Message removeMessage() {
             if (!open) {
                 throw new IllegalStateException("batch is not open");
             }
 
             // our messages expired.
             if (isExpired()) {
-                messages.clear();
+                discardMessages();
                 return null;
             }
 
-            if (messages.isEmpty())
-                return null;
-            else
-                return messages.remove(messages.size() - 1);
+            while (true) {
+                int count = remaining.get();
+                if (count == 0) {
+                    return null;
+                }
+                if (remaining.compareAndSet(count, count - 1)) {
+                    bufferedMessages.decrementAndGet();
+                    return messages.get(count - 1);
+                }
+            }
         }
 
         boolean isExpired() {
             return System.nanoTime() > visibilityDeadlineNano;
         }
 
+        /**
+         * Drops the messages remaining in the batch, without nacking them.
+         */
+        void discardMessages() {
+            bufferedMessages.addAndGet(-remaining.getAndSet(0));
+        }
+
         /**
          * Nacks and clears all messages remaining in the batch.
          */
-        synchronized void clear() {
+        void clear() {
             if (!open) {
                 throw new IllegalStateException("batch is not open");
             }
 
-            if (!isExpired()) {
+            int count = remaining.getAndSet(0);
+            bufferedMessages.addAndGet(-count);
+            if (count > 0 && !isExpired()) {
                 ChangeMessageVisibilityBatchRequest batchRequest = new ChangeMessageVisibilityBatchRequest()
                         .withQueueUrl(qUrl);
                 ResultConverter.appendUserAgent(batchRequest, AmazonSQSBufferedAsyncClient.USER_AGENT);
 
                 List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<ChangeMessageVisibilityBatchRequestEntry>(
-                        messages.size());
-
-                int i = 0;
-                for (Message m : messages) {
+                        count);
 
+                for (int i = 0; i < count; i++) {
                     entries.add(new ChangeMessageVisibilityBatchRequestEntry().withId(Integer.toString(i))
-                            .withReceiptHandle(m.getReceiptHandle()).withVisibilityTimeout(0));
-                    ++i;
+                            .withReceiptHandle(messages.get(i).getReceiptHandle()).withVisibilityTimeout(0));
                 }
 
                 try {
@@ -487,7 +613,6 @@ public class ReceiveQueueBuffer {
                     log.warn("ReceiveMessageBatchTask: changeMessageVisibility failed " + e);
                 }
             }
-            messages.clear();
         }
 
         /**
@@ -512,11 +637,15 @@ public class ReceiveQueueBuffer {
                     request.withWaitTimeSeconds(config.getLongPollWaitTimeoutSeconds());
                 }
 
+                long startNanos = System.nanoTime();
                 messages = sqsClient.receiveMessage(request).getMessages();
+                recordReceive(messages.size(), System.nanoTime() - startNanos);
             } catch (AmazonClientException e) {
                 exception = e;
             } finally {
                 // whatever happened, we are done and can be considered open
+                remaining.set(messages.size());
+                bufferedMessages.addAndGet(messages.size());
                 open = true;
                 parentBuffer.reportBatchFinished(this);
             }
@@ -16,9 +16,16 @@ package com.amazonaws.services.sqs.buffered;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -56,6 +63,12 @@ import com.amazonaws.services.sqs.model.SendMessageResult;
  * Internally, the batch objects maintain a list of futures corresponding to the requests added to
  * them. When a batch completes, it loads the results into the futures and marks the futures as
  * complete.
+ * <p>
+ * Adding a request to the open batch takes no locks: callers reserve a slot in the batch with a
+ * single compare-and-set, so many threads can send through the same buffer without queueing up
+ * behind each other. When the open batch is closed, one caller swaps in a new batch, and only
+ * that caller waits if {@code maxInflightOutboundBatches} batches are already in flight; the
+ * other callers keep adding their requests to the new batch in the meantime.
  */
 public class SendQueueBuffer {
     private static Log log = LogFactory.getLog(SendQueueBuffer.class);
@@ -82,37 +95,24 @@ public class SendQueueBuffer {
     private final Executor executor;
 
     /**
-     * Object used to serialize sendMessage calls.
+     * Current batching task for sendMessage.
      */
-    private final Object sendMessageLock = new Object();
+    private final AtomicReference<SendMessageBatchTask> openSendMessageBatchTask = new AtomicReference<SendMessageBatchTask>();
 
     /**
-     * Object used to serialize deleteMessage calls.
+     * Current batching task for deleteMessage.
      */
-    private final Object deleteMessageLock = new Object();
+    private final AtomicReference<DeleteMessageBatchTask> openDeleteMessageBatchTask = new AtomicReference<DeleteMessageBatchTask>();
 
     /**
-     * Object used to serialize changeMessageVisibility calls.
+     * Current batching task for changeMessageVisibility.
      */
-    private final Object changeMessageVisibilityLock = new Object();
+    private final AtomicReference<ChangeMessageVisibilityBatchTask> openChangeMessageVisibilityBatchTask = new AtomicReference<ChangeMessageVisibilityBatchTask>();
 
     /**
-     * Current batching task for sendMessage. Using a size 1 array to allow "passing by reference".
-     * Synchronized by {@code sendMessageLock}.
+     * The batches that were opened and have not completed yet, for {@code flush}.
      */
-    private final SendMessageBatchTask[] openSendMessageBatchTask = new SendMessageBatchTask[1];
-
-    /**
-     * Current batching task for deleteMessage. Using a size 1 array to allow
-     * "passing by reference". Synchronized by {@code deleteMessageLock}.
-     */
-    private final DeleteMessageBatchTask[] openDeleteMessageBatchTask = new DeleteMessageBatchTask[1];
-
-    /**
-     * Current batching task for changeMessageVisibility. Using a size 1 array to allow
-     * "passing by reference". Synchronized by {@code changeMessageVisibilityLock}.
-     */
-    private final ChangeMessageVisibilityBatchTask[] openChangeMessageVisibilityBatchTask = new ChangeMessageVisibilityBatchTask[1];
+    private final ConcurrentLinkedQueue<OutboundBatchTask<?, ?>> incompleteBatches = new ConcurrentLinkedQueue<OutboundBatchTask<?, ?>>();
 
     /**
      * Permits controlling the number of in flight SendMessage batches.
@@ -152,7 +152,7 @@ public class SendQueueBuffer {
      */
     public QueueBufferFuture<SendMessageRequest, SendMessageResult> sendMessage(SendMessageRequest request,
                                                                                 QueueBufferCallback<SendMessageRequest, SendMessageResult> callback) {
-        QueueBufferFuture<SendMessageRequest, SendMessageResult> result = submitOutboundRequest(sendMessageLock,
+        QueueBufferFuture<SendMessageRequest, SendMessageResult> result = submitOutboundRequest(
                 openSendMessageBatchTask, request, inflightSendMessageBatches, callback);
         return result;
     }
@@ -162,8 +162,7 @@ public class SendQueueBuffer {
      */
     public QueueBufferFuture<DeleteMessageRequest, DeleteMessageResult> deleteMessage(DeleteMessageRequest request,
                                                                        QueueBufferCallback<DeleteMessageRequest, DeleteMessageResult> callback) {
-        return submitOutboundRequest(deleteMessageLock, openDeleteMessageBatchTask, request,
-                inflightDeleteMessageBatches, callback);
+        return submitOutboundRequest(openDeleteMessageBatchTask, request, inflightDeleteMessageBatches, callback);
     }
 
     /**
@@ -171,7 +170,7 @@ public class SendQueueBuffer {
      */
     public QueueBufferFuture<ChangeMessageVisibilityRequest, ChangeMessageVisibilityResult> changeMessageVisibility(ChangeMessageVisibilityRequest request,
                                                                                            QueueBufferCallback<ChangeMessageVisibilityRequest, ChangeMessageVisibilityResult> callback) {
-        return submitOutboundRequest(changeMessageVisibilityLock, openChangeMessageVisibilityBatchTask, request,
+        return submitOutboundRequest(openChangeMessageVisibilityBatchTask, request,
                 inflightChangeMessageVisibilityBatches, callback);
     }
 
@@ -196,23 +195,16 @@ public class SendQueueBuffer {
      * Flushes all outstanding outbound requests ({@code SendMessage}, {@code DeleteMessage},
      * {@code ChangeMessageVisibility}) in this buffer.
      * <p>
+     * The currently open batches are sent right away, without waiting for {@code maxBatchOpenMs}.
      * The call returns successfully when all outstanding outbound requests submitted before the
      * call are completed (i.e. processed by SQS).
      */
     public void flush() {
 
         try {
-            synchronized (sendMessageLock) {
-                inflightSendMessageBatches.acquire(config.getMaxInflightOutboundBatches());
-                inflightSendMessageBatches.release(config.getMaxInflightOutboundBatches());
-            }
-            synchronized (deleteMessageLock) {
-                inflightDeleteMessageBatches.acquire(config.getMaxInflightOutboundBatches());
-                inflightDeleteMessageBatches.release(config.getMaxInflightOutboundBatches());
-            }
-            synchronized (changeMessageVisibilityLock) {
-                inflightChangeMessageVisibilityBatches.acquire(config.getMaxInflightOutboundBatches());
-                inflightChangeMessageVisibilityBatches.release(config.getMaxInflightOutboundBatches());
+            for (OutboundBatchTask<?, ?> obt : new ArrayList<OutboundBatchTask<?, ?>>(incompleteBatches)) {
+                obt.close();
+                obt.awaitCompletion();
             }
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
@@ -223,9 +215,6 @@ public class SendQueueBuffer {
      * Submits an outbound request for delivery to the queue associated with this buffer.
      * <p>
      *
-     * @param operationLock
-     *            the lock synchronizing calls for the call type ( {@code sendMessage},
-     *            {@code deleteMessage}, {@code changeMessageVisibility} )
      * @param openOutboundBatchTask
      *            the open batch task for this call type
      * @param request
@@ -237,59 +226,71 @@ public class SendQueueBuffer {
      *             (see the various outbound calls for details)
      */
     @SuppressWarnings("unchecked")
-    <OBT extends OutboundBatchTask<R, Result>, R extends AmazonWebServiceRequest, Result> QueueBufferFuture<R, Result> submitOutboundRequest(Object operationLock,
-                                                                                                                                             OBT[] openOutboundBatchTask,
+    <OBT extends OutboundBatchTask<R, Result>, R extends AmazonWebServiceRequest, Result> QueueBufferFuture<R, Result> submitOutboundRequest(AtomicReference<OBT> openOutboundBatchTask,
                                                                                                                                              R request,
                                                                                                                                              final Semaphore inflightOperationBatches,
                                                                                                                                              QueueBufferCallback<R, Result> callback) {
         /*
          * Callers add requests to a single batch task (openOutboundBatchTask) until it is full or
-         * maxBatchOpenMs elapses. The total number of batch task in flight is controlled by the
-         * inflightOperationBatch semaphore capped at maxInflightOutboundBatches.
+         * maxBatchOpenMs elapses. A caller that finds the open batch closed swaps in a new, empty
+         * batch and, if that works, takes a permit from the inflightOperationBatch semaphore (capped
+         * at maxInflightOutboundBatches) before scheduling it. Either way, it then tries again to
+         * add its request to whichever batch is open.
          */
-        QueueBufferFuture<R, Result> theFuture = null;
-        try {
-            synchronized (operationLock) {
-                if (openOutboundBatchTask[0] == null
-                        || ((theFuture = openOutboundBatchTask[0].addRequest(request, callback))) == null) {
-
-                    OBT obt = (OBT) newOutboundBatchTask(request);
-                    inflightOperationBatches.acquire();
-                    openOutboundBatchTask[0] = obt;
-
-                    // Register a listener for the event signaling that the
-                    // batch task has completed (successfully or not).
-                    openOutboundBatchTask[0].setOnCompleted(new Listener<OutboundBatchTask<R, Result>>() {
-                        @Override
-                        public void invoke(OutboundBatchTask<R, Result> task) {
-                            inflightOperationBatches.release();
-                        }
-                    });
+        while (true) {
+            final OBT current = openOutboundBatchTask.get();
+            if (current != null) {
+                QueueBufferFuture<R, Result> theFuture = current.addRequest(request, callback);
+                if (theFuture != null) {
+                    return theFuture;
+                }
+            }
 
-                    if (log.isTraceEnabled()) {
-                        log.trace("Queue " + qUrl + " created new batch for " + request.getClass().toString() + " "
-                                + inflightOperationBatches.availablePermits() + " free slots remain");
-                    }
+            final OBT obt = (OBT) newOutboundBatchTask(request);
+            // register the batch before anyone can add to it, so that flush() sees it
+            incompleteBatches.offer(obt);
+            if (!openOutboundBatchTask.compareAndSet(current, obt)) {
+                incompleteBatches.remove(obt);
+                obt.discard();
+                continue;
+            }
 
-                    theFuture = openOutboundBatchTask[0].addRequest(request, callback);
-                    executor.execute(openOutboundBatchTask[0]);
-                    if (null == theFuture) {
-                        // this can happen only if the request itself is flawed,
-                        // so that it can't be added to any batch, even a brand
-                        // new one
-                        throw new AmazonClientException("Failed to schedule request " + request + " for execution");
+            InterruptedException interrupted = null;
+            try {
+                inflightOperationBatches.acquire();
+            } catch (InterruptedException e) {
+                interrupted = e;
+            }
+
+            // Register a listener for the event signaling that the
+            // batch task has completed (successfully or not).
+            final boolean releasePermit = (interrupted == null);
+            obt.setOnCompleted(new Listener<OutboundBatchTask<R, Result>>() {
+                @Override
+                public void invoke(OutboundBatchTask<R, Result> task) {
+                    incompleteBatches.remove(task);
+                    if (releasePermit) {
+                        inflightOperationBatches.release();
                     }
                 }
+            });
+
+            if (log.isTraceEnabled()) {
+                log.trace("Queue " + qUrl + " created new batch for " + request.getClass().toString() + " "
+                        + inflightOperationBatches.availablePermits() + " free slots remain");
             }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            AmazonClientException toThrow = new AmazonClientException("Interrupted while waiting for lock.");
-            toThrow.initCause(e);
-            throw toThrow;
-        }
+            // Other callers may have added requests to the batch already, so it is sent even if we
+            // were interrupted while waiting for a permit.
+            executor.execute(obt);
 
-        return theFuture;
+            if (interrupted != null) {
+                Thread.currentThread().interrupt();
+                AmazonClientException toThrow = new AmazonClientException("Interrupted while waiting for lock.");
+                toThrow.initCause(interrupted);
+                throw toThrow;
+            }
+        }
     }
 
     /**
@@ -300,6 +301,12 @@ public class SendQueueBuffer {
      * are assembled into a single batch request to SQS. Specialized for each type of outbound
      * request.
      * <p>
+     * The number of requests in the batch, their total size in bytes and whether the batch is
+     * closed are packed into a single {@code long}, so that a request is added (and the batch
+     * closed when that makes it full) with one compare-and-set. The request and its future are
+     * then stored in the slot that was reserved, and the task waits for all reserved slots to be
+     * filled before sending the batch.
+     * <p>
      * Instances of this class (and subclasses) are thread-safe.
      *
      * @param <R>
@@ -309,16 +316,27 @@ public class SendQueueBuffer {
      */
     private abstract class OutboundBatchTask<R extends AmazonWebServiceRequest, Result> implements Runnable {
 
-        protected final List<R> requests;
-        protected final ArrayList<QueueBufferFuture<R, Result>> futures;
+        private static final long CLOSED = 1L << 63;
+        private static final int COUNT_SHIFT = 32;
+        private static final long BYTES_MASK = (1L << COUNT_SHIFT) - 1;
+
+        private final AtomicLong state = new AtomicLong();
+        private final AtomicReferenceArray<R> requests;
+        private final AtomicReferenceArray<QueueBufferFuture<R, Result>> futures;
+
+        /** The number of reserved slots whose request and future have been stored. */
+        private final AtomicInteger filled = new AtomicInteger();
+
+        /** The thread waiting for this batch to close, if any. */
+        private volatile Thread waiter;
 
-        private boolean closed;
+        private final CountDownLatch completed = new CountDownLatch(1);
 
         private volatile Listener<OutboundBatchTask<R, Result>> onCompleted;
 
         public OutboundBatchTask() {
-            this.requests = new ArrayList<R>(config.getMaxBatchSize());
-            this.futures = new ArrayList<QueueBufferFuture<R, Result>>(config.getMaxBatchSize());
+            this.requests = new AtomicReferenceArray<R>(Math.max(1, config.getMaxBatchSize()));
+            this.futures = new AtomicReferenceArray<QueueBufferFuture<R, Result>>(requests.length());
         }
 
         public void setOnCompleted(Listener<OutboundBatchTask<R, Result>> value) {
@@ -331,86 +349,115 @@ public class SendQueueBuffer {
          * @return the future that can be used to get the results of the execution, or null if the
          *         addition failed.
          */
-        public synchronized QueueBufferFuture<R, Result> addRequest(R request, QueueBufferCallback<R, Result> callback) {
+        public QueueBufferFuture<R, Result> addRequest(R request, QueueBufferCallback<R, Result> callback) {
+            final long requestBytes = sizeOf(request);
 
-            if (closed) {
-                return null;
-            }
+            while (true) {
+                long current = state.get();
+                if ((current & CLOSED) != 0) {
+                    return null;
+                }
 
-            QueueBufferFuture<R, Result> theFuture = addIfAllowed(request, callback);
+                int count = (int) (current >>> COUNT_SHIFT);
+                long bytes = current & BYTES_MASK;
+                if (count >= requests.length() || !isOkToAdd(count, bytes, requestBytes)) {
+                    if (count == 0) {
+                        // this can happen only if the request itself is flawed,
+                        // so that it can't be added to any batch, even a brand
+                        // new one
+                        throw new AmazonClientException("Failed to schedule request " + request + " for execution");
+                    }
+                    // the addition did not work, so we can close the batch.
+                    close();
+                    return null;
+                }
 
-            // if the addition did not work, or this addition made us full,
-            // we can close the request.
-            if ((null == theFuture) || isFull()) {
-                closed = true;
-                notify();
+                long next = ((long) (count + 1) << COUNT_SHIFT) | (bytes + requestBytes);
+                boolean full = isFull(count + 1, bytes + requestBytes);
+                if (full) {
+                    next |= CLOSED;
+                }
+                if (state.compareAndSet(current, next)) {
+                    QueueBufferFuture<R, Result> theFuture = new QueueBufferFuture<R, Result>(callback);
+                    requests.set(count, request);
+                    futures.set(count, theFuture);
+                    filled.incrementAndGet();
+                    if (full) {
+                        LockSupport.unpark(waiter);
+                    }
+                    return theFuture;
+                }
             }
-
-            return theFuture;
         }
 
         /**
-         * Adds the request to the batch if capacity allows it. Called by {@code addRequest} with a
-         * lock on {@code this} held.
+         * Closes the batch to further requests and wakes up the task if it is waiting for
+         * {@code maxBatchOpenMs} to elapse.
          *
-         * @param request
-         * @return the future that will be signaled when the request is completed and can be used to
-         *         retrieve the result. Can be null if the addition could not be done
+         * @return the number of requests in the closed batch
          */
-        private QueueBufferFuture<R, Result> addIfAllowed(R request, QueueBufferCallback<R, Result> callback) {
-
-            if (isOkToAdd(request)) {
-
-                requests.add(request);
-
-                QueueBufferFuture<R, Result> theFuture = new QueueBufferFuture<R, Result>(callback);
+        int close() {
+            while (true) {
+                long current = state.get();
+                if ((current & CLOSED) != 0) {
+                    return (int) ((current & ~CLOSED) >>> COUNT_SHIFT);
+                }
+                if (state.compareAndSet(current, current | CLOSED)) {
+                    LockSupport.unpark(waiter);
+                    return (int) (current >>> COUNT_SHIFT);
+                }
+            }
+        }
 
-                futures.add(theFuture);
-                onRequestAdded(request);
-                return theFuture;
+        /**
+         * Waits for the batch to be processed.
+         */
+        void awaitCompletion() throws InterruptedException {
+            completed.await();
+        }
 
-            } else {
-                return null;
-            }
+        /**
+         * Marks a batch that was never opened to callers as completed.
+         */
+        void discard() {
+            completed.countDown();
         }
 
         /**
-         * Checks whether it's okay to add the request to this buffer. Called by
-         * {@code addIfAllowed} with a lock on {@code this} held.
-         *
-         * @param request
-         *            the request to add
-         * @return true if the request is okay to add, false otherwise
+         * The size of the request, counted towards the limit checked by {@code isOkToAdd} and
+         * {@code isFull}.
          */
-        protected boolean isOkToAdd(R request) {
-            return requests.size() < config.getMaxBatchSize();
+        protected long sizeOf(R request) {
+            return 0;
         }
 
         /**
-         * A hook to be run when a request is successfully added to this buffer. Called by
-         * {@code addIfAllowed} with a lock on {@code this} held.
+         * Checks whether it's okay to add the request to this buffer.
          *
-         * @param request
-         *            the request that was added
+         * @param count
+         *            the number of requests already in the batch
+         * @param bytes
+         *            the total size of the requests already in the batch
+         * @param requestBytes
+         *            the size of the request to add
+         * @return true if the request is okay to add, false otherwise
          */
-        protected void onRequestAdded(R request) {
-            // to be overridden by subclasses
+        protected boolean isOkToAdd(int count, long bytes, long requestBytes) {
+            return count < config.getMaxBatchSize();
         }
 
         /**
-         * Checks whether the buffer is now full. Called by {@code addIfAllowed} with a lock on
-         * {@code this} held.
+         * Checks whether a batch of the given size is full.
          *
          * @return whether the buffer is filled to capacity
          */
-        protected boolean isFull() {
-            return requests.size() >= config.getMaxBatchSize();
+        protected boolean isFull(int count, long bytes) {
+            return count >= config.getMaxBatchSize();
         }
 
         /**
-         * Processes the batch once closed. Is <em>NOT</em> called with a lock on {@code this}.
-         * However, it's passed a local copy of both the {@code requests} and {@code futures} lists
-         * made while holding the lock.
+         * Processes the batch once closed. Is passed a copy of the requests and futures of the
+         * batch, in the order they were added.
          */
         protected abstract void process(List<R> requests, List<QueueBufferFuture<R, Result>> futures);
 
@@ -418,26 +465,28 @@ public class SendQueueBuffer {
         public final void run() {
             try {
 
-                long deadlineMs = TimeUnit.MILLISECONDS.convert(System.nanoTime(), TimeUnit.NANOSECONDS)
-                        + config.getMaxBatchOpenMs() + 1;
-                long t = TimeUnit.MILLISECONDS.convert(System.nanoTime(), TimeUnit.NANOSECONDS);
-
-                List<R> requests;
-                List<QueueBufferFuture<R, Result>> futures;
+                long deadlineNanos = System.nanoTime()
+                        + TimeUnit.NANOSECONDS.convert(config.getMaxBatchOpenMs() + 1, TimeUnit.MILLISECONDS);
 
-                synchronized (this) {
-                    while (!closed && (t < deadlineMs)) {
-                        t = TimeUnit.MILLISECONDS.convert(System.nanoTime(), TimeUnit.NANOSECONDS);
-
-                        // zero means "wait forever", can't have that.
-                        long toWait = Math.max(1, deadlineMs - t);
-                        wait(toWait);
+                waiter = Thread.currentThread();
+                try {
+                    long toWait;
+                    while ((state.get() & CLOSED) == 0 && (toWait = deadlineNanos - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(this, toWait);
+                        if (Thread.interrupted()) {
+                            throw new InterruptedException();
+                        }
                     }
+                } finally {
+                    waiter = null;
+                }
 
-                    closed = true;
-
-                    requests = new ArrayList<R>(this.requests);
-                    futures = new ArrayList<QueueBufferFuture<R, Result>>(this.futures);
+                int count = awaitFilled(close());
+                List<R> requests = new ArrayList<R>(count);
+                List<QueueBufferFuture<R, Result>> futures = new ArrayList<QueueBufferFuture<R, Result>>(count);
+                for (int i = 0; i < count; i++) {
+                    requests.add(this.requests.get(i));
+                    futures.add(this.futures.get(i));
                 }
 
                 process(requests, futures);
@@ -459,34 +508,44 @@ public class SendQueueBuffer {
                 if (listener != null) {
                     listener.invoke(this);
                 }
+                completed.countDown();
+            }
+        }
+
+        /**
+         * Waits for the callers that reserved a slot in the closed batch to store their request.
+         * That only takes a few instructions, so we spin rather than block.
+         */
+        private int awaitFilled(int count) {
+            while (filled.get() < count) {
+                Thread.yield();
             }
+            return count;
         }
 
         private void failAll(Exception e) {
-            for (QueueBufferFuture<R, Result> f : futures) {
-                f.setFailure(e);
+            int count = awaitFilled(close());
+            for (int i = 0; i < count; i++) {
+                futures.get(i).setFailure(e);
             }
         }
     }
 
     private class SendMessageBatchTask extends OutboundBatchTask<SendMessageRequest, SendMessageResult> {
 
-        int batchSizeBytes = 0;
-
         @Override
-        protected boolean isOkToAdd(SendMessageRequest request) {
-            return (requests.size() < config.getMaxBatchSize())
-                    && ((request.getMessageBody().getBytes().length + batchSizeBytes) < config.getMaxBatchSizeBytes());
+        protected long sizeOf(SendMessageRequest request) {
+            return request.getMessageBody().getBytes().length;
         }
 
         @Override
-        protected void onRequestAdded(SendMessageRequest request) {
-            batchSizeBytes += request.getMessageBody().getBytes().length;
+        protected boolean isOkToAdd(int count, long bytes, long requestBytes) {
+            return (count < config.getMaxBatchSize()) && ((requestBytes + bytes) < config.getMaxBatchSizeBytes());
         }
 
         @Override
-        protected boolean isFull() {
-            return (requests.size() >= config.getMaxBatchSize()) || (batchSizeBytes >= config.getMaxBatchSizeBytes());
+        protected boolean isFull(int count, long bytes) {
+            return (count >= config.getMaxBatchSize()) || (bytes >= config.getMaxBatchSizeBytes());
         }
 
         @Override
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sqs.buffered;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.services.sqs.AbstractAmazonSQS;
+import com.amazonaws.services.sqs.model.GetQueueAttributesRequest;
+import com.amazonaws.services.sqs.model.GetQueueAttributesResult;
+import com.amazonaws.services.sqs.model.Message;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+
+public class ReceiveQueueBufferTest {
+
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue";
+
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void concurrentReceivesHandOutEachMessageOnce() throws Exception {
+        final ReceiveQueueBuffer buffer = newBuffer(new QueueBufferConfig(), new RecordingSQS(Integer.MAX_VALUE, 0));
+        final Set<String> received = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+        final AtomicInteger receivedCount = new AtomicInteger();
+
+        List<Future<?>> consumers = new ArrayList<Future<?>>();
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            for (int t = 0; t < 8; t++) {
+                consumers.add(callers.submit(new Callable<Void>() {
+                    public Void call() throws Exception {
+                        for (int i = 0; i < 100; i++) {
+                            ReceiveMessageRequest request = new ReceiveMessageRequest(QUEUE_URL)
+                                    .withMaxNumberOfMessages(1 + i % 10);
+                            for (Message message : buffer.receiveMessageAsync(request, null)
+                                    .get(30, TimeUnit.SECONDS).getMessages()) {
+                                received.add(message.getMessageId());
+                                receivedCount.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<?> consumer : consumers) {
+                consumer.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            callers.shutdownNow();
+            buffer.shutdown();
+        }
+
+        assertTrue(receivedCount.get() > 0);
+        assertEquals(receivedCount.get(), received.size());
+    }
+
+    @Test
+    public void fixedPrefetchingFillsTheBufferUpToMaxDoneReceiveBatches() throws Exception {
+        RecordingSQS sqs = new RecordingSQS(Integer.MAX_VALUE, 0);
+        ReceiveQueueBuffer buffer = newBuffer(new QueueBufferConfig().withMaxDoneReceiveBatches(3), sqs);
+
+        assertEquals(10, receive(buffer, 10).getMessages().size());
+
+        // The batch handed out, plus three batches kept in the buffer
+        awaitReceives(sqs, 4);
+        Thread.sleep(200);
+        assertEquals(4, sqs.receives.get());
+        buffer.shutdown();
+    }
+
+    @Test
+    public void adaptivePrefetchingKeepsLittleBufferedForASlowConsumer() throws Exception {
+        RecordingSQS sqs = new RecordingSQS(Integer.MAX_VALUE, 0);
+        ReceiveQueueBuffer buffer = newBuffer(
+                new QueueBufferConfig().withMaxDoneReceiveBatches(3).withAdaptivePrefetching(true), sqs);
+
+        assertEquals(10, receive(buffer, 10).getMessages().size());
+
+        // The batch handed out, plus at most one batch for the little consumed so far
+        Thread.sleep(200);
+        assertTrue("Receives: " + sqs.receives.get(), sqs.receives.get() <= 2);
+        buffer.shutdown();
+    }
+
+    @Test
+    public void adaptivePrefetchingStopsWhenTheQueueIsEmpty() throws Exception {
+        RecordingSQS sqs = new RecordingSQS(0, 0);
+        ReceiveQueueBuffer buffer = newBuffer(new QueueBufferConfig().withAdaptivePrefetching(true), sqs);
+
+        assertEquals(0, receive(buffer, 10).getMessages().size());
+
+        Thread.sleep(200);
+        assertEquals(1, sqs.receives.get());
+        buffer.shutdown();
+    }
+
+    @Test
+    public void adaptivePrefetchingKeepsSeveralReceivesInFlightForFastConsumers() throws Exception {
+        RecordingSQS sqs = new RecordingSQS(Integer.MAX_VALUE, 50);
+        ReceiveQueueBuffer buffer = newBuffer(
+                new QueueBufferConfig().withMaxInflightReceiveBatches(5).withAdaptivePrefetching(true), sqs);
+
+        int consumed = 0;
+        while (consumed < 1000) {
+            consumed += receive(buffer, 10).getMessages().size();
+        }
+        buffer.shutdown();
+
+        assertTrue("Max in flight was " + sqs.maxInflight.get(), sqs.maxInflight.get() >= 2);
+        assertTrue("Max in flight was " + sqs.maxInflight.get(), sqs.maxInflight.get() <= 5);
+    }
+
+    private ReceiveQueueBuffer newBuffer(QueueBufferConfig config, RecordingSQS sqs) {
+        return new ReceiveQueueBuffer(sqs, executor, config, QUEUE_URL);
+    }
+
+    private static ReceiveMessageResult receive(ReceiveQueueBuffer buffer, int maxMessages) throws Exception {
+        return buffer.receiveMessageAsync(new ReceiveMessageRequest(QUEUE_URL).withMaxNumberOfMessages(maxMessages),
+                null).get(30, TimeUnit.SECONDS);
+    }
+
+    private static void awaitReceives(RecordingSQS sqs, int receives) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (sqs.receives.get() < receives && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Returns batches of messages with unique ids, until the given number of messages have been
+     * returned, each ReceiveMessage call taking the given time.
+     */
+    private static class RecordingSQS extends AbstractAmazonSQS {
+        private final int messageCount;
+        private final long latencyMillis;
+        private final AtomicInteger messagesReturned = new AtomicInteger();
+        private final AtomicInteger receives = new AtomicInteger();
+        private final AtomicInteger inflight = new AtomicInteger();
+        private final AtomicInteger maxInflight = new AtomicInteger();
+
+        RecordingSQS(int messageCount, long latencyMillis) {
+            this.messageCount = messageCount;
+            this.latencyMillis = latencyMillis;
+        }
+
+        @Override
+        public GetQueueAttributesResult getQueueAttributes(GetQueueAttributesRequest request) {
+            return new GetQueueAttributesResult().addAttributesEntry("VisibilityTimeout", "30");
+        }
+
+        @Override
+        public ReceiveMessageResult receiveMessage(ReceiveMessageRequest request) {
+            receives.incrementAndGet();
+            int current = inflight.incrementAndGet();
+            int max;
+            while (current > (max = maxInflight.get()) && !maxInflight.compareAndSet(max, current)) {
+            }
+            try {
+                if (latencyMillis > 0) {
+                    Thread.sleep(latencyMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inflight.decrementAndGet();
+            }
+
+            List<Message> messages = new ArrayList<Message>();
+            for (int i = 0; i < request.getMaxNumberOfMessages(); i++) {
+                int id = messagesReturned.getAndIncrement();
+                if (id >= messageCount) {
+                    break;
+                }
+                messages.add(new Message().withMessageId(Integer.toString(id)).withReceiptHandle("handle-" + id));
+            }
+            return new ReceiveMessageResult().withMessages(messages);
+        }
+    }
+}
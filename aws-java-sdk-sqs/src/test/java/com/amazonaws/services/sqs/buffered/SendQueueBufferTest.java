@@ -0,0 +1,213 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sqs.buffered;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.sqs.AbstractAmazonSQS;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.SendMessageBatchResult;
+import com.amazonaws.services.sqs.model.SendMessageBatchResultEntry;
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageResult;
+
+public class SendQueueBufferTest {
+
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue";
+
+    private ExecutorService executor;
+    private RecordingSQS sqs;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+        sqs = new RecordingSQS();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void concurrentSendsAreEachSentOnceInFullBatches() throws Exception {
+        // Batches only close when full, or when flushed
+        final SendQueueBuffer buffer = newBuffer(new QueueBufferConfig().withMaxBatchOpenMs(60000));
+        final int threads = 8;
+        final int messagesPerThread = 250;
+
+        List<Future<List<QueueBufferFuture<SendMessageRequest, SendMessageResult>>>> senders =
+                new ArrayList<Future<List<QueueBufferFuture<SendMessageRequest, SendMessageResult>>>>();
+        ExecutorService callers = Executors.newFixedThreadPool(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                final int thread = t;
+                senders.add(callers.submit(
+                        new Callable<List<QueueBufferFuture<SendMessageRequest, SendMessageResult>>>() {
+                            public List<QueueBufferFuture<SendMessageRequest, SendMessageResult>> call() {
+                                List<QueueBufferFuture<SendMessageRequest, SendMessageResult>> futures =
+                                        new ArrayList<QueueBufferFuture<SendMessageRequest, SendMessageResult>>();
+                                for (int i = 0; i < messagesPerThread; i++) {
+                                    futures.add(buffer.sendMessage(
+                                            new SendMessageRequest(QUEUE_URL, thread + "-" + i), null));
+                                }
+                                return futures;
+                            }
+                        }));
+            }
+
+            List<QueueBufferFuture<SendMessageRequest, SendMessageResult>> futures =
+                    new ArrayList<QueueBufferFuture<SendMessageRequest, SendMessageResult>>();
+            for (Future<List<QueueBufferFuture<SendMessageRequest, SendMessageResult>>> sender : senders) {
+                futures.addAll(sender.get(30, TimeUnit.SECONDS));
+            }
+            buffer.flush();
+
+            for (QueueBufferFuture<SendMessageRequest, SendMessageResult> future : futures) {
+                assertTrue(future.isDone());
+                future.get();
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        Set<String> bodies = new HashSet<String>();
+        int partialBatches = 0;
+        for (SendMessageBatchRequest batch : sqs.batches) {
+            assertTrue(batch.getEntries().size() <= QueueBufferConfig.MAX_BATCH_SIZE_DEFAULT);
+            if (batch.getEntries().size() < QueueBufferConfig.MAX_BATCH_SIZE_DEFAULT) {
+                partialBatches++;
+            }
+            for (SendMessageBatchRequestEntry entry : batch.getEntries()) {
+                assertTrue("Sent twice: " + entry.getMessageBody(), bodies.add(entry.getMessageBody()));
+            }
+        }
+        assertEquals(threads * messagesPerThread, bodies.size());
+        // Only the batch open at the time of the flush may be partial
+        assertTrue(partialBatches <= 1);
+    }
+
+    @Test
+    public void flushSendsTheOpenBatchWithoutWaitingForItToClose() throws Exception {
+        SendQueueBuffer buffer = newBuffer(new QueueBufferConfig().withMaxBatchOpenMs(60000));
+
+        List<QueueBufferFuture<SendMessageRequest, SendMessageResult>> futures = send(buffer, "a", "b", "c");
+        long start = System.nanoTime();
+        buffer.flush();
+
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(30));
+        for (QueueBufferFuture<SendMessageRequest, SendMessageResult> future : futures) {
+            assertTrue(future.isDone());
+        }
+        assertEquals(Arrays.asList(3), sqs.batchSizes());
+    }
+
+    @Test
+    public void batchIsClosedAtTheMaxBatchSize() throws Exception {
+        SendQueueBuffer buffer = newBuffer(new QueueBufferConfig().withMaxBatchOpenMs(60000).withMaxBatchSize(3));
+
+        send(buffer, "1", "2", "3", "4", "5", "6", "7");
+        buffer.flush();
+
+        assertEquals(Arrays.asList(3, 3, 1), sqs.batchSizes());
+    }
+
+    @Test
+    public void batchIsClosedAtTheMaxBatchSizeBytes() throws Exception {
+        SendQueueBuffer buffer = newBuffer(
+                new QueueBufferConfig().withMaxBatchOpenMs(60000).withMaxBatchSizeBytes(100));
+        String body = new String(new char[40]).replace('\0', 'x');
+
+        send(buffer, body, body, body, body, body, body);
+        buffer.flush();
+
+        // A third 40 byte message would take the batch to the limit
+        assertEquals(Arrays.asList(2, 2, 2), sqs.batchSizes());
+    }
+
+    @Test
+    public void messageLargerThanMaxBatchSizeBytesIsRejected() {
+        SendQueueBuffer buffer = newBuffer(new QueueBufferConfig().withMaxBatchSizeBytes(10));
+        try {
+            buffer.sendMessage(new SendMessageRequest(QUEUE_URL, "more than ten bytes"), null);
+            fail("Expected AmazonClientException");
+        } catch (AmazonClientException expected) {
+        }
+    }
+
+    private SendQueueBuffer newBuffer(QueueBufferConfig config) {
+        return new SendQueueBuffer(sqs, executor, config, QUEUE_URL);
+    }
+
+    private static List<QueueBufferFuture<SendMessageRequest, SendMessageResult>> send(SendQueueBuffer buffer,
+                                                                                       String... bodies) {
+        List<QueueBufferFuture<SendMessageRequest, SendMessageResult>> futures =
+                new ArrayList<QueueBufferFuture<SendMessageRequest, SendMessageResult>>();
+        for (String body : bodies) {
+            futures.add(buffer.sendMessage(new SendMessageRequest(QUEUE_URL, body), null));
+        }
+        return futures;
+    }
+
+    private static class RecordingSQS extends AbstractAmazonSQS {
+        private final ConcurrentLinkedQueue<SendMessageBatchRequest> batches =
+                new ConcurrentLinkedQueue<SendMessageBatchRequest>();
+
+        @Override
+        public SendMessageBatchResult sendMessageBatch(SendMessageBatchRequest request) {
+            batches.add(request);
+            SendMessageBatchResult result = new SendMessageBatchResult();
+            for (SendMessageBatchRequestEntry entry : request.getEntries()) {
+                result.getSuccessful().add(new SendMessageBatchResultEntry().withId(entry.getId())
+                        .withMessageId(entry.getMessageBody()));
+            }
+            return result;
+        }
+
+        /**
+         * The sizes of the batches sent, largest first, since batches closed one after the other
+         * may still be sent in any order.
+         */
+        List<Integer> batchSizes() {
+            List<Integer> sizes = new ArrayList<Integer>();
+            for (SendMessageBatchRequest batch : batches) {
+                sizes.add(batch.getEntries().size());
+            }
+            Collections.sort(sizes, Collections.reverseOrder());
+            return sizes;
+        }
+    }
+}
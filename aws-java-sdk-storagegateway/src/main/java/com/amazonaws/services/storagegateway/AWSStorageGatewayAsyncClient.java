@@ -15,6 +15,10 @@
 package com.amazonaws.services.storagegateway;
 
 import com.amazonaws.services.storagegateway.model.*;
+import com.amazonaws.services.storagegateway.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -372,27 +376,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ActivateGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<ActivateGatewayRequest, ActivateGatewayResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ActivateGatewayResult>() {
-                    @Override
-                    public ActivateGatewayResult call() throws Exception {
-                        ActivateGatewayResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ActivateGatewayResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ActivateGatewayResultJsonUnmarshaller());
 
-                        try {
-                            result = activateGateway(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ActivateGatewayRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -407,27 +399,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final AddCacheRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddCacheRequest, AddCacheResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddCacheResult>() {
-                    @Override
-                    public AddCacheResult call() throws Exception {
-                        AddCacheResult result;
-
-                        try {
-                            result = addCache(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<AddCacheResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddCacheResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AddCacheRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -442,27 +422,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final AddTagsToResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddTagsToResourceRequest, AddTagsToResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddTagsToResourceResult>() {
-                    @Override
-                    public AddTagsToResourceResult call() throws Exception {
-                        AddTagsToResourceResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AddTagsToResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddTagsToResourceResultJsonUnmarshaller());
 
-                        try {
-                            result = addTagsToResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AddTagsToResourceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -477,27 +445,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final AddUploadBufferRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddUploadBufferRequest, AddUploadBufferResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddUploadBufferResult>() {
-                    @Override
-                    public AddUploadBufferResult call() throws Exception {
-                        AddUploadBufferResult result;
-
-                        try {
-                            result = addUploadBuffer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<AddUploadBufferResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddUploadBufferResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AddUploadBufferRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -512,27 +468,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final AddWorkingStorageRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddWorkingStorageRequest, AddWorkingStorageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddWorkingStorageResult>() {
-                    @Override
-                    public AddWorkingStorageResult call() throws Exception {
-                        AddWorkingStorageResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AddWorkingStorageResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddWorkingStorageResultJsonUnmarshaller());
 
-                        try {
-                            result = addWorkingStorage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AddWorkingStorageRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -547,27 +491,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CancelArchivalRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelArchivalRequest, CancelArchivalResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CancelArchivalResult>() {
-                    @Override
-                    public CancelArchivalResult call() throws Exception {
-                        CancelArchivalResult result;
-
-                        try {
-                            result = cancelArchival(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CancelArchivalResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CancelArchivalResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CancelArchivalRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -582,27 +514,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CancelRetrievalRequest request,
             final com.amazonaws.handlers.AsyncHandler<CancelRetrievalRequest, CancelRetrievalResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CancelRetrievalResult>() {
-                    @Override
-                    public CancelRetrievalResult call() throws Exception {
-                        CancelRetrievalResult result;
-
-                        try {
-                            result = cancelRetrieval(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CancelRetrievalResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CancelRetrievalResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CancelRetrievalRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -617,28 +537,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateCachediSCSIVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCachediSCSIVolumeRequest, CreateCachediSCSIVolumeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateCachediSCSIVolumeResult>() {
-                    @Override
-                    public CreateCachediSCSIVolumeResult call()
-                            throws Exception {
-                        CreateCachediSCSIVolumeResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateCachediSCSIVolumeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateCachediSCSIVolumeResultJsonUnmarshaller());
 
-                        try {
-                            result = createCachediSCSIVolume(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateCachediSCSIVolumeRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -653,27 +560,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateSnapshotRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSnapshotRequest, CreateSnapshotResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateSnapshotResult>() {
-                    @Override
-                    public CreateSnapshotResult call() throws Exception {
-                        CreateSnapshotResult result;
-
-                        try {
-                            result = createSnapshot(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateSnapshotResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateSnapshotResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateSnapshotRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -688,28 +583,16 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateSnapshotFromVolumeRecoveryPointRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSnapshotFromVolumeRecoveryPointRequest, CreateSnapshotFromVolumeRecoveryPointResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateSnapshotFromVolumeRecoveryPointResult>() {
-                    @Override
-                    public CreateSnapshotFromVolumeRecoveryPointResult call()
-                            throws Exception {
-                        CreateSnapshotFromVolumeRecoveryPointResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateSnapshotFromVolumeRecoveryPointResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateSnapshotFromVolumeRecoveryPointResultJsonUnmarshaller());
 
-                        try {
-                            result = createSnapshotFromVolumeRecoveryPoint(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateSnapshotFromVolumeRecoveryPointRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -724,28 +607,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateStorediSCSIVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateStorediSCSIVolumeRequest, CreateStorediSCSIVolumeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateStorediSCSIVolumeResult>() {
-                    @Override
-                    public CreateStorediSCSIVolumeResult call()
-                            throws Exception {
-                        CreateStorediSCSIVolumeResult result;
-
-                        try {
-                            result = createStorediSCSIVolume(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateStorediSCSIVolumeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateStorediSCSIVolumeResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateStorediSCSIVolumeRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -760,27 +630,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateTapeWithBarcodeRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTapeWithBarcodeRequest, CreateTapeWithBarcodeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateTapeWithBarcodeResult>() {
-                    @Override
-                    public CreateTapeWithBarcodeResult call() throws Exception {
-                        CreateTapeWithBarcodeResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateTapeWithBarcodeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateTapeWithBarcodeResultJsonUnmarshaller());
 
-                        try {
-                            result = createTapeWithBarcode(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateTapeWithBarcodeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -795,27 +653,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final CreateTapesRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTapesRequest, CreateTapesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateTapesResult>() {
-                    @Override
-                    public CreateTapesResult call() throws Exception {
-                        CreateTapesResult result;
-
-                        try {
-                            result = createTapes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateTapesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateTapesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateTapesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -830,28 +676,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteBandwidthRateLimitRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteBandwidthRateLimitRequest, DeleteBandwidthRateLimitResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteBandwidthRateLimitResult>() {
-                    @Override
-                    public DeleteBandwidthRateLimitResult call()
-                            throws Exception {
-                        DeleteBandwidthRateLimitResult result;
-
-                        try {
-                            result = deleteBandwidthRateLimit(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteBandwidthRateLimitResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteBandwidthRateLimitResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteBandwidthRateLimitRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -866,27 +699,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteChapCredentialsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteChapCredentialsRequest, DeleteChapCredentialsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteChapCredentialsResult>() {
-                    @Override
-                    public DeleteChapCredentialsResult call() throws Exception {
-                        DeleteChapCredentialsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteChapCredentialsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteChapCredentialsResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteChapCredentials(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteChapCredentialsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -901,27 +722,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteGatewayRequest, DeleteGatewayResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteGatewayResult>() {
-                    @Override
-                    public DeleteGatewayResult call() throws Exception {
-                        DeleteGatewayResult result;
-
-                        try {
-                            result = deleteGateway(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteGatewayResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteGatewayResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteGatewayRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -936,27 +745,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteSnapshotScheduleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSnapshotScheduleRequest, DeleteSnapshotScheduleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteSnapshotScheduleResult>() {
-                    @Override
-                    public DeleteSnapshotScheduleResult call() throws Exception {
-                        DeleteSnapshotScheduleResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteSnapshotScheduleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteSnapshotScheduleResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteSnapshotSchedule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteSnapshotScheduleRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -971,27 +768,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteTapeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTapeRequest, DeleteTapeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteTapeResult>() {
-                    @Override
-                    public DeleteTapeResult call() throws Exception {
-                        DeleteTapeResult result;
-
-                        try {
-                            result = deleteTape(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteTapeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteTapeResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteTapeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1006,27 +791,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteTapeArchiveRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTapeArchiveRequest, DeleteTapeArchiveResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteTapeArchiveResult>() {
-                    @Override
-                    public DeleteTapeArchiveResult call() throws Exception {
-                        DeleteTapeArchiveResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteTapeArchiveResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteTapeArchiveResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteTapeArchive(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteTapeArchiveRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1041,27 +814,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DeleteVolumeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteVolumeRequest, DeleteVolumeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteVolumeResult>() {
-                    @Override
-                    public DeleteVolumeResult call() throws Exception {
-                        DeleteVolumeResult result;
-
-                        try {
-                            result = deleteVolume(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteVolumeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteVolumeResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteVolumeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1076,28 +837,16 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeBandwidthRateLimitRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeBandwidthRateLimitRequest, DescribeBandwidthRateLimitResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeBandwidthRateLimitResult>() {
-                    @Override
-                    public DescribeBandwidthRateLimitResult call()
-                            throws Exception {
-                        DescribeBandwidthRateLimitResult result;
-
-                        try {
-                            result = describeBandwidthRateLimit(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeBandwidthRateLimitResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeBandwidthRateLimitResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new DescribeBandwidthRateLimitRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1112,27 +861,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeCacheRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCacheRequest, DescribeCacheResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeCacheResult>() {
-                    @Override
-                    public DescribeCacheResult call() throws Exception {
-                        DescribeCacheResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeCacheResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeCacheResultJsonUnmarshaller());
 
-                        try {
-                            result = describeCache(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeCacheRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1147,28 +884,16 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeCachediSCSIVolumesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCachediSCSIVolumesRequest, DescribeCachediSCSIVolumesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeCachediSCSIVolumesResult>() {
-                    @Override
-                    public DescribeCachediSCSIVolumesResult call()
-                            throws Exception {
-                        DescribeCachediSCSIVolumesResult result;
-
-                        try {
-                            result = describeCachediSCSIVolumes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeCachediSCSIVolumesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeCachediSCSIVolumesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new DescribeCachediSCSIVolumesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1183,28 +908,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeChapCredentialsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeChapCredentialsRequest, DescribeChapCredentialsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeChapCredentialsResult>() {
-                    @Override
-                    public DescribeChapCredentialsResult call()
-                            throws Exception {
-                        DescribeChapCredentialsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeChapCredentialsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeChapCredentialsResultJsonUnmarshaller());
 
-                        try {
-                            result = describeChapCredentials(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeChapCredentialsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1219,28 +931,16 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeGatewayInformationRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeGatewayInformationRequest, DescribeGatewayInformationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeGatewayInformationResult>() {
-                    @Override
-                    public DescribeGatewayInformationResult call()
-                            throws Exception {
-                        DescribeGatewayInformationResult result;
-
-                        try {
-                            result = describeGatewayInformation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeGatewayInformationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeGatewayInformationResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new DescribeGatewayInformationRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1255,28 +955,16 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeMaintenanceStartTimeRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeMaintenanceStartTimeRequest, DescribeMaintenanceStartTimeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeMaintenanceStartTimeResult>() {
-                    @Override
-                    public DescribeMaintenanceStartTimeResult call()
-                            throws Exception {
-                        DescribeMaintenanceStartTimeResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeMaintenanceStartTimeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeMaintenanceStartTimeResultJsonUnmarshaller());
 
-                        try {
-                            result = describeMaintenanceStartTime(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeMaintenanceStartTimeRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1291,28 +979,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeSnapshotScheduleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSnapshotScheduleRequest, DescribeSnapshotScheduleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSnapshotScheduleResult>() {
-                    @Override
-                    public DescribeSnapshotScheduleResult call()
-                            throws Exception {
-                        DescribeSnapshotScheduleResult result;
-
-                        try {
-                            result = describeSnapshotSchedule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeSnapshotScheduleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeSnapshotScheduleResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeSnapshotScheduleRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1327,28 +1002,16 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeStorediSCSIVolumesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeStorediSCSIVolumesRequest, DescribeStorediSCSIVolumesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeStorediSCSIVolumesResult>() {
-                    @Override
-                    public DescribeStorediSCSIVolumesResult call()
-                            throws Exception {
-                        DescribeStorediSCSIVolumesResult result;
-
-                        try {
-                            result = describeStorediSCSIVolumes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeStorediSCSIVolumesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeStorediSCSIVolumesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new DescribeStorediSCSIVolumesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1363,27 +1026,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeTapeArchivesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTapeArchivesRequest, DescribeTapeArchivesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTapeArchivesResult>() {
-                    @Override
-                    public DescribeTapeArchivesResult call() throws Exception {
-                        DescribeTapeArchivesResult result;
-
-                        try {
-                            result = describeTapeArchives(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeTapeArchivesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeTapeArchivesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeTapeArchivesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1423,28 +1074,16 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeTapeRecoveryPointsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTapeRecoveryPointsRequest, DescribeTapeRecoveryPointsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTapeRecoveryPointsResult>() {
-                    @Override
-                    public DescribeTapeRecoveryPointsResult call()
-                            throws Exception {
-                        DescribeTapeRecoveryPointsResult result;
-
-                        try {
-                            result = describeTapeRecoveryPoints(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeTapeRecoveryPointsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeTapeRecoveryPointsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new DescribeTapeRecoveryPointsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1459,27 +1098,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeTapesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTapesRequest, DescribeTapesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTapesResult>() {
-                    @Override
-                    public DescribeTapesResult call() throws Exception {
-                        DescribeTapesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeTapesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeTapesResultJsonUnmarshaller());
 
-                        try {
-                            result = describeTapes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeTapesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1494,27 +1121,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeUploadBufferRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeUploadBufferRequest, DescribeUploadBufferResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeUploadBufferResult>() {
-                    @Override
-                    public DescribeUploadBufferResult call() throws Exception {
-                        DescribeUploadBufferResult result;
-
-                        try {
-                            result = describeUploadBuffer(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeUploadBufferResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeUploadBufferResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeUploadBufferRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1529,27 +1144,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeVTLDevicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeVTLDevicesRequest, DescribeVTLDevicesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeVTLDevicesResult>() {
-                    @Override
-                    public DescribeVTLDevicesResult call() throws Exception {
-                        DescribeVTLDevicesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeVTLDevicesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeVTLDevicesResultJsonUnmarshaller());
 
-                        try {
-                            result = describeVTLDevices(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeVTLDevicesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1564,27 +1167,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DescribeWorkingStorageRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeWorkingStorageRequest, DescribeWorkingStorageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeWorkingStorageResult>() {
-                    @Override
-                    public DescribeWorkingStorageResult call() throws Exception {
-                        DescribeWorkingStorageResult result;
-
-                        try {
-                            result = describeWorkingStorage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeWorkingStorageResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeWorkingStorageResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeWorkingStorageRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1599,27 +1190,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final DisableGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<DisableGatewayRequest, DisableGatewayResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DisableGatewayResult>() {
-                    @Override
-                    public DisableGatewayResult call() throws Exception {
-                        DisableGatewayResult result;
-
-                        try {
-                            result = disableGateway(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DisableGatewayResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DisableGatewayResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DisableGatewayRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1634,27 +1213,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListGatewaysRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListGatewaysRequest, ListGatewaysResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListGatewaysResult>() {
-                    @Override
-                    public ListGatewaysResult call() throws Exception {
-                        ListGatewaysResult result;
-
-                        try {
-                            result = listGateways(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListGatewaysResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListGatewaysResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListGatewaysRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1693,27 +1260,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListLocalDisksRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListLocalDisksRequest, ListLocalDisksResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListLocalDisksResult>() {
-                    @Override
-                    public ListLocalDisksResult call() throws Exception {
-                        ListLocalDisksResult result;
-
-                        try {
-                            result = listLocalDisks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListLocalDisksResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListLocalDisksResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListLocalDisksRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1728,27 +1283,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListTagsForResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTagsForResourceRequest, ListTagsForResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTagsForResourceResult>() {
-                    @Override
-                    public ListTagsForResourceResult call() throws Exception {
-                        ListTagsForResourceResult result;
-
-                        try {
-                            result = listTagsForResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ListTagsForResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTagsForResourceResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ListTagsForResourceRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -1788,27 +1331,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListTapesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListTapesRequest, ListTapesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListTapesResult>() {
-                    @Override
-                    public ListTapesResult call() throws Exception {
-                        ListTapesResult result;
-
-                        try {
-                            result = listTapes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListTapesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListTapesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListTapesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1823,27 +1354,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListVolumeInitiatorsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListVolumeInitiatorsRequest, ListVolumeInitiatorsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListVolumeInitiatorsResult>() {
-                    @Override
-                    public ListVolumeInitiatorsResult call() throws Exception {
-                        ListVolumeInitiatorsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListVolumeInitiatorsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListVolumeInitiatorsResultJsonUnmarshaller());
 
-                        try {
-                            result = listVolumeInitiators(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListVolumeInitiatorsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1858,28 +1377,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListVolumeRecoveryPointsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListVolumeRecoveryPointsRequest, ListVolumeRecoveryPointsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListVolumeRecoveryPointsResult>() {
-                    @Override
-                    public ListVolumeRecoveryPointsResult call()
-                            throws Exception {
-                        ListVolumeRecoveryPointsResult result;
-
-                        try {
-                            result = listVolumeRecoveryPoints(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListVolumeRecoveryPointsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListVolumeRecoveryPointsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListVolumeRecoveryPointsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1894,27 +1400,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ListVolumesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListVolumesRequest, ListVolumesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListVolumesResult>() {
-                    @Override
-                    public ListVolumesResult call() throws Exception {
-                        ListVolumesResult result;
-
-                        try {
-                            result = listVolumes(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListVolumesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListVolumesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListVolumesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1929,27 +1423,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final RemoveTagsFromResourceRequest request,
             final com.amazonaws.handlers.AsyncHandler<RemoveTagsFromResourceRequest, RemoveTagsFromResourceResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RemoveTagsFromResourceResult>() {
-                    @Override
-                    public RemoveTagsFromResourceResult call() throws Exception {
-                        RemoveTagsFromResourceResult result;
-
-                        try {
-                            result = removeTagsFromResource(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<RemoveTagsFromResourceResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RemoveTagsFromResourceResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new RemoveTagsFromResourceRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -1989,27 +1471,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ResetCacheRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResetCacheRequest, ResetCacheResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ResetCacheResult>() {
-                    @Override
-                    public ResetCacheResult call() throws Exception {
-                        ResetCacheResult result;
-
-                        try {
-                            result = resetCache(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ResetCacheResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ResetCacheResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ResetCacheRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2024,27 +1494,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final RetrieveTapeArchiveRequest request,
             final com.amazonaws.handlers.AsyncHandler<RetrieveTapeArchiveRequest, RetrieveTapeArchiveResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RetrieveTapeArchiveResult>() {
-                    @Override
-                    public RetrieveTapeArchiveResult call() throws Exception {
-                        RetrieveTapeArchiveResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<RetrieveTapeArchiveResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RetrieveTapeArchiveResultJsonUnmarshaller());
 
-                        try {
-                            result = retrieveTapeArchive(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RetrieveTapeArchiveRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2059,28 +1517,16 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final RetrieveTapeRecoveryPointRequest request,
             final com.amazonaws.handlers.AsyncHandler<RetrieveTapeRecoveryPointRequest, RetrieveTapeRecoveryPointResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RetrieveTapeRecoveryPointResult>() {
-                    @Override
-                    public RetrieveTapeRecoveryPointResult call()
-                            throws Exception {
-                        RetrieveTapeRecoveryPointResult result;
-
-                        try {
-                            result = retrieveTapeRecoveryPoint(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<RetrieveTapeRecoveryPointResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RetrieveTapeRecoveryPointResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new RetrieveTapeRecoveryPointRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2095,28 +1541,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final SetLocalConsolePasswordRequest request,
             final com.amazonaws.handlers.AsyncHandler<SetLocalConsolePasswordRequest, SetLocalConsolePasswordResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<SetLocalConsolePasswordResult>() {
-                    @Override
-                    public SetLocalConsolePasswordResult call()
-                            throws Exception {
-                        SetLocalConsolePasswordResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<SetLocalConsolePasswordResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new SetLocalConsolePasswordResultJsonUnmarshaller());
 
-                        try {
-                            result = setLocalConsolePassword(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new SetLocalConsolePasswordRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2131,27 +1564,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final ShutdownGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<ShutdownGatewayRequest, ShutdownGatewayResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ShutdownGatewayResult>() {
-                    @Override
-                    public ShutdownGatewayResult call() throws Exception {
-                        ShutdownGatewayResult result;
-
-                        try {
-                            result = shutdownGateway(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ShutdownGatewayResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ShutdownGatewayResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ShutdownGatewayRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2166,27 +1587,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final StartGatewayRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartGatewayRequest, StartGatewayResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StartGatewayResult>() {
-                    @Override
-                    public StartGatewayResult call() throws Exception {
-                        StartGatewayResult result;
-
-                        try {
-                            result = startGateway(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<StartGatewayResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StartGatewayResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new StartGatewayRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2201,28 +1610,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateBandwidthRateLimitRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateBandwidthRateLimitRequest, UpdateBandwidthRateLimitResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateBandwidthRateLimitResult>() {
-                    @Override
-                    public UpdateBandwidthRateLimitResult call()
-                            throws Exception {
-                        UpdateBandwidthRateLimitResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateBandwidthRateLimitResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateBandwidthRateLimitResultJsonUnmarshaller());
 
-                        try {
-                            result = updateBandwidthRateLimit(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UpdateBandwidthRateLimitRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2237,27 +1633,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateChapCredentialsRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateChapCredentialsRequest, UpdateChapCredentialsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateChapCredentialsResult>() {
-                    @Override
-                    public UpdateChapCredentialsResult call() throws Exception {
-                        UpdateChapCredentialsResult result;
-
-                        try {
-                            result = updateChapCredentials(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateChapCredentialsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateChapCredentialsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateChapCredentialsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -2272,28 +1656,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateGatewayInformationRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateGatewayInformationRequest, UpdateGatewayInformationResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateGatewayInformationResult>() {
-                    @Override
-                    public UpdateGatewayInformationResult call()
-                            throws Exception {
-                        UpdateGatewayInformationResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateGatewayInformationResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateGatewayInformationResultJsonUnmarshaller());
 
-                        try {
-                            result = updateGatewayInformation(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UpdateGatewayInformationRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2308,28 +1679,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateGatewaySoftwareNowRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateGatewaySoftwareNowRequest, UpdateGatewaySoftwareNowResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateGatewaySoftwareNowResult>() {
-                    @Override
-                    public UpdateGatewaySoftwareNowResult call()
-                            throws Exception {
-                        UpdateGatewaySoftwareNowResult result;
-
-                        try {
-                            result = updateGatewaySoftwareNow(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateGatewaySoftwareNowResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateGatewaySoftwareNowResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UpdateGatewaySoftwareNowRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2344,28 +1702,16 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateMaintenanceStartTimeRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateMaintenanceStartTimeRequest, UpdateMaintenanceStartTimeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateMaintenanceStartTimeResult>() {
-                    @Override
-                    public UpdateMaintenanceStartTimeResult call()
-                            throws Exception {
-                        UpdateMaintenanceStartTimeResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateMaintenanceStartTimeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateMaintenanceStartTimeResultJsonUnmarshaller());
 
-                        try {
-                            result = updateMaintenanceStartTime(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new UpdateMaintenanceStartTimeRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2380,27 +1726,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateSnapshotScheduleRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateSnapshotScheduleRequest, UpdateSnapshotScheduleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateSnapshotScheduleResult>() {
-                    @Override
-                    public UpdateSnapshotScheduleResult call() throws Exception {
-                        UpdateSnapshotScheduleResult result;
-
-                        try {
-                            result = updateSnapshotSchedule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateSnapshotScheduleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateSnapshotScheduleResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UpdateSnapshotScheduleRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -2415,27 +1749,15 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
             final UpdateVTLDeviceTypeRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateVTLDeviceTypeRequest, UpdateVTLDeviceTypeResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateVTLDeviceTypeResult>() {
-                    @Override
-                    public UpdateVTLDeviceTypeResult call() throws Exception {
-                        UpdateVTLDeviceTypeResult result;
-
-                        try {
-                            result = updateVTLDeviceType(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateVTLDeviceTypeResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateVTLDeviceTypeResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateVTLDeviceTypeRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -19,15 +19,22 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.annotation.NotThreadSafe;
 import com.amazonaws.annotation.SdkInternalApi;
 import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.internal.SdkFunction;
 import com.amazonaws.internal.SdkPredicate;
 import com.amazonaws.util.ValidationUtils;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.ref.WeakReference;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -35,6 +42,10 @@ import java.util.concurrent.locks.ReentrantLock;
 /**
  * Handles refreshing a value with a simple synchronization policy. Does a blocking, synchronous
  * refresh if needed, otherwise queues an asynchronous refresh and returns the current value.
+ * <p>
+ * If a scheduled refresh is configured, the value is instead refreshed in the background at the
+ * time the schedule asks for, and the current value keeps being returned while a failed refresh is
+ * retried. Callers only block when there is no usable value at all.
  */
 @ThreadSafe
 @SdkInternalApi
@@ -47,6 +58,21 @@ class RefreshableTask<T> {
      */
     private static final long BLOCKING_REFRESH_MAX_WAIT_IN_SECONDS = 5;
 
+    /**
+     * Delay before the first retry of a failed scheduled refresh. Each further retry waits twice
+     * as long, up to {@link #MAX_REFRESH_RETRY_DELAY_IN_MILLIS}.
+     */
+    private static final long BASE_REFRESH_RETRY_DELAY_IN_MILLIS = 1000;
+
+    private static final long MAX_REFRESH_RETRY_DELAY_IN_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * Time an idle refresh thread is kept alive.
+     */
+    private static final long REFRESH_THREAD_KEEP_ALIVE_IN_SECONDS = 60;
+
+    private static final Log log = LogFactory.getLog(RefreshableTask.class);
+
     /**
      * Used to synchronize a blocking refresh. Used when a caller can't return without getting the
      * refreshed value.
@@ -59,9 +85,9 @@ class RefreshableTask<T> {
     private final AtomicReference<T> refreshableValueHolder = new AtomicReference<T>();
 
     /**
-     * Single threaded executor to asynchronous refresh the value.
+     * Single threaded executor to asynchronously refresh the value.
      */
-    private final ExecutorService executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+    private final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
 	@Override
 	public Thread newThread(Runnable runnable) {
 	    Thread thread = Executors.defaultThreadFactory().newThread(runnable);
@@ -70,6 +96,16 @@ class RefreshableTask<T> {
 	}
     });
 
+    /**
+     * The next scheduled refresh, if any.
+     */
+    private final AtomicReference<ScheduledFuture<?>> scheduledRefresh = new AtomicReference<ScheduledFuture<?>>();
+
+    /**
+     * Number of scheduled refreshes that failed since the last successful refresh.
+     */
+    private final AtomicInteger consecutiveRefreshFailures = new AtomicInteger();
+
     /**
      * Used to ensure only one thread at any given time refreshes the value.
      */
@@ -87,16 +123,26 @@ class RefreshableTask<T> {
 
     /**
      * Predicate to determine whether a async refresh can be done rather than a blocking refresh.
+     * Null when the refresh is scheduled instead.
      */
     private final SdkPredicate<T> shouldDoAsyncRefresh;
 
+    /**
+     * Function giving the delay, in milliseconds, before a freshly refreshed value should be
+     * refreshed again in the background. Null if the value is only refreshed on demand.
+     */
+    private final SdkFunction<T, Long> refreshDelay;
+
     private RefreshableTask(Callable<T> refreshCallable, SdkPredicate<T> shouldDoBlockingRefresh,
-                            SdkPredicate<T> shouldDoAsyncRefresh) {
+                            SdkPredicate<T> shouldDoAsyncRefresh, SdkFunction<T, Long> refreshDelay) {
         this.refreshCallable = ValidationUtils.assertNotNull(refreshCallable, "refreshCallable");
         this.shouldDoBlockingRefresh = ValidationUtils
                 .assertNotNull(shouldDoBlockingRefresh, "shouldDoBlockingRefresh");
-        this.shouldDoAsyncRefresh = ValidationUtils
+        this.refreshDelay = refreshDelay;
+        this.shouldDoAsyncRefresh = refreshDelay != null ? null : ValidationUtils
                 .assertNotNull(shouldDoAsyncRefresh, "shouldDoAsyncRefresh");
+        executor.setKeepAliveTime(REFRESH_THREAD_KEEP_ALIVE_IN_SECONDS, TimeUnit.SECONDS);
+        executor.allowCoreThreadTimeOut(true);
     }
 
     @NotThreadSafe
@@ -104,6 +150,7 @@ class RefreshableTask<T> {
         private Callable<T> refreshCallable;
         private SdkPredicate<T> shouldDoBlockingRefresh;
         private SdkPredicate<T> shouldDoAsyncRefresh;
+        private SdkFunction<T, Long> refreshDelay;
 
         /**
          * Set the callable that will provide the value when a refresh occurs.
@@ -136,12 +183,25 @@ class RefreshableTask<T> {
             return this;
         }
 
+        /**
+         * Set the function that gives the delay, in milliseconds, after which a freshly refreshed
+         * value is refreshed again in the background. Failed background refreshes are retried
+         * with backoff while the current value is still returned. When this is set the async
+         * refresh predicate is not used.
+         *
+         * @return This object for method chaining.
+         */
+        public Builder withScheduledRefresh(SdkFunction<T, Long> refreshDelay) {
+            this.refreshDelay = refreshDelay;
+            return this;
+        }
+
         /**
          * @return The configured RefreshableTask
          */
         public RefreshableTask<T> build() {
             return new RefreshableTask<T>(refreshCallable, shouldDoBlockingRefresh,
-                                          shouldDoAsyncRefresh);
+                                          shouldDoAsyncRefresh, refreshDelay);
         }
     }
 
@@ -195,7 +255,7 @@ class RefreshableTask<T> {
      * @return True if we should kick of an asynchronous refresh of the value. False otherwise.
      */
     private boolean shouldDoAsyncRefresh() {
-        return shouldDoAsyncRefresh.test(refreshableValueHolder.get());
+        return shouldDoAsyncRefresh != null && shouldDoAsyncRefresh.test(refreshableValueHolder.get());
     }
 
     /**
@@ -251,13 +311,61 @@ class RefreshableTask<T> {
         }
     }
 
+    /**
+     * Refreshes the value in the background, unless an async refresh is already in progress. A
+     * failure is logged and the refresh retried with backoff; callers keep getting the current
+     * value in the meantime.
+     */
+    private void scheduledRefresh() {
+        if (!asyncRefreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshValue();
+        } catch (RuntimeException ex) {
+            int failures = consecutiveRefreshFailures.incrementAndGet();
+            long delay = Math.min(MAX_REFRESH_RETRY_DELAY_IN_MILLIS,
+                                  BASE_REFRESH_RETRY_DELAY_IN_MILLIS << Math.min(failures - 1, 16));
+            // Retry somewhere in the second half of the backoff so that many hosts whose
+            // refreshes failed together don't all retry together.
+            delay = delay / 2 + (long) (Math.random() * (delay / 2));
+            log.warn("Unable to refresh the value in the background, retrying in " + delay + " ms",
+                     ex);
+            scheduleRefresh(delay);
+        } finally {
+            asyncRefreshing.set(false);
+        }
+    }
+
+    /**
+     * Schedules the next background refresh, replacing any that is already scheduled. The task
+     * only holds the refreshable task weakly, so an abandoned task stops refreshing once it has
+     * been garbage collected.
+     */
+    private void scheduleRefresh(long delayInMillis) {
+        try {
+            ScheduledFuture<?> previous = scheduledRefresh.getAndSet(
+                    executor.schedule(new ScheduledRefreshRunnable(this), Math.max(delayInMillis, 0),
+                                      TimeUnit.MILLISECONDS));
+            if (previous != null) {
+                previous.cancel(false);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Unable to schedule a background refresh", ex);
+        }
+    }
+
     /**
      * Invokes the callback to get a new value.
      */
     private void refreshValue() {
         try {
-            refreshableValueHolder
-                    .compareAndSet(refreshableValueHolder.get(), refreshCallable.call());
+            T value = refreshCallable.call();
+            refreshableValueHolder.compareAndSet(refreshableValueHolder.get(), value);
+            if (refreshDelay != null) {
+                consecutiveRefreshFailures.set(0);
+                scheduleRefresh(refreshDelay.apply(value));
+            }
         } catch (AmazonServiceException ase) {
             // Preserve the original ASE
             throw ase;
@@ -269,6 +377,26 @@ class RefreshableTask<T> {
         }
     }
 
+    /**
+     * Runs a scheduled refresh. Static so that it doesn't hold the enclosing task strongly.
+     */
+    private static class ScheduledRefreshRunnable implements Runnable {
+
+        private final WeakReference<RefreshableTask<?>> taskReference;
+
+        private ScheduledRefreshRunnable(RefreshableTask<?> task) {
+            this.taskReference = new WeakReference<RefreshableTask<?>>(task);
+        }
+
+        @Override
+        public void run() {
+            RefreshableTask<?> task = taskReference.get();
+            if (task != null) {
+                task.scheduledRefresh();
+            }
+        }
+    }
+
     /**
      * If we are interrupted while waiting for a lock we just restore the interrupt status and throw
      * an AmazonClientException back to the caller.
@@ -68,6 +68,12 @@ public class STSAssumeRoleSessionCredentialsProvider implements AWSSessionCreden
      */
     private final String scopeDownPolicy;
 
+    /**
+     * Whether sessions are refreshed on a schedule in the background rather than when they are
+     * about to expire.
+     */
+    private final boolean backgroundRefresh;
+
     private final Callable<SessionCredentialsHolder> refreshCallable = new Callable<SessionCredentialsHolder>() {
         @Override
         public SessionCredentialsHolder call() throws Exception {
@@ -180,10 +186,13 @@ public class STSAssumeRoleSessionCredentialsProvider implements AWSSessionCreden
     }
 
     private RefreshableTask<SessionCredentialsHolder> createRefreshableTask() {
-        return new RefreshableTask.Builder<SessionCredentialsHolder>()
+        RefreshableTask.Builder<SessionCredentialsHolder> builder = new RefreshableTask.Builder<SessionCredentialsHolder>()
                 .withRefreshCallable(refreshCallable)
-                .withBlockingRefreshPredicate(new ShouldDoBlockingSessionRefresh())
-                .withAsyncRefreshPredicate(new ShouldDoAsyncSessionRefresh()).build();
+                .withBlockingRefreshPredicate(new ShouldDoBlockingSessionRefresh());
+        if (backgroundRefresh) {
+            return builder.withScheduledRefresh(new SessionRefreshDelay()).build();
+        }
+        return builder.withAsyncRefreshPredicate(new ShouldDoAsyncSessionRefresh()).build();
     }
 
     /**
@@ -226,8 +235,9 @@ public class STSAssumeRoleSessionCredentialsProvider implements AWSSessionCreden
             this.roleSessionDurationSeconds = DEFAULT_DURATION_SECONDS;
         }
 
-        this.refreshableTask = createRefreshableTask();
         this.scopeDownPolicy = builder.scopeDownPolicy;
+        this.backgroundRefresh = builder.backgroundRefresh;
+        this.refreshableTask = createRefreshableTask();
     }
 
     /**
@@ -338,6 +348,7 @@ public class STSAssumeRoleSessionCredentialsProvider implements AWSSessionCreden
         private int roleSessionDurationSeconds;
         private String scopeDownPolicy;
         private AWSSecurityTokenService sts;
+        private boolean backgroundRefresh;
 
         /**
          * @param roleArn         Required roleArn parameter used when starting a session
@@ -541,6 +552,22 @@ public class STSAssumeRoleSessionCredentialsProvider implements AWSSessionCreden
             return this;
         }
 
+        /**
+         * Sets whether sessions are refreshed on a schedule in the background. When enabled, a
+         * new session is requested once about half of the current one's lifetime has passed,
+         * with some jitter, and failed requests are retried with backoff while the current
+         * session keeps being returned. Callers of {@link #getCredentials()} then only wait on
+         * STS for the very first session, or if the session is about to expire because every
+         * background refresh has failed. This is disabled by default.
+         *
+         * @param backgroundRefresh True to refresh sessions in the background.
+         * @return This object for chained calls.
+         */
+        public Builder withBackgroundRefresh(boolean backgroundRefresh) {
+            this.backgroundRefresh = backgroundRefresh;
+            return this;
+        }
+
         /**
          * Build the configured provider
          *
@@ -41,6 +41,12 @@ public class STSSessionCredentialsProvider implements AWSSessionCredentialsProvi
      */
     private final AWSSecurityTokenService securityTokenService;
 
+    /**
+     * Whether sessions are refreshed on a schedule in the background rather than when they are
+     * about to expire.
+     */
+    private final boolean backgroundRefresh;
+
     private final Callable<SessionCredentialsHolder> refreshCallable = new Callable<SessionCredentialsHolder>() {
         @Override
         public SessionCredentialsHolder call() throws Exception {
@@ -111,10 +117,13 @@ public class STSSessionCredentialsProvider implements AWSSessionCredentialsProvi
     }
 
     private RefreshableTask<SessionCredentialsHolder> createRefreshableTask() {
-        return new RefreshableTask.Builder<SessionCredentialsHolder>()
+        RefreshableTask.Builder<SessionCredentialsHolder> builder = new RefreshableTask.Builder<SessionCredentialsHolder>()
                 .withRefreshCallable(refreshCallable)
-                .withBlockingRefreshPredicate(new ShouldDoBlockingSessionRefresh())
-                .withAsyncRefreshPredicate(new ShouldDoAsyncSessionRefresh()).build();
+                .withBlockingRefreshPredicate(new ShouldDoBlockingSessionRefresh());
+        if (backgroundRefresh) {
+            return builder.withScheduledRefresh(new SessionRefreshDelay()).build();
+        }
+        return builder.withAsyncRefreshPredicate(new ShouldDoAsyncSessionRefresh()).build();
     }
 
     /**
@@ -123,7 +132,24 @@ public class STSSessionCredentialsProvider implements AWSSessionCredentialsProvi
      * @param sts Preconfigured STS client to use for this provider
      */
     public STSSessionCredentialsProvider(AWSSecurityTokenService sts) {
+        this(sts, false);
+    }
+
+    /**
+     * Constructs a new STSSessionCredentialsProvider with the already configured STS client.
+     * <p>
+     * If background refresh is enabled, a new session is requested once about half of the current
+     * one's lifetime has passed, with some jitter, and failed requests are retried with backoff
+     * while the current session keeps being returned. {@link #getCredentials()} then only waits on
+     * STS for the very first session, or if the session is about to expire because every
+     * background refresh has failed.
+     *
+     * @param sts               Preconfigured STS client to use for this provider
+     * @param backgroundRefresh True to refresh sessions on a schedule in the background
+     */
+    public STSSessionCredentialsProvider(AWSSecurityTokenService sts, boolean backgroundRefresh) {
         this.securityTokenService = sts;
+        this.backgroundRefresh = backgroundRefresh;
         this.refreshableTask = createRefreshableTask();
     }
 
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth;
+
+import com.amazonaws.annotation.SdkInternalApi;
+import com.amazonaws.annotation.ThreadSafe;
+import com.amazonaws.internal.SdkFunction;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides when session credentials are refreshed in the background in
+ * STSSessionCredentialsProvider and STSAssumeRoleSessionCredentialsProvider. A session is
+ * refreshed once about half of its remaining lifetime has passed, well before callers would have
+ * to wait for it. Up to a further tenth of the lifetime is added at random, so that many
+ * providers that started together don't all call STS at the same moment.
+ */
+@SdkInternalApi
+@ThreadSafe
+class SessionRefreshDelay implements SdkFunction<SessionCredentialsHolder, Long> {
+
+    /**
+     * Minimum delay between background refreshes, so that sessions that seem to expire almost at
+     * once (for example because of clock skew) don't cause a tight refresh loop.
+     */
+    private static final long MIN_REFRESH_DELAY_IN_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    @Override
+    public Long apply(SessionCredentialsHolder sessionCredentialsHolder) {
+        Date expiryTime = sessionCredentialsHolder.getSessionCredentialsExpiration();
+        if (expiryTime == null) {
+            return Long.valueOf(MIN_REFRESH_DELAY_IN_MILLIS);
+        }
+        long timeRemaining = expiryTime.getTime() - System.currentTimeMillis();
+        long delay = timeRemaining / 2 + (long) (Math.random() * (timeRemaining / 10));
+        return Long.valueOf(Math.max(delay, MIN_REFRESH_DELAY_IN_MILLIS));
+    }
+}
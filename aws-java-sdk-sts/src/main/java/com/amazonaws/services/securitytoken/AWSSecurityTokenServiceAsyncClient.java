@@ -15,6 +15,10 @@
 package com.amazonaws.services.securitytoken;
 
 import com.amazonaws.services.securitytoken.model.*;
+import com.amazonaws.services.securitytoken.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -348,27 +352,11 @@ public class AWSSecurityTokenServiceAsyncClient extends
             final AssumeRoleRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssumeRoleRequest, AssumeRoleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AssumeRoleResult>() {
-                    @Override
-                    public AssumeRoleResult call() throws Exception {
-                        AssumeRoleResult result;
-
-                        try {
-                            result = assumeRole(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<AssumeRoleResult> responseHandler = new StaxResponseHandler<AssumeRoleResult>(
+                new AssumeRoleResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new AssumeRoleRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -383,27 +371,11 @@ public class AWSSecurityTokenServiceAsyncClient extends
             final AssumeRoleWithSAMLRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssumeRoleWithSAMLRequest, AssumeRoleWithSAMLResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AssumeRoleWithSAMLResult>() {
-                    @Override
-                    public AssumeRoleWithSAMLResult call() throws Exception {
-                        AssumeRoleWithSAMLResult result;
-
-                        try {
-                            result = assumeRoleWithSAML(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<AssumeRoleWithSAMLResult> responseHandler = new StaxResponseHandler<AssumeRoleWithSAMLResult>(
+                new AssumeRoleWithSAMLResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new AssumeRoleWithSAMLRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -418,28 +390,12 @@ public class AWSSecurityTokenServiceAsyncClient extends
             final AssumeRoleWithWebIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<AssumeRoleWithWebIdentityRequest, AssumeRoleWithWebIdentityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AssumeRoleWithWebIdentityResult>() {
-                    @Override
-                    public AssumeRoleWithWebIdentityResult call()
-                            throws Exception {
-                        AssumeRoleWithWebIdentityResult result;
-
-                        try {
-                            result = assumeRoleWithWebIdentity(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<AssumeRoleWithWebIdentityResult> responseHandler = new StaxResponseHandler<AssumeRoleWithWebIdentityResult>(
+                new AssumeRoleWithWebIdentityResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new AssumeRoleWithWebIdentityRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -454,28 +410,12 @@ public class AWSSecurityTokenServiceAsyncClient extends
             final DecodeAuthorizationMessageRequest request,
             final com.amazonaws.handlers.AsyncHandler<DecodeAuthorizationMessageRequest, DecodeAuthorizationMessageResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DecodeAuthorizationMessageResult>() {
-                    @Override
-                    public DecodeAuthorizationMessageResult call()
-                            throws Exception {
-                        DecodeAuthorizationMessageResult result;
-
-                        try {
-                            result = decodeAuthorizationMessage(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<DecodeAuthorizationMessageResult> responseHandler = new StaxResponseHandler<DecodeAuthorizationMessageResult>(
+                new DecodeAuthorizationMessageResultStaxUnmarshaller());
+
+        return asyncInvoke(request,
+                new DecodeAuthorizationMessageRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -490,27 +430,11 @@ public class AWSSecurityTokenServiceAsyncClient extends
             final GetCallerIdentityRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetCallerIdentityRequest, GetCallerIdentityResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetCallerIdentityResult>() {
-                    @Override
-                    public GetCallerIdentityResult call() throws Exception {
-                        GetCallerIdentityResult result;
-
-                        try {
-                            result = getCallerIdentity(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetCallerIdentityResult> responseHandler = new StaxResponseHandler<GetCallerIdentityResult>(
+                new GetCallerIdentityResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetCallerIdentityRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -525,27 +449,11 @@ public class AWSSecurityTokenServiceAsyncClient extends
             final GetFederationTokenRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetFederationTokenRequest, GetFederationTokenResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetFederationTokenResult>() {
-                    @Override
-                    public GetFederationTokenResult call() throws Exception {
-                        GetFederationTokenResult result;
-
-                        try {
-                            result = getFederationToken(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetFederationTokenResult> responseHandler = new StaxResponseHandler<GetFederationTokenResult>(
+                new GetFederationTokenResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetFederationTokenRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -560,27 +468,11 @@ public class AWSSecurityTokenServiceAsyncClient extends
             final GetSessionTokenRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSessionTokenRequest, GetSessionTokenResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetSessionTokenResult>() {
-                    @Override
-                    public GetSessionTokenResult call() throws Exception {
-                        GetSessionTokenResult result;
-
-                        try {
-                            result = getSessionToken(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        StaxResponseHandler<GetSessionTokenResult> responseHandler = new StaxResponseHandler<GetSessionTokenResult>(
+                new GetSessionTokenResultStaxUnmarshaller());
+
+        return asyncInvoke(request, new GetSessionTokenRequestMarshaller(),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
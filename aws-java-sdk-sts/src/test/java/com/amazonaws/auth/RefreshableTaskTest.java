@@ -0,0 +1,145 @@
+/*
+ * Copyright 2011-2016 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.auth;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.internal.SdkFunction;
+import com.amazonaws.internal.SdkPredicate;
+
+public class RefreshableTaskTest {
+
+    /** Number of successful refreshes, which is also the latest value. */
+    private final AtomicInteger refreshes = new AtomicInteger();
+
+    private final AtomicInteger failedRefreshes = new AtomicInteger();
+
+    /** Whether the refresh callable throws. */
+    private final AtomicBoolean failing = new AtomicBoolean();
+
+    /** Whether the current value can no longer be used, until the next successful refresh. */
+    private final AtomicBoolean expired = new AtomicBoolean();
+
+    private final Callable<Integer> refreshCallable = new Callable<Integer>() {
+        @Override
+        public Integer call() throws Exception {
+            if (failing.get()) {
+                failedRefreshes.incrementAndGet();
+                throw new AmazonClientException("Refresh failed");
+            }
+            expired.set(false);
+            return refreshes.incrementAndGet();
+        }
+    };
+
+    private final SdkPredicate<Integer> shouldDoBlockingRefresh = new SdkPredicate<Integer>() {
+        @Override
+        public boolean test(Integer value) {
+            return value == null || expired.get();
+        }
+    };
+
+    @Test
+    public void scheduledRefreshReplacesTheValueAheadOfTime() throws Exception {
+        RefreshableTask<Integer> task = newScheduledTask(50);
+
+        assertEquals(1, task.getValue().intValue());
+
+        // Refreshed without any caller asking for the value
+        awaitAtLeast(refreshes, 3);
+        assertTrue(task.getValue() >= 3);
+    }
+
+    @Test
+    public void failedScheduledRefreshIsRetriedWhileTheCurrentValueIsReturned() throws Exception {
+        RefreshableTask<Integer> task = newScheduledTask(10);
+
+        assertEquals(1, task.getValue().intValue());
+        failing.set(true);
+
+        awaitAtLeast(failedRefreshes, 2);
+        assertEquals(1, task.getValue().intValue());
+        assertEquals(1, refreshes.get());
+
+        failing.set(false);
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (task.getValue() == 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(task.getValue() >= 2);
+    }
+
+    @Test
+    public void unusableValueIsRefreshedBeforeReturning() {
+        RefreshableTask<Integer> task = newScheduledTask(TimeUnit.HOURS.toMillis(1));
+
+        assertEquals(1, task.getValue().intValue());
+        assertEquals(1, task.getValue().intValue());
+
+        expired.set(true);
+        assertEquals(2, task.getValue().intValue());
+        assertEquals(2, refreshes.get());
+    }
+
+    @Test
+    public void failedBlockingRefreshIsThrownToTheCaller() {
+        RefreshableTask<Integer> task = newScheduledTask(TimeUnit.HOURS.toMillis(1));
+
+        assertEquals(1, task.getValue().intValue());
+
+        failing.set(true);
+        expired.set(true);
+        try {
+            task.getValue();
+            fail("Expected AmazonClientException");
+        } catch (AmazonClientException expected) {
+        }
+
+        failing.set(false);
+        assertEquals(2, task.getValue().intValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private RefreshableTask<Integer> newScheduledTask(final long refreshDelayInMillis) {
+        return new RefreshableTask.Builder<Integer>()
+                .withRefreshCallable(refreshCallable)
+                .withBlockingRefreshPredicate(shouldDoBlockingRefresh)
+                .withScheduledRefresh(new SdkFunction<Integer, Long>() {
+                    @Override
+                    public Long apply(Integer value) {
+                        return refreshDelayInMillis;
+                    }
+                })
+                .build();
+    }
+
+    private static void awaitAtLeast(AtomicInteger counter, int atLeast) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        while (counter.get() < atLeast && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue("Expected at least " + atLeast + " but was " + counter.get(), counter.get() >= atLeast);
+    }
+}
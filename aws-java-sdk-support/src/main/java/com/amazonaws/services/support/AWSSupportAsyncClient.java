@@ -15,6 +15,10 @@
 package com.amazonaws.services.support;
 
 import com.amazonaws.services.support.model.*;
+import com.amazonaws.services.support.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -370,27 +374,15 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final AddAttachmentsToSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddAttachmentsToSetRequest, AddAttachmentsToSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddAttachmentsToSetResult>() {
-                    @Override
-                    public AddAttachmentsToSetResult call() throws Exception {
-                        AddAttachmentsToSetResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<AddAttachmentsToSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddAttachmentsToSetResultJsonUnmarshaller());
 
-                        try {
-                            result = addAttachmentsToSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new AddAttachmentsToSetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -405,27 +397,15 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final AddCommunicationToCaseRequest request,
             final com.amazonaws.handlers.AsyncHandler<AddCommunicationToCaseRequest, AddCommunicationToCaseResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<AddCommunicationToCaseResult>() {
-                    @Override
-                    public AddCommunicationToCaseResult call() throws Exception {
-                        AddCommunicationToCaseResult result;
-
-                        try {
-                            result = addCommunicationToCase(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<AddCommunicationToCaseResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new AddCommunicationToCaseResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new AddCommunicationToCaseRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -440,27 +420,15 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final CreateCaseRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateCaseRequest, CreateCaseResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateCaseResult>() {
-                    @Override
-                    public CreateCaseResult call() throws Exception {
-                        CreateCaseResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateCaseResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateCaseResultJsonUnmarshaller());
 
-                        try {
-                            result = createCase(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateCaseRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -475,27 +443,15 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final DescribeAttachmentRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeAttachmentRequest, DescribeAttachmentResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeAttachmentResult>() {
-                    @Override
-                    public DescribeAttachmentResult call() throws Exception {
-                        DescribeAttachmentResult result;
-
-                        try {
-                            result = describeAttachment(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeAttachmentResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeAttachmentResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeAttachmentRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -510,27 +466,15 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final DescribeCasesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCasesRequest, DescribeCasesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeCasesResult>() {
-                    @Override
-                    public DescribeCasesResult call() throws Exception {
-                        DescribeCasesResult result;
-
-                        try {
-                            result = describeCases(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeCasesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeCasesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeCasesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -569,27 +513,15 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final DescribeCommunicationsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeCommunicationsRequest, DescribeCommunicationsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeCommunicationsResult>() {
-                    @Override
-                    public DescribeCommunicationsResult call() throws Exception {
-                        DescribeCommunicationsResult result;
-
-                        try {
-                            result = describeCommunications(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeCommunicationsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeCommunicationsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeCommunicationsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -604,27 +536,15 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final DescribeServicesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeServicesRequest, DescribeServicesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeServicesResult>() {
-                    @Override
-                    public DescribeServicesResult call() throws Exception {
-                        DescribeServicesResult result;
-
-                        try {
-                            result = describeServices(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeServicesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeServicesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeServicesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -664,27 +584,15 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final DescribeSeverityLevelsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeSeverityLevelsRequest, DescribeSeverityLevelsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeSeverityLevelsResult>() {
-                    @Override
-                    public DescribeSeverityLevelsResult call() throws Exception {
-                        DescribeSeverityLevelsResult result;
-
-                        try {
-                            result = describeSeverityLevels(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeSeverityLevelsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeSeverityLevelsResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeSeverityLevelsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -724,28 +632,17 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final DescribeTrustedAdvisorCheckRefreshStatusesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTrustedAdvisorCheckRefreshStatusesRequest, DescribeTrustedAdvisorCheckRefreshStatusesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTrustedAdvisorCheckRefreshStatusesResult>() {
-                    @Override
-                    public DescribeTrustedAdvisorCheckRefreshStatusesResult call()
-                            throws Exception {
-                        DescribeTrustedAdvisorCheckRefreshStatusesResult result;
-
-                        try {
-                            result = describeTrustedAdvisorCheckRefreshStatuses(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeTrustedAdvisorCheckRefreshStatusesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeTrustedAdvisorCheckRefreshStatusesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new DescribeTrustedAdvisorCheckRefreshStatusesRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -760,28 +657,16 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final DescribeTrustedAdvisorCheckResultRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTrustedAdvisorCheckResultRequest, DescribeTrustedAdvisorCheckResultResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTrustedAdvisorCheckResultResult>() {
-                    @Override
-                    public DescribeTrustedAdvisorCheckResultResult call()
-                            throws Exception {
-                        DescribeTrustedAdvisorCheckResultResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeTrustedAdvisorCheckResultResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeTrustedAdvisorCheckResultResultJsonUnmarshaller());
 
-                        try {
-                            result = describeTrustedAdvisorCheckResult(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeTrustedAdvisorCheckResultRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -796,28 +681,16 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final DescribeTrustedAdvisorCheckSummariesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTrustedAdvisorCheckSummariesRequest, DescribeTrustedAdvisorCheckSummariesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTrustedAdvisorCheckSummariesResult>() {
-                    @Override
-                    public DescribeTrustedAdvisorCheckSummariesResult call()
-                            throws Exception {
-                        DescribeTrustedAdvisorCheckSummariesResult result;
-
-                        try {
-                            result = describeTrustedAdvisorCheckSummaries(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeTrustedAdvisorCheckSummariesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeTrustedAdvisorCheckSummariesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeTrustedAdvisorCheckSummariesRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -832,28 +705,16 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final DescribeTrustedAdvisorChecksRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTrustedAdvisorChecksRequest, DescribeTrustedAdvisorChecksResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTrustedAdvisorChecksResult>() {
-                    @Override
-                    public DescribeTrustedAdvisorChecksResult call()
-                            throws Exception {
-                        DescribeTrustedAdvisorChecksResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeTrustedAdvisorChecksResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeTrustedAdvisorChecksResultJsonUnmarshaller());
 
-                        try {
-                            result = describeTrustedAdvisorChecks(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeTrustedAdvisorChecksRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -868,28 +729,16 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final RefreshTrustedAdvisorCheckRequest request,
             final com.amazonaws.handlers.AsyncHandler<RefreshTrustedAdvisorCheckRequest, RefreshTrustedAdvisorCheckResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RefreshTrustedAdvisorCheckResult>() {
-                    @Override
-                    public RefreshTrustedAdvisorCheckResult call()
-                            throws Exception {
-                        RefreshTrustedAdvisorCheckResult result;
-
-                        try {
-                            result = refreshTrustedAdvisorCheck(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<RefreshTrustedAdvisorCheckResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RefreshTrustedAdvisorCheckResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new RefreshTrustedAdvisorCheckRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -904,27 +753,15 @@ public class AWSSupportAsyncClient extends AWSSupportClient implements
             final ResolveCaseRequest request,
             final com.amazonaws.handlers.AsyncHandler<ResolveCaseRequest, ResolveCaseResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ResolveCaseResult>() {
-                    @Override
-                    public ResolveCaseResult call() throws Exception {
-                        ResolveCaseResult result;
-
-                        try {
-                            result = resolveCase(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<ResolveCaseResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ResolveCaseResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new ResolveCaseRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
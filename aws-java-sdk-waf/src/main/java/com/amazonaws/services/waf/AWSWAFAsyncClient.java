@@ -15,6 +15,10 @@
 package com.amazonaws.services.waf;
 
 import com.amazonaws.services.waf.model.*;
+import com.amazonaws.services.waf.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -282,27 +286,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final CreateByteMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateByteMatchSetRequest, CreateByteMatchSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateByteMatchSetResult>() {
-                    @Override
-                    public CreateByteMatchSetResult call() throws Exception {
-                        CreateByteMatchSetResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateByteMatchSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateByteMatchSetResultJsonUnmarshaller());
 
-                        try {
-                            result = createByteMatchSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateByteMatchSetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -317,27 +309,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final CreateIPSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateIPSetRequest, CreateIPSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateIPSetResult>() {
-                    @Override
-                    public CreateIPSetResult call() throws Exception {
-                        CreateIPSetResult result;
-
-                        try {
-                            result = createIPSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateIPSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateIPSetResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateIPSetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -352,27 +332,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final CreateRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateRuleRequest, CreateRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateRuleResult>() {
-                    @Override
-                    public CreateRuleResult call() throws Exception {
-                        CreateRuleResult result;
-
-                        try {
-                            result = createRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateRuleResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -387,28 +355,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final CreateSizeConstraintSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSizeConstraintSetRequest, CreateSizeConstraintSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateSizeConstraintSetResult>() {
-                    @Override
-                    public CreateSizeConstraintSetResult call()
-                            throws Exception {
-                        CreateSizeConstraintSetResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateSizeConstraintSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateSizeConstraintSetResultJsonUnmarshaller());
 
-                        try {
-                            result = createSizeConstraintSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new CreateSizeConstraintSetRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -423,28 +378,16 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final CreateSqlInjectionMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateSqlInjectionMatchSetRequest, CreateSqlInjectionMatchSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateSqlInjectionMatchSetResult>() {
-                    @Override
-                    public CreateSqlInjectionMatchSetResult call()
-                            throws Exception {
-                        CreateSqlInjectionMatchSetResult result;
-
-                        try {
-                            result = createSqlInjectionMatchSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateSqlInjectionMatchSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateSqlInjectionMatchSetResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new CreateSqlInjectionMatchSetRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -459,27 +402,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final CreateWebACLRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateWebACLRequest, CreateWebACLResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateWebACLResult>() {
-                    @Override
-                    public CreateWebACLResult call() throws Exception {
-                        CreateWebACLResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateWebACLResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateWebACLResultJsonUnmarshaller());
 
-                        try {
-                            result = createWebACL(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateWebACLRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -494,27 +425,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final CreateXssMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateXssMatchSetRequest, CreateXssMatchSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateXssMatchSetResult>() {
-                    @Override
-                    public CreateXssMatchSetResult call() throws Exception {
-                        CreateXssMatchSetResult result;
-
-                        try {
-                            result = createXssMatchSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateXssMatchSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateXssMatchSetResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateXssMatchSetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -529,27 +448,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final DeleteByteMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteByteMatchSetRequest, DeleteByteMatchSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteByteMatchSetResult>() {
-                    @Override
-                    public DeleteByteMatchSetResult call() throws Exception {
-                        DeleteByteMatchSetResult result;
-
-                        try {
-                            result = deleteByteMatchSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteByteMatchSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteByteMatchSetResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteByteMatchSetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -564,27 +471,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final DeleteIPSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteIPSetRequest, DeleteIPSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteIPSetResult>() {
-                    @Override
-                    public DeleteIPSetResult call() throws Exception {
-                        DeleteIPSetResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteIPSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteIPSetResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteIPSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteIPSetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -599,27 +494,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final DeleteRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteRuleRequest, DeleteRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteRuleResult>() {
-                    @Override
-                    public DeleteRuleResult call() throws Exception {
-                        DeleteRuleResult result;
-
-                        try {
-                            result = deleteRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteRuleResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -634,28 +517,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final DeleteSizeConstraintSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSizeConstraintSetRequest, DeleteSizeConstraintSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteSizeConstraintSetResult>() {
-                    @Override
-                    public DeleteSizeConstraintSetResult call()
-                            throws Exception {
-                        DeleteSizeConstraintSetResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteSizeConstraintSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteSizeConstraintSetResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteSizeConstraintSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DeleteSizeConstraintSetRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -670,28 +540,16 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final DeleteSqlInjectionMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteSqlInjectionMatchSetRequest, DeleteSqlInjectionMatchSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteSqlInjectionMatchSetResult>() {
-                    @Override
-                    public DeleteSqlInjectionMatchSetResult call()
-                            throws Exception {
-                        DeleteSqlInjectionMatchSetResult result;
-
-                        try {
-                            result = deleteSqlInjectionMatchSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteSqlInjectionMatchSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteSqlInjectionMatchSetResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new DeleteSqlInjectionMatchSetRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -706,27 +564,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final DeleteWebACLRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteWebACLRequest, DeleteWebACLResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteWebACLResult>() {
-                    @Override
-                    public DeleteWebACLResult call() throws Exception {
-                        DeleteWebACLResult result;
-
-                        try {
-                            result = deleteWebACL(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteWebACLResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteWebACLResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteWebACLRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -741,27 +587,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final DeleteXssMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteXssMatchSetRequest, DeleteXssMatchSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteXssMatchSetResult>() {
-                    @Override
-                    public DeleteXssMatchSetResult call() throws Exception {
-                        DeleteXssMatchSetResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteXssMatchSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteXssMatchSetResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteXssMatchSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteXssMatchSetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -776,27 +610,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetByteMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetByteMatchSetRequest, GetByteMatchSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetByteMatchSetResult>() {
-                    @Override
-                    public GetByteMatchSetResult call() throws Exception {
-                        GetByteMatchSetResult result;
-
-                        try {
-                            result = getByteMatchSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetByteMatchSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetByteMatchSetResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetByteMatchSetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -811,27 +633,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetChangeTokenRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetChangeTokenRequest, GetChangeTokenResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetChangeTokenResult>() {
-                    @Override
-                    public GetChangeTokenResult call() throws Exception {
-                        GetChangeTokenResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetChangeTokenResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetChangeTokenResultJsonUnmarshaller());
 
-                        try {
-                            result = getChangeToken(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetChangeTokenRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -846,27 +656,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetChangeTokenStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetChangeTokenStatusRequest, GetChangeTokenStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetChangeTokenStatusResult>() {
-                    @Override
-                    public GetChangeTokenStatusResult call() throws Exception {
-                        GetChangeTokenStatusResult result;
-
-                        try {
-                            result = getChangeTokenStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetChangeTokenStatusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetChangeTokenStatusResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetChangeTokenStatusRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -881,27 +679,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetIPSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetIPSetRequest, GetIPSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetIPSetResult>() {
-                    @Override
-                    public GetIPSetResult call() throws Exception {
-                        GetIPSetResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetIPSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetIPSetResultJsonUnmarshaller());
 
-                        try {
-                            result = getIPSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetIPSetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -916,27 +702,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetRuleRequest, GetRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetRuleResult>() {
-                    @Override
-                    public GetRuleResult call() throws Exception {
-                        GetRuleResult result;
-
-                        try {
-                            result = getRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetRuleResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -951,27 +725,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetSampledRequestsRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSampledRequestsRequest, GetSampledRequestsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetSampledRequestsResult>() {
-                    @Override
-                    public GetSampledRequestsResult call() throws Exception {
-                        GetSampledRequestsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetSampledRequestsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetSampledRequestsResultJsonUnmarshaller());
 
-                        try {
-                            result = getSampledRequests(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetSampledRequestsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -986,27 +748,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetSizeConstraintSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSizeConstraintSetRequest, GetSizeConstraintSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetSizeConstraintSetResult>() {
-                    @Override
-                    public GetSizeConstraintSetResult call() throws Exception {
-                        GetSizeConstraintSetResult result;
-
-                        try {
-                            result = getSizeConstraintSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetSizeConstraintSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetSizeConstraintSetResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetSizeConstraintSetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1021,28 +771,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetSqlInjectionMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetSqlInjectionMatchSetRequest, GetSqlInjectionMatchSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetSqlInjectionMatchSetResult>() {
-                    @Override
-                    public GetSqlInjectionMatchSetResult call()
-                            throws Exception {
-                        GetSqlInjectionMatchSetResult result;
-
-                        try {
-                            result = getSqlInjectionMatchSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetSqlInjectionMatchSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetSqlInjectionMatchSetResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new GetSqlInjectionMatchSetRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1057,27 +794,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetWebACLRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetWebACLRequest, GetWebACLResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetWebACLResult>() {
-                    @Override
-                    public GetWebACLResult call() throws Exception {
-                        GetWebACLResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<GetWebACLResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetWebACLResultJsonUnmarshaller());
 
-                        try {
-                            result = getWebACL(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetWebACLRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1092,27 +817,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final GetXssMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<GetXssMatchSetRequest, GetXssMatchSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<GetXssMatchSetResult>() {
-                    @Override
-                    public GetXssMatchSetResult call() throws Exception {
-                        GetXssMatchSetResult result;
-
-                        try {
-                            result = getXssMatchSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<GetXssMatchSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new GetXssMatchSetResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new GetXssMatchSetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1127,27 +840,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final ListByteMatchSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListByteMatchSetsRequest, ListByteMatchSetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListByteMatchSetsResult>() {
-                    @Override
-                    public ListByteMatchSetsResult call() throws Exception {
-                        ListByteMatchSetsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListByteMatchSetsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListByteMatchSetsResultJsonUnmarshaller());
 
-                        try {
-                            result = listByteMatchSets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListByteMatchSetsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1162,27 +863,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final ListIPSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListIPSetsRequest, ListIPSetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListIPSetsResult>() {
-                    @Override
-                    public ListIPSetsResult call() throws Exception {
-                        ListIPSetsResult result;
-
-                        try {
-                            result = listIPSets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListIPSetsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListIPSetsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListIPSetsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1197,27 +886,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final ListRulesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListRulesRequest, ListRulesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListRulesResult>() {
-                    @Override
-                    public ListRulesResult call() throws Exception {
-                        ListRulesResult result;
-
-                        try {
-                            result = listRules(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListRulesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListRulesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListRulesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1232,27 +909,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final ListSizeConstraintSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSizeConstraintSetsRequest, ListSizeConstraintSetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListSizeConstraintSetsResult>() {
-                    @Override
-                    public ListSizeConstraintSetsResult call() throws Exception {
-                        ListSizeConstraintSetsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListSizeConstraintSetsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListSizeConstraintSetsResultJsonUnmarshaller());
 
-                        try {
-                            result = listSizeConstraintSets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new ListSizeConstraintSetsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1267,28 +932,16 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final ListSqlInjectionMatchSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListSqlInjectionMatchSetsRequest, ListSqlInjectionMatchSetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListSqlInjectionMatchSetsResult>() {
-                    @Override
-                    public ListSqlInjectionMatchSetsResult call()
-                            throws Exception {
-                        ListSqlInjectionMatchSetsResult result;
-
-                        try {
-                            result = listSqlInjectionMatchSets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListSqlInjectionMatchSetsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListSqlInjectionMatchSetsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new ListSqlInjectionMatchSetsRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1303,27 +956,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final ListWebACLsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListWebACLsRequest, ListWebACLsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListWebACLsResult>() {
-                    @Override
-                    public ListWebACLsResult call() throws Exception {
-                        ListWebACLsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<ListWebACLsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListWebACLsResultJsonUnmarshaller());
 
-                        try {
-                            result = listWebACLs(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListWebACLsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1338,27 +979,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final ListXssMatchSetsRequest request,
             final com.amazonaws.handlers.AsyncHandler<ListXssMatchSetsRequest, ListXssMatchSetsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ListXssMatchSetsResult>() {
-                    @Override
-                    public ListXssMatchSetsResult call() throws Exception {
-                        ListXssMatchSetsResult result;
-
-                        try {
-                            result = listXssMatchSets(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ListXssMatchSetsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ListXssMatchSetsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new ListXssMatchSetsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1373,27 +1002,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final UpdateByteMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateByteMatchSetRequest, UpdateByteMatchSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateByteMatchSetResult>() {
-                    @Override
-                    public UpdateByteMatchSetResult call() throws Exception {
-                        UpdateByteMatchSetResult result;
-
-                        try {
-                            result = updateByteMatchSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateByteMatchSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateByteMatchSetResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateByteMatchSetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1408,27 +1025,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final UpdateIPSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateIPSetRequest, UpdateIPSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateIPSetResult>() {
-                    @Override
-                    public UpdateIPSetResult call() throws Exception {
-                        UpdateIPSetResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateIPSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateIPSetResultJsonUnmarshaller());
 
-                        try {
-                            result = updateIPSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateIPSetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1443,27 +1048,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final UpdateRuleRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateRuleRequest, UpdateRuleResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateRuleResult>() {
-                    @Override
-                    public UpdateRuleResult call() throws Exception {
-                        UpdateRuleResult result;
-
-                        try {
-                            result = updateRule(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateRuleResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateRuleResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateRuleRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1478,28 +1071,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final UpdateSizeConstraintSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateSizeConstraintSetRequest, UpdateSizeConstraintSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateSizeConstraintSetResult>() {
-                    @Override
-                    public UpdateSizeConstraintSetResult call()
-                            throws Exception {
-                        UpdateSizeConstraintSetResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateSizeConstraintSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateSizeConstraintSetResultJsonUnmarshaller());
 
-                        try {
-                            result = updateSizeConstraintSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new UpdateSizeConstraintSetRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1514,28 +1094,16 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final UpdateSqlInjectionMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateSqlInjectionMatchSetRequest, UpdateSqlInjectionMatchSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateSqlInjectionMatchSetResult>() {
-                    @Override
-                    public UpdateSqlInjectionMatchSetResult call()
-                            throws Exception {
-                        UpdateSqlInjectionMatchSetResult result;
-
-                        try {
-                            result = updateSqlInjectionMatchSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateSqlInjectionMatchSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateSqlInjectionMatchSetResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new UpdateSqlInjectionMatchSetRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -1550,27 +1118,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final UpdateWebACLRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateWebACLRequest, UpdateWebACLResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateWebACLResult>() {
-                    @Override
-                    public UpdateWebACLResult call() throws Exception {
-                        UpdateWebACLResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateWebACLResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateWebACLResultJsonUnmarshaller());
 
-                        try {
-                            result = updateWebACL(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new UpdateWebACLRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -1585,27 +1141,15 @@ public class AWSWAFAsyncClient extends AWSWAFClient implements AWSWAFAsync {
             final UpdateXssMatchSetRequest request,
             final com.amazonaws.handlers.AsyncHandler<UpdateXssMatchSetRequest, UpdateXssMatchSetResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<UpdateXssMatchSetResult>() {
-                    @Override
-                    public UpdateXssMatchSetResult call() throws Exception {
-                        UpdateXssMatchSetResult result;
-
-                        try {
-                            result = updateXssMatchSet(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<UpdateXssMatchSetResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new UpdateXssMatchSetResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new UpdateXssMatchSetRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
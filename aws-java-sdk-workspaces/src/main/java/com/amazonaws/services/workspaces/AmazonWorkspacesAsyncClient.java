@@ -15,6 +15,10 @@
 package com.amazonaws.services.workspaces;
 
 import com.amazonaws.services.workspaces.model.*;
+import com.amazonaws.services.workspaces.model.transform.*;
+import com.amazonaws.*;
+import com.amazonaws.http.*;
+import com.amazonaws.protocol.json.*;
 import com.amazonaws.client.AwsAsyncClientParams;
 import com.amazonaws.annotation.ThreadSafe;
 
@@ -284,27 +288,15 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final CreateTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateTagsRequest, CreateTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateTagsResult>() {
-                    @Override
-                    public CreateTagsResult call() throws Exception {
-                        CreateTagsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<CreateTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateTagsResultJsonUnmarshaller());
 
-                        try {
-                            result = createTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -319,27 +311,15 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final CreateWorkspacesRequest request,
             final com.amazonaws.handlers.AsyncHandler<CreateWorkspacesRequest, CreateWorkspacesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<CreateWorkspacesResult>() {
-                    @Override
-                    public CreateWorkspacesResult call() throws Exception {
-                        CreateWorkspacesResult result;
-
-                        try {
-                            result = createWorkspaces(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<CreateWorkspacesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new CreateWorkspacesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new CreateWorkspacesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -354,27 +334,15 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final DeleteTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DeleteTagsRequest, DeleteTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DeleteTagsResult>() {
-                    @Override
-                    public DeleteTagsResult call() throws Exception {
-                        DeleteTagsResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DeleteTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DeleteTagsResultJsonUnmarshaller());
 
-                        try {
-                            result = deleteTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DeleteTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -389,27 +357,15 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final DescribeTagsRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeTagsRequest, DescribeTagsResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeTagsResult>() {
-                    @Override
-                    public DescribeTagsResult call() throws Exception {
-                        DescribeTagsResult result;
-
-                        try {
-                            result = describeTags(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeTagsResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeTagsResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new DescribeTagsRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -424,28 +380,15 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final DescribeWorkspaceBundlesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeWorkspaceBundlesRequest, DescribeWorkspaceBundlesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeWorkspaceBundlesResult>() {
-                    @Override
-                    public DescribeWorkspaceBundlesResult call()
-                            throws Exception {
-                        DescribeWorkspaceBundlesResult result;
-
-                        try {
-                            result = describeWorkspaceBundles(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeWorkspaceBundlesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeWorkspaceBundlesResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeWorkspaceBundlesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     /**
@@ -486,28 +429,16 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final DescribeWorkspaceDirectoriesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeWorkspaceDirectoriesRequest, DescribeWorkspaceDirectoriesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeWorkspaceDirectoriesResult>() {
-                    @Override
-                    public DescribeWorkspaceDirectoriesResult call()
-                            throws Exception {
-                        DescribeWorkspaceDirectoriesResult result;
-
-                        try {
-                            result = describeWorkspaceDirectories(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeWorkspaceDirectoriesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeWorkspaceDirectoriesResultJsonUnmarshaller());
+
+        return asyncInvoke(request,
+                new DescribeWorkspaceDirectoriesRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -548,27 +479,15 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final DescribeWorkspacesRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeWorkspacesRequest, DescribeWorkspacesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeWorkspacesResult>() {
-                    @Override
-                    public DescribeWorkspacesResult call() throws Exception {
-                        DescribeWorkspacesResult result;
-
-                        try {
-                            result = describeWorkspaces(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeWorkspacesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeWorkspacesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new DescribeWorkspacesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**
@@ -608,28 +527,16 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final DescribeWorkspacesConnectionStatusRequest request,
             final com.amazonaws.handlers.AsyncHandler<DescribeWorkspacesConnectionStatusRequest, DescribeWorkspacesConnectionStatusResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<DescribeWorkspacesConnectionStatusResult>() {
-                    @Override
-                    public DescribeWorkspacesConnectionStatusResult call()
-                            throws Exception {
-                        DescribeWorkspacesConnectionStatusResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<DescribeWorkspacesConnectionStatusResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new DescribeWorkspacesConnectionStatusResultJsonUnmarshaller());
 
-                        try {
-                            result = describeWorkspacesConnectionStatus(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request,
+                new DescribeWorkspacesConnectionStatusRequestMarshaller(
+                        protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -644,28 +551,16 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final ModifyWorkspacePropertiesRequest request,
             final com.amazonaws.handlers.AsyncHandler<ModifyWorkspacePropertiesRequest, ModifyWorkspacePropertiesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<ModifyWorkspacePropertiesResult>() {
-                    @Override
-                    public ModifyWorkspacePropertiesResult call()
-                            throws Exception {
-                        ModifyWorkspacePropertiesResult result;
-
-                        try {
-                            result = modifyWorkspaceProperties(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<ModifyWorkspacePropertiesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new ModifyWorkspacePropertiesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(
+                request,
+                new ModifyWorkspacePropertiesRequestMarshaller(protocolFactory),
+                responseHandler, asyncHandler, executorService);
     }
 
     @Override
@@ -680,27 +575,15 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final RebootWorkspacesRequest request,
             final com.amazonaws.handlers.AsyncHandler<RebootWorkspacesRequest, RebootWorkspacesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RebootWorkspacesResult>() {
-                    @Override
-                    public RebootWorkspacesResult call() throws Exception {
-                        RebootWorkspacesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<RebootWorkspacesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RebootWorkspacesResultJsonUnmarshaller());
 
-                        try {
-                            result = rebootWorkspaces(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RebootWorkspacesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -715,27 +598,15 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final RebuildWorkspacesRequest request,
             final com.amazonaws.handlers.AsyncHandler<RebuildWorkspacesRequest, RebuildWorkspacesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<RebuildWorkspacesResult>() {
-                    @Override
-                    public RebuildWorkspacesResult call() throws Exception {
-                        RebuildWorkspacesResult result;
-
-                        try {
-                            result = rebuildWorkspaces(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<RebuildWorkspacesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new RebuildWorkspacesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new RebuildWorkspacesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -750,27 +621,15 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final StartWorkspacesRequest request,
             final com.amazonaws.handlers.AsyncHandler<StartWorkspacesRequest, StartWorkspacesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StartWorkspacesResult>() {
-                    @Override
-                    public StartWorkspacesResult call() throws Exception {
-                        StartWorkspacesResult result;
+        HttpResponseHandler<AmazonWebServiceResponse<StartWorkspacesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StartWorkspacesResultJsonUnmarshaller());
 
-                        try {
-                            result = startWorkspaces(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new StartWorkspacesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -785,27 +644,15 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final StopWorkspacesRequest request,
             final com.amazonaws.handlers.AsyncHandler<StopWorkspacesRequest, StopWorkspacesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<StopWorkspacesResult>() {
-                    @Override
-                    public StopWorkspacesResult call() throws Exception {
-                        StopWorkspacesResult result;
-
-                        try {
-                            result = stopWorkspaces(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
+        HttpResponseHandler<AmazonWebServiceResponse<StopWorkspacesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new StopWorkspacesResultJsonUnmarshaller());
 
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        return asyncInvoke(request, new StopWorkspacesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     @Override
@@ -820,27 +667,15 @@ public class AmazonWorkspacesAsyncClient extends AmazonWorkspacesClient
             final TerminateWorkspacesRequest request,
             final com.amazonaws.handlers.AsyncHandler<TerminateWorkspacesRequest, TerminateWorkspacesResult> asyncHandler) {
 
-        return executorService
-                .submit(new java.util.concurrent.Callable<TerminateWorkspacesResult>() {
-                    @Override
-                    public TerminateWorkspacesResult call() throws Exception {
-                        TerminateWorkspacesResult result;
-
-                        try {
-                            result = terminateWorkspaces(request);
-                        } catch (Exception ex) {
-                            if (asyncHandler != null) {
-                                asyncHandler.onError(ex);
-                            }
-                            throw ex;
-                        }
-
-                        if (asyncHandler != null) {
-                            asyncHandler.onSuccess(request, result);
-                        }
-                        return result;
-                    }
-                });
+        HttpResponseHandler<AmazonWebServiceResponse<TerminateWorkspacesResult>> responseHandler = protocolFactory
+                .createResponseHandler(
+                        new JsonOperationMetadata().withPayloadJson(true)
+                                .withHasStreamingSuccessResponse(false),
+                        new TerminateWorkspacesResultJsonUnmarshaller());
+
+        return asyncInvoke(request, new TerminateWorkspacesRequestMarshaller(
+                protocolFactory), responseHandler, asyncHandler,
+                executorService);
     }
 
     /**